@@ -0,0 +1,83 @@
+package net.sourceforge.kolmafia.benchmarks;
+
+import static internal.helpers.Player.withEffect;
+import static internal.helpers.Player.withEquipped;
+import static internal.helpers.Player.withFamiliar;
+import static internal.helpers.Player.withItem;
+import static internal.helpers.Player.withStats;
+
+import internal.helpers.Cleanups;
+import internal.helpers.Maximizer;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.equipment.Slot;
+import net.sourceforge.kolmafia.maximizer.MaximizerCache;
+import net.sourceforge.kolmafia.objectpool.FamiliarPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Modifier recalculation and the maximizer, for a character set up with the test helpers. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CharacterBenchmark {
+  private Cleanups player;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Fixtures.resetState();
+    this.player =
+        new Cleanups(
+            withStats(100, 100, 100),
+            withEquipped(Slot.HAT, "helmet turtle"),
+            withEquipped(Slot.WEAPON, "seal-clubbing club"),
+            withEquipped(Slot.PANTS, "old sweatpants"),
+            withFamiliar(FamiliarPool.BABY_GRAVY_FAIRY),
+            withEffect("Leash of Linguini"),
+            withEffect("Empathy"),
+            withItem("disco mask"),
+            withItem("disco ball"),
+            withItem("stuffed shoulder parrot"),
+            withItem("mariachi pants"),
+            withItem("saucepan"));
+  }
+
+  // Otherwise every invocation after the first would only measure a cache lookup
+  @Setup(Level.Invocation)
+  public void clearMaximizerCache() {
+    MaximizerCache.clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.player.close();
+  }
+
+  @Benchmark
+  public void recalculateAdjustments() {
+    KoLCharacter.recalculateAdjustments();
+  }
+
+  @Benchmark
+  public boolean maximizeMuscle() {
+    return Maximizer.maximize("mus");
+  }
+
+  @Benchmark
+  public boolean maximizeItemDrop() {
+    return Maximizer.maximize("item, -tie");
+  }
+}
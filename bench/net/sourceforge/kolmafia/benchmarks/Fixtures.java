@@ -0,0 +1,45 @@
+package net.sourceforge.kolmafia.benchmarks;
+
+import internal.extensions.ForbidNetworkAccess;
+import internal.helpers.Networking;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.preferences.Preferences;
+
+/** The server responses captured for tests in test/root/request, which jmh runs from. */
+final class Fixtures {
+  record Fixture(String name, String text) {}
+
+  private Fixtures() {}
+
+  // Only the responses themselves: the *_decorated.html files are what tests expect back out
+  static List<Fixture> load(final Predicate<String> filter) {
+    try (Stream<Path> files = Files.list(Paths.get("request"))) {
+      return files
+          .map(path -> path.getFileName().toString())
+          .filter(name -> name.endsWith(".html") && !name.endsWith("_decorated.html"))
+          .filter(filter)
+          .sorted()
+          .map(name -> new Fixture(name, Networking.html("request/" + name)))
+          .toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // As the test extensions do: no network, no settings written, and a fresh character
+  static void resetState() {
+    ForbidNetworkAccess.blockNetwork();
+    Preferences.saveSettingsToFile = false;
+    KoLCharacter.reset("");
+    KoLCharacter.reset(true);
+    KoLCharacter.reset("BenchmarkUser");
+  }
+}
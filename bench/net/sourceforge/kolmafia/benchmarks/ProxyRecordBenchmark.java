@@ -0,0 +1,69 @@
+package net.sourceforge.kolmafia.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.kolmafia.persistence.ItemDatabase;
+import net.sourceforge.kolmafia.persistence.MonsterDatabase;
+import net.sourceforge.kolmafia.textui.DataTypes;
+import net.sourceforge.kolmafia.textui.parsetree.ProxyRecordValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/* Reads every field of every item and monster proxy, as a script scanning them all would. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyRecordBenchmark {
+  private List<ProxyRecordValue> items;
+  private List<ProxyRecordValue> monsters;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Fixtures.resetState();
+
+    this.items = new ArrayList<>();
+    for (int itemId = 1; itemId <= ItemDatabase.maxItemId(); itemId++) {
+      if (ItemDatabase.getItemDataName(itemId) != null) {
+        this.items.add(new ProxyRecordValue.ItemProxy(DataTypes.makeItemValue(itemId, true)));
+      }
+    }
+
+    this.monsters = new ArrayList<>();
+    for (var monster : MonsterDatabase.valueSet()) {
+      this.monsters.add(new ProxyRecordValue.MonsterProxy(DataTypes.makeMonsterValue(monster)));
+    }
+  }
+
+  private static void readAll(final List<ProxyRecordValue> proxies, final Blackhole blackhole) {
+    for (ProxyRecordValue proxy : proxies) {
+      int fields = proxy.getRecordType().fieldCount();
+      for (int i = 0; i < fields; i++) {
+        blackhole.consume(proxy.aref(i, null));
+      }
+    }
+  }
+
+  @Benchmark
+  public void itemFields(final Blackhole blackhole) {
+    readAll(this.items, blackhole);
+  }
+
+  @Benchmark
+  public void monsterFields(final Blackhole blackhole) {
+    readAll(this.monsters, blackhole);
+  }
+}
@@ -0,0 +1,95 @@
+package net.sourceforge.kolmafia.benchmarks;
+
+import static internal.helpers.Player.withPostChoice1;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.kolmafia.RequestEditorKit;
+import net.sourceforge.kolmafia.benchmarks.Fixtures.Fixture;
+import net.sourceforge.kolmafia.request.CharPaneRequest;
+import net.sourceforge.kolmafia.request.FightRequest;
+import net.sourceforge.kolmafia.session.ResultProcessor;
+import net.sourceforge.kolmafia.utilities.ChoiceUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Response handling, timed over every captured response of the relevant kind. Each benchmark
+ * handles the whole set once per invocation, so a result is the time to get through that corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseBenchmark {
+  private record Choice(int choice, String text) {}
+
+  private List<Fixture> responses;
+  private List<Fixture> fights;
+  private List<Fixture> charpanes;
+  private List<Choice> choices;
+
+  @Setup(Level.Trial)
+  public void loadFixtures() {
+    this.responses = Fixtures.load(name -> true);
+    this.fights = Fixtures.load(name -> name.contains("fight"));
+    this.charpanes = Fixtures.load(name -> name.contains("charpane"));
+    this.choices =
+        Fixtures.load(name -> name.contains("choice")).stream()
+            .map(f -> new Choice(ChoiceUtilities.extractChoice(f.text()), f.text()))
+            .filter(c -> c.choice() != 0)
+            .toList();
+  }
+
+  @Setup(Level.Iteration)
+  public void resetState() {
+    Fixtures.resetState();
+  }
+
+  @Benchmark
+  public void processResults(final Blackhole blackhole) {
+    for (Fixture response : this.responses) {
+      blackhole.consume(ResultProcessor.processResults(false, response.text()));
+    }
+  }
+
+  @Benchmark
+  public void parseFights(final Blackhole blackhole) {
+    for (Fixture fight : this.fights) {
+      blackhole.consume(FightRequest.processResults("fight.php", "", fight.text()));
+    }
+  }
+
+  @Benchmark
+  public void decorateFights(final Blackhole blackhole) {
+    for (Fixture fight : this.fights) {
+      blackhole.consume(RequestEditorKit.getFeatureRichHTML("fight.php", fight.text()));
+    }
+  }
+
+  @Benchmark
+  public void parseCharpanes(final Blackhole blackhole) {
+    for (Fixture charpane : this.charpanes) {
+      blackhole.consume(CharPaneRequest.processResults(charpane.text()));
+    }
+  }
+
+  @Benchmark
+  public void postChoice1() {
+    for (Choice choice : this.choices) {
+      withPostChoice1(choice.choice(), 1, choice.text()).close();
+    }
+  }
+}
@@ -44,6 +44,7 @@ import java.io.File;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -57,8 +58,9 @@ import java.util.regex.Matcher;
 import javax.swing.JEditorPane;
 import javax.swing.JScrollPane;
 import javax.swing.ScrollPaneConstants;
-import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.text.Element;
+import javax.swing.text.ElementIterator;
 import javax.swing.text.html.HTMLDocument;
 import javax.swing.text.html.HTMLEditorKit;
 
@@ -72,21 +74,35 @@ public class ChatBuffer
 {
 	private static final Pattern TAG_PATTERN = Pattern.compile( "<\\s*([^\\s>]+)(.*?)>" );
 	private static final Pattern COMMENT_PATTERN = Pattern.compile( "<!--(.*?)-->" );
+	private static final Pattern LINE_BREAK_PATTERN = Pattern.compile( "<br", Pattern.CASE_INSENSITIVE );
 
 	private final String title;
 
-	private final StringBuffer content = new StringBuffer();
+	// The messages held by the buffer, oldest first.
+
+	private final ArrayDeque<String> content = new ArrayDeque<>();
+	private int contentLength = 0;
+
 	private final LinkedList<JEditorPane> displayPanes = new LinkedList<>();
 
 	private final Set<JEditorPane> stickyPanes = new LinkedHashSet<>();
 	private final LinkedList<JEditorPane> addStickyPanes = new LinkedList<>();
 	private final LinkedList<JEditorPane> removeStickyPanes = new LinkedList<>();
 
-	private volatile int resetSequence = 0;
+	// Messages appended since the displays were last updated, with their tags balanced, and
+	// whether the displays must instead be rewritten from the content.  However quickly
+	// messages arrive, the displays are updated at most once per frame, in one insertion.
+
+	private final StringBuilder pendingContent = new StringBuilder();
+	private boolean pendingReset = false;
 
-	// Every queued update for this ChatBuffer carries the then-current value of resetSequence,
-	// which is incremented only on updates that completely rewrite the display.  Any update
-	// with an outdated sequence number is simply ignored.
+	// Line breaks in the messages dropped from the head of the buffer since the last frame.  The
+	// displays remove as many from their own heads, rather than being rewritten.
+
+	private int pendingTrimLines = 0;
+
+	private boolean frameScheduled = false;
+	private final Timer frameTimer;
 
 	private File logFile;
 	private PrintWriter logWriter;
@@ -96,6 +112,8 @@ public class ChatBuffer
 	private static final int MAXIMUM_LENGTH = 50000;
 	private static final int TRIM_TO_LENGTH = 45000;
 
+	private static final int FRAME_MILLIS = 1000 / 30;
+
 	/**
 	 * Constructs a new <code>ChatBuffer</code>. However, note that this does not automatically translate into the
 	 * messages being displayed; until a chat display is set, this buffer merely stores the message content to be
@@ -105,6 +123,14 @@ public class ChatBuffer
 	public ChatBuffer( final String title )
 	{
 		this.title = title;
+
+		this.frameTimer = new Timer( ChatBuffer.FRAME_MILLIS, event -> this.updateDisplays() );
+		this.frameTimer.setRepeats( false );
+
+		// A frame may be scheduled while the previous one is still drawing; that must not be
+		// coalesced away, or nothing else would schedule another.
+
+		this.frameTimer.setCoalesce( false );
 	}
 
 	/**
@@ -134,7 +160,22 @@ public class ChatBuffer
 			}
 		});
 
-		displayPane.setText( this.getHTMLContent() );
+		String htmlContent;
+
+		synchronized ( this )
+		{
+			htmlContent = this.getHTMLContent();
+
+			// The new display already shows what is pending, so the others must catch up
+			// without appending it twice.
+
+			if ( this.pendingContent.length() > 0 || this.pendingTrimLines > 0 )
+			{
+				this.scheduleReset();
+			}
+		}
+
+		displayPane.setText( htmlContent );
 
 		this.displayPanes.addLast( displayPane );
 		this.addStickyPanes.addLast( displayPane );
@@ -208,7 +249,17 @@ public class ChatBuffer
 			this.logWriter.close();
 		}
 
-		this.content.setLength( 0 );
+		synchronized ( this )
+		{
+			this.frameTimer.stop();
+			this.frameScheduled = false;
+			this.pendingContent.setLength( 0 );
+			this.pendingReset = false;
+			this.pendingTrimLines = 0;
+
+			this.content.clear();
+			this.contentLength = 0;
+		}
 	}
 
 	private static void printHTML( final HTMLDocument doc )
@@ -232,9 +283,13 @@ public class ChatBuffer
 
 	public void clear()
 	{
-		this.content.setLength( 0 );
+		synchronized ( this )
+		{
+			this.content.clear();
+			this.contentLength = 0;
 
-		SwingUtilities.invokeLater( new ResetHandler( this.getHTMLContent() ) );
+			this.scheduleReset();
+		}
 	}
 
 	public File getLogFile() {
@@ -247,18 +302,12 @@ public class ChatBuffer
 
 	public void append( String newContents )
 	{
-		synchronized ( this.stickyPanes )
-		{
-			this.stickyPanes.addAll( this.addStickyPanes );
-			this.addStickyPanes.clear();
-
-			this.stickyPanes.removeAll( this.removeStickyPanes );
-			this.removeStickyPanes.clear();
-		}
-
 		if ( newContents == null )
 		{
-			SwingUtilities.invokeLater( new ResetHandler( this.getHTMLContent() ) );
+			synchronized ( this )
+			{
+				this.scheduleReset();
+			}
 			return;
 		}
 
@@ -269,37 +318,121 @@ public class ChatBuffer
 			return;
 		}
 
-		this.content.append( newContents );
+		String balancedContents = ChatBuffer.balanceTags( newContents );
 
-		if ( this.logWriter != null )
+		synchronized ( this )
 		{
-			this.logWriter.println( newContents );
+			this.content.addLast( newContents );
+			this.contentLength += newContents.length();
+
+			if ( this.logWriter != null )
+			{
+				this.logWriter.println( newContents );
+			}
+
+			if ( this.contentLength >= ChatBuffer.MAXIMUM_LENGTH )
+			{
+				// Drop the oldest messages.  The displays remove the same line breaks from the top of
+				// their documents in the next frame.
+
+				while ( this.contentLength > ChatBuffer.TRIM_TO_LENGTH && !this.content.isEmpty() )
+				{
+					String message = this.content.removeFirst();
+					this.contentLength -= message.length();
+
+					if ( !this.pendingReset )
+					{
+						this.pendingTrimLines += ChatBuffer.countLines( message );
+					}
+				}
+			}
+
+			if ( !this.pendingReset )
+			{
+				this.pendingContent.append( balancedContents );
+				this.scheduleFrame();
+			}
 		}
+	}
 
-		if ( this.content.length() < ChatBuffer.MAXIMUM_LENGTH )
+	private void scheduleReset()
+	{
+		this.pendingReset = true;
+		this.pendingContent.setLength( 0 );
+		this.pendingTrimLines = 0;
+		this.scheduleFrame();
+	}
+
+	private void scheduleFrame()
+	{
+		if ( !this.frameScheduled )
 		{
-			SwingUtilities.invokeLater( new AppendHandler( newContents ) );
-			SwingUtilities.invokeLater( new ScrollHandler() );
-			return;
+			this.frameScheduled = true;
+			this.frameTimer.restart();
 		}
+	}
+
+	/**
+	 * Brings every display up to date with everything appended since the last frame. Runs on
+	 * the Swing thread.
+	 */
 
-		int lineIndex = this.content.indexOf( "<br", ChatBuffer.MAXIMUM_LENGTH - ChatBuffer.TRIM_TO_LENGTH );
+	private void updateDisplays()
+	{
+		String htmlContent = null;
+		String newContent;
+		int trimLines;
 
-		if ( lineIndex != -1 )
+		synchronized ( this )
 		{
-			lineIndex = this.content.indexOf( ">", lineIndex ) + 1;
+			this.frameScheduled = false;
+
+			if ( this.pendingReset )
+			{
+				htmlContent = this.getHTMLContent();
+				this.pendingReset = false;
+			}
+
+			newContent = this.pendingContent.toString();
+			this.pendingContent.setLength( 0 );
+
+			trimLines = this.pendingTrimLines;
+			this.pendingTrimLines = 0;
 		}
 
-		if ( lineIndex == -1 )
+		synchronized ( this.stickyPanes )
 		{
-			this.clear();
-			return;
+			this.stickyPanes.addAll( this.addStickyPanes );
+			this.addStickyPanes.clear();
+
+			this.stickyPanes.removeAll( this.removeStickyPanes );
+			this.removeStickyPanes.clear();
 		}
 
-		this.content.delete( 0, lineIndex );
+		if ( htmlContent != null )
+		{
+			this.resetDisplays( htmlContent );
+		}
+		else if ( newContent.length() > 0 || trimLines > 0 )
+		{
+			// Messages may be dropped before they were ever shown, so append them first.
+
+			if ( newContent.length() > 0 )
+			{
+				this.appendToDisplays( newContent );
+			}
+
+			if ( trimLines > 0 )
+			{
+				this.trimDisplays( trimLines );
+			}
+		}
+		else
+		{
+			return;
+		}
 
-		SwingUtilities.invokeLater( new ResetHandler( this.getHTMLContent() ) );
-		SwingUtilities.invokeLater( new ScrollHandler() );
+		this.scrollDisplays();
 	}
 
 	/**
@@ -315,9 +448,16 @@ public class ChatBuffer
 	 * Returns all the content stored within this chat buffer.
 	 */
 
-	public String getContent()
+	public synchronized String getContent()
 	{
-		return this.content.toString();
+		StringBuilder buffer = new StringBuilder( this.contentLength );
+
+		for ( String message : this.content )
+		{
+			buffer.append( message );
+		}
+
+		return buffer.toString();
 	}
 
 	/**
@@ -332,7 +472,7 @@ public class ChatBuffer
 		htmlContent.append( this.getStyle() );
 		htmlContent.append( "</style></head><body><main>" );
 
-		htmlContent.append( this.content.toString() );
+		htmlContent.append( this.getContent() );
 
 		htmlContent.append( "</main></body></html>" );
 
@@ -356,213 +496,246 @@ public class ChatBuffer
 		}
 	}
 
-	private class ResetHandler
-		implements Runnable
+	private void resetDisplays( final String htmlContent )
 	{
-		private final String htmlContent;
-		private final int resetSequence;
+		Iterator<JEditorPane> paneIterator = this.displayPanes.iterator();
 
-		public ResetHandler( final String htmlContent )
+		while ( paneIterator.hasNext() )
 		{
-			this.htmlContent = htmlContent;
-			this.resetSequence = ++ChatBuffer.this.resetSequence;
-		}
+			JEditorPane displayPane = paneIterator.next();
 
-		public void run()
-		{
-			if ( this.resetSequence != ChatBuffer.this.resetSequence )
+			if ( displayPane == null )
 			{
-				return;	// outdated by a subsequent display reset
+				paneIterator.remove();
+				continue;
 			}
 
-			Iterator<JEditorPane> paneIterator = ChatBuffer.this.displayPanes.iterator();
-
-			while ( paneIterator.hasNext() )
-			{
-				JEditorPane displayPane = paneIterator.next();
-
-				if ( displayPane == null )
-				{
-					paneIterator.remove();
-					continue;
-				}
-
-				displayPane.setText( this.htmlContent );
-			}
+			displayPane.setText( htmlContent );
 		}
 	}
 
-	private class AppendHandler
-		implements Runnable
-	{
-		private final String newContent;
-		private final int resetSequence;
+	/**
+	 * Closes any tags the given content leaves open, and drops closing tags it never opened, so
+	 * that it can be inserted into a display on its own.
+	 */
 
-		public AppendHandler( final String newContent )
-		{
-			// Check for imbalanced HTML here
+	private static String balanceTags( final String newContent )
+	{
+		Stack<String> openTags = new Stack<>();
+		Set<String> skippedTags = new HashSet<>();
+		StringBuffer buffer = new StringBuffer();
 
-			Stack<String> openTags = new Stack<>();
-			Set<String> skippedTags = new HashSet<>();
-			StringBuffer buffer = new StringBuffer();
+		String noCommentsContent = COMMENT_PATTERN.matcher( newContent ).replaceAll( "" );
 
-			String noCommentsContent = COMMENT_PATTERN.matcher( newContent ).replaceAll( "" );
+		Matcher tagMatcher = TAG_PATTERN.matcher( noCommentsContent );
 
-			Matcher tagMatcher = TAG_PATTERN.matcher( noCommentsContent );
+		while ( tagMatcher.find() )
+		{
+			String tagName = tagMatcher.group( 1 );
+			StringBuffer replacement = new StringBuffer();
 
-			while ( tagMatcher.find() )
+			if ( tagName.startsWith( "/" ) )
 			{
-				String tagName = tagMatcher.group( 1 );
-				StringBuffer replacement = new StringBuffer();
+				String closeTag = tagName.substring( 1 );
 
-				if ( tagName.startsWith( "/" ) )
+				if ( skippedTags.contains( closeTag ) )
 				{
-					String closeTag = tagName.substring( 1 );
-
-					if ( skippedTags.contains( closeTag ) )
-					{
-						skippedTags.remove( closeTag );
-					}
-					else
+					skippedTags.remove( closeTag );
+				}
+				else
+				{
+					while ( !openTags.isEmpty() )
 					{
-						while ( !openTags.isEmpty() )
+						String openTag = openTags.pop();
+						replacement.append( "</" );
+						replacement.append( openTag );
+						replacement.append( ">" );
+
+						if ( openTag.equalsIgnoreCase( closeTag ) )
 						{
-							String openTag = openTags.pop();
-							replacement.append( "</" );
-							replacement.append( openTag );
-							replacement.append( ">" );
-
-							if ( openTag.equalsIgnoreCase( closeTag ) )
-							{
-								break;
-							}
-							else if ( skippedTags.contains( closeTag ) )
-							{
-								skippedTags.remove( closeTag );
-								break;
-							}
-							else
-							{
-								skippedTags.add( closeTag );
-							}
+							break;
+						}
+						else if ( skippedTags.contains( closeTag ) )
+						{
+							skippedTags.remove( closeTag );
+							break;
+						}
+						else
+						{
+							skippedTags.add( closeTag );
 						}
 					}
 				}
-				else
+			}
+			else
+			{
+				if ( !tagName.equalsIgnoreCase( "br" ) )
 				{
-					if ( !tagName.equalsIgnoreCase( "br" ) )
-					{
-						openTags.push( tagName );
-					}
-
-					replacement.append( "<$1$2>" );
+					openTags.push( tagName );
 				}
 
-				tagMatcher.appendReplacement( buffer, replacement.toString() );
+				replacement.append( "<$1$2>" );
 			}
 
-			tagMatcher.appendTail( buffer );
+			tagMatcher.appendReplacement( buffer, replacement.toString() );
+		}
 
-			while ( !openTags.isEmpty() )
-			{
-				String openTag = openTags.pop();
-				buffer.append( "</" );
-				buffer.append( openTag );
-				buffer.append( ">" );
-			}
+		tagMatcher.appendTail( buffer );
 
-			this.newContent = buffer.toString();
+		while ( !openTags.isEmpty() )
+		{
+			String openTag = openTags.pop();
+			buffer.append( "</" );
+			buffer.append( openTag );
+			buffer.append( ">" );
+		}
 
-			this.resetSequence = ChatBuffer.this.resetSequence;
+		return buffer.toString();
+	}
+
+	private static int countLines( final String message )
+	{
+		// Line breaks inside comments never reach the displays.
+
+		String noCommentsContent = COMMENT_PATTERN.matcher( message ).replaceAll( "" );
+		Matcher lineMatcher = LINE_BREAK_PATTERN.matcher( noCommentsContent );
+		int lines = 0;
+
+		while ( lineMatcher.find() )
+		{
+			++lines;
 		}
 
-		public void run()
+		return lines;
+	}
+
+	/**
+	 * Removes everything up to the given number of line breaks from the top of every display.  A
+	 * display only ever shows messages the buffer held, so this never removes more than it dropped.
+	 */
+
+	private void trimDisplays( final int lines )
+	{
+		Iterator<JEditorPane> paneIterator = this.displayPanes.iterator();
+
+		while ( paneIterator.hasNext() )
 		{
-			if ( this.resetSequence != ChatBuffer.this.resetSequence )
+			JEditorPane displayPane = paneIterator.next();
+
+			if ( displayPane == null )
 			{
-				return;	// outdated by a subsequent display reset
+				paneIterator.remove();
+				continue;
 			}
 
-			Iterator<JEditorPane> paneIterator = ChatBuffer.this.displayPanes.iterator();
+			HTMLDocument currentHTML = (HTMLDocument) displayPane.getDocument();
 
-			while ( paneIterator.hasNext() )
-			{
-				JEditorPane displayPane = paneIterator.next();
+			Element body = currentHTML.getDefaultRootElement();
 
-				if ( displayPane == null )
+			for ( int i = 0; i < body.getElementCount(); ++i )
+			{
+				if ( body.getElement( i ).getName().equals( "body" ) )
 				{
-					paneIterator.remove();
-					continue;
+					body = body.getElement( i );
+					break;
 				}
+			}
 
-				HTMLDocument currentHTML = (HTMLDocument) displayPane.getDocument();
-
-				Element contentElement = currentHTML.getDefaultRootElement();
-
-				while ( !contentElement.isLeaf() )
-				{
-					contentElement = contentElement.getElement( contentElement.getElementCount() - 1 );
-				}
+			ElementIterator elements = new ElementIterator( body );
+			Element element;
+			int breaks = 0;
+			int end = -1;
 
-				try
+			while ( breaks < lines && ( element = elements.next() ) != null )
+			{
+				if ( element.isLeaf() && element.getName().equals( "br" ) )
 				{
-					currentHTML.insertAfterEnd( contentElement, this.newContent );
-					// If the insertion contained any non-ASCII characters, the "multiByte"
-					// property will be set on the document.  This causes the use of
-					// an alternate layout algorithm that handles bidirectional text
-					// and other Unicode oddities: it's slower, and on some combinations
-					// of platform and JRE version, tremendously slower.
-					currentHTML.putProperty( "multiByte", Boolean.FALSE );
+					++breaks;
+					end = element.getEndOffset();
 				}
-				catch ( Exception e )
-				{
-					// If there's an exception, continue onward so that you
-					// still have an updated display. But, print the stack
-					// trace so you know what's going on.
+			}
 
-					e.printStackTrace();
-				}
+			if ( end == -1 )
+			{
+				continue;
+			}
 
-				// ChatBuffer.printHTML( currentHTML );
+			try
+			{
+				currentHTML.remove( body.getStartOffset(), end - body.getStartOffset() );
+			}
+			catch ( Exception e )
+			{
+				e.printStackTrace();
 			}
 		}
 	}
 
-	private class ScrollHandler
-		implements Runnable
+	private void appendToDisplays( final String newContent )
 	{
-		private final int resetSequence;
+		Iterator<JEditorPane> paneIterator = this.displayPanes.iterator();
 
-		public ScrollHandler()
+		while ( paneIterator.hasNext() )
 		{
-			this.resetSequence = ChatBuffer.this.resetSequence;
-		}
+			JEditorPane displayPane = paneIterator.next();
 
-		public void run()
-		{
-			if ( this.resetSequence != ChatBuffer.this.resetSequence )
+			if ( displayPane == null )
 			{
-				return;	// outdated by a subsequent display reset
+				paneIterator.remove();
+				continue;
 			}
 
-			Iterator<JEditorPane> paneIterator = ChatBuffer.this.stickyPanes.iterator();
+			HTMLDocument currentHTML = (HTMLDocument) displayPane.getDocument();
+
+			Element contentElement = currentHTML.getDefaultRootElement();
 
-			while ( paneIterator.hasNext() )
+			while ( !contentElement.isLeaf() )
 			{
-				JEditorPane stickyPane = paneIterator.next();
+				contentElement = contentElement.getElement( contentElement.getElementCount() - 1 );
+			}
 
-				if ( stickyPane == null )
-				{
-					paneIterator.remove();
-					continue;
-				}
+			try
+			{
+				currentHTML.insertAfterEnd( contentElement, newContent );
+				// If the insertion contained any non-ASCII characters, the "multiByte"
+				// property will be set on the document.  This causes the use of
+				// an alternate layout algorithm that handles bidirectional text
+				// and other Unicode oddities: it's slower, and on some combinations
+				// of platform and JRE version, tremendously slower.
+				currentHTML.putProperty( "multiByte", Boolean.FALSE );
+			}
+			catch ( Exception e )
+			{
+				// If there's an exception, continue onward so that you
+				// still have an updated display. But, print the stack
+				// trace so you know what's going on.
 
-				int contentLength = stickyPane.getDocument().getLength();
+				e.printStackTrace();
+			}
+
+			// ChatBuffer.printHTML( currentHTML );
+		}
+	}
 
-				int caretPosition = Math.max( contentLength - 1, 0 );
+	private void scrollDisplays()
+	{
+		Iterator<JEditorPane> paneIterator = this.stickyPanes.iterator();
 
-				stickyPane.setCaretPosition( caretPosition );
+		while ( paneIterator.hasNext() )
+		{
+			JEditorPane stickyPane = paneIterator.next();
+
+			if ( stickyPane == null )
+			{
+				paneIterator.remove();
+				continue;
 			}
+
+			int contentLength = stickyPane.getDocument().getLength();
+
+			int caretPosition = Math.max( contentLength - 1, 0 );
+
+			stickyPane.setCaretPosition( caretPosition );
 		}
 	}
 
@@ -820,76 +820,79 @@ public class LockableListModel<E>
 		}
 	}
 
+	/**
+	 * Returns a copy of the underlying elements, which may be filtered on another thread.
+	 */
+
+	public List<E> getSnapshot()
+	{
+		synchronized ( this.actualElements )
+		{
+			return new ArrayList<>( this.actualElements );
+		}
+	}
+
 	private void updateSingleFilter( final boolean refresh )
 	{
+		// Walk the elements in order, collecting each run of consecutive insertions or removals, and
+		// apply every run to the visible list in one step before reporting it.  Listeners such as a
+		// JList see the same intervals as if each element were inserted or removed on its own, and so
+		// keep their selection on the same elements, but the list is only shifted once per run.
+
 		int visibleIndex = 0;
 		int low = -1;
-		int high = -1;
 		boolean adding = true;
+		ArrayList<E> run = new ArrayList<>();
 
 		for ( int i = 0; i < this.actualElements.size(); ++i )
 		{
 			E element = this.actualElements.get( i );
 
+			// Elements of a pending insertion are not in the visible list yet, while those of a
+			// pending removal still are.
+
+			int currentIndex = low == -1 ? visibleIndex : adding ? low : low + run.size();
+			boolean present =
+				currentIndex < this.visibleElements.size() && this.visibleElements.get( currentIndex ) == element;
+
 			if ( this.currentFilter.isVisible( element ) )
 			{
-				if ( visibleIndex == this.visibleElements.size() || this.visibleElements.get( visibleIndex ) != element )
+				if ( present )
 				{
-					if ( low == -1 )
+					low = this.flushRun( low, adding, run );
+				}
+				else
+				{
+					if ( low != -1 && !adding )
 					{
-						low = high = visibleIndex;
-						adding = true;
+						low = this.flushRun( low, adding, run );
 					}
-					else if ( !adding )
+					if ( low == -1 )
 					{
-						this.fireIntervalRemoved( this, low, high );
-						low = high = visibleIndex;
+						low = visibleIndex;
 						adding = true;
 					}
-					else
-					{
-						high += 1;
-					}
-					this.visibleElements.add( visibleIndex, element );
+					run.add( element );
 				}
 
 				++visibleIndex;
 			}
-			else
+			else if ( present )
 			{
-				if ( visibleIndex < this.visibleElements.size() && this.visibleElements.get( visibleIndex ) == element )
+				if ( low != -1 && adding )
 				{
-					if ( low == -1 )
-					{
-						low = high = visibleIndex;
-						adding = false;
-					}
-					else if ( adding )
-					{
-						this.fireIntervalAdded( this, low, high );
-						low = high = visibleIndex;
-						adding = false;
-					}
-					else
-					{
-						high += 1;
-					}
-					this.visibleElements.remove( visibleIndex );
+					low = this.flushRun( low, adding, run );
+				}
+				if ( low == -1 )
+				{
+					low = visibleIndex;
+					adding = false;
 				}
+				run.add( element );
 			}
 		}
 
-		if ( low != -1 )
-		{
-			if ( adding )
-			{
-				this.fireIntervalAdded( this, low, high );
-			}
-			else
-			{
-				this.fireIntervalRemoved( this, low, high );
-			}
-		}
+		this.flushRun( low, adding, run );
 
 		if ( refresh )
 		{
@@ -897,6 +900,35 @@ public class LockableListModel<E>
 		}
 	}
 
+	/**
+	 * Inserts or removes a run of elements starting at the given visible index, and reports it.
+	 * Returns -1, so that the caller can mark that no run is pending.
+	 */
+
+	private int flushRun( final int low, final boolean adding, final ArrayList<E> run )
+	{
+		if ( low == -1 || run.isEmpty() )
+		{
+			return -1;
+		}
+
+		int high = low + run.size() - 1;
+
+		if ( adding )
+		{
+			this.visibleElements.addAll( low, run );
+			this.fireIntervalAdded( this, low, high );
+		}
+		else
+		{
+			this.visibleElements.subList( low, high + 1 ).clear();
+			this.fireIntervalRemoved( this, low, high );
+		}
+
+		run.clear();
+		return -1;
+	}
+
 	private int computeVisibleIndex( final int actualIndex )
 	{
 		if ( currentFilter == NO_FILTER )
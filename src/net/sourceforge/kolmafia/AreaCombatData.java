@@ -1,10 +1,13 @@
 package net.sourceforge.kolmafia;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.stream.Stream;
@@ -64,6 +67,19 @@ public class AreaCombatData {
 
   private final String zone;
 
+  // Monsters named in combats.txt, built the first time anything asks about them
+  private record PendingMonster(String name, int weighting, int flags, int rejection) {}
+
+  private volatile List<PendingMonster> pendingMonsters = null;
+
+  // Stateful appearance rates, reused until something they depend on changes
+  private RatesKey cachedRatesKey = null;
+  private Map<String, String> cachedRatesPreferences = null;
+  private Map<MonsterData, Double> cachedRates = null;
+
+  // Bumped by data sources which are not preferences or modifiers, such as the adventure queue
+  private static final AtomicLong appearanceRateInvalidations = new AtomicLong();
+
   // Flags in low-order bits of weightings
   private static final int ASCENSION_ODD = 0x01;
   private static final int ASCENSION_EVEN = 0x02;
@@ -91,6 +107,7 @@ public class AreaCombatData {
   }
 
   public void recalculate() {
+    this.resolveMonsters();
     this.minHit = Integer.MAX_VALUE;
     this.maxHit = 0;
     this.minEvade = Integer.MAX_VALUE;
@@ -182,6 +199,7 @@ public class AreaCombatData {
   }
 
   public boolean addMonster(String name) {
+    this.cachedRatesKey = null;
     int weighting = 1;
     int flags = ASCENSION_EVEN | ASCENSION_ODD;
     int rejection = 0;
@@ -249,13 +267,45 @@ public class AreaCombatData {
       }
     }
 
-    MonsterData monster = MonsterDatabase.findMonster(name);
-    if (monster == null) {
+    if (!MonsterDatabase.isKnownMonster(name)) {
       KoLmafia.updateDisplay(
           "Monster name '" + name + "' in combats.txt does not exactly match a known monster,");
       return false;
     }
 
+    synchronized (this) {
+      if (this.pendingMonsters == null) {
+        this.pendingMonsters = new ArrayList<>();
+      }
+      this.pendingMonsters.add(new PendingMonster(name, weighting, flags, rejection));
+    }
+
+    return true;
+  }
+
+  private void resolveMonsters() {
+    if (this.pendingMonsters != null) {
+      this.resolvePendingMonsters();
+    }
+  }
+
+  private synchronized void resolvePendingMonsters() {
+    List<PendingMonster> pending = this.pendingMonsters;
+    if (pending == null) {
+      return;
+    }
+
+    for (PendingMonster entry : pending) {
+      MonsterData monster = MonsterDatabase.findMonster(entry.name());
+      if (monster != null) {
+        this.addMonster(monster, entry.weighting(), entry.flags(), entry.rejection());
+      }
+    }
+    this.pendingMonsters = null;
+  }
+
+  private void addMonster(
+      final MonsterData monster, final int weighting, final int flags, final int rejection) {
     if (EncounterManager.isSuperlikelyMonster(monster.getName())) {
       this.superlikelyMonsters.add(monster);
     } else {
@@ -270,7 +320,7 @@ public class AreaCombatData {
     // Don't let ultra-rare monsters skew hit and evade numbers -
     // or anything else.
     if (weighting < 0) {
-      return true;
+      return;
     }
 
     // Don't let special monsters skew combat percentage numbers
@@ -283,27 +333,30 @@ public class AreaCombatData {
     }
 
     this.addMonsterStats(monster);
-
-    return true;
   }
 
   public List<MonsterData> getMonsters() {
+    this.resolveMonsters();
     return this.monsters;
   }
 
   public int getMonsterCount() {
+    this.resolveMonsters();
     return this.monsters.size();
   }
 
   public List<MonsterData> getSuperlikelyMonsters() {
+    this.resolveMonsters();
     return this.superlikelyMonsters;
   }
 
   public int getSuperlikelyMonsterCount() {
+    this.resolveMonsters();
     return this.superlikelyMonsters.size();
   }
 
   public int getAvailableMonsterCount() {
+    this.resolveMonsters();
     return (int)
         Stream.concat(
                 monsters.stream().map(m -> getWeighting(m) > 0),
@@ -313,14 +366,17 @@ public class AreaCombatData {
   }
 
   public MonsterData getMonster(final int i) {
+    this.resolveMonsters();
     return this.monsters.get(i);
   }
 
   public MonsterData getSuperlikelyMonster(final int i) {
+    this.resolveMonsters();
     return this.superlikelyMonsters.get(i);
   }
 
   public boolean hasMonster(final MonsterData m) {
+    this.resolveMonsters();
     if (m == null) {
       return false;
     }
@@ -328,6 +384,7 @@ public class AreaCombatData {
   }
 
   public int getWeighting(final MonsterData monster) {
+    this.resolveMonsters();
     int raw = this.currentWeightings.getOrDefault(monster, 0);
     if (((raw >> (KoLCharacter.getAscensions() & 1)) & 1) == 0) {
       return -2; // impossible this ascension
@@ -342,6 +399,7 @@ public class AreaCombatData {
   }
 
   public int getRejection(final MonsterData monster) {
+    this.resolveMonsters();
     return switch (monster.getName()) {
       case "alielf", "cat-alien", "dog-alien" -> getMoonlightRejection(
           HolidayDatabase::getGrimaceMoonlight);
@@ -352,6 +410,7 @@ public class AreaCombatData {
   }
 
   public double totalWeighting() {
+    this.resolveMonsters();
     return this.weights;
   }
 
@@ -365,22 +424,27 @@ public class AreaCombatData {
   }
 
   public int minHit() {
+    this.resolveMonsters();
     return this.minHit == Integer.MAX_VALUE ? 0 : this.minHit;
   }
 
   public int maxHit() {
+    this.resolveMonsters();
     return this.maxHit;
   }
 
   public int minEvade() {
+    this.resolveMonsters();
     return this.minEvade == Integer.MAX_VALUE ? 0 : this.minEvade;
   }
 
   public int maxEvade() {
+    this.resolveMonsters();
     return this.maxEvade;
   }
 
   public int poison() {
+    this.resolveMonsters();
     return this.poison;
   }
 
@@ -410,6 +474,7 @@ public class AreaCombatData {
   }
 
   public double getAverageML() {
+    this.resolveMonsters();
     double averageML =
         monsters.stream()
             .filter(m -> getWeighting(m) > 0)
@@ -601,6 +666,93 @@ public class AreaCombatData {
   }
 
   public Map<MonsterData, Double> getMonsterData(boolean stateful, boolean mapped) {
+    this.resolveMonsters();
+    if (!stateful || Preferences.isRecording()) {
+      // Something recording the preferences it depends on must see every one read here
+      return this.calculateMonsterData(stateful, mapped);
+    }
+
+    synchronized (this) {
+      if (this.cachedRatesKey != null
+          && this.cachedRatesKey.equals(RatesKey.current(mapped))
+          && AreaCombatData.unchanged(this.cachedRatesPreferences)) {
+        return new TreeMap<>(this.cachedRates);
+      }
+
+      Map<String, String> preferences = new HashMap<>();
+      Map<MonsterData, Double> monsterData;
+
+      Preferences.startRecording(preferences);
+      try {
+        monsterData = this.calculateMonsterData(true, mapped);
+      } finally {
+        Preferences.stopRecording();
+      }
+
+      // Take the key afterwards: recalculating can itself expire banishes and rewrite preferences
+      preferences.replaceAll((name, value) -> Preferences.getString(name));
+
+      this.cachedRates = Collections.unmodifiableMap(new TreeMap<>(monsterData));
+      this.cachedRatesPreferences = preferences;
+      this.cachedRatesKey = RatesKey.current(mapped);
+      return monsterData;
+    }
+  }
+
+  // Whether every preference still has the value it had when the rates were calculated
+  private static boolean unchanged(final Map<String, String> preferences) {
+    for (var entry : preferences.entrySet()) {
+      if (!entry.getValue().equals(Preferences.getString(entry.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Discards every cached appearance rate. The preferences read, modifiers and equipment are
+   * checked on every lookup; anything else the rates depend on must call this when it changes.
+   */
+  public static void invalidateAppearanceRates() {
+    AreaCombatData.appearanceRateInvalidations.incrementAndGet();
+  }
+
+  /**
+   * Returns appearance rates for every adventure location with combat data, in adventure database
+   * order. Each location reuses its cached rates if nothing has changed since it was last asked.
+   *
+   * <p>Locations are evaluated in parallel: each one recalculates and caches only its own state,
+   * under its own lock, and records the preferences it reads on its own thread. A caller which is
+   * itself recording preferences is walked sequentially, so that every read lands on its thread.
+   */
+  public static Map<KoLAdventure, Map<MonsterData, Double>> getAllMonsterData(
+      final boolean stateful) {
+    if (stateful) {
+      // Expire stale banishes and tracks once, rather than racing to do it from every location
+      BanishManager.recalculate();
+      TrackManager.recalculate();
+    }
+
+    var adventures =
+        AdventureDatabase.getAsLockableListModel().stream()
+            .filter(adventure -> adventure.getAreaSummary() != null)
+            .toList();
+    var stream = Preferences.isRecording() ? adventures.stream() : adventures.parallelStream();
+    var rates =
+        stream
+            .map(
+                adventure ->
+                    Map.entry(adventure, adventure.getAreaSummary().getMonsterData(stateful)))
+            .toList();
+
+    Map<KoLAdventure, Map<MonsterData, Double>> result = new LinkedHashMap<>();
+    for (var entry : rates) {
+      result.put(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  private Map<MonsterData, Double> calculateMonsterData(boolean stateful, boolean mapped) {
     Map<MonsterData, Double> monsterData = new TreeMap<>();
 
     if (stateful) {
@@ -1904,4 +2056,35 @@ public class AreaCombatData {
       default -> 0;
     };
   }
+
+  /** Everything outside this zone which stateful appearance rates depend on. */
+  private record RatesKey(
+      boolean mapped,
+      long modifiers,
+      long invalidations,
+      int turns,
+      int ascensions,
+      Path path,
+      AscensionClass ascensionClass,
+      Gender gender,
+      int familiar,
+      int equipment,
+      int effects,
+      boolean multiPass) {
+    static RatesKey current(final boolean mapped) {
+      return new RatesKey(
+          mapped,
+          KoLCharacter.getModifiersGeneration(),
+          AreaCombatData.appearanceRateInvalidations.get(),
+          KoLCharacter.getCurrentRun(),
+          KoLCharacter.getAscensions(),
+          KoLCharacter.getPath(),
+          KoLCharacter.getAscensionClass(),
+          KoLCharacter.getGender(),
+          KoLCharacter.getFamiliar().getId(),
+          EquipmentManager.allEquipment().hashCode(),
+          KoLConstants.activeEffects.hashCode(),
+          InventoryManager.hasItem(ItemPool.MULTI_PASS));
+    }
+  }
 }
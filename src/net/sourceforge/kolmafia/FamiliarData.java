@@ -36,6 +36,7 @@ import net.sourceforge.kolmafia.request.LoginRequest;
 import net.sourceforge.kolmafia.request.StandardRequest;
 import net.sourceforge.kolmafia.session.EquipmentManager;
 import net.sourceforge.kolmafia.session.YouRobotManager;
+import net.sourceforge.kolmafia.utilities.ImageLoader;
 import net.sourceforge.kolmafia.utilities.StringUtilities;
 
 public class FamiliarData implements Comparable<FamiliarData> {
@@ -636,6 +637,23 @@ public class FamiliarData implements Comparable<FamiliarData> {
     EquipmentManager.setEquipment(Slot.FAMILIAR, current.getItem());
     FamiliarData.checkLockedItem(responseText);
     FamiliarData.parseSoup(responseText);
+    FamiliarData.prefetchImages();
+  }
+
+  // The familiar menus and lists show every owned familiar's image
+  private static void prefetchImages() {
+    if (StaticEntity.isHeadless()) {
+      return;
+    }
+
+    List<String> urls = new ArrayList<>();
+    for (FamiliarData familiar : KoLCharacter.ownedFamiliars()) {
+      String url = FamiliarDatabase.getFamiliarImageURL(familiar.getId());
+      if (url != null) {
+        urls.add(url);
+      }
+    }
+    ImageLoader.prefetch(urls);
   }
 
   private static FamiliarData registerFamiliar(final Matcher matcher, boolean idFirst) {
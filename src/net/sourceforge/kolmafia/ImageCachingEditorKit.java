@@ -1,8 +1,11 @@
 package net.sourceforge.kolmafia;
 
+import java.awt.Container;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import javax.swing.Icon;
+import javax.swing.text.Document;
 import javax.swing.text.Element;
 import javax.swing.text.StyleConstants;
 import javax.swing.text.View;
@@ -10,7 +13,7 @@ import javax.swing.text.ViewFactory;
 import javax.swing.text.html.HTML;
 import javax.swing.text.html.HTMLEditorKit;
 import javax.swing.text.html.ImageView;
-import net.sourceforge.kolmafia.utilities.FileUtilities;
+import net.sourceforge.kolmafia.utilities.ImageLoader;
 
 public class ImageCachingEditorKit extends HTMLEditorKit {
   private static final ImageCachingViewFactory DEFAULT_FACTORY = new ImageCachingViewFactory();
@@ -20,6 +23,17 @@ public class ImageCachingEditorKit extends HTMLEditorKit {
     return ImageCachingEditorKit.DEFAULT_FACTORY;
   }
 
+  @Override
+  public Document createDefaultDocument() {
+    return ImageCachingEditorKit.shareDecodedImages(super.createDefaultDocument());
+  }
+
+  /** Makes the document draw its images from those already decoded for other panes. */
+  public static Document shareDecodedImages(final Document document) {
+    document.putProperty("imageCache", ImageLoader.getDecodedImages());
+    return document;
+  }
+
   protected static class ImageCachingViewFactory extends HTMLFactory {
     @Override
     public View create(final Element elem) {
@@ -31,7 +45,13 @@ public class ImageCachingEditorKit extends HTMLEditorKit {
     }
   }
 
-  private static class CachedImageView extends ImageView {
+  /**
+   * Draws an image from the local image directory. An image which has not been downloaded yet is
+   * drawn as a placeholder until it arrives, rather than holding up the Swing thread.
+   */
+  public static class CachedImageView extends ImageView {
+    private boolean loading = false;
+
     public CachedImageView(final Element elem) {
       super(elem);
     }
@@ -44,7 +64,17 @@ public class ImageCachingEditorKit extends HTMLEditorKit {
         return null;
       }
 
-      File imageFile = FileUtilities.downloadImage(src);
+      File imageFile = ImageLoader.getLocalImage(src);
+
+      if (imageFile == null) {
+        this.loading = !ImageLoader.isUnavailable(src);
+        if (this.loading) {
+          ImageLoader.request(src, this::imageArrived);
+        }
+        return null;
+      }
+
+      this.loading = false;
 
       try {
         return imageFile.toURI().toURL();
@@ -52,5 +82,26 @@ public class ImageCachingEditorKit extends HTMLEditorKit {
         return null;
       }
     }
+
+    @Override
+    public Icon getNoImageIcon() {
+      return this.loading ? this.getLoadingImageIcon() : super.getNoImageIcon();
+    }
+
+    private void imageArrived() {
+      if (this.getParent() == null) {
+        // No longer displayed
+        return;
+      }
+
+      // An ImageView reloads its image when its attributes change; it has no children, so
+      // there is no event to pass on.
+      this.changedUpdate(null, null, null);
+
+      Container host = this.getContainer();
+      if (host != null) {
+        host.repaint();
+      }
+    }
   }
 }
@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -57,6 +58,8 @@ import net.sourceforge.kolmafia.session.EncounterManager;
 import net.sourceforge.kolmafia.session.EquipmentManager;
 import net.sourceforge.kolmafia.session.InventoryManager;
 import net.sourceforge.kolmafia.session.LimitMode;
+import net.sourceforge.kolmafia.session.RequestMetrics;
+import net.sourceforge.kolmafia.session.RequestMetrics.Phase;
 import net.sourceforge.kolmafia.shop.ShopRequest;
 import net.sourceforge.kolmafia.utilities.StringUtilities;
 
@@ -3185,7 +3188,7 @@ public class KoLAdventure implements Comparable<KoLAdventure>, Runnable {
 
     // Check that adventuring in the zone does not require consuming
     // expensive resources
-    if (!this.validate0()) {
+    if (!this.validate(this::validate0)) {
       if (KoLmafia.permitsContinue()) {
         // validate0 did not give its own error message
         KoLmafia.updateDisplay(MafiaState.ERROR, "That area is not available.");
@@ -3196,7 +3199,7 @@ public class KoLAdventure implements Comparable<KoLAdventure>, Runnable {
     // Check that adventuring the zone is open to us, given level or quest
     // progress, possibly by using inexpensive resources we have on hand
     // (planting a beanstalk, building a dingy dinghy, and so on.)
-    if (!this.validate1()) {
+    if (!this.validate(this::validate1)) {
       if (KoLmafia.permitsContinue()) {
         // validate1 did not give its own error message
         KoLmafia.updateDisplay(MafiaState.ERROR, "That area is not available.");
@@ -3284,7 +3287,7 @@ public class KoLAdventure implements Comparable<KoLAdventure>, Runnable {
 
     // Perform any of the simple things that we are capable of (beanstalk,
     // dinghy, etc.) that are needed to adventure in the zone.
-    if (!this.validate2()) {
+    if (!this.validate(this::validate2)) {
       if (KoLmafia.permitsContinue()) {
         // validate2 did not give its own error message
         KoLmafia.updateDisplay(MafiaState.ERROR, "That area is not available.");
@@ -3296,6 +3299,12 @@ public class KoLAdventure implements Comparable<KoLAdventure>, Runnable {
     RequestThread.postRequest(this.request);
   }
 
+  private boolean validate(final BooleanSupplier validator) {
+    try (var timer = RequestMetrics.time(Phase.VALIDATE, this.adventureName)) {
+      return validator.getAsBoolean();
+    }
+  }
+
   private static final Pattern ADVENTUREID_PATTERN = Pattern.compile("snarfblat=(\\d+)");
   private static final Pattern MINE_PATTERN = Pattern.compile("mine=(\\d+)");
 
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -27,6 +28,7 @@ import net.sourceforge.kolmafia.equipment.SlotSet;
 import net.sourceforge.kolmafia.listener.CharacterListenerRegistry;
 import net.sourceforge.kolmafia.listener.NamedListenerRegistry;
 import net.sourceforge.kolmafia.listener.PreferenceListenerRegistry;
+import net.sourceforge.kolmafia.maximizer.MaximizerCache;
 import net.sourceforge.kolmafia.modifiers.BitmapModifier;
 import net.sourceforge.kolmafia.modifiers.BooleanModifier;
 import net.sourceforge.kolmafia.modifiers.DerivedModifier;
@@ -157,6 +159,8 @@ public abstract class KoLCharacter {
 
   // Create this early before subsequent initializers want to look at it.
   private static final Modifiers currentModifiers = new Modifiers();
+  // Bumped whenever currentModifiers changes, so derived values can be cached against it
+  private static final AtomicLong modifiersGeneration = new AtomicLong();
 
   // Things that cannot be changed
 
@@ -376,8 +380,11 @@ public abstract class KoLCharacter {
     KoLCharacter.resetTriggers();
 
     KoLCharacter.currentModifiers.reset();
+    KoLCharacter.modifiersGeneration.incrementAndGet();
     // TODO: do we need to do this? Can we not just reset the passive skill cache?
     ModifierDatabase.resetModifiers();
+    // Outfits found for the previous character say nothing about this one
+    MaximizerCache.clear();
 
     KoLConstants.inventory.clear();
     KoLConstants.closet.clear();
@@ -2906,6 +2913,7 @@ public abstract class KoLCharacter {
       EquipmentManager.resetEquipment();
       RequestThread.postRequest(new EquipmentRequest(EquipmentRequestType.EQUIPMENT));
       KoLCharacter.currentModifiers.reset();
+      KoLCharacter.modifiersGeneration.incrementAndGet();
 
       // we lose DNA lab and maybe source terminal / witchess
       CampgroundRequest.reset();
@@ -4914,20 +4922,49 @@ public abstract class KoLCharacter {
   }
 
   public static final boolean recalculateAdjustments(boolean debug) {
-    return KoLCharacter.currentModifiers.set(
-        KoLCharacter.recalculateAdjustments(
-            debug,
-            KoLCharacter.getMindControlLevel(),
-            EquipmentManager.allEquipment(),
-            KoLConstants.activeEffects,
-            KoLCharacter.effectiveFamiliar,
-            KoLCharacter.currentEnthroned,
-            KoLCharacter.currentBjorned,
-            null,
-            Preferences.getString("_horsery"),
-            Preferences.getString("boomBoxSong"),
-            Modeable.getStateMap(),
-            false));
+    Modifiers newModifiers = KoLCharacter.calculateCurrentModifiers(debug);
+
+    // Check that the cached sums of passive skills and effects were up to date
+    if (!debug && Preferences.getBoolean("debugModifierCaches")) {
+      Modifiers.invalidateCaches();
+      Modifiers expected = KoLCharacter.calculateCurrentModifiers(false);
+      List<String> differences = newModifiers.differences(expected);
+      if (!differences.isEmpty()) {
+        RequestLogger.printLine(
+            "Cached modifiers differ from recalculated ones: " + String.join(", ", differences));
+        newModifiers = expected;
+      }
+    }
+
+    boolean changed = KoLCharacter.currentModifiers.set(newModifiers);
+    if (changed) {
+      KoLCharacter.modifiersGeneration.incrementAndGet();
+    }
+    return changed;
+  }
+
+  private static Modifiers calculateCurrentModifiers(boolean debug) {
+    return KoLCharacter.recalculateAdjustments(
+        debug,
+        KoLCharacter.getMindControlLevel(),
+        EquipmentManager.allEquipment(),
+        KoLConstants.activeEffects,
+        KoLCharacter.effectiveFamiliar,
+        KoLCharacter.currentEnthroned,
+        KoLCharacter.currentBjorned,
+        null,
+        Preferences.getString("_horsery"),
+        Preferences.getString("boomBoxSong"),
+        Modeable.getStateMap(),
+        false);
+  }
+
+  /**
+   * Returns a counter which changes whenever the character's current modifiers change. Callers
+   * which cache values computed from modifiers can compare it to decide whether to recompute.
+   */
+  public static final long getModifiersGeneration() {
+    return KoLCharacter.modifiersGeneration.get();
   }
 
   public static final Modifiers recalculateAdjustments(
@@ -5108,10 +5145,11 @@ public abstract class KoLCharacter {
 
     // For the sake of easier maintenance, execute a lot of extra
     // string comparisons when looking at status effects.
+    //
+    // The Maximizer's EffectScores relies on most effects doing nothing but adding their
+    // modifiers here; update it when anything below starts to read a modifier back.
 
-    for (AdventureResult effect : effects) {
-      newModifiers.add(ModifierDatabase.getEffectModifiers(effect.getEffectId()));
-    }
+    newModifiers.applyEffectModifiers(effects, debug);
 
     // Add modifiers from campground equipment.
     for (AdventureResult item : KoLConstants.campground) {
@@ -28,6 +28,7 @@ import net.sourceforge.kolmafia.AdventureResult.AdventureLongCountResult;
 import net.sourceforge.kolmafia.KoLConstants.CraftingType;
 import net.sourceforge.kolmafia.KoLConstants.MafiaState;
 import net.sourceforge.kolmafia.SpecialOutfit.Checkpoint;
+import net.sourceforge.kolmafia.listener.ListenerRegistry;
 import net.sourceforge.kolmafia.listener.NamedListenerRegistry;
 import net.sourceforge.kolmafia.listener.PreferenceListenerRegistry;
 import net.sourceforge.kolmafia.moods.RecoveryManager;
@@ -102,6 +103,10 @@ import net.sourceforge.kolmafia.session.LightsOutManager;
 import net.sourceforge.kolmafia.session.LocketManager;
 import net.sourceforge.kolmafia.session.LogoutManager;
 import net.sourceforge.kolmafia.session.MallPriceManager;
+import net.sourceforge.kolmafia.session.RefreshPlan;
+import net.sourceforge.kolmafia.session.RefreshPlan.Effects;
+import net.sourceforge.kolmafia.session.RequestMetrics;
+import net.sourceforge.kolmafia.session.RequestMetrics.Phase;
 import net.sourceforge.kolmafia.session.ResultProcessor;
 import net.sourceforge.kolmafia.session.TrackManager;
 import net.sourceforge.kolmafia.session.TurnCounter;
@@ -285,6 +290,10 @@ public abstract class KoLmafia {
     Preferences.setBoolean("useDevServer", false);
     Preferences.setBoolean("relayBrowserOnly", false);
 
+    ListenerRegistry.setCoalescing(Preferences.getBoolean("coalesceListeners"));
+    ListenerRegistry.setCounting(Preferences.getBoolean("countListeners"));
+    RequestMetrics.initialize();
+
     Arrays.stream(StaticEntity.getPastUserList())
         .filter(u -> !u.startsWith("devster"))
         .map(
@@ -696,38 +705,57 @@ public abstract class KoLmafia {
     KoLmafia.setIsRefreshing(false);
   }
 
-  private static void refreshSessionData() {
-    KoLmafia.updateDisplay("Refreshing session data...");
-
-    // Some things aren't properly set by KoL until main.php is loaded
-
-    KoLmafia.makeMainRequest();
-
-    // Get current moon phases
-
-    RequestThread.postRequest(new MoonPhaseRequest());
-
-    // Forget what is trendy
-    TrendyRequest.reset();
-
-    // Initialize pasta thralls & Ed servants, regardless of
-    // character class
-    PastaThrallData.initialize();
-    EdServantData.initialize();
+  private static int getRefreshThreads() {
+    // Relay threads keep their own continuation state, which the steps would not share
+    return StaticEntity.isRelayThread() ? 1 : Preferences.getInteger("loginRefreshThreads");
+  }
 
-    // Initialize pulverization data from original item enchantments
-    EquipmentDatabase.initializePulverization();
+  private static void runRefreshPlan(final RefreshPlan plan) {
+    plan.run(KoLmafia.getRefreshThreads());
+    if (RequestMetrics.isEnabled()) {
+      plan.printReport();
+    }
+  }
 
-    // Reset monsters that depend on player name. Do this before we
-    // look at the char sheet; we'll bail early if we are in a
-    // fight - and we want to recognize aliased monsters
-    MonsterDatabase.saveAliases();
+  private static void refreshSessionData() {
+    KoLmafia.updateDisplay("Refreshing session data...");
 
-    // Retrieve the character sheet. It's necessary to do this
-    // before concoctions have a chance to get refreshed.
+    // Each step below lists the earlier steps whose results it looks at before making its
+    // requests. Responses are processed in this order however many steps run at once.
 
     GenericRequest request = new CharSheetRequest();
-    RequestThread.postRequest(request);
+
+    RefreshPlan character =
+        new RefreshPlan("Character refresh")
+            // Some things aren't properly set by KoL until main.php is loaded
+            .step("main", Effects.READS, KoLmafia::makeMainRequest)
+            // Get current moon phases
+            .step("moon", Effects.READS, () -> RequestThread.postRequest(new MoonPhaseRequest()))
+            .step(
+                "reset",
+                Effects.LOCAL,
+                () -> {
+                  // Forget what is trendy
+                  TrendyRequest.reset();
+
+                  // Initialize pasta thralls & Ed servants, regardless of
+                  // character class
+                  PastaThrallData.initialize();
+                  EdServantData.initialize();
+
+                  // Initialize pulverization data from original item enchantments
+                  EquipmentDatabase.initializePulverization();
+
+                  // Reset monsters that depend on player name. Do this before we
+                  // look at the char sheet; we'll bail early if we are in a
+                  // fight - and we want to recognize aliased monsters
+                  MonsterDatabase.saveAliases();
+                })
+            // Retrieve the character sheet. It's necessary to do this
+            // before concoctions have a chance to get refreshed.
+            .step("charsheet", Effects.READS, () -> RequestThread.postRequest(request));
+
+    KoLmafia.runRefreshPlan(character);
 
     // If you get redirected on the request for the character sheet,
     // don't make any more requests.
@@ -749,34 +777,227 @@ public abstract class KoLmafia {
     // Hermit items depend on character class
     HermitRequest.initialize();
 
-    // Retrieve the contents of inventory.
-    InventoryManager.refresh();
-
-    // Retrieve the contents of the closet.
-    ClosetRequest.refresh();
-
-    // Retrieve Custom Outfit list
-    if (!KoLCharacter.getLimitMode().limitOutfits()) {
-      RequestThread.postRequest(new CustomOutfitRequest());
-    }
-
-    // Look at the Quest Log
-    RequestThread.postRequest(new QuestLogRequest());
-
-    // if the Cyrpt quest is active, force evilometer refresh
-    // (if we don't know evil levels already)
-    if (QuestDatabase.isQuestStep(Quest.CYRPT, QuestDatabase.STARTED)
-        && Preferences.getInteger("cyrptTotalEvilness") == 0) {
-      RequestThread.postRequest(UseItemRequest.getInstance(ItemPool.EVILOMETER));
-    }
-
-    // If it's Halloween and we haven't done so, parse the current block
-    if (HolidayDatabase.getHolidays().contains("Halloween")
-        && Preferences.getString("_trickOrTreatBlock").isEmpty()) {
-      var req = new GenericRequest("place.php?whichplace=town&action=town_trickortreat");
-      RequestThread.postRequest(req);
-    }
+    RefreshPlan session =
+        new RefreshPlan("Session refresh")
+            // Retrieve the contents of inventory.
+            .step("inventory", Effects.READS, InventoryManager::refresh)
+            // Retrieve the contents of the closet.
+            .step("closet", Effects.READS, ClosetRequest::refresh)
+            .step(
+                "outfits",
+                Effects.READS,
+                () -> {
+                  // Retrieve Custom Outfit list
+                  if (!KoLCharacter.getLimitMode().limitOutfits()) {
+                    RequestThread.postRequest(new CustomOutfitRequest());
+                  }
+                })
+            // Look at the Quest Log
+            .step("quests", Effects.READS, () -> RequestThread.postRequest(new QuestLogRequest()))
+            .step(
+                "evilometer",
+                Effects.WRITES,
+                () -> {
+                  // if the Cyrpt quest is active, force evilometer refresh
+                  // (if we don't know evil levels already)
+                  if (QuestDatabase.isQuestStep(Quest.CYRPT, QuestDatabase.STARTED)
+                      && Preferences.getInteger("cyrptTotalEvilness") == 0) {
+                    RequestThread.postRequest(UseItemRequest.getInstance(ItemPool.EVILOMETER));
+                  }
+                },
+                "quests")
+            .step(
+                "halloween",
+                Effects.READS,
+                () -> {
+                  // If it's Halloween and we haven't done so, parse the current block
+                  if (HolidayDatabase.getHolidays().contains("Halloween")
+                      && Preferences.getString("_trickOrTreatBlock").isEmpty()) {
+                    var req =
+                        new GenericRequest("place.php?whichplace=town&action=town_trickortreat");
+                    RequestThread.postRequest(req);
+                  }
+                })
+            .step("path", Effects.LOCAL, KoLmafia::refreshPathData)
+            // Refresh fire levels
+            .step("wildfire", Effects.LOCAL, WildfireCampRequest::refresh)
+            .step(
+                "familiars",
+                Effects.READS,
+                () -> {
+                  if (KoLCharacter.inQuantum()) {
+                    RequestThread.postRequest(new QuantumTerrariumRequest());
+                    // We did this earlier before loading charsheet.
+                    // Do it again so we can catch passive skills
+                    ApiRequest.updateStatus();
+                  } else if (!KoLCharacter.inPokefam()) {
+                    // In an avatar path that can't use familiars, owned familiars still
+                    // affect things
+                    // Retrieve the Terrarium
+                    RequestThread.postRequest(new FamiliarRequest());
+                  }
+                })
+            .step(
+                "chateau",
+                Effects.READS,
+                () -> {
+                  // Processing the response resets the Chateau, so only reset it here if there
+                  // will be no response; this may run before earlier steps have been processed
+                  if (ChateauRequest.chateauAvailable()) {
+                    RequestThread.postRequest(new ChateauRequest());
+                  } else {
+                    ChateauRequest.reset();
+                  }
+                })
+            // Always reset the campground data. If our current path has access to a
+            // campground, we will refresh it. If not, we won't. This only matters if
+            // you continue in the same session after ascending to such a path.
+            .step("campground reset", Effects.LOCAL, CampgroundRequest::reset)
+            .step(
+                "campground",
+                Effects.READS,
+                () -> {
+                  // If the path allows, retrieve campground data to see if the user has box
+                  // servants or a bookshelf
+                  if (!KoLCharacter.getLimitMode().limitCampground()
+                      && !KoLCharacter.isEd()
+                      && !KoLCharacter.inNuclearAutumn()
+                      && !KoLCharacter.inRobocore()
+                      && !KoLCharacter.inWereProfessor()) {
+                    KoLmafia.updateDisplay("Retrieving campground data...");
+                    if (!KoLCharacter.isVampyre()) {
+                      RequestThread.postRequest(new CampgroundRequest("inspectdwelling"));
+                    }
+                    RequestThread.postRequest(new CampgroundRequest("inspectkitchen"));
+                    RequestThread.postRequest(new CampgroundRequest("workshed"));
+                    KoLCharacter.checkTelescope();
+                  }
+                })
+            // Retrieve current Cafe menus if we haven't done so today
+            // These affect available concoctions
+            .step("cafes", Effects.READS, ConcoctionDatabase::retrieveCafeMenus, "inventory")
+            .step(
+                "fallout shelter",
+                Effects.LOCAL,
+                () -> {
+                  if (!KoLCharacter.getLimitMode().limitCampground()
+                      && KoLCharacter.inNuclearAutumn()) {
+                    KoLmafia.updateDisplay("Retrieving fallout shelter data...");
+                    FalloutShelterRequest.reset();
+                    RequestThread.postRequest(new FalloutShelterRequest());
+                  }
+                })
+            .step(
+                "pvp", Effects.READS, () -> RequestThread.postRequest(new PeeVPeeRequest("fight")))
+            .step(
+                "storage",
+                Effects.WRITES,
+                () -> {
+                  if (Preferences.getInteger("lastEmptiedStorage")
+                      != KoLCharacter.getAscensions()) {
+                    StorageRequest.refresh();
+                    CafeRequest.pullLARPCard();
+                  }
+
+                  // Load items pulled in Ronin
+                  StorageRequest.loadRoninStoragePulls();
+                })
+            .step(
+                "keyotron",
+                Effects.WRITES,
+                () -> {
+                  if (InventoryManager.getCount(ItemPool.KEYOTRON) > 0
+                      && Preferences.getInteger("lastKeyotronUse")
+                          != KoLCharacter.getAscensions()) {
+                    RequestThread.postRequest(UseItemRequest.getInstance(ItemPool.KEYOTRON));
+                  }
+                },
+                "inventory")
+            .step("items", Effects.LOCAL, KoLmafia::refreshItemData)
+            .step(
+                "horsery",
+                Effects.READS,
+                () -> {
+                  // Check Horsery if we haven't today
+                  if (Preferences.getBoolean("horseryAvailable")
+                      && Preferences.getString("_horseryCrazyMox").length() == 0) {
+                    RequestThread.postRequest(
+                        new GenericRequest("place.php?whichplace=town_right&action=town_horsery"));
+                  }
+                },
+                // Any page processed before it may have found the Horsery; "items" starts only
+                // once all of them have been
+                "items")
+            .step(
+                "familiar reset",
+                Effects.LOCAL,
+                () -> {
+                  // Refresh familiar stuff
+                  FamiliarData.reset();
+
+                  // Make sure that we know about the easy to see Golden Mr. A's, at least
+                  InventoryManager.countGoldenMrAccesories();
+                })
+            .step(
+                "clan",
+                Effects.LOCAL,
+                () -> {
+                  // Look up the current clan
+                  ClanManager.resetClanId();
+                  ClanManager.getClanName(true);
+                })
+            .step(
+                "contacts",
+                Effects.LOCAL,
+                () -> {
+                  // Update your mail contacts
+                  ContactManager.clearMailContacts();
+                  ContactManager.updateMailContacts();
+                })
+            // Get current list of restricted items
+            .step("standard", Effects.LOCAL, () -> StandardRequest.initialize(true))
+            .step(
+                "concoctions",
+                Effects.LOCAL,
+                () -> {
+                  KoLmafia.updateDisplay("Session data refreshed.");
+
+                  // Inventory may have changed
+                  NamedListenerRegistry.fireChange("(coinmaster)");
+
+                  ConcoctionDatabase.refreshConcoctions();
+                })
+            .step(
+                "florist",
+                Effects.LOCAL,
+                () -> {
+                  // Check the Florist to see what is planted
+                  FloristRequest.reset();
+                  RequestThread.postRequest(new FloristRequest());
+                })
+            .step(
+                "counters",
+                Effects.LOCAL,
+                () -> {
+                  // Check orb predictions
+                  CrystalBallManager.ponder();
+
+                  // Check locket monsters
+                  LocketManager.reset();
+
+                  // Check some things that are not (yet) in api.php
+                  EquipmentRequest.checkCowboyBoots();
+                  EquipmentRequest.checkHolster();
+
+                  // Ensure turn based counters are active
+                  LightsOutManager.checkCounter();
+                  VoteMonsterManager.checkCounter();
+                });
+
+    KoLmafia.runRefreshPlan(session);
+  }
 
+  private static void refreshPathData() {
     // Path-related stuff
     if (KoLCharacter.isEd()) {
       // Inspect your servants
@@ -795,69 +1016,9 @@ public abstract class KoLmafia {
       // Charpane contains the only absorb count tracking, thus we read it there
       RequestThread.postRequest(new CharPaneRequest());
     }
+  }
 
-    // Refresh fire levels
-    WildfireCampRequest.refresh();
-
-    if (KoLCharacter.inQuantum()) {
-      RequestThread.postRequest(new QuantumTerrariumRequest());
-      // We did this earlier before loading charsheet.
-      // Do it again so we can catch passive skills
-      ApiRequest.updateStatus();
-    } else if (!KoLCharacter.inPokefam()) {
-      // In an avatar path that can't use familiars, owned familiars still affect things
-      // Retrieve the Terrarium
-      RequestThread.postRequest(new FamiliarRequest());
-    }
-
-    ChateauRequest.refresh();
-
-    // Always reset the campground data. If our current path has access to a
-    // campground, we will refresh it. If not, we won't. This only matters if
-    // you continue in the same session after ascending to such a path.
-    CampgroundRequest.reset();
-
-    // If the path allows, retrieve campground data to see if the user has box
-    // servants or a bookshelf
-    if (!KoLCharacter.getLimitMode().limitCampground()
-        && !KoLCharacter.isEd()
-        && !KoLCharacter.inNuclearAutumn()
-        && !KoLCharacter.inRobocore()
-        && !KoLCharacter.inWereProfessor()) {
-      KoLmafia.updateDisplay("Retrieving campground data...");
-      if (!KoLCharacter.isVampyre()) {
-        RequestThread.postRequest(new CampgroundRequest("inspectdwelling"));
-      }
-      RequestThread.postRequest(new CampgroundRequest("inspectkitchen"));
-      RequestThread.postRequest(new CampgroundRequest("workshed"));
-      KoLCharacter.checkTelescope();
-    }
-
-    // Retrieve current Cafe menus if we haven't done so today
-    // These affect available concoctions
-    ConcoctionDatabase.retrieveCafeMenus();
-
-    if (!KoLCharacter.getLimitMode().limitCampground() && KoLCharacter.inNuclearAutumn()) {
-      KoLmafia.updateDisplay("Retrieving fallout shelter data...");
-      FalloutShelterRequest.reset();
-      RequestThread.postRequest(new FalloutShelterRequest());
-    }
-
-    RequestThread.postRequest(new PeeVPeeRequest("fight"));
-
-    if (Preferences.getInteger("lastEmptiedStorage") != KoLCharacter.getAscensions()) {
-      StorageRequest.refresh();
-      CafeRequest.pullLARPCard();
-    }
-
-    // Load items pulled in Ronin
-    StorageRequest.loadRoninStoragePulls();
-
-    if (InventoryManager.getCount(ItemPool.KEYOTRON) > 0
-        && Preferences.getInteger("lastKeyotronUse") != KoLCharacter.getAscensions()) {
-      RequestThread.postRequest(UseItemRequest.getInstance(ItemPool.KEYOTRON));
-    }
-
+  private static void refreshItemData() {
     // If we have a Crown of Thrones and/or Buddy Bjorn available and it's not
     // equipped, see which familiar is sitting in it, if any.
     InventoryManager.checkCrownOfThrones();
@@ -887,55 +1048,6 @@ public abstract class KoLmafia {
 
     // Items that conditionally grant skills
     InventoryManager.checkSkillGrantingEquipment();
-
-    // Check Horsery if we haven't today
-    if (Preferences.getBoolean("horseryAvailable")
-        && Preferences.getString("_horseryCrazyMox").length() == 0) {
-      RequestThread.postRequest(
-          new GenericRequest("place.php?whichplace=town_right&action=town_horsery"));
-    }
-
-    // Refresh familiar stuff
-    FamiliarData.reset();
-
-    // Make sure that we know about the easy to see Golden Mr. A's, at least
-    InventoryManager.countGoldenMrAccesories();
-
-    // Look up the current clan
-    ClanManager.resetClanId();
-    ClanManager.getClanName(true);
-
-    // Update your mail contacts
-    ContactManager.clearMailContacts();
-    ContactManager.updateMailContacts();
-
-    // Get current list of restricted items
-    StandardRequest.initialize(true);
-
-    KoLmafia.updateDisplay("Session data refreshed.");
-
-    // Inventory may have changed
-    NamedListenerRegistry.fireChange("(coinmaster)");
-
-    ConcoctionDatabase.refreshConcoctions();
-
-    // Check the Florist to see what is planted
-    FloristRequest.reset();
-    RequestThread.postRequest(new FloristRequest());
-
-    // Check orb predictions
-    CrystalBallManager.ponder();
-
-    // Check locket monsters
-    LocketManager.reset();
-
-    // Check some things that are not (yet) in api.php
-    EquipmentRequest.checkCowboyBoots();
-    EquipmentRequest.checkHolster();
-
-    // Ensure turn based counters are active
-    LightsOutManager.checkCounter();
-    VoteMonsterManager.checkCounter();
   }
 
   public static final void makeMainRequest() {
@@ -1424,27 +1536,32 @@ public abstract class KoLmafia {
     }
 
     RequestLogger.printLine();
-    RequestThread.postRequest(adventure);
-    while (!KoLmafia.refusesContinue()) {
-      if (FightRequest.inMultiFight || FightRequest.fightFollowsChoice) {
-        RequestThread.postRequest(FightRequest.INSTANCE);
-        continue;
-      }
-      if (FightRequest.choiceFollowsFight) {
-        RequestThread.postRequest(new GenericRequest("choice.php"));
-        // Fall through
-      }
-      if (ChoiceManager.handlingChoice) {
-        ChoiceManager.gotoGoal();
-        continue;
+    try (var timer = RequestMetrics.time(Phase.ADVENTURE, adventure.getAdventureName())) {
+      RequestThread.postRequest(adventure);
+      while (!KoLmafia.refusesContinue()) {
+        if (FightRequest.inMultiFight || FightRequest.fightFollowsChoice) {
+          RequestThread.postRequest(FightRequest.INSTANCE);
+          continue;
+        }
+        if (FightRequest.choiceFollowsFight) {
+          RequestThread.postRequest(new GenericRequest("choice.php"));
+          // Fall through
+        }
+        if (ChoiceManager.handlingChoice) {
+          ChoiceManager.gotoGoal();
+          continue;
+        }
+        break;
       }
-      break;
     }
     RequestLogger.printLine();
 
     KoLmafia.currentIterationString = "";
 
-    KoLmafia.executeAfterAdventureScript();
+    try (var timer =
+        RequestMetrics.time(Phase.AFTER_ADVENTURE_SCRIPT, adventure.getAdventureName())) {
+      KoLmafia.executeAfterAdventureScript();
+    }
 
     if (KoLmafia.handleConditions(items, creatables)) {
       KoLmafia.updateDisplay(
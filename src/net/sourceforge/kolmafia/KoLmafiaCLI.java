@@ -632,6 +632,7 @@ public class KoLmafiaCLI {
     new DebugCreateCommand().register("debugcreate");
     new DebugRequestCommand().register("debug");
     new DemonNamesCommand().register("demons");
+    new DescriptionCacheCommand().register("desccache");
     new DevilCandyEggCommand().register("devilcandyegg");
     new DisplayCaseCommand().register("display");
     new DreadscrollCommand().register("dreadscroll");
@@ -698,14 +699,17 @@ public class KoLmafiaCLI {
     new LeafletCommand().register("leaflet");
     new LeavesCommand().register("leaves");
     new LedCandleCommand().register("ledcandle").register("jillcandle");
+    new ListenersCommand().register("listeners");
     new LoathingIdolCommand().register("loathingidol");
     new LogEchoCommand().register("logecho").register("logprint");
     new LoginCommand().register("login");
     new LogoutCommand().register("logout");
+    new MacroCacheCommand().register("macrocache");
     new MacroTestCommand().register("macrotest");
     new MallRepriceCommand().register("reprice").register("undercut");
     new MallSellCommand().register("mallsell");
     new ManaRestoreCountCommand().register("mpitems");
+    new MaximizerCacheCommand().register("maxcache");
     new MayamCommand().register("mayam");
     new MayoMinderCommand().register("mayominder");
     new MayosoakCommand().register("mayosoak");
@@ -763,6 +767,7 @@ public class KoLmafiaCLI {
     new RelayBrowserCommand().register("relay");
     new ReminisceCommand().register("reminisce");
     new RepeatLineCommand().register("repeat");
+    new RequestMetricsCommand().register("timing");
     new RestaurantCommand().register("restaurant").register("brewery").register("microbrewery");
     new RestoresCommand().register("restores");
     new RetroCapeCommand().register("retrocape");
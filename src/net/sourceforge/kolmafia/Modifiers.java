@@ -4,12 +4,14 @@ import static net.sourceforge.kolmafia.utilities.Statics.DateTimeManager;
 
 import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import net.sourceforge.kolmafia.VYKEACompanionData.VYKEACompanionType;
@@ -68,6 +70,36 @@ public class Modifiers {
       new TreeMap<>();
   private static Modifiers cachedPassiveModifiers = null;
 
+  // caching of the effects which simply add up, for the most recent list of effects
+  private static int[] cachedEffectIds = null;
+  private static long cachedEffectsGeneration = -1;
+  private static Modifiers cachedEffectModifiers = null;
+  private static int[] otherEffectIds = null;
+
+  // Modifiers which are not simply added, or which depend on character state when added
+  private static final Set<DoubleModifier> UNSUMMABLE =
+      EnumSet.of(
+          DoubleModifier.MANA_COST,
+          DoubleModifier.FAMILIAR_WEIGHT_PCT,
+          DoubleModifier.MUS_LIMIT,
+          DoubleModifier.MYS_LIMIT,
+          DoubleModifier.MOX_LIMIT,
+          DoubleModifier.FAMILIAR_ACTION_BONUS,
+          DoubleModifier.STOMACH_CAPACITY,
+          DoubleModifier.LIVER_CAPACITY,
+          DoubleModifier.SPLEEN_CAPACITY);
+
+  // String modifiers which add looks at
+  private static final Set<StringModifier> ADDED_STRINGS =
+      EnumSet.of(
+          StringModifier.CLASS,
+          StringModifier.EQUALIZE,
+          StringModifier.EQUALIZE_MUSCLE,
+          StringModifier.EQUALIZE_MYST,
+          StringModifier.EQUALIZE_MOXIE,
+          StringModifier.INTRINSIC_EFFECT,
+          StringModifier.STAT_TUNING);
+
   // fields used in Modifiers objects
 
   private Lookup originalLookup;
@@ -475,6 +507,48 @@ public class Modifiers {
     return changed;
   }
 
+  /**
+   * Describes each modifier whose value differs from that in the other modifiers. Numeric values
+   * may differ slightly when added up in another order.
+   */
+  public List<String> differences(final Modifiers other) {
+    List<String> differences = new ArrayList<>();
+
+    for (var mod : DoubleModifier.DOUBLE_MODIFIERS) {
+      double value = this.doubles.get(mod);
+      double otherValue = other.doubles.get(mod);
+      if (Math.abs(value - otherValue) > 1e-9 * Math.max(1.0, Math.abs(otherValue))) {
+        differences.add(mod.getName() + ": " + value + " vs " + otherValue);
+      }
+    }
+
+    for (var mod : BitmapModifier.BITMAP_MODIFIERS) {
+      int value = this.bitmaps.get(mod);
+      int otherValue = other.bitmaps.get(mod);
+      if (value != otherValue) {
+        differences.add(mod.getName() + ": " + value + " vs " + otherValue);
+      }
+    }
+
+    for (var mod : BooleanModifier.BOOLEAN_MODIFIERS) {
+      boolean value = this.booleans.get(mod);
+      boolean otherValue = other.booleans.get(mod);
+      if (value != otherValue) {
+        differences.add(mod.getName() + ": " + value + " vs " + otherValue);
+      }
+    }
+
+    for (var mod : StringModifier.STRING_MODIFIERS) {
+      String value = this.strings.get(mod);
+      String otherValue = other.strings.get(mod);
+      if (!value.equals(otherValue)) {
+        differences.add(mod.getName() + ": " + value + " vs " + otherValue);
+      }
+    }
+
+    return differences;
+  }
+
   public void addDouble(
       final DoubleModifier mod, final double value, final ModifierType type, final int key) {
     addDouble(mod, value, type, new IntOrString(key));
@@ -914,6 +988,98 @@ public class Modifiers {
     availablePassiveSkillModifiersByVariable.clear();
   }
 
+  /** Makes the next calculation rebuild the cached sums of passive skills and of effects. */
+  public static synchronized void invalidateCaches() {
+    availableSkillsChanged = true;
+    cachedEffectIds = null;
+  }
+
+  /**
+   * Adds the modifiers of each effect. The effects whose modifiers simply add up are summed once,
+   * and the sum is reused until the effects or the modifiers of any effect change.
+   */
+  public void applyEffectModifiers(final List<AdventureResult> effects, final boolean debug) {
+    if (debug) {
+      for (AdventureResult effect : effects) {
+        this.add(ModifierDatabase.getEffectModifiers(effect.getEffectId()));
+      }
+      return;
+    }
+
+    int[] effectIds = new int[effects.size()];
+    for (int i = 0; i < effectIds.length; i++) {
+      effectIds[i] = effects.get(i).getEffectId();
+    }
+
+    // Which modifiers an effect has may depend on the path, but such changes reset the database
+    long generation =
+        ((long) ModifierDatabase.getOverrideGeneration() << 32)
+            | KoLCharacter.getPath().ordinal();
+
+    Modifiers sum;
+    int[] others;
+    synchronized (Modifiers.class) {
+      if (!Arrays.equals(effectIds, Modifiers.cachedEffectIds)
+          || generation != Modifiers.cachedEffectsGeneration) {
+        sum = new Modifiers(new Lookup(ModifierType.EFFECT, "cachedEffects"));
+        List<Integer> unsummed = new ArrayList<>();
+        for (int effectId : effectIds) {
+          Modifiers mods = ModifierDatabase.getEffectModifiers(effectId);
+          if (mods == null) {
+            continue;
+          }
+          if (Modifiers.isSummable(mods)) {
+            sum.add(mods);
+          } else {
+            unsummed.add(effectId);
+          }
+        }
+        Modifiers.cachedEffectIds = effectIds;
+        Modifiers.cachedEffectsGeneration = generation;
+        Modifiers.cachedEffectModifiers = sum;
+        Modifiers.otherEffectIds = unsummed.stream().mapToInt(Integer::intValue).toArray();
+      }
+      sum = Modifiers.cachedEffectModifiers;
+      others = Modifiers.otherEffectIds;
+    }
+
+    this.add(sum);
+
+    // Variable modifiers are evaluated again as they are looked up
+    for (int effectId : others) {
+      this.add(ModifierDatabase.getEffectModifiers(effectId));
+    }
+  }
+
+  // Whether adding these modifiers to a sum gives the same result as adding them one by one
+  private static boolean isSummable(final Modifiers mods) {
+    if (mods.variable) {
+      return false;
+    }
+
+    for (var mod : UNSUMMABLE) {
+      if (mods.doubles.get(mod) != 0.0) {
+        return false;
+      }
+    }
+    for (var mod : ADDED_STRINGS) {
+      if (!mods.strings.get(mod).isEmpty()) {
+        return false;
+      }
+    }
+    for (var mod : BooleanModifier.BOOLEAN_MODIFIERS) {
+      if (mods.booleans.get(mod)) {
+        return false;
+      }
+    }
+    for (var mod : BitmapModifier.BITMAP_MODIFIERS) {
+      if (mods.bitmaps.get(mod) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public final void applyFloristModifiers() {
     if (!FloristRequest.haveFlorist()) {
       return;
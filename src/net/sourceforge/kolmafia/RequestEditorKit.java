@@ -4,9 +4,6 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Container;
 import java.awt.Frame;
-import java.io.File;
-import java.io.IOException;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -21,6 +18,7 @@ import java.util.stream.Stream;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JRadioButton;
+import javax.swing.text.Document;
 import javax.swing.text.Element;
 import javax.swing.text.StyleConstants;
 import javax.swing.text.View;
@@ -28,7 +26,6 @@ import javax.swing.text.ViewFactory;
 import javax.swing.text.html.FormView;
 import javax.swing.text.html.HTML;
 import javax.swing.text.html.HTMLEditorKit;
-import javax.swing.text.html.ImageView;
 import net.sourceforge.kolmafia.chat.ChatPoller;
 import net.sourceforge.kolmafia.combat.MonsterStatusTracker;
 import net.sourceforge.kolmafia.equipment.Slot;
@@ -82,6 +79,7 @@ import net.sourceforge.kolmafia.webui.BasementDecorator;
 import net.sourceforge.kolmafia.webui.BeerPongDecorator;
 import net.sourceforge.kolmafia.webui.CharPaneDecorator;
 import net.sourceforge.kolmafia.webui.ClanFortuneDecorator;
+import net.sourceforge.kolmafia.webui.DecoratorPipeline;
 import net.sourceforge.kolmafia.webui.DiscoCombatHelper;
 import net.sourceforge.kolmafia.webui.FightDecorator;
 import net.sourceforge.kolmafia.webui.HobopolisDecorator;
@@ -124,6 +122,11 @@ public class RequestEditorKit extends HTMLEditorKit {
     return RequestEditorKit.DEFAULT_FACTORY;
   }
 
+  @Override
+  public Document createDefaultDocument() {
+    return ImageCachingEditorKit.shareDecodedImages(super.createDefaultDocument());
+  }
+
   /**
    * Registers thethat is supposed to be used for handling data submission to the Kingdom of
    * Loathing server.
@@ -136,36 +139,13 @@ public class RequestEditorKit extends HTMLEditorKit {
       }
 
       if (elem.getAttributes().getAttribute(StyleConstants.NameAttribute) == HTML.Tag.IMG) {
-        return new KoLImageView(elem);
+        return new ImageCachingEditorKit.CachedImageView(elem);
       }
 
       return super.create(elem);
     }
   }
 
-  private static class KoLImageView extends ImageView {
-    public KoLImageView(final Element elem) {
-      super(elem);
-    }
-
-    @Override
-    public URL getImageURL() {
-      String src = (String) this.getElement().getAttributes().getAttribute(HTML.Attribute.SRC);
-
-      if (src == null) {
-        return null;
-      }
-
-      File imageFile = FileUtilities.downloadImage(src);
-
-      try {
-        return imageFile.toURI().toURL();
-      } catch (IOException e) {
-        return null;
-      }
-    }
-  }
-
   public static final String getFeatureRichHTML(final String location, final String text) {
     return RequestEditorKit.getFeatureRichHTML(location, text, true);
   }
@@ -302,14 +282,9 @@ public class RequestEditorKit extends HTMLEditorKit {
       // bug report form.
       RequestEditorKit.addBugReportWarning(buffer);
     } else if (location.startsWith("adventure.php")) {
-      RequestEditorKit.fixCyberRealm(buffer);
-      RequestEditorKit.fixTavernCellar(buffer);
-      RequestEditorKit.fixBallroom1(buffer);
-      RequestEditorKit.fixDucks(buffer);
-      RequestEditorKit.fixPortal(buffer);
+      RequestEditorKit.PAGE_FIXES.decorate(location, buffer);
       StationaryButtonDecorator.decorate(location, buffer);
-      RequestEditorKit.fixBallroom2(buffer);
-      RequestEditorKit.fixGovernmentLab(buffer);
+      RequestEditorKit.LATE_PAGE_FIXES.decorate(location, buffer);
     } else if (location.startsWith("ascend.php")) {
       ValhallaDecorator.decorateGashJump(location, buffer);
     } else if (location.startsWith("ascensionhistory.php")) {
@@ -346,8 +321,7 @@ public class RequestEditorKit extends HTMLEditorKit {
     } else if (location.startsWith("cave.php")) {
       NemesisManager.decorate(location, buffer);
     } else if (location.startsWith("choice.php")) {
-      RequestEditorKit.fixCyberRealm(buffer);
-      RequestEditorKit.fixTavernCellar(buffer);
+      RequestEditorKit.PAGE_FIXES.decorate(location, buffer);
       StationaryButtonDecorator.decorate(location, buffer);
       RequestEditorKit.addChoiceSpoilers(location, buffer, addComplexFeatures);
       RequestEditorKit.addBarrelSounds(buffer);
@@ -367,8 +341,7 @@ public class RequestEditorKit extends HTMLEditorKit {
 
       RequestEditorKit.suppressInappropriateNags(buffer);
       RequestEditorKit.suppressPowerPixellation(buffer);
-      RequestEditorKit.fixCyberRealm(buffer);
-      RequestEditorKit.fixTavernCellar(buffer);
+      RequestEditorKit.PAGE_FIXES.decorate(location, buffer);
 
       // Decorate end of fight before stationary buttons
       FightDecorator.decorateEndOfFight(buffer);
@@ -391,7 +364,7 @@ public class RequestEditorKit extends HTMLEditorKit {
       FightDecorator.decorateLocation(buffer);
     } else if (location.startsWith("fambattle.php")) {
       // Do a subset of the above for a Pokefam battle
-      RequestEditorKit.fixTavernCellar(buffer);
+      RequestEditorKit.PAGE_FIXES.decorate(location, buffer);
       FightDecorator.decorateEndOfFight(buffer);
       // Not yet.
       // StationaryButtonDecorator.decorate( location, buffer );
@@ -1112,6 +1085,14 @@ public class RequestEditorKit extends HTMLEditorKit {
   </style>
    */
 
+  private static final String CYBER_REALM_STYLESHEET =
+      "<link rel=\"stylesheet\" href=\"https://unpkg.com/fixedsys-css/css/fixedsys.css\">";
+  private static final String CYBER_REALM_GREEN = "style=\"background-color: green\"";
+  private static final String CYBER_REALM_BLACK = "style=\"color: black\"";
+  private static final String CYBER_REALM_SCRIPT = "cyberit = function ()";
+  private static final String CYBER_REALM_HACKED = "You've already hacked this system.";
+  private static final String CYBER_REALM_MAP = "place.php?whichplace=cyberrealm";
+
   private static final Pattern CYBER_REALM_DARK_MODE_PATTERN =
       Pattern.compile(
           "<link rel=\"stylesheet\" href=\"https://unpkg.com/fixedsys-css/css/fixedsys.css\">.*?<style>.*?</style>",
@@ -1119,37 +1100,35 @@ public class RequestEditorKit extends HTMLEditorKit {
   private static final Pattern SCRIPT_PATTERN =
       Pattern.compile("<script.*?</script>", Pattern.DOTALL);
 
-  protected static void fixCyberRealm(final StringBuffer buffer) {
-    boolean suppressDarkMode = Preferences.getBoolean("suppressCyberRealmDarkMode");
-    if (suppressDarkMode) {
-      Matcher darkMatcher = CYBER_REALM_DARK_MODE_PATTERN.matcher(buffer);
-      if (darkMatcher.find()) {
-        StringUtilities.singleStringReplace(buffer, darkMatcher.group(0), "");
-        StringUtilities.globalStringReplace(
-            buffer, "style=\"background-color: green\"", "style=\"background-color: blue\"");
-        StringUtilities.globalStringReplace(
-            buffer, "style=\"color: black\"", "style=\"color: white\"");
+  private static void fixCyberRealm(final DecoratorPipeline.Page page) {
+    if (Preferences.getBoolean("suppressCyberRealmDarkMode")) {
+      int index = page.indexOf(CYBER_REALM_STYLESHEET);
+      if (index != -1) {
+        Matcher darkMatcher = CYBER_REALM_DARK_MODE_PATTERN.matcher(page.getText());
+        if (darkMatcher.find(index)) {
+          page.delete(darkMatcher.start(), darkMatcher.end());
+          page.replaceAll(CYBER_REALM_GREEN, "style=\"background-color: blue\"");
+          page.replaceAll(CYBER_REALM_BLACK, "style=\"color: white\"");
+        }
       }
     }
 
-    boolean suppressGreenImages = Preferences.getBoolean("suppressCyberRealmGreenImages");
-    if (suppressGreenImages) {
-      Matcher scriptMatcher = SCRIPT_PATTERN.matcher(buffer);
+    if (Preferences.getBoolean("suppressCyberRealmGreenImages")
+        && page.contains(CYBER_REALM_SCRIPT)) {
+      Matcher scriptMatcher = SCRIPT_PATTERN.matcher(page.getText());
       while (scriptMatcher.find()) {
-        String text = scriptMatcher.group(0);
-        if (text.contains("cyberit = function ()")) {
-          StringUtilities.singleStringReplace(buffer, text, "");
+        if (scriptMatcher.group(0).contains(CYBER_REALM_SCRIPT)) {
+          page.delete(scriptMatcher.start(), scriptMatcher.end());
           break;
         }
       }
     }
 
     // KoL does not currently provide a link back to the CyberRealm Map for zones 2 and 3
-    if (buffer.indexOf("You've already hacked this system.") != -1) {
+    if (page.contains(CYBER_REALM_HACKED)) {
       // But if they fix it and it now adds one, cool.
-      String url = "place.php?whichplace=cyberrealm";
-      if (buffer.indexOf(url) == -1) {
-        RequestEditorKit.addAdventureAgainSection(buffer, url, "Back to the Network Map");
+      if (!page.contains(CYBER_REALM_MAP)) {
+        RequestEditorKit.addAdventureAgainSection(page, CYBER_REALM_MAP, "Back to the Network Map");
       }
     }
   }
@@ -1652,7 +1631,9 @@ public class RequestEditorKit extends HTMLEditorKit {
     }
   }
 
-  private static void fixTavernCellar(final StringBuffer buffer) {
+  private static final String TAVERN_CELLAR_LINK = "<a href=\"cellar.php\">";
+
+  private static void fixTavernCellar(final DecoratorPipeline.Page page) {
     // When you adventure in the Typical Tavern Cellar, the
     // Adventure Again link takes you to the map. Fix that link
     // as follows:
@@ -1660,7 +1641,7 @@ public class RequestEditorKit extends HTMLEditorKit {
     // (new) Explore Next Unexplored Square
     // Go back to the Typical Tavern Cellar
 
-    int index = buffer.indexOf("<a href=\"cellar.php\">");
+    int index = page.indexOf(TAVERN_CELLAR_LINK);
     if (index == -1) {
       return;
     }
@@ -1674,7 +1655,7 @@ public class RequestEditorKit extends HTMLEditorKit {
         "<a href=\"cellar.php?action=explore&whichspot="
             + unexplored
             + "\">Explore Next Unexplored Square</a><p>";
-    buffer.insert(index, link);
+    page.insert(index, link);
   }
 
   private static void addTaleOfDread(final StringBuffer buffer) {
@@ -2210,17 +2191,17 @@ public class RequestEditorKit extends HTMLEditorKit {
     buffer.insert(index, disclaimer);
   }
 
-  private static void fixDucks(final StringBuffer buffer) {
+  private static void fixDucks(final DecoratorPipeline.Page page) {
     // KoL does not currently provide a link back to the farm after
     // you defeat the last duck.
 
-    if (buffer.indexOf("ducks") == -1) {
+    if (!page.contains("ducks")) {
       return;
     }
 
     // But if they fix it and it now adds one, cool.
 
-    if (buffer.indexOf("island.php") != -1) {
+    if (page.contains("island.php")) {
       return;
     }
 
@@ -2240,12 +2221,12 @@ public class RequestEditorKit extends HTMLEditorKit {
       url = "bigisland.php?place=farm";
     }
 
-    if (buffer.indexOf(test) == -1) {
+    if (!page.contains(test)) {
       return;
     }
 
     RequestEditorKit.addAdventureAgainSection(
-        buffer, url, "Go back to The Mysterious Island of Mystery");
+        page, url, "Go back to The Mysterious Island of Mystery");
   }
 
   private static void fixNemesisLair(final StringBuffer buffer) {
@@ -2289,27 +2270,30 @@ public class RequestEditorKit extends HTMLEditorKit {
     RequestEditorKit.addAdventureAgainSection(buffer, url, "Equip your " + item);
   }
 
-  private static void fixPortal(final StringBuffer buffer) {
+  private static final String EL_VIBRATO_PORTAL_EMPTY =
+      "Your El Vibrato portal has run out of power";
+
+  private static void fixPortal(final DecoratorPipeline.Page page) {
     // Your El Vibrato portal has run out of power.  You should go back to
     // <a href="campground.php">your campsite</a> and charge it back up.
 
-    if (buffer.indexOf("Your El Vibrato portal has run out of power") == -1) {
+    if (!page.contains(EL_VIBRATO_PORTAL_EMPTY)) {
       return;
     }
 
     if (InventoryManager.getCount(ItemPool.OVERCHARGED_POWER_SPHERE) > 0) {
       String url = "campground.php?action=overpowerelvibratoportal";
       RequestEditorKit.addAdventureAgainSection(
-          buffer, url, "Insert an overcharged El Vibrato power sphere");
+          page, url, "Insert an overcharged El Vibrato power sphere");
     }
 
     if (InventoryManager.getCount(ItemPool.POWER_SPHERE) > 0) {
       String url = "campground.php?action=powerelvibratoportal";
-      RequestEditorKit.addAdventureAgainSection(buffer, url, "Insert an El Vibrato power sphere");
+      RequestEditorKit.addAdventureAgainSection(page, url, "Insert an El Vibrato power sphere");
     }
 
     String url = "campground.php?action=evibratoportal";
-    RequestEditorKit.addAdventureAgainSection(buffer, url, "Go to your El Vibrato portal");
+    RequestEditorKit.addAdventureAgainSection(page, url, "Go to your El Vibrato portal");
   }
 
   public static String adventureAgainSection(final int snarfblat) {
@@ -2320,46 +2304,65 @@ public class RequestEditorKit extends HTMLEditorKit {
     return buf.toString();
   }
 
+  private static final String ADVENTURE_AGAIN_ANCHOR =
+      "</center></td></tr><tr><td height=4></td></tr></table>";
+
+  private static String adventureAgainLink(final String link, final String tag) {
+    return "<center><p><a href=\"" + link + "\">" + tag + "</a></center>";
+  }
+
   public static final void addAdventureAgainSection(
       final StringBuffer buffer, final String link, final String tag) {
-    int index = buffer.indexOf("</center></td></tr><tr><td height=4></td></tr></table>");
+    int index = buffer.indexOf(ADVENTURE_AGAIN_ANCHOR);
+    if (index == -1) {
+      return;
+    }
+
+    buffer.insert(index, adventureAgainLink(link, tag));
+  }
+
+  private static void addAdventureAgainSection(
+      final DecoratorPipeline.Page page, final String link, final String tag) {
+    int index = page.indexOf(ADVENTURE_AGAIN_ANCHOR);
     if (index == -1) {
       return;
     }
 
-    String section = "<center><p><a href=\"" + link + "\">" + tag + "</a></center>";
-    buffer.insert(index, section);
+    page.insert(index, adventureAgainLink(link, tag));
   }
 
-  private static void fixBallroom1(final StringBuffer buffer) {
+  private static final String BALLROOM_HAVING_A_BALL = "Having a Ball in the Ballroom";
+  private static final String BALLROOM_ADVENTURE_AGAIN =
+      adventureAgainSection(AdventurePool.HAUNTED_BALLROOM);
+
+  private static void fixBallroom1(final DecoratorPipeline.Page page) {
     // Things that go BEFORE Stationary Buttons have been generated
 
-    if (buffer.indexOf("Having a Ball in the Ballroom") == -1) {
+    if (!page.contains(BALLROOM_HAVING_A_BALL)) {
       return;
     }
 
-    String adventureAgain = adventureAgainSection(AdventurePool.HAUNTED_BALLROOM);
-    int index = buffer.indexOf(adventureAgain);
+    int index = page.indexOf(BALLROOM_ADVENTURE_AGAIN);
     if (index == -1) {
       return;
     }
 
     String link1 =
         "<p><a href=\"place.php?whichplace=manor3&action=manor3_ladys\">Talk to Lady Spookyraven on the Third Floor</a>";
-    buffer.insert(index, link1);
+    page.insert(index, link1);
 
-    // Have to recheck since we've inserted HTML in front of index
-    index = buffer.indexOf(adventureAgain);
     String link2 = "<p><a href=\"place.php?whichplace=manor3\">Go to the Third Floor</a>";
-    buffer.insert(index, link2);
+    page.insert(index, link2);
   }
 
   private static final AdventureResult DANCE_CARD = ItemPool.get(ItemPool.DANCE_CARD, 1);
 
-  private static void fixBallroom2(final StringBuffer buffer) {
+  private static final String BALLROOM_ROTTING_MATILDA = "Rotting Matilda";
+
+  private static void fixBallroom2(final DecoratorPipeline.Page page) {
     // Things that go AFTER Stationary Buttons have been generated
 
-    if (buffer.indexOf("Rotting Matilda") == -1) {
+    if (!page.contains(BALLROOM_ROTTING_MATILDA)) {
       return;
     }
 
@@ -2368,8 +2371,7 @@ public class RequestEditorKit extends HTMLEditorKit {
       return;
     }
 
-    String adventureAgain = adventureAgainSection(AdventurePool.HAUNTED_BALLROOM);
-    int index = buffer.indexOf(adventureAgain);
+    int index = page.indexOf(BALLROOM_ADVENTURE_AGAIN);
     if (index == -1) {
       return;
     }
@@ -2378,14 +2380,16 @@ public class RequestEditorKit extends HTMLEditorKit {
         "<p><a href=\"javascript:singleUse('inv_use.php','which=3&whichitem=1963&pwd="
             + GenericRequest.passwordHash
             + "&ajax=1');void(0);\">Use another dance card</a>";
-    buffer.insert(index, link);
+    page.insert(index, link);
   }
 
-  private static void fixGovernmentLab(final StringBuffer buffer) {
+  private static final String GOVERNMENT_LAB_NO_PVU =
+      "without wearing a Personal Ventilation Unit.";
+
+  private static void fixGovernmentLab(final DecoratorPipeline.Page page) {
     // Things that go AFTER Stationary Buttons have been generated
 
-    String test = "without wearing a Personal Ventilation Unit.";
-    int index = buffer.indexOf(test);
+    int index = page.indexOf(GOVERNMENT_LAB_NO_PVU);
 
     if (index == -1) {
       return;
@@ -2413,10 +2417,60 @@ public class RequestEditorKit extends HTMLEditorKit {
             UseLinkDecorator.getEquipmentSpeculation(
                 "acc3", ItemPool.VENTILATION_UNIT, Slot.ACCESSORY3),
             "inv_equip.php?which=2&action=equip&slot=3&whichitem=");
-    buffer.insert(
-        index + test.length(), link1.getItemHTML() + link2.getItemHTML() + link3.getItemHTML());
+    page.insert(
+        index + GOVERNMENT_LAB_NO_PVU.length(),
+        link1.getItemHTML() + link2.getItemHTML() + link3.getItemHTML());
   }
 
+  // Fixes to adventure, choice and fight pages which only need to see the page as KoL sent it.
+  // Their anchors are found in one pass over the page and their edits made together.
+  static final DecoratorPipeline PAGE_FIXES =
+      new DecoratorPipeline()
+          .add(
+              List.of("adventure.php", "choice.php", "fight.php"),
+              List.of(
+                  CYBER_REALM_STYLESHEET,
+                  CYBER_REALM_GREEN,
+                  CYBER_REALM_BLACK,
+                  CYBER_REALM_SCRIPT,
+                  CYBER_REALM_HACKED,
+                  CYBER_REALM_MAP,
+                  ADVENTURE_AGAIN_ANCHOR),
+              RequestEditorKit::fixCyberRealm)
+          .add(
+              List.of("adventure.php", "choice.php", "fambattle.php", "fight.php"),
+              List.of(TAVERN_CELLAR_LINK),
+              RequestEditorKit::fixTavernCellar)
+          .add(
+              List.of("adventure.php"),
+              List.of(BALLROOM_HAVING_A_BALL, BALLROOM_ADVENTURE_AGAIN),
+              RequestEditorKit::fixBallroom1)
+          .add(
+              List.of("adventure.php"),
+              List.of(
+                  "ducks",
+                  "island.php",
+                  "any additional ducks",
+                  "There are no more ducks here.",
+                  ADVENTURE_AGAIN_ANCHOR),
+              RequestEditorKit::fixDucks)
+          .add(
+              List.of("adventure.php"),
+              List.of(EL_VIBRATO_PORTAL_EMPTY, ADVENTURE_AGAIN_ANCHOR),
+              RequestEditorKit::fixPortal);
+
+  // Fixes to adventure pages which go after the stationary buttons
+  static final DecoratorPipeline LATE_PAGE_FIXES =
+      new DecoratorPipeline()
+          .add(
+              List.of("adventure.php"),
+              List.of(BALLROOM_ROTTING_MATILDA, BALLROOM_ADVENTURE_AGAIN),
+              RequestEditorKit::fixBallroom2)
+          .add(
+              List.of("adventure.php"),
+              List.of(GOVERNMENT_LAB_NO_PVU),
+              RequestEditorKit::fixGovernmentLab);
+
   private static void addChaostheticianLink(final StringBuffer buffer) {
     String test = "You should head back to the Chaosthetician at Dino World for your reward";
     int index = buffer.indexOf(test);
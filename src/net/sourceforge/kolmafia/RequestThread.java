@@ -4,12 +4,20 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import javax.swing.SwingUtilities;
 import net.sourceforge.kolmafia.KoLConstants.MafiaState;
 import net.sourceforge.kolmafia.SpecialOutfit.Checkpoint;
@@ -25,15 +33,20 @@ import net.sourceforge.kolmafia.utilities.PauseObject;
 public abstract class RequestThread {
   private static final AtomicInteger nextRequestId = new AtomicInteger();
   private static final Map<Integer, Thread> threadMap = new HashMap<>();
+  private static final Set<TaskScope> openScopes = ConcurrentHashMap.newKeySet();
   private static final ExecutorService EXECUTOR;
 
   static {
-    int fixedPoolSize = Preferences.getInteger("fixedThreadPoolSize");
-    if (fixedPoolSize == 0) {
-      fixedPoolSize = 100;
-    }
+    // Tasks mostly wait on the server, so a virtual thread each is cheaper than a pooled thread
+    EXECUTOR =
+        Preferences.getBoolean("useVirtualThreads")
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(RequestThread.getPoolSize());
+  }
 
-    EXECUTOR = Executors.newFixedThreadPool(fixedPoolSize);
+  private static int getPoolSize() {
+    int fixedPoolSize = Preferences.getInteger("fixedThreadPoolSize");
+    return fixedPoolSize == 0 ? 100 : fixedPoolSize;
   }
 
   public static final void runInParallel(final Runnable action) {
@@ -45,31 +58,141 @@ public abstract class RequestThread {
   }
 
   public static final boolean runInParallel(final List<Runnable> actions, final boolean verbose) {
-    CompletionService<Boolean> completionService = new ExecutorCompletionService<>(EXECUTOR);
+    try (TaskScope scope = RequestThread.openTaskScope()) {
+      for (Runnable action : actions) {
+        scope.fork(action);
+      }
 
-    for (Runnable action : actions) {
-      completionService.submit(action, true);
+      return scope.join(
+          received -> {
+            if (verbose && received % 100 == 1) {
+              KoLmafia.updateDisplay("Progress: " + received + "/" + actions.size());
+            }
+          });
     }
+  }
 
-    int received = 0;
-    boolean result = true;
-    int lastAnnounce = 0;
+  /**
+   * Opens a scope for tasks which should run on virtual threads if "useVirtualThreads" is set, and
+   * on the shared pool otherwise. Either way, no more than "fixedThreadPoolSize" run at once.
+   */
+  public static final TaskScope openTaskScope() {
+    return new TaskScope(Preferences.getBoolean("useVirtualThreads"), RequestThread.getPoolSize());
+  }
 
-    while (received < actions.size() && result) {
-      try {
-        Future<Boolean> resultFuture = completionService.take(); // blocks if none available
-        result = result && resultFuture.get();
-        received++;
-        if (lastAnnounce < received && verbose && received % 100 == 1) {
-          KoLmafia.updateDisplay("Progress: " + received + "/" + actions.size());
-          lastAnnounce = received;
+  /** Cancels every open task scope, interrupting the tasks still running in them. */
+  public static final void cancelTasks() {
+    for (TaskScope scope : RequestThread.openScopes) {
+      scope.cancel();
+    }
+  }
+
+  /**
+   * A group of tasks which are forked together, joined together and cancelled together. Closing
+   * the scope cancels whatever has not finished, so no task outlives the block which forked it; if
+   * the tasks have virtual threads of their own, closing also waits for them to stop.
+   *
+   * <p>An interrupted task making a request gives up on it rather than retrying, so cancelling a
+   * scope stops any request it has in flight.
+   */
+  public static final class TaskScope implements AutoCloseable {
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final CompletionService<Boolean> completionService;
+    private final Queue<Future<Boolean>> futures = new ConcurrentLinkedQueue<>();
+    private int forked = 0;
+    private volatile boolean cancelled = false;
+
+    public TaskScope(final boolean virtual, final int limit) {
+      this(virtual ? Executors.newVirtualThreadPerTaskExecutor() : RequestThread.EXECUTOR, limit);
+    }
+
+    /**
+     * Opens a scope whose tasks run on the given executor. Unless that is the shared pool, closing
+     * the scope shuts it down.
+     */
+    public TaskScope(final ExecutorService executor, final int limit) {
+      this.executor = executor;
+      this.permits = new Semaphore(limit);
+      this.completionService = new ExecutorCompletionService<>(this.executor);
+      RequestThread.openScopes.add(this);
+    }
+
+    public Future<Boolean> fork(final Runnable task) {
+      Future<Boolean> future =
+          this.completionService.submit(
+              () -> {
+                this.permits.acquire();
+                try {
+                  if (this.cancelled) {
+                    throw new CancellationException();
+                  }
+                  task.run();
+                } finally {
+                  this.permits.release();
+                }
+                return true;
+              });
+
+      this.futures.add(future);
+      this.forked++;
+
+      if (this.cancelled) {
+        future.cancel(true);
+      }
+
+      return future;
+    }
+
+    /**
+     * Waits for every forked task, telling the progress callback how many have finished so far.
+     * Returns false as soon as a task fails or the scope is cancelled.
+     */
+    public boolean join(final IntConsumer progress) {
+      for (int received = 1; received <= this.forked; received++) {
+        try {
+          this.completionService.take().get();
+        } catch (CancellationException | ExecutionException e) {
+          return false;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          this.cancel();
+          return false;
         }
-      } catch (Exception e) {
-        result = false;
+
+        if (this.cancelled) {
+          return false;
+        }
+
+        progress.accept(received);
       }
+
+      return true;
     }
 
-    return result;
+    public boolean join() {
+      return this.join(received -> {});
+    }
+
+    public void cancel() {
+      this.cancelled = true;
+      for (Future<Boolean> future : this.futures) {
+        future.cancel(true);
+      }
+    }
+
+    public boolean isCancelled() {
+      return this.cancelled;
+    }
+
+    @Override
+    public void close() {
+      this.cancel();
+      if (this.executor != RequestThread.EXECUTOR) {
+        this.executor.close();
+      }
+      RequestThread.openScopes.remove(this);
+    }
   }
 
   public static final void postRequestAfterInitialization(final GenericRequest request) {
@@ -324,6 +447,7 @@ public abstract class RequestThread {
     KoLmafia.updateDisplay(MafiaState.ABORT, messageText);
     KoLmafiaASH.stopAllRelayInterpreters();
     JavascriptRuntime.interruptAll();
+    RequestThread.cancelTasks();
     InternalMessage message = new InternalMessage(messageText, "red");
     ChatManager.broadcastEvent(message);
   }
@@ -215,7 +215,7 @@ public abstract class CombatActionManager {
     }
 
     if (!encounter.equals("global prefix")) {
-      String action = Preferences.getString("battleAction");
+      String action = MacroCache.consult(() -> Preferences.getString("battleAction"));
 
       // Custom combat doesn't have a simple action.
 
@@ -224,20 +224,19 @@ public abstract class CombatActionManager {
 
         switch (roundIndex) {
           case 0:
-            return Preferences.getBoolean("autoSteal") ? "try to steal an item" : "skip";
+            return MacroCache.consult(() -> Preferences.getBoolean("autoSteal"))
+                ? "try to steal an item"
+                : "skip";
           case 1:
-            return Preferences.getBoolean("autoSteal")
-                    && KoLCharacter.hasEquipped(ItemPool.get(ItemPool.NEW_WAVE_BLING, 1))
+            return MacroCache.consult(
+                    () ->
+                        Preferences.getBoolean("autoSteal")
+                            && KoLCharacter.hasEquipped(
+                                ItemPool.get(ItemPool.NEW_WAVE_BLING, 1)))
                 ? "try to steal an item"
                 : "skip";
           case 2:
-            String classStun = CombatActionManager.getStun();
-            return Preferences.getBoolean("autoEntangle")
-                    && !(KoLCharacter.inClasscore2()
-                        && KoLCharacter.getMonsterLevelAdjustment() > 75)
-                    && !classStun.equals("none")
-                ? classStun
-                : "skip";
+            return MacroCache.consult(CombatActionManager::getDefaultStun);
           case 3:
             return "special action";
           default:
@@ -247,7 +246,8 @@ public abstract class CombatActionManager {
       }
     }
 
-    String encounterKey = CombatActionManager.getBestEncounterKey(encounter);
+    String encounterKey =
+        MacroCache.consult(() -> CombatActionManager.getBestEncounterKey(encounter));
 
     CustomCombatStrategy strategy = CombatActionManager.strategyLookup.getStrategy(encounterKey);
     int actionCount = strategy.getActionCount(strategyLookup, new HashSet<>());
@@ -259,6 +259,15 @@ public abstract class CombatActionManager {
     return strategy.getAction(CombatActionManager.strategyLookup, roundIndex, allowMacro);
   }
 
+  private static String getDefaultStun() {
+    String classStun = CombatActionManager.getStun();
+    return Preferences.getBoolean("autoEntangle")
+            && !(KoLCharacter.inClasscore2() && KoLCharacter.getMonsterLevelAdjustment() > 75)
+            && !classStun.equals("none")
+        ? classStun
+        : "skip";
+  }
+
   public static final boolean isMacroAction(String action) {
     return action.startsWith("scrollwhendone")
         || action.startsWith("mark ")
@@ -533,6 +542,7 @@ public abstract class CombatActionManager {
       String name = action.substring(6);
       String combo = DiscoCombatHelper.disambiguateCombo(name);
       if (combo == null) {
+        MacroCache.uncacheable();
         KoLmafia.updateDisplay(MafiaState.ABORT, "Invalid combo '" + name + "' requested");
         Macrofier.resetErroringMacro();
         return "skip";
@@ -545,7 +555,7 @@ public abstract class CombatActionManager {
     }
 
     if (action.equals("stun")) {
-      String name = CombatActionManager.getStun();
+      String name = MacroCache.consult(CombatActionManager::getStun);
       return name == null || name.equals("none")
           ? "skip"
           : "skill" + SkillDatabase.getSkillId(name);
@@ -605,12 +615,13 @@ public abstract class CombatActionManager {
       return "attack";
     }
 
-    if (itemId == ItemPool.DICTIONARY && InventoryManager.getCount(ItemPool.DICTIONARY) < 1) {
+    if (itemId == ItemPool.DICTIONARY
+        && MacroCache.consult(() -> InventoryManager.getCount(ItemPool.DICTIONARY)) < 1) {
       itemId = ItemPool.FACSIMILE_DICTIONARY;
     }
 
     if (itemId == ItemPool.FACSIMILE_DICTIONARY
-        && InventoryManager.getCount(ItemPool.FACSIMILE_DICTIONARY) < 1) {
+        && MacroCache.consult(() -> InventoryManager.getCount(ItemPool.FACSIMILE_DICTIONARY)) < 1) {
       itemId = ItemPool.DICTIONARY;
     }
 
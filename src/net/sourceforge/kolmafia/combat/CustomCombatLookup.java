@@ -3,6 +3,7 @@ package net.sourceforge.kolmafia.combat;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -20,10 +21,29 @@ public class CustomCombatLookup extends DefaultMutableTreeNode {
   private final List<CombatEncounterKey> childKeys = new LinkedList<>();
   private final Map<String, CustomCombatStrategy> childLookup = new TreeMap<>();
 
+  // Bumped whenever a section or action changes, so that anything derived from the CCS can tell
+  // whether it is still current
+  private volatile int version = 0;
+
+  // The section chosen for each encounter and location since the last change. Guarded by itself,
+  // since fights in several sessions may look up sections while the CCS is edited.
+  private final Map<String, String> bestEncounterKeys = new HashMap<>();
+
   public CustomCombatLookup() {
     super("", true);
   }
 
+  public int getVersion() {
+    return this.version;
+  }
+
+  private void modified() {
+    synchronized (this.bestEncounterKeys) {
+      ++this.version;
+      this.bestEncounterKeys.clear();
+    }
+  }
+
   public CustomCombatStrategy getStrategy(final String encounterKey) {
     return childLookup.get(encounterKey);
   }
@@ -32,6 +52,32 @@ public class CustomCombatLookup extends DefaultMutableTreeNode {
     String encounterKey = CombatActionManager.encounterKey(encounter);
     MonsterData monsterData = MonsterDatabase.findMonster(encounterKey, false, false);
 
+    // Matching only looks at the location for known monsters
+    String location = monsterData != null ? Preferences.getString("lastAdventure") : null;
+    String cacheKey = encounterKey + "\0" + location;
+
+    int version;
+    synchronized (this.bestEncounterKeys) {
+      String cached = this.bestEncounterKeys.get(cacheKey);
+      if (cached != null) {
+        return cached;
+      }
+      version = this.version;
+    }
+
+    String bestKey = this.findBestEncounterKey(encounterKey, monsterData);
+
+    synchronized (this.bestEncounterKeys) {
+      // Not remembered if the CCS changed while it was being worked out
+      if (version == this.version) {
+        this.bestEncounterKeys.put(cacheKey, bestKey);
+      }
+    }
+
+    return bestKey;
+  }
+
+  private String findBestEncounterKey(String encounterKey, final MonsterData monsterData) {
     encounterKey = getLongestMatch(encounterKey, monsterData);
 
     if (encounterKey != null) {
@@ -90,6 +136,8 @@ public class CustomCombatLookup extends DefaultMutableTreeNode {
   }
 
   public void clearEncounterKey(final String encounterKey) {
+    this.modified();
+
     Iterator<CustomCombatStrategy> strategyIterator = childLookup.values().iterator();
 
     while (strategyIterator.hasNext()) {
@@ -104,6 +152,8 @@ public class CustomCombatLookup extends DefaultMutableTreeNode {
   }
 
   public void addEncounterKey(String encounterKey) {
+    this.modified();
+
     if (childLookup.containsKey(encounterKey)) {
       CustomCombatStrategy strategy = childLookup.get(encounterKey);
 
@@ -128,6 +178,8 @@ public class CustomCombatLookup extends DefaultMutableTreeNode {
       final String indent,
       final String combatAction,
       boolean isMacro) {
+    this.modified();
+
     CustomCombatStrategy strategy = childLookup.get(encounterKey);
 
     if (roundIndex < 0) {
@@ -139,6 +191,8 @@ public class CustomCombatLookup extends DefaultMutableTreeNode {
 
   @Override
   public void removeAllChildren() {
+    this.modified();
+
     childKeys.clear();
     childLookup.clear();
 
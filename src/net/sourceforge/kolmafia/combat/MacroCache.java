@@ -0,0 +1,155 @@
+package net.sourceforge.kolmafia.combat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import net.sourceforge.kolmafia.RequestLogger;
+import net.sourceforge.kolmafia.request.FightRequest;
+
+/*
+ * Macros generated from the CCS, remembered per monster.
+ *
+ * Generating a macro walks the monster's CCS section and checks skills, items, equipment and
+ * preferences for each action. Every such check made while a macro is generated goes through
+ * consult(), which records what was asked and what the answer was. A later fight against the same
+ * monster with the same CCS reuses the macro for as long as each recorded check gives the same
+ * answer, so nothing needs to know which game state a macro depends on in order to invalidate it.
+ *
+ * Actions with side effects, such as "special action", make a macro uncacheable.
+ */
+public final class MacroCache {
+  private static final int MAXIMUM_ENTRIES = 256;
+
+  private record Key(String monster, int version, int start) {}
+
+  private record Probe(Supplier<?> source, Object value) {
+    boolean isCurrent() {
+      return Objects.equals(this.source.get(), this.value);
+    }
+  }
+
+  private record Entry(String macro, int prefixLength, List<Probe> probes) {}
+
+  private static final Map<Key, Entry> entries =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+          return this.size() > MAXIMUM_ENTRIES;
+        }
+      };
+
+  // The checks made by the macro being generated on this thread, if any
+  private static final class Recording {
+    private final List<Probe> probes = new ArrayList<>();
+    private boolean cacheable = true;
+  }
+
+  private static final ThreadLocal<Recording> recording = new ThreadLocal<>();
+
+  private static int hits = 0;
+  private static int misses = 0;
+  private static int stale = 0;
+  private static int uncacheable = 0;
+
+  private MacroCache() {}
+
+  /** Returns the value of the source, remembering it if a macro is being generated. */
+  static <T> T consult(final Supplier<T> source) {
+    T value = source.get();
+    Recording recording = MacroCache.recording.get();
+    if (recording != null) {
+      recording.probes.add(new Probe(source, value));
+    }
+    return value;
+  }
+
+  /** Marks the macro being generated as one which must not be reused. */
+  static void uncacheable() {
+    Recording recording = MacroCache.recording.get();
+    if (recording != null) {
+      recording.cacheable = false;
+    }
+  }
+
+  private static Key key(final String monster, final int start) {
+    return new Key(monster, CombatActionManager.getStrategyLookup().getVersion(), start);
+  }
+
+  /**
+   * Returns the macro generated for this monster when everything it checked was as it is now, or
+   * null if there is none.
+   */
+  static synchronized String lookup(final String monster, final int start) {
+    Key key = MacroCache.key(monster, start);
+    Entry entry = MacroCache.entries.get(key);
+
+    if (entry == null) {
+      ++MacroCache.misses;
+      return null;
+    }
+
+    for (Probe probe : entry.probes()) {
+      if (!probe.isCurrent()) {
+        ++MacroCache.stale;
+        MacroCache.entries.remove(key);
+        return null;
+      }
+    }
+
+    ++MacroCache.hits;
+    FightRequest.setMacroPrefixLength(entry.prefixLength());
+    return entry.macro();
+  }
+
+  static void startRecording() {
+    MacroCache.recording.set(new Recording());
+  }
+
+  static void stopRecording(final String monster, final int start, final String macro) {
+    Recording recording = MacroCache.recording.get();
+    MacroCache.recording.remove();
+
+    if (recording == null || macro == null) {
+      return;
+    }
+
+    synchronized (MacroCache.class) {
+      if (!recording.cacheable) {
+        ++MacroCache.uncacheable;
+        return;
+      }
+
+      MacroCache.entries.put(
+          MacroCache.key(monster, start),
+          new Entry(macro, FightRequest.getMacroPrefixLength(), List.copyOf(recording.probes)));
+    }
+  }
+
+  public static synchronized void clear() {
+    MacroCache.entries.clear();
+    MacroCache.hits = 0;
+    MacroCache.misses = 0;
+    MacroCache.stale = 0;
+    MacroCache.uncacheable = 0;
+  }
+
+  public static synchronized void printStatistics() {
+    int lookups = MacroCache.hits + MacroCache.misses + MacroCache.stale;
+    long rate = lookups == 0 ? 0 : Math.round(100.0 * MacroCache.hits / lookups);
+
+    RequestLogger.printLine(MacroCache.entries.size() + " macros cached.");
+    RequestLogger.printLine(
+        MacroCache.hits
+            + " hits, "
+            + MacroCache.misses
+            + " misses, "
+            + MacroCache.stale
+            + " stale ("
+            + rate
+            + "% hit rate).");
+    RequestLogger.printLine(MacroCache.uncacheable + " macros could not be cached.");
+  }
+}
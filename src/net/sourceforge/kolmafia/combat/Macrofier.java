@@ -221,7 +221,43 @@ public class Macrofier {
       return macro.toString();
     }
 
-    float thresh = Preferences.getFloat("autoAbortThreshold");
+    int start = Math.max(FightRequest.getMacroPrefixLength(), 0);
+
+    // Only a CCS is worth remembering; the built-in battle actions are quick to generate
+    boolean cacheable = Preferences.getString("battleAction").startsWith("custom");
+
+    if (cacheable) {
+      String cached = MacroCache.lookup(monsterName, start);
+      if (cached != null) {
+        if (debug) {
+          RequestLogger.printLine("Using cached macro:");
+          Macrofier.indentify(cached, false);
+          RequestLogger.printLine("");
+        }
+
+        return cached;
+      }
+
+      MacroCache.startRecording();
+    }
+
+    String result = null;
+    try {
+      result = Macrofier.macrofyStrategy(monsterName, start, debug);
+    } finally {
+      if (cacheable) {
+        MacroCache.stopRecording(monsterName, start, result);
+      }
+    }
+
+    return result;
+  }
+
+  private static String macrofyStrategy(
+      final String monsterName, final int start, final boolean debug) {
+    StringBuffer macro = new StringBuffer();
+
+    float thresh = MacroCache.consult(() -> Preferences.getFloat("autoAbortThreshold"));
     if (thresh > 0.0f) {
       macro.append("abort hppercentbelow ");
       macro.append((int) (thresh * 100.0f));
@@ -254,9 +290,6 @@ public class Macrofier {
       }
     }
 
-    int macrolen = FightRequest.getMacroPrefixLength();
-    int start = Math.max(macrolen, 0);
-
     for (int i = start; i < 10000; ++i) {
       String action = CombatActionManager.getCombatAction(monsterName, i, true);
 
@@ -362,6 +395,8 @@ public class Macrofier {
     }
 
     if (action.equals("special")) {
+      MacroCache.uncacheable();
+
       if (FightRequest.waitingForSpecial) {
         // only allow once per combat
         FightRequest.waitingForSpecial = false;
@@ -384,27 +419,28 @@ public class Macrofier {
         macro.append("#mafiarestart\n");
       }
     } else if (action.equals("abort after")) {
+      MacroCache.uncacheable();
       KoLmafia.abortAfter("Aborted by CCS request");
     } else if (action.equals("runaway")) {
       macro.append("runaway\n");
     } else if (action.startsWith("runaway")) {
       int runaway = StringUtilities.parseInt(action.substring(7));
-      if (FightRequest.freeRunawayChance() >= runaway) {
+      if (MacroCache.consult(FightRequest::freeRunawayChance) >= runaway) {
         macro.append("runaway\n");
       }
     } else if (action.startsWith("attack")) {
       // Cannot attack as Jarlsberg
-      if (KoLCharacter.isJarlsberg()) {
+      if (MacroCache.consult(KoLCharacter::isJarlsberg)) {
         macro.append("abort \"KoLmafia CCS abort - Jarlsberg cannot attack\"\n");
       } else {
         macro.append("call mafiaround; attack\n");
       }
     } else if (action.equals("steal")) {
-      if (MonsterStatusTracker.shouldSteal()) {
+      if (MacroCache.consult(MonsterStatusTracker::shouldSteal)) {
         macro.append("pickpocket\n");
       }
     } else if (action.equals("jiggle")) {
-      if (EquipmentManager.usingChefstaff()) {
+      if (MacroCache.consult(EquipmentManager::usingChefstaff)) {
         macro.append("call mafiaround; jiggle\n");
       }
     } else if (action.startsWith("combo ")) {
@@ -413,7 +449,7 @@ public class Macrofier {
         String name = action.substring(6);
         String raveSteal = DiscoCombatHelper.COMBOS[DiscoCombatHelper.RAVE_STEAL][0];
         if (DiscoCombatHelper.disambiguateCombo(name).equals(raveSteal)
-            && !DiscoCombatHelper.canRaveSteal()) {
+            && !MacroCache.consult(DiscoCombatHelper::canRaveSteal)) {
           // There the limit on the number of Rave Steals has been reached,
           // no point in executing the combo.
         } else {
@@ -431,8 +467,10 @@ public class Macrofier {
         // shows up on the char sheet, unless you've recalled
         // your skills.
 
-        if ((KoLCharacter.inBadMoon() && !KoLCharacter.skillsRecalled())
-            || !KoLCharacter.hasCombatSkill(SkillPool.OLFACTION)) { // ignore
+        if (MacroCache.consult(
+            () ->
+                (KoLCharacter.inBadMoon() && !KoLCharacter.skillsRecalled())
+                    || !KoLCharacter.hasCombatSkill(SkillPool.OLFACTION))) { // ignore
         } else {
           Macrofier.macroSkill(macro, skillId);
         }
@@ -448,7 +486,7 @@ public class Macrofier {
       } else {
         Macrofier.macroSkill(macro, skillId);
       }
-    } else if (KoLCharacter.getLimitMode() != LimitMode.BIRD) {
+    } else if (MacroCache.consult(KoLCharacter::getLimitMode) != LimitMode.BIRD) {
       // Must be an item use
       // Can't use items in Birdform
       int comma = action.indexOf(",");
@@ -499,12 +537,12 @@ public class Macrofier {
   }
 
   public static void macroSkill(StringBuffer macro, int skillId) {
-    long cost = SkillDatabase.getMPConsumptionById(skillId);
-    if (cost > KoLCharacter.getMaximumMP()) {
+    long cost = MacroCache.consult(() -> SkillDatabase.getMPConsumptionById(skillId));
+    if (cost > MacroCache.consult(KoLCharacter::getMaximumMP)) {
       return; // no point in even trying
     }
 
-    if (cost > 0 && Preferences.getBoolean("autoManaRestore")) {
+    if (cost > 0 && MacroCache.consult(() -> Preferences.getBoolean("autoManaRestore"))) {
       macro.append("while mpbelow ");
       macro.append(cost);
       macro.append("\ncall mafiamp\nendwhile\n");
@@ -519,14 +557,15 @@ public class Macrofier {
   public static void macroCombo(StringBuffer macro, int[] combo) {
     long cost = 0;
     for (int i = 0; i < combo.length; ++i) {
-      cost += SkillDatabase.getMPConsumptionById(combo[i]);
+      int skillId = combo[i];
+      cost += MacroCache.consult(() -> SkillDatabase.getMPConsumptionById(skillId));
     }
 
-    if (cost > KoLCharacter.getMaximumMP()) {
+    if (cost > MacroCache.consult(KoLCharacter::getMaximumMP)) {
       return; // no point in even trying
     }
 
-    boolean restore = Preferences.getBoolean("autoManaRestore");
+    boolean restore = MacroCache.consult(() -> Preferences.getBoolean("autoManaRestore"));
 
     if (restore) {
       macro.append("while mpbelow ");
@@ -550,17 +589,17 @@ public class Macrofier {
   }
 
   public static final void macroUseAntidote(StringBuffer macro) {
-    if (KoLCharacter.inGLover()) {
+    if (MacroCache.consult(KoLCharacter::inGLover)) {
       return;
     }
-    if (!KoLConstants.inventory.contains(FightRequest.ANTIDOTE)) {
+    if (!MacroCache.consult(() -> KoLConstants.inventory.contains(FightRequest.ANTIDOTE))) {
       return;
     }
-    if (KoLCharacter.getLimitMode() == LimitMode.BIRD) {
+    if (MacroCache.consult(KoLCharacter::getLimitMode) == LimitMode.BIRD) {
       return; // can't use items!
     }
-    int minLevel = Preferences.getInteger("autoAntidote");
-    int poison = MonsterStatusTracker.getPoisonLevel();
+    int minLevel = MacroCache.consult(() -> Preferences.getInteger("autoAntidote"));
+    int poison = MacroCache.consult(MonsterStatusTracker::getPoisonLevel);
     if (poison > minLevel || minLevel == 0) {
       return; // no poison expected that the user wants to remove
     }
@@ -586,7 +625,7 @@ public class Macrofier {
   }
 
   public static void macroManaRestore(StringBuffer macro) {
-    if (KoLCharacter.getLimitMode() == LimitMode.BIRD) {
+    if (MacroCache.consult(KoLCharacter::getLimitMode) == LimitMode.BIRD) {
       macro.append("abort \"Cannot use combat items while in Birdform!\"\n");
       return;
     }
@@ -600,7 +639,7 @@ public class Macrofier {
           continue;
         }
 
-        int count = restoreItem.getCount(KoLConstants.inventory);
+        int count = MacroCache.consult(() -> restoreItem.getCount(KoLConstants.inventory));
         if (count <= 0) {
           continue;
         }
@@ -2,12 +2,24 @@ package net.sourceforge.kolmafia.listener;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.swing.Timer;
+import net.sourceforge.kolmafia.KoLCharacter;
 import net.sourceforge.kolmafia.RequestLogger;
 import net.sourceforge.kolmafia.StaticEntity;
 
@@ -18,6 +30,10 @@ public class ListenerRegistry {
   // For testing
   protected void clear() {
     this.listenerMap.clear();
+    synchronized (this.pending) {
+      this.pending.clear();
+      this.flushScheduled = false;
+    }
   }
 
   // Logging. For now, this applies to all types of listeners
@@ -27,6 +43,126 @@ public class ListenerRegistry {
     ListenerRegistry.logging = logging;
   }
 
+  // Coalescing. When enabled, fired keys are collected and dispatched as a
+  // single batch once per frame: on the Event Dispatch Thread if we have a
+  // GUI, otherwise on a dedicated dispatcher thread. A listener registered
+  // for several keys in the batch is only updated once.
+  private static final int FRAME_MILLIS = 50;
+  private static volatile boolean coalescing = false;
+  private static ScheduledExecutorService dispatcher = null;
+
+  public static final void setCoalescing(final boolean coalescing) {
+    ListenerRegistry.coalescing = coalescing;
+  }
+
+  public static final boolean isCoalescing() {
+    return ListenerRegistry.coalescing;
+  }
+
+  private final LinkedHashSet<Object> pending = new LinkedHashSet<>();
+  private boolean flushScheduled = false;
+  private Timer flushTimer = null;
+
+  // Metrics, shared by all registries and kept for the last few turns. They are only counted while
+  // counting is on, since every fire would otherwise pay for them.
+  private static final int METRIC_TURNS = 10;
+  private static volatile boolean counting = false;
+
+  public static final void setCounting(final boolean counting) {
+    ListenerRegistry.counting = counting;
+  }
+
+  public static final boolean isCounting() {
+    return ListenerRegistry.counting;
+  }
+
+  private record TurnMetrics(int turn, AtomicLongArray counts) {}
+
+  private static final AtomicReferenceArray<TurnMetrics> TURN_METRICS =
+      new AtomicReferenceArray<>(METRIC_TURNS);
+  private static final LongAdder[] TOTAL_METRICS = {
+    new LongAdder(), new LongAdder(), new LongAdder()
+  };
+
+  private static final int FIRED = 0;
+  private static final int DISPATCHED = 1;
+  private static final int UPDATED = 2;
+
+  private static void countMetric(final int metric, final int count) {
+    if (!ListenerRegistry.counting) {
+      return;
+    }
+
+    int turn = KoLCharacter.getTurnsPlayed();
+    int index = Math.floorMod(turn, METRIC_TURNS);
+    TurnMetrics metrics = TURN_METRICS.get(index);
+    while (metrics == null || metrics.turn() != turn) {
+      TurnMetrics fresh = new TurnMetrics(turn, new AtomicLongArray(3));
+      if (TURN_METRICS.compareAndSet(index, metrics, fresh)) {
+        metrics = fresh;
+      } else {
+        metrics = TURN_METRICS.get(index);
+      }
+    }
+
+    metrics.counts().addAndGet(metric, count);
+    TOTAL_METRICS[metric].add(count);
+  }
+
+  public static final void resetMetrics() {
+    for (int i = 0; i < METRIC_TURNS; i++) {
+      TURN_METRICS.set(i, null);
+    }
+    for (LongAdder total : TOTAL_METRICS) {
+      total.reset();
+    }
+  }
+
+  public static final void printMetrics() {
+    StringBuilder buffer = new StringBuilder();
+    buffer.append("Listener dispatch is ");
+    buffer.append(ListenerRegistry.coalescing ? "coalesced" : "immediate");
+    buffer.append(".<br>");
+
+    if (!ListenerRegistry.counting) {
+      buffer.append("Listeners are not being counted; use \"listeners count on\".<br>");
+    }
+
+    List<TurnMetrics> turns = new ArrayList<>();
+    for (int i = 0; i < METRIC_TURNS; i++) {
+      TurnMetrics metrics = TURN_METRICS.get(i);
+      if (metrics != null) {
+        turns.add(metrics);
+      }
+    }
+    turns.sort(Comparator.comparingInt(TurnMetrics::turn));
+
+    buffer.append("<table border=2 cols=4>");
+    buffer.append("<tr><th>Turn</th><th>Fired</th><th>Dispatched</th><th>Updates</th></tr>");
+    for (TurnMetrics metrics : turns) {
+      AtomicLongArray counts = metrics.counts();
+      buffer.append("<tr><td>");
+      buffer.append(metrics.turn());
+      buffer.append("</td><td>");
+      buffer.append(counts.get(FIRED));
+      buffer.append("</td><td>");
+      buffer.append(counts.get(DISPATCHED));
+      buffer.append("</td><td>");
+      buffer.append(counts.get(UPDATED));
+      buffer.append("</td></tr>");
+    }
+    buffer.append("<tr><td>Total</td><td>");
+    buffer.append(TOTAL_METRICS[FIRED].sum());
+    buffer.append("</td><td>");
+    buffer.append(TOTAL_METRICS[DISPATCHED].sum());
+    buffer.append("</td><td>");
+    buffer.append(TOTAL_METRICS[UPDATED].sum());
+    buffer.append("</td></tr>");
+    buffer.append("</table>");
+
+    RequestLogger.printHtml(buffer.toString());
+  }
+
   // Deferring
   private final HashSet<Object> deferred = new HashSet<>();
   private int deferring = 0;
@@ -59,6 +195,11 @@ public class ListenerRegistry {
       this.deferred.toArray(listenerArray);
       this.deferred.clear();
 
+      if (ListenerRegistry.coalescing) {
+        this.coalesce(Arrays.asList(listenerArray));
+        return;
+      }
+
       for (Object key : listenerArray) {
         ArrayList<WeakReference<Listener>> listenerList = this.listenerMap.get(key);
         if (logit) {
@@ -123,6 +264,8 @@ public class ListenerRegistry {
               + "\"");
     }
 
+    ListenerRegistry.countMetric(FIRED, 1);
+
     if (this.deferring > 0) {
       synchronized (this.deferred) {
         this.deferred.add(key);
@@ -130,9 +273,87 @@ public class ListenerRegistry {
       return;
     }
 
+    if (ListenerRegistry.coalescing) {
+      this.coalesce(List.of(key));
+      return;
+    }
+
+    ListenerRegistry.countMetric(DISPATCHED, 1);
     this.fireListeners(listenerList, null);
   }
 
+  private void coalesce(final Collection<Object> keys) {
+    Timer timer = null;
+
+    synchronized (this.pending) {
+      this.pending.addAll(keys);
+      if (this.flushScheduled) {
+        return;
+      }
+      this.flushScheduled = true;
+
+      if (!StaticEntity.isHeadless()) {
+        if (this.flushTimer == null) {
+          this.flushTimer = new Timer(FRAME_MILLIS, e -> this.flushPending());
+          this.flushTimer.setRepeats(false);
+        }
+        timer = this.flushTimer;
+      }
+    }
+
+    if (timer != null) {
+      timer.start();
+    } else {
+      ListenerRegistry.getDispatcher()
+          .schedule(this::flushPending, FRAME_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static synchronized ScheduledExecutorService getDispatcher() {
+    if (ListenerRegistry.dispatcher == null) {
+      ListenerRegistry.dispatcher =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "Listener Dispatcher");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return ListenerRegistry.dispatcher;
+  }
+
+  public final void flushPending() {
+    Object[] keys;
+
+    synchronized (this.pending) {
+      keys = this.pending.toArray();
+      this.pending.clear();
+      this.flushScheduled = false;
+    }
+
+    if (keys.length == 0) {
+      return;
+    }
+
+    boolean logit = ListenerRegistry.logging && RequestLogger.isDebugging();
+
+    if (logit) {
+      RequestLogger.updateDebugLog("Firing coalesced listeners for " + keys.length + " keys");
+    }
+
+    ListenerRegistry.countMetric(DISPATCHED, keys.length);
+
+    HashSet<Listener> notified = new HashSet<>();
+
+    for (Object key : keys) {
+      ArrayList<WeakReference<Listener>> listenerList;
+      synchronized (this.listenerMap) {
+        listenerList = this.listenerMap.get(key);
+      }
+      this.fireListeners(listenerList, notified);
+    }
+  }
+
   public final void fireAllListeners() {
     boolean logit = ListenerRegistry.logging && RequestLogger.isDebugging();
 
@@ -151,6 +372,13 @@ public class ListenerRegistry {
       return;
     }
 
+    if (ListenerRegistry.coalescing) {
+      synchronized (this.listenerMap) {
+        this.coalesce(new ArrayList<>(this.listenerMap.keySet()));
+      }
+      return;
+    }
+
     HashSet<ArrayList<WeakReference<Listener>>> listeners = new HashSet<>();
 
     if (logit) {
@@ -211,6 +439,8 @@ public class ListenerRegistry {
           notified.add(listener);
         }
 
+        ListenerRegistry.countMetric(UPDATED, 1);
+
         try {
           listener.update();
         } catch (Exception e) {
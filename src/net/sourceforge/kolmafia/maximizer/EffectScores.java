@@ -0,0 +1,228 @@
+package net.sourceforge.kolmafia.maximizer;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import net.sourceforge.kolmafia.AdventureResult;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.ModifierType;
+import net.sourceforge.kolmafia.Modifiers;
+import net.sourceforge.kolmafia.equipment.Slot;
+import net.sourceforge.kolmafia.modifiers.BitmapModifier;
+import net.sourceforge.kolmafia.modifiers.BooleanModifier;
+import net.sourceforge.kolmafia.modifiers.DoubleModifier;
+import net.sourceforge.kolmafia.modifiers.StringModifier;
+import net.sourceforge.kolmafia.objectpool.EffectPool;
+import net.sourceforge.kolmafia.persistence.ModifierDatabase;
+
+/*
+ * Scores gaining or losing effects without recalculating every modifier for each one.
+ *
+ * KoLCharacter.recalculateAdjustments adds up the modifiers of every effect, and most effects
+ * change nothing else: with one gained or lost, the character would have exactly the modifiers of
+ * a speculation with no changes, plus or minus those of the effect. Those effects are scored from
+ * a copy of that speculation's modifiers, several at a time.
+ *
+ * Anything else must still be scored by a full MaximizerSpeculation: effects which
+ * recalculateAdjustments looks for by name, effects whose modifiers depend on game state, and
+ * effects with any modifier that is read back after effects are added or that does not simply add
+ * up - familiar weight, experience, item drops which may be doubled, and so on.
+ */
+class EffectScores {
+  // Keep in step with KoLCharacter.recalculateAdjustments and Modifiers.addDouble
+  private static final Set<DoubleModifier> NON_ADDITIVE =
+      EnumSet.of(
+          // Not simply added in Modifiers.addDouble
+          DoubleModifier.MANA_COST,
+          DoubleModifier.FAMILIAR_WEIGHT_PCT,
+          DoubleModifier.MUS_LIMIT,
+          DoubleModifier.MYS_LIMIT,
+          DoubleModifier.MOX_LIMIT,
+          DoubleModifier.FAMILIAR_ACTION_BONUS,
+          DoubleModifier.STOMACH_CAPACITY,
+          DoubleModifier.LIVER_CAPACITY,
+          DoubleModifier.SPLEEN_CAPACITY,
+          // Possibly doubled after everything else is added
+          DoubleModifier.ITEMDROP,
+          DoubleModifier.INITIATIVE,
+          DoubleModifier.HOT_DAMAGE,
+          DoubleModifier.COLD_DAMAGE,
+          DoubleModifier.STENCH_DAMAGE,
+          DoubleModifier.SPOOKY_DAMAGE,
+          DoubleModifier.SLEAZE_DAMAGE,
+          DoubleModifier.HOT_SPELL_DAMAGE,
+          DoubleModifier.COLD_SPELL_DAMAGE,
+          DoubleModifier.STENCH_SPELL_DAMAGE,
+          DoubleModifier.SPOOKY_SPELL_DAMAGE,
+          DoubleModifier.SLEAZE_SPELL_DAMAGE,
+          // Experience depends on monster level
+          DoubleModifier.MONSTER_LEVEL,
+          DoubleModifier.EXPERIENCE,
+          DoubleModifier.MUS_EXPERIENCE,
+          DoubleModifier.MYS_EXPERIENCE,
+          DoubleModifier.MOX_EXPERIENCE,
+          DoubleModifier.MUS_EXPERIENCE_PCT,
+          DoubleModifier.MYS_EXPERIENCE_PCT,
+          DoubleModifier.MOX_EXPERIENCE_PCT,
+          // Familiar modifiers depend on these
+          DoubleModifier.FAMILIAR_WEIGHT,
+          DoubleModifier.HIDDEN_FAMILIAR_WEIGHT,
+          DoubleModifier.FAMILIAR_WEIGHT_CAP,
+          DoubleModifier.FAMILIAR_TUNING_MUSCLE,
+          DoubleModifier.FAMILIAR_TUNING_MYSTICALITY,
+          DoubleModifier.FAMILIAR_TUNING_MOXIE,
+          DoubleModifier.VOLLEYBALL_WEIGHT,
+          DoubleModifier.VOLLEYBALL_EFFECTIVENESS,
+          DoubleModifier.SOMBRERO_WEIGHT,
+          DoubleModifier.SOMBRERO_BONUS,
+          DoubleModifier.SOMBRERO_EFFECTIVENESS,
+          DoubleModifier.LEPRECHAUN_WEIGHT,
+          DoubleModifier.LEPRECHAUN_EFFECTIVENESS,
+          DoubleModifier.FAIRY_WEIGHT,
+          DoubleModifier.FAIRY_EFFECTIVENESS,
+          DoubleModifier.FOOD_FAIRY_WEIGHT,
+          DoubleModifier.FOOD_FAIRY_EFFECTIVENESS,
+          DoubleModifier.BOOZE_FAIRY_WEIGHT,
+          DoubleModifier.BOOZE_FAIRY_EFFECTIVENESS,
+          DoubleModifier.CANDY_FAIRY_WEIGHT,
+          DoubleModifier.CANDY_FAIRY_EFFECTIVENESS,
+          // Read back by recalculateAdjustments
+          DoubleModifier.HOBO_POWER,
+          DoubleModifier.SLIME_HATES_IT,
+          DoubleModifier.SMITHSNESS);
+
+  // The string modifiers which Modifiers.add looks at
+  private static final Set<StringModifier> NON_ADDITIVE_STRINGS =
+      EnumSet.of(
+          StringModifier.CLASS,
+          StringModifier.EQUALIZE,
+          StringModifier.EQUALIZE_MUSCLE,
+          StringModifier.EQUALIZE_MYST,
+          StringModifier.EQUALIZE_MOXIE,
+          StringModifier.INTRINSIC_EFFECT,
+          StringModifier.STAT_TUNING);
+
+  // Effects which recalculateAdjustments looks for by name
+  private static final Set<AdventureResult> SPECIAL_EFFECTS =
+      Set.of(
+          KoLCharacter.BENDIN_HELL,
+          KoLCharacter.DIRTY_PEAR,
+          KoLCharacter.BOWLEGGED_SWAGGER,
+          KoLCharacter.OFFHAND_REMARKABLE,
+          KoLCharacter.STEELY_EYED_SQUINT);
+
+  private record Candidate(int effectId, Modifiers mods, int sign) {}
+
+  private final Map<Integer, Double> deltas = new HashMap<>();
+  private final Modifiers baseModifiers;
+
+  /**
+   * Scores each of the effects which can be scored without a full recalculation, relative to the
+   * given score of the character's current modifiers.
+   */
+  EffectScores(final Iterable<Integer> effectIds, final double current) {
+    MaximizerSpeculation base = new MaximizerSpeculation();
+    this.baseModifiers = base.getModifiers();
+
+    // Looking up modifiers may evaluate and cache them, so do that here rather than in parallel
+    List<Candidate> candidates = new ArrayList<>();
+    for (int effectId : effectIds) {
+      AdventureResult effect = EffectPool.get(effectId);
+      Modifiers mods = ModifierDatabase.getEffectModifiers(effectId);
+      if (!EffectScores.isAdditive(effect, mods)) {
+        continue;
+      }
+
+      int sign;
+      if (!KoLConstants.activeEffects.contains(effect)) {
+        sign = 1;
+      } else if (base.hasEffect(effect)) {
+        sign = -1;
+      } else {
+        // An intrinsic effect of equipment, which speculation leaves out already
+        sign = 0;
+      }
+      candidates.add(new Candidate(effectId, mods, sign));
+    }
+
+    double[] scores = new double[candidates.size()];
+    IntStream.range(0, scores.length)
+        .parallel()
+        .forEach(i -> scores[i] = this.score(candidates.get(i), base.equipment));
+
+    for (int i = 0; i < scores.length; ++i) {
+      this.deltas.put(candidates.get(i).effectId(), scores[i] - current);
+    }
+  }
+
+  private static boolean isAdditive(final AdventureResult effect, final Modifiers mods) {
+    if (SPECIAL_EFFECTS.contains(effect)) {
+      return false;
+    }
+
+    if (mods == null) {
+      return true;
+    }
+
+    if (mods.variable) {
+      return false;
+    }
+
+    for (var mod : DoubleModifier.DOUBLE_MODIFIERS) {
+      if (mods.getDouble(mod) != 0.0 && NON_ADDITIVE.contains(mod)) {
+        return false;
+      }
+    }
+
+    for (var mod : NON_ADDITIVE_STRINGS) {
+      if (!mods.getString(mod).isEmpty()) {
+        return false;
+      }
+    }
+
+    for (var mod : BooleanModifier.BOOLEAN_MODIFIERS) {
+      if (mods.getBoolean(mod)) {
+        return false;
+      }
+    }
+
+    for (var mod : BitmapModifier.BITMAP_MODIFIERS) {
+      if (mods.getRawBitmap(mod) != 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private double score(final Candidate candidate, final Map<Slot, AdventureResult> equipment) {
+    Modifiers mods = new Modifiers(this.baseModifiers);
+    if (candidate.mods() != null && candidate.sign() != 0) {
+      for (var mod : DoubleModifier.DOUBLE_MODIFIERS) {
+        double value = candidate.mods().getDouble(mod);
+        if (value != 0.0) {
+          mods.addDouble(mod, candidate.sign() * value, ModifierType.EFFECT, candidate.effectId());
+        }
+      }
+    }
+    return Maximizer.eval.score(mods, equipment).value();
+  }
+
+  /**
+   * Returns the change in score from gaining the effect, or losing it if it is active, or null if
+   * that needs a full MaximizerSpeculation.
+   */
+  Double getDelta(final int effectId) {
+    return this.deltas.get(effectId);
+  }
+
+  /** Returns the modifiers of the speculation the scores were made from. */
+  Modifiers getBaseModifiers() {
+    return this.baseModifiers;
+  }
+}
@@ -55,6 +55,7 @@ import net.sourceforge.kolmafia.request.EquipmentRequest;
 import net.sourceforge.kolmafia.request.StandardRequest;
 import net.sourceforge.kolmafia.session.EquipmentManager;
 import net.sourceforge.kolmafia.session.InventoryManager;
+import net.sourceforge.kolmafia.session.MallPriceManager;
 import net.sourceforge.kolmafia.utilities.StringUtilities;
 
 @SuppressWarnings("incomplete-switch")
@@ -754,8 +755,19 @@ public class Evaluator {
   }
 
   public double getScore(Modifiers mods, Map<Slot, AdventureResult> equipment) {
-    this.failed = false;
-    this.exceeded = false;
+    Score score = this.score(mods, equipment);
+    this.failed = score.failed();
+    this.exceeded = score.exceeded();
+    return score.value();
+  }
+
+  record Score(double value, boolean failed, boolean exceeded) {}
+
+  // Unlike getScore, this leaves failed and exceeded alone, so it can be called from several
+  // threads at once.
+  Score score(Modifiers mods, Map<Slot, AdventureResult> equipment) {
+    boolean failed = false;
+    boolean exceeded = false;
     var predicted = mods.predict();
 
     double score = 0.0;
@@ -870,7 +882,7 @@ public class Evaluator {
           val += mods.getDouble(DoubleModifier.SPORADIC_THORNS);
           break;
       }
-      if (val < min) this.failed = true;
+      if (val < min) failed = true;
       score += weight * Math.min(val, max);
     }
     if (!this.bonuses.isEmpty()) {
@@ -891,8 +903,8 @@ public class Evaluator {
     if (mods.getString(StringModifier.ROLLOVER_EFFECT).length() > 0) {
       score += 0.01f;
     }
-    if (score < this.totalMin) this.failed = true;
-    if (score >= this.totalMax) this.exceeded = true;
+    if (score < this.totalMin) failed = true;
+    if (score >= this.totalMax) exceeded = true;
     // special handling for -osity:
     // The "weight" specified is actually the desired -osity.
     // Allow partials to contribute to the score (1:1 ratio) up to the desired value.
@@ -900,24 +912,24 @@ public class Evaluator {
     if (this.clownosity > 0) {
       int osity = mods.getBitmap(BitmapModifier.CLOWNINESS);
       score += Math.min(osity, this.clownosity);
-      if (osity < this.clownosity) this.failed = true;
+      if (osity < this.clownosity) failed = true;
     }
     if (this.raveosity > 0) {
       int osity = mods.getBitmap(BitmapModifier.RAVEOSITY);
       score += Math.min(osity, this.raveosity);
-      if (osity < this.raveosity) this.failed = true;
+      if (osity < this.raveosity) failed = true;
     }
     if (this.surgeonosity > 0) {
       int osity = mods.getBitmap(BitmapModifier.SURGEONOSITY);
       score += Math.min(osity, this.surgeonosity);
-      if (osity < this.surgeonosity) this.failed = true;
+      if (osity < this.surgeonosity) failed = true;
     }
-    if (!this.failed
+    if (!failed
         && this.booleanMask.size() != 0
         && !mods.getBooleans(this.booleanMask).equals(this.booleanValue)) {
-      this.failed = true;
+      failed = true;
     }
-    return score;
+    return new Score(score, failed, exceeded);
   }
 
   public double getScore(Modifiers mods) {
@@ -1529,6 +1541,23 @@ public class Evaluator {
       if (auxSlot != Slot.NONE) ranked.get(auxSlot).add(item);
     }
 
+    // Search the mall for the buyable candidates together, rather than one at a time as they are
+    // validated below.
+    if (priceLevel != PriceLevel.DONT_CHECK) {
+      Set<Integer> buyable = new HashSet<>();
+      for (var entry : ranked.entries()) {
+        for (CheckedItem item : entry.value()) {
+          if (item.buyableFlag) {
+            buyable.add(item.getItemId());
+          }
+        }
+      }
+      MallPriceManager.prefetchMallPrices(buyable);
+      if (!KoLmafia.permitsContinue()) {
+        throw new MaximizerInterruptedException();
+      }
+    }
+
     // Get best Familiars for Crown of Thrones and Buddy Bjorn
     // Assume current ones are best if in use
     FamiliarData bestCarriedFamiliar = FamiliarData.NO_FAMILIAR;
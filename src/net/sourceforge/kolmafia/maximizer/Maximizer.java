@@ -1,12 +1,15 @@
 package net.sourceforge.kolmafia.maximizer;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import net.java.dev.spellcast.utilities.LockableListModel;
 import net.sourceforge.kolmafia.AdventureResult;
 import net.sourceforge.kolmafia.FamiliarData;
@@ -91,6 +94,11 @@ public class Maximizer {
   static int bestChecked;
   static long bestUpdate;
 
+  private static boolean interrupted = false;
+  // The expression being maximized, and the preferences its evaluator read, for MaximizerCache
+  private static String expression = null;
+  private static Map<String, String> evaluatorReads = Map.of();
+
   private Maximizer() {}
 
   public static boolean maximize(
@@ -128,9 +136,16 @@ public class Maximizer {
     RequestLogger.printLine("Maximizer: " + maxMe);
     RequestLogger.updateSessionLog("Maximizer: " + maxMe);
     KoLConstants.maximizerMList.addItem(maxMe);
-    Maximizer.eval = new Evaluator(maxMe);
+    Map<String, String> reads = new TreeMap<>();
+    Preferences.startRecording(reads);
+    try {
+      Maximizer.eval = new Evaluator(maxMe);
+    } finally {
+      Preferences.stopRecording();
+    }
+    Maximizer.expression = maxMe;
+    Maximizer.evaluatorReads = reads;
     int filterCount = filter.size();
-    var limitMode = KoLCharacter.getLimitMode();
 
     // parsing error
     if (!KoLmafia.permitsContinue() || filterCount == 0) {
@@ -145,9 +160,6 @@ public class Maximizer {
     ApiRequest.updateStatus();
     // ensure current modifiers are up-to-date
     KoLCharacter.recalculateAdjustments();
-    double current =
-        Maximizer.eval.getScore(
-            KoLCharacter.getCurrentModifiers(), EquipmentManager.currentEquipment());
 
     if (maxPrice <= 0) {
       maxPrice = Preferences.getInteger("autoBuyPriceLimit");
@@ -157,40 +169,79 @@ public class Maximizer {
         Maximizer.firstTime ? "Maximizing (1st time may take a while)..." : "Maximizing...");
     Maximizer.firstTime = false;
 
+    Maximizer.search(equipScope, maxPrice, priceLevel, includeAll, filter);
+  }
+
+  // Sets best to the best outfit, searching for it unless MaximizerCache has it already
+  private static void searchEquipment(EquipScope equipScope, int maxPrice, PriceLevel priceLevel) {
+    MaximizerCache.Probe probe =
+        MaximizerCache.probe(Maximizer.expression, equipScope, maxPrice, priceLevel);
+    MaximizerSpeculation cached = probe == null ? null : probe.getBest();
+    if (cached != null) {
+      Maximizer.best = cached;
+      if (probe.getNote() != null) {
+        Maximizer.boosts.add(new Boost("", probe.getNote(), Slot.NONE, null, 0.0));
+      }
+      return;
+    }
+
+    Maximizer.best = new MaximizerSpeculation();
+    Maximizer.best.getScore();
+    // In case the current outfit scores better than any tried combination,
+    // due to some newly-added constraint (such as +melee):
+    Maximizer.best.failed = true;
+    Maximizer.bestChecked = 0;
+    Maximizer.bestUpdate = System.currentTimeMillis() + 5000;
+
+    String note = null;
+    Map<String, String> reads = new TreeMap<>(Maximizer.evaluatorReads);
+    Preferences.startRecording(reads);
+    try {
+      Maximizer.eval.enumerateEquipment(equipScope, maxPrice, priceLevel);
+    } catch (MaximizerExceededException e) {
+      note = "(maximum achieved, no further combinations checked)";
+    } catch (MaximizerLimitException e) {
+      note = "<font color=red>(hit combination limit, optimality not guaranteed)</font>";
+    } catch (MaximizerInterruptedException e) {
+      KoLmafia.forceContinue();
+      Maximizer.interrupted = true;
+      Maximizer.boosts.add(
+          new Boost(
+              "",
+              "<font color=red>(interrupted, optimality not guaranteed)</font>",
+              Slot.NONE,
+              null,
+              0.0));
+    } finally {
+      Preferences.stopRecording();
+    }
+    if (note != null) {
+      Maximizer.boosts.add(new Boost("", note, Slot.NONE, null, 0.0));
+    }
+    MaximizerSpeculation.showProgress();
+
+    if (probe != null && !Maximizer.interrupted && KoLmafia.permitsContinue()) {
+      probe.store(Maximizer.best, note, reads);
+    }
+  }
+
+  private static void search(
+      EquipScope equipScope,
+      int maxPrice,
+      PriceLevel priceLevel,
+      boolean includeAll,
+      Set<filterType> filter) {
+    int filterCount = filter.size();
+    var limitMode = KoLCharacter.getLimitMode();
+    double current =
+        Maximizer.eval.getScore(
+            KoLCharacter.getCurrentModifiers(), EquipmentManager.currentEquipment());
+
+    Maximizer.interrupted = false;
     Maximizer.boosts.clear();
     if (filter.contains(KoLConstants.filterType.EQUIP)) {
-      Maximizer.best = new MaximizerSpeculation();
-      Maximizer.best.getScore();
-      // In case the current outfit scores better than any tried combination,
-      // due to some newly-added constraint (such as +melee):
-      Maximizer.best.failed = true;
-      Maximizer.bestChecked = 0;
-      Maximizer.bestUpdate = System.currentTimeMillis() + 5000;
-      try {
-        Maximizer.eval.enumerateEquipment(equipScope, maxPrice, priceLevel);
-      } catch (MaximizerExceededException e) {
-        Maximizer.boosts.add(
-            new Boost(
-                "", "(maximum achieved, no further combinations checked)", Slot.NONE, null, 0.0));
-      } catch (MaximizerLimitException e) {
-        Maximizer.boosts.add(
-            new Boost(
-                "",
-                "<font color=red>(hit combination limit, optimality not guaranteed)</font>",
-                Slot.NONE,
-                null,
-                0.0));
-      } catch (MaximizerInterruptedException e) {
-        KoLmafia.forceContinue();
-        Maximizer.boosts.add(
-            new Boost(
-                "",
-                "<font color=red>(interrupted, optimality not guaranteed)</font>",
-                Slot.NONE,
-                null,
-                0.0));
-      }
-      MaximizerSpeculation.showProgress();
+      Maximizer.searchEquipment(equipScope, maxPrice, priceLevel);
+      Maximizer.prefetchEquipmentPrices(equipScope, maxPrice, priceLevel);
 
       EnumSet<Slot> alreadyDone = EnumSet.noneOf(Slot.class);
 
@@ -220,6 +271,9 @@ public class Maximizer {
 
     // Include skills from absorbing items in Noobcore
     if (KoLCharacter.inNoobcore()) {
+      // Gather the absorbable items first, so that the mall prices of those which would have to be
+      // bought can be looked up together.
+      List<Absorption> skillAbsorptions = new ArrayList<>();
       for (Map.Entry<IntOrString, String> entry :
           ModifierDatabase.getAllModifiersOfType(ModifierType.SKILL)) {
         if (!entry.getKey().isInt()) continue;
@@ -245,24 +299,15 @@ public class Maximizer {
         if (itemList == null) {
           continue;
         }
-        // Iterate over items to see if we have access to them
-        int count = 0;
+        List<CheckedItem> checkedItems = new ArrayList<>();
         for (int itemId : itemList) {
-          var makeable = getAbsorbable(itemId, equipScope, maxPrice, priceLevel);
-          if (!makeable.canMake) continue;
-          String cmd = makeable.cmd;
-          String text = makeable.txt;
-          text = text + KoLConstants.MODIFIER_FORMAT.format(delta) + ")";
-          text = text + " [" + absorbsLeft + " absorbs remaining]";
-          if (count > 0) {
-            text = "  or " + text;
-          }
-          Maximizer.boosts.add(new Boost(cmd, text, ItemPool.get(itemId), delta));
-          count++;
+          checkedItems.add(new CheckedItem(itemId, equipScope, maxPrice, priceLevel));
         }
+        skillAbsorptions.add(new Absorption(delta, absorbsLeft, checkedItems));
       }
 
       // Include enchantments from absorbing equipment in Noobcore
+      List<Absorption> itemAbsorptions = new ArrayList<>();
       for (Map.Entry<IntOrString, String> entry :
           ModifierDatabase.getAllModifiersOfType(ModifierType.ITEM)) {
         if (!entry.getKey().isInt()) continue;
@@ -306,11 +351,53 @@ public class Maximizer {
         if (delta <= 0.0) {
           continue;
         }
-        var makeable = getAbsorbable(itemId, equipScope, maxPrice, priceLevel);
+        CheckedItem checkedItem = new CheckedItem(itemId, equipScope, maxPrice, priceLevel);
+        itemAbsorptions.add(new Absorption(delta, absorbsLeft, List.of(checkedItem)));
+      }
+
+      if (priceLevel != PriceLevel.DONT_CHECK) {
+        Set<Integer> buyable = new HashSet<>();
+        for (Absorption absorption : skillAbsorptions) {
+          buyable.addAll(Maximizer.buyableItemIds(absorption.checkedItems()));
+        }
+        for (Absorption absorption : itemAbsorptions) {
+          buyable.addAll(Maximizer.buyableItemIds(absorption.checkedItems()));
+        }
+        MallPriceManager.prefetchMallPrices(buyable);
+        if (!KoLmafia.permitsContinue()) {
+          return;
+        }
+      }
+
+      for (Absorption absorption : skillAbsorptions) {
+        double delta = absorption.delta();
+        int absorbsLeft = absorption.absorbsLeft();
+        // Iterate over items to see if we have access to them
+        int count = 0;
+        for (CheckedItem checkedItem : absorption.checkedItems()) {
+          var makeable = getAbsorbable(checkedItem, equipScope, priceLevel);
+          if (!makeable.canMake) continue;
+          String cmd = makeable.cmd;
+          String text = makeable.txt;
+          text = text + KoLConstants.MODIFIER_FORMAT.format(delta) + ")";
+          text = text + " [" + absorbsLeft + " absorbs remaining]";
+          if (count > 0) {
+            text = "  or " + text;
+          }
+          Maximizer.boosts.add(new Boost(cmd, text, ItemPool.get(checkedItem.getItemId()), delta));
+          count++;
+        }
+      }
+
+      for (Absorption absorption : itemAbsorptions) {
+        double delta = absorption.delta();
+        int absorbsLeft = absorption.absorbsLeft();
+        CheckedItem checkedItem = absorption.checkedItems().get(0);
+        int itemId = checkedItem.getItemId();
+        var makeable = getAbsorbable(checkedItem, equipScope, priceLevel);
         if (!makeable.canMake) continue;
         String cmd = makeable.cmd;
         String text = makeable.txt;
-        CheckedItem checkedItem = makeable.checkedItem;
         text = text + "lasts til end of day, ";
         text = text + KoLConstants.MODIFIER_FORMAT.format(delta) + ")";
         text = text + " [" + absorbsLeft + " absorbs remaining";
@@ -428,6 +515,7 @@ public class Maximizer {
       }
     }
 
+    List<Integer> effectIds = new ArrayList<>();
     for (Map.Entry<IntOrString, String> entry :
         ModifierDatabase.getAllModifiersOfType(ModifierType.EFFECT)) {
       if (!entry.getKey().isInt()) continue;
@@ -435,19 +523,36 @@ public class Maximizer {
       if (effectId == -1) {
         continue;
       }
+      effectIds.add(effectId);
+    }
 
+    // Most effects simply add their modifiers to the current ones, so score those all at once
+    EffectScores effectScores = new EffectScores(effectIds, current);
+
+    // Gather the ways of getting each useful effect first, so that the mall prices of the items
+    // among them can be looked up together rather than one at a time.
+    List<EffectSources> candidates = new ArrayList<>();
+    for (int effectId : effectIds) {
       double delta;
       boolean isSpecial = false;
-      MaximizerSpeculation spec = new MaximizerSpeculation();
+      Double knownDelta = effectScores.getDelta(effectId);
+      MaximizerSpeculation spec = knownDelta == null ? new MaximizerSpeculation() : null;
       AdventureResult effect = EffectPool.get(effectId);
       String name = effect.getName();
       boolean hasEffect = KoLConstants.activeEffects.contains(effect);
       Iterator<String> sources;
 
       if (!hasEffect) {
-        spec.addEffect(effect);
-        delta = spec.getScore() - current;
-        if ((spec.getModifiers().getRawBitmap(BitmapModifier.MUTEX_VIOLATIONS)
+        Modifiers mods;
+        if (spec == null) {
+          delta = knownDelta;
+          mods = effectScores.getBaseModifiers();
+        } else {
+          spec.addEffect(effect);
+          delta = spec.getScore() - current;
+          mods = spec.getModifiers();
+        }
+        if ((mods.getRawBitmap(BitmapModifier.MUTEX_VIOLATIONS)
                 & ~KoLCharacter.currentRawBitmapModifier(BitmapModifier.MUTEX_VIOLATIONS))
             != 0) { // This effect creates a mutex problem that the player
           // didn't already have.  In the future, perhaps suggest
@@ -473,8 +578,12 @@ public class Maximizer {
           } else continue;
         }
       } else {
-        spec.removeEffect(effect);
-        delta = spec.getScore() - current;
+        if (spec == null) {
+          delta = knownDelta;
+        } else {
+          spec.removeEffect(effect);
+          delta = spec.getScore() - current;
+        }
         switch (Maximizer.eval.checkConstraints(ModifierDatabase.getEffectModifiers(effectId))) {
           case MEETS:
             continue;
@@ -493,7 +602,25 @@ public class Maximizer {
         sources = Collections.singletonList(cmd).iterator();
       }
 
-      boolean haveVipKey = InventoryManager.getCount(ItemPool.VIP_LOUNGE_KEY) > 0;
+      List<String> sourceList = new ArrayList<>();
+      sources.forEachRemaining(sourceList::add);
+      candidates.add(new EffectSources(effectId, effect, hasEffect, delta, isSpecial, sourceList));
+    }
+
+    Maximizer.prefetchBoostPrices(candidates, equipScope, maxPrice, priceLevel, filter);
+    if (!KoLmafia.permitsContinue()) {
+      return;
+    }
+
+    boolean haveVipKey = InventoryManager.getCount(ItemPool.VIP_LOUNGE_KEY) > 0;
+    for (EffectSources candidate : candidates) {
+      int effectId = candidate.effectId();
+      AdventureResult effect = candidate.effect();
+      String name = effect.getName();
+      boolean hasEffect = candidate.hasEffect();
+      double delta = candidate.delta();
+      boolean isSpecial = candidate.isSpecial();
+      Iterator<String> sources = candidate.sources().iterator();
       boolean orFlag = false;
       while (sources.hasNext()) {
         if (!KoLmafia.permitsContinue()) {
@@ -524,28 +651,7 @@ public class Maximizer {
 
         // Check filters
 
-        String basecommand = cmd.trim().contains(" ") ? cmd.split(" ")[0] : cmd;
-
-        switch (basecommand) {
-          case "cast":
-            if (!filter.contains(KoLConstants.filterType.CAST)) continue;
-            break;
-          case "synthesize":
-          case "chew":
-            if (!filter.contains(KoLConstants.filterType.SPLEEN)) continue;
-            break;
-          case "drink":
-            if (!filter.contains(KoLConstants.filterType.BOOZE)) continue;
-            break;
-          case "eat":
-            if (!filter.contains(KoLConstants.filterType.FOOD)) continue;
-            break;
-          case "use":
-            if (!filter.contains(KoLConstants.filterType.USABLE)) continue;
-            break;
-          default:
-            if (!filter.contains(KoLConstants.filterType.OTHER)) continue;
-        }
+        if (!filter.contains(Maximizer.commandFilter(cmd))) continue;
 
         if (cmd.startsWith("#")) { // usage note, no command
           if (includeAll) {
@@ -581,15 +687,7 @@ public class Maximizer {
           }
 
           String iName = cmd.substring(cmd.indexOf(" ") + 3).trim();
-          if (cmd.startsWith("use ")) {
-            item = ItemFinder.getFirstMatchingItem(iName, false, Match.USE);
-          } else if (cmd.startsWith("chew ")) {
-            item = ItemFinder.getFirstMatchingItem(iName, false, Match.SPLEEN);
-          } else if (cmd.startsWith("drink ")) {
-            item = ItemFinder.getFirstMatchingItem(iName, false, Match.BOOZE);
-          } else if (cmd.startsWith("eat ")) {
-            item = ItemFinder.getFirstMatchingItem(iName, false, Match.FOOD);
-          }
+          item = Maximizer.sourceItem(cmd);
 
           if (item != null) {
             int itemId = item.getItemId();
@@ -1405,12 +1503,7 @@ public class Maximizer {
                   continue;
                 }
 
-                // Depending on preference, either get historical mall price or look it up
-                if (Preferences.getBoolean("maximizerCurrentMallPrices")) {
-                  price = MallPriceManager.getMallPrice(itemId);
-                } else {
-                  price = MallPriceManager.getMallPrice(itemId, 7.0f);
-                }
+                price = Maximizer.boostPrice(itemId);
               }
             } else if (checkedItem.pullBuyable > 0) {
               text = "buy & pull & " + text;
@@ -1420,12 +1513,7 @@ public class Maximizer {
                   continue;
                 }
 
-                // Depending on preference, either get historical mall price or look it up
-                if (Preferences.getBoolean("maximizerCurrentMallPrices")) {
-                  price = MallPriceManager.getMallPrice(itemId);
-                } else {
-                  price = MallPriceManager.getMallPrice(itemId, 7.0f);
-                }
+                price = Maximizer.boostPrice(itemId);
               }
             } else {
               continue;
@@ -1443,12 +1531,7 @@ public class Maximizer {
                   continue;
                 }
 
-                // Depending on preference, either get historical mall price or look it up
-                if (Preferences.getBoolean("maximizerCurrentMallPrices")) {
-                  price = MallPriceManager.getMallPrice(itemId);
-                } else {
-                  price = MallPriceManager.getMallPrice(itemId, 7.0f);
-                }
+                price = Maximizer.boostPrice(itemId);
               }
             }
           } else if (item.getCount(KoLConstants.inventory) == 0) {
@@ -1847,24 +1930,142 @@ public class Maximizer {
     };
   }
 
+  private static filterType commandFilter(String cmd) {
+    String basecommand = cmd.trim().contains(" ") ? cmd.split(" ")[0] : cmd;
+    return switch (basecommand) {
+      case "cast" -> filterType.CAST;
+      case "synthesize", "chew" -> filterType.SPLEEN;
+      case "drink" -> filterType.BOOZE;
+      case "eat" -> filterType.FOOD;
+      case "use" -> filterType.USABLE;
+      default -> filterType.OTHER;
+    };
+  }
+
+  // The item a use, chew, drink or eat command consumes, or null if none is found
+  private static AdventureResult sourceItem(String cmd) {
+    String iName = cmd.substring(cmd.indexOf(" ") + 3).trim();
+    if (cmd.startsWith("use ")) {
+      return ItemFinder.getFirstMatchingItem(iName, false, Match.USE);
+    } else if (cmd.startsWith("chew ")) {
+      return ItemFinder.getFirstMatchingItem(iName, false, Match.SPLEEN);
+    } else if (cmd.startsWith("drink ")) {
+      return ItemFinder.getFirstMatchingItem(iName, false, Match.BOOZE);
+    } else if (cmd.startsWith("eat ")) {
+      return ItemFinder.getFirstMatchingItem(iName, false, Match.FOOD);
+    }
+    return null;
+  }
+
+  // Boosts are priced from the shared price database when its price is recent enough, unless
+  // maximizerCurrentMallPrices asks for a mall search.
+  private static final float BOOST_PRICE_AGE = 7.0f;
+
+  private static long boostPrice(int itemId) {
+    return Preferences.getBoolean("maximizerCurrentMallPrices")
+        ? MallPriceManager.getMallPrice(itemId)
+        : MallPriceManager.getMallPrice(itemId, BOOST_PRICE_AGE);
+  }
+
+  private static void prefetchBoostPrices(
+      List<EffectSources> candidates,
+      EquipScope equipScope,
+      int maxPrice,
+      PriceLevel priceLevel,
+      Set<filterType> filter) {
+    if (priceLevel == PriceLevel.DONT_CHECK) {
+      return;
+    }
+
+    // Outside Ronin/Hardcore, always show all purchasable
+    EquipScope showScope = KoLCharacter.canInteract() ? EquipScope.SPECULATE_ANY : equipScope;
+    Set<Integer> seen = new HashSet<>();
+    Set<Integer> priced = new HashSet<>();
+    for (EffectSources candidate : candidates) {
+      for (String cmd : candidate.sources()) {
+        if (!filter.contains(Maximizer.commandFilter(cmd))) {
+          continue;
+        }
+        AdventureResult item = Maximizer.sourceItem(cmd);
+        if (item == null || item.getItemId() <= 0 || !seen.add(item.getItemId())) {
+          continue;
+        }
+        int itemId = item.getItemId();
+        if (!ItemDatabase.isAllowed(item) || MallPriceDatabase.getPrice(itemId) > maxPrice * 2) {
+          continue;
+        }
+        CheckedItem checkedItem = new CheckedItem(itemId, showScope, maxPrice, priceLevel);
+        if (checkedItem.buyableFlag
+            || (priceLevel == PriceLevel.ALL
+                && ItemDatabase.isTradeable(itemId)
+                && checkedItem.getCount() > 0)) {
+          priced.add(itemId);
+        }
+      }
+    }
+
+    if (Preferences.getBoolean("maximizerCurrentMallPrices")) {
+      MallPriceManager.prefetchMallPrices(priced);
+    } else {
+      MallPriceManager.prefetchMallPrices(priced, BOOST_PRICE_AGE);
+    }
+  }
+
+  // Looks up together the mall prices emitSlot shows for the equipment which must be bought
+  private static void prefetchEquipmentPrices(
+      EquipScope equipScope, int maxPrice, PriceLevel priceLevel) {
+    if (priceLevel == PriceLevel.DONT_CHECK) {
+      return;
+    }
+
+    List<CheckedItem> checkedItems = new ArrayList<>();
+    for (var slot : SlotSet.ALL_SLOTS) {
+      AdventureResult item = Maximizer.best.equipment.get(slot);
+      if (item == null
+          || item.getItemId() <= 0
+          || item.equals(EquipmentManager.getEquipment(slot))) {
+        continue;
+      }
+      checkedItems.add(new CheckedItem(item.getItemId(), equipScope, maxPrice, priceLevel));
+    }
+    MallPriceManager.prefetchMallPrices(Maximizer.buyableItemIds(checkedItems));
+  }
+
+  private static Set<Integer> buyableItemIds(List<CheckedItem> checkedItems) {
+    Set<Integer> itemIds = new HashSet<>();
+    for (CheckedItem checkedItem : checkedItems) {
+      if (checkedItem.buyableFlag) {
+        itemIds.add(checkedItem.getItemId());
+      }
+    }
+    return itemIds;
+  }
+
+  private record EffectSources(
+      int effectId,
+      AdventureResult effect,
+      boolean hasEffect,
+      double delta,
+      boolean isSpecial,
+      List<String> sources) {}
+
+  private record Absorption(double delta, int absorbsLeft, List<CheckedItem> checkedItems) {}
+
   private static class Makeable {
     final String cmd;
     final String txt;
     final boolean canMake;
-    final CheckedItem checkedItem;
 
-    private Makeable(String cmd, String txt, boolean canMake, CheckedItem checkedItem) {
+    private Makeable(String cmd, String txt, boolean canMake) {
       this.cmd = cmd;
       this.txt = txt;
       this.canMake = canMake;
-      this.checkedItem = checkedItem;
     }
   }
 
   private static Makeable getAbsorbable(
-      int itemId, EquipScope equipScope, int maxPrice, PriceLevel priceLevel) {
-    // Check if we have access to item
-    CheckedItem checkedItem = new CheckedItem(itemId, equipScope, maxPrice, priceLevel);
+      CheckedItem checkedItem, EquipScope equipScope, PriceLevel priceLevel) {
+    int itemId = checkedItem.getItemId();
     // We won't include unavailable items, as this just gets far too large
     String cmd, text;
     long price = 0L;
@@ -1914,6 +2115,6 @@ public class Maximizer {
     if (price > 0) {
       text = text + KoLConstants.COMMA_FORMAT.format(price) + " meat, ";
     }
-    return new Makeable(cmd, text, canMake, checkedItem);
+    return new Makeable(cmd, text, canMake);
   }
 }
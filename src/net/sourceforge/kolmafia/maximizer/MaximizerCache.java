@@ -0,0 +1,337 @@
+package net.sourceforge.kolmafia.maximizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import net.sourceforge.kolmafia.AdventureResult;
+import net.sourceforge.kolmafia.FamiliarData;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.Modifiers;
+import net.sourceforge.kolmafia.equipment.Slot;
+import net.sourceforge.kolmafia.equipment.SlotSet;
+import net.sourceforge.kolmafia.persistence.ItemDatabase;
+import net.sourceforge.kolmafia.persistence.ModifierDatabase;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.request.StandardRequest;
+import net.sourceforge.kolmafia.session.EquipmentManager;
+import net.sourceforge.kolmafia.utilities.Statics;
+
+/*
+ * Remembers the outfits the Maximizer found, so that asking again for the same expression need
+ * not search every combination of equipment again.
+ *
+ * Each outfit is kept with a fingerprint of what the search depended on: the character, the items
+ * they could wear, what is worn in each slot, familiars, effects and skills, the date, the counter
+ * which changes when the modifiers of any item or effect are overridden, and every preference the
+ * search read. An outfit is used again only if the fingerprint is unchanged, except that wearing
+ * the outfit found is not a change: ties go to what is worn, so the search would find it again.
+ *
+ * Only searches of inventory are remembered; anything wider depends on what can be created, bought
+ * or pulled. The maximizerCache preference turns the cache off.
+ */
+public class MaximizerCache {
+  private static final int SIZE = 16;
+
+  private record Entry(
+      Map<String, String> state,
+      Map<String, String> preferences,
+      MaximizerSpeculation best,
+      String bestWorn,
+      String note) {}
+
+  private static final Map<String, Entry> entries =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+          return this.size() > MaximizerCache.SIZE;
+        }
+      };
+
+  private static int hits = 0;
+  private static int misses = 0;
+  private static String lastMiss = null;
+  private static List<String> lastMissChanges = List.of();
+
+  private MaximizerCache() {}
+
+  /** A search which may have been done before. */
+  static class Probe {
+    private final String key;
+    private final Map<String, String> state;
+    private final Entry entry;
+
+    private Probe(final String key, final Map<String, String> state, final Entry entry) {
+      this.key = key;
+      this.state = state;
+      this.entry = entry;
+    }
+
+    /** Returns a copy of the outfit found last time, or null if it must be searched for. */
+    MaximizerSpeculation getBest() {
+      return this.entry == null ? null : this.entry.best().clone();
+    }
+
+    /** Returns the note the last search left in the boosts, if any. */
+    String getNote() {
+      return this.entry == null ? null : this.entry.note();
+    }
+
+    /** Remembers the outfit found by a search which read the given preferences. */
+    void store(
+        final MaximizerSpeculation best, final String note, final Map<String, String> preferences) {
+      synchronized (MaximizerCache.class) {
+        MaximizerCache.entries.put(
+            this.key,
+            new Entry(
+                this.state,
+                new TreeMap<>(preferences),
+                best.clone(),
+                MaximizerCache.worn(best.equipment),
+                note));
+      }
+    }
+  }
+
+  /**
+   * Returns what is known about searching for the expression now, or null if such a search is not
+   * remembered at all.
+   */
+  static synchronized Probe probe(
+      final String expression,
+      final EquipScope equipScope,
+      final int maxPrice,
+      final PriceLevel priceLevel) {
+    if (expression == null
+        || !Preferences.getBoolean("maximizerCache")
+        || !equipScope.checkInventoryOnly()
+        || (equipScope == EquipScope.SPECULATE_INVENTORY
+            && Preferences.getBoolean("maximizerCreateOnHand"))) {
+      return null;
+    }
+
+    String key =
+        expression.trim().toLowerCase().replaceAll("\\s+", " ")
+            + "\t"
+            + equipScope
+            + "\t"
+            + maxPrice
+            + "\t"
+            + priceLevel;
+    Map<String, String> state = MaximizerCache.getState();
+    Entry entry = MaximizerCache.entries.get(key);
+
+    if (entry != null) {
+      Map<String, String> expected = entry.state();
+      if (state.get("worn").equals(entry.bestWorn())) {
+        expected = new LinkedHashMap<>(expected);
+        expected.put("worn", entry.bestWorn());
+      }
+
+      List<String> changes = new ArrayList<>();
+      MaximizerCache.compare(expected, state, changes);
+      MaximizerCache.compare(
+          entry.preferences(), MaximizerCache.currentValues(entry.preferences()), changes);
+
+      if (changes.isEmpty()) {
+        MaximizerCache.hits++;
+        return new Probe(key, state, entry);
+      }
+
+      MaximizerCache.lastMissChanges = changes;
+    } else {
+      MaximizerCache.lastMissChanges = List.of("(not searched before)");
+    }
+
+    MaximizerCache.misses++;
+    MaximizerCache.lastMiss = expression;
+    return new Probe(key, state, null);
+  }
+
+  private static Map<String, String> getState() {
+    Map<String, String> state = new LinkedHashMap<>();
+
+    state.put(
+        "character",
+        KoLCharacter.getAscensionClass()
+            + ", "
+            + KoLCharacter.getPath()
+            + ", "
+            + KoLCharacter.getSign()
+            + ", level "
+            + KoLCharacter.getLevel()
+            + ", ascension "
+            + KoLCharacter.getAscensions()
+            + (KoLCharacter.isHardcore() ? ", hardcore" : "")
+            + (KoLCharacter.canInteract() ? ", can interact" : "")
+            + (KoLCharacter.getRestricted()
+                ? ", restricted " + StandardRequest.getRestrictionMap().hashCode()
+                : "")
+            + ", "
+            + KoLCharacter.getLimitMode());
+    state.put(
+        "stats",
+        KoLCharacter.getBaseMuscle()
+            + ", "
+            + KoLCharacter.getBaseMysticality()
+            + ", "
+            + KoLCharacter.getBaseMoxie());
+    state.put("date", Statics.DateTimeManager.getRolloverDateTime().toLocalDate().toString());
+    state.put("location", Modifiers.currentLocation + ", " + Modifiers.currentZone);
+    state.put("mcd", String.valueOf(KoLCharacter.getMindControlLevel()));
+    state.put(
+        "organs",
+        KoLCharacter.getFullness()
+            + ", "
+            + KoLCharacter.getInebriety()
+            + ", "
+            + KoLCharacter.getSpleenUse());
+    state.put("fury", String.valueOf(KoLCharacter.getFury()));
+    state.put(
+        "thrall",
+        KoLCharacter.currentPastaThrall().getId()
+            + ", level "
+            + KoLCharacter.currentPastaThrall().getLevel());
+    state.put("companion", String.valueOf(KoLCharacter.getCompanion()));
+    state.put("overrides", String.valueOf(ModifierDatabase.getOverrideGeneration()));
+
+    // What is worn is also counted with what is carried, so that putting on the outfit which was
+    // found changes only the worn items.
+    state.put("worn", MaximizerCache.worn(EquipmentManager.allEquipment()));
+    List<AdventureResult> carried = new ArrayList<>(KoLConstants.inventory);
+    carried.addAll(EquipmentManager.allEquipment().values());
+    state.put("inventory", MaximizerCache.wearables(carried));
+    state.put("closet", MaximizerCache.wearables(KoLConstants.closet));
+    state.put("storage", MaximizerCache.wearables(KoLConstants.storage));
+    state.put("freepulls", MaximizerCache.wearables(KoLConstants.freepulls));
+
+    state.put(
+        "familiar",
+        KoLCharacter.getFamiliar().getId()
+            + ","
+            + KoLCharacter.currentEnthroned.getId()
+            + ","
+            + KoLCharacter.currentBjorned.getId());
+    // The current familiar's item is counted with what is worn
+    Set<String> familiars = new TreeSet<>();
+    for (FamiliarData familiar : KoLCharacter.ownedFamiliars()) {
+      AdventureResult item =
+          familiar.equals(KoLCharacter.getFamiliar()) ? null : familiar.getItem();
+      familiars.add(
+          familiar.getId() + ":" + familiar.getWeight() + ":" + MaximizerCache.itemId(item));
+    }
+    state.put("familiars", String.join(",", familiars));
+
+    Set<String> effects = new TreeSet<>();
+    for (AdventureResult effect : KoLConstants.activeEffects) {
+      effects.add(String.valueOf(effect.getEffectId()));
+    }
+    state.put("effects", String.join(",", effects));
+
+    Set<String> skills = new TreeSet<>();
+    for (var skill : KoLConstants.availableSkills) {
+      skills.add(String.valueOf(skill.getSkillId()));
+    }
+    state.put("skills", String.join(",", skills));
+
+    return state;
+  }
+
+  // Lists the items which could be worn, or folded into something else which could be
+  private static String wearables(final List<AdventureResult> items) {
+    Map<Integer, Integer> counts = new TreeMap<>();
+    for (AdventureResult item : items) {
+      if (item == null || item.getItemId() <= 0) {
+        continue;
+      }
+      if (EquipmentManager.itemIdToEquipmentType(item.getItemId()) != Slot.NONE
+          || ItemDatabase.getFoldGroup(item.getName()) != null) {
+        counts.merge(item.getItemId(), item.getCount(), Integer::sum);
+      }
+    }
+    return counts.entrySet().stream()
+        .map(e -> e.getKey() + "x" + e.getValue())
+        .collect(Collectors.joining(","));
+  }
+
+  // Lists the item in each slot, with nothing in a slot as 0
+  private static String worn(final Map<Slot, AdventureResult> equipment) {
+    return SlotSet.SLOTS.stream()
+        .map(slot -> slot + ":" + Math.max(0, MaximizerCache.itemId(equipment.get(slot))))
+        .collect(Collectors.joining(","));
+  }
+
+  private static int itemId(final AdventureResult item) {
+    return item == null ? -1 : item.getItemId();
+  }
+
+  private static Map<String, String> currentValues(final Map<String, String> preferences) {
+    Map<String, String> values = new TreeMap<>();
+    for (String name : preferences.keySet()) {
+      values.put(name, Preferences.getString(name));
+    }
+    return values;
+  }
+
+  // Describes each difference between two fingerprints. A list of values is described by what was
+  // added to or removed from it.
+  private static void compare(
+      final Map<String, String> before, final Map<String, String> after, final List<String> out) {
+    for (var entry : before.entrySet()) {
+      String name = entry.getKey();
+      String was = entry.getValue();
+      String now = after.get(name);
+      if (was.equals(now)) {
+        continue;
+      }
+
+      if (now != null && was.contains(",") && now.contains(",")) {
+        Set<String> removed = new TreeSet<>(Arrays.asList(was.split(",")));
+        Set<String> added = new TreeSet<>(Arrays.asList(now.split(",")));
+        Set<String> common = new TreeSet<>(removed);
+        common.retainAll(added);
+        removed.removeAll(common);
+        added.removeAll(common);
+        out.add(name + ": +" + added + " -" + removed);
+      } else {
+        out.add(name + ": " + was + " -> " + now);
+      }
+    }
+  }
+
+  public static synchronized int getHits() {
+    return MaximizerCache.hits;
+  }
+
+  public static synchronized int getMisses() {
+    return MaximizerCache.misses;
+  }
+
+  public static synchronized int size() {
+    return MaximizerCache.entries.size();
+  }
+
+  /** Returns the expression most recently searched for again, or null if there has been none. */
+  public static synchronized String getLastMiss() {
+    return MaximizerCache.lastMiss;
+  }
+
+  /** Returns what had changed since the expression most recently searched for again was cached. */
+  public static synchronized List<String> getLastMissChanges() {
+    return MaximizerCache.lastMissChanges;
+  }
+
+  public static synchronized void clear() {
+    MaximizerCache.entries.clear();
+    MaximizerCache.hits = 0;
+    MaximizerCache.misses = 0;
+    MaximizerCache.lastMiss = null;
+    MaximizerCache.lastMissChanges = List.of();
+  }
+}
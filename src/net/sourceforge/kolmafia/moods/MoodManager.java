@@ -87,6 +87,7 @@ public abstract class MoodManager {
 
     if (newMoodName.equals("clear")
         || newMoodName.equals("autofill")
+        || newMoodName.equals("plan")
         || newMoodName.startsWith("exec")
         || newMoodName.startsWith("repeat")) {
       return;
@@ -441,28 +442,18 @@ public abstract class MoodManager {
     }
 
     // Now that everything is prepared, go ahead and execute
-    // the displayList which have been set.  First, start out
-    // with any skill casting.
+    // the displayList which have been set, casting first.
 
-    for (MoodTrigger trigger : triggers) {
-      if (KoLmafia.refusesContinue()) {
-        break;
-      }
-
-      if (trigger.isSkill()) {
-        trigger.execute(multiplicity);
-      }
-    }
-
-    for (MoodTrigger trigger : triggers) {
-      if (!trigger.isSkill()) {
-        trigger.execute(multiplicity);
-      }
-    }
+    MoodPlan.plan(triggers, multiplicity).execute();
 
     MoodManager.isExecuting = false;
   }
 
+  /** The requests which executing the current mood would make, without making them. */
+  public static MoodPlan getPlan(final int multiplicity) {
+    return MoodPlan.plan(MoodManager.currentMood.getTriggers(), multiplicity);
+  }
+
   public static boolean willExecute(final int multiplicity) {
     if (!MoodManager.currentMood.isExecutable()) {
       return false;
@@ -0,0 +1,188 @@
+package net.sourceforge.kolmafia.moods;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.KoLmafia;
+import net.sourceforge.kolmafia.persistence.SkillDatabase;
+import net.sourceforge.kolmafia.request.UseSkillRequest;
+
+/*
+ * The requests needed to run a mood, worked out before any of them are made.
+ *
+ * Triggers which cast the same skill are merged, since one skill request can cast a buff any
+ * number of times. The casts are then ordered against the MP on hand: whatever fits in current MP
+ * is cast first, and each restore recovers only what the remaining casts can use, up to maximum
+ * MP. Casting in trigger order instead restores whenever the next cast does not fit, which can
+ * mean a restore between every buff.
+ */
+public class MoodPlan {
+  public interface Step {
+    void execute();
+  }
+
+  public record Restore(long mp) implements Step {
+    @Override
+    public void execute() {
+      RecoveryManager.checkpointedRecoverMP(this.mp);
+    }
+
+    @Override
+    public String toString() {
+      return "restore MP to " + this.mp;
+    }
+  }
+
+  public record Cast(UseSkillRequest skill, int casts, long mp) implements Step {
+    @Override
+    public void execute() {
+      MoodTrigger.cast(this.skill, this.casts);
+    }
+
+    @Override
+    public String toString() {
+      return "cast " + this.casts + " " + this.skill.getSkillName() + " (" + this.mp + " MP)";
+    }
+  }
+
+  public record Action(MoodTrigger trigger, int multiplicity) implements Step {
+    @Override
+    public void execute() {
+      this.trigger.execute(this.multiplicity);
+    }
+
+    @Override
+    public String toString() {
+      return this.trigger.getAction();
+    }
+  }
+
+  private final List<Step> steps;
+
+  private MoodPlan(final List<Step> steps) {
+    this.steps = steps;
+  }
+
+  public List<Step> getSteps() {
+    return this.steps;
+  }
+
+  /** The number of requests the plan expects to make; a restore is counted as one. */
+  public int getRequestCount() {
+    return this.steps.size();
+  }
+
+  public int getRestoreCount() {
+    return (int) this.steps.stream().filter(Restore.class::isInstance).count();
+  }
+
+  public void execute() {
+    for (Step step : this.steps) {
+      if (KoLmafia.refusesContinue()) {
+        break;
+      }
+
+      step.execute();
+    }
+  }
+
+  public static MoodPlan plan(final List<MoodTrigger> triggers, final int multiplicity) {
+    return MoodPlan.plan(
+        triggers, multiplicity, KoLCharacter.getCurrentMP(), KoLCharacter.getMaximumMP());
+  }
+
+  public static MoodPlan plan(
+      final List<MoodTrigger> triggers,
+      final int multiplicity,
+      final long currentMP,
+      final long maximumMP) {
+    List<Step> steps = new ArrayList<>();
+
+    // Merge the casts of each skill, keeping the order in which they were first seen
+    Map<Integer, Cast> casts = new LinkedHashMap<>();
+    for (MoodTrigger trigger : triggers) {
+      UseSkillRequest skill = trigger.getSkill();
+      if (skill == null || !trigger.shouldExecute(multiplicity)) {
+        continue;
+      }
+
+      int count = trigger.getCasts(multiplicity);
+      casts.merge(
+          skill.getSkillId(),
+          new Cast(skill, count, 0),
+          (a, b) -> new Cast(skill, a.casts() + b.casts(), 0));
+    }
+
+    MoodPlan.planCasts(steps, casts.values(), currentMP, maximumMP);
+
+    // Everything else runs as before, triggers for skill effects first
+    for (MoodTrigger trigger : triggers) {
+      if (trigger.isSkill() && trigger.getSkill() == null && trigger.shouldExecute(multiplicity)) {
+        steps.add(new Action(trigger, multiplicity));
+      }
+    }
+
+    for (MoodTrigger trigger : triggers) {
+      if (!trigger.isSkill() && trigger.getSkill() == null && trigger.shouldExecute(multiplicity)) {
+        steps.add(new Action(trigger, multiplicity));
+      }
+    }
+
+    return new MoodPlan(steps);
+  }
+
+  private static void planCasts(
+      final List<Step> steps,
+      final Iterable<Cast> casts,
+      final long currentMP,
+      final long maximumMP) {
+    // Split any cast too expensive to make on a full MP bar into casts which are not
+    List<Cast> pending = new ArrayList<>();
+    for (Cast cast : casts) {
+      long cost = SkillDatabase.getMPConsumptionById(cast.skill().getSkillId());
+      int perRequest = cost > 0 && cost <= maximumMP ? (int) (maximumMP / cost) : cast.casts();
+
+      for (int remaining = cast.casts(); remaining > 0; remaining -= perRequest) {
+        int count = Math.min(remaining, perRequest);
+        pending.add(new Cast(cast.skill(), count, cost * count));
+      }
+    }
+
+    // First fit decreasing: each pass spends the MP on hand on the most expensive casts which still
+    // fit, and then restores just enough for whatever is left.
+    pending.sort(Comparator.comparingLong(Cast::mp).reversed());
+
+    long available = currentMP;
+    while (!pending.isEmpty()) {
+      boolean placed = false;
+      Iterator<Cast> it = pending.iterator();
+      while (it.hasNext()) {
+        Cast cast = it.next();
+        if (cast.mp() <= available) {
+          steps.add(cast);
+          available -= cast.mp();
+          it.remove();
+          placed = true;
+        }
+      }
+
+      if (pending.isEmpty()) {
+        break;
+      }
+
+      if (!placed && available >= maximumMP) {
+        // These cost more than a full MP bar; leave them to fail as they would have before
+        steps.addAll(pending);
+        break;
+      }
+
+      long needed = pending.stream().mapToLong(Cast::mp).sum();
+      available = Math.max(available, Math.min(maximumMP, needed));
+      steps.add(new Restore(available));
+    }
+  }
+}
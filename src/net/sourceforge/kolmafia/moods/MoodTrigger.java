@@ -187,6 +187,15 @@ public class MoodTrigger implements Comparable<MoodTrigger> {
     return this.action;
   }
 
+  /** The skill this trigger casts, or null if its action is not a simple cast. */
+  public UseSkillRequest getSkill() {
+    return this.skill;
+  }
+
+  public int getCasts(final int multiplicity) {
+    return Math.max(this.count, this.count * multiplicity);
+  }
+
   @Override
   public String toString() {
     return this.stringForm.toString();
@@ -273,25 +282,27 @@ public class MoodTrigger implements Comparable<MoodTrigger> {
     }
 
     if (this.skill != null) {
-      int casts = Math.max(this.count, this.count * multiplicity);
-      this.skill.setBuffCount(casts);
-      this.skill.setTarget(KoLCharacter.getUserName());
-      RequestThread.postRequest(this.skill);
-
-      if (!UseSkillRequest.lastUpdate.equals("")) {
-        String name = this.skill.getSkillName();
-        KoLmafia.updateDisplay(
-            MafiaState.ERROR,
-            "Mood failed to cast " + casts + " " + name + ": " + UseSkillRequest.lastUpdate);
-        RequestThread.declareWorldPeace();
-      }
-
+      MoodTrigger.cast(this.skill, this.getCasts(multiplicity));
       return;
     }
 
     KoLmafiaCLI.DEFAULT_SHELL.executeLine(this.action);
   }
 
+  static void cast(final UseSkillRequest skill, final int casts) {
+    skill.setBuffCount(casts);
+    skill.setTarget(KoLCharacter.getUserName());
+    RequestThread.postRequest(skill);
+
+    if (!UseSkillRequest.lastUpdate.equals("")) {
+      String name = skill.getSkillName();
+      KoLmafia.updateDisplay(
+          MafiaState.ERROR,
+          "Mood failed to cast " + casts + " " + name + ": " + UseSkillRequest.lastUpdate);
+      RequestThread.declareWorldPeace();
+    }
+  }
+
   public boolean shouldExecute(final int multiplicity) {
     if (KoLmafia.refusesContinue()) {
       return false;
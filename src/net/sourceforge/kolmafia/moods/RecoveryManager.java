@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Set;
 import net.sourceforge.kolmafia.AdventureResult;
 import net.sourceforge.kolmafia.BuffBotHome;
+import net.sourceforge.kolmafia.KoLAdventure;
 import net.sourceforge.kolmafia.KoLCharacter;
 import net.sourceforge.kolmafia.KoLConstants;
 import net.sourceforge.kolmafia.KoLConstants.MafiaState;
@@ -29,6 +30,8 @@ import net.sourceforge.kolmafia.request.UseItemRequest;
 import net.sourceforge.kolmafia.session.ChoiceManager;
 import net.sourceforge.kolmafia.session.InventoryManager;
 import net.sourceforge.kolmafia.session.LightsOutManager;
+import net.sourceforge.kolmafia.session.RequestMetrics;
+import net.sourceforge.kolmafia.session.RequestMetrics.Phase;
 import net.sourceforge.kolmafia.session.VoteMonsterManager;
 import net.sourceforge.kolmafia.textui.ScriptRuntime;
 import net.sourceforge.kolmafia.textui.parsetree.Value;
@@ -92,27 +95,36 @@ public class RecoveryManager {
 
     RecoveryManager.recoveryActive = true;
 
+    KoLAdventure adventure = KoLCharacter.getSelectedLocation();
+    String location = adventure == null ? "" : adventure.getAdventureName();
+
     if (isScriptCheck) {
-      KoLmafia.executeScript(Preferences.getString("betweenBattleScript"));
+      try (var timer = RequestMetrics.time(Phase.BETWEEN_BATTLE_SCRIPT, location)) {
+        KoLmafia.executeScript(Preferences.getString("betweenBattleScript"));
+      }
     }
 
     // Now, run the built-in behavior to take care of any loose ends.
 
     try (Checkpoint checkpoint = new Checkpoint()) {
       if (isMoodCheck) {
-        MoodManager.execute();
+        try (var timer = RequestMetrics.time(Phase.MOOD, location)) {
+          MoodManager.execute();
+        }
       }
 
-      if (isHealthCheck) {
-        RecoveryManager.recoverHP();
-      }
+      try (var timer = RequestMetrics.time(Phase.RECOVERY, location)) {
+        if (isHealthCheck) {
+          RecoveryManager.recoverHP();
+        }
 
-      if (isMoodCheck) {
-        ManaBurnManager.burnExtraMana(false);
-      }
+        if (isMoodCheck) {
+          ManaBurnManager.burnExtraMana(false);
+        }
 
-      if (isManaCheck) {
-        RecoveryManager.recoverMP();
+        if (isManaCheck) {
+          RecoveryManager.recoverMP();
+        }
       }
     }
 
@@ -945,7 +945,13 @@ public class Concoction implements Comparable<Concoction> {
       Concoction.debug = false;
     }
 
-    this.total = maxSuccess;
+    this.setCalculatedTotal(maxSuccess);
+  }
+
+  // Records the largest number of this item which calculate2 found could be had
+  void setCalculatedTotal(final int total) {
+    int id = this.getItemId();
+    this.total = total;
     this.creatable = this.total - this.initial;
     if (this.price > 0
         && id != ItemPool.MEAT_PASTE
@@ -1001,6 +1007,9 @@ public class Concoction implements Comparable<Concoction> {
   // of the exact amount that can be made, but isn't assumed to be
   // accurate.  This method will be called with distinct requested
   // values until some N is found to be possible, while N+1 is impossible.
+  //
+  // ConcoctionSolver makes the same search over a precomputed graph; keep
+  // the two in step.
 
   private int canMake(int requested, ArrayList<Concoction> visited) {
     return canMake(requested, visited, false);
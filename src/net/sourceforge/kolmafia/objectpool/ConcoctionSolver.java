@@ -0,0 +1,479 @@
+package net.sourceforge.kolmafia.objectpool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import net.sourceforge.kolmafia.AdventureResult;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.KoLConstants.CraftingType;
+import net.sourceforge.kolmafia.persistence.ConcoctionDatabase;
+import net.sourceforge.kolmafia.persistence.ItemDatabase;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.request.ClanLoungeRequest;
+import net.sourceforge.kolmafia.request.PurchaseRequest;
+import net.sourceforge.kolmafia.request.concoction.BarrelShrineRequest;
+import net.sourceforge.kolmafia.request.concoction.BurningLeavesRequest;
+import net.sourceforge.kolmafia.request.concoction.MayamRequest;
+import net.sourceforge.kolmafia.request.concoction.PhotoBoothRequest;
+import net.sourceforge.kolmafia.request.concoction.StillSuitRequest;
+import net.sourceforge.kolmafia.request.concoction.TakerSpaceRequest;
+import net.sourceforge.kolmafia.request.concoction.shop.TinkeringBenchRequest;
+import net.sourceforge.kolmafia.utilities.StringUtilities;
+
+/*
+ * Works out how many of each concoction can be had, as Concoction.calculate2 and calculate3 do.
+ *
+ * Concoction.canMake asks the same questions of a concoction - whether its method is permitted,
+ * which concoctions its ingredients are, what else limits it - on every visit of every guess, and
+ * keeps what it has allocated on the concoctions themselves. Here the answers are worked out once
+ * per refresh into a graph of nodes, and each search keeps its allocations in arrays of its own.
+ *
+ * Every search starts with nothing allocated, so the searches for different concoctions do not
+ * depend on one another even where they share ingredients, and they are run in parallel. The
+ * search is the one canMake makes, step for step, so the totals are the same.
+ */
+public final class ConcoctionSolver {
+  // How a search of a node ends: carries on with the recipe, or returns early with what is on
+  // hand plus some extra, or with exactly the extra.
+  private static final byte CONTINUE = 0;
+  private static final byte HAVE_PLUS = 1;
+  private static final byte EXACTLY = 2;
+
+  private record Node(
+      int initial,
+      long price,
+      int yield,
+      byte stop,
+      int stopExtra,
+      int[] ingredients,
+      int[] counts,
+      int paste,
+      int adventures,
+      int adventureLimit,
+      int turnFreeLimit,
+      int limit,
+      byte finish,
+      int finishExtra) {}
+
+  private final Map<Concoction, Integer> indices = new IdentityHashMap<>();
+  private final List<Concoction> concoctions = new ArrayList<>();
+  private final Node[] nodes;
+  private final int meat;
+
+  private ConcoctionSolver(final Collection<Concoction> roots) {
+    for (Concoction c : roots) {
+      this.indexOf(c);
+    }
+    this.meat = this.indexOf(ConcoctionDatabase.meatLimit);
+
+    // Describing a node can reach concoctions which are not roots, so the list grows as we go
+    List<Node> nodes = new ArrayList<>();
+    for (int i = 0; i < this.concoctions.size(); ++i) {
+      nodes.add(this.describe(this.concoctions.get(i)));
+    }
+    this.nodes = nodes.toArray(new Node[0]);
+  }
+
+  /** Sets total, creatable and freeTotal on each of the concoctions. */
+  public static void solve(final Collection<Concoction> concoctions) {
+    List<Concoction> roots = concoctions.stream().filter(c -> c.speakeasy == null).toList();
+    ConcoctionSolver solver = new ConcoctionSolver(roots);
+
+    int[] totals = new int[roots.size()];
+    int[] freeTotals = new int[roots.size()];
+    solver.run(roots.size(), totals, freeTotals);
+
+    for (int i = 0; i < roots.size(); ++i) {
+      Concoction c = roots.get(i);
+      c.setCalculatedTotal(totals[i]);
+      c.freeTotal = freeTotals[i];
+    }
+  }
+
+  private void run(final int count, final int[] totals, final int[] freeTotals) {
+    if (count == 0) {
+      return;
+    }
+
+    int chunks = Math.min(count, ForkJoinPool.getCommonPoolParallelism() * 4);
+    IntStream.range(0, chunks)
+        .parallel()
+        .forEach(
+            chunk -> {
+              Search search = new Search();
+              for (int i = chunk; i < count; i += chunks) {
+                totals[i] = search.maximum(i, false);
+                freeTotals[i] = search.maximum(i, true);
+              }
+            });
+  }
+
+  private int indexOf(final Concoction c) {
+    Integer index = this.indices.get(c);
+    if (index == null) {
+      index = this.concoctions.size();
+      this.indices.put(c, index);
+      this.concoctions.add(c);
+    }
+    return index;
+  }
+
+  private Node describe(final Concoction c) {
+    CraftingType method = c.getMixingMethod();
+
+    if (method == CraftingType.TINKERING_BENCH && TinkeringBenchRequest.haveItem(c)) {
+      c.initial = 1;
+    }
+
+    byte stop = CONTINUE;
+    int stopExtra = 0;
+
+    switch (method) {
+      case NOCREATE -> stop = HAVE_PLUS;
+      case SINGLE_USE, MULTI_USE -> {
+        if ((KoLCharacter.inBeecore()
+                && ItemDatabase.unusableInBeecore(c.getIngredients()[0].getItemId()))
+            || (KoLCharacter.inGLover()
+                && ItemDatabase.unusableInGLover(c.getIngredients()[0].getItemId()))) {
+          stop = HAVE_PLUS;
+        }
+      }
+      case COINMASTER -> {
+        PurchaseRequest purchaseRequest = c.getPurchaseRequest();
+        stop = HAVE_PLUS;
+        if (purchaseRequest != null && purchaseRequest.canPurchase()) {
+          stopExtra = purchaseRequest.affordableCount();
+        }
+      }
+    }
+
+    if (stop == CONTINUE
+        && (!ConcoctionDatabase.isPermittedMethod(method, c.getRequirements())
+            || Preferences.getBoolean("unknownRecipe" + c.getItemId()))) {
+      stop = HAVE_PLUS;
+    }
+
+    if (stop == CONTINUE) {
+      String name = c.getName();
+      switch (method) {
+        case FLOUNDRY -> {
+          stop = HAVE_PLUS;
+          stopExtra = ClanLoungeRequest.availableFloundryItem(name) ? 1 : 0;
+        }
+        case BARREL -> {
+          stop = HAVE_PLUS;
+          stopExtra = BarrelShrineRequest.availableBarrelItem(name) ? 1 : 0;
+        }
+        case TERMINAL -> {
+          if (!ConcoctionSolver.knownExtrude(name)) {
+            stop = HAVE_PLUS;
+          }
+        }
+        case SPACEGATE -> {
+          stop = HAVE_PLUS;
+          stopExtra = c.initial == 0 ? 1 : 0;
+        }
+        case FANTASY_REALM -> {
+          stop = HAVE_PLUS;
+          stopExtra = StringUtilities.isNumeric(Preferences.getString("_frHoursLeft")) ? 0 : 1;
+        }
+        case STILLSUIT -> {
+          stop = EXACTLY;
+          stopExtra = StillSuitRequest.canMake() ? 1 : 0;
+        }
+        case BURNING_LEAVES -> {
+          stop = EXACTLY;
+          stopExtra = BurningLeavesRequest.canMake(c);
+        }
+        case MAYAM -> {
+          stop = HAVE_PLUS;
+          stopExtra = MayamRequest.canMake(c) ? 1 : 0;
+        }
+        case PHOTO_BOOTH -> {
+          stop = HAVE_PLUS;
+          stopExtra = PhotoBoothRequest.canMake(c);
+        }
+        case TAKERSPACE -> {
+          stop = HAVE_PLUS;
+          stopExtra = TakerSpaceRequest.canMake(c);
+        }
+      }
+    }
+
+    if (stop != CONTINUE) {
+      return new Node(
+          c.initial,
+          c.price,
+          c.getYield(),
+          stop,
+          stopExtra,
+          new int[0],
+          new int[0],
+          -1,
+          0,
+          -1,
+          -1,
+          -1,
+          CONTINUE,
+          0);
+    }
+
+    // Ingredients, in the order canMake visits them. A count of zero marks an ingredient which a
+    // Coin Master sells for this item, which ends the recipe at however many of it we have.
+    List<Integer> ingredients = new ArrayList<>();
+    List<Integer> counts = new ArrayList<>();
+
+    AdventureResult[] ingredientArray = c.getIngredients();
+    int len = ingredientArray.length;
+    for (int i = 0; i < len; ++i) {
+      AdventureResult ingredient = ingredientArray[i];
+      Concoction ic = ConcoctionPool.get(ingredient);
+      if (ic == null) continue;
+      int count = ingredient.getCount();
+
+      if (i == 0 && len == 2 && ingredientArray[1].equals(ingredient)) {
+        count += ingredientArray[1].getCount();
+        len = 1;
+      }
+
+      if (ic.getMixingMethod() == CraftingType.COINMASTER
+          && c.getItemId() == ic.getPurchaseRequest().getCost().getItemId()) {
+        ingredients.add(this.indexOf(ic));
+        counts.add(0);
+        break;
+      }
+
+      ingredients.add(this.indexOf(ic));
+      counts.add(count);
+    }
+
+    int paste = -1;
+    if ((method == CraftingType.COMBINE || method == CraftingType.ACOMBINE)
+        && (!KoLCharacter.knollAvailable() || KoLCharacter.inZombiecore())) {
+      paste = this.indexOf(ConcoctionPool.get(ItemPool.MEAT_PASTE));
+    }
+
+    int adventures = ConcoctionDatabase.getAdventureUsage(method);
+    int adventureLimit = -1;
+    int turnFreeLimit = -1;
+    if (adventures != 0) {
+      if (method == CraftingType.SMITH || method == CraftingType.SSMITH) {
+        adventureLimit = this.indexOf(ConcoctionDatabase.adventureSmithingLimit);
+        turnFreeLimit = this.indexOf(ConcoctionDatabase.turnFreeSmithingLimit);
+      } else if (method == CraftingType.COOK_FANCY) {
+        adventureLimit = this.indexOf(ConcoctionDatabase.cookingLimit);
+        turnFreeLimit = this.indexOf(ConcoctionDatabase.turnFreeCookingLimit);
+      } else if (method == CraftingType.MIX_FANCY) {
+        adventureLimit = this.indexOf(ConcoctionDatabase.cocktailcraftingLimit);
+        turnFreeLimit = this.indexOf(ConcoctionDatabase.turnFreeCocktailcraftingLimit);
+      } else {
+        adventureLimit = this.indexOf(ConcoctionDatabase.adventureLimit);
+        turnFreeLimit = this.indexOf(ConcoctionDatabase.turnFreeLimit);
+      }
+    }
+
+    int limit =
+        switch (method) {
+          case STILL -> this.indexOf(ConcoctionDatabase.stillsLimit);
+          case CLIPART -> this.indexOf(ConcoctionDatabase.clipArtLimit);
+          case TERMINAL -> this.indexOf(ConcoctionDatabase.extrudeLimit);
+          default -> -1;
+        };
+
+    byte finish = CONTINUE;
+    int finishExtra = 0;
+    switch (method) {
+      case JARLS -> {
+        if (c.getName().contains("Staff")) {
+          boolean have =
+              KoLConstants.inventory.contains(c.concoction)
+                  || KoLCharacter.hasEquipped(c.concoction);
+          finish = have ? HAVE_PLUS : EXACTLY;
+          finishExtra = have ? 0 : 1;
+        } else if (c.concoction.equals(ItemPool.get(ItemPool.COSMIC_SIX_PACK, 1))) {
+          finish = HAVE_PLUS;
+          finishExtra = Preferences.getBoolean("_cosmicSixPackConjured") ? 0 : 1;
+        }
+      }
+      case TINKERING_BENCH -> {
+        finish = EXACTLY;
+        finishExtra =
+            KoLConstants.inventory.contains(c.concoction)
+                    || KoLCharacter.hasEquipped(c.concoction)
+                    || TinkeringBenchRequest.canMake(c)
+                ? 1
+                : 0;
+      }
+    }
+
+    return new Node(
+        c.initial,
+        c.price,
+        c.getYield(),
+        CONTINUE,
+        0,
+        ingredients.stream().mapToInt(Integer::intValue).toArray(),
+        counts.stream().mapToInt(Integer::intValue).toArray(),
+        paste,
+        adventures,
+        adventureLimit,
+        turnFreeLimit,
+        limit,
+        finish,
+        finishExtra);
+  }
+
+  private static boolean knownExtrude(final String name) {
+    String known = Preferences.getString("sourceTerminalExtrudeKnown");
+    String file =
+        switch (name) {
+          case "Source terminal GRAM chip" -> "gram.ext";
+          case "Source terminal PRAM chip" -> "pram.ext";
+          case "Source terminal SPAM chip" -> "spam.ext";
+          case "Source terminal CRAM chip" -> "cram.ext";
+          case "Source terminal DRAM chip" -> "dram.ext";
+          case "Source terminal TRAM chip" -> "tram.ext";
+          case "software bug" -> "familiar.ext";
+          default -> null;
+        };
+    return file == null || known.contains(file);
+  }
+
+  // The allocations of one thread's searches, cleared between guesses
+  private final class Search {
+    private final int[] allocated = new int[ConcoctionSolver.this.nodes.length];
+    private final boolean[] visited = new boolean[ConcoctionSolver.this.nodes.length];
+    private final int[] visitedList = new int[ConcoctionSolver.this.nodes.length];
+    private int visitedCount = 0;
+
+    // As calculate2, or calculate3 when only turn-free creations count
+    int maximum(final int root, final boolean turnFreeOnly) {
+      int maxSuccess = ConcoctionSolver.this.nodes[root].initial();
+      int minFailure = Integer.MAX_VALUE;
+      int guess = maxSuccess + 1;
+
+      while (true) {
+        int res = this.canMake(root, guess, turnFreeOnly);
+
+        if (res >= guess) {
+          maxSuccess = guess;
+        } else {
+          minFailure = guess;
+          res = Math.max(res, (maxSuccess + minFailure) / 2);
+        }
+
+        if (maxSuccess + 1 >= minFailure) break;
+
+        guess = Math.min(Math.max(res, maxSuccess + 1), minFailure - 1);
+        this.clear(false);
+      }
+
+      this.clear(true);
+      return maxSuccess;
+    }
+
+    private void clear(final boolean forget) {
+      for (int i = 0; i < this.visitedCount; ++i) {
+        int index = this.visitedList[i];
+        this.allocated[index] = 0;
+        if (forget) {
+          this.visited[index] = false;
+        }
+      }
+
+      if (forget) {
+        this.visitedCount = 0;
+      }
+    }
+
+    private int canMake(final int index, final int requested, final boolean turnFreeOnly) {
+      Node node = ConcoctionSolver.this.nodes[index];
+
+      if (!this.visited[index]) {
+        this.visited[index] = true;
+        this.visitedList[this.visitedCount++] = index;
+      }
+
+      int alreadyHave = node.initial() - this.allocated[index];
+      if (alreadyHave < 0 || requested <= 0) {
+        return 0;
+      }
+
+      this.allocated[index] += requested;
+      int needToMake = requested - alreadyHave;
+      if (needToMake > 0 && node.price() > 0) {
+        int buyable =
+            (int)
+                (this.canMake(
+                        ConcoctionSolver.this.meat,
+                        (int) Math.min(needToMake * node.price(), Integer.MAX_VALUE),
+                        turnFreeOnly)
+                    / node.price());
+        alreadyHave += buyable;
+        buyable = Math.min(buyable, needToMake);
+        this.allocated[index] -= buyable;
+        needToMake -= buyable;
+      }
+
+      switch (node.stop()) {
+        case HAVE_PLUS:
+          return alreadyHave + node.stopExtra();
+        case EXACTLY:
+          return node.stopExtra();
+      }
+
+      if (needToMake <= 0) {
+        return alreadyHave;
+      }
+
+      int yield = node.yield();
+      needToMake = (needToMake + yield - 1) / yield;
+      int minMake = Integer.MAX_VALUE;
+
+      int[] ingredients = node.ingredients();
+      int[] counts = node.counts();
+      for (int i = 0; minMake > 0 && i < ingredients.length; ++i) {
+        int count = counts[i];
+        if (count == 0) {
+          minMake = ConcoctionSolver.this.nodes[ingredients[i]].initial();
+          break;
+        }
+
+        int made = this.canMake(ingredients[i], needToMake * count, turnFreeOnly);
+        minMake = Math.min(minMake, made / count);
+      }
+
+      // Implicit meat paste is never limited to turn-free creations, as in canMake
+      if (minMake > 0 && node.paste() >= 0) {
+        minMake = Math.min(minMake, this.canMake(node.paste(), needToMake, false));
+      }
+
+      int advs = node.adventures();
+      if (minMake > 0 && advs != 0) {
+        int limit = turnFreeOnly ? node.turnFreeLimit() : node.adventureLimit();
+        minMake = Math.min(minMake, this.canMake(limit, needToMake * advs, turnFreeOnly) / advs);
+      }
+
+      if (minMake > 0) {
+        if (node.limit() >= 0) {
+          minMake = Math.min(minMake, this.canMake(node.limit(), needToMake, turnFreeOnly));
+        }
+
+        switch (node.finish()) {
+          case HAVE_PLUS:
+            return alreadyHave + node.finishExtra();
+          case EXACTLY:
+            return node.finishExtra();
+        }
+      }
+
+      this.allocated[index] -= Math.min(minMake, needToMake) * yield;
+      return alreadyHave + minMake * yield;
+    }
+  }
+}
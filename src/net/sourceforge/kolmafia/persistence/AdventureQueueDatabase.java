@@ -3,22 +3,17 @@ package net.sourceforge.kolmafia.persistence;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serial;
-import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import net.sourceforge.kolmafia.AreaCombatData;
 import net.sourceforge.kolmafia.KoLAdventure;
-import net.sourceforge.kolmafia.KoLCharacter;
-import net.sourceforge.kolmafia.KoLConstants;
 import net.sourceforge.kolmafia.MonsterData;
 import net.sourceforge.kolmafia.RequestLogger;
 import net.sourceforge.kolmafia.session.CrystalBallManager;
@@ -27,52 +22,49 @@ import net.sourceforge.kolmafia.session.TrackManager;
 import net.sourceforge.kolmafia.utilities.RollingLinkedList;
 
 /*
- * Instead of packing and unpacking a giant treemap into user preference files, this is a way of persisting a variable across sessions.
- * Uses the Java Serializable interface.
+ * Remembers the last few combat and noncombat encounters in each zone, which the game uses to
+ * reject repeat encounters.
+ *
+ * Encounter names are interned to small ints, so each zone's queue is a tiny ring of ints and
+ * queue-aware appearance rates compare numbers rather than strings. The queues are persisted in
+ * <username>_queue.dat, an EncounterLog which is appended to with every encounter and compacted
+ * on logout.
  */
 
-public class AdventureQueueDatabase implements Serializable {
-  @Serial private static final long serialVersionUID = -180241952508113931L;
+public class AdventureQueueDatabase {
+  private static final int QUEUE_LENGTH = 5;
 
-  private static TreeMap<String, RollingLinkedList<String>> COMBAT_QUEUE = new TreeMap<>();
-  private static TreeMap<String, RollingLinkedList<String>> NONCOMBAT_QUEUE = new TreeMap<>();
+  private static final int COMBAT = 'C';
+  private static final int NONCOMBAT = 'N';
+
+  private static final EncounterLog LOG = new EncounterLog("queue.dat");
+  private static final String LEGACY_SUFFIX = "queue.ser";
+
+  private static final Names NAMES = new Names();
+
+  private static Map<String, ZoneQueue> COMBAT_QUEUE = new ConcurrentHashMap<>();
+  private static Map<String, ZoneQueue> NONCOMBAT_QUEUE = new ConcurrentHashMap<>();
 
   // for testing only, otherwise leave at true;
   public static boolean allowSerializationWrite = true;
 
   // debugging tool
   public static void showQueue() {
-    Set<String> keys = COMBAT_QUEUE.keySet();
-
-    for (String key : keys) {
-      RollingLinkedList<String> zoneQueue = COMBAT_QUEUE.get(key);
-
-      StringBuilder builder = new StringBuilder(key + ": ");
-
-      for (String it : zoneQueue) {
-        if (it != null) {
-          builder.append(it);
-          builder.append(" | ");
-        }
-      }
-      RequestLogger.printLine(builder.toString());
-    }
+    AdventureQueueDatabase.showQueue(COMBAT_QUEUE);
 
     RequestLogger.printLine();
     RequestLogger.printLine("Noncombats:");
 
-    keys = NONCOMBAT_QUEUE.keySet();
-
-    for (String key : keys) {
-      RollingLinkedList<String> zoneQueue = NONCOMBAT_QUEUE.get(key);
+    AdventureQueueDatabase.showQueue(NONCOMBAT_QUEUE);
+  }
 
-      StringBuilder builder = new StringBuilder(key + ": ");
+  private static void showQueue(final Map<String, ZoneQueue> queues) {
+    for (Map.Entry<String, ZoneQueue> entry : new TreeMap<>(queues).entrySet()) {
+      StringBuilder builder = new StringBuilder(entry.getKey() + ": ");
 
-      for (String it : zoneQueue) {
-        if (it != null) {
-          builder.append(it);
-          builder.append(" | ");
-        }
+      for (String it : entry.getValue().toList()) {
+        builder.append(it);
+        builder.append(" | ");
       }
       RequestLogger.printLine(builder.toString());
     }
@@ -83,50 +75,25 @@ public class AdventureQueueDatabase implements Serializable {
   }
 
   private static void resetQueue(boolean serializeAfterwards) {
-    AdventureQueueDatabase.COMBAT_QUEUE = new TreeMap<>();
-    AdventureQueueDatabase.NONCOMBAT_QUEUE = new TreeMap<>();
+    Map<String, ZoneQueue> combats = new ConcurrentHashMap<>();
+    Map<String, ZoneQueue> noncombats = new ConcurrentHashMap<>();
 
     List<KoLAdventure> list = AdventureDatabase.getAsLockableListModel();
 
     for (KoLAdventure adv : list) {
-      AdventureQueueDatabase.COMBAT_QUEUE.put(adv.getAdventureName(), new RollingLinkedList<>(5));
-      AdventureQueueDatabase.NONCOMBAT_QUEUE.put(
-          adv.getAdventureName(), new RollingLinkedList<>(5));
+      combats.put(adv.getAdventureName(), new ZoneQueue());
+      noncombats.put(adv.getAdventureName(), new ZoneQueue());
     }
 
+    AdventureQueueDatabase.COMBAT_QUEUE = combats;
+    AdventureQueueDatabase.NONCOMBAT_QUEUE = noncombats;
+    AreaCombatData.invalidateAppearanceRates();
+
     if (serializeAfterwards) {
       AdventureQueueDatabase.serialize();
     }
   }
 
-  private static boolean checkZones() {
-    // See if any zones aren't in the TreeMap.  Add them if so.
-
-    List<KoLAdventure> list = AdventureDatabase.getAsLockableListModel();
-    Set<String> keys = COMBAT_QUEUE.keySet();
-
-    boolean keyAdded = false;
-
-    for (KoLAdventure adv : list) {
-      if (!keys.contains(adv.getAdventureName())) {
-        AdventureQueueDatabase.COMBAT_QUEUE.put(adv.getAdventureName(), new RollingLinkedList<>(5));
-        keyAdded = true;
-      }
-    }
-
-    keys = NONCOMBAT_QUEUE.keySet();
-
-    for (KoLAdventure adv : list) {
-      if (!keys.contains(adv.getAdventureName())) {
-        AdventureQueueDatabase.NONCOMBAT_QUEUE.put(
-            adv.getAdventureName(), new RollingLinkedList<>(5));
-        keyAdded = true;
-      }
-    }
-
-    return keyAdded;
-  }
-
   public static void enqueue(KoLAdventure adv, String monster) {
     if (adv == null || monster == null) return;
     AdventureQueueDatabase.enqueue(adv.getAdventureName(), monster);
@@ -140,7 +107,7 @@ public class AdventureQueueDatabase implements Serializable {
   public static void enqueue(String adventureName, String monster) {
     if (adventureName == null || monster == null) return;
 
-    RollingLinkedList<String> zoneQueue = COMBAT_QUEUE.get(adventureName);
+    ZoneQueue zoneQueue = COMBAT_QUEUE.get(adventureName);
 
     if (zoneQueue == null) return;
 
@@ -157,100 +124,167 @@ public class AdventureQueueDatabase implements Serializable {
       if (mon == null) return;
     }
 
-    zoneQueue.add(mon.getName());
+    zoneQueue.add(NAMES.intern(mon.getName()));
+    AreaCombatData.invalidateAppearanceRates();
+    AdventureQueueDatabase.log(COMBAT, adventureName, mon.getName());
   }
 
   public static void enqueueNoncombat(String noncombatAdventureName, String name) {
     if (noncombatAdventureName == null) return;
 
-    RollingLinkedList<String> zoneQueue = NONCOMBAT_QUEUE.get(noncombatAdventureName);
+    ZoneQueue zoneQueue = NONCOMBAT_QUEUE.get(noncombatAdventureName);
 
     if (zoneQueue == null) return;
 
-    zoneQueue.add(name);
+    zoneQueue.add(NAMES.intern(name));
+    AreaCombatData.invalidateAppearanceRates();
+    AdventureQueueDatabase.log(NONCOMBAT, noncombatAdventureName, name);
   }
 
-  public static RollingLinkedList<String> getZoneQueue(KoLAdventure adv) {
+  public static List<String> getZoneQueue(KoLAdventure adv) {
     return AdventureQueueDatabase.getZoneQueue(adv.getAdventureName());
   }
 
-  public static RollingLinkedList<String> getZoneQueue(String adv) {
-    return COMBAT_QUEUE.get(adv);
+  public static List<String> getZoneQueue(String adv) {
+    ZoneQueue zoneQueue = COMBAT_QUEUE.get(adv);
+    return zoneQueue == null ? null : zoneQueue.toList();
   }
 
-  public static RollingLinkedList<String> getZoneNoncombatQueue(KoLAdventure adv) {
+  public static List<String> getZoneNoncombatQueue(KoLAdventure adv) {
     return AdventureQueueDatabase.getZoneNoncombatQueue(adv.getAdventureName());
   }
 
-  public static RollingLinkedList<String> getZoneNoncombatQueue(String adv) {
-    return NONCOMBAT_QUEUE.get(adv);
+  public static List<String> getZoneNoncombatQueue(String adv) {
+    ZoneQueue zoneQueue = NONCOMBAT_QUEUE.get(adv);
+    return zoneQueue == null ? null : zoneQueue.toList();
+  }
+
+  private static void log(final int tag, final String zone, final String name) {
+    if (!allowSerializationWrite) return;
+
+    boolean appended =
+        LOG.append(
+            out -> {
+              out.writeTag(tag);
+              out.writeString(zone);
+              out.writeString(name);
+            });
+
+    if (!appended) {
+      AdventureQueueDatabase.serialize();
+    }
   }
 
+  /*
+   * Rewrites <username>_queue.dat with just the current queues, dropping older encounters
+   */
   public static void serialize() {
     if (!allowSerializationWrite) return;
-    File file =
-        new File(KoLConstants.DATA_LOCATION, KoLCharacter.baseUserName() + "_" + "queue.ser");
-
-    try {
-      FileOutputStream fileOut = new FileOutputStream(file);
-      ObjectOutputStream out = new ObjectOutputStream(fileOut);
-
-      // make a collection with combat queue first
-      List<TreeMap<String, RollingLinkedList<String>>> queues = new ArrayList<>();
-      queues.add(COMBAT_QUEUE);
-      queues.add(NONCOMBAT_QUEUE);
-      out.writeObject(queues);
-      out.close();
-    } catch (IOException e) {
-      e.printStackTrace();
+    AdventureQueueDatabase.compact();
+  }
+
+  private static boolean compact() {
+    return LOG.rewrite(
+        out -> {
+          AdventureQueueDatabase.write(out, COMBAT, COMBAT_QUEUE);
+          AdventureQueueDatabase.write(out, NONCOMBAT, NONCOMBAT_QUEUE);
+        });
+  }
+
+  private static void write(
+      final EncounterLog.Output out, final int tag, final Map<String, ZoneQueue> queues)
+      throws IOException {
+    for (Map.Entry<String, ZoneQueue> entry : queues.entrySet()) {
+      for (String name : entry.getValue().toList()) {
+        out.writeTag(tag);
+        out.writeString(entry.getKey());
+        out.writeString(name);
+      }
     }
   }
 
   /*
-   * Attempts to load saved adventure queue settings from <username>_queue.ser
+   * Attempts to load saved adventure queue settings from <username>_queue.dat, or from the
+   * <username>_queue.ser written by older versions
    */
-  @SuppressWarnings("unchecked")
   public static void deserialize() {
-    File file =
-        new File(KoLConstants.DATA_LOCATION, KoLCharacter.baseUserName() + "_" + "queue.ser");
+    // Start with an empty queue for every zone, so zones added since the last save are present
+    // and zones which no longer exist are dropped
+    AdventureQueueDatabase.resetQueue(false);
 
-    if (!file.exists()) {
-      AdventureQueueDatabase.resetQueue(false);
+    if (LOG.replay(AdventureQueueDatabase::replay)) {
+      if (allowSerializationWrite) {
+        AdventureQueueDatabase.compact();
+      }
       return;
     }
-    try {
-      FileInputStream fileIn = new FileInputStream(file);
-      ObjectInputStream in = new ObjectInputStream(fileIn);
 
+    File legacy = EncounterLog.getFile(LEGACY_SUFFIX);
+    if (legacy.exists()
+        && AdventureQueueDatabase.readLegacy(legacy)
+        && allowSerializationWrite
+        && AdventureQueueDatabase.compact()) {
+      legacy.delete();
+    }
+  }
+
+  private static void replay(final int tag, final EncounterLog.Input in) throws IOException {
+    Map<String, ZoneQueue> queues =
+        switch (tag) {
+          case COMBAT -> COMBAT_QUEUE;
+          case NONCOMBAT -> NONCOMBAT_QUEUE;
+          default -> throw new IOException("Unknown record " + tag);
+        };
+
+    String zone = in.readString();
+    String name = in.readString();
+
+    ZoneQueue zoneQueue = queues.get(zone);
+    if (zoneQueue != null) {
+      zoneQueue.add(NAMES.intern(name));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean readLegacy(final File file) {
+    try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
       List<TreeMap<String, RollingLinkedList<String>>> queues =
           (List<TreeMap<String, RollingLinkedList<String>>>) in.readObject();
 
       // Combat queue is first
-      COMBAT_QUEUE = queues.get(0);
-      NONCOMBAT_QUEUE = queues.get(1);
-
-      in.close();
-
-      // after successfully loading, check if there were new zones added that aren't yet in the
-      // TreeMap.
-      AdventureQueueDatabase.checkZones();
-    } catch (FileNotFoundException e) {
-      AdventureQueueDatabase.resetQueue(false);
+      AdventureQueueDatabase.readLegacy(queues.get(0), COMBAT_QUEUE);
+      AdventureQueueDatabase.readLegacy(queues.get(1), NONCOMBAT_QUEUE);
+      return true;
     } catch (ClassNotFoundException | EOFException | ClassCastException e) {
       // Found the file, but the contents did not contain a properly-serialized treemap or
       // old version of the combat queue handling or some other kind of malformed data.
       // Wipe the bogus file.
       file.delete();
-      AdventureQueueDatabase.resetQueue();
     } catch (IOException e) {
       e.printStackTrace();
     }
+    return false;
+  }
+
+  private static void readLegacy(
+      final Map<String, RollingLinkedList<String>> legacy, final Map<String, ZoneQueue> queues) {
+    for (Map.Entry<String, RollingLinkedList<String>> entry : legacy.entrySet()) {
+      ZoneQueue zoneQueue = queues.get(entry.getKey());
+      if (zoneQueue == null) {
+        continue;
+      }
+      for (String name : entry.getValue()) {
+        if (name != null) {
+          zoneQueue.add(NAMES.intern(name));
+        }
+      }
+    }
   }
 
   public static double applyQueueEffects(
       double numerator, MonsterData monster, AreaCombatData data) {
     String zone = data.getZone();
-    RollingLinkedList<String> zoneQueue = getZoneQueue(zone);
+    ZoneQueue zoneQueue = COMBAT_QUEUE.get(zone);
 
     if (EncounterManager.isSaberForceZone(zone)) {
       return EncounterManager.isSaberForceMonster(monster, zone) ? 100.0 : 0.0;
@@ -272,15 +306,15 @@ public class AdventureQueueDatabase implements Serializable {
     // a = weight of monsters in the zone
     // b = weight of monsters in the queue
 
-    HashSet<String> zoneSet = new HashSet<>(zoneQueue); // just care about unique elements
+    int[] queued = zoneQueue.toDistinctArray(); // just care about unique elements
 
     // Ignore monsters in the queue that aren't actually part of the zone's normal monster list
     // This includes monsters that have special conditions to find and wandering monsters
     // that are not part of the location at all
     // Ignore olfacted, long conned, or motifed monsters, as these are never rejected
     int queueWeight = 0;
-    for (String mon : zoneSet) {
-      MonsterData queueMonster = MonsterDatabase.findMonster(mon);
+    for (int id : queued) {
+      MonsterData queueMonster = NAMES.monster(id);
       if (queueMonster == null) {
         continue;
       }
@@ -290,10 +324,99 @@ public class AdventureQueueDatabase implements Serializable {
       }
     }
 
+    int id = NAMES.find(monster.getName());
+    boolean inQueue = false;
+    for (int queuedId : queued) {
+      if (queuedId == id) {
+        inQueue = true;
+        break;
+      }
+    }
+
     boolean olfacted = TrackManager.isQueueIgnored(monster.getName());
-    double newNumerator = numerator * (zoneQueue.contains(monster.getName()) && !olfacted ? 1 : 4);
+    double newNumerator = numerator * (inQueue && !olfacted ? 1 : 4);
     double newDenominator = (4 * denominator - 3 * queueWeight);
 
     return newNumerator / newDenominator;
   }
+
+  /** Encounter names, numbered in the order they were first seen this session. */
+  private static final class Names {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<MonsterData> monsters = new ArrayList<>();
+
+    synchronized int intern(final String name) {
+      Integer id = this.ids.get(name);
+      if (id == null) {
+        id = this.names.size();
+        this.ids.put(name, id);
+        this.names.add(name);
+        this.monsters.add(null);
+      }
+      return id;
+    }
+
+    synchronized int find(final String name) {
+      return this.ids.getOrDefault(name, -1);
+    }
+
+    synchronized String name(final int id) {
+      return this.names.get(id);
+    }
+
+    synchronized MonsterData monster(final int id) {
+      MonsterData monster = this.monsters.get(id);
+      if (monster == null) {
+        monster = MonsterDatabase.findMonster(this.names.get(id));
+        this.monsters.set(id, monster);
+      }
+      return monster;
+    }
+  }
+
+  /** The last few encounters in a zone, oldest first. */
+  private static final class ZoneQueue {
+    private final int[] ids = new int[QUEUE_LENGTH];
+    private int first = 0;
+    private int size = 0;
+
+    synchronized void add(final int id) {
+      if (this.size < QUEUE_LENGTH) {
+        this.ids[(this.first + this.size++) % QUEUE_LENGTH] = id;
+      } else {
+        this.ids[this.first] = id;
+        this.first = (this.first + 1) % QUEUE_LENGTH;
+      }
+    }
+
+    synchronized int[] toArray() {
+      int[] result = new int[this.size];
+      for (int i = 0; i < this.size; ++i) {
+        result[i] = this.ids[(this.first + i) % QUEUE_LENGTH];
+      }
+      return result;
+    }
+
+    int[] toDistinctArray() {
+      int[] all = this.toArray();
+      int count = 0;
+      outer:
+      for (int id : all) {
+        for (int i = 0; i < count; ++i) {
+          if (all[i] == id) continue outer;
+        }
+        all[count++] = id;
+      }
+      return count == all.length ? all : Arrays.copyOf(all, count);
+    }
+
+    List<String> toList() {
+      List<String> result = new ArrayList<>(QUEUE_LENGTH);
+      for (int id : this.toArray()) {
+        result.add(NAMES.name(id));
+      }
+      return result;
+    }
+  }
 }
@@ -2,31 +2,31 @@ package net.sourceforge.kolmafia.persistence;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serial;
-import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import net.sourceforge.kolmafia.AreaCombatData;
 import net.sourceforge.kolmafia.KoLAdventure;
-import net.sourceforge.kolmafia.KoLCharacter;
-import net.sourceforge.kolmafia.KoLConstants;
 import net.sourceforge.kolmafia.RequestLogger;
 import net.sourceforge.kolmafia.request.FightRequest;
 
 /*
- * Instead of packing and unpacking a giant map into user preference files,
- * this is a way of persisting a variable across sessions.
- * Uses the Java Serializable interface.
+ * Counts the turns spent in each zone this ascension.
+ *
+ * The counts are persisted in <username>_turns.dat, an EncounterLog which is appended to with
+ * every turn and compacted on logout.
  */
 
-public class AdventureSpentDatabase implements Serializable {
-  @Serial private static final long serialVersionUID = -180241952508113933L;
+public class AdventureSpentDatabase {
+  private static final int ADD = 'A';
+  private static final int SET = 'S';
+
+  private static final EncounterLog LOG = new EncounterLog("turns.dat");
+  private static final String LEGACY_SUFFIX = "turns.ser";
+
   private static Map<String, Integer> TURNS = new TreeMap<>();
 
   // Including free-fights, free-runs, delay burning turns, across all zones
@@ -62,30 +62,13 @@ public class AdventureSpentDatabase implements Serializable {
     for (KoLAdventure adv : list) {
       AdventureSpentDatabase.TURNS.put(adv.getAdventureName(), 0);
     }
+    AreaCombatData.invalidateAppearanceRates();
 
     if (serializeAfterwards) {
       AdventureSpentDatabase.serialize();
     }
   }
 
-  private static boolean checkZones() {
-    // See if any zones aren't in the Map.  Add them if so.
-
-    List<KoLAdventure> list = AdventureDatabase.getAsLockableListModel();
-    Set<String> keys = TURNS.keySet();
-
-    boolean keyAdded = false;
-
-    for (KoLAdventure adv : list) {
-      if (!keys.contains(adv.getAdventureName())) {
-        AdventureSpentDatabase.TURNS.put(adv.getAdventureName(), 0);
-        keyAdded = true;
-      }
-    }
-
-    return keyAdded;
-  }
-
   public static void addTurn(KoLAdventure adv) {
     if (FightRequest.edFightInProgress()) {
       return;
@@ -104,6 +87,12 @@ public class AdventureSpentDatabase implements Serializable {
     int turns = AdventureSpentDatabase.TURNS.getOrDefault(loc, 0);
     AdventureSpentDatabase.TURNS.put(loc, turns + 1);
     totalTrackedTurns = totalTrackedTurns + 1;
+    AreaCombatData.invalidateAppearanceRates();
+    AdventureSpentDatabase.log(
+        out -> {
+          out.writeTag(ADD);
+          out.writeString(loc);
+        });
   }
 
   public static void setTurns(KoLAdventure adv, final int turns) {
@@ -124,6 +113,13 @@ public class AdventureSpentDatabase implements Serializable {
     int prevTurns = AdventureSpentDatabase.TURNS.getOrDefault(loc, 0);
     AdventureSpentDatabase.TURNS.put(loc, turns);
     totalTrackedTurns = totalTrackedTurns + (turns - prevTurns);
+    AreaCombatData.invalidateAppearanceRates();
+    AdventureSpentDatabase.log(
+        out -> {
+          out.writeTag(SET);
+          out.writeString(loc);
+          out.writeInt(turns);
+        });
   }
 
   public static int getTurns(KoLAdventure adv) {
@@ -152,58 +148,85 @@ public class AdventureSpentDatabase implements Serializable {
     return totalTrackedTurns;
   }
 
+  /*
+   * Rewrites <username>_turns.dat with just the current totals
+   */
   public static void serialize() {
     if (!allowSerializationWrite) return;
-    File file =
-        new File(KoLConstants.DATA_LOCATION, KoLCharacter.baseUserName() + "_" + "turns.ser");
+    AdventureSpentDatabase.compact();
+  }
 
-    try {
-      FileOutputStream fileOut = new FileOutputStream(file);
-      ObjectOutputStream out = new ObjectOutputStream(fileOut);
+  private static boolean compact() {
+    return LOG.rewrite(
+        out -> {
+          for (Map.Entry<String, Integer> entry : TURNS.entrySet()) {
+            if (entry.getValue() != 0) {
+              out.writeTag(SET);
+              out.writeString(entry.getKey());
+              out.writeInt(entry.getValue());
+            }
+          }
+        });
+  }
 
-      out.writeObject(AdventureSpentDatabase.TURNS);
-      out.close();
-    } catch (IOException e) {
-      e.printStackTrace();
+  private static void log(final EncounterLog.Writer writer) {
+    if (!allowSerializationWrite) return;
+
+    if (!LOG.append(writer)) {
+      AdventureSpentDatabase.serialize();
     }
   }
 
   /*
-   * Attempts to load saved adventure spent settings from <username>_turns.ser
+   * Attempts to load saved turn counts from <username>_turns.dat, or from the <username>_turns.ser
+   * written by older versions
    */
   public static void deserialize() {
-    File file =
-        new File(KoLConstants.DATA_LOCATION, KoLCharacter.baseUserName() + "_" + "turns.ser");
+    // Start with every zone at zero, so zones added since the last save are present
+    AdventureSpentDatabase.resetTurns(false);
 
-    if (!file.exists()) {
-      AdventureSpentDatabase.resetTurns(false);
-      return;
+    if (LOG.replay(AdventureSpentDatabase::replay)) {
+      if (allowSerializationWrite) {
+        AdventureSpentDatabase.compact();
+      }
+    } else {
+      File legacy = EncounterLog.getFile(LEGACY_SUFFIX);
+      if (legacy.exists()
+          && AdventureSpentDatabase.readLegacy(legacy)
+          && allowSerializationWrite
+          && AdventureSpentDatabase.compact()) {
+        legacy.delete();
+      }
     }
-    try {
-      FileInputStream fileIn = new FileInputStream(file);
-      ObjectInputStream in = new ObjectInputStream(fileIn);
-
-      AdventureSpentDatabase.TURNS = (TreeMap<String, Integer>) in.readObject();
 
-      in.close();
+    // set totalTrackedTurns to the combined total of all zones
+    totalTrackedTurns = AdventureSpentDatabase.TURNS.values().stream().reduce(0, Integer::sum);
+    AreaCombatData.invalidateAppearanceRates();
+  }
 
-      // after successfully loading, check if there were new zones added that aren't yet in the
-      // TreeMap.
-      AdventureSpentDatabase.checkZones();
+  private static void replay(final int tag, final EncounterLog.Input in) throws IOException {
+    String loc = in.readString();
+    switch (tag) {
+      case ADD -> AdventureSpentDatabase.TURNS.merge(loc, 1, Integer::sum);
+      case SET -> AdventureSpentDatabase.TURNS.put(loc, in.readInt());
+      default -> throw new IOException("Unknown record " + tag);
+    }
+  }
 
-      // set totalTrackedTurns to the combined total of all zones
-      totalTrackedTurns = AdventureSpentDatabase.TURNS.values().stream().reduce(0, Integer::sum);
-    } catch (FileNotFoundException e) {
-      AdventureSpentDatabase.resetTurns(false);
+  @SuppressWarnings("unchecked")
+  private static boolean readLegacy(final File file) {
+    try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
+      AdventureSpentDatabase.TURNS.putAll((TreeMap<String, Integer>) in.readObject());
+      return true;
     } catch (ClassNotFoundException | ClassCastException e) {
       // Found the file, but the contents did not contain a properly-serialized treemap or
       // old version of the combat queue handling.
       // Wipe the bogus file.
       file.delete();
-      AdventureSpentDatabase.resetTurns();
     } catch (IOException e) {
       e.printStackTrace();
     }
+    return false;
   }
 
   public static int getLastTurnUpdated() {
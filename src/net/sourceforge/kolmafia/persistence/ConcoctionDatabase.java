@@ -38,6 +38,7 @@ import net.sourceforge.kolmafia.equipment.Slot;
 import net.sourceforge.kolmafia.listener.NamedListenerRegistry;
 import net.sourceforge.kolmafia.objectpool.Concoction;
 import net.sourceforge.kolmafia.objectpool.ConcoctionPool;
+import net.sourceforge.kolmafia.objectpool.ConcoctionSolver;
 import net.sourceforge.kolmafia.objectpool.ConcoctionType;
 import net.sourceforge.kolmafia.objectpool.EffectPool;
 import net.sourceforge.kolmafia.objectpool.FamiliarPool;
@@ -1321,9 +1322,14 @@ public class ConcoctionDatabase {
     // created any other way, making sure that it's a permitted
     // mixture before doing the calculation.
 
-    for (Concoction item : ConcoctionPool.concoctions()) {
-      item.calculate2();
-      item.calculate3();
+    if (Concoction.debugId == Integer.MAX_VALUE) {
+      ConcoctionSolver.solve(ConcoctionPool.concoctions());
+    } else {
+      // debugcreate traces the search as Concoction makes it
+      for (Concoction item : ConcoctionPool.concoctions()) {
+        item.calculate2();
+        item.calculate3();
+      }
     }
 
     // Now, to update the list of creatables without removing
@@ -285,7 +285,8 @@ public class DebugDatabase {
       return;
     }
 
-    String rawText = DebugDatabase.rawItemDescriptionText(itemId);
+    String rawText =
+        DebugDatabase.rawItemDescriptionText(ItemDatabase.getDescriptionId(itemId), false, true);
 
     if (rawText == null) {
       report.println("# *** " + name + " (" + itemId + ") has no description.");
@@ -455,6 +456,12 @@ public class DebugDatabase {
   }
 
   public static String rawItemDescriptionText(final String descId, boolean forceReload) {
+    return DebugDatabase.rawItemDescriptionText(descId, forceReload, false);
+  }
+
+  // When checking the data files, a description saved by an earlier session will do
+  private static String rawItemDescriptionText(
+      final String descId, boolean forceReload, final boolean cached) {
     if (descId == null) {
       return "";
     }
@@ -469,6 +476,7 @@ public class DebugDatabase {
 
     GenericRequest request = new GenericRequest("desc_item.php");
     request.addFormField("whichitem", descId);
+    request.useDescriptionCache = cached;
     RequestThread.postRequest(request);
     if (itemId == -1) {
       itemId = DebugDatabase.parseItemId(request.responseText);
@@ -1607,7 +1615,7 @@ public class DebugDatabase {
       return;
     }
 
-    String rawText = DebugDatabase.rawOutfitDescriptionText(outfitId);
+    String rawText = DebugDatabase.rawOutfitDescriptionText(outfitId, true);
 
     if (rawText == null) {
       report.println("# *** " + name + " (" + outfitId + ") has no description.");
@@ -1646,19 +1654,28 @@ public class DebugDatabase {
   }
 
   public static String readOutfitDescriptionText(final int outfitId) {
+    return DebugDatabase.readOutfitDescriptionText(outfitId, false);
+  }
+
+  private static String readOutfitDescriptionText(final int outfitId, final boolean cached) {
     GenericRequest request = new GenericRequest("desc_outfit.php");
     request.addFormField("whichoutfit", String.valueOf(outfitId));
+    request.useDescriptionCache = cached;
     RequestThread.postRequest(request);
     return request.responseText;
   }
 
   public static String rawOutfitDescriptionText(final int outfitId) {
+    return DebugDatabase.rawOutfitDescriptionText(outfitId, false);
+  }
+
+  private static String rawOutfitDescriptionText(final int outfitId, final boolean cached) {
     String previous = DebugDatabase.rawOutfits.get(outfitId);
     if (previous != null && !previous.isEmpty()) {
       return previous;
     }
 
-    String text = DebugDatabase.readOutfitDescriptionText(outfitId);
+    String text = DebugDatabase.readOutfitDescriptionText(outfitId, cached);
     DebugDatabase.rawOutfits.put(outfitId, text);
 
     return text;
@@ -1783,7 +1800,7 @@ public class DebugDatabase {
       return;
     }
 
-    String rawText = DebugDatabase.rawEffectDescriptionText(effectId);
+    String rawText = DebugDatabase.rawEffectDescriptionText(effectId, true);
 
     if (rawText == null) {
       report.println("# *** " + name + " (" + effectId + ") has no description.");
@@ -1859,7 +1876,8 @@ public class DebugDatabase {
   }
 
   public static String effectDescriptionText(final int effectId) {
-    return DebugDatabase.effectDescriptionText(DebugDatabase.rawEffectDescriptionText(effectId));
+    return DebugDatabase.effectDescriptionText(
+        DebugDatabase.rawEffectDescriptionText(effectId, false));
   }
 
   public static String readEffectDescriptionText(final int effectId) {
@@ -1871,13 +1889,18 @@ public class DebugDatabase {
   }
 
   public static String readEffectDescriptionText(final String descId) {
+    return DebugDatabase.readEffectDescriptionText(descId, false);
+  }
+
+  private static String readEffectDescriptionText(final String descId, final boolean cached) {
     GenericRequest request = new GenericRequest("desc_effect.php");
     request.addFormField("whicheffect", descId);
+    request.useDescriptionCache = cached;
     RequestThread.postRequest(request);
     return request.responseText;
   }
 
-  private static String rawEffectDescriptionText(final int effectId) {
+  private static String rawEffectDescriptionText(final int effectId, final boolean cached) {
     String descId = EffectDatabase.getDescriptionId(effectId);
     if (descId == null || descId.isEmpty()) {
       return null;
@@ -1888,7 +1911,7 @@ public class DebugDatabase {
       return previous;
     }
 
-    String text = DebugDatabase.readEffectDescriptionText(descId);
+    String text = DebugDatabase.readEffectDescriptionText(descId, cached);
     DebugDatabase.rawEffects.put(effectId, text);
 
     return text;
@@ -2023,7 +2046,7 @@ public class DebugDatabase {
       return;
     }
 
-    String rawText = DebugDatabase.rawSkillDescriptionText(skillId);
+    String rawText = DebugDatabase.rawSkillDescriptionText(skillId, true);
 
     if (rawText == null) {
       report.println("# *** " + name + " (" + skillId + ") has no description.");
@@ -2096,24 +2119,30 @@ public class DebugDatabase {
   }
 
   public static String skillDescriptionText(final int skillId) {
-    return DebugDatabase.skillDescriptionText(DebugDatabase.rawSkillDescriptionText(skillId));
+    return DebugDatabase.skillDescriptionText(
+        DebugDatabase.rawSkillDescriptionText(skillId, false));
   }
 
   public static String readSkillDescriptionText(final int skillId) {
+    return DebugDatabase.readSkillDescriptionText(skillId, false);
+  }
+
+  private static String readSkillDescriptionText(final int skillId, final boolean cached) {
     GenericRequest request = new GenericRequest("desc_skill.php");
     request.addFormField("whichskill", String.valueOf(skillId));
     request.addFormField("self", "true");
+    request.useDescriptionCache = cached;
     RequestThread.postRequest(request);
     return request.responseText;
   }
 
-  private static String rawSkillDescriptionText(final int skillId) {
+  private static String rawSkillDescriptionText(final int skillId, final boolean cached) {
     String previous = DebugDatabase.rawSkills.get(skillId);
     if (previous != null && !previous.isEmpty()) {
       return previous;
     }
 
-    String text = DebugDatabase.readSkillDescriptionText(skillId);
+    String text = DebugDatabase.readSkillDescriptionText(skillId, cached);
     DebugDatabase.rawSkills.put(skillId, text);
 
     return text;
@@ -2748,7 +2777,9 @@ public class DebugDatabase {
       String effectName =
           ModifierDatabase.getStringModifier(ModifierType.ITEM, itemId, StringModifier.EFFECT);
       if (!effectName.isEmpty() && EffectDatabase.getEffectId(effectName, true) == -1) {
-        String rawText = DebugDatabase.rawItemDescriptionText(itemId);
+        String rawText =
+            DebugDatabase.rawItemDescriptionText(
+                ItemDatabase.getDescriptionId(itemId), false, true);
         String effectDescid = DebugDatabase.parseEffectDescid(rawText);
         EffectDatabase.registerEffect(effectName, effectDescid, "use 1 " + itemName);
       }
@@ -3184,6 +3215,7 @@ public class DebugDatabase {
   private static boolean checkFamiliarImage(final int id) {
     String file = "desc_familiar.php?which=" + id;
     GenericRequest request = new GenericRequest(file);
+    request.useDescriptionCache = true;
     RequestThread.postRequest(request);
     String text = request.responseText;
     if (text == null) {
@@ -0,0 +1,237 @@
+package net.sourceforge.kolmafia.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.StaticEntity;
+
+/*
+ * An append-only binary log for per-character adventure history, such as the adventure queue and
+ * turns spent per zone.
+ *
+ * A log is a short header followed by records. Each record is a tag byte and whatever fields the
+ * owner wrote after it. Strings are written once per file: the first use of a string writes a new
+ * symbol number followed by the string, and later uses write only the number. Appending a record
+ * for a single encounter therefore costs a handful of bytes, so owners append as encounters happen
+ * and a crash loses at most the record being written. Owners compact the log by rewriting it from
+ * their current state.
+ */
+
+final class EncounterLog {
+  private static final int MAGIC = 0x4B4D454C;
+  private static final int VERSION = 1;
+
+  interface Writer {
+    void write(Output out) throws IOException;
+  }
+
+  interface Reader {
+    void read(int tag, Input in) throws IOException;
+  }
+
+  static final class Output {
+    private final DataOutputStream out;
+    private final Map<String, Integer> symbols;
+
+    private Output(final DataOutputStream out, final Map<String, Integer> symbols) {
+      this.out = out;
+      this.symbols = symbols;
+    }
+
+    void writeTag(final int tag) throws IOException {
+      this.out.writeByte(tag);
+    }
+
+    void writeString(final String value) throws IOException {
+      Integer symbol = this.symbols.get(value);
+      if (symbol != null) {
+        writeVarInt(this.out, symbol);
+        return;
+      }
+
+      symbol = this.symbols.size();
+      writeVarInt(this.out, symbol);
+      this.out.writeUTF(value);
+      this.symbols.put(value, symbol);
+    }
+
+    void writeInt(final int value) throws IOException {
+      this.out.writeInt(value);
+    }
+  }
+
+  static final class Input {
+    private final DataInputStream in;
+    private final List<String> strings = new ArrayList<>();
+
+    private Input(final DataInputStream in) {
+      this.in = in;
+    }
+
+    String readString() throws IOException {
+      int symbol = readVarInt(this.in);
+      if (symbol < this.strings.size()) {
+        return this.strings.get(symbol);
+      }
+      if (symbol != this.strings.size()) {
+        throw new IOException("Undefined symbol " + symbol);
+      }
+
+      String value = this.in.readUTF();
+      this.strings.add(value);
+      return value;
+    }
+
+    int readInt() throws IOException {
+      return this.in.readInt();
+    }
+  }
+
+  private final String suffix;
+
+  // Symbols already written to the current file, which is null until it has been read or written
+  private final Map<String, Integer> symbols = new HashMap<>();
+  private File current = null;
+
+  EncounterLog(final String suffix) {
+    this.suffix = suffix;
+  }
+
+  File getFile() {
+    return getFile(this.suffix);
+  }
+
+  static File getFile(final String suffix) {
+    return new File(KoLConstants.DATA_LOCATION, KoLCharacter.baseUserName() + "_" + suffix);
+  }
+
+  /**
+   * Passes every record in the log to the reader, in the order they were written.
+   *
+   * @return false if there is no log for this character
+   */
+  synchronized boolean replay(final Reader reader) {
+    this.current = null;
+    this.symbols.clear();
+
+    File file = this.getFile();
+    if (!file.exists()) {
+      return false;
+    }
+
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+        return true;
+      }
+
+      Input input = new Input(in);
+      int tag;
+      while ((tag = in.read()) != -1) {
+        reader.read(tag, input);
+      }
+
+      // The whole file was understood, so appending to it can continue where it left off
+      for (int i = 0; i < input.strings.size(); ++i) {
+        this.symbols.put(input.strings.get(i), i);
+      }
+      this.current = file;
+    } catch (EOFException e) {
+      // The last record was cut short. Everything before it has been read,
+      // and the owner's next rewrite drops the fragment.
+    } catch (IOException e) {
+      StaticEntity.printStackTrace(e, "Unable to read " + file.getName());
+    }
+
+    return true;
+  }
+
+  /**
+   * Appends records to the log.
+   *
+   * @return false if the log on disk is not known to be intact, in which case nothing was written
+   *     and the owner should rewrite it instead
+   */
+  synchronized boolean append(final Writer writer) {
+    File file = this.getFile();
+    if (!file.equals(this.current)) {
+      return false;
+    }
+
+    // Symbols are only committed once the record is on disk
+    Map<String, Integer> symbols = new HashMap<>(this.symbols);
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+      writer.write(new Output(out, symbols));
+    } catch (IOException e) {
+      this.current = null;
+      StaticEntity.printStackTrace(e, "Unable to update " + file.getName());
+      return false;
+    }
+
+    this.symbols.putAll(symbols);
+    return true;
+  }
+
+  /** Replaces the log with the records written by the writer. */
+  synchronized boolean rewrite(final Writer writer) {
+    this.current = null;
+    this.symbols.clear();
+
+    File file = this.getFile();
+    File temp = new File(file.getPath() + ".tmp");
+    Map<String, Integer> symbols = new HashMap<>();
+
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        writer.write(new Output(out, symbols));
+      }
+      Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      temp.delete();
+      StaticEntity.printStackTrace(e, "Unable to write " + file.getName());
+      return false;
+    }
+
+    this.symbols.putAll(symbols);
+    this.current = file;
+    return true;
+  }
+
+  private static void writeVarInt(final DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(final DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed symbol");
+  }
+}
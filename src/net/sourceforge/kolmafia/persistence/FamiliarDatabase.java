@@ -701,12 +701,26 @@ public class FamiliarDatabase {
     return familiarId == null ? -1 : familiarId.intValue();
   }
 
+  /** Returns the URL of the familiar's image, or null if it has none. */
+  public static final String getFamiliarImageURL(final int familiarId) {
+    String location = FamiliarDatabase.getFamiliarImageLocation(familiarId);
+    return location.equals("debug.gif") ? null : FamiliarDatabase.getImageURL(location);
+  }
+
+  private static String getImagePath(final String location) {
+    return (location.contains("/") ? "" : "itemimages/") + location;
+  }
+
+  private static String getImageURL(final String location) {
+    return KoLmafia.imageServerPath() + FamiliarDatabase.getImagePath(location);
+  }
+
   private static ImageIcon getFamiliarIcon(final String location) {
     if (location == null || location.equals("debug.gif")) {
       return FamiliarDatabase.getNoFamiliarImage();
     }
-    String path = (location.contains("/") ? "" : "itemimages/") + location;
-    String url = KoLmafia.imageServerPath() + path;
+    String path = FamiliarDatabase.getImagePath(location);
+    String url = FamiliarDatabase.getImageURL(location);
     File file = FileUtilities.downloadImage(url);
     if (file == null) {
       return FamiliarDatabase.getNoFamiliarImage();
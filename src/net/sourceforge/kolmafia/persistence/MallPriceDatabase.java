@@ -37,6 +37,8 @@ public class MallPriceDatabase {
   // If false, blocks saving of mall prices. Do not modify outside of tests.
   public static boolean savePricesToFile = true;
 
+  // Mall searches made in parallel record prices from several threads at once, so the prices are
+  // only read or changed while holding the class lock.
   private static final SortedMap<Integer, Price> prices = new TreeMap<>();
   private static final HashSet<String> updated = new HashSet<>();
   private static final HashSet<String> submitted = new HashSet<>();
@@ -88,15 +90,18 @@ public class MallPriceDatabase {
         }
 
         if (!ItemDatabase.isTradeable(id)) continue;
-        Price p = MallPriceDatabase.prices.get(id);
-        if (p == null) {
-          MallPriceDatabase.prices.put(id, new Price(id, price, timestamp));
-          ++count;
-          ++MallPriceDatabase.modCount;
-        } else if (timestamp > p.timestamp) {
-          p.update(price, timestamp);
-          ++count;
-          ++MallPriceDatabase.modCount;
+        // The source may be slow to read, so hold the lock only while recording each price
+        synchronized (MallPriceDatabase.class) {
+          Price p = MallPriceDatabase.prices.get(id);
+          if (p == null) {
+            MallPriceDatabase.prices.put(id, new Price(id, price, timestamp));
+            ++count;
+            ++MallPriceDatabase.modCount;
+          } else if (timestamp > p.timestamp) {
+            p.update(price, timestamp);
+            ++count;
+            ++MallPriceDatabase.modCount;
+          }
         }
       }
     } catch (IOException e) {
@@ -144,7 +149,7 @@ public class MallPriceDatabase {
     }
   }
 
-  public static void recordPrice(int itemId, long price, boolean deferred) {
+  public static synchronized void recordPrice(int itemId, long price, boolean deferred) {
     long timestamp = MallPriceManager.currentTimeMillis() / 1000L;
     Price p = MallPriceDatabase.prices.get(itemId);
     if (p == null) {
@@ -158,7 +163,7 @@ public class MallPriceDatabase {
     }
   }
 
-  public static void writePrices() {
+  public static synchronized void writePrices() {
     if (!MallPriceDatabase.savePricesToFile) {
       return;
     }
@@ -170,7 +175,7 @@ public class MallPriceDatabase {
     }
   }
 
-  static void writePrices(PrintStream writer) {
+  static synchronized void writePrices(PrintStream writer) {
     writer.println(KoLConstants.MALLPRICES_VERSION);
 
     MallPriceDatabase.prices.entrySet().stream()
@@ -254,13 +259,13 @@ public class MallPriceDatabase {
     return builder.toString();
   }
 
-  public static long getPrice(int itemId) {
+  public static synchronized long getPrice(int itemId) {
     Price p = MallPriceDatabase.prices.get(itemId);
     return p == null ? 0 : p.price;
   }
 
   // Return age of price data, in fractional days
-  public static float getAge(int itemId) {
+  public static synchronized float getAge(int itemId) {
     Price p = MallPriceDatabase.prices.get(itemId);
     long now = MallPriceManager.currentTimeMillis() / 1000L;
     return p == null ? Float.POSITIVE_INFINITY : (now - p.timestamp) / 86400.0f;
@@ -75,6 +75,9 @@ public class ModifierDatabase {
   private static final Map<BitmapModifier, Integer> bitmapMasks =
       new EnumMap<>(BitmapModifier.class);
 
+  /** Counts changes to the modifiers of anything other than generated sources */
+  private static volatile int overrideGeneration = 0;
+
   // constant fields
 
   public static final String EXPR = "(?:([-+]?[\\d.]+)|\\[([^]]+)\\])";
@@ -1029,6 +1032,9 @@ public class ModifierDatabase {
       modifierStringsByName.put(lookup.type, lookup.getKey(), value.toString());
     }
     modifiersByName.put(lookup.type, lookup.getKey(), value);
+    if (lookup.type != ModifierType.GENERATED) {
+      overrideGeneration++;
+    }
   }
 
   public static void overrideRemoveModifier(final ModifierType type, final int key) {
@@ -1041,6 +1047,17 @@ public class ModifierDatabase {
 
   private static void overrideRemoveModifierInternal(final Lookup lookup) {
     modifiersByName.remove(lookup.type, lookup.getKey());
+    if (lookup.type != ModifierType.GENERATED) {
+      overrideGeneration++;
+    }
+  }
+
+  /**
+   * Returns a counter which changes whenever the modifiers of an item, effect, skill or other
+   * source not generated by KoLmafia are overridden or reset.
+   */
+  public static int getOverrideGeneration() {
+    return overrideGeneration;
   }
 
   public static final void updateItem(final int itemId, final String known) {
@@ -1560,6 +1577,7 @@ public class ModifierDatabase {
     // Don't reset any variables that are set up by loadAllModifiers, as subsequent calls to
     // resetModifiers then won't set them back up due to the if() guarding loadAllModifiers.
     modifiersByName.clear();
+    overrideGeneration++;
     Modifiers.resetAvailablePassiveSkills();
     for (var mod : BitmapModifier.BITMAP_MODIFIERS) {
       bitmapMasks.put(mod, 1);
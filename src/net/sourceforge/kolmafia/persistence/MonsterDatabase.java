@@ -5,6 +5,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -34,22 +35,26 @@ import net.sourceforge.kolmafia.utilities.LogStream;
 import net.sourceforge.kolmafia.utilities.StringUtilities;
 
 public class MonsterDatabase {
-  private static final Set<MonsterData> ALL_MONSTER_DATA = new TreeSet<>();
-  private static final Map<String, MonsterData> MONSTER_DATA = new TreeMap<>();
-  private static final Map<Integer, MonsterData> MONSTER_IDS = new TreeMap<>();
+  // Monsters are held as a compact index of rows. Lookups resolve a name, id
+  // or image to a row; the MonsterData for that row is only built from the
+  // raw monsters.txt line the first time something asks for it.
+  private static final MonsterIndex INDEX = new MonsterIndex();
+
+  private static final BitSet ALL_MONSTER_ROWS = new BitSet();
+  private static final Map<String, Integer> MONSTER_DATA = new TreeMap<>();
+  private static final Map<Integer, Integer> MONSTER_IDS = new TreeMap<>();
   private static final Map<Integer, List<String>> MONSTER_PARTS = new TreeMap<>();
-  private static final Map<String, MonsterData> OLD_MONSTER_DATA = new TreeMap<>();
-  private static final Map<String, MonsterData> LEET_MONSTER_DATA = new TreeMap<>();
+  private static final Map<String, Integer> OLD_MONSTER_DATA = new TreeMap<>();
+  private static final Map<String, Integer> LEET_MONSTER_DATA = new TreeMap<>();
   private static final Set<String> MONSTER_ALIASES = new HashSet<>();
   private static String[] MONSTER_STRINGS = null;
-  private static final Map<String, MonsterData> MONSTER_IMAGES = new TreeMap<>();
-  private static final Map<String, Map<MonsterData, MonsterData>> MONSTER_PATH_MAP =
-      new TreeMap<>();
-  private static final Map<AscensionClass, Map<MonsterData, MonsterData>> MONSTER_CLASS_MAP =
-      new EnumMap<>(AscensionClass.class);
+  private static final Map<String, Integer> MONSTER_IMAGES = new TreeMap<>();
+  // Built the first time a path or class asks for them, so as not to build the monsters they name
+  private static Map<String, Map<MonsterData, MonsterData>> MONSTER_PATH_MAP = null;
+  private static Map<AscensionClass, Map<MonsterData, MonsterData>> MONSTER_CLASS_MAP = null;
 
   // For handling duplicate monster and substring match of monster names
-  private static final Map<String, MonsterData[]> MONSTER_ID_SET = new HashMap<>();
+  private static final Map<String, int[]> MONSTER_ID_SET = new HashMap<>();
   private static String[] canonicalNames = new String[0];
 
   private MonsterDatabase() {}
@@ -237,14 +242,18 @@ public class MonsterDatabase {
   }
 
   private static void addMapping(Map<MonsterData, MonsterData> map, String name1, String name2) {
-    MonsterData mon1 = MONSTER_DATA.get(monsterKey(name1));
-    MonsterData mon2 = name2 != null ? MONSTER_DATA.get(monsterKey(name2)) : MonsterData.NO_MONSTER;
+    MonsterData mon1 = MonsterDatabase.monsterAt(MONSTER_DATA.get(monsterKey(name1)));
+    MonsterData mon2 =
+        name2 != null
+            ? MonsterDatabase.monsterAt(MONSTER_DATA.get(monsterKey(name2)))
+            : MonsterData.NO_MONSTER;
     MonsterDatabase.addMapping(map, mon1, mon2);
   }
 
   private static void addMapping(Map<MonsterData, MonsterData> map, String name1, int id2) {
-    MonsterData mon1 = MONSTER_DATA.get(name1);
-    MonsterData mon2 = id2 != 0 ? MONSTER_IDS.get(id2) : MonsterData.NO_MONSTER;
+    MonsterData mon1 = MonsterDatabase.monsterAt(MONSTER_DATA.get(name1));
+    MonsterData mon2 =
+        id2 != 0 ? MonsterDatabase.monsterAt(MONSTER_IDS.get(id2)) : MonsterData.NO_MONSTER;
     MonsterDatabase.addMapping(map, mon1, mon2);
   }
 
@@ -258,6 +267,15 @@ public class MonsterDatabase {
   static {
     MonsterDatabase.refreshMonsterTable();
     MonsterDatabase.readMonsterParts();
+  }
+
+  private static synchronized void buildMonsterMaps() {
+    if (MonsterDatabase.MONSTER_PATH_MAP != null) {
+      return;
+    }
+
+    MonsterDatabase.MONSTER_PATH_MAP = new TreeMap<>();
+    MonsterDatabase.MONSTER_CLASS_MAP = new EnumMap<>(AscensionClass.class);
 
     Map<MonsterData, MonsterData> youRobotMap = new TreeMap<>();
     MonsterDatabase.addMapping(youRobotMap, "Boss Bat", "Boss Bot");
@@ -438,77 +456,102 @@ public class MonsterDatabase {
   }
 
   public static Map<MonsterData, MonsterData> getMonsterPathMap(final String path) {
+    MonsterDatabase.buildMonsterMaps();
     return MonsterDatabase.MONSTER_PATH_MAP.get(path);
   }
 
   public static Map<MonsterData, MonsterData> getMonsterClassMap(final AscensionClass clazz) {
+    MonsterDatabase.buildMonsterMaps();
     return MonsterDatabase.MONSTER_CLASS_MAP.get(clazz);
   }
 
   public static final void refreshMonsterTable() {
-    MonsterDatabase.ALL_MONSTER_DATA.clear();
+    synchronized (MonsterDatabase.class) {
+      // The maps hold monsters from the old table
+      MonsterDatabase.MONSTER_PATH_MAP = null;
+      MonsterDatabase.MONSTER_CLASS_MAP = null;
+    }
+
+    MonsterDatabase.INDEX.clear();
+    MonsterDatabase.ALL_MONSTER_ROWS.clear();
     MonsterDatabase.MONSTER_DATA.clear();
+    MonsterDatabase.MONSTER_IDS.clear();
     MonsterDatabase.OLD_MONSTER_DATA.clear();
+    MonsterDatabase.LEET_MONSTER_DATA.clear();
     MonsterDatabase.MONSTER_IMAGES.clear();
+    MonsterDatabase.MONSTER_ID_SET.clear();
+    MonsterDatabase.MONSTER_STRINGS = null;
 
     try (BufferedReader reader =
         FileUtilities.getVersionedReader("monsters.txt", KoLConstants.MONSTERS_VERSION)) {
-      String[] data;
+      String line;
 
-      while ((data = FileUtilities.readData(reader)) != null) {
-        if (data.length < 1) {
-          continue;
-        }
+      while ((line = FileUtilities.readLine(reader)) != null) {
+        String[] data = line.split("\t", 4);
 
         String name = data[0];
         String idString = data.length > 1 ? data[1] : "";
         String imageString = data.length > 2 ? data[2] : "";
-        String attributes = data.length > 3 ? data[3] : "";
 
         int id = StringUtilities.isNumeric(idString) ? StringUtilities.parseInt(idString) : 0;
-        String[] images = imageString.split("\\s*,\\s*");
 
-        MonsterData monster = MonsterDatabase.newMonster(name, id, images, attributes);
-        if (monster == null) {
-          // *** Surely this is an error?
+        // Only the name, id and images are needed to find a monster. The
+        // attributes and drops are decoded when the monster is first used.
+        Integer existing = MonsterDatabase.MONSTER_DATA.get(monsterKey(name));
+        if (existing != null && INDEX.getId(existing) == MonsterDatabase.adjustId(name, id)) {
           continue;
         }
 
-        boolean bogus = false;
+        int row = INDEX.addRow(name, MonsterDatabase.adjustId(name, id), line);
 
-        for (int i = 4; i < data.length; ++i) {
-          String itemString = data[i];
-          MonsterDrop drop = MonsterDatabase.parseItem(itemString);
-          var item = drop.item();
-          if (item == null || item.getItemId() == -1 || item.getName() == null) {
-            RequestLogger.printLine("Bad item for monster \"" + name + "\": " + itemString);
-            bogus = true;
-            continue;
-          }
-
-          monster.addItem(drop);
+        MonsterDatabase.saveMonster(name, row);
+        for (String image : imageString.split("\\s*,\\s*")) {
+          MonsterDatabase.MONSTER_IMAGES.put(image, row);
         }
+        MonsterDatabase.registerMonsterId(id, name, row);
 
-        if (!bogus) {
-          monster.doneWithItems();
-
-          MonsterDatabase.saveMonster(name, monster);
-          for (String image : monster.getImages()) {
-            MonsterDatabase.MONSTER_IMAGES.put(image, monster);
-          }
-          MonsterDatabase.registerMonsterId(id, name, monster);
-
-          MonsterDatabase.LEET_MONSTER_DATA.put(StringUtilities.leetify(name), monster);
-        }
+        MonsterDatabase.LEET_MONSTER_DATA.put(StringUtilities.leetify(name), row);
       }
     } catch (IOException e) {
       StaticEntity.printStackTrace(e);
     }
 
+    MonsterDatabase.INDEX.doneLoading();
+
     // Save canonical names for substring lookup
     MonsterDatabase.saveCanonicalNames();
   }
 
+  private static MonsterData loadMonster(final String line) {
+    String[] data = line.split("\t", -1);
+
+    String name = data[0];
+    String idString = data.length > 1 ? data[1] : "";
+    String imageString = data.length > 2 ? data[2] : "";
+    String attributes = data.length > 3 ? data[3] : "";
+
+    int id = StringUtilities.isNumeric(idString) ? StringUtilities.parseInt(idString) : 0;
+    String[] images = imageString.split("\\s*,\\s*");
+
+    MonsterData monster =
+        new MonsterData(name, MonsterDatabase.adjustId(name, id), images, attributes);
+
+    for (int i = 4; i < data.length; ++i) {
+      String itemString = data[i];
+      MonsterDrop drop = MonsterDatabase.parseItem(itemString);
+      var item = drop.item();
+      if (item == null || item.getItemId() == -1 || item.getName() == null) {
+        RequestLogger.printLine("Bad item for monster \"" + name + "\": " + itemString);
+        continue;
+      }
+
+      monster.addItem(drop);
+    }
+
+    monster.doneWithItems();
+    return monster;
+  }
+
   private static void readMonsterParts() {
     try (BufferedReader reader =
         FileUtilities.getVersionedReader("monsterparts.txt", KoLConstants.MONSTER_PARTS_VERSION)) {
@@ -529,24 +572,29 @@ public class MonsterDatabase {
     }
   }
 
-  private static void addMonsterToName(MonsterData monster) {
-    String canonicalName = StringUtilities.getCanonicalName(monster.getName());
-    MonsterData[] monsterSet = MonsterDatabase.MONSTER_ID_SET.get(canonicalName);
-    MonsterData[] newSet;
+  private static void addMonsterToName(final int row) {
+    String canonicalName = StringUtilities.getCanonicalName(INDEX.getName(row));
+    int[] monsterSet = MonsterDatabase.MONSTER_ID_SET.get(canonicalName);
+    int[] newSet;
 
     if (monsterSet == null) {
-      newSet = new MonsterData[1];
-    }
-    // *** This assumes the array is sorted
-    else if (Arrays.binarySearch(monsterSet, monster) >= 0) {
-      return;
+      newSet = new int[1];
     } else {
+      // Rows in a set are kept in MonsterData order: by name, then by id
+      for (int existing : monsterSet) {
+        if (INDEX.compare(existing, row) == 0) {
+          return;
+        }
+      }
       newSet = Arrays.copyOf(monsterSet, monsterSet.length + 1);
     }
 
-    newSet[newSet.length - 1] = monster;
-    // *** Make it so
-    Arrays.sort(newSet);
+    newSet[newSet.length - 1] = row;
+    for (int i = newSet.length - 1; i > 0 && INDEX.compare(newSet[i - 1], newSet[i]) > 0; --i) {
+      int swap = newSet[i - 1];
+      newSet[i - 1] = newSet[i];
+      newSet[i] = swap;
+    }
     MonsterDatabase.MONSTER_ID_SET.put(canonicalName, newSet);
   }
 
@@ -593,8 +641,9 @@ public class MonsterDatabase {
           }
         };
 
-    MonsterDatabase.saveMonster(alias, cloned);
-    MonsterDatabase.addMonsterToName(cloned);
+    int row = INDEX.addMonster(cloned);
+    MonsterDatabase.saveMonster(alias, row);
+    MonsterDatabase.addMonsterToName(row);
     MONSTER_ALIASES.add(alias);
   }
 
@@ -602,19 +651,19 @@ public class MonsterDatabase {
     return CombatActionManager.encounterKey(name, false);
   }
 
-  private static void saveMonster(final String name, final MonsterData monster) {
+  private static void saveMonster(final String name, final int row) {
     String keyName = monsterKey(name);
     StringUtilities.registerPrepositions(keyName);
-    MonsterDatabase.ALL_MONSTER_DATA.add(monster);
-    MonsterDatabase.MONSTER_DATA.put(keyName, monster);
-    MonsterDatabase.OLD_MONSTER_DATA.put(keyName.toLowerCase(), monster);
+    MonsterDatabase.ALL_MONSTER_ROWS.set(row);
+    MonsterDatabase.MONSTER_DATA.put(keyName, row);
+    MonsterDatabase.OLD_MONSTER_DATA.put(keyName.toLowerCase(), row);
     if (keyName.toLowerCase().startsWith("the ")) {
       // Some effects seem to sometimes remove The from the start of the monster name even if
       // normally part of name
       // eg. ELDRITCH HORROR Master Of Thieves
       // So allow finding monster without the 'The' also
-      MonsterDatabase.MONSTER_DATA.put(keyName.substring(4), monster);
-      MonsterDatabase.OLD_MONSTER_DATA.put(keyName.substring(4).toLowerCase(), monster);
+      MonsterDatabase.MONSTER_DATA.put(keyName.substring(4), row);
+      MonsterDatabase.OLD_MONSTER_DATA.put(keyName.substring(4).toLowerCase(), row);
     }
   }
 
@@ -672,14 +721,24 @@ public class MonsterDatabase {
     return findMonster(name, false, true);
   }
 
+  /** Returns whether findMonster( name ) would find a monster, without building it. */
+  public static final boolean isKnownMonster(final String name) {
+    String keyName = monsterKey(name);
+    if (MonsterDatabase.MONSTER_DATA.containsKey(keyName)) {
+      return true;
+    }
+    return (keyName.startsWith("the ") || keyName.startsWith("The "))
+        && MonsterDatabase.MONSTER_DATA.containsKey(keyName.substring(4));
+  }
+
   public static final MonsterData findMonster(
       final String name, boolean trySubstrings, boolean matchCase) {
     // Look for case-sensitive exact match
     String keyName = monsterKey(name);
-    MonsterData match = MonsterDatabase.MONSTER_DATA.get(keyName);
+    Integer match = MonsterDatabase.MONSTER_DATA.get(keyName);
 
     if (match != null) {
-      return match;
+      return MonsterDatabase.monsterAt(match);
     }
 
     // If we are looking for an exact match, try again with "the"
@@ -688,7 +747,7 @@ public class MonsterDatabase {
     // therefore does not remove them - but KoL sometimes includes such.
     if (!trySubstrings && matchCase) {
       if (keyName.startsWith("the ") || keyName.startsWith("The ")) {
-        return MonsterDatabase.MONSTER_DATA.get(keyName.substring(4));
+        return MonsterDatabase.monsterAt(MonsterDatabase.MONSTER_DATA.get(keyName.substring(4)));
       }
       return null;
     }
@@ -699,14 +758,14 @@ public class MonsterDatabase {
       List<String> matchingNames =
           StringUtilities.getMatchingNames(MonsterDatabase.MONSTER_STRINGS, keyName);
       if (matchingNames.size() == 1) {
-        return MonsterDatabase.MONSTER_DATA.get(matchingNames.get(0));
+        return MonsterDatabase.monsterAt(MonsterDatabase.MONSTER_DATA.get(matchingNames.get(0)));
       }
     }
 
     // Look for case-insensitive exact match
     if (!matchCase) {
       keyName = CombatActionManager.encounterKey(name);
-      return MonsterDatabase.OLD_MONSTER_DATA.get(keyName);
+      return MonsterDatabase.monsterAt(MonsterDatabase.OLD_MONSTER_DATA.get(keyName));
     }
 
     return null;
@@ -770,9 +829,9 @@ public class MonsterDatabase {
     // We want an exact (case insensitive) match
     if (!substringMatch) {
       String canonicalName = StringUtilities.getCanonicalName(monsterName);
-      MonsterData[] monsters = MonsterDatabase.MONSTER_ID_SET.get(canonicalName);
-      if (monsters != null && monsters.length > 0) {
-        return monsters;
+      int[] rows = MonsterDatabase.MONSTER_ID_SET.get(canonicalName);
+      if (rows != null && rows.length > 0) {
+        return MonsterDatabase.monstersAt(rows);
       }
       return NO_MONSTERS;
     }
@@ -785,7 +844,7 @@ public class MonsterDatabase {
     // If one name matches, return the monster set for that name
     if (possibilities.size() == 1) {
       String first = possibilities.get(0);
-      return MonsterDatabase.MONSTER_ID_SET.get(first);
+      return MonsterDatabase.monstersAt(MonsterDatabase.MONSTER_ID_SET.get(first));
     }
 
     // Otherwise the name is ambiguous or not found
@@ -814,22 +873,22 @@ public class MonsterDatabase {
     int slashIndex = image.indexOf("/");
     while (slashIndex != -1) {
       image = image.substring(slashIndex + 1);
-      MonsterData monster = MonsterDatabase.MONSTER_IMAGES.get(image);
-      if (monster != null) {
-        return monster;
+      Integer row = MonsterDatabase.MONSTER_IMAGES.get(image);
+      if (row != null) {
+        return MonsterDatabase.monsterAt(row);
       }
       slashIndex = image.indexOf("/");
     }
-    return MonsterDatabase.MONSTER_IMAGES.get(image);
+    return MonsterDatabase.monsterAt(MonsterDatabase.MONSTER_IMAGES.get(image));
   }
 
   public static final MonsterData findMonsterById(final int id) {
-    return MonsterDatabase.MONSTER_IDS.get(id);
+    return MonsterDatabase.monsterAt(MonsterDatabase.MONSTER_IDS.get(id));
   }
 
   public static final String getMonsterName(final int id) {
-    MonsterData monster = MonsterDatabase.MONSTER_IDS.get(id);
-    return monster == null ? "" : monster.getName();
+    Integer row = MonsterDatabase.MONSTER_IDS.get(id);
+    return row == null ? "" : INDEX.getName(row);
   }
 
   public static List<String> getMonsterParts(final int id) {
@@ -837,8 +896,8 @@ public class MonsterDatabase {
   }
 
   public static final String translateLeetMonsterName(final String leetName) {
-    MonsterData monster = MonsterDatabase.LEET_MONSTER_DATA.get(leetName);
-    return monster == null ? leetName : monster.getName();
+    Integer row = MonsterDatabase.LEET_MONSTER_DATA.get(leetName);
+    return row == null ? leetName : INDEX.getName(row);
   }
 
   // Register an unknown monster
@@ -846,10 +905,11 @@ public class MonsterDatabase {
     int id = monster.getId();
     String name = monster.getName();
     String keyName = monsterKey(name);
-    MonsterDatabase.MONSTER_DATA.put(keyName, monster);
-    MonsterDatabase.OLD_MONSTER_DATA.put(keyName.toLowerCase(), monster);
-    MonsterDatabase.LEET_MONSTER_DATA.put(StringUtilities.leetify(name), monster);
-    MonsterDatabase.registerMonsterId(id, name, monster);
+    int row = INDEX.addMonster(monster);
+    MonsterDatabase.MONSTER_DATA.put(keyName, row);
+    MonsterDatabase.OLD_MONSTER_DATA.put(keyName.toLowerCase(), row);
+    MonsterDatabase.LEET_MONSTER_DATA.put(StringUtilities.leetify(name), row);
+    MonsterDatabase.registerMonsterId(id, name, row);
     MonsterDatabase.saveCanonicalNames();
   }
 
@@ -891,31 +951,46 @@ public class MonsterDatabase {
 
   public static final void setMonsterId(MonsterData monster, int newMonsterId) {
     int oldMonsterId = monster.getId();
-    MonsterDatabase.MONSTER_IDS.remove(oldMonsterId);
-    MonsterDatabase.MONSTER_IDS.put(newMonsterId, monster);
+    Integer row = MonsterDatabase.MONSTER_IDS.remove(oldMonsterId);
+    if (row == null || INDEX.peek(row) != monster) {
+      row = INDEX.addMonster(monster);
+    }
+    MonsterDatabase.MONSTER_IDS.put(newMonsterId, row);
     monster.setId(newMonsterId);
+    INDEX.setId(row, newMonsterId);
   }
 
-  private static void registerMonsterId(
-      final int id, final String name, final MonsterData monster) {
+  private static void registerMonsterId(final int id, final String name, final int row) {
     if (id != 0) {
-      MonsterData old = MonsterDatabase.MONSTER_IDS.get(id);
+      Integer old = MonsterDatabase.MONSTER_IDS.get(id);
       if (old == null) {
-        MonsterDatabase.MONSTER_IDS.put(id, monster);
+        MonsterDatabase.MONSTER_IDS.put(id, row);
       } else {
         RequestLogger.printLine(
-            "Duplicate monster ID " + id + " : (" + old.getName() + "," + name + ")");
+            "Duplicate monster ID " + id + " : (" + INDEX.getName(old) + "," + name + ")");
       }
     }
-    MonsterDatabase.addMonsterToName(monster);
+    MonsterDatabase.addMonsterToName(row);
   }
 
+  // The bulk views build every monster they include.
+
   public static final Set<Entry<String, MonsterData>> entrySet() {
-    return MonsterDatabase.MONSTER_DATA.entrySet();
+    Map<String, MonsterData> monsters = new TreeMap<>();
+    for (Entry<String, Integer> entry : MonsterDatabase.MONSTER_DATA.entrySet()) {
+      monsters.put(entry.getKey(), MonsterDatabase.monsterAt(entry.getValue()));
+    }
+    return monsters.entrySet();
   }
 
   public static final Set<MonsterData> valueSet() {
-    return MonsterDatabase.ALL_MONSTER_DATA;
+    Set<MonsterData> monsters = new TreeSet<>();
+    for (int row = ALL_MONSTER_ROWS.nextSetBit(0);
+        row >= 0;
+        row = ALL_MONSTER_ROWS.nextSetBit(row + 1)) {
+      monsters.add(MonsterDatabase.monsterAt(row));
+    }
+    return monsters;
   }
 
   public static final Set<Integer> idKeySet() {
@@ -923,7 +998,26 @@ public class MonsterDatabase {
   }
 
   public static final Set<Entry<Integer, MonsterData>> idEntrySet() {
-    return MonsterDatabase.MONSTER_IDS.entrySet();
+    Map<Integer, MonsterData> monsters = new TreeMap<>();
+    for (Entry<Integer, Integer> entry : MonsterDatabase.MONSTER_IDS.entrySet()) {
+      monsters.put(entry.getKey(), MonsterDatabase.monsterAt(entry.getValue()));
+    }
+    return monsters.entrySet();
+  }
+
+  private static MonsterData monsterAt(final Integer row) {
+    return row == null ? null : INDEX.get(row);
+  }
+
+  private static MonsterData[] monstersAt(final int[] rows) {
+    if (rows == null) {
+      return null;
+    }
+    MonsterData[] monsters = new MonsterData[rows.length];
+    for (int i = 0; i < rows.length; ++i) {
+      monsters[i] = INDEX.get(rows[i]);
+    }
+    return monsters;
   }
 
   public static final MonsterData newMonster(
@@ -934,6 +1028,10 @@ public class MonsterDatabase {
       return monster;
     }
 
+    return new MonsterData(name, MonsterDatabase.adjustId(name, id), images, attributes);
+  }
+
+  private static int adjustId(final String name, final int id) {
     // Ed the Undying has ID = 473. We have 7 different pseudo-monsters for his
     // different stages, named Ed the Undying (1), and so on.  on.  We've given
     // wach of those id = 0, so that looking up monster by id will find the
@@ -941,11 +1039,10 @@ public class MonsterDatabase {
     // the disambiguated version. Therefore, give each of them id = 473 here.
     if (id == 0) {
       if (name.startsWith("Ed the Undying")) {
-        id = 473;
+        return 473;
       }
     }
-
-    return new MonsterData(name, id, images, attributes);
+    return id;
   }
 
   public static final boolean contains(final String name) {
@@ -1011,4 +1108,107 @@ public class MonsterDatabase {
 
     return count;
   }
+
+  private static final class MonsterIndex {
+    private int size = 0;
+    private String[] names = new String[0];
+    private int[] ids = new int[0];
+    private int[] rawStart = new int[0];
+    private int[] rawEnd = new int[0];
+    private StringBuilder rawBuilder = new StringBuilder();
+    private String raw = "";
+
+    // Built monsters. Once built, a monster is kept, so that everything which
+    // finds it by name or id gets the same MonsterData.
+    private MonsterData[] monsters = new MonsterData[0];
+
+    synchronized void clear() {
+      this.size = 0;
+      this.names = new String[0];
+      this.ids = new int[0];
+      this.rawStart = new int[0];
+      this.rawEnd = new int[0];
+      this.rawBuilder = new StringBuilder();
+      this.raw = "";
+      this.monsters = new MonsterData[0];
+    }
+
+    private void ensureCapacity() {
+      if (this.size < this.names.length) {
+        return;
+      }
+      int capacity = Math.max(256, this.names.length * 2);
+      this.names = Arrays.copyOf(this.names, capacity);
+      this.ids = Arrays.copyOf(this.ids, capacity);
+      this.rawStart = Arrays.copyOf(this.rawStart, capacity);
+      this.rawEnd = Arrays.copyOf(this.rawEnd, capacity);
+      this.monsters = Arrays.copyOf(this.monsters, capacity);
+    }
+
+    synchronized int addRow(final String name, final int id, final String line) {
+      this.ensureCapacity();
+      int row = this.size++;
+      this.names[row] = name;
+      this.ids[row] = id;
+      this.rawStart[row] = this.raw.length() + this.rawBuilder.length();
+      this.rawBuilder.append(line);
+      this.rawEnd[row] = this.raw.length() + this.rawBuilder.length();
+      return row;
+    }
+
+    synchronized int addMonster(final MonsterData monster) {
+      this.ensureCapacity();
+      int row = this.size++;
+      this.names[row] = monster.getName();
+      this.ids[row] = monster.getId();
+      this.rawStart[row] = -1;
+      this.rawEnd[row] = -1;
+      this.monsters[row] = monster;
+      return row;
+    }
+
+    synchronized void doneLoading() {
+      this.raw = this.raw + this.rawBuilder;
+      this.rawBuilder = new StringBuilder();
+      this.names = Arrays.copyOf(this.names, this.size);
+      this.ids = Arrays.copyOf(this.ids, this.size);
+      this.rawStart = Arrays.copyOf(this.rawStart, this.size);
+      this.rawEnd = Arrays.copyOf(this.rawEnd, this.size);
+      this.monsters = Arrays.copyOf(this.monsters, this.size);
+    }
+
+    String getName(final int row) {
+      return this.names[row];
+    }
+
+    int getId(final int row) {
+      return this.ids[row];
+    }
+
+    // Same order as MonsterData.compareTo
+    int compare(final int row1, final int row2) {
+      int nameComparison = this.names[row1].compareToIgnoreCase(this.names[row2]);
+      return nameComparison != 0 ? nameComparison : this.ids[row1] - this.ids[row2];
+    }
+
+    synchronized MonsterData peek(final int row) {
+      return this.monsters[row];
+    }
+
+    synchronized MonsterData get(final int row) {
+      MonsterData monster = this.peek(row);
+      if (monster != null) {
+        return monster;
+      }
+
+      String line = this.raw.substring(this.rawStart[row], this.rawEnd[row]);
+      monster = MonsterDatabase.loadMonster(line);
+      this.monsters[row] = monster;
+      return monster;
+    }
+
+    synchronized void setId(final int row, final int id) {
+      this.ids[row] = id;
+    }
+  }
 }
@@ -0,0 +1,51 @@
+package net.sourceforge.kolmafia.preferences;
+
+import java.util.function.Function;
+
+/**
+ * A string preference decoded into a typed value. The decoded value is kept until the preference
+ * string changes, however it was changed, so repeated reads do not parse it again.
+ *
+ * <p>Unlike PreferenceModifiers, this does not rely on a preference listener; listeners can be
+ * deferred, and a deferred cache would be stale. Instead, every read compares the current string
+ * with the one which was decoded. Preferences hands back the stored String, so this is almost
+ * always an identity check.
+ *
+ * <p>Decoded values are shared between callers and must be treated as read-only. To change one,
+ * build a new value and {@link #set} it.
+ */
+public class DecodedPreference<T> {
+  private final String name;
+  private final Function<String, T> decoder;
+  private final Function<T, String> encoder;
+
+  private String encoded = null;
+  private T decoded = null;
+
+  public DecodedPreference(
+      final String name, final Function<String, T> decoder, final Function<T, String> encoder) {
+    this.name = name;
+    this.decoder = decoder;
+    this.encoder = encoder;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public synchronized T get() {
+    String current = Preferences.getString(this.name);
+    if (this.decoded == null || !current.equals(this.encoded)) {
+      this.decoded = this.decoder.apply(current);
+      this.encoded = current;
+    }
+    return this.decoded;
+  }
+
+  public synchronized void set(final T value) {
+    String current = this.encoder.apply(value);
+    Preferences.setString(this.name, current);
+    this.encoded = Preferences.getString(this.name);
+    this.decoded = current.equals(this.encoded) ? value : this.decoder.apply(this.encoded);
+  }
+}
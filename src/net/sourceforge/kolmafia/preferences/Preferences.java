@@ -61,6 +61,10 @@ public class Preferences {
   private static File userPropertiesFile = null;
 
   private static final Set<String> defaultsSet = new HashSet<>();
+
+  // Preferences read by threads which are recording, with the value each first read
+  private static final ThreadLocal<Map<String, String>> recordedReads = new ThreadLocal<>();
+  private static volatile int recorders = 0;
   private static final Set<String> perUserGlobalSet = new HashSet<>();
   private static final Set<String> onlyResetOnRollover =
       new TreeSet<>(List.of("ascensionsToday", "potatoAlarmClockUsed"));
@@ -1019,6 +1023,29 @@ public class Preferences {
     return "";
   }
 
+  /**
+   * Notes each preference this thread reads, and the value it had, until stopRecording is called.
+   * A cache can compare them with their current values to tell whether its result is still good.
+   */
+  public static synchronized void startRecording(final Map<String, String> reads) {
+    if (Preferences.recordedReads.get() == null) {
+      Preferences.recorders++;
+    }
+    Preferences.recordedReads.set(reads);
+  }
+
+  public static synchronized void stopRecording() {
+    if (Preferences.recordedReads.get() != null) {
+      Preferences.recorders--;
+    }
+    Preferences.recordedReads.remove();
+  }
+
+  /** Returns whether this thread is noting the preferences it reads. */
+  public static boolean isRecording() {
+    return Preferences.recorders > 0 && Preferences.recordedReads.get() != null;
+  }
+
   public static void removeProperty(final String name, final boolean global) {
     boolean trackEncoded = Preferences.mustTrackEncodedValues();
     // Remove only properties which do not have defaults
@@ -1263,7 +1290,14 @@ public class Preferences {
   private static Object getObject(
       final Map<String, Object> map, final String user, final String name) {
     String key = Preferences.propertyName(user, name);
-    return map.get(key);
+    Object value = map.get(key);
+    if (Preferences.recorders > 0) {
+      Map<String, String> reads = Preferences.recordedReads.get();
+      if (reads != null && user == null) {
+        reads.putIfAbsent(name, value == null ? "" : value.toString());
+      }
+    }
+    return value;
   }
 
   // Used only in ASH get_all_properties.
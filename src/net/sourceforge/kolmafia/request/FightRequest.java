@@ -3044,6 +3044,69 @@ public class FightRequest extends GenericRequest {
   static final Pattern GOTH_KID_PVP_PATTERN =
       Pattern.compile("draws a picture of (?!your opponent)|draws a magically-animated cartoon");
 
+  // Familiar-specific tracking after a won fight, found by familiar ID.
+
+  @FunctionalInterface
+  private interface FamiliarWinHandler {
+    void won(FamiliarData familiar, String responseText);
+  }
+
+  private static final Map<Integer, FamiliarWinHandler> FAMILIAR_WIN_HANDLERS = new HashMap<>();
+
+  static {
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.RIFTLET, FightRequest::wonWithRiftlet);
+    FAMILIAR_WIN_HANDLERS.put(
+        FamiliarPool.REAGNIMATED_GNOME, FightRequest::wonWithReagnimatedGnome);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.HARE, FightRequest::wonWithHare);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.GIBBERER, FightRequest::wonWithGibberer);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.STOCKING_MIMIC, FightRequest::wonWithStockingMimic);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.JACK_IN_THE_BOX, FightRequest::wonWithJackInTheBox);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.HATRACK, FightRequest::wonWithHatrack);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.HIPSTER, FightRequest::wonWithHipster);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.BOOTS, FightRequest::wonWithBoots);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.HAPPY_MEDIUM, FightRequest::wonWithHappyMedium);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.GRINDER, FightRequest::wonWithGrinder);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.ARTISTIC_GOTH_KID, FightRequest::wonWithArtisticGothKid);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.CRIMBO_SHRUB, FightRequest::wonWithCrimboShrub);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.BADGER, FightRequest::wonWithBadger);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.PIXIE, FightRequest::wonWithPixie);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.LLAMA, FightRequest::wonWithLlama);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.SANDWORM, FightRequest::wonWithSandworm);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.TRON, FightRequest::wonWithTron);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.ALIEN, FightRequest::wonWithAlien);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.GROOSE, FightRequest::wonWithGroose);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.KLOOP, FightRequest::wonWithKloop);
+    FAMILIAR_WIN_HANDLERS.put(
+        FamiliarPool.UNCONSCIOUS_COLLECTIVE, FightRequest::wonWithUnconsciousCollective);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.ANGRY_JUNG_MAN, FightRequest::wonWithAngryJungMan);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.GRIM_BROTHER, FightRequest::wonWithGrimBrother);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.GRIMSTONE_GOLEM, FightRequest::wonWithGrimstoneGolem);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.GOLDEN_MONKEY, FightRequest::wonWithGoldenMonkey);
+    FAMILIAR_WIN_HANDLERS.put(
+        FamiliarPool.ADVENTUROUS_SPELUNKER, FightRequest::wonWithAdventurousSpelunker);
+    FAMILIAR_WIN_HANDLERS.put(
+        FamiliarPool.STEAM_CHEERLEADER, FightRequest::wonWithSteamCheerleader);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.NANORHINO, FightRequest::wonWithNanorhino);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.CUBELING, FightRequest::wonWithCubeling);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.REANIMATOR, FightRequest::wonWithReanimator);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.MACHINE_ELF, FightRequest::wonWithMachineElf);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.ROCKIN_ROBIN, FightRequest::wonWithRockinRobin);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.CANDLE, FightRequest::wonWithCandle);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.GARBAGE_FIRE, FightRequest::wonWithGarbageFire);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.PUCK_MAN, FightRequest::wonWithPuckMan);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.MS_PUCK_MAN, FightRequest::wonWithPuckMan);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.ROBORTENDER, FightRequest::wonWithRobortender);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.XO_SKELETON, FightRequest::wonWithXoSkeleton);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.INTERGNAT, FightRequest::wonWithIntergnat);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.CAT_BURGLAR, FightRequest::wonWithCatBurglar);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.RED_SNAPPER, FightRequest::wonWithRedSnapper);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.SHORT_ORDER_COOK, FightRequest::wonWithShortOrderCook);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.VAMPIRE_VINTNER, FightRequest::wonWithVampireVintner);
+    FAMILIAR_WIN_HANDLERS.put(FamiliarPool.COOKBOOKBAT, FightRequest::wonWithCookbookbat);
+    FAMILIAR_WIN_HANDLERS.put(
+        FamiliarPool.EVOLVING_ORGANISM, FightRequest::wonWithEvolvingOrganism);
+  }
+
   // This performs checks that are only applied once combat is finished,
   // and that aren't (yet) part of the processNormalResults loop.
   // `responseText` will be a fragment of the page; anything that needs
@@ -3063,1329 +3126,1405 @@ public class FightRequest extends GenericRequest {
 
     FamiliarData familiar = KoLCharacter.getEffectiveFamiliar();
 
-    var garbledCombat = FightRequest.machineElf || FightRequest.anapest || FightRequest.haiku;
-
-    // Track ghost pepper
-    if (responseText.contains("The ghost pepper you ate") && KoLCharacter.getCurrentHP() > 0) {
-      Preferences.decrement("ghostPepperTurnsLeft", 1, 1);
-    } else if (garbledCombat) {
-      Preferences.decrement("ghostPepperTurnsLeft", 1, 0);
-    } else {
-      Preferences.setInteger("ghostPepperTurnsLeft", 0);
-    }
-
-    // Track Gets-You-Drunk
-    if (responseText.contains("The mulled wine you drank") && KoLCharacter.getCurrentHP() > 0) {
-      Preferences.decrement("getsYouDrunkTurnsLeft", 1, 1);
-    } else if (garbledCombat) {
-      Preferences.decrement("ghostPepperTurnsLeft", 1, 0);
-    } else {
-      Preferences.setInteger("getsYouDrunkTurnsLeft", 0);
-    }
+    FightRequest.trackFinalRoundEquipment(responseText);
 
-    // Increment stinky cheese counter
-    int stinkyCount = EquipmentManager.getStinkyCheeseLevel();
-    if (stinkyCount > 0) {
-      Preferences.increment("_stinkyCheeseCount", stinkyCount);
-    }
+    FightRequest.trackFinalRoundActions(
+        responseText, monster, monsterName, special, locationName, familiar);
 
-    // Increment Pantsgiving counter
-    if (KoLCharacter.hasEquipped(ItemPool.get(ItemPool.PANTSGIVING, 1), Slot.PANTS)) {
-      Preferences.increment("_pantsgivingCount");
-    }
+    AdventureSpentDatabase.addTurn(KoLAdventure.lastLocationName);
 
-    if (responseText.contains("Your sugar chapeau slides")) {
-      EquipmentManager.breakEquipment(ItemPool.SUGAR_CHAPEAU, "Your sugar chapeau shattered.");
-    }
+    int adventure = KoLAdventure.lastAdventureId();
 
-    if (responseText.contains("your sugar shank handle")) {
-      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHANK, "Your sugar shank shattered.");
+    if (KOLHSRequest.isKOLHSLocation(adventure)) {
+      Preferences.increment("_kolhsAdventures", 1);
     }
 
-    if (responseText.contains("drop something as sticky as the sugar shield")) {
-      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHIELD, "Your sugar shield shattered.");
-    }
+    GrimstoneManager.incrementFights(adventure);
 
-    if (responseText.contains("Your sugar shillelagh absorbs the shock")) {
-      EquipmentManager.breakEquipment(
-          ItemPool.SUGAR_SHILLELAGH, "Your sugar shillelagh shattered.");
+    if (adventure == AdventurePool.DEEP_MACHINE_TUNNELS) {
+      Preferences.decrement("encountersUntilDMTChoice");
     }
 
-    if (responseText.contains("Your sugar shirt falls apart")) {
-      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHIRT, "Your sugar shirt shattered.");
+    if (adventure == AdventurePool.SHADOW_RIFT) {
+      RufusManager.handleShadowRiftFight(monster);
     }
 
-    if (responseText.contains("Your sugar shotgun falls apart")) {
-      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHOTGUN, "Your sugar shotgun shattered.");
+    if (adventure == AdventurePool.NEVERENDING_PARTY) {
+      Preferences.decrement("encountersUntilNEPChoice", 1, 0);
     }
 
-    if (responseText.contains("Your sugar shorts crack")) {
-      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHORTS, "Your sugar shorts shattered.");
+    if (adventure == AdventurePool.YACHT) {
+      Preferences.decrement("encountersUntilYachtzeeChoice", 1, 0);
     }
 
-    // Your crimbo tree has 987 needles left.
-    if (responseText.contains("Your crimbo tree has")) {
-      Matcher treeMatcher = FightRequest.DECEASED_TREE_PATTERN.matcher(responseText);
-      if (treeMatcher.find()) {
-        Preferences.setInteger("garbageTreeCharge", StringUtilities.parseInt(treeMatcher.group(1)));
-      }
+    if (monsterName.equals("unusual construct")) {
+      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_WHITE);
+      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_BLACK);
+      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_RED);
+      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_GREEN);
+      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_BLUE);
+      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_YELLOW);
     }
 
-    // The champagne is flowing and the party is going wild with the 9 ounces of champagne left in
-    // your broken bottle.
-    if (responseText.contains("champagne is flowing and the party is going wild")) {
-      Matcher champagneMatcher = FightRequest.BROKEN_CHAMPAGNE_PATTERN.matcher(responseText);
-      if (champagneMatcher.find()) {
+    if (KoLCharacter.inTheSource()) {
+      Matcher intervalMatcher = FightRequest.SOURCE_INTERVAL_PATTERN.matcher(responseText);
+      if (intervalMatcher.find()) {
         Preferences.setInteger(
-            "garbageChampagneCharge", StringUtilities.parseInt(champagneMatcher.group(1)));
+            "sourceInterval", (int) (0.8 * StringUtilities.parseInt(intervalMatcher.group(1))));
+      } else {
+        Preferences.setInteger("sourceInterval", 0);
       }
     }
-    // The last drop of your party champagne dripped out during this fight, so you toss the bottle
-    // away.
-    else if (responseText.contains("last drop of your party champagne dripped out")) {
-      Preferences.setInteger("garbageChampagneCharge", 0);
-      EquipmentManager.breakEquipment(
-          ItemPool.BROKEN_CHAMPAGNE, "You toss away the broken champagne bottle.");
-    }
 
-    // You read a useful bit of information off your shirt and improve your rate of knowledge gain.
-    // Looks like there are 36 more useful scraps.
-    if (responseText.contains("read a useful bit of information off your shirt")) {
-      Matcher garbageShirtMatcher = FightRequest.GARBAGE_SHIRT_PATTERN.matcher(responseText);
-      if (garbageShirtMatcher.find()) {
-        Preferences.setInteger(
-            "garbageShirtCharge", StringUtilities.parseInt(garbageShirtMatcher.group(1)));
+    if (KoLCharacter.inAvantGuard()) {
+      if (KoLCharacter.getEffectiveFamiliar().getId() == FamiliarPool.BURLY_BODYGUARD) {
+        // After 50 fights (won, lost, whatever) in the Avant Guard path, allows a "chat" to select
+        // a particular bodyguard.
+        if (responseText.contains("looks mildly talkative")) {
+          Preferences.setInteger("bodyguardCharge", 50);
+          familiar.setCharges(50);
+        } else {
+          familiar.setCharges(Preferences.increment("bodyguardCharge", 1, 50, false));
+        }
       }
     }
-    // You rip the last bit of usefully informative garbage off your shirt, and it falls to scraps
-    else if (responseText.contains("last bit of usefully informative garbage off your shirt")) {
-      Preferences.setInteger("garbageShirtCharge", 0);
-      EquipmentManager.breakEquipment(
-          ItemPool.MAKESHIFT_GARBAGE_SHIRT, "Your makeshirt garbage shirt falls apart.");
-    }
-
-    // You hear a whirring as your unicorn horn begins to inflate. Yeah!
-    if (responseText.contains("your unicorn horn begins to inflate")) {
-      Preferences.setInteger("unicornHornInflation", 5);
-    }
-    // Your unicorn horn becomes slightly more inflated as a result of your increasing confidence
-    // and pride. Yay!
-    else if (responseText.contains("Your unicorn horn becomes slightly more inflated")) {
-      Preferences.increment("unicornHornInflation", 5);
-    }
-    // Your unicorn horn squeaks as it fills to capacity. You feel great!
-    else if (responseText.contains("Your unicorn horn squeaks")) {
-      Preferences.setInteger("unicornHornInflation", 100);
-    }
-    // Your unicorn horn shrivels in shame.
-    else if (responseText.contains("Your unicorn horn shrivels")) {
-      Preferences.setInteger("unicornHornInflation", 0);
-    }
 
-    // The Great Wolf of the Air emits an ear-splitting final
-    // howl. Your necklace shatters like a champagne flute in a
-    // Memorex comercial[sic].
-    if (responseText.contains("Your necklace shatters")) {
-      EquipmentManager.discardEquipment(ItemPool.MOON_AMBER_NECKLACE);
+    // A monster only gets added to your nostalgic/backup camera buffer if the fight is "completed"
+    if (monster != null && !monster.isNoCopy()) {
+      Preferences.setString("lastCopyableMonster", monsterName);
     }
 
-    // You look down and notice that your shawl got ripped to
-    // shreds during the fight. Dangit.
-    if (responseText.contains("your shawl got ripped to shreds")) {
-      EquipmentManager.discardEquipment(ItemPool.GHOST_SHAWL);
-    }
+    boolean free = responseText.contains("FREEFREEFREE");
 
-    // As he fades away, Mayor Ghost clutches at your badge, which fades away with him. Rats.
-    if (responseText.contains("clutches at your badge")) {
-      EquipmentManager.discardEquipment(ItemPool.AUDITORS_BADGE);
-    }
+    if (zone.equals("Server Room")) {
+      // OVERCLOCK(10) gives you 10 free fights per day in the Cyber
+      // Zones. Are there other things you can do to force a free fight?
+      // Free runaway?
+      //
+      // If so, does doing such still count down OVERCLOCK(10)?
 
-    // With a final lurch, one of the zombies hurls a bag of weed
-    // killer at your skirt, dissolving it instantly.
-    if (responseText.contains("hurls a bag of weed killer")) {
-      EquipmentManager.discardEquipment(ItemPool.WEEDY_SKIRT);
-    }
+      // Something like this would be nice. I submitted a report to KoL
+      // suggesting it.
 
-    // You fall to the ground, overcome by your wounds.  As you lose consciousness,
-    // the last thing you see is your first-ait kit opening of its own accord.
-    if (responseText.contains("first-ait kit opening of its own accord")) {
-      EquipmentManager.discardEquipment(ItemPool.FIRST_AID_POUCH);
-    }
+      /*
+      if (responseText.contains("...overclock is ending...")) {
+        Preferences.setInteger("_cyberFreeFights", 10);
+      } else if (responseText.contains("...overclock is active...")) {
+        Preferences.increment("_cyberFreeFights", 1, 10, false);
+      }
+      */
 
-    // A bit of flaming paper drifts into your unnamed cocktail and sets it ablaze. Whoah!
-    if (responseText.contains("flaming paper drifts into your unnamed cocktail")) {
-      ResultProcessor.processItem(ItemPool.UNNAMED_COCKTAIL, -1);
-    }
+      // KoL didn't used to include FREEFREEFREE. This was a workaround:
 
-    if (responseText.contains("You wore out your weapon cozy...")) {
-      // Cozy weapons are two-handed, so they are necessarily in the weapon slot
-      int cozyId = EquipmentManager.getEquipment(Slot.WEAPON).getItemId();
-      EquipmentManager.breakEquipment(cozyId, "Your cozy wore out.");
-    }
+      /*
+      if (KoLCharacter.hasSkill(SkillPool.OVERCLOCK10)
+          && Preferences.getInteger("_cyberFreeFights") < 10) {
+        Preferences.increment("_cyberFreeFights", 1, 10, false);
+        free = true;
+      }
+      */
 
-    // You hurl your entire collection of buttons at it, dealing X damage.
-    // You manage to find and recover all but Y of the buttons.
-    // If it's the last round, we can't correct from combat drop down, so we'll think only one was
-    // used
-    Matcher redButtonMatcher =
-        FightRequest.RED_BUTTON_PATTERN.matcher(FightRequest.lastResponseText);
-    if (redButtonMatcher.find()) {
-      ResultProcessor.processItem(
-          ItemPool.RED_BUTTON, 1 - StringUtilities.parseInt(redButtonMatcher.group(1)));
-    }
+      // KoL now does include FREEFREE. Lacking special messages, assume
+      // it is a result of OVERCLOCK(10) and count it as such.
 
-    // The turtle appears to suffer some kind of mental breakdown
-    // -- it collapses to the ground, sobbing. You help it to its
-    // feet and escort it out of the compound.
-    //
-    // The turtle blinks at you with gratitude for freeing it from
-    // its brainwashing, and trudges off over the horizon.
-    // ...Eventually.
-    if (responseText.contains("freeing it from its brainwashing")) {
-      int free = Preferences.increment("guardTurtlesFreed");
-      String message = "Freed guard turtle #" + free;
-      RequestLogger.printLine(message);
-      RequestLogger.updateSessionLog(message);
-    } else if (responseText.contains("some kind of mental breakdown")) {
-      int free = Preferences.increment("frenchGuardTurtlesFreed");
-      String message = "Freed French guard turtle #" + free;
-      RequestLogger.printLine(message);
-      RequestLogger.updateSessionLog(message);
+      if (free) {
+        Preferences.increment("_cyberFreeFights", 1, 10, false);
+      }
     }
 
-    if (responseText.contains(
-        "your Epic Weapon reverts to its original form in a puff of failure")) {
-      FightRequest.transmogrifyNemesisWeapon(true);
+    if (adventure == AdventurePool.OLIVERS_SPEAKEASY_BRAWL) {
+      if (responseText.contains(
+          "Looks like the fight is brawl is heating up, further encounters here will cost an adventure.")) {
+        Preferences.setInteger("_speakeasyFreeFights", 3);
+      } else if (free) {
+        Preferences.increment("_speakeasyFreeFights", 1, 3, false);
+      }
     }
 
-    if (responseText.contains("acquire a bounty item:")) {
-      BountyHunterHunterRequest.parseFight(monsterName, locationName, responseText);
+    if (free) {
+      String updateMessage = "This combat did not cost a turn";
+      RequestLogger.updateSessionLog(updateMessage);
+      KoLmafia.updateDisplay(updateMessage);
+    } else {
+      ColdMedicineCabinetCommand.trackEnvironment(location);
     }
-    // Check for bounty item not dropping from a monster
-    // that is known to drop the item.
-    else {
-      String easyBountyString = Preferences.getString("currentEasyBountyItem");
-      int index = easyBountyString.indexOf(":");
-      if (index != -1) {
-        String easyBountyItemName = easyBountyString.substring(0, index);
-        String easyBountyMonsterName = BountyDatabase.getMonster(easyBountyItemName);
 
-        if (monsterName.equals(easyBountyMonsterName)
-            && !responseText.contains(easyBountyItemName)
-            && !problemFamiliar()) {
-          KoLmafia.updateDisplay(
-              MafiaState.PENDING, "Easy bounty item failed to drop from expected monster.");
-        }
-      }
-
-      String hardBountyString = Preferences.getString("currentHardBountyItem");
-      index = hardBountyString.indexOf(":");
-      if (index != -1) {
-        String hardBountyItemName = hardBountyString.substring(0, index);
-        String hardBountyMonsterName = BountyDatabase.getMonster(hardBountyItemName);
+    Preferences.setBoolean("_lastCombatWon", won);
+    Preferences.setBoolean("_lastCombatLost", lost);
 
-        if (monsterName.equals(hardBountyMonsterName)
-            && !responseText.contains(hardBountyItemName)
-            && !problemFamiliar()) {
-          KoLmafia.updateDisplay(
-              MafiaState.PENDING, "Hard bounty item failed to drop from expected monster.");
-        }
+    if (!won) {
+      QuestManager.updateQuestFightLost(responseText, monsterName);
+    } else {
+      if (responseText.contains("monstermanuel.gif")) {
+        GoalManager.updateProgress(GoalManager.GOAL_FACTOID);
+        MonsterManuelManager.reset(monster);
       }
 
-      String specialBountyString = Preferences.getString("currentSpecialBountyItem");
-      index = specialBountyString.indexOf(":");
-      if (index != -1) {
-        String specialBountyItemName = specialBountyString.substring(0, index);
-        String specialBountyMonsterName = BountyDatabase.getMonster(specialBountyItemName);
+      KoLCharacter.getFamiliar().addCombatExperience(responseText);
+      EdServantData.currentServant().addCombatExperience(responseText);
 
-        if (monsterName.equals("Sorrowful Hickory")
-            && specialBountyItemName.equals("hickory daiquiri")) {
-          // There is no bounty text for hickory daiquiri, so assume success instead
-          int bountyCount = StringUtilities.parseInt(specialBountyString.substring(index + 1));
-          if (bountyCount < 6) {
-            bountyCount++;
-            Preferences.setString("currentSpecialBountyItem", "hickory daiquiri:" + bountyCount);
-            String updateMessage = "You acquire a bounty item: hickory daiquiri";
-            AdventureResult result = AdventureResult.tallyItem("hickory daiquiri", false);
-            AdventureResult.addResultToList(KoLConstants.tally, result);
-            RequestLogger.updateSessionLog(updateMessage);
-            KoLmafia.updateDisplay(updateMessage);
-          }
-        } else if (monsterName.equals(specialBountyMonsterName)
-            && !responseText.contains(specialBountyItemName)
-            && !problemFamiliar()) {
-          KoLmafia.updateDisplay(
-              MafiaState.PENDING, "Special bounty item failed to drop from expected monster.");
-        }
+      FamiliarWinHandler handler = FAMILIAR_WIN_HANDLERS.get(familiar.getId());
+      if (handler != null) {
+        handler.won(familiar, responseText);
       }
-    }
-
-    // Check if a lecture on relativity is about to give you a copy
-    // of the monster you just fought.
-    if (responseText.contains("STEP INTO FOLD IN SPACETIME")) {
-      Preferences.setBoolean("_relativityMonster", true);
-    }
 
-    // Check for runaways. Only a free runaway decreases chance
-    if ((responseText.contains("shimmers as you quickly float away")
-            || responseText.contains("your pants suddenly activate"))
-        && !KoLCharacter.inBigcore()) {
-      Preferences.increment("_navelRunaways", 1);
-    } else if ((responseText.contains("his back, and flooms away")
-            || responseText.contains("speed your escape.  Thanks"))
-        && !KoLCharacter.inBigcore()) {
-      Preferences.increment("_banderRunaways", 1);
-    }
+      if (KoLCharacter.inRaincore()) {
+        // Check for Thunder gain
+        Matcher thunderMatcher =
+            FightRequest.THUNDER_PATTERN.matcher(FightRequest.lastResponseText);
+        if (thunderMatcher.find()) {
+          String gainThunder = thunderMatcher.group(1);
+          KoLCharacter.incrementThunder(StringUtilities.parseInt(gainThunder));
+          String updateMessage = "You swallow " + gainThunder + " dB of Thunder";
+          RequestLogger.updateSessionLog(updateMessage);
+          KoLmafia.updateDisplay(updateMessage);
+        }
 
-    // You hug him with your filthy rotting arms.
-    if (responseText.contains("with your filthy rotting arms.")) {
-      Preferences.increment("_bearHugs", 1);
-    }
+        Matcher rainMatcher = FightRequest.RAIN_PATTERN.matcher(FightRequest.lastResponseText);
+        if (rainMatcher.find()) {
+          String gain = rainMatcher.group(1);
+          KoLCharacter.incrementRain(StringUtilities.parseInt(gain));
+          String updateMessage = "You recover " + gain + " drops of Rain";
+          RequestLogger.updateSessionLog(updateMessage);
+          KoLmafia.updateDisplay(updateMessage);
+        }
 
-    if (responseText.contains("undefined constant itemprocess")) {
-      Preferences.setBoolean("_softwareGlitchTurnReceived", true);
-    }
+        Matcher lightningMatcher =
+            FightRequest.LIGHTNING_PATTERN.matcher(FightRequest.lastResponseText);
+        if (lightningMatcher.find()) {
+          String gain = lightningMatcher.group(1);
+          KoLCharacter.incrementLightning(StringUtilities.parseInt(gain));
+          String updateMessage = "You recover " + gain + " bolts of lightning";
+          RequestLogger.updateSessionLog(updateMessage);
+          KoLmafia.updateDisplay(updateMessage);
+        }
+      }
 
-    // Check for worn-out stickers
-    int count = 0;
-    Matcher m = WORN_STICKER_PATTERN.matcher(responseText);
-    while (m.find()) {
-      ++count;
-    }
-    if (count > 0) {
-      KoLmafia.updateDisplay(
-          (count == 1 ? "A sticker" : count + " stickers") + " fell off your weapon.");
-      EquipmentManager.stickersExpired(count);
-    }
+      // You see a strange cartouche painted on a nearby wall.
+      if (KoLCharacter.hasEquipped(ItemPool.CROWN_OF_ED, Slot.HAT)
+          && responseText.contains("You see a strange cartouche")) {
+        FightRequest.handleCartouche(responseText);
+      }
 
-    // Check for ballroom song hint
-    m = BALLROOM_SONG_PATTERN.matcher(responseText);
-    if (m.find()) {
-      Preferences.setInteger("lastQuartetAscension", KoLCharacter.getAscensions());
-      Preferences.setInteger("lastQuartetRequest", m.start(1) != -1 ? 1 : m.start(2) != -1 ? 2 : 3);
-    }
+      // Booze Filler surveys the scene from atop the throne, and gains 1 Experience
+      if (KoLCharacter.hasEquipped(ItemPool.HATSEAT, Slot.HAT)
+          && responseText.contains("throne, and gains 1 Experience")) {
+        KoLCharacter.getEnthroned().addNonCombatExperience(1);
+      }
 
-    // Check for special familiar actions
+      // Llama surveys the scene from your back, and gains 1 Experience.
+      if (KoLCharacter.hasEquipped(ItemPool.BUDDY_BJORN, Slot.CONTAINER)
+          && responseText.contains("back, and gains 1 Experience")) {
+        KoLCharacter.getBjorned().addNonCombatExperience(1);
+      }
 
-    // Check for weapon-specific cases
-    if (KoLCharacter.hasEquipped(ItemPool.get(ItemPool.LEAFBLOWER, 1))) {
-      Preferences.increment("_leafblowerML", 1, 25, false);
-    }
+      if (Preferences.getInteger("_spookyJellyUses") > 0
+          && responseText.contains("Spooked by the emanations")) {
+        Preferences.decrement("_spookyJellyUses");
+      }
 
-    // Cancel any combat modifiers
-    ModifierDatabase.overrideRemoveModifier(ModifierType.GENERATED, "fightMods");
+      if (KoLCharacter.hasEquipped(ItemPool.SNOW_SUIT, Slot.FAMILIAR)) {
+        if (Preferences.getInteger("_snowSuitCount") < 75
+            && Preferences.increment("_snowSuitCount") % 5 == 0) {
+          KoLCharacter.recalculateAdjustments();
+        }
+      }
 
-    if (KoLCharacter.isSauceror()) {
-      // Check for Soulsauce gain
-      Matcher SoulsauceMatcher =
-          FightRequest.SOULSAUCE_PATTERN.matcher(FightRequest.lastResponseText);
-      if (SoulsauceMatcher.find()) {
-        String gainSoulsauce = SoulsauceMatcher.group(1);
-        KoLCharacter.incrementSoulsauce(StringUtilities.parseInt(gainSoulsauce));
-        String updateMessage = "You gain " + gainSoulsauce + " Soulsauce";
-        RequestLogger.updateSessionLog(updateMessage);
-        KoLmafia.updateDisplay(updateMessage);
+      if (KoLCharacter.hasEquipped(ItemPool.get(ItemPool.XIBLAXIAN_HOLOWRIST_PUTER, 1))) {
+        Preferences.increment("_holoWristProgress");
       }
-    }
 
-    // Lose Disco Momentum
-    KoLCharacter.resetDiscoMomentum();
+      if (QuestDatabase.isQuestStarted(Quest.GUZZLR)
+          && Preferences.getString("guzzlrQuestLocation").equals(locationName)
+          && responseText.contains(Preferences.getString("guzzlrQuestClient"))) {
+        int incr = Math.max(3, 10 - Preferences.getInteger("_guzzlrDeliveries"));
+        if (KoLCharacter.hasEquipped(ItemPool.GUZZLR_SHOES)) {
+          incr = (int) Math.floor(1.5 * incr);
+        }
+        Preferences.increment("guzzlrDeliveryProgress", incr);
+      }
 
-    // "You pull out your personal massager and use it to work the
-    // kinks out of your neck and your back. You stop there,
-    // though, as nothing below that point is feeling particularly
-    // kinky. Unfortunately, it looks like the batteries in the
-    // thing were only good for that one use."
+      if (QuestDatabase.isQuestStarted(Quest.GUZZLR)
+          && responseText.contains("You finally manage to track down")) {
+        String tier = Preferences.getString("guzzlrQuestTier");
+        int itemId = ItemDatabase.getItemId(Preferences.getString("guzzlrQuestBooze"));
 
-    if (responseText.contains("You pull out your personal massager")) {
-      ResultProcessor.processItem(ItemPool.PERSONAL_MASSAGER, -1);
-      KoLConstants.activeEffects.remove(KoLAdventure.BEATEN_UP);
-    }
+        // For platinum deliveries, the cocktail with the highest item number is taken
+        if (itemId == ItemPool.GUZZLR_COCKTAIL_SET) {
+          tier = "platinum";
 
-    // You groan and loosen your overtaxed belt.
-    // Y'know, you're full, but you could probably make room for <i>one more thing</i>...
-    if (responseText.contains("could probably make room for <i>one more thing</i>")) {
-      Preferences.increment("_pantsgivingFullness");
-      KoLCharacter.recalculateAdjustments();
-      String updateMessage =
-          "Pantsgiving increases max fullness by one to " + KoLCharacter.getStomachCapacity() + ".";
-      RequestLogger.updateSessionLog(updateMessage);
-      KoLmafia.updateDisplay(updateMessage);
-    }
+          for (int i = 10545; i >= 10541; i--) {
+            if (InventoryManager.getCount(i) > 0) {
+              ResultProcessor.processItem(i, -1);
+              break;
+            }
+          }
+        } else {
+          ResultProcessor.processItem(itemId, -1);
+        }
 
-    // Check for Latte unlocks
-    if (KoLCharacter.hasEquipped(ItemPool.LATTE_MUG, Slot.OFFHAND)) {
-      LatteRequest.parseFight(locationName, responseText);
-    }
+        // Increment number of completed deliveries for this tier
+        if (tier != null && !tier.isEmpty()) {
+          Preferences.increment("guzzlr" + StringUtilities.toTitleCase(tier) + "Deliveries");
+        }
 
-    AdventureSpentDatabase.addTurn(KoLAdventure.lastLocationName);
+        // Increment the number of completed deliveries today.
+        // Useful for determining how many combats the next delivery will take.
+        Preferences.increment("_guzzlrDeliveries");
 
-    int adventure = KoLAdventure.lastAdventureId();
+        // Reset the quest
+        Preferences.setString("guzzlrQuestBooze", "");
+        Preferences.setString("guzzlrQuestClient", "");
+        Preferences.setString("guzzlrQuestLocation", "");
+        Preferences.setString("guzzlrQuestTier", "");
+        Preferences.setInteger("guzzlrDeliveryProgress", 0);
+        QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.UNSTARTED);
+      }
+      if (responseText.contains("The outdoors is so refreshing, that adventure just flew right by!")
+          // charges are spent even if another reason caused the fight to be free
+          || (free && location != null && location.getEnvironment() == Environment.OUTDOOR)) {
+        Preferences.decrement("breathitinCharges", 1, 0);
+      }
 
-    if (KOLHSRequest.isKOLHSLocation(adventure)) {
-      Preferences.increment("_kolhsAdventures", 1);
-    }
+      if (!free && responseText.contains("playing on your SongBoom")) {
+        Preferences.increment("_boomBoxFights");
+      }
 
-    GrimstoneManager.incrementFights(adventure);
+      // Track monsters defeated on the current PirateRealm island
+      if (adventure == AdventurePool.PIRATEREALM_ISLAND) {
+        var defeated = Preferences.increment("_pirateRealmIslandMonstersDefeated");
+        if (defeated == (QuestManager.getPirateRealmIslandNumber() < 2 ? 4 : 9)) {
+          QuestManager.setPirateRealmIslandQuestProgress(3);
+        }
+      }
 
-    if (adventure == AdventurePool.DEEP_MACHINE_TUNNELS) {
-      Preferences.decrement("encountersUntilDMTChoice");
-    }
-
-    if (adventure == AdventurePool.SHADOW_RIFT) {
-      RufusManager.handleShadowRiftFight(monster);
-    }
-
-    if (adventure == AdventurePool.NEVERENDING_PARTY) {
-      Preferences.decrement("encountersUntilNEPChoice", 1, 0);
-    }
+      if (IslandManager.isBattlefieldMonster(monsterName)) {
+        IslandManager.handleBattlefieldMonster(responseText, monsterName);
+      } else if (special == SpecialMonster.SEWER && !EncounterManager.ignoreSpecialMonsters) {
+        AdventureResult result = AdventureResult.tallyItem("sewer tunnel explorations", false);
+        AdventureResult.addResultToList(KoLConstants.tally, result);
+      }
 
-    if (adventure == AdventurePool.YACHT) {
-      Preferences.decrement("encountersUntilYachtzeeChoice", 1, 0);
-    }
+      switch (monsterName) {
+        case "black pudding" -> Preferences.increment("blackPuddingsDefeated", 1);
+        case "general seal" -> ResultProcessor.removeItem(ItemPool.ABYSSAL_BATTLE_PLANS);
+        case "Frank &quot;Skipper&quot; Dan, the Accordion Lord" -> ResultProcessor.removeItem(
+            ItemPool.SUSPICIOUS_ADDRESS);
+        case "Chef Boy, R&amp;D" -> ResultProcessor.removeItem(ItemPool.CHEF_BOY_BUSINESS_CARD);
+        case "drunk pygmy" -> {
+          if (responseText.contains("notices the Bowl of Scorpions")) {
+            ResultProcessor.removeItem(ItemPool.BOWL_OF_SCORPIONS);
+            Preferences.increment("_drunkPygmyBanishes");
+          }
+        }
+        case "bugbear robo-surgeon" -> BugbearManager.clearShipZone("Medbay");
+        case "wumpus" -> WumpusManager.reset();
+        case "Baron von Ratsworth" -> TavernRequest.addTavernLocation('6');
+        case "the invader" -> Preferences.setBoolean("spaceInvaderDefeated", true);
+        case "Eldritch Tentacle" -> {
+          Preferences.increment("eldritchTentaclesFought", 1);
+          Preferences.increment("_eldritchTentaclesFoughtToday", 1);
+        }
+        case "Glass Jack Hummel" -> {
+          Preferences.setBoolean("pirateRealmUnlockedSpyglass", true);
+          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
+        }
+        case "Red Roger" -> {
+          Preferences.setBoolean("pirateRealmUnlockedFlag", true);
+          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
+        }
+        case "giant giant crab" -> {
+          Preferences.setBoolean("pirateRealmUnlockedCrabsicle", true);
+          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 6);
+        }
+        case "jungle titan" -> {
+          Preferences.setBoolean("pirateRealmUnlockedBreastplate", true);
+          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 11);
+        }
+        case "plastic pirate" -> Preferences.increment(
+            "pirateRealmPlasticPiratesDefeated", 1, 50, false);
+        case "pirate radio" -> {
+          Preferences.setBoolean("pirateRealmUnlockedRadioRing", true);
+          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
+        }
+      }
 
-    if (monsterName.equals("unusual construct")) {
-      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_WHITE);
-      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_BLACK);
-      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_RED);
-      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_GREEN);
-      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_BLUE);
-      ResultProcessor.removeItem(ItemPool.STRANGE_DISC_YELLOW);
-    }
+      if (KoLCharacter.hasEquipped(ItemPool.BONE_ABACUS, Slot.OFFHAND)
+          && responseText.contains("You move a bone on the abacus to record your victory")) {
+        Preferences.increment("boneAbacusVictories", 1);
+      }
 
-    if (KoLCharacter.inTheSource()) {
-      Matcher intervalMatcher = FightRequest.SOURCE_INTERVAL_PATTERN.matcher(responseText);
-      if (intervalMatcher.find()) {
-        Preferences.setInteger(
-            "sourceInterval", (int) (0.8 * StringUtilities.parseInt(intervalMatcher.group(1))));
-      } else {
-        Preferences.setInteger("sourceInterval", 0);
+      if (KoLCharacter.getAscensionClass() == AscensionClass.SNAKE_OILER) {
+        if (responseText.contains("+1 Venom")) {
+          Preferences.increment("awolVenom");
+        } else if (responseText.contains("+1 Medicine")) {
+          Preferences.increment("awolMedicine");
+        }
       }
-    }
 
-    if (KoLCharacter.inAvantGuard()) {
-      if (KoLCharacter.getEffectiveFamiliar().getId() == FamiliarPool.BURLY_BODYGUARD) {
-        // After 50 fights (won, lost, whatever) in the Avant Guard path, allows a "chat" to select
-        // a particular bodyguard.
-        if (responseText.contains("looks mildly talkative")) {
-          Preferences.setInteger("bodyguardCharge", 50);
-          familiar.setCharges(50);
-        } else {
-          familiar.setCharges(Preferences.increment("bodyguardCharge", 1, 50, false));
+      if (Preferences.getBoolean("_circadianRhythmsRecalled")) {
+        if (responseText.contains("sleep a bit better tonight")) {
+          Preferences.increment("_circadianRhythmsAdventures", 1, 11, false);
         }
       }
-    }
 
-    // A monster only gets added to your nostalgic/backup camera buffer if the fight is "completed"
-    if (monster != null && !monster.isNoCopy()) {
-      Preferences.setString("lastCopyableMonster", monsterName);
+      QuestManager.updateQuestData(FightRequest.lastResponseText, monsterName);
     }
 
-    boolean free = responseText.contains("FREEFREEFREE");
+    if (KoLCharacter.isEd()) {
+      if (responseText.contains("Continue to the Underworld")) {
+        Preferences.increment("_edDefeats");
+      } else {
+        Preferences.setInteger("_edDefeats", 0);
+        Preferences.setBoolean("edUsedLash", false);
+      }
+    } else if (KoLCharacter.isPlumber()) {
+      KoLCharacter.resetCurrentPP();
+    }
 
-    if (zone.equals("Server Room")) {
-      // OVERCLOCK(10) gives you 10 free fights per day in the Cyber
-      // Zones. Are there other things you can do to force a free fight?
-      // Free runaway?
-      //
-      // If so, does doing such still count down OVERCLOCK(10)?
+    // Handle incrementing stillsuit sweat (this happens whether the fight is won or lost)
+    StillSuitManager.handleSweat(responseText);
 
-      // Something like this would be nice. I submitted a report to KoL
-      // suggesting it.
+    // looks askance at the toy bow you've provided and shoots the plunger-arrow over the horizon,
+    // then proceeds to drag something more appropriate back.
+    if (KoLCharacter.hasEquipped(ItemPool.TOY_CUPID_BOW, Slot.FAMILIAR)) {
+      int currentFamiliarId = KoLCharacter.getEffectiveFamiliar().getId();
 
-      /*
-      if (responseText.contains("...overclock is ending...")) {
-        Preferences.setInteger("_cyberFreeFights", 10);
-      } else if (responseText.contains("...overclock is active...")) {
-        Preferences.increment("_cyberFreeFights", 1, 10, false);
+      if (Preferences.getInteger("cupidBowLastFamiliar") == currentFamiliarId) {
+        Preferences.increment("cupidBowFights", 1, 5, false);
+      } else {
+        Preferences.setInteger("cupidBowLastFamiliar", currentFamiliarId);
+        Preferences.setInteger("cupidBowFights", 1);
       }
-      */
+      if (responseText.contains("looks askance at the toy bow")) {
+        String currentFams = Preferences.getString("_cupidBowFamiliars");
+        Preferences.setString(
+            "_cupidBowFamiliars",
+            (currentFams.isEmpty() ? "" : (currentFams + ";")) + currentFamiliarId);
+      }
+    }
 
-      // KoL didn't used to include FREEFREEFREE. This was a workaround:
+    // Handle autumnaton checking (this happens whether the fight is won or lost)
+    AutumnatonManager.parseFight(responseText);
 
-      /*
-      if (KoLCharacter.hasSkill(SkillPool.OVERCLOCK10)
-          && Preferences.getInteger("_cyberFreeFights") < 10) {
-        Preferences.increment("_cyberFreeFights", 1, 10, false);
-        free = true;
-      }
-      */
+    FightRequest.checkForMultiFight(won, responseText);
+    FightRequest.checkForChoiceFollowsFight(responseText);
 
-      // KoL now does include FREEFREE. Lacking special messages, assume
-      // it is a result of OVERCLOCK(10) and count it as such.
+    // Do this AFTER we set the above so it does not continue
+    // logging in if you are still in a fight or choice
+    FightRequest.clearInstanceData();
+    FightRequest.won = won;
 
-      if (free) {
-        Preferences.increment("_cyberFreeFights", 1, 10, false);
-      }
+    // <a href="fight.php" id="againlink">The barrier between world is torn...</a>
+    if (FightRequest.inMultiFight && responseText.contains("The barrier between world")) {
+      KoLAdventure.lastLocationName = "Eldritch Attunement";
     }
+  }
 
-    if (adventure == AdventurePool.OLIVERS_SPEAKEASY_BRAWL) {
-      if (responseText.contains(
-          "Looks like the fight is brawl is heating up, further encounters here will cost an adventure.")) {
-        Preferences.setInteger("_speakeasyFreeFights", 3);
-      } else if (free) {
-        Preferences.increment("_speakeasyFreeFights", 1, 3, false);
-      }
+  private static void trackFinalRoundEquipment(final String responseText) {
+    var garbledCombat = FightRequest.machineElf || FightRequest.anapest || FightRequest.haiku;
+
+    // Track ghost pepper
+    if (responseText.contains("The ghost pepper you ate") && KoLCharacter.getCurrentHP() > 0) {
+      Preferences.decrement("ghostPepperTurnsLeft", 1, 1);
+    } else if (garbledCombat) {
+      Preferences.decrement("ghostPepperTurnsLeft", 1, 0);
+    } else {
+      Preferences.setInteger("ghostPepperTurnsLeft", 0);
     }
 
-    if (free) {
-      String updateMessage = "This combat did not cost a turn";
-      RequestLogger.updateSessionLog(updateMessage);
-      KoLmafia.updateDisplay(updateMessage);
+    // Track Gets-You-Drunk
+    if (responseText.contains("The mulled wine you drank") && KoLCharacter.getCurrentHP() > 0) {
+      Preferences.decrement("getsYouDrunkTurnsLeft", 1, 1);
+    } else if (garbledCombat) {
+      Preferences.decrement("ghostPepperTurnsLeft", 1, 0);
     } else {
-      ColdMedicineCabinetCommand.trackEnvironment(location);
+      Preferences.setInteger("getsYouDrunkTurnsLeft", 0);
     }
 
-    Preferences.setBoolean("_lastCombatWon", won);
-    Preferences.setBoolean("_lastCombatLost", lost);
+    // Increment stinky cheese counter
+    int stinkyCount = EquipmentManager.getStinkyCheeseLevel();
+    if (stinkyCount > 0) {
+      Preferences.increment("_stinkyCheeseCount", stinkyCount);
+    }
 
-    if (!won) {
-      QuestManager.updateQuestFightLost(responseText, monsterName);
-    } else {
-      if (responseText.contains("monstermanuel.gif")) {
-        GoalManager.updateProgress(GoalManager.GOAL_FACTOID);
-        MonsterManuelManager.reset(monster);
-      }
+    // Increment Pantsgiving counter
+    if (KoLCharacter.hasEquipped(ItemPool.get(ItemPool.PANTSGIVING, 1), Slot.PANTS)) {
+      Preferences.increment("_pantsgivingCount");
+    }
 
-      KoLCharacter.getFamiliar().addCombatExperience(responseText);
-      EdServantData.currentServant().addCombatExperience(responseText);
+    if (responseText.contains("Your sugar chapeau slides")) {
+      EquipmentManager.breakEquipment(ItemPool.SUGAR_CHAPEAU, "Your sugar chapeau shattered.");
+    }
 
-      switch (familiar.getId()) {
-        case FamiliarPool.RIFTLET -> {
-          if (responseText.contains("shimmers briefly, and you feel it getting earlier.")) {
-            Preferences.increment("_riftletAdv", 1);
-          }
-        }
-        case FamiliarPool.REAGNIMATED_GNOME -> {
-          if (KoLCharacter.hasEquipped(ItemPool.GNOMISH_KNEE, Slot.FAMILIAR)
-              && GNOME_ADV_ACTIVATION.stream().anyMatch(responseText::contains)) {
-            Preferences.increment("_gnomeAdv", 1);
-          }
-        }
-        case FamiliarPool.HARE -> {
-          // <name> pulls an oversized pocketwatch out of his
-          // waistcoat and winds it. "Two days slow, that's what
-          // it is," he says.
-          if (responseText.contains("oversized pocketwatch")) {
-            Preferences.increment("_hareAdv", 1);
-            Preferences.setInteger("_hareCharge", 0);
-          } else {
-            Preferences.increment("_hareCharge", 1);
-          }
-          int hareCharge = Preferences.getInteger("_hareCharge");
-          familiar.setCharges(hareCharge);
-        }
-        case FamiliarPool.GIBBERER -> {
-          // <name> mutters dark secrets under his breath, and
-          // you feel time slow down.
-          KoLAdventure lastLocation = KoLAdventure.lastVisitedLocation();
-          boolean underwater = lastLocation != null && lastLocation.getEnvironment().isUnderwater();
-          Preferences.increment("_gibbererCharge", underwater ? 2 : 1, 15, true);
-          if (responseText.contains("you feel time slow down")) {
-            Preferences.increment("_gibbererAdv", 1);
-            // Normally the updating below is wasted, but it allows things
-            // to get in sync if progress is missed for some reason
-            if (underwater) {
-              Preferences.setInteger(
-                  "_gibbererCharge", Math.min(1, Preferences.getInteger("_gibbererCharge")));
-            } else {
-              Preferences.setInteger("_gibbererCharge", 0);
-            }
-          }
-          int gibbererCharge = Preferences.getInteger("_gibbererCharge");
-          familiar.setCharges(gibbererCharge);
-        }
-        case FamiliarPool.STOCKING_MIMIC -> {
-          // <name> reaches deep inside himself and pulls out a
-          // big bag of candy. Cool!
-          if (responseText.contains("pulls out a big bag of candy")) {
-            AdventureResult item = ItemPool.get(ItemPool.BAG_OF_MANY_CONFECTIONS, 1);
-            // The Stocking Mimic will do this once a day
-            Preferences.setBoolean("_bagOfCandy", true);
-            // Add bag of many confections to inventory
-            ResultProcessor.processItem(ItemPool.BAG_OF_MANY_CONFECTIONS, 1);
-            // Equip familiar with it
-            familiar.setItem(item);
-          }
+    if (responseText.contains("your sugar shank handle")) {
+      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHANK, "Your sugar shank shattered.");
+    }
 
-          // <name> gorges himself on candy from his bag.
-          if (responseText.contains("gorges himself on candy from his bag")) {
-            familiar.addNonCombatExperience(1);
-          }
-        }
-        case FamiliarPool.JACK_IN_THE_BOX -> {
-          // 1st JitB charge: You turn <name>'s crank for a while.
-          // This will fail if a SBIP is equipped, but the message is too short
-          if (responseText.contains("'s crank for a while.")) {
-            Preferences.setInteger("_jitbCharge", 1);
-          }
-          // 2nd JitB charge: The tension builds as you turn <name>'s crank some more.
-          else if (responseText.contains("'s crank some more.")) {
-            Preferences.setInteger("_jitbCharge", 2);
-          }
-          // 3rd JitB charge, popping it: You turn <name>'s crank a little more, and
-          // all of a sudden a horrible grinning clown head emerges with a loud bang.
-          // It wobbles back and forth on the end of its spring, as though dancing to
-          // some sinister calliope music you can't actually hear...
-          else if (responseText.contains("a horrible grinning clown head emerges")) {
-            Preferences.setInteger("_jitbCharge", 0);
-          }
-          int jitbCharge = Preferences.getInteger("_jitbCharge");
-          familiar.setCharges(jitbCharge);
-        }
-        case FamiliarPool.HATRACK -> {
-          if (responseText.contains(
-                  "sees that you're about to get attacked and trips it before it can attack you.")
-              || responseText.contains(
-                  "does the Time Warp, then does the Time Warp again. Clearly, madness has taken its toll on him.")
-              || responseText.contains("The air shimmers around you.")) {
-            Preferences.increment("_timeHelmetAdv", 1);
-          }
-        }
-        case FamiliarPool.HIPSTER -> {
-          //  The words POWER UP appear above <name>'s head as he
-          //  instantly grows a stupid-looking moustache.
-          if (responseText.contains("instantly grows a stupid-looking moustache")) {
-            AdventureResult item = ItemPool.get(ItemPool.IRONIC_MOUSTACHE, 1);
-            // The Mini-Hipster will do this once a day
-            Preferences.setBoolean("_ironicMoustache", true);
-            // Add ironic moustache to inventory
-            ResultProcessor.processItem(ItemPool.IRONIC_MOUSTACHE, 1);
-            // Equip familiar with it
-            familiar.setItem(item);
-          }
-        }
-        case FamiliarPool.BOOTS -> {
-          if (responseText.contains("stomps your opponent into paste")
-              || responseText.contains("stomps your opponents into paste")
-              || responseText.contains("shuffles its heels, gets a running start, then leaps on")) {
-            Preferences.setBoolean("bootsCharged", false);
-          }
-        }
-        case FamiliarPool.HAPPY_MEDIUM -> {
-          if (responseText.contains(
-                  "waves her fingers in front of her face and her aura glows blue.")
-              || responseText.contains("A flickering blue aura appears around ")
-              || responseText.contains("A blue aura appears around ")
-              || responseText.contains("and her aura glows blue.")
-              || responseText.contains(
-                  "rolls her eyes back in her head and her aura glows blue.")) {
-            KoLCharacter.setFamiliarImage("medium_1.gif");
-            familiar.setCharges(1);
-          }
+    if (responseText.contains("drop something as sticky as the sugar shield")) {
+      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHIELD, "Your sugar shield shattered.");
+    }
 
-          if (responseText.contains(
-                  "presses her fingers to her temples, and her aura changes from blue to orange.")
-              || responseText.contains(
-                  "changes to orange. She presses her palms together tightly and murmurs")
-              || responseText.contains(
-                  "lights a stick of sage and her aura changes from blue to orange.")
-              || responseText.contains("changes from blue to orange and she begins to tremble.")
-              || responseText.contains(
-                  "mutters under her breath, her aura changing from blue to orange.")) {
-            KoLCharacter.setFamiliarImage("medium_2.gif");
-            familiar.setCharges(2);
-          }
+    if (responseText.contains("Your sugar shillelagh absorbs the shock")) {
+      EquipmentManager.breakEquipment(
+          ItemPool.SUGAR_SHILLELAGH, "Your sugar shillelagh shattered.");
+    }
 
-          if (responseText.contains(
-                  "shakes like a leaf on the wind as her aura changes from orange to a deep, angry red.")
-              || responseText.contains(
-                  "levitates a few feet off of the ground, her aura changing from orange to a violent red.")
-              || responseText.contains(
-                  "drops to the ground and twitches, her aura changing from orange to red.")
-              || responseText.contains(
-                  "squeezes her eyes shut and shudders as her aura changes from orange to red.")
-              || responseText.contains(" changes to a deep red.")) {
-            KoLCharacter.setFamiliarImage("medium_3.gif");
-            familiar.setCharges(3);
-          }
-          /*
-                  if ( responseText.indexOf( "waves her hands and extracts some of your opponent aura into a cocktail shaker") != -1
-                    || responseText.indexOf( "holds out a cocktail glass and siphons some of his aura into the glass" ) != -1
-                    || responseText.indexOf( "draws out some of its spirit and makes a cocktail with it." ) != -1
-                    || responseText.indexOf( "Let's see. . . a little of this, a little of that, and some of that creature's aura, and presto!" ) != -1
-                    || responseText.indexOf( "conjurs the spirit of your opponent into a cocktail glass and mixes you a drink." ) != -1 )
-                  {
-                    KoLCharacter.setFamiliarImage( "medium_0.gif" );
-                    familiar.setCharges( 0 );
-                  }
-          */
-        }
-        case FamiliarPool.GRINDER -> {
-          // Increment Organ Grinder combat counter
-          String piediv = "".equals(Preferences.getString("pieStuffing")) ? "" : ",";
-          if (responseText.contains("some grinder fodder, muttering")) {
-            Preferences.increment("_piePartsCount", 1);
-            String s = Preferences.getString("pieStuffing") + piediv + "fish";
-            if (Preferences.getInteger("_piePartsCount") != 0)
-              Preferences.setString("pieStuffing", s);
-          } else if (responseText.contains("harvests a few choice bits for his grinder")) {
-            Preferences.increment("_piePartsCount", 1);
-            String s = Preferences.getString("pieStuffing") + piediv + "boss";
-            if (Preferences.getInteger("_piePartsCount") != 0)
-              Preferences.setString("pieStuffing", s);
-          } else if (responseText.contains("a few choice bits")) {
-            Preferences.increment("_piePartsCount", 1);
-            String s = Preferences.getString("pieStuffing") + piediv + "normal";
-            if (Preferences.getInteger("_piePartsCount") != 0)
-              Preferences.setString("pieStuffing", s);
-          } else if (responseText.contains("your opponent and tosses them")) {
-            Preferences.increment("_piePartsCount", 1);
-            String s = Preferences.getString("pieStuffing") + piediv + "stench";
-            if (Preferences.getInteger("_piePartsCount") != 0)
-              Preferences.setString("pieStuffing", s);
-          } else if (responseText.contains("insides, squealing something")) {
-            Preferences.increment("_piePartsCount", 1);
-            String s = Preferences.getString("pieStuffing") + piediv + "hot";
-            if (Preferences.getInteger("_piePartsCount") != 0)
-              Preferences.setString("pieStuffing", s);
-          } else if (responseText.contains("grind, chattering")) {
-            Preferences.increment("_piePartsCount", 1);
-            String s = Preferences.getString("pieStuffing") + piediv + "spooky";
-            if (Preferences.getInteger("_piePartsCount") != 0)
-              Preferences.setString("pieStuffing", s);
-          } else if (responseText.contains("My Hampton has a funny feeling")) {
-            Preferences.increment("_piePartsCount", 1);
-            String s = Preferences.getString("pieStuffing") + piediv + "sleaze";
-            if (Preferences.getInteger("_piePartsCount") != 0)
-              Preferences.setString("pieStuffing", s);
-          } else if (responseText.contains("grindable organs, muttering")) {
-            Preferences.increment("_piePartsCount", 1);
-            String s = Preferences.getString("pieStuffing") + piediv + "cold";
-            if (Preferences.getInteger("_piePartsCount") != 0)
-              Preferences.setString("pieStuffing", s);
-          }
-        }
-        case FamiliarPool.ARTISTIC_GOTH_KID -> {
-          if (KoLCharacter.getHippyStoneBroken()) {
-            if (responseText.contains("You gain 1 PvP Fight")
-                && GOTH_KID_PVP_PATTERN.matcher(responseText).find()) {
-              Preferences.setInteger("_gothKidCharge", 0);
-              Preferences.increment("_gothKidFights");
-            } else {
-              Preferences.increment("_gothKidCharge", 1);
-            }
-            int gothKidCharge = Preferences.getInteger("_gothKidCharge");
-            familiar.setCharges(gothKidCharge);
-          }
-        }
-        case FamiliarPool.CRIMBO_SHRUB -> {
-          if (KoLCharacter.getHippyStoneBroken()
-              && Preferences.getString("shrubGarland").equals("PvP")) {
-            if (responseText.contains("You gain 1 PvP Fight")) {
-              Preferences.setInteger("_shrubCharge", 0);
-            } else {
-              Preferences.increment("_shrubCharge", 1);
-            }
-            int shrubCharge = Preferences.getInteger("_shrubCharge");
-            familiar.setCharges(shrubCharge);
-          }
-        }
-        case FamiliarPool.BADGER -> {
-          if (responseText.contains("produces a rainbow-colored mushroom")) {
-            Preferences.setInteger("_badgerCharge", 0);
-          } else {
-            Preferences.increment("_badgerCharge", 1);
-          }
-          int badgerCharge = Preferences.getInteger("_badgerCharge");
-          familiar.setCharges(badgerCharge);
-        }
-        case FamiliarPool.PIXIE -> {
-          if (responseText.contains("He tosses you a bottle of absinthe")) {
-            Preferences.setInteger("_pixieCharge", 0);
-          } else if (!KoLConstants.activeEffects.contains(EffectPool.get(EffectPool.ABSINTHE))) {
-            Preferences.increment("_pixieCharge", 1);
-          }
-          int pixieCharge = Preferences.getInteger("_pixieCharge");
-          familiar.setCharges(pixieCharge);
-        }
-        case FamiliarPool.LLAMA -> {
-          if (responseText.contains("This gong will enable you to see things")) {
-            Preferences.setInteger("_llamaCharge", 0);
-          } else {
-            Preferences.increment("_llamaCharge", 1);
-          }
-          int llamaCharge = Preferences.getInteger("_llamaCharge");
-          familiar.setCharges(llamaCharge);
-        }
-        case FamiliarPool.SANDWORM -> {
-          if (responseText.contains(
-              "he belches some murky fluid back into the bottle and hands it to you")) {
-            Preferences.setInteger("_sandwormCharge", 0);
-          } else {
-            Preferences.increment("_sandwormCharge", 1);
-          }
-          int sandwormCharge = Preferences.getInteger("_sandwormCharge");
-          familiar.setCharges(sandwormCharge);
-        }
-        case FamiliarPool.TRON -> {
-          if (responseText.contains("hands you an actual, literal token")) {
-            Preferences.setInteger("_rogueProgramCharge", 0);
-          } else {
-            Preferences.increment("_rogueProgramCharge", 1);
-          }
-          int rogueProgramCharge = Preferences.getInteger("_rogueProgramCharge");
-          familiar.setCharges(rogueProgramCharge);
-        }
-        case FamiliarPool.ALIEN -> {
-          if (responseText.contains("coughs up something covered in corrosive goo")) {
-            Preferences.setInteger("_xenomorphCharge", 0);
-          } else {
-            Preferences.increment("_xenomorphCharge", 1);
-          }
-          int alienCharge = Preferences.getInteger("_xenomorphCharge");
-          familiar.setCharges(alienCharge);
-        }
-        case FamiliarPool.GROOSE -> {
-          if (responseText.contains("he produces a small glob of grease")) {
-            Preferences.setInteger("_grooseCharge", 0);
-          } else {
-            Preferences.increment("_grooseCharge", 1);
-          }
-          int grooseCharge = Preferences.getInteger("_grooseCharge");
-          familiar.setCharges(grooseCharge);
-        }
-        case FamiliarPool.KLOOP -> {
-          if (responseText.contains("drops at your feet a small leatherbound book")) {
-            Preferences.setInteger("_kloopCharge", 0);
-          } else {
-            Preferences.increment("_kloopCharge", 1);
-          }
-          int kloopCharge = Preferences.getInteger("_kloopCharge");
-          familiar.setCharges(kloopCharge);
-        }
-        case FamiliarPool.UNCONSCIOUS_COLLECTIVE -> {
-          if (responseText.contains("dream stuff")) {
-            Preferences.setInteger("_unconsciousCollectiveCharge", 0);
-          } else {
-            Preferences.increment("_unconsciousCollectiveCharge", 1);
-          }
-          int unconsciousCollectiveCharge = Preferences.getInteger("_unconsciousCollectiveCharge");
-          familiar.setCharges(unconsciousCollectiveCharge);
-        }
-        case FamiliarPool.ANGRY_JUNG_MAN -> {
-          Preferences.increment("jungCharge", 1);
-          int newCharges = Preferences.getInteger("jungCharge");
-          familiar.setCharges(newCharges);
-        }
-        case FamiliarPool.GRIM_BROTHER -> {
-          if (responseText.contains("finishes an illustrated manuscript with a final flourish")) {
-            Preferences.setInteger("_grimBrotherCharge", 0);
-          } else {
-            Preferences.increment("_grimBrotherCharge", 1);
-          }
-          int grimBrotherCharge = Preferences.getInteger("_grimBrotherCharge");
-          familiar.setCharges(grimBrotherCharge);
-        }
-        case FamiliarPool.GRIMSTONE_GOLEM -> {
-          // Only charges if no mask has dropped today
-          if (Preferences.getInteger("_grimstoneMaskDrops") == 0) {
-            Preferences.increment("grimstoneCharge", 1);
-            int grimCharges = Preferences.getInteger("grimstoneCharge");
-            familiar.setCharges(grimCharges);
-          }
-        }
-        case FamiliarPool.GOLDEN_MONKEY -> {
-          if (responseText.contains("You sweep it up and take it with you.")) {
-            Preferences.setInteger("_goldenMoneyCharge", 0);
-          } else {
-            Preferences.increment("_goldenMoneyCharge", 1);
-          }
-          int goldenMoneyCharge = Preferences.getInteger("_goldenMoneyCharge");
-          familiar.setCharges(goldenMoneyCharge);
-        }
-        case FamiliarPool.ADVENTUROUS_SPELUNKER -> {
-          // Only charges if no Tale has dropped today
-          if (Preferences.getInteger("_spelunkingTalesDrops") == 0) {
-            Preferences.increment("_spelunkerCharges", 1);
-            int adventurousSpelunkerCharges = Preferences.getInteger("_spelunkerCharges");
-            familiar.setCharges(adventurousSpelunkerCharges);
-          }
-        }
-        case FamiliarPool.STEAM_CHEERLEADER -> {
-          int dec = KoLCharacter.hasEquipped(ItemPool.SPIRIT_SOCKET_SET, Slot.FAMILIAR) ? 1 : 2;
-          int currentSteam = Preferences.getInteger("_cheerleaderSteam");
-          if (currentSteam - dec < 0) {
-            dec = currentSteam;
-          }
-          Preferences.decrement("_cheerleaderSteam", dec);
-        }
-        case FamiliarPool.NANORHINO -> {
-          int currentCharge = Preferences.getInteger("_nanorhinoCharge");
-          int newCharge =
-              currentCharge
-                  + (KoLCharacter.hasEquipped(ItemPool.NANORHINO_CREDIT_CARD, Slot.FAMILIAR)
-                      ? 3
-                      : 2);
-          // Verify value if text visible
-          Matcher nanorhinoCharge1Matcher =
-              FightRequest.NANORHINO_CHARGE1_PATTERN.matcher(responseText);
-          Matcher nanorhinoCharge2Matcher =
-              FightRequest.NANORHINO_CHARGE2_PATTERN.matcher(responseText);
-          if (nanorhinoCharge1Matcher.find()) {
-            newCharge = StringUtilities.parseInt(nanorhinoCharge1Matcher.group(1));
-          } else if (nanorhinoCharge2Matcher.find()) {
-            newCharge = StringUtilities.parseInt(nanorhinoCharge2Matcher.group(1));
-          }
-          if (newCharge > 100) {
-            newCharge = 100;
-          }
-          Preferences.setInteger("_nanorhinoCharge", newCharge);
-        }
-        case FamiliarPool.CUBELING -> Preferences.increment("cubelingProgress");
-        case FamiliarPool.REANIMATOR -> {
-          if (responseText.contains("injects an arm")
-              || responseText.contains("reanimates an arm")
-              || responseText.contains("injects one of your opponent's arms")
-              || responseText.contains("injects the arm")
-              || responseText.contains("arm drags itself off")
-              || responseText.contains("grabs  your opponent's left arm")
-              || responseText.contains("reanimate an arm")
-              || responseText.contains("reanimates one of your opponent's arms")
-              || responseText.contains("grabs the arm and reanimates it")) {
-            Preferences.increment("reanimatorArms", 1);
-          } else if (responseText.contains("injects one of your opponent's legs")
-              || responseText.contains("animates one of your opponent's legs")
-              || responseText.contains("severs one of your opponent's legs")
-              || responseText.contains("This leg is precisely what the swarm needs!")
-              || responseText.contains("grabs a right leg to animate")) {
-            Preferences.increment("reanimatorLegs", 1);
-          } else if (responseText.contains("grabs  your opponent's head")
-              || responseText.contains("grabs your  your opponent's head")
-              || responseText.contains("lops off  your opponent's head")
-              || responseText.contains("takes a skull to use later")) {
-            Preferences.increment("reanimatorSkulls", 1);
-          } else if (responseText.contains("grabs a part off  your opponent")
-              || responseText.contains("grabs a chunk of  your opponent")
-              || responseText.contains("animates a weird bit of  your opponent")
-              || responseText.contains("animates a weird part from  your opponent")
-              || responseText.contains("animates a weird part of  your opponent")
-              || responseText.contains("animates a...thing...from your opponent")
-              || responseText.contains("animates an unconventional part of  your opponent")
-              || responseText.contains("cuts a chunk off of  your opponent")) {
-            Preferences.increment("reanimatorWeirdParts", 1);
-          } else if (responseText.contains("yanks off one of your opponent's wings")
-              || responseText.contains("into one of your opponent's wings")
-              || responseText.contains("The wing detaches")
-              || responseText.contains("wing would be a perfect addition")
-              || responseText.contains("reanimates a wing")
-              || responseText.contains("reanimates one of your opponent's wings")
-              || responseText.contains("takes one of your opponent's wings")
-              || responseText.contains("injects one of your opponent's wings")
-              || responseText.contains("wing is aerodynamically perfect")) {
-            Preferences.increment("reanimatorWings", 1);
-          }
-        }
-        case FamiliarPool.MACHINE_ELF -> {
-          if (responseText.contains("time starts passing again")) {
-            Preferences.increment("_machineTunnelsAdv", 1, 5, false);
-          } else if (adventure == AdventurePool.DEEP_MACHINE_TUNNELS) {
-            Preferences.setInteger("_machineTunnelsAdv", 5);
-          }
-        }
-        case FamiliarPool.ROCKIN_ROBIN -> Preferences.increment("rockinRobinProgress");
-        case FamiliarPool.CANDLE -> Preferences.increment("optimisticCandleProgress");
-        case FamiliarPool.GARBAGE_FIRE -> Preferences.increment("garbageFireProgress");
-        case FamiliarPool.PUCK_MAN, FamiliarPool.MS_PUCK_MAN -> Preferences.increment(
-            "powerPillProgress");
-        case FamiliarPool.ROBORTENDER -> {
-          for (String s : ROBORTENDER_DROP_MESSAGES) {
-            if (!responseText.contains(s)) continue;
-            Preferences.increment("_roboDrops", 1);
-            break;
-          }
-        }
-        case FamiliarPool.XO_SKELETON -> {
-          Preferences.increment("xoSkeleltonXProgress");
-          Preferences.increment("xoSkeleltonOProgress");
-        }
-        case FamiliarPool.INTERGNAT -> {
-          if (monster != null) {
-            for (String s : monster.getRandomModifiers()) {
-              if (s.equals("eldritch")) {
-                String demonName = "";
-                Matcher gnatMatcher;
-                if ((gnatMatcher = FightRequest.INTERGNAT1_PATTERN.matcher(responseText)).find()) {
-                  demonName = gnatMatcher.group(1);
-                } else if ((gnatMatcher = FightRequest.INTERGNAT2_PATTERN.matcher(responseText))
-                    .find()) {
-                  demonName = gnatMatcher.group(1);
-                } else if ((gnatMatcher = FightRequest.INTERGNAT3_PATTERN.matcher(responseText))
-                    .find()) {
-                  demonName = gnatMatcher.group(1);
-                } else if ((gnatMatcher = FightRequest.INTERGNAT4_PATTERN.matcher(responseText))
-                    .find()) {
-                  demonName = gnatMatcher.group(1);
-                }
-
-                if (demonName.equals("Neil") || demonName.isEmpty()) {
-                  break;
-                } else if (demonName.contains("'")) {
-                  SummoningChamberRequest.updateIntergnatName(demonName, false);
-                } else {
-                  SummoningChamberRequest.updateIntergnatName(demonName, true);
-                }
-              }
-            }
-          }
-        }
-        case FamiliarPool.CAT_BURGLAR -> {
-          if (responseText.contains("takes note of any security cameras in the area")
-              || responseText.contains(
-                  "watches carefully to see if there are any guards and when they change shifts")
-              || responseText.contains("looks around for unlocked windows and accessible vents")
-              || responseText.contains(
-                  "stands around casually, definitely just loitering and not casing the joint at all")) {
-            Preferences.increment("_catBurglarCharge");
-          }
-          if (responseText.contains(
-                  "grabs a quick nap with his sleep mask, so he'll be fresh for the upcoming heist")
-              || responseText.contains("takes advantage of the downtime to grab a few z's")
-              || responseText.contains("disguises himself as someone who is asleep")) {
-            Preferences.increment("_catBurglarCharge");
-          }
-          if (responseText.contains("Looks like he's ready for a heist")
-              || responseText.contains(
-                  "cracks his knuckles and looks around for something to steal")
-              || responseText.contains(
-                  "does some stretching exercises to prepare for his upcoming heist")) {
-            // Current theory is that heist message can happen even when the charge is reached from
-            // sleepmask trigger later
-            // in the combat text. And that it resets charge to next heist to 0. We round to catch
-            // other small errors too.
-            int charge = Preferences.getInteger("_catBurglarCharge") + 1;
-            Preferences.setInteger("_catBurglarCharge", Math.round(charge / 10) * 10);
-          }
-          int catBurglarCharge = Preferences.getInteger("_catBurglarCharge");
-          familiar.setCharges(catBurglarCharge);
-        }
-        case FamiliarPool.RED_SNAPPER -> {
-          String monsterPhylum = MonsterStatusTracker.getLastMonster().getPhylum().toString();
-          if (Preferences.getString("redSnapperPhylum").equals(monsterPhylum)) {
-            Preferences.increment("redSnapperProgress");
-          }
-        }
-        case FamiliarPool.SHORT_ORDER_COOK -> {
-          int charge = Preferences.getInteger("_shortOrderCookCharge");
-          if (responseText.contains("shortbeer.gif")
-              || responseText.contains("shortstack.gif")
-              || responseText.contains("shortbutter.gif")
-              || responseText.contains("shortwater.gif")
-              || responseText.contains("shortcoffee.gif")) {
-            if (KoLCharacter.hasEquipped(ItemPool.BLUE_PLATE, Slot.FAMILIAR)) {
-              charge = 2;
-            } else {
-              charge = 0;
-            }
-          } else {
-            charge += 1;
-          }
-          Preferences.setInteger("_shortOrderCookCharge", charge);
-          familiar.setCharges(charge);
-
-          Matcher otherFamiliarExp = SHORT_ORDER_EXP_PATTERN.matcher(responseText);
-          if (otherFamiliarExp.find()) {
-            FamiliarData fam = KoLCharacter.usableFamiliar(otherFamiliarExp.group(1));
-
-            if (fam != null) {
-              int exp = StringUtilities.parseInt(otherFamiliarExp.group(2));
-              fam.addNonCombatExperience(exp);
-            }
-          }
-        }
-        case FamiliarPool.VAMPIRE_VINTNER -> {
-          // Counts up to 13 and then the wine drops after the fourteenth fight
-          // If player already has wine, he gestures politely (but, in this code author's opinion,
-          // rudely).
-          if (responseText.contains("clears his throat")
-              || responseText.contains("gestures discreetly")
-              || responseText.contains("taps his foot")) {
-            Preferences.setInteger("vintnerCharge", 13);
-            familiar.setCharges(13);
-          } else {
-            familiar.setCharges(Preferences.increment("vintnerCharge", 1, 13, false));
-          }
-        }
-        case FamiliarPool.COOKBOOKBAT -> {
-          // Counts up to 11, ingredients drop on 11th fight.
-          // Don't increment on a drop fight.
-          if (!responseText.contains(COOKBOOKBAT_INGREDIENTS)) {
-            familiar.setCharges(
-                Preferences.increment("cookbookbatIngredientsCharge", 1, 11, false));
-          }
-          String questLastLocation = Preferences.getString("_cookbookbatQuestLastLocation");
-          boolean inSuggestedLocation =
-              location != null
-                  && !questLastLocation.isEmpty()
-                  && questLastLocation.equals(location.getAdventureName());
-          Preferences.decrement("_cookbookbatCombatsUntilNewQuest", 1, inSuggestedLocation ? 1 : 0);
-        }
-        case FamiliarPool.EVOLVING_ORGANISM -> {
-          if (responseText.contains("expends all their experience and evolves")) {
-            // Resets familiar experience to 0.
-            KoLCharacter.getFamiliar().setExperience(0);
-            // *** We could parse the message and track the evolved abilities
-          }
-        }
-      }
+    if (responseText.contains("Your sugar shirt falls apart")) {
+      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHIRT, "Your sugar shirt shattered.");
+    }
 
-      if (KoLCharacter.inRaincore()) {
-        // Check for Thunder gain
-        Matcher thunderMatcher =
-            FightRequest.THUNDER_PATTERN.matcher(FightRequest.lastResponseText);
-        if (thunderMatcher.find()) {
-          String gainThunder = thunderMatcher.group(1);
-          KoLCharacter.incrementThunder(StringUtilities.parseInt(gainThunder));
-          String updateMessage = "You swallow " + gainThunder + " dB of Thunder";
-          RequestLogger.updateSessionLog(updateMessage);
-          KoLmafia.updateDisplay(updateMessage);
-        }
+    if (responseText.contains("Your sugar shotgun falls apart")) {
+      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHOTGUN, "Your sugar shotgun shattered.");
+    }
 
-        Matcher rainMatcher = FightRequest.RAIN_PATTERN.matcher(FightRequest.lastResponseText);
-        if (rainMatcher.find()) {
-          String gain = rainMatcher.group(1);
-          KoLCharacter.incrementRain(StringUtilities.parseInt(gain));
-          String updateMessage = "You recover " + gain + " drops of Rain";
-          RequestLogger.updateSessionLog(updateMessage);
-          KoLmafia.updateDisplay(updateMessage);
-        }
+    if (responseText.contains("Your sugar shorts crack")) {
+      EquipmentManager.breakEquipment(ItemPool.SUGAR_SHORTS, "Your sugar shorts shattered.");
+    }
 
-        Matcher lightningMatcher =
-            FightRequest.LIGHTNING_PATTERN.matcher(FightRequest.lastResponseText);
-        if (lightningMatcher.find()) {
-          String gain = lightningMatcher.group(1);
-          KoLCharacter.incrementLightning(StringUtilities.parseInt(gain));
-          String updateMessage = "You recover " + gain + " bolts of lightning";
-          RequestLogger.updateSessionLog(updateMessage);
-          KoLmafia.updateDisplay(updateMessage);
-        }
+    // Your crimbo tree has 987 needles left.
+    if (responseText.contains("Your crimbo tree has")) {
+      Matcher treeMatcher = FightRequest.DECEASED_TREE_PATTERN.matcher(responseText);
+      if (treeMatcher.find()) {
+        Preferences.setInteger("garbageTreeCharge", StringUtilities.parseInt(treeMatcher.group(1)));
       }
+    }
 
-      // You see a strange cartouche painted on a nearby wall.
-      if (KoLCharacter.hasEquipped(ItemPool.CROWN_OF_ED, Slot.HAT)
-          && responseText.contains("You see a strange cartouche")) {
-        FightRequest.handleCartouche(responseText);
+    // The champagne is flowing and the party is going wild with the 9 ounces of champagne left in
+    // your broken bottle.
+    if (responseText.contains("champagne is flowing and the party is going wild")) {
+      Matcher champagneMatcher = FightRequest.BROKEN_CHAMPAGNE_PATTERN.matcher(responseText);
+      if (champagneMatcher.find()) {
+        Preferences.setInteger(
+            "garbageChampagneCharge", StringUtilities.parseInt(champagneMatcher.group(1)));
       }
+    }
+    // The last drop of your party champagne dripped out during this fight, so you toss the bottle
+    // away.
+    else if (responseText.contains("last drop of your party champagne dripped out")) {
+      Preferences.setInteger("garbageChampagneCharge", 0);
+      EquipmentManager.breakEquipment(
+          ItemPool.BROKEN_CHAMPAGNE, "You toss away the broken champagne bottle.");
+    }
 
-      // Booze Filler surveys the scene from atop the throne, and gains 1 Experience
-      if (KoLCharacter.hasEquipped(ItemPool.HATSEAT, Slot.HAT)
-          && responseText.contains("throne, and gains 1 Experience")) {
-        KoLCharacter.getEnthroned().addNonCombatExperience(1);
+    // You read a useful bit of information off your shirt and improve your rate of knowledge gain.
+    // Looks like there are 36 more useful scraps.
+    if (responseText.contains("read a useful bit of information off your shirt")) {
+      Matcher garbageShirtMatcher = FightRequest.GARBAGE_SHIRT_PATTERN.matcher(responseText);
+      if (garbageShirtMatcher.find()) {
+        Preferences.setInteger(
+            "garbageShirtCharge", StringUtilities.parseInt(garbageShirtMatcher.group(1)));
       }
+    }
+    // You rip the last bit of usefully informative garbage off your shirt, and it falls to scraps
+    else if (responseText.contains("last bit of usefully informative garbage off your shirt")) {
+      Preferences.setInteger("garbageShirtCharge", 0);
+      EquipmentManager.breakEquipment(
+          ItemPool.MAKESHIFT_GARBAGE_SHIRT, "Your makeshirt garbage shirt falls apart.");
+    }
 
-      // Llama surveys the scene from your back, and gains 1 Experience.
-      if (KoLCharacter.hasEquipped(ItemPool.BUDDY_BJORN, Slot.CONTAINER)
-          && responseText.contains("back, and gains 1 Experience")) {
-        KoLCharacter.getBjorned().addNonCombatExperience(1);
-      }
+    // You hear a whirring as your unicorn horn begins to inflate. Yeah!
+    if (responseText.contains("your unicorn horn begins to inflate")) {
+      Preferences.setInteger("unicornHornInflation", 5);
+    }
+    // Your unicorn horn becomes slightly more inflated as a result of your increasing confidence
+    // and pride. Yay!
+    else if (responseText.contains("Your unicorn horn becomes slightly more inflated")) {
+      Preferences.increment("unicornHornInflation", 5);
+    }
+    // Your unicorn horn squeaks as it fills to capacity. You feel great!
+    else if (responseText.contains("Your unicorn horn squeaks")) {
+      Preferences.setInteger("unicornHornInflation", 100);
+    }
+    // Your unicorn horn shrivels in shame.
+    else if (responseText.contains("Your unicorn horn shrivels")) {
+      Preferences.setInteger("unicornHornInflation", 0);
+    }
 
-      if (Preferences.getInteger("_spookyJellyUses") > 0
-          && responseText.contains("Spooked by the emanations")) {
-        Preferences.decrement("_spookyJellyUses");
-      }
+    // The Great Wolf of the Air emits an ear-splitting final
+    // howl. Your necklace shatters like a champagne flute in a
+    // Memorex comercial[sic].
+    if (responseText.contains("Your necklace shatters")) {
+      EquipmentManager.discardEquipment(ItemPool.MOON_AMBER_NECKLACE);
+    }
 
-      if (KoLCharacter.hasEquipped(ItemPool.SNOW_SUIT, Slot.FAMILIAR)) {
-        if (Preferences.getInteger("_snowSuitCount") < 75
-            && Preferences.increment("_snowSuitCount") % 5 == 0) {
-          KoLCharacter.recalculateAdjustments();
-        }
-      }
+    // You look down and notice that your shawl got ripped to
+    // shreds during the fight. Dangit.
+    if (responseText.contains("your shawl got ripped to shreds")) {
+      EquipmentManager.discardEquipment(ItemPool.GHOST_SHAWL);
+    }
 
-      if (KoLCharacter.hasEquipped(ItemPool.get(ItemPool.XIBLAXIAN_HOLOWRIST_PUTER, 1))) {
-        Preferences.increment("_holoWristProgress");
-      }
+    // As he fades away, Mayor Ghost clutches at your badge, which fades away with him. Rats.
+    if (responseText.contains("clutches at your badge")) {
+      EquipmentManager.discardEquipment(ItemPool.AUDITORS_BADGE);
+    }
 
-      if (QuestDatabase.isQuestStarted(Quest.GUZZLR)
-          && Preferences.getString("guzzlrQuestLocation").equals(locationName)
-          && responseText.contains(Preferences.getString("guzzlrQuestClient"))) {
-        int incr = Math.max(3, 10 - Preferences.getInteger("_guzzlrDeliveries"));
-        if (KoLCharacter.hasEquipped(ItemPool.GUZZLR_SHOES)) {
-          incr = (int) Math.floor(1.5 * incr);
-        }
-        Preferences.increment("guzzlrDeliveryProgress", incr);
-      }
+    // With a final lurch, one of the zombies hurls a bag of weed
+    // killer at your skirt, dissolving it instantly.
+    if (responseText.contains("hurls a bag of weed killer")) {
+      EquipmentManager.discardEquipment(ItemPool.WEEDY_SKIRT);
+    }
 
-      if (QuestDatabase.isQuestStarted(Quest.GUZZLR)
-          && responseText.contains("You finally manage to track down")) {
-        String tier = Preferences.getString("guzzlrQuestTier");
-        int itemId = ItemDatabase.getItemId(Preferences.getString("guzzlrQuestBooze"));
+    // You fall to the ground, overcome by your wounds.  As you lose consciousness,
+    // the last thing you see is your first-ait kit opening of its own accord.
+    if (responseText.contains("first-ait kit opening of its own accord")) {
+      EquipmentManager.discardEquipment(ItemPool.FIRST_AID_POUCH);
+    }
 
-        // For platinum deliveries, the cocktail with the highest item number is taken
-        if (itemId == ItemPool.GUZZLR_COCKTAIL_SET) {
-          tier = "platinum";
+    // A bit of flaming paper drifts into your unnamed cocktail and sets it ablaze. Whoah!
+    if (responseText.contains("flaming paper drifts into your unnamed cocktail")) {
+      ResultProcessor.processItem(ItemPool.UNNAMED_COCKTAIL, -1);
+    }
 
-          for (int i = 10545; i >= 10541; i--) {
-            if (InventoryManager.getCount(i) > 0) {
-              ResultProcessor.processItem(i, -1);
-              break;
-            }
-          }
-        } else {
-          ResultProcessor.processItem(itemId, -1);
-        }
+    if (responseText.contains("You wore out your weapon cozy...")) {
+      // Cozy weapons are two-handed, so they are necessarily in the weapon slot
+      int cozyId = EquipmentManager.getEquipment(Slot.WEAPON).getItemId();
+      EquipmentManager.breakEquipment(cozyId, "Your cozy wore out.");
+    }
 
-        // Increment number of completed deliveries for this tier
-        if (tier != null && !tier.isEmpty()) {
-          Preferences.increment("guzzlr" + StringUtilities.toTitleCase(tier) + "Deliveries");
-        }
+    // You hurl your entire collection of buttons at it, dealing X damage.
+    // You manage to find and recover all but Y of the buttons.
+    // If it's the last round, we can't correct from combat drop down, so we'll think only one was
+    // used
+    Matcher redButtonMatcher =
+        FightRequest.RED_BUTTON_PATTERN.matcher(FightRequest.lastResponseText);
+    if (redButtonMatcher.find()) {
+      ResultProcessor.processItem(
+          ItemPool.RED_BUTTON, 1 - StringUtilities.parseInt(redButtonMatcher.group(1)));
+    }
 
-        // Increment the number of completed deliveries today.
-        // Useful for determining how many combats the next delivery will take.
-        Preferences.increment("_guzzlrDeliveries");
+    // The turtle appears to suffer some kind of mental breakdown
+    // -- it collapses to the ground, sobbing. You help it to its
+    // feet and escort it out of the compound.
+    //
+    // The turtle blinks at you with gratitude for freeing it from
+    // its brainwashing, and trudges off over the horizon.
+    // ...Eventually.
+    if (responseText.contains("freeing it from its brainwashing")) {
+      int free = Preferences.increment("guardTurtlesFreed");
+      String message = "Freed guard turtle #" + free;
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    } else if (responseText.contains("some kind of mental breakdown")) {
+      int free = Preferences.increment("frenchGuardTurtlesFreed");
+      String message = "Freed French guard turtle #" + free;
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    }
+  }
 
-        // Reset the quest
-        Preferences.setString("guzzlrQuestBooze", "");
-        Preferences.setString("guzzlrQuestClient", "");
-        Preferences.setString("guzzlrQuestLocation", "");
-        Preferences.setString("guzzlrQuestTier", "");
-        Preferences.setInteger("guzzlrDeliveryProgress", 0);
-        QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.UNSTARTED);
-      }
-      if (responseText.contains("The outdoors is so refreshing, that adventure just flew right by!")
-          // charges are spent even if another reason caused the fight to be free
-          || (free && location != null && location.getEnvironment() == Environment.OUTDOOR)) {
-        Preferences.decrement("breathitinCharges", 1, 0);
-      }
+  private static void trackFinalRoundActions(
+      final String responseText,
+      final MonsterData monster,
+      final String monsterName,
+      final SpecialMonster special,
+      final String locationName,
+      final FamiliarData familiar) {
+    if (responseText.contains(
+        "your Epic Weapon reverts to its original form in a puff of failure")) {
+      FightRequest.transmogrifyNemesisWeapon(true);
+    }
 
-      if (!free && responseText.contains("playing on your SongBoom")) {
-        Preferences.increment("_boomBoxFights");
-      }
+    if (responseText.contains("acquire a bounty item:")) {
+      BountyHunterHunterRequest.parseFight(monsterName, locationName, responseText);
+    }
+    // Check for bounty item not dropping from a monster
+    // that is known to drop the item.
+    else {
+      String easyBountyString = Preferences.getString("currentEasyBountyItem");
+      int index = easyBountyString.indexOf(":");
+      if (index != -1) {
+        String easyBountyItemName = easyBountyString.substring(0, index);
+        String easyBountyMonsterName = BountyDatabase.getMonster(easyBountyItemName);
 
-      // Track monsters defeated on the current PirateRealm island
-      if (adventure == AdventurePool.PIRATEREALM_ISLAND) {
-        var defeated = Preferences.increment("_pirateRealmIslandMonstersDefeated");
-        if (defeated == (QuestManager.getPirateRealmIslandNumber() < 2 ? 4 : 9)) {
-          QuestManager.setPirateRealmIslandQuestProgress(3);
+        if (monsterName.equals(easyBountyMonsterName)
+            && !responseText.contains(easyBountyItemName)
+            && !problemFamiliar()) {
+          KoLmafia.updateDisplay(
+              MafiaState.PENDING, "Easy bounty item failed to drop from expected monster.");
         }
       }
 
-      if (IslandManager.isBattlefieldMonster(monsterName)) {
-        IslandManager.handleBattlefieldMonster(responseText, monsterName);
-      } else if (special == SpecialMonster.SEWER && !EncounterManager.ignoreSpecialMonsters) {
-        AdventureResult result = AdventureResult.tallyItem("sewer tunnel explorations", false);
-        AdventureResult.addResultToList(KoLConstants.tally, result);
-      }
+      String hardBountyString = Preferences.getString("currentHardBountyItem");
+      index = hardBountyString.indexOf(":");
+      if (index != -1) {
+        String hardBountyItemName = hardBountyString.substring(0, index);
+        String hardBountyMonsterName = BountyDatabase.getMonster(hardBountyItemName);
 
-      switch (monsterName) {
-        case "black pudding" -> Preferences.increment("blackPuddingsDefeated", 1);
-        case "general seal" -> ResultProcessor.removeItem(ItemPool.ABYSSAL_BATTLE_PLANS);
-        case "Frank &quot;Skipper&quot; Dan, the Accordion Lord" -> ResultProcessor.removeItem(
-            ItemPool.SUSPICIOUS_ADDRESS);
-        case "Chef Boy, R&amp;D" -> ResultProcessor.removeItem(ItemPool.CHEF_BOY_BUSINESS_CARD);
-        case "drunk pygmy" -> {
-          if (responseText.contains("notices the Bowl of Scorpions")) {
-            ResultProcessor.removeItem(ItemPool.BOWL_OF_SCORPIONS);
-            Preferences.increment("_drunkPygmyBanishes");
-          }
-        }
-        case "bugbear robo-surgeon" -> BugbearManager.clearShipZone("Medbay");
-        case "wumpus" -> WumpusManager.reset();
-        case "Baron von Ratsworth" -> TavernRequest.addTavernLocation('6');
-        case "the invader" -> Preferences.setBoolean("spaceInvaderDefeated", true);
-        case "Eldritch Tentacle" -> {
-          Preferences.increment("eldritchTentaclesFought", 1);
-          Preferences.increment("_eldritchTentaclesFoughtToday", 1);
-        }
-        case "Glass Jack Hummel" -> {
-          Preferences.setBoolean("pirateRealmUnlockedSpyglass", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
-        }
-        case "Red Roger" -> {
-          Preferences.setBoolean("pirateRealmUnlockedFlag", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
-        }
-        case "giant giant crab" -> {
-          Preferences.setBoolean("pirateRealmUnlockedCrabsicle", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 6);
-        }
-        case "jungle titan" -> {
-          Preferences.setBoolean("pirateRealmUnlockedBreastplate", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 11);
-        }
-        case "plastic pirate" -> Preferences.increment(
-            "pirateRealmPlasticPiratesDefeated", 1, 50, false);
-        case "pirate radio" -> {
-          Preferences.setBoolean("pirateRealmUnlockedRadioRing", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
+        if (monsterName.equals(hardBountyMonsterName)
+            && !responseText.contains(hardBountyItemName)
+            && !problemFamiliar()) {
+          KoLmafia.updateDisplay(
+              MafiaState.PENDING, "Hard bounty item failed to drop from expected monster.");
         }
       }
 
-      if (KoLCharacter.hasEquipped(ItemPool.BONE_ABACUS, Slot.OFFHAND)
-          && responseText.contains("You move a bone on the abacus to record your victory")) {
-        Preferences.increment("boneAbacusVictories", 1);
-      }
-
-      if (KoLCharacter.getAscensionClass() == AscensionClass.SNAKE_OILER) {
-        if (responseText.contains("+1 Venom")) {
-          Preferences.increment("awolVenom");
-        } else if (responseText.contains("+1 Medicine")) {
-          Preferences.increment("awolMedicine");
-        }
-      }
+      String specialBountyString = Preferences.getString("currentSpecialBountyItem");
+      index = specialBountyString.indexOf(":");
+      if (index != -1) {
+        String specialBountyItemName = specialBountyString.substring(0, index);
+        String specialBountyMonsterName = BountyDatabase.getMonster(specialBountyItemName);
 
-      if (Preferences.getBoolean("_circadianRhythmsRecalled")) {
-        if (responseText.contains("sleep a bit better tonight")) {
-          Preferences.increment("_circadianRhythmsAdventures", 1, 11, false);
+        if (monsterName.equals("Sorrowful Hickory")
+            && specialBountyItemName.equals("hickory daiquiri")) {
+          // There is no bounty text for hickory daiquiri, so assume success instead
+          int bountyCount = StringUtilities.parseInt(specialBountyString.substring(index + 1));
+          if (bountyCount < 6) {
+            bountyCount++;
+            Preferences.setString("currentSpecialBountyItem", "hickory daiquiri:" + bountyCount);
+            String updateMessage = "You acquire a bounty item: hickory daiquiri";
+            AdventureResult result = AdventureResult.tallyItem("hickory daiquiri", false);
+            AdventureResult.addResultToList(KoLConstants.tally, result);
+            RequestLogger.updateSessionLog(updateMessage);
+            KoLmafia.updateDisplay(updateMessage);
+          }
+        } else if (monsterName.equals(specialBountyMonsterName)
+            && !responseText.contains(specialBountyItemName)
+            && !problemFamiliar()) {
+          KoLmafia.updateDisplay(
+              MafiaState.PENDING, "Special bounty item failed to drop from expected monster.");
         }
       }
-
-      QuestManager.updateQuestData(FightRequest.lastResponseText, monsterName);
     }
 
-    if (KoLCharacter.isEd()) {
-      if (responseText.contains("Continue to the Underworld")) {
-        Preferences.increment("_edDefeats");
-      } else {
-        Preferences.setInteger("_edDefeats", 0);
-        Preferences.setBoolean("edUsedLash", false);
-      }
-    } else if (KoLCharacter.isPlumber()) {
-      KoLCharacter.resetCurrentPP();
+    // Check if a lecture on relativity is about to give you a copy
+    // of the monster you just fought.
+    if (responseText.contains("STEP INTO FOLD IN SPACETIME")) {
+      Preferences.setBoolean("_relativityMonster", true);
     }
 
-    // Handle incrementing stillsuit sweat (this happens whether the fight is won or lost)
-    StillSuitManager.handleSweat(responseText);
+    // Check for runaways. Only a free runaway decreases chance
+    if ((responseText.contains("shimmers as you quickly float away")
+            || responseText.contains("your pants suddenly activate"))
+        && !KoLCharacter.inBigcore()) {
+      Preferences.increment("_navelRunaways", 1);
+    } else if ((responseText.contains("his back, and flooms away")
+            || responseText.contains("speed your escape.  Thanks"))
+        && !KoLCharacter.inBigcore()) {
+      Preferences.increment("_banderRunaways", 1);
+    }
 
-    // looks askance at the toy bow you've provided and shoots the plunger-arrow over the horizon,
-    // then proceeds to drag something more appropriate back.
-    if (KoLCharacter.hasEquipped(ItemPool.TOY_CUPID_BOW, Slot.FAMILIAR)) {
-      int currentFamiliarId = KoLCharacter.getEffectiveFamiliar().getId();
+    // You hug him with your filthy rotting arms.
+    if (responseText.contains("with your filthy rotting arms.")) {
+      Preferences.increment("_bearHugs", 1);
+    }
 
-      if (Preferences.getInteger("cupidBowLastFamiliar") == currentFamiliarId) {
-        Preferences.increment("cupidBowFights", 1, 5, false);
-      } else {
-        Preferences.setInteger("cupidBowLastFamiliar", currentFamiliarId);
-        Preferences.setInteger("cupidBowFights", 1);
-      }
-      if (responseText.contains("looks askance at the toy bow")) {
-        String currentFams = Preferences.getString("_cupidBowFamiliars");
-        Preferences.setString(
-            "_cupidBowFamiliars",
-            (currentFams.isEmpty() ? "" : (currentFams + ";")) + currentFamiliarId);
-      }
+    if (responseText.contains("undefined constant itemprocess")) {
+      Preferences.setBoolean("_softwareGlitchTurnReceived", true);
     }
 
-    // Handle autumnaton checking (this happens whether the fight is won or lost)
-    AutumnatonManager.parseFight(responseText);
+    // Check for worn-out stickers
+    int count = 0;
+    Matcher m = WORN_STICKER_PATTERN.matcher(responseText);
+    while (m.find()) {
+      ++count;
+    }
+    if (count > 0) {
+      KoLmafia.updateDisplay(
+          (count == 1 ? "A sticker" : count + " stickers") + " fell off your weapon.");
+      EquipmentManager.stickersExpired(count);
+    }
 
-    FightRequest.checkForMultiFight(won, responseText);
-    FightRequest.checkForChoiceFollowsFight(responseText);
+    // Check for ballroom song hint
+    m = BALLROOM_SONG_PATTERN.matcher(responseText);
+    if (m.find()) {
+      Preferences.setInteger("lastQuartetAscension", KoLCharacter.getAscensions());
+      Preferences.setInteger("lastQuartetRequest", m.start(1) != -1 ? 1 : m.start(2) != -1 ? 2 : 3);
+    }
 
-    // Do this AFTER we set the above so it does not continue
-    // logging in if you are still in a fight or choice
-    FightRequest.clearInstanceData();
-    FightRequest.won = won;
+    // Check for special familiar actions
 
-    // <a href="fight.php" id="againlink">The barrier between world is torn...</a>
-    if (FightRequest.inMultiFight && responseText.contains("The barrier between world")) {
-      KoLAdventure.lastLocationName = "Eldritch Attunement";
+    // Check for weapon-specific cases
+    if (KoLCharacter.hasEquipped(ItemPool.get(ItemPool.LEAFBLOWER, 1))) {
+      Preferences.increment("_leafblowerML", 1, 25, false);
     }
-  }
 
-  // <p>You see a strange cartouche painted on a nearby wall.<div style='position: relative;
-  // display: inline-block; z-index 0;'><img src=/images/otherimages/cartouche.gif><div
-  // style='position: absolute; left: 15; top: 30; z-index 1;'><img
-  // src=/images/itemimages/hiero12.gif></div><div style='position: absolute; left: 15; top: 62;
+    // Cancel any combat modifiers
+    ModifierDatabase.overrideRemoveModifier(ModifierType.GENERATED, "fightMods");
+
+    if (KoLCharacter.isSauceror()) {
+      // Check for Soulsauce gain
+      Matcher SoulsauceMatcher =
+          FightRequest.SOULSAUCE_PATTERN.matcher(FightRequest.lastResponseText);
+      if (SoulsauceMatcher.find()) {
+        String gainSoulsauce = SoulsauceMatcher.group(1);
+        KoLCharacter.incrementSoulsauce(StringUtilities.parseInt(gainSoulsauce));
+        String updateMessage = "You gain " + gainSoulsauce + " Soulsauce";
+        RequestLogger.updateSessionLog(updateMessage);
+        KoLmafia.updateDisplay(updateMessage);
+      }
+    }
+
+    // Lose Disco Momentum
+    KoLCharacter.resetDiscoMomentum();
+
+    // "You pull out your personal massager and use it to work the
+    // kinks out of your neck and your back. You stop there,
+    // though, as nothing below that point is feeling particularly
+    // kinky. Unfortunately, it looks like the batteries in the
+    // thing were only good for that one use."
+
+    if (responseText.contains("You pull out your personal massager")) {
+      ResultProcessor.processItem(ItemPool.PERSONAL_MASSAGER, -1);
+      KoLConstants.activeEffects.remove(KoLAdventure.BEATEN_UP);
+    }
+
+    // You groan and loosen your overtaxed belt.
+    // Y'know, you're full, but you could probably make room for <i>one more thing</i>...
+    if (responseText.contains("could probably make room for <i>one more thing</i>")) {
+      Preferences.increment("_pantsgivingFullness");
+      KoLCharacter.recalculateAdjustments();
+      String updateMessage =
+          "Pantsgiving increases max fullness by one to " + KoLCharacter.getStomachCapacity() + ".";
+      RequestLogger.updateSessionLog(updateMessage);
+      KoLmafia.updateDisplay(updateMessage);
+    }
+
+    // Check for Latte unlocks
+    if (KoLCharacter.hasEquipped(ItemPool.LATTE_MUG, Slot.OFFHAND)) {
+      LatteRequest.parseFight(locationName, responseText);
+    }
+  }
+
+  private static void wonWithRiftlet(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("shimmers briefly, and you feel it getting earlier.")) {
+      Preferences.increment("_riftletAdv", 1);
+    }
+  }
+
+  private static void wonWithReagnimatedGnome(
+      final FamiliarData familiar, final String responseText) {
+    if (KoLCharacter.hasEquipped(ItemPool.GNOMISH_KNEE, Slot.FAMILIAR)
+        && GNOME_ADV_ACTIVATION.stream().anyMatch(responseText::contains)) {
+      Preferences.increment("_gnomeAdv", 1);
+    }
+  }
+
+  private static void wonWithHare(final FamiliarData familiar, final String responseText) {
+    // <name> pulls an oversized pocketwatch out of his
+    // waistcoat and winds it. "Two days slow, that's what
+    // it is," he says.
+    if (responseText.contains("oversized pocketwatch")) {
+      Preferences.increment("_hareAdv", 1);
+      Preferences.setInteger("_hareCharge", 0);
+    } else {
+      Preferences.increment("_hareCharge", 1);
+    }
+    int hareCharge = Preferences.getInteger("_hareCharge");
+    familiar.setCharges(hareCharge);
+  }
+
+  private static void wonWithGibberer(final FamiliarData familiar, final String responseText) {
+    // <name> mutters dark secrets under his breath, and
+    // you feel time slow down.
+    KoLAdventure lastLocation = KoLAdventure.lastVisitedLocation();
+    boolean underwater = lastLocation != null && lastLocation.getEnvironment().isUnderwater();
+    Preferences.increment("_gibbererCharge", underwater ? 2 : 1, 15, true);
+    if (responseText.contains("you feel time slow down")) {
+      Preferences.increment("_gibbererAdv", 1);
+      // Normally the updating below is wasted, but it allows things
+      // to get in sync if progress is missed for some reason
+      if (underwater) {
+        Preferences.setInteger(
+            "_gibbererCharge", Math.min(1, Preferences.getInteger("_gibbererCharge")));
+      } else {
+        Preferences.setInteger("_gibbererCharge", 0);
+      }
+    }
+    int gibbererCharge = Preferences.getInteger("_gibbererCharge");
+    familiar.setCharges(gibbererCharge);
+  }
+
+  private static void wonWithStockingMimic(final FamiliarData familiar, final String responseText) {
+    // <name> reaches deep inside himself and pulls out a
+    // big bag of candy. Cool!
+    if (responseText.contains("pulls out a big bag of candy")) {
+      AdventureResult item = ItemPool.get(ItemPool.BAG_OF_MANY_CONFECTIONS, 1);
+      // The Stocking Mimic will do this once a day
+      Preferences.setBoolean("_bagOfCandy", true);
+      // Add bag of many confections to inventory
+      ResultProcessor.processItem(ItemPool.BAG_OF_MANY_CONFECTIONS, 1);
+      // Equip familiar with it
+      familiar.setItem(item);
+    }
+
+    // <name> gorges himself on candy from his bag.
+    if (responseText.contains("gorges himself on candy from his bag")) {
+      familiar.addNonCombatExperience(1);
+    }
+  }
+
+  private static void wonWithJackInTheBox(final FamiliarData familiar, final String responseText) {
+    // 1st JitB charge: You turn <name>'s crank for a while.
+    // This will fail if a SBIP is equipped, but the message is too short
+    if (responseText.contains("'s crank for a while.")) {
+      Preferences.setInteger("_jitbCharge", 1);
+    }
+    // 2nd JitB charge: The tension builds as you turn <name>'s crank some more.
+    else if (responseText.contains("'s crank some more.")) {
+      Preferences.setInteger("_jitbCharge", 2);
+    }
+    // 3rd JitB charge, popping it: You turn <name>'s crank a little more, and
+    // all of a sudden a horrible grinning clown head emerges with a loud bang.
+    // It wobbles back and forth on the end of its spring, as though dancing to
+    // some sinister calliope music you can't actually hear...
+    else if (responseText.contains("a horrible grinning clown head emerges")) {
+      Preferences.setInteger("_jitbCharge", 0);
+    }
+    int jitbCharge = Preferences.getInteger("_jitbCharge");
+    familiar.setCharges(jitbCharge);
+  }
+
+  private static void wonWithHatrack(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains(
+            "sees that you're about to get attacked and trips it before it can attack you.")
+        || responseText.contains(
+            "does the Time Warp, then does the Time Warp again. Clearly, madness has taken its toll on him.")
+        || responseText.contains("The air shimmers around you.")) {
+      Preferences.increment("_timeHelmetAdv", 1);
+    }
+  }
+
+  private static void wonWithHipster(final FamiliarData familiar, final String responseText) {
+    //  The words POWER UP appear above <name>'s head as he
+    //  instantly grows a stupid-looking moustache.
+    if (responseText.contains("instantly grows a stupid-looking moustache")) {
+      AdventureResult item = ItemPool.get(ItemPool.IRONIC_MOUSTACHE, 1);
+      // The Mini-Hipster will do this once a day
+      Preferences.setBoolean("_ironicMoustache", true);
+      // Add ironic moustache to inventory
+      ResultProcessor.processItem(ItemPool.IRONIC_MOUSTACHE, 1);
+      // Equip familiar with it
+      familiar.setItem(item);
+    }
+  }
+
+  private static void wonWithBoots(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("stomps your opponent into paste")
+        || responseText.contains("stomps your opponents into paste")
+        || responseText.contains("shuffles its heels, gets a running start, then leaps on")) {
+      Preferences.setBoolean("bootsCharged", false);
+    }
+  }
+
+  private static void wonWithHappyMedium(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains(
+            "waves her fingers in front of her face and her aura glows blue.")
+        || responseText.contains("A flickering blue aura appears around ")
+        || responseText.contains("A blue aura appears around ")
+        || responseText.contains("and her aura glows blue.")
+        || responseText.contains("rolls her eyes back in her head and her aura glows blue.")) {
+      KoLCharacter.setFamiliarImage("medium_1.gif");
+      familiar.setCharges(1);
+    }
+
+    if (responseText.contains(
+            "presses her fingers to her temples, and her aura changes from blue to orange.")
+        || responseText.contains(
+            "changes to orange. She presses her palms together tightly and murmurs")
+        || responseText.contains(
+            "lights a stick of sage and her aura changes from blue to orange.")
+        || responseText.contains("changes from blue to orange and she begins to tremble.")
+        || responseText.contains(
+            "mutters under her breath, her aura changing from blue to orange.")) {
+      KoLCharacter.setFamiliarImage("medium_2.gif");
+      familiar.setCharges(2);
+    }
+
+    if (responseText.contains(
+            "shakes like a leaf on the wind as her aura changes from orange to a deep, angry red.")
+        || responseText.contains(
+            "levitates a few feet off of the ground, her aura changing from orange to a violent red.")
+        || responseText.contains(
+            "drops to the ground and twitches, her aura changing from orange to red.")
+        || responseText.contains(
+            "squeezes her eyes shut and shudders as her aura changes from orange to red.")
+        || responseText.contains(" changes to a deep red.")) {
+      KoLCharacter.setFamiliarImage("medium_3.gif");
+      familiar.setCharges(3);
+    }
+    /*
+            if ( responseText.indexOf( "waves her hands and extracts some of your opponent aura into a cocktail shaker") != -1
+              || responseText.indexOf( "holds out a cocktail glass and siphons some of his aura into the glass" ) != -1
+              || responseText.indexOf( "draws out some of its spirit and makes a cocktail with it." ) != -1
+              || responseText.indexOf( "Let's see. . . a little of this, a little of that, and some of that creature's aura, and presto!" ) != -1
+              || responseText.indexOf( "conjurs the spirit of your opponent into a cocktail glass and mixes you a drink." ) != -1 )
+            {
+              KoLCharacter.setFamiliarImage( "medium_0.gif" );
+              familiar.setCharges( 0 );
+            }
+    */
+  }
+
+  private static void wonWithGrinder(final FamiliarData familiar, final String responseText) {
+    // Increment Organ Grinder combat counter
+    String piediv = "".equals(Preferences.getString("pieStuffing")) ? "" : ",";
+    if (responseText.contains("some grinder fodder, muttering")) {
+      Preferences.increment("_piePartsCount", 1);
+      String s = Preferences.getString("pieStuffing") + piediv + "fish";
+      if (Preferences.getInteger("_piePartsCount") != 0)
+        Preferences.setString("pieStuffing", s);
+    } else if (responseText.contains("harvests a few choice bits for his grinder")) {
+      Preferences.increment("_piePartsCount", 1);
+      String s = Preferences.getString("pieStuffing") + piediv + "boss";
+      if (Preferences.getInteger("_piePartsCount") != 0)
+        Preferences.setString("pieStuffing", s);
+    } else if (responseText.contains("a few choice bits")) {
+      Preferences.increment("_piePartsCount", 1);
+      String s = Preferences.getString("pieStuffing") + piediv + "normal";
+      if (Preferences.getInteger("_piePartsCount") != 0)
+        Preferences.setString("pieStuffing", s);
+    } else if (responseText.contains("your opponent and tosses them")) {
+      Preferences.increment("_piePartsCount", 1);
+      String s = Preferences.getString("pieStuffing") + piediv + "stench";
+      if (Preferences.getInteger("_piePartsCount") != 0)
+        Preferences.setString("pieStuffing", s);
+    } else if (responseText.contains("insides, squealing something")) {
+      Preferences.increment("_piePartsCount", 1);
+      String s = Preferences.getString("pieStuffing") + piediv + "hot";
+      if (Preferences.getInteger("_piePartsCount") != 0)
+        Preferences.setString("pieStuffing", s);
+    } else if (responseText.contains("grind, chattering")) {
+      Preferences.increment("_piePartsCount", 1);
+      String s = Preferences.getString("pieStuffing") + piediv + "spooky";
+      if (Preferences.getInteger("_piePartsCount") != 0)
+        Preferences.setString("pieStuffing", s);
+    } else if (responseText.contains("My Hampton has a funny feeling")) {
+      Preferences.increment("_piePartsCount", 1);
+      String s = Preferences.getString("pieStuffing") + piediv + "sleaze";
+      if (Preferences.getInteger("_piePartsCount") != 0)
+        Preferences.setString("pieStuffing", s);
+    } else if (responseText.contains("grindable organs, muttering")) {
+      Preferences.increment("_piePartsCount", 1);
+      String s = Preferences.getString("pieStuffing") + piediv + "cold";
+      if (Preferences.getInteger("_piePartsCount") != 0)
+        Preferences.setString("pieStuffing", s);
+    }
+  }
+
+  private static void wonWithArtisticGothKid(
+      final FamiliarData familiar, final String responseText) {
+    if (KoLCharacter.getHippyStoneBroken()) {
+      if (responseText.contains("You gain 1 PvP Fight")
+          && GOTH_KID_PVP_PATTERN.matcher(responseText).find()) {
+        Preferences.setInteger("_gothKidCharge", 0);
+        Preferences.increment("_gothKidFights");
+      } else {
+        Preferences.increment("_gothKidCharge", 1);
+      }
+      int gothKidCharge = Preferences.getInteger("_gothKidCharge");
+      familiar.setCharges(gothKidCharge);
+    }
+  }
+
+  private static void wonWithCrimboShrub(final FamiliarData familiar, final String responseText) {
+    if (KoLCharacter.getHippyStoneBroken() && Preferences.getString("shrubGarland").equals("PvP")) {
+      if (responseText.contains("You gain 1 PvP Fight")) {
+        Preferences.setInteger("_shrubCharge", 0);
+      } else {
+        Preferences.increment("_shrubCharge", 1);
+      }
+      int shrubCharge = Preferences.getInteger("_shrubCharge");
+      familiar.setCharges(shrubCharge);
+    }
+  }
+
+  private static void wonWithBadger(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("produces a rainbow-colored mushroom")) {
+      Preferences.setInteger("_badgerCharge", 0);
+    } else {
+      Preferences.increment("_badgerCharge", 1);
+    }
+    int badgerCharge = Preferences.getInteger("_badgerCharge");
+    familiar.setCharges(badgerCharge);
+  }
+
+  private static void wonWithPixie(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("He tosses you a bottle of absinthe")) {
+      Preferences.setInteger("_pixieCharge", 0);
+    } else if (!KoLConstants.activeEffects.contains(EffectPool.get(EffectPool.ABSINTHE))) {
+      Preferences.increment("_pixieCharge", 1);
+    }
+    int pixieCharge = Preferences.getInteger("_pixieCharge");
+    familiar.setCharges(pixieCharge);
+  }
+
+  private static void wonWithLlama(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("This gong will enable you to see things")) {
+      Preferences.setInteger("_llamaCharge", 0);
+    } else {
+      Preferences.increment("_llamaCharge", 1);
+    }
+    int llamaCharge = Preferences.getInteger("_llamaCharge");
+    familiar.setCharges(llamaCharge);
+  }
+
+  private static void wonWithSandworm(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains(
+        "he belches some murky fluid back into the bottle and hands it to you")) {
+      Preferences.setInteger("_sandwormCharge", 0);
+    } else {
+      Preferences.increment("_sandwormCharge", 1);
+    }
+    int sandwormCharge = Preferences.getInteger("_sandwormCharge");
+    familiar.setCharges(sandwormCharge);
+  }
+
+  private static void wonWithTron(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("hands you an actual, literal token")) {
+      Preferences.setInteger("_rogueProgramCharge", 0);
+    } else {
+      Preferences.increment("_rogueProgramCharge", 1);
+    }
+    int rogueProgramCharge = Preferences.getInteger("_rogueProgramCharge");
+    familiar.setCharges(rogueProgramCharge);
+  }
+
+  private static void wonWithAlien(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("coughs up something covered in corrosive goo")) {
+      Preferences.setInteger("_xenomorphCharge", 0);
+    } else {
+      Preferences.increment("_xenomorphCharge", 1);
+    }
+    int alienCharge = Preferences.getInteger("_xenomorphCharge");
+    familiar.setCharges(alienCharge);
+  }
+
+  private static void wonWithGroose(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("he produces a small glob of grease")) {
+      Preferences.setInteger("_grooseCharge", 0);
+    } else {
+      Preferences.increment("_grooseCharge", 1);
+    }
+    int grooseCharge = Preferences.getInteger("_grooseCharge");
+    familiar.setCharges(grooseCharge);
+  }
+
+  private static void wonWithKloop(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("drops at your feet a small leatherbound book")) {
+      Preferences.setInteger("_kloopCharge", 0);
+    } else {
+      Preferences.increment("_kloopCharge", 1);
+    }
+    int kloopCharge = Preferences.getInteger("_kloopCharge");
+    familiar.setCharges(kloopCharge);
+  }
+
+  private static void wonWithUnconsciousCollective(
+      final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("dream stuff")) {
+      Preferences.setInteger("_unconsciousCollectiveCharge", 0);
+    } else {
+      Preferences.increment("_unconsciousCollectiveCharge", 1);
+    }
+    int unconsciousCollectiveCharge = Preferences.getInteger("_unconsciousCollectiveCharge");
+    familiar.setCharges(unconsciousCollectiveCharge);
+  }
+
+  private static void wonWithAngryJungMan(final FamiliarData familiar, final String responseText) {
+    Preferences.increment("jungCharge", 1);
+    int newCharges = Preferences.getInteger("jungCharge");
+    familiar.setCharges(newCharges);
+  }
+
+  private static void wonWithGrimBrother(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("finishes an illustrated manuscript with a final flourish")) {
+      Preferences.setInteger("_grimBrotherCharge", 0);
+    } else {
+      Preferences.increment("_grimBrotherCharge", 1);
+    }
+    int grimBrotherCharge = Preferences.getInteger("_grimBrotherCharge");
+    familiar.setCharges(grimBrotherCharge);
+  }
+
+  private static void wonWithGrimstoneGolem(
+      final FamiliarData familiar, final String responseText) {
+    // Only charges if no mask has dropped today
+    if (Preferences.getInteger("_grimstoneMaskDrops") == 0) {
+      Preferences.increment("grimstoneCharge", 1);
+      int grimCharges = Preferences.getInteger("grimstoneCharge");
+      familiar.setCharges(grimCharges);
+    }
+  }
+
+  private static void wonWithGoldenMonkey(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("You sweep it up and take it with you.")) {
+      Preferences.setInteger("_goldenMoneyCharge", 0);
+    } else {
+      Preferences.increment("_goldenMoneyCharge", 1);
+    }
+    int goldenMoneyCharge = Preferences.getInteger("_goldenMoneyCharge");
+    familiar.setCharges(goldenMoneyCharge);
+  }
+
+  private static void wonWithAdventurousSpelunker(
+      final FamiliarData familiar, final String responseText) {
+    // Only charges if no Tale has dropped today
+    if (Preferences.getInteger("_spelunkingTalesDrops") == 0) {
+      Preferences.increment("_spelunkerCharges", 1);
+      int adventurousSpelunkerCharges = Preferences.getInteger("_spelunkerCharges");
+      familiar.setCharges(adventurousSpelunkerCharges);
+    }
+  }
+
+  private static void wonWithSteamCheerleader(
+      final FamiliarData familiar, final String responseText) {
+    int dec = KoLCharacter.hasEquipped(ItemPool.SPIRIT_SOCKET_SET, Slot.FAMILIAR) ? 1 : 2;
+    int currentSteam = Preferences.getInteger("_cheerleaderSteam");
+    if (currentSteam - dec < 0) {
+      dec = currentSteam;
+    }
+    Preferences.decrement("_cheerleaderSteam", dec);
+  }
+
+  private static void wonWithNanorhino(final FamiliarData familiar, final String responseText) {
+    int currentCharge = Preferences.getInteger("_nanorhinoCharge");
+    int newCharge =
+        currentCharge
+            + (KoLCharacter.hasEquipped(ItemPool.NANORHINO_CREDIT_CARD, Slot.FAMILIAR) ? 3 : 2);
+    // Verify value if text visible
+    Matcher nanorhinoCharge1Matcher = FightRequest.NANORHINO_CHARGE1_PATTERN.matcher(responseText);
+    Matcher nanorhinoCharge2Matcher = FightRequest.NANORHINO_CHARGE2_PATTERN.matcher(responseText);
+    if (nanorhinoCharge1Matcher.find()) {
+      newCharge = StringUtilities.parseInt(nanorhinoCharge1Matcher.group(1));
+    } else if (nanorhinoCharge2Matcher.find()) {
+      newCharge = StringUtilities.parseInt(nanorhinoCharge2Matcher.group(1));
+    }
+    if (newCharge > 100) {
+      newCharge = 100;
+    }
+    Preferences.setInteger("_nanorhinoCharge", newCharge);
+  }
+
+  private static void wonWithCubeling(final FamiliarData familiar, final String responseText) {
+    Preferences.increment("cubelingProgress");
+  }
+
+  private static void wonWithReanimator(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("injects an arm")
+        || responseText.contains("reanimates an arm")
+        || responseText.contains("injects one of your opponent's arms")
+        || responseText.contains("injects the arm")
+        || responseText.contains("arm drags itself off")
+        || responseText.contains("grabs  your opponent's left arm")
+        || responseText.contains("reanimate an arm")
+        || responseText.contains("reanimates one of your opponent's arms")
+        || responseText.contains("grabs the arm and reanimates it")) {
+      Preferences.increment("reanimatorArms", 1);
+    } else if (responseText.contains("injects one of your opponent's legs")
+        || responseText.contains("animates one of your opponent's legs")
+        || responseText.contains("severs one of your opponent's legs")
+        || responseText.contains("This leg is precisely what the swarm needs!")
+        || responseText.contains("grabs a right leg to animate")) {
+      Preferences.increment("reanimatorLegs", 1);
+    } else if (responseText.contains("grabs  your opponent's head")
+        || responseText.contains("grabs your  your opponent's head")
+        || responseText.contains("lops off  your opponent's head")
+        || responseText.contains("takes a skull to use later")) {
+      Preferences.increment("reanimatorSkulls", 1);
+    } else if (responseText.contains("grabs a part off  your opponent")
+        || responseText.contains("grabs a chunk of  your opponent")
+        || responseText.contains("animates a weird bit of  your opponent")
+        || responseText.contains("animates a weird part from  your opponent")
+        || responseText.contains("animates a weird part of  your opponent")
+        || responseText.contains("animates a...thing...from your opponent")
+        || responseText.contains("animates an unconventional part of  your opponent")
+        || responseText.contains("cuts a chunk off of  your opponent")) {
+      Preferences.increment("reanimatorWeirdParts", 1);
+    } else if (responseText.contains("yanks off one of your opponent's wings")
+        || responseText.contains("into one of your opponent's wings")
+        || responseText.contains("The wing detaches")
+        || responseText.contains("wing would be a perfect addition")
+        || responseText.contains("reanimates a wing")
+        || responseText.contains("reanimates one of your opponent's wings")
+        || responseText.contains("takes one of your opponent's wings")
+        || responseText.contains("injects one of your opponent's wings")
+        || responseText.contains("wing is aerodynamically perfect")) {
+      Preferences.increment("reanimatorWings", 1);
+    }
+  }
+
+  private static void wonWithMachineElf(final FamiliarData familiar, final String responseText) {
+    int adventure = KoLAdventure.lastAdventureId();
+
+    if (responseText.contains("time starts passing again")) {
+      Preferences.increment("_machineTunnelsAdv", 1, 5, false);
+    } else if (adventure == AdventurePool.DEEP_MACHINE_TUNNELS) {
+      Preferences.setInteger("_machineTunnelsAdv", 5);
+    }
+  }
+
+  private static void wonWithRockinRobin(final FamiliarData familiar, final String responseText) {
+    Preferences.increment("rockinRobinProgress");
+  }
+
+  private static void wonWithCandle(final FamiliarData familiar, final String responseText) {
+    Preferences.increment("optimisticCandleProgress");
+  }
+
+  private static void wonWithGarbageFire(final FamiliarData familiar, final String responseText) {
+    Preferences.increment("garbageFireProgress");
+  }
+
+  private static void wonWithPuckMan(final FamiliarData familiar, final String responseText) {
+    Preferences.increment("powerPillProgress");
+  }
+
+  private static void wonWithRobortender(final FamiliarData familiar, final String responseText) {
+    for (String s : ROBORTENDER_DROP_MESSAGES) {
+      if (!responseText.contains(s)) continue;
+      Preferences.increment("_roboDrops", 1);
+      break;
+    }
+  }
+
+  private static void wonWithXoSkeleton(final FamiliarData familiar, final String responseText) {
+    Preferences.increment("xoSkeleltonXProgress");
+    Preferences.increment("xoSkeleltonOProgress");
+  }
+
+  private static void wonWithIntergnat(final FamiliarData familiar, final String responseText) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (monster != null) {
+      for (String s : monster.getRandomModifiers()) {
+        if (s.equals("eldritch")) {
+          String demonName = "";
+          Matcher gnatMatcher;
+          if ((gnatMatcher = FightRequest.INTERGNAT1_PATTERN.matcher(responseText)).find()) {
+            demonName = gnatMatcher.group(1);
+          } else if ((gnatMatcher = FightRequest.INTERGNAT2_PATTERN.matcher(responseText)).find()) {
+            demonName = gnatMatcher.group(1);
+          } else if ((gnatMatcher = FightRequest.INTERGNAT3_PATTERN.matcher(responseText)).find()) {
+            demonName = gnatMatcher.group(1);
+          } else if ((gnatMatcher = FightRequest.INTERGNAT4_PATTERN.matcher(responseText)).find()) {
+            demonName = gnatMatcher.group(1);
+          }
+
+          if (demonName.equals("Neil") || demonName.isEmpty()) {
+            break;
+          } else if (demonName.contains("'")) {
+            SummoningChamberRequest.updateIntergnatName(demonName, false);
+          } else {
+            SummoningChamberRequest.updateIntergnatName(demonName, true);
+          }
+        }
+      }
+    }
+  }
+
+  private static void wonWithCatBurglar(final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("takes note of any security cameras in the area")
+        || responseText.contains(
+            "watches carefully to see if there are any guards and when they change shifts")
+        || responseText.contains("looks around for unlocked windows and accessible vents")
+        || responseText.contains(
+            "stands around casually, definitely just loitering and not casing the joint at all")) {
+      Preferences.increment("_catBurglarCharge");
+    }
+    if (responseText.contains(
+            "grabs a quick nap with his sleep mask, so he'll be fresh for the upcoming heist")
+        || responseText.contains("takes advantage of the downtime to grab a few z's")
+        || responseText.contains("disguises himself as someone who is asleep")) {
+      Preferences.increment("_catBurglarCharge");
+    }
+    if (responseText.contains("Looks like he's ready for a heist")
+        || responseText.contains(
+            "cracks his knuckles and looks around for something to steal")
+        || responseText.contains(
+            "does some stretching exercises to prepare for his upcoming heist")) {
+      // Current theory is that heist message can happen even when the charge is reached from
+      // sleepmask trigger later
+      // in the combat text. And that it resets charge to next heist to 0. We round to catch
+      // other small errors too.
+      int charge = Preferences.getInteger("_catBurglarCharge") + 1;
+      Preferences.setInteger("_catBurglarCharge", Math.round(charge / 10) * 10);
+    }
+    int catBurglarCharge = Preferences.getInteger("_catBurglarCharge");
+    familiar.setCharges(catBurglarCharge);
+  }
+
+  private static void wonWithRedSnapper(final FamiliarData familiar, final String responseText) {
+    String monsterPhylum = MonsterStatusTracker.getLastMonster().getPhylum().toString();
+    if (Preferences.getString("redSnapperPhylum").equals(monsterPhylum)) {
+      Preferences.increment("redSnapperProgress");
+    }
+  }
+
+  private static void wonWithShortOrderCook(
+      final FamiliarData familiar, final String responseText) {
+    int charge = Preferences.getInteger("_shortOrderCookCharge");
+    if (responseText.contains("shortbeer.gif")
+        || responseText.contains("shortstack.gif")
+        || responseText.contains("shortbutter.gif")
+        || responseText.contains("shortwater.gif")
+        || responseText.contains("shortcoffee.gif")) {
+      if (KoLCharacter.hasEquipped(ItemPool.BLUE_PLATE, Slot.FAMILIAR)) {
+        charge = 2;
+      } else {
+        charge = 0;
+      }
+    } else {
+      charge += 1;
+    }
+    Preferences.setInteger("_shortOrderCookCharge", charge);
+    familiar.setCharges(charge);
+
+    Matcher otherFamiliarExp = SHORT_ORDER_EXP_PATTERN.matcher(responseText);
+    if (otherFamiliarExp.find()) {
+      FamiliarData fam = KoLCharacter.usableFamiliar(otherFamiliarExp.group(1));
+
+      if (fam != null) {
+        int exp = StringUtilities.parseInt(otherFamiliarExp.group(2));
+        fam.addNonCombatExperience(exp);
+      }
+    }
+  }
+
+  private static void wonWithVampireVintner(
+      final FamiliarData familiar, final String responseText) {
+    // Counts up to 13 and then the wine drops after the fourteenth fight
+    // If player already has wine, he gestures politely (but, in this code author's opinion,
+    // rudely).
+    if (responseText.contains("clears his throat")
+        || responseText.contains("gestures discreetly")
+        || responseText.contains("taps his foot")) {
+      Preferences.setInteger("vintnerCharge", 13);
+      familiar.setCharges(13);
+    } else {
+      familiar.setCharges(Preferences.increment("vintnerCharge", 1, 13, false));
+    }
+  }
+
+  private static void wonWithCookbookbat(final FamiliarData familiar, final String responseText) {
+    // Counts up to 11, ingredients drop on 11th fight.
+    // Don't increment on a drop fight.
+    KoLAdventure location = KoLAdventure.lastVisitedLocation();
+
+    if (!responseText.contains(COOKBOOKBAT_INGREDIENTS)) {
+      familiar.setCharges(Preferences.increment("cookbookbatIngredientsCharge", 1, 11, false));
+    }
+    String questLastLocation = Preferences.getString("_cookbookbatQuestLastLocation");
+    boolean inSuggestedLocation =
+        location != null
+            && !questLastLocation.isEmpty()
+            && questLastLocation.equals(location.getAdventureName());
+    Preferences.decrement("_cookbookbatCombatsUntilNewQuest", 1, inSuggestedLocation ? 1 : 0);
+  }
+
+  private static void wonWithEvolvingOrganism(
+      final FamiliarData familiar, final String responseText) {
+    if (responseText.contains("expends all their experience and evolves")) {
+      // Resets familiar experience to 0.
+      KoLCharacter.getFamiliar().setExperience(0);
+      // *** We could parse the message and track the evolved abilities
+    }
+  }
+
+  // <p>You see a strange cartouche painted on a nearby wall.<div style='position: relative;
+  // display: inline-block; z-index 0;'><img src=/images/otherimages/cartouche.gif><div
+  // style='position: absolute; left: 15; top: 30; z-index 1;'><img
+  // src=/images/itemimages/hiero12.gif></div><div style='position: absolute; left: 15; top: 62;
   // z-index 1;'><img src=/images/itemimages/hiero24.gif></div><div style='position: absolute; left:
   // 15; top: 94; z-index 1;'><img src=/images/itemimages/hiero21.gif></div></div>
 
@@ -9316,15 +9455,327 @@ public class FightRequest extends GenericRequest {
   private static final AdventureResult METEOR_SHOWERED =
       EffectPool.get(EffectPool.METEOR_SHOWERED, 1);
 
+  // What the response to a combat skill told us, as tracked by the skill handlers
+  private static class SkillCast {
+    // Number to increment daily limit prop (almost always 1)
+    int increment = 1;
+    boolean skillSuccess;
+    boolean familiarSkillSuccess;
+    boolean skillRunawaySuccess;
+
+    SkillCast(final String responseText) {
+      this.skillSuccess = isSkillSuccess(responseText);
+      this.familiarSkillSuccess = isFamiliarSkillSuccess(responseText);
+      this.skillRunawaySuccess = isSkillRunawaySuccess(responseText);
+    }
+  }
+
+  // Non damaging skills all have the same success messages for Anapest or Haiku
+  private static boolean isSkillSuccess(final String responseText) {
+    return (FightRequest.anapest && responseText.contains("skills don't have to cause pain"))
+        || (FightRequest.haiku && responseText.contains("accomplish something"))
+        || (FightRequest.machineElf && responseText.contains("You reveal your"));
+  }
+
+  private static boolean isFamiliarSkillSuccess(final String responseText) {
+    return (FightRequest.anapest
+            && (responseText.contains("familiar did something")
+                || responseText.contains("pet did a thing")))
+        || (FightRequest.haiku
+            && (responseText.contains("wish you had just seen")
+                || responseText.contains("what did your familiar do")
+                || responseText.contains("familiar does something")
+                || responseText.contains("you don't see what it does")
+                || responseText.contains("you missed what it did")))
+        || (FightRequest.machineElf && responseText.contains("You reveal your"));
+  }
+
+  private static boolean isSkillRunawaySuccess(final String responseText) {
+    return (FightRequest.anapest && responseText.contains("wings on your heels"))
+        || (FightRequest.haiku
+            && (responseText.contains("burps taste like pride")
+                || responseText.contains("beat a retreat")))
+        || responseText.contains("throws a smoke ball on the ground")
+        || (FightRequest.machineElf && responseText.contains("you are no longer anywhere"));
+  }
+
+  // Skill-specific costs and tracking, found by skill ID. Each handler returns false if the skill
+  // did not count as cast.
+
+  @FunctionalInterface
+  private interface SkillCostHandler {
+    boolean pay(int skillId, String responseText, SkillCast cast);
+  }
+
+  private static final Map<Integer, SkillCostHandler> SKILL_COST_HANDLERS = new HashMap<>();
+
+  static {
+    SKILL_COST_HANDLERS.put(SkillPool.GOTHY_HANDWAVE, FightRequest::castGothyHandwave);
+    SKILL_COST_HANDLERS.put(SkillPool.VOLCANOMETEOR, FightRequest::castVolcanometeor);
+    SKILL_COST_HANDLERS.put(SkillPool.ENTANGLING_NOODLES, FightRequest::castEntanglingNoodles);
+    SKILL_COST_HANDLERS.put(SkillPool.SHADOW_NOODLES, FightRequest::castEntanglingNoodles);
+    SKILL_COST_HANDLERS.put(SkillPool.CLUBFOOT, FightRequest::castClubfoot);
+    SKILL_COST_HANDLERS.put(SkillPool.SHELL_UP, FightRequest::castClubfoot);
+    SKILL_COST_HANDLERS.put(SkillPool.TERRACOTTA_ARMY, FightRequest::castClubfoot);
+    SKILL_COST_HANDLERS.put(SkillPool.PARAFFIN_PRISM, FightRequest::castClubfoot);
+    SKILL_COST_HANDLERS.put(SkillPool.ACCORDION_BASH, FightRequest::castClubfoot);
+    SKILL_COST_HANDLERS.put(SkillPool.BALL_THROW, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.HOT_FOOT, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.SECOND_WIND, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.STOP_HITTING_YOURSELF, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.EMMENTAL_ELEMENTAL, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.STILTON_SPLATTER, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.KNIFE_IN_THE_DARKNESS, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.VENOMOUS_RIFF, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.DRUM_ROLL, FightRequest::castBallThrow);
+    SKILL_COST_HANDLERS.put(SkillPool.CERAMIC_PUNCH, FightRequest::castCeramicPunch);
+    SKILL_COST_HANDLERS.put(SkillPool.CERAMIC_BASH, FightRequest::castCeramicPunch);
+    SKILL_COST_HANDLERS.put(SkillPool.CERAMIC_GRATE, FightRequest::castCeramicPunch);
+    SKILL_COST_HANDLERS.put(SkillPool.CERAMIC_BOIL, FightRequest::castCeramicPunch);
+    SKILL_COST_HANDLERS.put(SkillPool.CERAMIC_SKULLGAZE, FightRequest::castCeramicPunch);
+    SKILL_COST_HANDLERS.put(SkillPool.CERAMIC_CENOBITIZE, FightRequest::castCeramicPunch);
+    SKILL_COST_HANDLERS.put(SkillPool.MAYFLY_SWARM, FightRequest::castMayflySwarm);
+    SKILL_COST_HANDLERS.put(SkillPool.VICIOUS_TALON_SLASH, FightRequest::castViciousTalonSlash);
+    SKILL_COST_HANDLERS.put(SkillPool.WING_BUFFET, FightRequest::castViciousTalonSlash);
+    SKILL_COST_HANDLERS.put(SkillPool.TUNNEL_UP, FightRequest::castTunnelUp);
+    SKILL_COST_HANDLERS.put(SkillPool.TUNNEL_DOWN, FightRequest::castTunnelDown);
+    SKILL_COST_HANDLERS.put(SkillPool.RISE_FROM_YOUR_ASHES, FightRequest::castRiseFromYourAshes);
+    SKILL_COST_HANDLERS.put(SkillPool.ANTARCTIC_FLAP, FightRequest::castAntarcticFlap);
+    SKILL_COST_HANDLERS.put(SkillPool.STATUE_TREATMENT, FightRequest::castStatueTreatment);
+    SKILL_COST_HANDLERS.put(SkillPool.FEAST_ON_CARRION, FightRequest::castFeastOnCarrion);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.GIVE_OPPONENT_THE_BIRD, FightRequest::castGiveOpponentTheBird);
+    SKILL_COST_HANDLERS.put(SkillPool.HOBO_JOKE, FightRequest::castHoboJoke);
+    SKILL_COST_HANDLERS.put(SkillPool.HOBO_DANCE, FightRequest::castHoboDance);
+    SKILL_COST_HANDLERS.put(SkillPool.BOXING_GLOVE_ARROW, FightRequest::castBoxingGloveArrow);
+    SKILL_COST_HANDLERS.put(SkillPool.POISON_ARROW, FightRequest::castBoxingGloveArrow);
+    SKILL_COST_HANDLERS.put(SkillPool.FINGERTRAP_ARROW, FightRequest::castBoxingGloveArrow);
+    SKILL_COST_HANDLERS.put(SkillPool.SQUEEZE_STRESS_BALL, FightRequest::castSqueezeStressBall);
+    SKILL_COST_HANDLERS.put(SkillPool.RELEASE_BOOTS, FightRequest::castReleaseBoots);
+    SKILL_COST_HANDLERS.put(SkillPool.SIPHON_SPIRITS, FightRequest::castSiphonSpirits);
+    SKILL_COST_HANDLERS.put(SkillPool.SHRAP, FightRequest::castShrap);
+    SKILL_COST_HANDLERS.put(SkillPool.GET_A_GOOD_WHIFF, FightRequest::castGetAGoodWhiff);
+    SKILL_COST_HANDLERS.put(SkillPool.MATING_CALL, FightRequest::castMatingCall);
+    SKILL_COST_HANDLERS.put(SkillPool.MAKE_FRIENDS, FightRequest::castMakeFriends);
+    SKILL_COST_HANDLERS.put(SkillPool.BADLY_ROMANTIC_ARROW, FightRequest::castBadlyRomanticArrow);
+    SKILL_COST_HANDLERS.put(SkillPool.WINK, FightRequest::castBadlyRomanticArrow);
+    SKILL_COST_HANDLERS.put(SkillPool.OLFACTION, FightRequest::castOlfaction);
+    SKILL_COST_HANDLERS.put(SkillPool.LONG_CON, FightRequest::castLongCon);
+    SKILL_COST_HANDLERS.put(SkillPool.PERCEIVE_SOUL, FightRequest::castPerceiveSoul);
+    SKILL_COST_HANDLERS.put(SkillPool.MOTIF, FightRequest::castMotif);
+    SKILL_COST_HANDLERS.put(SkillPool.MONKEY_POINT, FightRequest::castMonkeyPoint);
+    SKILL_COST_HANDLERS.put(SkillPool.HOLD_HANDS, FightRequest::castHoldHands);
+    SKILL_COST_HANDLERS.put(SkillPool.HUNT, FightRequest::castHunt);
+    SKILL_COST_HANDLERS.put(SkillPool.BANISHING_SHOUT, FightRequest::castBanishingShout);
+    SKILL_COST_HANDLERS.put(SkillPool.SYSTEM_SWEEP, FightRequest::castSystemSweep);
+    SKILL_COST_HANDLERS.put(SkillPool.HOWL_ALPHA, FightRequest::castHowlAlpha);
+    SKILL_COST_HANDLERS.put(SkillPool.CREEPY_GRIN, FightRequest::castCreepyGrin);
+    SKILL_COST_HANDLERS.put(SkillPool.STINKEYE, FightRequest::castStinkeye);
+    SKILL_COST_HANDLERS.put(SkillPool.UNLEASH_NANITES, FightRequest::castUnleashNanites);
+    SKILL_COST_HANDLERS.put(SkillPool.BATTER_UP, FightRequest::castBatterUp);
+    SKILL_COST_HANDLERS.put(SkillPool.PUNT_AOSOL, FightRequest::castPuntAosol);
+    SKILL_COST_HANDLERS.put(SkillPool.MONKEY_SLAP, FightRequest::castMonkeySlap);
+    SKILL_COST_HANDLERS.put(SkillPool.SPRING_KICK, FightRequest::castSpringKick);
+    SKILL_COST_HANDLERS.put(SkillPool.TALK_ABOUT_POLITICS, FightRequest::castTalkAboutPolitics);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.WALK_AWAY_FROM_EXPLOSION, FightRequest::castWalkAwayFromExplosion);
+    SKILL_COST_HANDLERS.put(SkillPool.THUNDER_CLAP, FightRequest::castThunderClap);
+    SKILL_COST_HANDLERS.put(SkillPool.LICORICE_ROPE, FightRequest::castLicoriceRope);
+    SKILL_COST_HANDLERS.put(SkillPool.KGB_TRANQUILIZER_DART, FightRequest::castKgbTranquilizerDart);
+    SKILL_COST_HANDLERS.put(SkillPool.ROAR_LIKE_A_LION, FightRequest::castRoarLikeALion);
+    SKILL_COST_HANDLERS.put(SkillPool.PUNT_WEREPROF, FightRequest::castPuntWereprof);
+    SKILL_COST_HANDLERS.put(SkillPool.POCKET_CRUMBS, FightRequest::castPocketCrumbs);
+    SKILL_COST_HANDLERS.put(SkillPool.FIX_JUKEBOX, FightRequest::castFixJukebox);
+    SKILL_COST_HANDLERS.put(SkillPool.PEEL_OUT, FightRequest::castPeelOut);
+    SKILL_COST_HANDLERS.put(SkillPool.JUMP_SHARK, FightRequest::castJumpShark);
+    SKILL_COST_HANDLERS.put(SkillPool.SNOKEBOMB, FightRequest::castSnokebomb);
+    SKILL_COST_HANDLERS.put(SkillPool.SHATTERING_PUNCH, FightRequest::castShatteringPunch);
+    SKILL_COST_HANDLERS.put(SkillPool.GINGERBREAD_MOB_HIT, FightRequest::castGingerbreadMobHit);
+    SKILL_COST_HANDLERS.put(SkillPool.BEANCANNON, FightRequest::castBeancannon);
+    SKILL_COST_HANDLERS.put(SkillPool.BREATHE_OUT, FightRequest::castBreatheOut);
+    SKILL_COST_HANDLERS.put(SkillPool.HUGS_KISSES, FightRequest::castHugsKisses);
+    SKILL_COST_HANDLERS.put(SkillPool.SMASH_GRAAAGH, FightRequest::castSmashGraaagh);
+    SKILL_COST_HANDLERS.put(SkillPool.SHOW_RING, FightRequest::castShowRing);
+    SKILL_COST_HANDLERS.put(SkillPool.THROW_LATTE, FightRequest::castThrowLatte);
+    SKILL_COST_HANDLERS.put(SkillPool.OFFER_LATTE, FightRequest::castOfferLatte);
+    SKILL_COST_HANDLERS.put(SkillPool.GULP_LATTE, FightRequest::castGulpLatte);
+    SKILL_COST_HANDLERS.put(SkillPool.CARBOHYDRATE_CUDGEL, FightRequest::castCarbohydrateCudgel);
+    SKILL_COST_HANDLERS.put(SkillPool.UNLOAD_TOMMY_GUN, FightRequest::castUnloadTommyGun);
+    SKILL_COST_HANDLERS.put(SkillPool.SHOVEL_HOT_COAL, FightRequest::castShovelHotCoal);
+    SKILL_COST_HANDLERS.put(SkillPool.RAGE_FLAME, FightRequest::castRageFlame);
+    SKILL_COST_HANDLERS.put(SkillPool.DOUBT_SHACKLES, FightRequest::castDoubtShackles);
+    SKILL_COST_HANDLERS.put(SkillPool.FEAR_VAPOR, FightRequest::castFearVapor);
+    SKILL_COST_HANDLERS.put(SkillPool.TEAR_WAVE, FightRequest::castTearWave);
+    SKILL_COST_HANDLERS.put(SkillPool.SUMMON_HOBO, FightRequest::castSummonHobo);
+    SKILL_COST_HANDLERS.put(SkillPool.OVERLOAD_TEDDY_BEAR, FightRequest::castOverloadTeddyBear);
+    SKILL_COST_HANDLERS.put(SkillPool.THROW_SKULL, FightRequest::castThrowSkull);
+    SKILL_COST_HANDLERS.put(SkillPool.THROW_ROCK, FightRequest::castThrowRock);
+    SKILL_COST_HANDLERS.put(SkillPool.THROW_POT, FightRequest::castThrowPot);
+    SKILL_COST_HANDLERS.put(SkillPool.THROW_TORCH, FightRequest::castThrowTorch);
+    SKILL_COST_HANDLERS.put(SkillPool.LASH_OF_COBRA, FightRequest::castLashOfCobra);
+    SKILL_COST_HANDLERS.put(SkillPool.CURSE_OF_FORTUNE, FightRequest::castCurseOfFortune);
+    SKILL_COST_HANDLERS.put(SkillPool.CURSE_OF_VACATION, FightRequest::castCurseOfVacation);
+    SKILL_COST_HANDLERS.put(SkillPool.CURSE_OF_STENCH, FightRequest::castCurseOfStench);
+    SKILL_COST_HANDLERS.put(SkillPool.HEALING_SALVE, FightRequest::castHealingSalve);
+    SKILL_COST_HANDLERS.put(SkillPool.LIGHTNING_BOLT_CARD, FightRequest::castLightningBoltCard);
+    SKILL_COST_HANDLERS.put(SkillPool.GIANT_GROWTH, FightRequest::castGiantGrowth);
+    SKILL_COST_HANDLERS.put(SkillPool.CANHANDLE, FightRequest::castCanhandle);
+    SKILL_COST_HANDLERS.put(SkillPool.SHOOT, FightRequest::castShoot);
+    SKILL_COST_HANDLERS.put(SkillPool.FAN_HAMMER, FightRequest::castFanHammer);
+    SKILL_COST_HANDLERS.put(SkillPool.EXTRACT_OIL, FightRequest::castExtractOil);
+    SKILL_COST_HANDLERS.put(SkillPool.BAT_OOMERANG, FightRequest::castBatOomerang);
+    SKILL_COST_HANDLERS.put(SkillPool.BAT_JUTE, FightRequest::castBatJute);
+    SKILL_COST_HANDLERS.put(SkillPool.BAT_O_MITE, FightRequest::castBatOMite);
+    SKILL_COST_HANDLERS.put(SkillPool.ULTRACOAGULATOR, FightRequest::castUltracoagulator);
+    SKILL_COST_HANDLERS.put(SkillPool.KICKBALL, FightRequest::castKickball);
+    SKILL_COST_HANDLERS.put(SkillPool.BAT_GLUE, FightRequest::castBatGlue);
+    SKILL_COST_HANDLERS.put(SkillPool.BAT_BEARING, FightRequest::castBatBearing);
+    SKILL_COST_HANDLERS.put(SkillPool.USE_BAT_AID, FightRequest::castUseBatAid);
+    SKILL_COST_HANDLERS.put(SkillPool.FIRE_JOKESTER_GUN, FightRequest::castFireJokesterGun);
+    SKILL_COST_HANDLERS.put(SkillPool.DIGITIZE, FightRequest::castDigitize);
+    SKILL_COST_HANDLERS.put(SkillPool.PORTSCAN, FightRequest::castPortscan);
+    SKILL_COST_HANDLERS.put(SkillPool.DUPLICATE, FightRequest::castDuplicate);
+    SKILL_COST_HANDLERS.put(SkillPool.AM_MISSILE_LAUNCHER, FightRequest::castAmMissileLauncher);
+    SKILL_COST_HANDLERS.put(SkillPool.AM_BEAN_BAG_CANNON, FightRequest::castAmBeanBagCannon);
+    SKILL_COST_HANDLERS.put(SkillPool.AM_FRONT_BUMPER, FightRequest::castAmFrontBumper);
+    SKILL_COST_HANDLERS.put(SkillPool.MICROMETEOR, FightRequest::castMicrometeor);
+    SKILL_COST_HANDLERS.put(SkillPool.MACROMETEOR, FightRequest::castMacrometeor);
+    SKILL_COST_HANDLERS.put(SkillPool.METEOR_SHOWER, FightRequest::castMeteorShower);
+    SKILL_COST_HANDLERS.put(SkillPool.SWAP_MASK, FightRequest::castSwapMask);
+    SKILL_COST_HANDLERS.put(SkillPool.OTOSCOPE, FightRequest::castOtoscope);
+    SKILL_COST_HANDLERS.put(SkillPool.REFLEX_HAMMER, FightRequest::castReflexHammer);
+    SKILL_COST_HANDLERS.put(SkillPool.CHEST_X_RAY, FightRequest::castChestXRay);
+    SKILL_COST_HANDLERS.put(SkillPool.BALEFUL_HOWL, FightRequest::castBalefulHowl);
+    SKILL_COST_HANDLERS.put(SkillPool.ARMY_TODDLER, FightRequest::castArmyToddler);
+    SKILL_COST_HANDLERS.put(SkillPool.ENSORCEL, FightRequest::castEnsorcel);
+    SKILL_COST_HANDLERS.put(SkillPool.BECOME_WOLF, FightRequest::castBecomeWolf);
+    SKILL_COST_HANDLERS.put(SkillPool.BECOME_MIST, FightRequest::castBecomeMist);
+    SKILL_COST_HANDLERS.put(SkillPool.BECOME_BAT, FightRequest::castBecomeBat);
+    SKILL_COST_HANDLERS.put(SkillPool.IMPLODE_UNIVERSE, FightRequest::castImplodeUniverse);
+    SKILL_COST_HANDLERS.put(SkillPool.DELIVER_THESIS, FightRequest::castDeliverThesis);
+    SKILL_COST_HANDLERS.put(SkillPool.LECTURE_ON_VELOCITY, FightRequest::castLectureOnVelocity);
+    SKILL_COST_HANDLERS.put(SkillPool.LECTURE_ON_MASS, FightRequest::castLectureOnMass);
+    SKILL_COST_HANDLERS.put(SkillPool.LECTURE_ON_RELATIVITY, FightRequest::castLectureOnRelativity);
+    SKILL_COST_HANDLERS.put(SkillPool.REPLACE_ENEMY, FightRequest::castReplaceEnemy);
+    SKILL_COST_HANDLERS.put(SkillPool.SHRINK_ENEMY, FightRequest::castShrinkEnemy);
+    SKILL_COST_HANDLERS.put(SkillPool.HAMMER_THROW_COMBAT, FightRequest::castHammerThrowCombat);
+    SKILL_COST_HANDLERS.put(SkillPool.JUGGLE_FIREBALLS_COMBAT, FightRequest::castHammerThrowCombat);
+    SKILL_COST_HANDLERS.put(SkillPool.SPIN_JUMP_COMBAT, FightRequest::castHammerThrowCombat);
+    SKILL_COST_HANDLERS.put(SkillPool.ULTRA_SMASH_COMBAT, FightRequest::castUltraSmashCombat);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.FIREBALL_BARRAGE_COMBAT, FightRequest::castFireballBarrageCombat);
+    SKILL_COST_HANDLERS.put(SkillPool.MULTI_BOUNCE_COMBAT, FightRequest::castFireballBarrageCombat);
+    SKILL_COST_HANDLERS.put(SkillPool.FEEL_NOSTALGIC, FightRequest::castFeelNostalgic);
+    SKILL_COST_HANDLERS.put(SkillPool.FEEL_HATRED, FightRequest::castFeelHatred);
+    SKILL_COST_HANDLERS.put(SkillPool.FEEL_PRIDE, FightRequest::castFeelPride);
+    SKILL_COST_HANDLERS.put(SkillPool.FEEL_ENVY, FightRequest::castFeelEnvy);
+    SKILL_COST_HANDLERS.put(SkillPool.FEEL_SUPERIOR, FightRequest::castFeelSuperior);
+    SKILL_COST_HANDLERS.put(SkillPool.SHOCKING_LICK, FightRequest::castShockingLick);
+    SKILL_COST_HANDLERS.put(SkillPool.BACK_UP, FightRequest::castBackUp);
+    SKILL_COST_HANDLERS.put(SkillPool.SHOW_SCRAPBOOK, FightRequest::castShowScrapbook);
+    SKILL_COST_HANDLERS.put(SkillPool.BLART_SPRAY_WIDE, FightRequest::castBlartSprayWide);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.FIRE_EXTINGUISHER__FOAM_EM_UP, FightRequest::castFireExtinguisherFoamEmUp);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.FIRE_EXTINGUISHER__POLAR_VORTEX, FightRequest::castFireExtinguisherPolarVortex);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.FIRE_EXTINGUISHER__FOAM_YOURSELF, FightRequest::castFireExtinguisherFoamYourself);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.FIRE_EXTINGUISHER__BLAST_THE_AREA,
+        FightRequest::castFireExtinguisherBlastTheArea);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.FIRE_EXTINGUISHER__ZONE_SPECIFIC, FightRequest::castFireExtinguisherZoneSpecific);
+    SKILL_COST_HANDLERS.put(SkillPool.BE_GREGARIOUS, FightRequest::castBeGregarious);
+    SKILL_COST_HANDLERS.put(SkillPool.BOWL_BACKWARDS, FightRequest::castBowlBackwards);
+    SKILL_COST_HANDLERS.put(SkillPool.BOWL_A_CURVEBALL, FightRequest::castBowlBackwards);
+    SKILL_COST_HANDLERS.put(SkillPool.BOWL_SIDEWAYS, FightRequest::castBowlBackwards);
+    SKILL_COST_HANDLERS.put(SkillPool.BOWL_STRAIGHT_UP, FightRequest::castBowlBackwards);
+    SKILL_COST_HANDLERS.put(SkillPool.RE_PROCESS_MATTER, FightRequest::castReProcessMatter);
+    SKILL_COST_HANDLERS.put(SkillPool.MEATIFY_MATTER, FightRequest::castMeatifyMatter);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.EMIT_MATTER_DUPLICATING_DRONES, FightRequest::castEmitMatterDuplicatingDrones);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.CONVERT_MATTER_TO_PROTEIN, FightRequest::castConvertMatterToProtein);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.CONVERT_MATTER_TO_ENERGY, FightRequest::castConvertMatterToProtein);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.CONVERT_MATTER_TO_POMADE, FightRequest::castConvertMatterToProtein);
+    SKILL_COST_HANDLERS.put(SkillPool.JUNK_BLAST, FightRequest::castJunkBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.SNIPE, FightRequest::castJunkBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.JUNK_MACE_SMASH, FightRequest::castJunkBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.TESLA_BLAST, FightRequest::castTeslaBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.BLOW_SNOW, FightRequest::castTeslaBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.SHOOT_GREASE, FightRequest::castTeslaBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.PROD, FightRequest::castTeslaBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.SOLENOID_SLAM, FightRequest::castTeslaBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.THROW_FLAME, FightRequest::castTeslaBlast);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.LAUNCH_SPIKOLODON_SPIKES, FightRequest::castLaunchSpikolodonSpikes);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.CINCHO_PROJECTILE_PINATA, FightRequest::castCinchoProjectilePinata);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.CINCHO_CONFETTI_EXTRAVAGANZA, FightRequest::castCinchoConfettiExtravaganza);
+    SKILL_COST_HANDLERS.put(SkillPool.CINCHO_PARTY_FOUL, FightRequest::castCinchoPartyFoul);
+    SKILL_COST_HANDLERS.put(SkillPool.DOUSE_FOE, FightRequest::castDouseFoe);
+    SKILL_COST_HANDLERS.put(SkillPool.DO_EPIC_MCTWIST, FightRequest::castDoEpicMctwist);
+    SKILL_COST_HANDLERS.put(SkillPool.RED_WHITE_BLUE_BLAST, FightRequest::castRedWhiteBlueBlast);
+    SKILL_COST_HANDLERS.put(SkillPool.PATRIOTIC_SCREECH, FightRequest::castPatrioticScreech);
+    SKILL_COST_HANDLERS.put(SkillPool.PERPETRATE_MILD_EVIL, FightRequest::castPerpetrateMildEvil);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.RECALL_FACTS_MONSTER_HABITATS, FightRequest::castRecallFactsMonsterHabitats);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.RECALL_FACTS_CIRCADIAN_RHYTHMS, FightRequest::castRecallFactsCircadianRhythms);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.SURPRISINGLY_SWEET_SLASH, FightRequest::castSurprisinglySweetSlash);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.SURPRISINGLY_SWEET_STAB, FightRequest::castSurprisinglySweetStab);
+    SKILL_COST_HANDLERS.put(SkillPool.LAY_AN_EGG, FightRequest::castLayAnEgg);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_PART1, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_PART2, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_PART3, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_PART4, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_PART5, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_PART6, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_PART7, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_PART8, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.DART_BULLSEYE, FightRequest::castDartPart1);
+    SKILL_COST_HANDLERS.put(SkillPool.BLOW_THE_RED_CANDLE, FightRequest::castBlowTheRedCandle);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.BLOW_THE_YELLOW_CANDLE, FightRequest::castBlowTheYellowCandle);
+    SKILL_COST_HANDLERS.put(SkillPool.BLOW_THE_BLUE_CANDLE, FightRequest::castBlowTheBlueCandle);
+    SKILL_COST_HANDLERS.put(SkillPool.BLOW_THE_GREEN_CANDLE, FightRequest::castBlowTheGreenCandle);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.BLOW_THE_PURPLE_CANDLE, FightRequest::castBlowThePurpleCandle);
+    SKILL_COST_HANDLERS.put(SkillPool.TEAR_AWAY_YOUR_PANTS, FightRequest::castTearAwayYourPants);
+    SKILL_COST_HANDLERS.put(SkillPool.SWOOP_LIKE_A_BAT, FightRequest::castSwoopLikeABat);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.SUMMON_CAULDRON_OF_BATS, FightRequest::castSummonCauldronOfBats);
+    SKILL_COST_HANDLERS.put(SkillPool.ASSERT_YOUR_AUTHORITY, FightRequest::castAssertYourAuthority);
+    SKILL_COST_HANDLERS.put(SkillPool.IRON_TRICORN_HEADBUTT, FightRequest::castIronTricornHeadbutt);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.PLACE_YOUR_HAT_ON_THEIR_HEAD, FightRequest::castPlaceYourHatOnTheirHead);
+    SKILL_COST_HANDLERS.put(SkillPool.MCHUGELARGE_SLASH, FightRequest::castMchugelargeSlash);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.MCHUGELARGE_AVALANCHE, FightRequest::castMchugelargeAvalanche);
+    SKILL_COST_HANDLERS.put(SkillPool.MCHUGELARGE_SKI_PLOW, FightRequest::castMchugelargeSkiPlow);
+    SKILL_COST_HANDLERS.put(SkillPool.THROW_CYBER_ROCK, FightRequest::castThrowCyberRock);
+    SKILL_COST_HANDLERS.put(SkillPool.BRUTE_FORCE_HAMMER, FightRequest::castBruteForceHammer);
+    SKILL_COST_HANDLERS.put(SkillPool.INJECT_MALWARE, FightRequest::castInjectMalware);
+    SKILL_COST_HANDLERS.put(SkillPool.ENCRYPTED_SHURIKEN, FightRequest::castEncryptedShuriken);
+    SKILL_COST_HANDLERS.put(SkillPool.REFRESH_HP, FightRequest::castRefreshHp);
+    SKILL_COST_HANDLERS.put(SkillPool.LAUNCH_LOGIC_GRENADE, FightRequest::castLaunchLogicGrenade);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.DEPLOY_GLITCHED_MALWARE, FightRequest::castDeployGlitchedMalware);
+    SKILL_COST_HANDLERS.put(
+        SkillPool.THRUST_YOUR_GEOFENCING_RAPIER, FightRequest::castThrustYourGeofencingRapier);
+  }
+
   private static void payActionCost(final String responseText) {
     // If we don't know what we tried, punt now.
     if (FightRequest.nextAction == null || FightRequest.nextAction.isEmpty()) {
       return;
     }
 
-    MonsterData monster = MonsterStatusTracker.getLastMonster();
-    String monsterName = monster != null ? monster.getName() : "";
-
     switch (KoLCharacter.getEffectiveFamiliar().getId()) {
       case FamiliarPool.BLACK_CAT -> {
         // If we are adventuring with a Black Cat, she might
@@ -9433,30 +9884,6 @@ public class FightRequest extends GenericRequest {
       return;
     }
 
-    // Non damaging skills all have the same success messages for Anapest or Haiku
-    boolean skillSuccess =
-        (FightRequest.anapest && responseText.contains("skills don't have to cause pain"))
-            || (FightRequest.haiku && responseText.contains("accomplish something"))
-            || (FightRequest.machineElf && responseText.contains("You reveal your"));
-    boolean familiarSkillSuccess =
-        (FightRequest.anapest
-                && (responseText.contains("familiar did something")
-                    || responseText.contains("pet did a thing")))
-            || (FightRequest.haiku
-                && (responseText.contains("wish you had just seen")
-                    || responseText.contains("what did your familiar do")
-                    || responseText.contains("familiar does something")
-                    || responseText.contains("you don't see what it does")
-                    || responseText.contains("you missed what it did")))
-            || (FightRequest.machineElf && responseText.contains("You reveal your"));
-    boolean skillRunawaySuccess =
-        (FightRequest.anapest && responseText.contains("wings on your heels"))
-            || (FightRequest.haiku
-                && (responseText.contains("burps taste like pride")
-                    || responseText.contains("beat a retreat")))
-            || responseText.contains("throws a smoke ball on the ground")
-            || (FightRequest.machineElf && responseText.contains("you are no longer anywhere"));
-
     if (!FightRequest.nextAction.startsWith("skill")) {
       // In Beecore, using a B-item in combat fails. Even if
       // funkslinging with a non-B item, neither item is
@@ -9509,1220 +9936,1897 @@ public class FightRequest extends GenericRequest {
       return;
     }
 
-    // Number to increment daily limit prop (almost always 1)
-    int increment = 1;
+    SkillCast cast = new SkillCast(responseText);
 
-    switch (skillId) {
-      case SkillPool.GOTHY_HANDWAVE -> NemesisDecorator.useGothyHandwave(monsterName, responseText);
-      case SkillPool.VOLCANOMETEOR -> ResultProcessor.processItem(ItemPool.VOLCANIC_ASH, -1);
-      case SkillPool.ENTANGLING_NOODLES, SkillPool.SHADOW_NOODLES -> {
-        singleCastsThisFight.add(SkillPool.ENTANGLING_NOODLES);
-        return;
-      }
-      case SkillPool.CLUBFOOT,
-          SkillPool.SHELL_UP,
-          SkillPool.TERRACOTTA_ARMY,
-          SkillPool.PARAFFIN_PRISM,
-          SkillPool.ACCORDION_BASH -> {
-        singleCastsThisFight.add(skillId);
-        return;
-      }
-      case SkillPool.BALL_THROW,
-          SkillPool.HOT_FOOT,
-          SkillPool.SECOND_WIND,
-          SkillPool.STOP_HITTING_YOURSELF,
-          SkillPool.EMMENTAL_ELEMENTAL,
-          SkillPool.STILTON_SPLATTER,
-          SkillPool.KNIFE_IN_THE_DARKNESS,
-          SkillPool.VENOMOUS_RIFF,
-          SkillPool.DRUM_ROLL -> {
-        singleCastsThisFight.add(skillId);
-        return;
-      }
-      case SkillPool.CERAMIC_PUNCH,
-          SkillPool.CERAMIC_BASH,
-          SkillPool.CERAMIC_GRATE,
-          SkillPool.CERAMIC_BOIL,
-          SkillPool.CERAMIC_SKULLGAZE,
-          SkillPool.CERAMIC_CENOBITIZE -> {
-        singleCastsThisFight.add(skillId);
-        return;
-      }
-      case SkillPool.MAYFLY_SWARM -> {
-        if (responseText.contains("mayfly bait and swing it")
-            || responseText.contains("May flies when")
-            || responseText.contains("mayflies buzz in")
-            || responseText.contains("mayflies, with bait")
-            || responseText.contains("mayflies respond")
-            || skillSuccess) {
-          Preferences.increment(
-              "mayflyExperience", responseText.contains("mayfly aphrodisiac") ? 2 : 1);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.VICIOUS_TALON_SLASH, SkillPool.WING_BUFFET -> Preferences.increment(
-          "birdformRoc", 1);
-      case SkillPool.TUNNEL_UP -> Preferences.increment("moleTunnelLevel", 1);
-      case SkillPool.TUNNEL_DOWN -> Preferences.increment("moleTunnelLevel", -1);
-      case SkillPool.RISE_FROM_YOUR_ASHES -> Preferences.increment("birdformHot", 1);
-      case SkillPool.ANTARCTIC_FLAP -> Preferences.increment("birdformCold", 1);
-      case SkillPool.STATUE_TREATMENT -> Preferences.increment("birdformStench", 1);
-      case SkillPool.FEAST_ON_CARRION -> Preferences.increment("birdformSpooky", 1);
-      case SkillPool.GIVE_OPPONENT_THE_BIRD -> Preferences.increment("birdformSleaze", 1);
-      case SkillPool.HOBO_JOKE -> addFightModifiers(
-          "Ask the hobo to tell you a joke", DoubleModifier.MEATDROP, 100);
-      case SkillPool.HOBO_DANCE -> addFightModifiers(
-          "Ask the hobo to dance for you", DoubleModifier.ITEMDROP, 100);
-      case SkillPool.BOXING_GLOVE_ARROW,
-          SkillPool.POISON_ARROW,
-          SkillPool.FINGERTRAP_ARROW -> skillSuccess = true;
-      case SkillPool.SQUEEZE_STRESS_BALL -> {
-        singleCastsThisFight.add(skillId);
-        skillSuccess = true;
-      }
-      case SkillPool.RELEASE_BOOTS -> {
-        FightRequest.canStomp = false;
-        skillSuccess = true;
-      }
-      case SkillPool.SIPHON_SPIRITS -> {
-        // No daily limit, siphons take longer to charge the more you do
-        Preferences.increment("_mediumSiphons", 1);
-        KoLCharacter.setFamiliarImage("medium_0.gif");
-        FamiliarData familiar = KoLCharacter.getEffectiveFamiliar();
-        familiar.setCharges(0);
-      }
-      case SkillPool.SHRAP -> ResultProcessor.removeItem(ItemPool.WARBEAR_WHOSIT);
-      case SkillPool.GET_A_GOOD_WHIFF -> {
-        if (responseText.contains("floats over your opponent") || familiarSkillSuccess) {
-          TrackManager.trackMonster(monster, Tracker.NOSY_NOSE);
-        }
-      }
-      case SkillPool.MATING_CALL -> {
-        if (responseText.contains("bellow the eerie mating call") || skillSuccess) {
-          TrackManager.trackMonster(monster, Tracker.GALLAPAGOS);
-        }
-      }
-      case SkillPool.MAKE_FRIENDS -> {
-        if (responseText.contains("you become fast friends") || skillSuccess) {
-          TrackManager.trackMonster(monster, Tracker.MAKE_FRIENDS);
-        }
-      }
-      case SkillPool.BADLY_ROMANTIC_ARROW, SkillPool.WINK -> {
-        if (responseText.contains("fires a badly romantic")
-            || responseText.contains("You point a finger")
-            || familiarSkillSuccess) {
-          boolean moreFights =
-              KoLCharacter.getFamiliar().getEffectiveId() == FamiliarPool.REANIMATOR
-                  || EquipmentManager.getFamiliarItem().getItemId() == ItemPool.QUAKE_OF_ARROWS;
-          int fights = moreFights ? 3 : 2;
-          familiarSkillSuccess = true;
-          Preferences.setInteger("_romanticFightsLeft", fights);
-          Preferences.setString("romanticTarget", monsterName);
-
-          TurnCounter.stopCounting("Romantic Monster window begin");
-          TurnCounter.stopCounting("Romantic Monster window end");
-          TurnCounter.startCountingTemporary(
-              15, "Romantic Monster window begin loc=*", "lparen.gif");
-          TurnCounter.startCountingTemporary(
-              25, "Romantic Monster window end loc=* type=wander", "rparen.gif");
-        }
-      }
-      case SkillPool.OLFACTION -> {
-        if (responseText.contains("fill your entire being") || skillSuccess) {
-          skillSuccess = true;
-          TrackManager.trackMonster(monster, Tracker.OLFACTION);
-          Preferences.setString("autoOlfact", "");
-          singleCastsThisFight.add(skillId);
-        }
-      }
-      case SkillPool.LONG_CON -> {
-        if (responseText.contains("memorize some important details") || skillSuccess) {
-          TrackManager.trackMonster(monster, Tracker.LONG_CON);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.PERCEIVE_SOUL -> {
-        if (responseText.contains("It would almost be intimate")) {
-          TrackManager.trackMonster(monster, Tracker.PERCEIVE_SOUL);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.MOTIF -> {
-        if (responseText.contains("You whip out an instrument and play a quick motif")) {
-          TrackManager.trackMonster(monster, Tracker.MOTIF);
-          skillSuccess = true;
-        }
+    SkillCostHandler handler = SKILL_COST_HANDLERS.get(skillId);
+    if (handler != null && !handler.pay(skillId, responseText, cast)) {
+      return;
+    }
+
+    if (cast.skillSuccess || cast.skillRunawaySuccess || cast.familiarSkillSuccess) {
+      var limit = DailyLimitType.CAST.getDailyLimit(skillId);
+
+      if (limit != null) {
+        limit.increment(cast.increment);
       }
-      case SkillPool.MONKEY_POINT -> {
-        if (responseText.contains("Your monkey paw points at your opponent")) {
-          TrackManager.trackMonster(monster, Tracker.MONKEY_POINT);
-          skillSuccess = true;
-        }
+    }
+  }
+
+  private static boolean castGothyHandwave(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+    String monsterName = monster != null ? monster.getName() : "";
+
+    NemesisDecorator.useGothyHandwave(monsterName, responseText);
+    return true;
+  }
+
+  private static boolean castVolcanometeor(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.processItem(ItemPool.VOLCANIC_ASH, -1);
+    return true;
+  }
+
+  private static boolean castEntanglingNoodles(
+      final int skillId, final String responseText, final SkillCast cast) {
+    singleCastsThisFight.add(SkillPool.ENTANGLING_NOODLES);
+    return false;
+  }
+
+  private static boolean castClubfoot(
+      final int skillId, final String responseText, final SkillCast cast) {
+    singleCastsThisFight.add(skillId);
+    return false;
+  }
+
+  private static boolean castBallThrow(
+      final int skillId, final String responseText, final SkillCast cast) {
+    singleCastsThisFight.add(skillId);
+    return false;
+  }
+
+  private static boolean castCeramicPunch(
+      final int skillId, final String responseText, final SkillCast cast) {
+    singleCastsThisFight.add(skillId);
+    return false;
+  }
+
+  private static boolean castMayflySwarm(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("mayfly bait and swing it")
+        || responseText.contains("May flies when")
+        || responseText.contains("mayflies buzz in")
+        || responseText.contains("mayflies, with bait")
+        || responseText.contains("mayflies respond")
+        || cast.skillSuccess) {
+      Preferences.increment(
+          "mayflyExperience", responseText.contains("mayfly aphrodisiac") ? 2 : 1);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castViciousTalonSlash(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.increment("birdformRoc", 1);
+    return true;
+  }
+
+  private static boolean castTunnelUp(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.increment("moleTunnelLevel", 1);
+    return true;
+  }
+
+  private static boolean castTunnelDown(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.increment("moleTunnelLevel", -1);
+    return true;
+  }
+
+  private static boolean castRiseFromYourAshes(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.increment("birdformHot", 1);
+    return true;
+  }
+
+  private static boolean castAntarcticFlap(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.increment("birdformCold", 1);
+    return true;
+  }
+
+  private static boolean castStatueTreatment(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.increment("birdformStench", 1);
+    return true;
+  }
+
+  private static boolean castFeastOnCarrion(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.increment("birdformSpooky", 1);
+    return true;
+  }
+
+  private static boolean castGiveOpponentTheBird(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.increment("birdformSleaze", 1);
+    return true;
+  }
+
+  private static boolean castHoboJoke(
+      final int skillId, final String responseText, final SkillCast cast) {
+    addFightModifiers("Ask the hobo to tell you a joke", DoubleModifier.MEATDROP, 100);
+    return true;
+  }
+
+  private static boolean castHoboDance(
+      final int skillId, final String responseText, final SkillCast cast) {
+    addFightModifiers("Ask the hobo to dance for you", DoubleModifier.ITEMDROP, 100);
+    return true;
+  }
+
+  private static boolean castBoxingGloveArrow(
+      final int skillId, final String responseText, final SkillCast cast) {
+    cast.skillSuccess = true;
+    return true;
+  }
+
+  private static boolean castSqueezeStressBall(
+      final int skillId, final String responseText, final SkillCast cast) {
+    singleCastsThisFight.add(skillId);
+    cast.skillSuccess = true;
+    return true;
+  }
+
+  private static boolean castReleaseBoots(
+      final int skillId, final String responseText, final SkillCast cast) {
+    FightRequest.canStomp = false;
+    cast.skillSuccess = true;
+    return true;
+  }
+
+  private static boolean castSiphonSpirits(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // No daily limit, siphons take longer to charge the more you do
+    Preferences.increment("_mediumSiphons", 1);
+    KoLCharacter.setFamiliarImage("medium_0.gif");
+    FamiliarData familiar = KoLCharacter.getEffectiveFamiliar();
+    familiar.setCharges(0);
+    return true;
+  }
+
+  private static boolean castShrap(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.WARBEAR_WHOSIT);
+    return true;
+  }
+
+  private static boolean castGetAGoodWhiff(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("floats over your opponent") || cast.familiarSkillSuccess) {
+      TrackManager.trackMonster(monster, Tracker.NOSY_NOSE);
+    }
+    return true;
+  }
+
+  private static boolean castMatingCall(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("bellow the eerie mating call") || cast.skillSuccess) {
+      TrackManager.trackMonster(monster, Tracker.GALLAPAGOS);
+    }
+    return true;
+  }
+
+  private static boolean castMakeFriends(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("you become fast friends") || cast.skillSuccess) {
+      TrackManager.trackMonster(monster, Tracker.MAKE_FRIENDS);
+    }
+    return true;
+  }
+
+  private static boolean castBadlyRomanticArrow(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+    String monsterName = monster != null ? monster.getName() : "";
+
+    if (responseText.contains("fires a badly romantic")
+        || responseText.contains("You point a finger")
+        || cast.familiarSkillSuccess) {
+      boolean moreFights =
+          KoLCharacter.getFamiliar().getEffectiveId() == FamiliarPool.REANIMATOR
+              || EquipmentManager.getFamiliarItem().getItemId() == ItemPool.QUAKE_OF_ARROWS;
+      int fights = moreFights ? 3 : 2;
+      cast.familiarSkillSuccess = true;
+      Preferences.setInteger("_romanticFightsLeft", fights);
+      Preferences.setString("romanticTarget", monsterName);
+
+      TurnCounter.stopCounting("Romantic Monster window begin");
+      TurnCounter.stopCounting("Romantic Monster window end");
+      TurnCounter.startCountingTemporary(15, "Romantic Monster window begin loc=*", "lparen.gif");
+      TurnCounter.startCountingTemporary(
+          25, "Romantic Monster window end loc=* type=wander", "rparen.gif");
+    }
+    return true;
+  }
+
+  private static boolean castOlfaction(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("fill your entire being") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      TrackManager.trackMonster(monster, Tracker.OLFACTION);
+      Preferences.setString("autoOlfact", "");
+      singleCastsThisFight.add(skillId);
+    }
+    return true;
+  }
+
+  private static boolean castLongCon(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("memorize some important details") || cast.skillSuccess) {
+      TrackManager.trackMonster(monster, Tracker.LONG_CON);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castPerceiveSoul(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("It would almost be intimate")) {
+      TrackManager.trackMonster(monster, Tracker.PERCEIVE_SOUL);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castMotif(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You whip out an instrument and play a quick motif")) {
+      TrackManager.trackMonster(monster, Tracker.MOTIF);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castMonkeyPoint(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("Your monkey paw points at your opponent")) {
+      TrackManager.trackMonster(monster, Tracker.MONKEY_POINT);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castHoldHands(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("stop the battle for a moment and hold hands with you")) {
+      TrackManager.trackMonster(monster, Tracker.HOLD_HANDS);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castHunt(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You take a good sniff")) {
+      TrackManager.trackMonster(monster, Tracker.HUNT);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  // Banishing Shout has lots of success messages.  Check for the failure message instead
+  private static boolean castBanishingShout(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (!responseText.contains("but this foe refuses")) {
+      BanishManager.banishMonster(monster, Banisher.BANISHING_SHOUT);
+    }
+    return true;
+  }
+
+  private static boolean castSystemSweep(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains(
+        "Your nanites remember the molecular structure of your enemy, and learn to avoid it in the future.")) {
+      BanishManager.banishMonster(monster, Banisher.SYSTEM_SWEEP);
+    }
+    return true;
+  }
+
+  private static boolean castHowlAlpha(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("your opponent turns and runs") || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.HOWL_OF_THE_ALPHA);
+    }
+    return true;
+  }
+
+  private static boolean castCreepyGrin(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("an even creepier grin") || cast.skillRunawaySuccess) {
+      cast.skillRunawaySuccess = true;
+      BanishManager.banishMonster(monster, Banisher.V_FOR_VIVALA_MASK);
+    }
+    return true;
+  }
+
+  private static boolean castStinkeye(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You fix an extremely disdainful eye") || cast.skillRunawaySuccess) {
+      cast.skillRunawaySuccess = true;
+      BanishManager.banishMonster(monster, Banisher.STINKY_CHEESE_EYE);
+    }
+    return true;
+  }
+
+  private static boolean castUnleashNanites(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You roar with sudden power") || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.NANORHINO);
+    }
+    return true;
+  }
+
+  private static boolean castBatterUp(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("knocked out of the park") || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.BATTER_UP);
+    }
+    return true;
+  }
+
+  private static boolean castPuntAosol(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You punt your foe into next week") || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.PUNT_AOSOL);
+    }
+    return true;
+  }
+
+  private static boolean castMonkeySlap(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You hold up the monkey paw and it slaps") || cast.skillSuccess) {
+      BanishManager.banishMonster(monster, Banisher.MONKEY_SLAP);
+    }
+    return true;
+  }
+
+  private static boolean castSpringKick(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("the spring of your shoes") || cast.skillSuccess) {
+      BanishManager.banishMonster(monster, Banisher.SPRING_KICK);
+    }
+    return true;
+  }
+
+  private static boolean castTalkAboutPolitics(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("won't be seeing") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      BanishManager.banishMonster(monster, Banisher.PANTSGIVING);
+    }
+    return true;
+  }
+
+  private static boolean castWalkAwayFromExplosion(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("foe is obliterated in a spectacular explosion")
+        || cast.skillSuccess) {
+      BanishManager.banishMonster(monster, Banisher.WALK_AWAY_FROM_EXPLOSION);
+    }
+    return true;
+  }
+
+  private static boolean castThunderClap(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("opponent heads for the hills") || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.THUNDER_CLAP);
+    }
+    return true;
+  }
+
+  private static boolean castLicoriceRope(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // You tie up the gingerbread man and hang him from a conveniently placed gargoyle.
+    // You won't be seeing him again today! Or anybody with his same job.
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("tie up the gingerbread") || cast.skillSuccess) {
+      BanishManager.banishMonster(monster, Banisher.LICORICE_ROPE);
+    }
+    return true;
+  }
+
+  private static boolean castKgbTranquilizerDart(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("press the secret switch") || cast.skillRunawaySuccess) {
+      cast.skillRunawaySuccess = true;
+      BanishManager.banishMonster(monster, Banisher.KGB_TRANQUILIZER_DART);
+    }
+    return true;
+  }
+
+  private static boolean castRoarLikeALion(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("release a majestic roar") || cast.skillRunawaySuccess) {
+      cast.skillRunawaySuccess = true;
+      BanishManager.banishMonster(monster, Banisher.ROAR_LIKE_A_LION);
+    }
+    return true;
+  }
+
+  private static boolean castPuntWereprof(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You punt your opponent over the horizon")
+        || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.PUNT_WEREPROF);
+    }
+    return true;
+  }
+
+  private static boolean castPocketCrumbs(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("pocket next to the crumbs")) {
+      // No casting limit, can drop items up to 10 times a day
+      Preferences.increment("_pantsgivingCrumbs");
+    }
+    return true;
+  }
+
+  private static boolean castFixJukebox(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("jukebox") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castPeelOut(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("peel out")
+        || responseText.contains("peels out")
+        || cast.skillRunawaySuccess) {
+      cast.skillRunawaySuccess = true;
+      if (Preferences.getString("peteMotorbikeMuffler").equals("Extra-Smelly Muffler")) {
+        BanishManager.banishMonster(monster, Banisher.PEEL_OUT);
+      }
+    }
+    return true;
+  }
+
+  private static boolean castJumpShark(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("shark") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castSnokebomb(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("throw the smokebomb at your feet") || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.SNOKEBOMB);
+      cast.skillRunawaySuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castShatteringPunch(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("punch") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castGingerbreadMobHit(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("associates arrive") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castBeancannon(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("tide of beans") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      BanishManager.banishMonster(monster, Banisher.BEANCANNON);
+      EquipmentManager.discardEquipment(EquipmentManager.getEquipment(Slot.OFFHAND));
+    }
+    return true;
+  }
+
+  private static boolean castBreatheOut(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("residual hot jelly heat") || cast.skillSuccess) {
+      BanishManager.banishMonster(monster, Banisher.BREATHE_OUT);
+      Preferences.decrement("_hotJellyUses");
+    }
+    return true;
+  }
+
+  private static boolean castHugsKisses(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("yoinks something") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castSmashGraaagh(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("incidentally tearing free an item")) {
+      // No casting limit, can pickpocket items up to 30 times a day
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castShowRing(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // You show him your ring. "Well, I never," he exclaims as he storms off in a huff.
+    // You show them your ring. They aren't impressed.
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("Well, I never") || cast.skillRunawaySuccess) {
+      cast.skillRunawaySuccess = true;
+      BanishManager.banishMonster(monster, Banisher.MAFIA_MIDDLEFINGER_RING);
+    }
+    return true;
+  }
+
+  private static boolean castThrowLatte(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("They run off") || cast.skillRunawaySuccess) {
+      cast.skillRunawaySuccess = true;
+      BanishManager.banishMonster(monster, Banisher.THROW_LATTE_ON_OPPONENT);
+    }
+    return true;
+  }
+
+  private static boolean castOfferLatte(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("friends start following you") || cast.skillSuccess) {
+      TurnCounter.stopCounting("Latte Monster");
+      TurnCounter.startCounting(30, "Latte Monster loc=*", "snout.gif");
+      TrackManager.trackMonster(monster, Tracker.LATTE);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castGulpLatte(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("take a big invigorating gulp") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  // Casting Carbohydrate Cudgel uses Dry Noodles
+  private static boolean castCarbohydrateCudgel(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You toss a bundle") || cast.skillSuccess) {
+      ResultProcessor.processItem(ItemPool.DRY_NOODLES, -1);
+    }
+    return true;
+  }
+
+  // Casting Unload Tommy Gun uses Tommy Ammo
+  private static boolean castUnloadTommyGun(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("firing the tommy gun") || cast.skillSuccess) {
+      ResultProcessor.processItem(ItemPool.TOMMY_AMMO, -1);
+    }
+    return true;
+  }
+
+  // Casting Shovel Hot Coal uses Hot Coal
+  private static boolean castShovelHotCoal(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("hot coal into the shovel") || cast.skillSuccess) {
+      ResultProcessor.processItem(ItemPool.HOT_COAL, -1);
+    }
+    return true;
+  }
+
+  // Casting Crackpot Mystic item spells uses a Pixel Power Cell
+  private static boolean castRageFlame(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("resulting torrent of flame") || cast.skillSuccess) {
+      ResultProcessor.processItem(ItemPool.PIXEL_POWER_CELL, -1);
+    }
+    return true;
+  }
+
+  private static boolean castDoubtShackles(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("looking less confident") || cast.skillSuccess) {
+      ResultProcessor.processItem(ItemPool.PIXEL_POWER_CELL, -1);
+    }
+    return true;
+  }
+
+  private static boolean castFearVapor(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("converts the energy into pure horror") || cast.skillSuccess) {
+      ResultProcessor.processItem(ItemPool.PIXEL_POWER_CELL, -1);
+    }
+    return true;
+  }
+
+  private static boolean castTearWave(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("deluge of tears bursts forth") || cast.skillSuccess) {
+      ResultProcessor.processItem(ItemPool.PIXEL_POWER_CELL, -1);
+    }
+    return true;
+  }
+
+  private static boolean castSummonHobo(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // The first part is for a hobo underling being summoned
+    // The second part is from using a dinged-up triangle to summon it
+    if (responseText.contains("A hobo runs up to you")
+        || cast.skillSuccess
+            && !responseText.contains("You give the triangle a vigorous ringing.")) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castOverloadTeddyBear(
+      final int skillId, final String responseText, final SkillCast cast) {
+    EquipmentManager.discardEquipment(ItemPool.CUDDLY_TEDDY_BEAR);
+    return true;
+  }
+
+  private static boolean castThrowSkull(
+      final int skillId, final String responseText, final SkillCast cast) {
+    EquipmentManager.discardSpelunkyEquipment(ItemPool.SPELUNKY_SKULL);
+    return true;
+  }
+
+  private static boolean castThrowRock(
+      final int skillId, final String responseText, final SkillCast cast) {
+    EquipmentManager.discardSpelunkyEquipment(ItemPool.SPELUNKY_ROCK);
+    return true;
+  }
+
+  private static boolean castThrowPot(
+      final int skillId, final String responseText, final SkillCast cast) {
+    EquipmentManager.discardSpelunkyEquipment(ItemPool.SPELUNKY_POT);
+    return true;
+  }
+
+  private static boolean castThrowTorch(
+      final int skillId, final String responseText, final SkillCast cast) {
+    EquipmentManager.discardSpelunkyEquipment(ItemPool.SPELUNKY_TORCH);
+    return true;
+  }
+
+  private static boolean castLashOfCobra(
+      final int skillId, final String responseText, final SkillCast cast) {
+    Preferences.setBoolean("edUsedLash", true);
+    if (responseText.contains("You acquire an item") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  // Casting Curse of Fortune uses Ka Coin
+  private static boolean castCurseOfFortune(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("Jackal demon shrugs and produces a large wad of meat")
+        || cast.skillSuccess) {
+      ResultProcessor.processItem(ItemPool.KA_COIN, -1);
+      addFightModifiers("Curse of Fortune", DoubleModifier.MEATDROP, 200);
+    }
+    return true;
+  }
+
+  private static boolean castCurseOfVacation(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("as the vortex disappears") || cast.skillSuccess) {
+      BanishManager.banishMonster(monster, Banisher.CURSE_OF_VACATION);
+    }
+    return true;
+  }
+
+  private static boolean castCurseOfStench(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("cat peed in a box of rotten eggs") || cast.skillSuccess) {
+      TrackManager.trackMonster(monster, Tracker.CURSE_OF_STENCH);
+    }
+    return true;
+  }
+
+  private static boolean castHealingSalve(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.WHITE_MANA);
+    return true;
+  }
+
+  private static boolean castLightningBoltCard(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.RED_MANA);
+    return true;
+  }
+
+  private static boolean castGiantGrowth(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.GREEN_MANA);
+    return true;
+  }
+
+  private static boolean castCanhandle(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You shake the can") || cast.skillSuccess) {
+      FightRequest.handledCan = true;
+    }
+    return true;
+  }
+
+  private static boolean castShoot(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You draw your sixgun") || cast.skillSuccess) {
+      FightRequest.shotSixgun = true;
+    }
+    return true;
+  }
+
+  private static boolean castFanHammer(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You empty your sixgun") || cast.skillSuccess) {
+      FightRequest.shotSixgun = true;
+    }
+    return true;
+  }
+
+  private static boolean castExtractOil(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("plunge your trusty oil extractor") || cast.skillSuccess) {
+      // First 5 oils extracted increment normally
+      cast.skillSuccess = true;
+    } else {
+      Matcher matcher = FightRequest.CLOG_PATTERN.matcher(responseText);
+      if (matcher.find()) {
+        // Next 10 oils increase "clog" by 10%
+        String clog = matcher.group(1);
+        int extracts = StringUtilities.parseInt(clog) / 10 + 5;
+        Preferences.setInteger("_oilExtracted", extracts);
+      } else if (responseText.contains("completely clogged up")) {
+        // Fully clogged means 15 oils extracted
+        Preferences.setInteger("_oilExtracted", 15);
       }
-      case SkillPool.HOLD_HANDS -> {
-        if (responseText.contains("stop the battle for a moment and hold hands with you")) {
-          TrackManager.trackMonster(monster, Tracker.HOLD_HANDS);
-          skillSuccess = true;
-        }
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean castBatOomerang(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.BAT_OOMERANG);
+    return true;
+  }
+
+  private static boolean castBatJute(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.BAT_JUTE);
+    return true;
+  }
+
+  private static boolean castBatOMite(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.BAT_O_MITE);
+    return true;
+  }
+
+  private static boolean castUltracoagulator(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
+    return true;
+  }
+
+  private static boolean castKickball(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
+    return true;
+  }
+
+  private static boolean castBatGlue(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.GLOB_OF_BAT_GLUE);
+    return true;
+  }
+
+  private static boolean castBatBearing(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.BAT_BEARING);
+    return true;
+  }
+
+  private static boolean castUseBatAid(
+      final int skillId, final String responseText, final SkillCast cast) {
+    ResultProcessor.removeItem(ItemPool.BAT_AID_BANDAGE);
+    return true;
+  }
+
+  private static boolean castFireJokesterGun(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("little flag reading BANG pops out the end of the barrel")
+        || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castDigitize(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+    String monsterName = monster != null ? monster.getName() : "";
+
+    if (responseText.contains("quickly copy the monster") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      Preferences.setInteger("_sourceTerminalDigitizeMonsterCount", 0);
+      TurnCounter.stopCounting("Digitize Monster");
+      if (Preferences.getBoolean("stopForFixedWanderer")) {
+        TurnCounter.startCountingTemporary(7, "Digitize Monster type=wander", "watch.gif");
+      } else {
+        TurnCounter.startCountingTemporary(7, "Digitize Monster loc=* type=wander", "watch.gif");
       }
-      case SkillPool.HUNT -> {
-        if (responseText.contains("You take a good sniff")) {
-          TrackManager.trackMonster(monster, Tracker.HUNT);
-          skillSuccess = true;
-        }
+      Preferences.setString("_sourceTerminalDigitizeMonster", monsterName);
+    }
+    return true;
+  }
+
+  private static boolean castPortscan(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("scan nearby ports") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      if (Preferences.getBoolean("stopForFixedWanderer")) {
+        TurnCounter.startCounting(0, "portscan.edu type=wander", "gyroscope.gif");
+      } else {
+        TurnCounter.startCounting(0, "portscan.edu loc=* type=wander", "gyroscope.gif");
+      }
+    }
+    return true;
+  }
+
+  private static boolean castDuplicate(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("cross your eyes") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castAmMissileLauncher(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("they're entirely gone") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      CampgroundRequest.useFuel(SkillDatabase.getFuelCost(SkillPool.AM_MISSILE_LAUNCHER));
+    }
+    return true;
+  }
+
+  private static boolean castAmBeanBagCannon(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("beanbag cannon pops out") || cast.skillSuccess) {
+      CampgroundRequest.useFuel(SkillDatabase.getFuelCost(SkillPool.AM_BEAN_BAG_CANNON));
+    }
+    return true;
+  }
+
+  private static boolean castAmFrontBumper(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("before flying out of sight") || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.SPRING_LOADED_FRONT_BUMPER);
+      CampgroundRequest.useFuel(SkillDatabase.getFuelCost(SkillPool.AM_FRONT_BUMPER));
+    }
+    return true;
+  }
+
+  private static boolean castMicrometeor(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // Delevels by 25% initially, but decreases by 1% per use until reaching its minimum delevel
+    // of 10%.
+    Preferences.increment("_micrometeoriteUses");
+    return true;
+  }
+
+  private static boolean castMacrometeor(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You quickly step") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castMeteorShower(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("consult your mental index") || cast.skillSuccess) {
+      KoLConstants.activeEffects.remove(METEOR_SHOWERED);
+      KoLConstants.activeEffects.add(METEOR_SHOWERED);
+      KoLCharacter.recalculateAdjustments();
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castSwapMask(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("swap your mask") || cast.skillSuccess) {
+      // Actual change for character's equipped mask is handled by character pane update
+      String message = null;
+      Matcher matcher = FightRequest.MASK_SWAP_PATTERN.matcher(responseText);
+      if (matcher.find()) {
+        message =
+            "You swap your " + KoLCharacter.getMask() + " for the monster's " + matcher.group(1);
+      } else {
+        message =
+            "You swap your "
+                + KoLCharacter.getMask()
+                + " for the monster's "
+                + MonsterData.lastMask;
       }
+      MonsterData.lastMask = KoLCharacter.getMask();
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    }
+    return true;
+  }
+
+  private static boolean castOtoscope(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("jam it into your enemy's ear") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      addFightModifiers("Otoscope", DoubleModifier.ITEMDROP, 200);
+    }
+    return true;
+  }
+
+  private static boolean castReflexHammer(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("short distance into the future") || cast.skillRunawaySuccess) {
+      cast.skillRunawaySuccess = true;
+      BanishManager.banishMonster(monster, Banisher.REFLEX_HAMMER);
+    }
+    return true;
+  }
+
+  private static boolean castChestXRay(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (
+    // Instant free kill
+    responseText.contains("nowhere to be seen")
+        ||
+        // Damage to bosses or other special monsters
+        responseText.contains("damage from the unshielded radiation")
+        || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castBalefulHowl(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // TODO: Should this be a skillRunawaySuccess
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("spooked by its balefulness") || cast.skillSuccess) {
+      BanishManager.banishMonster(monster, Banisher.BALEFUL_HOWL);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castArmyToddler(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You cry havoc") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castEnsorcel(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You gaze into your foe's eyes...") || cast.skillSuccess) {
+      Preferences.setString("ensorcelee", monster.toString());
+      Preferences.setInteger("ensorceleeLevel", FightRequest.startingAttack);
+    }
+    return true;
+  }
+
+  private static boolean castBecomeWolf(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You pull your cloake up over your head") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castBecomeMist(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You wrap your cloake around your face") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castBecomeBat(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You wrap your cloake around your arms") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castImplodeUniverse(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // You close your eyes, concentrate really hard, and implode the portion of the universe
+    // that contains your foe.
+    if (responseText.contains("implode the portion of the universe that contains your foe")
+        || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castDeliverThesis(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // DECREASING WAVELENGTH. OBJECTS IN MIRROR MAY BE BLUER THAN THEY APPEAR.
+    // TIME AND SPACE ARE FUNGIBLE. LET ME DEMONSTRATE WITH THIS OPPONENT.
+    // BUFFER OVERFLOW. REBOOTING PREVIOUS MINUTE.
+    if (responseText.contains("DECREASING WAVELENGTH")
+        || responseText.contains("TIME AND SPACE ARE FUNGIBLE")
+        || responseText.contains("BUFFER OVERFLOW")
+        || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      KoLCharacter.getFamiliar().addNonCombatExperience(-200);
+    }
+    return true;
+  }
+
+  private static boolean castLectureOnVelocity(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // These all share a counter
+
+    // ADJUSTING DOPPLER WAVELENGTH.
+    if (responseText.contains("ADJUSTING DOPPLER WAVELENGTH") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castLectureOnMass(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // These all share a counter
+
+    // COLLAPSING ITEM PROBABILITY WAVEFORMS NOW. PLEASE STAND BACK.
+    // CALCULATE MASS FOR DROPPED ITEMS CAREFULLY. THREE TIMES AT LEAST.
+    // DO NOT STAND UNDER DROPPING ITEMS. IT IS THE LAW (OF GRAVITY).
+    if (responseText.contains("COLLAPSING ITEM PROBABILITY WAVEFORMS")
+        || responseText.contains("CALCULATE MASS FOR DROPPED ITEMS")
+        || responseText.contains("DO NOT STAND")
+        || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castLectureOnRelativity(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // These all share a counter
+
+    // TESSERACT? I HARDLY KNEW HER."
+    // NOW CONVERTING MATTER INTO TIME. PLEASE HAVE ALREADY WAITED.
+    // I WILL NOW DEMONSTRATE BY FOLDING TIME AND SPACE.
+    if (responseText.contains("TESSERACT")
+        || responseText.contains("NOW CONVERTING MATTER INTO TIME")
+        || responseText.contains("FOLDING TIME AND SPACE")
+        || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castReplaceEnemy(
+      final int skillId, final String responseText, final SkillCast cast) {
+    cast.increment = 10;
+    cast.skillSuccess = true;
+    return true;
+  }
+
+  private static boolean castShrinkEnemy(
+      final int skillId, final String responseText, final SkillCast cast) {
+    cast.increment = 5;
+    cast.skillSuccess = true;
+    return true;
+  }
+
+  private static boolean castHammerThrowCombat(
+      final int skillId, final String responseText, final SkillCast cast) {
+    KoLCharacter.spendPP(1);
+    return true;
+  }
+
+  private static boolean castUltraSmashCombat(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("knock your opponent into tomorrow") || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.ULTRA_HAMMER);
+    }
+    KoLCharacter.spendPP(2);
+    return true;
+  }
+
+  private static boolean castFireballBarrageCombat(
+      final int skillId, final String responseText, final SkillCast cast) {
+    KoLCharacter.spendPP(2);
+    return true;
+  }
+
+  private static boolean castFeelNostalgic(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("really feeling nostalgic") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castFeelHatred(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("walk away and decide not to see this creature again")
+        || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.FEEL_HATRED);
+      cast.skillRunawaySuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castFeelPride(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("you are going to do a great job") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
 
-        // Banishing Shout has lots of success messages.  Check for the failure message instead
-      case SkillPool.BANISHING_SHOUT -> {
-        if (!responseText.contains("but this foe refuses")) {
-          BanishManager.banishMonster(monster, Banisher.BANISHING_SHOUT);
-        }
-      }
-      case SkillPool.SYSTEM_SWEEP -> {
-        if (responseText.contains(
-            "Your nanites remember the molecular structure of your enemy, and learn to avoid it in the future.")) {
-          BanishManager.banishMonster(monster, Banisher.SYSTEM_SWEEP);
-        }
-      }
-      case SkillPool.HOWL_ALPHA -> {
-        if (responseText.contains("your opponent turns and runs") || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.HOWL_OF_THE_ALPHA);
-        }
-      }
-      case SkillPool.CREEPY_GRIN -> {
-        if (responseText.contains("an even creepier grin") || skillRunawaySuccess) {
-          skillRunawaySuccess = true;
-          BanishManager.banishMonster(monster, Banisher.V_FOR_VIVALA_MASK);
-        }
-      }
-      case SkillPool.STINKEYE -> {
-        if (responseText.contains("You fix an extremely disdainful eye") || skillRunawaySuccess) {
-          skillRunawaySuccess = true;
-          BanishManager.banishMonster(monster, Banisher.STINKY_CHEESE_EYE);
-        }
-      }
-      case SkillPool.UNLEASH_NANITES -> {
-        if (responseText.contains("You roar with sudden power") || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.NANORHINO);
-        }
-      }
-      case SkillPool.BATTER_UP -> {
-        if (responseText.contains("knocked out of the park") || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.BATTER_UP);
-        }
-      }
-      case SkillPool.PUNT_AOSOL -> {
-        if (responseText.contains("You punt your foe into next week") || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.PUNT_AOSOL);
-        }
-      }
-      case SkillPool.MONKEY_SLAP -> {
-        if (responseText.contains("You hold up the monkey paw and it slaps") || skillSuccess) {
-          BanishManager.banishMonster(monster, Banisher.MONKEY_SLAP);
-        }
-      }
-      case SkillPool.SPRING_KICK -> {
-        if (responseText.contains("the spring of your shoes") || skillSuccess) {
-          BanishManager.banishMonster(monster, Banisher.SPRING_KICK);
-        }
-      }
-      case SkillPool.TALK_ABOUT_POLITICS -> {
-        if (responseText.contains("won't be seeing") || skillSuccess) {
-          skillSuccess = true;
-          BanishManager.banishMonster(monster, Banisher.PANTSGIVING);
-        }
-      }
-      case SkillPool.WALK_AWAY_FROM_EXPLOSION -> {
-        if (responseText.contains("foe is obliterated in a spectacular explosion")
-            || skillSuccess) {
-          BanishManager.banishMonster(monster, Banisher.WALK_AWAY_FROM_EXPLOSION);
-        }
-      }
-      case SkillPool.THUNDER_CLAP -> {
-        if (responseText.contains("opponent heads for the hills") || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.THUNDER_CLAP);
-        }
-      }
-      case SkillPool.LICORICE_ROPE -> {
-        // You tie up the gingerbread man and hang him from a conveniently placed gargoyle.
-        // You won't be seeing him again today! Or anybody with his same job.
-        if (responseText.contains("tie up the gingerbread") || skillSuccess) {
-          BanishManager.banishMonster(monster, Banisher.LICORICE_ROPE);
-        }
-      }
-      case SkillPool.KGB_TRANQUILIZER_DART -> {
-        if (responseText.contains("press the secret switch") || skillRunawaySuccess) {
-          skillRunawaySuccess = true;
-          BanishManager.banishMonster(monster, Banisher.KGB_TRANQUILIZER_DART);
-        }
-      }
-      case SkillPool.ROAR_LIKE_A_LION -> {
-        if (responseText.contains("release a majestic roar") || skillRunawaySuccess) {
-          skillRunawaySuccess = true;
-          BanishManager.banishMonster(monster, Banisher.ROAR_LIKE_A_LION);
-        }
-      }
-      case SkillPool.PUNT_WEREPROF -> {
-        if (responseText.contains("You punt your opponent over the horizon")
-            || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.PUNT_WEREPROF);
-        }
-      }
-      case SkillPool.POCKET_CRUMBS -> {
-        if (responseText.contains("pocket next to the crumbs")) {
-          // No casting limit, can drop items up to 10 times a day
-          Preferences.increment("_pantsgivingCrumbs");
-        }
-      }
-      case SkillPool.FIX_JUKEBOX -> {
-        if (responseText.contains("jukebox") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.PEEL_OUT -> {
-        if (responseText.contains("peel out")
-            || responseText.contains("peels out")
-            || skillRunawaySuccess) {
-          skillRunawaySuccess = true;
-          if (Preferences.getString("peteMotorbikeMuffler").equals("Extra-Smelly Muffler")) {
-            BanishManager.banishMonster(monster, Banisher.PEEL_OUT);
-          }
-        }
-      }
-      case SkillPool.JUMP_SHARK -> {
-        if (responseText.contains("shark") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.SNOKEBOMB -> {
-        if (responseText.contains("throw the smokebomb at your feet") || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.SNOKEBOMB);
-          skillRunawaySuccess = true;
-        }
-      }
-      case SkillPool.SHATTERING_PUNCH -> {
-        if (responseText.contains("punch") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.GINGERBREAD_MOB_HIT -> {
-        if (responseText.contains("associates arrive") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.BEANCANNON -> {
-        if (responseText.contains("tide of beans") || skillSuccess) {
-          skillSuccess = true;
-          BanishManager.banishMonster(monster, Banisher.BEANCANNON);
-          EquipmentManager.discardEquipment(EquipmentManager.getEquipment(Slot.OFFHAND));
-        }
-      }
-      case SkillPool.BREATHE_OUT -> {
-        if (responseText.contains("residual hot jelly heat") || skillSuccess) {
-          BanishManager.banishMonster(monster, Banisher.BREATHE_OUT);
-          Preferences.decrement("_hotJellyUses");
-        }
-      }
-      case SkillPool.HUGS_KISSES -> {
-        if (responseText.contains("yoinks something") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.SMASH_GRAAAGH -> {
-        if (responseText.contains("incidentally tearing free an item")) {
-          // No casting limit, can pickpocket items up to 30 times a day
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.SHOW_RING -> {
-        // You show him your ring. "Well, I never," he exclaims as he storms off in a huff.
-        // You show them your ring. They aren't impressed.
-        if (responseText.contains("Well, I never") || skillRunawaySuccess) {
-          skillRunawaySuccess = true;
-          BanishManager.banishMonster(monster, Banisher.MAFIA_MIDDLEFINGER_RING);
-        }
-      }
-      case SkillPool.THROW_LATTE -> {
-        if (responseText.contains("They run off") || skillRunawaySuccess) {
-          skillRunawaySuccess = true;
-          BanishManager.banishMonster(monster, Banisher.THROW_LATTE_ON_OPPONENT);
-        }
-      }
-      case SkillPool.OFFER_LATTE -> {
-        if (responseText.contains("friends start following you") || skillSuccess) {
-          TurnCounter.stopCounting("Latte Monster");
-          TurnCounter.startCounting(30, "Latte Monster loc=*", "snout.gif");
-          TrackManager.trackMonster(monster, Tracker.LATTE);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.GULP_LATTE -> {
-        if (responseText.contains("take a big invigorating gulp") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
+  private static boolean castFeelEnvy(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("really want what they have") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
 
-        // Casting Carbohydrate Cudgel uses Dry Noodles
-      case SkillPool.CARBOHYDRATE_CUDGEL -> {
-        if (responseText.contains("You toss a bundle") || skillSuccess) {
-          ResultProcessor.processItem(ItemPool.DRY_NOODLES, -1);
-        }
-      }
+  private static boolean castFeelSuperior(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("express your superiority to the tune") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
 
-        // Casting Unload Tommy Gun uses Tommy Ammo
-      case SkillPool.UNLOAD_TOMMY_GUN -> {
-        if (responseText.contains("firing the tommy gun") || skillSuccess) {
-          ResultProcessor.processItem(ItemPool.TOMMY_AMMO, -1);
-        }
-      }
+  private static boolean castShockingLick(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("give your foe a big slobbery lick")
+        || responseText.contains("worth of electricity from your tongue")
+        || cast.skillSuccess) {
+      Preferences.decrement("shockingLickCharges");
+    }
+    return true;
+  }
 
-        // Casting Shovel Hot Coal uses Hot Coal
-      case SkillPool.SHOVEL_HOT_COAL -> {
-        if (responseText.contains("hot coal into the shovel") || skillSuccess) {
-          ResultProcessor.processItem(ItemPool.HOT_COAL, -1);
-        }
-      }
+  private static boolean castBackUp(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You check in your back-up camera, ") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
 
-        // Casting Crackpot Mystic item spells uses a Pixel Power Cell
-      case SkillPool.RAGE_FLAME -> {
-        if (responseText.contains("resulting torrent of flame") || skillSuccess) {
-          ResultProcessor.processItem(ItemPool.PIXEL_POWER_CELL, -1);
-        }
-      }
-      case SkillPool.DOUBT_SHACKLES -> {
-        if (responseText.contains("looking less confident") || skillSuccess) {
-          ResultProcessor.processItem(ItemPool.PIXEL_POWER_CELL, -1);
-        }
-      }
-      case SkillPool.FEAR_VAPOR -> {
-        if (responseText.contains("converts the energy into pure horror") || skillSuccess) {
-          ResultProcessor.processItem(ItemPool.PIXEL_POWER_CELL, -1);
-        }
-      }
-      case SkillPool.TEAR_WAVE -> {
-        if (responseText.contains("deluge of tears bursts forth") || skillSuccess) {
-          ResultProcessor.processItem(ItemPool.PIXEL_POWER_CELL, -1);
-        }
-      }
-      case SkillPool.SUMMON_HOBO -> {
-        // The first part is for a hobo underling being summoned
-        // The second part is from using a dinged-up triangle to summon it
-        if (responseText.contains("A hobo runs up to you")
-            || skillSuccess
-                && !responseText.contains("You give the triangle a vigorous ringing.")) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.OVERLOAD_TEDDY_BEAR -> EquipmentManager.discardEquipment(
-          ItemPool.CUDDLY_TEDDY_BEAR);
-      case SkillPool.THROW_SKULL -> EquipmentManager.discardSpelunkyEquipment(
-          ItemPool.SPELUNKY_SKULL);
-      case SkillPool.THROW_ROCK -> EquipmentManager.discardSpelunkyEquipment(
-          ItemPool.SPELUNKY_ROCK);
-      case SkillPool.THROW_POT -> EquipmentManager.discardSpelunkyEquipment(ItemPool.SPELUNKY_POT);
-      case SkillPool.THROW_TORCH -> EquipmentManager.discardSpelunkyEquipment(
-          ItemPool.SPELUNKY_TORCH);
-      case SkillPool.LASH_OF_COBRA -> {
-        Preferences.setBoolean("edUsedLash", true);
-        if (responseText.contains("You acquire an item") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
+  private static boolean castShowScrapbook(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
 
-        // Casting Curse of Fortune uses Ka Coin
-      case SkillPool.CURSE_OF_FORTUNE -> {
-        if (responseText.contains("Jackal demon shrugs and produces a large wad of meat")
-            || skillSuccess) {
-          ResultProcessor.processItem(ItemPool.KA_COIN, -1);
-          addFightModifiers("Curse of Fortune", DoubleModifier.MEATDROP, 200);
-        }
-      }
-      case SkillPool.CURSE_OF_VACATION -> {
-        if (responseText.contains("as the vortex disappears") || skillSuccess) {
-          BanishManager.banishMonster(monster, Banisher.CURSE_OF_VACATION);
-        }
-      }
-      case SkillPool.CURSE_OF_STENCH -> {
-        if (responseText.contains("cat peed in a box of rotten eggs") || skillSuccess) {
-          TrackManager.trackMonster(monster, Tracker.CURSE_OF_STENCH);
-        }
-      }
-      case SkillPool.HEALING_SALVE -> ResultProcessor.removeItem(ItemPool.WHITE_MANA);
-      case SkillPool.LIGHTNING_BOLT_CARD -> ResultProcessor.removeItem(ItemPool.RED_MANA);
-      case SkillPool.GIANT_GROWTH -> ResultProcessor.removeItem(ItemPool.GREEN_MANA);
-      case SkillPool.CANHANDLE -> {
-        if (responseText.contains("You shake the can") || skillSuccess) {
-          FightRequest.handledCan = true;
-        }
-      }
-      case SkillPool.SHOOT -> {
-        if (responseText.contains("You draw your sixgun") || skillSuccess) {
-          FightRequest.shotSixgun = true;
-        }
-      }
-      case SkillPool.FAN_HAMMER -> {
-        if (responseText.contains("You empty your sixgun") || skillSuccess) {
-          FightRequest.shotSixgun = true;
-        }
-      }
-      case SkillPool.EXTRACT_OIL -> {
-        if (responseText.contains("plunge your trusty oil extractor") || skillSuccess) {
-          // First 5 oils extracted increment normally
-          skillSuccess = true;
-        } else {
-          Matcher matcher = FightRequest.CLOG_PATTERN.matcher(responseText);
-          if (matcher.find()) {
-            // Next 10 oils increase "clog" by 10%
-            String clog = matcher.group(1);
-            int extracts = StringUtilities.parseInt(clog) / 10 + 5;
-            Preferences.setInteger("_oilExtracted", extracts);
-          } else if (responseText.contains("completely clogged up")) {
-            // Fully clogged means 15 oils extracted
-            Preferences.setInteger("_oilExtracted", 15);
-          }
-          return;
-        }
-      }
-      case SkillPool.BAT_OOMERANG -> ResultProcessor.removeItem(ItemPool.BAT_OOMERANG);
-      case SkillPool.BAT_JUTE -> ResultProcessor.removeItem(ItemPool.BAT_JUTE);
-      case SkillPool.BAT_O_MITE -> ResultProcessor.removeItem(ItemPool.BAT_O_MITE);
-      case SkillPool.ULTRACOAGULATOR -> ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
-      case SkillPool.KICKBALL -> ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
-      case SkillPool.BAT_GLUE -> ResultProcessor.removeItem(ItemPool.GLOB_OF_BAT_GLUE);
-      case SkillPool.BAT_BEARING -> ResultProcessor.removeItem(ItemPool.BAT_BEARING);
-      case SkillPool.USE_BAT_AID -> ResultProcessor.removeItem(ItemPool.BAT_AID_BANDAGE);
-      case SkillPool.FIRE_JOKESTER_GUN -> {
-        if (responseText.contains("little flag reading BANG pops out the end of the barrel")
-            || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.DIGITIZE -> {
-        if (responseText.contains("quickly copy the monster") || skillSuccess) {
-          skillSuccess = true;
-          Preferences.setInteger("_sourceTerminalDigitizeMonsterCount", 0);
-          TurnCounter.stopCounting("Digitize Monster");
-          if (Preferences.getBoolean("stopForFixedWanderer")) {
-            TurnCounter.startCountingTemporary(7, "Digitize Monster type=wander", "watch.gif");
-          } else {
-            TurnCounter.startCountingTemporary(
-                7, "Digitize Monster loc=* type=wander", "watch.gif");
-          }
-          Preferences.setString("_sourceTerminalDigitizeMonster", monsterName);
-        }
-      }
-      case SkillPool.PORTSCAN -> {
-        if (responseText.contains("scan nearby ports") || skillSuccess) {
-          skillSuccess = true;
-          if (Preferences.getBoolean("stopForFixedWanderer")) {
-            TurnCounter.startCounting(0, "portscan.edu type=wander", "gyroscope.gif");
-          } else {
-            TurnCounter.startCounting(0, "portscan.edu loc=* type=wander", "gyroscope.gif");
-          }
-        }
-      }
-      case SkillPool.DUPLICATE -> {
-        if (responseText.contains("cross your eyes") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.AM_MISSILE_LAUNCHER -> {
-        if (responseText.contains("they're entirely gone") || skillSuccess) {
-          skillSuccess = true;
-          CampgroundRequest.useFuel(SkillDatabase.getFuelCost(SkillPool.AM_MISSILE_LAUNCHER));
-        }
-      }
-      case SkillPool.AM_BEAN_BAG_CANNON -> {
-        if (responseText.contains("beanbag cannon pops out") || skillSuccess) {
-          CampgroundRequest.useFuel(SkillDatabase.getFuelCost(SkillPool.AM_BEAN_BAG_CANNON));
-        }
-      }
-      case SkillPool.AM_FRONT_BUMPER -> {
-        if (responseText.contains("before flying out of sight") || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.SPRING_LOADED_FRONT_BUMPER);
-          CampgroundRequest.useFuel(SkillDatabase.getFuelCost(SkillPool.AM_FRONT_BUMPER));
-        }
-      }
-      case SkillPool.MICROMETEOR ->
-      // Delevels by 25% initially, but decreases by 1% per use until reaching its minimum delevel
-      // of 10%.
-      Preferences.increment("_micrometeoriteUses");
-      case SkillPool.MACROMETEOR -> {
-        if (responseText.contains("You quickly step") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.METEOR_SHOWER -> {
-        if (responseText.contains("consult your mental index") || skillSuccess) {
-          KoLConstants.activeEffects.remove(METEOR_SHOWERED);
-          KoLConstants.activeEffects.add(METEOR_SHOWERED);
-          KoLCharacter.recalculateAdjustments();
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.SWAP_MASK -> {
-        if (responseText.contains("swap your mask") || skillSuccess) {
-          // Actual change for character's equipped mask is handled by character pane update
-          String message = null;
-          Matcher matcher = FightRequest.MASK_SWAP_PATTERN.matcher(responseText);
-          if (matcher.find()) {
-            message =
-                "You swap your "
-                    + KoLCharacter.getMask()
-                    + " for the monster's "
-                    + matcher.group(1);
-          } else {
-            message =
-                "You swap your "
-                    + KoLCharacter.getMask()
-                    + " for the monster's "
-                    + MonsterData.lastMask;
-          }
-          MonsterData.lastMask = KoLCharacter.getMask();
-          RequestLogger.printLine(message);
-          RequestLogger.updateSessionLog(message);
-        }
-      }
-      case SkillPool.OTOSCOPE -> {
-        if (responseText.contains("jam it into your enemy's ear") || skillSuccess) {
-          skillSuccess = true;
-          addFightModifiers("Otoscope", DoubleModifier.ITEMDROP, 200);
-        }
-      }
-      case SkillPool.REFLEX_HAMMER -> {
-        if (responseText.contains("short distance into the future") || skillRunawaySuccess) {
-          skillRunawaySuccess = true;
-          BanishManager.banishMonster(monster, Banisher.REFLEX_HAMMER);
-        }
-      }
-      case SkillPool.CHEST_X_RAY -> {
-        if (
-        // Instant free kill
-        responseText.contains("nowhere to be seen")
-            ||
-            // Damage to bosses or other special monsters
-            responseText.contains("damage from the unshielded radiation")
-            || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.BALEFUL_HOWL -> {
-        // TODO: Should this be a skillRunawaySuccess
-        if (responseText.contains("spooked by its balefulness") || skillSuccess) {
-          BanishManager.banishMonster(monster, Banisher.BALEFUL_HOWL);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.ARMY_TODDLER -> {
-        if (responseText.contains("You cry havoc") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.ENSORCEL -> {
-        if (responseText.contains("You gaze into your foe's eyes...") || skillSuccess) {
-          Preferences.setString("ensorcelee", monster.toString());
-          Preferences.setInteger("ensorceleeLevel", FightRequest.startingAttack);
-        }
-      }
-      case SkillPool.BECOME_WOLF -> {
-        if (responseText.contains("You pull your cloake up over your head") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.BECOME_MIST -> {
-        if (responseText.contains("You wrap your cloake around your face") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.BECOME_BAT -> {
-        if (responseText.contains("You wrap your cloake around your arms") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.IMPLODE_UNIVERSE -> {
-        // You close your eyes, concentrate really hard, and implode the portion of the universe
-        // that contains your foe.
-        if (responseText.contains("implode the portion of the universe that contains your foe")
-            || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.DELIVER_THESIS -> {
-        // DECREASING WAVELENGTH. OBJECTS IN MIRROR MAY BE BLUER THAN THEY APPEAR.
-        // TIME AND SPACE ARE FUNGIBLE. LET ME DEMONSTRATE WITH THIS OPPONENT.
-        // BUFFER OVERFLOW. REBOOTING PREVIOUS MINUTE.
-        if (responseText.contains("DECREASING WAVELENGTH")
-            || responseText.contains("TIME AND SPACE ARE FUNGIBLE")
-            || responseText.contains("BUFFER OVERFLOW")
-            || skillSuccess) {
-          skillSuccess = true;
-          KoLCharacter.getFamiliar().addNonCombatExperience(-200);
-        }
-      }
-      case SkillPool.LECTURE_ON_VELOCITY -> {
-        // These all share a counter
+    if (responseText.contains(
+            "You take out your scrapbook and start showing photos of your familiars to your opponent")
+        || responseText.contains("waving your scrapbook")
+        || responseText.contains("prior appointment they have to get to")
+        || responseText.contains("they just leave awkwardly")
+        || responseText.contains("they just give up and leave")
+        || responseText.contains("just turning and running away")
+        || responseText.contains("they make some vague excuses and leave")
+        || responseText.contains("the two of you share a friendly handshake and part ways")
+        || responseText.contains("they pass out from pure boredom")
+        || cast.skillRunawaySuccess) {
+      BanishManager.banishMonster(monster, Banisher.SHOW_YOUR_BORING_FAMILIAR_PICTURES);
+      Preferences.decrement("scrapbookCharges", 100, 0);
+    }
+    return true;
+  }
 
-        // ADJUSTING DOPPLER WAVELENGTH.
-        if (responseText.contains("ADJUSTING DOPPLER WAVELENGTH") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.LECTURE_ON_MASS -> {
-        // These all share a counter
+  private static boolean castBlartSprayWide(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
 
-        // COLLAPSING ITEM PROBABILITY WAVEFORMS NOW. PLEASE STAND BACK.
-        // CALCULATE MASS FOR DROPPED ITEMS CAREFULLY. THREE TIMES AT LEAST.
-        // DO NOT STAND UNDER DROPPING ITEMS. IT IS THE LAW (OF GRAVITY).
-        if (responseText.contains("COLLAPSING ITEM PROBABILITY WAVEFORMS")
-            || responseText.contains("CALCULATE MASS FOR DROPPED ITEMS")
-            || responseText.contains("DO NOT STAND")
-            || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.LECTURE_ON_RELATIVITY -> {
-        // These all share a counter
+    if (responseText.contains("nozzle all the way and blast it out of sight") || cast.skillSuccess) {
+      BanishManager.banishMonster(monster, Banisher.BLART_SPRAY_WIDE);
+    }
+    return true;
+  }
 
-        // TESSERACT? I HARDLY KNEW HER."
-        // NOW CONVERTING MATTER INTO TIME. PLEASE HAVE ALREADY WAITED.
-        // I WILL NOW DEMONSTRATE BY FOLDING TIME AND SPACE.
-        if (responseText.contains("TESSERACT")
-            || responseText.contains("NOW CONVERTING MATTER INTO TIME")
-            || responseText.contains("FOLDING TIME AND SPACE")
-            || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.REPLACE_ENEMY -> {
-        increment = 10;
-        skillSuccess = true;
-      }
-      case SkillPool.SHRINK_ENEMY -> {
-        increment = 5;
-        skillSuccess = true;
-      }
-      case SkillPool.HAMMER_THROW_COMBAT,
-          SkillPool.JUGGLE_FIREBALLS_COMBAT,
-          SkillPool.SPIN_JUMP_COMBAT -> KoLCharacter.spendPP(1);
-      case SkillPool.ULTRA_SMASH_COMBAT -> {
-        if (responseText.contains("knock your opponent into tomorrow") || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.ULTRA_HAMMER);
-        }
-        KoLCharacter.spendPP(2);
-      }
-      case SkillPool.FIREBALL_BARRAGE_COMBAT, SkillPool.MULTI_BOUNCE_COMBAT -> KoLCharacter.spendPP(
-          2);
-      case SkillPool.FEEL_NOSTALGIC -> {
-        if (responseText.contains("really feeling nostalgic") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.FEEL_HATRED -> {
-        if (responseText.contains("walk away and decide not to see this creature again")
-            || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.FEEL_HATRED);
-          skillRunawaySuccess = true;
-        }
-      }
-      case SkillPool.FEEL_PRIDE -> {
-        if (responseText.contains("you are going to do a great job") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.FEEL_ENVY -> {
-        if (responseText.contains("really want what they have") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.FEEL_SUPERIOR -> {
-        if (responseText.contains("express your superiority to the tune") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.SHOCKING_LICK -> {
-        if (responseText.contains("give your foe a big slobbery lick")
-            || responseText.contains("worth of electricity from your tongue")
-            || skillSuccess) {
-          Preferences.decrement("shockingLickCharges");
-        }
-      }
-      case SkillPool.BACK_UP -> {
-        if (responseText.contains("You check in your back-up camera, ") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.SHOW_SCRAPBOOK -> {
-        if (responseText.contains(
-                "You take out your scrapbook and start showing photos of your familiars to your opponent")
-            || responseText.contains("waving your scrapbook")
-            || responseText.contains("prior appointment they have to get to")
-            || responseText.contains("they just leave awkwardly")
-            || responseText.contains("they just give up and leave")
-            || responseText.contains("just turning and running away")
-            || responseText.contains("they make some vague excuses and leave")
-            || responseText.contains("the two of you share a friendly handshake and part ways")
-            || responseText.contains("they pass out from pure boredom")
-            || skillRunawaySuccess) {
-          BanishManager.banishMonster(monster, Banisher.SHOW_YOUR_BORING_FAMILIAR_PICTURES);
-          Preferences.decrement("scrapbookCharges", 100, 0);
-        }
-      }
-      case SkillPool.BLART_SPRAY_WIDE -> {
-        if (responseText.contains("nozzle all the way and blast it out of sight") || skillSuccess) {
-          BanishManager.banishMonster(monster, Banisher.BLART_SPRAY_WIDE);
-        }
-      }
-      case SkillPool.FIRE_EXTINGUISHER__FOAM_EM_UP -> {
-        if (responseText.contains("both comical and immobile") || skillSuccess) {
-          Preferences.decrement("_fireExtinguisherCharge", 5);
-        }
-      }
-      case SkillPool.FIRE_EXTINGUISHER__POLAR_VORTEX -> {
-        if (responseText.contains("You fire a blast of frigid extinguishant at your foe")
-            || skillSuccess) {
-          Preferences.decrement("_fireExtinguisherCharge", 10);
-        }
-      }
-      case SkillPool.FIRE_EXTINGUISHER__FOAM_YOURSELF -> {
-        if (responseText.contains("create a suit made of flame-retardant foam") || skillSuccess) {
-          Preferences.decrement("_fireExtinguisherCharge", 10);
-        }
-      }
-      case SkillPool.FIRE_EXTINGUISHER__BLAST_THE_AREA -> {
-        if (responseText.contains("dust and debris is kicked up into a cyclone") || skillSuccess) {
-          Preferences.decrement("_fireExtinguisherCharge", 5);
-        }
-      }
-      case SkillPool.FIRE_EXTINGUISHER__ZONE_SPECIFIC -> {
-        boolean success = false;
-        KoLAdventure location = KoLAdventure.lastVisitedLocation();
-        switch (location.getZone()) {
-          case "BatHole" -> {
-            if (responseText.contains(
-                    "You squeeze down the nozzle on your fire extinguisher and release a blast")
-                || skillSuccess) {
-              if (!QuestDatabase.isQuestLaterThan(Quest.BAT, "step2")) {
-                QuestDatabase.advanceQuest(Quest.BAT);
-              }
-              Preferences.setBoolean("fireExtinguisherBatHoleUsed", true);
-              success = true;
-            }
-          }
-          case "Cyrpt" -> {
-            if (responseText.contains(
-                    "The chill of the refrigerant quickly replaces some of the chill of evil in the air")
-                || skillSuccess) {
-              String setting = getEvilZoneSetting();
-              if (setting != null) {
-                CryptManager.decreaseEvilness(setting, 10);
-              }
-              Preferences.setBoolean("fireExtinguisherCyrptUsed", true);
-              success = true;
-            }
-          }
-        }
+  private static boolean castFireExtinguisherFoamEmUp(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("both comical and immobile") || cast.skillSuccess) {
+      Preferences.decrement("_fireExtinguisherCharge", 5);
+    }
+    return true;
+  }
 
-        switch (location.getAdventureName()) {
-          case "Cobb's Knob Harem" -> {
-            if (responseText.contains("You fill the harem with foam") || skillSuccess) {
-              Preferences.setBoolean("fireExtinguisherHaremUsed", true);
-              success = true;
-            }
-          }
-          case "The Smut Orc Logging Camp" -> {
-            if (responseText.contains("You wantonly spray the area with your fire extinguisher")
-                || skillSuccess) {
-              Preferences.increment("smutOrcNoncombatProgress", 11, 15, false);
-              Preferences.setBoolean("fireExtinguisherChasmUsed", true);
-              success = true;
-            }
-          }
-          case "The Arid, Extra-Dry Desert" -> {
-            if (responseText.contains("You aim the nozzle directly into your mouth")
-                || skillSuccess) {
-              Preferences.setBoolean("fireExtinguisherDesertUsed", true);
-              success = true;
-            }
-          }
-        }
+  private static boolean castFireExtinguisherPolarVortex(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You fire a blast of frigid extinguishant at your foe")
+        || cast.skillSuccess) {
+      Preferences.decrement("_fireExtinguisherCharge", 10);
+    }
+    return true;
+  }
 
-        if (success) {
-          Preferences.decrement("_fireExtinguisherCharge", 20);
-        }
-      }
-      case SkillPool.BE_GREGARIOUS -> {
-        if (responseText.contains("You decide to put your best foot forward") || skillSuccess) {
-          Preferences.setString("beGregariousMonster", monsterName);
-          Preferences.decrement("beGregariousCharges", 1, 0);
-          Preferences.setInteger("beGregariousFightsLeft", 3);
-        }
-      }
-      case SkillPool.BOWL_BACKWARDS,
-          // You roll the ball behind you as hard as you can. It crashes
-          // into another enemy in the area, knocking something loose
-          // before draining into the ball return system.
-          SkillPool.BOWL_A_CURVEBALL,
-          // Your ball clatters into the ball return system.
-          SkillPool.BOWL_SIDEWAYS,
-          // You scream like a lunatic and hurl your cosmic bowling ball
-          // sideways. It starts ricocheting wildly around the area.
-          SkillPool.BOWL_STRAIGHT_UP -> {
-        // You launch your cosmic bowling ball straight up into the air
-        // with a dramatic hook. It starts spinning in the air above you,
-        // glowing and illuminating the area around you.
-        if (responseText.contains("into the ball return system")
-            || responseText.contains("You scream like a lunatic")
-            || responseText.contains("You launch your cosmic bowling ball")
-            || skillSuccess
-            || skillRunawaySuccess) {
-          Preferences.increment("_cosmicBowlingSkillsUsed", 1);
-          int combats = Preferences.getInteger("_cosmicBowlingSkillsUsed") * 2 + 3 - 1;
-          Preferences.setInteger("cosmicBowlingBallReturnCombats", combats);
-
-          if (skillId == SkillPool.BOWL_A_CURVEBALL) {
-            BanishManager.banishMonster(monster, Banisher.BOWL_A_CURVEBALL);
-          }
+  private static boolean castFireExtinguisherFoamYourself(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("create a suit made of flame-retardant foam") || cast.skillSuccess) {
+      Preferences.decrement("_fireExtinguisherCharge", 10);
+    }
+    return true;
+  }
 
-          ResultProcessor.removeItem(ItemPool.COSMIC_BOWLING_BALL);
-        }
-      }
-      case SkillPool.RE_PROCESS_MATTER -> {
-        // NAME launches almost all of its body mass at your foe. The blob
-        // careens off of THEM and then reforms into an identical copy, which
-        // is so surprised to exist that it immediately keels over.
-        if (responseText.contains("launches almost all of its body mass at your foe")
-            || skillSuccess) {
-          // It resets the weight of the Grey Goose to 1 lb.
-          KoLCharacter.getFamiliar().setExperience(0);
-          GreyYouManager.reprocessMonster(monster);
-        }
-      }
-      case SkillPool.MEATIFY_MATTER -> {
-        // NAME detaches a big chunk of itself, slaps it onto your opponent's
-        // torso, and atomically reconfigures the whole mess into Meat.
-        if (responseText.contains("reconfigures the whole mess into Meat") || skillSuccess) {
-          skillSuccess = true;
-          // It resets the weight of the Grey Goose to 5 lb.
-          KoLCharacter.getFamiliar().setExperience(25);
-        }
-      }
-      case SkillPool.EMIT_MATTER_DUPLICATING_DRONES -> {
-        // X bits of goo emerge from NAME and begin hovering about, moving probingly around various
-        // objects.
-        Matcher droneMatcher = GOOSE_DRONE_PATTERN.matcher(responseText);
-        if (droneMatcher.find()) {
-          // Drones add to existing drones
-          int drones = StringUtilities.parseInt(droneMatcher.group(1));
-          Preferences.increment("gooseDronesRemaining", drones);
-          // It resets the weight of the Grey Goose to 5 lb.
-          KoLCharacter.getFamiliar().setExperience(25);
-        }
-      }
-      case SkillPool.CONVERT_MATTER_TO_PROTEIN,
-          // NAME detaches a big chunk of itself, slaps it onto your elbow, and converts the
-          // resultant
-          // slurry into pure muscle.
-          SkillPool.CONVERT_MATTER_TO_ENERGY,
-          // NAME detaches a big chunk of itself, slaps it onto your calf, and converts the
-          // resultant
-          // slurry into pure brain energy.
-          SkillPool.CONVERT_MATTER_TO_POMADE -> {
-        // NAME detaches a big chunk of itself and plops it onto your head, making your hair look
-        // absolutely <i>incredible</i>.
-        if (responseText.contains("bits of goo emerge from")
-            || responseText.contains("detaches a big chunk of itself")) {
-          // These skills reset the weight of the Grey Goose to 5 lb.
-          KoLCharacter.getFamiliar().setExperience(25);
-        }
-      }
-      case SkillPool.JUNK_BLAST, SkillPool.SNIPE, SkillPool.JUNK_MACE_SMASH ->
-      // These skills consume 1 scrap per use
-      KoLCharacter.setYouRobotScraps(KoLCharacter.getYouRobotScraps() - 1);
-      case SkillPool.TESLA_BLAST,
-          SkillPool.BLOW_SNOW,
-          SkillPool.SHOOT_GREASE,
-          SkillPool.PROD,
-          SkillPool.SOLENOID_SLAM,
-          SkillPool.THROW_FLAME ->
-      // These skills consume 1 energy per use
-      KoLCharacter.setYouRobotEnergy(KoLCharacter.getYouRobotEnergy() - 1);
-      case SkillPool.LAUNCH_SPIKOLODON_SPIKES -> {
-        if (responseText.contains("The spikolodon spikes both")) {
-          Preferences.setBoolean("noncombatForcerActive", true);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.CINCHO_PROJECTILE_PINATA -> {
-        if (responseText.contains(
-            "You press the Projectile Pi&ntilde;ata button on your Cincho.")) {
-          skillSuccess = true;
-          increment = 5;
-        }
-      }
-      case SkillPool.CINCHO_CONFETTI_EXTRAVAGANZA -> {
-        if (responseText.contains("You activate your Cincho's Confetti Extravaganza function.")) {
-          skillSuccess = true;
-          increment = 5;
-        }
-      }
-      case SkillPool.CINCHO_PARTY_FOUL -> {
-        if (responseText.contains(
-            "You press the button on your Cincho that unleashes a torrent of ghastly obscenities.")) {
-          skillSuccess = true;
-          increment = 5;
-        }
-      }
-      case SkillPool.DOUSE_FOE -> {
-        if (responseText.contains("One of the three indicator lights goes dim")) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.DO_EPIC_MCTWIST -> {
-        if (responseText.contains("degrees in the air while performing")) {
-          skillSuccess = true;
-          addFightModifiers("Do an epic McTwist!", DoubleModifier.ITEMDROP, 75);
-        }
-      }
-      case SkillPool.RED_WHITE_BLUE_BLAST -> {
-        if (responseText.contains("fires off a thrilling, patriotic")) {
-          Preferences.setString("rwbMonster", MonsterStatusTracker.getLastMonsterName());
-          Preferences.setInteger("rwbMonsterCount", 2);
-          KoLAdventure lastLocation = KoLAdventure.lastVisitedLocation();
-          if (lastLocation != null) {
-            Preferences.setString("rwbLocation", lastLocation.getAdventureName());
+  private static boolean castFireExtinguisherBlastTheArea(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("dust and debris is kicked up into a cyclone") || cast.skillSuccess) {
+      Preferences.decrement("_fireExtinguisherCharge", 5);
+    }
+    return true;
+  }
+
+  private static boolean castFireExtinguisherZoneSpecific(
+      final int skillId, final String responseText, final SkillCast cast) {
+    boolean success = false;
+    KoLAdventure location = KoLAdventure.lastVisitedLocation();
+    switch (location.getZone()) {
+      case "BatHole" -> {
+        if (responseText.contains(
+                "You squeeze down the nozzle on your fire extinguisher and release a blast")
+            || cast.skillSuccess) {
+          if (!QuestDatabase.isQuestLaterThan(Quest.BAT, "step2")) {
+            QuestDatabase.advanceQuest(Quest.BAT);
           }
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.PATRIOTIC_SCREECH -> {
-        if (responseText.contains("releases an ear shattering screech")) {
-          BanishManager.banishMonster(monster, Banisher.PATRIOTIC_SCREECH);
-          Preferences.setInteger("screechCombats", 11);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.PERPETRATE_MILD_EVIL -> {
-        if (
-        // Spookypocket
-        responseText.contains("drop something")
-            || responseText.contains("drop an item")
-            || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.RECALL_FACTS_MONSTER_HABITATS -> {
-        if (responseText.contains("Your knowledge of facts tells you")) {
-          Preferences.setString("_monsterHabitatsMonster", monsterName);
-          Preferences.setInteger("_monsterHabitatsFightsLeft", 5);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.RECALL_FACTS_CIRCADIAN_RHYTHMS -> {
-        if (responseText.contains("really improve your sleep tonight")) {
-          Phylum phylum = monster != null ? monster.getPhylum() : Phylum.NONE;
-          Preferences.setString("_circadianRhythmsPhylum", phylum.toString());
-          Preferences.increment("_circadianRhythmsAdventures", 1, 11, false);
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.SURPRISINGLY_SWEET_SLASH -> {
-        if (responseText.contains("quickly draw the candy cane sword") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.SURPRISINGLY_SWEET_STAB -> {
-        if (responseText.contains("lithely draw the sword from your cane") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.LAY_AN_EGG -> {
-        if (responseText.contains("shudders and lays an egg") || skillSuccess) {
-          skillSuccess = true;
-          ChoiceControl.updateMimicMonsters(monster.getId(), 1);
-          KoLCharacter.getFamiliar().addNonCombatExperience(-50);
-        }
-      }
-      case SkillPool.DART_PART1,
-          SkillPool.DART_PART2,
-          SkillPool.DART_PART3,
-          SkillPool.DART_PART4,
-          SkillPool.DART_PART5,
-          SkillPool.DART_PART6,
-          SkillPool.DART_PART7,
-          SkillPool.DART_PART8,
-          SkillPool.DART_BULLSEYE -> {
-        if (responseText.contains("throw a dart") || skillSuccess) {
-          Preferences.increment("dartsThrown");
-        }
-      }
-      case SkillPool.BLOW_THE_RED_CANDLE -> {
-        if (responseText.contains("all the red") || skillSuccess) {
-          Preferences.increment("romanCandelabraRedCasts");
-        }
-      }
-      case SkillPool.BLOW_THE_YELLOW_CANDLE -> {
-        if (responseText.contains("all the yellow") || skillSuccess) {
-          Preferences.increment("romanCandelabraYellowCasts");
-        }
-      }
-      case SkillPool.BLOW_THE_BLUE_CANDLE -> {
-        if (responseText.contains("all the blue") || skillSuccess) {
-          Preferences.increment("romanCandelabraBlueCasts");
-        }
-      }
-      case SkillPool.BLOW_THE_GREEN_CANDLE -> {
-        if (responseText.contains("all the green") || skillSuccess) {
-          Preferences.increment("romanCandelabraGreenCasts");
-        }
-      }
-      case SkillPool.BLOW_THE_PURPLE_CANDLE -> {
-        if (responseText.contains("all the purple") || skillSuccess) {
-          Preferences.increment("romanCandelabraPurpleCasts");
-        }
-      }
-      case SkillPool.TEAR_AWAY_YOUR_PANTS -> {
-        if (responseText.contains("Your lack of pants is going to help")) {
-          skillSuccess = true;
-          addFightModifiers("Tear Away your Pants", DoubleModifier.ITEMDROP, 15);
-        } else if (responseText.contains("Having stripped away the pants")) {
-          Preferences.increment("_tearawayPantsAdvs");
-        }
-      }
-      case SkillPool.SWOOP_LIKE_A_BAT -> {
-        if (responseText.contains("manage to grab something") || skillSuccess) {
-          skillSuccess = true;
+          Preferences.setBoolean("fireExtinguisherBatHoleUsed", true);
+          success = true;
         }
       }
-      case SkillPool.SUMMON_CAULDRON_OF_BATS -> {
-        if (responseText.contains("You flap your wings") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.ASSERT_YOUR_AUTHORITY -> {
-        if (responseText.contains("You flash your sheriff badge") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.IRON_TRICORN_HEADBUTT -> {
-        if (responseText.contains("You slam your tricorn") || skillSuccess) {
-          skillSuccess = true;
-        }
-      }
-      case SkillPool.PLACE_YOUR_HAT_ON_THEIR_HEAD -> {
-        if (responseText.contains("You place your hat upon") || skillSuccess) {
-          skillSuccess = true;
+      case "Cyrpt" -> {
+        if (responseText.contains(
+                "The chill of the refrigerant quickly replaces some of the chill of evil in the air")
+            || cast.skillSuccess) {
+          String setting = getEvilZoneSetting();
+          if (setting != null) {
+            CryptManager.decreaseEvilness(setting, 10);
+          }
+          Preferences.setBoolean("fireExtinguisherCyrptUsed", true);
+          success = true;
         }
       }
-      case SkillPool.MCHUGELARGE_SLASH -> {
-        if (responseText.contains("You reach your left ski pole") || skillSuccess) {
-          TrackManager.trackMonster(monster, Tracker.MCHUGELARGE_SLASH);
-          skillSuccess = true;
+    }
+
+    switch (location.getAdventureName()) {
+      case "Cobb's Knob Harem" -> {
+        if (responseText.contains("You fill the harem with foam") || cast.skillSuccess) {
+          Preferences.setBoolean("fireExtinguisherHaremUsed", true);
+          success = true;
         }
       }
-      case SkillPool.MCHUGELARGE_AVALANCHE -> {
-        if (responseText.contains("You stomp your ski on the ground") || skillSuccess) {
-          Preferences.setBoolean("noncombatForcerActive", true);
-          skillSuccess = true;
+      case "The Smut Orc Logging Camp" -> {
+        if (responseText.contains("You wantonly spray the area with your fire extinguisher")
+            || cast.skillSuccess) {
+          Preferences.increment("smutOrcNoncombatProgress", 11, 15, false);
+          Preferences.setBoolean("fireExtinguisherChasmUsed", true);
+          success = true;
         }
       }
-      case SkillPool.MCHUGELARGE_SKI_PLOW -> {
-        if (responseText.contains("You skid to an abrupt stop") || skillSuccess) {
-          skillSuccess = true;
+      case "The Arid, Extra-Dry Desert" -> {
+        if (responseText.contains("You aim the nozzle directly into your mouth")
+            || cast.skillSuccess) {
+          Preferences.setBoolean("fireExtinguisherDesertUsed", true);
+          success = true;
         }
       }
+    }
 
-        // CyberRealm skills
-      case SkillPool.THROW_CYBER_ROCK -> {
-        // RAM Cost: 0
-        // You envision some 1s in a clump and throw it at your foe for <b>10</b> damage.
-        skillSuccess = true;
-        currentRAM -= 0;
-      }
-      case SkillPool.BRUTE_FORCE_HAMMER -> {
-        // RAM Cost: 3
-        // brute force hammer equipped
+    if (success) {
+      Preferences.decrement("_fireExtinguisherCharge", 20);
+    }
+    return true;
+  }
 
-        // You swing your hammer at your foe, smashing it for <b>40</b>bits of damage.
-        if (responseText.contains("You swing your hammer") || skillSuccess) {
-          skillSuccess = true;
-          currentRAM -= 3;
-        }
-      }
-      case SkillPool.INJECT_MALWARE -> {
-        // RAM Cost: 1
-        // malware injector equipped
+  private static boolean castBeGregarious(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+    String monsterName = monster != null ? monster.getName() : "";
 
-        // You inject your foe with a vicious trojan from your thumb drive.  It starts slowly
-        // tearing apart their code.
-        if (responseText.contains("You inject your foe") || skillSuccess) {
-          skillSuccess = true;
-          currentRAM -= 1;
-        }
-      }
-      case SkillPool.ENCRYPTED_SHURIKEN -> {
-        // RAM Cost: 2
-        // encrypted shuriken equipped
+    if (responseText.contains("You decide to put your best foot forward") || cast.skillSuccess) {
+      Preferences.setString("beGregariousMonster", monsterName);
+      Preferences.decrement("beGregariousCharges", 1, 0);
+      Preferences.setInteger("beGregariousFightsLeft", 3);
+    }
+    return true;
+  }
 
-        // You hurl a cybershuriken at your foe for <b>20</b> damage.
-        if (responseText.contains("You hurl a cybershuriken") || skillSuccess) {
-          skillSuccess = true;
-          currentRAM -= 2;
-        }
-      }
-      case SkillPool.REFRESH_HP -> {
-        // RAM Cost: 1
-        // wired underwear equipped
+  // You roll the ball behind you as hard as you can. It crashes
+  // into another enemy in the area, knocking something loose
+  // before draining into the ball return system.
+  // Your ball clatters into the ball return system.
+  // You scream like a lunatic and hurl your cosmic bowling ball
+  // sideways. It starts ricocheting wildly around the area.
+  private static boolean castBowlBackwards(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // You launch your cosmic bowling ball straight up into the air
+    // with a dramatic hook. It starts spinning in the air above you,
+    // glowing and illuminating the area around you.
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
 
-        // You remotely trigger the cooling circuits in your underwear.
-        if (responseText.contains("You remotely trigger") || skillSuccess) {
-          skillSuccess = true;
-          currentRAM -= 1;
-        }
-      }
-      case SkillPool.LAUNCH_LOGIC_GRENADE -> {
-        // RAM Cost: 0
-        // logic grenade in inventory
+    if (responseText.contains("into the ball return system")
+        || responseText.contains("You scream like a lunatic")
+        || responseText.contains("You launch your cosmic bowling ball")
+        || cast.skillSuccess
+        || cast.skillRunawaySuccess) {
+      Preferences.increment("_cosmicBowlingSkillsUsed", 1);
+      int combats = Preferences.getInteger("_cosmicBowlingSkillsUsed") * 2 + 3 - 1;
+      Preferences.setInteger("cosmicBowlingBallReturnCombats", combats);
 
-        // You arm you logic grenade and launch it into the network.
-        // Your foe is blasted into their constituent bits.
-        if (responseText.contains("launch it into the network") || skillSuccess) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.LOGIC_GRENADE, -1));
-          skillSuccess = true;
-          currentRAM -= 0;
-        }
+      if (skillId == SkillPool.BOWL_A_CURVEBALL) {
+        BanishManager.banishMonster(monster, Banisher.BOWL_A_CURVEBALL);
       }
-      case SkillPool.DEPLOY_GLITCHED_MALWARE -> {
-        // RAM Cost: 0
-        // glitched malware in inventory
 
-        // You infect your foe with the glitched malware, that'll keep them busy for the day.
-        if (responseText.contains("You infect") || skillSuccess) {
-          BanishManager.banishCurrentMonster(Banisher.GLITCHED_MALWARE);
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GLITCHED_MALWARE, -1));
-          skillSuccess = true;
-          currentRAM -= 0;
-        }
-      }
-      case SkillPool.THRUST_YOUR_GEOFENCING_RAPIER -> {
-        // RAM Cost: 7
-        // geofencing rapier equipped
+      ResultProcessor.removeItem(ItemPool.COSMIC_BOWLING_BALL);
+    }
+    return true;
+  }
 
-        // You quickly thrust your rapier deep into your foes long term storage for <b>174</b>
-        // damage.
-        if (responseText.contains("You quickly thrust") || skillSuccess) {
-          skillSuccess = true;
-          currentRAM -= 7;
-        }
-      }
+  private static boolean castReProcessMatter(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // NAME launches almost all of its body mass at your foe. The blob
+    // careens off of THEM and then reforms into an identical copy, which
+    // is so surprised to exist that it immediately keels over.
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("launches almost all of its body mass at your foe")
+        || cast.skillSuccess) {
+      // It resets the weight of the Grey Goose to 1 lb.
+      KoLCharacter.getFamiliar().setExperience(0);
+      GreyYouManager.reprocessMonster(monster);
     }
+    return true;
+  }
 
-    if (skillSuccess || skillRunawaySuccess || familiarSkillSuccess) {
-      var limit = DailyLimitType.CAST.getDailyLimit(skillId);
+  private static boolean castMeatifyMatter(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // NAME detaches a big chunk of itself, slaps it onto your opponent's
+    // torso, and atomically reconfigures the whole mess into Meat.
+    if (responseText.contains("reconfigures the whole mess into Meat") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      // It resets the weight of the Grey Goose to 5 lb.
+      KoLCharacter.getFamiliar().setExperience(25);
+    }
+    return true;
+  }
 
-      if (limit != null) {
-        limit.increment(increment);
+  private static boolean castEmitMatterDuplicatingDrones(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // X bits of goo emerge from NAME and begin hovering about, moving probingly around various
+    // objects.
+    Matcher droneMatcher = GOOSE_DRONE_PATTERN.matcher(responseText);
+    if (droneMatcher.find()) {
+      // Drones add to existing drones
+      int drones = StringUtilities.parseInt(droneMatcher.group(1));
+      Preferences.increment("gooseDronesRemaining", drones);
+      // It resets the weight of the Grey Goose to 5 lb.
+      KoLCharacter.getFamiliar().setExperience(25);
+    }
+    return true;
+  }
+
+  // NAME detaches a big chunk of itself, slaps it onto your elbow, and converts the
+  // resultant
+  // slurry into pure muscle.
+  // NAME detaches a big chunk of itself, slaps it onto your calf, and converts the
+  // resultant
+  // slurry into pure brain energy.
+  private static boolean castConvertMatterToProtein(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // NAME detaches a big chunk of itself and plops it onto your head, making your hair look
+    // absolutely <i>incredible</i>.
+    if (responseText.contains("bits of goo emerge from")
+        || responseText.contains("detaches a big chunk of itself")) {
+      // These skills reset the weight of the Grey Goose to 5 lb.
+      KoLCharacter.getFamiliar().setExperience(25);
+    }
+    return true;
+  }
+
+  private static boolean castJunkBlast(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // These skills consume 1 scrap per use
+    KoLCharacter.setYouRobotScraps(KoLCharacter.getYouRobotScraps() - 1);
+    return true;
+  }
+
+  private static boolean castTeslaBlast(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // These skills consume 1 energy per use
+    KoLCharacter.setYouRobotEnergy(KoLCharacter.getYouRobotEnergy() - 1);
+    return true;
+  }
+
+  private static boolean castLaunchSpikolodonSpikes(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("The spikolodon spikes both")) {
+      Preferences.setBoolean("noncombatForcerActive", true);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castCinchoProjectilePinata(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You press the Projectile Pi&ntilde;ata button on your Cincho.")) {
+      cast.skillSuccess = true;
+      cast.increment = 5;
+    }
+    return true;
+  }
+
+  private static boolean castCinchoConfettiExtravaganza(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You activate your Cincho's Confetti Extravaganza function.")) {
+      cast.skillSuccess = true;
+      cast.increment = 5;
+    }
+    return true;
+  }
+
+  private static boolean castCinchoPartyFoul(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains(
+        "You press the button on your Cincho that unleashes a torrent of ghastly obscenities.")) {
+      cast.skillSuccess = true;
+      cast.increment = 5;
+    }
+    return true;
+  }
+
+  private static boolean castDouseFoe(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("One of the three indicator lights goes dim")) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castDoEpicMctwist(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("degrees in the air while performing")) {
+      cast.skillSuccess = true;
+      addFightModifiers("Do an epic McTwist!", DoubleModifier.ITEMDROP, 75);
+    }
+    return true;
+  }
+
+  private static boolean castRedWhiteBlueBlast(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("fires off a thrilling, patriotic")) {
+      Preferences.setString("rwbMonster", MonsterStatusTracker.getLastMonsterName());
+      Preferences.setInteger("rwbMonsterCount", 2);
+      KoLAdventure lastLocation = KoLAdventure.lastVisitedLocation();
+      if (lastLocation != null) {
+        Preferences.setString("rwbLocation", lastLocation.getAdventureName());
       }
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castPatrioticScreech(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("releases an ear shattering screech")) {
+      BanishManager.banishMonster(monster, Banisher.PATRIOTIC_SCREECH);
+      Preferences.setInteger("screechCombats", 11);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castPerpetrateMildEvil(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (
+    // Spookypocket
+    responseText.contains("drop something")
+        || responseText.contains("drop an item")
+        || cast.skillSuccess) {
+      cast.skillSuccess = true;
     }
+    return true;
+  }
+
+  private static boolean castRecallFactsMonsterHabitats(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+    String monsterName = monster != null ? monster.getName() : "";
+
+    if (responseText.contains("Your knowledge of facts tells you")) {
+      Preferences.setString("_monsterHabitatsMonster", monsterName);
+      Preferences.setInteger("_monsterHabitatsFightsLeft", 5);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castRecallFactsCircadianRhythms(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("really improve your sleep tonight")) {
+      Phylum phylum = monster != null ? monster.getPhylum() : Phylum.NONE;
+      Preferences.setString("_circadianRhythmsPhylum", phylum.toString());
+      Preferences.increment("_circadianRhythmsAdventures", 1, 11, false);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castSurprisinglySweetSlash(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("quickly draw the candy cane sword") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castSurprisinglySweetStab(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("lithely draw the sword from your cane") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castLayAnEgg(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("shudders and lays an egg") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      ChoiceControl.updateMimicMonsters(monster.getId(), 1);
+      KoLCharacter.getFamiliar().addNonCombatExperience(-50);
+    }
+    return true;
+  }
+
+  private static boolean castDartPart1(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("throw a dart") || cast.skillSuccess) {
+      Preferences.increment("dartsThrown");
+    }
+    return true;
+  }
+
+  private static boolean castBlowTheRedCandle(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("all the red") || cast.skillSuccess) {
+      Preferences.increment("romanCandelabraRedCasts");
+    }
+    return true;
+  }
+
+  private static boolean castBlowTheYellowCandle(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("all the yellow") || cast.skillSuccess) {
+      Preferences.increment("romanCandelabraYellowCasts");
+    }
+    return true;
+  }
+
+  private static boolean castBlowTheBlueCandle(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("all the blue") || cast.skillSuccess) {
+      Preferences.increment("romanCandelabraBlueCasts");
+    }
+    return true;
+  }
+
+  private static boolean castBlowTheGreenCandle(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("all the green") || cast.skillSuccess) {
+      Preferences.increment("romanCandelabraGreenCasts");
+    }
+    return true;
+  }
+
+  private static boolean castBlowThePurpleCandle(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("all the purple") || cast.skillSuccess) {
+      Preferences.increment("romanCandelabraPurpleCasts");
+    }
+    return true;
+  }
+
+  private static boolean castTearAwayYourPants(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("Your lack of pants is going to help")) {
+      cast.skillSuccess = true;
+      addFightModifiers("Tear Away your Pants", DoubleModifier.ITEMDROP, 15);
+    } else if (responseText.contains("Having stripped away the pants")) {
+      Preferences.increment("_tearawayPantsAdvs");
+    }
+    return true;
+  }
+
+  private static boolean castSwoopLikeABat(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("manage to grab something") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castSummonCauldronOfBats(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You flap your wings") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castAssertYourAuthority(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You flash your sheriff badge") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castIronTricornHeadbutt(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You slam your tricorn") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castPlaceYourHatOnTheirHead(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You place your hat upon") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castMchugelargeSlash(
+      final int skillId, final String responseText, final SkillCast cast) {
+    MonsterData monster = MonsterStatusTracker.getLastMonster();
+
+    if (responseText.contains("You reach your left ski pole") || cast.skillSuccess) {
+      TrackManager.trackMonster(monster, Tracker.MCHUGELARGE_SLASH);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castMchugelargeAvalanche(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You stomp your ski on the ground") || cast.skillSuccess) {
+      Preferences.setBoolean("noncombatForcerActive", true);
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  private static boolean castMchugelargeSkiPlow(
+      final int skillId, final String responseText, final SkillCast cast) {
+    if (responseText.contains("You skid to an abrupt stop") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+    }
+    return true;
+  }
+
+  // CyberRealm skills
+  private static boolean castThrowCyberRock(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // RAM Cost: 0
+    // You envision some 1s in a clump and throw it at your foe for <b>10</b> damage.
+    cast.skillSuccess = true;
+    currentRAM -= 0;
+    return true;
+  }
+
+  private static boolean castBruteForceHammer(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // RAM Cost: 3
+    // brute force hammer equipped
+
+    // You swing your hammer at your foe, smashing it for <b>40</b>bits of damage.
+    if (responseText.contains("You swing your hammer") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      currentRAM -= 3;
+    }
+    return true;
+  }
+
+  private static boolean castInjectMalware(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // RAM Cost: 1
+    // malware injector equipped
+
+    // You inject your foe with a vicious trojan from your thumb drive.  It starts slowly
+    // tearing apart their code.
+    if (responseText.contains("You inject your foe") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      currentRAM -= 1;
+    }
+    return true;
+  }
+
+  private static boolean castEncryptedShuriken(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // RAM Cost: 2
+    // encrypted shuriken equipped
+
+    // You hurl a cybershuriken at your foe for <b>20</b> damage.
+    if (responseText.contains("You hurl a cybershuriken") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      currentRAM -= 2;
+    }
+    return true;
+  }
+
+  private static boolean castRefreshHp(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // RAM Cost: 1
+    // wired underwear equipped
+
+    // You remotely trigger the cooling circuits in your underwear.
+    if (responseText.contains("You remotely trigger") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      currentRAM -= 1;
+    }
+    return true;
+  }
+
+  private static boolean castLaunchLogicGrenade(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // RAM Cost: 0
+    // logic grenade in inventory
+
+    // You arm you logic grenade and launch it into the network.
+    // Your foe is blasted into their constituent bits.
+    if (responseText.contains("launch it into the network") || cast.skillSuccess) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.LOGIC_GRENADE, -1));
+      cast.skillSuccess = true;
+      currentRAM -= 0;
+    }
+    return true;
+  }
+
+  private static boolean castDeployGlitchedMalware(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // RAM Cost: 0
+    // glitched malware in inventory
+
+    // You infect your foe with the glitched malware, that'll keep them busy for the day.
+    if (responseText.contains("You infect") || cast.skillSuccess) {
+      BanishManager.banishCurrentMonster(Banisher.GLITCHED_MALWARE);
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GLITCHED_MALWARE, -1));
+      cast.skillSuccess = true;
+      currentRAM -= 0;
+    }
+    return true;
+  }
+
+  private static boolean castThrustYourGeofencingRapier(
+      final int skillId, final String responseText, final SkillCast cast) {
+    // RAM Cost: 7
+    // geofencing rapier equipped
+
+    // You quickly thrust your rapier deep into your foes long term storage for <b>174</b>
+    // damage.
+    if (responseText.contains("You quickly thrust") || cast.skillSuccess) {
+      cast.skillSuccess = true;
+      currentRAM -= 7;
+    }
+    return true;
   }
 
   public static final void payItemCost(
@@ -69,6 +69,7 @@ import net.sourceforge.kolmafia.request.concoction.CreateItemRequest;
 import net.sourceforge.kolmafia.session.ChoiceControl;
 import net.sourceforge.kolmafia.session.ChoiceManager;
 import net.sourceforge.kolmafia.session.CrystalBallManager;
+import net.sourceforge.kolmafia.session.DescriptionCache;
 import net.sourceforge.kolmafia.session.EncounterManager;
 import net.sourceforge.kolmafia.session.EquipmentManager;
 import net.sourceforge.kolmafia.session.EventManager;
@@ -76,6 +77,9 @@ import net.sourceforge.kolmafia.session.InventoryManager;
 import net.sourceforge.kolmafia.session.LightsOutManager;
 import net.sourceforge.kolmafia.session.OceanManager;
 import net.sourceforge.kolmafia.session.QuestManager;
+import net.sourceforge.kolmafia.session.RefreshPlan;
+import net.sourceforge.kolmafia.session.RequestMetrics;
+import net.sourceforge.kolmafia.session.RequestMetrics.Phase;
 import net.sourceforge.kolmafia.session.ResponseTextParser;
 import net.sourceforge.kolmafia.session.ResultProcessor;
 import net.sourceforge.kolmafia.session.TurnCounter;
@@ -150,6 +154,8 @@ public class GenericRequest implements Runnable {
   public boolean isDescRequest = false;
   public boolean isStaticRequest = false;
   public boolean isQuestLogRequest = false;
+  // Whether a saved copy of this description page may stand in for loading it
+  public boolean useDescriptionCache = false;
 
   protected List<String> data;
   private boolean dataChanged = true;
@@ -1398,16 +1404,45 @@ public class GenericRequest implements Runnable {
   }
 
   public void externalExecute() {
+    if (this.readDescriptionCache()) {
+      return;
+    }
+
     do {
-      if (!this.prepareRequest()) {
-        break;
+      try (var timer = RequestMetrics.time(Phase.PREPARE, this.baseURLString)) {
+        if (!this.prepareRequest()) {
+          break;
+        }
       }
-    } while (!this.sendRequest()
+    } while (!this.timedSendRequest()
         && !this.retrieveServerReply()
         && this.timeoutCount < GenericRequest.TIMEOUT_LIMIT
         && this.redirectCount < GenericRequest.REDIRECT_LIMIT);
   }
 
+  private boolean usesDescriptionCache() {
+    return this.useDescriptionCache
+        && DescriptionCache.isEnabled()
+        && DescriptionCache.isCacheable(this.getURLString());
+  }
+
+  private boolean readDescriptionCache() {
+    if (!this.usesDescriptionCache()) {
+      return false;
+    }
+
+    String text = DescriptionCache.get(this.getURLString());
+    if (text == null) {
+      return false;
+    }
+
+    this.responseCode = 200;
+    this.responseText = text;
+    this.redirectLocation = null;
+    this.processServerReply();
+    return true;
+  }
+
   public static final boolean shouldIgnore(final GenericRequest request) {
     String requestURL = GenericRequest.decodeField(request.formURLString);
     return requestURL == null
@@ -1421,6 +1456,12 @@ public class GenericRequest implements Runnable {
         request.isChatRequest;
   }
 
+  private boolean timedSendRequest() {
+    try (var timer = RequestMetrics.time(Phase.ROUND_TRIP, this.baseURLString)) {
+      return this.sendRequest();
+    }
+  }
+
   /**
    * Utility method used to prepare the request for sending.
    *
@@ -1585,7 +1626,16 @@ public class GenericRequest implements Runnable {
     try {
       response = getClient().send(request, BodyHandlers.ofInputStream());
       return false;
-    } catch (SocketTimeoutException | InterruptedException e) {
+    } catch (InterruptedException e) {
+      // The task making this request was cancelled. Don't retry.
+      Thread.currentThread().interrupt();
+      if (this.processOnFailure()) {
+        this.processResponse();
+      }
+
+      this.timeoutCount = TIMEOUT_LIMIT;
+      return true;
+    } catch (SocketTimeoutException e) {
       if (this.shouldUpdateDebugLog()) {
         String message = "Time out retrieving server reply (" + this.formURLString + ").";
         RequestLogger.printLine(message);
@@ -1639,6 +1689,9 @@ public class GenericRequest implements Runnable {
       RequestLogger.updateDebugLog("Retrieving server reply...");
     }
 
+    // A session refresh may have sent this request before it is its turn to be processed
+    RefreshPlan.awaitTurn();
+
     this.responseText = "";
 
     this.responseCode = response.statusCode();
@@ -2105,7 +2158,9 @@ public class GenericRequest implements Runnable {
       RequestLogger.updateDebugLog("Retrieving server reply");
     }
 
-    this.responseText = new String(ByteBufferUtilities.read(istream), StandardCharsets.UTF_8);
+    try (var timer = RequestMetrics.time(Phase.DECODE, this.baseURLString)) {
+      this.responseText = new String(ByteBufferUtilities.read(istream), StandardCharsets.UTF_8);
+    }
 
     if (this.responseCode == 200 && RequestLogger.isTracing()) {
       String buffer =
@@ -2143,16 +2198,27 @@ public class GenericRequest implements Runnable {
       }
     }
 
+    if (this.responseCode == 200 && this.usesDescriptionCache()) {
+      DescriptionCache.put(this.getURLString(), this.responseText);
+    }
+
+    this.processServerReply();
+    return true;
+  }
+
+  private void processServerReply() {
     try {
       PreferenceListenerRegistry.deferPreferenceListeners(true);
-      this.processResponse();
+      try (var timer = RequestMetrics.time(Phase.PROCESS_RESPONSE, this.baseURLString)) {
+        this.processResponse();
+      }
     } catch (Exception e) {
       StaticEntity.printStackTrace(e);
     } finally {
-      PreferenceListenerRegistry.deferPreferenceListeners(false);
+      try (var timer = RequestMetrics.time(Phase.LISTENERS, this.baseURLString)) {
+        PreferenceListenerRegistry.deferPreferenceListeners(false);
+      }
     }
-
-    return true;
   }
 
   /** This method allows classes to process a raw, unfiltered server response. */
@@ -2239,7 +2305,9 @@ public class GenericRequest implements Runnable {
     // Now let the main method of result processing for
     // each request type happen.
 
-    this.processResults();
+    try (var timer = RequestMetrics.time(Phase.PROCESS_RESULTS, this.baseURLString)) {
+      this.processResults();
+    }
 
     if (ChoiceManager.handlingChoice) {
       // Handle choices AFTER result processing
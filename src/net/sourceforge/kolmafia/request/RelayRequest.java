@@ -78,6 +78,8 @@ import net.sourceforge.kolmafia.session.EquipmentRequirement;
 import net.sourceforge.kolmafia.session.InventoryManager;
 import net.sourceforge.kolmafia.session.IslandManager;
 import net.sourceforge.kolmafia.session.LightsOutManager;
+import net.sourceforge.kolmafia.session.RequestMetrics;
+import net.sourceforge.kolmafia.session.RequestMetrics.Phase;
 import net.sourceforge.kolmafia.session.SorceressLairManager;
 import net.sourceforge.kolmafia.session.TavernManager;
 import net.sourceforge.kolmafia.session.TurnCounter;
@@ -426,7 +428,7 @@ public class RelayRequest extends PasswordHashRequest {
 
     // Fights and choices are already decorated.
     if (decorate) {
-      try {
+      try (var timer = RequestMetrics.time(Phase.DECORATE, path)) {
         RequestEditorKit.getFeatureRichHTML(this.getURLString(), responseBuffer);
       } catch (Exception e) {
         StaticEntity.printStackTrace(e);
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -1705,6 +1706,1275 @@ public class UseItemRequest extends GenericRequest {
     return ZodiacSign.NONE;
   }
 
+  // Item-specific processing for a successful use, found by item ID. Each handler returns the
+  // item which was consumed, or null if nothing was.
+
+  @FunctionalInterface
+  private interface ConsumptionHandler {
+    AdventureResult consume(AdventureResult item, String responseText, boolean showHTML);
+  }
+
+  private static final Map<Integer, ConsumptionHandler> CONSUMPTION_HANDLERS = new HashMap<>();
+
+  static {
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_UNIVERSAL_SCREWDRIVER,
+        UseItemRequest::consumeLoathingLegionUniversalScrewdriver);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_KNIFE, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_MANY_PURPOSE_HOOK, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_MOONDIAL, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_NECKTIE, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_ELECTRIC_KNIFE, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_CORKSCREW, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_CAN_OPENER, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_CHAINSAW, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_ROLLERBLADES, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_FLAMETHROWER, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_TATTOO_NEEDLE, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_DEFIBRILLATOR, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_DOUBLE_PRISM, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_TAPE_MEASURE, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_KITCHEN_SINK, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_ABACUS, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_HELICOPTER, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_PIZZA_STONE, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_JACKHAMMER, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LOATHING_LEGION_HAMMER, UseItemRequest::consumeLoathingLegionKnife);
+    CONSUMPTION_HANDLERS.put(ItemPool.WHAT_CARD, UseItemRequest::consumeWhatCard);
+    CONSUMPTION_HANDLERS.put(ItemPool.WHEN_CARD, UseItemRequest::consumeWhatCard);
+    CONSUMPTION_HANDLERS.put(ItemPool.WHO_CARD, UseItemRequest::consumeWhatCard);
+    CONSUMPTION_HANDLERS.put(ItemPool.WHERE_CARD, UseItemRequest::consumeWhatCard);
+    CONSUMPTION_HANDLERS.put(ItemPool.LEGENDARY_BEAT, UseItemRequest::consumeLegendaryBeat);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PORTABLE_STEAM_UNIT, UseItemRequest::consumePortableSteamUnit);
+    CONSUMPTION_HANDLERS.put(ItemPool.JACKING_MAP, UseItemRequest::consumeJackingMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT1, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT2, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT3, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT4, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT5, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT6, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT7, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT8, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT9, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT10, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFT11, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFTV, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFTR, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFTW, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIFTH, UseItemRequest::consumeGift1);
+    CONSUMPTION_HANDLERS.put(ItemPool.DANCE_CARD, UseItemRequest::consumeDanceCard);
+    CONSUMPTION_HANDLERS.put(ItemPool.TOASTER, UseItemRequest::consumeToaster);
+    CONSUMPTION_HANDLERS.put(ItemPool.GATES_SCROLL, UseItemRequest::consumeGatesScroll);
+    CONSUMPTION_HANDLERS.put(ItemPool.ELITE_SCROLL, UseItemRequest::consumeEliteScroll);
+    CONSUMPTION_HANDLERS.put(ItemPool.HERMIT_SCRIPT, UseItemRequest::consumeHermitScript);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPARKLER, UseItemRequest::consumeSparkler);
+    CONSUMPTION_HANDLERS.put(ItemPool.SNAKE, UseItemRequest::consumeSparkler);
+    CONSUMPTION_HANDLERS.put(ItemPool.M282, UseItemRequest::consumeSparkler);
+    CONSUMPTION_HANDLERS.put(ItemPool.GREEN_ROCKET, UseItemRequest::consumeSparkler);
+    CONSUMPTION_HANDLERS.put(ItemPool.GONG, UseItemRequest::consumeGong);
+    CONSUMPTION_HANDLERS.put(ItemPool.ENCHANTED_BEAN, UseItemRequest::consumeEnchantedBean);
+    CONSUMPTION_HANDLERS.put(ItemPool.LIBRARY_CARD, UseItemRequest::consumeLibraryCard);
+    CONSUMPTION_HANDLERS.put(ItemPool.HEY_DEZE_MAP, UseItemRequest::consumeHeyDezeMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIANT_CASTLE_MAP, UseItemRequest::consumeGiantCastleMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.DRASTIC_HEALING, UseItemRequest::consumeDrasticHealing);
+    CONSUMPTION_HANDLERS.put(ItemPool.TEARS, UseItemRequest::consumeTears);
+    CONSUMPTION_HANDLERS.put(ItemPool.ANTIDOTE, UseItemRequest::consumeAntidote);
+    CONSUMPTION_HANDLERS.put(ItemPool.TBONE_KEY, UseItemRequest::consumeTboneKey);
+    CONSUMPTION_HANDLERS.put(ItemPool.KETCHUP_HOUND, UseItemRequest::consumeKetchupHound);
+    CONSUMPTION_HANDLERS.put(ItemPool.DOLPHIN_KING_MAP, UseItemRequest::consumeDolphinKingMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.SLUG_LORD_MAP, UseItemRequest::consumeSlugLordMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.DR_HOBO_MAP, UseItemRequest::consumeDrHoboMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.SHOPPING_LIST, UseItemRequest::consumeShoppingList);
+    CONSUMPTION_HANDLERS.put(ItemPool.COBBS_KNOB_MAP, UseItemRequest::consumeCobbsKnobMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPOOKY_MAP, UseItemRequest::consumeSpookyMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.CARONCH_MAP, UseItemRequest::consumeCaronchMap);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FRATHOUSE_BLUEPRINTS, UseItemRequest::consumeFrathouseBlueprints);
+    CONSUMPTION_HANDLERS.put(ItemPool.DINGHY_PLANS, UseItemRequest::consumeDinghyPlans);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MORTAR_DISSOLVING_RECIPE, UseItemRequest::consumeMortarDissolvingRecipe);
+    CONSUMPTION_HANDLERS.put(ItemPool.FENG_SHUI, UseItemRequest::consumeFengShui);
+    CONSUMPTION_HANDLERS.put(ItemPool.WARM_SUBJECT, UseItemRequest::consumeWarmSubject);
+    CONSUMPTION_HANDLERS.put(ItemPool.MINING_OIL, UseItemRequest::consumeMiningOil);
+    CONSUMPTION_HANDLERS.put(ItemPool.TAINTED_MINING_OIL, UseItemRequest::consumeMiningOil);
+    CONSUMPTION_HANDLERS.put(ItemPool.PURPLE_SNOWCONE, UseItemRequest::consumePurpleSnowcone);
+    CONSUMPTION_HANDLERS.put(ItemPool.GREEN_SNOWCONE, UseItemRequest::consumePurpleSnowcone);
+    CONSUMPTION_HANDLERS.put(ItemPool.ORANGE_SNOWCONE, UseItemRequest::consumePurpleSnowcone);
+    CONSUMPTION_HANDLERS.put(ItemPool.RED_SNOWCONE, UseItemRequest::consumePurpleSnowcone);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLUE_SNOWCONE, UseItemRequest::consumePurpleSnowcone);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLACK_SNOWCONE, UseItemRequest::consumePurpleSnowcone);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.POTION_OF_PUISSANCE, UseItemRequest::consumePotionOfPuissance);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.POTION_OF_PERSPICACITY, UseItemRequest::consumePotionOfPuissance);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.POTION_OF_PULCHRITUDE, UseItemRequest::consumePotionOfPuissance);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.POTION_OF_PERCEPTION, UseItemRequest::consumePotionOfPuissance);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.POTION_OF_PROFICIENCY, UseItemRequest::consumePotionOfPuissance);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLUE_CUPCAKE, UseItemRequest::consumeBlueCupcake);
+    CONSUMPTION_HANDLERS.put(ItemPool.GREEN_CUPCAKE, UseItemRequest::consumeBlueCupcake);
+    CONSUMPTION_HANDLERS.put(ItemPool.ORANGE_CUPCAKE, UseItemRequest::consumeBlueCupcake);
+    CONSUMPTION_HANDLERS.put(ItemPool.PURPLE_CUPCAKE, UseItemRequest::consumeBlueCupcake);
+    CONSUMPTION_HANDLERS.put(ItemPool.PINK_CUPCAKE, UseItemRequest::consumeBlueCupcake);
+    CONSUMPTION_HANDLERS.put(ItemPool.VAGUE_AMBIGUITY, UseItemRequest::consumeVagueAmbiguity);
+    CONSUMPTION_HANDLERS.put(ItemPool.SMOLDERING_PASSION, UseItemRequest::consumeVagueAmbiguity);
+    CONSUMPTION_HANDLERS.put(ItemPool.ICY_REVENGE, UseItemRequest::consumeVagueAmbiguity);
+    CONSUMPTION_HANDLERS.put(ItemPool.SUGARY_CUTENESS, UseItemRequest::consumeVagueAmbiguity);
+    CONSUMPTION_HANDLERS.put(ItemPool.DISTURBING_OBSESSION, UseItemRequest::consumeVagueAmbiguity);
+    CONSUMPTION_HANDLERS.put(ItemPool.NAUGHTY_INNUENDO, UseItemRequest::consumeVagueAmbiguity);
+    CONSUMPTION_HANDLERS.put(ItemPool.ROLLING_PIN, UseItemRequest::consumeRollingPin);
+    CONSUMPTION_HANDLERS.put(ItemPool.UNROLLING_PIN, UseItemRequest::consumeUnrollingPin);
+    CONSUMPTION_HANDLERS.put(ItemPool.EXPRESS_CARD, UseItemRequest::consumeExpressCard);
+    CONSUMPTION_HANDLERS.put(ItemPool.PLUS_SIGN, UseItemRequest::consumePlusSign);
+    CONSUMPTION_HANDLERS.put(ItemPool.OVEN, UseItemRequest::consumeOven);
+    CONSUMPTION_HANDLERS.put(ItemPool.RANGE, UseItemRequest::consumeRange);
+    CONSUMPTION_HANDLERS.put(ItemPool.CLOCKWORK_CHEF, UseItemRequest::consumeClockworkChef);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHEF, UseItemRequest::consumeChef);
+    CONSUMPTION_HANDLERS.put(ItemPool.SHAKER, UseItemRequest::consumeShaker);
+    CONSUMPTION_HANDLERS.put(ItemPool.COCKTAIL_KIT, UseItemRequest::consumeCocktailKit);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CLOCKWORK_BARTENDER, UseItemRequest::consumeClockworkBartender);
+    CONSUMPTION_HANDLERS.put(ItemPool.BARTENDER, UseItemRequest::consumeBartender);
+    CONSUMPTION_HANDLERS.put(ItemPool.SUSHI_ROLLING_MAT, UseItemRequest::consumeSushiRollingMat);
+    CONSUMPTION_HANDLERS.put(ItemPool.SNOWCONE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.STICKER_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SUGAR_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CLIP_ART_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.RAD_LIB_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SMITH_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HILARIOUS_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TASTEFUL_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CARD_GAME_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.GEEKY_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CONFISCATOR_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CANDY_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DIVINE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOVE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DICE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.RESOLUTION_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.JEWELRY_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.RAINBOWS_GRAVITY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.RAGE_GLAND, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.KISSIN_COUSINS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TALES_FROM_THE_FIRESIDE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.BLIZZARDS_I_HAVE_DIED_IN, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MAXING_RELAXING, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.BIDDY_CRACKERS_COOKBOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TRAVELS_WITH_JERRY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.LET_ME_BE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ASLEEP_IN_THE_CEMETERY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SUMMER_NIGHTS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SENSUAL_MASSAGE_FOR_CREEPS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.RICHIE_THINGFINDER, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MEDLEY_OF_DIVERSITY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.EXPLOSIVE_ETUDE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CHORALE_OF_COMPANIONSHIP, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.PRELUDE_OF_PRECISION, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HODGMAN_JOURNAL_1, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HODGMAN_JOURNAL_2, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HODGMAN_JOURNAL_3, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HODGMAN_JOURNAL_4, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V1, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V1_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V2, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V2_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V3, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V3_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V4, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V4_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V5, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V5_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V6, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CAROL_V6_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CANDY_COOKBOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SLAPFIGHTING_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SLAPFIGHTING_BOOK_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.UNCLE_ROMULUS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.UNCLE_ROMULUS_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SNAKE_CHARMING_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SNAKE_CHARMING_BOOK_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ZU_MANNKASE_DIENEN, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ZU_MANNKASE_DIENEN_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DYNAMITE_SUPERMAN_JONES, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.DYNAMITE_SUPERMAN_JONES_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.INIGO_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.INIGO_BOOK_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLACK_HYMNAL, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ELLSBURY_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ELLSBURY_BOOK_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.UNEARTHED_METEOROID, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.KANSAS_TOYMAKER, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.KANSAS_TOYMAKER_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.WASSAILING_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.WASSAILING_BOOK_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_1, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_1_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_2, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_2_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_3, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_3_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_4, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_4_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_5, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBCO_MANUAL_5_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SKELETON_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SKELETON_BOOK_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.NECBRONOMICON, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.NECBRONOMICON_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.PLANT_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.GHOST_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TATTLE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.NOTE_FROM_CLANCY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.GRUDGE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.JERK_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HJODOR_GUIDE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HJODOR_GUIDE_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.INFURIATING_SILENCE_RECORD, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.INFURIATING_SILENCE_RECORD_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TRANQUIL_SILENCE_RECORD, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.TRANQUIL_SILENCE_RECORD_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MENACING_SILENCE_RECORD, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MENACING_SILENCE_RECORD_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.WALBERG_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.OCELOT_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DRESCHER_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DECODED_CULT_DOCUMENTS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WARBEAR_METALWORKING_PRIMER, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WARBEAR_METALWORKING_PRIMER_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.WARBEAR_EMPATHY_CHIP, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WARBEAR_EMPATHY_CHIP_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.OFFENSIVE_JOKE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.COOKING_WITH_GREASE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DINER_HANDBOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALIEN_SOURCE_CODE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALIEN_SOURCE_CODE_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLACK_BARTS_BOOTY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HYPERSANE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.INTIMIDATING_MIEN_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HOLIDAY_FUN_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ROM_RAPID_PROTOTYPING, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROM_RAPID_PROTOTYPING_DIRTY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROM_MATHMATICAL_PRECISION, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROM_MATHMATICAL_PRECISION_DIRTY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ROM_RUTHLESS_EFFICIENCY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROM_RUTHLESS_EFFICIENCY_DIRTY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ANTAGONISTIC_SNOWMAN_KIT, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPELUNKER_FORTUNE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPELUNKER_FORTUNE_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DINSEY_GUIDE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TRASH_MEMOIR_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.DINSEY_MAINTENANCE_MANUAL, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DINSEY_AN_AFTERLIFE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MAP_TO_KOKOMO, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ESSENCE_OF_BEAR, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MANUAL_OF_NUMBEROLOGY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.LAVA_MINERS_DAUGHTER, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.PSYCHO_FROM_THE_HEAT, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.THE_FIREGATE_TAPES, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.COLD_WEATHER_BARTENDER_GUIDE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TO_BUILD_AN_IGLOO, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHILL_OF_THE_WILD, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.COLD_FANG, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SCROLL_SHATTERING_PUNCH, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SCROLL_SNOKEBOMB, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SCROLL_SHIVERING_MONKEY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ROM_OF_OPTIMALITY, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WESTERN_BOOK_BRAGGADOCCIO, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.WESTERN_BOOK_HELL, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.WESTERN_BOOK_LOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.TROUT_FISHING_IN_LOATHING, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.COMMUNISM_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.COMMUNISM_BOOK_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRAIN_TRAINER_GAME, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.LASER_EYE_SURGERY_KIT, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MY_LIFE_OF_CRIME_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.POP_ART_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.NO_HATS_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.VIGILANTE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.LUMP_STACKING_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.RETHINKING_CANDY_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ELDRITCH_TINCTURE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ELDRITCH_TINCTURE_DEPLETED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPACE_PIRATE_ASTROGATION_HANDBOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.NON_EUCLIDEAN_FINANCE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.PEEK_A_BOO, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CELSIUS_233, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CELSIUS_233_SINGED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_1, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_1_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_2, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_2_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_3, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_3_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_4, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_4_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_5, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_5_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_6, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIME_SCIENCE_VOL_6_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.GET_BIG_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.GALAPAGOS_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.FUTURE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOVE_POTION_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.RHINESTONE_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOVE_SONG_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.CONTRACTOR_MANUAL, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.PARTY_PLANNING_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.DRINKING_TO_DRINK_BOOK, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.GUIDE_TO_SAFARI, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MY_FIRST_ART_OF_WAR, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.ISLAND_DRINKIN, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SCURVY_AND_SOBRIETY_PREVENTION, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.THE_IMPLODED_WORLD, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.THE_SPIRIT_OF_GIVING, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.MANUAL_OF_LOCK_PICKING, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPINAL_FLUID_COVERED_EMOTION_CHIP, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.REPLICA_EMOTION_CHIP, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MANUAL_OF_SECRET_DOOR_AWARENESS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.POCKET_GUIDE_TO_MILD_EVIL, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.POCKET_GUIDE_TO_MILD_EVIL_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.RESIDUAL_CHITIN_PASTE, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ELF_GUARD_FIELD_MANUAL_CULINARY_ARTS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.COCKTAILS_OF_THE_AGE_OF_SAIL, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ELF_GUARD_FIELD_MANUAL_EXTORTION, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.THE_ENCYCLOPEDIA_OF_FRUIT, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ELF_GUARD_FIELD_MANUAL_WILDERNESS_SLEEPING, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ELF_GUARD_FIELD_MANUAL_CULINARY_ARTS_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.COCKTAILS_OF_THE_AGE_OF_SAIL_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ELF_GUARD_FIELD_MANUAL_EXTORTION_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.THE_ENCYCLOPEDIA_OF_FRUIT_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ELF_GUARD_FIELD_MANUAL_WILDERNESS_SLEEPING_USED,
+        UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOOK_OF_FACTS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOOK_OF_FACTS_DOG_EARED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TOO_COLD_TO_HOLD, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.TOO_COLD_TO_HOLD_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SECRETS_OF_THE_MASTER_EGG_HUNTERS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SECRETS_OF_THE_MASTER_EGG_HUNTERS_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOW_TO_LOSE_FRIENDS_AND_ATTRACT_SNAKES, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOW_TO_LOSE_FRIENDS_AND_ATTRACT_SNAKES_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.COVERT_OPS_FOR_KIDS, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.COVERT_OPS_FOR_KIDS_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.HOLIDAY_MULTITASKING, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOLIDAY_MULTITASKING_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOYLES_GUIDE_TO_REINDEER_GAMES, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOYLES_GUIDE_TO_REINDEER_GAMES_USED, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.SLEEP_ROM_CHIP, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.OVERCLOCK_ROM_CHIP, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.STATS_ROM_CHIP, UseItemRequest::consumeSnowconeBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.WESTERN_SLANG_VOL_1, UseItemRequest::consumeWesternSlangVol1);
+    CONSUMPTION_HANDLERS.put(ItemPool.WESTERN_SLANG_VOL_2, UseItemRequest::consumeWesternSlangVol1);
+    CONSUMPTION_HANDLERS.put(ItemPool.WESTERN_SLANG_VOL_3, UseItemRequest::consumeWesternSlangVol1);
+    CONSUMPTION_HANDLERS.put(ItemPool.GREEN_THUMB, UseItemRequest::consumeGreenThumb);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_GREEN_THUMB, UseItemRequest::consumeReplicaGreenThumb);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHATEAU_ROOM_KEY, UseItemRequest::consumeChateauRoomKey);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_CHATEAU_ROOM_KEY, UseItemRequest::consumeReplicaChateauRoomKey);
+    CONSUMPTION_HANDLERS.put(ItemPool.GINGERBREAD_CITY, UseItemRequest::consumeGingerbreadCity);
+    CONSUMPTION_HANDLERS.put(ItemPool.COUNTERFEIT_CITY, UseItemRequest::consumeCounterfeitCity);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.TELEGRAPH_OFFICE_DEED, UseItemRequest::consumeTelegraphOfficeDeed);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.INFLATABLE_TELEGRAPH_OFFICE, UseItemRequest::consumeInflatableTelegraphOffice);
+    CONSUMPTION_HANDLERS.put(ItemPool.HEART_SHAPED_CRATE, UseItemRequest::consumeHeartShapedCrate);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOVE_ENTRANCE_PASS, UseItemRequest::consumeLoveEntrancePass);
+    CONSUMPTION_HANDLERS.put(ItemPool.BEAUTIFUL_RAINBOW, UseItemRequest::consumeBeautifulRainbow);
+    CONSUMPTION_HANDLERS.put(ItemPool.THUNDER_THIGH, UseItemRequest::consumeThunderThigh);
+    CONSUMPTION_HANDLERS.put(ItemPool.AQUA_BRAIN, UseItemRequest::consumeThunderThigh);
+    CONSUMPTION_HANDLERS.put(ItemPool.LIGHTNING_MILK, UseItemRequest::consumeThunderThigh);
+    CONSUMPTION_HANDLERS.put(ItemPool.OLFACTION_BOOK, UseItemRequest::consumeOlfactionBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.TEACHINGS_OF_THE_FIST, UseItemRequest::consumeTeachingsOfTheFist);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.BOOKE_OF_VAMPYRIC_KNOWLEDGE, UseItemRequest::consumeBookeOfVampyricKnowledge);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SLIME_SOAKED_HYPOPHYSIS, UseItemRequest::consumeSlimeSoakedHypophysis);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SLIME_SOAKED_BRAIN, UseItemRequest::consumeSlimeSoakedHypophysis);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SLIME_SOAKED_SWEAT_GLAND, UseItemRequest::consumeSlimeSoakedHypophysis);
+    CONSUMPTION_HANDLERS.put(ItemPool.TELESCOPE, UseItemRequest::consumeTelescope);
+    CONSUMPTION_HANDLERS.put(ItemPool.ASTRAL_MUSHROOM, UseItemRequest::consumeAstralMushroom);
+    CONSUMPTION_HANDLERS.put(ItemPool.WORKYTIME_TEA, UseItemRequest::consumeWorkytimeTea);
+    CONSUMPTION_HANDLERS.put(ItemPool.ABSINTHE, UseItemRequest::consumeAbsinthe);
+    CONSUMPTION_HANDLERS.put(ItemPool.DUSTY_ANIMAL_SKULL, UseItemRequest::consumeDustyAnimalSkull);
+    CONSUMPTION_HANDLERS.put(ItemPool.DRUM_MACHINE, UseItemRequest::consumeDrumMachine);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CURSED_PIECE_OF_THIRTEEN, UseItemRequest::consumeCursedPieceOfThirteen);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPOOKY_PUTTY_MONSTER, UseItemRequest::consumeSpookyPuttyMonster);
+    CONSUMPTION_HANDLERS.put(ItemPool.D10, UseItemRequest::consumeD10);
+    CONSUMPTION_HANDLERS.put(ItemPool.D12, UseItemRequest::consumeD12);
+    CONSUMPTION_HANDLERS.put(ItemPool.D20, UseItemRequest::consumeD20);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_OOZE, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_BAT, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_OYSTER, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_TURTLE, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_ELEPHANT, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_OCTOPUS, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_PYTHON, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_VACUUM_CLEANER, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_AIRSHIP, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_CATHEDRAL, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_CHICKEN, UseItemRequest::consumeBrickoOoze);
+    CONSUMPTION_HANDLERS.put(ItemPool.RECORDING_BALLAD, UseItemRequest::consumeRecordingBallad);
+    CONSUMPTION_HANDLERS.put(ItemPool.RECORDING_BENETTON, UseItemRequest::consumeRecordingBallad);
+    CONSUMPTION_HANDLERS.put(ItemPool.RECORDING_CHORALE, UseItemRequest::consumeRecordingBallad);
+    CONSUMPTION_HANDLERS.put(ItemPool.RECORDING_DONHO, UseItemRequest::consumeRecordingBallad);
+    CONSUMPTION_HANDLERS.put(ItemPool.RECORDING_ELRON, UseItemRequest::consumeRecordingBallad);
+    CONSUMPTION_HANDLERS.put(ItemPool.RECORDING_INIGO, UseItemRequest::consumeRecordingBallad);
+    CONSUMPTION_HANDLERS.put(ItemPool.RECORDING_PRELUDE, UseItemRequest::consumeRecordingBallad);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FOSSILIZED_BAT_SKULL, UseItemRequest::consumeFossilizedBatSkull);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FOSSILIZED_SERPENT_SKULL, UseItemRequest::consumeFossilizedBatSkull);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FOSSILIZED_BABOON_SKULL, UseItemRequest::consumeFossilizedBatSkull);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FOSSILIZED_WYRM_SKULL, UseItemRequest::consumeFossilizedBatSkull);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FOSSILIZED_DEMON_SKULL, UseItemRequest::consumeFossilizedBatSkull);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FOSSILIZED_SPIDER_SKULL, UseItemRequest::consumeFossilizedBatSkull);
+    CONSUMPTION_HANDLERS.put(ItemPool.ICE_SCULPTURE, UseItemRequest::consumeIceSculpture);
+    CONSUMPTION_HANDLERS.put(ItemPool.SHAKING_CAMERA, UseItemRequest::consumeShakingCamera);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SHAKING_CRAPPY_CAMERA, UseItemRequest::consumeShakingCrappyCamera);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PHOTOCOPIED_MONSTER, UseItemRequest::consumePhotocopiedMonster);
+    CONSUMPTION_HANDLERS.put(ItemPool.PHOTOCOPIER, UseItemRequest::consumePhotocopier);
+    CONSUMPTION_HANDLERS.put(ItemPool.BGE_TATTOO, UseItemRequest::consumeBgeTattoo);
+    CONSUMPTION_HANDLERS.put(ItemPool.DOLPHIN_WHISTLE, UseItemRequest::consumeDolphinWhistle);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.RUSTY_HEDGE_TRIMMERS, UseItemRequest::consumeRustyHedgeTrimmers);
+    CONSUMPTION_HANDLERS.put(ItemPool.LYNYRD_SNARE, UseItemRequest::consumeLynyrdSnare);
+    CONSUMPTION_HANDLERS.put(ItemPool.MOJO_FILTER, UseItemRequest::consumeMojoFilter);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPICE_MELANGE, UseItemRequest::consumeSpiceMelange);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ULTRA_MEGA_SOUR_BALL, UseItemRequest::consumeUltraMegaSourBall);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALIEN_ANIMAL_MILK, UseItemRequest::consumeAlienAnimalMilk);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALIEN_PLANT_POD, UseItemRequest::consumeAlienPlantPod);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SYNTHETIC_DOG_HAIR_PILL, UseItemRequest::consumeSyntheticDogHairPill);
+    CONSUMPTION_HANDLERS.put(ItemPool.DISTENTION_PILL, UseItemRequest::consumeDistentionPill);
+    CONSUMPTION_HANDLERS.put(ItemPool.MILK_OF_MAGNESIUM, UseItemRequest::consumeMilkOfMagnesium);
+    CONSUMPTION_HANDLERS.put(ItemPool.NEWBIESPORT_TENT, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.BARSKIN_TENT, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.COTTAGE, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRICKO_PYRAMID, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.HOUSE, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.SANDCASTLE, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.TWIG_HOUSE, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.GINGERBREAD_HOUSE, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.HOBO_FORTRESS, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIANT_FARADAY_CAGE, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.SNOW_FORT, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.ELEVENT, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.RESIDENCE_CUBE, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.GIANT_PILGRIM_HAT, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.HOUSE_SIZED_MUSHROOM, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.MINI_KIWI_TIPI, UseItemRequest::consumeNewbiesportTent);
+    CONSUMPTION_HANDLERS.put(ItemPool.SCARECROW, UseItemRequest::consumeScarecrow);
+    CONSUMPTION_HANDLERS.put(ItemPool.MEAT_GOLEM, UseItemRequest::consumeScarecrow);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLACK_BLUE_LIGHT, UseItemRequest::consumeScarecrow);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOUDMOUTH_LARRY, UseItemRequest::consumeScarecrow);
+    CONSUMPTION_HANDLERS.put(ItemPool.PLASMA_BALL, UseItemRequest::consumeScarecrow);
+    CONSUMPTION_HANDLERS.put(ItemPool.LED_CLOCK, UseItemRequest::consumeScarecrow);
+    CONSUMPTION_HANDLERS.put(ItemPool.BONSAI_TREE, UseItemRequest::consumeScarecrow);
+    CONSUMPTION_HANDLERS.put(ItemPool.MEAT_GLOBE, UseItemRequest::consumeScarecrow);
+    CONSUMPTION_HANDLERS.put(ItemPool.MAID, UseItemRequest::consumeMaid);
+    CONSUMPTION_HANDLERS.put(ItemPool.MEAT_BUTLER, UseItemRequest::consumeMaid);
+    CONSUMPTION_HANDLERS.put(ItemPool.CLOCKWORK_MAID, UseItemRequest::consumeMaid);
+    CONSUMPTION_HANDLERS.put(ItemPool.PORTABLE_HOUSEKEEPING_ROBOT, UseItemRequest::consumeMaid);
+    CONSUMPTION_HANDLERS.put(ItemPool.MILKY_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.SWIRLY_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.BUBBLY_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.SMOKY_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.CLOUDY_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.EFFERVESCENT_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.FIZZY_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.DARK_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.MURKY_POTION, UseItemRequest::consumeMilkyPotion);
+    CONSUMPTION_HANDLERS.put(ItemPool.VIAL_OF_RED_SLIME, UseItemRequest::consumeVialOfRedSlime);
+    CONSUMPTION_HANDLERS.put(ItemPool.VIAL_OF_YELLOW_SLIME, UseItemRequest::consumeVialOfRedSlime);
+    CONSUMPTION_HANDLERS.put(ItemPool.VIAL_OF_BLUE_SLIME, UseItemRequest::consumeVialOfRedSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_ORANGE_SLIME, UseItemRequest::consumeVialOfOrangeSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_GREEN_SLIME, UseItemRequest::consumeVialOfOrangeSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_VIOLET_SLIME, UseItemRequest::consumeVialOfOrangeSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_VERMILION_SLIME, UseItemRequest::consumeVialOfVermilionSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_AMBER_SLIME, UseItemRequest::consumeVialOfVermilionSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_CHARTREUSE_SLIME, UseItemRequest::consumeVialOfVermilionSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_TEAL_SLIME, UseItemRequest::consumeVialOfVermilionSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_INDIGO_SLIME, UseItemRequest::consumeVialOfVermilionSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VIAL_OF_PURPLE_SLIME, UseItemRequest::consumeVialOfVermilionSlime);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ANCIENT_CURSED_FOOTLOCKER, UseItemRequest::consumeAncientCursedFootlocker);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ORNATE_CURSED_CHEST, UseItemRequest::consumeOrnateCursedChest);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.GILDED_CURSED_CHEST, UseItemRequest::consumeGildedCursedChest);
+    CONSUMPTION_HANDLERS.put(ItemPool.STUFFED_CHEST, UseItemRequest::consumeStuffedChest);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.GENERAL_ASSEMBLY_MODULE, UseItemRequest::consumeGeneralAssemblyModule);
+    CONSUMPTION_HANDLERS.put(ItemPool.AUGMENTED_DRONE, UseItemRequest::consumeAugmentedDrone);
+    CONSUMPTION_HANDLERS.put(ItemPool.NEVERENDING_SODA, UseItemRequest::consumeNeverendingSoda);
+    CONSUMPTION_HANDLERS.put(ItemPool.EL_VIBRATO_HELMET, UseItemRequest::consumeElVibratoHelmet);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUNCHCARD_ATTACK, UseItemRequest::consumePunchcardAttack);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUNCHCARD_REPAIR, UseItemRequest::consumePunchcardAttack);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUNCHCARD_BUFF, UseItemRequest::consumePunchcardAttack);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUNCHCARD_MODIFY, UseItemRequest::consumePunchcardAttack);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUNCHCARD_BUILD, UseItemRequest::consumePunchcardAttack);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.OUTRAGEOUS_SOMBRERO, UseItemRequest::consumeOutrageousSombrero);
+    CONSUMPTION_HANDLERS.put(ItemPool.TRAPEZOID, UseItemRequest::consumeTrapezoid);
+    CONSUMPTION_HANDLERS.put(ItemPool.GRUB, UseItemRequest::consumeGrub);
+    CONSUMPTION_HANDLERS.put(ItemPool.MOTH, UseItemRequest::consumeGrub);
+    CONSUMPTION_HANDLERS.put(ItemPool.FIRE_ANT, UseItemRequest::consumeGrub);
+    CONSUMPTION_HANDLERS.put(ItemPool.ICE_ANT, UseItemRequest::consumeGrub);
+    CONSUMPTION_HANDLERS.put(ItemPool.STINKBUG, UseItemRequest::consumeGrub);
+    CONSUMPTION_HANDLERS.put(ItemPool.DEATH_WATCH_BEETLE, UseItemRequest::consumeGrub);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOUSE, UseItemRequest::consumeGrub);
+    CONSUMPTION_HANDLERS.put(ItemPool.PERSONAL_MASSAGER, UseItemRequest::consumePersonalMassager);
+    CONSUMPTION_HANDLERS.put(ItemPool.BURROWGRUB_HIVE, UseItemRequest::consumeBurrowgrubHive);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOOZEHOUND_TOKEN, UseItemRequest::consumeBoozehoundToken);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SMALL_LAMINATED_CARD, UseItemRequest::consumeSmallLaminatedCard);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LITTLE_LAMINATED_CARD, UseItemRequest::consumeSmallLaminatedCard);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.NOTBIG_LAMINATED_CARD, UseItemRequest::consumeSmallLaminatedCard);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.UNLARGE_LAMINATED_CARD, UseItemRequest::consumeSmallLaminatedCard);
+    CONSUMPTION_HANDLERS.put(ItemPool.DWARVISH_DOCUMENT, UseItemRequest::consumeDwarvishDocument);
+    CONSUMPTION_HANDLERS.put(ItemPool.DWARVISH_PAPER, UseItemRequest::consumeDwarvishDocument);
+    CONSUMPTION_HANDLERS.put(ItemPool.DWARVISH_PARCHMENT, UseItemRequest::consumeDwarvishDocument);
+    CONSUMPTION_HANDLERS.put(ItemPool.WRETCHED_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.CUTE_BABY_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.ARMORED_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.ANCIENT_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.SLEEK_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.SHADOWY_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.STINKING_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHARRED_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.COLD_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.SLIPPERY_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.DEPLETED_URANIUM_SEAL, UseItemRequest::consumeWretchedSeal);
+    CONSUMPTION_HANDLERS.put(ItemPool.SEAL_IRON_INGOT, UseItemRequest::consumeSealIronIngot);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SINISTER_ANCIENT_TABLET, UseItemRequest::consumeSinisterAncientTablet);
+    CONSUMPTION_HANDLERS.put(ItemPool.BAG_O_TRICKS, UseItemRequest::consumeBagOTricks);
+    CONSUMPTION_HANDLERS.put(ItemPool.EVILOMETER, UseItemRequest::consumeEvilometer);
+    CONSUMPTION_HANDLERS.put(ItemPool.EVIL_EYE, UseItemRequest::consumeEvilEye);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.QUASIRELGIOUS_SCULPTURE, UseItemRequest::consumeQuasirelgiousSculpture);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOLID_GOLD_ROSARY, UseItemRequest::consumeQuasirelgiousSculpture);
+    CONSUMPTION_HANDLERS.put(ItemPool.KEYOTRON, UseItemRequest::consumeKeyotron);
+    CONSUMPTION_HANDLERS.put(ItemPool.JUICY_GARBAGE, UseItemRequest::consumeJuicyGarbage);
+    CONSUMPTION_HANDLERS.put(ItemPool.PEN_PAL_KIT, UseItemRequest::consumePenPalKit);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.NEW_YOU_CLUB_MEMBERSHIP_FORM, UseItemRequest::consumeNewYouClubMembershipForm);
+    CONSUMPTION_HANDLERS.put(ItemPool.HONEYPOT, UseItemRequest::consumeHoneypot);
+    CONSUMPTION_HANDLERS.put(ItemPool.RONALD_SHELTER_MAP, UseItemRequest::consumeRonaldShelterMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.GRIMACE_SHELTER_MAP, UseItemRequest::consumeRonaldShelterMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.BORROWED_TIME, UseItemRequest::consumeBorrowedTime);
+    CONSUMPTION_HANDLERS.put(ItemPool.MOVEABLE_FEAST, UseItemRequest::consumeMoveableFeast);
+    CONSUMPTION_HANDLERS.put(ItemPool.STAFF_GUIDE, UseItemRequest::consumeStaffGuide);
+    CONSUMPTION_HANDLERS.put(ItemPool.GHOSTLY_BODY_PAINT, UseItemRequest::consumeGhostlyBodyPaint);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.NECROTIZING_BODY_SPRAY, UseItemRequest::consumeGhostlyBodyPaint);
+    CONSUMPTION_HANDLERS.put(ItemPool.BITE_LIPSTICK, UseItemRequest::consumeGhostlyBodyPaint);
+    CONSUMPTION_HANDLERS.put(ItemPool.WHISKER_PENCIL, UseItemRequest::consumeGhostlyBodyPaint);
+    CONSUMPTION_HANDLERS.put(ItemPool.PRESS_ON_RIBS, UseItemRequest::consumeGhostlyBodyPaint);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLACK_PAINT, UseItemRequest::consumeBlackPaint);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALL_YEAR_SUCKER, UseItemRequest::consumeAllYearSucker);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.DARK_CHOCOLATE_HEART, UseItemRequest::consumeDarkChocolateHeart);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.JACKASS_PLUMBER_GAME, UseItemRequest::consumeJackassPlumberGame);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.TRIVIAL_AVOCATIONS_GAME, UseItemRequest::consumeTrivialAvocationsGame);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.RESOLUTION_ADVENTUROUS, UseItemRequest::consumeResolutionAdventurous);
+    CONSUMPTION_HANDLERS.put(ItemPool.CLANCY_SACKBUT, UseItemRequest::consumeClancySackbut);
+    CONSUMPTION_HANDLERS.put(ItemPool.CLANCY_CRUMHORN, UseItemRequest::consumeClancyCrumhorn);
+    CONSUMPTION_HANDLERS.put(ItemPool.CLANCY_LUTE, UseItemRequest::consumeClancyLute);
+    CONSUMPTION_HANDLERS.put(ItemPool.PEPPERMINT_PACKET, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUMPKIN_SEEDS, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.DRAGON_TEETH, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.BEER_SEEDS, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.WINTER_SEEDS, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.THANKSGARDEN_SEEDS, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.TALL_GRASS_SEEDS, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.MUSHROOM_SPORES, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.ROCK_SEEDS, UseItemRequest::consumePeppermintPacket);
+    CONSUMPTION_HANDLERS.put(ItemPool.ESSENTIAL_TOFU, UseItemRequest::consumeEssentialTofu);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHOCOLATE_CIGAR, UseItemRequest::consumeChocolateCigar);
+    CONSUMPTION_HANDLERS.put(ItemPool.VITACHOC_CAPSULE, UseItemRequest::consumeVitachocCapsule);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CHOCOLATE_SCULPTURE, UseItemRequest::consumeChocolateSculpture);
+    CONSUMPTION_HANDLERS.put(ItemPool.FANCY_CHOCOLATE, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.FANCY_EVIL_CHOCOLATE, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.FANCY_CHOCOLATE_CAR, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CHOCOLATE_SEAL_CLUBBING_CLUB, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CHOCOLATE_TURTLE_TOTEM, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHOCOLATE_PASTA_SPOON, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHOCOLATE_SAUCEPAN, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHOCOLATE_DISCO_BALL, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CHOCOLATE_STOLEN_ACCORDION, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.BEET_MEDIOCREBAR, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.CORN_MEDIOCREBAR, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.CABBAGE_MEDIOCREBAR, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHOCO_CRIMBOT, UseItemRequest::consumeFancyChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOVE_CHOCOLATE, UseItemRequest::consumeLoveChocolate);
+    CONSUMPTION_HANDLERS.put(ItemPool.EXTRA_TIME, UseItemRequest::consumeExtraTime);
+    CONSUMPTION_HANDLERS.put(ItemPool.CREEPY_VOODOO_DOLL, UseItemRequest::consumeCreepyVoodooDoll);
+    CONSUMPTION_HANDLERS.put(ItemPool.HOBBY_HORSE, UseItemRequest::consumeHobbyHorse);
+    CONSUMPTION_HANDLERS.put(ItemPool.BALL_IN_A_CUP, UseItemRequest::consumeBallInACup);
+    CONSUMPTION_HANDLERS.put(ItemPool.SET_OF_JACKS, UseItemRequest::consumeSetOfJacks);
+    CONSUMPTION_HANDLERS.put(ItemPool.BAG_OF_CANDY, UseItemRequest::consumeBagOfCandy);
+    CONSUMPTION_HANDLERS.put(ItemPool.EMBLEM_AKGYXOTH, UseItemRequest::consumeEmblemAkgyxoth);
+    CONSUMPTION_HANDLERS.put(ItemPool.IDOL_AKGYXOTH, UseItemRequest::consumeEmblemAkgyxoth);
+    CONSUMPTION_HANDLERS.put(ItemPool.GNOLL_EYE, UseItemRequest::consumeGnollEye);
+    CONSUMPTION_HANDLERS.put(ItemPool.KOL_CON_SIX_PACK, UseItemRequest::consumeKolConSixPack);
+    CONSUMPTION_HANDLERS.put(ItemPool.MUS_MANUAL, UseItemRequest::consumeMusManual);
+    CONSUMPTION_HANDLERS.put(ItemPool.MYS_MANUAL, UseItemRequest::consumeMusManual);
+    CONSUMPTION_HANDLERS.put(ItemPool.MOX_MANUAL, UseItemRequest::consumeMusManual);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.STUFFED_POCKETWATCH, UseItemRequest::consumeStuffedPocketwatch);
+    CONSUMPTION_HANDLERS.put(ItemPool.STYX_SPRAY, UseItemRequest::consumeStyxSpray);
+    CONSUMPTION_HANDLERS.put(ItemPool.STABONIC_SCROLL, UseItemRequest::consumeStabonicScroll);
+    CONSUMPTION_HANDLERS.put(ItemPool.COAL_PAPERWEIGHT, UseItemRequest::consumeCoalPaperweight);
+    CONSUMPTION_HANDLERS.put(ItemPool.JINGLE_BELL, UseItemRequest::consumeJingleBell);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOX_OF_HAMMERS, UseItemRequest::consumeBoxOfHammers);
+    CONSUMPTION_HANDLERS.put(ItemPool.TEMPURA_AIR, UseItemRequest::consumeTempuraAir);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PRESSURIZED_PNEUMATICITY, UseItemRequest::consumePressurizedPneumaticity);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HYPERINFLATED_SEAL_LUNG, UseItemRequest::consumeHyperinflatedSealLung);
+    CONSUMPTION_HANDLERS.put(ItemPool.BALLAST_TURTLE, UseItemRequest::consumeBallastTurtle);
+    CONSUMPTION_HANDLERS.put(ItemPool.LEFT_BEAR_ARM, UseItemRequest::consumeLeftBearArm);
+    CONSUMPTION_HANDLERS.put(ItemPool.CURSED_KEG, UseItemRequest::consumeCursedKeg);
+    CONSUMPTION_HANDLERS.put(ItemPool.CURSED_MICROWAVE, UseItemRequest::consumeCursedMicrowave);
+    CONSUMPTION_HANDLERS.put(ItemPool.TACO_FLIER, UseItemRequest::consumeTacoFlier);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_CREEPY_HEAD, UseItemRequest::consumeCrimboCreepyHead);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CRIMBO_STOGIE_ODORIZER, UseItemRequest::consumeCrimboCreepyHead);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_HOT_MUG, UseItemRequest::consumeCrimboCreepyHead);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_TREE_FLOCKER, UseItemRequest::consumeCrimboCreepyHead);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBO_RUDOLPH_DOLL, UseItemRequest::consumeCrimboCreepyHead);
+    CONSUMPTION_HANDLERS.put(ItemPool.SUSPICIOUS_JAR, UseItemRequest::consumeSuspiciousJar);
+    CONSUMPTION_HANDLERS.put(ItemPool.GOURD_JAR, UseItemRequest::consumeSuspiciousJar);
+    CONSUMPTION_HANDLERS.put(ItemPool.MYSTIC_JAR, UseItemRequest::consumeSuspiciousJar);
+    CONSUMPTION_HANDLERS.put(ItemPool.OLD_MAN_JAR, UseItemRequest::consumeSuspiciousJar);
+    CONSUMPTION_HANDLERS.put(ItemPool.ARTIST_JAR, UseItemRequest::consumeSuspiciousJar);
+    CONSUMPTION_HANDLERS.put(ItemPool.MEATSMITH_JAR, UseItemRequest::consumeSuspiciousJar);
+    CONSUMPTION_HANDLERS.put(ItemPool.JICK_JAR, UseItemRequest::consumeSuspiciousJar);
+    CONSUMPTION_HANDLERS.put(ItemPool.FISHY_PIPE, UseItemRequest::consumeFishyPipe);
+    CONSUMPTION_HANDLERS.put(ItemPool.SONAR, UseItemRequest::consumeSonar);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPRING_BEACH_CHARTER, UseItemRequest::consumeSpringBeachCharter);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPRING_BEACH_TICKET, UseItemRequest::consumeSpringBeachTicket);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPRING_BEACH_TATTOO_COUPON, UseItemRequest::consumeSpringBeachTattooCoupon);
+    CONSUMPTION_HANDLERS.put(ItemPool.ANTI_FUNGAL_SPRAY, UseItemRequest::consumeAntiFungalSpray);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CONSPIRACY_ISLAND_CHARTER, UseItemRequest::consumeConspiracyIslandCharter);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CONSPIRACY_ISLAND_TICKET, UseItemRequest::consumeConspiracyIslandTicket);
+    CONSUMPTION_HANDLERS.put(ItemPool.SHAWARMA_KEYCARD, UseItemRequest::consumeShawarmaKeycard);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.BOTTLE_OPENER_KEYCARD, UseItemRequest::consumeBottleOpenerKeycard);
+    CONSUMPTION_HANDLERS.put(ItemPool.ARMORY_KEYCARD, UseItemRequest::consumeArmoryKeycard);
+    CONSUMPTION_HANDLERS.put(ItemPool.DINSEY_CHARTER, UseItemRequest::consumeDinseyCharter);
+    CONSUMPTION_HANDLERS.put(ItemPool.DINSEY_TICKET, UseItemRequest::consumeDinseyTicket);
+    CONSUMPTION_HANDLERS.put(ItemPool.VOLCANO_CHARTER, UseItemRequest::consumeVolcanoCharter);
+    CONSUMPTION_HANDLERS.put(ItemPool.VOLCANO_TICKET, UseItemRequest::consumeVolcanoTicket);
+    CONSUMPTION_HANDLERS.put(ItemPool.GLACIEST_CHARTER, UseItemRequest::consumeGlaciestCharter);
+    CONSUMPTION_HANDLERS.put(ItemPool.GLACIEST_TICKET, UseItemRequest::consumeGlaciestTicket);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOVEBUG_PHEROMONES, UseItemRequest::consumeLovebugPheromones);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPOOKYRAVEN_TELEGRAM, UseItemRequest::consumeSpookyravenTelegram);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PILE_OF_USELESS_ROBOT_PARTS, UseItemRequest::consumePileOfUselessRobotParts);
+    CONSUMPTION_HANDLERS.put(ItemPool.MERKIN_WORDQUIZ, UseItemRequest::consumeMerkinWordquiz);
+    CONSUMPTION_HANDLERS.put(ItemPool.DREADSCROLL, UseItemRequest::consumeDreadscroll);
+    CONSUMPTION_HANDLERS.put(ItemPool.MERKIN_TRAILMAP, UseItemRequest::consumeMerkinTrailmap);
+    CONSUMPTION_HANDLERS.put(ItemPool.MERKIN_STASHBOX, UseItemRequest::consumeMerkinStashbox);
+    CONSUMPTION_HANDLERS.put(ItemPool.MERKIN_KNUCKLEBONE, UseItemRequest::consumeMerkinKnucklebone);
+    CONSUMPTION_HANDLERS.put(ItemPool.DEFECTIVE_TOKEN, UseItemRequest::consumeDefectiveToken);
+    CONSUMPTION_HANDLERS.put(ItemPool.SILVER_DREAD_FLASK, UseItemRequest::consumeSilverDreadFlask);
+    CONSUMPTION_HANDLERS.put(ItemPool.BRASS_DREAD_FLASK, UseItemRequest::consumeBrassDreadFlask);
+    CONSUMPTION_HANDLERS.put(ItemPool.MARK_OF_THE_BUGBEAR, UseItemRequest::consumeMarkOfTheBugbear);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MARK_OF_THE_WEREWOLF, UseItemRequest::consumeMarkOfTheBugbear);
+    CONSUMPTION_HANDLERS.put(ItemPool.MARK_OF_THE_ZOMBIE, UseItemRequest::consumeMarkOfTheBugbear);
+    CONSUMPTION_HANDLERS.put(ItemPool.MARK_OF_THE_GHOST, UseItemRequest::consumeMarkOfTheBugbear);
+    CONSUMPTION_HANDLERS.put(ItemPool.MARK_OF_THE_VAMPIRE, UseItemRequest::consumeMarkOfTheBugbear);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MARK_OF_THE_SKELETON, UseItemRequest::consumeMarkOfTheBugbear);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.DREADSYLVANIAN_ALMANAC, UseItemRequest::consumeDreadsylvanianAlmanac);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOOK_OF_MATCHES, UseItemRequest::consumeBookOfMatches);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ETERNAL_CAR_BATTERY, UseItemRequest::consumeEternalCarBattery);
+    CONSUMPTION_HANDLERS.put(ItemPool.SKELETON, UseItemRequest::consumeSkeleton);
+    CONSUMPTION_HANDLERS.put(ItemPool.DESERT_PAMPHLET, UseItemRequest::consumeDesertPamphlet);
+    CONSUMPTION_HANDLERS.put(ItemPool.MODELING_CLAYMORE, UseItemRequest::consumeModelingClaymore);
+    CONSUMPTION_HANDLERS.put(ItemPool.STUFFING_FLUFFER, UseItemRequest::consumeStuffingFluffer);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLUE_LINT, UseItemRequest::consumeBlueLint);
+    CONSUMPTION_HANDLERS.put(ItemPool.GREEN_LINT, UseItemRequest::consumeBlueLint);
+    CONSUMPTION_HANDLERS.put(ItemPool.WHITE_LINT, UseItemRequest::consumeBlueLint);
+    CONSUMPTION_HANDLERS.put(ItemPool.ORANGE_LINT, UseItemRequest::consumeBlueLint);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPIRIT_PILLOW, UseItemRequest::consumeSpiritPillow);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPIRIT_SHEET, UseItemRequest::consumeSpiritPillow);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPIRIT_MATTRESS, UseItemRequest::consumeSpiritPillow);
+    CONSUMPTION_HANDLERS.put(ItemPool.SPIRIT_BLANKET, UseItemRequest::consumeSpiritPillow);
+    CONSUMPTION_HANDLERS.put(ItemPool.PASTA_ADDITIVE, UseItemRequest::consumePastaAdditive);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WARBEAR_BREAKFAST_MACHINE, UseItemRequest::consumeWarbearBreakfastMachine);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WARBEAR_SODA_MACHINE, UseItemRequest::consumeWarbearSodaMachine);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WARBEAR_GYROCOPTER_BROKEN, UseItemRequest::consumeWarbearGyrocopterBroken);
+    CONSUMPTION_HANDLERS.put(ItemPool.WARBEAR_BANK, UseItemRequest::consumeWarbearBank);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LUPINE_APPETITE_HORMONES, UseItemRequest::consumeLupineAppetiteHormones);
+    CONSUMPTION_HANDLERS.put(ItemPool.CORRUPTED_STARDUST, UseItemRequest::consumeCorruptedStardust);
+    CONSUMPTION_HANDLERS.put(ItemPool.PIXEL_ORB, UseItemRequest::consumePixelOrb);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.JARLSBERG_SOUL_FRAGMENT, UseItemRequest::consumeJarlsbergSoulFragment);
+    CONSUMPTION_HANDLERS.put(ItemPool.SNEAKY_PETE_SHOT, UseItemRequest::consumeSneakyPeteShot);
+    CONSUMPTION_HANDLERS.put(ItemPool.SESHAT_TALISMAN, UseItemRequest::consumeSeshatTalisman);
+    CONSUMPTION_HANDLERS.put(ItemPool.LAZENBY, UseItemRequest::consumeLazenby);
+    CONSUMPTION_HANDLERS.put(ItemPool.VAMPYRE_BLOOD, UseItemRequest::consumeVampyreBlood);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_TEN_DOLLARS, UseItemRequest::consumeReplicaTenDollars);
+    CONSUMPTION_HANDLERS.put(ItemPool.RESEARCH_FRAGMENT, UseItemRequest::consumeResearchFragment);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ESSENCE_OF_ANNOYANCE, UseItemRequest::consumeEssenceOfAnnoyance);
+    CONSUMPTION_HANDLERS.put(ItemPool.SWEET_TOOTH, UseItemRequest::consumeSweetTooth);
+    CONSUMPTION_HANDLERS.put(ItemPool.VORACI_TEA, UseItemRequest::consumeVoraciTea);
+    CONSUMPTION_HANDLERS.put(ItemPool.SOBRIE_TEA, UseItemRequest::consumeSobrieTea);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHRONER_TRIGGER, UseItemRequest::consumeChronerTrigger);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHRONER_CROSS, UseItemRequest::consumeChronerCross);
+    CONSUMPTION_HANDLERS.put(ItemPool.PALINDROME_BOOK_2, UseItemRequest::consumePalindromeBook2);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_FIST_1, UseItemRequest::consumeSteamFist1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_FIST_2, UseItemRequest::consumeSteamFist1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_FIST_3, UseItemRequest::consumeSteamFist1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_TRIP_1, UseItemRequest::consumeSteamTrip1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_TRIP_2, UseItemRequest::consumeSteamTrip1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_TRIP_3, UseItemRequest::consumeSteamTrip1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_METEOID_1, UseItemRequest::consumeSteamMeteoid1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_METEOID_2, UseItemRequest::consumeSteamMeteoid1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_METEOID_3, UseItemRequest::consumeSteamMeteoid1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_DEMON_1, UseItemRequest::consumeSteamDemon1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_DEMON_2, UseItemRequest::consumeSteamDemon1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_DEMON_3, UseItemRequest::consumeSteamDemon1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_PLUMBER_1, UseItemRequest::consumeSteamPlumber1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_PLUMBER_2, UseItemRequest::consumeSteamPlumber1);
+    CONSUMPTION_HANDLERS.put(ItemPool.STEAM_PLUMBER_3, UseItemRequest::consumeSteamPlumber1);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.XIBLAXIAN_SCHEMATIC_COWL, UseItemRequest::consumeXiblaxianSchematicCowl);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.XIBLAXIAN_SCHEMATIC_TROUSERS, UseItemRequest::consumeXiblaxianSchematicCowl);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.XIBLAXIAN_SCHEMATIC_VEST, UseItemRequest::consumeXiblaxianSchematicCowl);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.XIBLAXIAN_SCHEMATIC_BURRITO, UseItemRequest::consumeXiblaxianSchematicCowl);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.XIBLAXIAN_SCHEMATIC_WHISKEY, UseItemRequest::consumeXiblaxianSchematicCowl);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.XIBLAXIAN_SCHEMATIC_RESIDENCE, UseItemRequest::consumeXiblaxianSchematicCowl);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.XIBLAXIAN_SCHEMATIC_GOGGLES, UseItemRequest::consumeXiblaxianSchematicCowl);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_2, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_2, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_2, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_2, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_3, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_3, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_3, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_3, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_4, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_4, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_4, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_4, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_5, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_5, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_5, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_5, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_6, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_6, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_6, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_6, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_7, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_7, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_7, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_7, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_8, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_8, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_8, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_8, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_9, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_9, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_9, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_9, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_10, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_10, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_10, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_10, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_TORSO_11, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_LEFTARM_11, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_RIGHTARM_11, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.CRIMBOT_PROPULSION_11, UseItemRequest::consumeCrimbotTorso2);
+    CONSUMPTION_HANDLERS.put(ItemPool.GAUDY_KEY, UseItemRequest::consumeGaudyKey);
+    CONSUMPTION_HANDLERS.put(ItemPool.PICKY_TWEEZERS, UseItemRequest::consumePickyTweezers);
+    CONSUMPTION_HANDLERS.put(ItemPool.BITTYCAR_HOTCAR, UseItemRequest::consumeBittycarHotcar);
+    CONSUMPTION_HANDLERS.put(ItemPool.BITTYCAR_MEATCAR, UseItemRequest::consumeBittycarMeatcar);
+    CONSUMPTION_HANDLERS.put(ItemPool.BITTYCAR_SOULCAR, UseItemRequest::consumeBittycarSoulcar);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.RED_GREEN_RAIN_STICK, UseItemRequest::consumeRedGreenRainStick);
+    CONSUMPTION_HANDLERS.put(ItemPool.REDWOOD_RAIN_STICK, UseItemRequest::consumeRedwoodRainStick);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.STILL_BEATING_SPLEEN, UseItemRequest::consumeStillBeatingSpleen);
+    CONSUMPTION_HANDLERS.put(ItemPool.WAREHOUSE_MAP_PAGE, UseItemRequest::consumeWarehouseMapPage);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WAREHOUSE_INVENTORY_PAGE, UseItemRequest::consumeWarehouseMapPage);
+    CONSUMPTION_HANDLERS.put(ItemPool.MAYONEX, UseItemRequest::consumeMayonex);
+    CONSUMPTION_HANDLERS.put(ItemPool.MAYODIOL, UseItemRequest::consumeMayonex);
+    CONSUMPTION_HANDLERS.put(ItemPool.MAYOSTAT, UseItemRequest::consumeMayonex);
+    CONSUMPTION_HANDLERS.put(ItemPool.MAYOZAPINE, UseItemRequest::consumeMayonex);
+    CONSUMPTION_HANDLERS.put(ItemPool.MAYOFLEX, UseItemRequest::consumeMayonex);
+    CONSUMPTION_HANDLERS.put(ItemPool.HUNGER_SAUCE, UseItemRequest::consumeHungerSauce);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.BRAIN_PRESERVATION_FLUID, UseItemRequest::consumeBrainPreservationFluid);
+    CONSUMPTION_HANDLERS.put(ItemPool.RESORT_CHIP, UseItemRequest::consumeResortChip);
+    CONSUMPTION_HANDLERS.put(ItemPool.COCKTAIL_SHAKER, UseItemRequest::consumeCocktailShaker);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.TWELVE_NIGHT_ENERGY, UseItemRequest::consumeTwelveNightEnergy);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CSA_FIRE_STARTING_KIT, UseItemRequest::consumeCsaFireStartingKit);
+    CONSUMPTION_HANDLERS.put(ItemPool.SHRINE_BARREL_GOD, UseItemRequest::consumeShrineBarrelGod);
+    CONSUMPTION_HANDLERS.put(ItemPool.HAUNTED_DOGHOUSE, UseItemRequest::consumeHauntedDoghouse);
+    CONSUMPTION_HANDLERS.put(ItemPool.GHOST_DOG_CHOW, UseItemRequest::consumeGhostDogChow);
+    CONSUMPTION_HANDLERS.put(ItemPool.VYKEA_INSTRUCTIONS, UseItemRequest::consumeVykeaInstructions);
+    CONSUMPTION_HANDLERS.put(ItemPool.CIRCLE_DRUM, UseItemRequest::consumeCircleDrum);
+    CONSUMPTION_HANDLERS.put(ItemPool.CLARA_BELL, UseItemRequest::consumeClaraBell);
+    CONSUMPTION_HANDLERS.put(ItemPool.GLENN_DICE, UseItemRequest::consumeGlennDice);
+    CONSUMPTION_HANDLERS.put(ItemPool.SNOWMAN_CRATE, UseItemRequest::consumeSnowmanCrate);
+    CONSUMPTION_HANDLERS.put(ItemPool.ROYAL_TEA, UseItemRequest::consumeRoyalTea);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOO_CLUE, UseItemRequest::consumeBooClue);
+    CONSUMPTION_HANDLERS.put(ItemPool.MOUNTAIN_SKIN, UseItemRequest::consumeMountainSkin);
+    CONSUMPTION_HANDLERS.put(ItemPool.GRIZZLED_SKIN, UseItemRequest::consumeMountainSkin);
+    CONSUMPTION_HANDLERS.put(ItemPool.DIAMONDBACK_SKIN, UseItemRequest::consumeMountainSkin);
+    CONSUMPTION_HANDLERS.put(ItemPool.COAL_SKIN, UseItemRequest::consumeMountainSkin);
+    CONSUMPTION_HANDLERS.put(ItemPool.FRONTWINDER_SKIN, UseItemRequest::consumeMountainSkin);
+    CONSUMPTION_HANDLERS.put(ItemPool.ROTTING_SKIN, UseItemRequest::consumeMountainSkin);
+    CONSUMPTION_HANDLERS.put(ItemPool.QUICKSILVER_SPURS, UseItemRequest::consumeQuicksilverSpurs);
+    CONSUMPTION_HANDLERS.put(ItemPool.THICKSILVER_SPURS, UseItemRequest::consumeQuicksilverSpurs);
+    CONSUMPTION_HANDLERS.put(ItemPool.WICKSILVER_SPURS, UseItemRequest::consumeQuicksilverSpurs);
+    CONSUMPTION_HANDLERS.put(ItemPool.SLICKSILVER_SPURS, UseItemRequest::consumeQuicksilverSpurs);
+    CONSUMPTION_HANDLERS.put(ItemPool.SICKSILVER_SPURS, UseItemRequest::consumeQuicksilverSpurs);
+    CONSUMPTION_HANDLERS.put(ItemPool.NICKSILVER_SPURS, UseItemRequest::consumeQuicksilverSpurs);
+    CONSUMPTION_HANDLERS.put(ItemPool.TICKSILVER_SPURS, UseItemRequest::consumeQuicksilverSpurs);
+    CONSUMPTION_HANDLERS.put(ItemPool.SNAKE_OIL, UseItemRequest::consumeSnakeOil);
+    CONSUMPTION_HANDLERS.put(ItemPool.HEIMZ_BEANS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(ItemPool.TESLA_BEANS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(ItemPool.MIXED_BEANS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(ItemPool.HELLFIRE_BEANS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(ItemPool.FRIGID_BEANS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(ItemPool.BLACKEST_EYED_PEAS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(ItemPool.STINKBEANS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(ItemPool.PORK_N_BEANS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(ItemPool.PREMIUM_BEANS, UseItemRequest::consumeHeimzBeans);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MEMORIES_OF_COW_PUNCHING, UseItemRequest::consumeMemoriesOfCowPunching);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MEMORIES_OF_BEAN_SLINGING, UseItemRequest::consumeMemoriesOfBeanSlinging);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MEMORIES_OF_SNAKE_OILING, UseItemRequest::consumeMemoriesOfSnakeOiling);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SHADOWY_CHEAT_SHEET, UseItemRequest::consumeShadowyCheatSheet);
+    CONSUMPTION_HANDLERS.put(ItemPool.CODPIECE, UseItemRequest::consumeCodpiece);
+    CONSUMPTION_HANDLERS.put(ItemPool.BASS_CLARINET, UseItemRequest::consumeCodpiece);
+    CONSUMPTION_HANDLERS.put(ItemPool.FISH_HATCHET, UseItemRequest::consumeCodpiece);
+    CONSUMPTION_HANDLERS.put(ItemPool.BACON_MACHINE, UseItemRequest::consumeBaconMachine);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SCHOOL_OF_HARD_KNOCKS_DIPLOMA, UseItemRequest::consumeSchoolOfHardKnocksDiploma);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUNCHING_MIRROR, UseItemRequest::consumePunchingMirror);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_PRAM_CHIP, UseItemRequest::consumeSourceTerminalPramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_GRAM_CHIP, UseItemRequest::consumeSourceTerminalPramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_SPAM_CHIP, UseItemRequest::consumeSourceTerminalPramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_CRAM_CHIP, UseItemRequest::consumeSourceTerminalCramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_DRAM_CHIP, UseItemRequest::consumeSourceTerminalCramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_TRAM_CHIP, UseItemRequest::consumeSourceTerminalCramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_INGRAM_CHIP, UseItemRequest::consumeSourceTerminalCramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_DIAGRAM_CHIP, UseItemRequest::consumeSourceTerminalCramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_ASHRAM_CHIP, UseItemRequest::consumeSourceTerminalCramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_SCRAM_CHIP, UseItemRequest::consumeSourceTerminalCramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_TRIGRAM_CHIP, UseItemRequest::consumeSourceTerminalCramChip);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_SUBSTATS_ENH, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_DAMAGE_ENH, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_CRITICAL_ENH, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_PROTECT_ENQ, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_STATS_ENQ, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_COMPRESS_EDU, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_DUPLICATE_EDU, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_PORTSCAN_EDU, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_TURBO_EDU, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_FAMILIAR_EXT, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_PRAM_EXT, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_GRAM_EXT, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_SPAM_EXT, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_CRAM_EXT, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_DRAM_EXT, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SOURCE_TERMINAL_TRAM_EXT, UseItemRequest::consumeSourceTerminalSubstatsEnh);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.DETECTIVE_APPLICATION, UseItemRequest::consumeDetectiveApplication);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOLORECORD_POWERGUY, UseItemRequest::consumeHolorecordPowerguy);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOLORECORD_SHRIEKING_WEASEL, UseItemRequest::consumeHolorecordPowerguy);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOLORECORD_SUPERDRIFTER, UseItemRequest::consumeHolorecordPowerguy);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOLORECORD_LUCKY_STRIKES, UseItemRequest::consumeHolorecordPowerguy);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HOLORECORD_DRUNK_UNCLES, UseItemRequest::consumeHolorecordPowerguy);
+    CONSUMPTION_HANDLERS.put(ItemPool.HOLORECORD_EMD, UseItemRequest::consumeHolorecordPowerguy);
+    CONSUMPTION_HANDLERS.put(ItemPool.HOLORECORD_PIGS, UseItemRequest::consumeHolorecordPowerguy);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.BROKEN_CHOCOLATE_POCKETWATCH, UseItemRequest::consumeBrokenChocolatePocketwatch);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPACEGATE_ACCESS_BADGE, UseItemRequest::consumeSpacegateAccessBadge);
+    CONSUMPTION_HANDLERS.put(ItemPool.PORTABLE_SPACEGATE, UseItemRequest::consumePortableSpacegate);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SPACE_BABY_CHILDRENS_BOOK, UseItemRequest::consumeSpaceBabyChildrensBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.LICENSE_TO_CHILL, UseItemRequest::consumeLicenseToChill);
+    CONSUMPTION_HANDLERS.put(ItemPool.VICTOR_SPOILS, UseItemRequest::consumeVictorSpoils);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CAN_OF_MINIONS_BE_GONE, UseItemRequest::consumeCanOfMinionsBeGone);
+    CONSUMPTION_HANDLERS.put(ItemPool.CORNUCOPIA, UseItemRequest::consumeCornucopia);
+    CONSUMPTION_HANDLERS.put(ItemPool.METEORITE_ADE, UseItemRequest::consumeMeteoriteAde);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PERFECTLY_FAIR_COIN, UseItemRequest::consumePerfectlyFairCoin);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CORKED_GENIE_BOTTLE, UseItemRequest::consumeCorkedGenieBottle);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.POKE_GROW_FERTILIZER, UseItemRequest::consumePokeGrowFertilizer);
+    CONSUMPTION_HANDLERS.put(ItemPool.FR_MEMBER, UseItemRequest::consumeFrMember);
+    CONSUMPTION_HANDLERS.put(ItemPool.FR_GUEST, UseItemRequest::consumeFrGuest);
+    CONSUMPTION_HANDLERS.put(ItemPool.FR_MOUNTAIN_MAP, UseItemRequest::consumeFrMountainMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.FR_WOOD_MAP, UseItemRequest::consumeFrWoodMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.FR_SWAMP_MAP, UseItemRequest::consumeFrSwampMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.FR_VILLAGE_MAP, UseItemRequest::consumeFrVillageMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.FR_CEMETARY_MAP, UseItemRequest::consumeFrCemetaryMap);
+    CONSUMPTION_HANDLERS.put(ItemPool.CHEESE_WHEEL, UseItemRequest::consumeCheeseWheel);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.NEVERENDING_PARTY_INVITE, UseItemRequest::consumeNeverendingPartyInvite);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_NEVERENDING_PARTY_INVITE,
+        UseItemRequest::consumeReplicaNeverendingPartyInvite);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.NEVERENDING_PARTY_INVITE_DAILY,
+        UseItemRequest::consumeNeverendingPartyInviteDaily);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUMP_UP_HIGH_TOPS, UseItemRequest::consumePumpUpHighTops);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.VOTER_REGISTRATION_FORM, UseItemRequest::consumeVoterRegistrationForm);
+    CONSUMPTION_HANDLERS.put(ItemPool.VOTER_BALLOT, UseItemRequest::consumeVoterBallot);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOXING_DAY_CARE, UseItemRequest::consumeBoxingDayCare);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOXING_DAY_PASS, UseItemRequest::consumeBoxingDayPass);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.JERKS_HEALTH_MAGAZINE, UseItemRequest::consumeJerksHealthMagazine);
+    CONSUMPTION_HANDLERS.put(ItemPool.ETCHED_HOURGLASS, UseItemRequest::consumeEtchedHourglass);
+    CONSUMPTION_HANDLERS.put(ItemPool.PR_MEMBER, UseItemRequest::consumePrMember);
+    CONSUMPTION_HANDLERS.put(ItemPool.PR_GUEST, UseItemRequest::consumePrGuest);
+    CONSUMPTION_HANDLERS.put(ItemPool.PIECE_OF_DRIFTWOOD, UseItemRequest::consumePieceOfDriftwood);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HEWN_MOON_RUNE_SPOON, UseItemRequest::consumeHewnMoonRuneSpoon);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_HEWN_MOON_RUNE_SPOON, UseItemRequest::consumeHewnMoonRuneSpoon);
+    CONSUMPTION_HANDLERS.put(ItemPool.GETAWAY_BROCHURE, UseItemRequest::consumeGetawayBrochure);
+    CONSUMPTION_HANDLERS.put(ItemPool.SEWING_KIT, UseItemRequest::consumeSewingKit);
+    CONSUMPTION_HANDLERS.put(ItemPool.BIRD_A_DAY_CALENDAR, UseItemRequest::consumeBirdADayCalendar);
+    CONSUMPTION_HANDLERS.put(ItemPool.GLITCH_ITEM, UseItemRequest::consumeGlitchItem);
+    CONSUMPTION_HANDLERS.put(ItemPool.MYSTERIOUS_RED_BOX, UseItemRequest::consumeMysteriousRedBox);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MYSTERIOUS_GREEN_BOX, UseItemRequest::consumeMysteriousRedBox);
+    CONSUMPTION_HANDLERS.put(ItemPool.MYSTERIOUS_BLUE_BOX, UseItemRequest::consumeMysteriousRedBox);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MYSTERIOUS_BLACK_BOX, UseItemRequest::consumeMysteriousRedBox);
+    CONSUMPTION_HANDLERS.put(ItemPool.AMINO_ACIDS, UseItemRequest::consumeAminoAcids);
+    CONSUMPTION_HANDLERS.put(ItemPool.EYE_OF_THE_THING, UseItemRequest::consumeEyeOfTheThing);
+    CONSUMPTION_HANDLERS.put(ItemPool.FANCY_CHESS_SET, UseItemRequest::consumeFancyChessSet);
+    CONSUMPTION_HANDLERS.put(ItemPool.ONYX_KING, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ONYX_QUEEN, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ONYX_ROOK, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ONYX_BISHOP, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ONYX_KNIGHT, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ONYX_PAWN, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALABASTER_KING, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALABASTER_QUEEN, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALABASTER_ROOK, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALABASTER_BISHOP, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALABASTER_KNIGHT, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(ItemPool.ALABASTER_PAWN, UseItemRequest::consumeOnyxKing);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.UNIVERSAL_SEASONING, UseItemRequest::consumeUniversalSeasoning);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SUBSCRIPTION_COCOA_DISPENSER, UseItemRequest::consumeSubscriptionCocoaDispenser);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.OVERFLOWING_GIFT_BASKET, UseItemRequest::consumeOverflowingGiftBasket);
+    CONSUMPTION_HANDLERS.put(ItemPool.BATTERY_9V, UseItemRequest::consumeBattery9v);
+    CONSUMPTION_HANDLERS.put(ItemPool.BATTERY_LANTERN, UseItemRequest::consumeBattery9v);
+    CONSUMPTION_HANDLERS.put(ItemPool.BATTERY_CAR, UseItemRequest::consumeBattery9v);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.RAINPROOF_BARREL_CAULK, UseItemRequest::consumeRainproofBarrelCaulk);
+    CONSUMPTION_HANDLERS.put(ItemPool.PUMP_GREASE, UseItemRequest::consumePumpGrease);
+    CONSUMPTION_HANDLERS.put(ItemPool.MEATBALL_MACHINE, UseItemRequest::consumeMeatballMachine);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REFURBISHED_AIR_FRYER, UseItemRequest::consumeRefurbishedAirFryer);
+    CONSUMPTION_HANDLERS.put(ItemPool.ELEVEN_LEAF_CLOVER, UseItemRequest::consumeElevenLeafClover);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.THE_BIG_BOOK_OF_EVERY_SKILL, UseItemRequest::consumeTheBigBookOfEverySkill);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.HYPNOTIC_BREADCRUMBS, UseItemRequest::consumeHypnoticBreadcrumbs);
+    CONSUMPTION_HANDLERS.put(ItemPool.BOOZE_MAP, UseItemRequest::consumeBoozeMap);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.BONE_WITH_A_PRICE_TAG, UseItemRequest::consumeBoneWithAPriceTag);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.DEED_TO_OLIVERS_PLACE, UseItemRequest::consumeDeedToOliversPlace);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.GOVERNMENT_PER_DIEM, UseItemRequest::consumeGovernmentPerDiem);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_RATATOUILLE_DE_JARLSBERG, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_JARLSBERGS_VEGETABLE_SOUP, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_ROASTED_VEGETABLE_OF_J, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_PETES_SNEAKY_SMOOTHIE, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_PETES_WILY_WHEY_BAR, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_PETES_RICH_RICOTTA, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_BORIS_BEER, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_HONEY_BUN_OF_BORIS, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_BORIS_BREAD, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_CALZONE_OF_LEGEND, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_PIZZA_OF_LEGEND, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_ROASTED_VEGETABLE_FOCACCIA,
+        UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_PLAIN_CALZONE, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_BAKED_VEGGIE_RICOTTA, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.ROBY_DEEP_DISH_OF_LEGEND, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PLANS_FOR_GRIMACITE_HAMMER, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PLANS_FOR_GRIMACITE_GRAVY_BOAT, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PLANS_FOR_GRIMACITE_WEIGHTLIFTING_BELT,
+        UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PLANS_FOR_GRIMACITE_GRAPPLING_HOOK,
+        UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PLANS_FOR_GRIMACITE_NINJA_MASK, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PLANS_FOR_GRIMACITE_SHINGUARDS, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PLANS_FOR_GRIMACITE_ASTROLABE, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FETTUCINI_EPINES_INCONNU_RECIPE,
+        UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SLAP_AND_SLAP_AGAIN_RECIPE, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.FUMBLE_FORMULA, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MOTHERS_SECRET_RECIPE, UseItemRequest::consumeRobyRatatouilleDeJarlsberg);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.WRIGGLING_FLYTRAP_PELLET, UseItemRequest::consumeWrigglingFlytrapPellet);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CRIMBO_TRAINING_MANUAL, UseItemRequest::consumeCrimboTrainingManual);
+    CONSUMPTION_HANDLERS.put(ItemPool.LOST_ELF_LUGGAGE, UseItemRequest::consumeLostElfLuggage);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.TRAINBOT_AUTOASSEMBLY_MODULE, UseItemRequest::consumeTrainbotAutoassemblyModule);
+    CONSUMPTION_HANDLERS.put(ItemPool.MILESTONE, UseItemRequest::consumeMilestone);
+    CONSUMPTION_HANDLERS.put(ItemPool.LODESTONE, UseItemRequest::consumeLodestone);
+    CONSUMPTION_HANDLERS.put(ItemPool.MOLEHILL_MOUNTAIN, UseItemRequest::consumeMolehillMountain);
+    CONSUMPTION_HANDLERS.put(ItemPool.STRANGE_STALAGMITE, UseItemRequest::consumeStrangeStalagmite);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.CHOCOLATE_COVERED_PING_PONG_BALL,
+        UseItemRequest::consumeChocolateCoveredPingPongBall);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.SIT_COURSE_COMPLETION_CERTIFICATE,
+        UseItemRequest::consumeSitCourseCompletionCertificate);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_SNOWCONE_BOOK, UseItemRequest::consumeReplicaSnowconeBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_RESOLUTION_BOOK, UseItemRequest::consumeReplicaResolutionBook);
+    CONSUMPTION_HANDLERS.put(ItemPool.REPLICA_SMITH_BOOK, UseItemRequest::consumeReplicaSmithBook);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_SOURCE_TERMINAL, UseItemRequest::consumeReplicaSourceTerminal);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_WITCHESS_SET, UseItemRequest::consumeReplicaWitchessSet);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MR_STORE_2002_CATALOG, UseItemRequest::consumeMrStore2002Catalog);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.REPLICA_MR_STORE_2002_CATALOG, UseItemRequest::consumeMrStore2002Catalog);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.GIANT_BLACK_MONOLITH, UseItemRequest::consumeGiantBlackMonolith);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MAP_TO_A_CANDY_RICH_BLOCK, UseItemRequest::consumeMapToACandyRichBlock);
+    CONSUMPTION_HANDLERS.put(ItemPool.VAN_KEY, UseItemRequest::consumeVanKey);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.UNREMARKABLE_DUFFEL_BAG, UseItemRequest::consumeUnremarkableDuffelBag);
+    CONSUMPTION_HANDLERS.put(ItemPool.TIED_UP_LEAFLET, UseItemRequest::consumeTiedUpLeaflet);
+    CONSUMPTION_HANDLERS.put(ItemPool.TIED_UP_MONSTERA, UseItemRequest::consumeTiedUpMonstera);
+    CONSUMPTION_HANDLERS.put(ItemPool.TIED_UP_LEAVIATHAN, UseItemRequest::consumeTiedUpLeaviathan);
+    CONSUMPTION_HANDLERS.put(ItemPool.WARDROBE_O_MATIC, UseItemRequest::consumeWardrobeOMatic);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.LIL_SNOWBALL_FACTORY, UseItemRequest::consumeLilSnowballFactory);
+    CONSUMPTION_HANDLERS.put(ItemPool.LAW_OF_AVERAGES, UseItemRequest::consumeLawOfAverages);
+    CONSUMPTION_HANDLERS.put(ItemPool.YAM_BATTERY, UseItemRequest::consumeYamBattery);
+    CONSUMPTION_HANDLERS.put(ItemPool.SYNAPTIC_SOUP, UseItemRequest::consumeSynapticSoup);
+    CONSUMPTION_HANDLERS.put(ItemPool.MUSCULAR_SOUP, UseItemRequest::consumeSynapticSoup);
+    CONSUMPTION_HANDLERS.put(ItemPool.FLAGELLATE_SOUP, UseItemRequest::consumeSynapticSoup);
+    CONSUMPTION_HANDLERS.put(ItemPool.ELBOW_SOUP, UseItemRequest::consumeSynapticSoup);
+    CONSUMPTION_HANDLERS.put(ItemPool.LIP_SOUP, UseItemRequest::consumeSynapticSoup);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.MINIATURE_EMBERING_HULK, UseItemRequest::consumeMiniatureEmberingHulk);
+    CONSUMPTION_HANDLERS.put(ItemPool.STRUCTURAL_EMBER, UseItemRequest::consumeStructuralEmber);
+    CONSUMPTION_HANDLERS.put(ItemPool.PIRATE_DINGHY, UseItemRequest::consumePirateDinghy);
+    CONSUMPTION_HANDLERS.put(
+        ItemPool.PUMPKIN_SPICE_WHORL, UseItemRequest::consumePumpkinSpiceWhorl);
+    CONSUMPTION_HANDLERS.put(ItemPool.CR_KEYCODE, UseItemRequest::consumeCrKeycode);
+    CONSUMPTION_HANDLERS.put(ItemPool.PRINTED_SERVER_KEY, UseItemRequest::consumePrintedServerKey);
+  }
+
   public static final void parseConsumption(final String responseText, final boolean showHTML) {
     if (UseItemRequest.lastItemUsed == null) {
       return;
@@ -1980,4403 +3250,4584 @@ public class UseItemRequest extends GenericRequest {
         return;
     }
 
-    Matcher matcher;
-
     // Perform item-specific processing
 
     // If the item is not consumed, either because we detect that
-    // from the responseText or it is always reusable, return from
-    // this method. Otherwise, break from the switch and it will be
+    // from the responseText or it is always reusable, the handler
+    // returns null. Otherwise, it returns the item and it will be
     // removed from inventory afterwards
 
-    switch (itemId) {
-      case ItemPool.LOATHING_LEGION_UNIVERSAL_SCREWDRIVER:
-        {
-          // You jam your screwdriver into your xxx and pry it
-          // apart.
-          if (UseItemRequest.lastUntinker != null
-              && responseText.contains("You jam your screwdriver")) {
-            ResultProcessor.processResult(UseItemRequest.lastUntinker.getNegation());
-            KoLmafia.updateDisplay("Successfully unscrewed " + UseItemRequest.lastUntinker);
-            UseItemRequest.lastUntinker = null;
-            return;
-          }
-        }
-        // Fall through
-      case ItemPool.LOATHING_LEGION_KNIFE:
-      case ItemPool.LOATHING_LEGION_MANY_PURPOSE_HOOK:
-      case ItemPool.LOATHING_LEGION_MOONDIAL:
-      case ItemPool.LOATHING_LEGION_NECKTIE:
-      case ItemPool.LOATHING_LEGION_ELECTRIC_KNIFE:
-      case ItemPool.LOATHING_LEGION_CORKSCREW:
-      case ItemPool.LOATHING_LEGION_CAN_OPENER:
-      case ItemPool.LOATHING_LEGION_CHAINSAW:
-      case ItemPool.LOATHING_LEGION_ROLLERBLADES:
-      case ItemPool.LOATHING_LEGION_FLAMETHROWER:
-      case ItemPool.LOATHING_LEGION_TATTOO_NEEDLE:
-      case ItemPool.LOATHING_LEGION_DEFIBRILLATOR:
-      case ItemPool.LOATHING_LEGION_DOUBLE_PRISM:
-      case ItemPool.LOATHING_LEGION_TAPE_MEASURE:
-      case ItemPool.LOATHING_LEGION_KITCHEN_SINK:
-      case ItemPool.LOATHING_LEGION_ABACUS:
-      case ItemPool.LOATHING_LEGION_HELICOPTER:
-      case ItemPool.LOATHING_LEGION_PIZZA_STONE:
-      case ItemPool.LOATHING_LEGION_JACKHAMMER:
-      case ItemPool.LOATHING_LEGION_HAMMER:
-        // You spend a little while messing with all of the
-        // latches and clasps and little bits of metal, and end
-        // up with ...
-        if (responseText.contains("latches and clasps")) {
-          // These are marked as reusable, but they go away when you fold them.
-          ResultProcessor.processResult(item.getNegation());
-        }
+    ConsumptionHandler handler = CONSUMPTION_HANDLERS.get(itemId);
+    if (handler != null) {
+      item = handler.consume(item, responseText, showHTML);
+      if (item == null) {
         return;
+      }
+    }
 
-      case ItemPool.WHAT_CARD:
-      case ItemPool.WHEN_CARD:
-      case ItemPool.WHO_CARD:
-      case ItemPool.WHERE_CARD:
-        {
-          if (!responseText.contains("Answer:")) {
-            return;
-          }
-          Matcher card_matcher = UseItemRequest.CARD_PATTERN.matcher(responseText);
-          if (card_matcher.find()) {
-            String message =
-                "Trivia card #" + card_matcher.group(1) + "/" + card_matcher.group(2) + ":";
-            RequestLogger.printLine(message);
-            RequestLogger.updateSessionLog(message);
-          }
-          Matcher QA_matcher = UseItemRequest.QA_PATTERN.matcher(responseText);
-          while (QA_matcher.find()) {
-            String message = QA_matcher.group(1) + ": " + QA_matcher.group(2);
-            RequestLogger.printLine(message);
-            RequestLogger.updateSessionLog(message);
-          }
-          break;
-        }
-
-      case ItemPool.LEGENDARY_BEAT:
-        Preferences.setBoolean("_legendaryBeat", true);
+    if (CampgroundRequest.isWorkshedItem(itemId)) {
+      if (CampgroundRequest.getCurrentWorkshedItem() != null) {
+        // an item placed in an empty workshed does not prevent replacing it
+        Preferences.setBoolean("_workshedItemUsed", true);
+      }
+      if (responseText.contains("already rearranged your workshed")) {
         return;
+      }
+      CampgroundRequest.setCurrentWorkshedItem(ItemPool.get(itemId, 1));
+      CampgroundRequest.setCampgroundItem(itemId, 1);
 
-      case ItemPool.PORTABLE_STEAM_UNIT:
-        Preferences.setBoolean("_portableSteamUnitUsed", true);
-        return;
+      // Get current fuel level
+      if (itemId == ItemPool.ASDON_MARTIN) {
+        RequestThread.postRequest(new CampgroundRequest("workshed"));
+      }
+    }
 
-      case ItemPool.JACKING_MAP:
-        // The <fruit> disappears into the tube and begins
-        // bouncing around noisily inside the machine.
-
-        // The <fruit> is sucked into the tube, displacing the
-        // <fruit> that was bouncing around in the machine. You
-        // wonder where it went.
-        if (UseItemRequest.lastFruit != null && responseText.contains("into the tube")) {
-          ResultProcessor.processResult(UseItemRequest.lastFruit.getNegation());
-          UseItemRequest.lastFruit = null;
-        }
+    if (CampgroundRequest.isBedding(itemId)) {
+      if (responseText.contains("You've already got") || responseText.contains("You don't have")) {
         return;
+      }
 
-        // If it's a gift package, get the inner message
-
-      case ItemPool.GIFT1:
-      case ItemPool.GIFT2:
-      case ItemPool.GIFT3:
-      case ItemPool.GIFT4:
-      case ItemPool.GIFT5:
-      case ItemPool.GIFT6:
-      case ItemPool.GIFT7:
-      case ItemPool.GIFT8:
-      case ItemPool.GIFT9:
-      case ItemPool.GIFT10:
-      case ItemPool.GIFT11:
-      case ItemPool.GIFTV:
-      case ItemPool.GIFTR:
-      case ItemPool.GIFTW:
-      case ItemPool.GIFTH:
-        {
-          // "You can't receive things from other players
-          // right now."
+      CampgroundRequest.setCurrentBed(ItemPool.get(itemId, 1));
+      CampgroundRequest.setCampgroundItem(itemId, 1);
+    }
 
-          if (responseText.contains("You can't receive things")) {
-            UseItemRequest.lastUpdate = "You can't open that package yet.";
-            KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-            return;
-          }
+    // Finally, remove the item from inventory if it was successfully used.
 
-          UseItemRequest.showItemUsage(showHTML, responseText);
+    switch (consumptionType) {
+      case ZAP:
+      case FAMILIAR_EQUIPMENT:
+      case ACCESSORY:
+      case HAT:
+      case PANTS:
+      case WEAPON:
+      case OFFHAND:
+      case CONTAINER:
+      case USE_INFINITE:
+        break;
 
-          break;
+      default:
+        if (!ItemDatabase.isReusable(itemId)) {
+          ResultProcessor.processResult(item.getNegation());
         }
+    }
+  }
 
-      case ItemPool.DANCE_CARD:
-        TurnCounter.stopCounting("Dance Card");
-        TurnCounter.startCounting(3, "Dance Card loc=395", "guildapp.gif");
-        break;
+  private static AdventureResult consumeLoathingLegionUniversalScrewdriver(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You jam your screwdriver into your xxx and pry it
+    // apart.
+    if (UseItemRequest.lastUntinker != null && responseText.contains("You jam your screwdriver")) {
+      ResultProcessor.processResult(UseItemRequest.lastUntinker.getNegation());
+      KoLmafia.updateDisplay("Successfully unscrewed " + UseItemRequest.lastUntinker);
+      UseItemRequest.lastUntinker = null;
+      return null;
+    }
+    return consumeLoathingLegionKnife(item, responseText, showHTML);
+  }
 
-      case ItemPool.TOASTER:
+  private static AdventureResult consumeLoathingLegionKnife(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You spend a little while messing with all of the
+    // latches and clasps and little bits of metal, and end
+    // up with ...
+    if (responseText.contains("latches and clasps")) {
+      // These are marked as reusable, but they go away when you fold them.
+      ResultProcessor.processResult(item.getNegation());
+    }
+    return null;
+  }
 
-        // You push the lever and are rewarded with toast
-        Preferences.setBoolean("_toastSummoned", true);
-        return;
+  private static AdventureResult consumeWhatCard(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Matcher matcher;
 
-      case ItemPool.GATES_SCROLL:
-
-        // Oh, and don't forget <font color=purple><b><i>eJyu3</i></b></font>.  It's important.
-
-        Matcher purpleWordMatcher = UseItemRequest.PURPLE_WORD_PATTERN.matcher(responseText);
-        if (purpleWordMatcher.find()) {
-          String purpleWord = purpleWordMatcher.group(1);
-          String message =
-              "64735 Scroll Purple Word found: "
-                  + purpleWord
-                  + " in clan "
-                  + ClanManager.getClanName(false)
-                  + ".";
-          RequestLogger.printHtml("<font color=\"blue\">" + message + "</font>");
-          RequestLogger.updateSessionLog(message);
-        }
+    if (!responseText.contains("Answer:")) {
+      return null;
+    }
+    Matcher card_matcher = UseItemRequest.CARD_PATTERN.matcher(responseText);
+    if (card_matcher.find()) {
+      String message = "Trivia card #" + card_matcher.group(1) + "/" + card_matcher.group(2) + ":";
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    }
+    Matcher QA_matcher = UseItemRequest.QA_PATTERN.matcher(responseText);
+    while (QA_matcher.find()) {
+      String message = QA_matcher.group(1) + ": " + QA_matcher.group(2);
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    }
+    return item;
+  }
 
-        // You can only use a 64735 scroll if you have the
-        // original dictionary in your inventory
+  private static AdventureResult consumeLegendaryBeat(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_legendaryBeat", true);
+    return null;
+  }
 
-        // "Even though your name isn't Lee, you're flattered
-        // and hand over your dictionary."
+  private static AdventureResult consumePortableSteamUnit(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_portableSteamUnitUsed", true);
+    return null;
+  }
 
-        if (!responseText.contains("you're flattered")) {
-          return;
-        }
+  private static AdventureResult consumeJackingMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // The <fruit> disappears into the tube and begins
+    // bouncing around noisily inside the machine.
 
-        ResultProcessor.processResult(ItemPool.get(ItemPool.DICTIONARY, -1));
-        QuestDatabase.setQuestProgress(Quest.TOPPING, QuestDatabase.FINISHED);
-        QuestDatabase.setQuestProgress(Quest.LOL, QuestDatabase.FINISHED);
+    // The <fruit> is sucked into the tube, displacing the
+    // <fruit> that was bouncing around in the machine. You
+    // wonder where it went.
+    if (UseItemRequest.lastFruit != null && responseText.contains("into the tube")) {
+      ResultProcessor.processResult(UseItemRequest.lastFruit.getNegation());
+      UseItemRequest.lastFruit = null;
+    }
+    return null;
 
-        break;
+    // If it's a gift package, get the inner message
+  }
 
-      case ItemPool.ELITE_SCROLL:
+  private static AdventureResult consumeGift1(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You can't receive things from other players
+    // right now."
 
-        // "The UB3r 31337 HaX0R stands before you."
+    if (responseText.contains("You can't receive things")) {
+      UseItemRequest.lastUpdate = "You can't open that package yet.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        if (responseText.contains("The UB3r 31337 HaX0R stands before you.")) {
-          if (count > 1) {
-            (UseItemRequest.getInstance(item.getInstance(count - 1))).run();
-            item = item.getInstance(1);
-          }
-        }
+    UseItemRequest.showItemUsage(showHTML, responseText);
 
-        break;
+    return item;
+  }
 
-      case ItemPool.HERMIT_SCRIPT:
-        Preferences.setBoolean("hermitHax0red", true);
-        HermitRequest.hackHermit();
-        break;
+  private static AdventureResult consumeDanceCard(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    TurnCounter.stopCounting("Dance Card");
+    TurnCounter.startCounting(3, "Dance Card loc=395", "guildapp.gif");
+    return item;
+  }
 
-      case ItemPool.SPARKLER:
-      case ItemPool.SNAKE:
-      case ItemPool.M282:
-      case ItemPool.GREEN_ROCKET:
+  private static AdventureResult consumeToaster(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You push the lever and are rewarded with toast
+    Preferences.setBoolean("_toastSummoned", true);
+    return null;
+  }
 
-        // "You've already celebrated the Fourth of Bor, and
-        // now it's time to get back to work."
+  private static AdventureResult consumeGatesScroll(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Oh, and don't forget <font color=purple><b><i>eJyu3</i></b></font>.  It's important.
+    Matcher matcher;
 
-        // "Sorry, but these particular fireworks are illegal
-        // on any day other than the Fourth of Bor. And the law
-        // is a worthy institution, and you should respect and
-        // obey it, no matter what."
+    Matcher purpleWordMatcher = UseItemRequest.PURPLE_WORD_PATTERN.matcher(responseText);
+    if (purpleWordMatcher.find()) {
+      String purpleWord = purpleWordMatcher.group(1);
+      String message =
+          "64735 Scroll Purple Word found: "
+              + purpleWord
+              + " in clan "
+              + ClanManager.getClanName(false)
+              + ".";
+      RequestLogger.printHtml("<font color=\"blue\">" + message + "</font>");
+      RequestLogger.updateSessionLog(message);
+    }
 
-        if (responseText.contains("back to work")
-            || responseText.contains("fireworks are illegal")) {
-          return;
-        }
+    // You can only use a 64735 scroll if you have the
+    // original dictionary in your inventory
 
-        Preferences.setBoolean("_fireworkUsed", true);
-        break;
+    // "Even though your name isn't Lee, you're flattered
+    // and hand over your dictionary."
 
-      case ItemPool.GONG:
+    if (!responseText.contains("you're flattered")) {
+      return null;
+    }
 
-        // "You try to bang the gong, but the mallet keeps
-        // falling out of your hand. Maybe you should try it
-        // later, when you've sobered up a little."
+    ResultProcessor.processResult(ItemPool.get(ItemPool.DICTIONARY, -1));
+    QuestDatabase.setQuestProgress(Quest.TOPPING, QuestDatabase.FINISHED);
+    QuestDatabase.setQuestProgress(Quest.LOL, QuestDatabase.FINISHED);
 
-        // "You don't have time to bang a gong. Nor do you have
-        // time to get it on, or to get it on."
+    return item;
+  }
 
-        if (responseText.contains("sobered up a little")
-            || responseText.contains("don't have time to bang")) {
-          UseItemRequest.lastUpdate = "Insufficient adventures or sobriety to use a gong.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumeEliteScroll(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "The UB3r 31337 HaX0R stands before you."
+    int count = item.getCount();
 
-        // "You're already in the middle of a journey of reincarnation."
+    if (responseText.contains("The UB3r 31337 HaX0R stands before you.")) {
+      if (count > 1) {
+        (UseItemRequest.getInstance(item.getInstance(count - 1))).run();
+        item = item.getInstance(1);
+      }
+    }
 
-        if (responseText.contains("middle of a journey of reincarnation")) {
-          UseItemRequest.lastUpdate = "You're still under a gong effect.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return; // can't use another gong yet
-        }
+    return item;
+  }
 
-        // We deduct the gong when we get the intro choice
-        // adventure: The Gong Has Been Bung
+  private static AdventureResult consumeHermitScript(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("hermitHax0red", true);
+    HermitRequest.hackHermit();
+    return item;
+  }
 
-        return;
+  private static AdventureResult consumeSparkler(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You've already celebrated the Fourth of Bor, and
+    // now it's time to get back to work."
 
-      case ItemPool.ENCHANTED_BEAN:
+    // "Sorry, but these particular fireworks are illegal
+    // on any day other than the Fourth of Bor. And the law
+    // is a worthy institution, and you should respect and
+    // obey it, no matter what."
 
-        // There are three possibilities:
+    if (responseText.contains("back to work") || responseText.contains("fireworks are illegal")) {
+      return null;
+    }
 
-        // If you haven't been give the quest, "you can't find
-        // anywhere that looks like a good place to plant the
-        // bean" and you're told to "wait until later"
+    Preferences.setBoolean("_fireworkUsed", true);
+    return item;
+  }
 
-        // If you've already planted one, "There's already a
-        // beanstalk in the Nearby Plains." In either case, the
-        // bean is not consumed.
+  private static AdventureResult consumeGong(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You try to bang the gong, but the mallet keeps
+    // falling out of your hand. Maybe you should try it
+    // later, when you've sobered up a little."
 
-        // Otherwise, "it immediately grows into an enormous
-        // beanstalk".
+    // "You don't have time to bang a gong. Nor do you have
+    // time to get it on, or to get it on."
 
-        if (!responseText.contains("grows into an enormous beanstalk")) {
-          return;
-        }
+    if (responseText.contains("sobered up a little")
+        || responseText.contains("don't have time to bang")) {
+      UseItemRequest.lastUpdate = "Insufficient adventures or sobriety to use a gong.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        QuestDatabase.setQuestProgress(Quest.GARBAGE, "step1");
+    // "You're already in the middle of a journey of reincarnation."
 
-        break;
+    if (responseText.contains("middle of a journey of reincarnation")) {
+      UseItemRequest.lastUpdate = "You're still under a gong effect.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null; // can't use another gong yet
+    }
 
-      case ItemPool.LIBRARY_CARD:
+    // We deduct the gong when we get the intro choice
+    // adventure: The Gong Has Been Bung
 
-        // If you've already used a library card today, it is
-        // not consumed.
+    return null;
+  }
 
-        // "You head back to the library, but can't find
-        // anything you feel like reading. You skim a few
-        // celebrity-gossip magazines, and end up feeling kind
-        // of dirty."
+  private static AdventureResult consumeEnchantedBean(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // There are three possibilities:
 
-        Preferences.setBoolean("libraryCardUsed", true);
+    // If you haven't been give the quest, "you can't find
+    // anywhere that looks like a good place to plant the
+    // bean" and you're told to "wait until later"
 
-        if (!responseText.contains("feeling kind of dirty")) {
-          return;
-        }
+    // If you've already planted one, "There's already a
+    // beanstalk in the Nearby Plains." In either case, the
+    // bean is not consumed.
 
-        break;
+    // Otherwise, "it immediately grows into an enormous
+    // beanstalk".
 
-      case ItemPool.HEY_DEZE_MAP:
+    if (!responseText.contains("grows into an enormous beanstalk")) {
+      return null;
+    }
 
-        // "Your song has pleased me greatly. I will reward you
-        // with some of my crazy imps, to do your bidding."
+    QuestDatabase.setQuestProgress(Quest.GARBAGE, "step1");
 
-        if (!responseText.contains("pleased me greatly")) {
-          UseItemRequest.lastUpdate = "Your music was inadequate.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumeLibraryCard(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If you've already used a library card today, it is
+    // not consumed.
 
-      case ItemPool.GIANT_CASTLE_MAP:
+    // "You head back to the library, but can't find
+    // anything you feel like reading. You skim a few
+    // celebrity-gossip magazines, and end up feeling kind
+    // of dirty."
 
-        // "I'm sorry, adventurer, but the Sorceress is in
-        // another castle!"
+    Preferences.setBoolean("libraryCardUsed", true);
 
-        if (!responseText.contains("Sorceress is in another castle")) {
-          UseItemRequest.lastUpdate = "You couldn't make it all the way to the back door.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    if (!responseText.contains("feeling kind of dirty")) {
+      return null;
+    }
 
-        break;
+    return item;
+  }
 
-      case ItemPool.DRASTIC_HEALING:
+  private static AdventureResult consumeHeyDezeMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "Your song has pleased me greatly. I will reward you
+    // with some of my crazy imps, to do your bidding."
 
-        // If a scroll of drastic healing was used and didn't
-        // crumble, it is not consumed
+    if (!responseText.contains("pleased me greatly")) {
+      UseItemRequest.lastUpdate = "Your music was inadequate.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        ResultProcessor.processResult(
-            new AdventureLongCountResult(AdventureResult.HP, KoLCharacter.getMaximumHP()));
+    return item;
+  }
 
-        if (!responseText.contains("crumble")) {
-          return;
-        }
+  private static AdventureResult consumeGiantCastleMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "I'm sorry, adventurer, but the Sorceress is in
+    // another castle!"
 
-        break;
+    if (!responseText.contains("Sorceress is in another castle")) {
+      UseItemRequest.lastUpdate = "You couldn't make it all the way to the back door.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.TEARS:
-        KoLConstants.activeEffects.remove(KoLAdventure.BEATEN_UP);
-        break;
+    return item;
+  }
 
-      case ItemPool.ANTIDOTE:
-        // You're unpoisoned -- don't waste the anti-anti-antidote.
+  private static AdventureResult consumeDrasticHealing(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If a scroll of drastic healing was used and didn't
+    // crumble, it is not consumed
 
-        if (responseText.contains("don't waste the anti")) {
-          return;
-        }
+    ResultProcessor.processResult(
+        new AdventureLongCountResult(AdventureResult.HP, KoLCharacter.getMaximumHP()));
 
-        break;
+    if (!responseText.contains("crumble")) {
+      return null;
+    }
 
-      case ItemPool.TBONE_KEY:
-        if (!InventoryManager.hasItem(ItemPool.LOCKED_LOCKER)) {
-          return;
-        }
+    return item;
+  }
 
-        ResultProcessor.processItem(ItemPool.LOCKED_LOCKER, -1);
-        break;
+  private static AdventureResult consumeTears(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    KoLConstants.activeEffects.remove(KoLAdventure.BEATEN_UP);
+    return item;
+  }
 
-      case ItemPool.KETCHUP_HOUND:
+  private static AdventureResult consumeAntidote(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You're unpoisoned -- don't waste the anti-anti-antidote.
 
-        // Successfully using a ketchup hound uses up the Hey
-        // Deze nuts and pagoda plan.
+    if (responseText.contains("don't waste the anti")) {
+      return null;
+    }
 
-        if (responseText.contains("pagoda")) {
-          ResultProcessor.processItem(ItemPool.HEY_DEZE_NUTS, -1);
-          ResultProcessor.processItem(ItemPool.PAGODA_PLANS, -1);
-          CampgroundRequest.setCampgroundItem(ItemPool.PAGODA_PLANS, 1);
-        }
+    return item;
+  }
 
-        // The ketchup hound does not go away...
-        return;
+  private static AdventureResult consumeTboneKey(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!InventoryManager.hasItem(ItemPool.LOCKED_LOCKER)) {
+      return null;
+    }
 
-      case ItemPool.DOLPHIN_KING_MAP:
+    ResultProcessor.processItem(ItemPool.LOCKED_LOCKER, -1);
+    return item;
+  }
 
-        // "You follow the Dolphin King's map to the bottom of
-        // the sea, and find his glorious treasure."
+  private static AdventureResult consumeKetchupHound(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Successfully using a ketchup hound uses up the Hey
+    // Deze nuts and pagoda plan.
 
-        if (!responseText.contains("find his glorious treasure")) {
-          UseItemRequest.lastUpdate = "You don't have everything you need.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    if (responseText.contains("pagoda")) {
+      ResultProcessor.processItem(ItemPool.HEY_DEZE_NUTS, -1);
+      ResultProcessor.processItem(ItemPool.PAGODA_PLANS, -1);
+      CampgroundRequest.setCampgroundItem(ItemPool.PAGODA_PLANS, 1);
+    }
 
-        break;
+    // The ketchup hound does not go away...
+    return null;
+  }
 
-      case ItemPool.SLUG_LORD_MAP:
+  private static AdventureResult consumeDolphinKingMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You follow the Dolphin King's map to the bottom of
+    // the sea, and find his glorious treasure."
 
-        // "You make your way to the deepest part of the tank,
-        // and find a chest engraved with the initials S. L."
+    if (!responseText.contains("find his glorious treasure")) {
+      UseItemRequest.lastUpdate = "You don't have everything you need.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        if (!responseText.contains("deepest part of the tank")) {
-          UseItemRequest.lastUpdate = "You don't have everything you need.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumeSlugLordMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You make your way to the deepest part of the tank,
+    // and find a chest engraved with the initials S. L."
 
-      case ItemPool.DR_HOBO_MAP:
+    if (!responseText.contains("deepest part of the tank")) {
+      UseItemRequest.lastUpdate = "You don't have everything you need.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        // "You place it atop the Altar, and grab the Scalpel
-        // at the exact same moment."
+    return item;
+  }
 
-        if (!responseText.contains("exact same moment")) {
-          UseItemRequest.lastUpdate = "You don't have everything you need.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumeDrHoboMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You place it atop the Altar, and grab the Scalpel
+    // at the exact same moment."
 
-        // Using the map consumes an asparagus knife
+    if (!responseText.contains("exact same moment")) {
+      UseItemRequest.lastUpdate = "You don't have everything you need.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        ResultProcessor.processItem(ItemPool.ASPARAGUS_KNIFE, -1);
-        break;
+    // Using the map consumes an asparagus knife
 
-      case ItemPool.SHOPPING_LIST:
+    ResultProcessor.processItem(ItemPool.ASPARAGUS_KNIFE, -1);
+    return item;
+  }
 
-        // "Since you've already built a bitchin' meatcar, you
-        // wad the shopping list up and throw it away."
+  private static AdventureResult consumeShoppingList(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "Since you've already built a bitchin' meatcar, you
+    // wad the shopping list up and throw it away."
 
-        UseItemRequest.showItemUsage(showHTML, responseText);
+    UseItemRequest.showItemUsage(showHTML, responseText);
 
-        if (!responseText.contains("throw it away")) {
-          return;
-        }
+    if (!responseText.contains("throw it away")) {
+      return null;
+    }
 
-        break;
+    return item;
+  }
 
-      case ItemPool.COBBS_KNOB_MAP:
+  private static AdventureResult consumeCobbsKnobMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You memorize the location of the door, then eat
+    // both the map and the encryption key."
 
-        // "You memorize the location of the door, then eat
-        // both the map and the encryption key."
+    if (!responseText.contains("memorize the location")) {
+      UseItemRequest.lastUpdate = "You don't have everything you need.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        if (!responseText.contains("memorize the location")) {
-          UseItemRequest.lastUpdate = "You don't have everything you need.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    // Using the map consumes the encryption key
 
-        // Using the map consumes the encryption key
+    ResultProcessor.processItem(ItemPool.ENCRYPTION_KEY, -1);
+    QuestDatabase.setQuestProgress(Quest.GOBLIN, "step1");
+    return item;
+  }
 
-        ResultProcessor.processItem(ItemPool.ENCRYPTION_KEY, -1);
-        QuestDatabase.setQuestProgress(Quest.GOBLIN, "step1");
-        break;
+  private static AdventureResult consumeSpookyMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!InventoryManager.hasItem(ItemPool.SPOOKY_SAPLING)
+        || !InventoryManager.hasItem(ItemPool.SPOOKY_FERTILIZER)) {
+      UseItemRequest.lastUpdate = "You don't have everything you need.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.SPOOKY_MAP:
-        if (!InventoryManager.hasItem(ItemPool.SPOOKY_SAPLING)
-            || !InventoryManager.hasItem(ItemPool.SPOOKY_FERTILIZER)) {
-          UseItemRequest.lastUpdate = "You don't have everything you need.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    KoLCharacter.setTempleUnlocked();
+    ResultProcessor.removeItem(ItemPool.SPOOKY_SAPLING);
+    ResultProcessor.removeItem(ItemPool.SPOOKY_FERTILIZER);
 
-        KoLCharacter.setTempleUnlocked();
-        ResultProcessor.removeItem(ItemPool.SPOOKY_SAPLING);
-        ResultProcessor.removeItem(ItemPool.SPOOKY_FERTILIZER);
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumeCaronchMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // The item is only consumed once you turn in
+    // the nasty booty. That's handled elsewhere.
 
-      case ItemPool.CARONCH_MAP:
+    return null;
+  }
 
-        // The item is only consumed once you turn in
-        // the nasty booty. That's handled elsewhere.
+  private static AdventureResult consumeFrathouseBlueprints(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // The item is only consumed once you turn in the
+    // dentures. That's handled elsewhere.
 
-        return;
+    return null;
+  }
 
-      case ItemPool.FRATHOUSE_BLUEPRINTS:
+  private static AdventureResult consumeDinghyPlans(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You need some planks to build the dinghy."
 
-        // The item is only consumed once you turn in the
-        // dentures. That's handled elsewhere.
+    if (!InventoryManager.hasItem(ItemPool.DINGY_PLANKS)) {
+      UseItemRequest.lastUpdate = "You need some dingy planks.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        return;
+    ResultProcessor.processItem(ItemPool.DINGY_PLANKS, -1);
 
-      case ItemPool.DINGHY_PLANS:
+    return item;
+  }
 
-        // "You need some planks to build the dinghy."
+  private static AdventureResult consumeMortarDissolvingRecipe(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("Screw this scavenger hunt crap")) {
+      Preferences.setString("spookyravenRecipeUsed", "with_glasses");
+    } else if (!Preferences.getString("spookyravenRecipeUsed").equals("with_glasses")) {
+      Preferences.setString("spookyravenRecipeUsed", "no_glasses");
+    }
 
-        if (!InventoryManager.hasItem(ItemPool.DINGY_PLANKS)) {
-          UseItemRequest.lastUpdate = "You need some dingy planks.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    return item;
+  }
 
-        ResultProcessor.processItem(ItemPool.DINGY_PLANKS, -1);
+  private static AdventureResult consumeFengShui(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!InventoryManager.hasItem(ItemPool.FOUNTAIN)
+        || !InventoryManager.hasItem(ItemPool.WINDCHIMES)) {
+      return item;
+    }
 
-        break;
+    ResultProcessor.processItem(ItemPool.FOUNTAIN, -1);
+    ResultProcessor.processItem(ItemPool.WINDCHIMES, -1);
+    CampgroundRequest.setCampgroundItem(ItemPool.FENG_SHUI, 1);
 
-      case ItemPool.MORTAR_DISSOLVING_RECIPE:
-        if (responseText.contains("Screw this scavenger hunt crap")) {
-          Preferences.setString("spookyravenRecipeUsed", "with_glasses");
-        } else if (!Preferences.getString("spookyravenRecipeUsed").equals("with_glasses")) {
-          Preferences.setString("spookyravenRecipeUsed", "no_glasses");
-        }
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumeWarmSubject(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // The first time you use Warm Subject gift
+    // certificates when you have the Torso Awareness
+    // skill consumes only one, even if you tried to
+    // multi-use the item.
+    int count = item.getCount();
 
-      case ItemPool.FENG_SHUI:
-        if (!InventoryManager.hasItem(ItemPool.FOUNTAIN)
-            || !InventoryManager.hasItem(ItemPool.WINDCHIMES)) {
-          break;
-        }
+    // "You go to Warm Subject and browse the shirts for a
+    // while. You find one that you wouldn't mind wearing
+    // ironically. There seems to be only one in the store,
+    // though."
 
-        ResultProcessor.processItem(ItemPool.FOUNTAIN, -1);
-        ResultProcessor.processItem(ItemPool.WINDCHIMES, -1);
-        CampgroundRequest.setCampgroundItem(ItemPool.FENG_SHUI, 1);
+    if (responseText.contains("ironically")) {
+      if (count > 1) {
+        (UseItemRequest.getInstance(item.getInstance(count - 1))).run();
+        item = item.getInstance(1);
+      }
+    }
 
-        break;
+    return item;
+  }
 
-      case ItemPool.WARM_SUBJECT:
+  private static AdventureResult consumeMiningOil(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int count = item.getCount();
 
-        // The first time you use Warm Subject gift
-        // certificates when you have the Torso Awareness
-        // skill consumes only one, even if you tried to
-        // multi-use the item.
+    if (responseText.contains("Limiting to 100.  Sorry")) {
+      if (count > 100) {
+        (UseItemRequest.getInstance(item.getInstance(count - 100))).run();
+        item = item.getInstance(1);
+      }
+    }
 
-        // "You go to Warm Subject and browse the shirts for a
-        // while. You find one that you wouldn't mind wearing
-        // ironically. There seems to be only one in the store,
-        // though."
+    return item;
+  }
 
-        if (responseText.contains("ironically")) {
-          if (count > 1) {
-            (UseItemRequest.getInstance(item.getInstance(count - 1))).run();
-            item = item.getInstance(1);
-          }
-        }
+  private static AdventureResult consumePurpleSnowcone(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "Your mouth is still cold from the last snowcone you
+    // ate. Try again later."
 
-        break;
+    if (responseText.contains("still cold")) {
+      UseItemRequest.lastUpdate = "Your mouth is too cold.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.MINING_OIL:
-      case ItemPool.TAINTED_MINING_OIL:
-        if (responseText.contains("Limiting to 100.  Sorry")) {
-          if (count > 100) {
-            (UseItemRequest.getInstance(item.getInstance(count - 100))).run();
-            item = item.getInstance(1);
-          }
-        }
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumePotionOfPuissance(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You're already under the influence of a
+    // high-pressure sauce potion. If you took this one,
+    // you'd explode.  And not in a good way."
 
-      case ItemPool.PURPLE_SNOWCONE:
-      case ItemPool.GREEN_SNOWCONE:
-      case ItemPool.ORANGE_SNOWCONE:
-      case ItemPool.RED_SNOWCONE:
-      case ItemPool.BLUE_SNOWCONE:
-      case ItemPool.BLACK_SNOWCONE:
+    if (responseText.contains("you'd explode")) {
+      UseItemRequest.lastUpdate = "You're already under pressure.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        // "Your mouth is still cold from the last snowcone you
-        // ate. Try again later."
+    return item;
+  }
 
-        if (responseText.contains("still cold")) {
-          UseItemRequest.lastUpdate = "Your mouth is too cold.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumeBlueCupcake(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "Your stomach is still a little queasy from
+    // digesting a cupcake that may or may not exist in
+    // this dimension. You really don't feel like eating
+    // another one just now."
 
-        break;
+    if (responseText.contains("a little queasy")) {
+      UseItemRequest.lastUpdate = "Your stomach is too queasy.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.POTION_OF_PUISSANCE:
-      case ItemPool.POTION_OF_PERSPICACITY:
-      case ItemPool.POTION_OF_PULCHRITUDE:
-      case ItemPool.POTION_OF_PERCEPTION:
-      case ItemPool.POTION_OF_PROFICIENCY:
+    return item;
+  }
 
-        // "You're already under the influence of a
-        // high-pressure sauce potion. If you took this one,
-        // you'd explode.  And not in a good way."
+  private static AdventureResult consumeVagueAmbiguity(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "Your heart can't take another love song so soon
+    // after the last one. The conflicting emotions would
+    // drive you totally mad."
 
-        if (responseText.contains("you'd explode")) {
-          UseItemRequest.lastUpdate = "You're already under pressure.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    if (responseText.contains("conflicting emotions")) {
+      UseItemRequest.lastUpdate = "Your heart is already filled with emotions.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        break;
+    return item;
+  }
 
-      case ItemPool.BLUE_CUPCAKE:
-      case ItemPool.GREEN_CUPCAKE:
-      case ItemPool.ORANGE_CUPCAKE:
-      case ItemPool.PURPLE_CUPCAKE:
-      case ItemPool.PINK_CUPCAKE:
+  private static AdventureResult consumeRollingPin(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Rolling pins remove dough from your inventory.
+    // They are not consumed by being used
 
-        // "Your stomach is still a little queasy from
-        // digesting a cupcake that may or may not exist in
-        // this dimension. You really don't feel like eating
-        // another one just now."
+    ResultProcessor.processItem(ItemPool.DOUGH, -InventoryManager.getCount(ItemPool.DOUGH));
+    return null;
+  }
 
-        if (responseText.contains("a little queasy")) {
-          UseItemRequest.lastUpdate = "Your stomach is too queasy.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumeUnrollingPin(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Unrolling pins remove flat dough from your inventory.
+    // They are not consumed by being used
 
-        break;
+    ResultProcessor.processItem(
+        ItemPool.FLAT_DOUGH, -InventoryManager.getCount(ItemPool.FLAT_DOUGH));
+    return null;
+  }
 
-      case ItemPool.VAGUE_AMBIGUITY:
-      case ItemPool.SMOLDERING_PASSION:
-      case ItemPool.ICY_REVENGE:
-      case ItemPool.SUGARY_CUTENESS:
-      case ItemPool.DISTURBING_OBSESSION:
-      case ItemPool.NAUGHTY_INNUENDO:
+  private static AdventureResult consumeExpressCard(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You feel charged up!
 
-        // "Your heart can't take another love song so soon
-        // after the last one. The conflicting emotions would
-        // drive you totally mad."
+    if (responseText.contains("charged up")) {
+      Preferences.setInteger("_zapCount", 0);
+    }
+    return null;
+  }
 
-        if (responseText.contains("conflicting emotions")) {
-          UseItemRequest.lastUpdate = "Your heart is already filled with emotions.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumePlusSign(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "Following The Oracle's advice, you treat the plus
+    // sign as a book, and read it."
 
-        break;
+    if (!responseText.contains("you treat the plus sign as a book")) {
+      UseItemRequest.lastUpdate = "You don't know how to use it.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.ROLLING_PIN:
+    // Various punctuation mark items are replaced by their
+    // identified versions. The new items will be detected
+    // by result parsing, but we need to get rid of the old.
 
-        // Rolling pins remove dough from your inventory.
-        // They are not consumed by being used
+    for (int i = 4552; i <= 4558; ++i) {
+      AdventureResult punc = ItemPool.get(i, 1);
+      int pcount = punc.getCount(KoLConstants.inventory);
+      if (pcount > 0) {
+        ResultProcessor.processResult(punc.getInstance(-pcount));
+      }
+    }
 
-        ResultProcessor.processItem(ItemPool.DOUGH, -InventoryManager.getCount(ItemPool.DOUGH));
-        return;
+    return item;
+  }
 
-      case ItemPool.UNROLLING_PIN:
+  private static AdventureResult consumeOven(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-        // Unrolling pins remove flat dough from your inventory.
-        // They are not consumed by being used
+    if (responseText.contains("already got an oven")) {
+      return null;
+    }
+    KoLCharacter.setOven(true);
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    return item;
+  }
 
-        ResultProcessor.processItem(
-            ItemPool.FLAT_DOUGH, -InventoryManager.getCount(ItemPool.FLAT_DOUGH));
-        return;
+  private static AdventureResult consumeRange(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-      case ItemPool.EXPRESS_CARD:
+    if (responseText.contains("already got a fancy oven")) {
+      return null;
+    }
+    KoLCharacter.setRange(true);
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    return item;
+  }
 
-        // You feel charged up!
+  private static AdventureResult consumeClockworkChef(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already got a clockwork chef-in-the-box")) {
+      return null;
+    }
+    CampgroundRequest.removeCampgroundItem(ItemPool.get(ItemPool.CHEF, 1));
+    return consumeChef(item, responseText, showHTML);
+  }
 
-        if (responseText.contains("charged up")) {
-          Preferences.setInteger("_zapCount", 0);
-        }
-        return;
+  private static AdventureResult consumeChef(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-      case ItemPool.PLUS_SIGN:
+    if (responseText.contains("already got a chef-in-the-box")) {
+      return null;
+    }
+    KoLCharacter.setChef(true);
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    Preferences.setInteger("chefTurnsUsed", 0);
+    return item;
+  }
 
-        // "Following The Oracle's advice, you treat the plus
-        // sign as a book, and read it."
+  private static AdventureResult consumeShaker(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-        if (!responseText.contains("you treat the plus sign as a book")) {
-          UseItemRequest.lastUpdate = "You don't know how to use it.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    if (responseText.contains("already got a cocktailcrafting kit")) {
+      return null;
+    }
+    KoLCharacter.setShaker(true);
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    return null;
+  }
 
-        // Various punctuation mark items are replaced by their
-        // identified versions. The new items will be detected
-        // by result parsing, but we need to get rid of the old.
+  private static AdventureResult consumeCocktailKit(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-        for (int i = 4552; i <= 4558; ++i) {
-          AdventureResult punc = ItemPool.get(i, 1);
-          int pcount = punc.getCount(KoLConstants.inventory);
-          if (pcount > 0) {
-            ResultProcessor.processResult(punc.getInstance(-pcount));
-          }
-        }
+    if (responseText.contains("already got a fancy cocktailcrafting kit")) {
+      return null;
+    }
+    KoLCharacter.setCocktailKit(true);
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumeClockworkBartender(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already got a clockwork bartender-in-the-box")) {
+      return null;
+    }
+    CampgroundRequest.removeCampgroundItem(ItemPool.get(ItemPool.BARTENDER, 1));
+    return consumeBartender(item, responseText, showHTML);
+  }
 
-      case ItemPool.OVEN:
-        if (responseText.contains("already got an oven")) {
-          return;
-        }
-        KoLCharacter.setOven(true);
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        break;
+  private static AdventureResult consumeBartender(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-      case ItemPool.RANGE:
-        if (responseText.contains("already got a fancy oven")) {
-          return;
-        }
-        KoLCharacter.setRange(true);
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        break;
+    if (responseText.contains("already got a bartender-in-the-box")) {
+      return null;
+    }
+    KoLCharacter.setBartender(true);
+    Preferences.setInteger("bartenderTurnsUsed", 0);
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    return item;
+  }
 
-      case ItemPool.CLOCKWORK_CHEF:
-        if (responseText.contains("already got a clockwork chef-in-the-box")) {
-          return;
-        }
-        CampgroundRequest.removeCampgroundItem(ItemPool.get(ItemPool.CHEF, 1));
-        // Fall through
-      case ItemPool.CHEF:
-        if (responseText.contains("already got a chef-in-the-box")) {
-          return;
-        }
-        KoLCharacter.setChef(true);
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        Preferences.setInteger("chefTurnsUsed", 0);
-        break;
+  private static AdventureResult consumeSushiRollingMat(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-      case ItemPool.SHAKER:
-        if (responseText.contains("already got a cocktailcrafting kit")) {
-          return;
-        }
-        KoLCharacter.setShaker(true);
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        return;
+    KoLCharacter.setSushiMat(true);
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    return item;
 
-      case ItemPool.COCKTAIL_KIT:
-        if (responseText.contains("already got a fancy cocktailcrafting kit")) {
-          return;
-        }
-        KoLCharacter.setCocktailKit(true);
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        break;
+    // Tomes
+  }
 
-      case ItemPool.CLOCKWORK_BARTENDER:
-        if (responseText.contains("already got a clockwork bartender-in-the-box")) {
-          return;
-        }
-        CampgroundRequest.removeCampgroundItem(ItemPool.get(ItemPool.BARTENDER, 1));
-        // Fall through
-      case ItemPool.BARTENDER:
-        if (responseText.contains("already got a bartender-in-the-box")) {
-          return;
-        }
-        KoLCharacter.setBartender(true);
-        Preferences.setInteger("bartenderTurnsUsed", 0);
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        break;
+  private static AdventureResult consumeSnowconeBook(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+  // Grimoires
+  // Librams
+  // Others
+    // You insert the ROM in to your... ROM receptacle and
+    // absorb the knowledge of optimality. You suspect you
+    // can now toggle your optimality at will (from the
+    // skills page)!
+    int itemId = item.getItemId();
 
-      case ItemPool.SUSHI_ROLLING_MAT:
-        KoLCharacter.setSushiMat(true);
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        break;
+    if (!responseText.contains("You acquire a skill")
+        && !responseText.contains("place the Grimoire on the bookshelf")
+        && !responseText.contains("absorb the knowledge of optimality")
+        && !responseText.contains("feel beary")
+        && !responseText.contains("knew how to maximize")
+        && !responseText.contains("additional carrot")
+        && !responseText.contains("larynx become even more pirate")
+        && !responseText.contains("become even more of an expert")
+        && !responseText.contains("reread the tale and really remember")
+        && !responseText.contains("spirit of Kokomo to sink")
+        && !responseText.contains("Beleven")
+        && !responseText.contains("absorb the residual paste into your soul")) {
+      UseItemRequest.lastUpdate = "You can't learn that skill.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        // Tomes
-      case ItemPool.SNOWCONE_BOOK:
-      case ItemPool.STICKER_BOOK:
-      case ItemPool.SUGAR_BOOK:
-      case ItemPool.CLIP_ART_BOOK:
-      case ItemPool.RAD_LIB_BOOK:
-      case ItemPool.SMITH_BOOK:
-        // Grimoires
-      case ItemPool.HILARIOUS_BOOK:
-      case ItemPool.TASTEFUL_BOOK:
-      case ItemPool.CARD_GAME_BOOK:
-      case ItemPool.GEEKY_BOOK:
-      case ItemPool.CONFISCATOR_BOOK:
-        // Librams
-      case ItemPool.CANDY_BOOK:
-      case ItemPool.DIVINE_BOOK:
-      case ItemPool.LOVE_BOOK:
-      case ItemPool.BRICKO_BOOK:
-      case ItemPool.DICE_BOOK:
-      case ItemPool.RESOLUTION_BOOK:
-        // Others
-      case ItemPool.JEWELRY_BOOK:
-      case ItemPool.RAINBOWS_GRAVITY:
-      case ItemPool.RAGE_GLAND:
-      case ItemPool.KISSIN_COUSINS:
-      case ItemPool.TALES_FROM_THE_FIRESIDE:
-      case ItemPool.BLIZZARDS_I_HAVE_DIED_IN:
-      case ItemPool.MAXING_RELAXING:
-      case ItemPool.BIDDY_CRACKERS_COOKBOOK:
-      case ItemPool.TRAVELS_WITH_JERRY:
-      case ItemPool.LET_ME_BE:
-      case ItemPool.ASLEEP_IN_THE_CEMETERY:
-      case ItemPool.SUMMER_NIGHTS:
-      case ItemPool.SENSUAL_MASSAGE_FOR_CREEPS:
-      case ItemPool.RICHIE_THINGFINDER:
-      case ItemPool.MEDLEY_OF_DIVERSITY:
-      case ItemPool.EXPLOSIVE_ETUDE:
-      case ItemPool.CHORALE_OF_COMPANIONSHIP:
-      case ItemPool.PRELUDE_OF_PRECISION:
-      case ItemPool.HODGMAN_JOURNAL_1:
-      case ItemPool.HODGMAN_JOURNAL_2:
-      case ItemPool.HODGMAN_JOURNAL_3:
-      case ItemPool.HODGMAN_JOURNAL_4:
-      case ItemPool.CRIMBO_CAROL_V1:
-      case ItemPool.CRIMBO_CAROL_V1_USED:
-      case ItemPool.CRIMBO_CAROL_V2:
-      case ItemPool.CRIMBO_CAROL_V2_USED:
-      case ItemPool.CRIMBO_CAROL_V3:
-      case ItemPool.CRIMBO_CAROL_V3_USED:
-      case ItemPool.CRIMBO_CAROL_V4:
-      case ItemPool.CRIMBO_CAROL_V4_USED:
-      case ItemPool.CRIMBO_CAROL_V5:
-      case ItemPool.CRIMBO_CAROL_V5_USED:
-      case ItemPool.CRIMBO_CAROL_V6:
-      case ItemPool.CRIMBO_CAROL_V6_USED:
-      case ItemPool.CRIMBO_CANDY_COOKBOOK:
-      case ItemPool.SLAPFIGHTING_BOOK:
-      case ItemPool.SLAPFIGHTING_BOOK_USED:
-      case ItemPool.UNCLE_ROMULUS:
-      case ItemPool.UNCLE_ROMULUS_USED:
-      case ItemPool.SNAKE_CHARMING_BOOK:
-      case ItemPool.SNAKE_CHARMING_BOOK_USED:
-      case ItemPool.ZU_MANNKASE_DIENEN:
-      case ItemPool.ZU_MANNKASE_DIENEN_USED:
-      case ItemPool.DYNAMITE_SUPERMAN_JONES:
-      case ItemPool.DYNAMITE_SUPERMAN_JONES_USED:
-      case ItemPool.INIGO_BOOK:
-      case ItemPool.INIGO_BOOK_USED:
-      case ItemPool.BLACK_HYMNAL:
-      case ItemPool.ELLSBURY_BOOK:
-      case ItemPool.ELLSBURY_BOOK_USED:
-      case ItemPool.UNEARTHED_METEOROID:
-      case ItemPool.KANSAS_TOYMAKER:
-      case ItemPool.KANSAS_TOYMAKER_USED:
-      case ItemPool.WASSAILING_BOOK:
-      case ItemPool.WASSAILING_BOOK_USED:
-      case ItemPool.CRIMBCO_MANUAL_1:
-      case ItemPool.CRIMBCO_MANUAL_1_USED:
-      case ItemPool.CRIMBCO_MANUAL_2:
-      case ItemPool.CRIMBCO_MANUAL_2_USED:
-      case ItemPool.CRIMBCO_MANUAL_3:
-      case ItemPool.CRIMBCO_MANUAL_3_USED:
-      case ItemPool.CRIMBCO_MANUAL_4:
-      case ItemPool.CRIMBCO_MANUAL_4_USED:
-      case ItemPool.CRIMBCO_MANUAL_5:
-      case ItemPool.CRIMBCO_MANUAL_5_USED:
-      case ItemPool.SKELETON_BOOK:
-      case ItemPool.SKELETON_BOOK_USED:
-      case ItemPool.NECBRONOMICON:
-      case ItemPool.NECBRONOMICON_USED:
-      case ItemPool.PLANT_BOOK:
-      case ItemPool.GHOST_BOOK:
-      case ItemPool.TATTLE_BOOK:
-      case ItemPool.NOTE_FROM_CLANCY:
-      case ItemPool.GRUDGE_BOOK:
-      case ItemPool.JERK_BOOK:
-      case ItemPool.HJODOR_GUIDE:
-      case ItemPool.HJODOR_GUIDE_USED:
-      case ItemPool.INFURIATING_SILENCE_RECORD:
-      case ItemPool.INFURIATING_SILENCE_RECORD_USED:
-      case ItemPool.TRANQUIL_SILENCE_RECORD:
-      case ItemPool.TRANQUIL_SILENCE_RECORD_USED:
-      case ItemPool.MENACING_SILENCE_RECORD:
-      case ItemPool.MENACING_SILENCE_RECORD_USED:
-      case ItemPool.WALBERG_BOOK:
-      case ItemPool.OCELOT_BOOK:
-      case ItemPool.DRESCHER_BOOK:
-      case ItemPool.DECODED_CULT_DOCUMENTS:
-      case ItemPool.WARBEAR_METALWORKING_PRIMER:
-      case ItemPool.WARBEAR_METALWORKING_PRIMER_USED:
-      case ItemPool.WARBEAR_EMPATHY_CHIP:
-      case ItemPool.WARBEAR_EMPATHY_CHIP_USED:
-      case ItemPool.OFFENSIVE_JOKE_BOOK:
-      case ItemPool.COOKING_WITH_GREASE_BOOK:
-      case ItemPool.DINER_HANDBOOK:
-      case ItemPool.ALIEN_SOURCE_CODE:
-      case ItemPool.ALIEN_SOURCE_CODE_USED:
-      case ItemPool.BLACK_BARTS_BOOTY:
-      case ItemPool.HYPERSANE_BOOK:
-      case ItemPool.INTIMIDATING_MIEN_BOOK:
-      case ItemPool.HOLIDAY_FUN_BOOK:
-      case ItemPool.ROM_RAPID_PROTOTYPING:
-      case ItemPool.ROM_RAPID_PROTOTYPING_DIRTY:
-      case ItemPool.ROM_MATHMATICAL_PRECISION:
-      case ItemPool.ROM_MATHMATICAL_PRECISION_DIRTY:
-      case ItemPool.ROM_RUTHLESS_EFFICIENCY:
-      case ItemPool.ROM_RUTHLESS_EFFICIENCY_DIRTY:
-      case ItemPool.ANTAGONISTIC_SNOWMAN_KIT:
-      case ItemPool.SPELUNKER_FORTUNE:
-      case ItemPool.SPELUNKER_FORTUNE_USED:
-      case ItemPool.DINSEY_GUIDE_BOOK:
-      case ItemPool.TRASH_MEMOIR_BOOK:
-      case ItemPool.DINSEY_MAINTENANCE_MANUAL:
-      case ItemPool.DINSEY_AN_AFTERLIFE:
-      case ItemPool.MAP_TO_KOKOMO:
-      case ItemPool.ESSENCE_OF_BEAR:
-      case ItemPool.MANUAL_OF_NUMBEROLOGY:
-      case ItemPool.LAVA_MINERS_DAUGHTER:
-      case ItemPool.PSYCHO_FROM_THE_HEAT:
-      case ItemPool.THE_FIREGATE_TAPES:
-      case ItemPool.COLD_WEATHER_BARTENDER_GUIDE:
-      case ItemPool.TO_BUILD_AN_IGLOO:
-      case ItemPool.CHILL_OF_THE_WILD:
-      case ItemPool.COLD_FANG:
-      case ItemPool.SCROLL_SHATTERING_PUNCH:
-      case ItemPool.SCROLL_SNOKEBOMB:
-      case ItemPool.SCROLL_SHIVERING_MONKEY:
-      case ItemPool.ROM_OF_OPTIMALITY:
-      case ItemPool.WESTERN_BOOK_BRAGGADOCCIO:
-      case ItemPool.WESTERN_BOOK_HELL:
-      case ItemPool.WESTERN_BOOK_LOOK:
-      case ItemPool.TROUT_FISHING_IN_LOATHING:
-      case ItemPool.COMMUNISM_BOOK:
-      case ItemPool.COMMUNISM_BOOK_USED:
-      case ItemPool.BRAIN_TRAINER_GAME:
-      case ItemPool.LASER_EYE_SURGERY_KIT:
-      case ItemPool.MY_LIFE_OF_CRIME_BOOK:
-      case ItemPool.POP_ART_BOOK:
-      case ItemPool.NO_HATS_BOOK:
-      case ItemPool.VIGILANTE_BOOK:
-      case ItemPool.LUMP_STACKING_BOOK:
-      case ItemPool.RETHINKING_CANDY_BOOK:
-      case ItemPool.ELDRITCH_TINCTURE:
-      case ItemPool.ELDRITCH_TINCTURE_DEPLETED:
-      case ItemPool.SPACE_PIRATE_ASTROGATION_HANDBOOK:
-      case ItemPool.NON_EUCLIDEAN_FINANCE:
-      case ItemPool.PEEK_A_BOO:
-      case ItemPool.CELSIUS_233:
-      case ItemPool.CELSIUS_233_SINGED:
-      case ItemPool.MIME_SCIENCE_VOL_1:
-      case ItemPool.MIME_SCIENCE_VOL_1_USED:
-      case ItemPool.MIME_SCIENCE_VOL_2:
-      case ItemPool.MIME_SCIENCE_VOL_2_USED:
-      case ItemPool.MIME_SCIENCE_VOL_3:
-      case ItemPool.MIME_SCIENCE_VOL_3_USED:
-      case ItemPool.MIME_SCIENCE_VOL_4:
-      case ItemPool.MIME_SCIENCE_VOL_4_USED:
-      case ItemPool.MIME_SCIENCE_VOL_5:
-      case ItemPool.MIME_SCIENCE_VOL_5_USED:
-      case ItemPool.MIME_SCIENCE_VOL_6:
-      case ItemPool.MIME_SCIENCE_VOL_6_USED:
-      case ItemPool.GET_BIG_BOOK:
-      case ItemPool.GALAPAGOS_BOOK:
-      case ItemPool.FUTURE_BOOK:
-      case ItemPool.LOVE_POTION_BOOK:
-      case ItemPool.RHINESTONE_BOOK:
-      case ItemPool.LOVE_SONG_BOOK:
-      case ItemPool.CONTRACTOR_MANUAL:
-      case ItemPool.PARTY_PLANNING_BOOK:
-      case ItemPool.DRINKING_TO_DRINK_BOOK:
-      case ItemPool.GUIDE_TO_SAFARI:
-      case ItemPool.MY_FIRST_ART_OF_WAR:
-      case ItemPool.ISLAND_DRINKIN:
-      case ItemPool.SCURVY_AND_SOBRIETY_PREVENTION:
-      case ItemPool.THE_IMPLODED_WORLD:
-      case ItemPool.THE_SPIRIT_OF_GIVING:
-      case ItemPool.MANUAL_OF_LOCK_PICKING:
-      case ItemPool.SPINAL_FLUID_COVERED_EMOTION_CHIP:
-      case ItemPool.REPLICA_EMOTION_CHIP:
-      case ItemPool.MANUAL_OF_SECRET_DOOR_AWARENESS:
-      case ItemPool.POCKET_GUIDE_TO_MILD_EVIL:
-      case ItemPool.POCKET_GUIDE_TO_MILD_EVIL_USED:
-      case ItemPool.RESIDUAL_CHITIN_PASTE:
-      case ItemPool.ELF_GUARD_FIELD_MANUAL_CULINARY_ARTS:
-      case ItemPool.COCKTAILS_OF_THE_AGE_OF_SAIL:
-      case ItemPool.ELF_GUARD_FIELD_MANUAL_EXTORTION:
-      case ItemPool.THE_ENCYCLOPEDIA_OF_FRUIT:
-      case ItemPool.ELF_GUARD_FIELD_MANUAL_WILDERNESS_SLEEPING:
-      case ItemPool.ELF_GUARD_FIELD_MANUAL_CULINARY_ARTS_USED:
-      case ItemPool.COCKTAILS_OF_THE_AGE_OF_SAIL_USED:
-      case ItemPool.ELF_GUARD_FIELD_MANUAL_EXTORTION_USED:
-      case ItemPool.THE_ENCYCLOPEDIA_OF_FRUIT_USED:
-      case ItemPool.ELF_GUARD_FIELD_MANUAL_WILDERNESS_SLEEPING_USED:
-      case ItemPool.BOOK_OF_FACTS:
-      case ItemPool.BOOK_OF_FACTS_DOG_EARED:
-      case ItemPool.TOO_COLD_TO_HOLD:
-      case ItemPool.TOO_COLD_TO_HOLD_USED:
-      case ItemPool.SECRETS_OF_THE_MASTER_EGG_HUNTERS:
-      case ItemPool.SECRETS_OF_THE_MASTER_EGG_HUNTERS_USED:
-      case ItemPool.HOW_TO_LOSE_FRIENDS_AND_ATTRACT_SNAKES:
-      case ItemPool.HOW_TO_LOSE_FRIENDS_AND_ATTRACT_SNAKES_USED:
-      case ItemPool.COVERT_OPS_FOR_KIDS:
-      case ItemPool.COVERT_OPS_FOR_KIDS_USED:
-      case ItemPool.HOLIDAY_MULTITASKING:
-      case ItemPool.HOLIDAY_MULTITASKING_USED:
-      case ItemPool.HOYLES_GUIDE_TO_REINDEER_GAMES:
-      case ItemPool.HOYLES_GUIDE_TO_REINDEER_GAMES_USED:
-      case ItemPool.SLEEP_ROM_CHIP:
-      case ItemPool.OVERCLOCK_ROM_CHIP:
-      case ItemPool.STATS_ROM_CHIP:
-        {
-          // You insert the ROM in to your... ROM receptacle and
-          // absorb the knowledge of optimality. You suspect you
-          // can now toggle your optimality at will (from the
-          // skills page)!
-          if (!responseText.contains("You acquire a skill")
-              && !responseText.contains("place the Grimoire on the bookshelf")
-              && !responseText.contains("absorb the knowledge of optimality")
-              && !responseText.contains("feel beary")
-              && !responseText.contains("knew how to maximize")
-              && !responseText.contains("additional carrot")
-              && !responseText.contains("larynx become even more pirate")
-              && !responseText.contains("become even more of an expert")
-              && !responseText.contains("reread the tale and really remember")
-              && !responseText.contains("spirit of Kokomo to sink")
-              && !responseText.contains("Beleven")
-              && !responseText.contains("absorb the residual paste into your soul")) {
-            UseItemRequest.lastUpdate = "You can't learn that skill.";
-            KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-            return;
-          }
+    String skill = UseItemRequest.itemToSkill(itemId);
+    if (skill != null) {
+      ResponseTextParser.learnSkill(skill);
+    }
 
-          String skill = UseItemRequest.itemToSkill(itemId);
-          if (skill != null) {
-            ResponseTextParser.learnSkill(skill);
-          }
+    return item;
+  }
 
-          break;
-        }
+  private static AdventureResult consumeWesternSlangVol1(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You memorize all of the violence-related slang terms in the book.
+    //
+    // Advanced Cow Puncher skills have been unlocked in the
+    // Avatar of West of Loathing Challenge Path.
+    //
+    // You memorize all of the food-related slang terms in the book.
+    //
+    // Advanced Beanslinger skills have been unlocked in
+    // the Avatar of West of Loathing Challenge Path.
+    //
+    // You memorize all of the slang terms about scams and con artists.
+    //
+    // Advanced Snake Oiler skills have been unlocked in
+    // the Avatar of West of Loathing Challenge Path.
 
-      case ItemPool.WESTERN_SLANG_VOL_1:
-      case ItemPool.WESTERN_SLANG_VOL_2:
-      case ItemPool.WESTERN_SLANG_VOL_3:
-
-        // You memorize all of the violence-related slang terms in the book.
-        //
-        // Advanced Cow Puncher skills have been unlocked in the
-        // Avatar of West of Loathing Challenge Path.
-        //
-        // You memorize all of the food-related slang terms in the book.
-        //
-        // Advanced Beanslinger skills have been unlocked in
-        // the Avatar of West of Loathing Challenge Path.
-        //
-        // You memorize all of the slang terms about scams and con artists.
-        //
-        // Advanced Snake Oiler skills have been unlocked in
-        // the Avatar of West of Loathing Challenge Path.
-
-        if (!responseText.contains("skills have been unlocked")) {
-          UseItemRequest.lastUpdate = "You've already read that book.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    if (!responseText.contains("skills have been unlocked")) {
+      UseItemRequest.lastUpdate = "You've already read that book.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        // Do we need to track this?
+    // Do we need to track this?
 
-        break;
+    return item;
+  }
 
-      case ItemPool.GREEN_THUMB:
-        Preferences.setBoolean("ownsFloristFriar", true);
-        // Fall through
-      case ItemPool.REPLICA_GREEN_THUMB:
-        FloristRequest.checkFloristAvailable();
-        break;
+  private static AdventureResult consumeGreenThumb(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("ownsFloristFriar", true);
+    return consumeReplicaGreenThumb(item, responseText, showHTML);
+  }
 
-      case ItemPool.CHATEAU_ROOM_KEY:
-        Preferences.setBoolean("chateauAvailable", true);
+  private static AdventureResult consumeReplicaGreenThumb(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    FloristRequest.checkFloristAvailable();
+    return item;
+  }
 
-        // You hike up the mountain to Chateau Mantegna and try
-        // the key in various doors until you find the one it
-        // unlocks. It's quite a nice room!
+  private static AdventureResult consumeChateauRoomKey(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("chateauAvailable", true);
 
-        if (!responseText.contains("you find the one it unlocks")) {
-          UseItemRequest.lastUpdate = "You've already have a room at the Chateau Mantegna.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    // You hike up the mountain to Chateau Mantegna and try
+    // the key in various doors until you find the one it
+    // unlocks. It's quite a nice room!
 
-        break;
+    if (!responseText.contains("you find the one it unlocks")) {
+      UseItemRequest.lastUpdate = "You've already have a room at the Chateau Mantegna.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.REPLICA_CHATEAU_ROOM_KEY:
-        Preferences.setBoolean("replicaChateauAvailable", true);
-        break;
+    return item;
+  }
 
-      case ItemPool.GINGERBREAD_CITY:
-        Preferences.setBoolean("gingerbreadCityAvailable", true);
-        if (!responseText.contains("build a gingerbread city")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeReplicaChateauRoomKey(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("replicaChateauAvailable", true);
+    return item;
+  }
 
-      case ItemPool.COUNTERFEIT_CITY:
-        if (responseText.contains("already a gingerbread city")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_gingerbreadCityToday", true);
-        break;
+  private static AdventureResult consumeGingerbreadCity(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("gingerbreadCityAvailable", true);
+    if (!responseText.contains("build a gingerbread city")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.TELEGRAPH_OFFICE_DEED:
-        Preferences.setBoolean("telegraphOfficeAvailable", true);
+  private static AdventureResult consumeCounterfeitCity(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already a gingerbread city")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_gingerbreadCityToday", true);
+    return item;
+  }
 
-        // You find a vacant lot on the Right Side of the
-        // Tracks and a loophole in the local tax code that
-        // lets you purchase it for negative 19 Meat. Then you
-        // build a telegraph office out of reclaimed materials
-        // from the city dump, spend 19 Meat on a can of paint,
-        // and before you know it you're in the telegraph
-        // business!
+  private static AdventureResult consumeTelegraphOfficeDeed(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("telegraphOfficeAvailable", true);
 
-        if (!responseText.contains("You find a vacant lot")) {
-          UseItemRequest.lastUpdate = "You've already opened a telegraph office.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    // You find a vacant lot on the Right Side of the
+    // Tracks and a loophole in the local tax code that
+    // lets you purchase it for negative 19 Meat. Then you
+    // build a telegraph office out of reclaimed materials
+    // from the city dump, spend 19 Meat on a can of paint,
+    // and before you know it you're in the telegraph
+    // business!
 
-        break;
+    if (!responseText.contains("You find a vacant lot")) {
+      UseItemRequest.lastUpdate = "You've already opened a telegraph office.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.INFLATABLE_TELEGRAPH_OFFICE:
-        // You blow up the replica LT&T office and install it on the Right Side of the Tracks.
-        if (!responseText.contains("You blow up the replica")) {
-          return;
-        }
-        Preferences.setBoolean("_telegraphOfficeToday", true);
-        break;
+    return item;
+  }
 
-      case ItemPool.HEART_SHAPED_CRATE:
-        Preferences.setBoolean("loveTunnelAvailable", true);
-        if (!responseText.contains("You wander")) {
-          UseItemRequest.lastUpdate = "You've already opened a Tunnel of L.O.V.E.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
-        break;
+  private static AdventureResult consumeInflatableTelegraphOffice(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You blow up the replica LT&T office and install it on the Right Side of the Tracks.
+    if (!responseText.contains("You blow up the replica")) {
+      return null;
+    }
+    Preferences.setBoolean("_telegraphOfficeToday", true);
+    return item;
+  }
 
-      case ItemPool.LOVE_ENTRANCE_PASS:
-        // You follow the directions on the ticket to the Tunnel of L.O.V.E.
-        if (!responseText.contains("You follow the directions")) {
-          return;
-        }
-        Preferences.setBoolean("_loveTunnelToday", true);
-        break;
+  private static AdventureResult consumeHeartShapedCrate(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("loveTunnelAvailable", true);
+    if (!responseText.contains("You wander")) {
+      UseItemRequest.lastUpdate = "You've already opened a Tunnel of L.O.V.E.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.BEAUTIFUL_RAINBOW:
-        {
-          if (responseText.contains("don't have the item you're trying to use")) {
-            UseItemRequest.lastUpdate = "You've haven't got that item.";
-            KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-            return;
-          }
+  private static AdventureResult consumeLoveEntrancePass(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You follow the directions on the ticket to the Tunnel of L.O.V.E.
+    if (!responseText.contains("You follow the directions")) {
+      return null;
+    }
+    Preferences.setBoolean("_loveTunnelToday", true);
+    return item;
+  }
 
-          if (!responseText.contains("eaten the entire thing")) {
-            UseItemRequest.lastUpdate = "You've already maxed out Belch The Rainbow.";
-            KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-            Preferences.setInteger("skillLevel117", 11);
-            return;
-          }
+  private static AdventureResult consumeBeautifulRainbow(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("don't have the item you're trying to use")) {
+      UseItemRequest.lastUpdate = "You've haven't got that item.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-          ResponseTextParser.learnSkill("Belch The Rainbow");
-          break;
-        }
+    if (!responseText.contains("eaten the entire thing")) {
+      UseItemRequest.lastUpdate = "You've already maxed out Belch The Rainbow.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      Preferences.setInteger("skillLevel117", 11);
+      return null;
+    }
 
-      case ItemPool.THUNDER_THIGH:
-      case ItemPool.AQUA_BRAIN:
-      case ItemPool.LIGHTNING_MILK:
-        {
-          // You can't learn anything else from this, so you just throw it away.
-          if (!responseText.contains("you just throw it away")) {
-            return;
-          }
-          break;
-        }
+    ResponseTextParser.learnSkill("Belch The Rainbow");
+    return item;
+  }
 
-      case ItemPool.OLFACTION_BOOK:
-        {
-          if (!responseText.contains("smell has been elevated to a superhuman level")) {
-            UseItemRequest.lastUpdate = "You can't learn that skill.";
-            KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-            return;
-          }
+  private static AdventureResult consumeThunderThigh(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You can't learn anything else from this, so you just throw it away.
+    if (!responseText.contains("you just throw it away")) {
+      return null;
+    }
+    return item;
+  }
 
-          ResponseTextParser.learnSkill("Transcendent Olfaction");
-          break;
-        }
+  private static AdventureResult consumeOlfactionBook(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("smell has been elevated to a superhuman level")) {
+      UseItemRequest.lastUpdate = "You can't learn that skill.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.TEACHINGS_OF_THE_FIST:
+    ResponseTextParser.learnSkill("Transcendent Olfaction");
+    return item;
+  }
 
-        // You learn a different skill from each scroll
-        Preferences.increment("fistSkillsKnown", 1);
-        ResponseTextParser.learnSkillFromResponse(responseText);
-        break;
+  private static AdventureResult consumeTeachingsOfTheFist(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You learn a different skill from each scroll
+    Preferences.increment("fistSkillsKnown", 1);
+    ResponseTextParser.learnSkillFromResponse(responseText);
+    return item;
+  }
 
-      case ItemPool.BOOKE_OF_VAMPYRIC_KNOWLEDGE:
-        // You learn a different skill depending on class
-        // You stare at the pages of the book, trying to decipher the crimson runes written on them.
-        // Your brain doesn't understand them, but your blood does.
-        // You've already learned all the darke secrettes this book has to offer you.
-        if (responseText.contains("already learned all the darke secrettes")) {
-          UseItemRequest.lastUpdate = "You've already learned the blood skill for your class.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
-        // This book is just a bunch of gibberish, written in blood.
-        if (responseText.contains("bunch of gibberish")) {
-          UseItemRequest.lastUpdate = "That book has nothing to teach your class.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
-        ResponseTextParser.learnSkillFromResponse(responseText);
-        break;
+  private static AdventureResult consumeBookeOfVampyricKnowledge(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You learn a different skill depending on class
+    // You stare at the pages of the book, trying to decipher the crimson runes written on them.
+    // Your brain doesn't understand them, but your blood does.
+    // You've already learned all the darke secrettes this book has to offer you.
+    if (responseText.contains("already learned all the darke secrettes")) {
+      UseItemRequest.lastUpdate = "You've already learned the blood skill for your class.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
+    // This book is just a bunch of gibberish, written in blood.
+    if (responseText.contains("bunch of gibberish")) {
+      UseItemRequest.lastUpdate = "That book has nothing to teach your class.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
+    ResponseTextParser.learnSkillFromResponse(responseText);
+    return item;
+  }
 
-      case ItemPool.SLIME_SOAKED_HYPOPHYSIS:
-      case ItemPool.SLIME_SOAKED_BRAIN:
-      case ItemPool.SLIME_SOAKED_SWEAT_GLAND:
-        {
-          for (int i = 46; i <= 48; ++i) {
-            GenericRequest req =
-                new GenericRequest("desc_skill.php?whichskill=" + i + "&self=true");
-            RequestThread.postRequest(req);
-          }
+  private static AdventureResult consumeSlimeSoakedHypophysis(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    for (int i = 46; i <= 48; ++i) {
+      GenericRequest req = new GenericRequest("desc_skill.php?whichskill=" + i + "&self=true");
+      RequestThread.postRequest(req);
+    }
 
-          // You can learn the appropriate skill up to 10 times.
-          // What does it say if you try to use the 11th?
-          if (!responseText.contains("You gain a skill")) {
-            // Item may be consumed even if you already have the skill
-            break;
-          }
+    // You can learn the appropriate skill up to 10 times.
+    // What does it say if you try to use the 11th?
+    if (!responseText.contains("You gain a skill")) {
+      // Item may be consumed even if you already have the skill
+      return item;
+    }
 
-          String skill = UseItemRequest.itemToSkill(item.getItemId());
-          ResponseTextParser.learnSkill(skill);
+    String skill = UseItemRequest.itemToSkill(item.getItemId());
+    ResponseTextParser.learnSkill(skill);
 
-          break;
-        }
+    return item;
+  }
 
-      case ItemPool.TELESCOPE:
-        // We've added or upgraded our telescope
-        KoLCharacter.setTelescope(true);
+  private static AdventureResult consumeTelescope(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // We've added or upgraded our telescope
+    KoLCharacter.setTelescope(true);
 
-        // Look through it to check number of upgrades
-        Preferences.setInteger("lastTelescopeReset", -1);
-        KoLCharacter.checkTelescope();
-        break;
+    // Look through it to check number of upgrades
+    Preferences.setInteger("lastTelescopeReset", -1);
+    KoLCharacter.checkTelescope();
+    return item;
+  }
 
-      case ItemPool.ASTRAL_MUSHROOM:
+  private static AdventureResult consumeAstralMushroom(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You eat the mushroom, and are suddenly engulfed in
+    // a whirling maelstrom of colors and sensations as
+    // your awareness is whisked away to some strange
+    // alternate dimension. Who would have thought that a
+    // glowing, ethereal mushroom could have that kind of
+    // effect?"
 
-        // "You eat the mushroom, and are suddenly engulfed in
-        // a whirling maelstrom of colors and sensations as
-        // your awareness is whisked away to some strange
-        // alternate dimension. Who would have thought that a
-        // glowing, ethereal mushroom could have that kind of
-        // effect?"
+    // "Whoo, man, lemme tell you, you don't need to be
+    // eating another one of those just now, okay?"
 
-        // "Whoo, man, lemme tell you, you don't need to be
-        // eating another one of those just now, okay?"
+    if (!responseText.contains("whirling maelstrom")) {
+      return null;
+    }
 
-        if (!responseText.contains("whirling maelstrom")) {
-          return;
-        }
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumeWorkytimeTea(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You're not quite bored enough to drink that much tea.
 
-      case ItemPool.WORKYTIME_TEA:
+    if (responseText.contains("not quite bored enough")) {
+      UseItemRequest.lastUpdate = "You're not bored enough to drink that much tea.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        // You're not quite bored enough to drink that much tea.
+    return item;
+  }
 
-        if (responseText.contains("not quite bored enough")) {
-          UseItemRequest.lastUpdate = "You're not bored enough to drink that much tea.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumeAbsinthe(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You drink the bottle of absinthe. It tastes like
+    // licorice, pain, and green. Your head begins to ache
+    // and you see a green glow in the general direction of
+    // the distant woods."
 
-        break;
+    // "No way are you gonna drink another one of those
+    // until the last one wears off."
 
-      case ItemPool.ABSINTHE:
+    if (!responseText.contains("licorice")) {
+      return null;
+    }
 
-        // "You drink the bottle of absinthe. It tastes like
-        // licorice, pain, and green. Your head begins to ache
-        // and you see a green glow in the general direction of
-        // the distant woods."
+    TurnCounter.startCounting(
+        1, "Wormwood loc=151 loc=152 loc=153 place.php?whichplace=wormwood", "tinybottle.gif");
+    TurnCounter.startCounting(
+        5, "Wormwood loc=151 loc=152 loc=153 place.php?whichplace=wormwood", "tinybottle.gif");
+    TurnCounter.startCounting(
+        9, "Wormwood loc=151 loc=152 loc=153 place.php?whichplace=wormwood", "tinybottle.gif");
 
-        // "No way are you gonna drink another one of those
-        // until the last one wears off."
+    return item;
+  }
 
-        if (!responseText.contains("licorice")) {
-          return;
-        }
+  private static AdventureResult consumeDustyAnimalSkull(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // The magic that had previously animated the animals kicks back
+    // in, and it stands up shakily and looks at you. "Graaangh?"
 
-        TurnCounter.startCounting(
-            1, "Wormwood loc=151 loc=152 loc=153 place.php?whichplace=wormwood", "tinybottle.gif");
-        TurnCounter.startCounting(
-            5, "Wormwood loc=151 loc=152 loc=153 place.php?whichplace=wormwood", "tinybottle.gif");
-        TurnCounter.startCounting(
-            9, "Wormwood loc=151 loc=152 loc=153 place.php?whichplace=wormwood", "tinybottle.gif");
+    if (!responseText.contains("Graaangh?")) {
+      UseItemRequest.lastUpdate = "You're missing some parts.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        break;
+    // Remove the other 98 bones
 
-      case ItemPool.DUSTY_ANIMAL_SKULL:
+    for (int i = 1802; i < 1900; ++i) {
+      ResultProcessor.removeItem(i);
+    }
 
-        // The magic that had previously animated the animals kicks back
-        // in, and it stands up shakily and looks at you. "Graaangh?"
+    return item;
+  }
 
-        if (!responseText.contains("Graaangh?")) {
-          UseItemRequest.lastUpdate = "You're missing some parts.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumeDrumMachine(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "And dammit, your hooks were still on there! Oh well."
 
-        // Remove the other 98 bones
+    if (responseText.contains("hooks were still on")) {
+      if (KoLCharacter.hasEquipped(ItemPool.WORM_RIDING_HOOKS, Slot.WEAPON)) {
+        // You lose your weapon
+        EquipmentManager.discardEquipment(ItemPool.WORM_RIDING_HOOKS);
+        KoLmafia.updateDisplay("Don't forget to equip a weapon!");
+      } else {
+        // You lose your hooks
+        ResultProcessor.removeItem(ItemPool.WORM_RIDING_HOOKS);
+      }
 
-        for (int i = 1802; i < 1900; ++i) {
-          ResultProcessor.removeItem(i);
-        }
+      int gnasirProgress = Preferences.getInteger("gnasirProgress");
+      gnasirProgress |= 16;
+      Preferences.setInteger("gnasirProgress", gnasirProgress);
 
-        break;
+      QuestManager.incrementDesertExploration(30);
+      return item;
+    }
 
-      case ItemPool.DRUM_MACHINE:
+    // "You don't have time to play the drums."
+    if (responseText.contains("don't have time")) {
+      UseItemRequest.lastUpdate = "Insufficient adventures left.";
+    }
 
-        // "And dammit, your hooks were still on there! Oh well."
+    // "You're too beaten-up to play the drums."
+    else if (responseText.contains("too beaten up")) {
+      UseItemRequest.lastUpdate = "Too beaten up.";
+    }
 
-        if (responseText.contains("hooks were still on")) {
-          if (KoLCharacter.hasEquipped(ItemPool.WORM_RIDING_HOOKS, Slot.WEAPON)) {
-            // You lose your weapon
-            EquipmentManager.discardEquipment(ItemPool.WORM_RIDING_HOOKS);
-            KoLmafia.updateDisplay("Don't forget to equip a weapon!");
-          } else {
-            // You lose your hooks
-            ResultProcessor.removeItem(ItemPool.WORM_RIDING_HOOKS);
-          }
+    // "You head to your campsite and crank up the drum
+    // machine. You press buttons at random, waiting for
+    // something interesting to happen, but you only
+    // succeed in annoying your neighbors."
+    else if (responseText.contains("head to your campsite")) {
+      UseItemRequest.lastUpdate = "Can't find the beach";
+    }
 
-          int gnasirProgress = Preferences.getInteger("gnasirProgress");
-          gnasirProgress |= 16;
-          Preferences.setInteger("gnasirProgress", gnasirProgress);
+    if (!UseItemRequest.lastUpdate.equals("")) {
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+    }
 
-          QuestManager.incrementDesertExploration(30);
-          break;
-        }
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        // "You don't have time to play the drums."
-        if (responseText.contains("don't have time")) {
-          UseItemRequest.lastUpdate = "Insufficient adventures left.";
-        }
+    return null;
+  }
 
-        // "You're too beaten-up to play the drums."
-        else if (responseText.contains("too beaten up")) {
-          UseItemRequest.lastUpdate = "Too beaten up.";
-        }
+  private static AdventureResult consumeCursedPieceOfThirteen(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // "You take the piece of thirteen to a rare coin
+    // dealer in Seaside Town (he's got a shop set up right
+    // next to that library across the street from the
+    // Sleazy Back Alley) to see what you can get for
+    // it. Turns out you can get X Meat for it."
+    if (responseText.contains("rare coin dealer in Seaside Town")) {
+      return item;
+    }
 
-        // "You head to your campsite and crank up the drum
-        // machine. You press buttons at random, waiting for
-        // something interesting to happen, but you only
-        // succeed in annoying your neighbors."
-        else if (responseText.contains("head to your campsite")) {
-          UseItemRequest.lastUpdate = "Can't find the beach";
-        }
+    // You consider taking the piece of thirteen to a rare
+    // coin dealer to see if it's worth anything, but you
+    // don't really have time.
+    if (responseText.contains("don't really have time")) {
+      UseItemRequest.lastUpdate = "Insufficient adventures left.";
+    }
 
-        if (!UseItemRequest.lastUpdate.equals("")) {
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-        }
+    // "You consider taking the piece of thirteen to a rare
+    // coin dealer to see if it's worth anything, but
+    // you're feeling pretty crappy right now."
+    else if (responseText.contains("feeling pretty crappy")) {
+      UseItemRequest.lastUpdate = "Too beaten up.";
+    }
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+    if (!UseItemRequest.lastUpdate.equals("")) {
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+    }
 
-        return;
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-      case ItemPool.CURSED_PIECE_OF_THIRTEEN:
+    return null;
+  }
 
-        // "You take the piece of thirteen to a rare coin
-        // dealer in Seaside Town (he's got a shop set up right
-        // next to that library across the street from the
-        // Sleazy Back Alley) to see what you can get for
-        // it. Turns out you can get X Meat for it."
-        if (responseText.contains("rare coin dealer in Seaside Town")) {
-          break;
-        }
+  private static AdventureResult consumeSpookyPuttyMonster(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You can't tell what this is supposed to be a copy
+    // of. You squish it back into a sheet.
 
-        // You consider taking the piece of thirteen to a rare
-        // coin dealer to see if it's worth anything, but you
-        // don't really have time.
-        if (responseText.contains("don't really have time")) {
-          UseItemRequest.lastUpdate = "Insufficient adventures left.";
-        }
+    if (responseText.contains("squish it back into a sheet")) {
+      Preferences.setString("spookyPuttyMonster", "");
+      return item;
+    }
 
-        // "You consider taking the piece of thirteen to a rare
-        // coin dealer to see if it's worth anything, but
-        // you're feeling pretty crappy right now."
-        else if (responseText.contains("feeling pretty crappy")) {
-          UseItemRequest.lastUpdate = "Too beaten up.";
-        }
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        if (!UseItemRequest.lastUpdate.equals("")) {
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-        }
+    return null;
+  }
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+  private static AdventureResult consumeD10(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You don't have time to go on an adventure. Even an imaginary one.
+    if (responseText.contains("don't have time")) {
+      UseItemRequest.lastUpdate = "Insufficient adventures left.";
+    }
 
-        return;
+    // Your imagination is too drunk right now.
+    else if (responseText.contains("Your imagination is too drunk")) {
+      UseItemRequest.lastUpdate = "Inebriety limit reached.";
+    }
 
-      case ItemPool.SPOOKY_PUTTY_MONSTER:
+    // Using one of these items will eventually do
+    // something. I am sorry that eventually is not now,
+    // but I ran out of time before KoL Con.
+    else if (responseText.contains("eventually is not now")) {
+      UseItemRequest.lastUpdate = "Not yet implemented.";
+    } else {
+      return item;
+    }
 
-        // You can't tell what this is supposed to be a copy
-        // of. You squish it back into a sheet.
+    KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
 
-        if (responseText.contains("squish it back into a sheet")) {
-          Preferences.setString("spookyPuttyMonster", "");
-          break;
-        }
+    return null;
+  }
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+  private static AdventureResult consumeD12(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You draw the bow and roll [X]d12 to see how far the arrow flies.
+    Matcher matcher;
 
-        return;
+    Matcher m = ARROW_PATTERN.matcher(responseText);
+    String distance = m.find() ? m.group(1) : "";
 
-      case ItemPool.D10:
+    // It goes [Xd12] feet, and just as it's about to hit the ground,
+    // a cart with a big target in it is pulled into view and
+    // the arrow hits it dead center. BULLSEYE.
 
-        // You don't have time to go on an adventure. Even an imaginary one.
-        if (responseText.contains("don't have time")) {
-          UseItemRequest.lastUpdate = "Insufficient adventures left.";
-        }
+    if (responseText.contains("BULLSEYE")) {
+      String message = "You get a bullseye at " + distance + " feet.";
+      KoLmafia.updateDisplay(message);
+      RequestLogger.updateSessionLog(message);
+      return item;
+    }
 
-        // Your imagination is too drunk right now.
-        else if (responseText.contains("Your imagination is too drunk")) {
-          UseItemRequest.lastUpdate = "Inebriety limit reached.";
-        }
+    // It goes [Xd12] feet, and doesn't hit anything interesting.
+    // You grumble and put the dice away.
+    else if (responseText.contains("You grumble and put the dice away")) {
+      UseItemRequest.lastUpdate = "You grumble and put the dice away.";
+    }
 
-        // Using one of these items will eventually do
-        // something. I am sorry that eventually is not now,
-        // but I ran out of time before KoL Con.
-        else if (responseText.contains("eventually is not now")) {
-          UseItemRequest.lastUpdate = "Not yet implemented.";
-        } else {
-          break;
-        }
+    // Y'know, you're never going to be able to top what happened last time. That was awesome.
+    else if (responseText.contains("That was awesome")) {
+      UseItemRequest.lastUpdate = "You already hit a bullseye.";
+    }
 
-        KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+    // If some unknown message, assume we use up the dice.
 
-        return;
+    else {
+      return item;
+    }
 
-      case ItemPool.D12:
-        {
+    KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
 
-          // You draw the bow and roll [X]d12 to see how far the arrow flies.
+    return null;
+  }
 
-          Matcher m = ARROW_PATTERN.matcher(responseText);
-          String distance = m.find() ? m.group(1) : "";
+  private static AdventureResult consumeD20(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You already rolled for initiative.
+    if (responseText.contains("You already rolled for initiative")) {
+      UseItemRequest.lastUpdate = "You already rolled for initiative";
+    }
 
-          // It goes [Xd12] feet, and just as it's about to hit the ground,
-          // a cart with a big target in it is pulled into view and
-          // the arrow hits it dead center. BULLSEYE.
+    // You can't figure out a good way to roll that
+    // quantity of 20-sided dice. Maybe you should've paid
+    // less attention in gym class.
 
-          if (responseText.contains("BULLSEYE")) {
-            String message = "You get a bullseye at " + distance + " feet.";
-            KoLmafia.updateDisplay(message);
-            RequestLogger.updateSessionLog(message);
-            break;
-          }
+    else if (responseText.contains("Maybe you should've paid less attention in gym class")) {
+      UseItemRequest.lastUpdate = "Rolling that many d20s doesn't do anything interesting.";
+    } else {
+      return item;
+    }
 
-          // It goes [Xd12] feet, and doesn't hit anything interesting.
-          // You grumble and put the dice away.
-          else if (responseText.contains("You grumble and put the dice away")) {
-            UseItemRequest.lastUpdate = "You grumble and put the dice away.";
-          }
+    KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
 
-          // Y'know, you're never going to be able to top what happened last time. That was awesome.
-          else if (responseText.contains("That was awesome")) {
-            UseItemRequest.lastUpdate = "You already hit a bullseye.";
-          }
+    return null;
+  }
 
-          // If some unknown message, assume we use up the dice.
+  private static AdventureResult consumeBrickoOoze(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You're sick of playing with BRICKOs today")) {
+      Preferences.setInteger("_brickoFights", 10);
+      UseItemRequest.lastUpdate = "You're sick of playing with BRICKOs today";
+      KoLmafia.updateDisplay(UseItemRequest.lastUpdate);
+      return null;
+    }
 
-          else {
-            break;
-          }
+    // You're too drunk to mess with BRICKO right now.
 
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-          return;
-        }
+    return null;
+  }
 
-      case ItemPool.D20:
+  private static AdventureResult consumeRecordingBallad(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You already have too many songs stuck in your head.
 
-        // You already rolled for initiative.
-        if (responseText.contains("You already rolled for initiative")) {
-          UseItemRequest.lastUpdate = "You already rolled for initiative";
-        }
+    if (responseText.contains("too many songs stuck in your head")) {
+      UseItemRequest.lastUpdate = "You have the maximum number of AT buffs already.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        // You can't figure out a good way to roll that
-        // quantity of 20-sided dice. Maybe you should've paid
-        // less attention in gym class.
+    return item;
+  }
 
-        else if (responseText.contains("Maybe you should've paid less attention in gym class")) {
-          UseItemRequest.lastUpdate = "Rolling that many d20s doesn't do anything interesting.";
-        } else {
-          break;
-        }
+  private static AdventureResult consumeFossilizedBatSkull(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+    return null;
+  }
 
-        return;
+  private static AdventureResult consumeIceSculpture(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_iceSculptureUsed", true);
 
-      case ItemPool.BRICKO_OOZE:
-      case ItemPool.BRICKO_BAT:
-      case ItemPool.BRICKO_OYSTER:
-      case ItemPool.BRICKO_TURTLE:
-      case ItemPool.BRICKO_ELEPHANT:
-      case ItemPool.BRICKO_OCTOPUS:
-      case ItemPool.BRICKO_PYTHON:
-      case ItemPool.BRICKO_VACUUM_CLEANER:
-      case ItemPool.BRICKO_AIRSHIP:
-      case ItemPool.BRICKO_CATHEDRAL:
-      case ItemPool.BRICKO_CHICKEN:
-        if (responseText.contains("You're sick of playing with BRICKOs today")) {
-          Preferences.setInteger("_brickoFights", 10);
-          UseItemRequest.lastUpdate = "You're sick of playing with BRICKOs today";
-          KoLmafia.updateDisplay(UseItemRequest.lastUpdate);
-          return;
-        }
+    // Ice sculptures are a form of entertainment best
+    // served sparingly. You should wait until tomorrow.
 
-        // You're too drunk to mess with BRICKO right now.
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+    return null;
+  }
 
-        return;
+  private static AdventureResult consumeShakingCamera(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_cameraUsed", true);
 
-      case ItemPool.RECORDING_BALLAD:
-      case ItemPool.RECORDING_BENETTON:
-      case ItemPool.RECORDING_CHORALE:
-      case ItemPool.RECORDING_DONHO:
-      case ItemPool.RECORDING_ELRON:
-      case ItemPool.RECORDING_INIGO:
-      case ItemPool.RECORDING_PRELUDE:
+    // You get the sense that the monster in this camera
+    // isn't ready to be developed just yet. It'll probably
+    // be ready tomorrow. And no, you can't speed it up by
+    // blowing on it.
 
-        // You already have too many songs stuck in your head.
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        if (responseText.contains("too many songs stuck in your head")) {
-          UseItemRequest.lastUpdate = "You have the maximum number of AT buffs already.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    return null;
+  }
 
-        break;
+  private static AdventureResult consumeShakingCrappyCamera(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_crappyCameraUsed", true);
 
-      case ItemPool.FOSSILIZED_BAT_SKULL:
-      case ItemPool.FOSSILIZED_SERPENT_SKULL:
-      case ItemPool.FOSSILIZED_BABOON_SKULL:
-      case ItemPool.FOSSILIZED_WYRM_SKULL:
-      case ItemPool.FOSSILIZED_DEMON_SKULL:
-      case ItemPool.FOSSILIZED_SPIDER_SKULL:
+    // You get the sense that the monster in this camera
+    // isn't ready to be developed just yet. It'll probably
+    // be ready tomorrow. And no, you can't speed it up by
+    // blowing on it.
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        return;
+    return null;
+  }
 
-      case ItemPool.ICE_SCULPTURE:
-        Preferences.setBoolean("_iceSculptureUsed", true);
+  private static AdventureResult consumePhotocopiedMonster(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_photocopyUsed", true);
 
-        // Ice sculptures are a form of entertainment best
-        // served sparingly. You should wait until tomorrow.
+    // You get nauseated just thinking about the smell of
+    // copier toner.  You don't think you can handle
+    // another one of these things today.
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        return;
+    return null;
+  }
 
-      case ItemPool.SHAKING_CAMERA:
-        Preferences.setBoolean("_cameraUsed", true);
+  private static AdventureResult consumePhotocopier(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You look around to see if anybody's watching,
+    // and when they're not, you drop your pants and
+    // giggle as you make a photocopy of your ass.
 
-        // You get the sense that the monster in this camera
-        // isn't ready to be developed just yet. It'll probably
-        // be ready tomorrow. And no, you can't speed it up by
-        // blowing on it.
+    // When you go to get up, you shatter the glass of the
+    // photocopier. Dammit.
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+    // You don't think you can handle another one of these
+    // things today.
 
-        return;
+    // If you had a photocopied monster in your inventory,
+    // nothing happens:
 
-      case ItemPool.SHAKING_CRAPPY_CAMERA:
-        Preferences.setBoolean("_crappyCameraUsed", true);
+    // You don't want your desk to get all messy --
+    // you probably shouldn't copy anything else until
+    // you've dealt with this copy you've already got.
 
-        // You get the sense that the monster in this camera
-        // isn't ready to be developed just yet. It'll probably
-        // be ready tomorrow. And no, you can't speed it up by
-        // blowing on it.
+    if (!responseText.contains("you drop your pants and giggle")) {
+      return null;
+    }
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+    Preferences.setString("photocopyMonster", "Your butt");
+    return item;
+  }
 
-        return;
+  private static AdventureResult consumeBgeTattoo(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You've already got one of those tattoos on.
+    // You should give this one to somebody who will
+    // appreciate it more.
 
-      case ItemPool.PHOTOCOPIED_MONSTER:
-        Preferences.setBoolean("_photocopyUsed", true);
+    if (responseText.contains("You've already got one of those tattoos on")) {
+      return null;
+    }
 
-        // You get nauseated just thinking about the smell of
-        // copier toner.  You don't think you can handle
-        // another one of these things today.
+    return item;
+  }
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+  private static AdventureResult consumeDolphinWhistle(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        return;
+    return null;
+  }
 
-      case ItemPool.PHOTOCOPIER:
+  private static AdventureResult consumeRustyHedgeTrimmers(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a choice, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        // You look around to see if anybody's watching,
-        // and when they're not, you drop your pants and
-        // giggle as you make a photocopy of your ass.
+    return null;
+  }
 
-        // When you go to get up, you shatter the glass of the
-        // photocopier. Dammit.
+  private static AdventureResult consumeLynyrdSnare(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
 
-        // You don't think you can handle another one of these
-        // things today.
+    Preferences.setInteger("_lynyrdSnareUses", 3);
+    return null;
+  }
 
-        // If you had a photocopied monster in your inventory,
-        // nothing happens:
+  private static AdventureResult consumeMojoFilter(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // This will always do nothing
+    int count = item.getCount();
 
-        // You don't want your desk to get all messy --
-        // you probably shouldn't copy anything else until
-        // you've dealt with this copy you've already got.
+    if (count > 3) {
+      return null;
+    }
 
-        if (!responseText.contains("you drop your pants and giggle")) {
-          return;
-        }
+    // One and one and one is three, and three is the number
+    // of filters your mojo can handle in one day.
+    if (responseText.contains("three is the number of filters")) {
+      // If mojo filters are multi-used and the result would exceed 3, this message is
+      // displayed.
+      // We can adjust the pref to something more sensible when this happens unexpectedly.
+      var current = Preferences.getInteger("currentMojoFilters");
+      Preferences.setInteger("currentMojoFilters", Math.max(4 - count, current));
+      return null;
+    }
 
-        Preferences.setString("photocopyMonster", "Your butt");
-        break;
+    // You strain some of the toxins out of your mojo, and
+    // discard the now-grodulated filter.
+    if (!responseText.contains("now-grodulated")) {
+      return null;
+    }
 
-      case ItemPool.BGE_TATTOO:
+    Preferences.increment("currentMojoFilters", count);
 
-        // You've already got one of those tattoos on.
-        // You should give this one to somebody who will
-        // appreciate it more.
+    KoLCharacter.setSpleenUse(KoLCharacter.getSpleenUse() - count);
 
-        if (responseText.contains("You've already got one of those tattoos on")) {
-          return;
-        }
+    KoLCharacter.updateStatus();
+    ConcoctionDatabase.getUsables().sort();
 
-        break;
+    return item;
+  }
 
-      case ItemPool.DOLPHIN_WHISTLE:
+  private static AdventureResult consumeSpiceMelange(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You pop the spice melange into your mouth and chew it up.
+    if (responseText.contains("too scared to eat any more of that stuff today")) {
+      Preferences.setBoolean("spiceMelangeUsed", true);
+      return null;
+    }
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+    if (!responseText.contains("You pop the spice melange into your mouth and chew it up")) {
+      return null;
+    }
 
-        return;
+    KoLCharacter.setFullness(KoLCharacter.getFullness() - 3);
+    KoLCharacter.setInebriety(Math.max(0, KoLCharacter.getInebriety() - 3));
+    Preferences.setBoolean("spiceMelangeUsed", true);
+    KoLCharacter.updateStatus();
+    ConcoctionDatabase.getUsables().sort();
 
-      case ItemPool.RUSTY_HEDGE_TRIMMERS:
+    return item;
+  }
 
-        // If we are redirected to a choice, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+  private static AdventureResult consumeUltraMegaSourBall(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You pop the candy in your mouth, and it immediately absorbs almost all of the moisture in
+    // your body.
+    if (responseText.contains("too scared to eat any more of that candy today")) {
+      Preferences.setBoolean("_ultraMegaSourBallUsed", true);
+      return null;
+    }
 
-        return;
+    if (!responseText.contains(
+        "You pop the candy in your mouth, and it immediately absorbs almost all of the moisture in your body")) {
+      return null;
+    }
 
-      case ItemPool.LYNYRD_SNARE:
+    KoLCharacter.setFullness(KoLCharacter.getFullness() - 3);
+    KoLCharacter.setInebriety(Math.max(0, KoLCharacter.getInebriety() - 3));
+    Preferences.setBoolean("_ultraMegaSourBallUsed", true);
+    KoLCharacter.updateStatus();
+    ConcoctionDatabase.getUsables().sort();
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+    return item;
+  }
 
-        Preferences.setInteger("_lynyrdSnareUses", 3);
-        return;
+  private static AdventureResult consumeAlienAnimalMilk(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_alienAnimalMilkUsed", true);
+    KoLCharacter.setFullness(KoLCharacter.getFullness() - 3);
+    KoLCharacter.updateStatus();
+    ConcoctionDatabase.getUsables().sort();
+    return item;
+  }
 
-      case ItemPool.MOJO_FILTER:
-        // This will always do nothing
-        if (count > 3) {
-          return;
-        }
+  private static AdventureResult consumeAlienPlantPod(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_alienPlantPodUsed", true);
+    KoLCharacter.setInebriety(Math.max(0, KoLCharacter.getInebriety() - 3));
+    KoLCharacter.updateStatus();
+    ConcoctionDatabase.getUsables().sort();
+    return item;
+  }
 
-        // One and one and one is three, and three is the number
-        // of filters your mojo can handle in one day.
-        if (responseText.contains("three is the number of filters")) {
-          // If mojo filters are multi-used and the result would exceed 3, this message is
-          // displayed.
-          // We can adjust the pref to something more sensible when this happens unexpectedly.
-          var current = Preferences.getInteger("currentMojoFilters");
-          Preferences.setInteger("currentMojoFilters", Math.max(4 - count, current));
-          return;
-        }
+  private static AdventureResult consumeSyntheticDogHairPill(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Your liver feels better! And quivers a bit.
+    if (responseText.contains("liver can't take any more abuse")) {
+      Preferences.setBoolean("_syntheticDogHairPillUsed", true);
+      return null;
+    }
 
-        // You strain some of the toxins out of your mojo, and
-        // discard the now-grodulated filter.
-        if (!responseText.contains("now-grodulated")) {
-          return;
-        }
+    if (!responseText.contains("quivers")) {
+      return null;
+    }
 
-        Preferences.increment("currentMojoFilters", count);
+    KoLCharacter.setInebriety(Math.max(0, KoLCharacter.getInebriety() - 1));
+    Preferences.setBoolean("_syntheticDogHairPillUsed", true);
+    KoLCharacter.updateStatus();
+    ConcoctionDatabase.getUsables().sort();
 
-        KoLCharacter.setSpleenUse(KoLCharacter.getSpleenUse() - count);
+    return item;
+  }
 
-        KoLCharacter.updateStatus();
-        ConcoctionDatabase.getUsables().sort();
+  private static AdventureResult consumeDistentionPill(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Your stomach feels rather stretched out
+    if (responseText.contains("stomach can't take any more abuse")) {
+      Preferences.setBoolean("_distentionPillUsed", true);
+      return null;
+    }
 
-        break;
+    if (!responseText.contains("stomach feels rather stretched")) {
+      return null;
+    }
 
-      case ItemPool.SPICE_MELANGE:
+    Preferences.setBoolean("_distentionPillUsed", true);
+    KoLCharacter.updateStatus();
+    ConcoctionDatabase.getUsables().sort();
 
-        // You pop the spice melange into your mouth and chew it up.
-        if (responseText.contains("too scared to eat any more of that stuff today")) {
-          Preferences.setBoolean("spiceMelangeUsed", true);
-          return;
-        }
+    return item;
+  }
 
-        if (!responseText.contains("You pop the spice melange into your mouth and chew it up")) {
-          return;
-        }
+  private static AdventureResult consumeMilkOfMagnesium(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You've already had some of this stuff today, and it
+    // was pretty hard on the old gullet.  Best wait until
+    // tomorrow to go through that again.
 
-        KoLCharacter.setFullness(KoLCharacter.getFullness() - 3);
-        KoLCharacter.setInebriety(Math.max(0, KoLCharacter.getInebriety() - 3));
-        Preferences.setBoolean("spiceMelangeUsed", true);
-        KoLCharacter.updateStatus();
-        ConcoctionDatabase.getUsables().sort();
+    if (responseText.contains("hard on the old gullet")) {
+      Preferences.setBoolean("_milkOfMagnesiumUsed", true);
+      return null;
+    }
 
-        break;
+    // You swallow the liquid.  You stomach immediately
+    // begins to churn, and all the wrinkles in your shirt
+    // smooth out from the heat radiating from your abdomen
+    if (!responseText.contains("stomach immediately begins to churn")) {
+      return null;
+    }
 
-      case ItemPool.ULTRA_MEGA_SOUR_BALL:
+    Preferences.setBoolean("_milkOfMagnesiumUsed", true);
+    Preferences.setBoolean("milkOfMagnesiumActive", true);
+    KoLCharacter.updateStatus();
+    ConcoctionDatabase.getUsables().sort();
+    ConcoctionDatabase.queuedFood.touch();
 
-        // You pop the candy in your mouth, and it immediately absorbs almost all of the moisture in
-        // your body.
-        if (responseText.contains("too scared to eat any more of that candy today")) {
-          Preferences.setBoolean("_ultraMegaSourBallUsed", true);
-          return;
-        }
+    return item;
+  }
 
-        if (!responseText.contains(
-            "You pop the candy in your mouth, and it immediately absorbs almost all of the moisture in your body")) {
-          return;
-        }
+  private static AdventureResult consumeNewbiesportTent(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-        KoLCharacter.setFullness(KoLCharacter.getFullness() - 3);
-        KoLCharacter.setInebriety(Math.max(0, KoLCharacter.getInebriety() - 3));
-        Preferences.setBoolean("_ultraMegaSourBallUsed", true);
-        KoLCharacter.updateStatus();
-        ConcoctionDatabase.getUsables().sort();
+    if (responseText.contains("You've already got")) {
+      return null;
+    }
 
-        break;
+    CampgroundRequest.destroyFurnishings();
+    CampgroundRequest.setCurrentDwelling(itemId);
+    return item;
+  }
 
-      case ItemPool.ALIEN_ANIMAL_MILK:
-        Preferences.setBoolean("_alienAnimalMilkUsed", true);
-        KoLCharacter.setFullness(KoLCharacter.getFullness() - 3);
-        KoLCharacter.updateStatus();
-        ConcoctionDatabase.getUsables().sort();
-        break;
-
-      case ItemPool.ALIEN_PLANT_POD:
-        Preferences.setBoolean("_alienPlantPodUsed", true);
-        KoLCharacter.setInebriety(Math.max(0, KoLCharacter.getInebriety() - 3));
-        KoLCharacter.updateStatus();
-        ConcoctionDatabase.getUsables().sort();
-        break;
-
-      case ItemPool.SYNTHETIC_DOG_HAIR_PILL:
+  private static AdventureResult consumeScarecrow(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-        // Your liver feels better! And quivers a bit.
-        if (responseText.contains("liver can't take any more abuse")) {
-          Preferences.setBoolean("_syntheticDogHairPillUsed", true);
-          return;
-        }
+    if (responseText.contains("You've already got")) {
+      return null;
+    }
 
-        if (!responseText.contains("quivers")) {
-          return;
-        }
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    return item;
+  }
 
-        KoLCharacter.setInebriety(Math.max(0, KoLCharacter.getInebriety() - 1));
-        Preferences.setBoolean("_syntheticDogHairPillUsed", true);
-        KoLCharacter.updateStatus();
-        ConcoctionDatabase.getUsables().sort();
+  private static AdventureResult consumeMaid(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-        break;
+    if (responseText.contains("You've already got")) {
+      return null;
+    }
 
-      case ItemPool.DISTENTION_PILL:
+    Stream.of(
+            ItemPool.MAID,
+            ItemPool.MEAT_BUTLER,
+            ItemPool.CLOCKWORK_MAID,
+            ItemPool.PORTABLE_HOUSEKEEPING_ROBOT)
+        .map(id -> ItemPool.get(id, 1))
+        .forEach(CampgroundRequest::removeCampgroundItem);
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    return item;
+  }
 
-        // Your stomach feels rather stretched out
-        if (responseText.contains("stomach can't take any more abuse")) {
-          Preferences.setBoolean("_distentionPillUsed", true);
-          return;
-        }
+  private static AdventureResult consumeMilkyPotion(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    String[][] strings = ItemPool.bangPotionStrings;
 
-        if (!responseText.contains("stomach feels rather stretched")) {
-          return;
+    for (int i = 0; i < strings.length; ++i) {
+      if (responseText.contains(strings[i][2])) {
+        if (ItemPool.eliminationProcessor(
+            strings, i, item.getItemId(), 819, 827, "lastBangPotion", " of ")) {
+          KoLmafia.updateDisplay("All bang potions have been identified!");
         }
-
-        Preferences.setBoolean("_distentionPillUsed", true);
-        KoLCharacter.updateStatus();
-        ConcoctionDatabase.getUsables().sort();
-
         break;
+      }
+    }
 
-      case ItemPool.MILK_OF_MAGNESIUM:
-
-        // You've already had some of this stuff today, and it
-        // was pretty hard on the old gullet.  Best wait until
-        // tomorrow to go through that again.
+    // You don't consume inebriety potions in HCO or HCT
+    if (responseText.contains("You decide not to drink it")) {
+      return null;
+    }
 
-        if (responseText.contains("hard on the old gullet")) {
-          Preferences.setBoolean("_milkOfMagnesiumUsed", true);
-          return;
-        }
+    return item;
+  }
 
-        // You swallow the liquid.  You stomach immediately
-        // begins to churn, and all the wrinkles in your shirt
-        // smooth out from the heat radiating from your abdomen
-        if (!responseText.contains("stomach immediately begins to churn")) {
-          return;
+  private static AdventureResult consumeVialOfRedSlime(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    String[][] strings = ItemPool.slimeVialStrings[0];
+    for (int i = 0; i < strings.length; ++i) {
+      if (responseText.contains(strings[i][1])) {
+        if (ItemPool.eliminationProcessor(
+            strings,
+            i,
+            item.getItemId(),
+            ItemPool.VIAL_OF_RED_SLIME,
+            ItemPool.VIAL_OF_BLUE_SLIME,
+            "lastSlimeVial",
+            ": ")) {
+          KoLmafia.updateDisplay("All primary slime vials have been identified!");
         }
-
-        Preferences.setBoolean("_milkOfMagnesiumUsed", true);
-        Preferences.setBoolean("milkOfMagnesiumActive", true);
-        KoLCharacter.updateStatus();
-        ConcoctionDatabase.getUsables().sort();
-        ConcoctionDatabase.queuedFood.touch();
-
         break;
+      }
+    }
+    return item;
+  }
 
-      case ItemPool.NEWBIESPORT_TENT,
-          ItemPool.BARSKIN_TENT,
-          ItemPool.COTTAGE,
-          ItemPool.BRICKO_PYRAMID,
-          ItemPool.HOUSE,
-          ItemPool.SANDCASTLE,
-          ItemPool.TWIG_HOUSE,
-          ItemPool.GINGERBREAD_HOUSE,
-          ItemPool.HOBO_FORTRESS,
-          ItemPool.GIANT_FARADAY_CAGE,
-          ItemPool.SNOW_FORT,
-          ItemPool.ELEVENT,
-          ItemPool.RESIDENCE_CUBE,
-          ItemPool.GIANT_PILGRIM_HAT,
-          ItemPool.HOUSE_SIZED_MUSHROOM,
-          ItemPool.MINI_KIWI_TIPI:
-        if (responseText.contains("You've already got")) {
-          return;
+  private static AdventureResult consumeVialOfOrangeSlime(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    String[][] strings = ItemPool.slimeVialStrings[1];
+    for (int i = 0; i < strings.length; ++i) {
+      if (responseText.contains(strings[i][1])) {
+        if (ItemPool.eliminationProcessor(
+            strings,
+            i,
+            item.getItemId(),
+            ItemPool.VIAL_OF_ORANGE_SLIME,
+            ItemPool.VIAL_OF_VIOLET_SLIME,
+            "lastSlimeVial",
+            ": ")) {
+          KoLmafia.updateDisplay("All secondary slime vials have been identified!");
         }
-
-        CampgroundRequest.destroyFurnishings();
-        CampgroundRequest.setCurrentDwelling(itemId);
         break;
+      }
+    }
+    return item;
+  }
 
-      case ItemPool.SCARECROW,
-          ItemPool.MEAT_GOLEM,
-          ItemPool.BLACK_BLUE_LIGHT,
-          ItemPool.LOUDMOUTH_LARRY,
-          ItemPool.PLASMA_BALL,
-          ItemPool.LED_CLOCK,
-          ItemPool.BONSAI_TREE,
-          ItemPool.MEAT_GLOBE:
-        if (responseText.contains("You've already got")) {
-          return;
+  private static AdventureResult consumeVialOfVermilionSlime(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    String[][] strings = ItemPool.slimeVialStrings[2];
+    for (int i = 0; i < strings.length; ++i) {
+      if (responseText.contains(strings[i][1])) {
+        if (ItemPool.eliminationProcessor(
+            strings,
+            i,
+            item.getItemId(),
+            ItemPool.VIAL_OF_VERMILION_SLIME,
+            ItemPool.VIAL_OF_PURPLE_SLIME,
+            "lastSlimeVial",
+            ": ")) {
+          KoLmafia.updateDisplay("All tertiary slime vials have been identified!");
         }
-
-        CampgroundRequest.setCampgroundItem(itemId, 1);
         break;
+      }
+    }
+    return item;
+  }
 
-      case ItemPool.MAID,
-          ItemPool.MEAT_BUTLER,
-          ItemPool.CLOCKWORK_MAID,
-          ItemPool.PORTABLE_HOUSEKEEPING_ROBOT:
-        if (responseText.contains("You've already got")) {
-          return;
-        }
+  private static AdventureResult consumeAncientCursedFootlocker(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!InventoryManager.hasItem(ItemPool.SIMPLE_CURSED_KEY)) {
+      return null;
+    }
 
-        Stream.of(
-                ItemPool.MAID,
-                ItemPool.MEAT_BUTLER,
-                ItemPool.CLOCKWORK_MAID,
-                ItemPool.PORTABLE_HOUSEKEEPING_ROBOT)
-            .map(id -> ItemPool.get(id, 1))
-            .forEach(CampgroundRequest::removeCampgroundItem);
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        break;
+    ResultProcessor.processItem(ItemPool.SIMPLE_CURSED_KEY, -1);
+    return item;
+  }
 
-      case ItemPool.MILKY_POTION,
-          ItemPool.SWIRLY_POTION,
-          ItemPool.BUBBLY_POTION,
-          ItemPool.SMOKY_POTION,
-          ItemPool.CLOUDY_POTION,
-          ItemPool.EFFERVESCENT_POTION,
-          ItemPool.FIZZY_POTION,
-          ItemPool.DARK_POTION,
-          ItemPool.MURKY_POTION:
-        String[][] strings = ItemPool.bangPotionStrings;
-
-        for (int i = 0; i < strings.length; ++i) {
-          if (responseText.contains(strings[i][2])) {
-            if (ItemPool.eliminationProcessor(
-                strings, i, item.getItemId(), 819, 827, "lastBangPotion", " of ")) {
-              KoLmafia.updateDisplay("All bang potions have been identified!");
-            }
-            break;
-          }
-        }
+  private static AdventureResult consumeOrnateCursedChest(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!InventoryManager.hasItem(ItemPool.ORNATE_CURSED_KEY)) {
+      return null;
+    }
 
-        // You don't consume inebriety potions in HCO or HCT
-        if (responseText.contains("You decide not to drink it")) {
-          return;
-        }
+    ResultProcessor.processItem(ItemPool.ORNATE_CURSED_KEY, -1);
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumeGildedCursedChest(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!InventoryManager.hasItem(ItemPool.GILDED_CURSED_KEY)) {
+      return null;
+    }
 
-      case ItemPool.VIAL_OF_RED_SLIME, ItemPool.VIAL_OF_YELLOW_SLIME, ItemPool.VIAL_OF_BLUE_SLIME:
-        strings = ItemPool.slimeVialStrings[0];
-        for (int i = 0; i < strings.length; ++i) {
-          if (responseText.contains(strings[i][1])) {
-            if (ItemPool.eliminationProcessor(
-                strings,
-                i,
-                item.getItemId(),
-                ItemPool.VIAL_OF_RED_SLIME,
-                ItemPool.VIAL_OF_BLUE_SLIME,
-                "lastSlimeVial",
-                ": ")) {
-              KoLmafia.updateDisplay("All primary slime vials have been identified!");
-            }
-            break;
-          }
-        }
-        break;
+    ResultProcessor.processItem(ItemPool.GILDED_CURSED_KEY, -1);
+    return item;
+  }
 
-      case ItemPool.VIAL_OF_ORANGE_SLIME,
-          ItemPool.VIAL_OF_GREEN_SLIME,
-          ItemPool.VIAL_OF_VIOLET_SLIME:
-        strings = ItemPool.slimeVialStrings[1];
-        for (int i = 0; i < strings.length; ++i) {
-          if (responseText.contains(strings[i][1])) {
-            if (ItemPool.eliminationProcessor(
-                strings,
-                i,
-                item.getItemId(),
-                ItemPool.VIAL_OF_ORANGE_SLIME,
-                ItemPool.VIAL_OF_VIOLET_SLIME,
-                "lastSlimeVial",
-                ": ")) {
-              KoLmafia.updateDisplay("All secondary slime vials have been identified!");
-            }
-            break;
-          }
-        }
-        break;
+  private static AdventureResult consumeStuffedChest(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!InventoryManager.hasItem(ItemPool.STUFFED_KEY)) {
+      return null;
+    }
 
-      case ItemPool.VIAL_OF_VERMILION_SLIME,
-          ItemPool.VIAL_OF_AMBER_SLIME,
-          ItemPool.VIAL_OF_CHARTREUSE_SLIME,
-          ItemPool.VIAL_OF_TEAL_SLIME,
-          ItemPool.VIAL_OF_INDIGO_SLIME,
-          ItemPool.VIAL_OF_PURPLE_SLIME:
-        strings = ItemPool.slimeVialStrings[2];
-        for (int i = 0; i < strings.length; ++i) {
-          if (responseText.contains(strings[i][1])) {
-            if (ItemPool.eliminationProcessor(
-                strings,
-                i,
-                item.getItemId(),
-                ItemPool.VIAL_OF_VERMILION_SLIME,
-                ItemPool.VIAL_OF_PURPLE_SLIME,
-                "lastSlimeVial",
-                ": ")) {
-              KoLmafia.updateDisplay("All tertiary slime vials have been identified!");
-            }
-            break;
-          }
-        }
-        break;
+    ResultProcessor.processItem(ItemPool.STUFFED_KEY, -1);
+    return item;
+  }
 
-      case ItemPool.ANCIENT_CURSED_FOOTLOCKER:
-        if (!InventoryManager.hasItem(ItemPool.SIMPLE_CURSED_KEY)) {
-          return;
-        }
+  private static AdventureResult consumeGeneralAssemblyModule(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    //  "INSUFFICIENT RESOURCES LOCATED TO DISPENSE CRIMBO
+    //  CHEER. PLEASE LOCATE A VITAL APPARATUS VENT AND
+    //  REQUISITION APPROPRIATE MATERIALS."
 
-        ResultProcessor.processItem(ItemPool.SIMPLE_CURSED_KEY, -1);
-        break;
+    if (responseText.contains("INSUFFICIENT RESOURCES LOCATED")) {
+      return null;
+    }
 
-      case ItemPool.ORNATE_CURSED_CHEST:
-        if (!InventoryManager.hasItem(ItemPool.ORNATE_CURSED_KEY)) {
-          return;
-        }
+    // You breathe a heavy sigh of relief as the pseudopods
+    // emerge from your inventory, carrying the laser
+    // cannon, laser targeting chip, and the set of
+    // Unobtainium straps that you acquired earlier from
+    // the Sinister Dodecahedron.
 
-        ResultProcessor.processItem(ItemPool.ORNATE_CURSED_KEY, -1);
-        break;
+    if (responseText.contains("carrying the  laser cannon")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.LASER_CANON, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.LASER_TARGETING_CHIP, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.UNOBTAINIUM_STRAPS, -1));
+    }
 
-      case ItemPool.GILDED_CURSED_CHEST:
-        if (!InventoryManager.hasItem(ItemPool.GILDED_CURSED_KEY)) {
-          return;
-        }
+    // You breathe a heavy sigh of relief as the pseudopods
+    // emerge from your inventory, carrying the polymorphic
+    // fastening apparatus, hi-density nylocite leg armor,
+    // and the silicon-infused gluteal shield that you
+    // acquired earlier from the Sinister Dodecahedron.
 
-        ResultProcessor.processItem(ItemPool.GILDED_CURSED_KEY, -1);
-        break;
+    else if (responseText.contains("carrying the  polymorphic fastening apparatus")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.FASTENING_APPARATUS, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.LEG_ARMOR, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GLUTEAL_SHIELD, -1));
+    }
 
-      case ItemPool.STUFFED_CHEST:
-        if (!InventoryManager.hasItem(ItemPool.STUFFED_KEY)) {
-          return;
-        }
+    // You breathe a heavy sigh of relief as the pseudopods
+    // emerge from your inventory, carrying the carbonite
+    // visor, plexifoam chin strap, and the kevlateflocite
+    // helmet that you acquired earlier from the Sinister
+    // Dodecahedron.
 
-        ResultProcessor.processItem(ItemPool.STUFFED_KEY, -1);
-        break;
+    else if (responseText.contains("carrying the carbonite visor")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.CARBONITE_VISOR, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.CHIN_STRAP, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.KEVLATEFLOCITE_HELMET, -1));
+    }
 
-      case ItemPool.GENERAL_ASSEMBLY_MODULE:
+    return item;
+  }
 
-        //  "INSUFFICIENT RESOURCES LOCATED TO DISPENSE CRIMBO
-        //  CHEER. PLEASE LOCATE A VITAL APPARATUS VENT AND
-        //  REQUISITION APPROPRIATE MATERIALS."
+  private static AdventureResult consumeAugmentedDrone(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You put an overcharged sphere in the cavity")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.OVERCHARGED_POWER_SPHERE, -1));
+    }
 
-        if (responseText.contains("INSUFFICIENT RESOURCES LOCATED")) {
-          return;
-        }
+    return item;
+  }
 
-        // You breathe a heavy sigh of relief as the pseudopods
-        // emerge from your inventory, carrying the laser
-        // cannon, laser targeting chip, and the set of
-        // Unobtainium straps that you acquired earlier from
-        // the Sinister Dodecahedron.
+  private static AdventureResult consumeNeverendingSoda(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("oscusSodaUsed", true);
+    return null;
+  }
 
-        if (responseText.contains("carrying the  laser cannon")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.LASER_CANON, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.LASER_TARGETING_CHIP, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.UNOBTAINIUM_STRAPS, -1));
-        }
+  private static AdventureResult consumeElVibratoHelmet(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // We should parse the result and save the current
+    // state of the conduits
+    return null;
+  }
 
-        // You breathe a heavy sigh of relief as the pseudopods
-        // emerge from your inventory, carrying the polymorphic
-        // fastening apparatus, hi-density nylocite leg armor,
-        // and the silicon-infused gluteal shield that you
-        // acquired earlier from the Sinister Dodecahedron.
+  private static AdventureResult consumePunchcardAttack(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("A voice emerges")) {
+      // You try to stick the punchcard into <name>
+      // and fail.
+      return null;
+    }
 
-        else if (responseText.contains("carrying the  polymorphic fastening apparatus")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.FASTENING_APPARATUS, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.LEG_ARMOR, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GLUTEAL_SHIELD, -1));
-        }
+    // We should save the state of the Megadrone
+    return item;
+  }
 
-        // You breathe a heavy sigh of relief as the pseudopods
-        // emerge from your inventory, carrying the carbonite
-        // visor, plexifoam chin strap, and the kevlateflocite
-        // helmet that you acquired earlier from the Sinister
-        // Dodecahedron.
+  private static AdventureResult consumeOutrageousSombrero(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("outrageousSombreroUsed", true);
+    return null;
+  }
 
-        else if (responseText.contains("carrying the carbonite visor")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.CARBONITE_VISOR, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.CHIN_STRAP, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.KEVLATEFLOCITE_HELMET, -1));
-        }
+  private static AdventureResult consumeTrapezoid(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("you put it on the ground at your campsite")) {
+      Preferences.setInteger("currentPortalEnergy", 20);
+      CampgroundRequest.updateElVibratoPortal();
+      return item;
+    }
+    return null;
+  }
 
-        break;
+  private static AdventureResult consumeGrub(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You briefly consider eating the plump juicy grub,
+    // but are filled with revulsion at the prospect.
+    if (responseText.contains("filled with revulsion")) {
+      return null;
+    }
 
-      case ItemPool.AUGMENTED_DRONE:
-        if (responseText.contains("You put an overcharged sphere in the cavity")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.OVERCHARGED_POWER_SPHERE, -1));
-        }
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumePersonalMassager(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You don't really need a massage right now, as your
+    // neck and back aren't feeling particularly kinky.
+    if (responseText.contains("don't really need a massage")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.NEVERENDING_SODA:
-        Preferences.setBoolean("oscusSodaUsed", true);
-        return;
+  private static AdventureResult consumeBurrowgrubHive(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // One way or another, you have used it today
+    Preferences.setBoolean("burrowgrubHiveUsed", true);
 
-      case ItemPool.EL_VIBRATO_HELMET:
+    // You pick up the burrowgrub hive to look inside it,
+    // and a bunch of the grubs crawl out of it and burrow
+    // under your skin.  It's horrifying.  You can still
+    // feel them in there. Gah.
 
-        // We should parse the result and save the current
-        // state of the conduits
-        return;
+    if (responseText.contains("It's horrifying.")) {
+      // You have three grub summons left today
+      Preferences.setInteger("burrowgrubSummonsRemaining", 3);
+    }
 
-      case ItemPool.PUNCHCARD_ATTACK:
-      case ItemPool.PUNCHCARD_REPAIR:
-      case ItemPool.PUNCHCARD_BUFF:
-      case ItemPool.PUNCHCARD_MODIFY:
-      case ItemPool.PUNCHCARD_BUILD:
-        if (!responseText.contains("A voice emerges")) {
-          // You try to stick the punchcard into <name>
-          // and fail.
-          return;
-        }
+    return null;
+  }
 
-        // We should save the state of the Megadrone
-        break;
+  private static AdventureResult consumeBoozehoundToken(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You'd take this thing to a bar and see what you can
+    // trade it in for, but you don't know where any bars
+    // are.
 
-      case ItemPool.OUTRAGEOUS_SOMBRERO:
-        Preferences.setBoolean("outrageousSombreroUsed", true);
-        return;
+    if (responseText.contains("don't know where any bars are")) {
+      return null;
+    }
 
-      case ItemPool.TRAPEZOID:
-        if (responseText.contains("you put it on the ground at your campsite")) {
-          Preferences.setInteger("currentPortalEnergy", 20);
-          CampgroundRequest.updateElVibratoPortal();
-          break;
-        }
-        return;
+    return item;
+  }
 
-      case ItemPool.GRUB:
-      case ItemPool.MOTH:
-      case ItemPool.FIRE_ANT:
-      case ItemPool.ICE_ANT:
-      case ItemPool.STINKBUG:
-      case ItemPool.DEATH_WATCH_BEETLE:
-      case ItemPool.LOUSE:
-
-        // You briefly consider eating the plump juicy grub,
-        // but are filled with revulsion at the prospect.
-        if (responseText.contains("filled with revulsion")) {
-          return;
-        }
+  private static AdventureResult consumeSmallLaminatedCard(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    DwarfFactoryRequest.useLaminatedItem(item.getItemId(), responseText);
+    return null;
+  }
 
-        break;
+  private static AdventureResult consumeDwarvishDocument(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    DwarfFactoryRequest.useUnlaminatedItem(item.getItemId(), responseText);
+    return null;
+  }
 
-      case ItemPool.PERSONAL_MASSAGER:
+  private static AdventureResult consumeWretchedSeal(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
+    // You've summoned too many Infernal seals today. Any
+    // more and you're afraid the corruption will be too
+    // much for you to bear.
+
+    if (responseText.contains("too many Infernal seals")) {
+      int maxSummons = 5;
+      if (KoLCharacter.hasEquipped(INFERNAL_SEAL_CLAW)
+          || InventoryManager.getCount(ItemPool.INFERNAL_SEAL_CLAW) > 0) {
+        maxSummons = 10;
+      }
+      UseItemRequest.lastUpdate = "Summoning limit reached.";
+      Preferences.setInteger("_sealsSummoned", maxSummons);
+    }
 
-        // You don't really need a massage right now, as your
-        // neck and back aren't feeling particularly kinky.
-        if (responseText.contains("don't really need a massage")) {
-          return;
-        }
-        break;
+    // In order to perform this summoning ritual, you need
+    // 1 seal-blubber candle. You can pick them up at the
+    // store in the Brotherhood of the Smackdown.
 
-      case ItemPool.BURROWGRUB_HIVE:
+    else if (responseText.contains("Brotherhood of the Smackdown")) {
+      UseItemRequest.lastUpdate = "You need more seal-blubber candles.";
+    }
 
-        // One way or another, you have used it today
-        Preferences.setBoolean("burrowgrubHiveUsed", true);
+    // In order to perform this summoning ritual, you need
+    // 1 imbued seal-blubber candle.
 
-        // You pick up the burrowgrub hive to look inside it,
-        // and a bunch of the grubs crawl out of it and burrow
-        // under your skin.  It's horrifying.  You can still
-        // feel them in there. Gah.
+    else if (responseText.contains("you need 1 imbued seal-blubber candle")) {
+      UseItemRequest.lastUpdate = "You need an imbued seal-blubber candle.";
+    }
 
-        if (responseText.contains("It's horrifying.")) {
-          // You have three grub summons left today
-          Preferences.setInteger("burrowgrubSummonsRemaining", 3);
-        }
+    // Only Seal Clubbers may use this item.
 
-        return;
+    else if (responseText.contains("Only Seal Clubbers may use this item.")) {
+      UseItemRequest.lastUpdate = "Only Seal Clubbers may use this item.";
+    }
 
-      case ItemPool.BOOZEHOUND_TOKEN:
+    // You need to be at least level 6 to use that item
 
-        // You'd take this thing to a bar and see what you can
-        // trade it in for, but you don't know where any bars
-        // are.
+    else if (responseText.contains("need to be at least level")) {
+      UseItemRequest.lastUpdate = "You are not high enough level.";
+    }
 
-        if (responseText.contains("don't know where any bars are")) {
-          return;
-        }
+    if (!UseItemRequest.lastUpdate.equals("")) {
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-        break;
+    // You feel your clubbing muscles begin to twitch with
+    // anticipation... Begin the Ritual
+    //
+    // Pressing "Begin the Ritual" reissues the request
+    // with an additional field: check=1
+    //
+    // inv_use.php?which=3&whichitem=3902&pwd
+    // inv_use.php?whichitem=3902&checked=1&pwd
 
-      case ItemPool.SMALL_LAMINATED_CARD:
-      case ItemPool.LITTLE_LAMINATED_CARD:
-      case ItemPool.NOTBIG_LAMINATED_CARD:
-      case ItemPool.UNLARGE_LAMINATED_CARD:
-        DwarfFactoryRequest.useLaminatedItem(item.getItemId(), responseText);
-        return;
+    return null;
+  }
 
-      case ItemPool.DWARVISH_DOCUMENT:
-      case ItemPool.DWARVISH_PAPER:
-      case ItemPool.DWARVISH_PARCHMENT:
-        DwarfFactoryRequest.useUnlaminatedItem(item.getItemId(), responseText);
-        return;
+  private static AdventureResult consumeSealIronIngot(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You beat the seal-iron into a formidable club.
+    if (!responseText.contains("formidable club")) {
+      return null;
+    }
 
-      case ItemPool.WRETCHED_SEAL:
-      case ItemPool.CUTE_BABY_SEAL:
-      case ItemPool.ARMORED_SEAL:
-      case ItemPool.ANCIENT_SEAL:
-      case ItemPool.SLEEK_SEAL:
-      case ItemPool.SHADOWY_SEAL:
-      case ItemPool.STINKING_SEAL:
-      case ItemPool.CHARRED_SEAL:
-      case ItemPool.COLD_SEAL:
-      case ItemPool.SLIPPERY_SEAL:
+    return item;
+  }
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+  private static AdventureResult consumeSinisterAncientTablet(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    AdventureRequest.registerDemonName("Sinister Ancient Tablet", responseText);
+    return null;
+  }
 
-      case ItemPool.DEPLETED_URANIUM_SEAL:
+  private static AdventureResult consumeBagOTricks(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_bagOTricksUsed", true);
+    return null;
+  }
 
-        // You've summoned too many Infernal seals today. Any
-        // more and you're afraid the corruption will be too
-        // much for you to bear.
+  private static AdventureResult consumeEvilometer(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Parse the result and save current state
+    CryptManager.examineEvilometer(responseText);
+    return null;
+  }
 
-        if (responseText.contains("too many Infernal seals")) {
-          int maxSummons = 5;
-          if (KoLCharacter.hasEquipped(INFERNAL_SEAL_CLAW)
-              || InventoryManager.getCount(ItemPool.INFERNAL_SEAL_CLAW) > 0) {
-            maxSummons = 10;
-          }
-          UseItemRequest.lastUpdate = "Summoning limit reached.";
-          Preferences.setInteger("_sealsSummoned", maxSummons);
-        }
+  private static AdventureResult consumeEvilEye(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int count = item.getCount();
 
-        // In order to perform this summoning ritual, you need
-        // 1 seal-blubber candle. You can pick them up at the
-        // store in the Brotherhood of the Smackdown.
+    if (responseText.contains("Evilometer emits three quick beeps")) {
+      int evilness = Math.min(Preferences.getInteger("cyrptNookEvilness"), 3 * count);
+      CryptManager.decreaseEvilness(AdventurePool.DEFILED_NOOK, evilness);
+    }
+    return item;
+  }
 
-        else if (responseText.contains("Brotherhood of the Smackdown")) {
-          UseItemRequest.lastUpdate = "You need more seal-blubber candles.";
-        }
+  private static AdventureResult consumeQuasirelgiousSculpture(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("entire Cyrpt feels safer")) {
+      // Can't abuse this, so queue a use item to get new Evilometer value
+      RequestThread.postRequest(UseItemRequest.getInstance(ItemPool.EVILOMETER));
+    }
+    return item;
+  }
 
-        // In order to perform this summoning ritual, you need
-        // 1 imbued seal-blubber candle.
+  private static AdventureResult consumeKeyotron(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    UseItemRequest.getBugbearBiodataLevels(responseText);
+    return null;
+  }
 
-        else if (responseText.contains("you need 1 imbued seal-blubber candle")) {
-          UseItemRequest.lastUpdate = "You need an imbued seal-blubber candle.";
-        }
+  private static AdventureResult consumeJuicyGarbage(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("juicyGarbageUsed");
+    return item;
+  }
 
-        // Only Seal Clubbers may use this item.
+  private static AdventureResult consumePenPalKit(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You've already got a pen pal. There's no way you
+    // could handle the pressure of contantly forgetting to
+    // reply to two kids from Distant Lands...
+    if (responseText.contains("already got a pen pal")) {
+      return null;
+    }
+    return item;
+  }
 
-        else if (responseText.contains("Only Seal Clubbers may use this item.")) {
-          UseItemRequest.lastUpdate = "Only Seal Clubbers may use this item.";
-        }
+  private static AdventureResult consumeNewYouClubMembershipForm(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Per the instructions on the back of the card, you
+    // place your hand over your heart and recite the
+    // membership oath: "I'm good enough, I'm smart enough,
+    // and doggone it, people like me!" You feel affirmed
+    // already!
+    if (!responseText.contains("instructions on the back of the card")) {
+      return null;
+    }
+    return item;
+  }
 
-        // You need to be at least level 6 to use that item
+  private static AdventureResult consumeHoneypot(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You gain the "Float Like a Butterfly, Smell Like a
+    // Bee" effect.	 This prevents bees from appearing
+    // while it is active.	As soon as it wears off, a bee
+    // will appear.	 Stop the bee counters, since turns
+    // remaining of the effect give the same info.
+    TurnCounter.stopCounting("Bee window begin");
+    TurnCounter.stopCounting("Bee window end");
+    return item;
+  }
 
-        else if (responseText.contains("need to be at least level")) {
-          UseItemRequest.lastUpdate = "You are not high enough level.";
-        }
+  private static AdventureResult consumeRonaldShelterMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a choice, the item is
+    // consumed elsewhere.
+    return item;
+  }
 
-        if (!UseItemRequest.lastUpdate.equals("")) {
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumeBorrowedTime(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Set the preference to true both when we fail and succeed.
+    Preferences.setBoolean("_borrowedTimeUsed", true);
 
-        // You feel your clubbing muscles begin to twitch with
-        // anticipation... Begin the Ritual
-        //
-        // Pressing "Begin the Ritual" reissues the request
-        // with an additional field: check=1
-        //
-        // inv_use.php?which=3&whichitem=3902&pwd
-        // inv_use.php?whichitem=3902&checked=1&pwd
+    if (responseText.contains("already borrowed some time today")) {
+      return null;
+    }
 
-        return;
+    // You dip into your future and borrow some time. Be sure to spend it wisely!
+    if (responseText.contains("dip into your future")) {
+      KoLCharacter.updateStatus();
+    }
+    return item;
+  }
 
-      case ItemPool.SEAL_IRON_INGOT:
+  private static AdventureResult consumeMoveableFeast(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // The table is looking pretty bare -- you should wait
+    // until tomorrow, and let some of the food magically regenerate.
+    if (responseText.contains("wait until tomorrow")) {
+      Preferences.setInteger("_feastUsed", 5);
+    }
 
-        // You beat the seal-iron into a formidable club.
-        if (!responseText.contains("formidable club")) {
-          return;
-        }
+    // <name> chows down on the moveable feast,
+    // then leans back, sighs, and loosens his belt a couple of notches.
+    else if (responseText.contains("chows down")) {
+      Preferences.increment("_feastUsed", 1);
 
-        break;
+      String familiar = KoLCharacter.getFamiliar().getRace();
+      String oldList = Preferences.getString("_feastedFamiliars");
+      String newList = oldList + (oldList.equals("") ? "" : ";") + familiar;
+      Preferences.setString("_feastedFamiliars", newList);
+    }
+    return null;
+  }
 
-      case ItemPool.SINISTER_ANCIENT_TABLET:
-        AdventureRequest.registerDemonName("Sinister Ancient Tablet", responseText);
-        return;
+  private static AdventureResult consumeStaffGuide(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You don't have time to screw around in a haunted house")) {
+      UseItemRequest.lastUpdate = "Insufficient adventures to use a staff guide.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.BAG_O_TRICKS:
-        Preferences.setBoolean("_bagOTricksUsed", true);
-        return;
+    if (responseText.contains("You aren't allowed to go to any Haunted Houses right now")) {
+      UseItemRequest.lastUpdate = "You aren't allowed to go to any Haunted Houses right now.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.EVILOMETER:
-        // Parse the result and save current state
-        CryptManager.examineEvilometer(responseText);
-        return;
+    if (responseText.contains("You don't know where any haunted sorority houses are right now.")
+        || responseText.contains("No way. It's boring in there now that everybody is dead.")) {
+      UseItemRequest.lastUpdate = "The Haunted Sorority House is unavailable.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
 
-      case ItemPool.EVIL_EYE:
-        if (responseText.contains("Evilometer emits three quick beeps")) {
-          int evilness = Math.min(Preferences.getInteger("cyrptNookEvilness"), 3 * count);
-          CryptManager.decreaseEvilness(AdventurePool.DEFILED_NOOK, evilness);
-        }
-        break;
+    return item;
+  }
 
-      case ItemPool.QUASIRELGIOUS_SCULPTURE:
-      case ItemPool.SOLID_GOLD_ROSARY:
-        if (responseText.contains("entire Cyrpt feels safer")) {
-          // Can't abuse this, so queue a use item to get new Evilometer value
-          RequestThread.postRequest(UseItemRequest.getInstance(ItemPool.EVILOMETER));
-        }
-        break;
+  private static AdventureResult consumeGhostlyBodyPaint(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You've already got a sexy costume on")) {
+      UseItemRequest.lastUpdate = "You've already got a sexy costume on.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.KEYOTRON:
-        UseItemRequest.getBugbearBiodataLevels(responseText);
-        return;
+  private static AdventureResult consumeBlackPaint(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (KoLCharacter.inFistcore()
+        && responseText.contains("Your teachings forbid the use of black paint.")) {
+      UseItemRequest.lastUpdate = "Your teachings forbid the use of black paint.";
+      KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.JUICY_GARBAGE:
-        Preferences.increment("juicyGarbageUsed");
-        break;
+  private static AdventureResult consumeAllYearSucker(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_allYearSucker", true);
+    return null;
+  }
 
-      case ItemPool.PEN_PAL_KIT:
-        // You've already got a pen pal. There's no way you
-        // could handle the pressure of contantly forgetting to
-        // reply to two kids from Distant Lands...
-        if (responseText.contains("already got a pen pal")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeDarkChocolateHeart(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_darkChocolateHeart", true);
+    return null;
+  }
 
-      case ItemPool.NEW_YOU_CLUB_MEMBERSHIP_FORM:
-        // Per the instructions on the back of the card, you
-        // place your hand over your heart and recite the
-        // membership oath: "I'm good enough, I'm smart enough,
-        // and doggone it, people like me!" You feel affirmed
-        // already!
-        if (!responseText.contains("instructions on the back of the card")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeJackassPlumberGame(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_jackassPlumberGame", true);
+    return null;
+  }
 
-      case ItemPool.HONEYPOT:
-        // You gain the "Float Like a Butterfly, Smell Like a
-        // Bee" effect.	 This prevents bees from appearing
-        // while it is active.	As soon as it wears off, a bee
-        // will appear.	 Stop the bee counters, since turns
-        // remaining of the effect give the same info.
-        TurnCounter.stopCounting("Bee window begin");
-        TurnCounter.stopCounting("Bee window end");
-        break;
+  private static AdventureResult consumeTrivialAvocationsGame(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_trivialAvocationsGame", true);
+    return null;
+  }
 
-      case ItemPool.RONALD_SHELTER_MAP:
-      case ItemPool.GRIMACE_SHELTER_MAP:
-        // If we are redirected to a choice, the item is
-        // consumed elsewhere.
-        break;
+  private static AdventureResult consumeResolutionAdventurous(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You read aloud:
+    // "I, <player name>, resolve to live this day as though it were my last day.
+    // Actually, maybe tomorrow. Maybe I'll live tomorrow as though it were my last day.
+    // That seems like a better idea. I'll be more adventurous tomorrow."
+    // Then you resolve to do it again.
+    // Then you resolve to do it again and again.
+    // Then you resolve to do it again and again and again.
+    // Then you resolve to do it again and again and again and again.
+    int count = item.getCount();
+    Matcher matcher;
 
-      case ItemPool.BORROWED_TIME:
-        // Set the preference to true both when we fail and succeed.
-        Preferences.setBoolean("_borrowedTimeUsed", true);
+    if (responseText.contains("already feeling adventurous enough")) {
+      // player has already used 5 resolutions today
+      int extraAdv = 10 - Preferences.getInteger("_resolutionAdv");
+      Preferences.increment("_resolutionAdv", extraAdv);
+      return null;
+    }
 
-        if (responseText.contains("already borrowed some time today")) {
-          return;
-        }
+    int used = 1;
+    matcher = ADVENTUROUS_RESOLUTION_PATTERN.matcher(responseText);
+    while (matcher.find()) {
+      used += 1;
+    }
 
-        // You dip into your future and borrow some time. Be sure to spend it wisely!
-        if (responseText.contains("dip into your future")) {
-          KoLCharacter.updateStatus();
-        }
-        break;
+    Preferences.increment("_resolutionAdv", 2 * used);
 
-      case ItemPool.MOVEABLE_FEAST:
+    if (used < count) {
+      item = item.getInstance(used);
+    }
 
-        // The table is looking pretty bare -- you should wait
-        // until tomorrow, and let some of the food magically regenerate.
-        if (responseText.contains("wait until tomorrow")) {
-          Preferences.setInteger("_feastUsed", 5);
-        }
+    return item;
+  }
 
-        // <name> chows down on the moveable feast,
-        // then leans back, sighs, and loosens his belt a couple of notches.
-        else if (responseText.contains("chows down")) {
-          Preferences.increment("_feastUsed", 1);
+  private static AdventureResult consumeClancySackbut(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    KoLCharacter.setCurrentInstrument(CharPaneRequest.SACKBUT);
+    return null;
+  }
 
-          String familiar = KoLCharacter.getFamiliar().getRace();
-          String oldList = Preferences.getString("_feastedFamiliars");
-          String newList = oldList + (oldList.equals("") ? "" : ";") + familiar;
-          Preferences.setString("_feastedFamiliars", newList);
-        }
-        return;
+  private static AdventureResult consumeClancyCrumhorn(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    KoLCharacter.setCurrentInstrument(CharPaneRequest.CRUMHORN);
+    return null;
+  }
 
-      case ItemPool.STAFF_GUIDE:
-        if (responseText.contains("You don't have time to screw around in a haunted house")) {
-          UseItemRequest.lastUpdate = "Insufficient adventures to use a staff guide.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumeClancyLute(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    KoLCharacter.setCurrentInstrument(CharPaneRequest.LUTE);
+    return null;
+  }
 
-        if (responseText.contains("You aren't allowed to go to any Haunted Houses right now")) {
-          UseItemRequest.lastUpdate = "You aren't allowed to go to any Haunted Houses right now.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+  private static AdventureResult consumePeppermintPacket(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (KoLCharacter.getLimitMode().limitCampground()
+        || KoLCharacter.isEd()
+        || KoLCharacter.inNuclearAutumn()) {
+      return null;
+    }
 
-        if (responseText.contains("You don't know where any haunted sorority houses are right now.")
-            || responseText.contains("No way. It's boring in there now that everybody is dead.")) {
-          UseItemRequest.lastUpdate = "The Haunted Sorority House is unavailable.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
+    RequestThread.postRequest(new CampgroundRequest());
+    return item;
+  }
 
-        break;
+  private static AdventureResult consumeEssentialTofu(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_essentialTofuUsed", true);
+    return item;
+  }
 
-      case ItemPool.GHOSTLY_BODY_PAINT:
-      case ItemPool.NECROTIZING_BODY_SPRAY:
-      case ItemPool.BITE_LIPSTICK:
-      case ItemPool.WHISKER_PENCIL:
-      case ItemPool.PRESS_ON_RIBS:
-        if (responseText.contains("You've already got a sexy costume on")) {
-          UseItemRequest.lastUpdate = "You've already got a sexy costume on.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
-        break;
+  private static AdventureResult consumeChocolateCigar(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You light the end")) {
+      Preferences.setInteger("_chocolateCigarsUsed", 1);
+    } else if (responseText.contains("This one doesn't taste")) {
+      Preferences.setInteger("_chocolateCigarsUsed", 2);
+    } else {
+      Preferences.setInteger("_chocolateCigarsUsed", 3);
+    }
+    return item;
+  }
 
-      case ItemPool.BLACK_PAINT:
-        if (KoLCharacter.inFistcore()
-            && responseText.contains("Your teachings forbid the use of black paint.")) {
-          UseItemRequest.lastUpdate = "Your teachings forbid the use of black paint.";
-          KoLmafia.updateDisplay(MafiaState.ERROR, UseItemRequest.lastUpdate);
-          return;
-        }
-        break;
+  private static AdventureResult consumeVitachocCapsule(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("As the nutritive nanobots")) {
+      Preferences.setInteger("_vitachocCapsulesUsed", 1);
+    } else if (responseText.contains("Your body is becoming acclimated")) {
+      Preferences.setInteger("_vitachocCapsulesUsed", 2);
+    } else {
+      Preferences.setInteger("_vitachocCapsulesUsed", 3);
+    }
+    return item;
+  }
 
-      case ItemPool.ALL_YEAR_SUCKER:
-        Preferences.setBoolean("_allYearSucker", true);
-        return;
+  private static AdventureResult consumeChocolateSculpture(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("doesn't taste as good")) {
+      Preferences.setInteger("_chocolateSculpturesUsed", 2);
+    } else if (responseText.contains("starting to get tired")) {
+      Preferences.setInteger("_chocolateSculpturesUsed", 3);
+    } else if (responseText.contains("didn't enjoy")) {
+      int sculptures = Preferences.getInteger("_chocolateSculpturesUsed");
+      Preferences.setInteger("_chocolateSculpturesUsed", Math.max(sculptures, 4));
+    } else {
+      Preferences.setInteger("_chocolateSculpturesUsed", 1);
+    }
+    return item;
+  }
 
-      case ItemPool.DARK_CHOCOLATE_HEART:
-        Preferences.setBoolean("_darkChocolateHeart", true);
-        return;
+  private static AdventureResult consumeFancyChocolate(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("_chocolatesUsed");
+    return item;
+  }
 
-      case ItemPool.JACKASS_PLUMBER_GAME:
-        Preferences.setBoolean("_jackassPlumberGame", true);
-        return;
+  private static AdventureResult consumeLoveChocolate(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("_loveChocolatesUsed");
+    return item;
+  }
 
-      case ItemPool.TRIVIAL_AVOCATIONS_GAME:
-        Preferences.setBoolean("_trivialAvocationsGame", true);
-        return;
+  private static AdventureResult consumeExtraTime(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("_extraTimeUsed");
+    return item;
+  }
 
-      case ItemPool.RESOLUTION_ADVENTUROUS:
+  private static AdventureResult consumeCreepyVoodooDoll(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_creepyVoodooDollUsed", true);
+    return null;
+  }
 
-        // You read aloud:
-        // "I, <player name>, resolve to live this day as though it were my last day.
-        // Actually, maybe tomorrow. Maybe I'll live tomorrow as though it were my last day.
-        // That seems like a better idea. I'll be more adventurous tomorrow."
-        // Then you resolve to do it again.
-        // Then you resolve to do it again and again.
-        // Then you resolve to do it again and again and again.
-        // Then you resolve to do it again and again and again and again.
-
-        if (responseText.contains("already feeling adventurous enough")) {
-          // player has already used 5 resolutions today
-          int extraAdv = 10 - Preferences.getInteger("_resolutionAdv");
-          Preferences.increment("_resolutionAdv", extraAdv);
-          return;
-        }
+  private static AdventureResult consumeHobbyHorse(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_hobbyHorseUsed", true);
+    return null;
+  }
 
-        int used = 1;
-        matcher = ADVENTUROUS_RESOLUTION_PATTERN.matcher(responseText);
-        while (matcher.find()) {
-          used += 1;
-        }
+  private static AdventureResult consumeBallInACup(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_ballInACupUsed", true);
+    return null;
+  }
 
-        Preferences.increment("_resolutionAdv", 2 * used);
+  private static AdventureResult consumeSetOfJacks(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_setOfJacksUsed", true);
+    return null;
+  }
 
-        if (used < count) {
-          item = item.getInstance(used);
-        }
+  private static AdventureResult consumeBagOfCandy(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_bagOfCandyUsed", true);
+    return null;
+  }
 
-        break;
+  private static AdventureResult consumeEmblemAkgyxoth(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_akgyxothUsed", true);
+    return null;
+  }
 
-      case ItemPool.CLANCY_SACKBUT:
-        KoLCharacter.setCurrentInstrument(CharPaneRequest.SACKBUT);
-        return;
+  private static AdventureResult consumeGnollEye(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_gnollEyeUsed", true);
+    return null;
+  }
 
-      case ItemPool.CLANCY_CRUMHORN:
-        KoLCharacter.setCurrentInstrument(CharPaneRequest.CRUMHORN);
-        return;
+  private static AdventureResult consumeKolConSixPack(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_kolConSixPackUsed", true);
+    return null;
+  }
 
-      case ItemPool.CLANCY_LUTE:
-        KoLCharacter.setCurrentInstrument(CharPaneRequest.LUTE);
-        return;
+  private static AdventureResult consumeMusManual(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_guildManualUsed", true);
+    return null;
+  }
 
-      case ItemPool.PEPPERMINT_PACKET:
-      case ItemPool.PUMPKIN_SEEDS:
-      case ItemPool.DRAGON_TEETH:
-      case ItemPool.BEER_SEEDS:
-      case ItemPool.WINTER_SEEDS:
-      case ItemPool.THANKSGARDEN_SEEDS:
-      case ItemPool.TALL_GRASS_SEEDS:
-      case ItemPool.MUSHROOM_SPORES:
-      case ItemPool.ROCK_SEEDS:
-        if (KoLCharacter.getLimitMode().limitCampground()
-            || KoLCharacter.isEd()
-            || KoLCharacter.inNuclearAutumn()) {
-          return;
-        }
+  private static AdventureResult consumeStuffedPocketwatch(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You play with the stuffed watch for a while, moving the
+    // hands around at random, watching everything around you
+    // speed up and slow down. It's great fun!
+    if (responseText.contains("You play with the stuffed watch")) {
+      Preferences.setBoolean("_stuffedPocketwatchUsed", true);
+    }
+    return null;
+  }
 
-        RequestThread.postRequest(new CampgroundRequest());
-        break;
+  private static AdventureResult consumeStyxSpray(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_styxSprayUsed", true);
+    return null;
+  }
 
-      case ItemPool.ESSENTIAL_TOFU:
-        Preferences.setBoolean("_essentialTofuUsed", true);
-        break;
+  private static AdventureResult consumeStabonicScroll(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_stabonicScrollUsed", true);
+    return null;
+  }
 
-      case ItemPool.CHOCOLATE_CIGAR:
-        if (responseText.contains("You light the end")) {
-          Preferences.setInteger("_chocolateCigarsUsed", 1);
-        } else if (responseText.contains("This one doesn't taste")) {
-          Preferences.setInteger("_chocolateCigarsUsed", 2);
-        } else {
-          Preferences.setInteger("_chocolateCigarsUsed", 3);
-        }
-        break;
+  private static AdventureResult consumeCoalPaperweight(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_coalPaperweightUsed", true);
+    return null;
+  }
 
-      case ItemPool.VITACHOC_CAPSULE:
-        if (responseText.contains("As the nutritive nanobots")) {
-          Preferences.setInteger("_vitachocCapsulesUsed", 1);
-        } else if (responseText.contains("Your body is becoming acclimated")) {
-          Preferences.setInteger("_vitachocCapsulesUsed", 2);
-        } else {
-          Preferences.setInteger("_vitachocCapsulesUsed", 3);
-        }
-        break;
+  private static AdventureResult consumeJingleBell(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_jingleBellUsed", true);
+    return null;
+  }
 
-      case ItemPool.CHOCOLATE_SCULPTURE:
-        if (responseText.contains("doesn't taste as good")) {
-          Preferences.setInteger("_chocolateSculpturesUsed", 2);
-        } else if (responseText.contains("starting to get tired")) {
-          Preferences.setInteger("_chocolateSculpturesUsed", 3);
-        } else if (responseText.contains("didn't enjoy")) {
-          int sculptures = Preferences.getInteger("_chocolateSculpturesUsed");
-          Preferences.setInteger("_chocolateSculpturesUsed", Math.max(sculptures, 4));
-        } else {
-          Preferences.setInteger("_chocolateSculpturesUsed", 1);
-        }
-        break;
+  private static AdventureResult consumeBoxOfHammers(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_boxOfHammersUsed", true);
+    return item;
+  }
 
-      case ItemPool.FANCY_CHOCOLATE:
-      case ItemPool.FANCY_EVIL_CHOCOLATE:
-      case ItemPool.FANCY_CHOCOLATE_CAR:
-      case ItemPool.CHOCOLATE_SEAL_CLUBBING_CLUB:
-      case ItemPool.CHOCOLATE_TURTLE_TOTEM:
-      case ItemPool.CHOCOLATE_PASTA_SPOON:
-      case ItemPool.CHOCOLATE_SAUCEPAN:
-      case ItemPool.CHOCOLATE_DISCO_BALL:
-      case ItemPool.CHOCOLATE_STOLEN_ACCORDION:
-      case ItemPool.BEET_MEDIOCREBAR:
-      case ItemPool.CORN_MEDIOCREBAR:
-      case ItemPool.CABBAGE_MEDIOCREBAR:
-      case ItemPool.CHOCO_CRIMBOT:
-        Preferences.increment("_chocolatesUsed");
-        break;
+  private static AdventureResult consumeTempuraAir(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_tempuraAirUsed", true);
+    return item;
+  }
 
-      case ItemPool.LOVE_CHOCOLATE:
-        Preferences.increment("_loveChocolatesUsed");
-        break;
+  private static AdventureResult consumePressurizedPneumaticity(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You pop the cork")) {
+      Preferences.setBoolean("_pneumaticityPotionUsed", true);
+    }
+    return item;
+  }
 
-      case ItemPool.EXTRA_TIME:
-        Preferences.increment("_extraTimeUsed");
-        break;
+  private static AdventureResult consumeHyperinflatedSealLung(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_hyperinflatedSealLungUsed", true);
+    return item;
+  }
 
-      case ItemPool.CREEPY_VOODOO_DOLL:
-        Preferences.setBoolean("_creepyVoodooDollUsed", true);
-        return;
+  private static AdventureResult consumeBallastTurtle(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_ballastTurtleUsed", true);
+    return item;
+  }
 
-      case ItemPool.HOBBY_HORSE:
-        Preferences.setBoolean("_hobbyHorseUsed", true);
-        return;
+  private static AdventureResult consumeLeftBearArm(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Both bear arms are used up to create the box
+    // You find a box, carefully label it, and shove a couple of bear arms into it.
+    if (!responseText.contains("You find a box")) {
+      return null;
+    }
+    ResultProcessor.removeItem(ItemPool.RIGHT_BEAR_ARM);
+    return null;
+  }
 
-      case ItemPool.BALL_IN_A_CUP:
-        Preferences.setBoolean("_ballInACupUsed", true);
-        return;
+  private static AdventureResult consumeCursedKeg(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_cursedKegUsed", true);
+    return null;
+  }
 
-      case ItemPool.SET_OF_JACKS:
-        Preferences.setBoolean("_setOfJacksUsed", true);
-        return;
+  private static AdventureResult consumeCursedMicrowave(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_cursedMicrowaveUsed", true);
+    return null;
+  }
 
-      case ItemPool.BAG_OF_CANDY:
-        Preferences.setBoolean("_bagOfCandyUsed", true);
-        return;
+  private static AdventureResult consumeTacoFlier(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_tacoFlierUsed", true);
+    return null;
+  }
 
-      case ItemPool.EMBLEM_AKGYXOTH:
-      case ItemPool.IDOL_AKGYXOTH:
-        Preferences.setBoolean("_akgyxothUsed", true);
-        return;
+  private static AdventureResult consumeCrimboCreepyHead(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Instead of checking which one was used and removing
+    // the others here and this one below, remove one of
+    // each here
 
-      case ItemPool.GNOLL_EYE:
-        Preferences.setBoolean("_gnollEyeUsed", true);
-        return;
+    ResultProcessor.processResult(item);
+    ResultProcessor.processItem(ItemPool.CRIMBO_CREEPY_HEAD, -1);
+    ResultProcessor.processItem(ItemPool.CRIMBO_STOGIE_ODORIZER, -1);
+    ResultProcessor.processItem(ItemPool.CRIMBO_HOT_MUG, -1);
+    ResultProcessor.processItem(ItemPool.CRIMBO_TREE_FLOCKER, -1);
+    ResultProcessor.processItem(ItemPool.CRIMBO_RUDOLPH_DOLL, -1);
+    return null;
+  }
 
-      case ItemPool.KOL_CON_SIX_PACK:
-        Preferences.setBoolean("_kolConSixPackUsed", true);
-        return;
+  private static AdventureResult consumeSuspiciousJar(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You may have succeeded
+    int itemId = item.getItemId();
 
-      case ItemPool.MUS_MANUAL:
-      case ItemPool.MYS_MANUAL:
-      case ItemPool.MOX_MANUAL:
-        Preferences.setBoolean("_guildManualUsed", true);
-        return;
+    if (!responseText.contains("You open the jar and peer inside.")) {
+      // If not, don't remove it
+      return null;
+    }
 
-      case ItemPool.STUFFED_POCKETWATCH:
-        // You play with the stuffed watch for a while, moving the
-        // hands around at random, watching everything around you
-        // speed up and slow down. It's great fun!
-        if (responseText.contains("You play with the stuffed watch")) {
-          Preferences.setBoolean("_stuffedPocketwatchUsed", true);
-        }
-        return;
+    CampgroundRequest.setCampgroundItem(itemId, 1);
+    Preferences.setBoolean("_psychoJarUsed", true);
+    return item;
+  }
 
-      case ItemPool.STYX_SPRAY:
-        Preferences.setBoolean("_styxSprayUsed", true);
-        return;
+  private static AdventureResult consumeFishyPipe(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_fishyPipeUsed", true);
+    return null;
+  }
 
-      case ItemPool.STABONIC_SCROLL:
-        Preferences.setBoolean("_stabonicScrollUsed", true);
-        return;
+  private static AdventureResult consumeSonar(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("rubble leading west from Guano Junction collapses in a heap")) {
+      QuestDatabase.setQuestProgress(Quest.BAT, "step1");
+    } else if (responseText.contains("sound waves knock down the pile of rocks on the east side")) {
+      QuestDatabase.setQuestProgress(Quest.BAT, "step2");
+    } else if (responseText.contains("high frequency noise makes short work of the rubble")) {
+      QuestDatabase.setQuestProgress(Quest.BAT, "step3");
+    }
+    return item;
+  }
 
-      case ItemPool.COAL_PAPERWEIGHT:
-        Preferences.setBoolean("_coalPaperweightUsed", true);
-        return;
+  private static AdventureResult consumeSpringBeachCharter(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("sleazeAirportAlways", true);
+    if (!responseText.contains("name gets added to the registry")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.JINGLE_BELL:
-        Preferences.setBoolean("_jingleBellUsed", true);
-        return;
+  private static AdventureResult consumeSpringBeachTicket(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already have access to that place")) {
+      return null;
+    }
+    Preferences.setBoolean("_sleazeAirportToday", true);
+    return item;
+  }
 
-      case ItemPool.BOX_OF_HAMMERS:
-        Preferences.setBoolean("_boxOfHammersUsed", true);
-        break;
+  private static AdventureResult consumeSpringBeachTattooCoupon(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("stagger into the back room")) {
+      // If not drunk enough the items is not consumed
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.TEMPURA_AIR:
-        Preferences.setBoolean("_tempuraAirUsed", true);
-        break;
+  private static AdventureResult consumeAntiFungalSpray(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.resetToDefault("funGuyMansionKills");
+    return item;
+  }
 
-      case ItemPool.PRESSURIZED_PNEUMATICITY:
-        if (responseText.contains("You pop the cork")) {
-          Preferences.setBoolean("_pneumaticityPotionUsed", true);
-        }
-        break;
+  private static AdventureResult consumeConspiracyIslandCharter(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("spookyAirportAlways", true);
+    if (!responseText.contains("name gets added to the registry")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.HYPERINFLATED_SEAL_LUNG:
-        Preferences.setBoolean("_hyperinflatedSealLungUsed", true);
-        break;
+  private static AdventureResult consumeConspiracyIslandTicket(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already have access to that place")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_spookyAirportToday", true);
+    return item;
+  }
 
-      case ItemPool.BALLAST_TURTLE:
-        Preferences.setBoolean("_ballastTurtleUsed", true);
-        break;
+  private static AdventureResult consumeShawarmaKeycard(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("SHAWARMAInitiativeUnlocked", true);
+    return item;
+  }
 
-      case ItemPool.LEFT_BEAR_ARM:
-        // Both bear arms are used up to create the box
-        // You find a box, carefully label it, and shove a couple of bear arms into it.
-        if (!responseText.contains("You find a box")) {
-          return;
-        }
-        ResultProcessor.removeItem(ItemPool.RIGHT_BEAR_ARM);
-        return;
+  private static AdventureResult consumeBottleOpenerKeycard(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("canteenUnlocked", true);
+    return item;
+  }
 
-      case ItemPool.CURSED_KEG:
-        Preferences.setBoolean("_cursedKegUsed", true);
-        return;
+  private static AdventureResult consumeArmoryKeycard(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("armoryUnlocked", true);
+    return item;
+  }
 
-      case ItemPool.CURSED_MICROWAVE:
-        Preferences.setBoolean("_cursedMicrowaveUsed", true);
-        return;
+  private static AdventureResult consumeDinseyCharter(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("stenchAirportAlways", true);
+    if (!responseText.contains("name gets added to the registry")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.TACO_FLIER:
-        Preferences.setBoolean("_tacoFlierUsed", true);
-        return;
+  private static AdventureResult consumeDinseyTicket(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already have access to that place")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_stenchAirportToday", true);
+    return item;
+  }
 
-      case ItemPool.CRIMBO_CREEPY_HEAD:
-      case ItemPool.CRIMBO_STOGIE_ODORIZER:
-      case ItemPool.CRIMBO_HOT_MUG:
-      case ItemPool.CRIMBO_TREE_FLOCKER:
-      case ItemPool.CRIMBO_RUDOLPH_DOLL:
-
-        // Instead of checking which one was used and removing
-        // the others here and this one below, remove one of
-        // each here
-
-        ResultProcessor.processResult(item);
-        ResultProcessor.processItem(ItemPool.CRIMBO_CREEPY_HEAD, -1);
-        ResultProcessor.processItem(ItemPool.CRIMBO_STOGIE_ODORIZER, -1);
-        ResultProcessor.processItem(ItemPool.CRIMBO_HOT_MUG, -1);
-        ResultProcessor.processItem(ItemPool.CRIMBO_TREE_FLOCKER, -1);
-        ResultProcessor.processItem(ItemPool.CRIMBO_RUDOLPH_DOLL, -1);
-        return;
+  private static AdventureResult consumeVolcanoCharter(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("hotAirportAlways", true);
+    if (!responseText.contains("name gets added to the registry")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.SUSPICIOUS_JAR:
-      case ItemPool.GOURD_JAR:
-      case ItemPool.MYSTIC_JAR:
-      case ItemPool.OLD_MAN_JAR:
-      case ItemPool.ARTIST_JAR:
-      case ItemPool.MEATSMITH_JAR:
-      case ItemPool.JICK_JAR:
-        // You may have succeeded
-        if (!responseText.contains("You open the jar and peer inside.")) {
-          // If not, don't remove it
-          return;
-        }
+  private static AdventureResult consumeVolcanoTicket(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already have access to that place")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_hotAirportToday", true);
+    return item;
+  }
 
-        CampgroundRequest.setCampgroundItem(itemId, 1);
-        Preferences.setBoolean("_psychoJarUsed", true);
-        break;
+  private static AdventureResult consumeGlaciestCharter(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("coldAirportAlways", true);
+    if (!responseText.contains("name gets added to the registry")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.FISHY_PIPE:
-        Preferences.setBoolean("_fishyPipeUsed", true);
-        return;
+  private static AdventureResult consumeGlaciestTicket(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already have access to that place")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_coldAirportToday", true);
+    return item;
+  }
 
-      case ItemPool.SONAR:
-        if (responseText.contains("rubble leading west from Guano Junction collapses in a heap")) {
-          QuestDatabase.setQuestProgress(Quest.BAT, "step1");
-        } else if (responseText.contains(
-            "sound waves knock down the pile of rocks on the east side")) {
-          QuestDatabase.setQuestProgress(Quest.BAT, "step2");
-        } else if (responseText.contains("high frequency noise makes short work of the rubble")) {
-          QuestDatabase.setQuestProgress(Quest.BAT, "step3");
-        }
-        break;
+  private static AdventureResult consumeLovebugPheromones(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("lovebugsUnlocked", true);
+    if (!responseText.contains("have been permanently unlocked")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.SPRING_BEACH_CHARTER:
-        Preferences.setBoolean("sleazeAirportAlways", true);
-        if (!responseText.contains("name gets added to the registry")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeSpookyravenTelegram(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    QuestDatabase.setQuestIfBetter(Quest.SPOOKYRAVEN_NECKLACE, QuestDatabase.STARTED);
+    return item;
+  }
 
-      case ItemPool.SPRING_BEACH_TICKET:
-        if (responseText.contains("already have access to that place")) {
-          return;
-        }
-        Preferences.setBoolean("_sleazeAirportToday", true);
-        break;
+  private static AdventureResult consumePileOfUselessRobotParts(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("emits a satisfied whirr")) {
+      Preferences.increment("homemadeRobotUpgrades", 1, 9, false);
+    } else if (responseText.contains("Your work here is done")) {
+      Preferences.setInteger("homemadeRobotUpgrades", 9);
+    } else {
+      // Otherwise it is not consumed.
+      return null;
+    }
 
-      case ItemPool.SPRING_BEACH_TATTOO_COUPON:
-        if (!responseText.contains("stagger into the back room")) {
-          // If not drunk enough the items is not consumed
-          return;
-        }
-        break;
-      case ItemPool.ANTI_FUNGAL_SPRAY:
-        Preferences.resetToDefault("funGuyMansionKills");
-        break;
+    // If we got to here, we probably need to refresh our familiar weight
+    var fam = KoLCharacter.getFamiliar();
+    if (fam != null) fam.setWeight();
+    return item;
+  }
 
-      case ItemPool.CONSPIRACY_ISLAND_CHARTER:
-        Preferences.setBoolean("spookyAirportAlways", true);
-        if (!responseText.contains("name gets added to the registry")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeMerkinWordquiz(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Matcher matcher;
 
-      case ItemPool.CONSPIRACY_ISLAND_TICKET:
-        if (responseText.contains("already have access to that place")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_spookyAirportToday", true);
-        break;
+    matcher = MERKIN_WORDQUIZ_PATTERN.matcher(responseText);
+    if (!matcher.find()) {
+      // Otherwise, it is not consumed
+      return null;
+    }
 
-      case ItemPool.SHAWARMA_KEYCARD:
-        Preferences.setBoolean("SHAWARMAInitiativeUnlocked", true);
-        break;
+    Preferences.setInteger("merkinVocabularyMastery", StringUtilities.parseInt(matcher.group(1)));
+    ResultProcessor.removeItem(ItemPool.MERKIN_CHEATSHEET);
+    return item;
+  }
 
-      case ItemPool.BOTTLE_OPENER_KEYCARD:
-        Preferences.setBoolean("canteenUnlocked", true);
-        break;
+  private static AdventureResult consumeDreadscroll(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Only two things remove the Mer-kin dreadscroll from inventory:
+    // successfully becoming the Mer-kin High Priest, and attempting
+    // to read it when you are already the Champion of the Arena.
+    //
+    // I guess you're the Mer-kin High Priest now. Cool!
+    //
+    // The sigil burned into your forehead (you know, the one you got
+    // for winning the tournament in the Colosseum?) flares up in
+    // intense pain as you look at the dreadscroll. A tendril of fire
+    // curls out and burns the scroll to ashes.
 
-      case ItemPool.ARMORY_KEYCARD:
-        Preferences.setBoolean("armoryUnlocked", true);
-        break;
+    if (responseText.contains("I guess you're the Mer-kin High Priest now")) {
+      Preferences.setString("merkinQuestPath", "scholar");
+      return item;
+    }
 
-      case ItemPool.DINSEY_CHARTER:
-        Preferences.setBoolean("stenchAirportAlways", true);
-        if (!responseText.contains("name gets added to the registry")) {
-          return;
-        }
-        break;
+    if (!Preferences.getString("merkinQuestPath").equals("done")
+        && responseText.contains("The sigil burned into your forehead")) {
+      Preferences.setString("merkinQuestPath", "gladiator");
+      Preferences.setInteger("lastColosseumRoundWon", 15);
+      return item;
+    }
 
-      case ItemPool.DINSEY_TICKET:
-        if (responseText.contains("already have access to that place")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_stenchAirportToday", true);
-        break;
+    // Otherwise, it is not consumed
+    return null;
+  }
 
-      case ItemPool.VOLCANO_CHARTER:
-        Preferences.setBoolean("hotAirportAlways", true);
-        if (!responseText.contains("name gets added to the registry")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeMerkinTrailmap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You follow the Mer-kin trailmap to an area of the sea floor where the currents are
+    // powerful enough to rip a map right out of your hands.
+    Preferences.setBoolean("intenseCurrents", true);
+    return item;
+  }
 
-      case ItemPool.VOLCANO_TICKET:
-        if (responseText.contains("already have access to that place")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_hotAirportToday", true);
-        break;
+  private static AdventureResult consumeMerkinStashbox(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    ResultProcessor.removeItem(ItemPool.MERKIN_LOCKKEY);
+    return item;
+  }
 
-      case ItemPool.GLACIEST_CHARTER:
-        Preferences.setBoolean("coldAirportAlways", true);
-        if (!responseText.contains("name gets added to the registry")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeMerkinKnucklebone(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    DreadScrollManager.handleKnucklebone(responseText);
+    return item;
+  }
 
-      case ItemPool.GLACIEST_TICKET:
-        if (responseText.contains("already have access to that place")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_coldAirportToday", true);
-        break;
+  private static AdventureResult consumeDefectiveToken(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_defectiveTokenUsed", true);
+    return null;
+  }
 
-      case ItemPool.LOVEBUG_PHEROMONES:
-        Preferences.setBoolean("lovebugsUnlocked", true);
-        if (!responseText.contains("have been permanently unlocked")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeSilverDreadFlask(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_silverDreadFlaskUsed", true);
+    return null;
+  }
 
-      case ItemPool.SPOOKYRAVEN_TELEGRAM:
-        QuestDatabase.setQuestIfBetter(Quest.SPOOKYRAVEN_NECKLACE, QuestDatabase.STARTED);
-        break;
+  private static AdventureResult consumeBrassDreadFlask(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_brassDreadFlaskUsed", true);
+    return null;
+  }
 
-      case ItemPool.PILE_OF_USELESS_ROBOT_PARTS:
-        {
-          if (responseText.contains("emits a satisfied whirr")) {
-            Preferences.increment("homemadeRobotUpgrades", 1, 9, false);
-          } else if (responseText.contains("Your work here is done")) {
-            Preferences.setInteger("homemadeRobotUpgrades", 9);
-          } else {
-            // Otherwise it is not consumed.
-            return;
-          }
+  private static AdventureResult consumeMarkOfTheBugbear(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("You have unlocked a new tattoo")) {
+      return null;
+    }
+    return item;
+  }
 
-          // If we got to here, we probably need to refresh our familiar weight
-          var fam = KoLCharacter.getFamiliar();
-          if (fam != null) fam.setWeight();
-          break;
-        }
+  private static AdventureResult consumeDreadsylvanianAlmanac(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You've already learned everything you can learn from these things.
+    if (responseText.contains("You've already learned everything")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.MERKIN_WORDQUIZ:
-        matcher = MERKIN_WORDQUIZ_PATTERN.matcher(responseText);
-        if (!matcher.find()) {
-          // Otherwise, it is not consumed
-          return;
-        }
+  private static AdventureResult consumeBookOfMatches(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If Hidden Tavern not already unlocked, new items available
+    if (Preferences.getInteger("hiddenTavernUnlock") != KoLCharacter.getAscensions()
+        && !responseText.contains("admire")) {
+      // Unlock Hidden Tavern
+      Preferences.setInteger("hiddenTavernUnlock", KoLCharacter.getAscensions());
+      ConcoctionDatabase.setRefreshNeeded(true);
+    }
+    return null;
+  }
 
-        Preferences.setInteger(
-            "merkinVocabularyMastery", StringUtilities.parseInt(matcher.group(1)));
-        ResultProcessor.removeItem(ItemPool.MERKIN_CHEATSHEET);
-        break;
+  private static AdventureResult consumeEternalCarBattery(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_eternalCarBatteryUsed", true);
+    return null;
+  }
 
-      case ItemPool.DREADSCROLL:
-
-        // Only two things remove the Mer-kin dreadscroll from inventory:
-        // successfully becoming the Mer-kin High Priest, and attempting
-        // to read it when you are already the Champion of the Arena.
-        //
-        // I guess you're the Mer-kin High Priest now. Cool!
-        //
-        // The sigil burned into your forehead (you know, the one you got
-        // for winning the tournament in the Colosseum?) flares up in
-        // intense pain as you look at the dreadscroll. A tendril of fire
-        // curls out and burns the scroll to ashes.
-
-        if (responseText.contains("I guess you're the Mer-kin High Priest now")) {
-          Preferences.setString("merkinQuestPath", "scholar");
-          break;
-        }
+  private static AdventureResult consumeSkeleton(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // We detect its loss via the choice adventure.
+    return null;
+  }
 
-        if (!Preferences.getString("merkinQuestPath").equals("done")
-            && responseText.contains("The sigil burned into your forehead")) {
-          Preferences.setString("merkinQuestPath", "gladiator");
-          Preferences.setInteger("lastColosseumRoundWon", 15);
-          break;
-        }
+  private static AdventureResult consumeDesertPamphlet(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    QuestManager.incrementDesertExploration(15);
+    return item;
+  }
 
-        // Otherwise, it is not consumed
-        return;
+  private static AdventureResult consumeModelingClaymore(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You bury the claymore in the clay (what a coincidence!)
+    // in the middle of the battlefield on the Mysterious
+    // Island of Mystery. Then you hide behind a tree and
+    // watch as it goes off, covering dozens of hippies and
+    // frat boys with globs of wet clay, and forcing them
+    // to head home and take showers.
+    //
+    // Well, the frat boys leave to take showers. The
+    // hippies just leave because they're lazy.
+    if (responseText.contains("You bury the claymore in the clay")) {
+      // Look at the island map and make our best
+      // effort to synch up the kill count
+      RequestThread.postRequest(new IslandRequest());
+      return item;
+    }
 
-      case ItemPool.MERKIN_TRAILMAP:
-        // You follow the Mer-kin trailmap to an area of the sea floor where the currents are
-        // powerful enough to rip a map right out of your hands.
-        Preferences.setBoolean("intenseCurrents", true);
-        break;
+    // Otherwise, it is not consumed
+    return null;
+  }
 
-      case ItemPool.MERKIN_STASHBOX:
-        ResultProcessor.removeItem(ItemPool.MERKIN_LOCKKEY);
-        break;
+  private static AdventureResult consumeStuffingFluffer(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("hippies and frat orcs")) {
+      // Look at the island map and make our best
+      // effort to synch up the kill count
+      RequestThread.postRequest(new IslandRequest());
+      return item;
+    }
 
-      case ItemPool.MERKIN_KNUCKLEBONE:
-        DreadScrollManager.handleKnucklebone(responseText);
-        break;
+    // Otherwise, it is not consumed
+    return null;
+  }
 
-      case ItemPool.DEFECTIVE_TOKEN:
-        Preferences.setBoolean("_defectiveTokenUsed", true);
-        return;
+  private static AdventureResult consumeBlueLint(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("very improbable thing happens")) {
+      // Remove all four lints
+      ResultProcessor.processItem(ItemPool.BLUE_LINT, -1);
+      ResultProcessor.processItem(ItemPool.GREEN_LINT, -1);
+      ResultProcessor.processItem(ItemPool.WHITE_LINT, -1);
+      ResultProcessor.processItem(ItemPool.ORANGE_LINT, -1);
+    }
+    return null;
+  }
 
-      case ItemPool.SILVER_DREAD_FLASK:
-        Preferences.setBoolean("_silverDreadFlaskUsed", true);
-        return;
+  private static AdventureResult consumeSpiritPillow(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("spirit bed")) {
+      // Remove bedding
+      ResultProcessor.processItem(ItemPool.SPIRIT_PILLOW, -1);
+      ResultProcessor.processItem(ItemPool.SPIRIT_SHEET, -1);
+      ResultProcessor.processItem(ItemPool.SPIRIT_MATTRESS, -1);
+      ResultProcessor.processItem(ItemPool.SPIRIT_BLANKET, -1);
+    }
+    return null;
+  }
 
-      case ItemPool.BRASS_DREAD_FLASK:
-        Preferences.setBoolean("_brassDreadFlaskUsed", true);
-        return;
+  private static AdventureResult consumePastaAdditive(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_pastaAdditive", true);
+    return null;
+  }
 
-      case ItemPool.MARK_OF_THE_BUGBEAR:
-      case ItemPool.MARK_OF_THE_WEREWOLF:
-      case ItemPool.MARK_OF_THE_ZOMBIE:
-      case ItemPool.MARK_OF_THE_GHOST:
-      case ItemPool.MARK_OF_THE_VAMPIRE:
-      case ItemPool.MARK_OF_THE_SKELETON:
-        if (!responseText.contains("You have unlocked a new tattoo")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeWarbearBreakfastMachine(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Doesn't reset if you get the breakfast miracle
+    if (!responseText.contains("breakfast miracle")) {
+      Preferences.setBoolean("_warbearBreakfastMachineUsed", true);
+    }
+    return null;
+  }
 
-      case ItemPool.DREADSYLVANIAN_ALMANAC:
-        // You've already learned everything you can learn from these things.
-        if (responseText.contains("You've already learned everything")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeWarbearSodaMachine(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_warbearSodaMachineUsed", true);
+    return null;
+  }
 
-      case ItemPool.BOOK_OF_MATCHES:
-        // If Hidden Tavern not already unlocked, new items available
-        if (Preferences.getInteger("hiddenTavernUnlock") != KoLCharacter.getAscensions()
-            && !responseText.contains("admire")) {
-          // Unlock Hidden Tavern
-          Preferences.setInteger("hiddenTavernUnlock", KoLCharacter.getAscensions());
-          ConcoctionDatabase.setRefreshNeeded(true);
-        }
-        return;
+  private static AdventureResult consumeWarbearGyrocopterBroken(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_warbearGyrocopterUsed", true);
+    return item;
+  }
 
-      case ItemPool.ETERNAL_CAR_BATTERY:
-        Preferences.setBoolean("_eternalCarBatteryUsed", true);
-        return;
+  private static AdventureResult consumeWarbearBank(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You don't have 25 Meat to drop into the bank.
+    if (!responseText.contains("don't have")) {
+      Preferences.setBoolean("_warbearBankUsed", true);
+    }
+    return null;
+  }
 
-      case ItemPool.SKELETON:
+  private static AdventureResult consumeLupineAppetiteHormones(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_lupineHormonesUsed", true);
+    return item;
+  }
 
-        // We detect its loss via the choice adventure.
-        return;
+  private static AdventureResult consumeCorruptedStardust(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_corruptedStardustUsed", true);
+    return item;
+  }
 
-      case ItemPool.DESERT_PAMPHLET:
-        QuestManager.incrementDesertExploration(15);
-        break;
+  private static AdventureResult consumePixelOrb(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_pixelOrbUsed", true);
+    return item;
+  }
 
-      case ItemPool.MODELING_CLAYMORE:
-        // You bury the claymore in the clay (what a coincidence!)
-        // in the middle of the battlefield on the Mysterious
-        // Island of Mystery. Then you hide behind a tree and
-        // watch as it goes off, covering dozens of hippies and
-        // frat boys with globs of wet clay, and forcing them
-        // to head home and take showers.
-        //
-        // Well, the frat boys leave to take showers. The
-        // hippies just leave because they're lazy.
-        if (responseText.contains("You bury the claymore in the clay")) {
-          // Look at the island map and make our best
-          // effort to synch up the kill count
-          RequestThread.postRequest(new IslandRequest());
-          break;
-        }
+  private static AdventureResult consumeJarlsbergSoulFragment(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("extra skill point")) {
+      return null;
+    }
+    Preferences.increment("jarlsbergPoints");
+    return item;
+  }
 
-        // Otherwise, it is not consumed
-        return;
+  private static AdventureResult consumeSneakyPeteShot(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("extra skill point")) {
+      return null;
+    }
+    Preferences.increment("sneakyPetePoints");
+    return item;
+  }
 
-      case ItemPool.STUFFING_FLUFFER:
-        if (responseText.contains("hippies and frat orcs")) {
-          // Look at the island map and make our best
-          // effort to synch up the kill count
-          RequestThread.postRequest(new IslandRequest());
-          break;
-        }
+  private static AdventureResult consumeSeshatTalisman(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("transform into knowledge")) {
+      return null;
+    }
+    Preferences.increment("edPoints");
+    return item;
+  }
 
-        // Otherwise, it is not consumed
-        return;
+  private static AdventureResult consumeLazenby(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("You lean how best to grow your social capital.")) {
+      return null;
+    }
+    Preferences.increment("bondPoints");
+    return item;
+  }
 
-      case ItemPool.BLUE_LINT:
-      case ItemPool.GREEN_LINT:
-      case ItemPool.WHITE_LINT:
-      case ItemPool.ORANGE_LINT:
-        if (responseText.contains("very improbable thing happens")) {
-          // Remove all four lints
-          ResultProcessor.processItem(ItemPool.BLUE_LINT, -1);
-          ResultProcessor.processItem(ItemPool.GREEN_LINT, -1);
-          ResultProcessor.processItem(ItemPool.WHITE_LINT, -1);
-          ResultProcessor.processItem(ItemPool.ORANGE_LINT, -1);
-        }
-        return;
+  private static AdventureResult consumeVampyreBlood(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Get success text
+    Preferences.increment("darkGyfftePoints");
+    return item;
+  }
 
-      case ItemPool.SPIRIT_PILLOW:
-      case ItemPool.SPIRIT_SHEET:
-      case ItemPool.SPIRIT_MATTRESS:
-      case ItemPool.SPIRIT_BLANKET:
-        if (responseText.contains("spirit bed")) {
-          // Remove bedding
-          ResultProcessor.processItem(ItemPool.SPIRIT_PILLOW, -1);
-          ResultProcessor.processItem(ItemPool.SPIRIT_SHEET, -1);
-          ResultProcessor.processItem(ItemPool.SPIRIT_MATTRESS, -1);
-          ResultProcessor.processItem(ItemPool.SPIRIT_BLANKET, -1);
-        }
-        return;
+  private static AdventureResult consumeReplicaTenDollars(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You hand your replica ten dollars to some guy who tells you to &quot;pay, pal&quot; and
+    // are now entitled to an extra replica Mr. Accessory in future Legacy of Loathing runs.
+    // You hand your replica ten dollars to some guy who tells you to &quot;pay, pal&quot; and
+    // are now entitled to some extra replica Mr. Accessory in future Legacy of Loathing runs.
+    int count = item.getCount();
 
-      case ItemPool.PASTA_ADDITIVE:
-        Preferences.setBoolean("_pastaAdditive", true);
-        return;
+    if (!responseText.contains("extra replica Mr. Accessor")) {
+      return null;
+    }
+    Preferences.increment("legacyPoints", count, 19, false);
+    return item;
+  }
 
-      case ItemPool.WARBEAR_BREAKFAST_MACHINE:
-        // Doesn't reset if you get the breakfast miracle
-        if (!responseText.contains("breakfast miracle")) {
-          Preferences.setBoolean("_warbearBreakfastMachineUsed", true);
-        }
-        return;
+  private static AdventureResult consumeResearchFragment(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Get success text
+    int count = item.getCount();
 
-      case ItemPool.WARBEAR_SODA_MACHINE:
-        Preferences.setBoolean("_warbearSodaMachineUsed", true);
-        return;
+    Preferences.increment("wereProfessorPoints", count, 23, false);
+    return item;
+  }
 
-      case ItemPool.WARBEAR_GYROCOPTER_BROKEN:
-        Preferences.setBoolean("_warbearGyrocopterUsed", true);
-        break;
+  private static AdventureResult consumeEssenceOfAnnoyance(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("You quaff")) {
+      return null;
+    }
+    Preferences.decrement("summonAnnoyanceCost", 1);
+    return item;
+  }
 
-      case ItemPool.WARBEAR_BANK:
-        // You don't have 25 Meat to drop into the bank.
-        if (!responseText.contains("don't have")) {
-          Preferences.setBoolean("_warbearBankUsed", true);
-        }
-        return;
+  private static AdventureResult consumeSweetTooth(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You pop the sweet") || responseText.contains("You already had")) {
+      Preferences.setBoolean("_sweetToothUsed", true);
+    }
+    return item;
+  }
 
-      case ItemPool.LUPINE_APPETITE_HORMONES:
-        Preferences.setBoolean("_lupineHormonesUsed", true);
-        break;
+  private static AdventureResult consumeVoraciTea(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_voraciTeaUsed", true);
+    return item;
+  }
 
-      case ItemPool.CORRUPTED_STARDUST:
-        Preferences.setBoolean("_corruptedStardustUsed", true);
-        break;
+  private static AdventureResult consumeSobrieTea(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_sobrieTeaUsed", true);
+    return item;
+  }
 
-      case ItemPool.PIXEL_ORB:
-        Preferences.setBoolean("_pixelOrbUsed", true);
-        break;
+  private static AdventureResult consumeChronerTrigger(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_chronerTriggerUsed", true);
+    return null;
+  }
 
-      case ItemPool.JARLSBERG_SOUL_FRAGMENT:
-        if (!responseText.contains("extra skill point")) {
-          return;
-        }
-        Preferences.increment("jarlsbergPoints");
-        break;
+  private static AdventureResult consumeChronerCross(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_chronerCrossUsed", true);
+    if (!responseText.contains("falls right through")) {
+      ResultProcessor.removeItem(ItemPool.CHRONER);
+    }
+    return null;
+  }
 
-      case ItemPool.SNEAKY_PETE_SHOT:
-        if (!responseText.contains("extra skill point")) {
-          return;
-        }
-        Preferences.increment("sneakyPetePoints");
-        break;
+  private static AdventureResult consumePalindromeBook2(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    QuestDatabase.setQuestIfBetter(Quest.PALINDOME, "step2");
+    return null;
+  }
 
-      case ItemPool.SESHAT_TALISMAN:
-        if (!responseText.contains("transform into knowledge")) {
-          return;
-        }
-        Preferences.increment("edPoints");
-        break;
+  private static AdventureResult consumeSteamFist1(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("rub the three trading cards together")) {
+      ResultProcessor.processItem(ItemPool.STEAM_FIST_1, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_FIST_2, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_FIST_3, -1);
+    }
+    return null;
+  }
 
-      case ItemPool.LAZENBY:
-        if (!responseText.contains("You lean how best to grow your social capital.")) {
-          return;
-        }
-        Preferences.increment("bondPoints");
-        break;
+  private static AdventureResult consumeSteamTrip1(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("rub the three trading cards together")) {
+      ResultProcessor.processItem(ItemPool.STEAM_TRIP_1, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_TRIP_2, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_TRIP_3, -1);
+    }
+    return null;
+  }
 
-      case ItemPool.VAMPYRE_BLOOD:
-        // Get success text
-        Preferences.increment("darkGyfftePoints");
-        break;
+  private static AdventureResult consumeSteamMeteoid1(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("rub the three trading cards together")) {
+      ResultProcessor.processItem(ItemPool.STEAM_METEOID_1, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_METEOID_2, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_METEOID_3, -1);
+    }
+    return null;
+  }
 
-      case ItemPool.REPLICA_TEN_DOLLARS:
-        // You hand your replica ten dollars to some guy who tells you to &quot;pay, pal&quot; and
-        // are now entitled to an extra replica Mr. Accessory in future Legacy of Loathing runs.
-        // You hand your replica ten dollars to some guy who tells you to &quot;pay, pal&quot; and
-        // are now entitled to some extra replica Mr. Accessory in future Legacy of Loathing runs.
-        if (!responseText.contains("extra replica Mr. Accessor")) {
-          return;
-        }
-        Preferences.increment("legacyPoints", count, 19, false);
-        break;
+  private static AdventureResult consumeSteamDemon1(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("rub the three trading cards together")) {
+      ResultProcessor.processItem(ItemPool.STEAM_DEMON_1, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_DEMON_2, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_DEMON_3, -1);
+    }
+    return null;
+  }
 
-      case ItemPool.RESEARCH_FRAGMENT:
-        // Get success text
-        Preferences.increment("wereProfessorPoints", count, 23, false);
-        break;
+  private static AdventureResult consumeSteamPlumber1(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("rub the three trading cards together")) {
+      ResultProcessor.processItem(ItemPool.STEAM_PLUMBER_1, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_PLUMBER_2, -1);
+      ResultProcessor.processItem(ItemPool.STEAM_PLUMBER_3, -1);
+    }
+    return null;
+  }
 
-      case ItemPool.ESSENCE_OF_ANNOYANCE:
-        if (!responseText.contains("You quaff")) {
-          return;
-        }
-        Preferences.decrement("summonAnnoyanceCost", 1);
-        break;
+  private static AdventureResult consumeXiblaxianSchematicCowl(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
+    String name = item.getName();
 
-      case ItemPool.SWEET_TOOTH:
-        if (responseText.contains("You pop the sweet")
-            || responseText.contains("You already had")) {
-          Preferences.setBoolean("_sweetToothUsed", true);
-        }
-        break;
+    if (Preferences.getBoolean("unknownRecipe" + itemId)) {
+      String message = "Learned recipe: " + name + " (" + itemId + ")";
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+      Preferences.setBoolean("unknownRecipe" + itemId, false);
+    }
+    return item;
+  }
 
-      case ItemPool.VORACI_TEA:
-        Preferences.setBoolean("_voraciTeaUsed", true);
-        break;
+  private static AdventureResult consumeCrimbotTorso2(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("You feed the schematic into the Crimbot assembler")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.SOBRIE_TEA:
-        Preferences.setBoolean("_sobrieTeaUsed", true);
-        break;
+  private static AdventureResult consumeGaudyKey(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("the key vanishes")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.CHRONER_TRIGGER:
-        Preferences.setBoolean("_chronerTriggerUsed", true);
-        return;
+  private static AdventureResult consumePickyTweezers(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_pickyTweezersUsed", true);
+    return null;
+  }
 
-      case ItemPool.CHRONER_CROSS:
-        Preferences.setBoolean("_chronerCrossUsed", true);
-        if (!responseText.contains("falls right through")) {
-          ResultProcessor.removeItem(ItemPool.CHRONER);
-        }
-        return;
+  private static AdventureResult consumeBittycarHotcar(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setString("_bittycar", "hotcar");
+    return null;
+  }
 
-      case ItemPool.PALINDROME_BOOK_2:
-        QuestDatabase.setQuestIfBetter(Quest.PALINDOME, "step2");
-        return;
+  private static AdventureResult consumeBittycarMeatcar(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setString("_bittycar", "meatcar");
+    return null;
+  }
 
-      case ItemPool.STEAM_FIST_1:
-      case ItemPool.STEAM_FIST_2:
-      case ItemPool.STEAM_FIST_3:
-        if (responseText.contains("rub the three trading cards together")) {
-          ResultProcessor.processItem(ItemPool.STEAM_FIST_1, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_FIST_2, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_FIST_3, -1);
-        }
-        return;
+  private static AdventureResult consumeBittycarSoulcar(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setString("_bittycar", "soulcar");
+    return null;
+  }
 
-      case ItemPool.STEAM_TRIP_1:
-      case ItemPool.STEAM_TRIP_2:
-      case ItemPool.STEAM_TRIP_3:
-        if (responseText.contains("rub the three trading cards together")) {
-          ResultProcessor.processItem(ItemPool.STEAM_TRIP_1, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_TRIP_2, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_TRIP_3, -1);
-        }
-        return;
+  private static AdventureResult consumeRedGreenRainStick(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_rainStickUsed", true);
+    return null;
+  }
 
-      case ItemPool.STEAM_METEOID_1:
-      case ItemPool.STEAM_METEOID_2:
-      case ItemPool.STEAM_METEOID_3:
-        if (responseText.contains("rub the three trading cards together")) {
-          ResultProcessor.processItem(ItemPool.STEAM_METEOID_1, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_METEOID_2, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_METEOID_3, -1);
-        }
-        return;
+  private static AdventureResult consumeRedwoodRainStick(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_redwoodRainStickUsed", true);
+    return null;
+  }
 
-      case ItemPool.STEAM_DEMON_1:
-      case ItemPool.STEAM_DEMON_2:
-      case ItemPool.STEAM_DEMON_3:
-        if (responseText.contains("rub the three trading cards together")) {
-          ResultProcessor.processItem(ItemPool.STEAM_DEMON_1, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_DEMON_2, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_DEMON_3, -1);
-        }
-        return;
+  private static AdventureResult consumeStillBeatingSpleen(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setInteger("lastStillBeatingSpleen", KoLCharacter.getAscensions());
+    if (!responseText.contains("assimilate")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.STEAM_PLUMBER_1:
-      case ItemPool.STEAM_PLUMBER_2:
-      case ItemPool.STEAM_PLUMBER_3:
-        if (responseText.contains("rub the three trading cards together")) {
-          ResultProcessor.processItem(ItemPool.STEAM_PLUMBER_1, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_PLUMBER_2, -1);
-          ResultProcessor.processItem(ItemPool.STEAM_PLUMBER_3, -1);
-        }
-        return;
+  private static AdventureResult consumeWarehouseMapPage(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("compare the map")) {
+      ResultProcessor.removeItem(ItemPool.WAREHOUSE_INVENTORY_PAGE);
+      ResultProcessor.removeItem(ItemPool.WAREHOUSE_MAP_PAGE);
+      Preferences.increment("warehouseProgress", 8);
+    }
+    return null;
+  }
 
-      case ItemPool.XIBLAXIAN_SCHEMATIC_COWL:
-      case ItemPool.XIBLAXIAN_SCHEMATIC_TROUSERS:
-      case ItemPool.XIBLAXIAN_SCHEMATIC_VEST:
-      case ItemPool.XIBLAXIAN_SCHEMATIC_BURRITO:
-      case ItemPool.XIBLAXIAN_SCHEMATIC_WHISKEY:
-      case ItemPool.XIBLAXIAN_SCHEMATIC_RESIDENCE:
-      case ItemPool.XIBLAXIAN_SCHEMATIC_GOGGLES:
-        if (Preferences.getBoolean("unknownRecipe" + itemId)) {
-          String message = "Learned recipe: " + name + " (" + itemId + ")";
-          RequestLogger.printLine(message);
-          RequestLogger.updateSessionLog(message);
-          Preferences.setBoolean("unknownRecipe" + itemId, false);
-        }
-        break;
+  private static AdventureResult consumeMayonex(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("mouth is already full")) {
+      return null;
+    }
 
-      case ItemPool.CRIMBOT_TORSO_2:
-      case ItemPool.CRIMBOT_LEFTARM_2:
-      case ItemPool.CRIMBOT_RIGHTARM_2:
-      case ItemPool.CRIMBOT_PROPULSION_2:
-      case ItemPool.CRIMBOT_TORSO_3:
-      case ItemPool.CRIMBOT_LEFTARM_3:
-      case ItemPool.CRIMBOT_RIGHTARM_3:
-      case ItemPool.CRIMBOT_PROPULSION_3:
-      case ItemPool.CRIMBOT_TORSO_4:
-      case ItemPool.CRIMBOT_LEFTARM_4:
-      case ItemPool.CRIMBOT_RIGHTARM_4:
-      case ItemPool.CRIMBOT_PROPULSION_4:
-      case ItemPool.CRIMBOT_TORSO_5:
-      case ItemPool.CRIMBOT_LEFTARM_5:
-      case ItemPool.CRIMBOT_RIGHTARM_5:
-      case ItemPool.CRIMBOT_PROPULSION_5:
-      case ItemPool.CRIMBOT_TORSO_6:
-      case ItemPool.CRIMBOT_LEFTARM_6:
-      case ItemPool.CRIMBOT_RIGHTARM_6:
-      case ItemPool.CRIMBOT_PROPULSION_6:
-      case ItemPool.CRIMBOT_TORSO_7:
-      case ItemPool.CRIMBOT_LEFTARM_7:
-      case ItemPool.CRIMBOT_RIGHTARM_7:
-      case ItemPool.CRIMBOT_PROPULSION_7:
-      case ItemPool.CRIMBOT_TORSO_8:
-      case ItemPool.CRIMBOT_LEFTARM_8:
-      case ItemPool.CRIMBOT_RIGHTARM_8:
-      case ItemPool.CRIMBOT_PROPULSION_8:
-      case ItemPool.CRIMBOT_TORSO_9:
-      case ItemPool.CRIMBOT_LEFTARM_9:
-      case ItemPool.CRIMBOT_RIGHTARM_9:
-      case ItemPool.CRIMBOT_PROPULSION_9:
-      case ItemPool.CRIMBOT_TORSO_10:
-      case ItemPool.CRIMBOT_LEFTARM_10:
-      case ItemPool.CRIMBOT_RIGHTARM_10:
-      case ItemPool.CRIMBOT_PROPULSION_10:
-      case ItemPool.CRIMBOT_TORSO_11:
-      case ItemPool.CRIMBOT_LEFTARM_11:
-      case ItemPool.CRIMBOT_RIGHTARM_11:
-      case ItemPool.CRIMBOT_PROPULSION_11:
-        if (!responseText.contains("You feed the schematic into the Crimbot assembler")) {
-          return;
-        }
-        break;
+    Preferences.setString("mayoInMouth", item.getName());
+    Preferences.increment("mayoLevel", 1);
+    return item;
+  }
 
-      case ItemPool.GAUDY_KEY:
-        if (!responseText.contains("the key vanishes")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeHungerSauce(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_hungerSauceUsed", true);
+    return item;
+  }
 
-      case ItemPool.PICKY_TWEEZERS:
-        Preferences.setBoolean("_pickyTweezersUsed", true);
-        return;
+  private static AdventureResult consumeBrainPreservationFluid(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_brainPreservationFluidUsed", true);
+    return item;
+  }
 
-      case ItemPool.BITTYCAR_HOTCAR:
-        Preferences.setString("_bittycar", "hotcar");
-        return;
+  private static AdventureResult consumeResortChip(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("turn in 100 chips at the redemption center")) {
+      ResultProcessor.processItem(ItemPool.RESORT_CHIP, -100);
+    }
+    return null;
+  }
 
-      case ItemPool.BITTYCAR_MEATCAR:
-        Preferences.setString("_bittycar", "meatcar");
-        return;
+  private static AdventureResult consumeCocktailShaker(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_cocktailShakerUsed", true);
+    return null;
+  }
 
-      case ItemPool.BITTYCAR_SOULCAR:
-        Preferences.setString("_bittycar", "soulcar");
-        return;
+  private static AdventureResult consumeTwelveNightEnergy(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_twelveNightEnergyUsed", true);
+    return item;
+  }
 
-      case ItemPool.RED_GREEN_RAIN_STICK:
-        Preferences.setBoolean("_rainStickUsed", true);
-        return;
+  private static AdventureResult consumeCsaFireStartingKit(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If this worked, it redirected to choice #595
+    // If it didn't redirect, it was not consumed.
+    Preferences.setBoolean("_fireStartingKitUsed", true);
+    return null;
+  }
 
-      case ItemPool.REDWOOD_RAIN_STICK:
-        Preferences.setBoolean("_redwoodRainStickUsed", true);
-        return;
+  private static AdventureResult consumeShrineBarrelGod(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("barrelShrineUnlocked", true);
+    return item;
+  }
 
-      case ItemPool.STILL_BEATING_SPLEEN:
-        Preferences.setInteger("lastStillBeatingSpleen", KoLCharacter.getAscensions());
-        if (!responseText.contains("assimilate")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeHauntedDoghouse(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You install the doghouse at your campsite")) {
+      CampgroundRequest.setCampgroundItem(ItemPool.HAUNTED_DOGHOUSE, 1);
+      return item;
+    }
+    return null;
+  }
 
-      case ItemPool.WAREHOUSE_MAP_PAGE:
-      case ItemPool.WAREHOUSE_INVENTORY_PAGE:
-        if (responseText.contains("compare the map")) {
-          ResultProcessor.removeItem(ItemPool.WAREHOUSE_INVENTORY_PAGE);
-          ResultProcessor.removeItem(ItemPool.WAREHOUSE_MAP_PAGE);
-          Preferences.increment("warehouseProgress", 8);
-        }
-        return;
+  private static AdventureResult consumeGhostDogChow(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("familiar doesn't seem interested")) {
+      // Not used up
+      UseItemRequest.lastUpdate = "Your familiar is not interested in that item.";
+      return null;
+    }
+    if (responseText.contains("you can't figure out how to feed")) {
+      UseItemRequest.lastUpdate = "You cannot feed Ghost Dog Chow to a Ghost of Crimbo";
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.MAYONEX:
-      case ItemPool.MAYODIOL:
-      case ItemPool.MAYOSTAT:
-      case ItemPool.MAYOZAPINE:
-      case ItemPool.MAYOFLEX:
-        if (responseText.contains("mouth is already full")) {
-          return;
-        }
+  private static AdventureResult consumeVykeaInstructions(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If "using" the item works, it redirects to choice.php.
+    // If it does not redirect, it gives a message and is
+    // not consumed.
+    return null;
+  }
 
-        Preferences.setString("mayoInMouth", item.getName());
-        Preferences.increment("mayoLevel", 1);
-        break;
+  private static AdventureResult consumeCircleDrum(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You join the 1,427 other people sitting in a drum circle in Seaside Town.
+    Matcher matcher;
 
-      case ItemPool.HUNGER_SAUCE:
-        Preferences.setBoolean("_hungerSauceUsed", true);
-        break;
+    Pattern RHYTHM = Pattern.compile("You join the (.*?) other people");
+    Matcher rhythmMatcher = RHYTHM.matcher(responseText);
+    if (rhythmMatcher.find()) {
+      int boost = StringUtilities.parseIntInternal2(rhythmMatcher.group(1));
+      int bonus = (boost - 1) / 10 + 1;
+      Preferences.setInteger("_feelinTheRhythm", bonus);
+    }
+    Preferences.setBoolean("_circleDrumUsed", true);
+    return null;
+  }
 
-      case ItemPool.BRAIN_PRESERVATION_FLUID:
-        Preferences.setBoolean("_brainPreservationFluidUsed", true);
-        break;
+  private static AdventureResult consumeClaraBell(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // To make tests easier, this is the longest contiguous block without commas
+    if (responseText.contains(
+        "your stomach drops and your ears pop as you are suddenly plunged into a horrifyingly dark and blurry version of the world you once knew")) {
+      Preferences.setBoolean("noncombatForcerActive", true);
+    }
+    Preferences.setBoolean("_claraBellUsed", true);
+    return null;
+  }
 
-      case ItemPool.RESORT_CHIP:
-        if (responseText.contains("turn in 100 chips at the redemption center")) {
-          ResultProcessor.processItem(ItemPool.RESORT_CHIP, -100);
-        }
-        return;
+  private static AdventureResult consumeGlennDice(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_glennGoldenDiceUsed", true);
+    return null;
+  }
 
-      case ItemPool.COCKTAIL_SHAKER:
-        Preferences.setBoolean("_cocktailShakerUsed", true);
-        return;
+  private static AdventureResult consumeSnowmanCrate(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("snojoAvailable", true);
+    return item;
+  }
 
-      case ItemPool.TWELVE_NIGHT_ENERGY:
-        Preferences.setBoolean("_twelveNightEnergyUsed", true);
-        break;
+  private static AdventureResult consumeRoyalTea(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("royalty", 1);
+    return item;
+  }
 
-      case ItemPool.CSA_FIRE_STARTING_KIT:
-        // If this worked, it redirected to choice #595
-        // If it didn't redirect, it was not consumed.
-        Preferences.setBoolean("_fireStartingKitUsed", true);
-        return;
+  private static AdventureResult consumeBooClue(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already in the process of investigating")) {
+      // Not used up
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.SHRINE_BARREL_GOD:
-        Preferences.setBoolean("barrelShrineUnlocked", true);
-        break;
+  private static AdventureResult consumeMountainSkin(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    EquipmentManager.setEquipment(Slot.BOOTSKIN, item);
+    return item;
+  }
 
-      case ItemPool.HAUNTED_DOGHOUSE:
-        if (responseText.contains("You install the doghouse at your campsite")) {
-          CampgroundRequest.setCampgroundItem(ItemPool.HAUNTED_DOGHOUSE, 1);
-          break;
-        }
-        return;
+  private static AdventureResult consumeQuicksilverSpurs(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    EquipmentManager.setEquipment(Slot.BOOTSPUR, item);
+    return item;
+  }
 
-      case ItemPool.GHOST_DOG_CHOW:
-        if (responseText.contains("familiar doesn't seem interested")) {
-          // Not used up
-          UseItemRequest.lastUpdate = "Your familiar is not interested in that item.";
-          return;
-        }
-        if (responseText.contains("you can't figure out how to feed")) {
-          UseItemRequest.lastUpdate = "You cannot feed Ghost Dog Chow to a Ghost of Crimbo";
-          return;
-        }
-        break;
+  private static AdventureResult consumeSnakeOil(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("awolMedicine", 3);
+    Preferences.increment("awolVenom", 3);
+    return item;
+  }
 
-      case ItemPool.VYKEA_INSTRUCTIONS:
-        // If "using" the item works, it redirects to choice.php.
-        // If it does not redirect, it gives a message and is
-        // not consumed.
-        return;
+  private static AdventureResult consumeHeimzBeans(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Cans of Beans are off-hand items which can be
+    // "plated" Since they are equipment, they will not be
+    // removed from inventory below. Do it here.
+    if (responseText.contains("You acquire")) {
+      ResultProcessor.processResult(item.getNegation());
+    }
+    return null;
+  }
 
-      case ItemPool.CIRCLE_DRUM:
-        // You join the 1,427 other people sitting in a drum circle in Seaside Town.
-        Pattern RHYTHM = Pattern.compile("You join the (.*?) other people");
-        Matcher rhythmMatcher = RHYTHM.matcher(responseText);
-        if (rhythmMatcher.find()) {
-          int boost = StringUtilities.parseIntInternal2(rhythmMatcher.group(1));
-          int bonus = (boost - 1) / 10 + 1;
-          Preferences.setInteger("_feelinTheRhythm", bonus);
-        }
-        Preferences.setBoolean("_circleDrumUsed", true);
-        return;
+  private static AdventureResult consumeMemoriesOfCowPunching(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("awolDeferredPointsCowpuncher");
+    return item;
+  }
 
-      case ItemPool.CLARA_BELL:
-        // To make tests easier, this is the longest contiguous block without commas
-        if (responseText.contains(
-            "your stomach drops and your ears pop as you are suddenly plunged into a horrifyingly dark and blurry version of the world you once knew")) {
-          Preferences.setBoolean("noncombatForcerActive", true);
-        }
-        Preferences.setBoolean("_claraBellUsed", true);
-        return;
+  private static AdventureResult consumeMemoriesOfBeanSlinging(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("awolDeferredPointsBeanslinger");
+    return item;
+  }
 
-      case ItemPool.GLENN_DICE:
-        Preferences.setBoolean("_glennGoldenDiceUsed", true);
-        return;
+  private static AdventureResult consumeMemoriesOfSnakeOiling(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("awolDeferredPointsSnakeoiler");
+    return item;
+  }
 
-      case ItemPool.SNOWMAN_CRATE:
-        Preferences.setBoolean("snojoAvailable", true);
-        break;
+  private static AdventureResult consumeShadowyCheatSheet(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("asolDeferredPoints");
+    return item;
+  }
 
-      case ItemPool.ROYAL_TEA:
-        Preferences.increment("royalty", 1);
-        break;
+  private static AdventureResult consumeCodpiece(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_floundryItemUsed", true);
+    return item;
+  }
 
-      case ItemPool.BOO_CLUE:
-        if (responseText.contains("already in the process of investigating")) {
-          // Not used up
-          return;
-        }
-        break;
+  private static AdventureResult consumeBaconMachine(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_baconMachineUsed", true);
+    return item;
+  }
 
-      case ItemPool.MOUNTAIN_SKIN:
-      case ItemPool.GRIZZLED_SKIN:
-      case ItemPool.DIAMONDBACK_SKIN:
-      case ItemPool.COAL_SKIN:
-      case ItemPool.FRONTWINDER_SKIN:
-      case ItemPool.ROTTING_SKIN:
-        EquipmentManager.setEquipment(Slot.BOOTSKIN, item);
-        break;
+  private static AdventureResult consumeSchoolOfHardKnocksDiploma(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_hardKnocksDiplomaUsed", true);
+    return item;
+  }
 
-      case ItemPool.QUICKSILVER_SPURS:
-      case ItemPool.THICKSILVER_SPURS:
-      case ItemPool.WICKSILVER_SPURS:
-      case ItemPool.SLICKSILVER_SPURS:
-      case ItemPool.SICKSILVER_SPURS:
-      case ItemPool.NICKSILVER_SPURS:
-      case ItemPool.TICKSILVER_SPURS:
-        EquipmentManager.setEquipment(Slot.BOOTSPUR, item);
-        break;
+  private static AdventureResult consumePunchingMirror(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_punchingMirrorUsed", true);
+    return item;
+  }
 
-      case ItemPool.SNAKE_OIL:
-        Preferences.increment("awolMedicine", 3);
-        Preferences.increment("awolVenom", 3);
-        break;
+  private static AdventureResult consumeSourceTerminalPramChip(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Source terminal chips (10 maximum)
+    // You've already installed the maximum number of those that will fit in your Source
+    // terminal.
+    // You pull the cover off of your Source terminal and install the chip. It looks like
+    // there's room for up to 10 of this particular kind. You have X so far.
+    int itemId = item.getItemId();
+    Matcher matcher;
 
-      case ItemPool.HEIMZ_BEANS:
-      case ItemPool.TESLA_BEANS:
-      case ItemPool.MIXED_BEANS:
-      case ItemPool.HELLFIRE_BEANS:
-      case ItemPool.FRIGID_BEANS:
-      case ItemPool.BLACKEST_EYED_PEAS:
-      case ItemPool.STINKBEANS:
-      case ItemPool.PORK_N_BEANS:
-      case ItemPool.PREMIUM_BEANS:
-        // Cans of Beans are off-hand items which can be
-        // "plated" Since they are equipment, they will not be
-        // removed from inventory below. Do it here.
-        if (responseText.contains("You acquire")) {
-          ResultProcessor.processResult(item.getNegation());
-        }
-        return;
+    int total = 10;
+    Matcher chipMatcher = TERMINAL_CHIP_PATTERN.matcher(responseText);
+    if (chipMatcher.find()) {
+      total = StringUtilities.parseInt(chipMatcher.group(1));
+    }
+    switch (itemId) {
+      case ItemPool.SOURCE_TERMINAL_PRAM_CHIP -> Preferences.setInteger(
+          "sourceTerminalPram", total);
+      case ItemPool.SOURCE_TERMINAL_GRAM_CHIP -> Preferences.setInteger(
+          "sourceTerminalGram", total);
+      case ItemPool.SOURCE_TERMINAL_SPAM_CHIP -> Preferences.setInteger(
+          "sourceTerminalSpam", total);
+    }
+    if (responseText.contains("You've already installed")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.MEMORIES_OF_COW_PUNCHING:
-        Preferences.increment("awolDeferredPointsCowpuncher");
-        break;
+  private static AdventureResult consumeSourceTerminalCramChip(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Source terminal chip (1 maximum)
+    // You've already installed a ASHRAM chip in your Source terminal
+    int itemId = item.getItemId();
 
-      case ItemPool.MEMORIES_OF_BEAN_SLINGING:
-        Preferences.increment("awolDeferredPointsBeanslinger");
-        break;
+    String chipName =
+        switch (itemId) {
+          case ItemPool.SOURCE_TERMINAL_CRAM_CHIP -> "CRAM";
+          case ItemPool.SOURCE_TERMINAL_DRAM_CHIP -> "DRAM";
+          case ItemPool.SOURCE_TERMINAL_TRAM_CHIP -> "TRAM";
+          case ItemPool.SOURCE_TERMINAL_INGRAM_CHIP -> "INGRAM";
+          case ItemPool.SOURCE_TERMINAL_DIAGRAM_CHIP -> "DIAGRAM";
+          case ItemPool.SOURCE_TERMINAL_ASHRAM_CHIP -> "ASHRAM";
+          case ItemPool.SOURCE_TERMINAL_SCRAM_CHIP -> "SCRAM";
+          case ItemPool.SOURCE_TERMINAL_TRIGRAM_CHIP -> "TRIGRAM";
+          default -> null;
+        };
+    String known = Preferences.getString("sourceTerminalChips");
+    StringBuilder knownString = new StringBuilder();
+    knownString.append(known);
+    if (!known.contains(chipName)) {
+      if (knownString.length() > 0) {
+        knownString.append(",");
+      }
+      knownString.append(chipName);
+      Preferences.setString("sourceTerminalChips", knownString.toString());
+    }
+    if (responseText.contains("You've already installed")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.MEMORIES_OF_SNAKE_OILING:
-        Preferences.increment("awolDeferredPointsSnakeoiler");
-        break;
+  private static AdventureResult consumeSourceTerminalSubstatsEnh(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Source terminal file (1 maximum)
+    // You've already installed a copy of tram.ext in your Source terminal
+    int itemId = item.getItemId();
 
-      case ItemPool.SHADOWY_CHEAT_SHEET:
-        Preferences.increment("asolDeferredPoints");
-        break;
+    String fileName = ItemDatabase.getItemName(itemId).substring(22);
+    String preference = null;
+    if (fileName.contains(".edu")) {
+      preference = "sourceTerminalEducateKnown";
+    } else if (fileName.contains(".enq")) {
+      preference = "sourceTerminalEnquiryKnown";
+    } else if (fileName.contains(".enh")) {
+      preference = "sourceTerminalEnhanceKnown";
+    } else if (fileName.contains(".ext")) {
+      preference = "sourceTerminalExtrudeKnown";
+    }
+    String known = Preferences.getString(preference);
+    StringBuilder knownString = new StringBuilder();
+    knownString.append(known);
+    if (!known.contains(fileName)) {
+      if (knownString.length() > 0) {
+        knownString.append(",");
+      }
+      knownString.append(fileName);
+      Preferences.setString(preference, knownString.toString());
+    }
+    if (responseText.contains("You've already installed a copy of")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.CODPIECE:
-      case ItemPool.BASS_CLARINET:
-      case ItemPool.FISH_HATCHET:
-        Preferences.setBoolean("_floundryItemUsed", true);
-        break;
+  private static AdventureResult consumeDetectiveApplication(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("hasDetectiveSchool", true);
+    return item;
+  }
 
-      case ItemPool.BACON_MACHINE:
-        Preferences.setBoolean("_baconMachineUsed", true);
-        break;
+  private static AdventureResult consumeHolorecordPowerguy(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already a record")) {
+      ResultProcessor.processResult(item);
+    }
+    return item;
+  }
 
-      case ItemPool.SCHOOL_OF_HARD_KNOCKS_DIPLOMA:
-        Preferences.setBoolean("_hardKnocksDiplomaUsed", true);
-        break;
+  private static AdventureResult consumeBrokenChocolatePocketwatch(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Using your candy screwdriver and your spare gingerbread parts, you manage to repair the
+    // pocketwatch
+    if (!responseText.contains("manage to repair")) {
+      return null;
+    }
+    ResultProcessor.processItem(ItemPool.SPARE_CHOCOLATE_PARTS, -1);
+    return item;
+  }
 
-      case ItemPool.PUNCHING_MIRROR:
-        Preferences.setBoolean("_punchingMirrorUsed", true);
-        break;
+  private static AdventureResult consumeSpacegateAccessBadge(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // She doesn't give you the badge back, and when you
+    // ask, she explains that the facility entrance is now
+    // keyed to your genetic signature, and you can come
+    // and go as you please, unless your genes change for
+    // some reason.
 
-      case ItemPool.SOURCE_TERMINAL_PRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_GRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_SPAM_CHIP:
-        {
-          // Source terminal chips (10 maximum)
-          // You've already installed the maximum number of those that will fit in your Source
-          // terminal.
-          // You pull the cover off of your Source terminal and install the chip. It looks like
-          // there's room for up to 10 of this particular kind. You have X so far.
-          int total = 10;
-          Matcher chipMatcher = TERMINAL_CHIP_PATTERN.matcher(responseText);
-          if (chipMatcher.find()) {
-            total = StringUtilities.parseInt(chipMatcher.group(1));
-          }
-          switch (itemId) {
-            case ItemPool.SOURCE_TERMINAL_PRAM_CHIP -> Preferences.setInteger(
-                "sourceTerminalPram", total);
-            case ItemPool.SOURCE_TERMINAL_GRAM_CHIP -> Preferences.setInteger(
-                "sourceTerminalGram", total);
-            case ItemPool.SOURCE_TERMINAL_SPAM_CHIP -> Preferences.setInteger(
-                "sourceTerminalSpam", total);
-          }
-          if (responseText.contains("You've already installed")) {
-            return;
-          }
-          break;
-        }
+    Preferences.setBoolean("spacegateAlways", true);
+    if (!responseText.contains("is now keyed to your genetic signature")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.SOURCE_TERMINAL_CRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_DRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_TRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_INGRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_DIAGRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_ASHRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_SCRAM_CHIP:
-      case ItemPool.SOURCE_TERMINAL_TRIGRAM_CHIP:
-        {
-          // Source terminal chip (1 maximum)
-          // You've already installed a ASHRAM chip in your Source terminal
-          String chipName =
-              switch (itemId) {
-                case ItemPool.SOURCE_TERMINAL_CRAM_CHIP -> "CRAM";
-                case ItemPool.SOURCE_TERMINAL_DRAM_CHIP -> "DRAM";
-                case ItemPool.SOURCE_TERMINAL_TRAM_CHIP -> "TRAM";
-                case ItemPool.SOURCE_TERMINAL_INGRAM_CHIP -> "INGRAM";
-                case ItemPool.SOURCE_TERMINAL_DIAGRAM_CHIP -> "DIAGRAM";
-                case ItemPool.SOURCE_TERMINAL_ASHRAM_CHIP -> "ASHRAM";
-                case ItemPool.SOURCE_TERMINAL_SCRAM_CHIP -> "SCRAM";
-                case ItemPool.SOURCE_TERMINAL_TRIGRAM_CHIP -> "TRIGRAM";
-                default -> null;
-              };
-          String known = Preferences.getString("sourceTerminalChips");
-          StringBuilder knownString = new StringBuilder();
-          knownString.append(known);
-          if (!known.contains(chipName)) {
-            if (knownString.length() > 0) {
-              knownString.append(",");
-            }
-            knownString.append(chipName);
-            Preferences.setString("sourceTerminalChips", knownString.toString());
-          }
-          if (responseText.contains("You've already installed")) {
-            return;
-          }
-          break;
-        }
+  private static AdventureResult consumePortableSpacegate(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("already have access to that place")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_spacegateToday", true);
+    Preferences.setInteger("_spacegateTurnsLeft", 20);
+    return item;
+  }
 
-      case ItemPool.SOURCE_TERMINAL_SUBSTATS_ENH:
-      case ItemPool.SOURCE_TERMINAL_DAMAGE_ENH:
-      case ItemPool.SOURCE_TERMINAL_CRITICAL_ENH:
-      case ItemPool.SOURCE_TERMINAL_PROTECT_ENQ:
-      case ItemPool.SOURCE_TERMINAL_STATS_ENQ:
-      case ItemPool.SOURCE_TERMINAL_COMPRESS_EDU:
-      case ItemPool.SOURCE_TERMINAL_DUPLICATE_EDU:
-      case ItemPool.SOURCE_TERMINAL_PORTSCAN_EDU:
-      case ItemPool.SOURCE_TERMINAL_TURBO_EDU:
-      case ItemPool.SOURCE_TERMINAL_FAMILIAR_EXT:
-      case ItemPool.SOURCE_TERMINAL_PRAM_EXT:
-      case ItemPool.SOURCE_TERMINAL_GRAM_EXT:
-      case ItemPool.SOURCE_TERMINAL_SPAM_EXT:
-      case ItemPool.SOURCE_TERMINAL_CRAM_EXT:
-      case ItemPool.SOURCE_TERMINAL_DRAM_EXT:
-      case ItemPool.SOURCE_TERMINAL_TRAM_EXT:
-        {
-          // Source terminal file (1 maximum)
-          // You've already installed a copy of tram.ext in your Source terminal
-          String fileName = ItemDatabase.getItemName(itemId).substring(22);
-          String preference = null;
-          if (fileName.contains(".edu")) {
-            preference = "sourceTerminalEducateKnown";
-          } else if (fileName.contains(".enq")) {
-            preference = "sourceTerminalEnquiryKnown";
-          } else if (fileName.contains(".enh")) {
-            preference = "sourceTerminalEnhanceKnown";
-          } else if (fileName.contains(".ext")) {
-            preference = "sourceTerminalExtrudeKnown";
-          }
-          String known = Preferences.getString(preference);
-          StringBuilder knownString = new StringBuilder();
-          knownString.append(known);
-          if (!known.contains(fileName)) {
-            if (knownString.length() > 0) {
-              knownString.append(",");
-            }
-            knownString.append(fileName);
-            Preferences.setString(preference, knownString.toString());
-          }
-          if (responseText.contains("You've already installed a copy of")) {
-            return;
-          }
-          break;
-        }
+  private static AdventureResult consumeSpaceBabyChildrensBook(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You read the book and learn a few words in the Space
+    // Baby language. Mostly about cute animals.
+    if (!responseText.contains("learn a few words")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    ChoiceControl.parseLanguageFluency(responseText, "spaceBabyLanguageFluency");
+    return item;
+  }
 
-      case ItemPool.DETECTIVE_APPLICATION:
-        Preferences.setBoolean("hasDetectiveSchool", true);
-        break;
+  private static AdventureResult consumeLicenseToChill(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_licenseToChillUsed", true);
+    return item;
+  }
 
-      case ItemPool.HOLORECORD_POWERGUY:
-      case ItemPool.HOLORECORD_SHRIEKING_WEASEL:
-      case ItemPool.HOLORECORD_SUPERDRIFTER:
-      case ItemPool.HOLORECORD_LUCKY_STRIKES:
-      case ItemPool.HOLORECORD_DRUNK_UNCLES:
-      case ItemPool.HOLORECORD_EMD:
-      case ItemPool.HOLORECORD_PIGS:
-        if (responseText.contains("already a record")) {
-          ResultProcessor.processResult(item);
-        }
-        break;
+  private static AdventureResult consumeVictorSpoils(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_victorSpoilsUsed", true);
+    return item;
+  }
 
-      case ItemPool.BROKEN_CHOCOLATE_POCKETWATCH:
-        // Using your candy screwdriver and your spare gingerbread parts, you manage to repair the
-        // pocketwatch
-        if (!responseText.contains("manage to repair")) {
-          return;
-        }
-        ResultProcessor.processItem(ItemPool.SPARE_CHOCOLATE_PARTS, -1);
-        break;
+  private static AdventureResult consumeCanOfMinionsBeGone(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("_villainLairProgress", 5);
+    return item;
+  }
 
-      case ItemPool.SPACEGATE_ACCESS_BADGE:
+  private static AdventureResult consumeCornucopia(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int count = item.getCount();
 
-        // She doesn't give you the badge back, and when you
-        // ask, she explains that the facility entrance is now
-        // keyed to your genetic signature, and you can come
-        // and go as you please, unless your genes change for
-        // some reason.
+    Preferences.increment("cornucopiasOpened", count);
+    return item;
+  }
 
-        Preferences.setBoolean("spacegateAlways", true);
-        if (!responseText.contains("is now keyed to your genetic signature")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeMeteoriteAde(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.increment("_meteoriteAdesUsed");
+    return item;
+  }
 
-      case ItemPool.PORTABLE_SPACEGATE:
-        if (responseText.contains("already have access to that place")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_spacegateToday", true);
-        Preferences.setInteger("_spacegateTurnsLeft", 20);
-        break;
+  private static AdventureResult consumePerfectlyFairCoin(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_perfectlyFairCoinUsed", true);
+    return item;
+  }
 
-      case ItemPool.SPACE_BABY_CHILDRENS_BOOK:
-        // You read the book and learn a few words in the Space
-        // Baby language. Mostly about cute animals.
-        if (!responseText.contains("learn a few words")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        ChoiceControl.parseLanguageFluency(responseText, "spaceBabyLanguageFluency");
-        break;
+  private static AdventureResult consumeCorkedGenieBottle(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we got here, we did not redirect to choice.php
+    // That would imply it did not actually consume the item
+    return null;
+  }
 
-      case ItemPool.LICENSE_TO_CHILL:
-        Preferences.setBoolean("_licenseToChillUsed", true);
-        break;
+  private static AdventureResult consumePokeGrowFertilizer(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You spray your garden plot with the can of Pokégro
+    // fertilizer, and a large tuft of tall grass springs
+    // up. It happens so fast, you can practically hear the
+    // bwoooooop!
+    if (!responseText.contains("tall grass springs up")) {
+      // Already have Very Tall Grass or don't have a grass patch
+      return null;
+    }
+    CampgroundRequest.growTallGrass();
+    return item;
+  }
 
-      case ItemPool.VICTOR_SPOILS:
-        Preferences.setBoolean("_victorSpoilsUsed", true);
-        break;
+  private static AdventureResult consumeFrMember(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You fill out the forms in the packet and take them to the LyleCo kiosk at the monorail
+    // station in town.
+    // Time to escape to a realm of fantasy!
 
-      case ItemPool.CAN_OF_MINIONS_BE_GONE:
-        Preferences.increment("_villainLairProgress", 5);
-        break;
+    Preferences.setBoolean("frAlways", true);
+    if (!responseText.contains("escape to a realm of fantasy")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.CORNUCOPIA:
-        Preferences.increment("cornucopiasOpened", count);
-        break;
+  private static AdventureResult consumeFrGuest(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You've already got access to FantasyRealm.")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_frToday", true);
+    return item;
+  }
 
-      case ItemPool.METEORITE_ADE:
-        Preferences.increment("_meteoriteAdesUsed");
-        break;
+  private static AdventureResult consumeFrMountainMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("frMountainsUnlocked", true);
+    return item;
+  }
 
-      case ItemPool.PERFECTLY_FAIR_COIN:
-        Preferences.setBoolean("_perfectlyFairCoinUsed", true);
-        break;
+  private static AdventureResult consumeFrWoodMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("frWoodUnlocked", true);
+    return item;
+  }
 
-      case ItemPool.CORKED_GENIE_BOTTLE:
-        // If we got here, we did not redirect to choice.php
-        // That would imply it did not actually consume the item
-        return;
+  private static AdventureResult consumeFrSwampMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("frSwampUnlocked", true);
+    return item;
+  }
 
-      case ItemPool.POKE_GROW_FERTILIZER:
-        // You spray your garden plot with the can of Pokégro
-        // fertilizer, and a large tuft of tall grass springs
-        // up. It happens so fast, you can practically hear the
-        // bwoooooop!
-        if (!responseText.contains("tall grass springs up")) {
-          // Already have Very Tall Grass or don't have a grass patch
-          return;
-        }
-        CampgroundRequest.growTallGrass();
-        break;
+  private static AdventureResult consumeFrVillageMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("frVillageUnlocked", true);
+    return item;
+  }
 
-      case ItemPool.FR_MEMBER:
+  private static AdventureResult consumeFrCemetaryMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("frCemetaryUnlocked", true);
+    return item;
+  }
 
-        // You fill out the forms in the packet and take them to the LyleCo kiosk at the monorail
-        // station in town.
-        // Time to escape to a realm of fantasy!
+  private static AdventureResult consumeCheeseWheel(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("You pick a cheese!")) {
+      return null;
+    }
+    return item;
+  }
 
-        Preferences.setBoolean("frAlways", true);
-        if (!responseText.contains("escape to a realm of fantasy")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeNeverendingPartyInvite(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("neverendingPartyAlways", true);
+    return item;
+  }
 
-      case ItemPool.FR_GUEST:
-        if (responseText.contains("You've already got access to FantasyRealm.")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_frToday", true);
-        break;
+  private static AdventureResult consumeReplicaNeverendingPartyInvite(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("replicaNeverendingPartyAlways", true);
+    return item;
+  }
 
-      case ItemPool.FR_MOUNTAIN_MAP:
-        Preferences.setBoolean("frMountainsUnlocked", true);
-        break;
+  private static AdventureResult consumeNeverendingPartyInviteDaily(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You're already invited to that party.")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_neverendingPartyToday", true);
+    return item;
+  }
 
-      case ItemPool.FR_WOOD_MAP:
-        Preferences.setBoolean("frWoodUnlocked", true);
-        break;
+  private static AdventureResult consumePumpUpHighTops(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("pump up the high-tops")) {
+      Preferences.increment("_highTopPumps");
+      Preferences.increment("highTopPumped");
+    } else if (responseText.contains("already pumped up")) {
+      Preferences.setInteger("_highTopPumps", 3);
+    }
+    return item;
+  }
 
-      case ItemPool.FR_SWAMP_MAP:
-        Preferences.setBoolean("frSwampUnlocked", true);
-        break;
+  private static AdventureResult consumeVoterRegistrationForm(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("voteAlways", true);
+    return item;
+  }
 
-      case ItemPool.FR_VILLAGE_MAP:
-        Preferences.setBoolean("frVillageUnlocked", true);
-        break;
+  private static AdventureResult consumeVoterBallot(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You're already registered.")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    if (responseText.contains("You can't vote again today!")) {
+      // If you already have voted it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_voteToday", true);
+    return item;
+  }
 
-      case ItemPool.FR_CEMETARY_MAP:
-        Preferences.setBoolean("frCemetaryUnlocked", true);
-        break;
+  private static AdventureResult consumeBoxingDayCare(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("daycareOpen", true);
+    return item;
+  }
 
-      case ItemPool.CHEESE_WHEEL:
-        if (!responseText.contains("You pick a cheese!")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeBoxingDayPass(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You already have access to the Boxing Daycare")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_daycareToday", true);
+    return item;
+  }
 
-      case ItemPool.NEVERENDING_PARTY_INVITE:
-        Preferences.setBoolean("neverendingPartyAlways", true);
-        break;
+  private static AdventureResult consumeJerksHealthMagazine(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int count = item.getCount();
 
-      case ItemPool.REPLICA_NEVERENDING_PARTY_INVITE:
-        Preferences.setBoolean("replicaNeverendingPartyAlways", true);
-        break;
+    Preferences.increment("_jerksHealthMagazinesUsed", count);
+    return item;
+  }
 
-      case ItemPool.NEVERENDING_PARTY_INVITE_DAILY:
-        if (responseText.contains("You're already invited to that party.")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_neverendingPartyToday", true);
-        break;
+  private static AdventureResult consumeEtchedHourglass(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_etchedHourglassUsed", true);
+    return item;
+  }
 
-      case ItemPool.PUMP_UP_HIGH_TOPS:
-        if (responseText.contains("pump up the high-tops")) {
-          Preferences.increment("_highTopPumps");
-          Preferences.increment("highTopPumped");
-        } else if (responseText.contains("already pumped up")) {
-          Preferences.setInteger("_highTopPumps", 3);
-        }
-        break;
+  private static AdventureResult consumePrMember(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You fill out the forms in the packet and take them to the LyleCo kiosk at the monorail
+    // station in town.
+    // Time to escape to a realm of swashbuckling adventure!
 
-      case ItemPool.VOTER_REGISTRATION_FORM:
-        Preferences.setBoolean("voteAlways", true);
-        break;
+    Preferences.setBoolean("prAlways", true);
+    if (!responseText.contains("escape to a realm of swashbuckling adventure")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.VOTER_BALLOT:
-        if (responseText.contains("You're already registered.")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        if (responseText.contains("You can't vote again today!")) {
-          // If you already have voted it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_voteToday", true);
-        break;
+  private static AdventureResult consumePrGuest(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You've already got access to PirateRealm.")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    Preferences.setBoolean("_prToday", true);
+    return item;
+  }
 
-      case ItemPool.BOXING_DAY_CARE:
-        Preferences.setBoolean("daycareOpen", true);
-        break;
+  private static AdventureResult consumePieceOfDriftwood(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You don't need another beach comb! Stop that!
+    if (responseText.contains("You don't need another beach comb")) {
+      // If you already have access it is not consumed
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.BOXING_DAY_PASS:
-        if (responseText.contains("You already have access to the Boxing Daycare")) {
-          // If you already have access it is not consumed
-          return;
+  private static AdventureResult consumeHewnMoonRuneSpoon(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You twist the spoon around until the reflection of the moon in the bowl looks just like
+    // you intended.
+    if (responseText.contains("You twist the spoon around")) {
+      // You did change sign and it succeeded.
+      // This was redirected to inventory.php?action=message.
+      // Need to extract the sign from the original URL.
+      ZodiacSign sign = UseItemRequest.parseAscensionSign(UseItemRequest.lastUrlString);
+      if (sign != null) {
+        // Set the new sign.
+        KoLCharacter.setSign(sign);
+        // If we are in TCRS, need to reload everything
+        if (KoLCharacter.isCrazyRandomTwo()) {
+          TCRSDatabase.resetModifiers();
+          TCRSDatabase.loadTCRSData();
+        } else {
+          // This is done for TCRS when loading data
+          KoLCharacter.recalculateAdjustments();
+          KoLCharacter.updateStatus();
         }
-        Preferences.setBoolean("_daycareToday", true);
-        break;
-
-      case ItemPool.JERKS_HEALTH_MAGAZINE:
-        Preferences.increment("_jerksHealthMagazinesUsed", count);
-        break;
+      }
+      Preferences.setBoolean("moonTuned", true);
+    }
+    // You can't figure out the angle to see the moon's reflection in the spoon anymore.
+    else if (responseText.contains("You can't figure out the angle")) {
+      // You already changed the sign this ascension.
+      Preferences.setBoolean("moonTuned", true);
+    }
+    // The item is not consumed regardless
+    return null;
+  }
 
-      case ItemPool.ETCHED_HOURGLASS:
-        Preferences.setBoolean("_etchedHourglassUsed", true);
-        break;
-
-      case ItemPool.PR_MEMBER:
+  private static AdventureResult consumeGetawayBrochure(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Grants access to your Getaway Campsite in the Distant Woods
+    Preferences.setBoolean("getawayCampsiteUnlocked", true);
+
+    // You follow the map in the brochure until you find a
+    // nice place to camp -- and it turns out someone's
+    // already set up a tent and campfire for you! Wasn't
+    // that nice of them? ...Unless maybe this is actually
+    // just someone else's campsite, and they got eaten by
+    // a bear... wasn't that nice of them?
+
+    // I assume there is a different message if you already
+    // have the campsite and the second item is not
+    // consumed.
+    if (!responseText.contains("you find a nice place to camp")) {
+      return null;
+    }
 
-        // You fill out the forms in the packet and take them to the LyleCo kiosk at the monorail
-        // station in town.
-        // Time to escape to a realm of swashbuckling adventure!
+    return item;
+  }
 
-        Preferences.setBoolean("prAlways", true);
-        if (!responseText.contains("escape to a realm of swashbuckling adventure")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeSewingKit(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_sewingKitUsed", true);
+    return item;
+  }
 
-      case ItemPool.PR_GUEST:
-        if (responseText.contains("You've already got access to PirateRealm.")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        Preferences.setBoolean("_prToday", true);
-        break;
+  private static AdventureResult consumeBirdADayCalendar(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // First usage of the day tells you the daily bird
+    Matcher matcher;
 
-      case ItemPool.PIECE_OF_DRIFTWOOD:
-        // You don't need another beach comb! Stop that!
-        if (responseText.contains("You don't need another beach comb")) {
-          // If you already have access it is not consumed
-          return;
-        }
-        break;
+    Matcher m = BIRD_OF_THE_DAY_PATTERN.matcher(responseText);
+    if (m.find()) {
+      // First usage of the day
+      // This changes the bird of the day even in
+      // carried over turns of the effect
+      Preferences.setString("_birdOfTheDay", m.group(1));
+    }
 
-      case ItemPool.HEWN_MOON_RUNE_SPOON:
-      case ItemPool.REPLICA_HEWN_MOON_RUNE_SPOON:
-        // You twist the spoon around until the reflection of the moon in the bowl looks just like
-        // you intended.
-        if (responseText.contains("You twist the spoon around")) {
-          // You did change sign and it succeeded.
-          // This was redirected to inventory.php?action=message.
-          // Need to extract the sign from the original URL.
-          ZodiacSign sign = UseItemRequest.parseAscensionSign(UseItemRequest.lastUrlString);
-          if (sign != null) {
-            // Set the new sign.
-            KoLCharacter.setSign(sign);
-            // If we are in TCRS, need to reload everything
-            if (KoLCharacter.isCrazyRandomTwo()) {
-              TCRSDatabase.resetModifiers();
-              TCRSDatabase.loadTCRSData();
-            } else {
-              // This is done for TCRS when loading data
-              KoLCharacter.recalculateAdjustments();
-              KoLCharacter.updateStatus();
-            }
-          }
-          Preferences.setBoolean("moonTuned", true);
-        }
-        // You can't figure out the angle to see the moon's reflection in the spoon anymore.
-        else if (responseText.contains("You can't figure out the angle")) {
-          // You already changed the sign this ascension.
-          Preferences.setBoolean("moonTuned", true);
-        }
-        // The item is not consumed regardless
-        return;
+    // Subsequent logins today will add skill
+    Preferences.setBoolean("_canSeekBirds", true);
 
-      case ItemPool.GETAWAY_BROCHURE:
-        // Grants access to your Getaway Campsite in the Distant Woods
-        Preferences.setBoolean("getawayCampsiteUnlocked", true);
-
-        // You follow the map in the brochure until you find a
-        // nice place to camp -- and it turns out someone's
-        // already set up a tent and campfire for you! Wasn't
-        // that nice of them? ...Unless maybe this is actually
-        // just someone else's campsite, and they got eaten by
-        // a bear... wasn't that nice of them?
-
-        // I assume there is a different message if you already
-        // have the campsite and the second item is not
-        // consumed.
-        if (!responseText.contains("you find a nice place to camp")) {
-          return;
-        }
+    // If we've not added the skill today, learn it now
+    if (!KoLCharacter.hasSkill(SkillPool.SEEK_OUT_A_BIRD)) {
+      ResponseTextParser.learnSkill("Seek out a Bird");
+      DebugDatabase.readEffectDescriptionText(EffectPool.BLESSING_OF_THE_BIRD);
+    }
 
-        break;
+    return item;
+  }
 
-      case ItemPool.SEWING_KIT:
-        Preferences.setBoolean("_sewingKitUsed", true);
-        break;
+  private static AdventureResult consumeGlitchItem(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // 1 => [This needs implementation.]
+    // 2 => [This needs more implementation.]
+    // 4 => [This needs some more implementation.]
+    // 11 => [This needs a lot more implementation.]
+    // 37 => [This needs a ton more implementation.]
+    // 69 => [This needs even more than a ton more implementation.]
+    // 111 => [Whoa .]
+
+    int newGlitchLevel = 0;
+    int minimumGlitchCount = 0;
+
+    if (responseText.contains("needs implementation")) {
+      newGlitchLevel = 1;
+      minimumGlitchCount = 1;
+    } else if (responseText.contains("needs more implementation")) {
+      newGlitchLevel = 2;
+      minimumGlitchCount = 2;
+    } else if (responseText.contains("needs some more implementation")) {
+      newGlitchLevel = 3;
+      minimumGlitchCount = 4;
+    } else if (responseText.contains("needs a lot more implementation")) {
+      newGlitchLevel = 4;
+      minimumGlitchCount = 11;
+    } else if (responseText.contains("needs a ton more implementation")) {
+      newGlitchLevel = 5;
+      minimumGlitchCount = 37;
+    } else if (responseText.contains("needs even more than a ton more implementation")) {
+      newGlitchLevel = 6;
+      minimumGlitchCount = 69;
+    } else if (responseText.contains("Whoa")) {
+      newGlitchLevel = 7;
+      minimumGlitchCount = 111;
+    }
+
+    // glitch level is derivable from glitch  count -
+    // had we been tracking that from the beginning.
+    //
+    // glitch level is just amusing, but glitch count
+    // affects stat and meat gains from fighting a %monster%.
+    //
+    // Since we are now tracking glitch count, derive it
+    // (as much as we can) from glitch level
 
-      case ItemPool.BIRD_A_DAY_CALENDAR:
-        {
-          // First usage of the day tells you the daily bird
-          Matcher m = BIRD_OF_THE_DAY_PATTERN.matcher(responseText);
-          if (m.find()) {
-            // First usage of the day
-            // This changes the bird of the day even in
-            // carried over turns of the effect
-            Preferences.setString("_birdOfTheDay", m.group(1));
-          }
+    int newGlitchCount;
+    if (!Preferences.getBoolean("_glitchItemImplemented")) {
+      Preferences.setBoolean("_glitchItemImplemented", true);
+      newGlitchCount = Preferences.increment("glitchItemImplementationCount");
+    } else {
+      newGlitchCount = Preferences.getInteger("glitchItemImplementationCount");
+    }
+    if (newGlitchCount < minimumGlitchCount) {
+      Preferences.setInteger("glitchItemImplementationCount", minimumGlitchCount);
+    }
 
-          // Subsequent logins today will add skill
-          Preferences.setBoolean("_canSeekBirds", true);
+    // Since glitch level is funny, display it when it changes.
 
-          // If we've not added the skill today, learn it now
-          if (!KoLCharacter.hasSkill(SkillPool.SEEK_OUT_A_BIRD)) {
-            ResponseTextParser.learnSkill("Seek out a Bird");
-            DebugDatabase.readEffectDescriptionText(EffectPool.BLESSING_OF_THE_BIRD);
-          }
+    int previousGlitchLevel = Preferences.getInteger("glitchItemImplementationLevel");
+    if (previousGlitchLevel != newGlitchLevel) {
+      Preferences.setInteger("glitchItemImplementationLevel", newGlitchLevel);
+      UseItemRequest.showItemUsage(showHTML, responseText);
+    }
+    return null;
+  }
 
-          break;
-        }
+  private static AdventureResult consumeMysteriousRedBox(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // This box can't be opened today. Because of the mystery, you see.
+    if (responseText.contains("This box can't be opened today")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.GLITCH_ITEM:
-        {
-          // 1 => [This needs implementation.]
-          // 2 => [This needs more implementation.]
-          // 4 => [This needs some more implementation.]
-          // 11 => [This needs a lot more implementation.]
-          // 37 => [This needs a ton more implementation.]
-          // 69 => [This needs even more than a ton more implementation.]
-          // 111 => [Whoa .]
-
-          int newGlitchLevel = 0;
-          int minimumGlitchCount = 0;
-
-          if (responseText.contains("needs implementation")) {
-            newGlitchLevel = 1;
-            minimumGlitchCount = 1;
-          } else if (responseText.contains("needs more implementation")) {
-            newGlitchLevel = 2;
-            minimumGlitchCount = 2;
-          } else if (responseText.contains("needs some more implementation")) {
-            newGlitchLevel = 3;
-            minimumGlitchCount = 4;
-          } else if (responseText.contains("needs a lot more implementation")) {
-            newGlitchLevel = 4;
-            minimumGlitchCount = 11;
-          } else if (responseText.contains("needs a ton more implementation")) {
-            newGlitchLevel = 5;
-            minimumGlitchCount = 37;
-          } else if (responseText.contains("needs even more than a ton more implementation")) {
-            newGlitchLevel = 6;
-            minimumGlitchCount = 69;
-          } else if (responseText.contains("Whoa")) {
-            newGlitchLevel = 7;
-            minimumGlitchCount = 111;
-          }
+  private static AdventureResult consumeAminoAcids(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (!responseText.contains("you ate some delicious, delicious amino acids")) {
+      return null;
+    }
+    Preferences.increment("aminoAcidsUsed", 1, 3, false);
+    return item;
+  }
 
-          // glitch level is derivable from glitch  count -
-          // had we been tracking that from the beginning.
-          //
-          // glitch level is just amusing, but glitch count
-          // affects stat and meat gains from fighting a %monster%.
-          //
-          // Since we are now tracking glitch count, derive it
-          // (as much as we can) from glitch level
-
-          int newGlitchCount;
-          if (!Preferences.getBoolean("_glitchItemImplemented")) {
-            Preferences.setBoolean("_glitchItemImplemented", true);
-            newGlitchCount = Preferences.increment("glitchItemImplementationCount");
-          } else {
-            newGlitchCount = Preferences.getInteger("glitchItemImplementationCount");
-          }
-          if (newGlitchCount < minimumGlitchCount) {
-            Preferences.setInteger("glitchItemImplementationCount", minimumGlitchCount);
-          }
+  private static AdventureResult consumeEyeOfTheThing(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Horrified, you throw the Eye on the ground and stomp it into goo before it can do any
+    // more damage.
+    if (!responseText.contains("stomp it into goo")) {
+      return null;
+    }
+    return item;
+  }
 
-          // Since glitch level is funny, display it when it changes.
+  private static AdventureResult consumeFancyChessSet(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You don't have time for a game of chess right now. (You need to have 10 Adventures to use
+    // this item.)
+    if (responseText.contains("You don't have time for a game of chess right now")) {
+      return null;
+    }
+    // You sit down at the chessboard, and the white pieces begin to move of their own accord.
+    // You play black.
+    // Your poor heart can't handle more than one high-stakes chess game per day.
+    if (responseText.contains("You sit down at the chessboard")
+        || responseText.contains("Your poor heart can't handle")) {
+      Preferences.setBoolean("_fancyChessSetUsed", true);
+    }
+    return null;
+  }
 
-          int previousGlitchLevel = Preferences.getInteger("glitchItemImplementationLevel");
-          if (previousGlitchLevel != newGlitchLevel) {
-            Preferences.setInteger("glitchItemImplementationLevel", newGlitchLevel);
-            UseItemRequest.showItemUsage(showHTML, responseText);
-          }
-          return;
-        }
+  private static AdventureResult consumeOnyxKing(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You don't have a full set of chess pieces, and you don't know any chess variants that can
+    // be played with fewer than 32 of them.
+    // You find a fancy checkerboard in a nearby dumpster and assemble a complete chess set.
+    if (responseText.contains("assemble a complete chess set")) {
+      ResultProcessor.processItem(ItemPool.ONYX_KING, -1);
+      ResultProcessor.processItem(ItemPool.ONYX_QUEEN, -1);
+      ResultProcessor.processItem(ItemPool.ONYX_ROOK, -2);
+      ResultProcessor.processItem(ItemPool.ONYX_BISHOP, -2);
+      ResultProcessor.processItem(ItemPool.ONYX_KNIGHT, -2);
+      ResultProcessor.processItem(ItemPool.ONYX_PAWN, -8);
+      ResultProcessor.processItem(ItemPool.ALABASTER_KING, -1);
+      ResultProcessor.processItem(ItemPool.ALABASTER_QUEEN, -1);
+      ResultProcessor.processItem(ItemPool.ALABASTER_ROOK, -2);
+      ResultProcessor.processItem(ItemPool.ALABASTER_BISHOP, -2);
+      ResultProcessor.processItem(ItemPool.ALABASTER_KNIGHT, -2);
+      ResultProcessor.processItem(ItemPool.ALABASTER_PAWN, -8);
+    }
+    return null;
+  }
 
-      case ItemPool.MYSTERIOUS_RED_BOX:
-      case ItemPool.MYSTERIOUS_GREEN_BOX:
-      case ItemPool.MYSTERIOUS_BLUE_BOX:
-      case ItemPool.MYSTERIOUS_BLACK_BOX:
-        // This box can't be opened today. Because of the mystery, you see.
-        if (responseText.contains("This box can't be opened today")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeUniversalSeasoning(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You rip open your packet")
+        || responseText.contains("You can't seem to rip the packet open")) {
+      Preferences.setBoolean("universalSeasoningActive", true);
+      Preferences.increment("_universalSeasoningsUsed");
+    }
+    return null;
+  }
 
-      case ItemPool.AMINO_ACIDS:
-        if (!responseText.contains("you ate some delicious, delicious amino acids")) {
-          return;
-        }
-        Preferences.increment("aminoAcidsUsed", 1, 3, false);
-        break;
+  private static AdventureResult consumeSubscriptionCocoaDispenser(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If you have just obtained (or pulled) your machine, the message is:
+    //
+    // You need to spend a day with your subscription cocoa dispenser
+    // before the remote server updates your cocoa allotment.
+    //
+    // Which is to say, we may as well mark it as "used", since you
+    // can't use it today.
+    Preferences.setBoolean("_cocoaDispenserUsed", true);
+    return null;
+  }
 
-      case ItemPool.EYE_OF_THE_THING:
-        // Horrified, you throw the Eye on the ground and stomp it into goo before it can do any
-        // more damage.
-        if (!responseText.contains("stomp it into goo")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeOverflowingGiftBasket(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You reach into the basket")
+        || responseText.contains("If you take anything else")) {
+      Preferences.setBoolean("_overflowingGiftBasketUsed", true);
+    }
+    return null;
+  }
 
-      case ItemPool.FANCY_CHESS_SET:
-        // You don't have time for a game of chess right now. (You need to have 10 Adventures to use
-        // this item.)
-        if (responseText.contains("You don't have time for a game of chess right now")) {
-          return;
-        }
-        // You sit down at the chessboard, and the white pieces begin to move of their own accord.
-        // You play black.
-        // Your poor heart can't handle more than one high-stakes chess game per day.
-        if (responseText.contains("You sit down at the chessboard")
-            || responseText.contains("Your poor heart can't handle")) {
-          Preferences.setBoolean("_fancyChessSetUsed", true);
-        }
-        return;
+  private static AdventureResult consumeBattery9v(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int count = item.getCount();
 
-      case ItemPool.ONYX_KING:
-      case ItemPool.ONYX_QUEEN:
-      case ItemPool.ONYX_ROOK:
-      case ItemPool.ONYX_BISHOP:
-      case ItemPool.ONYX_KNIGHT:
-      case ItemPool.ONYX_PAWN:
-      case ItemPool.ALABASTER_KING:
-      case ItemPool.ALABASTER_QUEEN:
-      case ItemPool.ALABASTER_ROOK:
-      case ItemPool.ALABASTER_BISHOP:
-      case ItemPool.ALABASTER_KNIGHT:
-      case ItemPool.ALABASTER_PAWN:
-        // You don't have a full set of chess pieces, and you don't know any chess variants that can
-        // be played with fewer than 32 of them.
-        // You find a fancy checkerboard in a nearby dumpster and assemble a complete chess set.
-        if (responseText.contains("assemble a complete chess set")) {
-          ResultProcessor.processItem(ItemPool.ONYX_KING, -1);
-          ResultProcessor.processItem(ItemPool.ONYX_QUEEN, -1);
-          ResultProcessor.processItem(ItemPool.ONYX_ROOK, -2);
-          ResultProcessor.processItem(ItemPool.ONYX_BISHOP, -2);
-          ResultProcessor.processItem(ItemPool.ONYX_KNIGHT, -2);
-          ResultProcessor.processItem(ItemPool.ONYX_PAWN, -8);
-          ResultProcessor.processItem(ItemPool.ALABASTER_KING, -1);
-          ResultProcessor.processItem(ItemPool.ALABASTER_QUEEN, -1);
-          ResultProcessor.processItem(ItemPool.ALABASTER_ROOK, -2);
-          ResultProcessor.processItem(ItemPool.ALABASTER_BISHOP, -2);
-          ResultProcessor.processItem(ItemPool.ALABASTER_KNIGHT, -2);
-          ResultProcessor.processItem(ItemPool.ALABASTER_PAWN, -8);
-        }
-        return;
+    if (responseText.contains("Your tongue crackles with electricity")) {
+      Preferences.increment("shockingLickCharges", count);
+    }
+    return item;
+  }
 
-      case ItemPool.UNIVERSAL_SEASONING:
-        if (responseText.contains("You rip open your packet")
-            || responseText.contains("You can't seem to rip the packet open")) {
-          Preferences.setBoolean("universalSeasoningActive", true);
-          Preferences.increment("_universalSeasoningsUsed");
-        }
-        return;
+  private static AdventureResult consumeRainproofBarrelCaulk(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You smear the caulk")) {
+      Preferences.setBoolean("wildfireBarrelCaulked", true);
+    }
+    return item;
+  }
 
-      case ItemPool.SUBSCRIPTION_COCOA_DISPENSER:
-        // If you have just obtained (or pulled) your machine, the message is:
-        //
-        // You need to spend a day with your subscription cocoa dispenser
-        // before the remote server updates your cocoa allotment.
-        //
-        // Which is to say, we may as well mark it as "used", since you
-        // can't use it today.
-        Preferences.setBoolean("_cocoaDispenserUsed", true);
-        return;
+  private static AdventureResult consumePumpGrease(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You smear the grease")) {
+      Preferences.setBoolean("wildfirePumpGreased", true);
+    }
+    return item;
+  }
 
-      case ItemPool.OVERFLOWING_GIFT_BASKET:
-        if (responseText.contains("You reach into the basket")
-            || responseText.contains("If you take anything else")) {
-          Preferences.setBoolean("_overflowingGiftBasketUsed", true);
-        }
-        return;
-      case ItemPool.BATTERY_9V:
-      case ItemPool.BATTERY_LANTERN:
-      case ItemPool.BATTERY_CAR:
-        if (responseText.contains("Your tongue crackles with electricity")) {
-          Preferences.increment("shockingLickCharges", count);
-        }
-        break;
-      case ItemPool.RAINPROOF_BARREL_CAULK:
-        if (responseText.contains("You smear the caulk")) {
-          Preferences.setBoolean("wildfireBarrelCaulked", true);
-        }
-        break;
-      case ItemPool.PUMP_GREASE:
-        if (responseText.contains("You smear the grease")) {
-          Preferences.setBoolean("wildfirePumpGreased", true);
-        }
-        break;
-      case ItemPool.MEATBALL_MACHINE:
-        if (responseText.contains("You put your hand under the spout")
-            || responseText.contains("day's allottment of free meatballs")) {
-          Preferences.setBoolean("_meatballMachineUsed", true);
-        }
-        return;
-      case ItemPool.REFURBISHED_AIR_FRYER:
-        if (responseText.contains("collect your fried air")
-            || responseText.contains("fryer needs to cool down")) {
-          Preferences.setBoolean("_airFryerUsed", true);
-        }
-        return;
+  private static AdventureResult consumeMeatballMachine(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You put your hand under the spout")
+        || responseText.contains("day's allottment of free meatballs")) {
+      Preferences.setBoolean("_meatballMachineUsed", true);
+    }
+    return null;
+  }
 
-      case ItemPool.ELEVEN_LEAF_CLOVER:
-        if (responseText.contains("You're already feeling lucky, punk.")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeRefurbishedAirFryer(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("collect your fried air")
+        || responseText.contains("fryer needs to cool down")) {
+      Preferences.setBoolean("_airFryerUsed", true);
+    }
+    return null;
+  }
 
-      case ItemPool.THE_BIG_BOOK_OF_EVERY_SKILL:
-        Preferences.setBoolean("_bookOfEverySkillUsed", true);
-        // You turn to a random page, hold your breath, and read up on a new skill!
-        if (responseText.contains("turn to a random page")) {
-          ResponseTextParser.learnSkillFromResponse(responseText);
-        }
-        return;
+  private static AdventureResult consumeElevenLeafClover(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You're already feeling lucky, punk.")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.HYPNOTIC_BREADCRUMBS:
-        Preferences.setBoolean("madnessBakeryAvailable", true);
-        break;
-      case ItemPool.BOOZE_MAP:
-        Preferences.setBoolean("overgrownLotAvailable", true);
-        break;
-      case ItemPool.BONE_WITH_A_PRICE_TAG:
-        Preferences.setBoolean("skeletonStoreAvailable", true);
-        break;
+  private static AdventureResult consumeTheBigBookOfEverySkill(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_bookOfEverySkillUsed", true);
+    // You turn to a random page, hold your breath, and read up on a new skill!
+    if (responseText.contains("turn to a random page")) {
+      ResponseTextParser.learnSkillFromResponse(responseText);
+    }
+    return null;
+  }
 
-      case ItemPool.DEED_TO_OLIVERS_PLACE:
-        // You sign the deed, which instantly makes you the owner of the building.
-        Preferences.setBoolean("ownsSpeakeasy", true);
-        if (!responseText.contains("sign the deed")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeHypnoticBreadcrumbs(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("madnessBakeryAvailable", true);
+    return item;
+  }
 
-      case ItemPool.GOVERNMENT_PER_DIEM:
-        // You open the envelop and collect your pay.
-        // You can't get more than one per-diem per diem. It's right there in the name.
-        Preferences.setBoolean("_governmentPerDiemUsed", true);
-        if (!responseText.contains("collect your pay")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeBoozeMap(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("overgrownLotAvailable", true);
+    return item;
+  }
 
-      case ItemPool.ROBY_RATATOUILLE_DE_JARLSBERG:
-      case ItemPool.ROBY_JARLSBERGS_VEGETABLE_SOUP:
-      case ItemPool.ROBY_ROASTED_VEGETABLE_OF_J:
-      case ItemPool.ROBY_PETES_SNEAKY_SMOOTHIE:
-      case ItemPool.ROBY_PETES_WILY_WHEY_BAR:
-      case ItemPool.ROBY_PETES_RICH_RICOTTA:
-      case ItemPool.ROBY_BORIS_BEER:
-      case ItemPool.ROBY_HONEY_BUN_OF_BORIS:
-      case ItemPool.ROBY_BORIS_BREAD:
-      case ItemPool.ROBY_CALZONE_OF_LEGEND:
-      case ItemPool.ROBY_PIZZA_OF_LEGEND:
-      case ItemPool.ROBY_ROASTED_VEGETABLE_FOCACCIA:
-      case ItemPool.ROBY_PLAIN_CALZONE:
-      case ItemPool.ROBY_BAKED_VEGGIE_RICOTTA:
-      case ItemPool.ROBY_DEEP_DISH_OF_LEGEND:
-      case ItemPool.PLANS_FOR_GRIMACITE_HAMMER:
-      case ItemPool.PLANS_FOR_GRIMACITE_GRAVY_BOAT:
-      case ItemPool.PLANS_FOR_GRIMACITE_WEIGHTLIFTING_BELT:
-      case ItemPool.PLANS_FOR_GRIMACITE_GRAPPLING_HOOK:
-      case ItemPool.PLANS_FOR_GRIMACITE_NINJA_MASK:
-      case ItemPool.PLANS_FOR_GRIMACITE_SHINGUARDS:
-      case ItemPool.PLANS_FOR_GRIMACITE_ASTROLABE:
-      case ItemPool.FETTUCINI_EPINES_INCONNU_RECIPE:
-      case ItemPool.SLAP_AND_SLAP_AGAIN_RECIPE:
-      case ItemPool.FUMBLE_FORMULA:
-      case ItemPool.MOTHERS_SECRET_RECIPE:
-        if (!responseText.contains("You learn to craft a new item")) {
-          // If we didn't see you use the recipe the first time, learn it now.
-          String recipeName = UseItemRequest.itemToRecipe(itemId);
-          ResponseTextParser.learnRecipe(recipeName);
-          // Item is not consumed
-          return;
-        }
-        // ResponseTextParser learned this recipe
-        break;
+  private static AdventureResult consumeBoneWithAPriceTag(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("skeletonStoreAvailable", true);
+    return item;
+  }
 
-      case ItemPool.WRIGGLING_FLYTRAP_PELLET:
-        QuestDatabase.setQuestProgress(Quest.SEA_MONKEES, QuestDatabase.STARTED);
-        break;
+  private static AdventureResult consumeDeedToOliversPlace(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You sign the deed, which instantly makes you the owner of the building.
+    Preferences.setBoolean("ownsSpeakeasy", true);
+    if (!responseText.contains("sign the deed")) {
+      return null;
+    }
+    return item;
+  }
 
-      case ItemPool.CRIMBO_TRAINING_MANUAL:
-        // The first time you use this, you train yourself:
-        //
-        // You read the parts of the book that aren't burnt.
-        // You acquire a skill: ...
-        if (responseText.contains("You acquire a skill")) {
-          int skillId = ResponseTextParser.learnSkillFromResponse(responseText);
-          // We do not expect a bogus skill to be learned, but sanity check.
-          if (skillId >= SkillPool.FIRST_CRIMBO_TRAINING_SKILL
-              && skillId <= SkillPool.LAST_CRIMBO_TRAINING_SKILL) {
-            int chapter = (skillId - SkillPool.FIRST_CRIMBO_TRAINING_SKILL) + 1;
-            Preferences.setInteger("crimboTrainingSkill", chapter);
-          }
-          Preferences.setBoolean("_crimboTraining", false);
-          return;
-        }
+  private static AdventureResult consumeGovernmentPerDiem(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You open the envelop and collect your pay.
+    // You can't get more than one per-diem per diem. It's right there in the name.
+    Preferences.setBoolean("_governmentPerDiemUsed", true);
+    if (!responseText.contains("collect your pay")) {
+      return null;
+    }
+    return item;
+  }
 
-        // If you have already trained somebody else:
-        //
-        // You've already trained somebody today.  Take the rest of the day off.
-        if (responseText.contains("You've already trained somebody today")) {
-          Preferences.setBoolean("_crimboTraining", true);
-          return;
-        }
+  private static AdventureResult consumeRobyRatatouilleDeJarlsberg(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
 
-        // If you've not already trained somebody, KoL does a Javascript redirects to curse.php
-        Preferences.setBoolean("_crimboTraining", false);
-        return;
+    if (!responseText.contains("You learn to craft a new item")) {
+      // If we didn't see you use the recipe the first time, learn it now.
+      String recipeName = UseItemRequest.itemToRecipe(itemId);
+      ResponseTextParser.learnRecipe(recipeName);
+      // Item is not consumed
+      return null;
+    }
+    // ResponseTextParser learned this recipe
+    return item;
+  }
 
-      case ItemPool.LOST_ELF_LUGGAGE:
-        // You take the luggage to the hospital in Crimbo Town and track down its owner.
-        if (responseText.contains("track down its owner")) {
-          Preferences.increment("elfGratitude", count);
-        }
-        break;
+  private static AdventureResult consumeWrigglingFlytrapPellet(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    QuestDatabase.setQuestProgress(Quest.SEA_MONKEES, QuestDatabase.STARTED);
+    return item;
+  }
 
-      case ItemPool.TRAINBOT_AUTOASSEMBLY_MODULE:
-        // The module emits an angry beep. It must need some raw materials in order to do...
-        // whatever it does.
-        if (responseText.contains("It must need some raw materials")) {
-          return;
-        }
-        // The module scans you, whirrs for a moment, then reassembles your pile of Trainbot slag
-        // into a small robot you can wear.
-        if (responseText.contains("reassembles your pile of Trainbot slag")) {
-          ResultProcessor.removeItem(ItemPool.TRAINBOT_SLAG);
-        }
-        break;
+  private static AdventureResult consumeCrimboTrainingManual(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // The first time you use this, you train yourself:
+    //
+    // You read the parts of the book that aren't burnt.
+    // You acquire a skill: ...
+    if (responseText.contains("You acquire a skill")) {
+      int skillId = ResponseTextParser.learnSkillFromResponse(responseText);
+      // We do not expect a bogus skill to be learned, but sanity check.
+      if (skillId >= SkillPool.FIRST_CRIMBO_TRAINING_SKILL
+          && skillId <= SkillPool.LAST_CRIMBO_TRAINING_SKILL) {
+        int chapter = (skillId - SkillPool.FIRST_CRIMBO_TRAINING_SKILL) + 1;
+        Preferences.setInteger("crimboTrainingSkill", chapter);
+      }
+      Preferences.setBoolean("_crimboTraining", false);
+      return null;
+    }
 
-      case ItemPool.MILESTONE:
-        // You don't know what desert this milestone is for....yet.
-        if (responseText.contains("You don't know what desert this milestone is for")) {
-          // Not consumed.
-          return;
-        }
-        // Keeping your eye on your milestone, you quickly explore part of the desert.
-        if (responseText.contains("you quickly explore part of the desert")) {
-          Preferences.increment("desertExploration", 5, 100, false);
-          // Is consumed.
-        }
-        // You've already explored all the desert there is to explore.
-        // Instead you explore inside yourself.
-        // Gives stats and is consumed.
-        break;
+    // If you have already trained somebody else:
+    //
+    // You've already trained somebody today.  Take the rest of the day off.
+    if (responseText.contains("You've already trained somebody today")) {
+      Preferences.setBoolean("_crimboTraining", true);
+      return null;
+    }
 
-      case ItemPool.LODESTONE:
-        Preferences.setBoolean("_lodestoneUsed", true);
-        return;
+    // If you've not already trained somebody, KoL does a Javascript redirects to curse.php
+    Preferences.setBoolean("_crimboTraining", false);
+    return null;
+  }
 
-      case ItemPool.MOLEHILL_MOUNTAIN:
-        // If we were not redirected, the item was used already
-        Preferences.setBoolean("_molehillMountainUsed", true);
-        return;
+  private static AdventureResult consumeLostElfLuggage(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You take the luggage to the hospital in Crimbo Town and track down its owner.
+    int count = item.getCount();
 
-      case ItemPool.STRANGE_STALAGMITE:
-        // If we were not redirected, the item was used already
-        // It appears that everything is strangely in order for now.
-        Preferences.setBoolean("_strangeStalagmiteUsed", true);
-        return;
+    if (responseText.contains("track down its owner")) {
+      Preferences.increment("elfGratitude", count);
+    }
+    return item;
+  }
 
-      case ItemPool.CHOCOLATE_COVERED_PING_PONG_BALL:
-        if (responseText.contains("You've tempted fate")) {
-          // You've tempted fate enough for one day.
-          Preferences.setInteger("_chocolateCoveredPingPongBallsUsed", 3);
-        } else {
-          // You carefully lick the thin shell of chocolate off of the ping pong ball.
-          Preferences.increment("_chocolateCoveredPingPongBallsUsed", 1, 3, false);
-        }
-        break;
+  private static AdventureResult consumeTrainbotAutoassemblyModule(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // The module emits an angry beep. It must need some raw materials in order to do...
+    // whatever it does.
+    if (responseText.contains("It must need some raw materials")) {
+      return null;
+    }
+    // The module scans you, whirrs for a moment, then reassembles your pile of Trainbot slag
+    // into a small robot you can wear.
+    if (responseText.contains("reassembles your pile of Trainbot slag")) {
+      ResultProcessor.removeItem(ItemPool.TRAINBOT_SLAG);
+    }
+    return item;
+  }
 
-      case ItemPool.SIT_COURSE_COMPLETION_CERTIFICATE:
-        // If we were not redirected, the item was used already
-        // You already wrote a course on the certificate with totally indelible-for-a-day marker.
-        Preferences.setBoolean("_sitCourseCompleted", true);
-        return;
+  private static AdventureResult consumeMilestone(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You don't know what desert this milestone is for....yet.
+    if (responseText.contains("You don't know what desert this milestone is for")) {
+      // Not consumed.
+      return null;
+    }
+    // Keeping your eye on your milestone, you quickly explore part of the desert.
+    if (responseText.contains("you quickly explore part of the desert")) {
+      Preferences.increment("desertExploration", 5, 100, false);
+      // Is consumed.
+    }
+    // You've already explored all the desert there is to explore.
+    // Instead you explore inside yourself.
+    // Gives stats and is consumed.
+    return item;
+  }
 
-      case ItemPool.REPLICA_SNOWCONE_BOOK:
-        if (responseText.contains("You open the Tome")
-            || responseText.contains("already read this book")) {
-          Preferences.setBoolean("_replicaSnowconeTomeUsed", true);
-        }
-        return;
+  private static AdventureResult consumeLodestone(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_lodestoneUsed", true);
+    return null;
+  }
 
-      case ItemPool.REPLICA_RESOLUTION_BOOK:
-        if (responseText.contains("You make a bunch of resolutions")
-            || responseText.contains("already made enough resolutions")) {
-          Preferences.setBoolean("_replicaResolutionLibramUsed", true);
-        }
-        return;
+  private static AdventureResult consumeMolehillMountain(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we were not redirected, the item was used already
+    Preferences.setBoolean("_molehillMountainUsed", true);
+    return null;
+  }
 
-      case ItemPool.REPLICA_SMITH_BOOK:
-        if (responseText.contains("You read from The Smith")
-            || responseText.contains("smithed enough for today")) {
-          Preferences.setBoolean("_replicaSmithsTomeUsed", true);
-        }
-        return;
+  private static AdventureResult consumeStrangeStalagmite(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we were not redirected, the item was used already
+    // It appears that everything is strangely in order for now.
+    Preferences.setBoolean("_strangeStalagmiteUsed", true);
+    return null;
+  }
 
-      case ItemPool.REPLICA_SOURCE_TERMINAL:
-        CampgroundRequest.setCampgroundItem(ItemPool.SOURCE_TERMINAL, 1);
-        break;
+  private static AdventureResult consumeChocolateCoveredPingPongBall(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You've tempted fate")) {
+      // You've tempted fate enough for one day.
+      Preferences.setInteger("_chocolateCoveredPingPongBallsUsed", 3);
+    } else {
+      // You carefully lick the thin shell of chocolate off of the ping pong ball.
+      Preferences.increment("_chocolateCoveredPingPongBallsUsed", 1, 3, false);
+    }
+    return item;
+  }
 
-      case ItemPool.REPLICA_WITCHESS_SET:
-        Preferences.setBoolean("replicaWitchessSetAvailable", true);
-        break;
+  private static AdventureResult consumeSitCourseCompletionCertificate(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we were not redirected, the item was used already
+    // You already wrote a course on the certificate with totally indelible-for-a-day marker.
+    Preferences.setBoolean("_sitCourseCompleted", true);
+    return null;
+  }
 
-      case ItemPool.MR_STORE_2002_CATALOG:
-      case ItemPool.REPLICA_MR_STORE_2002_CATALOG:
-        // Using the catalog redirects to "shop.php?whichshop=mrstore2002".
-        // If we followed the redirect, let MrStore2002Request handle it.
-        ShopRequest.parseResponse(currentURL, responseText);
-        return;
+  private static AdventureResult consumeReplicaSnowconeBook(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You open the Tome")
+        || responseText.contains("already read this book")) {
+      Preferences.setBoolean("_replicaSnowconeTomeUsed", true);
+    }
+    return null;
+  }
 
-      case ItemPool.GIANT_BLACK_MONOLITH:
-        // You lug the giant black monolith to your campground and set it down.
-        // There's a deafening Bwoom-woob-woob-woob and then an ominous hum fills the air.
-        CampgroundRequest.setCampgroundItem(ItemPool.GIANT_BLACK_MONOLITH, 1);
-        break;
+  private static AdventureResult consumeReplicaResolutionBook(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You make a bunch of resolutions")
+        || responseText.contains("already made enough resolutions")) {
+      Preferences.setBoolean("_replicaResolutionLibramUsed", true);
+    }
+    return null;
+  }
 
-      case ItemPool.MAP_TO_A_CANDY_RICH_BLOCK:
-        // If this succeeded, this is handled in GenericRequest.checkItemRedirection
-        // This is only for setting the pref on a failed second use.
-        Preferences.setBoolean("_mapToACandyRichBlockUsed", true);
-        break;
+  private static AdventureResult consumeReplicaSmithBook(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You read from The Smith")
+        || responseText.contains("smithed enough for today")) {
+      Preferences.setBoolean("_replicaSmithsTomeUsed", true);
+    }
+    return null;
+  }
 
-      case ItemPool.VAN_KEY:
-        // When the player has a NEP Booze/Food quest active, up to 11 bags or keys can be opened
-        if (Preferences.getString("_questPartyFairQuest").equals("food")
-            && !Preferences.getString("_questPartyFairProgress").isEmpty()) {
-          Preferences.increment("_questPartyFairItemsOpened", 1, 11, false);
-        }
-        break;
-      case ItemPool.UNREMARKABLE_DUFFEL_BAG:
-        if (Preferences.getString("_questPartyFairQuest").equals("booze")
-            && !Preferences.getString("_questPartyFairProgress").isEmpty()) {
-          Preferences.increment("_questPartyFairItemsOpened", 1, 11, false);
-        }
-        break;
-      case ItemPool.TIED_UP_LEAFLET:
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
-        Preferences.setBoolean("_tiedUpFlamingLeafletFought", true);
-        return;
-      case ItemPool.TIED_UP_MONSTERA:
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
-        Preferences.setBoolean("_tiedUpFlamingMonsteraFought", true);
-        return;
-      case ItemPool.TIED_UP_LEAVIATHAN:
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
-        Preferences.setBoolean("_tiedUpLeaviathanFought", true);
-        return;
-      case ItemPool.WARDROBE_O_MATIC:
-        InventoryManager.checkFuturistic();
-        return;
-      case ItemPool.LIL_SNOWBALL_FACTORY:
-        Preferences.setBoolean("_snowballFactoryUsed", true);
-        break;
-      case ItemPool.LAW_OF_AVERAGES:
-        var pref = "_lawOfAveragesUsed";
-        if (responseText.contains("You already feel pretty average")) {
-          Preferences.setInteger(
-              pref,
-              Math.max(
-                  Preferences.getInteger(pref),
-                  InventoryManager.getCount(ItemPool.LAW_OF_AVERAGES)));
-        } else {
-          Preferences.increment(pref);
-        }
-        return;
-      case ItemPool.YAM_BATTERY:
-        Preferences.setBoolean("_yamBatteryUsed", true);
-        break;
-      case ItemPool.SYNAPTIC_SOUP:
-      case ItemPool.MUSCULAR_SOUP:
-      case ItemPool.FLAGELLATE_SOUP:
-      case ItemPool.ELBOW_SOUP:
-      case ItemPool.LIP_SOUP:
-        {
-          var fam = KoLCharacter.getFamiliar();
-          fam.incrementSoupWeight();
-          fam.addSoupAttribute(
-              switch (itemId) {
-                case ItemPool.SYNAPTIC_SOUP -> "mp";
-                case ItemPool.MUSCULAR_SOUP -> "damage";
-                case ItemPool.FLAGELLATE_SOUP -> "act";
-                case ItemPool.ELBOW_SOUP -> "hp";
-                case ItemPool.LIP_SOUP -> "stats";
-                default -> null;
-              });
-          break;
-        }
-      case ItemPool.MINIATURE_EMBERING_HULK:
+  private static AdventureResult consumeReplicaSourceTerminal(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    CampgroundRequest.setCampgroundItem(ItemPool.SOURCE_TERMINAL, 1);
+    return item;
+  }
 
-        // If we are redirected to a fight, the item is
-        // consumed elsewhere. If we got here, it wasn't
-        // actually consumed
+  private static AdventureResult consumeReplicaWitchessSet(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("replicaWitchessSetAvailable", true);
+    return item;
+  }
 
-        Preferences.setBoolean("_emberingHulkFought", true);
-        return;
-      case ItemPool.STRUCTURAL_EMBER:
-        Preferences.setBoolean("_structuralEmberUsed", true);
-        break;
-      case ItemPool.PIRATE_DINGHY:
-        Preferences.setBoolean("_pirateDinghyUsed", true);
-        Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
-        break;
-      case ItemPool.PUMPKIN_SPICE_WHORL:
-        Preferences.setBoolean("pumpkinSpiceWhorlUsed", true);
-        if (responseText.contains("You can't add any more")) {
-          return;
-        }
-        break;
+  private static AdventureResult consumeMrStore2002Catalog(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // Using the catalog redirects to "shop.php?whichshop=mrstore2002".
+    // If we followed the redirect, let MrStore2002Request handle it.
+    ShopRequest.parseResponse(currentURL, responseText);
+    return null;
+  }
 
-      case ItemPool.CR_KEYCODE:
+  private static AdventureResult consumeGiantBlackMonolith(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You lug the giant black monolith to your campground and set it down.
+    // There's a deafening Bwoom-woob-woob-woob and then an ominous hum fills the air.
+    CampgroundRequest.setCampgroundItem(ItemPool.GIANT_BLACK_MONOLITH, 1);
+    return item;
+  }
 
-        // You take the keycode to your friendly neighborhood
-        // locksmith and do some social engineering to convince the
-        // kid behind the counter to cut you a new key.
+  private static AdventureResult consumeMapToACandyRichBlock(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If this succeeded, this is handled in GenericRequest.checkItemRedirection
+    // This is only for setting the pref on a failed second use.
+    Preferences.setBoolean("_mapToACandyRichBlockUsed", true);
+    return item;
+  }
 
-        Preferences.setBoolean("crAlways", true);
-        if (!responseText.contains("cut you a new key")) {
-          return;
-        }
-        NamedListenerRegistry.fireChange("(coinmaster)");
-        break;
+  private static AdventureResult consumeVanKey(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // When the player has a NEP Booze/Food quest active, up to 11 bags or keys can be opened
+    if (Preferences.getString("_questPartyFairQuest").equals("food")
+        && !Preferences.getString("_questPartyFairProgress").isEmpty()) {
+      Preferences.increment("_questPartyFairItemsOpened", 1, 11, false);
+    }
+    return item;
+  }
 
-      case ItemPool.PRINTED_SERVER_KEY:
-        if (responseText.contains("You've already got access to the server room.")) {
-          return;
-        }
-        Preferences.setBoolean("_crToday", true);
-        NamedListenerRegistry.fireChange("(coinmaster)");
-        break;
+  private static AdventureResult consumeUnremarkableDuffelBag(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (Preferences.getString("_questPartyFairQuest").equals("booze")
+        && !Preferences.getString("_questPartyFairProgress").isEmpty()) {
+      Preferences.increment("_questPartyFairItemsOpened", 1, 11, false);
     }
+    return item;
+  }
 
-    if (CampgroundRequest.isWorkshedItem(itemId)) {
-      if (CampgroundRequest.getCurrentWorkshedItem() != null) {
-        // an item placed in an empty workshed does not prevent replacing it
-        Preferences.setBoolean("_workshedItemUsed", true);
-      }
-      if (responseText.contains("already rearranged your workshed")) {
-        return;
-      }
-      CampgroundRequest.setCurrentWorkshedItem(ItemPool.get(itemId, 1));
-      CampgroundRequest.setCampgroundItem(itemId, 1);
+  private static AdventureResult consumeTiedUpLeaflet(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
+    Preferences.setBoolean("_tiedUpFlamingLeafletFought", true);
+    return null;
+  }
 
-      // Get current fuel level
-      if (itemId == ItemPool.ASDON_MARTIN) {
-        RequestThread.postRequest(new CampgroundRequest("workshed"));
-      }
-    }
+  private static AdventureResult consumeTiedUpMonstera(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
+    Preferences.setBoolean("_tiedUpFlamingMonsteraFought", true);
+    return null;
+  }
 
-    if (CampgroundRequest.isBedding(itemId)) {
-      if (responseText.contains("You've already got") || responseText.contains("You don't have")) {
-        return;
-      }
+  private static AdventureResult consumeTiedUpLeaviathan(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
+    Preferences.setBoolean("_tiedUpLeaviathanFought", true);
+    return null;
+  }
 
-      CampgroundRequest.setCurrentBed(ItemPool.get(itemId, 1));
-      CampgroundRequest.setCampgroundItem(itemId, 1);
+  private static AdventureResult consumeWardrobeOMatic(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    InventoryManager.checkFuturistic();
+    return null;
+  }
+
+  private static AdventureResult consumeLilSnowballFactory(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_snowballFactoryUsed", true);
+    return item;
+  }
+
+  private static AdventureResult consumeLawOfAverages(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    var pref = "_lawOfAveragesUsed";
+    if (responseText.contains("You already feel pretty average")) {
+      Preferences.setInteger(
+          pref,
+          Math.max(
+              Preferences.getInteger(pref), InventoryManager.getCount(ItemPool.LAW_OF_AVERAGES)));
+    } else {
+      Preferences.increment(pref);
+    }
+    return null;
+  }
+
+  private static AdventureResult consumeYamBattery(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_yamBatteryUsed", true);
+    return item;
+  }
+
+  private static AdventureResult consumeSynapticSoup(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    int itemId = item.getItemId();
+
+    var fam = KoLCharacter.getFamiliar();
+    fam.incrementSoupWeight();
+    fam.addSoupAttribute(
+        switch (itemId) {
+          case ItemPool.SYNAPTIC_SOUP -> "mp";
+          case ItemPool.MUSCULAR_SOUP -> "damage";
+          case ItemPool.FLAGELLATE_SOUP -> "act";
+          case ItemPool.ELBOW_SOUP -> "hp";
+          case ItemPool.LIP_SOUP -> "stats";
+          default -> null;
+        });
+    return item;
+  }
+
+  private static AdventureResult consumeMiniatureEmberingHulk(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // If we are redirected to a fight, the item is
+    // consumed elsewhere. If we got here, it wasn't
+    // actually consumed
+
+    Preferences.setBoolean("_emberingHulkFought", true);
+    return null;
+  }
+
+  private static AdventureResult consumeStructuralEmber(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_structuralEmberUsed", true);
+    return item;
+  }
+
+  private static AdventureResult consumePirateDinghy(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("_pirateDinghyUsed", true);
+    Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
+    return item;
+  }
+
+  private static AdventureResult consumePumpkinSpiceWhorl(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    Preferences.setBoolean("pumpkinSpiceWhorlUsed", true);
+    if (responseText.contains("You can't add any more")) {
+      return null;
     }
+    return item;
+  }
 
-    // Finally, remove the item from inventory if it was successfully used.
+  private static AdventureResult consumeCrKeycode(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    // You take the keycode to your friendly neighborhood
+    // locksmith and do some social engineering to convince the
+    // kid behind the counter to cut you a new key.
 
-    switch (consumptionType) {
-      case ZAP:
-      case FAMILIAR_EQUIPMENT:
-      case ACCESSORY:
-      case HAT:
-      case PANTS:
-      case WEAPON:
-      case OFFHAND:
-      case CONTAINER:
-      case USE_INFINITE:
-        break;
+    Preferences.setBoolean("crAlways", true);
+    if (!responseText.contains("cut you a new key")) {
+      return null;
+    }
+    NamedListenerRegistry.fireChange("(coinmaster)");
+    return item;
+  }
 
-      default:
-        if (!ItemDatabase.isReusable(itemId)) {
-          ResultProcessor.processResult(item.getNegation());
-        }
+  private static AdventureResult consumePrintedServerKey(
+      AdventureResult item, final String responseText, final boolean showHTML) {
+    if (responseText.contains("You've already got access to the server room.")) {
+      return null;
     }
+    Preferences.setBoolean("_crToday", true);
+    NamedListenerRegistry.fireChange("(coinmaster)");
+    return item;
   }
 
   private static final Pattern GIFT_FROM_PATTERN =
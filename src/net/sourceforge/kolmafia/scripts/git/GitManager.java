@@ -18,6 +18,9 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.sourceforge.kolmafia.KoLConstants;
 import net.sourceforge.kolmafia.KoLConstants.MafiaState;
 import net.sourceforge.kolmafia.KoLmafia;
@@ -31,7 +34,9 @@ import org.eclipse.jgit.api.RebaseCommand.Operation;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.lib.BranchConfig;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
+import org.eclipse.jgit.lib.NullProgressMonitor;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.ProgressMonitor;
@@ -90,15 +95,74 @@ public class GitManager extends ScriptManager {
     return true;
   }
 
-  /** Update all installed projects. */
+  /**
+   * Update all installed projects.
+   *
+   * <p>Projects are pulled concurrently, up to "gitThreadPoolSize" at once. Their changes are then
+   * copied to the permissible folders one project at a time, in the same order as before, so that
+   * two projects shipping the same file still resolve the same way.
+   *
+   * <p>A pull is never interrupted once started, since that could leave its project partway through
+   * a rebase. Projects not yet started when the user stops are skipped, and a project which fails
+   * to update does not keep the others from being copied.
+   */
   public static void updateAll() {
-    for (var project : allFolders()) {
-      update(project);
+    var folders = allFolders();
+    var pulls = new ArrayList<Future<Update>>();
+    var executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, Math.min(folders.length, Preferences.getInteger("gitThreadPoolSize"))));
+
+    try {
+      for (var folder : folders) {
+        pulls.add(executor.submit(() -> pullProject(folder)));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    for (int i = 0; i < folders.length; i++) {
+      var update = awaitPull(folders[i], pulls.get(i));
+      RequestLogger.printLine("Updating project " + update.folder);
+      apply(update);
     }
 
     Preferences.setBoolean("_gitUpdated", true);
   }
 
+  private static Update pullProject(String folder) {
+    if (KoLmafia.refusesContinue()) {
+      return new Update(folder).fail("Skipped updating project " + folder);
+    }
+
+    try {
+      return pull(folder, NullProgressMonitor.INSTANCE);
+    } catch (RuntimeException e) {
+      return new Update(folder).fail("Failed to update project " + folder + ": " + e);
+    }
+  }
+
+  // Waits for a pull to finish, even if this thread is interrupted meanwhile
+  private static Update awaitPull(String folder, Future<Update> pull) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          return pull.get();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          var cause = e.getCause();
+          return new Update(folder).fail("Failed to update project " + folder + ": " + cause);
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
   /**
    * Given a project substring, update the version in git/ to latest, and update any existing
    * permissible files.
@@ -114,95 +178,137 @@ public class GitManager extends ScriptManager {
       return false;
     }
     var folder = folderOpt.get();
-    Path projectPath = KoLConstants.GIT_LOCATION.toPath().resolve(folder);
-    var oldRoot = getRoot(projectPath);
+    RequestLogger.printLine("Updating project " + folder);
+    return apply(pull(folder, new MafiaProgressMonitor()));
+  }
+
+  /**
+   * What pulling one project brought in. Pulling touches only the project's own folder in git/, so
+   * several projects can be pulled at once; the permissible folders are only changed by apply().
+   */
+  private static class Update {
+    final String folder;
+    final Path projectPath;
+    final Path oldRoot;
+    Path newRoot;
+    ObjectId since;
+    ObjectId until;
+    List<DiffEntry> diffs = List.of();
+    final List<String> notes = new ArrayList<>();
+    String error = null;
+
+    Update(String folder) {
+      this.folder = folder;
+      this.projectPath = KoLConstants.GIT_LOCATION.toPath().resolve(folder);
+      this.oldRoot = getRoot(this.projectPath);
+      this.newRoot = this.oldRoot;
+    }
+
+    Update fail(String error) {
+      this.error = error;
+      return this;
+    }
+  }
+
+  /** Pull the project in git/ up to date with its remote, and find out which files changed. */
+  private static Update pull(String folder, ProgressMonitor monitor) {
+    var update = new Update(folder);
     Git git;
     try {
-      git = Git.open(projectPath.toFile());
+      git = Git.open(update.projectPath.toFile());
     } catch (IOException e) {
-      KoLmafia.updateDisplay(MafiaState.ERROR, "Failed to open project " + folder + ": " + e);
-      return false;
+      return update.fail("Failed to open project " + folder + ": " + e);
     }
     // update repo, then find out what was updated
     try (git) {
       var repo = git.getRepository();
       AbstractTreeIterator currTree;
       AbstractTreeIterator incomingTree;
-      ObjectId currCommit;
-      ObjectId incomingCommit;
       try {
-        currCommit = getCurrentCommit(repo);
+        update.since = getCurrentCommit(repo);
         currTree = getCurrentCommitTree(repo);
       } catch (IOException e) {
-        KoLmafia.updateDisplay(
-            MafiaState.ERROR, "Failed to get details for project " + folder + ": " + e);
-        return false;
+        return update.fail("Failed to get details for project " + folder + ": " + e);
       }
 
-      RequestLogger.printLine("Updating project " + folder);
       try {
-        if (!rebase(folder, git)) {
-          KoLmafia.updateDisplay(
-              MafiaState.ERROR,
+        if (!hasIncoming(git)) {
+          // nothing to rebase or diff
+          return update;
+        }
+        if (!rebase(update, git, monitor)) {
+          return update.fail(
               "Failed to update project "
                   + folder
                   + ": rebase error. Perhaps there are local changes we are unable to automatically reconcile. Consider deleting and re-installing project");
-          return false;
         }
-      } catch (GitAPIException e) {
-        KoLmafia.updateDisplay(MafiaState.ERROR, "Failed to update project " + folder + ": " + e);
-        return false;
+      } catch (GitAPIException | IOException e) {
+        return update.fail("Failed to update project " + folder + ": " + e);
       }
-      var newRoot = getRoot(projectPath);
+      update.newRoot = getRoot(update.projectPath);
 
-      if (!oldRoot.equals(newRoot)) {
+      if (!update.oldRoot.equals(update.newRoot)) {
         // the root directory has changed. Figuring out the diff is too hard, just sync
-        return sync(projectPath);
+        return update;
       }
 
       try {
-        incomingCommit = getCurrentCommit(repo);
+        update.until = getCurrentCommit(repo);
         incomingTree = getCurrentCommitTree(repo);
       } catch (IOException e) {
-        KoLmafia.updateDisplay(
-            MafiaState.ERROR, "Failed to get incoming changes for project " + folder + ": " + e);
-        return false;
+        return update.fail("Failed to get incoming changes for project " + folder + ": " + e);
       }
 
-      List<DiffEntry> diffs;
       try {
         var cmd =
             git.diff().setOldTree(currTree).setNewTree(incomingTree).setShowNameAndStatusOnly(true);
-        if (!projectPath.equals(newRoot)) {
-          var relFilter = projectPath.relativize(newRoot);
+        if (!update.projectPath.equals(update.newRoot)) {
+          var relFilter = update.projectPath.relativize(update.newRoot);
           var filter = PathFilter.create(relFilter.toString().replace(File.separatorChar, '/'));
           cmd = cmd.setPathFilter(filter);
         }
-        diffs = cmd.call();
+        update.diffs = cmd.call();
       } catch (GitAPIException e) {
-        KoLmafia.updateDisplay(
-            MafiaState.ERROR, "Failed to diff incoming changes for project " + folder + ": " + e);
+        return update.fail("Failed to diff incoming changes for project " + folder + ": " + e);
+      }
+    }
+    return update;
+  }
+
+  /** Copy the changes a pull brought in to the permissible folders. */
+  private static boolean apply(Update update) {
+    synchronized (GitManager.class) {
+      for (var note : update.notes) {
+        KoLmafia.updateDisplay(note);
+      }
+
+      if (update.error != null) {
+        KoLmafia.updateDisplay(MafiaState.ERROR, update.error);
         return false;
       }
 
-      if (diffs.isEmpty()) {
+      if (!update.oldRoot.equals(update.newRoot)) {
+        return sync(update.projectPath);
+      }
+
+      if (update.diffs.isEmpty()) {
         RequestLogger.printLine("No changes");
         return false;
       }
 
       boolean checkDependencies = false;
 
-      for (var diff : diffs) {
+      for (var diff : update.diffs) {
         var oldDiffPath = diff.getOldPath();
-        var oldRelPath = oldRoot.relativize(projectPath.resolve(oldDiffPath));
+        var oldRelPath = update.oldRoot.relativize(update.projectPath.resolve(oldDiffPath));
         var newDiffPath = diff.getNewPath();
-        var newRelPath = newRoot.relativize(projectPath.resolve(newDiffPath));
+        var newRelPath = update.newRoot.relativize(update.projectPath.resolve(newDiffPath));
         switch (diff.getChangeType()) {
-          case ADD, MODIFY, COPY -> addNewFile(newRoot, newRelPath);
+          case ADD, MODIFY, COPY -> addNewFile(update.newRoot, newRelPath);
           case DELETE -> deleteOldFile(oldRelPath);
           case RENAME -> {
             deleteOldFile(oldRelPath);
-            addNewFile(newRoot, newRelPath);
+            addNewFile(update.newRoot, newRelPath);
           }
         }
 
@@ -212,30 +318,62 @@ public class GitManager extends ScriptManager {
       }
 
       if (Preferences.getBoolean("gitShowCommitMessages")) {
-        printCommitMessages(git, currCommit, incomingCommit, folder);
+        printCommitMessages(update.projectPath, update.since, update.until, update.folder);
       }
 
       if (checkDependencies) {
-        installDependencies(newRoot.resolve(DEPENDENCIES));
+        installDependencies(update.newRoot.resolve(DEPENDENCIES));
       }
     }
     return true;
   }
 
-  private static boolean rebase(String folder, Git git) throws GitAPIException {
-    var result = git.pull().setProgressMonitor(new MafiaProgressMonitor()).setRebase(true).call();
+  /**
+   * Whether the remote branch has commits which the project does not. This asks the remote only for
+   * its branch heads, which is much cheaper than a pull when, as usual, nothing has changed.
+   */
+  private static boolean hasIncoming(Git git) throws GitAPIException, IOException {
+    var repo = git.getRepository();
+    var config = new BranchConfig(repo.getConfig(), repo.getBranch());
+    var remote = config.getRemote();
+    var merge = config.getMerge();
+    if (remote == null || merge == null) {
+      // not tracking a remote branch, so let the pull work it out
+      return true;
+    }
+
+    var remoteRef = git.lsRemote().setRemote(remote).setHeads(true).callAsMap().get(merge);
+    var head = repo.resolve("HEAD");
+    if (remoteRef == null || head == null) {
+      return true;
+    }
+
+    var remoteId = remoteRef.getObjectId();
+    if (!repo.getObjectDatabase().has(remoteId)) {
+      // never fetched, so certainly new
+      return true;
+    }
+
+    try (var walk = new RevWalk(repo)) {
+      return !walk.isMergedInto(walk.parseCommit(remoteId), walk.parseCommit(head));
+    }
+  }
+
+  private static boolean rebase(Update update, Git git, ProgressMonitor monitor)
+      throws GitAPIException {
+    var result = git.pull().setProgressMonitor(monitor).setRebase(true).call();
     var success = result.getRebaseResult().getStatus().isSuccessful();
     if (!success) {
       // the rebase failed. Does the user have any local changes?
       var hasLocal = !git.diff().call().isEmpty();
       if (!hasLocal) return false;
-      KoLmafia.updateDisplay("Detected local changes in " + folder + ". Attempting to merge.");
+      update.notes.add("Detected local changes in " + update.folder + ". Attempting to merge.");
       // add all files
       git.add().addFilepattern(".").call();
       // make a commit
       git.commit().setMessage("local changes").setAuthor("KoLMafia", "KoLMafia@localhost").call();
       // try to rebase again
-      result = git.pull().setProgressMonitor(new MafiaProgressMonitor()).setRebase(true).call();
+      result = git.pull().setProgressMonitor(monitor).setRebase(true).call();
       success = result.getRebaseResult().getStatus().isSuccessful();
     }
     if (git.getRepository().getRepositoryState().isRebasing()) {
@@ -284,10 +422,11 @@ public class GitManager extends ScriptManager {
   }
 
   /** Print commit messages from since to until */
-  private static void printCommitMessages(Git git, ObjectId since, ObjectId until, String folder) {
-    Iterable<RevCommit> commits;
-    try {
-      commits = git.log().addRange(since, until).call();
+  private static void printCommitMessages(
+      Path projectPath, ObjectId since, ObjectId until, String folder) {
+    List<RevCommit> commits = new ArrayList<>();
+    try (var git = Git.open(projectPath.toFile())) {
+      git.log().addRange(since, until).call().forEach(commits::add);
     } catch (IOException | GitAPIException e) {
       KoLmafia.updateDisplay(
           MafiaState.CONTINUE, "Failed to get commit messages for " + folder + ": " + e);
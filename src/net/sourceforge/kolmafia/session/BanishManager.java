@@ -1,9 +1,13 @@
 package net.sourceforge.kolmafia.session;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.function.Consumer;
@@ -19,6 +23,7 @@ import net.sourceforge.kolmafia.combat.MonsterStatusTracker;
 import net.sourceforge.kolmafia.objectpool.EffectPool;
 import net.sourceforge.kolmafia.persistence.MonsterDatabase;
 import net.sourceforge.kolmafia.persistence.MonsterDatabase.Phylum;
+import net.sourceforge.kolmafia.preferences.DecodedPreference;
 import net.sourceforge.kolmafia.preferences.Preferences;
 import net.sourceforge.kolmafia.request.StandardRequest;
 import net.sourceforge.kolmafia.utilities.StringUtilities;
@@ -238,6 +243,46 @@ public class BanishManager {
     }
   }
 
+  // The banish preferences, decoded once per change and indexed by lower-cased monster or
+  // phylum name.
+  private record BanishState(Set<Banished> entries, Map<String, List<Banished>> byName) {
+    private static BanishState decode(final String value) {
+      return BanishState.of(decodeSet(value));
+    }
+
+    private static BanishState of(final Set<Banished> set) {
+      Set<Banished> entries = Collections.unmodifiableSet(set);
+      Map<String, List<Banished>> byName = new HashMap<>();
+      for (Banished banished : entries) {
+        byName
+            .computeIfAbsent(banished.banished().toLowerCase(), k -> new ArrayList<>())
+            .add(banished);
+      }
+      return new BanishState(entries, byName);
+    }
+
+    private static String encode(final BanishState state) {
+      return setToPref(state.entries());
+    }
+
+    private List<Banished> get(final String name) {
+      return this.byName.getOrDefault(name.toLowerCase(), List.of());
+    }
+
+    private boolean isAllValid() {
+      return this.entries.stream().allMatch(Banished::isValid);
+    }
+  }
+
+  private static final DecodedPreference<BanishState> BANISHED_MONSTERS =
+      new DecodedPreference<>("banishedMonsters", BanishState::decode, BanishState::encode);
+  private static final DecodedPreference<BanishState> BANISHED_PHYLA =
+      new DecodedPreference<>("banishedPhyla", BanishState::decode, BanishState::encode);
+
+  private static DecodedPreference<BanishState> getBanishedPref(String prefName) {
+    return prefName.equals("banishedPhyla") ? BANISHED_PHYLA : BANISHED_MONSTERS;
+  }
+
   private static Set<Banished> getBanishedSet(Banisher banisher) {
     return switch (banisher.getBanishType()) {
       case MONSTER -> prefToSet("banishedMonsters");
@@ -246,7 +291,10 @@ public class BanishManager {
   }
 
   private static Set<Banished> prefToSet(String prefName) {
-    String banishes = Preferences.getString(prefName);
+    return getBanishedPref(prefName).get().entries();
+  }
+
+  private static LinkedHashSet<Banished> decodeSet(String banishes) {
     if (banishes.isEmpty()) {
       return new LinkedHashSet<>();
     }
@@ -282,9 +330,10 @@ public class BanishManager {
   }
 
   private static void updatePref(String pref, Consumer<Set<Banished>> func) {
-    var set = prefToSet(pref);
+    var decoded = getBanishedPref(pref);
+    var set = new LinkedHashSet<>(decoded.get().entries());
     func.accept(set);
-    Preferences.setString(pref, setToPref(set));
+    decoded.set(BanishState.of(set));
   }
 
   /**
@@ -324,6 +373,10 @@ public class BanishManager {
   }
 
   public static void recalculate() {
+    // Only rewrite the preferences if something has actually expired
+    if (BANISHED_MONSTERS.get().isAllValid() && BANISHED_PHYLA.get().isAllValid()) {
+      return;
+    }
     resetIf(Predicate.not(Banished::isValid));
   }
 
@@ -473,11 +526,7 @@ public class BanishManager {
   public static boolean isBanished(final String monster) {
     BanishManager.recalculate();
 
-    var monsters = prefToSet("banishedMonsters");
-
-    if (monsters.stream()
-        .filter(m -> m.banisher().isEffective())
-        .anyMatch(m -> m.banished().equalsIgnoreCase(monster))) {
+    if (BANISHED_MONSTERS.get().get(monster).stream().anyMatch(m -> m.banisher().isEffective())) {
       return true;
     }
 
@@ -492,11 +541,8 @@ public class BanishManager {
   }
 
   public static boolean isBanishedPhylum(final Phylum phylum) {
-    var phyla = prefToSet("banishedPhyla");
-
-    return phyla.stream()
-        .filter(m -> m.banisher().isEffective())
-        .anyMatch(m -> m.banished().equalsIgnoreCase(phylum.toString()));
+    return BANISHED_PHYLA.get().get(phylum.toString()).stream()
+        .anyMatch(m -> m.banisher().isEffective());
   }
 
   public static Banisher[] banishedBy(final MonsterData data) {
@@ -509,17 +555,12 @@ public class BanishManager {
 
     BanishManager.recalculate();
 
-    var monsters = prefToSet("banishedMonsters");
-    var phyla = prefToSet("banishedPhyla");
-
     var monsterBanishes =
-        monsters.stream()
-            .filter(m -> m.banisher().isEffective())
-            .filter(m -> m.banished().equalsIgnoreCase(data.getName()));
+        BANISHED_MONSTERS.get().get(data.getName()).stream()
+            .filter(m -> m.banisher().isEffective());
     var phylaBanishes =
-        phyla.stream()
-            .filter(m -> m.banisher().isEffective())
-            .filter(m -> m.banished().equalsIgnoreCase(data.getPhylum().toString()));
+        BANISHED_PHYLA.get().get(data.getPhylum().toString()).stream()
+            .filter(m -> m.banisher().isEffective());
     return Stream.concat(monsterBanishes, phylaBanishes)
         .map(Banished::banisher)
         .toArray(Banisher[]::new);
@@ -551,4373 +551,5076 @@ public abstract class ChoiceControl {
   private static final AdventureResult BINDER_CLIP = ItemPool.get(ItemPool.BINDER_CLIP, 1);
   private static final AdventureResult MCCLUSKY_FILE = ItemPool.get(ItemPool.MCCLUSKY_FILE, 1);
 
-  public static void postChoice1(final String urlString, final GenericRequest request) {
-    String text = request.responseText;
+  // Most choices need only a few lines of handling. Keeping each in its own method, found by choice
+  // number, keeps the dispatching methods small enough to be compiled rather than interpreted.
 
-    switch (ChoiceManager.lastChoice) {
-      case 4:
-        // Finger-Lickin'... Death.
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("_candyCaneSwordSouthOfTheBorder", true);
-        }
-        break;
+  @FunctionalInterface
+  private interface ChoiceHandler {
+    void handle(String urlString, GenericRequest request, String text);
+  }
 
-      case 109:
-        // Dumpster Diving
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("_candyCaneSwordBackAlley", true);
-        }
-        break;
+  @FunctionalInterface
+  private interface VisitHandler {
+    void handle(GenericRequest request, String text);
+  }
 
-      case 127:
-        // No sir, away! A papaya war is on!
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("_candyCaneSwordPalindome", true);
-        }
-        break;
+  private static final Map<Integer, ChoiceHandler> POST_CHOICE1 = new HashMap<>();
 
-      case 139:
-        // Bait and Switch
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("candyCaneSwordWarHippyBait", true);
-        }
-        break;
+  static {
+    POST_CHOICE1.put(4, ChoiceControl::postChoice1Choice4);
+    POST_CHOICE1.put(109, ChoiceControl::postChoice1Choice109);
+    POST_CHOICE1.put(127, ChoiceControl::postChoice1Choice127);
+    POST_CHOICE1.put(139, ChoiceControl::postChoice1Choice139);
+    POST_CHOICE1.put(140, ChoiceControl::postChoice1Choice140);
+    POST_CHOICE1.put(143, ChoiceControl::postChoice1Choice143);
+    POST_CHOICE1.put(144, ChoiceControl::postChoice1Choice144);
+    POST_CHOICE1.put(147, ChoiceControl::postChoice1Choice147);
+    POST_CHOICE1.put(148, ChoiceControl::postChoice1Choice148);
+    POST_CHOICE1.put(149, ChoiceControl::postChoice1Choice149);
+    POST_CHOICE1.put(151, ChoiceControl::postChoice1Choice151);
+    POST_CHOICE1.put(188, ChoiceControl::postChoice1Choice188);
+    POST_CHOICE1.put(189, ChoiceControl::postChoice1Choice189);
+    POST_CHOICE1.put(191, ChoiceControl::postChoice1Choice191);
+    POST_CHOICE1.put(237, ChoiceControl::postChoice1Choice237);
+    POST_CHOICE1.put(238, ChoiceControl::postChoice1Choice237);
+    POST_CHOICE1.put(239, ChoiceControl::postChoice1Choice237);
+    POST_CHOICE1.put(242, ChoiceControl::postChoice1Choice242);
+    POST_CHOICE1.put(243, ChoiceControl::postChoice1Choice242);
+    POST_CHOICE1.put(244, ChoiceControl::postChoice1Choice242);
+    POST_CHOICE1.put(271, ChoiceControl::postChoice1Choice271);
+    POST_CHOICE1.put(274, ChoiceControl::postChoice1Choice271);
+    POST_CHOICE1.put(298, ChoiceControl::postChoice1Choice298);
+    POST_CHOICE1.put(346, ChoiceControl::postChoice1Choice346);
+    POST_CHOICE1.put(347, ChoiceControl::postChoice1Choice346);
+    POST_CHOICE1.put(348, ChoiceControl::postChoice1Choice346);
+    POST_CHOICE1.put(351, ChoiceControl::postChoice1Choice346);
+    POST_CHOICE1.put(349, ChoiceControl::postChoice1Choice349);
+    POST_CHOICE1.put(350, ChoiceControl::postChoice1Choice350);
+    POST_CHOICE1.put(354, ChoiceControl::postChoice1Choice354);
+    POST_CHOICE1.put(355, ChoiceControl::postChoice1Choice355);
+    POST_CHOICE1.put(357, ChoiceControl::postChoice1Choice357);
+    POST_CHOICE1.put(358, ChoiceControl::postChoice1Choice358);
+    POST_CHOICE1.put(362, ChoiceControl::postChoice1Choice362);
+    POST_CHOICE1.put(363, ChoiceControl::postChoice1Choice363);
+    POST_CHOICE1.put(373, ChoiceControl::postChoice1Choice373);
+    POST_CHOICE1.put(376, ChoiceControl::postChoice1Choice376);
+    POST_CHOICE1.put(389, ChoiceControl::postChoice1Choice389);
+    POST_CHOICE1.put(390, ChoiceControl::postChoice1Choice390);
+    POST_CHOICE1.put(391, ChoiceControl::postChoice1Choice391);
+    POST_CHOICE1.put(392, ChoiceControl::postChoice1Choice392);
+    POST_CHOICE1.put(393, ChoiceControl::postChoice1Choice393);
+    POST_CHOICE1.put(394, ChoiceControl::postChoice1Choice394);
+    POST_CHOICE1.put(413, ChoiceControl::postChoice1Choice413);
+    POST_CHOICE1.put(414, ChoiceControl::postChoice1Choice413);
+    POST_CHOICE1.put(415, ChoiceControl::postChoice1Choice413);
+    POST_CHOICE1.put(416, ChoiceControl::postChoice1Choice413);
+    POST_CHOICE1.put(417, ChoiceControl::postChoice1Choice413);
+    POST_CHOICE1.put(418, ChoiceControl::postChoice1Choice413);
+    POST_CHOICE1.put(440, ChoiceControl::postChoice1Choice440);
+    POST_CHOICE1.put(443, ChoiceControl::postChoice1Choice443);
+    POST_CHOICE1.put(450, ChoiceControl::postChoice1Choice450);
+    POST_CHOICE1.put(457, ChoiceControl::postChoice1Choice457);
+    POST_CHOICE1.put(460, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(461, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(462, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(463, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(464, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(465, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(467, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(468, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(469, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(470, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(472, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(473, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(474, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(475, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(476, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(477, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(478, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(479, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(480, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(481, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(482, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(483, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(484, ChoiceControl::postChoice1Choice460);
+    POST_CHOICE1.put(471, ChoiceControl::postChoice1Choice471);
+    POST_CHOICE1.put(485, ChoiceControl::postChoice1Choice485);
+    POST_CHOICE1.put(486, ChoiceControl::postChoice1Choice486);
+    POST_CHOICE1.put(488, ChoiceControl::postChoice1Choice488);
+    POST_CHOICE1.put(489, ChoiceControl::postChoice1Choice488);
+    POST_CHOICE1.put(490, ChoiceControl::postChoice1Choice488);
+    POST_CHOICE1.put(491, ChoiceControl::postChoice1Choice488);
+    POST_CHOICE1.put(502, ChoiceControl::postChoice1Choice502);
+    POST_CHOICE1.put(523, ChoiceControl::postChoice1Choice523);
+    POST_CHOICE1.put(529, ChoiceControl::postChoice1Choice529);
+    POST_CHOICE1.put(531, ChoiceControl::postChoice1Choice529);
+    POST_CHOICE1.put(532, ChoiceControl::postChoice1Choice529);
+    POST_CHOICE1.put(533, ChoiceControl::postChoice1Choice529);
+    POST_CHOICE1.put(534, ChoiceControl::postChoice1Choice529);
+    POST_CHOICE1.put(539, ChoiceControl::postChoice1Choice539);
+    POST_CHOICE1.put(540, ChoiceControl::postChoice1Choice540);
+    POST_CHOICE1.put(542, ChoiceControl::postChoice1Choice542);
+    POST_CHOICE1.put(546, ChoiceControl::postChoice1Choice546);
+    POST_CHOICE1.put(559, ChoiceControl::postChoice1Choice559);
+    POST_CHOICE1.put(571, ChoiceControl::postChoice1Choice571);
+    POST_CHOICE1.put(572, ChoiceControl::postChoice1Choice572);
+    POST_CHOICE1.put(573, ChoiceControl::postChoice1Choice573);
+    POST_CHOICE1.put(576, ChoiceControl::postChoice1Choice576);
+    POST_CHOICE1.put(577, ChoiceControl::postChoice1Choice577);
+    POST_CHOICE1.put(588, ChoiceControl::postChoice1Choice588);
+    POST_CHOICE1.put(589, ChoiceControl::postChoice1Choice589);
+    POST_CHOICE1.put(594, ChoiceControl::postChoice1Choice594);
+    POST_CHOICE1.put(595, ChoiceControl::postChoice1Choice595);
+    POST_CHOICE1.put(599, ChoiceControl::postChoice1Choice599);
+    POST_CHOICE1.put(603, ChoiceControl::postChoice1Choice603);
+    POST_CHOICE1.put(607, ChoiceControl::postChoice1Choice607);
+    POST_CHOICE1.put(608, ChoiceControl::postChoice1Choice608);
+    POST_CHOICE1.put(611, ChoiceControl::postChoice1Choice611);
+    POST_CHOICE1.put(614, ChoiceControl::postChoice1Choice614);
+    POST_CHOICE1.put(616, ChoiceControl::postChoice1Choice616);
+    POST_CHOICE1.put(617, ChoiceControl::postChoice1Choice617);
+    POST_CHOICE1.put(618, ChoiceControl::postChoice1Choice618);
+    POST_CHOICE1.put(627, ChoiceControl::postChoice1Choice627);
+    POST_CHOICE1.put(628, ChoiceControl::postChoice1Choice627);
+    POST_CHOICE1.put(629, ChoiceControl::postChoice1Choice627);
+    POST_CHOICE1.put(630, ChoiceControl::postChoice1Choice627);
+    POST_CHOICE1.put(631, ChoiceControl::postChoice1Choice627);
+    POST_CHOICE1.put(633, ChoiceControl::postChoice1Choice627);
+    POST_CHOICE1.put(669, ChoiceControl::postChoice1Choice669);
+    POST_CHOICE1.put(670, ChoiceControl::postChoice1Choice669);
+    POST_CHOICE1.put(671, ChoiceControl::postChoice1Choice669);
+    POST_CHOICE1.put(675, ChoiceControl::postChoice1Choice675);
+    POST_CHOICE1.put(679, ChoiceControl::postChoice1Choice679);
+    POST_CHOICE1.put(689, ChoiceControl::postChoice1Choice689);
+    POST_CHOICE1.put(690, ChoiceControl::postChoice1Choice690);
+    POST_CHOICE1.put(691, ChoiceControl::postChoice1Choice690);
+    POST_CHOICE1.put(692, ChoiceControl::postChoice1Choice692);
+    POST_CHOICE1.put(693, ChoiceControl::postChoice1Choice693);
+    POST_CHOICE1.put(699, ChoiceControl::postChoice1Choice699);
+    POST_CHOICE1.put(700, ChoiceControl::postChoice1Choice700);
+    POST_CHOICE1.put(703, ChoiceControl::postChoice1Choice703);
+    POST_CHOICE1.put(709, ChoiceControl::postChoice1Choice709);
+    POST_CHOICE1.put(713, ChoiceControl::postChoice1Choice709);
+    POST_CHOICE1.put(717, ChoiceControl::postChoice1Choice709);
+    POST_CHOICE1.put(720, ChoiceControl::postChoice1Choice720);
+    POST_CHOICE1.put(721, ChoiceControl::postChoice1Choice721);
+    POST_CHOICE1.put(722, ChoiceControl::postChoice1Choice722);
+    POST_CHOICE1.put(723, ChoiceControl::postChoice1Choice723);
+    POST_CHOICE1.put(725, ChoiceControl::postChoice1Choice725);
+    POST_CHOICE1.put(729, ChoiceControl::postChoice1Choice729);
+    POST_CHOICE1.put(730, ChoiceControl::postChoice1Choice730);
+    POST_CHOICE1.put(733, ChoiceControl::postChoice1Choice733);
+    POST_CHOICE1.put(737, ChoiceControl::postChoice1Choice737);
+    POST_CHOICE1.put(739, ChoiceControl::postChoice1Choice739);
+    POST_CHOICE1.put(741, ChoiceControl::postChoice1Choice741);
+    POST_CHOICE1.put(743, ChoiceControl::postChoice1Choice743);
+    POST_CHOICE1.put(744, ChoiceControl::postChoice1Choice744);
+    POST_CHOICE1.put(745, ChoiceControl::postChoice1Choice745);
+    POST_CHOICE1.put(746, ChoiceControl::postChoice1Choice746);
+    POST_CHOICE1.put(749, ChoiceControl::postChoice1Choice749);
+    POST_CHOICE1.put(750, ChoiceControl::postChoice1Choice750);
+    POST_CHOICE1.put(753, ChoiceControl::postChoice1Choice753);
+    POST_CHOICE1.put(762, ChoiceControl::postChoice1Choice762);
+    POST_CHOICE1.put(772, ChoiceControl::postChoice1Choice772);
+    POST_CHOICE1.put(778, ChoiceControl::postChoice1Choice778);
+    POST_CHOICE1.put(780, ChoiceControl::postChoice1Choice780);
+    POST_CHOICE1.put(781, ChoiceControl::postChoice1Choice781);
+    POST_CHOICE1.put(783, ChoiceControl::postChoice1Choice783);
+    POST_CHOICE1.put(785, ChoiceControl::postChoice1Choice785);
+    POST_CHOICE1.put(786, ChoiceControl::postChoice1Choice786);
+    POST_CHOICE1.put(787, ChoiceControl::postChoice1Choice787);
+    POST_CHOICE1.put(788, ChoiceControl::postChoice1Choice788);
+    POST_CHOICE1.put(789, ChoiceControl::postChoice1Choice789);
+    POST_CHOICE1.put(793, ChoiceControl::postChoice1Choice793);
+    POST_CHOICE1.put(801, ChoiceControl::postChoice1Choice801);
+    POST_CHOICE1.put(805, ChoiceControl::postChoice1Choice805);
+    POST_CHOICE1.put(812, ChoiceControl::postChoice1Choice812);
+    POST_CHOICE1.put(821, ChoiceControl::postChoice1Choice821);
+    POST_CHOICE1.put(835, ChoiceControl::postChoice1Choice835);
+    POST_CHOICE1.put(836, ChoiceControl::postChoice1Choice836);
+    POST_CHOICE1.put(851, ChoiceControl::postChoice1Choice851);
+    POST_CHOICE1.put(852, ChoiceControl::postChoice1Choice852);
+    POST_CHOICE1.put(853, ChoiceControl::postChoice1Choice852);
+    POST_CHOICE1.put(854, ChoiceControl::postChoice1Choice854);
+    POST_CHOICE1.put(872, ChoiceControl::postChoice1Choice872);
+    POST_CHOICE1.put(876, ChoiceControl::postChoice1Choice876);
+    POST_CHOICE1.put(882, ChoiceControl::postChoice1Choice882);
+    POST_CHOICE1.put(888, ChoiceControl::postChoice1Choice888);
+    POST_CHOICE1.put(890, ChoiceControl::postChoice1Choice890);
+    POST_CHOICE1.put(891, ChoiceControl::postChoice1Choice891);
+    POST_CHOICE1.put(892, ChoiceControl::postChoice1Choice892);
+    POST_CHOICE1.put(893, ChoiceControl::postChoice1Choice893);
+    POST_CHOICE1.put(894, ChoiceControl::postChoice1Choice894);
+    POST_CHOICE1.put(895, ChoiceControl::postChoice1Choice895);
+    POST_CHOICE1.put(896, ChoiceControl::postChoice1Choice896);
+    POST_CHOICE1.put(897, ChoiceControl::postChoice1Choice897);
+    POST_CHOICE1.put(898, ChoiceControl::postChoice1Choice898);
+    POST_CHOICE1.put(899, ChoiceControl::postChoice1Choice899);
+    POST_CHOICE1.put(900, ChoiceControl::postChoice1Choice900);
+    POST_CHOICE1.put(901, ChoiceControl::postChoice1Choice901);
+    POST_CHOICE1.put(902, ChoiceControl::postChoice1Choice902);
+    POST_CHOICE1.put(903, ChoiceControl::postChoice1Choice903);
+    POST_CHOICE1.put(915, ChoiceControl::postChoice1Choice915);
+    POST_CHOICE1.put(916, ChoiceControl::postChoice1Choice916);
+    POST_CHOICE1.put(917, ChoiceControl::postChoice1Choice917);
+    POST_CHOICE1.put(918, ChoiceControl::postChoice1Choice918);
+    POST_CHOICE1.put(919, ChoiceControl::postChoice1Choice919);
+    POST_CHOICE1.put(920, ChoiceControl::postChoice1Choice920);
+    POST_CHOICE1.put(923, ChoiceControl::postChoice1Choice923);
+    POST_CHOICE1.put(930, ChoiceControl::postChoice1Choice930);
+    POST_CHOICE1.put(932, ChoiceControl::postChoice1Choice932);
+    POST_CHOICE1.put(967, ChoiceControl::postChoice1Choice967);
+    POST_CHOICE1.put(968, ChoiceControl::postChoice1Choice968);
+    POST_CHOICE1.put(969, ChoiceControl::postChoice1Choice969);
+    POST_CHOICE1.put(970, ChoiceControl::postChoice1Choice970);
+    POST_CHOICE1.put(984, ChoiceControl::postChoice1Choice984);
+    POST_CHOICE1.put(986, ChoiceControl::postChoice1Choice986);
+    POST_CHOICE1.put(987, ChoiceControl::postChoice1Choice987);
+    POST_CHOICE1.put(988, ChoiceControl::postChoice1Choice988);
+    POST_CHOICE1.put(991, ChoiceControl::postChoice1Choice991);
+    POST_CHOICE1.put(993, ChoiceControl::postChoice1Choice993);
+    POST_CHOICE1.put(994, ChoiceControl::postChoice1Choice994);
+    POST_CHOICE1.put(998, ChoiceControl::postChoice1Choice998);
+    POST_CHOICE1.put(999, ChoiceControl::postChoice1Choice999);
+    POST_CHOICE1.put(1002, ChoiceControl::postChoice1Choice1002);
+    POST_CHOICE1.put(1003, ChoiceControl::postChoice1Choice1003);
+    POST_CHOICE1.put(1005, ChoiceControl::postChoice1Choice1005);
+    POST_CHOICE1.put(1008, ChoiceControl::postChoice1Choice1005);
+    POST_CHOICE1.put(1011, ChoiceControl::postChoice1Choice1005);
+    POST_CHOICE1.put(1013, ChoiceControl::postChoice1Choice1013);
+    POST_CHOICE1.put(1015, ChoiceControl::postChoice1Choice1015);
+    POST_CHOICE1.put(1022, ChoiceControl::postChoice1Choice1022);
+    POST_CHOICE1.put(1023, ChoiceControl::postChoice1Choice1023);
+    POST_CHOICE1.put(1027, ChoiceControl::postChoice1Choice1027);
+    POST_CHOICE1.put(1028, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1029, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1030, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1031, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1032, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1033, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1034, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1035, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1036, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1037, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1038, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1039, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1040, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1041, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1045, ChoiceControl::postChoice1Choice1028);
+    POST_CHOICE1.put(1042, ChoiceControl::postChoice1Choice1042);
+    POST_CHOICE1.put(1044, ChoiceControl::postChoice1Choice1044);
+    POST_CHOICE1.put(1049, ChoiceControl::postChoice1Choice1049);
+    POST_CHOICE1.put(1052, ChoiceControl::postChoice1Choice1052);
+    POST_CHOICE1.put(1053, ChoiceControl::postChoice1Choice1053);
+    POST_CHOICE1.put(1056, ChoiceControl::postChoice1Choice1056);
+    POST_CHOICE1.put(1057, ChoiceControl::postChoice1Choice1057);
+    POST_CHOICE1.put(1059, ChoiceControl::postChoice1Choice1059);
+    POST_CHOICE1.put(1060, ChoiceControl::postChoice1Choice1060);
+    POST_CHOICE1.put(1061, ChoiceControl::postChoice1Choice1061);
+    POST_CHOICE1.put(1062, ChoiceControl::postChoice1Choice1062);
+    POST_CHOICE1.put(1064, ChoiceControl::postChoice1Choice1064);
+    POST_CHOICE1.put(1065, ChoiceControl::postChoice1Choice1065);
+    POST_CHOICE1.put(1066, ChoiceControl::postChoice1Choice1066);
+    POST_CHOICE1.put(1067, ChoiceControl::postChoice1Choice1067);
+    POST_CHOICE1.put(1076, ChoiceControl::postChoice1Choice1076);
+    POST_CHOICE1.put(1080, ChoiceControl::postChoice1Choice1080);
+    POST_CHOICE1.put(1081, ChoiceControl::postChoice1Choice1081);
+    POST_CHOICE1.put(1084, ChoiceControl::postChoice1Choice1084);
+    POST_CHOICE1.put(1085, ChoiceControl::postChoice1Choice1085);
+    POST_CHOICE1.put(1086, ChoiceControl::postChoice1Choice1085);
+    POST_CHOICE1.put(1087, ChoiceControl::postChoice1Choice1087);
+    POST_CHOICE1.put(1088, ChoiceControl::postChoice1Choice1088);
+    POST_CHOICE1.put(1103, ChoiceControl::postChoice1Choice1103);
+    POST_CHOICE1.put(1118, ChoiceControl::postChoice1Choice1118);
+    POST_CHOICE1.put(1120, ChoiceControl::postChoice1Choice1120);
+    POST_CHOICE1.put(1121, ChoiceControl::postChoice1Choice1120);
+    POST_CHOICE1.put(1122, ChoiceControl::postChoice1Choice1120);
+    POST_CHOICE1.put(1123, ChoiceControl::postChoice1Choice1120);
+    POST_CHOICE1.put(1133, ChoiceControl::postChoice1Choice1133);
+    POST_CHOICE1.put(1137, ChoiceControl::postChoice1Choice1137);
+    POST_CHOICE1.put(1138, ChoiceControl::postChoice1Choice1138);
+    POST_CHOICE1.put(1139, ChoiceControl::postChoice1Choice1139);
+    POST_CHOICE1.put(1140, ChoiceControl::postChoice1Choice1140);
+    POST_CHOICE1.put(1141, ChoiceControl::postChoice1Choice1141);
+    POST_CHOICE1.put(1142, ChoiceControl::postChoice1Choice1142);
+    POST_CHOICE1.put(1143, ChoiceControl::postChoice1Choice1143);
+    POST_CHOICE1.put(1144, ChoiceControl::postChoice1Choice1144);
+    POST_CHOICE1.put(1145, ChoiceControl::postChoice1Choice1145);
+    POST_CHOICE1.put(1146, ChoiceControl::postChoice1Choice1146);
+    POST_CHOICE1.put(1147, ChoiceControl::postChoice1Choice1147);
+    POST_CHOICE1.put(1148, ChoiceControl::postChoice1Choice1148);
+    POST_CHOICE1.put(1176, ChoiceControl::postChoice1Choice1176);
+    POST_CHOICE1.put(1182, ChoiceControl::postChoice1Choice1182);
+    POST_CHOICE1.put(1190, ChoiceControl::postChoice1Choice1190);
+    POST_CHOICE1.put(1191, ChoiceControl::postChoice1Choice1191);
+    POST_CHOICE1.put(1195, ChoiceControl::postChoice1Choice1195);
+    POST_CHOICE1.put(1196, ChoiceControl::postChoice1Choice1196);
+    POST_CHOICE1.put(1215, ChoiceControl::postChoice1Choice1215);
+    POST_CHOICE1.put(1217, ChoiceControl::postChoice1Choice1217);
+    POST_CHOICE1.put(1222, ChoiceControl::postChoice1Choice1222);
+    POST_CHOICE1.put(1229, ChoiceControl::postChoice1Choice1229);
+    POST_CHOICE1.put(1231, ChoiceControl::postChoice1Choice1231);
+    POST_CHOICE1.put(1234, ChoiceControl::postChoice1Choice1234);
+    POST_CHOICE1.put(1235, ChoiceControl::postChoice1Choice1235);
+    POST_CHOICE1.put(1246, ChoiceControl::postChoice1Choice1246);
+    POST_CHOICE1.put(1247, ChoiceControl::postChoice1Choice1247);
+    POST_CHOICE1.put(1248, ChoiceControl::postChoice1Choice1248);
+    POST_CHOICE1.put(1249, ChoiceControl::postChoice1Choice1249);
+    POST_CHOICE1.put(1250, ChoiceControl::postChoice1Choice1250);
+    POST_CHOICE1.put(1251, ChoiceControl::postChoice1Choice1251);
+    POST_CHOICE1.put(1252, ChoiceControl::postChoice1Choice1252);
+    POST_CHOICE1.put(1253, ChoiceControl::postChoice1Choice1253);
+    POST_CHOICE1.put(1254, ChoiceControl::postChoice1Choice1254);
+    POST_CHOICE1.put(1260, ChoiceControl::postChoice1Choice1260);
+    POST_CHOICE1.put(1261, ChoiceControl::postChoice1Choice1261);
+    POST_CHOICE1.put(1262, ChoiceControl::postChoice1Choice1262);
+    POST_CHOICE1.put(1266, ChoiceControl::postChoice1Choice1266);
+    POST_CHOICE1.put(1270, ChoiceControl::postChoice1Choice1270);
+    POST_CHOICE1.put(1271, ChoiceControl::postChoice1Choice1271);
+    POST_CHOICE1.put(1275, ChoiceControl::postChoice1Choice1275);
+    POST_CHOICE1.put(1277, ChoiceControl::postChoice1Choice1277);
+    POST_CHOICE1.put(1280, ChoiceControl::postChoice1Choice1280);
+    POST_CHOICE1.put(1281, ChoiceControl::postChoice1Choice1281);
+    POST_CHOICE1.put(1282, ChoiceControl::postChoice1Choice1282);
+    POST_CHOICE1.put(1283, ChoiceControl::postChoice1Choice1283);
+    POST_CHOICE1.put(1284, ChoiceControl::postChoice1Choice1284);
+    POST_CHOICE1.put(1285, ChoiceControl::postChoice1Choice1285);
+    POST_CHOICE1.put(1286, ChoiceControl::postChoice1Choice1286);
+    POST_CHOICE1.put(1288, ChoiceControl::postChoice1Choice1288);
+    POST_CHOICE1.put(1289, ChoiceControl::postChoice1Choice1289);
+    POST_CHOICE1.put(1290, ChoiceControl::postChoice1Choice1290);
+    POST_CHOICE1.put(1291, ChoiceControl::postChoice1Choice1291);
+    POST_CHOICE1.put(1292, ChoiceControl::postChoice1Choice1292);
+    POST_CHOICE1.put(1293, ChoiceControl::postChoice1Choice1293);
+    POST_CHOICE1.put(1294, ChoiceControl::postChoice1Choice1294);
+    POST_CHOICE1.put(1295, ChoiceControl::postChoice1Choice1295);
+    POST_CHOICE1.put(1296, ChoiceControl::postChoice1Choice1296);
+    POST_CHOICE1.put(1297, ChoiceControl::postChoice1Choice1297);
+    POST_CHOICE1.put(1298, ChoiceControl::postChoice1Choice1298);
+    POST_CHOICE1.put(1299, ChoiceControl::postChoice1Choice1299);
+    POST_CHOICE1.put(1300, ChoiceControl::postChoice1Choice1300);
+    POST_CHOICE1.put(1301, ChoiceControl::postChoice1Choice1301);
+    POST_CHOICE1.put(1302, ChoiceControl::postChoice1Choice1302);
+    POST_CHOICE1.put(1303, ChoiceControl::postChoice1Choice1303);
+    POST_CHOICE1.put(1304, ChoiceControl::postChoice1Choice1304);
+    POST_CHOICE1.put(1305, ChoiceControl::postChoice1Choice1305);
+    POST_CHOICE1.put(1307, ChoiceControl::postChoice1Choice1307);
+    POST_CHOICE1.put(1312, ChoiceControl::postChoice1Choice1312);
+    POST_CHOICE1.put(1313, ChoiceControl::postChoice1Choice1313);
+    POST_CHOICE1.put(1314, ChoiceControl::postChoice1Choice1313);
+    POST_CHOICE1.put(1315, ChoiceControl::postChoice1Choice1313);
+    POST_CHOICE1.put(1316, ChoiceControl::postChoice1Choice1313);
+    POST_CHOICE1.put(1317, ChoiceControl::postChoice1Choice1313);
+    POST_CHOICE1.put(1318, ChoiceControl::postChoice1Choice1313);
+    POST_CHOICE1.put(1319, ChoiceControl::postChoice1Choice1313);
+    POST_CHOICE1.put(1322, ChoiceControl::postChoice1Choice1322);
+    POST_CHOICE1.put(1323, ChoiceControl::postChoice1Choice1323);
+    POST_CHOICE1.put(1324, ChoiceControl::postChoice1Choice1324);
+    POST_CHOICE1.put(1325, ChoiceControl::postChoice1Choice1325);
+    POST_CHOICE1.put(1326, ChoiceControl::postChoice1Choice1326);
+    POST_CHOICE1.put(1327, ChoiceControl::postChoice1Choice1327);
+    POST_CHOICE1.put(1328, ChoiceControl::postChoice1Choice1328);
+    POST_CHOICE1.put(1329, ChoiceControl::postChoice1Choice1329);
+    POST_CHOICE1.put(1331, ChoiceControl::postChoice1Choice1331);
+    POST_CHOICE1.put(1332, ChoiceControl::postChoice1Choice1332);
+    POST_CHOICE1.put(1333, ChoiceControl::postChoice1Choice1333);
+    POST_CHOICE1.put(1334, ChoiceControl::postChoice1Choice1334);
+    POST_CHOICE1.put(1335, ChoiceControl::postChoice1Choice1335);
+    POST_CHOICE1.put(1336, ChoiceControl::postChoice1Choice1336);
+    POST_CHOICE1.put(1340, ChoiceControl::postChoice1Choice1340);
+    POST_CHOICE1.put(1341, ChoiceControl::postChoice1Choice1341);
+    POST_CHOICE1.put(1342, ChoiceControl::postChoice1Choice1342);
+    POST_CHOICE1.put(1347, ChoiceControl::postChoice1Choice1347);
+    POST_CHOICE1.put(1348, ChoiceControl::postChoice1Choice1348);
+    POST_CHOICE1.put(1349, ChoiceControl::postChoice1Choice1349);
+    POST_CHOICE1.put(1352, ChoiceControl::postChoice1Choice1352);
+    POST_CHOICE1.put(1353, ChoiceControl::postChoice1Choice1352);
+    POST_CHOICE1.put(1354, ChoiceControl::postChoice1Choice1352);
+    POST_CHOICE1.put(1355, ChoiceControl::postChoice1Choice1355);
+    POST_CHOICE1.put(1360, ChoiceControl::postChoice1Choice1360);
+    POST_CHOICE1.put(1362, ChoiceControl::postChoice1Choice1362);
+    POST_CHOICE1.put(1364, ChoiceControl::postChoice1Choice1364);
+    POST_CHOICE1.put(1365, ChoiceControl::postChoice1Choice1365);
+    POST_CHOICE1.put(1369, ChoiceControl::postChoice1Choice1369);
+    POST_CHOICE1.put(1370, ChoiceControl::postChoice1Choice1369);
+    POST_CHOICE1.put(1371, ChoiceControl::postChoice1Choice1369);
+    POST_CHOICE1.put(1385, ChoiceControl::postChoice1Choice1369);
+    POST_CHOICE1.put(1372, ChoiceControl::postChoice1Choice1372);
+    POST_CHOICE1.put(1375, ChoiceControl::postChoice1Choice1375);
+    POST_CHOICE1.put(1376, ChoiceControl::postChoice1Choice1376);
+    POST_CHOICE1.put(1377, ChoiceControl::postChoice1Choice1376);
+    POST_CHOICE1.put(1379, ChoiceControl::postChoice1Choice1379);
+    POST_CHOICE1.put(1380, ChoiceControl::postChoice1Choice1380);
+    POST_CHOICE1.put(1383, ChoiceControl::postChoice1Choice1383);
+    POST_CHOICE1.put(1384, ChoiceControl::postChoice1Choice1384);
+    POST_CHOICE1.put(1386, ChoiceControl::postChoice1Choice1386);
+    POST_CHOICE1.put(1387, ChoiceControl::postChoice1Choice1387);
+    POST_CHOICE1.put(1388, ChoiceControl::postChoice1Choice1388);
+    POST_CHOICE1.put(1391, ChoiceControl::postChoice1Choice1391);
+    POST_CHOICE1.put(1392, ChoiceControl::postChoice1Choice1392);
+    POST_CHOICE1.put(1394, ChoiceControl::postChoice1Choice1394);
+    POST_CHOICE1.put(1396, ChoiceControl::postChoice1Choice1396);
+    POST_CHOICE1.put(1399, ChoiceControl::postChoice1Choice1399);
+    POST_CHOICE1.put(1406, ChoiceControl::postChoice1Choice1406);
+    POST_CHOICE1.put(1407, ChoiceControl::postChoice1Choice1407);
+    POST_CHOICE1.put(1408, ChoiceControl::postChoice1Choice1408);
+    POST_CHOICE1.put(1410, ChoiceControl::postChoice1Choice1410);
+    POST_CHOICE1.put(1411, ChoiceControl::postChoice1Choice1411);
+    POST_CHOICE1.put(1412, ChoiceControl::postChoice1Choice1412);
+    POST_CHOICE1.put(1414, ChoiceControl::postChoice1Choice1414);
+    POST_CHOICE1.put(1418, ChoiceControl::postChoice1Choice1418);
+    POST_CHOICE1.put(1420, ChoiceControl::postChoice1Choice1420);
+    POST_CHOICE1.put(1435, ChoiceControl::postChoice1Choice1435);
+    POST_CHOICE1.put(1437, ChoiceControl::postChoice1Choice1437);
+    POST_CHOICE1.put(1438, ChoiceControl::postChoice1Choice1438);
+    POST_CHOICE1.put(1442, ChoiceControl::postChoice1Choice1442);
+    POST_CHOICE1.put(1443, ChoiceControl::postChoice1Choice1443);
+    POST_CHOICE1.put(1444, ChoiceControl::postChoice1Choice1444);
+    POST_CHOICE1.put(1445, ChoiceControl::postChoice1Choice1445);
+    POST_CHOICE1.put(1447, ChoiceControl::postChoice1Choice1445);
+    POST_CHOICE1.put(1448, ChoiceControl::postChoice1Choice1448);
+    POST_CHOICE1.put(1449, ChoiceControl::postChoice1Choice1449);
+    POST_CHOICE1.put(1451, ChoiceControl::postChoice1Choice1451);
+    POST_CHOICE1.put(1452, ChoiceControl::postChoice1Choice1452);
+    POST_CHOICE1.put(1453, ChoiceControl::postChoice1Choice1453);
+    POST_CHOICE1.put(1454, ChoiceControl::postChoice1Choice1454);
+    POST_CHOICE1.put(1455, ChoiceControl::postChoice1Choice1455);
+    POST_CHOICE1.put(1467, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1468, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1469, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1470, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1471, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1472, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1473, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1474, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1475, ChoiceControl::postChoice1Choice1467);
+    POST_CHOICE1.put(1481, ChoiceControl::postChoice1Choice1481);
+    POST_CHOICE1.put(1505, ChoiceControl::postChoice1Choice1505);
+    POST_CHOICE1.put(1510, ChoiceControl::postChoice1Choice1510);
+    POST_CHOICE1.put(1512, ChoiceControl::postChoice1Choice1512);
+    POST_CHOICE1.put(1513, ChoiceControl::postChoice1Choice1512);
+    POST_CHOICE1.put(1517, ChoiceControl::postChoice1Choice1517);
+    POST_CHOICE1.put(1518, ChoiceControl::postChoice1Choice1518);
+    POST_CHOICE1.put(1534, ChoiceControl::postChoice1Choice1534);
+    POST_CHOICE1.put(1535, ChoiceControl::postChoice1Choice1535);
+  }
 
-      case 140:
-        // The Thin Tie-Dyed Line
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("candyCaneSwordWarHippyLine", true);
-        }
-        break;
+  public static void postChoice1(final String urlString, final GenericRequest request) {
+    String text = request.responseText;
 
-      case 143:
-        // Catching Some Zetas
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("candyCaneSwordWarFratZetas", true);
-        }
-        break;
+    ChoiceHandler handler = POST_CHOICE1.get(ChoiceManager.lastChoice);
+    if (handler != null) {
+      handler.handle(urlString, request, text);
+    }
+  }
 
-      case 144:
-        // One Less Room Than In That Movie
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("candyCaneSwordWarFratRoom", true);
-        }
-        break;
+  private static void postChoice1Choice4(
+      final String urlString, final GenericRequest request, final String text) {
+    // Finger-Lickin'... Death.
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("_candyCaneSwordSouthOfTheBorder", true);
+    }
+  }
 
-      case 147:
-        // Cornered!
-        int ducks1 =
-            switch (ChoiceManager.lastDecision) {
-              case 1 -> AdventurePool.THE_GRANARY;
-              case 2 -> AdventurePool.THE_BOG;
-              case 3 -> AdventurePool.THE_POND;
-              default -> 0;
-            };
-        Preferences.setString("duckAreasSelected", String.valueOf(ducks1));
-        break;
+  private static void postChoice1Choice109(
+      final String urlString, final GenericRequest request, final String text) {
+    // Dumpster Diving
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("_candyCaneSwordBackAlley", true);
+    }
+  }
 
-      case 148:
-        // Cornered Again!
-        int ducks2 =
-            switch (ChoiceManager.lastDecision) {
-              case 1 -> AdventurePool.THE_BACK_40;
-              case 2 -> AdventurePool.THE_FAMILY_PLOT;
-              default -> 0;
-            };
-        Preferences.setString(
-            "duckAreasSelected", Preferences.getString("duckAreasSelected") + "," + ducks2);
-        break;
+  private static void postChoice1Choice127(
+      final String urlString, final GenericRequest request, final String text) {
+    // No sir, away! A papaya war is on!
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("_candyCaneSwordPalindome", true);
+    }
+  }
 
-      case 149:
-        // How Many Corners Does this Stupid Barn Have?
-        int ducks3 =
-            switch (ChoiceManager.lastDecision) {
-              case 1 -> AdventurePool.THE_SHADY_THICKET;
-              case 2 -> AdventurePool.THE_OTHER_BACK_40;
-              default -> 0;
-            };
-        Preferences.setString(
-            "duckAreasSelected", Preferences.getString("duckAreasSelected") + "," + ducks3);
-        break;
+  private static void postChoice1Choice139(
+      final String urlString, final GenericRequest request, final String text) {
+    // Bait and Switch
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("candyCaneSwordWarHippyBait", true);
+    }
+  }
 
-      case 151:
-        // Adventurer, $1.99
-        if (ChoiceManager.lastDecision == 3) {
-          Preferences.setBoolean("candyCaneSwordFunHouse", true);
-        }
-        break;
+  private static void postChoice1Choice140(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Thin Tie-Dyed Line
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("candyCaneSwordWarHippyLine", true);
+    }
+  }
 
-      case 188:
-        // The Infiltrationist
+  private static void postChoice1Choice143(
+      final String urlString, final GenericRequest request, final String text) {
+    // Catching Some Zetas
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("candyCaneSwordWarFratZetas", true);
+    }
+  }
 
-        // Once you're inside the frat house, it's a simple
-        // matter of making your way down to the basement and
-        // retrieving Caronch's dentures from the frat boys'
-        // ridiculous trophy case.
+  private static void postChoice1Choice144(
+      final String urlString, final GenericRequest request, final String text) {
+    // One Less Room Than In That Movie
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("candyCaneSwordWarFratRoom", true);
+    }
+  }
 
-        if (ChoiceManager.lastDecision == 3 && text.contains("ridiculous trophy case")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.HOT_WING, -3));
-        }
-        break;
+  private static void postChoice1Choice147(
+      final String urlString, final GenericRequest request, final String text) {
+    // Cornered!
+    int ducks1 =
+        switch (ChoiceManager.lastDecision) {
+          case 1 -> AdventurePool.THE_GRANARY;
+          case 2 -> AdventurePool.THE_BOG;
+          case 3 -> AdventurePool.THE_POND;
+          default -> 0;
+        };
+    Preferences.setString("duckAreasSelected", String.valueOf(ducks1));
+  }
 
-      case 189:
-        // O Cap'm, My Cap'm
-        if (ChoiceManager.lastDecision == 3) {
-          QuestDatabase.setQuestIfBetter(Quest.NEMESIS, "step26");
-        }
-        break;
+  private static void postChoice1Choice148(
+      final String urlString, final GenericRequest request, final String text) {
+    // Cornered Again!
+    int ducks2 =
+        switch (ChoiceManager.lastDecision) {
+          case 1 -> AdventurePool.THE_BACK_40;
+          case 2 -> AdventurePool.THE_FAMILY_PLOT;
+          default -> 0;
+        };
+    Preferences.setString(
+        "duckAreasSelected", Preferences.getString("duckAreasSelected") + "," + ducks2);
+  }
 
-      case 191:
-        // Chatterboxing
-        if (ChoiceManager.lastDecision == 2
-            && text.contains("find a valuable trinket that looks promising")) {
-          BanishManager.banishMonster("chatty pirate", BanishManager.Banisher.CHATTERBOXING, true);
-        }
-        break;
+  private static void postChoice1Choice149(
+      final String urlString, final GenericRequest request, final String text) {
+    // How Many Corners Does this Stupid Barn Have?
+    int ducks3 =
+        switch (ChoiceManager.lastDecision) {
+          case 1 -> AdventurePool.THE_SHADY_THICKET;
+          case 2 -> AdventurePool.THE_OTHER_BACK_40;
+          default -> 0;
+        };
+    Preferences.setString(
+        "duckAreasSelected", Preferences.getString("duckAreasSelected") + "," + ducks3);
+  }
 
-      case 237:
-        // Big Merv's Protein Shakes
-      case 238:
-        // Suddenly Salad!
-      case 239:
-        // Sizzling Weasel On a Stick
-        if (ChoiceManager.lastDecision == 1 && text.contains("You gain")) {
-          // You spend 20 hobo nickels
-          AdventureResult cost = ItemPool.get(ItemPool.HOBO_NICKEL, -20);
-          ResultProcessor.processResult(cost);
+  private static void postChoice1Choice151(
+      final String urlString, final GenericRequest request, final String text) {
+    // Adventurer, $1.99
+    if (ChoiceManager.lastDecision == 3) {
+      Preferences.setBoolean("candyCaneSwordFunHouse", true);
+    }
+  }
 
-          // You gain 5 fullness
-          KoLCharacter.setFullness(KoLCharacter.getFullness() + 5);
-        }
-        break;
+  private static void postChoice1Choice188(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Infiltrationist
 
-      case 242:
-        // Arthur Finn's World-Record Homebrew Stout
-      case 243:
-        // Mad Jack's Corn Squeezery
-      case 244:
-        // Bathtub Jimmy's Gin Mill
-        if (ChoiceManager.lastDecision == 1 && text.contains("You gain")) {
-          // You spend 20 hobo nickels
-          AdventureResult cost = ItemPool.get(ItemPool.HOBO_NICKEL, -20);
-          ResultProcessor.processResult(cost);
+    // Once you're inside the frat house, it's a simple
+    // matter of making your way down to the basement and
+    // retrieving Caronch's dentures from the frat boys'
+    // ridiculous trophy case.
 
-          // You gain 5 drunkenness.  This will be set
-          // when we refresh the charpane.
-        }
-        break;
+    if (ChoiceManager.lastDecision == 3 && text.contains("ridiculous trophy case")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.HOT_WING, -3));
+    }
+  }
 
-      case 271:
-        // Tattoo Shop
-      case 274:
-        // Tattoo Redux
-        if (ChoiceManager.lastDecision == 1) {
-          Matcher matcher = TATTOO_PATTERN.matcher(request.responseText);
-          if (matcher.find()) {
-            int tattoo = StringUtilities.parseInt(matcher.group(1));
-            AdventureResult cost = ItemPool.get(ItemPool.HOBO_NICKEL, -20 * tattoo);
-            ResultProcessor.processResult(cost);
-          }
-        }
-        break;
+  private static void postChoice1Choice189(
+      final String urlString, final GenericRequest request, final String text) {
+    // O Cap'm, My Cap'm
+    if (ChoiceManager.lastDecision == 3) {
+      QuestDatabase.setQuestIfBetter(Quest.NEMESIS, "step26");
+    }
+  }
 
-      case 298:
-        // In the Shade
+  private static void postChoice1Choice191(
+      final String urlString, final GenericRequest request, final String text) {
+    // Chatterboxing
+    if (ChoiceManager.lastDecision == 2
+        && text.contains("find a valuable trinket that looks promising")) {
+      BanishManager.banishMonster("chatty pirate", BanishManager.Banisher.CHATTERBOXING, true);
+    }
+  }
 
-        // You carefully plant the packet of seeds, sprinkle it
-        // with gooey green algae, wait a few days, and then
-        // you reap what you sow. Sowed. Sew?
+  private static void postChoice1Choice237(
+      final String urlString, final GenericRequest request, final String text) {
+    // Big Merv's Protein Shakes
+    // Suddenly Salad!
+    // Sizzling Weasel On a Stick
+    if (ChoiceManager.lastDecision == 1 && text.contains("You gain")) {
+      // You spend 20 hobo nickels
+      AdventureResult cost = ItemPool.get(ItemPool.HOBO_NICKEL, -20);
+      ResultProcessor.processResult(cost);
+
+      // You gain 5 fullness
+      KoLCharacter.setFullness(KoLCharacter.getFullness() + 5);
+    }
+  }
 
-        if (ChoiceManager.lastDecision == 1 && text.contains("you reap what you sow")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SEED_PACKET, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GREEN_SLIME, -1));
-        }
-        break;
+  private static void postChoice1Choice242(
+      final String urlString, final GenericRequest request, final String text) {
+    // Arthur Finn's World-Record Homebrew Stout
+    // Mad Jack's Corn Squeezery
+    // Bathtub Jimmy's Gin Mill
+    if (ChoiceManager.lastDecision == 1 && text.contains("You gain")) {
+      // You spend 20 hobo nickels
+      AdventureResult cost = ItemPool.get(ItemPool.HOBO_NICKEL, -20);
+      ResultProcessor.processResult(cost);
+
+      // You gain 5 drunkenness.  This will be set
+      // when we refresh the charpane.
+    }
+  }
 
-      case 346:
-        // Soup For You
-      case 347:
-        // Yes, Soup For You...
-      case 348:
-        // Souped Up
-      case 351:
-        // Beginner's Luck
-        QuestDatabase.setQuestIfBetter(Quest.PRIMORDIAL, QuestDatabase.STARTED);
-        break;
+  private static void postChoice1Choice271(
+      final String urlString, final GenericRequest request, final String text) {
+    // Tattoo Shop
+    // Tattoo Redux
+    if (ChoiceManager.lastDecision == 1) {
+      Matcher matcher = TATTOO_PATTERN.matcher(request.responseText);
+      if (matcher.find()) {
+        int tattoo = StringUtilities.parseInt(matcher.group(1));
+        AdventureResult cost = ItemPool.get(ItemPool.HOBO_NICKEL, -20 * tattoo);
+        ResultProcessor.processResult(cost);
+      }
+    }
+  }
 
-      case 349:
-        // The Primordial Directive
-        // You swam upward, into a brighter and warmer part of the soup
-        if (ChoiceManager.lastDecision == 1
-            && text.contains("a brighter and warmer part of the soup")) {
-          QuestDatabase.setQuestIfBetter(Quest.PRIMORDIAL, "step1");
-        }
-        break;
+  private static void postChoice1Choice298(
+      final String urlString, final GenericRequest request, final String text) {
+    // In the Shade
 
-      case 350:
-        // Soupercharged
-        if (ChoiceManager.lastDecision == 1 && text.contains("You've fixed me all up")) {
-          Preferences.setInteger("aminoAcidsUsed", 0);
-          QuestDatabase.setQuestProgress(Quest.PRIMORDIAL, QuestDatabase.FINISHED);
-        }
-        break;
+    // You carefully plant the packet of seeds, sprinkle it
+    // with gooey green algae, wait a few days, and then
+    // you reap what you sow. Sowed. Sew?
 
-      case 354:
-        // You Can Never Be Too Rich or Too in the Future
-        ResultProcessor.processResult(ItemPool.get(ItemPool.INDIGO_PARTY_INVITATION, -1));
-        break;
+    if (ChoiceManager.lastDecision == 1 && text.contains("you reap what you sow")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SEED_PACKET, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GREEN_SLIME, -1));
+    }
+  }
 
-      case 355:
-        // I'm on the Hunt, I'm After You
-        ResultProcessor.processResult(ItemPool.get(ItemPool.VIOLET_HUNT_INVITATION, -1));
-        break;
+  private static void postChoice1Choice346(
+      final String urlString, final GenericRequest request, final String text) {
+    // Soup For You
+    // Yes, Soup For You...
+    // Souped Up
+    // Beginner's Luck
+    QuestDatabase.setQuestIfBetter(Quest.PRIMORDIAL, QuestDatabase.STARTED);
+  }
 
-      case 357:
-        // Painful, Circuitous Logic
-        ResultProcessor.processResult(ItemPool.get(ItemPool.MECHA_MAYHEM_CLUB_CARD, -1));
-        break;
+  private static void postChoice1Choice349(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Primordial Directive
+    // You swam upward, into a brighter and warmer part of the soup
+    if (ChoiceManager.lastDecision == 1
+        && text.contains("a brighter and warmer part of the soup")) {
+      QuestDatabase.setQuestIfBetter(Quest.PRIMORDIAL, "step1");
+    }
+  }
 
-      case 358:
-        // Brings All the Boys to the Blue Yard
-        ResultProcessor.processResult(ItemPool.get(ItemPool.BLUE_MILK_CLUB_CARD, -1));
-        break;
+  private static void postChoice1Choice350(
+      final String urlString, final GenericRequest request, final String text) {
+    // Soupercharged
+    if (ChoiceManager.lastDecision == 1 && text.contains("You've fixed me all up")) {
+      Preferences.setInteger("aminoAcidsUsed", 0);
+      QuestDatabase.setQuestProgress(Quest.PRIMORDIAL, QuestDatabase.FINISHED);
+    }
+  }
 
-      case 362:
-        // A Bridge Too Far
-        ResultProcessor.processResult(ItemPool.get(ItemPool.SPACEFLEET_COMMUNICATOR_BADGE, -1));
-        break;
+  private static void postChoice1Choice354(
+      final String urlString, final GenericRequest request, final String text) {
+    // You Can Never Be Too Rich or Too in the Future
+    ResultProcessor.processResult(ItemPool.get(ItemPool.INDIGO_PARTY_INVITATION, -1));
+  }
 
-      case 363:
-        // Does This Bug You? Does This Bug You?
-        ResultProcessor.processResult(ItemPool.get(ItemPool.SMUGGLER_SHOT_FIRST_BUTTON, -1));
-        break;
+  private static void postChoice1Choice355(
+      final String urlString, final GenericRequest request, final String text) {
+    // I'm on the Hunt, I'm After You
+    ResultProcessor.processResult(ItemPool.get(ItemPool.VIOLET_HUNT_INVITATION, -1));
+  }
 
-      case 373:
-        // Choice 373 is Northern Gate
+  private static void postChoice1Choice357(
+      final String urlString, final GenericRequest request, final String text) {
+    // Painful, Circuitous Logic
+    ResultProcessor.processResult(ItemPool.get(ItemPool.MECHA_MAYHEM_CLUB_CARD, -1));
+  }
 
-        // Krakrox plugged the small stone block he found in
-        // the basement of the abandoned building into the hole
-        // on the left side of the gate
+  private static void postChoice1Choice358(
+      final String urlString, final GenericRequest request, final String text) {
+    // Brings All the Boys to the Blue Yard
+    ResultProcessor.processResult(ItemPool.get(ItemPool.BLUE_MILK_CLUB_CARD, -1));
+  }
 
-        if (text.contains("Krakrox plugged the small stone block")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SMALL_STONE_BLOCK, -1));
-        }
+  private static void postChoice1Choice362(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Bridge Too Far
+    ResultProcessor.processResult(ItemPool.get(ItemPool.SPACEFLEET_COMMUNICATOR_BADGE, -1));
+  }
 
-        // Krakrox plugged the little stone block he had found
-        // in the belly of the giant snake into the hole on the
-        // right side of the gate
+  private static void postChoice1Choice363(
+      final String urlString, final GenericRequest request, final String text) {
+    // Does This Bug You? Does This Bug You?
+    ResultProcessor.processResult(ItemPool.get(ItemPool.SMUGGLER_SHOT_FIRST_BUTTON, -1));
+  }
 
-        else if (text.contains("Krakrox plugged the little stone block")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.LITTLE_STONE_BLOCK, -1));
-        }
-        break;
+  private static void postChoice1Choice373(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 373 is Northern Gate
 
-      case 376:
-        // Choice 376 is Ancient Temple
+    // Krakrox plugged the small stone block he found in
+    // the basement of the abandoned building into the hole
+    // on the left side of the gate
 
-        // You fit the two halves of the stone circle together,
-        // and slot them into the depression on the door. After
-        // a moment's pause, a low rumbling becomes audible,
-        // and then the stone slab lowers into the ground. The
-        // temple is now open to you, if you are ready to face
-        // whatever lies inside.
+    if (text.contains("Krakrox plugged the small stone block")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SMALL_STONE_BLOCK, -1));
+    }
 
-        if (text.contains("two halves of the stone circle")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.HALF_STONE_CIRCLE, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.STONE_HALF_CIRCLE, -1));
-        }
-        break;
+    // Krakrox plugged the little stone block he had found
+    // in the belly of the giant snake into the hole on the
+    // right side of the gate
 
-      case 389:
-        // Choice 389 is The Unbearable Supremeness of Being
+    else if (text.contains("Krakrox plugged the little stone block")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.LITTLE_STONE_BLOCK, -1));
+    }
+  }
 
-        // "Of course I understand," Jill says, in fluent
-        // English. "I learned your language in the past five
-        // minutes. I know where the element is, but we'll have
-        // to go offworld to get it. Meet me at the Desert
-        // Beach Spaceport." And with that, she gives you a
-        // kiss and scampers off. Homina-homina.
+  private static void postChoice1Choice376(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 376 is Ancient Temple
 
-        if (text.contains("Homina-homina")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SUPREME_BEING_GLOSSARY, -1));
-          QuestDatabase.setQuestProgress(Quest.FUTURE, "step1");
-        }
-        break;
+    // You fit the two halves of the stone circle together,
+    // and slot them into the depression on the door. After
+    // a moment's pause, a low rumbling becomes audible,
+    // and then the stone slab lowers into the ground. The
+    // temple is now open to you, if you are ready to face
+    // whatever lies inside.
 
-      case 390:
-        // Choice 390 is A Winning Pass
+    if (text.contains("two halves of the stone circle")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.HALF_STONE_CIRCLE, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.STONE_HALF_CIRCLE, -1));
+    }
+  }
 
-        // "Um, okay," you say, and stomp off to kill some more time.
+  private static void postChoice1Choice389(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 389 is The Unbearable Supremeness of Being
 
-        if (text.contains("to kill some more time")) {
-          QuestDatabase.setQuestProgress(Quest.FUTURE, "step2");
-        }
-        break;
+    // "Of course I understand," Jill says, in fluent
+    // English. "I learned your language in the past five
+    // minutes. I know where the element is, but we'll have
+    // to go offworld to get it. Meet me at the Desert
+    // Beach Spaceport." And with that, she gives you a
+    // kiss and scampers off. Homina-homina.
 
-      case 391:
-        // Choice 391 is OMG KAWAIII
+    if (text.contains("Homina-homina")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SUPREME_BEING_GLOSSARY, -1));
+      QuestDatabase.setQuestProgress(Quest.FUTURE, "step1");
+    }
+  }
 
-        // "Damn it!" you say, and chase after her.
+  private static void postChoice1Choice390(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 390 is A Winning Pass
 
-        if (text.contains("and chase after her")) {
-          QuestDatabase.setQuestProgress(Quest.FUTURE, "step3");
-        }
-        break;
+    // "Um, okay," you say, and stomp off to kill some more time.
 
-      case 392:
-        // Choice 392 is The Elements of Surprise . . .
-
-        // And as the two of you walk toward the bed, you sense
-        // your ancestral memories pulling you elsewhere, ever
-        // elsewhere, because your ancestral memories are
-        // total, absolute jerks.
-
-        if (text.contains("total, absolute jerks")) {
-          EquipmentManager.discardEquipment(ItemPool.RUBY_ROD);
-          ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_HEAT, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_KINK, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_COLD, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_STENCH, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_FRIGHT, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_CUTE, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SECRET_FROM_THE_FUTURE, 1));
-          QuestDatabase.setQuestProgress(Quest.FUTURE, QuestDatabase.FINISHED);
-        }
-        break;
+    if (text.contains("to kill some more time")) {
+      QuestDatabase.setQuestProgress(Quest.FUTURE, "step2");
+    }
+  }
 
-      case 393:
-        // The Collector
-        if (ChoiceManager.lastDecision == 1) {
-          for (int i = ItemPool.GREEN_PEAWEE_MARBLE; i <= ItemPool.BIG_BUMBOOZER_MARBLE; ++i) {
-            ResultProcessor.processResult(ItemPool.get(i, -1));
-          }
-        }
-        break;
+  private static void postChoice1Choice391(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 391 is OMG KAWAIII
 
-      case 394:
-        {
-          // Hellevator Music
-          // Parse response
-          Matcher matcher = HELLEVATOR_PATTERN.matcher(text);
-          if (!matcher.find()) {
-            break;
-          }
-          String floor = matcher.group(1);
-          for (int mcd = 0; mcd < FLOORS.length; ++mcd) {
-            if (floor.equals(FLOORS[mcd])) {
-              String message = "Setting monster level to " + mcd;
-              RequestLogger.printLine(message);
-              RequestLogger.updateSessionLog(message);
-              break;
-            }
-          }
-          break;
-        }
+    // "Damn it!" you say, and chase after her.
 
-      case 413:
-      case 414:
-      case 415:
-      case 416:
-      case 417:
-      case 418:
-        HaciendaManager.parseRoom(ChoiceManager.lastChoice, ChoiceManager.lastDecision, text);
-        break;
+    if (text.contains("and chase after her")) {
+      QuestDatabase.setQuestProgress(Quest.FUTURE, "step3");
+    }
+  }
 
-      case 440:
-        // Puttin' on the Wax
-        if (ChoiceManager.lastDecision == 1) {
-          HaciendaManager.parseRecording(urlString, text);
-        }
-        break;
+  private static void postChoice1Choice392(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 392 is The Elements of Surprise . . .
+
+    // And as the two of you walk toward the bed, you sense
+    // your ancestral memories pulling you elsewhere, ever
+    // elsewhere, because your ancestral memories are
+    // total, absolute jerks.
+
+    if (text.contains("total, absolute jerks")) {
+      EquipmentManager.discardEquipment(ItemPool.RUBY_ROD);
+      ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_HEAT, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_KINK, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_COLD, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_STENCH, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_FRIGHT, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.ESSENCE_OF_CUTE, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SECRET_FROM_THE_FUTURE, 1));
+      QuestDatabase.setQuestProgress(Quest.FUTURE, QuestDatabase.FINISHED);
+    }
+  }
 
-      case 443:
-        // Chess Puzzle
-        if (ChoiceManager.lastDecision == 1) {
-          // Option 1 is "Play"
-          RabbitHoleManager.parseChessMove(urlString, text);
-        }
-        break;
+  private static void postChoice1Choice393(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Collector
+    if (ChoiceManager.lastDecision == 1) {
+      for (int i = ItemPool.GREEN_PEAWEE_MARBLE; i <= ItemPool.BIG_BUMBOOZER_MARBLE; ++i) {
+        ResultProcessor.processResult(ItemPool.get(i, -1));
+      }
+    }
+  }
 
-      case 450:
-        // The Duchess' Cottage
-        if (ChoiceManager.lastDecision == 1
-            && text.contains("Delectable and pulchritudinous!")) { // Option 1 is Feed the Duchess
-          ResultProcessor.processItem(ItemPool.BEAUTIFUL_SOUP, -1);
-          ResultProcessor.processItem(ItemPool.LOBSTER_QUA_GRILL, -1);
-          ResultProcessor.processItem(ItemPool.MISSING_WINE, -1);
-          ResultProcessor.processItem(ItemPool.WALRUS_ICE_CREAM, -1);
-          ResultProcessor.processItem(ItemPool.HUMPTY_DUMPLINGS, -1);
-        }
+  private static void postChoice1Choice394(
+      final String urlString, final GenericRequest request, final String text) {
+    // Hellevator Music
+    // Parse response
+    Matcher matcher = HELLEVATOR_PATTERN.matcher(text);
+    if (!matcher.find()) {
+      return;
+    }
+    String floor = matcher.group(1);
+    for (int mcd = 0; mcd < FLOORS.length; ++mcd) {
+      if (floor.equals(FLOORS[mcd])) {
+        String message = "Setting monster level to " + mcd;
+        RequestLogger.printLine(message);
+        RequestLogger.updateSessionLog(message);
         break;
+      }
+    }
+  }
 
-      case 457:
-        // Oh, No! Five-Oh!
-        int count = InventoryManager.getCount(ItemPool.ORQUETTES_PHONE_NUMBER);
-        if (ChoiceManager.lastDecision == 1 && count > 0) {
-          ResultProcessor.processItem(ItemPool.ORQUETTES_PHONE_NUMBER, -count);
-          ResultProcessor.processItem(ItemPool.KEGGER_MAP, -1);
-        }
-        break;
+  private static void postChoice1Choice413(
+      final String urlString, final GenericRequest request, final String text) {
+    HaciendaManager.parseRoom(ChoiceManager.lastChoice, ChoiceManager.lastDecision, text);
+  }
 
-      case 460:
-      case 461:
-      case 462:
-      case 463:
-      case 464:
-      case 465:
-      case 467:
-      case 468:
-      case 469:
-      case 470:
-      case 472:
-      case 473:
-      case 474:
-      case 475:
-      case 476:
-      case 477:
-      case 478:
-      case 479:
-      case 480:
-      case 481:
-      case 482:
-      case 483:
-      case 484:
-        // Space Trip
-        ArcadeRequest.postChoiceSpaceTrip(
-            request, ChoiceManager.lastChoice, ChoiceManager.lastDecision);
-        break;
+  private static void postChoice1Choice440(
+      final String urlString, final GenericRequest request, final String text) {
+    // Puttin' on the Wax
+    if (ChoiceManager.lastDecision == 1) {
+      HaciendaManager.parseRecording(urlString, text);
+    }
+  }
 
-      case 471:
-        // DemonStar
-        ArcadeRequest.postChoiceDemonStar(request, ChoiceManager.lastDecision);
-        break;
+  private static void postChoice1Choice443(
+      final String urlString, final GenericRequest request, final String text) {
+    // Chess Puzzle
+    if (ChoiceManager.lastDecision == 1) {
+      // Option 1 is "Play"
+      RabbitHoleManager.parseChessMove(urlString, text);
+    }
+  }
 
-      case 485:
-        // Fighters Of Fighting
-        ArcadeRequest.postChoiceFightersOfFighting(request, ChoiceManager.lastDecision);
-        break;
+  private static void postChoice1Choice450(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Duchess' Cottage
+    if (ChoiceManager.lastDecision == 1
+        && text.contains("Delectable and pulchritudinous!")) { // Option 1 is Feed the Duchess
+      ResultProcessor.processItem(ItemPool.BEAUTIFUL_SOUP, -1);
+      ResultProcessor.processItem(ItemPool.LOBSTER_QUA_GRILL, -1);
+      ResultProcessor.processItem(ItemPool.MISSING_WINE, -1);
+      ResultProcessor.processItem(ItemPool.WALRUS_ICE_CREAM, -1);
+      ResultProcessor.processItem(ItemPool.HUMPTY_DUMPLINGS, -1);
+    }
+  }
 
-      case 486:
-        // Dungeon Fist!
-        ArcadeRequest.postChoiceDungeonFist(request, ChoiceManager.lastDecision);
-        break;
+  private static void postChoice1Choice457(
+      final String urlString, final GenericRequest request, final String text) {
+    // Oh, No! Five-Oh!
+    int count = InventoryManager.getCount(ItemPool.ORQUETTES_PHONE_NUMBER);
+    if (ChoiceManager.lastDecision == 1 && count > 0) {
+      ResultProcessor.processItem(ItemPool.ORQUETTES_PHONE_NUMBER, -count);
+      ResultProcessor.processItem(ItemPool.KEGGER_MAP, -1);
+    }
+  }
 
-      case 488:
-      case 489:
-      case 490:
-      case 491:
-        // Meteoid
-        ArcadeRequest.postChoiceMeteoid(
-            request, ChoiceManager.lastChoice, ChoiceManager.lastDecision);
-        break;
+  private static void postChoice1Choice460(
+      final String urlString, final GenericRequest request, final String text) {
+    // Space Trip
+    ArcadeRequest.postChoiceSpaceTrip(
+        request, ChoiceManager.lastChoice, ChoiceManager.lastDecision);
+  }
 
-      case 502:
-        // Arboreal Respite
-        if (ChoiceManager.lastDecision == 5) {
-          Preferences.setBoolean("_candyCaneSwordSpookyForest", true);
-        }
-        break;
+  private static void postChoice1Choice471(
+      final String urlString, final GenericRequest request, final String text) {
+    // DemonStar
+    ArcadeRequest.postChoiceDemonStar(request, ChoiceManager.lastDecision);
+  }
 
-      case 523:
-        // Death Rattlin'
-        if (ChoiceManager.lastDecision == 5) {
-          Preferences.setBoolean("candyCaneSwordDefiledCranny", true);
-          // You jam your candy cane sword into the hole and flick it around.  You hear moans and
-          // groans and grunts.  Seems like you easily defeated some tiny horrors.
-          //
-          // Your Evilometer beeps 11 times.
-          if (text.contains("Your Evilometer beeps 11 times.")) {
-            CryptManager.decreaseEvilness(AdventurePool.DEFILED_CRANNY, 11);
-          }
-        }
-        break;
+  private static void postChoice1Choice485(
+      final String urlString, final GenericRequest request, final String text) {
+    // Fighters Of Fighting
+    ArcadeRequest.postChoiceFightersOfFighting(request, ChoiceManager.lastDecision);
+  }
 
-      case 529:
-      case 531:
-      case 532:
-      case 533:
-      case 534:
-        Matcher skeletonMatcher = SKELETON_PATTERN.matcher(text);
-        if (skeletonMatcher.find()) {
-          String message = "You defeated " + skeletonMatcher.group(1) + " skeletons";
-          RequestLogger.printLine(message);
-          RequestLogger.updateSessionLog(message);
-        }
-        break;
+  private static void postChoice1Choice486(
+      final String urlString, final GenericRequest request, final String text) {
+    // Dungeon Fist!
+    ArcadeRequest.postChoiceDungeonFist(request, ChoiceManager.lastDecision);
+  }
 
-      case 539:
-        // Choice 539 is An E.M.U. for Y.O.U.
-        EquipmentManager.discardEquipment(ItemPool.SPOOKY_LITTLE_GIRL);
-        break;
+  private static void postChoice1Choice488(
+      final String urlString, final GenericRequest request, final String text) {
+    // Meteoid
+    ArcadeRequest.postChoiceMeteoid(request, ChoiceManager.lastChoice, ChoiceManager.lastDecision);
+  }
 
-      case 540:
-        // Choice 540 is Big-Time Generator - game board
-        //
-        // Win:
-        //
-        // The generator starts to hum and the well above you
-        // begins to spin, slowly at first, then faster and
-        // faster. The humming becomes a deep, sternum-rattling
-        // thrum, a sub-audio *WHOOMP WHOOMP WHOOMPWHOOMPWHOOMP.*
-        // Brilliant blue light begins to fill the well, and
-        // you feel like your bones are turning to either
-        // powder, jelly, or jelly with powder in it.<p>Then
-        // you fall through one of those glowy-circle
-        // transporter things and end up back on Grimace, and
-        // boy, are they glad to see you! You're not sure where
-        // one gets ticker-tape after an alien invasion, but
-        // they seem to have found some.
-        //
-        // Lose 3 times:
-        //
-        // Your E.M.U.'s getting pretty beaten up from all the
-        // pinballing between obstacles, and you don't like
-        // your chances of getting back to the surface if you
-        // try again. You manage to blast out of the generator
-        // well and land safely on the surface. After that,
-        // though, the E.M.U. gives an all-over shudder, a sad
-        // little servo whine, and falls apart.
-
-        if (text.contains("WHOOMP") || text.contains("a sad little servo whine")) {
-          EquipmentManager.discardEquipment(ItemPool.EMU_UNIT);
-          QuestDatabase.setQuestIfBetter(Quest.GENERATOR, QuestDatabase.FINISHED);
-        }
-        break;
+  private static void postChoice1Choice502(
+      final String urlString, final GenericRequest request, final String text) {
+    // Arboreal Respite
+    if (ChoiceManager.lastDecision == 5) {
+      Preferences.setBoolean("_candyCaneSwordSpookyForest", true);
+    }
+  }
 
-      case 542:
-        // The Now's Your Pants!  I Mean... Your Chance!
+  private static void postChoice1Choice523(
+      final String urlString, final GenericRequest request, final String text) {
+    // Death Rattlin'
+    if (ChoiceManager.lastDecision == 5) {
+      Preferences.setBoolean("candyCaneSwordDefiledCranny", true);
+      // You jam your candy cane sword into the hole and flick it around.  You hear moans and
+      // groans and grunts.  Seems like you easily defeated some tiny horrors.
+      //
+      // Your Evilometer beeps 11 times.
+      if (text.contains("Your Evilometer beeps 11 times.")) {
+        CryptManager.decreaseEvilness(AdventurePool.DEFILED_CRANNY, 11);
+      }
+    }
+  }
 
-        // Then you make your way back out of the Alley,
-        // clutching your pants triumphantly and trying really
-        // hard not to think about how oddly chilly it has
-        // suddenly become.
+  private static void postChoice1Choice529(
+      final String urlString, final GenericRequest request, final String text) {
+    Matcher skeletonMatcher = SKELETON_PATTERN.matcher(text);
+    if (skeletonMatcher.find()) {
+      String message = "You defeated " + skeletonMatcher.group(1) + " skeletons";
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    }
+  }
 
-        // When you steal your pants, they are unequipped, you
-        // gain a "you acquire" message", and they appear in
-        // inventory.
-        //
-        // Treat this is simply discarding the pants you are
-        // wearing
-        if (text.contains("oddly chilly")) {
-          EquipmentManager.discardEquipment(EquipmentManager.getEquipment(Slot.PANTS));
-          QuestDatabase.setQuestProgress(Quest.MOXIE, "step1");
-        }
-        break;
+  private static void postChoice1Choice539(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 539 is An E.M.U. for Y.O.U.
+    EquipmentManager.discardEquipment(ItemPool.SPOOKY_LITTLE_GIRL);
+  }
 
-      case 546:
-        // Interview With You
-        VampOutManager.postChoiceVampOut(text);
-        break;
+  private static void postChoice1Choice540(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 540 is Big-Time Generator - game board
+    //
+    // Win:
+    //
+    // The generator starts to hum and the well above you
+    // begins to spin, slowly at first, then faster and
+    // faster. The humming becomes a deep, sternum-rattling
+    // thrum, a sub-audio *WHOOMP WHOOMP WHOOMPWHOOMPWHOOMP.*
+    // Brilliant blue light begins to fill the well, and
+    // you feel like your bones are turning to either
+    // powder, jelly, or jelly with powder in it.<p>Then
+    // you fall through one of those glowy-circle
+    // transporter things and end up back on Grimace, and
+    // boy, are they glad to see you! You're not sure where
+    // one gets ticker-tape after an alien invasion, but
+    // they seem to have found some.
+    //
+    // Lose 3 times:
+    //
+    // Your E.M.U.'s getting pretty beaten up from all the
+    // pinballing between obstacles, and you don't like
+    // your chances of getting back to the surface if you
+    // try again. You manage to blast out of the generator
+    // well and land safely on the surface. After that,
+    // though, the E.M.U. gives an all-over shudder, a sad
+    // little servo whine, and falls apart.
+
+    if (text.contains("WHOOMP") || text.contains("a sad little servo whine")) {
+      EquipmentManager.discardEquipment(ItemPool.EMU_UNIT);
+      QuestDatabase.setQuestIfBetter(Quest.GENERATOR, QuestDatabase.FINISHED);
+    }
+  }
 
-      case 559:
-        // Fudge Mountain Breakdown
-        if (ChoiceManager.lastDecision == 2) {
-          if (text.contains("but nothing comes out")) {
-            Preferences.setInteger("_fudgeWaspFights", 3);
-          } else if (text.contains("trouble has taken a holiday")) {
-            // The Advent Calendar hasn't been punched out enough to find fudgewasps yet
-          } else {
-            Preferences.increment("_fudgeWaspFights", 1);
-          }
-        }
-        break;
+  private static void postChoice1Choice542(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Now's Your Pants!  I Mean... Your Chance!
 
-      case 571:
-        // Choice 571 is Your Minstrel Vamps
-        QuestDatabase.setQuestProgress(Quest.CLANCY, QuestDatabase.STARTED);
-        break;
+    // Then you make your way back out of the Alley,
+    // clutching your pants triumphantly and trying really
+    // hard not to think about how oddly chilly it has
+    // suddenly become.
 
-      case 572:
-        // Choice 572 is Your Minstrel Clamps
-        QuestDatabase.setQuestProgress(Quest.CLANCY, "step2");
-        break;
+    // When you steal your pants, they are unequipped, you
+    // gain a "you acquire" message", and they appear in
+    // inventory.
+    //
+    // Treat this is simply discarding the pants you are
+    // wearing
+    if (text.contains("oddly chilly")) {
+      EquipmentManager.discardEquipment(EquipmentManager.getEquipment(Slot.PANTS));
+      QuestDatabase.setQuestProgress(Quest.MOXIE, "step1");
+    }
+  }
 
-      case 573:
-        // Choice 573 is Your Minstrel Stamps
-        QuestDatabase.setQuestProgress(Quest.CLANCY, "step4");
-        break;
+  private static void postChoice1Choice546(
+      final String urlString, final GenericRequest request, final String text) {
+    // Interview With You
+    VampOutManager.postChoiceVampOut(text);
+  }
 
-      case 576:
-        // Choice 576 is Your Minstrel Camps
-        QuestDatabase.setQuestProgress(Quest.CLANCY, "step6");
-        break;
+  private static void postChoice1Choice559(
+      final String urlString, final GenericRequest request, final String text) {
+    // Fudge Mountain Breakdown
+    if (ChoiceManager.lastDecision == 2) {
+      if (text.contains("but nothing comes out")) {
+        Preferences.setInteger("_fudgeWaspFights", 3);
+      } else if (text.contains("trouble has taken a holiday")) {
+        // The Advent Calendar hasn't been punched out enough to find fudgewasps yet
+      } else {
+        Preferences.increment("_fudgeWaspFights", 1);
+      }
+    }
+  }
 
-      case 577:
-        // Choice 577 is Your Minstrel Scamp
-        QuestDatabase.setQuestProgress(Quest.CLANCY, "step8");
-        break;
+  private static void postChoice1Choice571(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 571 is Your Minstrel Vamps
+    QuestDatabase.setQuestProgress(Quest.CLANCY, QuestDatabase.STARTED);
+  }
 
-      case 588:
-        // Machines!
-        if (text.contains("The batbugbears around you start acting weird")) {
-          BugbearManager.clearShipZone("Sonar");
-        }
-        break;
+  private static void postChoice1Choice572(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 572 is Your Minstrel Clamps
+    QuestDatabase.setQuestProgress(Quest.CLANCY, "step2");
+  }
 
-      case 589:
-        // Autopsy Auturvy
-        // The tweezers you used dissolve in the caustic fluid. Rats.
-        if (text.contains("dissolve in the caustic fluid")) {
-          ResultProcessor.processItem(ItemPool.AUTOPSY_TWEEZERS, -1);
-          Preferences.increment("autopsyTweezersUsed");
-        }
-        return;
+  private static void postChoice1Choice573(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 573 is Your Minstrel Stamps
+    QuestDatabase.setQuestProgress(Quest.CLANCY, "step4");
+  }
 
-      case 594:
-        // A Lost Room
-        if (text.contains("You acquire")) {
-          ResultProcessor.processItem(ItemPool.LOST_KEY, -1);
-        }
-        break;
+  private static void postChoice1Choice576(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 576 is Your Minstrel Camps
+    QuestDatabase.setQuestProgress(Quest.CLANCY, "step6");
+  }
 
-      case 595:
-        // Fire! I... have made... fire!
-        if (text.contains("rubbing the two stupid sticks together")
-            || text.contains("pile the sticks up on top of the briefcase")) {
-          ResultProcessor.processItem(ItemPool.CSA_FIRE_STARTING_KIT, -1);
-        }
-        return;
+  private static void postChoice1Choice577(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 577 is Your Minstrel Scamp
+    QuestDatabase.setQuestProgress(Quest.CLANCY, "step8");
+  }
 
-      case 599:
-        // A Zombie Master's Bait
-        if (request.getFormField("quantity") == null) {
-          return;
-        }
+  private static void postChoice1Choice588(
+      final String urlString, final GenericRequest request, final String text) {
+    // Machines!
+    if (text.contains("The batbugbears around you start acting weird")) {
+      BugbearManager.clearShipZone("Sonar");
+    }
+  }
 
-        AdventureResult brain;
-        if (ChoiceManager.lastDecision == 1) {
-          brain = ItemPool.get(ItemPool.CRAPPY_BRAIN, 1);
-        } else if (ChoiceManager.lastDecision == 2) {
-          brain = ItemPool.get(ItemPool.DECENT_BRAIN, 1);
-        } else if (ChoiceManager.lastDecision == 3) {
-          brain = ItemPool.get(ItemPool.GOOD_BRAIN, 1);
-        } else if (ChoiceManager.lastDecision == 4) {
-          brain = ItemPool.get(ItemPool.BOSS_BRAIN, 1);
-        } else {
-          return;
-        }
+  private static void postChoice1Choice589(
+      final String urlString, final GenericRequest request, final String text) {
+    // Autopsy Auturvy
+    // The tweezers you used dissolve in the caustic fluid. Rats.
+    if (text.contains("dissolve in the caustic fluid")) {
+      ResultProcessor.processItem(ItemPool.AUTOPSY_TWEEZERS, -1);
+      Preferences.increment("autopsyTweezersUsed");
+    }
+    return;
+  }
 
-        int quantity = StringUtilities.parseInt(request.getFormField("quantity"));
-        int inventoryCount = brain.getCount(KoLConstants.inventory);
-        brain = brain.getInstance(-1 * Math.min(quantity, inventoryCount));
+  private static void postChoice1Choice594(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Lost Room
+    if (text.contains("You acquire")) {
+      ResultProcessor.processItem(ItemPool.LOST_KEY, -1);
+    }
+  }
 
-        ResultProcessor.processResult(brain);
+  private static void postChoice1Choice595(
+      final String urlString, final GenericRequest request, final String text) {
+    // Fire! I... have made... fire!
+    if (text.contains("rubbing the two stupid sticks together")
+        || text.contains("pile the sticks up on top of the briefcase")) {
+      ResultProcessor.processItem(ItemPool.CSA_FIRE_STARTING_KIT, -1);
+    }
+    return;
+  }
 
-        return;
+  private static void postChoice1Choice599(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Zombie Master's Bait
+    if (request.getFormField("quantity") == null) {
+      return;
+    }
 
-      case 603:
-        // Skeletons and The Closet
-        if (ChoiceManager.lastDecision != 6) {
-          ResultProcessor.removeItem(ItemPool.SKELETON);
-        }
-        return;
+    AdventureResult brain;
+    if (ChoiceManager.lastDecision == 1) {
+      brain = ItemPool.get(ItemPool.CRAPPY_BRAIN, 1);
+    } else if (ChoiceManager.lastDecision == 2) {
+      brain = ItemPool.get(ItemPool.DECENT_BRAIN, 1);
+    } else if (ChoiceManager.lastDecision == 3) {
+      brain = ItemPool.get(ItemPool.GOOD_BRAIN, 1);
+    } else if (ChoiceManager.lastDecision == 4) {
+      brain = ItemPool.get(ItemPool.BOSS_BRAIN, 1);
+    } else {
+      return;
+    }
 
-      case 607:
-        // Room 237
-        // Twin Peak first choice
-        if (text.contains("You take a moment to steel your nerves.")) {
-          int prefval = Preferences.getInteger("twinPeakProgress");
-          prefval |= 1;
-          Preferences.setInteger("twinPeakProgress", prefval);
-        }
-        return;
+    int quantity = StringUtilities.parseInt(request.getFormField("quantity"));
+    int inventoryCount = brain.getCount(KoLConstants.inventory);
+    brain = brain.getInstance(-1 * Math.min(quantity, inventoryCount));
 
-      case 608:
-        // Go Check It Out!
-        // Twin Peak second choice
-        if (text.contains("All work and no play")) {
-          int prefval = Preferences.getInteger("twinPeakProgress");
-          prefval |= 2;
-          Preferences.setInteger("twinPeakProgress", prefval);
-        }
-        return;
+    ResultProcessor.processResult(brain);
 
-      case 611:
-        // The Horror...
-        // We need to detect if the choiceadv step was completed OR we got beaten up.
-        // If we Flee, nothing changes
-        if (ChoiceManager.lastDecision == 1) {
-          if (text.contains("That's all the horror you can take")) { // AKA beaten up
-            Preferences.decrement("booPeakProgress", 2, 0);
-          } else {
-            Preferences.decrement("booPeakProgress", 2 * abooPeakLevel, 0);
-          }
-          if (Preferences.getInteger("booPeakProgress") < 0) {
-            Preferences.setInteger("booPeakProgress", 0);
-          }
-        }
-        return;
+    return;
+  }
 
-      case 614:
-        // Near the fog there is an... anvil?
-        if (!text.contains("You acquire")) {
-          return;
-        }
-        int souls =
-            ChoiceManager.lastDecision == 1
-                ? 3
-                : ChoiceManager.lastDecision == 2
-                    ? 11
-                    : ChoiceManager.lastDecision == 3
-                        ? 23
-                        : ChoiceManager.lastDecision == 4 ? 37 : 0;
-        if (souls > 0) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.MIME_SOUL_FRAGMENT, 0 - souls));
-        }
-        return;
+  private static void postChoice1Choice603(
+      final String urlString, final GenericRequest request, final String text) {
+    // Skeletons and The Closet
+    if (ChoiceManager.lastDecision != 6) {
+      ResultProcessor.removeItem(ItemPool.SKELETON);
+    }
+    return;
+  }
 
-      case 616:
-        // He Is the Arm, and He Sounds Like This
-        // Twin Peak third choice
-        if (text.contains("You attempt to mingle")) {
-          int prefval = Preferences.getInteger("twinPeakProgress");
-          prefval |= 4;
-          Preferences.setInteger("twinPeakProgress", prefval);
-          ResultProcessor.processResult(ItemPool.get(ItemPool.JAR_OF_OIL, -1));
-        }
-        return;
+  private static void postChoice1Choice607(
+      final String urlString, final GenericRequest request, final String text) {
+    // Room 237
+    // Twin Peak first choice
+    if (text.contains("You take a moment to steel your nerves.")) {
+      int prefval = Preferences.getInteger("twinPeakProgress");
+      prefval |= 1;
+      Preferences.setInteger("twinPeakProgress", prefval);
+    }
+    return;
+  }
 
-      case 617:
-        // Now It's Dark
-        // Twin Peak fourth choice
-        if (text.contains("When the lights come back")) {
-          // the other three must be completed at this point.
-          Preferences.setInteger("twinPeakProgress", 15);
-        }
-        return;
+  private static void postChoice1Choice608(
+      final String urlString, final GenericRequest request, final String text) {
+    // Go Check It Out!
+    // Twin Peak second choice
+    if (text.contains("All work and no play")) {
+      int prefval = Preferences.getInteger("twinPeakProgress");
+      prefval |= 2;
+      Preferences.setInteger("twinPeakProgress", prefval);
+    }
+    return;
+  }
 
-      case 618:
-        // Cabin Fever
-        if (text.contains("mercifully, the hotel explodes")) {
-          // the other three must be completed at this point.
-          Preferences.setInteger("twinPeakProgress", 15);
-        }
-        return;
+  private static void postChoice1Choice611(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Horror...
+    // We need to detect if the choiceadv step was completed OR we got beaten up.
+    // If we Flee, nothing changes
+    if (ChoiceManager.lastDecision == 1) {
+      if (text.contains("That's all the horror you can take")) { // AKA beaten up
+        Preferences.decrement("booPeakProgress", 2, 0);
+      } else {
+        Preferences.decrement("booPeakProgress", 2 * abooPeakLevel, 0);
+      }
+      if (Preferences.getInteger("booPeakProgress") < 0) {
+        Preferences.setInteger("booPeakProgress", 0);
+      }
+    }
+    return;
+  }
 
-      case 627:
-      case 628:
-      case 629:
-      case 630:
-      case 631:
-      case 633:
-        ChibiBuddyManager.postChoice(ChoiceManager.lastChoice, ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice1Choice614(
+      final String urlString, final GenericRequest request, final String text) {
+    // Near the fog there is an... anvil?
+    if (!text.contains("You acquire")) {
+      return;
+    }
+    int souls =
+        ChoiceManager.lastDecision == 1
+            ? 3
+            : ChoiceManager.lastDecision == 2
+                ? 11
+                : ChoiceManager.lastDecision == 3 ? 23 : ChoiceManager.lastDecision == 4 ? 37 : 0;
+    if (souls > 0) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.MIME_SOUL_FRAGMENT, 0 - souls));
+    }
+    return;
+  }
 
-      case 669:
-      case 670:
-      case 671:
-        // All New Area Unlocked messages unlock the Ground Floor but check for it specifically in
-        // case future changes unlock areas with message.
-        if (text.contains("New Area Unlocked") && text.contains("The Ground Floor")) {
-          Preferences.setInteger("lastCastleGroundUnlock", KoLCharacter.getAscensions());
-          QuestDatabase.setQuestProgress(Quest.GARBAGE, "step8");
-        }
-        break;
+  private static void postChoice1Choice616(
+      final String urlString, final GenericRequest request, final String text) {
+    // He Is the Arm, and He Sounds Like This
+    // Twin Peak third choice
+    if (text.contains("You attempt to mingle")) {
+      int prefval = Preferences.getInteger("twinPeakProgress");
+      prefval |= 4;
+      Preferences.setInteger("twinPeakProgress", prefval);
+      ResultProcessor.processResult(ItemPool.get(ItemPool.JAR_OF_OIL, -1));
+    }
+    return;
+  }
 
-      case 675:
-        // Melon Collie and the Infinite Lameness
-        if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.removeItem(ItemPool.DRUM_N_BASS_RECORD);
-        }
-        break;
+  private static void postChoice1Choice617(
+      final String urlString, final GenericRequest request, final String text) {
+    // Now It's Dark
+    // Twin Peak fourth choice
+    if (text.contains("When the lights come back")) {
+      // the other three must be completed at this point.
+      Preferences.setInteger("twinPeakProgress", 15);
+    }
+    return;
+  }
 
-      case 679:
-        // Keep On Turnin' the Wheel in the Sky
-        QuestDatabase.setQuestProgress(Quest.GARBAGE, "step10");
-        break;
+  private static void postChoice1Choice618(
+      final String urlString, final GenericRequest request, final String text) {
+    // Cabin Fever
+    if (text.contains("mercifully, the hotel explodes")) {
+      // the other three must be completed at this point.
+      Preferences.setInteger("twinPeakProgress", 15);
+    }
+    return;
+  }
 
-      case 689:
-        // The Final Reward
-        if (text.contains("claim your rightful reward")) {
-          // Daily Dungeon Complete
-          Preferences.setBoolean("dailyDungeonDone", true);
-          Preferences.setInteger("_lastDailyDungeonRoom", 15);
-        }
-        return;
+  private static void postChoice1Choice627(
+      final String urlString, final GenericRequest request, final String text) {
+    ChibiBuddyManager.postChoice(ChoiceManager.lastChoice, ChoiceManager.lastDecision, text);
+  }
 
-      case 690:
-      case 691:
-        // The First Chest Isn't the Deepest and Second Chest
-        if (ChoiceManager.lastDecision == 2) {
-          Preferences.increment("_lastDailyDungeonRoom", 3);
-        } else {
-          Preferences.increment("_lastDailyDungeonRoom", 1);
-        }
-        // Second Chest only
-        if (ChoiceManager.lastChoice == 691 && ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("candyCaneSwordDailyDungeon", true);
-        }
-        return;
+  private static void postChoice1Choice669(
+      final String urlString, final GenericRequest request, final String text) {
+    // All New Area Unlocked messages unlock the Ground Floor but check for it specifically in
+    // case future changes unlock areas with message.
+    if (text.contains("New Area Unlocked") && text.contains("The Ground Floor")) {
+      Preferences.setInteger("lastCastleGroundUnlock", KoLCharacter.getAscensions());
+      QuestDatabase.setQuestProgress(Quest.GARBAGE, "step8");
+    }
+  }
 
-      case 692:
-        // I Wanna Be a Door
-        if (text.contains("key breaks off in the lock")) {
-          // Unfortunately, the key breaks off in the lock.
-          ResultProcessor.processItem(ItemPool.SKELETON_KEY, -1);
-        }
-        if (ChoiceManager.lastDecision != 8) {
-          Preferences.increment("_lastDailyDungeonRoom", 1);
-        }
-        return;
+  private static void postChoice1Choice675(
+      final String urlString, final GenericRequest request, final String text) {
+    // Melon Collie and the Infinite Lameness
+    if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.removeItem(ItemPool.DRUM_N_BASS_RECORD);
+    }
+  }
 
-      case 693:
-        // It's Almost Certainly a Trap
-        if (ChoiceManager.lastDecision != 3) {
-          Preferences.increment("_lastDailyDungeonRoom", 1);
-        }
-        return;
+  private static void postChoice1Choice679(
+      final String urlString, final GenericRequest request, final String text) {
+    // Keep On Turnin' the Wheel in the Sky
+    QuestDatabase.setQuestProgress(Quest.GARBAGE, "step10");
+  }
 
-      case 699:
-        // Lumber-related Pun
-        if (text.contains("hand him the branch")) {
-          // Marty's eyes widen when you hand him the
-          // branch from the Great Tree.
-          ResultProcessor.processItem(ItemPool.GREAT_TREE_BRANCH, -1);
-        } else if (text.contains("hand him the rust")) {
-          // At first Marty looks disappointed when you
-          // hand him the rust-spotted, rotten-handled
-          // axe, but after a closer inspection he gives
-          // an impressed whistle.
-          ResultProcessor.processItem(ItemPool.PHIL_BUNION_AXE, -1);
-        } else if (text.contains("hand him the bouquet")) {
-          // Marty looks delighted when you hand him the
-          // bouquet of swamp roses.
-          ResultProcessor.processItem(ItemPool.SWAMP_ROSE_BOUQUET, -1);
-        }
-        return;
+  private static void postChoice1Choice689(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Final Reward
+    if (text.contains("claim your rightful reward")) {
+      // Daily Dungeon Complete
+      Preferences.setBoolean("dailyDungeonDone", true);
+      Preferences.setInteger("_lastDailyDungeonRoom", 15);
+    }
+    return;
+  }
 
-      case 700:
-        // Delirium in the Cafeterium
-        Preferences.increment("_kolhsAdventures", 1);
-        return;
+  private static void postChoice1Choice690(
+      final String urlString, final GenericRequest request, final String text) {
+    // The First Chest Isn't the Deepest and Second Chest
+    if (ChoiceManager.lastDecision == 2) {
+      Preferences.increment("_lastDailyDungeonRoom", 3);
+    } else {
+      Preferences.increment("_lastDailyDungeonRoom", 1);
+    }
+    // Second Chest only
+    if (ChoiceManager.lastChoice == 691 && ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("candyCaneSwordDailyDungeon", true);
+    }
+    return;
+  }
 
-      case 703:
-        // Mer-kin dreadscroll
-        if (text.contains("I guess you're the Mer-kin High Priest now")) {
-          Preferences.setString("merkinQuestPath", "scholar");
-          ResultProcessor.processItem(ItemPool.DREADSCROLL, -1);
-          return;
-        }
-        return;
+  private static void postChoice1Choice692(
+      final String urlString, final GenericRequest request, final String text) {
+    // I Wanna Be a Door
+    if (text.contains("key breaks off in the lock")) {
+      // Unfortunately, the key breaks off in the lock.
+      ResultProcessor.processItem(ItemPool.SKELETON_KEY, -1);
+    }
+    if (ChoiceManager.lastDecision != 8) {
+      Preferences.increment("_lastDailyDungeonRoom", 1);
+    }
+    return;
+  }
 
-      case 709:
-        // You Beat Shub to a Stub, Bub
-      case 713:
-        // You Brought Her To Her Kn-kn-kn-kn-knees, Knees.
-      case 717:
-        // Over. Over Now.
-        Preferences.setString("merkinQuestPath", "done");
-        return;
+  private static void postChoice1Choice693(
+      final String urlString, final GenericRequest request, final String text) {
+    // It's Almost Certainly a Trap
+    if (ChoiceManager.lastDecision != 3) {
+      Preferences.increment("_lastDailyDungeonRoom", 1);
+    }
+    return;
+  }
 
-      case 720:
-        // The Florist Friar's Cottage
-        FloristRequest.parseResponse(urlString, text);
-        return;
+  private static void postChoice1Choice699(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lumber-related Pun
+    if (text.contains("hand him the branch")) {
+      // Marty's eyes widen when you hand him the
+      // branch from the Great Tree.
+      ResultProcessor.processItem(ItemPool.GREAT_TREE_BRANCH, -1);
+    } else if (text.contains("hand him the rust")) {
+      // At first Marty looks disappointed when you
+      // hand him the rust-spotted, rotten-handled
+      // axe, but after a closer inspection he gives
+      // an impressed whistle.
+      ResultProcessor.processItem(ItemPool.PHIL_BUNION_AXE, -1);
+    } else if (text.contains("hand him the bouquet")) {
+      // Marty looks delighted when you hand him the
+      // bouquet of swamp roses.
+      ResultProcessor.processItem(ItemPool.SWAMP_ROSE_BOUQUET, -1);
+    }
+    return;
+  }
 
-      case 721:
-        // The Cabin in the Dreadsylvanian Woods
-        if (ChoiceManager.lastDecision == 3) {
-          // Try the Attic
+  private static void postChoice1Choice700(
+      final String urlString, final GenericRequest request, final String text) {
+    // Delirium in the Cafeterium
+    Preferences.increment("_kolhsAdventures", 1);
+    return;
+  }
 
-          // You use your skeleton key to unlock the padlock on the attic trap door.
-          // Then you use your legs to climb the ladder into the attic.
-          // Then you use your stupidity to lose the skeleton key.  Crap.
+  private static void postChoice1Choice703(
+      final String urlString, final GenericRequest request, final String text) {
+    // Mer-kin dreadscroll
+    if (text.contains("I guess you're the Mer-kin High Priest now")) {
+      Preferences.setString("merkinQuestPath", "scholar");
+      ResultProcessor.processItem(ItemPool.DREADSCROLL, -1);
+      return;
+    }
+    return;
+  }
 
-          if (text.contains("lose the skeleton key")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
-        return;
+  private static void postChoice1Choice709(
+      final String urlString, final GenericRequest request, final String text) {
+    // You Beat Shub to a Stub, Bub
+    // You Brought Her To Her Kn-kn-kn-kn-knees, Knees.
+    // Over. Over Now.
+    Preferences.setString("merkinQuestPath", "done");
+    return;
+  }
 
-      case 722:
-        // The Kitchen in the Woods
-        if (ChoiceManager.lastDecision == 2) {
-          // Screw around with the flour mill
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.OLD_DRY_BONE, -1));
-          }
-        }
-        return;
+  private static void postChoice1Choice720(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Florist Friar's Cottage
+    FloristRequest.parseResponse(urlString, text);
+    return;
+  }
 
-      case 723:
-        // What Lies Beneath (the Cabin)
-        if (ChoiceManager.lastDecision == 3) {
-          // Check out the lockbox
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.REPLICA_KEY, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 4) {
-          // Stick a wax banana in the lock
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.WAX_BANANA, -1));
-          }
-        }
-        return;
+  private static void postChoice1Choice721(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Cabin in the Dreadsylvanian Woods
+    if (ChoiceManager.lastDecision == 3) {
+      // Try the Attic
 
-      case 725:
-        // Tallest Tree in the Forest
-        if (ChoiceManager.lastDecision == 2) {
-          // Check out the fire tower
+      // You use your skeleton key to unlock the padlock on the attic trap door.
+      // Then you use your legs to climb the ladder into the attic.
+      // Then you use your stupidity to lose the skeleton key.  Crap.
 
-          // You climb the rope ladder and use your skeleton key to
-          // unlock the padlock on the door leading into the little room
-          // at the top of the watchtower. Then you accidentally drop
-          // your skeleton key and lose it in a pile of leaves. Rats.
+      if (text.contains("lose the skeleton key")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
+    return;
+  }
 
-          if (text.contains("you accidentally drop your skeleton key")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
+  private static void postChoice1Choice722(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Kitchen in the Woods
+    if (ChoiceManager.lastDecision == 2) {
+      // Screw around with the flour mill
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.OLD_DRY_BONE, -1));
+      }
+    }
+    return;
+  }
 
-        return;
+  private static void postChoice1Choice723(
+      final String urlString, final GenericRequest request, final String text) {
+    // What Lies Beneath (the Cabin)
+    if (ChoiceManager.lastDecision == 3) {
+      // Check out the lockbox
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.REPLICA_KEY, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 4) {
+      // Stick a wax banana in the lock
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.WAX_BANANA, -1));
+      }
+    }
+    return;
+  }
 
-      case 729:
-        // Below the Roots
-        if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
-        return;
+  private static void postChoice1Choice725(
+      final String urlString, final GenericRequest request, final String text) {
+    // Tallest Tree in the Forest
+    if (ChoiceManager.lastDecision == 2) {
+      // Check out the fire tower
 
-      case 730:
-        // Hot Coals
-        if (ChoiceManager.lastDecision == 3) {
-          // Melt down an old ball and chain
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.OLD_BALL_AND_CHAIN, -1));
-          }
-        }
-        return;
+      // You climb the rope ladder and use your skeleton key to
+      // unlock the padlock on the door leading into the little room
+      // at the top of the watchtower. Then you accidentally drop
+      // your skeleton key and lose it in a pile of leaves. Rats.
 
-      case 733:
-        // Dreadsylvanian Village Square
-        if (ChoiceManager.lastDecision == 1) {
-          // The schoolhouse
+      if (text.contains("you accidentally drop your skeleton key")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
 
-          // You try the door of the schoolhouse, but it's locked. You
-          // try your skeleton key in the lock, but it works. I mean and
-          // it works. But it breaks. That was the but.
+    return;
+  }
 
-          if (text.contains("But it breaks")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
-        return;
+  private static void postChoice1Choice729(
+      final String urlString, final GenericRequest request, final String text) {
+    // Below the Roots
+    if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
+    return;
+  }
 
-      case 737:
-        // The Even More Dreadful Part of Town
-        if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
-        return;
+  private static void postChoice1Choice730(
+      final String urlString, final GenericRequest request, final String text) {
+    // Hot Coals
+    if (ChoiceManager.lastDecision == 3) {
+      // Melt down an old ball and chain
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.OLD_BALL_AND_CHAIN, -1));
+      }
+    }
+    return;
+  }
 
-      case 739:
-        // The Tinker's. Damn.
-        if (ChoiceManager.lastDecision == 2) {
-          // Make a key using the wax lock impression
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.WAX_LOCK_IMPRESSION, -1));
-            ResultProcessor.processResult(ItemPool.get(ItemPool.INTRICATE_MUSIC_BOX_PARTS, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 3) {
-          // Polish the moon-amber
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.MOON_AMBER, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 4) {
-          // Assemble a clockwork bird
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_CLOCKWORK_KEY, -1));
-            ResultProcessor.processResult(ItemPool.get(ItemPool.INTRICATE_MUSIC_BOX_PARTS, -3));
-          }
-        }
-        return;
+  private static void postChoice1Choice733(
+      final String urlString, final GenericRequest request, final String text) {
+    // Dreadsylvanian Village Square
+    if (ChoiceManager.lastDecision == 1) {
+      // The schoolhouse
 
-      case 741:
-        // The Old Duke's Estate
-        if (ChoiceManager.lastDecision == 3) {
-          // Make your way to the master suite
+      // You try the door of the schoolhouse, but it's locked. You
+      // try your skeleton key in the lock, but it works. I mean and
+      // it works. But it breaks. That was the but.
 
-          // You find the door to the old Duke's master bedroom and
-          // unlock it with your skeleton key.
+      if (text.contains("But it breaks")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
+    return;
+  }
 
-          if (text.contains("unlock it with your skeleton key")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
-        return;
+  private static void postChoice1Choice737(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Even More Dreadful Part of Town
+    if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
+    return;
+  }
 
-      case 743:
-        // No Quarter
-        if (ChoiceManager.lastDecision == 2) {
-          // Make a shepherd's pie
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREAD_TARRAGON, -1));
-            ResultProcessor.processResult(ItemPool.get(ItemPool.BONE_FLOUR, -1));
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREADFUL_ROAST, -1));
-            ResultProcessor.processResult(ItemPool.get(ItemPool.STINKING_AGARICUS, -1));
-          }
-        }
-        return;
+  private static void postChoice1Choice739(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Tinker's. Damn.
+    if (ChoiceManager.lastDecision == 2) {
+      // Make a key using the wax lock impression
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.WAX_LOCK_IMPRESSION, -1));
+        ResultProcessor.processResult(ItemPool.get(ItemPool.INTRICATE_MUSIC_BOX_PARTS, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 3) {
+      // Polish the moon-amber
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.MOON_AMBER, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 4) {
+      // Assemble a clockwork bird
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_CLOCKWORK_KEY, -1));
+        ResultProcessor.processResult(ItemPool.get(ItemPool.INTRICATE_MUSIC_BOX_PARTS, -3));
+      }
+    }
+    return;
+  }
 
-      case 744:
-        // The Master Suite -- Sweet!
-        if (ChoiceManager.lastDecision == 3) {
-          // Mess with the loom
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_THREAD, -10));
-          }
-        }
-        return;
+  private static void postChoice1Choice741(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Old Duke's Estate
+    if (ChoiceManager.lastDecision == 3) {
+      // Make your way to the master suite
 
-      case 745:
-        // This Hall is Really Great
-        if (ChoiceManager.lastDecision == 1) {
-          // Head to the ballroom
+      // You find the door to the old Duke's master bedroom and
+      // unlock it with your skeleton key.
 
-          // You unlock the door to the ballroom with your skeleton
-          // key. You open the door, and are so impressed by the site of
-          // the elegant ballroom that you drop the key down a nearby
-          // laundry chute.
+      if (text.contains("unlock it with your skeleton key")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
+    return;
+  }
 
-          if (text.contains("you drop the key")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
-        return;
+  private static void postChoice1Choice743(
+      final String urlString, final GenericRequest request, final String text) {
+    // No Quarter
+    if (ChoiceManager.lastDecision == 2) {
+      // Make a shepherd's pie
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREAD_TARRAGON, -1));
+        ResultProcessor.processResult(ItemPool.get(ItemPool.BONE_FLOUR, -1));
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREADFUL_ROAST, -1));
+        ResultProcessor.processResult(ItemPool.get(ItemPool.STINKING_AGARICUS, -1));
+      }
+    }
+    return;
+  }
 
-      case 746:
-        // The Belle of the Ballroom
-        if (ChoiceManager.lastDecision == 2) {
-          // Trip the light fantastic
+  private static void postChoice1Choice744(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Master Suite -- Sweet!
+    if (ChoiceManager.lastDecision == 3) {
+      // Mess with the loom
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_THREAD, -10));
+      }
+    }
+    return;
+  }
 
-          // You twirl around on the dance floor to music only you can
-          // hear, your muddy skirt whirling around you filthily. You get
-          // so caught up in the twirling that you drop your seed pod. It
-          // breaks open, spreading weed seeds all over your skirt, which
-          // immediately take root and grow.
+  private static void postChoice1Choice745(
+      final String urlString, final GenericRequest request, final String text) {
+    // This Hall is Really Great
+    if (ChoiceManager.lastDecision == 1) {
+      // Head to the ballroom
 
-          if (text.contains("spreading weed seeds all over your skirt")) {
-            EquipmentManager.discardEquipment(ItemPool.MUDDY_SKIRT);
-            EquipmentManager.setEquipment(Slot.PANTS, ItemPool.get(ItemPool.WEEDY_SKIRT, 1));
-          }
-        }
-        return;
+      // You unlock the door to the ballroom with your skeleton
+      // key. You open the door, and are so impressed by the site of
+      // the elegant ballroom that you drop the key down a nearby
+      // laundry chute.
 
-      case 749:
-        // Tower Most Tall
-        if (ChoiceManager.lastDecision == 1) {
-          // Go to the laboratory
+      if (text.contains("you drop the key")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
+    return;
+  }
 
-          // You use your skeleton key to unlock the door to the
-          // laboratory. Unfortunately, the lock is electrified, and it
-          // incinerates the key shortly afterwards.
+  private static void postChoice1Choice746(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Belle of the Ballroom
+    if (ChoiceManager.lastDecision == 2) {
+      // Trip the light fantastic
 
-          if (text.contains("it incinerates the key")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
-        return;
+      // You twirl around on the dance floor to music only you can
+      // hear, your muddy skirt whirling around you filthily. You get
+      // so caught up in the twirling that you drop your seed pod. It
+      // breaks open, spreading weed seeds all over your skirt, which
+      // immediately take root and grow.
 
-      case 750:
-        // Working in the Lab, Late One Night
-        if (ChoiceManager.lastDecision == 4) {
-          // Use the still
-          if (text.contains("You acquire")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.BLOOD_KIWI, -1));
-            ResultProcessor.processResult(ItemPool.get(ItemPool.EAU_DE_MORT, -1));
-          }
-        }
-        return;
+      if (text.contains("spreading weed seeds all over your skirt")) {
+        EquipmentManager.discardEquipment(ItemPool.MUDDY_SKIRT);
+        EquipmentManager.setEquipment(Slot.PANTS, ItemPool.get(ItemPool.WEEDY_SKIRT, 1));
+      }
+    }
+    return;
+  }
 
-      case 753:
-        // The Dreadsylvanian Dungeon
-        if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
-        }
-        return;
+  private static void postChoice1Choice749(
+      final String urlString, final GenericRequest request, final String text) {
+    // Tower Most Tall
+    if (ChoiceManager.lastDecision == 1) {
+      // Go to the laboratory
 
-      case 762:
-        // Try New Extra-Strength Anvil
-        // All of the options that craft something use the same ingredients
-        if (text.contains("You acquire")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.COOL_IRON_INGOT, -1));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.WARM_FUR, -1));
-        }
-        return;
+      // You use your skeleton key to unlock the door to the
+      // laboratory. Unfortunately, the lock is electrified, and it
+      // incinerates the key shortly afterwards.
 
-      case 772:
-        // Saved by the Bell
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("_kolhsSchoolSpirited", true);
-          Preferences.increment("kolhsTotalSchoolSpirited", 1);
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setBoolean("_kolhsPoeticallyLicenced", true);
-        } else if (ChoiceManager.lastDecision == 3) {
-          // You walk into the Yearbook Club and collar the kid with all
-          // the camera equipment from yesterday. "Let me check your
-          // memory card," he says, plugging the camera into a computer.
-          // "Yup! You got it! Nice work. Here's your reward -- a nice
-          // new accessory for that camera! If you're interested, now we
-          // need a picture of a <b>monster</b>. You up for it?"
-          //
-          // You walk back into the Yearbook Club, a little tentatively.
-          // "All right! Let's see what you've got!" the camera kid
-          // says, and plugs your camera into a computer. "Aw, man, you
-          // didn't get it? Well, I'll give you another chance.  If you
-          // can still get us a picture of a <b>monster</b> and bring it
-          // in tomorrow, you're still in the Club."
-          //
-          // You poke your head into the Yearbook Club room, but the
-          // camera kid's packing up all the equipment and putting it
-          // away. "Sorry, gotta go," he says, "but remember, you've
-          // gotta get a picture of a <b>monster</b> for tomorrow, all
-          // right? We're counting on you."
-
-          if (text.contains("You got it!")) {
-            Preferences.setString("yearbookCameraTarget", "");
-            Preferences.setBoolean("yearbookCameraPending", false);
-            Preferences.increment("yearbookCameraUpgrades", 1, 20, false);
-            if (KoLCharacter.getAscensions()
-                != Preferences.getInteger("lastYearbookCameraAscension")) {
-              Preferences.setInteger("lastYearbookCameraAscension", KoLCharacter.getAscensions());
-              Preferences.increment("yearbookCameraAscensions", 1, 20, false);
-            }
-          }
+      if (text.contains("it incinerates the key")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.DREADSYLVANIAN_SKELETON_KEY, -1));
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
+    return;
+  }
 
-          Matcher matcher = YEARBOOK_TARGET_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("yearbookCameraTarget", matcher.group(1));
-          }
-        } else if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("_kolhsCutButNotDried", true);
-        } else if (ChoiceManager.lastDecision == 5) {
-          Preferences.setBoolean("_kolhsIsskayLikeAnAshtray", true);
-        }
-        if (ChoiceManager.lastDecision != 8) {
-          Preferences.increment("_kolhsSavedByTheBell", 1);
-        }
-        return;
+  private static void postChoice1Choice750(
+      final String urlString, final GenericRequest request, final String text) {
+    // Working in the Lab, Late One Night
+    if (ChoiceManager.lastDecision == 4) {
+      // Use the still
+      if (text.contains("You acquire")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.BLOOD_KIWI, -1));
+        ResultProcessor.processResult(ItemPool.get(ItemPool.EAU_DE_MORT, -1));
+      }
+    }
+    return;
+  }
 
-      case 778:
-        // If You Could Only See
-        if (ChoiceManager.lastDecision != 6) {
-          Preferences.setBoolean("_tonicDjinn", true);
-          if (!text.contains("already had a wish today")) {
-            ResultProcessor.processResult(ItemPool.get(ItemPool.TONIC_DJINN, -1));
-          }
-        }
-        return;
+  private static void postChoice1Choice753(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Dreadsylvanian Dungeon
+    if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GHOST_PENCIL, -1));
+    }
+    return;
+  }
 
-      case 780:
-        // Action Elevator
-        if (ChoiceManager.lastDecision == 1 && text.contains("penthouse is empty now")) {
-          if (Preferences.getInteger("hiddenApartmentProgress") < 7) {
-            Preferences.setInteger("hiddenApartmentProgress", 7);
-          }
-        } else if (ChoiceManager.lastDecision == 3) {
-          Preferences.setInteger("relocatePygmyLawyer", KoLCharacter.getAscensions());
-        } else if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("candyCaneSwordApartmentBuilding", true);
-        }
-        return;
+  private static void postChoice1Choice762(
+      final String urlString, final GenericRequest request, final String text) {
+    // Try New Extra-Strength Anvil
+    // All of the options that craft something use the same ingredients
+    if (text.contains("You acquire")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.COOL_IRON_INGOT, -1));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.WARM_FUR, -1));
+    }
+    return;
+  }
 
-      case 781:
-        // Earthbound and Down
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setInteger("hiddenApartmentProgress", 1);
-          QuestDatabase.setQuestProgress(Quest.CURSES, QuestDatabase.STARTED);
-        } else if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.MOSS_COVERED_STONE_SPHERE, -1));
-          Preferences.setInteger("hiddenApartmentProgress", 8);
-        } else if (ChoiceManager.lastDecision == 3) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SIX_BALL, -1));
-        }
-        return;
+  private static void postChoice1Choice772(
+      final String urlString, final GenericRequest request, final String text) {
+    // Saved by the Bell
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("_kolhsSchoolSpirited", true);
+      Preferences.increment("kolhsTotalSchoolSpirited", 1);
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setBoolean("_kolhsPoeticallyLicenced", true);
+    } else if (ChoiceManager.lastDecision == 3) {
+      // You walk into the Yearbook Club and collar the kid with all
+      // the camera equipment from yesterday. "Let me check your
+      // memory card," he says, plugging the camera into a computer.
+      // "Yup! You got it! Nice work. Here's your reward -- a nice
+      // new accessory for that camera! If you're interested, now we
+      // need a picture of a <b>monster</b>. You up for it?"
+      //
+      // You walk back into the Yearbook Club, a little tentatively.
+      // "All right! Let's see what you've got!" the camera kid
+      // says, and plugs your camera into a computer. "Aw, man, you
+      // didn't get it? Well, I'll give you another chance.  If you
+      // can still get us a picture of a <b>monster</b> and bring it
+      // in tomorrow, you're still in the Club."
+      //
+      // You poke your head into the Yearbook Club room, but the
+      // camera kid's packing up all the equipment and putting it
+      // away. "Sorry, gotta go," he says, "but remember, you've
+      // gotta get a picture of a <b>monster</b> for tomorrow, all
+      // right? We're counting on you."
 
-      case 783:
-        // Water You Dune
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setInteger("hiddenHospitalProgress", 1);
-          QuestDatabase.setQuestProgress(Quest.DOCTOR, QuestDatabase.STARTED);
-        } else if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.DRIPPING_STONE_SPHERE, -1));
-          Preferences.setInteger("hiddenHospitalProgress", 8);
-        } else if (ChoiceManager.lastDecision == 3) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.TWO_BALL, -1));
+      if (text.contains("You got it!")) {
+        Preferences.setString("yearbookCameraTarget", "");
+        Preferences.setBoolean("yearbookCameraPending", false);
+        Preferences.increment("yearbookCameraUpgrades", 1, 20, false);
+        if (KoLCharacter.getAscensions() != Preferences.getInteger("lastYearbookCameraAscension")) {
+          Preferences.setInteger("lastYearbookCameraAscension", KoLCharacter.getAscensions());
+          Preferences.increment("yearbookCameraAscensions", 1, 20, false);
         }
-        return;
+      }
 
-      case 785:
-        // Air Apparent
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setInteger("hiddenOfficeProgress", 1);
-          QuestDatabase.setQuestProgress(Quest.BUSINESS, QuestDatabase.STARTED);
-        } else if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.CRACKLING_STONE_SPHERE, -1));
-          Preferences.setInteger("hiddenOfficeProgress", 8);
-        } else if (ChoiceManager.lastDecision == 3) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.ONE_BALL, -1));
-        } else if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("_candyCaneSwordOvergrownShrine", true);
-        }
-        return;
+      Matcher matcher = YEARBOOK_TARGET_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("yearbookCameraTarget", matcher.group(1));
+      }
+    } else if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("_kolhsCutButNotDried", true);
+    } else if (ChoiceManager.lastDecision == 5) {
+      Preferences.setBoolean("_kolhsIsskayLikeAnAshtray", true);
+    }
+    if (ChoiceManager.lastDecision != 8) {
+      Preferences.increment("_kolhsSavedByTheBell", 1);
+    }
+    return;
+  }
 
-      case 786:
-        // Working Holiday
-        if (ChoiceManager.lastDecision == 1 && text.contains("boss's office is empty")) {
-          if (Preferences.getInteger("hiddenOfficeProgress") < 7) {
-            Preferences.setInteger("hiddenOfficeProgress", 7);
-          }
-        }
-        // if you don't get the expected binder clip, don't have one, and don't have a mcclusky
-        // file, you must have unlocked the boss at least
-        else if (ChoiceManager.lastDecision == 2
-            && !text.contains("boring binder clip")
-            && InventoryManager.getCount(MCCLUSKY_FILE) == 0
-            && InventoryManager.getCount(BINDER_CLIP) == 0
-            && Preferences.getInteger("hiddenOfficeProgress") < 6) {
-          Preferences.setInteger("hiddenOfficeProgress", 6);
-        }
-        return;
+  private static void postChoice1Choice778(
+      final String urlString, final GenericRequest request, final String text) {
+    // If You Could Only See
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.setBoolean("_tonicDjinn", true);
+      if (!text.contains("already had a wish today")) {
+        ResultProcessor.processResult(ItemPool.get(ItemPool.TONIC_DJINN, -1));
+      }
+    }
+    return;
+  }
 
-      case 787:
-        // Fire when Ready
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setInteger("hiddenBowlingAlleyProgress", 1);
-          QuestDatabase.setQuestProgress(Quest.SPARE, QuestDatabase.STARTED);
-        } else if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SCORCHED_STONE_SPHERE, -1));
-          Preferences.setInteger("hiddenBowlingAlleyProgress", 8);
-        } else if (ChoiceManager.lastDecision == 3) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.FIVE_BALL, -1));
-        }
-        return;
+  private static void postChoice1Choice780(
+      final String urlString, final GenericRequest request, final String text) {
+    // Action Elevator
+    if (ChoiceManager.lastDecision == 1 && text.contains("penthouse is empty now")) {
+      if (Preferences.getInteger("hiddenApartmentProgress") < 7) {
+        Preferences.setInteger("hiddenApartmentProgress", 7);
+      }
+    } else if (ChoiceManager.lastDecision == 3) {
+      Preferences.setInteger("relocatePygmyLawyer", KoLCharacter.getAscensions());
+    } else if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("candyCaneSwordApartmentBuilding", true);
+    }
+    return;
+  }
 
-      case 788:
-        // Life is Like a Cherry of Bowls
-        if (ChoiceManager.lastDecision == 1
-            && text.contains("without a frustrated ghost to torment")) {
-          if (Preferences.getInteger("hiddenBowlingAlleyProgress") < 7) {
-            Preferences.setInteger("hiddenBowlingAlleyProgress", 7);
-          }
-        }
-        if (ChoiceManager.lastDecision == 1) {
-          ResultProcessor.removeItem(ItemPool.BOWLING_BALL);
-        }
-        if (ChoiceManager.lastDecision == 1 || ChoiceManager.lastDecision == 2) {
-          int bowlCount = Preferences.getInteger("hiddenBowlingAlleyProgress");
-          if (bowlCount < 6) {
-            Preferences.setInteger(
-                "hiddenBowlingAlleyProgress", (bowlCount < 2 ? 2 : bowlCount + 1));
-          }
-        }
-        if (ChoiceManager.lastDecision == 2) {
-          Preferences.setBoolean("candyCaneSwordBowlingAlley", true);
-        }
-        return;
+  private static void postChoice1Choice781(
+      final String urlString, final GenericRequest request, final String text) {
+    // Earthbound and Down
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setInteger("hiddenApartmentProgress", 1);
+      QuestDatabase.setQuestProgress(Quest.CURSES, QuestDatabase.STARTED);
+    } else if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.MOSS_COVERED_STONE_SPHERE, -1));
+      Preferences.setInteger("hiddenApartmentProgress", 8);
+    } else if (ChoiceManager.lastDecision == 3) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SIX_BALL, -1));
+    }
+    return;
+  }
 
-      case 789:
-        // Where Does The Lone Ranger Take His Garbagester?
-        if (ChoiceManager.lastDecision == 2) {
-          Preferences.setInteger("relocatePygmyJanitor", KoLCharacter.getAscensions());
-        }
-        return;
+  private static void postChoice1Choice783(
+      final String urlString, final GenericRequest request, final String text) {
+    // Water You Dune
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setInteger("hiddenHospitalProgress", 1);
+      QuestDatabase.setQuestProgress(Quest.DOCTOR, QuestDatabase.STARTED);
+    } else if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.DRIPPING_STONE_SPHERE, -1));
+      Preferences.setInteger("hiddenHospitalProgress", 8);
+    } else if (ChoiceManager.lastDecision == 3) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.TWO_BALL, -1));
+    }
+    return;
+  }
 
-      case 793:
-        // Welcome to The Shore, Inc.
-        if (ChoiceManager.lastDecision == 5) {
-          Preferences.setBoolean("candyCaneSwordShore", true);
-        }
-        break;
+  private static void postChoice1Choice785(
+      final String urlString, final GenericRequest request, final String text) {
+    // Air Apparent
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setInteger("hiddenOfficeProgress", 1);
+      QuestDatabase.setQuestProgress(Quest.BUSINESS, QuestDatabase.STARTED);
+    } else if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.CRACKLING_STONE_SPHERE, -1));
+      Preferences.setInteger("hiddenOfficeProgress", 8);
+    } else if (ChoiceManager.lastDecision == 3) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.ONE_BALL, -1));
+    } else if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("_candyCaneSwordOvergrownShrine", true);
+    }
+    return;
+  }
 
-      case 801:
-        // A Reanimated Conversation
-        if (ChoiceManager.lastDecision == 6) {
-          Preferences.setInteger("reanimatorArms", 0);
-          Preferences.setInteger("reanimatorLegs", 0);
-          Preferences.setInteger("reanimatorSkulls", 0);
-          Preferences.setInteger("reanimatorWeirdParts", 0);
-          Preferences.setInteger("reanimatorWings", 0);
-        }
-        return;
+  private static void postChoice1Choice786(
+      final String urlString, final GenericRequest request, final String text) {
+    // Working Holiday
+    if (ChoiceManager.lastDecision == 1 && text.contains("boss's office is empty")) {
+      if (Preferences.getInteger("hiddenOfficeProgress") < 7) {
+        Preferences.setInteger("hiddenOfficeProgress", 7);
+      }
+    }
+    // if you don't get the expected binder clip, don't have one, and don't have a mcclusky
+    // file, you must have unlocked the boss at least
+    else if (ChoiceManager.lastDecision == 2
+        && !text.contains("boring binder clip")
+        && InventoryManager.getCount(MCCLUSKY_FILE) == 0
+        && InventoryManager.getCount(BINDER_CLIP) == 0
+        && Preferences.getInteger("hiddenOfficeProgress") < 6) {
+      Preferences.setInteger("hiddenOfficeProgress", 6);
+    }
+    return;
+  }
 
-      case 805:
-        // A Sietch in Time
-        int gnasirProgress = Preferences.getInteger("gnasirProgress");
-
-        // Annoyingly, the option numbers change as you turn
-        // things in. Therefore, we must look at response text
-
-        if (text.contains("give the stone rose to Gnasir")) {
-          ResultProcessor.removeItem(ItemPool.STONE_ROSE);
-          gnasirProgress |= 1;
-          Preferences.setInteger("gnasirProgress", gnasirProgress);
-        } else if (text.contains("hold up the bucket of black paint")) {
-          ResultProcessor.removeItem(ItemPool.BLACK_PAINT);
-          gnasirProgress |= 2;
-          Preferences.setInteger("gnasirProgress", gnasirProgress);
-        } else if (text.contains("hand Gnasir the glass jar")) {
-          ResultProcessor.removeItem(ItemPool.KILLING_JAR);
-          gnasirProgress |= 4;
-          Preferences.setInteger("gnasirProgress", gnasirProgress);
-        }
-        // You hand him the pages, and he shuffles them into their correct order and inspects them
-        // carefully.
-        else if (text.contains("hand him the pages")) {
-          ResultProcessor.processItem(ItemPool.WORM_RIDING_MANUAL_PAGE, -15);
-          gnasirProgress |= 8;
-          Preferences.setInteger("gnasirProgress", gnasirProgress);
-        }
-        return;
+  private static void postChoice1Choice787(
+      final String urlString, final GenericRequest request, final String text) {
+    // Fire when Ready
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setInteger("hiddenBowlingAlleyProgress", 1);
+      QuestDatabase.setQuestProgress(Quest.SPARE, QuestDatabase.STARTED);
+    } else if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SCORCHED_STONE_SPHERE, -1));
+      Preferences.setInteger("hiddenBowlingAlleyProgress", 8);
+    } else if (ChoiceManager.lastDecision == 3) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.FIVE_BALL, -1));
+    }
+    return;
+  }
 
-      case 812:
-        if (ChoiceManager.lastDecision == 1) {
-          Matcher matcher = UNPERM_PATTERN.matcher(text);
-          if (matcher.find()) {
-            KoLCharacter.removeAvailableSkill(matcher.group(1));
-            Preferences.increment("bankedKarma", Integer.parseInt(matcher.group(2)));
-          }
-        }
-        return;
-      case 821:
-        // LP-ROM burner
-        if (ChoiceManager.lastDecision == 1) {
-          HaciendaManager.parseRecording(urlString, text);
-        }
-        break;
+  private static void postChoice1Choice788(
+      final String urlString, final GenericRequest request, final String text) {
+    // Life is Like a Cherry of Bowls
+    if (ChoiceManager.lastDecision == 1 && text.contains("without a frustrated ghost to torment")) {
+      if (Preferences.getInteger("hiddenBowlingAlleyProgress") < 7) {
+        Preferences.setInteger("hiddenBowlingAlleyProgress", 7);
+      }
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.BOWLING_BALL);
+    }
+    if (ChoiceManager.lastDecision == 1 || ChoiceManager.lastDecision == 2) {
+      int bowlCount = Preferences.getInteger("hiddenBowlingAlleyProgress");
+      if (bowlCount < 6) {
+        Preferences.setInteger("hiddenBowlingAlleyProgress", (bowlCount < 2 ? 2 : bowlCount + 1));
+      }
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      Preferences.setBoolean("candyCaneSwordBowlingAlley", true);
+    }
+    return;
+  }
 
-      case 835:
-        // Barely Tales
-        if (ChoiceManager.lastDecision != 0) {
-          Preferences.setBoolean("_grimBuff", true);
-        }
-        break;
+  private static void postChoice1Choice789(
+      final String urlString, final GenericRequest request, final String text) {
+    // Where Does The Lone Ranger Take His Garbagester?
+    if (ChoiceManager.lastDecision == 2) {
+      Preferences.setInteger("relocatePygmyJanitor", KoLCharacter.getAscensions());
+    }
+    return;
+  }
 
-      case 836:
-        // Adventures Who Live in Ice Houses...
-        if (ChoiceManager.lastDecision == 1) {
-          BanishManager.removeBanishByBanisher(BanishManager.Banisher.ICE_HOUSE);
-        }
-        break;
+  private static void postChoice1Choice793(
+      final String urlString, final GenericRequest request, final String text) {
+    // Welcome to The Shore, Inc.
+    if (ChoiceManager.lastDecision == 5) {
+      Preferences.setBoolean("candyCaneSwordShore", true);
+    }
+  }
 
-      case 851:
-        // Shen Copperhead, Nightclub Owner
-        QuestDatabase.setQuestProgress(Quest.SHEN, "step1");
-        Preferences.setInteger("shenInitiationDay", KoLCharacter.getCurrentDays());
-        if (Preferences.getString("shenQuestItem").isEmpty()) {
-          // We didn't recognise quest text before accepting quest, so get it from quest log
-          RequestThread.postRequest(new QuestLogRequest());
-        }
+  private static void postChoice1Choice801(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Reanimated Conversation
+    if (ChoiceManager.lastDecision == 6) {
+      Preferences.setInteger("reanimatorArms", 0);
+      Preferences.setInteger("reanimatorLegs", 0);
+      Preferences.setInteger("reanimatorSkulls", 0);
+      Preferences.setInteger("reanimatorWeirdParts", 0);
+      Preferences.setInteger("reanimatorWings", 0);
+    }
+    return;
+  }
 
-        break;
+  private static void postChoice1Choice805(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Sietch in Time
+    int gnasirProgress = Preferences.getInteger("gnasirProgress");
+
+    // Annoyingly, the option numbers change as you turn
+    // things in. Therefore, we must look at response text
+
+    if (text.contains("give the stone rose to Gnasir")) {
+      ResultProcessor.removeItem(ItemPool.STONE_ROSE);
+      gnasirProgress |= 1;
+      Preferences.setInteger("gnasirProgress", gnasirProgress);
+    } else if (text.contains("hold up the bucket of black paint")) {
+      ResultProcessor.removeItem(ItemPool.BLACK_PAINT);
+      gnasirProgress |= 2;
+      Preferences.setInteger("gnasirProgress", gnasirProgress);
+    } else if (text.contains("hand Gnasir the glass jar")) {
+      ResultProcessor.removeItem(ItemPool.KILLING_JAR);
+      gnasirProgress |= 4;
+      Preferences.setInteger("gnasirProgress", gnasirProgress);
+    }
+    // You hand him the pages, and he shuffles them into their correct order and inspects them
+    // carefully.
+    else if (text.contains("hand him the pages")) {
+      ResultProcessor.processItem(ItemPool.WORM_RIDING_MANUAL_PAGE, -15);
+      gnasirProgress |= 8;
+      Preferences.setInteger("gnasirProgress", gnasirProgress);
+    }
+    return;
+  }
 
-      case 852:
-        // Shen Copperhead, Jerk
-        // Deliberate fallthrough
-      case 853:
-        { // Shen Copperhead, Huge Jerk
-          Matcher matcher = SHEN_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("shenQuestItem", matcher.group(1));
-          }
-        }
-        // Deliberate fallthrough
-      case 854:
-        // Shen Copperhead, World's Biggest Jerk
-        QuestDatabase.advanceQuest(Quest.SHEN);
-        if (ChoiceManager.lastChoice == 854) {
-          Preferences.setString("shenQuestItem", "");
-        }
+  private static void postChoice1Choice812(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1) {
+      Matcher matcher = UNPERM_PATTERN.matcher(text);
+      if (matcher.find()) {
+        KoLCharacter.removeAvailableSkill(matcher.group(1));
+        Preferences.increment("bankedKarma", Integer.parseInt(matcher.group(2)));
+      }
+    }
+    return;
+  }
 
-        // You will have exactly one of these items to ger rid of
-        ResultProcessor.removeItem(ItemPool.FIRST_PIZZA);
-        ResultProcessor.removeItem(ItemPool.LACROSSE_STICK);
-        ResultProcessor.removeItem(ItemPool.EYE_OF_THE_STARS);
-        ResultProcessor.removeItem(ItemPool.STANKARA_STONE);
-        ResultProcessor.removeItem(ItemPool.MURPHYS_FLAG);
-        ResultProcessor.removeItem(ItemPool.SHIELD_OF_BROOK);
-        break;
+  private static void postChoice1Choice821(
+      final String urlString, final GenericRequest request, final String text) {
+    // LP-ROM burner
+    if (ChoiceManager.lastDecision == 1) {
+      HaciendaManager.parseRecording(urlString, text);
+    }
+  }
 
-      case 872:
-        // Drawn Onward - Handle quest in Ed
-        if (text.contains("Rot in a jar of dog paws!")) {
-          QuestDatabase.setQuestProgress(Quest.PALINDOME, QuestDatabase.FINISHED);
-          ResultProcessor.removeItem(ItemPool.ED_FATS_STAFF);
-          if (InventoryManager.getCount(ItemPool.ED_EYE) == 0
-              && InventoryManager.getCount(ItemPool.ED_AMULET) == 0) {
-            QuestDatabase.setQuestProgress(Quest.MACGUFFIN, QuestDatabase.FINISHED);
-          }
-        }
-        break;
+  private static void postChoice1Choice835(
+      final String urlString, final GenericRequest request, final String text) {
+    // Barely Tales
+    if (ChoiceManager.lastDecision != 0) {
+      Preferences.setBoolean("_grimBuff", true);
+    }
+  }
 
-      case 876:
-        // One Simple Nightstand
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("_candyCaneSwordHauntedBedroom", true);
-        }
-        break;
+  private static void postChoice1Choice836(
+      final String urlString, final GenericRequest request, final String text) {
+    // Adventures Who Live in Ice Houses...
+    if (ChoiceManager.lastDecision == 1) {
+      BanishManager.removeBanishByBanisher(BanishManager.Banisher.ICE_HOUSE);
+    }
+  }
 
-      case 882:
-        // Off the Rack
-        if (ChoiceManager.lastDecision == 1
-            && text.contains("You never know when it might come in handy.")) {
-          Preferences.setInteger("lastTowelAscension", KoLCharacter.getAscensions());
-        }
-        break;
+  private static void postChoice1Choice851(
+      final String urlString, final GenericRequest request, final String text) {
+    // Shen Copperhead, Nightclub Owner
+    QuestDatabase.setQuestProgress(Quest.SHEN, "step1");
+    Preferences.setInteger("shenInitiationDay", KoLCharacter.getCurrentDays());
+    if (Preferences.getString("shenQuestItem").isEmpty()) {
+      // We didn't recognise quest text before accepting quest, so get it from quest log
+      RequestThread.postRequest(new QuestLogRequest());
+    }
+  }
 
-      case 888:
-        // Take a Look, it's in a Book! (Rise)
-        if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("_candyCaneSwordHauntedLibrary", true);
-        }
-        break;
+  private static void postChoice1Choice852(
+      final String urlString, final GenericRequest request, final String text) {
+    // Shen Copperhead, Jerk
+    // Shen Copperhead, Huge Jerk
+    Matcher matcher = SHEN_PATTERN.matcher(text);
+    if (matcher.find()) {
+      Preferences.setString("shenQuestItem", matcher.group(1));
+    }
+    postChoice1Choice854(urlString, request, text);
+  }
 
-      case 890:
-        // Lights Out in the Storage Room
-        if (text.contains("BUT AIN'T NO ONE CAN GET A STAIN OUT LIKE OLD AGNES!")
-            && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Laundry Room");
-        }
-        break;
+  private static void postChoice1Choice854(
+      final String urlString, final GenericRequest request, final String text) {
+    // Shen Copperhead, World's Biggest Jerk
+    QuestDatabase.advanceQuest(Quest.SHEN);
+    if (ChoiceManager.lastChoice == 854) {
+      Preferences.setString("shenQuestItem", "");
+    }
 
-      case 891:
-        // Lights Out in the Laundry Room
-        if (text.contains("DO YOU SEE THE STAIN UPON MY TOWEL?")
-            && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Bathroom");
-        }
-        break;
+    // You will have exactly one of these items to ger rid of
+    ResultProcessor.removeItem(ItemPool.FIRST_PIZZA);
+    ResultProcessor.removeItem(ItemPool.LACROSSE_STICK);
+    ResultProcessor.removeItem(ItemPool.EYE_OF_THE_STARS);
+    ResultProcessor.removeItem(ItemPool.STANKARA_STONE);
+    ResultProcessor.removeItem(ItemPool.MURPHYS_FLAG);
+    ResultProcessor.removeItem(ItemPool.SHIELD_OF_BROOK);
+  }
 
-      case 892:
-        // Lights Out in the Bathroom
-        if (text.contains("THE STAIN HAS BEEN LIFTED")
-            && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Kitchen");
-        }
-        break;
+  private static void postChoice1Choice872(
+      final String urlString, final GenericRequest request, final String text) {
+    // Drawn Onward - Handle quest in Ed
+    if (text.contains("Rot in a jar of dog paws!")) {
+      QuestDatabase.setQuestProgress(Quest.PALINDOME, QuestDatabase.FINISHED);
+      ResultProcessor.removeItem(ItemPool.ED_FATS_STAFF);
+      if (InventoryManager.getCount(ItemPool.ED_EYE) == 0
+          && InventoryManager.getCount(ItemPool.ED_AMULET) == 0) {
+        QuestDatabase.setQuestProgress(Quest.MACGUFFIN, QuestDatabase.FINISHED);
+      }
+    }
+  }
 
-      case 893:
-        // Lights Out in the Kitchen
-        if (text.contains("If You Give a Demon a Brownie")
-            && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Library");
-        }
-        break;
+  private static void postChoice1Choice876(
+      final String urlString, final GenericRequest request, final String text) {
+    // One Simple Nightstand
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("_candyCaneSwordHauntedBedroom", true);
+    }
+  }
 
-      case 894:
-        // Lights Out in the Library
-        if (text.contains("If You Give a Demon a Brownie")
-            && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Ballroom");
-        }
-        break;
+  private static void postChoice1Choice882(
+      final String urlString, final GenericRequest request, final String text) {
+    // Off the Rack
+    if (ChoiceManager.lastDecision == 1
+        && text.contains("You never know when it might come in handy.")) {
+      Preferences.setInteger("lastTowelAscension", KoLCharacter.getAscensions());
+    }
+  }
 
-      case 895:
-        // Lights Out in the Ballroom
-        if (text.contains("The Flowerbed of Unearthly Delights")
-            && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Gallery");
-        }
-        break;
+  private static void postChoice1Choice888(
+      final String urlString, final GenericRequest request, final String text) {
+    // Take a Look, it's in a Book! (Rise)
+    if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("_candyCaneSwordHauntedLibrary", true);
+    }
+  }
 
-      case 896:
-        // Lights Out in the Gallery
+  private static void postChoice1Choice890(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Storage Room
+    if (text.contains("BUT AIN'T NO ONE CAN GET A STAIN OUT LIKE OLD AGNES!")
+        && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Laundry Room");
+    }
+  }
 
-        // The correct option leads to a combat with Elizabeth.
-        // If you win, we will set "nextSpookyravenElizabethRoom" to "none"
-        break;
+  private static void postChoice1Choice891(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Laundry Room
+    if (text.contains("DO YOU SEE THE STAIN UPON MY TOWEL?")
+        && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Bathroom");
+    }
+  }
 
-      case 897:
-        // Lights Out in the Bedroom
-        if (text.contains("restock his medical kit in the nursery")
-            && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Nursery");
-        }
-        break;
+  private static void postChoice1Choice892(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Bathroom
+    if (text.contains("THE STAIN HAS BEEN LIFTED")
+        && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Kitchen");
+    }
+  }
 
-      case 898:
-        // Lights Out in the Nursery
-        if (text.contains("This afternoon we're burying Crumbles")
-            && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Conservatory");
-        }
-        break;
+  private static void postChoice1Choice893(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Kitchen
+    if (text.contains("If You Give a Demon a Brownie")
+        && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Library");
+    }
+  }
 
-      case 899:
-        // Lights Out in the Conservatory
-        if (text.contains("Crumbles isn't buried very deep")
-            && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Billiards Room");
-        }
-        break;
+  private static void postChoice1Choice894(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Library
+    if (text.contains("If You Give a Demon a Brownie")
+        && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Ballroom");
+    }
+  }
 
-      case 900:
-        // Lights Out in the Billiards Room
-        if (text.contains("The wolf head has a particularly nasty expression on its face")
-            && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Wine Cellar");
-        }
-        break;
+  private static void postChoice1Choice895(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Ballroom
+    if (text.contains("The Flowerbed of Unearthly Delights")
+        && !Preferences.getString("nextSpookyravenElizabethRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenElizabethRoom", "The Haunted Gallery");
+    }
+  }
 
-      case 901:
-        // Lights Out in the Wine Cellar
-        if (text.contains("Crumbles II (Wolf)")
-            && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Boiler Room");
-        }
-        break;
+  private static void postChoice1Choice896(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Gallery
 
-      case 902:
-        // Lights Out in the Boiler Room
-        if (text.contains("CRUMBLES II")
-            && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
-          Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Laboratory");
-        }
-        break;
+    // The correct option leads to a combat with Elizabeth.
+    // If you win, we will set "nextSpookyravenElizabethRoom" to "none"
+  }
 
-      case 903:
-        // Lights Out in the Laboratory
+  private static void postChoice1Choice897(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Bedroom
+    if (text.contains("restock his medical kit in the nursery")
+        && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Nursery");
+    }
+  }
 
-        // The correct option leads to a combat with Stephen.
-        // If you win, we will set "nextSpookyravenStephenRoom" to "none"
-        break;
+  private static void postChoice1Choice898(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Nursery
+    if (text.contains("This afternoon we're burying Crumbles")
+        && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Conservatory");
+    }
+  }
 
-      case 915:
-        // Choice 915 is Et Tu, Buff Jimmy?
-        if (text.contains("skinny mushroom girls")) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_MUSHROOM, QuestDatabase.STARTED);
-        } else if (text.contains(
-            "But here's a few Beach Bucks as a token of my changes in gratitude")) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_MUSHROOM, QuestDatabase.FINISHED);
-          ResultProcessor.processItem(ItemPool.PENCIL_THIN_MUSHROOM, -10);
-        } else if (text.contains("not really into moving out of this hammock")) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_CHEESEBURGER, QuestDatabase.STARTED);
-          Preferences.setInteger("buffJimmyIngredients", 0);
-        } else if (text.contains("So I'll just give you some Beach Bucks instead")) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_CHEESEBURGER, QuestDatabase.FINISHED);
-          Preferences.setInteger("buffJimmyIngredients", 0);
-          ResultProcessor.processItem(ItemPool.CHEESEBURGER_RECIPE, -1);
-        } else if (text.contains("sons of sons of sailors are")) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_SALT, QuestDatabase.STARTED);
-        } else if (text.contains("So here's some Beach Bucks instead")) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_SALT, QuestDatabase.FINISHED);
-          ResultProcessor.processItem(ItemPool.SAILOR_SALT, -50);
-        }
-        break;
-      case 916:
-        // Choice 916 is Taco Dan's Taco Stand's Taco Dan
-        if (text.contains("find those receipts")) {
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_AUDIT, QuestDatabase.STARTED);
-        } else if (text.contains("Here's a little Taco Dan's Taco Stand gratitude for ya")) {
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_AUDIT, QuestDatabase.FINISHED);
-          ResultProcessor.processItem(ItemPool.TACO_DAN_RECEIPT, -10);
-        } else if (text.contains("fill it up with as many cocktail drippings")) {
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_COCKTAIL, QuestDatabase.STARTED);
-          Preferences.setInteger("tacoDanCocktailSauce", 0);
-        } else if (text.contains("sample of Taco Dan's Taco Stand's Tacoriffic Cocktail Sauce")) {
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_COCKTAIL, QuestDatabase.FINISHED);
-          Preferences.setInteger("tacoDanCocktailSauce", 0);
-          ResultProcessor.processItem(ItemPool.TACO_DAN_SAUCE_BOTTLE, -1);
-        } else if (text.contains("get enough taco fish")) {
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_FISH, QuestDatabase.STARTED);
-          Preferences.setInteger("tacoDanFishMeat", 0);
-        } else if (text.contains("batch of those Taco Dan's Taco Stand's Taco Fish Tacos")) {
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_FISH, QuestDatabase.FINISHED);
-          Preferences.setInteger("tacoDanFishMeat", 0);
-        }
-        break;
-      case 917:
-        // Choice 917 is Do You Even Brogurt
-        if (text.contains("need about ten shots of it")) {
-          QuestDatabase.setQuestProgress(Quest.BRODEN_BACTERIA, QuestDatabase.STARTED);
-          Preferences.setInteger("brodenBacteria", 0);
-        } else if (text.contains("YOLO cup to spit the bacteria into")) {
-          QuestDatabase.setQuestProgress(Quest.BRODEN_BACTERIA, QuestDatabase.FINISHED);
-          Preferences.setInteger("brodenBacteria", 0);
-        } else if (text.contains("loan you my sprinkle shaker to fill up")) {
-          QuestDatabase.setQuestProgress(Quest.BRODEN_SPRINKLES, QuestDatabase.STARTED);
-          Preferences.setInteger("brodenSprinkles", 0);
-        } else if (text.contains("can sell some <i>deluxe</i> brogurts")) {
-          QuestDatabase.setQuestProgress(Quest.BRODEN_SPRINKLES, QuestDatabase.FINISHED);
-          Preferences.setInteger("brodenSprinkles", 0);
-          ResultProcessor.processItem(ItemPool.SPRINKLE_SHAKER, -1);
-        } else if (text.contains("There were like fifteen of these guys")) {
-          QuestDatabase.setQuestProgress(Quest.BRODEN_DEBT, QuestDatabase.STARTED);
-        } else if (text.contains("And they all had broupons, huh")) {
-          QuestDatabase.setQuestProgress(Quest.BRODEN_DEBT, QuestDatabase.FINISHED);
-          ResultProcessor.processItem(ItemPool.BROUPON, -15);
-        }
-        break;
-      case 918:
-        // Yachtzee!
-        if (ChoiceManager.lastDecision == 3 && text.contains("You open the captain's door")) {
-          int beads = Math.min(InventoryManager.getCount(ItemPool.MOIST_BEADS), 100);
-          ResultProcessor.processResult(ItemPool.get(ItemPool.MOIST_BEADS, -beads));
-        }
-        break;
-      case 919:
-        // Choice 919 is Break Time!
-        if (ChoiceManager.lastDecision == 1) {
-          if (text.contains("You've already thoroughly")) {
-            Preferences.setInteger("_sloppyDinerBeachBucks", 4);
-          } else {
-            Preferences.increment("_sloppyDinerBeachBucks", 1);
-          }
-        }
-        break;
-      case 920:
-        // Choice 920 is Eraser
-        if (ChoiceManager.lastDecision == 1) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_MUSHROOM, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.JIMMY_CHEESEBURGER, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.JIMMY_SALT, QuestDatabase.UNSTARTED);
-        } else if (ChoiceManager.lastDecision == 2) {
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_AUDIT, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_COCKTAIL, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_FISH, QuestDatabase.UNSTARTED);
-        } else if (ChoiceManager.lastDecision == 3) {
-          QuestDatabase.setQuestProgress(Quest.BRODEN_BACTERIA, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.BRODEN_SPRINKLES, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.BRODEN_DEBT, QuestDatabase.UNSTARTED);
-        }
-        if (ChoiceManager.lastDecision != 4) {
-          ResultProcessor.processItem(ItemPool.MIND_DESTROYER, -1);
-        }
-        break;
+  private static void postChoice1Choice899(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Conservatory
+    if (text.contains("Crumbles isn't buried very deep")
+        && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Billiards Room");
+    }
+  }
 
-      case 923:
-        // All Over the Map
-        if (ChoiceManager.lastDecision == 5) {
-          Preferences.setBoolean("candyCaneSwordBlackForest", true);
-        }
-        break;
+  private static void postChoice1Choice900(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Billiards Room
+    if (text.contains("The wolf head has a particularly nasty expression on its face")
+        && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Wine Cellar");
+    }
+  }
 
-      case 930:
-        // Another Errand I Mean Quest
-        if (ChoiceManager.lastDecision == 1) {
-          QuestDatabase.setQuestIfBetter(Quest.CITADEL, QuestDatabase.STARTED);
-        }
-        break;
+  private static void postChoice1Choice901(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Wine Cellar
+    if (text.contains("Crumbles II (Wolf)")
+        && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Boiler Room");
+    }
+  }
 
-      case 932:
-        // No Whammies
-        if (text.contains("steel your nerves for what lies ahead")) {
-          QuestDatabase.setQuestProgress(Quest.CITADEL, "step9");
-        }
-        break;
+  private static void postChoice1Choice902(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Boiler Room
+    if (text.contains("CRUMBLES II")
+        && !Preferences.getString("nextSpookyravenStephenRoom").equals("none")) {
+      Preferences.setString("nextSpookyravenStephenRoom", "The Haunted Laboratory");
+    }
+  }
 
-      case 967:
-        // The Thunder Rolls...
-        if (ChoiceManager.lastDecision != 8) {
-          ResultProcessor.removeItem(ItemPool.THUNDER_THIGH);
-        }
-        break;
+  private static void postChoice1Choice903(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lights Out in the Laboratory
 
-      case 968:
-        // The Rain Falls Down With Your Help...
-        if (ChoiceManager.lastDecision != 8) {
-          ResultProcessor.removeItem(ItemPool.AQUA_BRAIN);
-        }
-        break;
+    // The correct option leads to a combat with Stephen.
+    // If you win, we will set "nextSpookyravenStephenRoom" to "none"
+  }
 
-      case 969:
-        // And The Lightning Strikes...
-        if (ChoiceManager.lastDecision != 8) {
-          ResultProcessor.removeItem(ItemPool.LIGHTNING_MILK);
-        }
-        break;
+  private static void postChoice1Choice915(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 915 is Et Tu, Buff Jimmy?
+    if (text.contains("skinny mushroom girls")) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_MUSHROOM, QuestDatabase.STARTED);
+    } else if (text.contains(
+        "But here's a few Beach Bucks as a token of my changes in gratitude")) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_MUSHROOM, QuestDatabase.FINISHED);
+      ResultProcessor.processItem(ItemPool.PENCIL_THIN_MUSHROOM, -10);
+    } else if (text.contains("not really into moving out of this hammock")) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_CHEESEBURGER, QuestDatabase.STARTED);
+      Preferences.setInteger("buffJimmyIngredients", 0);
+    } else if (text.contains("So I'll just give you some Beach Bucks instead")) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_CHEESEBURGER, QuestDatabase.FINISHED);
+      Preferences.setInteger("buffJimmyIngredients", 0);
+      ResultProcessor.processItem(ItemPool.CHEESEBURGER_RECIPE, -1);
+    } else if (text.contains("sons of sons of sailors are")) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_SALT, QuestDatabase.STARTED);
+    } else if (text.contains("So here's some Beach Bucks instead")) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_SALT, QuestDatabase.FINISHED);
+      ResultProcessor.processItem(ItemPool.SAILOR_SALT, -50);
+    }
+  }
 
-      case 970:
-        // Rainy Fax Dreams on your Wedding Day
-        if (ChoiceManager.lastDecision == 1) {
-          EncounterManager.ignoreSpecialMonsters();
-          KoLAdventure.clearLocation();
-          GenericRequest.itemMonster = "Rain Man";
-        }
-        break;
+  private static void postChoice1Choice916(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 916 is Taco Dan's Taco Stand's Taco Dan
+    if (text.contains("find those receipts")) {
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_AUDIT, QuestDatabase.STARTED);
+    } else if (text.contains("Here's a little Taco Dan's Taco Stand gratitude for ya")) {
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_AUDIT, QuestDatabase.FINISHED);
+      ResultProcessor.processItem(ItemPool.TACO_DAN_RECEIPT, -10);
+    } else if (text.contains("fill it up with as many cocktail drippings")) {
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_COCKTAIL, QuestDatabase.STARTED);
+      Preferences.setInteger("tacoDanCocktailSauce", 0);
+    } else if (text.contains("sample of Taco Dan's Taco Stand's Tacoriffic Cocktail Sauce")) {
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_COCKTAIL, QuestDatabase.FINISHED);
+      Preferences.setInteger("tacoDanCocktailSauce", 0);
+      ResultProcessor.processItem(ItemPool.TACO_DAN_SAUCE_BOTTLE, -1);
+    } else if (text.contains("get enough taco fish")) {
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_FISH, QuestDatabase.STARTED);
+      Preferences.setInteger("tacoDanFishMeat", 0);
+    } else if (text.contains("batch of those Taco Dan's Taco Stand's Taco Fish Tacos")) {
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_FISH, QuestDatabase.FINISHED);
+      Preferences.setInteger("tacoDanFishMeat", 0);
+    }
+  }
 
-      case 984:
-        {
-          // A Radio on a Beach
-          // Clear quests when accepting a new one as you can only have one
-          if (text.contains("your best paramilitary-sounding radio lingo")) {
-            QuestDatabase.setQuestProgress(Quest.JUNGLE_PUN, QuestDatabase.UNSTARTED);
-            QuestDatabase.setQuestProgress(Quest.GORE, QuestDatabase.UNSTARTED);
-            QuestDatabase.setQuestProgress(Quest.CLIPPER, QuestDatabase.UNSTARTED);
-          }
-          // Also clear repeatable quests if there is no quest active at the radio
-          if (text.contains("Maybe try again tomorrow")) {
-            QuestDatabase.setQuestProgress(Quest.JUNGLE_PUN, QuestDatabase.UNSTARTED);
-            QuestDatabase.setQuestProgress(Quest.GORE, QuestDatabase.UNSTARTED);
-            QuestDatabase.setQuestProgress(Quest.CLIPPER, QuestDatabase.UNSTARTED);
-          }
-          // EVE quest started
-          else if (text.contains("navigation protocol")) {
-            QuestDatabase.setQuestProgress(Quest.EVE, QuestDatabase.STARTED);
-            Preferences.setString("EVEDirections", "LLRLR0");
-          }
-          // EVE quest finished
-          else if (text.contains("a tiny parachute")) {
-            QuestDatabase.setQuestProgress(Quest.EVE, QuestDatabase.FINISHED);
-            Preferences.resetToDefault("EVEDirections");
-          }
-          // Jungle Pun quest finished (start handled in ResultProcessor)
-          else if (text.contains(
-              "tape recorder self-destructs with a shower of sparks and a puff of smoke")) {
-            EquipmentManager.discardEquipment(ItemPool.MINI_CASSETTE_RECORDER);
-            ResultProcessor.removeItem(ItemPool.MINI_CASSETTE_RECORDER);
-            QuestDatabase.setQuestProgress(Quest.JUNGLE_PUN, QuestDatabase.UNSTARTED);
-            Preferences.resetToDefault("junglePuns");
-          }
-          // Gore quest finished (start handled in ResultProcessor)
-          else if (text.contains("bucket came from")) {
-            EquipmentManager.discardEquipment(ItemPool.GORE_BUCKET);
-            ResultProcessor.removeItem(ItemPool.GORE_BUCKET);
-            QuestDatabase.setQuestProgress(Quest.GORE, QuestDatabase.UNSTARTED);
-            Preferences.resetToDefault("goreCollected");
-          }
-          // Clipper quest finished (start handled in ResultProcessor)
-          else if (text.contains("return the fingernails and the clippers")) {
-            ResultProcessor.removeItem(ItemPool.FINGERNAIL_CLIPPERS);
-            QuestDatabase.setQuestProgress(Quest.CLIPPER, QuestDatabase.UNSTARTED);
-            Preferences.resetToDefault("fingernailsClipped");
-          }
-          // Fake Medium quest started
-          else if (text.contains("maximal discretion")) {
-            QuestDatabase.setQuestProgress(Quest.FAKE_MEDIUM, QuestDatabase.STARTED);
-          }
-          // Fake Medium quest finished
-          else if (text.contains("toss the device into the ocean")) {
-            ResultProcessor.removeItem(ItemPool.ESP_COLLAR);
-            QuestDatabase.setQuestProgress(Quest.FAKE_MEDIUM, QuestDatabase.FINISHED);
-          }
-          // Serum quest started
-          else if (text.contains("wonder how many vials they want")) {
-            if (InventoryManager.getCount(ItemPool.EXPERIMENTAL_SERUM_P00) >= 5) {
-              QuestDatabase.setQuestProgress(Quest.SERUM, "step1");
-            } else {
-              QuestDatabase.setQuestProgress(Quest.SERUM, QuestDatabase.STARTED);
-            }
-          }
-          // Serum quest finished
-          else if (text.contains("drop the vials into it")) {
-            QuestDatabase.setQuestProgress(Quest.SERUM, QuestDatabase.FINISHED);
-          }
-          // Smokes quest started
-          else if (text.contains("acquire cigarettes")) {
-            QuestDatabase.setQuestProgress(Quest.SMOKES, QuestDatabase.STARTED);
-          }
-          // Smokes quest finished
-          else if (text.contains("cigarettes with a grappling gun")) {
-            QuestDatabase.setQuestProgress(Quest.SMOKES, QuestDatabase.FINISHED);
-          }
-          // Out of Order quest finished
-          else if (text.contains("takes your nifty new watch")) {
-            EquipmentManager.discardEquipment(ItemPool.GPS_WATCH);
-            ResultProcessor.removeItem(ItemPool.GPS_WATCH);
-            ResultProcessor.removeItem(ItemPool.PROJECT_TLB);
-            QuestDatabase.setQuestProgress(Quest.OUT_OF_ORDER, QuestDatabase.FINISHED);
-          }
-          // Can't parse quest due to static so visit quest log
-          else {
-            RequestThread.postRequest(new QuestLogRequest());
-          }
-          break;
-        }
+  private static void postChoice1Choice917(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 917 is Do You Even Brogurt
+    if (text.contains("need about ten shots of it")) {
+      QuestDatabase.setQuestProgress(Quest.BRODEN_BACTERIA, QuestDatabase.STARTED);
+      Preferences.setInteger("brodenBacteria", 0);
+    } else if (text.contains("YOLO cup to spit the bacteria into")) {
+      QuestDatabase.setQuestProgress(Quest.BRODEN_BACTERIA, QuestDatabase.FINISHED);
+      Preferences.setInteger("brodenBacteria", 0);
+    } else if (text.contains("loan you my sprinkle shaker to fill up")) {
+      QuestDatabase.setQuestProgress(Quest.BRODEN_SPRINKLES, QuestDatabase.STARTED);
+      Preferences.setInteger("brodenSprinkles", 0);
+    } else if (text.contains("can sell some <i>deluxe</i> brogurts")) {
+      QuestDatabase.setQuestProgress(Quest.BRODEN_SPRINKLES, QuestDatabase.FINISHED);
+      Preferences.setInteger("brodenSprinkles", 0);
+      ResultProcessor.processItem(ItemPool.SPRINKLE_SHAKER, -1);
+    } else if (text.contains("There were like fifteen of these guys")) {
+      QuestDatabase.setQuestProgress(Quest.BRODEN_DEBT, QuestDatabase.STARTED);
+    } else if (text.contains("And they all had broupons, huh")) {
+      QuestDatabase.setQuestProgress(Quest.BRODEN_DEBT, QuestDatabase.FINISHED);
+      ResultProcessor.processItem(ItemPool.BROUPON, -15);
+    }
+  }
 
-      case 986:
-        // Control Panel
-        if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 9) {
-          Preferences.setBoolean("_controlPanelUsed", true);
-          if (!text.contains("minimum of 24 hours")) {
-            Preferences.increment("controlPanelOmega", 11, 100, false);
-          }
-        }
-        break;
-      case 987:
-        // The Post-Apocalyptic Survivor Encampment
-        if (!text.contains("accept your donation")) {
-          break;
-        }
-        int qty = -1;
-        if (urlString.contains("giveten")) {
-          qty = -10;
-        }
-        // Declare the pattern here instead of globally because this is available infrequently
-        Pattern encampmentPattern = Pattern.compile("whichfood=(\\d+)");
-        Matcher encampmentMatcher = encampmentPattern.matcher(urlString);
-        if (encampmentMatcher.find()) {
-          int encampmentId = StringUtilities.parseInt(encampmentMatcher.group(1));
-          ResultProcessor.processItem(encampmentId, qty);
-        }
-        break;
+  private static void postChoice1Choice918(
+      final String urlString, final GenericRequest request, final String text) {
+    // Yachtzee!
+    if (ChoiceManager.lastDecision == 3 && text.contains("You open the captain's door")) {
+      int beads = Math.min(InventoryManager.getCount(ItemPool.MOIST_BEADS), 100);
+      ResultProcessor.processResult(ItemPool.get(ItemPool.MOIST_BEADS, -beads));
+    }
+  }
 
-      case 988:
-        // The Containment Unit
-        String containment = Preferences.getString("EVEDirections");
-        if (containment.length() != 6) {
-          break;
-        }
-        if (text.contains("another pair of doors")) {
-          int progress = StringUtilities.parseInt(containment.substring(5, 6));
-          if (progress < 0 && progress > 4) {
-            break;
-          }
-          progress++;
-          Preferences.setString("EVEDirections", containment.substring(0, 5) + progress);
-        } else {
-          Preferences.setString("EVEDirections", containment.substring(0, 5) + "0");
-        }
-        break;
-
-      case 991:
-        // Build a Crimbot!
-        if (ChoiceManager.lastDecision == 1) {
-          ResultProcessor.removeItem(ItemPool.CRIMBONIUM_FUEL_ROD);
-        }
-        break;
+  private static void postChoice1Choice919(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 919 is Break Time!
+    if (ChoiceManager.lastDecision == 1) {
+      if (text.contains("You've already thoroughly")) {
+        Preferences.setInteger("_sloppyDinerBeachBucks", 4);
+      } else {
+        Preferences.increment("_sloppyDinerBeachBucks", 1);
+      }
+    }
+  }
 
-      case 993:
-        // Tales of Spelunking
-        if (ChoiceManager.lastDecision == 1) {
-          KoLCharacter.enterLimitmode(LimitMode.SPELUNKY);
-        }
-        break;
+  private static void postChoice1Choice920(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 920 is Eraser
+    if (ChoiceManager.lastDecision == 1) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_MUSHROOM, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.JIMMY_CHEESEBURGER, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.JIMMY_SALT, QuestDatabase.UNSTARTED);
+    } else if (ChoiceManager.lastDecision == 2) {
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_AUDIT, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_COCKTAIL, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_FISH, QuestDatabase.UNSTARTED);
+    } else if (ChoiceManager.lastDecision == 3) {
+      QuestDatabase.setQuestProgress(Quest.BRODEN_BACTERIA, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.BRODEN_SPRINKLES, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.BRODEN_DEBT, QuestDatabase.UNSTARTED);
+    }
+    if (ChoiceManager.lastDecision != 4) {
+      ResultProcessor.processItem(ItemPool.MIND_DESTROYER, -1);
+    }
+  }
 
-      case 994:
-        // Hide a gift!
-        if (text.contains("You hide")) {
-          HashMap<Integer, Integer> idMap = new HashMap<>(3);
-          HashMap<Integer, Integer> qtyMap = new HashMap<>(3);
-          int index;
-          int id;
-          int giftQty;
-
-          Matcher idMatcher = ITEMID_PATTERN.matcher(urlString);
-          while (idMatcher.find()) {
-            index = StringUtilities.parseInt(idMatcher.group(1));
-            if (index < 1) continue;
-            id = StringUtilities.parseInt(idMatcher.group(2));
-            if (id < 1) continue;
-            idMap.put(index, id);
-          }
+  private static void postChoice1Choice923(
+      final String urlString, final GenericRequest request, final String text) {
+    // All Over the Map
+    if (ChoiceManager.lastDecision == 5) {
+      Preferences.setBoolean("candyCaneSwordBlackForest", true);
+    }
+  }
 
-          Matcher qtyMatcher = QTY_PATTERN.matcher(urlString);
-          while (qtyMatcher.find()) {
-            index = StringUtilities.parseInt(qtyMatcher.group(1));
-            if (index < 1) continue;
-            giftQty = StringUtilities.parseInt(qtyMatcher.group(2));
-            if (giftQty < 1) continue;
-            qtyMap.put(index, giftQty);
-          }
+  private static void postChoice1Choice930(
+      final String urlString, final GenericRequest request, final String text) {
+    // Another Errand I Mean Quest
+    if (ChoiceManager.lastDecision == 1) {
+      QuestDatabase.setQuestIfBetter(Quest.CITADEL, QuestDatabase.STARTED);
+    }
+  }
 
-          for (int i = 1; i <= 3; i++) {
-            Integer itemId = idMap.get(i);
-            Integer giftQuantity = qtyMap.get(i);
-            if (itemId == null || giftQuantity == null) continue;
-            ResultProcessor.processResult(ItemPool.get(itemId, -giftQuantity));
-          }
-          ResultProcessor.removeItem(ItemPool.SNEAKY_WRAPPING_PAPER);
-        }
-        break;
+  private static void postChoice1Choice932(
+      final String urlString, final GenericRequest request, final String text) {
+    // No Whammies
+    if (text.contains("steel your nerves for what lies ahead")) {
+      QuestDatabase.setQuestProgress(Quest.CITADEL, "step9");
+    }
+  }
 
-      case 998:
-        if (text.contains("confiscate your deuces")) {
-          int removeDeuces = ChoiceManager.lastDecision - 1;
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SLEEVE_DEUCE, removeDeuces));
-          break;
-        }
-        if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.removeItem(ItemPool.POCKET_ACE);
-        }
-        break;
+  private static void postChoice1Choice967(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Thunder Rolls...
+    if (ChoiceManager.lastDecision != 8) {
+      ResultProcessor.removeItem(ItemPool.THUNDER_THIGH);
+    }
+  }
 
-      case 999:
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("_shrubDecorated", true);
-          Pattern topperPattern = Pattern.compile("topper=(\\d)");
-          Pattern lightsPattern = Pattern.compile("lights=(\\d)");
-          Pattern garlandPattern = Pattern.compile("garland=(\\d)");
-          Pattern giftPattern = Pattern.compile("gift=(\\d)");
-          int decoration;
-
-          Matcher matcher = topperPattern.matcher(urlString);
-          if (matcher.find()) {
-            decoration = StringUtilities.parseInt(matcher.group(1));
-            switch (decoration) {
-              case 1 -> Preferences.setString("shrubTopper", "Muscle");
-              case 2 -> Preferences.setString("shrubTopper", "Mysticality");
-              case 3 -> Preferences.setString("shrubTopper", "Moxie");
-            }
-          }
+  private static void postChoice1Choice968(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Rain Falls Down With Your Help...
+    if (ChoiceManager.lastDecision != 8) {
+      ResultProcessor.removeItem(ItemPool.AQUA_BRAIN);
+    }
+  }
 
-          matcher = lightsPattern.matcher(urlString);
-          if (matcher.find()) {
-            decoration = StringUtilities.parseInt(matcher.group(1));
-            switch (decoration) {
-              case 1 -> Preferences.setString("shrubLights", "prismatic");
-              case 2 -> Preferences.setString("shrubLights", "Hot");
-              case 3 -> Preferences.setString("shrubLights", "Cold");
-              case 4 -> Preferences.setString("shrubLights", "Stench");
-              case 5 -> Preferences.setString("shrubLights", "Spooky");
-              case 6 -> Preferences.setString("shrubLights", "Sleaze");
-            }
-          }
+  private static void postChoice1Choice969(
+      final String urlString, final GenericRequest request, final String text) {
+    // And The Lightning Strikes...
+    if (ChoiceManager.lastDecision != 8) {
+      ResultProcessor.removeItem(ItemPool.LIGHTNING_MILK);
+    }
+  }
 
-          matcher = garlandPattern.matcher(urlString);
-          if (matcher.find()) {
-            decoration = StringUtilities.parseInt(matcher.group(1));
-            switch (decoration) {
-              case 1 -> Preferences.setString("shrubGarland", "HP");
-              case 2 -> Preferences.setString("shrubGarland", "PvP");
-              case 3 -> Preferences.setString("shrubGarland", "blocking");
-            }
-          }
+  private static void postChoice1Choice970(
+      final String urlString, final GenericRequest request, final String text) {
+    // Rainy Fax Dreams on your Wedding Day
+    if (ChoiceManager.lastDecision == 1) {
+      EncounterManager.ignoreSpecialMonsters();
+      KoLAdventure.clearLocation();
+      GenericRequest.itemMonster = "Rain Man";
+    }
+  }
 
-          matcher = giftPattern.matcher(urlString);
-          if (matcher.find()) {
-            decoration = StringUtilities.parseInt(matcher.group(1));
-            switch (decoration) {
-              case 1 -> Preferences.setString("shrubGifts", "yellow");
-              case 2 -> Preferences.setString("shrubGifts", "meat");
-              case 3 -> Preferences.setString("shrubGifts", "gifts");
-            }
-          }
-        }
-        break;
+  private static void postChoice1Choice984(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Radio on a Beach
+    // Clear quests when accepting a new one as you can only have one
+    if (text.contains("your best paramilitary-sounding radio lingo")) {
+      QuestDatabase.setQuestProgress(Quest.JUNGLE_PUN, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.GORE, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.CLIPPER, QuestDatabase.UNSTARTED);
+    }
+    // Also clear repeatable quests if there is no quest active at the radio
+    if (text.contains("Maybe try again tomorrow")) {
+      QuestDatabase.setQuestProgress(Quest.JUNGLE_PUN, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.GORE, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.CLIPPER, QuestDatabase.UNSTARTED);
+    }
+    // EVE quest started
+    else if (text.contains("navigation protocol")) {
+      QuestDatabase.setQuestProgress(Quest.EVE, QuestDatabase.STARTED);
+      Preferences.setString("EVEDirections", "LLRLR0");
+    }
+    // EVE quest finished
+    else if (text.contains("a tiny parachute")) {
+      QuestDatabase.setQuestProgress(Quest.EVE, QuestDatabase.FINISHED);
+      Preferences.resetToDefault("EVEDirections");
+    }
+    // Jungle Pun quest finished (start handled in ResultProcessor)
+    else if (text.contains(
+        "tape recorder self-destructs with a shower of sparks and a puff of smoke")) {
+      EquipmentManager.discardEquipment(ItemPool.MINI_CASSETTE_RECORDER);
+      ResultProcessor.removeItem(ItemPool.MINI_CASSETTE_RECORDER);
+      QuestDatabase.setQuestProgress(Quest.JUNGLE_PUN, QuestDatabase.UNSTARTED);
+      Preferences.resetToDefault("junglePuns");
+    }
+    // Gore quest finished (start handled in ResultProcessor)
+    else if (text.contains("bucket came from")) {
+      EquipmentManager.discardEquipment(ItemPool.GORE_BUCKET);
+      ResultProcessor.removeItem(ItemPool.GORE_BUCKET);
+      QuestDatabase.setQuestProgress(Quest.GORE, QuestDatabase.UNSTARTED);
+      Preferences.resetToDefault("goreCollected");
+    }
+    // Clipper quest finished (start handled in ResultProcessor)
+    else if (text.contains("return the fingernails and the clippers")) {
+      ResultProcessor.removeItem(ItemPool.FINGERNAIL_CLIPPERS);
+      QuestDatabase.setQuestProgress(Quest.CLIPPER, QuestDatabase.UNSTARTED);
+      Preferences.resetToDefault("fingernailsClipped");
+    }
+    // Fake Medium quest started
+    else if (text.contains("maximal discretion")) {
+      QuestDatabase.setQuestProgress(Quest.FAKE_MEDIUM, QuestDatabase.STARTED);
+    }
+    // Fake Medium quest finished
+    else if (text.contains("toss the device into the ocean")) {
+      ResultProcessor.removeItem(ItemPool.ESP_COLLAR);
+      QuestDatabase.setQuestProgress(Quest.FAKE_MEDIUM, QuestDatabase.FINISHED);
+    }
+    // Serum quest started
+    else if (text.contains("wonder how many vials they want")) {
+      if (InventoryManager.getCount(ItemPool.EXPERIMENTAL_SERUM_P00) >= 5) {
+        QuestDatabase.setQuestProgress(Quest.SERUM, "step1");
+      } else {
+        QuestDatabase.setQuestProgress(Quest.SERUM, QuestDatabase.STARTED);
+      }
+    }
+    // Serum quest finished
+    else if (text.contains("drop the vials into it")) {
+      QuestDatabase.setQuestProgress(Quest.SERUM, QuestDatabase.FINISHED);
+    }
+    // Smokes quest started
+    else if (text.contains("acquire cigarettes")) {
+      QuestDatabase.setQuestProgress(Quest.SMOKES, QuestDatabase.STARTED);
+    }
+    // Smokes quest finished
+    else if (text.contains("cigarettes with a grappling gun")) {
+      QuestDatabase.setQuestProgress(Quest.SMOKES, QuestDatabase.FINISHED);
+    }
+    // Out of Order quest finished
+    else if (text.contains("takes your nifty new watch")) {
+      EquipmentManager.discardEquipment(ItemPool.GPS_WATCH);
+      ResultProcessor.removeItem(ItemPool.GPS_WATCH);
+      ResultProcessor.removeItem(ItemPool.PROJECT_TLB);
+      QuestDatabase.setQuestProgress(Quest.OUT_OF_ORDER, QuestDatabase.FINISHED);
+    }
+    // Can't parse quest due to static so visit quest log
+    else {
+      RequestThread.postRequest(new QuestLogRequest());
+    }
+  }
 
-      case 1002:
-        // Temple of the Legend in the Hidden City - Handle quest in Ed
-        if (text.contains("The spectre nods emphatically")) {
-          QuestDatabase.setQuestProgress(Quest.WORSHIP, QuestDatabase.FINISHED);
-          ResultProcessor.removeItem(ItemPool.ED_AMULET);
-          if (InventoryManager.getCount(ItemPool.ED_EYE) == 0
-              && InventoryManager.getCount(ItemPool.ED_FATS_STAFF) == 0) {
-            QuestDatabase.setQuestProgress(Quest.MACGUFFIN, QuestDatabase.FINISHED);
-          }
-        }
-        break;
+  private static void postChoice1Choice986(
+      final String urlString, final GenericRequest request, final String text) {
+    // Control Panel
+    if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 9) {
+      Preferences.setBoolean("_controlPanelUsed", true);
+      if (!text.contains("minimum of 24 hours")) {
+        Preferences.increment("controlPanelOmega", 11, 100, false);
+      }
+    }
+  }
 
-      case 1003:
-        // Test Your Might And Also Test Other Things
-        SorceressLairManager.parseContestBooth(ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice1Choice987(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Post-Apocalyptic Survivor Encampment
+    if (!text.contains("accept your donation")) {
+      return;
+    }
+    int qty = -1;
+    if (urlString.contains("giveten")) {
+      qty = -10;
+    }
+    // Declare the pattern here instead of globally because this is available infrequently
+    Pattern encampmentPattern = Pattern.compile("whichfood=(\\d+)");
+    Matcher encampmentMatcher = encampmentPattern.matcher(urlString);
+    if (encampmentMatcher.find()) {
+      int encampmentId = StringUtilities.parseInt(encampmentMatcher.group(1));
+      ResultProcessor.processItem(encampmentId, qty);
+    }
+  }
 
-      case 1005: // 'Allo
-      case 1008: // Pooling Your Resources
-      case 1011: // Of Mouseholes and Manholes
-        SorceressLairManager.parseMazeTrap(ChoiceManager.lastChoice, text);
-        break;
+  private static void postChoice1Choice988(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Containment Unit
+    String containment = Preferences.getString("EVEDirections");
+    if (containment.length() != 6) {
+      return;
+    }
+    if (text.contains("another pair of doors")) {
+      int progress = StringUtilities.parseInt(containment.substring(5, 6));
+      if (progress < 0 && progress > 4) {
+        return;
+      }
+      progress++;
+      Preferences.setString("EVEDirections", containment.substring(0, 5) + progress);
+    } else {
+      Preferences.setString("EVEDirections", containment.substring(0, 5) + "0");
+    }
+  }
 
-      case 1013: // Mazel Tov!
-        // Then you both giggle and head through the exit at the same time.
-        QuestDatabase.setQuestProgress(Quest.FINAL, "step5");
-        break;
+  private static void postChoice1Choice991(
+      final String urlString, final GenericRequest request, final String text) {
+    // Build a Crimbot!
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.CRIMBONIUM_FUEL_ROD);
+    }
+  }
 
-      case 1015: // The Mirror in the Tower has the View that is True
-        QuestDatabase.setQuestProgress(Quest.FINAL, "step10");
-        break;
+  private static void postChoice1Choice993(
+      final String urlString, final GenericRequest request, final String text) {
+    // Tales of Spelunking
+    if (ChoiceManager.lastDecision == 1) {
+      KoLCharacter.enterLimitmode(LimitMode.SPELUNKY);
+    }
+  }
 
-      case 1022: // Meet Frank
-        // Frank bobs his head toward the hedge maze in front of you.
-        QuestDatabase.setQuestProgress(Quest.FINAL, "step4");
-        break;
+  private static void postChoice1Choice994(
+      final String urlString, final GenericRequest request, final String text) {
+    // Hide a gift!
+    if (text.contains("You hide")) {
+      HashMap<Integer, Integer> idMap = new HashMap<>(3);
+      HashMap<Integer, Integer> qtyMap = new HashMap<>(3);
+      int index;
+      int id;
+      int giftQty;
+
+      Matcher idMatcher = ITEMID_PATTERN.matcher(urlString);
+      while (idMatcher.find()) {
+        index = StringUtilities.parseInt(idMatcher.group(1));
+        if (index < 1) continue;
+        id = StringUtilities.parseInt(idMatcher.group(2));
+        if (id < 1) continue;
+        idMap.put(index, id);
+      }
+
+      Matcher qtyMatcher = QTY_PATTERN.matcher(urlString);
+      while (qtyMatcher.find()) {
+        index = StringUtilities.parseInt(qtyMatcher.group(1));
+        if (index < 1) continue;
+        giftQty = StringUtilities.parseInt(qtyMatcher.group(2));
+        if (giftQty < 1) continue;
+        qtyMap.put(index, giftQty);
+      }
+
+      for (int i = 1; i <= 3; i++) {
+        Integer itemId = idMap.get(i);
+        Integer giftQuantity = qtyMap.get(i);
+        if (itemId == null || giftQuantity == null) continue;
+        ResultProcessor.processResult(ItemPool.get(itemId, -giftQuantity));
+      }
+      ResultProcessor.removeItem(ItemPool.SNEAKY_WRAPPING_PAPER);
+    }
+  }
 
-      case 1023: // Like a Bat Into Hell
-        if (ChoiceManager.lastDecision == 1) {
-          KoLCharacter.setLimitMode(LimitMode.ED);
-        }
-        break;
+  private static void postChoice1Choice998(
+      final String urlString, final GenericRequest request, final String text) {
+    if (text.contains("confiscate your deuces")) {
+      int removeDeuces = ChoiceManager.lastDecision - 1;
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SLEEVE_DEUCE, removeDeuces));
+      return;
+    }
+    if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.removeItem(ItemPool.POCKET_ACE);
+    }
+  }
 
-      case 1027: // The End of the Tale of Spelunking
-        if (ChoiceManager.lastDecision == 1) {
-          // Remove all virtual items from inventory/tally
-          SpelunkyRequest.resetItems();
+  private static void postChoice1Choice999(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("_shrubDecorated", true);
+      Pattern topperPattern = Pattern.compile("topper=(\\d)");
+      Pattern lightsPattern = Pattern.compile("lights=(\\d)");
+      Pattern garlandPattern = Pattern.compile("garland=(\\d)");
+      Pattern giftPattern = Pattern.compile("gift=(\\d)");
+      int decoration;
+
+      Matcher matcher = topperPattern.matcher(urlString);
+      if (matcher.find()) {
+        decoration = StringUtilities.parseInt(matcher.group(1));
+        switch (decoration) {
+          case 1 -> Preferences.setString("shrubTopper", "Muscle");
+          case 2 -> Preferences.setString("shrubTopper", "Mysticality");
+          case 3 -> Preferences.setString("shrubTopper", "Moxie");
         }
-        break;
-
-      case 1028: // A Shop
-      case 1029: // An Old Clay Pot
-      case 1030: // It's a Trap!  A Dart Trap.
-      case 1031: // A Tombstone
-      case 1032: // It's a Trap!  A Tiki Trap.
-      case 1033: // A Big Block of Ice
-      case 1034: // A Landmine
-      case 1035: // A Crate
-      case 1036: // Idolatry
-      case 1037: // It's a Trap!  A Smashy Trap.
-      case 1038: // A Wicked Web
-      case 1039: // A Golden Chest
-      case 1040: // It's Lump. It's Lump.
-      case 1041: // Spelunkrifice
-      case 1045: // Hostile Work Environment
-        SpelunkyRequest.parseChoice(ChoiceManager.lastChoice, text, ChoiceManager.lastDecision);
-        break;
-
-      case 1042: // Pick a Perk
-        SpelunkyRequest.upgrade(ChoiceManager.lastDecision);
-        break;
+      }
 
-      case 1044:
-        // The Gates of Hell
-        if (text.contains("unlock the padlock")) {
-          SpelunkyRequest.unlock("Hell", "Hell");
+      matcher = lightsPattern.matcher(urlString);
+      if (matcher.find()) {
+        decoration = StringUtilities.parseInt(matcher.group(1));
+        switch (decoration) {
+          case 1 -> Preferences.setString("shrubLights", "prismatic");
+          case 2 -> Preferences.setString("shrubLights", "Hot");
+          case 3 -> Preferences.setString("shrubLights", "Cold");
+          case 4 -> Preferences.setString("shrubLights", "Stench");
+          case 5 -> Preferences.setString("shrubLights", "Spooky");
+          case 6 -> Preferences.setString("shrubLights", "Sleaze");
         }
-        break;
+      }
 
-      case 1049:
-        // Tomb of the Unknown Your Class Here
-        if (text.contains("Also in this room is a ghost")) {
-          QuestDatabase.setQuestProgress(Quest.NEMESIS, "step1");
-        } else if (text.contains("You acquire")) {
-          AscensionClass ascensionClass = KoLCharacter.getAscensionClass();
-          int starterWeaponId = ascensionClass == null ? -1 : ascensionClass.getStarterWeapon();
-          ResultProcessor.processItem(starterWeaponId, -1);
-          QuestDatabase.setQuestProgress(Quest.NEMESIS, "step4");
+      matcher = garlandPattern.matcher(urlString);
+      if (matcher.find()) {
+        decoration = StringUtilities.parseInt(matcher.group(1));
+        switch (decoration) {
+          case 1 -> Preferences.setString("shrubGarland", "HP");
+          case 2 -> Preferences.setString("shrubGarland", "PvP");
+          case 3 -> Preferences.setString("shrubGarland", "blocking");
         }
-        break;
+      }
 
-      case 1052:
-        // Underworld Body Shop
-        Matcher skillidMatcher = URL_SKILLID_PATTERN.matcher(urlString);
-        if (skillidMatcher.find()) {
-          int cost =
-              switch (StringUtilities.parseInt(skillidMatcher.group(1))) {
-                case 30 -> 5;
-                case 31, 36, 39, 40, 43, 44 -> 10;
-                case 32 -> 15;
-                case 33, 37, 38, 41, 42, 45, 48 -> 20;
-                case 34 -> 25;
-                case 28, 29, 35, 46 -> 30;
-                default -> 0;
-              };
-          ResultProcessor.processResult(ItemPool.get(ItemPool.KA_COIN, -cost));
+      matcher = giftPattern.matcher(urlString);
+      if (matcher.find()) {
+        decoration = StringUtilities.parseInt(matcher.group(1));
+        switch (decoration) {
+          case 1 -> Preferences.setString("shrubGifts", "yellow");
+          case 2 -> Preferences.setString("shrubGifts", "meat");
+          case 3 -> Preferences.setString("shrubGifts", "gifts");
         }
-        break;
+      }
+    }
+  }
 
-      case 1053: // The Servants' Quarters
-        EdServantData.manipulateServants(request, text);
-        break;
+  private static void postChoice1Choice1002(
+      final String urlString, final GenericRequest request, final String text) {
+    // Temple of the Legend in the Hidden City - Handle quest in Ed
+    if (text.contains("The spectre nods emphatically")) {
+      QuestDatabase.setQuestProgress(Quest.WORSHIP, QuestDatabase.FINISHED);
+      ResultProcessor.removeItem(ItemPool.ED_AMULET);
+      if (InventoryManager.getCount(ItemPool.ED_EYE) == 0
+          && InventoryManager.getCount(ItemPool.ED_FATS_STAFF) == 0) {
+        QuestDatabase.setQuestProgress(Quest.MACGUFFIN, QuestDatabase.FINISHED);
+      }
+    }
+  }
 
-      case 1056:
-        // Now It's Dark
-        // Twin Peak fourth choice
-        if (text.contains("When the lights come back")) {
-          // the other three must be completed at this point.
-          Preferences.setInteger("twinPeakProgress", 15);
-        }
-        break;
+  private static void postChoice1Choice1003(
+      final String urlString, final GenericRequest request, final String text) {
+    // Test Your Might And Also Test Other Things
+    SorceressLairManager.parseContestBooth(ChoiceManager.lastDecision, text);
+  }
 
-      case 1057:
-        // A Stone Shrine
-        if (text.contains("shatter the")) {
-          KoLCharacter.setHippyStoneBroken(true);
-        }
-        break;
+  // 'Allo
+  // Pooling Your Resources
+  // Of Mouseholes and Manholes
+  private static void postChoice1Choice1005(
+      final String urlString, final GenericRequest request, final String text) {
+    SorceressLairManager.parseMazeTrap(ChoiceManager.lastChoice, text);
+  }
 
-      case 1059:
-        // Helping Make Ends Meat
-        if (text.contains("excitedly takes the check")) {
-          QuestDatabase.setQuestProgress(Quest.MEATSMITH, QuestDatabase.FINISHED);
-          ResultProcessor.removeItem(ItemPool.MEATSMITH_CHECK);
-        } else if (text.contains("skeleton store is right next door")
-            || text.contains("I'll be here")) {
-          QuestDatabase.setQuestProgress(Quest.MEATSMITH, QuestDatabase.STARTED);
-          Preferences.setBoolean("skeletonStoreAvailable", true);
-        }
-        break;
+  // Mazel Tov!
+  private static void postChoice1Choice1013(
+      final String urlString, final GenericRequest request, final String text) {
+    // Then you both giggle and head through the exit at the same time.
+    QuestDatabase.setQuestProgress(Quest.FINAL, "step5");
+  }
 
-      case 1060:
-        // Temporarily Out of Skeletons
-        if (text.contains("it snaps off")) {
-          ResultProcessor.removeItem(ItemPool.SKELETON_KEY);
-        }
-        break;
+  // The Mirror in the Tower has the View that is True
+  private static void postChoice1Choice1015(
+      final String urlString, final GenericRequest request, final String text) {
+    QuestDatabase.setQuestProgress(Quest.FINAL, "step10");
+  }
 
-      case 1061:
-        // Heart of Madness
-        if (ChoiceManager.lastDecision == 1) {
-          QuestDatabase.setQuestIfBetter(Quest.ARMORER, "step1");
-        }
-        if (text.contains("place the popular part")) {
-          ResultProcessor.removeItem(ItemPool.POPULAR_PART);
-          Preferences.setBoolean("popularTartUnlocked", true);
-        }
-        break;
+  // Meet Frank
+  private static void postChoice1Choice1022(
+      final String urlString, final GenericRequest request, final String text) {
+    // Frank bobs his head toward the hedge maze in front of you.
+    QuestDatabase.setQuestProgress(Quest.FINAL, "step4");
+  }
 
-      case 1062:
-        // Lots of Options
-        if (ChoiceManager.lastDecision == 6) {
-          Preferences.setBoolean("_candyCaneSwordOvergrownLot", true);
-        }
-        break;
+  // Like a Bat Into Hell
+  private static void postChoice1Choice1023(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1) {
+      KoLCharacter.setLimitMode(LimitMode.ED);
+    }
+  }
 
-      case 1064:
-        // The Doctor is Out.  Of Herbs.
-        if (ChoiceManager.lastDecision == 1) {
-          QuestDatabase.setQuestProgress(Quest.DOC, QuestDatabase.STARTED);
-          Preferences.setBoolean("overgrownLotAvailable", true);
-        } else if (ChoiceManager.lastDecision == 2) {
-          QuestDatabase.setQuestProgress(Quest.DOC, QuestDatabase.FINISHED);
-          ResultProcessor.processResult(ItemPool.get(ItemPool.FRAUDWORT, -3));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SHYSTERWEED, -3));
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SWINDLEBLOSSOM, -3));
-          HPRestoreItemList.updateHealthRestored();
-          MPRestoreItemList.updateManaRestored();
-        }
-        break;
+  // The End of the Tale of Spelunking
+  private static void postChoice1Choice1027(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1) {
+      // Remove all virtual items from inventory/tally
+      SpelunkyRequest.resetItems();
+    }
+  }
 
-      case 1065:
-        // Lending a Hand (and a Foot)
-        if (ChoiceManager.lastDecision == 1) {
-          QuestDatabase.setQuestProgress(Quest.ARMORER, QuestDatabase.STARTED);
-          Preferences.setBoolean("madnessBakeryAvailable", true);
-        } else if (ChoiceManager.lastDecision == 3) {
-          QuestDatabase.setQuestIfBetter(Quest.ARMORER, QuestDatabase.STARTED);
-        }
-        break;
+  // A Shop
+  // An Old Clay Pot
+  // It's a Trap!  A Dart Trap.
+  // A Tombstone
+  // It's a Trap!  A Tiki Trap.
+  // A Big Block of Ice
+  // A Landmine
+  // A Crate
+  // Idolatry
+  // It's a Trap!  A Smashy Trap.
+  // A Wicked Web
+  // A Golden Chest
+  // It's Lump. It's Lump.
+  // Spelunkrifice
+  // Hostile Work Environment
+  private static void postChoice1Choice1028(
+      final String urlString, final GenericRequest request, final String text) {
+    SpelunkyRequest.parseChoice(ChoiceManager.lastChoice, text, ChoiceManager.lastDecision);
+  }
 
-      case 1066:
-        // Employee Assignment Kiosk
-        if (text.contains("Performance Review:  Sufficient")) {
-          EquipmentManager.discardEquipment(ItemPool.TRASH_NET);
-          ResultProcessor.removeItem(ItemPool.TRASH_NET);
-          Preferences.setInteger("dinseyFilthLevel", 0);
-          QuestDatabase.setQuestProgress(Quest.FISH_TRASH, QuestDatabase.UNSTARTED);
-        } else if (text.contains("Performance Review:  Unobjectionable")) {
-          ResultProcessor.processItem(ItemPool.TOXIC_GLOBULE, -20);
-          QuestDatabase.setQuestProgress(Quest.GIVE_ME_FUEL, QuestDatabase.UNSTARTED);
-        } else if (text.contains("Performance Review:  Bearable")) {
-          Preferences.setInteger("dinseyNastyBearsDefeated", 0);
-          QuestDatabase.setQuestProgress(Quest.NASTY_BEARS, QuestDatabase.UNSTARTED);
-        } else if (text.contains("Performance Review:  Acceptable")) {
-          Preferences.setInteger("dinseySocialJusticeIProgress", 0);
-          QuestDatabase.setQuestProgress(Quest.SOCIAL_JUSTICE_I, QuestDatabase.UNSTARTED);
-        } else if (text.contains("Performance Review:  Fair")) {
-          Preferences.setInteger("dinseySocialJusticeIIProgress", 0);
-          QuestDatabase.setQuestProgress(Quest.SOCIAL_JUSTICE_II, QuestDatabase.UNSTARTED);
-        } else if (text.contains("Performance Review:  Average")) {
-          EquipmentManager.discardEquipment(ItemPool.LUBE_SHOES);
-          ResultProcessor.removeItem(ItemPool.LUBE_SHOES);
-          QuestDatabase.setQuestProgress(Quest.SUPER_LUBER, QuestDatabase.UNSTARTED);
-        } else if (text.contains("Performance Review:  Adequate")) {
-          Preferences.setInteger("dinseyTouristsFed", 0);
-          ResultProcessor.removeItem(ItemPool.DINSEY_REFRESHMENTS);
-          QuestDatabase.setQuestProgress(Quest.WORK_WITH_FOOD, QuestDatabase.UNSTARTED);
-        } else if (text.contains("Performance Review:  Tolerable")) {
-          EquipmentManager.discardEquipment(ItemPool.MASCOT_MASK);
-          ResultProcessor.removeItem(ItemPool.MASCOT_MASK);
-          Preferences.setInteger("dinseyFunProgress", 0);
-          QuestDatabase.setQuestProgress(Quest.ZIPPITY_DOO_DAH, QuestDatabase.UNSTARTED);
-        } else if (text.contains("weren't kidding about the power")) {
-          if (InventoryManager.getCount(ItemPool.TOXIC_GLOBULE) >= 20) {
-            QuestDatabase.setQuestProgress(Quest.GIVE_ME_FUEL, "step1");
-          } else {
-            QuestDatabase.setQuestProgress(Quest.GIVE_ME_FUEL, QuestDatabase.STARTED);
-          }
-        } else if (text.contains("anatomical diagram of a nasty bear")) {
-          QuestDatabase.setQuestProgress(Quest.NASTY_BEARS, QuestDatabase.STARTED);
-        } else if (text.contains("lists all of the sexist aspects of the ride")) {
-          QuestDatabase.setQuestProgress(Quest.SOCIAL_JUSTICE_I, QuestDatabase.STARTED);
-        } else if (text.contains("ideas are all themselves so racist")) {
-          QuestDatabase.setQuestProgress(Quest.SOCIAL_JUSTICE_II, QuestDatabase.STARTED);
-        } else if (text.contains("box of snacks issues forth")) {
-          Preferences.setInteger("dinseyTouristsFed", 0);
-          QuestDatabase.setQuestProgress(Quest.WORK_WITH_FOOD, QuestDatabase.STARTED);
-        }
-        break;
+  // Pick a Perk
+  private static void postChoice1Choice1042(
+      final String urlString, final GenericRequest request, final String text) {
+    SpelunkyRequest.upgrade(ChoiceManager.lastDecision);
+  }
 
-      case 1067:
-        // Maint Misbehavin'
-        if (text.contains("throw a bag of garbage into it")) {
-          ResultProcessor.processItem(ItemPool.GARBAGE_BAG, -1);
-          Preferences.setBoolean("_dinseyGarbageDisposed", true);
-        }
-        break;
+  private static void postChoice1Choice1044(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Gates of Hell
+    if (text.contains("unlock the padlock")) {
+      SpelunkyRequest.unlock("Hell", "Hell");
+    }
+  }
 
-      case 1076:
-        // Mayo Minder&trade;
-        switch (ChoiceManager.lastDecision) {
-          case 1 -> Preferences.setString("mayoMinderSetting", "Mayonex");
-          case 2 -> Preferences.setString("mayoMinderSetting", "Mayodiol");
-          case 3 -> Preferences.setString("mayoMinderSetting", "Mayostat");
-          case 4 -> Preferences.setString("mayoMinderSetting", "Mayozapine");
-          case 5 -> Preferences.setString("mayoMinderSetting", "Mayoflex");
-          case 6 -> Preferences.setString("mayoMinderSetting", "");
-        }
-        break;
+  private static void postChoice1Choice1049(
+      final String urlString, final GenericRequest request, final String text) {
+    // Tomb of the Unknown Your Class Here
+    if (text.contains("Also in this room is a ghost")) {
+      QuestDatabase.setQuestProgress(Quest.NEMESIS, "step1");
+    } else if (text.contains("You acquire")) {
+      AscensionClass ascensionClass = KoLCharacter.getAscensionClass();
+      int starterWeaponId = ascensionClass == null ? -1 : ascensionClass.getStarterWeapon();
+      ResultProcessor.processItem(starterWeaponId, -1);
+      QuestDatabase.setQuestProgress(Quest.NEMESIS, "step4");
+    }
+  }
 
-      case 1080:
-        // Bagelmat-5000
-        if (text.contains("shove a wad of dough into the slot")) {
-          ResultProcessor.removeItem(ItemPool.DOUGH);
-        }
-        if (ChoiceManager.lastDecision == 2) {
-          Preferences.setBoolean("_candyCaneSwordMadnessBakery", true);
-        }
-        break;
+  private static void postChoice1Choice1052(
+      final String urlString, final GenericRequest request, final String text) {
+    // Underworld Body Shop
+    Matcher skillidMatcher = URL_SKILLID_PATTERN.matcher(urlString);
+    if (skillidMatcher.find()) {
+      int cost =
+          switch (StringUtilities.parseInt(skillidMatcher.group(1))) {
+            case 30 -> 5;
+            case 31, 36, 39, 40, 43, 44 -> 10;
+            case 32 -> 15;
+            case 33, 37, 38, 41, 42, 45, 48 -> 20;
+            case 34 -> 25;
+            case 28, 29, 35, 46 -> 30;
+            default -> 0;
+          };
+      ResultProcessor.processResult(ItemPool.get(ItemPool.KA_COIN, -cost));
+    }
+  }
 
-      case 1081:
-        // Assault and Baguettery
-        if (ChoiceManager.lastDecision == 1
-            || ChoiceManager.lastDecision == 2
-            || ChoiceManager.lastDecision == 3) {
-          ResultProcessor.removeItem(ItemPool.MAGICAL_BAGUETTE);
-        }
-        break;
+  // The Servants' Quarters
+  private static void postChoice1Choice1053(
+      final String urlString, final GenericRequest request, final String text) {
+    EdServantData.manipulateServants(request, text);
+  }
 
-      case 1084:
-        // The Popular Machine
-        if (text.contains("popular tart springs")) {
-          ResultProcessor.removeItem(ItemPool.DOUGH);
-          ResultProcessor.removeItem(ItemPool.STRAWBERRY);
-          ResultProcessor.removeItem(ItemPool.ENCHANTED_ICING);
-        }
-        break;
+  private static void postChoice1Choice1056(
+      final String urlString, final GenericRequest request, final String text) {
+    // Now It's Dark
+    // Twin Peak fourth choice
+    if (text.contains("When the lights come back")) {
+      // the other three must be completed at this point.
+      Preferences.setInteger("twinPeakProgress", 15);
+    }
+  }
 
-      case 1085:
-      case 1086:
-        // The Deck of Every Card
-        DeckOfEveryCardRequest.postChoice1(text);
-        return;
+  private static void postChoice1Choice1057(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Stone Shrine
+    if (text.contains("shatter the")) {
+      KoLCharacter.setHippyStoneBroken(true);
+    }
+  }
 
-      case 1087:
-        // The Dark and Dank and Sinister Cave Entrance
-        if (text.contains("stumpy-legged mushroom creatures")) {
-          QuestDatabase.setQuestProgress(Quest.NEMESIS, "step12");
-        }
-        break;
+  private static void postChoice1Choice1059(
+      final String urlString, final GenericRequest request, final String text) {
+    // Helping Make Ends Meat
+    if (text.contains("excitedly takes the check")) {
+      QuestDatabase.setQuestProgress(Quest.MEATSMITH, QuestDatabase.FINISHED);
+      ResultProcessor.removeItem(ItemPool.MEATSMITH_CHECK);
+    } else if (text.contains("skeleton store is right next door")
+        || text.contains("I'll be here")) {
+      QuestDatabase.setQuestProgress(Quest.MEATSMITH, QuestDatabase.STARTED);
+      Preferences.setBoolean("skeletonStoreAvailable", true);
+    }
+  }
 
-      case 1088:
-        // Rubble, Rubble, Toil and Trouble
-        if (text.contains("BOOOOOOM!")) {
-          ResultProcessor.processItem(ItemPool.FIZZING_SPORE_POD, -6);
-          QuestDatabase.setQuestProgress(Quest.NEMESIS, "step15");
-        }
-        break;
+  private static void postChoice1Choice1060(
+      final String urlString, final GenericRequest request, final String text) {
+    // Temporarily Out of Skeletons
+    if (text.contains("it snaps off")) {
+      ResultProcessor.removeItem(ItemPool.SKELETON_KEY);
+    }
+  }
 
-      case 1103:
-        {
-          int result =
-              NumberologyManager.numberology(StringUtilities.parseInt(request.getFormField("num")));
-          if (NumberologyManager.numberologyPrize(result).startsWith("fight")) {
-            KoLAdventure.clearLocation();
-          }
-        }
-        break;
+  private static void postChoice1Choice1061(
+      final String urlString, final GenericRequest request, final String text) {
+    // Heart of Madness
+    if (ChoiceManager.lastDecision == 1) {
+      QuestDatabase.setQuestIfBetter(Quest.ARMORER, "step1");
+    }
+    if (text.contains("place the popular part")) {
+      ResultProcessor.removeItem(ItemPool.POPULAR_PART);
+      Preferences.setBoolean("popularTartUnlocked", true);
+    }
+  }
 
-      case 1118:
-        // X-32-F Combat Training Snowman Control Console
-        switch (ChoiceManager.lastDecision) {
-          case 1 -> Preferences.setString("snojoSetting", "MUSCLE");
-          case 2 -> Preferences.setString("snojoSetting", "MYSTICALITY");
-          case 3 -> Preferences.setString("snojoSetting", "MOXIE");
-          case 4 -> Preferences.setString("snojoSetting", "TOURNAMENT");
-        }
-        break;
+  private static void postChoice1Choice1062(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lots of Options
+    if (ChoiceManager.lastDecision == 6) {
+      Preferences.setBoolean("_candyCaneSwordOvergrownLot", true);
+    }
+  }
 
-      case 1120:
-      case 1121:
-      case 1122:
-      case 1123:
-        // Some Assembly Required
-        VYKEACompanionData.assembleCompanion(
-            ChoiceManager.lastChoice, ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice1Choice1064(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Doctor is Out.  Of Herbs.
+    if (ChoiceManager.lastDecision == 1) {
+      QuestDatabase.setQuestProgress(Quest.DOC, QuestDatabase.STARTED);
+      Preferences.setBoolean("overgrownLotAvailable", true);
+    } else if (ChoiceManager.lastDecision == 2) {
+      QuestDatabase.setQuestProgress(Quest.DOC, QuestDatabase.FINISHED);
+      ResultProcessor.processResult(ItemPool.get(ItemPool.FRAUDWORT, -3));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SHYSTERWEED, -3));
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SWINDLEBLOSSOM, -3));
+      HPRestoreItemList.updateHealthRestored();
+      MPRestoreItemList.updateManaRestored();
+    }
+  }
 
-      case 1133:
-        // Batfellow Begins
-        if (ChoiceManager.lastDecision == 1) {
-          KoLCharacter.enterLimitmode(LimitMode.BATMAN);
-        }
-        break;
+  private static void postChoice1Choice1065(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lending a Hand (and a Foot)
+    if (ChoiceManager.lastDecision == 1) {
+      QuestDatabase.setQuestProgress(Quest.ARMORER, QuestDatabase.STARTED);
+      Preferences.setBoolean("madnessBakeryAvailable", true);
+    } else if (ChoiceManager.lastDecision == 3) {
+      QuestDatabase.setQuestIfBetter(Quest.ARMORER, QuestDatabase.STARTED);
+    }
+  }
 
-      case 1137:
-        // Bat-Suit Upgrades
-        BatManager.batSuitUpgrade(ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice1Choice1066(
+      final String urlString, final GenericRequest request, final String text) {
+    // Employee Assignment Kiosk
+    if (text.contains("Performance Review:  Sufficient")) {
+      EquipmentManager.discardEquipment(ItemPool.TRASH_NET);
+      ResultProcessor.removeItem(ItemPool.TRASH_NET);
+      Preferences.setInteger("dinseyFilthLevel", 0);
+      QuestDatabase.setQuestProgress(Quest.FISH_TRASH, QuestDatabase.UNSTARTED);
+    } else if (text.contains("Performance Review:  Unobjectionable")) {
+      ResultProcessor.processItem(ItemPool.TOXIC_GLOBULE, -20);
+      QuestDatabase.setQuestProgress(Quest.GIVE_ME_FUEL, QuestDatabase.UNSTARTED);
+    } else if (text.contains("Performance Review:  Bearable")) {
+      Preferences.setInteger("dinseyNastyBearsDefeated", 0);
+      QuestDatabase.setQuestProgress(Quest.NASTY_BEARS, QuestDatabase.UNSTARTED);
+    } else if (text.contains("Performance Review:  Acceptable")) {
+      Preferences.setInteger("dinseySocialJusticeIProgress", 0);
+      QuestDatabase.setQuestProgress(Quest.SOCIAL_JUSTICE_I, QuestDatabase.UNSTARTED);
+    } else if (text.contains("Performance Review:  Fair")) {
+      Preferences.setInteger("dinseySocialJusticeIIProgress", 0);
+      QuestDatabase.setQuestProgress(Quest.SOCIAL_JUSTICE_II, QuestDatabase.UNSTARTED);
+    } else if (text.contains("Performance Review:  Average")) {
+      EquipmentManager.discardEquipment(ItemPool.LUBE_SHOES);
+      ResultProcessor.removeItem(ItemPool.LUBE_SHOES);
+      QuestDatabase.setQuestProgress(Quest.SUPER_LUBER, QuestDatabase.UNSTARTED);
+    } else if (text.contains("Performance Review:  Adequate")) {
+      Preferences.setInteger("dinseyTouristsFed", 0);
+      ResultProcessor.removeItem(ItemPool.DINSEY_REFRESHMENTS);
+      QuestDatabase.setQuestProgress(Quest.WORK_WITH_FOOD, QuestDatabase.UNSTARTED);
+    } else if (text.contains("Performance Review:  Tolerable")) {
+      EquipmentManager.discardEquipment(ItemPool.MASCOT_MASK);
+      ResultProcessor.removeItem(ItemPool.MASCOT_MASK);
+      Preferences.setInteger("dinseyFunProgress", 0);
+      QuestDatabase.setQuestProgress(Quest.ZIPPITY_DOO_DAH, QuestDatabase.UNSTARTED);
+    } else if (text.contains("weren't kidding about the power")) {
+      if (InventoryManager.getCount(ItemPool.TOXIC_GLOBULE) >= 20) {
+        QuestDatabase.setQuestProgress(Quest.GIVE_ME_FUEL, "step1");
+      } else {
+        QuestDatabase.setQuestProgress(Quest.GIVE_ME_FUEL, QuestDatabase.STARTED);
+      }
+    } else if (text.contains("anatomical diagram of a nasty bear")) {
+      QuestDatabase.setQuestProgress(Quest.NASTY_BEARS, QuestDatabase.STARTED);
+    } else if (text.contains("lists all of the sexist aspects of the ride")) {
+      QuestDatabase.setQuestProgress(Quest.SOCIAL_JUSTICE_I, QuestDatabase.STARTED);
+    } else if (text.contains("ideas are all themselves so racist")) {
+      QuestDatabase.setQuestProgress(Quest.SOCIAL_JUSTICE_II, QuestDatabase.STARTED);
+    } else if (text.contains("box of snacks issues forth")) {
+      Preferences.setInteger("dinseyTouristsFed", 0);
+      QuestDatabase.setQuestProgress(Quest.WORK_WITH_FOOD, QuestDatabase.STARTED);
+    }
+  }
 
-      case 1138:
-        // Bat-Sedan Upgrades
-        BatManager.batSedanUpgrade(ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice1Choice1067(
+      final String urlString, final GenericRequest request, final String text) {
+    // Maint Misbehavin'
+    if (text.contains("throw a bag of garbage into it")) {
+      ResultProcessor.processItem(ItemPool.GARBAGE_BAG, -1);
+      Preferences.setBoolean("_dinseyGarbageDisposed", true);
+    }
+  }
 
-      case 1139:
-        // Bat-Cavern Upgrades
-        BatManager.batCavernUpgrade(ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice1Choice1076(
+      final String urlString, final GenericRequest request, final String text) {
+    // Mayo Minder&trade;
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> Preferences.setString("mayoMinderSetting", "Mayonex");
+      case 2 -> Preferences.setString("mayoMinderSetting", "Mayodiol");
+      case 3 -> Preferences.setString("mayoMinderSetting", "Mayostat");
+      case 4 -> Preferences.setString("mayoMinderSetting", "Mayozapine");
+      case 5 -> Preferences.setString("mayoMinderSetting", "Mayoflex");
+      case 6 -> Preferences.setString("mayoMinderSetting", "");
+    }
+  }
 
-      case 1140:
-        // Casing the Conservatory
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.GLOB_OF_BAT_GLUE);
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.removeItem(ItemPool.FINGERPRINT_DUSTING_KIT);
-          ResultProcessor.removeItem(ItemPool.FINGERPRINT_DUSTING_KIT);
-          ResultProcessor.removeItem(ItemPool.FINGERPRINT_DUSTING_KIT);
-        }
-        break;
+  private static void postChoice1Choice1080(
+      final String urlString, final GenericRequest request, final String text) {
+    // Bagelmat-5000
+    if (text.contains("shove a wad of dough into the slot")) {
+      ResultProcessor.removeItem(ItemPool.DOUGH);
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      Preferences.setBoolean("_candyCaneSwordMadnessBakery", true);
+    }
+  }
 
-      case 1141:
-        // Researching the Reservoir
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.BAT_AID_BANDAGE);
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
-          ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
-          ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
-        }
-        break;
+  private static void postChoice1Choice1081(
+      final String urlString, final GenericRequest request, final String text) {
+    // Assault and Baguettery
+    if (ChoiceManager.lastDecision == 1
+        || ChoiceManager.lastDecision == 2
+        || ChoiceManager.lastDecision == 3) {
+      ResultProcessor.removeItem(ItemPool.MAGICAL_BAGUETTE);
+    }
+  }
 
-      case 1142:
-        // Combing the Cemetery
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.BAT_BEARING);
-        } else if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
-          ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
-          ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
-        }
-        break;
+  private static void postChoice1Choice1084(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Popular Machine
+    if (text.contains("popular tart springs")) {
+      ResultProcessor.removeItem(ItemPool.DOUGH);
+      ResultProcessor.removeItem(ItemPool.STRAWBERRY);
+      ResultProcessor.removeItem(ItemPool.ENCHANTED_ICING);
+    }
+  }
 
-      case 1143:
-        // Searching the Sewers
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.BAT_OOMERANG);
-        }
-        break;
+  private static void postChoice1Choice1085(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Deck of Every Card
+    DeckOfEveryCardRequest.postChoice1(text);
+    return;
+  }
 
-      case 1144:
-        // Assessing the Asylum
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.BAT_O_MITE);
-        }
-        break;
+  private static void postChoice1Choice1087(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Dark and Dank and Sinister Cave Entrance
+    if (text.contains("stumpy-legged mushroom creatures")) {
+      QuestDatabase.setQuestProgress(Quest.NEMESIS, "step12");
+    }
+  }
 
-      case 1145:
-        // Looking over the Library
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.BAT_JUTE);
-        }
-        break;
+  private static void postChoice1Choice1088(
+      final String urlString, final GenericRequest request, final String text) {
+    // Rubble, Rubble, Toil and Trouble
+    if (text.contains("BOOOOOOM!")) {
+      ResultProcessor.processItem(ItemPool.FIZZING_SPORE_POD, -6);
+      QuestDatabase.setQuestProgress(Quest.NEMESIS, "step15");
+    }
+  }
 
-      case 1146:
-        // Considering the Clock Factory
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
-        }
-        break;
+  private static void postChoice1Choice1103(
+      final String urlString, final GenericRequest request, final String text) {
+    {
+      int result =
+          NumberologyManager.numberology(StringUtilities.parseInt(request.getFormField("num")));
+      if (NumberologyManager.numberologyPrize(result).startsWith("fight")) {
+        KoLAdventure.clearLocation();
+      }
+    }
+  }
 
-      case 1147:
-        // Frisking the Foundry
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
-        }
-        break;
+  private static void postChoice1Choice1118(
+      final String urlString, final GenericRequest request, final String text) {
+    // X-32-F Combat Training Snowman Control Console
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> Preferences.setString("snojoSetting", "MUSCLE");
+      case 2 -> Preferences.setString("snojoSetting", "MYSTICALITY");
+      case 3 -> Preferences.setString("snojoSetting", "MOXIE");
+      case 4 -> Preferences.setString("snojoSetting", "TOURNAMENT");
+    }
+  }
 
-      case 1148:
-        // Taking Stock of the Trivia Company
-        if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.removeItem(ItemPool.FINGERPRINT_DUSTING_KIT);
-        }
-        break;
+  private static void postChoice1Choice1120(
+      final String urlString, final GenericRequest request, final String text) {
+    // Some Assembly Required
+    VYKEACompanionData.assembleCompanion(
+        ChoiceManager.lastChoice, ChoiceManager.lastDecision, text);
+  }
 
-      case 1176:
-        // Go West, Young Adventurer!
-        if (ChoiceManager.lastDecision == 3) {
-          // Snake Oilers start with extra
-          Preferences.setInteger("awolMedicine", 3);
-          Preferences.setInteger("awolVenom", 3);
-        }
-        break;
+  private static void postChoice1Choice1133(
+      final String urlString, final GenericRequest request, final String text) {
+    // Batfellow Begins
+    if (ChoiceManager.lastDecision == 1) {
+      KoLCharacter.enterLimitmode(LimitMode.BATMAN);
+    }
+  }
 
-      case 1182:
-        // Play against the Witchess Pieces
-        if (ChoiceManager.lastDecision == 1) {
-          KoLAdventure.clearLocation();
-          GenericRequest.itemMonster = "Your Witchess Set";
-        }
-        break;
+  private static void postChoice1Choice1137(
+      final String urlString, final GenericRequest request, final String text) {
+    // Bat-Suit Upgrades
+    BatManager.batSuitUpgrade(ChoiceManager.lastDecision, text);
+  }
 
-      case 1190:
-        // The Oracle
-        if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.removeItem(ItemPool.NO_SPOON);
-          QuestDatabase.setQuestProgress(Quest.ORACLE, QuestDatabase.UNSTARTED);
-          Preferences.increment("sourceEnlightenment");
-          Preferences.setString("sourceOracleTarget", "");
-        } else if (ChoiceManager.lastDecision <= 3) {
-          QuestDatabase.setQuestProgress(Quest.ORACLE, QuestDatabase.STARTED);
-          Matcher matcher = ORACLE_QUEST_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("sourceOracleTarget", matcher.group(1));
-          }
-        }
-        break;
+  private static void postChoice1Choice1138(
+      final String urlString, final GenericRequest request, final String text) {
+    // Bat-Sedan Upgrades
+    BatManager.batSedanUpgrade(ChoiceManager.lastDecision, text);
+  }
 
-      case 1191:
-        // Source Terminal
-        request.setHasResult(false);
-        if (ChoiceManager.lastDecision != 1) {
-          break;
-        }
-        String input = request.getFormField("input");
-        if (input == null) {
-          break;
-        }
-        handleSourceTerminal(input, text);
-        break;
+  private static void postChoice1Choice1139(
+      final String urlString, final GenericRequest request, final String text) {
+    // Bat-Cavern Upgrades
+    BatManager.batCavernUpgrade(ChoiceManager.lastDecision, text);
+  }
 
-      case 1195:
-        // Spinning Your Time-Spinner
-        if (ChoiceManager.lastDecision == 3) {
-          Preferences.increment("_timeSpinnerMinutesUsed");
-        } else if (ChoiceManager.lastDecision == 4) {
-          Preferences.increment("_timeSpinnerMinutesUsed", 2);
-        }
-        break;
+  private static void postChoice1Choice1140(
+      final String urlString, final GenericRequest request, final String text) {
+    // Casing the Conservatory
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.GLOB_OF_BAT_GLUE);
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.removeItem(ItemPool.FINGERPRINT_DUSTING_KIT);
+      ResultProcessor.removeItem(ItemPool.FINGERPRINT_DUSTING_KIT);
+      ResultProcessor.removeItem(ItemPool.FINGERPRINT_DUSTING_KIT);
+    }
+  }
 
-      case 1196:
-        // Travel to a Recent Fight
-        if (ChoiceManager.lastDecision == 1 && !urlString.contains("monid=0")) {
-          Preferences.increment("_timeSpinnerMinutesUsed", 3);
-          EncounterManager.ignoreSpecialMonsters();
-        }
-        break;
+  private static void postChoice1Choice1141(
+      final String urlString, final GenericRequest request, final String text) {
+    // Researching the Reservoir
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.BAT_AID_BANDAGE);
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
+      ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
+      ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
+    }
+  }
 
-      case 1215:
-        // Setting the Clock
-        Preferences.setBoolean("_gingerbreadClockVisited", true);
+  private static void postChoice1Choice1142(
+      final String urlString, final GenericRequest request, final String text) {
+    // Combing the Cemetery
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.BAT_BEARING);
+    } else if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
+      ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
+      ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
+    }
+  }
 
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("_gingerbreadClockAdvanced", true);
-          Preferences.increment("_gingerbreadCityTurns");
-        }
-        break;
+  private static void postChoice1Choice1143(
+      final String urlString, final GenericRequest request, final String text) {
+    // Searching the Sewers
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.BAT_OOMERANG);
+    }
+  }
 
-      case 1217:
-        // Sweet Synthesis
-        SweetSynthesisRequest.postChoice1(urlString, text);
-        return;
+  private static void postChoice1Choice1144(
+      final String urlString, final GenericRequest request, final String text) {
+    // Assessing the Asylum
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.BAT_O_MITE);
+    }
+  }
 
-      case 1222:
-        // The Tunnel of L.O.V.E.
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("_loveTunnelUsed", true);
-        }
-        return;
+  private static void postChoice1Choice1145(
+      final String urlString, final GenericRequest request, final String text) {
+    // Looking over the Library
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.BAT_JUTE);
+    }
+  }
 
-      case 1229:
-        {
-          // L.O.V. Exit
+  private static void postChoice1Choice1146(
+      final String urlString, final GenericRequest request, final String text) {
+    // Considering the Clock Factory
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.EXPLODING_KICKBALL);
+    }
+  }
 
-          Matcher matcher = LOV_LOGENTRY_PATTERN.matcher(text);
-          if (matcher.find()) {
-            String message = "Your log entry: " + matcher.group(1);
-            RequestLogger.printLine(message);
-            RequestLogger.updateSessionLog(message);
-          }
-          return;
-        }
+  private static void postChoice1Choice1147(
+      final String urlString, final GenericRequest request, final String text) {
+    // Frisking the Foundry
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.ULTRACOAGULATOR);
+    }
+  }
 
-      case 1231:
-        // Gummi-Memories, In the Corner of Your Mind
-        if (ChoiceManager.lastDecision == 1) {
-          ResultProcessor.removeItem(ItemPool.GUMMY_MEMORY);
-          Preferences.increment("noobDeferredPoints", 5);
-        }
-        return;
+  private static void postChoice1Choice1148(
+      final String urlString, final GenericRequest request, final String text) {
+    // Taking Stock of the Trivia Company
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.FINGERPRINT_DUSTING_KIT);
+    }
+  }
 
-      case 1234:
-        // Spacegate Vaccinator
-        //
-        // option 1 = Rainbow Vaccine
-        // option 2 = Broad-Spectrum Vaccine
-        // option 3 = Emotional Vaccine
-        //
-        // You can unlock it (by turning in enough research) or
-        // Select it (if previously unlocked).
-        //
-        if (text.contains("New vaccine unlocked!")) {
-          Preferences.setBoolean("spacegateVaccine" + ChoiceManager.lastDecision, true);
-        } else if (text.contains("You acquire an effect")) {
-          Preferences.setBoolean("_spacegateVaccine", true);
-        }
-        break;
+  private static void postChoice1Choice1176(
+      final String urlString, final GenericRequest request, final String text) {
+    // Go West, Young Adventurer!
+    if (ChoiceManager.lastDecision == 3) {
+      // Snake Oilers start with extra
+      Preferences.setInteger("awolMedicine", 3);
+      Preferences.setInteger("awolVenom", 3);
+    }
+  }
 
-      case 1235:
-        // Spacegate Terminal
-        QuestManager.parseSpacegateTerminal(text, true);
-        return;
+  private static void postChoice1Choice1182(
+      final String urlString, final GenericRequest request, final String text) {
+    // Play against the Witchess Pieces
+    if (ChoiceManager.lastDecision == 1) {
+      KoLAdventure.clearLocation();
+      GenericRequest.itemMonster = "Your Witchess Set";
+    }
+  }
 
-      case 1246:
-        // Land Ho
-        if (ChoiceManager.lastDecision == 1) {
-          parseLanguageFluency(text, "spacePirateLanguageFluency");
-        }
-        break;
+  private static void postChoice1Choice1190(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Oracle
+    if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.removeItem(ItemPool.NO_SPOON);
+      QuestDatabase.setQuestProgress(Quest.ORACLE, QuestDatabase.UNSTARTED);
+      Preferences.increment("sourceEnlightenment");
+      Preferences.setString("sourceOracleTarget", "");
+    } else if (ChoiceManager.lastDecision <= 3) {
+      QuestDatabase.setQuestProgress(Quest.ORACLE, QuestDatabase.STARTED);
+      Matcher matcher = ORACLE_QUEST_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("sourceOracleTarget", matcher.group(1));
+      }
+    }
+  }
 
-      case 1247:
-        // Half the Ship it used to Be
-        if (ChoiceManager.lastDecision == 1) {
-          if (text.contains("You acquire an item")) {
-            Preferences.setInteger("spacePirateLanguageFluency", 0);
-          } else {
-            parseLanguageFluency(text, "spacePirateLanguageFluency");
-          }
-        }
-        break;
+  private static void postChoice1Choice1191(
+      final String urlString, final GenericRequest request, final String text) {
+    // Source Terminal
+    request.setHasResult(false);
+    if (ChoiceManager.lastDecision != 1) {
+      return;
+    }
+    String input = request.getFormField("input");
+    if (input == null) {
+      return;
+    }
+    handleSourceTerminal(input, text);
+  }
 
-      case 1248:
-        // Paradise Under a Strange Sun
-        if (text.contains("You acquire an item")) {
-          ResultProcessor.removeItem(ItemPool.SPACE_PIRATE_TREASURE_MAP);
-        }
-        break;
+  private static void postChoice1Choice1195(
+      final String urlString, final GenericRequest request, final String text) {
+    // Spinning Your Time-Spinner
+    if (ChoiceManager.lastDecision == 3) {
+      Preferences.increment("_timeSpinnerMinutesUsed");
+    } else if (ChoiceManager.lastDecision == 4) {
+      Preferences.increment("_timeSpinnerMinutesUsed", 2);
+    }
+  }
 
-      case 1249:
-        // That's No Monolith, it's a Monolith
-        if (ChoiceManager.lastDecision == 1) {
-          parseLanguageFluency(text, "procrastinatorLanguageFluency");
-          ResultProcessor.removeItem(ItemPool.MURDERBOT_DATA_CORE);
-        }
-        break;
+  private static void postChoice1Choice1196(
+      final String urlString, final GenericRequest request, final String text) {
+    // Travel to a Recent Fight
+    if (ChoiceManager.lastDecision == 1 && !urlString.contains("monid=0")) {
+      Preferences.increment("_timeSpinnerMinutesUsed", 3);
+      EncounterManager.ignoreSpecialMonsters();
+    }
+  }
 
-      case 1250:
-        // I'm Afraid It's Terminal
-        if (ChoiceManager.lastDecision == 1) {
-          if (text.contains("You acquire an item")) {
-            Preferences.setInteger("procrastinatorLanguageFluency", 0);
-          }
-        }
-        break;
+  private static void postChoice1Choice1215(
+      final String urlString, final GenericRequest request, final String text) {
+    // Setting the Clock
+    Preferences.setBoolean("_gingerbreadClockVisited", true);
 
-      case 1251:
-        // Curses, A Hex
-        if (text.contains("You acquire an item")) {
-          ResultProcessor.removeItem(ItemPool.PROCRASTINATOR_LOCKER_KEY);
-        }
-        break;
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("_gingerbreadClockAdvanced", true);
+      Preferences.increment("_gingerbreadCityTurns");
+    }
+  }
 
-      case 1252:
-        // Time Enough at Last
-        if (ChoiceManager.lastDecision == 1) {
-          // You get a Space Baby children's book which
-          // will grants spaceBabyLanguageFluency +10
-          // when read
-        }
-        break;
+  private static void postChoice1Choice1217(
+      final String urlString, final GenericRequest request, final String text) {
+    // Sweet Synthesis
+    SweetSynthesisRequest.postChoice1(urlString, text);
+    return;
+  }
 
-      case 1253:
-        // Mother May I
-        if (ChoiceManager.lastDecision == 1) {
-          if (text.contains("You acquire an item")) {
-            Preferences.setInteger("spaceBabyLanguageFluency", 0);
-          }
-        }
-        break;
+  private static void postChoice1Choice1222(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Tunnel of L.O.V.E.
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("_loveTunnelUsed", true);
+    }
+    return;
+  }
 
-      case 1254:
-        // Please Baby Baby Please
-        if (text.contains("You acquire an item")) {
-          ResultProcessor.removeItem(ItemPool.SPACE_BABY_BAWBAW);
-        }
-        break;
+  private static void postChoice1Choice1229(
+      final String urlString, final GenericRequest request, final String text) {
+    // L.O.V. Exit
 
-      case 1260:
-        // A Strange Panel
-        if (ChoiceManager.lastDecision < 1 || ChoiceManager.lastDecision > 3) {
-          break;
-        }
-        if (text.contains("10 casualties")
-            || text.contains("10 crew")
-            || text.contains("10 minions")
-            || text.contains("10 ski")
-            || text.contains("10 members")
-            || text.contains("ten techs")
-            || text.contains("10 soldiers")) {
-          Preferences.increment("_villainLairProgress", 10);
-        } else if (text.contains("5 casualties")
-            || text.contains("5 souls")
-            || text.contains("5 minions")
-            || text.contains("five minions")
-            || text.contains("group of ski")
-            || text.contains("5 members")
-            || text.contains("five people")
-            || text.contains("five of us")) {
-          Preferences.increment("_villainLairProgress", 5);
-        } else {
-          Preferences.decrement("_villainLairProgress", 7);
-        }
-        Preferences.setBoolean("_villainLairColorChoiceUsed", true);
-        break;
+    Matcher matcher = LOV_LOGENTRY_PATTERN.matcher(text);
+    if (matcher.find()) {
+      String message = "Your log entry: " + matcher.group(1);
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    }
+    return;
+  }
 
-      case 1261:
-        // Which Door?
-        if (ChoiceManager.lastDecision == 1) {
-          if (text.contains("drop 1000")) {
-            Preferences.increment("_villainLairProgress", 10);
-            Preferences.setBoolean("_villainLairDoorChoiceUsed", true);
-          }
-        } else if (ChoiceManager.lastDecision == 2) {
-          if (text.contains("insert the key")) {
-            int itemId = -1;
-            String key = Preferences.getString("_villainLairKey");
-            if (key.equals("boris")) {
-              itemId = ItemPool.BORIS_KEY;
-            } else if (key.equals("jarlsberg")) {
-              itemId = ItemPool.JARLSBERG_KEY;
-            }
-            if (key.equals("pete")) {
-              itemId = ItemPool.SNEAKY_PETE_KEY;
-            }
-            ResultProcessor.removeItem(itemId);
-            Preferences.increment("_villainLairProgress", 15);
-            Preferences.setBoolean("_villainLairDoorChoiceUsed", true);
-          }
-        } else if (ChoiceManager.lastDecision == 3) {
-          Preferences.decrement("_villainLairProgress", 13);
-          Preferences.setBoolean("_villainLairDoorChoiceUsed", true);
-        }
-        break;
+  private static void postChoice1Choice1231(
+      final String urlString, final GenericRequest request, final String text) {
+    // Gummi-Memories, In the Corner of Your Mind
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.GUMMY_MEMORY);
+      Preferences.increment("noobDeferredPoints", 5);
+    }
+    return;
+  }
 
-      case 1262:
-        // What Setting?
-        if (ChoiceManager.lastDecision < 1 || ChoiceManager.lastDecision > 3) {
-          break;
-        }
-        if (text.contains("20 of the")
-            || text.contains("20 minions")
-            || text.contains("20 or so")
-            || text.contains("20 soldiers")) {
-          Preferences.increment("_villainLairProgress", 20);
-        } else if (text.contains("10 or so")
-            || text.contains("10 injured")
-            || text.contains("10 patrol-sicles")
-            || text.contains("10 soldiers")) {
-          Preferences.increment("_villainLairProgress", 10);
-        } else if (text.contains("15 aquanats")
-            || text.contains("15 reserve")
-            || text.contains("15 previously")
-            || text.contains("15 Soldiers")) {
-          Preferences.decrement("_villainLairProgress", 15);
-        }
-        Preferences.setBoolean("_villainLairSymbologyChoiceUsed", true);
-        break;
+  private static void postChoice1Choice1234(
+      final String urlString, final GenericRequest request, final String text) {
+    // Spacegate Vaccinator
+    //
+    // option 1 = Rainbow Vaccine
+    // option 2 = Broad-Spectrum Vaccine
+    // option 3 = Emotional Vaccine
+    //
+    // You can unlock it (by turning in enough research) or
+    // Select it (if previously unlocked).
+    //
+    if (text.contains("New vaccine unlocked!")) {
+      Preferences.setBoolean("spacegateVaccine" + ChoiceManager.lastDecision, true);
+    } else if (text.contains("You acquire an effect")) {
+      Preferences.setBoolean("_spacegateVaccine", true);
+    }
+  }
 
-      case 1266:
-        // The Hostler
-        if (ChoiceManager.lastDecision < 5) {
-          Pattern pattern = Pattern.compile("You rent(|ed) the (.*?)!");
-          Matcher matcher = pattern.matcher(text);
-          if (matcher.find()) {
-            String horse = matcher.group(2);
-            Preferences.setString("_horsery", horse);
-            String message = "Chose the " + horse;
-            RequestLogger.printLine(message);
-            RequestLogger.updateSessionLog(message);
-            String setting =
-                horse.equals("crazy horse")
-                    ? "_horseryCrazyName"
-                    : horse.equals("dark horse")
-                        ? "_horseryDarkName"
-                        : horse.equals("normal horse")
-                            ? "_horseryNormalName"
-                            : horse.equals("pale horse") ? "_horseryPaleName" : null;
-            if (setting != null) {
-              String name = Preferences.getString(setting);
-              Preferences.setString("_horseryCurrentName", name);
-            }
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          Preferences.setString("_horsery", "");
-          Preferences.setString("_horseryCurrentName", "");
-          String message = "Returned your horse";
-          RequestLogger.printLine(message);
-          RequestLogger.updateSessionLog(message);
-        }
-        break;
+  private static void postChoice1Choice1235(
+      final String urlString, final GenericRequest request, final String text) {
+    // Spacegate Terminal
+    QuestManager.parseSpacegateTerminal(text, true);
+    return;
+  }
 
-      case 1270:
-        // Pantagramming
-        // The item that we get has a procedurally-generated name
-        request.setHasResult(false);
-        PantogramRequest.parseResponse(urlString, text);
-        break;
+  private static void postChoice1Choice1246(
+      final String urlString, final GenericRequest request, final String text) {
+    // Land Ho
+    if (ChoiceManager.lastDecision == 1) {
+      parseLanguageFluency(text, "spacePirateLanguageFluency");
+    }
+  }
 
-      case 1271:
-        // Mummery
-        MummeryRequest.parseResponse(ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice1Choice1247(
+      final String urlString, final GenericRequest request, final String text) {
+    // Half the Ship it used to Be
+    if (ChoiceManager.lastDecision == 1) {
+      if (text.contains("You acquire an item")) {
+        Preferences.setInteger("spacePirateLanguageFluency", 0);
+      } else {
+        parseLanguageFluency(text, "spacePirateLanguageFluency");
+      }
+    }
+  }
 
-      case 1275:
-        {
-          // Rummaging through the Garbage
-          if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 5) {
-            // Remove all of the items before parsing the newly-received one
-            EquipmentManager.removeEquipment(ItemPool.DECEASED_TREE);
-            ResultProcessor.removeItem(ItemPool.DECEASED_TREE);
-            EquipmentManager.removeEquipment(ItemPool.BROKEN_CHAMPAGNE);
-            ResultProcessor.removeItem(ItemPool.BROKEN_CHAMPAGNE);
-            EquipmentManager.removeEquipment(ItemPool.TINSEL_TIGHTS);
-            ResultProcessor.removeItem(ItemPool.TINSEL_TIGHTS);
-            EquipmentManager.removeEquipment(ItemPool.WAD_OF_TAPE);
-            ResultProcessor.removeItem(ItemPool.WAD_OF_TAPE);
-            EquipmentManager.removeEquipment(ItemPool.MAKESHIFT_GARBAGE_SHIRT);
-            ResultProcessor.removeItem(ItemPool.MAKESHIFT_GARBAGE_SHIRT);
-            if (!Preferences.getBoolean("_garbageItemChanged")) {
-              Preferences.setInteger("garbageTreeCharge", 1000);
-              Preferences.setInteger("garbageChampagneCharge", 11);
-              Preferences.setInteger("garbageShirtCharge", 37);
-            }
-            Preferences.setBoolean("_garbageItemChanged", true);
-          }
-          // Do some parsing of needles/wine/scraps here
-          Matcher matcher = DECEASED_TREE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger("garbageTreeCharge", StringUtilities.parseInt(matcher.group(1)));
-          }
-          matcher = BROKEN_CHAMPAGNE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger(
-                "garbageChampagneCharge", StringUtilities.parseInt(matcher.group(1)));
-          }
-          matcher = GARBAGE_SHIRT_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger(
-                "garbageShirtCharge", StringUtilities.parseInt(matcher.group(1)));
-          }
-          break;
-        }
+  private static void postChoice1Choice1248(
+      final String urlString, final GenericRequest request, final String text) {
+    // Paradise Under a Strange Sun
+    if (text.contains("You acquire an item")) {
+      ResultProcessor.removeItem(ItemPool.SPACE_PIRATE_TREASURE_MAP);
+    }
+  }
 
-      case 1277:
-        // Extra, Extra
-        if (ChoiceManager.lastDecision >= 1
-            && ChoiceManager.lastDecision <= 5
-            && text.contains("You acquire")) {
-          ResultProcessor.removeItem(ItemPool.BURNING_NEWSPAPER);
-        }
-        break;
+  private static void postChoice1Choice1249(
+      final String urlString, final GenericRequest request, final String text) {
+    // That's No Monolith, it's a Monolith
+    if (ChoiceManager.lastDecision == 1) {
+      parseLanguageFluency(text, "procrastinatorLanguageFluency");
+      ResultProcessor.removeItem(ItemPool.MURDERBOT_DATA_CORE);
+    }
+  }
 
-      case 1280:
-        // Welcome to FantasyRealm
-        if (ChoiceManager.lastDecision != 6) {
-          Preferences.setInteger("_frHoursLeft", 5);
-          StringBuffer unlocks = new StringBuffer();
-          unlocks.append("The Bandit Crossroads,");
-          if (Preferences.getBoolean("frMountainsUnlocked")) {
-            unlocks.append("The Towering Mountains,");
-          }
-          if (Preferences.getBoolean("frWoodUnlocked")) {
-            unlocks.append("The Mystic Wood,");
-          }
-          if (Preferences.getBoolean("frSwampUnlocked")) {
-            unlocks.append("The Putrid Swamp,");
-          }
-          if (Preferences.getBoolean("frVillageUnlocked")) {
-            unlocks.append("The Cursed Village,");
-          }
-          if (Preferences.getBoolean("frCemetaryUnlocked")) {
-            unlocks.append("The Sprawling Cemetery,");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-        }
-        break;
+  private static void postChoice1Choice1250(
+      final String urlString, final GenericRequest request, final String text) {
+    // I'm Afraid It's Terminal
+    if (ChoiceManager.lastDecision == 1) {
+      if (text.contains("You acquire an item")) {
+        Preferences.setInteger("procrastinatorLanguageFluency", 0);
+      }
+    }
+  }
 
-      case 1281:
-        {
-          // You'll See You at the Crossroads
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Bandit Crossroads,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            unlocks.append("The Towering Mountains,");
-          }
-          if (ChoiceManager.lastDecision == 2) {
-            unlocks.append("The Mystic Wood,");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("The Putrid Swamp,");
-          }
-          if (ChoiceManager.lastDecision == 4) {
-            unlocks.append("The Cursed Village,");
-          }
-          if (ChoiceManager.lastDecision == 5) {
-            unlocks.append("The Sprawling Cemetery,");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1251(
+      final String urlString, final GenericRequest request, final String text) {
+    // Curses, A Hex
+    if (text.contains("You acquire an item")) {
+      ResultProcessor.removeItem(ItemPool.PROCRASTINATOR_LOCKER_KEY);
+    }
+  }
 
-      case 1282:
-        {
-          // Out of Range
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 11) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Towering Mountains,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            unlocks.append("The Old Rubee Mine,");
-            ResultProcessor.removeItem(ItemPool.FR_KEY);
-          }
-          if (ChoiceManager.lastDecision == 2) {
-            unlocks.append("The Foreboding Cave,");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("The Master Thief's Chalet,");
-          }
-          if (ChoiceManager.lastDecision == 4) {
-            ResultProcessor.removeItem(ItemPool.FR_DRUIDIC_ORB);
-          }
-          if (ChoiceManager.lastDecision == 5) {
-            unlocks.append("The Ogre Chieftain's Keep,");
-          }
-          if (ChoiceManager.lastDecision == 10) {
-            Preferences.increment("_frButtonsPressed");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1252(
+      final String urlString, final GenericRequest request, final String text) {
+    // Time Enough at Last
+    if (ChoiceManager.lastDecision == 1) {
+      // You get a Space Baby children's book which
+      // will grants spaceBabyLanguageFluency +10
+      // when read
+    }
+  }
 
-      case 1283:
-        {
-          // Where Wood You Like to Go
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 11) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Mystic Wood,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            unlocks.append("The Faerie Cyrkle,");
-          }
-          if (ChoiceManager.lastDecision == 2) {
-            unlocks.append("The Druidic Campsite,");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("The Ley Nexus,");
-          }
-          if (ChoiceManager.lastDecision == 10) {
-            Preferences.increment("_frButtonsPressed");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1253(
+      final String urlString, final GenericRequest request, final String text) {
+    // Mother May I
+    if (ChoiceManager.lastDecision == 1) {
+      if (text.contains("You acquire an item")) {
+        Preferences.setInteger("spaceBabyLanguageFluency", 0);
+      }
+    }
+  }
 
-      case 1284:
-        {
-          // Swamped with Leisure
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 11) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Putrid Swamp,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            unlocks.append("Near the Witch's House,");
-          }
-          if (ChoiceManager.lastDecision == 2) {
-            unlocks.append("The Troll Fortress,");
-            ResultProcessor.removeItem(ItemPool.FR_KEY);
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("The Dragon's Moor,");
-          }
-          if (ChoiceManager.lastDecision == 10) {
-            Preferences.increment("_frButtonsPressed");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1254(
+      final String urlString, final GenericRequest request, final String text) {
+    // Please Baby Baby Please
+    if (text.contains("You acquire an item")) {
+      ResultProcessor.removeItem(ItemPool.SPACE_BABY_BAWBAW);
+    }
+  }
 
-      case 1285:
-        {
-          // It Takes a Cursed Village
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 11) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Cursed Village,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            unlocks.append("The Evil Cathedral,");
-          }
-          if (ChoiceManager.lastDecision == 2) {
-            unlocks.append("The Cursed Village Thieves' Guild,");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("The Archwizard's Tower,");
-          }
-          if (ChoiceManager.lastDecision == 6) {
-            ResultProcessor.removeItem(ItemPool.FR_DRAGON_ORE);
-          }
-          if (ChoiceManager.lastDecision == 7) {
-            ResultProcessor.removeItem(ItemPool.FR_ARREST_WARRANT);
-          }
-          if (ChoiceManager.lastDecision == 10) {
-            Preferences.increment("_frButtonsPressed");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1260(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Strange Panel
+    if (ChoiceManager.lastDecision < 1 || ChoiceManager.lastDecision > 3) {
+      return;
+    }
+    if (text.contains("10 casualties")
+        || text.contains("10 crew")
+        || text.contains("10 minions")
+        || text.contains("10 ski")
+        || text.contains("10 members")
+        || text.contains("ten techs")
+        || text.contains("10 soldiers")) {
+      Preferences.increment("_villainLairProgress", 10);
+    } else if (text.contains("5 casualties")
+        || text.contains("5 souls")
+        || text.contains("5 minions")
+        || text.contains("five minions")
+        || text.contains("group of ski")
+        || text.contains("5 members")
+        || text.contains("five people")
+        || text.contains("five of us")) {
+      Preferences.increment("_villainLairProgress", 5);
+    } else {
+      Preferences.decrement("_villainLairProgress", 7);
+    }
+    Preferences.setBoolean("_villainLairColorChoiceUsed", true);
+  }
 
-      case 1286:
-        {
-          // Resting in Peace
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 11) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Sprawling Cemetery,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            unlocks.append("The Labyrinthine Crypt,");
-          }
-          if (ChoiceManager.lastDecision == 2) {
-            unlocks.append("The Barrow Mounds,");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("Duke Vampire's Chateau,");
-          }
-          if (ChoiceManager.lastDecision == 10) {
-            Preferences.increment("_frButtonsPressed");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1261(
+      final String urlString, final GenericRequest request, final String text) {
+    // Which Door?
+    if (ChoiceManager.lastDecision == 1) {
+      if (text.contains("drop 1000")) {
+        Preferences.increment("_villainLairProgress", 10);
+        Preferences.setBoolean("_villainLairDoorChoiceUsed", true);
+      }
+    } else if (ChoiceManager.lastDecision == 2) {
+      if (text.contains("insert the key")) {
+        int itemId = -1;
+        String key = Preferences.getString("_villainLairKey");
+        if (key.equals("boris")) {
+          itemId = ItemPool.BORIS_KEY;
+        } else if (key.equals("jarlsberg")) {
+          itemId = ItemPool.JARLSBERG_KEY;
+        }
+        if (key.equals("pete")) {
+          itemId = ItemPool.SNEAKY_PETE_KEY;
+        }
+        ResultProcessor.removeItem(itemId);
+        Preferences.increment("_villainLairProgress", 15);
+        Preferences.setBoolean("_villainLairDoorChoiceUsed", true);
+      }
+    } else if (ChoiceManager.lastDecision == 3) {
+      Preferences.decrement("_villainLairProgress", 13);
+      Preferences.setBoolean("_villainLairDoorChoiceUsed", true);
+    }
+  }
 
-      case 1288:
-        {
-          // What's Yours is Yours
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Old Rubee Mine,", "");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1262(
+      final String urlString, final GenericRequest request, final String text) {
+    // What Setting?
+    if (ChoiceManager.lastDecision < 1 || ChoiceManager.lastDecision > 3) {
+      return;
+    }
+    if (text.contains("20 of the")
+        || text.contains("20 minions")
+        || text.contains("20 or so")
+        || text.contains("20 soldiers")) {
+      Preferences.increment("_villainLairProgress", 20);
+    } else if (text.contains("10 or so")
+        || text.contains("10 injured")
+        || text.contains("10 patrol-sicles")
+        || text.contains("10 soldiers")) {
+      Preferences.increment("_villainLairProgress", 10);
+    } else if (text.contains("15 aquanats")
+        || text.contains("15 reserve")
+        || text.contains("15 previously")
+        || text.contains("15 Soldiers")) {
+      Preferences.decrement("_villainLairProgress", 15);
+    }
+    Preferences.setBoolean("_villainLairSymbologyChoiceUsed", true);
+  }
 
-      case 1289:
-        {
-          // A Warm Place
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Foreboding Cave,", "");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("The Lair of the Phoenix,");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1266(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Hostler
+    if (ChoiceManager.lastDecision < 5) {
+      Pattern pattern = Pattern.compile("You rent(|ed) the (.*?)!");
+      Matcher matcher = pattern.matcher(text);
+      if (matcher.find()) {
+        String horse = matcher.group(2);
+        Preferences.setString("_horsery", horse);
+        String message = "Chose the " + horse;
+        RequestLogger.printLine(message);
+        RequestLogger.updateSessionLog(message);
+        String setting =
+            horse.equals("crazy horse")
+                ? "_horseryCrazyName"
+                : horse.equals("dark horse")
+                    ? "_horseryDarkName"
+                    : horse.equals("normal horse")
+                        ? "_horseryNormalName"
+                        : horse.equals("pale horse") ? "_horseryPaleName" : null;
+        if (setting != null) {
+          String name = Preferences.getString(setting);
+          Preferences.setString("_horseryCurrentName", name);
+        }
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      Preferences.setString("_horsery", "");
+      Preferences.setString("_horseryCurrentName", "");
+      String message = "Returned your horse";
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    }
+  }
 
-      case 1290:
-        {
-          // The Cyrkle Is Compleat
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Faerie Cyrkle,", "");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("The Spider Queen's Lair,");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1270(
+      final String urlString, final GenericRequest request, final String text) {
+    // Pantagramming
+    // The item that we get has a procedurally-generated name
+    request.setHasResult(false);
+    PantogramRequest.parseResponse(urlString, text);
+  }
 
-      case 1291:
-        {
-          // Dudes, Where's My Druids?
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Druidic Campsite,", "");
-          }
-          if (ChoiceManager.lastDecision == 2) {
-            ResultProcessor.removeItem(ItemPool.FR_TAINTED_MARSHMALLOW);
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1271(
+      final String urlString, final GenericRequest request, final String text) {
+    // Mummery
+    MummeryRequest.parseResponse(ChoiceManager.lastDecision, text);
+  }
 
-      case 1292:
-        {
-          // Witch One You Want?
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "Near the Witch's House,", "");
-          }
-          if (ChoiceManager.lastDecision == 2) {
-            ResultProcessor.removeItem(ItemPool.FR_PURPLE_MUSHROOM);
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1275(
+      final String urlString, final GenericRequest request, final String text) {
+    // Rummaging through the Garbage
+    if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 5) {
+      // Remove all of the items before parsing the newly-received one
+      EquipmentManager.removeEquipment(ItemPool.DECEASED_TREE);
+      ResultProcessor.removeItem(ItemPool.DECEASED_TREE);
+      EquipmentManager.removeEquipment(ItemPool.BROKEN_CHAMPAGNE);
+      ResultProcessor.removeItem(ItemPool.BROKEN_CHAMPAGNE);
+      EquipmentManager.removeEquipment(ItemPool.TINSEL_TIGHTS);
+      ResultProcessor.removeItem(ItemPool.TINSEL_TIGHTS);
+      EquipmentManager.removeEquipment(ItemPool.WAD_OF_TAPE);
+      ResultProcessor.removeItem(ItemPool.WAD_OF_TAPE);
+      EquipmentManager.removeEquipment(ItemPool.MAKESHIFT_GARBAGE_SHIRT);
+      ResultProcessor.removeItem(ItemPool.MAKESHIFT_GARBAGE_SHIRT);
+      if (!Preferences.getBoolean("_garbageItemChanged")) {
+        Preferences.setInteger("garbageTreeCharge", 1000);
+        Preferences.setInteger("garbageChampagneCharge", 11);
+        Preferences.setInteger("garbageShirtCharge", 37);
+      }
+      Preferences.setBoolean("_garbageItemChanged", true);
+    }
+    // Do some parsing of needles/wine/scraps here
+    Matcher matcher = DECEASED_TREE_PATTERN.matcher(text);
+    if (matcher.find()) {
+      Preferences.setInteger("garbageTreeCharge", StringUtilities.parseInt(matcher.group(1)));
+    }
+    matcher = BROKEN_CHAMPAGNE_PATTERN.matcher(text);
+    if (matcher.find()) {
+      Preferences.setInteger("garbageChampagneCharge", StringUtilities.parseInt(matcher.group(1)));
+    }
+    matcher = GARBAGE_SHIRT_PATTERN.matcher(text);
+    if (matcher.find()) {
+      Preferences.setInteger("garbageShirtCharge", StringUtilities.parseInt(matcher.group(1)));
+    }
+  }
 
-      case 1293:
-        {
-          // Altared States
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Evil Cathedral,", "");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1277(
+      final String urlString, final GenericRequest request, final String text) {
+    // Extra, Extra
+    if (ChoiceManager.lastDecision >= 1
+        && ChoiceManager.lastDecision <= 5
+        && text.contains("You acquire")) {
+      ResultProcessor.removeItem(ItemPool.BURNING_NEWSPAPER);
+    }
+  }
 
-      case 1294:
-        {
-          // Neither a Barrower Nor a Lender Be
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Barrow Mounds,", "");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            unlocks.append("The Ghoul King's Catacomb,");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1280(
+      final String urlString, final GenericRequest request, final String text) {
+    // Welcome to FantasyRealm
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.setInteger("_frHoursLeft", 5);
+      StringBuffer unlocks = new StringBuffer();
+      unlocks.append("The Bandit Crossroads,");
+      if (Preferences.getBoolean("frMountainsUnlocked")) {
+        unlocks.append("The Towering Mountains,");
+      }
+      if (Preferences.getBoolean("frWoodUnlocked")) {
+        unlocks.append("The Mystic Wood,");
+      }
+      if (Preferences.getBoolean("frSwampUnlocked")) {
+        unlocks.append("The Putrid Swamp,");
+      }
+      if (Preferences.getBoolean("frVillageUnlocked")) {
+        unlocks.append("The Cursed Village,");
+      }
+      if (Preferences.getBoolean("frCemetaryUnlocked")) {
+        unlocks.append("The Sprawling Cemetery,");
+      }
+      Preferences.setString("_frAreasUnlocked", unlocks.toString());
+    }
+  }
 
-      case 1295:
-        {
-          // Honor Among You
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Cursed Village Thieves' Guild,", "");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1281(
+      final String urlString, final GenericRequest request, final String text) {
+    // You'll See You at the Crossroads
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Bandit Crossroads,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      unlocks.append("The Towering Mountains,");
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      unlocks.append("The Mystic Wood,");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("The Putrid Swamp,");
+    }
+    if (ChoiceManager.lastDecision == 4) {
+      unlocks.append("The Cursed Village,");
+    }
+    if (ChoiceManager.lastDecision == 5) {
+      unlocks.append("The Sprawling Cemetery,");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1296:
-        {
-          // For Whom the Bell Trolls
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Troll Fortress,", "");
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            ResultProcessor.removeItem(ItemPool.FR_CHESWICKS_NOTES);
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1282(
+      final String urlString, final GenericRequest request, final String text) {
+    // Out of Range
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 11) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Towering Mountains,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      unlocks.append("The Old Rubee Mine,");
+      ResultProcessor.removeItem(ItemPool.FR_KEY);
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      unlocks.append("The Foreboding Cave,");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("The Master Thief's Chalet,");
+    }
+    if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.removeItem(ItemPool.FR_DRUIDIC_ORB);
+    }
+    if (ChoiceManager.lastDecision == 5) {
+      unlocks.append("The Ogre Chieftain's Keep,");
+    }
+    if (ChoiceManager.lastDecision == 10) {
+      Preferences.increment("_frButtonsPressed");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1297:
-        {
-          // Stick to the Crypt
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            Preferences.decrement("_frHoursLeft");
-            StringUtilities.singleStringReplace(unlocks, "The Labyrinthine Crypt,", "");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1283(
+      final String urlString, final GenericRequest request, final String text) {
+    // Where Wood You Like to Go
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 11) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Mystic Wood,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      unlocks.append("The Faerie Cyrkle,");
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      unlocks.append("The Druidic Campsite,");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("The Ley Nexus,");
+    }
+    if (ChoiceManager.lastDecision == 10) {
+      Preferences.increment("_frButtonsPressed");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1298:
-        {
-          // The "Phoenix"
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "The Lair of the Phoenix,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            ResultProcessor.removeItem(ItemPool.FR_HOLY_WATER);
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1284(
+      final String urlString, final GenericRequest request, final String text) {
+    // Swamped with Leisure
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 11) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Putrid Swamp,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      unlocks.append("Near the Witch's House,");
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      unlocks.append("The Troll Fortress,");
+      ResultProcessor.removeItem(ItemPool.FR_KEY);
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("The Dragon's Moor,");
+    }
+    if (ChoiceManager.lastDecision == 10) {
+      Preferences.increment("_frButtonsPressed");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1299:
-        {
-          // Stop Dragon Your Feet
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "The Dragon's Moor,", "");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1285(
+      final String urlString, final GenericRequest request, final String text) {
+    // It Takes a Cursed Village
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 11) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Cursed Village,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      unlocks.append("The Evil Cathedral,");
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      unlocks.append("The Cursed Village Thieves' Guild,");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("The Archwizard's Tower,");
+    }
+    if (ChoiceManager.lastDecision == 6) {
+      ResultProcessor.removeItem(ItemPool.FR_DRAGON_ORE);
+    }
+    if (ChoiceManager.lastDecision == 7) {
+      ResultProcessor.removeItem(ItemPool.FR_ARREST_WARRANT);
+    }
+    if (ChoiceManager.lastDecision == 10) {
+      Preferences.increment("_frButtonsPressed");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1300:
-        {
-          // Just Vamping
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "Duke Vampire's Chateau,", "");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1286(
+      final String urlString, final GenericRequest request, final String text) {
+    // Resting in Peace
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 11) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Sprawling Cemetery,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      unlocks.append("The Labyrinthine Crypt,");
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      unlocks.append("The Barrow Mounds,");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("Duke Vampire's Chateau,");
+    }
+    if (ChoiceManager.lastDecision == 10) {
+      Preferences.increment("_frButtonsPressed");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1301:
-        {
-          // Now You've Spied Her
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "The Spider Queen's Lair,", "");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1288(
+      final String urlString, final GenericRequest request, final String text) {
+    // What's Yours is Yours
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Old Rubee Mine,", "");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1302:
-        {
-          // Don't Be Arch
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "The Archwizard's Tower,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            ResultProcessor.removeItem(ItemPool.FR_CHARGED_ORB);
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1289(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Warm Place
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Foreboding Cave,", "");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("The Lair of the Phoenix,");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1303:
-        {
-          // Ley Lady Ley
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "The Ley Nexus,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            ResultProcessor.removeItem(ItemPool.FR_CHESWICKS_COMPASS);
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1290(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Cyrkle Is Compleat
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Faerie Cyrkle,", "");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("The Spider Queen's Lair,");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1304:
-        {
-          // He Is the Ghoul King, He Can Do Anything
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "The Ghoul King's Catacomb,", "");
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1291(
+      final String urlString, final GenericRequest request, final String text) {
+    // Dudes, Where's My Druids?
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Druidic Campsite,", "");
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.removeItem(ItemPool.FR_TAINTED_MARSHMALLOW);
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1305:
-        {
-          // The Brogre's Progress
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "The Ogre Chieftain's Keep,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            ResultProcessor.removeItem(ItemPool.FR_POISONED_SMORE);
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1292(
+      final String urlString, final GenericRequest request, final String text) {
+    // Witch One You Want?
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "Near the Witch's House,", "");
+    }
+    if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.removeItem(ItemPool.FR_PURPLE_MUSHROOM);
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1307:
-        {
-          // It Takes a Thief
-          StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
-          if (ChoiceManager.lastDecision != 6) {
-            StringUtilities.singleStringReplace(unlocks, "The Master Thief's Chalet,", "");
-          }
-          if (ChoiceManager.lastDecision == 1) {
-            ResultProcessor.removeItem(ItemPool.FR_NOTARIZED_WARRANT);
-          }
-          Preferences.setString("_frAreasUnlocked", unlocks.toString());
-          break;
-        }
+  private static void postChoice1Choice1293(
+      final String urlString, final GenericRequest request, final String text) {
+    // Altared States
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Evil Cathedral,", "");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
 
-      case 1312:
-        {
-          // Choose a Soundtrack
-          if (!text.contains("decide not to change the station")) {
-            String songChosen =
-                switch (ChoiceManager.lastDecision) {
-                  case 1 -> "Eye of the Giger";
-                  case 2 -> "Food Vibrations";
-                  case 3 -> "Remainin' Alive";
-                  case 4 -> "These Fists Were Made for Punchin'";
-                  case 5 -> "Total Eclipse of Your Meat";
-                  default -> "";
-                };
-            if (!songChosen.equals("")) {
-              if (!KoLCharacter.hasSkill(SkillPool.SING_ALONG)) {
-                KoLCharacter.addAvailableSkill(SkillPool.SING_ALONG);
-              }
-              if (!Preferences.getString("boomBoxSong").equals(songChosen)) {
-                Preferences.setString("boomBoxSong", songChosen);
-                Preferences.decrement("_boomBoxSongsLeft");
-                String message = "Setting soundtrack to " + songChosen;
-                RequestLogger.printLine(message);
-                RequestLogger.updateSessionLog(message);
-              }
-            } else {
-              if (KoLCharacter.hasSkill(SkillPool.SING_ALONG)) {
-                KoLCharacter.removeAvailableSkill(SkillPool.SING_ALONG);
-              }
-              if (!Preferences.getString("boomBoxSong").equals("")) {
-                Preferences.setString("boomBoxSong", "");
-                String message = "Switching soundtrack off";
-                RequestLogger.printLine(message);
-                RequestLogger.updateSessionLog(message);
-              }
-            }
-          }
-          break;
+  private static void postChoice1Choice1294(
+      final String urlString, final GenericRequest request, final String text) {
+    // Neither a Barrower Nor a Lender Be
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Barrow Mounds,", "");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      unlocks.append("The Ghoul King's Catacomb,");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1295(
+      final String urlString, final GenericRequest request, final String text) {
+    // Honor Among You
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Cursed Village Thieves' Guild,", "");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1296(
+      final String urlString, final GenericRequest request, final String text) {
+    // For Whom the Bell Trolls
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Troll Fortress,", "");
+    }
+    if (ChoiceManager.lastDecision == 3) {
+      ResultProcessor.removeItem(ItemPool.FR_CHESWICKS_NOTES);
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1297(
+      final String urlString, final GenericRequest request, final String text) {
+    // Stick to the Crypt
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      Preferences.decrement("_frHoursLeft");
+      StringUtilities.singleStringReplace(unlocks, "The Labyrinthine Crypt,", "");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1298(
+      final String urlString, final GenericRequest request, final String text) {
+    // The "Phoenix"
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "The Lair of the Phoenix,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.FR_HOLY_WATER);
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1299(
+      final String urlString, final GenericRequest request, final String text) {
+    // Stop Dragon Your Feet
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "The Dragon's Moor,", "");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1300(
+      final String urlString, final GenericRequest request, final String text) {
+    // Just Vamping
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "Duke Vampire's Chateau,", "");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1301(
+      final String urlString, final GenericRequest request, final String text) {
+    // Now You've Spied Her
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "The Spider Queen's Lair,", "");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1302(
+      final String urlString, final GenericRequest request, final String text) {
+    // Don't Be Arch
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "The Archwizard's Tower,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.FR_CHARGED_ORB);
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1303(
+      final String urlString, final GenericRequest request, final String text) {
+    // Ley Lady Ley
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "The Ley Nexus,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.FR_CHESWICKS_COMPASS);
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1304(
+      final String urlString, final GenericRequest request, final String text) {
+    // He Is the Ghoul King, He Can Do Anything
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "The Ghoul King's Catacomb,", "");
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1305(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Brogre's Progress
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "The Ogre Chieftain's Keep,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.FR_POISONED_SMORE);
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1307(
+      final String urlString, final GenericRequest request, final String text) {
+    // It Takes a Thief
+    StringBuffer unlocks = new StringBuffer(Preferences.getString("_frAreasUnlocked"));
+    if (ChoiceManager.lastDecision != 6) {
+      StringUtilities.singleStringReplace(unlocks, "The Master Thief's Chalet,", "");
+    }
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.FR_NOTARIZED_WARRANT);
+    }
+    Preferences.setString("_frAreasUnlocked", unlocks.toString());
+  }
+
+  private static void postChoice1Choice1312(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choose a Soundtrack
+    if (!text.contains("decide not to change the station")) {
+      String songChosen =
+          switch (ChoiceManager.lastDecision) {
+            case 1 -> "Eye of the Giger";
+            case 2 -> "Food Vibrations";
+            case 3 -> "Remainin' Alive";
+            case 4 -> "These Fists Were Made for Punchin'";
+            case 5 -> "Total Eclipse of Your Meat";
+            default -> "";
+          };
+      if (!songChosen.equals("")) {
+        if (!KoLCharacter.hasSkill(SkillPool.SING_ALONG)) {
+          KoLCharacter.addAvailableSkill(SkillPool.SING_ALONG);
+        }
+        if (!Preferences.getString("boomBoxSong").equals(songChosen)) {
+          Preferences.setString("boomBoxSong", songChosen);
+          Preferences.decrement("_boomBoxSongsLeft");
+          String message = "Setting soundtrack to " + songChosen;
+          RequestLogger.printLine(message);
+          RequestLogger.updateSessionLog(message);
         }
+      } else {
+        if (KoLCharacter.hasSkill(SkillPool.SING_ALONG)) {
+          KoLCharacter.removeAvailableSkill(SkillPool.SING_ALONG);
+        }
+        if (!Preferences.getString("boomBoxSong").equals("")) {
+          Preferences.setString("boomBoxSong", "");
+          String message = "Switching soundtrack off";
+          RequestLogger.printLine(message);
+          RequestLogger.updateSessionLog(message);
+        }
+      }
+    }
+  }
 
-      case 1313: // Bastille Battalion
-      case 1314: // Bastille Battalion (Master of None)
-      case 1315: // Castle vs. Castle
-      case 1316: // GAME OVER
-      case 1317: // A Hello to Arms (Battalion)
-      case 1318: // Defensive Posturing
-      case 1319: // Cheese Seeking Behavior
-        BastilleBattalionManager.postChoice1(urlString, request);
-        break;
+  // Bastille Battalion
+  // Bastille Battalion (Master of None)
+  // Castle vs. Castle
+  // GAME OVER
+  // A Hello to Arms (Battalion)
+  // Defensive Posturing
+  // Cheese Seeking Behavior
+  private static void postChoice1Choice1313(
+      final String urlString, final GenericRequest request, final String text) {
+    BastilleBattalionManager.postChoice1(urlString, request);
+  }
 
-      case 1322:
-        {
-          // The Beginning of the Neverend
-          boolean hard = KoLCharacter.hasEquipped(ItemPool.PARTY_HARD_T_SHIRT);
-          Preferences.setBoolean("_partyHard", hard);
-          if (ChoiceManager.lastDecision == 1) {
-            // Decided to quest
-            Preferences.setInteger("encountersUntilNEPChoice", 7);
-
-            String quest = Preferences.getString("_questPartyFairQuest");
-            if (quest.equals("booze") || quest.equals("food")) {
-              QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, QuestDatabase.STARTED);
-              Preferences.setString("_questPartyFairProgress", "");
+  private static void postChoice1Choice1322(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Beginning of the Neverend
+    boolean hard = KoLCharacter.hasEquipped(ItemPool.PARTY_HARD_T_SHIRT);
+    Preferences.setBoolean("_partyHard", hard);
+    if (ChoiceManager.lastDecision == 1) {
+      // Decided to quest
+      Preferences.setInteger("encountersUntilNEPChoice", 7);
+
+      String quest = Preferences.getString("_questPartyFairQuest");
+      if (quest.equals("booze") || quest.equals("food")) {
+        QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, QuestDatabase.STARTED);
+        Preferences.setString("_questPartyFairProgress", "");
+      } else {
+        QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step1");
+        switch (quest) {
+          case "woots":
+            Preferences.setInteger("_questPartyFairProgress", 10);
+            break;
+          case "partiers":
+            if (hard) {
+              Preferences.setInteger("_questPartyFairProgress", 100);
             } else {
-              QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step1");
-              switch (quest) {
-                case "woots":
-                  Preferences.setInteger("_questPartyFairProgress", 10);
-                  break;
-                case "partiers":
-                  if (hard) {
-                    Preferences.setInteger("_questPartyFairProgress", 100);
-                  } else {
-                    Preferences.setInteger("_questPartyFairProgress", 50);
-                  }
-                  break;
-                case "dj":
-                  if (hard) {
-                    Preferences.setInteger("_questPartyFairProgress", 10000);
-                  } else {
-                    Preferences.setInteger("_questPartyFairProgress", 5000);
-                  }
-                  break;
-                case "trash":
-                  // The amount isn't known, so check quest log
-                  (new GenericRequest("questlog.php?which=1")).run();
-                  break;
-              }
+              Preferences.setInteger("_questPartyFairProgress", 50);
             }
-          } else if (ChoiceManager.lastDecision == 2) {
-            // Decided to party
-            Preferences.setString("_questPartyFair", "");
-            Preferences.setString("_questPartyFairQuest", "");
-            Preferences.setString("_questPartyFairProgress", "");
-          }
-          break;
+            break;
+          case "dj":
+            if (hard) {
+              Preferences.setInteger("_questPartyFairProgress", 10000);
+            } else {
+              Preferences.setInteger("_questPartyFairProgress", 5000);
+            }
+            break;
+          case "trash":
+            // The amount isn't known, so check quest log
+            (new GenericRequest("questlog.php?which=1")).run();
+            break;
         }
+      }
+    } else if (ChoiceManager.lastDecision == 2) {
+      // Decided to party
+      Preferences.setString("_questPartyFair", "");
+      Preferences.setString("_questPartyFairQuest", "");
+      Preferences.setString("_questPartyFairProgress", "");
+    }
+  }
 
-      case 1323:
-        // All Done!
-        QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, QuestDatabase.FINISHED);
-        Preferences.setString("_questPartyFairQuest", "");
-        Preferences.setString("_questPartyFairProgress", "");
-        break;
+  private static void postChoice1Choice1323(
+      final String urlString, final GenericRequest request, final String text) {
+    // All Done!
+    QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, QuestDatabase.FINISHED);
+    Preferences.setString("_questPartyFairQuest", "");
+    Preferences.setString("_questPartyFairProgress", "");
+  }
 
-      case 1324:
-        // It Hasn't Ended, It's Just Paused
-        // Decision 5 is followed by a fight, which will decrement the free turns available itself
-        if (ChoiceManager.lastDecision != 5) {
-          Preferences.decrement("encountersUntilNEPChoice", 1, 0);
-          Preferences.increment("_neverendingPartyFreeTurns", 1, 10, false);
-        }
-        break;
+  private static void postChoice1Choice1324(
+      final String urlString, final GenericRequest request, final String text) {
+    // It Hasn't Ended, It's Just Paused
+    // Decision 5 is followed by a fight, which will decrement the free turns available itself
+    if (ChoiceManager.lastDecision != 5) {
+      Preferences.decrement("encountersUntilNEPChoice", 1, 0);
+      Preferences.increment("_neverendingPartyFreeTurns", 1, 10, false);
+    }
+  }
 
-      case 1325:
-        // A Room With a View...  Of a Bed
-        if (ChoiceManager.lastDecision == 3) {
-          // Removes 30% of current partiers
-          int current = Preferences.getInteger("_questPartyFairProgress");
-          Preferences.setInteger(
-              "_questPartyFairProgress", current - (int) Math.floor(current * 0.3));
-          ResultProcessor.removeItem(ItemPool.JAM_BAND_BOOTLEG);
-        } else if (ChoiceManager.lastDecision == 4) {
-          // On dj quest (choice number guessed)
-          Matcher matcher = SAFE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.decrement(
-                "_questPartyFairProgress", StringUtilities.parseInt(matcher.group(1)), 0);
-            if (Preferences.getInteger("_questPartyFairProgress") < 1) {
-              QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
-            }
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          // On woots quest
-          Preferences.increment("_questPartyFairProgress", 20, 100, false);
-          if (Preferences.getInteger("_questPartyFairProgress") == 100) {
-            QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
-          }
-          ResultProcessor.removeItem(ItemPool.VERY_SMALL_RED_DRESS);
+  private static void postChoice1Choice1325(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Room With a View...  Of a Bed
+    if (ChoiceManager.lastDecision == 3) {
+      // Removes 30% of current partiers
+      int current = Preferences.getInteger("_questPartyFairProgress");
+      Preferences.setInteger("_questPartyFairProgress", current - (int) Math.floor(current * 0.3));
+      ResultProcessor.removeItem(ItemPool.JAM_BAND_BOOTLEG);
+    } else if (ChoiceManager.lastDecision == 4) {
+      // On dj quest (choice number guessed)
+      Matcher matcher = SAFE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.decrement(
+            "_questPartyFairProgress", StringUtilities.parseInt(matcher.group(1)), 0);
+        if (Preferences.getInteger("_questPartyFairProgress") < 1) {
+          QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
         }
-        break;
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      // On woots quest
+      Preferences.increment("_questPartyFairProgress", 20, 100, false);
+      if (Preferences.getInteger("_questPartyFairProgress") == 100) {
+        QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
+      }
+      ResultProcessor.removeItem(ItemPool.VERY_SMALL_RED_DRESS);
+    }
+  }
 
-      case 1326:
-        // Gone Kitchin'
-        if (ChoiceManager.lastDecision == 3) {
-          Matcher matcher = GERALDINE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            int itemCount = StringUtilities.parseInt(matcher.group(1));
-            int itemId = ItemDatabase.getItemIdFromDescription(matcher.group(2));
-            Preferences.setString("_questPartyFairProgress", itemCount + " " + itemId);
-            if (InventoryManager.getCount(itemId) >= itemCount) {
-              QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
-            }
-          }
-          QuestDatabase.setQuestIfBetter(Quest.PARTY_FAIR, "step1");
-        } else if (ChoiceManager.lastDecision == 4) {
-          String pref = Preferences.getString("_questPartyFairProgress");
-          String itemIdString = null;
-          int position = pref.indexOf(" ");
-          if (position > 0) {
-            itemIdString = pref.substring(position);
-            if (itemIdString != null) {
-              ResultProcessor.processItem(StringUtilities.parseInt(itemIdString), -10);
-            }
-          }
-          QuestDatabase.setQuestIfBetter(Quest.PARTY_FAIR, QuestDatabase.FINISHED);
-          Preferences.setString("_questPartyFairQuest", "");
-          Preferences.setString("_questPartyFairProgress", "");
-        } else if (ChoiceManager.lastDecision == 5) {
-          Matcher matcher = TRASH_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.decrement(
-                "_questPartyFairProgress", StringUtilities.parseInt(matcher.group(1)), 0);
-          }
-        }
-        break;
+  private static void postChoice1Choice1326(
+      final String urlString, final GenericRequest request, final String text) {
+    // Gone Kitchin'
+    if (ChoiceManager.lastDecision == 3) {
+      Matcher matcher = GERALDINE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        int itemCount = StringUtilities.parseInt(matcher.group(1));
+        int itemId = ItemDatabase.getItemIdFromDescription(matcher.group(2));
+        Preferences.setString("_questPartyFairProgress", itemCount + " " + itemId);
+        if (InventoryManager.getCount(itemId) >= itemCount) {
+          QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
+        }
+      }
+      QuestDatabase.setQuestIfBetter(Quest.PARTY_FAIR, "step1");
+    } else if (ChoiceManager.lastDecision == 4) {
+      String pref = Preferences.getString("_questPartyFairProgress");
+      String itemIdString = null;
+      int position = pref.indexOf(" ");
+      if (position > 0) {
+        itemIdString = pref.substring(position);
+        if (itemIdString != null) {
+          ResultProcessor.processItem(StringUtilities.parseInt(itemIdString), -10);
+        }
+      }
+      QuestDatabase.setQuestIfBetter(Quest.PARTY_FAIR, QuestDatabase.FINISHED);
+      Preferences.setString("_questPartyFairQuest", "");
+      Preferences.setString("_questPartyFairProgress", "");
+    } else if (ChoiceManager.lastDecision == 5) {
+      Matcher matcher = TRASH_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.decrement(
+            "_questPartyFairProgress", StringUtilities.parseInt(matcher.group(1)), 0);
+      }
+    }
+  }
 
-      case 1327:
-        // Forward to the Back
-        if (ChoiceManager.lastDecision == 3) {
-          Matcher matcher = GERALD_PATTERN.matcher(text);
-          if (matcher.find()) {
-            int itemCount = StringUtilities.parseInt(matcher.group(1));
-            int itemId = ItemDatabase.getItemIdFromDescription(matcher.group(2));
-            Preferences.setString("_questPartyFairProgress", itemCount + " " + itemId);
-            if (InventoryManager.getCount(itemId) >= itemCount) {
-              QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
-            }
-          }
-          QuestDatabase.setQuestIfBetter(Quest.PARTY_FAIR, "step1");
-        } else if (ChoiceManager.lastDecision == 4) {
-          String pref = Preferences.getString("_questPartyFairProgress");
-          String itemIdString = null;
-          int position = pref.indexOf(" ");
-          if (position > 0) {
-            itemIdString = pref.substring(position);
-            if (itemIdString != null) {
-              int itemCount = Preferences.getBoolean("_partyHard") ? 20 : 10;
-              ResultProcessor.processItem(StringUtilities.parseInt(itemIdString), -itemCount);
-            }
-          }
-          QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, QuestDatabase.FINISHED);
-          Preferences.setString("_questPartyFairQuest", "");
-          Preferences.setString("_questPartyFairProgress", "");
-        } else if (ChoiceManager.lastDecision == 5) {
-          // Removes 20% of current partiers
-          int current = Preferences.getInteger("_questPartyFairProgress");
-          Preferences.setInteger(
-              "_questPartyFairProgress", current - (int) Math.floor(current * 0.2));
-          ResultProcessor.removeItem(ItemPool.PURPLE_BEAST_ENERGY_DRINK);
+  private static void postChoice1Choice1327(
+      final String urlString, final GenericRequest request, final String text) {
+    // Forward to the Back
+    if (ChoiceManager.lastDecision == 3) {
+      Matcher matcher = GERALD_PATTERN.matcher(text);
+      if (matcher.find()) {
+        int itemCount = StringUtilities.parseInt(matcher.group(1));
+        int itemId = ItemDatabase.getItemIdFromDescription(matcher.group(2));
+        Preferences.setString("_questPartyFairProgress", itemCount + " " + itemId);
+        if (InventoryManager.getCount(itemId) >= itemCount) {
+          QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
+        }
+      }
+      QuestDatabase.setQuestIfBetter(Quest.PARTY_FAIR, "step1");
+    } else if (ChoiceManager.lastDecision == 4) {
+      String pref = Preferences.getString("_questPartyFairProgress");
+      String itemIdString = null;
+      int position = pref.indexOf(" ");
+      if (position > 0) {
+        itemIdString = pref.substring(position);
+        if (itemIdString != null) {
+          int itemCount = Preferences.getBoolean("_partyHard") ? 20 : 10;
+          ResultProcessor.processItem(StringUtilities.parseInt(itemIdString), -itemCount);
+        }
+      }
+      QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, QuestDatabase.FINISHED);
+      Preferences.setString("_questPartyFairQuest", "");
+      Preferences.setString("_questPartyFairProgress", "");
+    } else if (ChoiceManager.lastDecision == 5) {
+      // Removes 20% of current partiers
+      int current = Preferences.getInteger("_questPartyFairProgress");
+      Preferences.setInteger("_questPartyFairProgress", current - (int) Math.floor(current * 0.2));
+      ResultProcessor.removeItem(ItemPool.PURPLE_BEAST_ENERGY_DRINK);
+    }
+  }
+
+  private static void postChoice1Choice1328(
+      final String urlString, final GenericRequest request, final String text) {
+    // Basement Urges
+    if (ChoiceManager.lastDecision == 4) {
+      // On woots quest
+      Preferences.increment("_questPartyFairProgress", 20, 100, false);
+      if (Preferences.getInteger("_questPartyFairProgress") == 100) {
+        QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
+      }
+      ResultProcessor.removeItem(ItemPool.ELECTRONICS_KIT);
+    }
+  }
+
+  private static void postChoice1Choice1329(
+      final String urlString, final GenericRequest request, final String text) {
+    // Latte Shop
+    // The item that we get has a procedurally-generated name
+    request.setHasResult(false);
+    LatteRequest.parseResponse(urlString, text);
+  }
+
+  private static void postChoice1Choice1331(
+      final String urlString, final GenericRequest request, final String text) {
+    // Daily Loathing Ballot
+    if (ChoiceManager.lastDecision == 1 && !text.contains("must vote for a candidate")) {
+      ModifierList modList = new ModifierList();
+      Matcher matcher = URL_VOTE_PATTERN.matcher(urlString);
+      while (matcher.find()) {
+        int vote = StringUtilities.parseInt(matcher.group(1)) + 1;
+        String pref = Preferences.getString("_voteLocal" + vote);
+        ModifierList addModList = ModifierDatabase.splitModifiers(pref);
+        for (ModifierValue modifier : addModList) {
+          modList.addToModifier(modifier);
         }
-        break;
+      }
+      Preferences.setString("_voteModifier", modList.toString());
+      String message = "You have cast your votes";
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+    }
+  }
 
-      case 1328:
-        // Basement Urges
-        if (ChoiceManager.lastDecision == 4) {
-          // On woots quest
-          Preferences.increment("_questPartyFairProgress", 20, 100, false);
-          if (Preferences.getInteger("_questPartyFairProgress") == 100) {
-            QuestDatabase.setQuestProgress(Quest.PARTY_FAIR, "step2");
-          }
-          ResultProcessor.removeItem(ItemPool.ELECTRONICS_KIT);
+  private static void postChoice1Choice1332(
+      final String urlString, final GenericRequest request, final String text) {
+    // government requisition form
+    ResultProcessor.removeItem(ItemPool.GOVERNMENT_REQUISITION_FORM);
+  }
+
+  private static void postChoice1Choice1333(
+      final String urlString, final GenericRequest request, final String text) {
+    // Canadian cabin
+    if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.removeItem(ItemPool.MOOSEFLANK);
+    } else if (ChoiceManager.lastDecision == 3) {
+      ResultProcessor.processItem(ItemPool.WALRUS_BLUBBER, -10);
+    } else if (ChoiceManager.lastDecision == 4) {
+      ResultProcessor.processItem(ItemPool.TINY_BOMB, -10);
+    }
+  }
+
+  private static void postChoice1Choice1334(
+      final String urlString, final GenericRequest request, final String text) {
+    // Boxing Daycare (Lobby)
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("_daycareNap", true);
+    } else if (ChoiceManager.lastDecision == 2 && text.contains("only allowed one spa treatment")) {
+      Preferences.setBoolean("_daycareSpa", true);
+    }
+  }
+
+  private static void postChoice1Choice1335(
+      final String urlString, final GenericRequest request, final String text) {
+    // Boxing Day Spa
+    if (ChoiceManager.lastDecision != 5) {
+      Preferences.setBoolean("_daycareSpa", true);
+    }
+  }
+
+  private static void postChoice1Choice1336(
+      final String urlString, final GenericRequest request, final String text) {
+    // Boxing Daycare
+    String message1 = null;
+    String message2 = null;
+    if (ChoiceManager.lastDecision == 1) {
+      Matcher matcher = DAYCARE_RECRUIT_PATTERN.matcher(text);
+      if (matcher.find()) {
+        message1 = "Activity: Recruit toddlers";
+        message2 = "You have recruited " + matcher.group(1) + " toddlers";
+        Preferences.increment("_daycareRecruits");
+      }
+    } else if (ChoiceManager.lastDecision == 2) {
+      Matcher matcher = DAYCARE_EQUIPMENT_PATTERN.matcher(text);
+      if (matcher.find()) {
+        AdventureResult effect = EffectPool.get(EffectPool.BOXING_DAY_BREAKFAST, 0);
+        boolean haveBreakfast = effect.getCount(KoLConstants.activeEffects) > 0;
+        String countString = matcher.group(1);
+        int equipment = StringUtilities.parseInt(countString.replaceAll(",", ""));
+        Preferences.setInteger("daycareLastScavenge", equipment / (haveBreakfast ? 2 : 1));
+
+        message1 = "Activity: Scavenge for gym equipment";
+        message2 = "You have found " + countString + " pieces of gym equipment";
+        Preferences.increment("_daycareGymScavenges");
+      }
+    } else if (ChoiceManager.lastDecision == 3) {
+      if (text.contains("new teacher joins the staff")) {
+        message1 = "Activity: Hire an instructor";
+        message2 = "You have hired a new instructor";
+      }
+      Matcher matcher = DAYCARE_ITEM_PATTERN.matcher(text);
+      if (matcher.find()) {
+        String itemName = matcher.group(1);
+        int itemCount = StringUtilities.parseInt(matcher.group(2).replaceAll(",", ""));
+        ResultProcessor.processItem(ItemDatabase.getItemId(itemName), -itemCount);
+      }
+    } else if (ChoiceManager.lastDecision == 4) {
+      if (text.contains("step into the ring")) {
+        message1 = "Activity: Spar";
+        Preferences.setBoolean("_daycareFights", true);
+      }
+    }
+    if (message1 != null) {
+      RequestLogger.printLine(message1);
+      RequestLogger.updateSessionLog(message1);
+    }
+    if (message2 != null) {
+      RequestLogger.printLine(message2);
+      RequestLogger.updateSessionLog(message2);
+    }
+  }
+
+  private static void postChoice1Choice1340(
+      final String urlString, final GenericRequest request, final String text) {
+    // Is There A Doctor In The House?
+    if (ChoiceManager.lastDecision == 1) {
+      if (Preferences.getString("doctorBagQuestItem").isEmpty()) {
+        // We didn't recognise quest text, so get it from quest log
+        RequestThread.postRequest(new QuestLogRequest());
+      }
+      int itemId = ItemDatabase.getItemId(Preferences.getString("doctorBagQuestItem"));
+
+      if (itemId > 0) {
+        if (InventoryManager.getCount(itemId) > 0) {
+          QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, "step1");
+        } else {
+          QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, QuestDatabase.STARTED);
         }
-        break;
+      } else {
+        QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, QuestDatabase.STARTED);
+      }
+    } else {
+      QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, QuestDatabase.UNSTARTED);
+      Preferences.setString("doctorBagQuestItem", "");
+      Preferences.setString("doctorBagQuestLocation", "");
+    }
+  }
 
-      case 1329:
-        // Latte Shop
-        // The item that we get has a procedurally-generated name
-        request.setHasResult(false);
-        LatteRequest.parseResponse(urlString, text);
-        break;
+  private static void postChoice1Choice1341(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Pound of Cure
+    if (ChoiceManager.lastDecision == 1) {
+      String itemName = Preferences.getString("doctorBagQuestItem");
+      if (!itemName.equals("")) {
+        ResultProcessor.processItem(ItemDatabase.getItemId(itemName), -1);
+      } else {
+        // Don't know item to remove so refresh inventory instead
+        ApiRequest.updateInventory();
+      }
+      QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, QuestDatabase.UNSTARTED);
+      Preferences.setString("doctorBagQuestItem", "");
+      Preferences.setString("doctorBagQuestLocation", "");
+      if (text.contains("One of the five green lights")) {
+        Preferences.setInteger("doctorBagQuestLights", 1);
+      } else if (text.contains("second of the five green lights")) {
+        Preferences.setInteger("doctorBagQuestLights", 2);
+      } else if (text.contains("third of the five green lights")) {
+        Preferences.setInteger("doctorBagQuestLights", 3);
+      } else if (text.contains("fourth of the five green lights")) {
+        Preferences.setInteger("doctorBagQuestLights", 4);
+      } else if (text.contains("lights go dark again")) {
+        Preferences.setInteger("doctorBagQuestLights", 0);
+      }
+      if (text.contains("bag has been permanently upgraded")) {
+        Preferences.increment("doctorBagUpgrades");
+      }
+    }
+  }
 
-      case 1331:
-        // Daily Loathing Ballot
-        if (ChoiceManager.lastDecision == 1 && !text.contains("must vote for a candidate")) {
-          ModifierList modList = new ModifierList();
-          Matcher matcher = URL_VOTE_PATTERN.matcher(urlString);
-          while (matcher.find()) {
-            int vote = StringUtilities.parseInt(matcher.group(1)) + 1;
-            String pref = Preferences.getString("_voteLocal" + vote);
-            ModifierList addModList = ModifierDatabase.splitModifiers(pref);
-            for (ModifierValue modifier : addModList) {
-              modList.addToModifier(modifier);
-            }
-          }
-          Preferences.setString("_voteModifier", modList.toString());
-          String message = "You have cast your votes";
+  private static void postChoice1Choice1342(
+      final String urlString, final GenericRequest request, final String text) {
+    // Torpor
+    if (ChoiceManager.lastDecision == 2) {
+      // You can learn or forget Vampyre skills
+      for (int i = 10; i < 39; i++) {
+        if (urlString.contains("sk[]=" + i) && !KoLCharacter.hasSkill(24000 + i)) {
+          String skillName = SkillDatabase.getSkillName(24000 + i);
+          KoLCharacter.addAvailableSkill(skillName);
+          String message = "You have learned " + skillName;
           RequestLogger.printLine(message);
           RequestLogger.updateSessionLog(message);
         }
-        break;
+        if (!urlString.contains("sk[]=" + i) && KoLCharacter.hasSkill(24000 + i)) {
+          String skillName = SkillDatabase.getSkillName(24000 + i);
+          KoLCharacter.removeAvailableSkill(skillName);
+          String message = "You have forgotten " + skillName;
+          RequestLogger.printLine(message);
+          RequestLogger.updateSessionLog(message);
+        }
+      }
+    }
+  }
 
-      case 1332:
-        // government requisition form
-        ResultProcessor.removeItem(ItemPool.GOVERNMENT_REQUISITION_FORM);
-        break;
+  // Groggy's Tavern
+  private static void postChoice1Choice1347(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.setString(
+        "_pirateRealmCrewmate",
+        Preferences.getString("_pirateRealmCrewmate" + ChoiceManager.lastDecision));
+  }
 
-      case 1333:
-        // Canadian cabin
-        if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.removeItem(ItemPool.MOOSEFLANK);
-        } else if (ChoiceManager.lastDecision == 3) {
-          ResultProcessor.processItem(ItemPool.WALRUS_BLUBBER, -10);
-        } else if (ChoiceManager.lastDecision == 4) {
-          ResultProcessor.processItem(ItemPool.TINY_BOMB, -10);
-        }
-        break;
+  // Seaside Curios
+  private static void postChoice1Choice1348(
+      final String urlString, final GenericRequest request, final String text) {
+    // The item ids are in order from 10190 to 10195
+    Preferences.setString("_pirateRealmCurio", String.valueOf(10189 + ChoiceManager.lastDecision));
+  }
 
-      case 1334:
-        // Boxing Daycare (Lobby)
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("_daycareNap", true);
-        } else if (ChoiceManager.lastDecision == 2
-            && text.contains("only allowed one spa treatment")) {
-          Preferences.setBoolean("_daycareSpa", true);
-        }
-        break;
+  // Dishonest Ed's Ships
+  private static void postChoice1Choice1349(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.setString(
+        "_pirateRealmShip",
+        switch (ChoiceManager.lastDecision) {
+          case 1 -> "Rigged Frigate";
+          case 2 -> "Intimidating Galleon";
+          case 3 -> "Speedy Caravel";
+          case 4 -> "Swift Clipper";
+          case 5 -> "Menacing Man o' War";
+          default -> "";
+        });
+    Preferences.setInteger(
+        "_pirateRealmShipSpeed",
+        switch (ChoiceManager.lastDecision) {
+          case 1, 2 -> 7;
+          case 3 -> 6;
+          case 4 -> 4;
+          case 5 -> 9;
+          default -> 0;
+        });
+  }
 
-      case 1335:
-        // Boxing Day Spa
-        if (ChoiceManager.lastDecision != 5) {
-          Preferences.setBoolean("_daycareSpa", true);
-        }
-        break;
+  //  Island #1, Who Are You?
+  //  What's Behind Island #2?
+  //  Third Island's the Charm
+  private static void postChoice1Choice1352(
+      final String urlString, final GenericRequest request, final String text) {
+    // Advance quest progress
+    QuestManager.setPirateRealmIslandQuestProgress(ChoiceManager.lastChoice - 1352, 0);
+    // Reset per-island flags
+    Preferences.setInteger("_pirateRealmIslandMonstersDefeated", 0);
+    Preferences.setInteger("_pirateRealmSailingTurns", 0);
+    Preferences.setBoolean("_pirateRealmWindicleUsed", false);
+  }
 
-      case 1336:
-        {
-          // Boxing Daycare
-          String message1 = null;
-          String message2 = null;
-          if (ChoiceManager.lastDecision == 1) {
-            Matcher matcher = DAYCARE_RECRUIT_PATTERN.matcher(text);
-            if (matcher.find()) {
-              message1 = "Activity: Recruit toddlers";
-              message2 = "You have recruited " + matcher.group(1) + " toddlers";
-              Preferences.increment("_daycareRecruits");
-            }
-          } else if (ChoiceManager.lastDecision == 2) {
-            Matcher matcher = DAYCARE_EQUIPMENT_PATTERN.matcher(text);
-            if (matcher.find()) {
-              AdventureResult effect = EffectPool.get(EffectPool.BOXING_DAY_BREAKFAST, 0);
-              boolean haveBreakfast = effect.getCount(KoLConstants.activeEffects) > 0;
-              String countString = matcher.group(1);
-              int equipment = StringUtilities.parseInt(countString.replaceAll(",", ""));
-              Preferences.setInteger("daycareLastScavenge", equipment / (haveBreakfast ? 2 : 1));
-
-              message1 = "Activity: Scavenge for gym equipment";
-              message2 = "You have found " + countString + " pieces of gym equipment";
-              Preferences.increment("_daycareGymScavenges");
-            }
-          } else if (ChoiceManager.lastDecision == 3) {
-            if (text.contains("new teacher joins the staff")) {
-              message1 = "Activity: Hire an instructor";
-              message2 = "You have hired a new instructor";
-            }
-            Matcher matcher = DAYCARE_ITEM_PATTERN.matcher(text);
-            if (matcher.find()) {
-              String itemName = matcher.group(1);
-              int itemCount = StringUtilities.parseInt(matcher.group(2).replaceAll(",", ""));
-              ResultProcessor.processItem(ItemDatabase.getItemId(itemName), -itemCount);
-            }
-          } else if (ChoiceManager.lastDecision == 4) {
-            if (text.contains("step into the ring")) {
-              message1 = "Activity: Spar";
-              Preferences.setBoolean("_daycareFights", true);
-            }
-          }
-          if (message1 != null) {
-            RequestLogger.printLine(message1);
-            RequestLogger.updateSessionLog(message1);
-          }
-          if (message2 != null) {
-            RequestLogger.printLine(message2);
-            RequestLogger.updateSessionLog(message2);
-          }
-          break;
-        }
+  private static void postChoice1Choice1355(
+      final String urlString, final GenericRequest request, final String text) {
+  //  Land Ho!
+    // Step 3 -> 4, 8 -> 9 or 13 -> 14
+    QuestManager.setPirateRealmIslandQuestProgress(2);
+  }
+
+  // Like Shops in the Night
+  private static void postChoice1Choice1360(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 5 && text.contains("You gain 500 gold")) {
+      // Sell them the cursed compass
+      Preferences.setBoolean("_pirateRealmSoldCompass", true);
+      // Remove from equipment (including checkpoints)
+      if (EquipmentManager.discardEquipment(ItemPool.CURSED_COMPASS) == Slot.NONE) {
+        // Remove from inventory
+        ResultProcessor.removeItem(ItemPool.CURSED_COMPASS);
+      }
+    }
+  }
+
+  // Stormy Weather
+  private static void postChoice1Choice1362(
+      final String urlString, final GenericRequest request, final String text) {
+    // Try to gain some extra distance
+    if (ChoiceManager.lastDecision == 2) {
+      if (text.contains("you manage to outsail the storm")) {
+        // This is already incremented in postChoice0, but successful sailing increments it one
+        // further.
+        var turns = Preferences.increment("_pirateRealmSailingTurns", 1);
+        // Since the value is already incremented, we could have already reached the island. The
+        // subquest progress
+        // function is smart enough to handle this, however.
+        if (turns >= Preferences.getInteger("_pirateRealmShipSpeed")) {
+          QuestManager.setPirateRealmIslandQuestProgress(1);
+        }
+        Preferences.increment("pirateRealmStormsEscaped", 1, 10, false);
+      }
+    }
+  }
+
+  // An Opportunity for Dastardly Do
+  private static void postChoice1Choice1364(
+      final String urlString, final GenericRequest request, final String text) {
+    // Attack them
+    if (ChoiceManager.lastDecision == 1) {
+      if (text.contains("blast them to bits")) {
+        Preferences.increment("pirateRealmShipsDestroyed", 1, 10, false);
+      }
+    }
+  }
 
-      case 1340:
-        // Is There A Doctor In The House?
-        if (ChoiceManager.lastDecision == 1) {
-          if (Preferences.getString("doctorBagQuestItem").isEmpty()) {
-            // We didn't recognise quest text, so get it from quest log
-            RequestThread.postRequest(new QuestLogRequest());
-          }
-          int itemId = ItemDatabase.getItemId(Preferences.getString("doctorBagQuestItem"));
+  // A Sea Monster!
+  private static void postChoice1Choice1365(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1) {
+      if (text.contains("plush sea serpent")) {
+        Preferences.setBoolean("pirateRealmUnlockedPlushie", true);
+      }
+    }
+  }
 
-          if (itemId > 0) {
-            if (InventoryManager.getCount(itemId) > 0) {
-              QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, "step1");
-            } else {
-              QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, QuestDatabase.STARTED);
-            }
-          } else {
-            QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, QuestDatabase.STARTED);
-          }
-        } else {
-          QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, QuestDatabase.UNSTARTED);
-          Preferences.setString("doctorBagQuestItem", "");
-          Preferences.setString("doctorBagQuestLocation", "");
-        }
-        break;
+  // The Battle (Island) Is Won
+  // Skull's Well That Ends Skull
+  // The Key Takeaway
+  // Just Desserts
+  private static void postChoice1Choice1369(
+      final String urlString, final GenericRequest request, final String text) {
+    QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 6);
+  }
 
-      case 1341:
-        // A Pound of Cure
-        if (ChoiceManager.lastDecision == 1) {
-          String itemName = Preferences.getString("doctorBagQuestItem");
-          if (!itemName.equals("")) {
-            ResultProcessor.processItem(ItemDatabase.getItemId(itemName), -1);
-          } else {
-            // Don't know item to remove so refresh inventory instead
-            ApiRequest.updateInventory();
-          }
-          QuestDatabase.setQuestProgress(Quest.DOCTOR_BAG, QuestDatabase.UNSTARTED);
-          Preferences.setString("doctorBagQuestItem", "");
-          Preferences.setString("doctorBagQuestLocation", "");
-          if (text.contains("One of the five green lights")) {
-            Preferences.setInteger("doctorBagQuestLights", 1);
-          } else if (text.contains("second of the five green lights")) {
-            Preferences.setInteger("doctorBagQuestLights", 2);
-          } else if (text.contains("third of the five green lights")) {
-            Preferences.setInteger("doctorBagQuestLights", 3);
-          } else if (text.contains("fourth of the five green lights")) {
-            Preferences.setInteger("doctorBagQuestLights", 4);
-          } else if (text.contains("lights go dark again")) {
-            Preferences.setInteger("doctorBagQuestLights", 0);
-          }
-          if (text.contains("bag has been permanently upgraded")) {
-            Preferences.increment("doctorBagUpgrades");
-          }
-        }
-        break;
+  // You Can See Clearly Now
+  private static void postChoice1Choice1372(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.setBoolean("pirateRealmUnlockedRhum", true);
+    QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 6);
+  }
 
-      case 1342:
-        // Torpor
-        if (ChoiceManager.lastDecision == 2) {
-          // You can learn or forget Vampyre skills
-          for (int i = 10; i < 39; i++) {
-            if (urlString.contains("sk[]=" + i) && !KoLCharacter.hasSkill(24000 + i)) {
-              String skillName = SkillDatabase.getSkillName(24000 + i);
-              KoLCharacter.addAvailableSkill(skillName);
-              String message = "You have learned " + skillName;
-              RequestLogger.printLine(message);
-              RequestLogger.updateSessionLog(message);
-            }
-            if (!urlString.contains("sk[]=" + i) && KoLCharacter.hasSkill(24000 + i)) {
-              String skillName = SkillDatabase.getSkillName(24000 + i);
-              KoLCharacter.removeAvailableSkill(skillName);
-              String message = "You have forgotten " + skillName;
-              RequestLogger.printLine(message);
-              RequestLogger.updateSessionLog(message);
-            }
-          }
-        }
-        break;
+  // A Close Shave
+  private static void postChoice1Choice1375(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.setBoolean("pirateRealmUnlockedShavingCream", true);
+    QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 11);
+  }
 
-      case 1347: // Groggy's Tavern
-        {
-          Preferences.setString(
-              "_pirateRealmCrewmate",
-              Preferences.getString("_pirateRealmCrewmate" + ChoiceManager.lastDecision));
-          break;
-        }
+  // Your Empire of Dirt
+  // A Dreaded Sunny Day
+  private static void postChoice1Choice1376(
+      final String urlString, final GenericRequest request, final String text) {
+    QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 11);
+  }
 
-      case 1348: // Seaside Curios
-        {
-          // The item ids are in order from 10190 to 10195
-          Preferences.setString(
-              "_pirateRealmCurio", String.valueOf(10189 + ChoiceManager.lastDecision));
-          break;
-        }
+  // The Tiki Craze Is Over
+  private static void postChoice1Choice1379(
+      final String urlString, final GenericRequest request, final String text) {
+    if (text.contains("Island Drinkin' skillbook")) {
+      Preferences.setBoolean("pirateRealmUnlockedTikiSkillbook", true);
+      QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
+    }
+  }
 
-      case 1349: // Dishonest Ed's Ships
-        {
-          Preferences.setString(
-              "_pirateRealmShip",
-              switch (ChoiceManager.lastDecision) {
-                case 1 -> "Rigged Frigate";
-                case 2 -> "Intimidating Galleon";
-                case 3 -> "Speedy Caravel";
-                case 4 -> "Swift Clipper";
-                case 5 -> "Menacing Man o' War";
-                default -> "";
-              });
-          Preferences.setInteger(
-              "_pirateRealmShipSpeed",
-              switch (ChoiceManager.lastDecision) {
-                case 1, 2 -> 7;
-                case 3 -> 6;
-                case 4 -> 4;
-                case 5 -> 9;
-                default -> 0;
-              });
-          break;
-        }
+  // Temple's Grand End
+  private static void postChoice1Choice1380(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.setBoolean("pirateRealmUnlockedTattoo", true);
+    QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
+  }
 
-      case 1352: //  Island #1, Who Are You?
-      case 1353: //  What's Behind Island #2?
-      case 1354: //  Third Island's the Charm
-        {
-          // Advance quest progress
-          QuestManager.setPirateRealmIslandQuestProgress(ChoiceManager.lastChoice - 1352, 0);
-          // Reset per-island flags
-          Preferences.setInteger("_pirateRealmIslandMonstersDefeated", 0);
-          Preferences.setInteger("_pirateRealmSailingTurns", 0);
-          Preferences.setBoolean("_pirateRealmWindicleUsed", false);
-          break;
-        }
+  // Parole
+  private static void postChoice1Choice1383(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.setBoolean("pirateRealmUnlockedThirdCrewmate", true);
+    QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 11);
+  }
 
-      case 1355:
-        //  Land Ho!
-        {
-          // Step 3 -> 4, 8 -> 9 or 13 -> 14
-          QuestManager.setPirateRealmIslandQuestProgress(2);
-          break;
-        }
+  // The Calm After the Storm
+  private static void postChoice1Choice1384(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.setBoolean("pirateRealmUnlockedAnemometer", true);
+    QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
+  }
 
-      case 1360: // Like Shops in the Night
-        if (ChoiceManager.lastDecision == 5 && text.contains("You gain 500 gold")) {
-          // Sell them the cursed compass
-          Preferences.setBoolean("_pirateRealmSoldCompass", true);
-          // Remove from equipment (including checkpoints)
-          if (EquipmentManager.discardEquipment(ItemPool.CURSED_COMPASS) == Slot.NONE) {
-            // Remove from inventory
-            ResultProcessor.removeItem(ItemPool.CURSED_COMPASS);
-          }
-        }
-        break;
+  private static void postChoice1Choice1386(
+      final String urlString, final GenericRequest request, final String text) {
+    SaberRequest.parseUpgrade(urlString, text);
+  }
 
-      case 1362: // Stormy Weather
-        // Try to gain some extra distance
-        if (ChoiceManager.lastDecision == 2) {
-          if (text.contains("you manage to outsail the storm")) {
-            // This is already incremented in postChoice0, but successful sailing increments it one
-            // further.
-            var turns = Preferences.increment("_pirateRealmSailingTurns", 1);
-            // Since the value is already incremented, we could have already reached the island. The
-            // subquest progress
-            // function is smart enough to handle this, however.
-            if (turns >= Preferences.getInteger("_pirateRealmShipSpeed")) {
-              QuestManager.setPirateRealmIslandQuestProgress(1);
-            }
-            Preferences.increment("pirateRealmStormsEscaped", 1, 10, false);
-          }
-        }
-        break;
+  private static void postChoice1Choice1387(
+      final String urlString, final GenericRequest request, final String text) {
+    SaberRequest.parseForce(urlString, text);
+  }
 
-      case 1364: // An Opportunity for Dastardly Do
-        // Attack them
-        if (ChoiceManager.lastDecision == 1) {
-          if (text.contains("blast them to bits")) {
-            Preferences.increment("pirateRealmShipsDestroyed", 1, 10, false);
-          }
-        }
-        break;
+  private static void postChoice1Choice1388(
+      final String urlString, final GenericRequest request, final String text) {
+    BeachManager.parseBeachHeadCombing(text);
+    BeachManager.parseCombUsage(urlString, text);
+  }
 
-      case 1365: // A Sea Monster!
-        if (ChoiceManager.lastDecision == 1) {
-          if (text.contains("plush sea serpent")) {
-            Preferences.setBoolean("pirateRealmUnlockedPlushie", true);
-          }
-        }
-        break;
+  private static void postChoice1Choice1391(
+      final String urlString, final GenericRequest request, final String text) {
+    // Rationing out Destruction
+    //    choice.php?whichchoice=1391&option=1&pwd&tossid=10321
 
-      case 1369, // The Battle (Island) Is Won
-          1370, // Skull's Well That Ends Skull
-          1371, // The Key Takeaway
-          1385: // Just Desserts
-        {
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 6);
-          break;
-        }
+    Matcher tossMatcher = TOSSID_PATTERN.matcher(urlString);
+    if (!tossMatcher.find()) {
+      return;
+    }
+    int itemId = StringUtilities.parseInt(tossMatcher.group(1));
+    ResultProcessor.processItem(itemId, -1);
+
+    String army = null;
+    String property = null;
+    String consumable = null;
+    int casualties = 0;
+
+    if (casualties == 0) {
+      Matcher fratMatcher = FRAT_RATIONING_PATTERN.matcher(text);
+      if (fratMatcher.find()) {
+        army = "frat boys";
+        property = "fratboysDefeated";
+        consumable = fratMatcher.group(1);
+        casualties = StringUtilities.parseInt(fratMatcher.group(2));
+      }
+    }
+    if (casualties == 0) {
+      Matcher hippyMatcher = HIPPY_RATIONING_PATTERN.matcher(text);
+      if (hippyMatcher.find()) {
+        army = "hippies";
+        property = "hippiesDefeated";
+        consumable = hippyMatcher.group(1);
+        casualties = StringUtilities.parseInt(hippyMatcher.group(2));
+      }
+    }
 
-      case 1372: // You Can See Clearly Now
-        {
-          Preferences.setBoolean("pirateRealmUnlockedRhum", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 6);
-          break;
-        }
+    Preferences.increment(property, casualties);
 
-      case 1375: // A Close Shave
-        {
-          Preferences.setBoolean("pirateRealmUnlockedShavingCream", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 11);
-          break;
-        }
+    String message = "You defeated " + casualties + " " + army + " with some " + consumable;
+    RequestLogger.printLine(message);
+    RequestLogger.updateSessionLog(message);
+  }
 
-      case 1376, // Your Empire of Dirt
-          1377: // A Dreaded Sunny Day
-        {
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 11);
-          break;
-        }
+  private static void postChoice1Choice1392(
+      final String urlString, final GenericRequest request, final String text) {
+    DecorateTentRequest.parseDecoration(urlString, text);
+  }
 
-      case 1379: // The Tiki Craze Is Over
-        {
-          if (text.contains("Island Drinkin' skillbook")) {
-            Preferences.setBoolean("pirateRealmUnlockedTikiSkillbook", true);
-            QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
-          }
-          break;
-        }
+  private static void postChoice1Choice1394(
+      final String urlString, final GenericRequest request, final String text) {
+    // Send up a Smoke Signal
+    if (ChoiceManager.lastDecision == 1 && text.contains("You send a smoky message to the sky.")) {
+      // Remove from inventory
+      ResultProcessor.removeItem(ItemPool.CAMPFIRE_SMOKE);
+    }
+  }
 
-      case 1380: // Temple's Grand End
-        {
-          Preferences.setBoolean("pirateRealmUnlockedTattoo", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
-          break;
-        }
+  private static void postChoice1Choice1396(
+      final String urlString, final GenericRequest request, final String text) {
+    // Adjusting Your Fish
+    // choice.php?pwd&whichchoice=1396&option=1&cat=fish
+    if (urlString.contains("option=1") && urlString.contains("cat=")) {
+      Pattern pattern = Pattern.compile("cat=([^&]*)");
+      Matcher matcher = pattern.matcher(urlString);
+      if (matcher.find()) {
+        String phylum = matcher.group(1);
+        String fixed = phylum.equals("merkin") ? "mer-kin" : phylum;
+        TrackManager.track(fixed, Tracker.RED_SNAPPER);
+        Preferences.setInteger("redSnapperProgress", 0);
+      }
+    }
+  }
 
-      case 1383: // Parole
-        {
-          Preferences.setBoolean("pirateRealmUnlockedThirdCrewmate", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 11);
-          break;
-        }
+  private static void postChoice1Choice1399(
+      final String urlString, final GenericRequest request, final String text) {
+    // New Favorite Bird?
+    // Auto correct, in case we cast this outside of KoLmafia
+    Preferences.setInteger("_birdsSoughtToday", 6);
+    if (ChoiceManager.lastDecision == 1) {
+      String bird = Preferences.getString("_birdOfTheDay");
+      Preferences.setString("yourFavoriteBird", bird);
+      ResponseTextParser.learnSkill("Visit your Favorite Bird");
+      DebugDatabase.readEffectDescriptionText(EffectPool.BLESSING_OF_YOUR_FAVORITE_BIRD);
+    }
+  }
 
-      case 1384: // The Calm After the Storm
-        {
-          Preferences.setBoolean("pirateRealmUnlockedAnemometer", true);
-          QuestDatabase.setQuestIfBetter(Quest.PIRATEREALM, 16);
-          break;
-        }
+  private static void postChoice1Choice1406(
+      final String urlString, final GenericRequest request, final String text) {
+    // Drippy House on the Prairie
+    // 1 = Explore the House
+    // Even though the house doesn't have a door, you check under the mat for a key anyway.
+    // You don't find one, but you <i>do</i> find a little puddle of those Driplet things
+    // Jeremy told you about.
+    // 1 = Keep Exploring
+    // Just inside the door of the house, you discover a colony of nasty bat-looking things
+    // nesting in the rafters.
+    // In one of the side rooms of the house, you find a giant spiral shell stuck to the wall.
+    //  You pry it loose -- Jeremy will probably want to see this.
+    // In the house's kitchen, you find a bucket underneath a dripping sink pipe. The
+    // oddly-solid drops make a -thunk-... -thunk-... -thunk-... sound as they fall.
+    // In the backyard of the house, you notice a strange fruit tree you hadn't seen before.
+    // It's maybe... plums? Kinda hard to tell, what with everything being made out of the
+    // same gross stuff.
+    // In one of the back rooms, you find a workbench covered in drippy woodworking supplies.
+    // Underneath a shattered bed frame in one of the back rooms, you find a trap door in the
+    // floor. You press your ear to it and hear some... Thing... slithering around underneath
+    // it.
+    // 2 = Dislodge some bats
+    // You flush some of the vile bat-things out of the rafters and into the nearby forest.
+    // No way that'll come back to bite you in the ass!
+    // 3 = Check the bucket under the sink
+    // You look in the bucket and find a few Driplets.  You collect them and put the bucket
+    // back under the sink.
+    // 4 - Pick a nasty fruit
+    // You pluck the least nasty-looking plum(?) from the tree and pocket it.
+    // 5 - Check out the woodworking bench
+    // You use the tools to carve your truncheon into a sharp stake.
+    // 6 - Go down to the basement
+    // 9 = Leave
+    if (text.contains("vile bat-things")) {
+      Preferences.increment("drippyBatsUnlocked", 7);
+    }
+    if (text.contains("sharp stake")) {
+      EquipmentManager.discardEquipment(ItemPool.DRIPPY_TRUNCHEON);
+    }
 
-      case 1386:
-        SaberRequest.parseUpgrade(urlString, text);
-        break;
+    // Since this choice appears on a schedule - the 16th
+    // adventure in The Dripping Trees and then every 15
+    // turns thereafter - "fix" the adventure count as needed.
+    int advs = Preferences.getInteger("drippingTreesAdventuresSinceAscension");
+    if (advs < 16) {
+      Preferences.setInteger("drippingTreesAdventuresSinceAscension", 16);
+      advs = 16;
+    }
+    int mod = (advs - 1) % 15;
+    if (mod != 0) {
+      Preferences.increment("drippingTreesAdventuresSinceAscension", 15 - mod);
+    }
+  }
 
-      case 1387:
-        SaberRequest.parseForce(urlString, text);
-        break;
+  private static void postChoice1Choice1407(
+      final String urlString, final GenericRequest request, final String text) {
+    // Mushroom District Costume Shop
+
+    String costume = "none";
+    if (text.contains("You slip into something a little more carpentable")) {
+      costume = "muscle";
+    } else if (text.contains("You let down your guard and put on the gardener costume")) {
+      costume = "mysticality";
+    } else if (text.contains("Todge holds out a tutu and you jump into it")) {
+      costume = "moxie";
+    } else {
+      return;
+    }
 
-      case 1388:
-        BeachManager.parseBeachHeadCombing(text);
-        BeachManager.parseCombUsage(urlString, text);
-        break;
+    int cost = Preferences.getInteger("plumberCostumeCost");
+    ResultProcessor.processItem(ItemPool.COIN, -cost);
+    Preferences.increment("plumberCostumeCost", 50);
+    Preferences.setString("plumberCostumeWorn", costume);
+  }
 
-      case 1391:
-        {
-          // Rationing out Destruction
-          //    choice.php?whichchoice=1391&option=1&pwd&tossid=10321
+  private static void postChoice1Choice1408(
+      final String urlString, final GenericRequest request, final String text) {
+    // Mushroom District Badge Shop
+    // If successful, deduct coins.
 
-          Matcher tossMatcher = TOSSID_PATTERN.matcher(urlString);
-          if (!tossMatcher.find()) {
-            break;
-          }
-          int itemId = StringUtilities.parseInt(tossMatcher.group(1));
-          ResultProcessor.processItem(itemId, -1);
-
-          String army = null;
-          String property = null;
-          String consumable = null;
-          int casualties = 0;
-
-          if (casualties == 0) {
-            Matcher fratMatcher = FRAT_RATIONING_PATTERN.matcher(text);
-            if (fratMatcher.find()) {
-              army = "frat boys";
-              property = "fratboysDefeated";
-              consumable = fratMatcher.group(1);
-              casualties = StringUtilities.parseInt(fratMatcher.group(2));
-            }
-          }
-          if (casualties == 0) {
-            Matcher hippyMatcher = HIPPY_RATIONING_PATTERN.matcher(text);
-            if (hippyMatcher.find()) {
-              army = "hippies";
-              property = "hippiesDefeated";
-              consumable = hippyMatcher.group(1);
-              casualties = StringUtilities.parseInt(hippyMatcher.group(2));
-            }
-          }
+    if (text.contains("You acquire a skill")) {
+      int cost = Preferences.getInteger("plumberBadgeCost");
+      ResultProcessor.processItem(ItemPool.COIN, -cost);
+      Preferences.increment("plumberBadgeCost", 25);
+    }
+  }
 
-          Preferences.increment(property, casualties);
+  private static void postChoice1Choice1410(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Mushy Center
+    int mushroomLevel = 1; // Tomorrow's mushroom
+    switch (ChoiceManager.lastDecision) {
+      case 1 ->
+      // Fertilize the mushroom
+      mushroomLevel = Preferences.increment("mushroomGardenCropLevel", 1, 11, false);
+      case 2 ->
+      // Pick the mushroom
+      Preferences.setInteger("mushroomGardenCropLevel", 1);
+    }
+    CampgroundRequest.clearCrop();
+    CampgroundRequest.setCampgroundItem(new Mushroom(mushroomLevel));
+    Preferences.setBoolean("_mushroomGardenVisited", true);
+  }
 
-          String message = "You defeated " + casualties + " " + army + " with some " + consumable;
-          RequestLogger.printLine(message);
-          RequestLogger.updateSessionLog(message);
-          break;
+  private static void postChoice1Choice1411(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Hall in the Hall
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> {
+        Preferences.setBoolean("_drippingHallDoor1", true);
+        // If you acquire a drippy org, count it
+        if (text.contains("drippy orb")) {
+          Preferences.increment("drippyOrbsClaimed");
+        } else {
+          int known = Preferences.getInteger("drippyOrbsClaimed");
+          int min = KoLCharacter.estimatedPoolSkill() / 20;
+          Preferences.setInteger("drippyOrbsClaimed", Math.max(known, min));
         }
+      }
+      case 2 -> Preferences.setBoolean("_drippingHallDoor2", true);
+      case 3 -> Preferences.setBoolean("_drippingHallDoor3", true);
+      case 4 -> {
+        Preferences.setBoolean("_drippingHallDoor4", true);
 
-      case 1392:
-        DecorateTentRequest.parseDecoration(urlString, text);
-        break;
-
-      case 1394:
-        // Send up a Smoke Signal
-        if (ChoiceManager.lastDecision == 1
-            && text.contains("You send a smoky message to the sky.")) {
-          // Remove from inventory
-          ResultProcessor.removeItem(ItemPool.CAMPFIRE_SMOKE);
+        // If you acquire drippy pilsner, uses a drippy stein
+        if (text.contains("drippy pilsner")) {
+          ResultProcessor.processItem(ItemPool.DRIPPY_STEIN, -1);
         }
-        break;
+      }
+    }
 
-      case 1396:
-        // Adjusting Your Fish
-        // choice.php?pwd&whichchoice=1396&option=1&cat=fish
-        if (urlString.contains("option=1") && urlString.contains("cat=")) {
-          Pattern pattern = Pattern.compile("cat=([^&]*)");
-          Matcher matcher = pattern.matcher(urlString);
-          if (matcher.find()) {
-            String phylum = matcher.group(1);
-            String fixed = phylum.equals("merkin") ? "mer-kin" : phylum;
-            TrackManager.track(fixed, Tracker.RED_SNAPPER);
-            Preferences.setInteger("redSnapperProgress", 0);
-          }
-        }
-        break;
+    // This only advances upon defeating a dripping reveler
+    // or encountering this choice
+    int advs = Preferences.increment("drippingHallAdventuresSinceAscension");
 
-      case 1399:
-        // New Favorite Bird?
-        // Auto correct, in case we cast this outside of KoLmafia
-        Preferences.setInteger("_birdsSoughtToday", 6);
-        if (ChoiceManager.lastDecision == 1) {
-          String bird = Preferences.getString("_birdOfTheDay");
-          Preferences.setString("yourFavoriteBird", bird);
-          ResponseTextParser.learnSkill("Visit your Favorite Bird");
-          DebugDatabase.readEffectDescriptionText(EffectPool.BLESSING_OF_YOUR_FAVORITE_BIRD);
-        }
-        break;
+    // Since this choice appears on a schedule - the 12th
+    // adventure in The Dripping Hall and then every 12
+    // turns thereafter - "fix" the adventure count as needed.
+    if (advs < 12) {
+      Preferences.setInteger("drippingHallAdventuresSinceAscension", 12);
+      advs = 12;
+    }
+    int mod = advs % 12;
+    if (mod != 0) {
+      Preferences.increment("drippingHallAdventuresSinceAscension", 12 - mod);
+    }
+  }
 
-      case 1406:
-        {
-          // Drippy House on the Prairie
-          // 1 = Explore the House
-          // Even though the house doesn't have a door, you check under the mat for a key anyway.
-          // You don't find one, but you <i>do</i> find a little puddle of those Driplet things
-          // Jeremy told you about.
-          // 1 = Keep Exploring
-          // Just inside the door of the house, you discover a colony of nasty bat-looking things
-          // nesting in the rafters.
-          // In one of the side rooms of the house, you find a giant spiral shell stuck to the wall.
-          //  You pry it loose -- Jeremy will probably want to see this.
-          // In the house's kitchen, you find a bucket underneath a dripping sink pipe. The
-          // oddly-solid drops make a -thunk-... -thunk-... -thunk-... sound as they fall.
-          // In the backyard of the house, you notice a strange fruit tree you hadn't seen before.
-          // It's maybe... plums? Kinda hard to tell, what with everything being made out of the
-          // same gross stuff.
-          // In one of the back rooms, you find a workbench covered in drippy woodworking supplies.
-          // Underneath a shattered bed frame in one of the back rooms, you find a trap door in the
-          // floor. You press your ear to it and hear some... Thing... slithering around underneath
-          // it.
-          // 2 = Dislodge some bats
-          // You flush some of the vile bat-things out of the rafters and into the nearby forest.
-          // No way that'll come back to bite you in the ass!
-          // 3 = Check the bucket under the sink
-          // You look in the bucket and find a few Driplets.  You collect them and put the bucket
-          // back under the sink.
-          // 4 - Pick a nasty fruit
-          // You pluck the least nasty-looking plum(?) from the tree and pocket it.
-          // 5 - Check out the woodworking bench
-          // You use the tools to carve your truncheon into a sharp stake.
-          // 6 - Go down to the basement
-          // 9 = Leave
-          if (text.contains("vile bat-things")) {
-            Preferences.increment("drippyBatsUnlocked", 7);
-          }
-          if (text.contains("sharp stake")) {
-            EquipmentManager.discardEquipment(ItemPool.DRIPPY_TRUNCHEON);
-          }
+  private static void postChoice1Choice1412(
+      final String urlString, final GenericRequest request, final String text) {
+    // Guzzlr Client Selection
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> {
+        // Abandon
+        Preferences.setBoolean("_guzzlrQuestAbandoned", true);
 
-          // Since this choice appears on a schedule - the 16th
-          // adventure in The Dripping Trees and then every 15
-          // turns thereafter - "fix" the adventure count as needed.
-          int advs = Preferences.getInteger("drippingTreesAdventuresSinceAscension");
-          if (advs < 16) {
-            Preferences.setInteger("drippingTreesAdventuresSinceAscension", 16);
-            advs = 16;
-          }
-          int mod = (advs - 1) % 15;
-          if (mod != 0) {
-            Preferences.increment("drippingTreesAdventuresSinceAscension", 15 - mod);
-          }
+        Preferences.setString("guzzlrQuestBooze", "");
+        Preferences.setString("guzzlrQuestClient", "");
+        Preferences.setString("guzzlrQuestLocation", "");
+        Preferences.setString("guzzlrQuestTier", "");
+        QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.UNSTARTED);
+      }
+      case 2, 3, 4 -> {
+        Matcher locationMatcher = GUZZLR_LOCATION_PATTERN.matcher(text);
+        Matcher boozeMatcher = DESCID_PATTERN.matcher(text);
 
-          break;
+        String tier = "";
+
+        if (locationMatcher.find()) {
+          tier = locationMatcher.group(1).toLowerCase();
+          Preferences.setString("guzzlrQuestClient", locationMatcher.group(2));
+          Preferences.setString("guzzlrQuestLocation", locationMatcher.group(4));
         }
 
-      case 1407:
-        {
-          // Mushroom District Costume Shop
-
-          String costume = "none";
-          if (text.contains("You slip into something a little more carpentable")) {
-            costume = "muscle";
-          } else if (text.contains("You let down your guard and put on the gardener costume")) {
-            costume = "mysticality";
-          } else if (text.contains("Todge holds out a tutu and you jump into it")) {
-            costume = "moxie";
-          } else {
-            break;
-          }
+        // If we didn't capture from the ouput we can determine from the choice
+        if (tier.equals("")) {
+          tier =
+              ChoiceManager.lastDecision == 2
+                  ? "bronze"
+                  : ChoiceManager.lastDecision == 3 ? "gold" : "platinum";
+        }
 
-          int cost = Preferences.getInteger("plumberCostumeCost");
-          ResultProcessor.processItem(ItemPool.COIN, -cost);
-          Preferences.increment("plumberCostumeCost", 50);
-          Preferences.setString("plumberCostumeWorn", costume);
-          break;
+        // Remember the tier of the current quest
+        Preferences.setString("guzzlrQuestTier", tier);
+
+        // Increment the number of gold or platinum deliveres STARTED today
+        if (!tier.equals("bronze")) {
+          Preferences.increment("_guzzlr" + StringUtilities.toTitleCase(tier) + "Deliveries", 1);
         }
 
-      case 1408:
-        {
-          // Mushroom District Badge Shop
-          // If successful, deduct coins.
+        if (boozeMatcher.find()) {
+          int itemId = ItemDatabase.getItemIdFromDescription(boozeMatcher.group(1));
+          Preferences.setString("guzzlrQuestBooze", ItemDatabase.getItemName(itemId));
+        }
 
-          if (text.contains("You acquire a skill")) {
-            int cost = Preferences.getInteger("plumberBadgeCost");
-            ResultProcessor.processItem(ItemPool.COIN, -cost);
-            Preferences.increment("plumberBadgeCost", 25);
-          }
-          break;
+        if (Preferences.getString("guzzlrQuestBooze").isEmpty()
+            || Preferences.getString("guzzlrQuestLocation").isEmpty()) {
+          RequestThread.postRequest(new QuestLogRequest());
         }
 
-      case 1410:
-        {
-          // The Mushy Center
-          int mushroomLevel = 1; // Tomorrow's mushroom
-          switch (ChoiceManager.lastDecision) {
-            case 1 ->
-            // Fertilize the mushroom
-            mushroomLevel = Preferences.increment("mushroomGardenCropLevel", 1, 11, false);
-            case 2 ->
-            // Pick the mushroom
-            Preferences.setInteger("mushroomGardenCropLevel", 1);
+        int itemId = ItemDatabase.getItemId(Preferences.getString("guzzlrQuestBooze"));
+
+        if (itemId > 0 && itemId != ItemPool.GUZZLR_COCKTAIL_SET) {
+          if (InventoryManager.getCount(itemId) > 0) {
+            QuestDatabase.setQuestProgress(Quest.GUZZLR, "step1");
+          } else {
+            QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.STARTED);
           }
-          CampgroundRequest.clearCrop();
-          CampgroundRequest.setCampgroundItem(new Mushroom(mushroomLevel));
-          Preferences.setBoolean("_mushroomGardenVisited", true);
-          break;
+        } else {
+          QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.STARTED);
         }
+      }
+    }
+  }
 
-      case 1411:
-        {
-          // The Hall in the Hall
-          switch (ChoiceManager.lastDecision) {
-            case 1 -> {
-              Preferences.setBoolean("_drippingHallDoor1", true);
-              // If you acquire a drippy org, count it
-              if (text.contains("drippy orb")) {
-                Preferences.increment("drippyOrbsClaimed");
-              } else {
-                int known = Preferences.getInteger("drippyOrbsClaimed");
-                int min = KoLCharacter.estimatedPoolSkill() / 20;
-                Preferences.setInteger("drippyOrbsClaimed", Math.max(known, min));
-              }
-            }
-            case 2 -> Preferences.setBoolean("_drippingHallDoor2", true);
-            case 3 -> Preferences.setBoolean("_drippingHallDoor3", true);
-            case 4 -> {
-              Preferences.setBoolean("_drippingHallDoor4", true);
-
-              // If you acquire drippy pilsner, uses a drippy stein
-              if (text.contains("drippy pilsner")) {
-                ResultProcessor.processItem(ItemPool.DRIPPY_STEIN, -1);
-              }
-            }
-          }
+  private static void postChoice1Choice1414(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.setBoolean("lockPicked", true);
+  }
 
-          // This only advances upon defeating a dripping reveler
-          // or encountering this choice
-          int advs = Preferences.increment("drippingHallAdventuresSinceAscension");
+  private static void postChoice1Choice1418(
+      final String urlString, final GenericRequest request, final String text) {
+    // So Cold
+    if (ChoiceManager.lastDecision == 1) {
+      KoLCharacter.usableFamiliar(FamiliarPool.MELODRAMEDARY).loseExperience();
+      Preferences.setBoolean("_entauntaunedToday", true);
+    }
+  }
 
-          // Since this choice appears on a schedule - the 12th
-          // adventure in The Dripping Hall and then every 12
-          // turns thereafter - "fix" the adventure count as needed.
-          if (advs < 12) {
-            Preferences.setInteger("drippingHallAdventuresSinceAscension", 12);
-            advs = 12;
-          }
-          int mod = advs % 12;
-          if (mod != 0) {
-            Preferences.increment("drippingHallAdventuresSinceAscension", 12 - mod);
-          }
+  private static void postChoice1Choice1420(
+      final String urlString, final GenericRequest request, final String text) {
+    // Cargo Cultist Shorts
+    if (ChoiceManager.lastDecision == 1) {
+      CargoCultistShortsRequest.parsePocketPick(urlString, text);
+    }
+  }
 
-          break;
-        }
+  private static void postChoice1Choice1435(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("mappingMonsters", false);
+    }
+  }
 
-      case 1412:
-        {
-          // Guzzlr Client Selection
-          switch (ChoiceManager.lastDecision) {
-            case 1 -> {
-              // Abandon
-              Preferences.setBoolean("_guzzlrQuestAbandoned", true);
-
-              Preferences.setString("guzzlrQuestBooze", "");
-              Preferences.setString("guzzlrQuestClient", "");
-              Preferences.setString("guzzlrQuestLocation", "");
-              Preferences.setString("guzzlrQuestTier", "");
-              QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.UNSTARTED);
-            }
-            case 2, 3, 4 -> {
-              Matcher locationMatcher = GUZZLR_LOCATION_PATTERN.matcher(text);
-              Matcher boozeMatcher = DESCID_PATTERN.matcher(text);
+  private static void postChoice1Choice1437(
+      final String urlString, final GenericRequest request, final String text) {
+    // Configuring the retro cape washing instructions
+    String instructions =
+        ChoiceManager.lastDecision == 2
+            ? "hold"
+            : ChoiceManager.lastDecision == 3
+                ? "thrill"
+                : ChoiceManager.lastDecision == 4
+                    ? "kiss"
+                    : ChoiceManager.lastDecision == 5 ? "kill" : null;
+
+    if (instructions != null) {
+      Preferences.setString("retroCapeWashingInstructions", instructions);
+      ItemDatabase.setCapeSkills();
+    }
+  }
 
-              String tier = "";
+  private static void postChoice1Choice1438(
+      final String urlString, final GenericRequest request, final String text) {
+    // Configuring the retro cape superhero
+    String hero =
+        ChoiceManager.lastDecision == 1
+            ? "vampire"
+            : ChoiceManager.lastDecision == 2
+                ? "heck"
+                : ChoiceManager.lastDecision == 3 ? "robot" : null;
+
+    if (hero != null) {
+      Preferences.setString("retroCapeSuperhero", hero);
+      ItemDatabase.setCapeSkills();
+    }
+  }
 
-              if (locationMatcher.find()) {
-                tier = locationMatcher.group(1).toLowerCase();
-                Preferences.setString("guzzlrQuestClient", locationMatcher.group(2));
-                Preferences.setString("guzzlrQuestLocation", locationMatcher.group(4));
-              }
+  private static void postChoice1Choice1442(
+      final String urlString, final GenericRequest request, final String text) {
+    if (text.contains("You fill out all the appropriate forms")) {
+      ResultProcessor.removeItem(ItemPool.GOVERNMENT_FOOD_SHIPMENT);
+    }
+  }
 
-              // If we didn't capture from the ouput we can determine from the choice
-              if (tier.equals("")) {
-                tier =
-                    ChoiceManager.lastDecision == 2
-                        ? "bronze"
-                        : ChoiceManager.lastDecision == 3 ? "gold" : "platinum";
-              }
+  private static void postChoice1Choice1443(
+      final String urlString, final GenericRequest request, final String text) {
+    if (text.contains("You fill out all the appropriate forms")) {
+      ResultProcessor.removeItem(ItemPool.GOVERNMENT_BOOZE_SHIPMENT);
+    }
+  }
 
-              // Remember the tier of the current quest
-              Preferences.setString("guzzlrQuestTier", tier);
+  private static void postChoice1Choice1444(
+      final String urlString, final GenericRequest request, final String text) {
+    if (text.contains("You fill out all the appropriate forms")) {
+      ResultProcessor.removeItem(ItemPool.GOVERNMENT_CANDY_SHIPMENT);
+    }
+  }
 
-              // Increment the number of gold or platinum deliveres STARTED today
-              if (!tier.equals("bronze")) {
-                Preferences.increment(
-                    "_guzzlr" + StringUtilities.toTitleCase(tier) + "Deliveries", 1);
-              }
+  // Reassembly Station
+  // Statbot 5000
+  private static void postChoice1Choice1445(
+      final String urlString, final GenericRequest request, final String text) {
+    YouRobotManager.postChoice1(urlString, request);
+  }
 
-              if (boozeMatcher.find()) {
-                int itemId = ItemDatabase.getItemIdFromDescription(boozeMatcher.group(1));
-                Preferences.setString("guzzlrQuestBooze", ItemDatabase.getItemName(itemId));
-              }
+  private static void postChoice1Choice1448(
+      final String urlString, final GenericRequest request, final String text) {
+    if (text.contains("You acquire an item:")) {
+      Matcher stalkMatcher = Pattern.compile("pp=(\\d+)").matcher(urlString);
+      if (stalkMatcher.find()) {
+        int pp = Integer.parseInt(stalkMatcher.group(1)) - 1;
+        String[] stalkStatus = Preferences.getString("_pottedPowerPlant").split(",");
+        stalkStatus[pp] = "0";
+        Preferences.setString("_pottedPowerPlant", String.join(",", stalkStatus));
+      }
+    }
+  }
 
-              if (Preferences.getString("guzzlrQuestBooze").isEmpty()
-                  || Preferences.getString("guzzlrQuestLocation").isEmpty()) {
-                RequestThread.postRequest(new QuestLogRequest());
-              }
+  private static void postChoice1Choice1449(
+      final String urlString, final GenericRequest request, final String text) {
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> Preferences.setString("backupCameraMode", "ml");
+      case 2 -> Preferences.setString("backupCameraMode", "meat");
+      case 3 -> Preferences.setString("backupCameraMode", "init");
+      case 4 -> Preferences.setBoolean("backupCameraReverserEnabled", true);
+      case 5 -> Preferences.setBoolean("backupCameraReverserEnabled", false);
+    }
+  }
 
-              int itemId = ItemDatabase.getItemId(Preferences.getString("guzzlrQuestBooze"));
+  private static void postChoice1Choice1451(
+      final String urlString, final GenericRequest request, final String text) {
+    // Fire Captain Hagnk
+    if (ChoiceManager.lastDecision == 1) {
+      Matcher locationIdMatcher = Pattern.compile("zid=([^&]*)").matcher(urlString);
+      if (locationIdMatcher.find()) {
+        int zid = StringUtilities.parseInt(locationIdMatcher.group(1));
+        KoLAdventure location =
+            AdventureDatabase.getAdventureByURL("adventure.php?snarfblat=" + zid);
+        WildfireCampRequest.reduceFireLevel(location);
+      }
+    } else if (ChoiceManager.lastDecision == 3) {
+      if (text.contains("Hagnk takes your fire extinguisher")) {
+        Preferences.setInteger("_fireExtinguisherCharge", 100);
+        Preferences.setBoolean("_fireExtinguisherRefilled", true);
+      }
+    }
+    WildfireCampRequest.parseCaptain(text);
+  }
 
-              if (itemId > 0 && itemId != ItemPool.GUZZLR_COCKTAIL_SET) {
-                if (InventoryManager.getCount(itemId) > 0) {
-                  QuestDatabase.setQuestProgress(Quest.GUZZLR, "step1");
-                } else {
-                  QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.STARTED);
-                }
-              } else {
-                QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.STARTED);
-              }
-            }
-          }
+  private static void postChoice1Choice1452(
+      final String urlString, final GenericRequest request, final String text) {
+    // Sprinkler Joe
+    if (ChoiceManager.lastDecision == 1 && text.contains("raindrop.gif")) {
+      Preferences.setBoolean("wildfireSprinkled", true);
+    }
+  }
 
-          break;
-        }
+  private static void postChoice1Choice1453(
+      final String urlString, final GenericRequest request, final String text) {
+    // Fracker Dan
+    if (ChoiceManager.lastDecision == 1 && text.contains("raindrop.gif")) {
+      Preferences.setBoolean("wildfireFracked", true);
+    }
+  }
 
-      case 1414:
-        Preferences.setBoolean("lockPicked", true);
-        break;
+  private static void postChoice1Choice1454(
+      final String urlString, final GenericRequest request, final String text) {
+    // Cropduster Dusty
+    if (ChoiceManager.lastDecision == 1 && text.contains("raindrop.gif")) {
+      Preferences.setBoolean("wildfireDusted", true);
+    }
+  }
 
-      case 1418:
-        // So Cold
-        if (ChoiceManager.lastDecision == 1) {
-          KoLCharacter.usableFamiliar(FamiliarPool.MELODRAMEDARY).loseExperience();
-          Preferences.setBoolean("_entauntaunedToday", true);
-        }
-        break;
+  private static void postChoice1Choice1455(
+      final String urlString, final GenericRequest request, final String text) {
+    // Cold Medicine Cabinet
+    if (ChoiceManager.lastDecision != 6) {
+      if (ChoiceManager.lastDecision == 1) {
+        Preferences.increment("_coldMedicineEquipmentTaken", 1, 2, false);
+      }
 
-      case 1420:
-        // Cargo Cultist Shorts
-        if (ChoiceManager.lastDecision == 1) {
-          CargoCultistShortsRequest.parsePocketPick(urlString, text);
-        }
-        break;
+      Preferences.increment("_coldMedicineConsults", 1, 5, false);
+      Preferences.setInteger("_nextColdMedicineConsult", KoLCharacter.getTurnsPlayed() + 20);
+    }
+  }
+
+  private static void postChoice1Choice1467(
+      final String urlString, final GenericRequest request, final String text) {
+    // June cleaver
+    JuneCleaverManager.parseChoice(urlString);
+  }
 
-      case 1435:
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("mappingMonsters", false);
-        }
-        break;
-      case 1437:
-        {
-          // Configuring the retro cape washing instructions
-          String instructions =
-              ChoiceManager.lastDecision == 2
-                  ? "hold"
-                  : ChoiceManager.lastDecision == 3
-                      ? "thrill"
-                      : ChoiceManager.lastDecision == 4
-                          ? "kiss"
-                          : ChoiceManager.lastDecision == 5 ? "kill" : null;
-
-          if (instructions != null) {
-            Preferences.setString("retroCapeWashingInstructions", instructions);
-            ItemDatabase.setCapeSkills();
-          }
-          break;
-        }
-      case 1438:
-        {
-          // Configuring the retro cape superhero
-          String hero =
-              ChoiceManager.lastDecision == 1
-                  ? "vampire"
-                  : ChoiceManager.lastDecision == 2
-                      ? "heck"
-                      : ChoiceManager.lastDecision == 3 ? "robot" : null;
-
-          if (hero != null) {
-            Preferences.setString("retroCapeSuperhero", hero);
-            ItemDatabase.setCapeSkills();
-          }
+  private static void postChoice1Choice1481(
+      final String urlString, final GenericRequest request, final String text) {
+    JurassicParkaCommand.parseChoice(ChoiceManager.lastDecision);
+  }
+
+  private static void postChoice1Choice1505(
+      final String urlString, final GenericRequest request, final String text) {
+    // Sing!
+    // This should not fail without intentionally submitting a bad option.
+    if (text.contains("You sing:")) {
+      AdventureResult item = ChoiceManager.lastItemUsed;
+      if (item == null) {
+        // Unexpected
+        return;
+      }
+      int itemId = item.getItemId();
+      // Remove the microphone you used from inventory
+      // Add the more-used version to inventory
+      switch (itemId) {
+        case ItemPool.LOATHING_IDOL_MICROPHONE:
+          ResultProcessor.processItem(ItemPool.LOATHING_IDOL_MICROPHONE_75, 1);
           break;
-        }
-      case 1442:
-        {
-          if (text.contains("You fill out all the appropriate forms")) {
-            ResultProcessor.removeItem(ItemPool.GOVERNMENT_FOOD_SHIPMENT);
-          }
+        case ItemPool.LOATHING_IDOL_MICROPHONE_75:
+          ResultProcessor.processItem(ItemPool.LOATHING_IDOL_MICROPHONE_50, 1);
           break;
-        }
-      case 1443:
-        {
-          if (text.contains("You fill out all the appropriate forms")) {
-            ResultProcessor.removeItem(ItemPool.GOVERNMENT_BOOZE_SHIPMENT);
-          }
+        case ItemPool.LOATHING_IDOL_MICROPHONE_50:
+          ResultProcessor.processItem(ItemPool.LOATHING_IDOL_MICROPHONE_25, 1);
           break;
-        }
-      case 1444:
-        {
-          if (text.contains("You fill out all the appropriate forms")) {
-            ResultProcessor.removeItem(ItemPool.GOVERNMENT_CANDY_SHIPMENT);
-          }
+        case ItemPool.LOATHING_IDOL_MICROPHONE_25:
           break;
-        }
+        default:
+          // Should not get here unless UseItemRequest did not parse the item.
+          return;
+      }
+      ResultProcessor.processItem(itemId, -1);
+    }
+    // Burning Leaves
+  }
 
-      case 1445: // Reassembly Station
-      case 1447: // Statbot 5000
-        YouRobotManager.postChoice1(urlString, request);
-        break;
+  private static void postChoice1Choice1510(
+      final String urlString, final GenericRequest request, final String text) {
+    String leaves = request.getFormField("leaves");
+    // Redirects to fight.php also run through postChoice, but those are handled elsewhere
+    // in GenericRequest.checkChoiceRedirection
+    if (leaves != null) BurningLeavesRequest.logLeavesBurned(leaves);
+  }
 
-      case 1448:
-        {
-          if (text.contains("You acquire an item:")) {
-            Matcher stalkMatcher = Pattern.compile("pp=(\\d+)").matcher(urlString);
-            if (stalkMatcher.find()) {
-              int pp = Integer.parseInt(stalkMatcher.group(1)) - 1;
-              String[] stalkStatus = Preferences.getString("_pottedPowerPlant").split(",");
-              stalkStatus[pp] = "0";
-              Preferences.setString("_pottedPowerPlant", String.join(",", stalkStatus));
-            }
-          }
-          break;
-        }
-      case 1449:
-        {
-          switch (ChoiceManager.lastDecision) {
-            case 1 -> Preferences.setString("backupCameraMode", "ml");
-            case 2 -> Preferences.setString("backupCameraMode", "meat");
-            case 3 -> Preferences.setString("backupCameraMode", "init");
-            case 4 -> Preferences.setBoolean("backupCameraReverserEnabled", true);
-            case 5 -> Preferences.setBoolean("backupCameraReverserEnabled", false);
-          }
+  private static void postChoice1Choice1512(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1 && text.contains("You press the button.")) {
+      Preferences.setString(
+          "_automatedFutureSide", ChoiceManager.lastChoice == 1512 ? "solenoids" : "bearings");
+      Preferences.increment("_automatedFutureManufactures", 1, 11, false);
+    }
+  }
 
-          break;
-        }
-      case 1451:
-        // Fire Captain Hagnk
-        if (ChoiceManager.lastDecision == 1) {
-          Matcher locationIdMatcher = Pattern.compile("zid=([^&]*)").matcher(urlString);
-          if (locationIdMatcher.find()) {
-            int zid = StringUtilities.parseInt(locationIdMatcher.group(1));
-            KoLAdventure location =
-                AdventureDatabase.getAdventureByURL("adventure.php?snarfblat=" + zid);
-            WildfireCampRequest.reduceFireLevel(location);
-          }
-        } else if (ChoiceManager.lastDecision == 3) {
-          if (text.contains("Hagnk takes your fire extinguisher")) {
-            Preferences.setInteger("_fireExtinguisherCharge", 100);
-            Preferences.setBoolean("_fireExtinguisherRefilled", true);
-          }
-        }
-        WildfireCampRequest.parseCaptain(text);
-        break;
-      case 1452:
-        // Sprinkler Joe
-        if (ChoiceManager.lastDecision == 1 && text.contains("raindrop.gif")) {
-          Preferences.setBoolean("wildfireSprinkled", true);
-        }
-        break;
-      case 1453:
-        // Fracker Dan
-        if (ChoiceManager.lastDecision == 1 && text.contains("raindrop.gif")) {
-          Preferences.setBoolean("wildfireFracked", true);
+  private static void postChoice1Choice1517(
+      final String urlString, final GenericRequest request, final String text) {
+    // Mimic DNA Bank
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> {
+        if (text.contains("You donate your egg to science.")) {
+          ResultProcessor.processItem(ItemPool.MIMIC_EGG, -1);
+          updateMimicMonsters(urlString, -1);
+          Preferences.increment("_mimicEggsDonated", 1, 3, false);
         }
-        break;
-      case 1454:
-        // Cropduster Dusty
-        if (ChoiceManager.lastDecision == 1 && text.contains("raindrop.gif")) {
-          Preferences.setBoolean("wildfireDusted", true);
+      }
+      case 2 -> {
+        if (text.contains("pops into a backroom")) {
+          Preferences.increment("_mimicEggsObtained", 1, 11, false);
+          updateMimicMonsters(urlString, 1);
+          KoLCharacter.getFamiliar().addNonCombatExperience(-100);
+        } else if (text.contains("can't extract")) {
+          Preferences.setInteger("_mimicEggsObtained", 11);
         }
-        break;
-      case 1455:
-        // Cold Medicine Cabinet
-        if (ChoiceManager.lastDecision != 6) {
-          if (ChoiceManager.lastDecision == 1) {
-            Preferences.increment("_coldMedicineEquipmentTaken", 1, 2, false);
-          }
+      }
+    }
+  }
 
-          Preferences.increment("_coldMedicineConsults", 1, 5, false);
-          Preferences.setInteger("_nextColdMedicineConsult", KoLCharacter.getTurnsPlayed() + 20);
-        }
-        break;
+  private static void postChoice1Choice1518(
+      final String urlString, final GenericRequest request, final String text) {
+    // Black and White Apron Meal Kit
+    if (text.contains("You cook and quickly consume your")) {
+      ResultProcessor.processItem(ItemPool.BLACK_AND_WHITE_APRON_MEAL_KIT, -1);
+      if (Preferences.getInteger("bwApronMealsEaten") >= 0) {
+        // Known starting point.
+        Preferences.increment("bwApronMealsEaten");
+      }
+    }
+  }
 
-      case 1467:
-      case 1468:
-      case 1469:
-      case 1470:
-      case 1471:
-      case 1472:
-      case 1473:
-      case 1474:
-      case 1475:
-        // June cleaver
-        JuneCleaverManager.parseChoice(urlString);
-        break;
-      case 1481:
-        JurassicParkaCommand.parseChoice(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice1Choice1534(
+      final String urlString, final GenericRequest request, final String text) {
+    // Clan Photo Booth - Get your photo taken
+    if (ChoiceManager.lastDecision != 6 && text.contains("You select")) {
+      Preferences.increment("_photoBoothEffects");
+    }
+  }
 
-      case 1505:
-        // Sing!
-        // This should not fail without intentionally submitting a bad option.
-        if (text.contains("You sing:")) {
-          AdventureResult item = ChoiceManager.lastItemUsed;
-          if (item == null) {
-            // Unexpected
-            return;
-          }
-          int itemId = item.getItemId();
-          // Remove the microphone you used from inventory
-          // Add the more-used version to inventory
-          switch (itemId) {
-            case ItemPool.LOATHING_IDOL_MICROPHONE:
-              ResultProcessor.processItem(ItemPool.LOATHING_IDOL_MICROPHONE_75, 1);
-              break;
-            case ItemPool.LOATHING_IDOL_MICROPHONE_75:
-              ResultProcessor.processItem(ItemPool.LOATHING_IDOL_MICROPHONE_50, 1);
-              break;
-            case ItemPool.LOATHING_IDOL_MICROPHONE_50:
-              ResultProcessor.processItem(ItemPool.LOATHING_IDOL_MICROPHONE_25, 1);
-              break;
-            case ItemPool.LOATHING_IDOL_MICROPHONE_25:
-              break;
-            default:
-              // Should not get here unless UseItemRequest did not parse the item.
-              return;
-          }
-          ResultProcessor.processItem(itemId, -1);
-        }
-        break;
-        // Burning Leaves
-      case 1510:
-        {
-          String leaves = request.getFormField("leaves");
-          // Redirects to fight.php also run through postChoice, but those are handled elsewhere
-          // in GenericRequest.checkChoiceRedirection
-          if (leaves != null) BurningLeavesRequest.logLeavesBurned(leaves);
-          break;
-        }
-      case 1512, 1513:
-        if (ChoiceManager.lastDecision == 1 && text.contains("You press the button.")) {
-          Preferences.setString(
-              "_automatedFutureSide", ChoiceManager.lastChoice == 1512 ? "solenoids" : "bearings");
-          Preferences.increment("_automatedFutureManufactures", 1, 11, false);
-        }
-        break;
-      case 1517:
-        // Mimic DNA Bank
-        switch (ChoiceManager.lastDecision) {
-          case 1 -> {
-            if (text.contains("You donate your egg to science.")) {
-              ResultProcessor.processItem(ItemPool.MIMIC_EGG, -1);
-              updateMimicMonsters(urlString, -1);
-              Preferences.increment("_mimicEggsDonated", 1, 3, false);
-            }
-          }
-          case 2 -> {
-            if (text.contains("pops into a backroom")) {
-              Preferences.increment("_mimicEggsObtained", 1, 11, false);
-              updateMimicMonsters(urlString, 1);
-              KoLCharacter.getFamiliar().addNonCombatExperience(-100);
-            } else if (text.contains("can't extract")) {
-              Preferences.setInteger("_mimicEggsObtained", 11);
-            }
-          }
-        }
-        break;
-      case 1518:
-        // Black and White Apron Meal Kit
-        if (text.contains("You cook and quickly consume your")) {
-          ResultProcessor.processItem(ItemPool.BLACK_AND_WHITE_APRON_MEAL_KIT, -1);
-          if (Preferences.getInteger("bwApronMealsEaten") >= 0) {
-            // Known starting point.
-            Preferences.increment("bwApronMealsEaten");
-          }
-        }
-        break;
-      case 1534:
-        // Clan Photo Booth - Get your photo taken
-        if (ChoiceManager.lastDecision != 6 && text.contains("You select")) {
-          Preferences.increment("_photoBoothEffects");
-        }
-        break;
-      case 1535:
-        // Clan Photo Booth - Borrow a prop
-        if (ChoiceManager.lastDecision != 12 && text.contains("You grab your prop")) {
-          Preferences.increment("_photoBoothEquipment");
-        }
-        break;
+  private static void postChoice1Choice1535(
+      final String urlString, final GenericRequest request, final String text) {
+    // Clan Photo Booth - Borrow a prop
+    if (ChoiceManager.lastDecision != 12 && text.contains("You grab your prop")) {
+      Preferences.increment("_photoBoothEquipment");
     }
   }
 
@@ -5020,1974 +5723,2377 @@ public abstract class ChoiceControl {
     Preferences.setString("_mayamSymbolsUsed", String.join(",", used));
   }
 
+  private static final Map<Integer, ChoiceHandler> POST_CHOICE2 = new HashMap<>();
+
+  static {
+    POST_CHOICE2.put(3, ChoiceControl::postChoice2Choice3);
+    POST_CHOICE2.put(7, ChoiceControl::postChoice2Choice7);
+    POST_CHOICE2.put(21, ChoiceControl::postChoice2Choice21);
+    POST_CHOICE2.put(48, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(49, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(50, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(51, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(52, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(53, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(54, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(55, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(56, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(57, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(58, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(59, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(60, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(61, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(62, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(63, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(64, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(65, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(66, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(67, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(68, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(69, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(70, ChoiceControl::postChoice2Choice48);
+    POST_CHOICE2.put(71, ChoiceControl::postChoice2Choice71);
+    POST_CHOICE2.put(73, ChoiceControl::postChoice2Choice73);
+    POST_CHOICE2.put(89, ChoiceControl::postChoice2Choice89);
+    POST_CHOICE2.put(105, ChoiceControl::postChoice2Choice105);
+    POST_CHOICE2.put(112, ChoiceControl::postChoice2Choice112);
+    POST_CHOICE2.put(125, ChoiceControl::postChoice2Choice125);
+    POST_CHOICE2.put(132, ChoiceControl::postChoice2Choice132);
+    POST_CHOICE2.put(162, ChoiceControl::postChoice2Choice162);
+    POST_CHOICE2.put(197, ChoiceControl::postChoice2Choice197);
+    POST_CHOICE2.put(198, ChoiceControl::postChoice2Choice197);
+    POST_CHOICE2.put(199, ChoiceControl::postChoice2Choice197);
+    POST_CHOICE2.put(200, ChoiceControl::postChoice2Choice200);
+    POST_CHOICE2.put(201, ChoiceControl::postChoice2Choice200);
+    POST_CHOICE2.put(202, ChoiceControl::postChoice2Choice200);
+    POST_CHOICE2.put(203, ChoiceControl::postChoice2Choice200);
+    POST_CHOICE2.put(204, ChoiceControl::postChoice2Choice200);
+    POST_CHOICE2.put(205, ChoiceControl::postChoice2Choice200);
+    POST_CHOICE2.put(276, ChoiceControl::postChoice2Choice276);
+    POST_CHOICE2.put(277, ChoiceControl::postChoice2Choice277);
+    POST_CHOICE2.put(299, ChoiceControl::postChoice2Choice299);
+    POST_CHOICE2.put(302, ChoiceControl::postChoice2Choice302);
+    POST_CHOICE2.put(303, ChoiceControl::postChoice2Choice302);
+    POST_CHOICE2.put(306, ChoiceControl::postChoice2Choice302);
+    POST_CHOICE2.put(307, ChoiceControl::postChoice2Choice302);
+    POST_CHOICE2.put(308, ChoiceControl::postChoice2Choice302);
+    POST_CHOICE2.put(304, ChoiceControl::postChoice2Choice304);
+    POST_CHOICE2.put(309, ChoiceControl::postChoice2Choice309);
+    POST_CHOICE2.put(326, ChoiceControl::postChoice2Choice326);
+    POST_CHOICE2.put(330, ChoiceControl::postChoice2Choice330);
+    POST_CHOICE2.put(360, ChoiceControl::postChoice2Choice360);
+    POST_CHOICE2.put(441, ChoiceControl::postChoice2Choice441);
+    POST_CHOICE2.put(442, ChoiceControl::postChoice2Choice442);
+    POST_CHOICE2.put(508, ChoiceControl::postChoice2Choice508);
+    POST_CHOICE2.put(517, ChoiceControl::postChoice2Choice517);
+    POST_CHOICE2.put(518, ChoiceControl::postChoice2Choice518);
+    POST_CHOICE2.put(524, ChoiceControl::postChoice2Choice524);
+    POST_CHOICE2.put(548, ChoiceControl::postChoice2Choice548);
+    POST_CHOICE2.put(549, ChoiceControl::postChoice2Choice549);
+    POST_CHOICE2.put(550, ChoiceControl::postChoice2Choice550);
+    POST_CHOICE2.put(551, ChoiceControl::postChoice2Choice551);
+    POST_CHOICE2.put(553, ChoiceControl::postChoice2Choice553);
+    POST_CHOICE2.put(558, ChoiceControl::postChoice2Choice558);
+    POST_CHOICE2.put(560, ChoiceControl::postChoice2Choice560);
+    POST_CHOICE2.put(561, ChoiceControl::postChoice2Choice561);
+    POST_CHOICE2.put(563, ChoiceControl::postChoice2Choice563);
+    POST_CHOICE2.put(564, ChoiceControl::postChoice2Choice564);
+    POST_CHOICE2.put(565, ChoiceControl::postChoice2Choice565);
+    POST_CHOICE2.put(566, ChoiceControl::postChoice2Choice566);
+    POST_CHOICE2.put(567, ChoiceControl::postChoice2Choice567);
+    POST_CHOICE2.put(568, ChoiceControl::postChoice2Choice568);
+    POST_CHOICE2.put(569, ChoiceControl::postChoice2Choice569);
+    POST_CHOICE2.put(578, ChoiceControl::postChoice2Choice578);
+    POST_CHOICE2.put(579, ChoiceControl::postChoice2Choice579);
+    POST_CHOICE2.put(581, ChoiceControl::postChoice2Choice581);
+    POST_CHOICE2.put(584, ChoiceControl::postChoice2Choice584);
+    POST_CHOICE2.put(595, ChoiceControl::postChoice2Choice595);
+    POST_CHOICE2.put(602, ChoiceControl::postChoice2Choice602);
+    POST_CHOICE2.put(613, ChoiceControl::postChoice2Choice613);
+    POST_CHOICE2.put(640, ChoiceControl::postChoice2Choice640);
+    POST_CHOICE2.put(641, ChoiceControl::postChoice2Choice641);
+    POST_CHOICE2.put(642, ChoiceControl::postChoice2Choice642);
+    POST_CHOICE2.put(644, ChoiceControl::postChoice2Choice644);
+    POST_CHOICE2.put(645, ChoiceControl::postChoice2Choice645);
+    POST_CHOICE2.put(647, ChoiceControl::postChoice2Choice647);
+    POST_CHOICE2.put(648, ChoiceControl::postChoice2Choice648);
+    POST_CHOICE2.put(650, ChoiceControl::postChoice2Choice650);
+    POST_CHOICE2.put(651, ChoiceControl::postChoice2Choice651);
+    POST_CHOICE2.put(677, ChoiceControl::postChoice2Choice677);
+    POST_CHOICE2.put(682, ChoiceControl::postChoice2Choice682);
+    POST_CHOICE2.put(696, ChoiceControl::postChoice2Choice696);
+    POST_CHOICE2.put(697, ChoiceControl::postChoice2Choice697);
+    POST_CHOICE2.put(698, ChoiceControl::postChoice2Choice698);
+    POST_CHOICE2.put(704, ChoiceControl::postChoice2Choice704);
+    POST_CHOICE2.put(774, ChoiceControl::postChoice2Choice774);
+    POST_CHOICE2.put(786, ChoiceControl::postChoice2Choice786);
+    POST_CHOICE2.put(798, ChoiceControl::postChoice2Choice798);
+    POST_CHOICE2.put(810, ChoiceControl::postChoice2Choice810);
+    POST_CHOICE2.put(829, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(822, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(823, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(824, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(825, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(826, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(827, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(830, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(832, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(833, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(834, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(831, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(837, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(838, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(839, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(840, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(841, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(842, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(844, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(845, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(846, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(847, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(848, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(849, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(850, ChoiceControl::postChoice2Choice829);
+    POST_CHOICE2.put(854, ChoiceControl::postChoice2Choice854);
+    POST_CHOICE2.put(855, ChoiceControl::postChoice2Choice855);
+    POST_CHOICE2.put(856, ChoiceControl::postChoice2Choice856);
+    POST_CHOICE2.put(857, ChoiceControl::postChoice2Choice857);
+    POST_CHOICE2.put(858, ChoiceControl::postChoice2Choice858);
+    POST_CHOICE2.put(860, ChoiceControl::postChoice2Choice860);
+    POST_CHOICE2.put(861, ChoiceControl::postChoice2Choice861);
+    POST_CHOICE2.put(862, ChoiceControl::postChoice2Choice862);
+    POST_CHOICE2.put(863, ChoiceControl::postChoice2Choice863);
+    POST_CHOICE2.put(864, ChoiceControl::postChoice2Choice864);
+    POST_CHOICE2.put(865, ChoiceControl::postChoice2Choice865);
+    POST_CHOICE2.put(869, ChoiceControl::postChoice2Choice869);
+    POST_CHOICE2.put(875, ChoiceControl::postChoice2Choice875);
+    POST_CHOICE2.put(918, ChoiceControl::postChoice2Choice918);
+    POST_CHOICE2.put(921, ChoiceControl::postChoice2Choice921);
+    POST_CHOICE2.put(928, ChoiceControl::postChoice2Choice928);
+    POST_CHOICE2.put(929, ChoiceControl::postChoice2Choice929);
+    POST_CHOICE2.put(940, ChoiceControl::postChoice2Choice940);
+    POST_CHOICE2.put(974, ChoiceControl::postChoice2Choice974);
+    POST_CHOICE2.put(975, ChoiceControl::postChoice2Choice975);
+    POST_CHOICE2.put(977, ChoiceControl::postChoice2Choice977);
+    POST_CHOICE2.put(981, ChoiceControl::postChoice2Choice981);
+    POST_CHOICE2.put(982, ChoiceControl::postChoice2Choice982);
+    POST_CHOICE2.put(983, ChoiceControl::postChoice2Choice982);
+    POST_CHOICE2.put(1042, ChoiceControl::postChoice2Choice1042);
+    POST_CHOICE2.put(1054, ChoiceControl::postChoice2Choice1054);
+    POST_CHOICE2.put(1055, ChoiceControl::postChoice2Choice1055);
+    POST_CHOICE2.put(1062, ChoiceControl::postChoice2Choice1062);
+    POST_CHOICE2.put(1073, ChoiceControl::postChoice2Choice1073);
+    POST_CHOICE2.put(1089, ChoiceControl::postChoice2Choice1089);
+    POST_CHOICE2.put(1090, ChoiceControl::postChoice2Choice1090);
+    POST_CHOICE2.put(1091, ChoiceControl::postChoice2Choice1091);
+    POST_CHOICE2.put(1092, ChoiceControl::postChoice2Choice1092);
+    POST_CHOICE2.put(1093, ChoiceControl::postChoice2Choice1093);
+    POST_CHOICE2.put(1100, ChoiceControl::postChoice2Choice1100);
+    POST_CHOICE2.put(1101, ChoiceControl::postChoice2Choice1101);
+    POST_CHOICE2.put(1103, ChoiceControl::postChoice2Choice1103);
+    POST_CHOICE2.put(1104, ChoiceControl::postChoice2Choice1104);
+    POST_CHOICE2.put(1105, ChoiceControl::postChoice2Choice1105);
+    POST_CHOICE2.put(1110, ChoiceControl::postChoice2Choice1110);
+    POST_CHOICE2.put(1114, ChoiceControl::postChoice2Choice1114);
+    POST_CHOICE2.put(1115, ChoiceControl::postChoice2Choice1115);
+    POST_CHOICE2.put(1116, ChoiceControl::postChoice2Choice1116);
+    POST_CHOICE2.put(1119, ChoiceControl::postChoice2Choice1119);
+    POST_CHOICE2.put(1134, ChoiceControl::postChoice2Choice1134);
+    POST_CHOICE2.put(1168, ChoiceControl::postChoice2Choice1168);
+    POST_CHOICE2.put(1171, ChoiceControl::postChoice2Choice1171);
+    POST_CHOICE2.put(1172, ChoiceControl::postChoice2Choice1172);
+    POST_CHOICE2.put(1173, ChoiceControl::postChoice2Choice1173);
+    POST_CHOICE2.put(1174, ChoiceControl::postChoice2Choice1174);
+    POST_CHOICE2.put(1175, ChoiceControl::postChoice2Choice1175);
+    POST_CHOICE2.put(1180, ChoiceControl::postChoice2Choice1180);
+    POST_CHOICE2.put(1188, ChoiceControl::postChoice2Choice1188);
+    POST_CHOICE2.put(1191, ChoiceControl::postChoice2Choice1191);
+    POST_CHOICE2.put(1198, ChoiceControl::postChoice2Choice1198);
+    POST_CHOICE2.put(1199, ChoiceControl::postChoice2Choice1199);
+    POST_CHOICE2.put(1202, ChoiceControl::postChoice2Choice1202);
+    POST_CHOICE2.put(1203, ChoiceControl::postChoice2Choice1203);
+    POST_CHOICE2.put(1204, ChoiceControl::postChoice2Choice1204);
+    POST_CHOICE2.put(1205, ChoiceControl::postChoice2Choice1205);
+    POST_CHOICE2.put(1206, ChoiceControl::postChoice2Choice1206);
+    POST_CHOICE2.put(1207, ChoiceControl::postChoice2Choice1207);
+    POST_CHOICE2.put(1208, ChoiceControl::postChoice2Choice1208);
+    POST_CHOICE2.put(1210, ChoiceControl::postChoice2Choice1210);
+    POST_CHOICE2.put(1212, ChoiceControl::postChoice2Choice1212);
+    POST_CHOICE2.put(1214, ChoiceControl::postChoice2Choice1214);
+    POST_CHOICE2.put(1218, ChoiceControl::postChoice2Choice1218);
+    POST_CHOICE2.put(1219, ChoiceControl::postChoice2Choice1219);
+    POST_CHOICE2.put(1232, ChoiceControl::postChoice2Choice1232);
+    POST_CHOICE2.put(1264, ChoiceControl::postChoice2Choice1264);
+    POST_CHOICE2.put(1267, ChoiceControl::postChoice2Choice1267);
+    POST_CHOICE2.put(1272, ChoiceControl::postChoice2Choice1272);
+    POST_CHOICE2.put(1273, ChoiceControl::postChoice2Choice1273);
+    POST_CHOICE2.put(1320, ChoiceControl::postChoice2Choice1320);
+    POST_CHOICE2.put(1339, ChoiceControl::postChoice2Choice1339);
+    POST_CHOICE2.put(1344, ChoiceControl::postChoice2Choice1344);
+    POST_CHOICE2.put(1387, ChoiceControl::postChoice2Choice1387);
+    POST_CHOICE2.put(1395, ChoiceControl::postChoice2Choice1395);
+    POST_CHOICE2.put(1409, ChoiceControl::postChoice2Choice1409);
+    POST_CHOICE2.put(1449, ChoiceControl::postChoice2Choice1449);
+    POST_CHOICE2.put(1452, ChoiceControl::postChoice2Choice1452);
+    POST_CHOICE2.put(1453, ChoiceControl::postChoice2Choice1452);
+    POST_CHOICE2.put(1454, ChoiceControl::postChoice2Choice1452);
+    POST_CHOICE2.put(1457, ChoiceControl::postChoice2Choice1457);
+    POST_CHOICE2.put(1458, ChoiceControl::postChoice2Choice1458);
+    POST_CHOICE2.put(1459, ChoiceControl::postChoice2Choice1459);
+    POST_CHOICE2.put(1460, ChoiceControl::postChoice2Choice1460);
+    POST_CHOICE2.put(1461, ChoiceControl::postChoice2Choice1461);
+    POST_CHOICE2.put(1465, ChoiceControl::postChoice2Choice1465);
+    POST_CHOICE2.put(1466, ChoiceControl::postChoice2Choice1466);
+    POST_CHOICE2.put(1476, ChoiceControl::postChoice2Choice1476);
+    POST_CHOICE2.put(1483, ChoiceControl::postChoice2Choice1483);
+    POST_CHOICE2.put(1484, ChoiceControl::postChoice2Choice1484);
+    POST_CHOICE2.put(1486, ChoiceControl::postChoice2Choice1486);
+    POST_CHOICE2.put(1487, ChoiceControl::postChoice2Choice1487);
+    POST_CHOICE2.put(1489, ChoiceControl::postChoice2Choice1489);
+    POST_CHOICE2.put(1490, ChoiceControl::postChoice2Choice1490);
+    POST_CHOICE2.put(1494, ChoiceControl::postChoice2Choice1494);
+    POST_CHOICE2.put(1496, ChoiceControl::postChoice2Choice1496);
+    POST_CHOICE2.put(1497, ChoiceControl::postChoice2Choice1497);
+    POST_CHOICE2.put(1498, ChoiceControl::postChoice2Choice1498);
+    POST_CHOICE2.put(1500, ChoiceControl::postChoice2Choice1500);
+    POST_CHOICE2.put(1501, ChoiceControl::postChoice2Choice1501);
+    POST_CHOICE2.put(1509, ChoiceControl::postChoice2Choice1509);
+    POST_CHOICE2.put(1510, ChoiceControl::postChoice2Choice1510);
+    POST_CHOICE2.put(1003, ChoiceControl::postChoice2Choice1003);
+    POST_CHOICE2.put(1520, ChoiceControl::postChoice2Choice1520);
+    POST_CHOICE2.put(1521, ChoiceControl::postChoice2Choice1520);
+    POST_CHOICE2.put(1522, ChoiceControl::postChoice2Choice1522);
+    POST_CHOICE2.put(1523, ChoiceControl::postChoice2Choice1523);
+    POST_CHOICE2.put(1524, ChoiceControl::postChoice2Choice1524);
+    POST_CHOICE2.put(1525, ChoiceControl::postChoice2Choice1525);
+    POST_CHOICE2.put(1526, ChoiceControl::postChoice2Choice1526);
+    POST_CHOICE2.put(1527, ChoiceControl::postChoice2Choice1527);
+    POST_CHOICE2.put(1532, ChoiceControl::postChoice2Choice1532);
+    POST_CHOICE2.put(1544, ChoiceControl::postChoice2Choice1544);
+    POST_CHOICE2.put(1551, ChoiceControl::postChoice2Choice1551);
+  }
+
   public static void postChoice2(final String urlString, final GenericRequest request) {
     String text = request.responseText;
 
-    switch (ChoiceManager.lastChoice) {
-      case 3:
-        // The Oracle Will See You Now
-        if (text.contains("actually a book")) {
-          Preferences.setInteger("lastPlusSignUnlock", KoLCharacter.getAscensions());
-        }
-        break;
+    ChoiceHandler handler = POST_CHOICE2.get(ChoiceManager.lastChoice);
+    if (handler != null) {
+      handler.handle(urlString, request, text);
+    }
+  }
 
-      case 7:
-        // How Depressing
+  private static void postChoice2Choice3(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Oracle Will See You Now
+    if (text.contains("actually a book")) {
+      Preferences.setInteger("lastPlusSignUnlock", KoLCharacter.getAscensions());
+    }
+  }
 
-        if (ChoiceManager.lastDecision == 1) {
-          EquipmentManager.discardEquipment(ItemPool.SPOOKY_GLOVE);
-        }
-        break;
+  private static void postChoice2Choice7(
+      final String urlString, final GenericRequest request, final String text) {
+    // How Depressing
 
-      case 21:
-        // Under the Knife
-        if (ChoiceManager.lastDecision == 1 && text.contains("anaesthetizes you")) {
-          Preferences.increment("sexChanges", 1);
-          Preferences.setBoolean("_sexChanged", true);
-          KoLCharacter.setGender(
-              text.contains("in more ways than one") ? Gender.FEMALE : Gender.MALE);
-          ConcoctionDatabase.setRefreshNeeded(false);
-        }
-        break;
+    if (ChoiceManager.lastDecision == 1) {
+      EquipmentManager.discardEquipment(ItemPool.SPOOKY_GLOVE);
+    }
+  }
 
-      case 48:
-      case 49:
-      case 50:
-      case 51:
-      case 52:
-      case 53:
-      case 54:
-      case 55:
-      case 56:
-      case 57:
-      case 58:
-      case 59:
-      case 60:
-      case 61:
-      case 62:
-      case 63:
-      case 64:
-      case 65:
-      case 66:
-      case 67:
-      case 68:
-      case 69:
-      case 70:
-        // Choices in the Violet Fog
-        VioletFogManager.mapChoice(ChoiceManager.lastChoice, ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice2Choice21(
+      final String urlString, final GenericRequest request, final String text) {
+    // Under the Knife
+    if (ChoiceManager.lastDecision == 1 && text.contains("anaesthetizes you")) {
+      Preferences.increment("sexChanges", 1);
+      Preferences.setBoolean("_sexChanged", true);
+      KoLCharacter.setGender(text.contains("in more ways than one") ? Gender.FEMALE : Gender.MALE);
+      ConcoctionDatabase.setRefreshNeeded(false);
+    }
+  }
 
-      case 71:
-        // A Journey to the Center of Your Mind
-        String tripZone =
-            switch (ChoiceManager.lastDecision) {
-              case 1 -> "Bad Trip";
-              case 2 -> "Mediocre Trip";
-              case 3 -> "Great Trip";
-              default -> "";
-            };
-
-        // We are now in a pseudo LimitMode
-        Preferences.setString("currentAstralTrip", tripZone);
-        KoLCharacter.setLimitMode(LimitMode.ASTRAL);
-        break;
+  private static void postChoice2Choice48(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choices in the Violet Fog
+    VioletFogManager.mapChoice(ChoiceManager.lastChoice, ChoiceManager.lastDecision, text);
+  }
 
-      case 73:
-        // Don't Fence Me In
-        if (ChoiceManager.lastDecision == 3) {
-          if (text.contains("you pick") || text.contains("you manage")) {
-            Preferences.increment("_whiteRiceDrops", 1);
-          }
-        }
-        break;
+  private static void postChoice2Choice71(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Journey to the Center of Your Mind
+    String tripZone =
+        switch (ChoiceManager.lastDecision) {
+          case 1 -> "Bad Trip";
+          case 2 -> "Mediocre Trip";
+          case 3 -> "Great Trip";
+          default -> "";
+        };
+
+    // We are now in a pseudo LimitMode
+    Preferences.setString("currentAstralTrip", tripZone);
+    KoLCharacter.setLimitMode(LimitMode.ASTRAL);
+  }
 
-      case 89:
-        if (ChoiceManager.lastDecision == 4) {
-          TurnCounter.startCounting(10, "Garden Banished loc=*", "wolfshield.gif");
-        }
-        break;
+  private static void postChoice2Choice73(
+      final String urlString, final GenericRequest request, final String text) {
+    // Don't Fence Me In
+    if (ChoiceManager.lastDecision == 3) {
+      if (text.contains("you pick") || text.contains("you manage")) {
+        Preferences.increment("_whiteRiceDrops", 1);
+      }
+    }
+  }
 
-      case 105:
-        if (ChoiceManager.lastDecision == 3) {
-          checkGuyMadeOfBees(request);
-        }
-        break;
+  private static void postChoice2Choice89(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 4) {
+      TurnCounter.startCounting(10, "Garden Banished loc=*", "wolfshield.gif");
+    }
+  }
 
-      case 112:
-        // Please, Hammer
-        if (ChoiceManager.lastDecision == 1 && KoLmafia.isAdventuring()) {
-          InventoryManager.retrieveItem(ItemPool.get(ItemPool.HAROLDS_HAMMER, 1));
-        }
-        break;
+  private static void postChoice2Choice105(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 3) {
+      checkGuyMadeOfBees(request);
+    }
+  }
 
-      case 125:
-        // No visible means of support
-        if (ChoiceManager.lastDecision == 3) {
-          QuestDatabase.setQuestProgress(Quest.WORSHIP, "step3");
-        }
-        break;
+  private static void postChoice2Choice112(
+      final String urlString, final GenericRequest request, final String text) {
+    // Please, Hammer
+    if (ChoiceManager.lastDecision == 1 && KoLmafia.isAdventuring()) {
+      InventoryManager.retrieveItem(ItemPool.get(ItemPool.HAROLDS_HAMMER, 1));
+    }
+  }
 
-      case 132:
-        // Let's Make a Deal!
-        if (ChoiceManager.lastDecision == 2) {
-          QuestDatabase.setQuestProgress(Quest.PYRAMID, "step1");
-        }
-        break;
+  private static void postChoice2Choice125(
+      final String urlString, final GenericRequest request, final String text) {
+    // No visible means of support
+    if (ChoiceManager.lastDecision == 3) {
+      QuestDatabase.setQuestProgress(Quest.WORSHIP, "step3");
+    }
+  }
 
-      case 162:
-        // Between a Rock and Some Other Rocks
-        if (KoLmafia.isAdventuring()
-            && !EquipmentManager.isWearingOutfit(OutfitPool.MINING_OUTFIT)
-            && !KoLConstants.activeEffects.contains(EffectPool.get(EffectPool.EARTHEN_FIST))) {
-          QuestManager.unlockGoatlet();
-        }
-        break;
+  private static void postChoice2Choice132(
+      final String urlString, final GenericRequest request, final String text) {
+    // Let's Make a Deal!
+    if (ChoiceManager.lastDecision == 2) {
+      QuestDatabase.setQuestProgress(Quest.PYRAMID, "step1");
+    }
+  }
 
-      case 197:
-        // Somewhat Higher and Mostly Dry
-      case 198:
-        // Disgustin' Junction
-      case 199:
-        // The Former or the Ladder
-        if (ChoiceManager.lastDecision == 1) {
-          checkDungeonSewers(request);
-        }
-        break;
+  private static void postChoice2Choice162(
+      final String urlString, final GenericRequest request, final String text) {
+    // Between a Rock and Some Other Rocks
+    if (KoLmafia.isAdventuring()
+        && !EquipmentManager.isWearingOutfit(OutfitPool.MINING_OUTFIT)
+        && !KoLConstants.activeEffects.contains(EffectPool.get(EffectPool.EARTHEN_FIST))) {
+      QuestManager.unlockGoatlet();
+    }
+  }
 
-      case 200:
-        // Enter The Hoboverlord
-      case 201:
-        // Home, Home in the Range
-      case 202:
-        // Bumpity Bump Bump
-      case 203:
-        // Deep Enough to Dive
-      case 204:
-        // Welcome To You!
-      case 205:
-        // Van, Damn
-
-        // Stop for Hobopolis bosses
-        if (ChoiceManager.lastDecision == 2 && KoLmafia.isAdventuring()) {
-          KoLmafia.updateDisplay(
-              MafiaState.PENDING, hobopolisBossName(ChoiceManager.lastChoice) + " waits for you.");
-        }
-        break;
+  private static void postChoice2Choice197(
+      final String urlString, final GenericRequest request, final String text) {
+    // Somewhat Higher and Mostly Dry
+    // Disgustin' Junction
+    // The Former or the Ladder
+    if (ChoiceManager.lastDecision == 1) {
+      checkDungeonSewers(request);
+    }
+  }
 
-      case 276:
-        // The Gong Has Been Bung
-        String form =
-            switch (ChoiceManager.lastDecision) {
-              case 1 -> "Roach";
-              case 2 -> "Mole";
-              case 3 -> "Bird";
-              default -> "";
-            };
-
-        // We are now in a pseudo LimitMode
-        Preferences.setString("currentLlamaForm", form);
-        // This will look at the property and set actual LimitMode
-        KoLCharacter.setLimitMode(LimitMode.NONE);
-        break;
+  private static void postChoice2Choice200(
+      final String urlString, final GenericRequest request, final String text) {
+    // Enter The Hoboverlord
+    // Home, Home in the Range
+    // Bumpity Bump Bump
+    // Deep Enough to Dive
+    // Welcome To You!
+    // Van, Damn
+
+    // Stop for Hobopolis bosses
+    if (ChoiceManager.lastDecision == 2 && KoLmafia.isAdventuring()) {
+      KoLmafia.updateDisplay(
+          MafiaState.PENDING, hobopolisBossName(ChoiceManager.lastChoice) + " waits for you.");
+    }
+  }
 
-      case 277:
-        // Welcome Back!
-        Preferences.setString("currentLlamaForm", "");
-        KoLCharacter.setLimitMode(LimitMode.NONE);
-        break;
+  private static void postChoice2Choice276(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Gong Has Been Bung
+    String form =
+        switch (ChoiceManager.lastDecision) {
+          case 1 -> "Roach";
+          case 2 -> "Mole";
+          case 3 -> "Bird";
+          default -> "";
+        };
+
+    // We are now in a pseudo LimitMode
+    Preferences.setString("currentLlamaForm", form);
+    // This will look at the property and set actual LimitMode
+    KoLCharacter.setLimitMode(LimitMode.NONE);
+  }
 
-      case 299:
-        // Down at the Hatch
-        if (ChoiceManager.lastDecision == 1) {
-          // The first time you take option 1, you
-          // release Big Brother. Subsequent times, you
-          // release other creatures.
-          QuestDatabase.setQuestIfBetter(Quest.SEA_MONKEES, "step2");
-          Preferences.setBoolean("bigBrotherRescued", true);
-          ConcoctionDatabase.setRefreshNeeded(false);
-        }
-        break;
+  private static void postChoice2Choice277(
+      final String urlString, final GenericRequest request, final String text) {
+    // Welcome Back!
+    Preferences.setString("currentLlamaForm", "");
+    KoLCharacter.setLimitMode(LimitMode.NONE);
+  }
 
-      case 302:
-      case 303:
-        // You've Hit Bottom (Pastamancer, Sauceror)
-      case 306:
-        // Not a Micro Fish (Seal Clubber, Turtle Tamer)
-      case 307:
-        // Ode to the Sea (Disco Bandit)
-      case 308:
-        // Boxing the Juke (Accordion Thief)
-        QuestDatabase.setQuestIfBetter(Quest.SEA_MONKEES, "step5");
-        break;
+  private static void postChoice2Choice299(
+      final String urlString, final GenericRequest request, final String text) {
+    // Down at the Hatch
+    if (ChoiceManager.lastDecision == 1) {
+      // The first time you take option 1, you
+      // release Big Brother. Subsequent times, you
+      // release other creatures.
+      QuestDatabase.setQuestIfBetter(Quest.SEA_MONKEES, "step2");
+      Preferences.setBoolean("bigBrotherRescued", true);
+      ConcoctionDatabase.setRefreshNeeded(false);
+    }
+  }
 
-      case 304:
-        // A Vent Horizon
+  private static void postChoice2Choice302(
+      final String urlString, final GenericRequest request, final String text) {
+    // You've Hit Bottom (Pastamancer, Sauceror)
+    // Not a Micro Fish (Seal Clubber, Turtle Tamer)
+    // Ode to the Sea (Disco Bandit)
+    // Boxing the Juke (Accordion Thief)
+    QuestDatabase.setQuestIfBetter(Quest.SEA_MONKEES, "step5");
+  }
 
-        // "You conjure some delicious batter from the core of
-        // the thermal vent. It pops and sizzles as you stick
-        // it in your sack."
+  private static void postChoice2Choice304(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Vent Horizon
 
-        if (text.contains("pops and sizzles")) {
-          Preferences.increment("tempuraSummons", 1);
-        }
-        break;
+    // "You conjure some delicious batter from the core of
+    // the thermal vent. It pops and sizzles as you stick
+    // it in your sack."
+
+    if (text.contains("pops and sizzles")) {
+      Preferences.increment("tempuraSummons", 1);
+    }
+  }
 
-      case 309:
-        // Barback
+  private static void postChoice2Choice309(
+      final String urlString, final GenericRequest request, final String text) {
+    // Barback
 
-        // "You head down the tunnel into the cave, and manage
-        // to find another seaode. Sweet! I mean... salty!"
+    // "You head down the tunnel into the cave, and manage
+    // to find another seaode. Sweet! I mean... salty!"
 
-        if (text.contains("salty!")) {
-          Preferences.increment("seaodesFound", 1);
-        }
-        break;
+    if (text.contains("salty!")) {
+      Preferences.increment("seaodesFound", 1);
+    }
+  }
 
-      case 326:
-        // Showdown
+  private static void postChoice2Choice326(
+      final String urlString, final GenericRequest request, final String text) {
+    // Showdown
 
-        if (ChoiceManager.lastDecision == 2 && KoLmafia.isAdventuring()) {
-          KoLmafia.updateDisplay(MafiaState.ABORT, "Mother Slime waits for you.");
-        }
-        break;
+    if (ChoiceManager.lastDecision == 2 && KoLmafia.isAdventuring()) {
+      KoLmafia.updateDisplay(MafiaState.ABORT, "Mother Slime waits for you.");
+    }
+  }
 
-      case 330:
-        // A Shark's Chum
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.increment("poolSharkCount", 1);
-        }
-        break;
+  private static void postChoice2Choice330(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Shark's Chum
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.increment("poolSharkCount", 1);
+    }
+  }
 
-      case 360:
-        WumpusManager.takeChoice(ChoiceManager.lastDecision, text);
-        break;
+  private static void postChoice2Choice360(
+      final String urlString, final GenericRequest request, final String text) {
+    WumpusManager.takeChoice(ChoiceManager.lastDecision, text);
+  }
 
-      case 441:
-        // The Mad Tea Party
+  private static void postChoice2Choice441(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Mad Tea Party
 
-        // I'm sorry, but there's a very strict dress code for
-        // this party
+    // I'm sorry, but there's a very strict dress code for
+    // this party
 
-        if (ChoiceManager.lastDecision == 1 && !text.contains("very strict dress code")) {
-          Preferences.setBoolean("_madTeaParty", true);
-        }
-        break;
+    if (ChoiceManager.lastDecision == 1 && !text.contains("very strict dress code")) {
+      Preferences.setBoolean("_madTeaParty", true);
+    }
+  }
 
-      case 442:
-        // A Moment of Reflection
-        if (ChoiceManager.lastDecision == 5) {
-          // Option 5 is Chess Puzzle
-          RabbitHoleManager.parseChessPuzzle(text);
-        }
+  private static void postChoice2Choice442(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Moment of Reflection
+    if (ChoiceManager.lastDecision == 5) {
+      // Option 5 is Chess Puzzle
+      RabbitHoleManager.parseChessPuzzle(text);
+    }
 
-        if (ChoiceManager.lastDecision != 6) {
-          // Option 6 does not consume the map. Others do.
-          ResultProcessor.processItem(ItemPool.REFLECTION_OF_MAP, -1);
-        }
-        break;
+    if (ChoiceManager.lastDecision != 6) {
+      // Option 6 does not consume the map. Others do.
+      ResultProcessor.processItem(ItemPool.REFLECTION_OF_MAP, -1);
+    }
+  }
 
-      case 508:
-        // Pants-Gazing
-        if (text.contains("You acquire an effect")) {
-          Preferences.increment("_gapBuffs", 1);
-        }
-        break;
+  private static void postChoice2Choice508(
+      final String urlString, final GenericRequest request, final String text) {
+    // Pants-Gazing
+    if (text.contains("You acquire an effect")) {
+      Preferences.increment("_gapBuffs", 1);
+    }
+  }
 
-      case 517:
-        // Mr. Alarm, I presarm
-        QuestDatabase.setQuestIfBetter(Quest.PALINDOME, "step3");
-        break;
+  private static void postChoice2Choice517(
+      final String urlString, final GenericRequest request, final String text) {
+    // Mr. Alarm, I presarm
+    QuestDatabase.setQuestIfBetter(Quest.PALINDOME, "step3");
+  }
 
-      case 518:
-        // Clear and Present Danger
+  private static void postChoice2Choice518(
+      final String urlString, final GenericRequest request, final String text) {
+    // Clear and Present Danger
 
-        // Stop for Hobopolis bosses
-        if (ChoiceManager.lastDecision == 2 && KoLmafia.isAdventuring()) {
-          KoLmafia.updateDisplay(
-              MafiaState.PENDING, hobopolisBossName(ChoiceManager.lastChoice) + " waits for you.");
-        }
-        break;
+    // Stop for Hobopolis bosses
+    if (ChoiceManager.lastDecision == 2 && KoLmafia.isAdventuring()) {
+      KoLmafia.updateDisplay(
+          MafiaState.PENDING, hobopolisBossName(ChoiceManager.lastChoice) + " waits for you.");
+    }
+  }
 
-      case 524:
-        // The Adventures of Lars the Cyberian
-        if (text.contains("Skullhead's Screw")) {
-          // You lose the book if you receive the reward.
-          // I don't know if that's always the result of
-          // the same choice option
-          ResultProcessor.processItem(ItemPool.LARS_THE_CYBERIAN, -1);
-        }
-        break;
+  private static void postChoice2Choice524(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Adventures of Lars the Cyberian
+    if (text.contains("Skullhead's Screw")) {
+      // You lose the book if you receive the reward.
+      // I don't know if that's always the result of
+      // the same choice option
+      ResultProcessor.processItem(ItemPool.LARS_THE_CYBERIAN, -1);
+    }
+  }
 
-      case 548:
-        // Behind Closed Doors
-        if (ChoiceManager.lastDecision == 2 && KoLmafia.isAdventuring()) {
-          KoLmafia.updateDisplay(MafiaState.ABORT, "The Necbromancer waits for you.");
-        }
-        break;
+  private static void postChoice2Choice548(
+      final String urlString, final GenericRequest request, final String text) {
+    // Behind Closed Doors
+    if (ChoiceManager.lastDecision == 2 && KoLmafia.isAdventuring()) {
+      KoLmafia.updateDisplay(MafiaState.ABORT, "The Necbromancer waits for you.");
+    }
+  }
 
-      case 549:
-        // Dark in the Attic
-        if (text.contains("The silver pellets tear through the sorority werewolves")) {
-          ResultProcessor.processItem(ItemPool.SILVER_SHOTGUN_SHELL, -1);
-          RequestLogger.printLine("You took care of a bunch of werewolves.");
-        } else if (text.contains("quietly sneak away")) {
-          RequestLogger.printLine("You need a silver shotgun shell to kill werewolves.");
-        } else if (text.contains("a loose shutter")) {
-          RequestLogger.printLine("All the werewolves have been defeated.");
-        } else if (text.contains("crank up the volume on the boombox")) {
-          RequestLogger.printLine("You crank up the volume on the boombox.");
-        } else if (text.contains("a firm counterclockwise twist")) {
-          RequestLogger.printLine("You crank down the volume on the boombox.");
-        }
-        break;
+  private static void postChoice2Choice549(
+      final String urlString, final GenericRequest request, final String text) {
+    // Dark in the Attic
+    if (text.contains("The silver pellets tear through the sorority werewolves")) {
+      ResultProcessor.processItem(ItemPool.SILVER_SHOTGUN_SHELL, -1);
+      RequestLogger.printLine("You took care of a bunch of werewolves.");
+    } else if (text.contains("quietly sneak away")) {
+      RequestLogger.printLine("You need a silver shotgun shell to kill werewolves.");
+    } else if (text.contains("a loose shutter")) {
+      RequestLogger.printLine("All the werewolves have been defeated.");
+    } else if (text.contains("crank up the volume on the boombox")) {
+      RequestLogger.printLine("You crank up the volume on the boombox.");
+    } else if (text.contains("a firm counterclockwise twist")) {
+      RequestLogger.printLine("You crank down the volume on the boombox.");
+    }
+  }
 
-      case 550:
-        // The Unliving Room
-        if (text.contains("you pull out the chainsaw blades")) {
-          ResultProcessor.processItem(ItemPool.CHAINSAW_CHAIN, -1);
-          RequestLogger.printLine("You took out a bunch of zombies.");
-        } else if (text.contains("a wet tearing noise")) {
-          RequestLogger.printLine("You need a chainsaw chain to kill zombies.");
-        } else if (text.contains("a bloody tangle")) {
-          RequestLogger.printLine("All the zombies have been defeated.");
-        } else if (text.contains("the skeletons collapse into piles of loose bones")) {
-          ResultProcessor.processItem(ItemPool.FUNHOUSE_MIRROR, -1);
-          RequestLogger.printLine("You made short work of some skeletons.");
-        } else if (text.contains("couch in front of the door")) {
-          RequestLogger.printLine("You need a funhouse mirror to kill skeletons.");
-        } else if (text.contains("just coats")) {
-          RequestLogger.printLine("All the skeletons have been defeated.");
-        } else if (text.contains("close the windows")) {
-          RequestLogger.printLine("You close the windows.");
-        } else if (text.contains("open the windows")) {
-          RequestLogger.printLine("You open the windows.");
-        }
-        break;
+  private static void postChoice2Choice550(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Unliving Room
+    if (text.contains("you pull out the chainsaw blades")) {
+      ResultProcessor.processItem(ItemPool.CHAINSAW_CHAIN, -1);
+      RequestLogger.printLine("You took out a bunch of zombies.");
+    } else if (text.contains("a wet tearing noise")) {
+      RequestLogger.printLine("You need a chainsaw chain to kill zombies.");
+    } else if (text.contains("a bloody tangle")) {
+      RequestLogger.printLine("All the zombies have been defeated.");
+    } else if (text.contains("the skeletons collapse into piles of loose bones")) {
+      ResultProcessor.processItem(ItemPool.FUNHOUSE_MIRROR, -1);
+      RequestLogger.printLine("You made short work of some skeletons.");
+    } else if (text.contains("couch in front of the door")) {
+      RequestLogger.printLine("You need a funhouse mirror to kill skeletons.");
+    } else if (text.contains("just coats")) {
+      RequestLogger.printLine("All the skeletons have been defeated.");
+    } else if (text.contains("close the windows")) {
+      RequestLogger.printLine("You close the windows.");
+    } else if (text.contains("open the windows")) {
+      RequestLogger.printLine("You open the windows.");
+    }
+  }
 
-      case 551:
-        // Debasement
-        if (text.contains("the vampire girls shriek")) {
-          RequestLogger.printLine("You slew some vampires.");
-        } else if (text.contains("gets back in her coffin")) {
-          RequestLogger.printLine("You need to equip plastic vampire fangs to kill vampires.");
-        } else if (text.contains("they recognize you")) {
-          RequestLogger.printLine("You have already killed some vampires.");
-        } else if (text.contains("crank up the fog machine")) {
-          RequestLogger.printLine("You crank up the fog machine.");
-        } else if (text.contains("turn the fog machine way down")) {
-          RequestLogger.printLine("You crank down the fog machine.");
-        }
-        break;
+  private static void postChoice2Choice551(
+      final String urlString, final GenericRequest request, final String text) {
+    // Debasement
+    if (text.contains("the vampire girls shriek")) {
+      RequestLogger.printLine("You slew some vampires.");
+    } else if (text.contains("gets back in her coffin")) {
+      RequestLogger.printLine("You need to equip plastic vampire fangs to kill vampires.");
+    } else if (text.contains("they recognize you")) {
+      RequestLogger.printLine("You have already killed some vampires.");
+    } else if (text.contains("crank up the fog machine")) {
+      RequestLogger.printLine("You crank up the fog machine.");
+    } else if (text.contains("turn the fog machine way down")) {
+      RequestLogger.printLine("You crank down the fog machine.");
+    }
+  }
+
+  private static void postChoice2Choice553(
+      final String urlString, final GenericRequest request, final String text) {
+    // Relocked and Reloaded
+    if (text.contains("You melt")) {
+      int item =
+          switch (ChoiceManager.lastDecision) {
+            case 1 -> ItemPool.MAXWELL_HAMMER;
+            case 2 -> ItemPool.TONGUE_BRACELET;
+            case 3 -> ItemPool.SILVER_CHEESE_SLICER;
+            case 4 -> ItemPool.SILVER_SHRIMP_FORK;
+            case 5 -> ItemPool.SILVER_PATE_KNIFE;
+            default -> 0;
+          };
+      if (item > 0) {
+        ResultProcessor.processItem(item, -1);
+      }
+    }
+  }
+
+  private static void postChoice2Choice558(
+      final String urlString, final GenericRequest request, final String text) {
+    // Tool Time
+    if (text.contains("You acquire an item")) {
+      int amount = 3 + ChoiceManager.lastDecision;
+      ResultProcessor.processItem(ItemPool.LOLLIPOP_STICK, -amount);
+    }
+  }
 
-      case 553:
-        // Relocked and Reloaded
-        if (text.contains("You melt")) {
-          int item =
-              switch (ChoiceManager.lastDecision) {
-                case 1 -> ItemPool.MAXWELL_HAMMER;
-                case 2 -> ItemPool.TONGUE_BRACELET;
-                case 3 -> ItemPool.SILVER_CHEESE_SLICER;
-                case 4 -> ItemPool.SILVER_SHRIMP_FORK;
-                case 5 -> ItemPool.SILVER_PATE_KNIFE;
-                default -> 0;
-              };
-          if (item > 0) {
-            ResultProcessor.processItem(item, -1);
-          }
-        }
-        break;
+  private static void postChoice2Choice560(
+      final String urlString, final GenericRequest request, final String text) {
+    // Foreshadowing Demon!
+    QuestDatabase.setQuest(
+        Quest.CLUMSINESS,
+        ChoiceManager.lastDecision == 1 ? QuestDatabase.STARTED : QuestDatabase.UNSTARTED);
+  }
 
-      case 558:
-        // Tool Time
-        if (text.contains("You acquire an item")) {
-          int amount = 3 + ChoiceManager.lastDecision;
-          ResultProcessor.processItem(ItemPool.LOLLIPOP_STICK, -amount);
-        }
-        break;
+  private static void postChoice2Choice561(
+      final String urlString, final GenericRequest request, final String text) {
+    // You Must Choose Your Destruction!
+    QuestDatabase.setQuest(Quest.CLUMSINESS, "step1");
+    Preferences.setString(
+        "clumsinessGroveBoss",
+        ChoiceManager.lastDecision == 1 ? "The Thorax" : "The Bat in the Spats");
+  }
 
-      case 560:
-        // Foreshadowing Demon!
-        QuestDatabase.setQuest(
-            Quest.CLUMSINESS,
-            ChoiceManager.lastDecision == 1 ? QuestDatabase.STARTED : QuestDatabase.UNSTARTED);
-        break;
+  private static void postChoice2Choice563(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Test of Your Mettle
+    if (ChoiceManager.lastDecision == 1) {
+      String nextBoss =
+          InventoryManager.getCount(ItemPool.VANITY_STONE) > 0
+              ? "The Thorax"
+              : "The Bat in the Spats";
+      Preferences.setString("clumsinessGroveBoss", nextBoss);
+      QuestDatabase.setQuest(Quest.CLUMSINESS, "step3");
+    }
+  }
 
-      case 561:
-        // You Must Choose Your Destruction!
-        QuestDatabase.setQuest(Quest.CLUMSINESS, "step1");
-        Preferences.setString(
-            "clumsinessGroveBoss",
-            ChoiceManager.lastDecision == 1 ? "The Thorax" : "The Bat in the Spats");
-        break;
+  private static void postChoice2Choice564(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Maelstrom of Trouble
+    QuestDatabase.setQuest(
+        Quest.MAELSTROM,
+        ChoiceManager.lastDecision == 1 ? QuestDatabase.STARTED : QuestDatabase.UNSTARTED);
+  }
 
-      case 563:
-        // A Test of Your Mettle
-        if (ChoiceManager.lastDecision == 1) {
-          String nextBoss =
-              InventoryManager.getCount(ItemPool.VANITY_STONE) > 0
-                  ? "The Thorax"
-                  : "The Bat in the Spats";
-          Preferences.setString("clumsinessGroveBoss", nextBoss);
-          QuestDatabase.setQuest(Quest.CLUMSINESS, "step3");
-        }
-        break;
+  private static void postChoice2Choice565(
+      final String urlString, final GenericRequest request, final String text) {
+    // To Get Groped or Get Mugged?
+    QuestDatabase.setQuest(Quest.MAELSTROM, "step1");
+    Preferences.setString(
+        "maelstromOfLoversBoss",
+        ChoiceManager.lastDecision == 1 ? "The Terrible Pinch" : "Thug 1 and Thug 2");
+  }
 
-      case 564:
-        // A Maelstrom of Trouble
-        QuestDatabase.setQuest(
-            Quest.MAELSTROM,
-            ChoiceManager.lastDecision == 1 ? QuestDatabase.STARTED : QuestDatabase.UNSTARTED);
-        break;
+  private static void postChoice2Choice566(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Choice to be Made
+    if (ChoiceManager.lastDecision == 1) {
+      String nextBoss =
+          InventoryManager.getCount(ItemPool.JEALOUSY_STONE) > 0
+              ? "The Terrible Pinch"
+              : "Thug 1 and Thug 2";
+      Preferences.setString("maelstromOfLoversBoss", nextBoss);
+      QuestDatabase.setQuest(Quest.MAELSTROM, "step3");
+    }
+  }
 
-      case 565:
-        // To Get Groped or Get Mugged?
-        QuestDatabase.setQuest(Quest.MAELSTROM, "step1");
-        Preferences.setString(
-            "maelstromOfLoversBoss",
-            ChoiceManager.lastDecision == 1 ? "The Terrible Pinch" : "Thug 1 and Thug 2");
-        break;
+  private static void postChoice2Choice567(
+      final String urlString, final GenericRequest request, final String text) {
+    // You May Be on Thin Ice
+    QuestDatabase.setQuest(
+        Quest.GLACIER,
+        ChoiceManager.lastDecision == 1 ? QuestDatabase.STARTED : QuestDatabase.UNSTARTED);
+  }
 
-      case 566:
-        // A Choice to be Made
-        if (ChoiceManager.lastDecision == 1) {
-          String nextBoss =
-              InventoryManager.getCount(ItemPool.JEALOUSY_STONE) > 0
-                  ? "The Terrible Pinch"
-                  : "Thug 1 and Thug 2";
-          Preferences.setString("maelstromOfLoversBoss", nextBoss);
-          QuestDatabase.setQuest(Quest.MAELSTROM, "step3");
-        }
-        break;
+  private static void postChoice2Choice568(
+      final String urlString, final GenericRequest request, final String text) {
+    // Some Sounds Most Unnerving
+    QuestDatabase.setQuest(Quest.GLACIER, "step1");
+    Preferences.setString(
+        "glacierOfJerksBoss",
+        ChoiceManager.lastDecision == 1 ? "Mammon the Elephant" : "The Large-Bellied Snitch");
+  }
 
-      case 567:
-        // You May Be on Thin Ice
-        QuestDatabase.setQuest(
-            Quest.GLACIER,
-            ChoiceManager.lastDecision == 1 ? QuestDatabase.STARTED : QuestDatabase.UNSTARTED);
-        break;
+  private static void postChoice2Choice569(
+      final String urlString, final GenericRequest request, final String text) {
+    // One More Demon to Slay
+    if (ChoiceManager.lastDecision == 1) {
+      String nextBoss =
+          InventoryManager.getCount(ItemPool.GLUTTONOUS_STONE) > 0
+              ? "Mammon the Elephant"
+              : "The Large-Bellied Snitch";
+      Preferences.setString("glacierOfJerksBoss", nextBoss);
+      QuestDatabase.setQuest(Quest.GLACIER, "step3");
+    }
+  }
 
-      case 568:
-        // Some Sounds Most Unnerving
-        QuestDatabase.setQuest(Quest.GLACIER, "step1");
-        Preferences.setString(
-            "glacierOfJerksBoss",
-            ChoiceManager.lastDecision == 1 ? "Mammon the Elephant" : "The Large-Bellied Snitch");
-        break;
+  private static void postChoice2Choice578(
+      final String urlString, final GenericRequest request, final String text) {
+    // End of the Boris Road
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 569:
-        // One More Demon to Slay
-        if (ChoiceManager.lastDecision == 1) {
-          String nextBoss =
-              InventoryManager.getCount(ItemPool.GLUTTONOUS_STONE) > 0
-                  ? "Mammon the Elephant"
-                  : "The Large-Bellied Snitch";
-          Preferences.setString("glacierOfJerksBoss", nextBoss);
-          QuestDatabase.setQuest(Quest.GLACIER, "step3");
-        }
-        break;
+  private static void postChoice2Choice579(
+      final String urlString, final GenericRequest request, final String text) {
+    // Such Great Heights
+    if (ChoiceManager.lastDecision == 3
+        && Preferences.getInteger("lastTempleAdventures") != KoLCharacter.getAscensions()) {
+      Preferences.setInteger("lastTempleAdventures", KoLCharacter.getAscensions());
+      // Also resets your Mayam Calendar symbols, if you have used any.
+      Preferences.setString("_mayamSymbolsUsed", "");
+    }
+  }
 
-      case 578:
-        // End of the Boris Road
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice581(
+      final String urlString, final GenericRequest request, final String text) {
+    // Such Great Depths
+    if (ChoiceManager.lastDecision == 2) {
+      Preferences.setBoolean("_templeHiddenPower", true);
+    }
+  }
 
-      case 579:
-        // Such Great Heights
-        if (ChoiceManager.lastDecision == 3
-            && Preferences.getInteger("lastTempleAdventures") != KoLCharacter.getAscensions()) {
-          Preferences.setInteger("lastTempleAdventures", KoLCharacter.getAscensions());
-          // Also resets your Mayam Calendar symbols, if you have used any.
-          Preferences.setString("_mayamSymbolsUsed", "");
-        }
-        break;
+  private static void postChoice2Choice584(
+      final String urlString, final GenericRequest request, final String text) {
+    // Unconfusing Buttons
+    if (Preferences.getInteger("lastTempleButtonsUnlock") != KoLCharacter.getAscensions()) {
+      Preferences.setInteger("lastTempleButtonsUnlock", KoLCharacter.getAscensions());
+    }
+    if (InventoryManager.getCount(ItemPool.NOSTRIL_OF_THE_SERPENT) > 0) {
+      ResultProcessor.processItem(ItemPool.NOSTRIL_OF_THE_SERPENT, -1);
+    }
+    if (ChoiceManager.lastDecision == 4) {
+      QuestDatabase.setQuestIfBetter(Quest.WORSHIP, "step2");
+    }
+  }
 
-      case 581:
-        // Such Great Depths
-        if (ChoiceManager.lastDecision == 2) {
-          Preferences.setBoolean("_templeHiddenPower", true);
-        }
-        break;
+  private static void postChoice2Choice595(
+      final String urlString, final GenericRequest request, final String text) {
+    // Fire! I... have made... fire!
+    Preferences.setBoolean("_fireStartingKitUsed", true);
+  }
 
-      case 584:
-        // Unconfusing Buttons
-        if (Preferences.getInteger("lastTempleButtonsUnlock") != KoLCharacter.getAscensions()) {
-          Preferences.setInteger("lastTempleButtonsUnlock", KoLCharacter.getAscensions());
-        }
-        if (InventoryManager.getCount(ItemPool.NOSTRIL_OF_THE_SERPENT) > 0) {
-          ResultProcessor.processItem(ItemPool.NOSTRIL_OF_THE_SERPENT, -1);
-        }
-        if (ChoiceManager.lastDecision == 4) {
-          QuestDatabase.setQuestIfBetter(Quest.WORSHIP, "step2");
-        }
-        break;
+  private static void postChoice2Choice602(
+      final String urlString, final GenericRequest request, final String text) {
+    // Behind the Gash
+    // This is a multi-part choice adventure, and we only want to handle the last choice
+    if (text.contains("you shout into the blackness")) {
+      handleAfterAvatar(ChoiceManager.lastDecision);
+    }
+  }
 
-      case 595:
-        // Fire! I... have made... fire!
-        Preferences.setBoolean("_fireStartingKitUsed", true);
-        break;
+  private static void postChoice2Choice613(
+      final String urlString, final GenericRequest request, final String text) {
+    // Behind the door there is a fog
+    if (ChoiceManager.lastDecision == 1) {
+      Matcher fogMatcher = FOG_PATTERN.matcher(text);
+      if (fogMatcher.find()) {
+        String message = "Message: \"" + fogMatcher.group(1) + "\"";
+        RequestLogger.printLine(message);
+        RequestLogger.updateSessionLog(message);
+      }
+    }
+  }
 
-      case 602:
-        // Behind the Gash
-        // This is a multi-part choice adventure, and we only want to handle the last choice
-        if (text.contains("you shout into the blackness")) {
-          handleAfterAvatar(ChoiceManager.lastDecision);
-        }
-        break;
+  private static void postChoice2Choice640(
+      final String urlString, final GenericRequest request, final String text) {
+    // Tailor the Snow Suit
+    SnowsuitCommand.setStateFromDecision(ChoiceManager.lastDecision);
+  }
 
-      case 613:
-        // Behind the door there is a fog
-        if (ChoiceManager.lastDecision == 1) {
-          Matcher fogMatcher = FOG_PATTERN.matcher(text);
-          if (fogMatcher.find()) {
-            String message = "Message: \"" + fogMatcher.group(1) + "\"";
-            RequestLogger.printLine(message);
-            RequestLogger.updateSessionLog(message);
-          }
-        }
-        break;
+  private static void postChoice2Choice641(
+      final String urlString, final GenericRequest request, final String text) {
+    // Stupid Pipes.
+    if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
+      Preferences.setBoolean("flickeringPixel1", true);
+    }
+  }
 
-      case 640:
-        // Tailor the Snow Suit
-        SnowsuitCommand.setStateFromDecision(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice642(
+      final String urlString, final GenericRequest request, final String text) {
+    // You're Freaking Kidding Me
+    if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
+      Preferences.setBoolean("flickeringPixel2", true);
+    }
+  }
 
-      case 641:
-        // Stupid Pipes.
-        if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
-          Preferences.setBoolean("flickeringPixel1", true);
-        }
-        break;
+  private static void postChoice2Choice644(
+      final String urlString, final GenericRequest request, final String text) {
+    // Snakes.
+    if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
+      Preferences.setBoolean("flickeringPixel3", true);
+    }
+  }
 
-      case 642:
-        // You're Freaking Kidding Me
-        if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
-          Preferences.setBoolean("flickeringPixel2", true);
-        }
-        break;
+  private static void postChoice2Choice645(
+      final String urlString, final GenericRequest request, final String text) {
+    // So... Many... Skulls...
+    if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
+      Preferences.setBoolean("flickeringPixel4", true);
+    }
+  }
 
-      case 644:
-        // Snakes.
-        if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
-          Preferences.setBoolean("flickeringPixel3", true);
-        }
-        break;
+  private static void postChoice2Choice647(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Stupid Dummy. Also, a Straw Man.
+    if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
+      Preferences.setBoolean("flickeringPixel5", true);
+    }
+  }
 
-      case 645:
-        // So... Many... Skulls...
-        if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
-          Preferences.setBoolean("flickeringPixel4", true);
-        }
-        break;
+  private static void postChoice2Choice648(
+      final String urlString, final GenericRequest request, final String text) {
+    // Slings and Arrows
+    if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
+      Preferences.setBoolean("flickeringPixel6", true);
+    }
+  }
 
-      case 647:
-        // A Stupid Dummy. Also, a Straw Man.
-        if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
-          Preferences.setBoolean("flickeringPixel5", true);
-        }
-        break;
+  private static void postChoice2Choice650(
+      final String urlString, final GenericRequest request, final String text) {
+    // This Is Your Life. Your Horrible, Horrible Life.
+    if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
+      Preferences.setBoolean("flickeringPixel7", true);
+    }
+  }
 
-      case 648:
-        // Slings and Arrows
-        if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
-          Preferences.setBoolean("flickeringPixel6", true);
-        }
-        break;
+  private static void postChoice2Choice651(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Wall of Wailing
+    if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
+      Preferences.setBoolean("flickeringPixel8", true);
+    }
+  }
 
-      case 650:
-        // This Is Your Life. Your Horrible, Horrible Life.
-        if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
-          Preferences.setBoolean("flickeringPixel7", true);
-        }
-        break;
+  private static void postChoice2Choice677(
+      final String urlString, final GenericRequest request, final String text) {
+    // Copper Feel
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.removeItem(ItemPool.MODEL_AIRSHIP);
+    }
+  }
 
-      case 651:
-        // The Wall of Wailing
-        if (ChoiceManager.lastDecision == 2 && text.contains("flickering pixel")) {
-          Preferences.setBoolean("flickeringPixel8", true);
-        }
-        break;
+  private static void postChoice2Choice682(
+      final String urlString, final GenericRequest request, final String text) {
+    // Now Leaving Jarlsberg, Population You
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 677:
-        // Copper Feel
-        if (ChoiceManager.lastDecision == 1) {
-          ResultProcessor.removeItem(ItemPool.MODEL_AIRSHIP);
-        }
-        break;
+  private static void postChoice2Choice696(
+      final String urlString, final GenericRequest request, final String text) {
+    // Stick a Fork In It
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("maraisDarkUnlock", true);
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setBoolean("maraisWildlifeUnlock", true);
+    }
+  }
 
-      case 682:
-        // Now Leaving Jarlsberg, Population You
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice697(
+      final String urlString, final GenericRequest request, final String text) {
+    // Sophie's Choice
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("maraisCorpseUnlock", true);
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setBoolean("maraisWizardUnlock", true);
+    }
+  }
 
-      case 696:
-        // Stick a Fork In It
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("maraisDarkUnlock", true);
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setBoolean("maraisWildlifeUnlock", true);
-        }
-        break;
+  private static void postChoice2Choice698(
+      final String urlString, final GenericRequest request, final String text) {
+    // From Bad to Worst
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("maraisBeaverUnlock", true);
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setBoolean("maraisVillageUnlock", true);
+    }
+  }
 
-      case 697:
-        // Sophie's Choice
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("maraisCorpseUnlock", true);
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setBoolean("maraisWizardUnlock", true);
-        }
-        break;
+  private static void postChoice2Choice704(
+      final String urlString, final GenericRequest request, final String text) {
+    // Playing the Catalog Card
+    DreadScrollManager.handleLibrary(text);
+  }
 
-      case 698:
-        // From Bad to Worst
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("maraisBeaverUnlock", true);
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setBoolean("maraisVillageUnlock", true);
-        }
-        break;
+  private static void postChoice2Choice774(
+      final String urlString, final GenericRequest request, final String text) {
+    // Opening up the Folder Holder
+
+    // Choice 1 is adding a folder.
+    if (ChoiceManager.lastDecision == 1
+        && text.contains("You carefully place your new folder in the holder")) {
+      // Figure out which one it was from the URL
+      String id = request.getFormField("folder");
+      AdventureResult folder = EquipmentRequest.idToFolder(id);
+      ResultProcessor.removeItem(folder.getItemId());
+    }
 
-      case 704:
-        // Playing the Catalog Card
-        DreadScrollManager.handleLibrary(text);
-        break;
+    // Choice 2 is removing a folder. Since the folder is
+    // destroyed, it does not go back to inventory.
 
-      case 774:
-        // Opening up the Folder Holder
+    // Set all folder slots from the response text
+    EquipmentRequest.parseFolders(text);
+  }
 
-        // Choice 1 is adding a folder.
-        if (ChoiceManager.lastDecision == 1
-            && text.contains("You carefully place your new folder in the holder")) {
-          // Figure out which one it was from the URL
-          String id = request.getFormField("folder");
-          AdventureResult folder = EquipmentRequest.idToFolder(id);
-          ResultProcessor.removeItem(folder.getItemId());
-        }
+  private static void postChoice2Choice786(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.autoCreate(ItemPool.MCCLUSKY_FILE);
+    }
+  }
 
-        // Choice 2 is removing a folder. Since the folder is
-        // destroyed, it does not go back to inventory.
+  private static void postChoice2Choice798(
+      final String urlString, final GenericRequest request, final String text) {
+    // Hippy Talkin'
+    if (text.contains("Point me at the landfill")) {
+      QuestDatabase.setQuestProgress(Quest.HIPPY, QuestDatabase.STARTED);
+    }
+  }
 
-        // Set all folder slots from the response text
-        EquipmentRequest.parseFolders(text);
-        break;
+  private static void postChoice2Choice810(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 2) {
+      ResultProcessor.processItem(ItemPool.WARBEAR_WHOSIT, -100);
+    } else if (ChoiceManager.lastDecision == 4 && text.contains("You upgrade the robot!")) {
+      String bot = findKRAMPUSBot(request.getURLString(), text);
+      int cost =
+          (bot == null) ? 0 : bot.contains("Level 2") ? 250 : bot.contains("Level 3") ? 500 : 0;
+      if (cost != 0) {
+        ResultProcessor.processItem(ItemPool.WARBEAR_WHOSIT, -cost);
+      }
+    }
+  }
 
-      case 786:
-        if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.autoCreate(ItemPool.MCCLUSKY_FILE);
-        }
-        break;
+  // The Prince's Ball (In the Restroom)
+  // The Prince's Ball (On the Dance Floor)
+  // The Prince's Ball (The Kitchen)
+  // The Prince's Ball (On the Balcony)
+  // The Prince's Ball (The Lounge)
+  // The Prince's Ball (At the Canapés Table)
+  // Cooldown
+  // Shower Power
+  // Vendi, Vidi, Vici
+  // Back Room Dealings
+  // Intrusion
+  // On Purple Pond
+  // General Mill
+  // The Sounds of the Undergrounds
+  // Hop on Rock Pops
+  // Building, Structure, Edifice
+  // The Gingerbread Warehouse
+  // The Portal to Horrible Parents
+  // Rumpelstiltskin's Workshop
+  // Bartering for the Future of Innocent Children
+  // Pick Your Poison
+  // Where the Magic Happens
+  // The Practice
+  // World of Bartercraft
+  private static void postChoice2Choice829(
+      final String urlString, final GenericRequest request, final String text) {
+    // We all wear masks
+    // stepmother
+    // wolf
+    // witch
+    // gnome
+    GrimstoneManager.postChoice2(text);
+  }
 
-      case 798:
-        // Hippy Talkin'
-        if (text.contains("Point me at the landfill")) {
-          QuestDatabase.setQuestProgress(Quest.HIPPY, QuestDatabase.STARTED);
-        }
-        break;
+  private static void postChoice2Choice854(
+      final String urlString, final GenericRequest request, final String text) {
+    // Shen Copperhead, World's Biggest Jerk
+    if (InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM)
+        && InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM_RAMPANT)) {
+      ResultProcessor.autoCreate(ItemPool.TALISMAN);
+    }
+  }
 
-      case 810:
-        if (ChoiceManager.lastDecision == 2) {
-          ResultProcessor.processItem(ItemPool.WARBEAR_WHOSIT, -100);
-        } else if (ChoiceManager.lastDecision == 4 && text.contains("You upgrade the robot!")) {
-          String bot = findKRAMPUSBot(request.getURLString(), text);
-          int cost =
-              (bot == null) ? 0 : bot.contains("Level 2") ? 250 : bot.contains("Level 3") ? 500 : 0;
-          if (cost != 0) {
-            ResultProcessor.processItem(ItemPool.WARBEAR_WHOSIT, -cost);
-          }
-        }
-        break;
+  private static void postChoice2Choice855(
+      final String urlString, final GenericRequest request, final String text) {
+    // Behind the 'Stache
+    String hazard =
+        switch (ChoiceManager.lastDecision) {
+          case 1, 5 -> "gong";
+          case 2 -> "ice";
+          case 3 -> "lantern";
+          default -> Preferences.getString("copperheadClubHazard");
+        };
+    Preferences.setString("copperheadClubHazard", hazard);
+    if (ChoiceManager.lastDecision == 5) {
+      Preferences.setBoolean("candyCaneSwordCopperheadClub", true);
+    }
+  }
 
-      case 829:
-        // We all wear masks
-      case 822: // The Prince's Ball (In the Restroom)
-      case 823: // The Prince's Ball (On the Dance Floor)
-      case 824: // The Prince's Ball (The Kitchen)
-      case 825: // The Prince's Ball (On the Balcony)
-      case 826: // The Prince's Ball (The Lounge)
-      case 827: // The Prince's Ball (At the Canapés Table)
-        // stepmother
-      case 830: // Cooldown
-      case 832: // Shower Power
-      case 833: // Vendi, Vidi, Vici
-      case 834: // Back Room Dealings
-        // wolf
-      case 831: // Intrusion
-      case 837: // On Purple Pond
-      case 838: // General Mill
-      case 839: // The Sounds of the Undergrounds
-      case 840: // Hop on Rock Pops
-      case 841: // Building, Structure, Edifice
-      case 842: // The Gingerbread Warehouse
-        // witch
-      case 844: // The Portal to Horrible Parents
-      case 845: // Rumpelstiltskin's Workshop
-      case 846: // Bartering for the Future of Innocent Children
-      case 847: // Pick Your Poison
-      case 848: // Where the Magic Happens
-      case 849: // The Practice
-      case 850: // World of Bartercraft
-        // gnome
-        GrimstoneManager.postChoice2(text);
-        break;
+  private static void postChoice2Choice856(
+      final String urlString, final GenericRequest request, final String text) {
+    // This Looks Like a Good Bush for an Ambush
+    Matcher lynyrdMatcher = LYNYRD_PATTERN.matcher(text);
+    if (lynyrdMatcher.find()) {
+      int protestersScared = StringUtilities.parseInt(lynyrdMatcher.group(1));
+      Preferences.increment("zeppelinProtestors", protestersScared);
+      RequestLogger.printLine("Scared off " + protestersScared + " protesters");
+    }
+  }
 
-      case 854:
-        // Shen Copperhead, World's Biggest Jerk
-        if (InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM)
-            && InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM_RAMPANT)) {
-          ResultProcessor.autoCreate(ItemPool.TALISMAN);
-        }
-        break;
+  private static void postChoice2Choice857(
+      final String urlString, final GenericRequest request, final String text) {
+    // Bench Warrant
+    Matcher benchWarrantMatcher = BENCH_WARRANT_PATTERN.matcher(text);
+    if (benchWarrantMatcher.find()) {
+      int protestersCreeped = StringUtilities.parseInt(benchWarrantMatcher.group(1));
+      Preferences.increment("zeppelinProtestors", protestersCreeped);
+      RequestLogger.printLine("Creeped out " + protestersCreeped + " protesters");
+    } else {
+      benchWarrantMatcher = BENCH_WARRANT_CANDY_PATTERN.matcher(text);
+      if (benchWarrantMatcher.find()) {
+        int protestersCreeped = StringUtilities.parseInt(benchWarrantMatcher.group(1));
+        Preferences.increment("zeppelinProtestors", protestersCreeped);
+        RequestLogger.printLine("Scared off " + protestersCreeped + " protesters");
+      }
+    }
+  }
 
-      case 855:
-        {
-          // Behind the 'Stache
-          String hazard =
-              switch (ChoiceManager.lastDecision) {
-                case 1, 5 -> "gong";
-                case 2 -> "ice";
-                case 3 -> "lantern";
-                default -> Preferences.getString("copperheadClubHazard");
-              };
-          Preferences.setString("copperheadClubHazard", hazard);
-          if (ChoiceManager.lastDecision == 5) {
-            Preferences.setBoolean("candyCaneSwordCopperheadClub", true);
-          }
-          break;
-        }
+  private static void postChoice2Choice858(
+      final String urlString, final GenericRequest request, final String text) {
+    // Fire Up Above
+    if (text.contains("three nearest protesters")) {
+      Preferences.increment("zeppelinProtestors", 3);
+      RequestLogger.printLine("Soaked 3 protesters");
+    } else if (text.contains("Flamin' Whatshisname")) {
+      Preferences.increment("zeppelinProtestors", 10);
+      ResultProcessor.processItem(ItemPool.FLAMIN_WHATSHISNAME, -1);
+      RequestLogger.printLine("Set fire to 10 protesters");
+    }
+  }
 
-      case 856:
-        {
-          // This Looks Like a Good Bush for an Ambush
-          Matcher lynyrdMatcher = LYNYRD_PATTERN.matcher(text);
-          if (lynyrdMatcher.find()) {
-            int protestersScared = StringUtilities.parseInt(lynyrdMatcher.group(1));
-            Preferences.increment("zeppelinProtestors", protestersScared);
-            RequestLogger.printLine("Scared off " + protestersScared + " protesters");
-          }
-          break;
-        }
+  private static void postChoice2Choice860(
+      final String urlString, final GenericRequest request, final String text) {
+    // Another Tired Retread
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setString("peteMotorbikeTires", "Racing Slicks");
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setString("peteMotorbikeTires", "Spiky Tires");
+    } else if (ChoiceManager.lastDecision == 3) {
+      Preferences.setString("peteMotorbikeTires", "Snow Tires");
+    }
+  }
 
-      case 857:
-        {
-          // Bench Warrant
-          Matcher benchWarrantMatcher = BENCH_WARRANT_PATTERN.matcher(text);
-          if (benchWarrantMatcher.find()) {
-            int protestersCreeped = StringUtilities.parseInt(benchWarrantMatcher.group(1));
-            Preferences.increment("zeppelinProtestors", protestersCreeped);
-            RequestLogger.printLine("Creeped out " + protestersCreeped + " protesters");
-          } else {
-            benchWarrantMatcher = BENCH_WARRANT_CANDY_PATTERN.matcher(text);
-            if (benchWarrantMatcher.find()) {
-              int protestersCreeped = StringUtilities.parseInt(benchWarrantMatcher.group(1));
-              Preferences.increment("zeppelinProtestors", protestersCreeped);
-              RequestLogger.printLine("Scared off " + protestersCreeped + " protesters");
-            }
-          }
-          break;
-        }
+  private static void postChoice2Choice861(
+      final String urlString, final GenericRequest request, final String text) {
+    // Station of the Gas
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setString("peteMotorbikeGasTank", "Large Capacity Tank");
+      KoLCharacter.setDesertBeachAvailable();
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setString("peteMotorbikeGasTank", "Extra-Buoyant Tank");
+      Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
+    } else if (ChoiceManager.lastDecision == 3) {
+      Preferences.setString("peteMotorbikeGasTank", "Nitro-Burnin' Funny Tank");
+    }
+  }
 
-      case 858:
-        // Fire Up Above
-        if (text.contains("three nearest protesters")) {
-          Preferences.increment("zeppelinProtestors", 3);
-          RequestLogger.printLine("Soaked 3 protesters");
-        } else if (text.contains("Flamin' Whatshisname")) {
-          Preferences.increment("zeppelinProtestors", 10);
-          ResultProcessor.processItem(ItemPool.FLAMIN_WHATSHISNAME, -1);
-          RequestLogger.printLine("Set fire to 10 protesters");
-        }
-        break;
+  private static void postChoice2Choice862(
+      final String urlString, final GenericRequest request, final String text) {
+    // Me and Cinderella Put It All Together
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setString("peteMotorbikeHeadlight", "Ultrabright Yellow Bulb");
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setString("peteMotorbikeHeadlight", "Party Bulb");
+    } else if (ChoiceManager.lastDecision == 3) {
+      Preferences.setString("peteMotorbikeHeadlight", "Blacklight Bulb");
+    }
+  }
 
-      case 860:
-        // Another Tired Retread
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setString("peteMotorbikeTires", "Racing Slicks");
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setString("peteMotorbikeTires", "Spiky Tires");
-        } else if (ChoiceManager.lastDecision == 3) {
-          Preferences.setString("peteMotorbikeTires", "Snow Tires");
-        }
-        break;
-      case 861:
-        // Station of the Gas
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setString("peteMotorbikeGasTank", "Large Capacity Tank");
-          KoLCharacter.setDesertBeachAvailable();
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setString("peteMotorbikeGasTank", "Extra-Buoyant Tank");
-          Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
-        } else if (ChoiceManager.lastDecision == 3) {
-          Preferences.setString("peteMotorbikeGasTank", "Nitro-Burnin' Funny Tank");
-        }
-        break;
-      case 862:
-        // Me and Cinderella Put It All Together
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setString("peteMotorbikeHeadlight", "Ultrabright Yellow Bulb");
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setString("peteMotorbikeHeadlight", "Party Bulb");
-        } else if (ChoiceManager.lastDecision == 3) {
-          Preferences.setString("peteMotorbikeHeadlight", "Blacklight Bulb");
-        }
-        break;
-      case 863:
-        // Endowing the Cowling
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setString("peteMotorbikeCowling", "Ghost Vacuum");
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setString("peteMotorbikeCowling", "Rocket Launcher");
-        } else if (ChoiceManager.lastDecision == 3) {
-          Preferences.setString("peteMotorbikeCowling", "Sweepy Red Light");
-        }
-        break;
-      case 864:
-        // Diving into the Mufflers
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setString("peteMotorbikeMuffler", "Extra-Loud Muffler");
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setString("peteMotorbikeMuffler", "Extra-Quiet Muffler");
-        } else if (ChoiceManager.lastDecision == 3) {
-          Preferences.setString("peteMotorbikeMuffler", "Extra-Smelly Muffler");
-        }
-        break;
-      case 865:
-        // Ayy, Sit on It
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setString("peteMotorbikeSeat", "Massage Seat");
-        } else if (ChoiceManager.lastDecision == 2) {
-          Preferences.setString("peteMotorbikeSeat", "Deep Seat Cushions");
-        } else if (ChoiceManager.lastDecision == 3) {
-          Preferences.setString("peteMotorbikeSeat", "Sissy Bar");
-        }
-        break;
+  private static void postChoice2Choice863(
+      final String urlString, final GenericRequest request, final String text) {
+    // Endowing the Cowling
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setString("peteMotorbikeCowling", "Ghost Vacuum");
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setString("peteMotorbikeCowling", "Rocket Launcher");
+    } else if (ChoiceManager.lastDecision == 3) {
+      Preferences.setString("peteMotorbikeCowling", "Sweepy Red Light");
+    }
+  }
 
-      case 869:
-        // End of Pete Road
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice864(
+      final String urlString, final GenericRequest request, final String text) {
+    // Diving into the Mufflers
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setString("peteMotorbikeMuffler", "Extra-Loud Muffler");
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setString("peteMotorbikeMuffler", "Extra-Quiet Muffler");
+    } else if (ChoiceManager.lastDecision == 3) {
+      Preferences.setString("peteMotorbikeMuffler", "Extra-Smelly Muffler");
+    }
+  }
 
-      case 875:
-        {
-          // Welcome To Our ool Table
-          Matcher poolSkillMatcher = POOL_SKILL_PATTERN.matcher(text);
-          if (poolSkillMatcher.find()) {
-            Preferences.increment("poolSkill", StringUtilities.parseInt(poolSkillMatcher.group(1)));
-          }
-          break;
-        }
+  private static void postChoice2Choice865(
+      final String urlString, final GenericRequest request, final String text) {
+    // Ayy, Sit on It
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setString("peteMotorbikeSeat", "Massage Seat");
+    } else if (ChoiceManager.lastDecision == 2) {
+      Preferences.setString("peteMotorbikeSeat", "Deep Seat Cushions");
+    } else if (ChoiceManager.lastDecision == 3) {
+      Preferences.setString("peteMotorbikeSeat", "Sissy Bar");
+    }
+  }
 
-      case 918:
-        // Yachtzee!
-        Preferences.setInteger("encountersUntilYachtzeeChoice", 19);
-        if (text.contains("Ultimate Mind Destroyer")) {
-          var date = DateTimeManager.getArizonaDateTime();
-          Preferences.setString(
-              "umdLastObtained", date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        }
-        break;
+  private static void postChoice2Choice869(
+      final String urlString, final GenericRequest request, final String text) {
+    // End of Pete Road
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 921:
-        // We'll All Be Flat
-        QuestDatabase.setQuestProgress(Quest.MANOR, "step1");
-        break;
+  private static void postChoice2Choice875(
+      final String urlString, final GenericRequest request, final String text) {
+    // Welcome To Our ool Table
+    Matcher poolSkillMatcher = POOL_SKILL_PATTERN.matcher(text);
+    if (poolSkillMatcher.find()) {
+      Preferences.increment("poolSkill", StringUtilities.parseInt(poolSkillMatcher.group(1)));
+    }
+  }
 
-      case 928:
-        // The Blackberry Cobbler
-        if (ChoiceManager.lastDecision != 6) {
-          ResultProcessor.processItem(ItemPool.BLACKBERRY, -3);
-        }
-        break;
+  private static void postChoice2Choice918(
+      final String urlString, final GenericRequest request, final String text) {
+    // Yachtzee!
+    Preferences.setInteger("encountersUntilYachtzeeChoice", 19);
+    if (text.contains("Ultimate Mind Destroyer")) {
+      var date = DateTimeManager.getArizonaDateTime();
+      Preferences.setString(
+          "umdLastObtained", date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+    }
+  }
 
-      case 929:
-        // Control Freak
-        if (ChoiceManager.lastDecision == 1 && text.contains("wooden wheel disintegrating")) {
-          ResultProcessor.processItem(ItemPool.CRUMBLING_WHEEL, -1);
-          PyramidRequest.advancePyramidPosition();
-        } else if (ChoiceManager.lastDecision == 2
-            && text.contains("snap the ratchet onto the peg")) {
-          ResultProcessor.processItem(ItemPool.TOMB_RATCHET, -1);
-          PyramidRequest.advancePyramidPosition();
-        }
-        break;
+  private static void postChoice2Choice921(
+      final String urlString, final GenericRequest request, final String text) {
+    // We'll All Be Flat
+    QuestDatabase.setQuestProgress(Quest.MANOR, "step1");
+  }
 
-      case 940:
-        // Let Your Fists Do The Walking
-        if (ChoiceManager.lastDecision == 6) {
-          ResultProcessor.processItem(ItemPool.WHITE_PAGE, 1);
-        }
-        break;
+  private static void postChoice2Choice928(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Blackberry Cobbler
+    if (ChoiceManager.lastDecision != 6) {
+      ResultProcessor.processItem(ItemPool.BLACKBERRY, -3);
+    }
+  }
 
-      case 974:
-        {
-          // Around The World
-          Matcher pinkWordMatcher = PINK_WORD_PATTERN.matcher(text);
-          if (pinkWordMatcher.find()) {
-            String pinkWord = pinkWordMatcher.group(1);
-            String message =
-                "Bohemian Party Pink Word found: "
-                    + pinkWord
-                    + " in clan "
-                    + ClanManager.getClanName(false)
-                    + ".";
-            RequestLogger.printHtml(
-                "<font color=\"blue\">"
-                    + StringUtilities.getEntityEncode(message, false)
-                    + "</font>");
-            RequestLogger.updateSessionLog(message);
-          }
-          break;
-        }
+  private static void postChoice2Choice929(
+      final String urlString, final GenericRequest request, final String text) {
+    // Control Freak
+    if (ChoiceManager.lastDecision == 1 && text.contains("wooden wheel disintegrating")) {
+      ResultProcessor.processItem(ItemPool.CRUMBLING_WHEEL, -1);
+      PyramidRequest.advancePyramidPosition();
+    } else if (ChoiceManager.lastDecision == 2 && text.contains("snap the ratchet onto the peg")) {
+      ResultProcessor.processItem(ItemPool.TOMB_RATCHET, -1);
+      PyramidRequest.advancePyramidPosition();
+    }
+  }
 
-      case 975:
-        {
-          // Crazy Still After All These Years
-          Matcher stillMatcher = STILL_PATTERN.matcher(text);
-          if (stillMatcher.find()) {
-            ResultProcessor.processItem(
-                ItemPool.COCKTAIL_ONION, -StringUtilities.parseInt(stillMatcher.group(1)));
-          }
-          break;
-        }
+  private static void postChoice2Choice940(
+      final String urlString, final GenericRequest request, final String text) {
+    // Let Your Fists Do The Walking
+    if (ChoiceManager.lastDecision == 6) {
+      ResultProcessor.processItem(ItemPool.WHITE_PAGE, 1);
+    }
+  }
 
-      case 977:
-        // [Chariot Betting]
-        if (ChoiceManager.lastDecision < 12) {
-          ResultProcessor.processItem(ItemPool.CHRONER, -10);
-        }
-        break;
+  private static void postChoice2Choice974(
+      final String urlString, final GenericRequest request, final String text) {
+    // Around The World
+    Matcher pinkWordMatcher = PINK_WORD_PATTERN.matcher(text);
+    if (pinkWordMatcher.find()) {
+      String pinkWord = pinkWordMatcher.group(1);
+      String message =
+          "Bohemian Party Pink Word found: "
+              + pinkWord
+              + " in clan "
+              + ClanManager.getClanName(false)
+              + ".";
+      RequestLogger.printHtml(
+          "<font color=\"blue\">" + StringUtilities.getEntityEncode(message, false) + "</font>");
+      RequestLogger.updateSessionLog(message);
+    }
+  }
 
-      case 981:
-        // [back room]
-        if (ChoiceManager.lastDecision < 12) {
-          ResultProcessor.processItem(ItemPool.MERCURY_BLESSING, -1);
-        }
-        break;
+  private static void postChoice2Choice975(
+      final String urlString, final GenericRequest request, final String text) {
+    // Crazy Still After All These Years
+    Matcher stillMatcher = STILL_PATTERN.matcher(text);
+    if (stillMatcher.find()) {
+      ResultProcessor.processItem(
+          ItemPool.COCKTAIL_ONION, -StringUtilities.parseInt(stillMatcher.group(1)));
+    }
+  }
 
-      case 982:
-      case 983:
-        // Playing Dice With Romans & The 99-Centurion Store
-        if (ChoiceManager.lastDecision < 6) {
-          ResultProcessor.processItem(ItemPool.CHRONER, -1);
-        }
-        break;
+  private static void postChoice2Choice977(
+      final String urlString, final GenericRequest request, final String text) {
+    // [Chariot Betting]
+    if (ChoiceManager.lastDecision < 12) {
+      ResultProcessor.processItem(ItemPool.CHRONER, -10);
+    }
+  }
 
-      case 1042: // Pick a Perk
-        KoLmafia.resetAfterLimitmode();
-        break;
+  private static void postChoice2Choice981(
+      final String urlString, final GenericRequest request, final String text) {
+    // [back room]
+    if (ChoiceManager.lastDecision < 12) {
+      ResultProcessor.processItem(ItemPool.MERCURY_BLESSING, -1);
+    }
+  }
 
-      case 1054:
-        // Returning the MacGuffin
-        QuestDatabase.setQuestProgress(Quest.WAREHOUSE, QuestDatabase.FINISHED);
-        if (ChoiceManager.lastDecision == 1) {
-          ResultProcessor.processItem(ItemPool.ED_HOLY_MACGUFFIN, -1);
-        }
-        break;
+  private static void postChoice2Choice982(
+      final String urlString, final GenericRequest request, final String text) {
+    // Playing Dice With Romans & The 99-Centurion Store
+    if (ChoiceManager.lastDecision < 6) {
+      ResultProcessor.processItem(ItemPool.CHRONER, -1);
+    }
+  }
 
-      case 1055:
-        // Returning the MacGuffin
-        KoLCharacter.liberateKing();
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  // Pick a Perk
+  private static void postChoice2Choice1042(
+      final String urlString, final GenericRequest request, final String text) {
+    KoLmafia.resetAfterLimitmode();
+  }
 
-      case 1062:
-        // Lots of Options
-        if (ChoiceManager.lastDecision == 5) {
-          ResultProcessor.processItem(ItemPool.BOOZE_MAP, -1);
-        }
-        break;
+  private static void postChoice2Choice1054(
+      final String urlString, final GenericRequest request, final String text) {
+    // Returning the MacGuffin
+    QuestDatabase.setQuestProgress(Quest.WAREHOUSE, QuestDatabase.FINISHED);
+    if (ChoiceManager.lastDecision == 1) {
+      ResultProcessor.processItem(ItemPool.ED_HOLY_MACGUFFIN, -1);
+    }
+  }
 
-      case 1073:
-        // This Ride Is Like... A Rollercoaster Baby Baby
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("dinseyRollercoasterNext", false);
-        }
-        if (text.contains("lubricating every inch of the tracks")) {
-          QuestDatabase.setQuestProgress(Quest.SUPER_LUBER, "step2");
-        }
-        break;
+  private static void postChoice2Choice1055(
+      final String urlString, final GenericRequest request, final String text) {
+    // Returning the MacGuffin
+    KoLCharacter.liberateKing();
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 1089: // Community Service
-        if (text.contains("You acquire")) {
-          String quest =
-              switch (ChoiceManager.lastDecision) {
-                case 1 -> "Donate Blood";
-                case 2 -> "Feed The Children";
-                case 3 -> "Build Playground Mazes";
-                case 4 -> "Feed Conspirators";
-                case 5 -> "Breed More Collies";
-                case 6 -> "Reduce Gazelle Population";
-                case 7 -> "Make Sausage";
-                case 8 -> "Be a Living Statue";
-                case 9 -> "Make Margaritas";
-                case 10 -> "Clean Steam Tunnels";
-                case 11 -> "Coil Wire";
-                default -> null;
-              };
-          if (quest != null) {
-            String current = Preferences.getString("csServicesPerformed");
-            if (current.equals("")) {
-              Preferences.setString("csServicesPerformed", quest);
-            } else {
-              Preferences.setString("csServicesPerformed", current + "," + quest);
-            }
-          }
-        }
-        break;
+  private static void postChoice2Choice1062(
+      final String urlString, final GenericRequest request, final String text) {
+    // Lots of Options
+    if (ChoiceManager.lastDecision == 5) {
+      ResultProcessor.processItem(ItemPool.BOOZE_MAP, -1);
+    }
+  }
 
-      case 1090:
-        // The Towering Inferno Discotheque
-        if (ChoiceManager.lastDecision > 1) {
-          Preferences.setBoolean("_infernoDiscoVisited", true);
-        }
-        break;
+  private static void postChoice2Choice1073(
+      final String urlString, final GenericRequest request, final String text) {
+    // This Ride Is Like... A Rollercoaster Baby Baby
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("dinseyRollercoasterNext", false);
+    }
+    if (text.contains("lubricating every inch of the tracks")) {
+      QuestDatabase.setQuestProgress(Quest.SUPER_LUBER, "step2");
+    }
+  }
 
-      case 1091:
-        // Choice 1091 is The Floor Is Yours
-        if (text.contains("You acquire")) {
+  // Community Service
+  private static void postChoice2Choice1089(
+      final String urlString, final GenericRequest request, final String text) {
+    if (text.contains("You acquire")) {
+      String quest =
           switch (ChoiceManager.lastDecision) {
-            case 1 -> ResultProcessor.processResult(ItemPool.get(ItemPool.GOLD_1970, -1));
-            case 2 -> ResultProcessor.processResult(
-                ItemPool.get(ItemPool.NEW_AGE_HEALING_CRYSTAL, -1));
-            case 3 -> ResultProcessor.processResult(ItemPool.get(ItemPool.EMPTY_LAVA_BOTTLE, -1));
-            case 5 -> ResultProcessor.processResult(
-                ItemPool.get(ItemPool.GLOWING_NEW_AGE_CRYSTAL, -1));
-            case 6 -> {
-              ResultProcessor.processResult(ItemPool.get(ItemPool.CRYSTALLINE_LIGHT_BULB, -1));
-              ResultProcessor.processResult(ItemPool.get(ItemPool.INSULATED_GOLD_WIRE, -1));
-              ResultProcessor.processResult(ItemPool.get(ItemPool.HEAT_RESISTANT_SHEET_METAL, -1));
-            }
-          }
+            case 1 -> "Donate Blood";
+            case 2 -> "Feed The Children";
+            case 3 -> "Build Playground Mazes";
+            case 4 -> "Feed Conspirators";
+            case 5 -> "Breed More Collies";
+            case 6 -> "Reduce Gazelle Population";
+            case 7 -> "Make Sausage";
+            case 8 -> "Be a Living Statue";
+            case 9 -> "Make Margaritas";
+            case 10 -> "Clean Steam Tunnels";
+            case 11 -> "Coil Wire";
+            default -> null;
+          };
+      if (quest != null) {
+        String current = Preferences.getString("csServicesPerformed");
+        if (current.equals("")) {
+          Preferences.setString("csServicesPerformed", quest);
+        } else {
+          Preferences.setString("csServicesPerformed", current + "," + quest);
         }
-        break;
+      }
+    }
+  }
+
+  private static void postChoice2Choice1090(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Towering Inferno Discotheque
+    if (ChoiceManager.lastDecision > 1) {
+      Preferences.setBoolean("_infernoDiscoVisited", true);
+    }
+  }
 
-      case 1092:
-        // Choice 1092 is Dyer Maker
-        if (text.contains("You acquire")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.VISCOUS_LAVA_GLOBS, -1));
+  private static void postChoice2Choice1091(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 1091 is The Floor Is Yours
+    if (text.contains("You acquire")) {
+      switch (ChoiceManager.lastDecision) {
+        case 1 -> ResultProcessor.processResult(ItemPool.get(ItemPool.GOLD_1970, -1));
+        case 2 -> ResultProcessor.processResult(
+            ItemPool.get(ItemPool.NEW_AGE_HEALING_CRYSTAL, -1));
+        case 3 -> ResultProcessor.processResult(ItemPool.get(ItemPool.EMPTY_LAVA_BOTTLE, -1));
+        case 5 -> ResultProcessor.processResult(
+            ItemPool.get(ItemPool.GLOWING_NEW_AGE_CRYSTAL, -1));
+        case 6 -> {
+          ResultProcessor.processResult(ItemPool.get(ItemPool.CRYSTALLINE_LIGHT_BULB, -1));
+          ResultProcessor.processResult(ItemPool.get(ItemPool.INSULATED_GOLD_WIRE, -1));
+          ResultProcessor.processResult(ItemPool.get(ItemPool.HEAT_RESISTANT_SHEET_METAL, -1));
         }
-        break;
+      }
+    }
+  }
 
-      case 1093:
-        // The WLF Bunker
+  private static void postChoice2Choice1092(
+      final String urlString, final GenericRequest request, final String text) {
+    // Choice 1092 is Dyer Maker
+    if (text.contains("You acquire")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.VISCOUS_LAVA_GLOBS, -1));
+    }
+  }
 
-        // A woman in an orange denim jumpsuit emerges from a
-        // hidden trap door, smiles, and hands you a coin in
-        // exchange for your efforts.
+  private static void postChoice2Choice1093(
+      final String urlString, final GenericRequest request, final String text) {
+    // The WLF Bunker
+
+    // A woman in an orange denim jumpsuit emerges from a
+    // hidden trap door, smiles, and hands you a coin in
+    // exchange for your efforts.
+
+    if (text.contains("hands you a coin")) {
+      String index = String.valueOf(ChoiceManager.lastDecision);
+      int itemId = Preferences.getInteger("_volcanoItem" + index);
+      int count = Preferences.getInteger("_volcanoItemCount" + index);
+      if (itemId > 0 && count > 0) {
+        ResultProcessor.processResult(ItemPool.get(itemId, -count));
+      }
+      Preferences.setBoolean("_volcanoItemRedeemed", true);
+      Preferences.setInteger("_volcanoItem1", 0);
+      Preferences.setInteger("_volcanoItem2", 0);
+      Preferences.setInteger("_volcanoItem3", 0);
+      Preferences.setInteger("_volcanoItemCount1", 0);
+      Preferences.setInteger("_volcanoItemCount2", 0);
+      Preferences.setInteger("_volcanoItemCount3", 0);
+    }
+  }
 
-        if (text.contains("hands you a coin")) {
-          String index = String.valueOf(ChoiceManager.lastDecision);
-          int itemId = Preferences.getInteger("_volcanoItem" + index);
-          int count = Preferences.getInteger("_volcanoItemCount" + index);
-          if (itemId > 0 && count > 0) {
-            ResultProcessor.processResult(ItemPool.get(itemId, -count));
-          }
-          Preferences.setBoolean("_volcanoItemRedeemed", true);
-          Preferences.setInteger("_volcanoItem1", 0);
-          Preferences.setInteger("_volcanoItem2", 0);
-          Preferences.setInteger("_volcanoItem3", 0);
-          Preferences.setInteger("_volcanoItemCount1", 0);
-          Preferences.setInteger("_volcanoItemCount2", 0);
-          Preferences.setInteger("_volcanoItemCount3", 0);
-        }
+  private static void postChoice2Choice1100(
+      final String urlString, final GenericRequest request, final String text) {
+    // Pray to the Barrel God
+    if (ChoiceManager.lastDecision <= 4) {
+      Preferences.setBoolean("_barrelPrayer", true);
+      ConcoctionDatabase.refreshConcoctions();
+    }
+  }
 
-        break;
+  private static void postChoice2Choice1101(
+      final String urlString, final GenericRequest request, final String text) {
+    // It's a Barrel Smashing Party!
+    if (ChoiceManager.lastDecision == 2) {
+      // We're smashing 100 barrels
+      // The results don't say which barrels are being smashed, but it seems to happen in item
+      // order
+      int count = 100;
+      int itemId = ItemPool.LITTLE_FIRKIN;
+      while (count > 0 && itemId <= ItemPool.BARNACLED_BARREL) {
+        int smashNumber = Math.min(count, InventoryManager.getCount(itemId));
+        if (smashNumber > 0) {
+          ResultProcessor.processResult(ItemPool.get(itemId, -smashNumber));
+          count -= smashNumber;
+        }
+        itemId++;
+      }
+      return;
+    }
+    int itemId = extractIidFromURL(request.getURLString());
+    String name = ItemDatabase.getItemName(itemId);
+    if (name != null) {
+      ResultProcessor.removeItem(itemId);
+    }
+  }
 
-      case 1100:
-        // Pray to the Barrel God
-        if (ChoiceManager.lastDecision <= 4) {
-          Preferences.setBoolean("_barrelPrayer", true);
-          ConcoctionDatabase.refreshConcoctions();
-        }
-        break;
+  private static void postChoice2Choice1103(
+      final String urlString, final GenericRequest request, final String text) {
+    // Doing the Maths
+    if (!text.contains("Try again")) {
+      Preferences.increment("_universeCalculated");
+    }
+  }
 
-      case 1101:
-        {
-          // It's a Barrel Smashing Party!
-          if (ChoiceManager.lastDecision == 2) {
-            // We're smashing 100 barrels
-            // The results don't say which barrels are being smashed, but it seems to happen in item
-            // order
-            int count = 100;
-            int itemId = ItemPool.LITTLE_FIRKIN;
-            while (count > 0 && itemId <= ItemPool.BARNACLED_BARREL) {
-              int smashNumber = Math.min(count, InventoryManager.getCount(itemId));
-              if (smashNumber > 0) {
-                ResultProcessor.processResult(ItemPool.get(itemId, -smashNumber));
-                count -= smashNumber;
-              }
-              itemId++;
-            }
-            break;
-          }
-          int itemId = extractIidFromURL(request.getURLString());
-          String name = ItemDatabase.getItemName(itemId);
-          if (name != null) {
-            ResultProcessor.removeItem(itemId);
-          }
-          break;
-        }
+  private static void postChoice2Choice1104(
+      final String urlString, final GenericRequest request, final String text) {
+    // Tree Tea
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("_pottedTeaTreeUsed", true);
+    }
+  }
 
-      case 1103:
-        // Doing the Maths
-        if (!text.contains("Try again")) {
-          Preferences.increment("_universeCalculated");
-        }
-        break;
+  private static void postChoice2Choice1105(
+      final String urlString, final GenericRequest request, final String text) {
+    // Specifici Tea
+    if (request.getURLString().contains("itemid")) {
+      Preferences.setBoolean("_pottedTeaTreeUsed", true);
+    }
+  }
 
-      case 1104:
-        // Tree Tea
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("_pottedTeaTreeUsed", true);
-        }
-        break;
+  private static void postChoice2Choice1110(
+      final String urlString, final GenericRequest request, final String text) {
+    // Spoopy
+    if (ChoiceManager.lastDecision == 5) {
+      if (text.contains("You board up the doghouse")) {
+        Preferences.setBoolean("doghouseBoarded", true);
+      } else if (text.contains("You unboard-up the doghouse")) {
+        Preferences.setBoolean("doghouseBoarded", false);
+      }
+    }
+  }
 
-      case 1105:
-        // Specifici Tea
-        if (request.getURLString().contains("itemid")) {
-          Preferences.setBoolean("_pottedTeaTreeUsed", true);
-        }
-        break;
+  private static void postChoice2Choice1114(
+      final String urlString, final GenericRequest request, final String text) {
+    // Walford Rusley, Bucket Collector
+    if (ChoiceManager.lastDecision == 1) {
+      QuestDatabase.setQuestProgress(Quest.BUCKET, QuestDatabase.UNSTARTED);
+      Preferences.setInteger("walfordBucketProgress", 0);
+      Preferences.setString("walfordBucketItem", "");
+    } else if (ChoiceManager.lastDecision < 5) {
+      QuestDatabase.setQuestProgress(Quest.BUCKET, QuestDatabase.STARTED);
+      Preferences.setInteger("walfordBucketProgress", 0);
+      Preferences.setBoolean("_walfordQuestStartedToday", true);
+      if (text.contains("Bucket of balls")) {
+        Preferences.setString("walfordBucketItem", "balls");
+      } else if (text.contains("bucket with blood")) {
+        Preferences.setString("walfordBucketItem", "blood");
+      } else if (text.contains("Bolts, mainly")) {
+        Preferences.setString("walfordBucketItem", "bolts");
+      } else if (text.contains("bucket of chicken")) {
+        Preferences.setString("walfordBucketItem", "chicken");
+      } else if (text.contains("Here y'go -- chum")) {
+        Preferences.setString("walfordBucketItem", "chum");
+      } else if (text.contains("fill that with ice")) {
+        Preferences.setString("walfordBucketItem", "ice");
+      } else if (text.contains("fill it up with milk")) {
+        Preferences.setString("walfordBucketItem", "milk");
+      } else if (text.contains("bucket of moonbeams")) {
+        Preferences.setString("walfordBucketItem", "moonbeams");
+      } else if (text.contains("bucket with rain")) {
+        Preferences.setString("walfordBucketItem", "rain");
+      }
+    }
+  }
 
-      case 1110:
-        // Spoopy
-        if (ChoiceManager.lastDecision == 5) {
-          if (text.contains("You board up the doghouse")) {
-            Preferences.setBoolean("doghouseBoarded", true);
-          } else if (text.contains("You unboard-up the doghouse")) {
-            Preferences.setBoolean("doghouseBoarded", false);
-          }
-        }
-        break;
+  private static void postChoice2Choice1115(
+      final String urlString, final GenericRequest request, final String text) {
+    // VYKEA!
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("_VYKEACafeteriaRaided", true);
+    } else if (ChoiceManager.lastDecision == 3) {
+      Matcher WalfordMatcher = WALFORD_PATTERN.matcher(text);
+      if (WalfordMatcher.find()) {
+        Preferences.increment(
+            "walfordBucketProgress", StringUtilities.parseInt(WalfordMatcher.group(1)));
+        if (Preferences.getInteger("walfordBucketProgress") >= 100) {
+          QuestDatabase.setQuestProgress(Quest.BUCKET, "step2");
+        }
+      }
+    } else if (ChoiceManager.lastDecision == 4) {
+      Preferences.setBoolean("_VYKEALoungeRaided", true);
+    }
+  }
 
-      case 1114:
-        // Walford Rusley, Bucket Collector
-        if (ChoiceManager.lastDecision == 1) {
-          QuestDatabase.setQuestProgress(Quest.BUCKET, QuestDatabase.UNSTARTED);
-          Preferences.setInteger("walfordBucketProgress", 0);
-          Preferences.setString("walfordBucketItem", "");
-        } else if (ChoiceManager.lastDecision < 5) {
-          QuestDatabase.setQuestProgress(Quest.BUCKET, QuestDatabase.STARTED);
-          Preferences.setInteger("walfordBucketProgress", 0);
-          Preferences.setBoolean("_walfordQuestStartedToday", true);
-          if (text.contains("Bucket of balls")) {
-            Preferences.setString("walfordBucketItem", "balls");
-          } else if (text.contains("bucket with blood")) {
-            Preferences.setString("walfordBucketItem", "blood");
-          } else if (text.contains("Bolts, mainly")) {
-            Preferences.setString("walfordBucketItem", "bolts");
-          } else if (text.contains("bucket of chicken")) {
-            Preferences.setString("walfordBucketItem", "chicken");
-          } else if (text.contains("Here y'go -- chum")) {
-            Preferences.setString("walfordBucketItem", "chum");
-          } else if (text.contains("fill that with ice")) {
-            Preferences.setString("walfordBucketItem", "ice");
-          } else if (text.contains("fill it up with milk")) {
-            Preferences.setString("walfordBucketItem", "milk");
-          } else if (text.contains("bucket of moonbeams")) {
-            Preferences.setString("walfordBucketItem", "moonbeams");
-          } else if (text.contains("bucket with rain")) {
-            Preferences.setString("walfordBucketItem", "rain");
-          }
+  private static void postChoice2Choice1116(
+      final String urlString, final GenericRequest request, final String text) {
+    // All They Got Inside is Vacancy (and Ice)
+    if (ChoiceManager.lastDecision == 3) {
+      Matcher WalfordMatcher = WALFORD_PATTERN.matcher(text);
+      if (WalfordMatcher.find()) {
+        Preferences.increment(
+            "walfordBucketProgress", StringUtilities.parseInt(WalfordMatcher.group(1)));
+        if (Preferences.getInteger("walfordBucketProgress") >= 100) {
+          QuestDatabase.setQuestProgress(Quest.BUCKET, "step2");
         }
-        break;
+      }
+    } else if (ChoiceManager.lastDecision == 5) {
+      Preferences.setBoolean("_iceHotelRoomsRaided", true);
+    }
+  }
 
-      case 1115:
-        // VYKEA!
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("_VYKEACafeteriaRaided", true);
-        } else if (ChoiceManager.lastDecision == 3) {
-          Matcher WalfordMatcher = WALFORD_PATTERN.matcher(text);
-          if (WalfordMatcher.find()) {
-            Preferences.increment(
-                "walfordBucketProgress", StringUtilities.parseInt(WalfordMatcher.group(1)));
-            if (Preferences.getInteger("walfordBucketProgress") >= 100) {
-              QuestDatabase.setQuestProgress(Quest.BUCKET, "step2");
-            }
-          }
-        } else if (ChoiceManager.lastDecision == 4) {
-          Preferences.setBoolean("_VYKEALoungeRaided", true);
-        }
-        break;
+  private static void postChoice2Choice1119(
+      final String urlString, final GenericRequest request, final String text) {
+    // Shining Mauve Backwards In Time
+    Preferences.setInteger("encountersUntilDMTChoice", 49);
+    if (ChoiceManager.lastDecision == 4
+        && Preferences.getInteger("lastDMTDuplication") != KoLCharacter.getAscensions()) {
+      Preferences.setInteger("lastDMTDuplication", KoLCharacter.getAscensions());
+    }
+  }
 
-      case 1116:
-        // All They Got Inside is Vacancy (and Ice)
-        if (ChoiceManager.lastDecision == 3) {
-          Matcher WalfordMatcher = WALFORD_PATTERN.matcher(text);
-          if (WalfordMatcher.find()) {
-            Preferences.increment(
-                "walfordBucketProgress", StringUtilities.parseInt(WalfordMatcher.group(1)));
-            if (Preferences.getInteger("walfordBucketProgress") >= 100) {
-              QuestDatabase.setQuestProgress(Quest.BUCKET, "step2");
-            }
-          }
-        } else if (ChoiceManager.lastDecision == 5) {
-          Preferences.setBoolean("_iceHotelRoomsRaided", true);
-        }
-        break;
+  private static void postChoice2Choice1134(
+      final String urlString, final GenericRequest request, final String text) {
+    // Batfellow Ends
+    // (choosing to exit)
+    if (ChoiceManager.lastDecision == 1) {
+      KoLCharacter.setLimitMode(LimitMode.NONE);
+    }
+  }
 
-      case 1119:
-        // Shining Mauve Backwards In Time
-        Preferences.setInteger("encountersUntilDMTChoice", 49);
-        if (ChoiceManager.lastDecision == 4
-            && Preferences.getInteger("lastDMTDuplication") != KoLCharacter.getAscensions()) {
-          Preferences.setInteger("lastDMTDuplication", KoLCharacter.getAscensions());
-        }
-        break;
+  private static void postChoice2Choice1168(
+      final String urlString, final GenericRequest request, final String text) {
+    // Batfellow Ends
+    // (from running out of time)
+    KoLCharacter.setLimitMode(LimitMode.NONE);
+  }
 
-      case 1134:
-        // Batfellow Ends
-        // (choosing to exit)
-        if (ChoiceManager.lastDecision == 1) {
-          KoLCharacter.setLimitMode(LimitMode.NONE);
-        }
-        break;
+  // LT&T Office
+  private static void postChoice2Choice1171(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision < 4) {
+      QuestDatabase.setQuestProgress(Quest.TELEGRAM, QuestDatabase.STARTED);
+    }
+  }
 
-      case 1168:
-        // Batfellow Ends
-        // (from running out of time)
-        KoLCharacter.setLimitMode(LimitMode.NONE);
-        break;
+  // The Investigation Begins
+  private static void postChoice2Choice1172(
+      final String urlString, final GenericRequest request, final String text) {
+    QuestDatabase.setQuestProgress(Quest.TELEGRAM, "step1");
+    Preferences.setInteger("lttQuestStageCount", 0);
+  }
 
-      case 1171: // LT&T Office
-        if (ChoiceManager.lastDecision < 4) {
-          QuestDatabase.setQuestProgress(Quest.TELEGRAM, QuestDatabase.STARTED);
-        }
-        break;
+  // The Investigation Continues
+  private static void postChoice2Choice1173(
+      final String urlString, final GenericRequest request, final String text) {
+    QuestDatabase.setQuestProgress(Quest.TELEGRAM, "step2");
+    Preferences.setInteger("lttQuestStageCount", 0);
+  }
 
-      case 1172: // The Investigation Begins
-        QuestDatabase.setQuestProgress(Quest.TELEGRAM, "step1");
-        Preferences.setInteger("lttQuestStageCount", 0);
-        break;
+  // The Investigation Continues
+  private static void postChoice2Choice1174(
+      final String urlString, final GenericRequest request, final String text) {
+    QuestDatabase.setQuestProgress(Quest.TELEGRAM, "step3");
+    Preferences.setInteger("lttQuestStageCount", 0);
+  }
 
-      case 1173: // The Investigation Continues
-        QuestDatabase.setQuestProgress(Quest.TELEGRAM, "step2");
-        Preferences.setInteger("lttQuestStageCount", 0);
-        break;
+  // The Investigation Thrillingly Concludes!
+  private static void postChoice2Choice1175(
+      final String urlString, final GenericRequest request, final String text) {
+    QuestDatabase.setQuestProgress(Quest.TELEGRAM, "step4");
+    Preferences.setInteger("lttQuestStageCount", 0);
+  }
 
-      case 1174: // The Investigation Continues
-        QuestDatabase.setQuestProgress(Quest.TELEGRAM, "step3");
-        Preferences.setInteger("lttQuestStageCount", 0);
-        break;
+  private static void postChoice2Choice1180(
+      final String urlString, final GenericRequest request, final String text) {
+    // Back to the East
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 1175: // The Investigation Thrillingly Concludes!
-        QuestDatabase.setQuestProgress(Quest.TELEGRAM, "step4");
-        Preferences.setInteger("lttQuestStageCount", 0);
-        break;
+  // The Call is Coming from Outside the Simulation
+  private static void postChoice2Choice1188(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1) {
+      // Skill learned
+      Preferences.decrement("sourceEnlightenment", 1, 0);
+    }
+  }
 
-      case 1180:
-        // Back to the East
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice1191(
+      final String urlString, final GenericRequest request, final String text) {
+    // Source Terminal
+    request.setHasResult(true);
+  }
 
-      case 1188: // The Call is Coming from Outside the Simulation
-        if (ChoiceManager.lastDecision == 1) {
-          // Skill learned
-          Preferences.decrement("sourceEnlightenment", 1, 0);
-        }
-        break;
+  private static void postChoice2Choice1198(
+      final String urlString, final GenericRequest request, final String text) {
+    // Play a Time Prank
+    if (ChoiceManager.lastDecision == 1 && text.contains("paradoxical time copy")) {
+      Preferences.increment("_timeSpinnerMinutesUsed");
+    }
+  }
 
-      case 1191:
-        // Source Terminal
-        request.setHasResult(true);
-        break;
+  private static void postChoice2Choice1199(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Far Future
+    if (text.contains("item appears in the replicator")
+        || text.contains("convoluted nature of time-travel")) {
+      Preferences.setBoolean("_timeSpinnerReplicatorUsed", true);
+      return;
+    }
+    Matcher medalMatcher = TIME_SPINNER_MEDALS_PATTERN.matcher(text);
+    if (medalMatcher.find()) {
+      Preferences.setInteger("timeSpinnerMedals", StringUtilities.parseInt(medalMatcher.group(1)));
+    }
+  }
 
-      case 1198:
-        // Play a Time Prank
-        if (ChoiceManager.lastDecision == 1 && text.contains("paradoxical time copy")) {
-          Preferences.increment("_timeSpinnerMinutesUsed");
-        }
-        break;
+  private static void postChoice2Choice1202(
+      final String urlString, final GenericRequest request, final String text) {
+    // Noon in the Civic Center
 
-      case 1199:
-        {
-          // The Far Future
-          if (text.contains("item appears in the replicator")
-              || text.contains("convoluted nature of time-travel")) {
-            Preferences.setBoolean("_timeSpinnerReplicatorUsed", true);
-            break;
-          }
-          Matcher medalMatcher = TIME_SPINNER_MEDALS_PATTERN.matcher(text);
-          if (medalMatcher.find()) {
-            Preferences.setInteger(
-                "timeSpinnerMedals", StringUtilities.parseInt(medalMatcher.group(1)));
-          }
-          break;
-        }
+    // You knock the column over and collect the sprinkles from its shattered remains.
+    // A booming voice from behind you startles you. "YOU ARE IN CONTEMPT OF COURT!"
+    if (text.contains("CONTEMPT OF COURT!")) {
+      Preferences.setBoolean("_gingerbreadColumnDestroyed", true);
+      return;
+    }
 
-      case 1202:
-        // Noon in the Civic Center
+    // You bribe the clerk and he lets you into the office with a sneer. And a key. The key was
+    // probably the important part.
+    if (text.contains("bribe the clerk")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -1000));
+      return;
+    }
 
-        // You knock the column over and collect the sprinkles from its shattered remains.
-        // A booming voice from behind you startles you. "YOU ARE IN CONTEMPT OF COURT!"
-        if (text.contains("CONTEMPT OF COURT!")) {
-          Preferences.setBoolean("_gingerbreadColumnDestroyed", true);
-          break;
-        }
+    // He squints at you and pushes a briefcase across the table.
+    if (text.contains("briefcase full of sprinkles")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GINGERBREAD_BLACKMAIL_PHOTOS, -1));
+      Preferences.setBoolean("gingerBlackmailAccomplished", true);
+      return;
+    }
+  }
 
-        // You bribe the clerk and he lets you into the office with a sneer. And a key. The key was
-        // probably the important part.
-        if (text.contains("bribe the clerk")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -1000));
-          break;
-        }
+  private static void postChoice2Choice1203(
+      final String urlString, final GenericRequest request, final String text) {
+    // Midnight in Civic Center
+    // You step into the library and spend a few hours studying law. It's surprisingly
+    // difficult! You gain a new respect for lawyers.
+    // Haha no you don't.
+    if (text.contains("few hours studying law")) {
+      Preferences.increment("gingerLawChoice");
+      return;
+    }
 
-        // He squints at you and pushes a briefcase across the table.
-        if (text.contains("briefcase full of sprinkles")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GINGERBREAD_BLACKMAIL_PHOTOS, -1));
-          Preferences.setBoolean("gingerBlackmailAccomplished", true);
-          break;
-        }
-        break;
+    // You pay the counterfeiter to make you a fake version of Gingerbread City to pawn off on
+    // some rube as the real thing
+    if (text.contains("fake version of Gingerbread City")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -300));
+      return;
+    }
 
-      case 1203:
-        // Midnight in Civic Center
-        // You step into the library and spend a few hours studying law. It's surprisingly
-        // difficult! You gain a new respect for lawyers.
-        // Haha no you don't.
-        if (text.contains("few hours studying law")) {
-          Preferences.increment("gingerLawChoice");
-          break;
-        }
+    // You quickly melt the lock on the cell and the criminal inside thanks you as he runs off
+    // into the night.
+    // "Hey," you shout after him, "you forgot your..." but he's already gone.
+    // Oh well. He almost certainly stole this thing, anyway.
+    if (text.contains("melt the lock on the cell")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.CREME_BRULEE_TORCH, -1));
+      return;
+    }
 
-        // You pay the counterfeiter to make you a fake version of Gingerbread City to pawn off on
-        // some rube as the real thing
-        if (text.contains("fake version of Gingerbread City")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -300));
-          break;
-        }
+    // You insert your sprinkles and buy your cigarettes.
+    if (text.contains("buy your cigarettes")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -5));
+      return;
+    }
 
-        // You quickly melt the lock on the cell and the criminal inside thanks you as he runs off
-        // into the night.
-        // "Hey," you shout after him, "you forgot your..." but he's already gone.
-        // Oh well. He almost certainly stole this thing, anyway.
-        if (text.contains("melt the lock on the cell")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.CREME_BRULEE_TORCH, -1));
-          break;
-        }
+    // You feed the treat to the puppy and he immediately becomes a loyal friend to you. Dogs
+    // are so easy!
+    if (text.contains("Dogs are so easy")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GINGERBREAD_DOG_TREAT, -1));
+      return;
+    }
+  }
 
-        // You insert your sprinkles and buy your cigarettes.
-        if (text.contains("buy your cigarettes")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -5));
-          break;
-        }
+  private static void postChoice2Choice1204(
+      final String urlString, final GenericRequest request, final String text) {
+    // Noon at the Train Station
+    // You pull the lever and hear a rumbling from underneath you as the sewer gets much larger.
+    // Now there's more room for the alligators!
+    if (text.contains("more room for the alligators")) {
+      Preferences.setBoolean("_gingerBiggerAlligators", true);
+      return;
+    }
 
-        // You feed the treat to the puppy and he immediately becomes a loyal friend to you. Dogs
-        // are so easy!
-        if (text.contains("Dogs are so easy")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GINGERBREAD_DOG_TREAT, -1));
-          break;
-        }
-        break;
+    // You can't make heads or tails of it
+    if (text.contains("can't make heads or tails of it")) {
+      Preferences.increment("gingerTrainScheduleStudies");
+    }
+    // You're starting to get a feel for it, but it's still really confusing
+    else if (text.contains("starting to get a feel for it")) {
+      Preferences.increment("gingerTrainScheduleStudies");
+      if (Preferences.getInteger("gingerTrainScheduleStudies") < 4) {
+        Preferences.setInteger("gingerTrainScheduleStudies", 4);
+      }
+    }
+    // You're starting to get a handle on how it all works.
+    else if (text.contains("starting to get a handle")) {
+      Preferences.increment("gingerTrainScheduleStudies");
+      if (Preferences.getInteger("gingerTrainScheduleStudies") < 7) {
+        Preferences.setInteger("gingerTrainScheduleStudies", 7);
+      }
+    }
+    // You think you've got a pretty good understanding of it at this point.
+    else if (text.contains("pretty good understanding")) {
+      Preferences.increment("gingerTrainScheduleStudies");
+      if (Preferences.getInteger("gingerTrainScheduleStudies") < 10) {
+        Preferences.setInteger("gingerTrainScheduleStudies", 10);
+      }
+    }
+    // What next?
+  }
 
-      case 1204:
-        // Noon at the Train Station
-        // You pull the lever and hear a rumbling from underneath you as the sewer gets much larger.
-        // Now there's more room for the alligators!
-        if (text.contains("more room for the alligators")) {
-          Preferences.setBoolean("_gingerBiggerAlligators", true);
-          break;
-        }
+  private static void postChoice2Choice1205(
+      final String urlString, final GenericRequest request, final String text) {
+    // Midnight at the Train Station
+    if (text.contains("provide a great workout")) {
+      Preferences.increment("gingerMuscleChoice");
+    }
 
-        // You can't make heads or tails of it
-        if (text.contains("can't make heads or tails of it")) {
-          Preferences.increment("gingerTrainScheduleStudies");
-        }
-        // You're starting to get a feel for it, but it's still really confusing
-        else if (text.contains("starting to get a feel for it")) {
-          Preferences.increment("gingerTrainScheduleStudies");
-          if (Preferences.getInteger("gingerTrainScheduleStudies") < 4) {
-            Preferences.setInteger("gingerTrainScheduleStudies", 4);
-          }
-        }
-        // You're starting to get a handle on how it all works.
-        else if (text.contains("starting to get a handle")) {
-          Preferences.increment("gingerTrainScheduleStudies");
-          if (Preferences.getInteger("gingerTrainScheduleStudies") < 7) {
-            Preferences.setInteger("gingerTrainScheduleStudies", 7);
-          }
-        }
-        // You think you've got a pretty good understanding of it at this point.
-        else if (text.contains("pretty good understanding")) {
-          Preferences.increment("gingerTrainScheduleStudies");
-          if (Preferences.getInteger("gingerTrainScheduleStudies") < 10) {
-            Preferences.setInteger("gingerTrainScheduleStudies", 10);
-          }
-        }
-        // What next?
-        break;
+    if (text.contains("new line to the subway system")) {
+      Preferences.setBoolean("gingerSubwayLineUnlocked", true);
+    }
 
-      case 1205:
-        // Midnight at the Train Station
-        if (text.contains("provide a great workout")) {
-          Preferences.increment("gingerMuscleChoice");
-        }
+    if (text.contains("what looks like a sweet roll")) {
+      Preferences.increment("gingerDigCount");
+    } else if (text.contains("piece of rock candy")) {
+      Preferences.increment("gingerDigCount");
+      if (Preferences.getInteger("gingerDigCount") < 4) {
+        Preferences.setInteger("gingerDigCount", 4);
+      }
+    } else if (text.contains("sugar raygun")) {
+      Preferences.setInteger("gingerDigCount", 7);
+      ResultProcessor.processResult(ItemPool.get(ItemPool.TEETHPICK, -1));
+    }
+  }
 
-        if (text.contains("new line to the subway system")) {
-          Preferences.setBoolean("gingerSubwayLineUnlocked", true);
-        }
+  private static void postChoice2Choice1206(
+      final String urlString, final GenericRequest request, final String text) {
+    // Noon in the Industrial Zone
+    // You buy the tool.
+    if (!text.contains("buy the tool")) {
+      return;
+    }
 
-        if (text.contains("what looks like a sweet roll")) {
-          Preferences.increment("gingerDigCount");
-        } else if (text.contains("piece of rock candy")) {
-          Preferences.increment("gingerDigCount");
-          if (Preferences.getInteger("gingerDigCount") < 4) {
-            Preferences.setInteger("gingerDigCount", 4);
-          }
-        } else if (text.contains("sugar raygun")) {
-          Preferences.setInteger("gingerDigCount", 7);
-          ResultProcessor.processResult(ItemPool.get(ItemPool.TEETHPICK, -1));
-        }
+    switch (ChoiceManager.lastDecision) {
+      case 1 ->
+      // creme brulee torch
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -25));
+      case 2 ->
+      // candy crowbar
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -50));
+      case 3 ->
+      // candy screwdriver
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -100));
+      case 4 ->
+      // teethpick
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -1000));
+    }
+  }
 
-        break;
+  private static void postChoice2Choice1207(
+      final String urlString, final GenericRequest request, final String text) {
+    // Midnight in the Industrial Zone
+    // You can't afford a tattoo.
+    if (ChoiceManager.lastDecision == 3 && !text.contains("can't afford a tattoo")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -100000));
+    }
+  }
 
-      case 1206:
-        // Noon in the Industrial Zone
-        // You buy the tool.
-        if (!text.contains("buy the tool")) {
-          break;
-        }
+  private static void postChoice2Choice1208(
+      final String urlString, final GenericRequest request, final String text) {
+    // Upscale Noon
+    if (text.contains("drop off the negatives")) {
+      Preferences.setBoolean("gingerNegativesDropped", true);
+      ResultProcessor.processResult(ItemPool.get(ItemPool.FRUIT_LEATHER_NEGATIVE, -1));
+      return;
+    }
 
-        switch (ChoiceManager.lastDecision) {
-          case 1 ->
-          // creme brulee torch
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -25));
-          case 2 ->
-          // candy crowbar
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -50));
-          case 3 ->
-          // candy screwdriver
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -100));
-          case 4 ->
-          // teethpick
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -1000));
-        }
-        break;
+    if (!text.contains("You acquire an item")) {
+      return;
+    }
 
-      case 1207:
-        // Midnight in the Industrial Zone
-        // You can't afford a tattoo.
-        if (ChoiceManager.lastDecision == 3 && !text.contains("can't afford a tattoo")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -100000));
-        }
-        break;
+    switch (ChoiceManager.lastDecision) {
+      case 1 ->
+      // gingerbread dog treat
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -200));
+      case 2 ->
+      // pumpkin spice candle
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -150));
+      case 3 ->
+      // gingerbread spice latte
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -50));
+      case 4 ->
+      // gingerbread trousers
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -500));
+      case 5 ->
+      // gingerbread waistcoat
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -500));
+      case 6 ->
+      // gingerbread tophat
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -500));
+      case 8 ->
+      // gingerbread blackmail photos
+      Preferences.setBoolean("gingerNegativesDropped", false);
+    }
+  }
 
-      case 1208:
-        // Upscale Noon
-        if (text.contains("drop off the negatives")) {
-          Preferences.setBoolean("gingerNegativesDropped", true);
-          ResultProcessor.processResult(ItemPool.get(ItemPool.FRUIT_LEATHER_NEGATIVE, -1));
-          break;
-        }
+  private static void postChoice2Choice1210(
+      final String urlString, final GenericRequest request, final String text) {
+    // Civic Planning Office
+    // You move the policy to the front of the drawer, and by the time you leave the office
+    // they've already enacted it!
+    if (!text.contains("they've already enacted it")) {
+      return;
+    }
 
-        if (!text.contains("You acquire an item")) {
-          break;
-        }
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> Preferences.setBoolean("gingerRetailUnlocked", true);
+      case 2 -> Preferences.setBoolean("gingerSewersUnlocked", true);
+      case 3 -> Preferences.setBoolean("gingerExtraAdventures", true);
+      case 4 -> Preferences.setBoolean("gingerAdvanceClockUnlocked", true);
+    }
+  }
 
-        switch (ChoiceManager.lastDecision) {
-          case 1 ->
-          // gingerbread dog treat
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -200));
-          case 2 ->
-          // pumpkin spice candle
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -150));
-          case 3 ->
-          // gingerbread spice latte
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -50));
-          case 4 ->
-          // gingerbread trousers
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -500));
-          case 5 ->
-          // gingerbread waistcoat
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -500));
-          case 6 ->
-          // gingerbread tophat
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -500));
-          case 8 ->
-          // gingerbread blackmail photos
-          Preferences.setBoolean("gingerNegativesDropped", false);
-        }
-        break;
+  private static void postChoice2Choice1212(
+      final String urlString, final GenericRequest request, final String text) {
+    // Seedy Seedy Seedy
+    if (!text.contains("You acquire an item")) {
+      return;
+    }
 
-      case 1210:
-        // Civic Planning Office
-        // You move the policy to the front of the drawer, and by the time you leave the office
-        // they've already enacted it!
-        if (!text.contains("they've already enacted it")) {
-          break;
-        }
+    if (ChoiceManager.lastDecision == 1) {
+      // gingerbread pistol
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -300));
+    } else if (ChoiceManager.lastDecision == 3) {
+      // gingerbread beer
+      ResultProcessor.processResult(ItemPool.get(ItemPool.GINGERBREAD_MUG, -1));
+    }
+  }
 
-        switch (ChoiceManager.lastDecision) {
-          case 1 -> Preferences.setBoolean("gingerRetailUnlocked", true);
-          case 2 -> Preferences.setBoolean("gingerSewersUnlocked", true);
-          case 3 -> Preferences.setBoolean("gingerExtraAdventures", true);
-          case 4 -> Preferences.setBoolean("gingerAdvanceClockUnlocked", true);
-        }
-        break;
+  private static void postChoice2Choice1214(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Gingerbread Gallery
+    if (!text.contains("You acquire an item")) {
+      return;
+    }
 
-      case 1212:
-        // Seedy Seedy Seedy
-        if (!text.contains("You acquire an item")) {
-          break;
-        }
+    if (ChoiceManager.lastDecision == 1) {
+      // high-end ginger wine
+    } else if (ChoiceManager.lastDecision == 2) {
+      // chocolate sculpture
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -300));
+    } else if (ChoiceManager.lastDecision == 3) {
+      // Pop Art: a Guide
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -1000));
+    } else if (ChoiceManager.lastDecision == 4) {
+      // No Hats as Art
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -1000));
+    }
+  }
 
-        if (ChoiceManager.lastDecision == 1) {
-          // gingerbread pistol
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -300));
-        } else if (ChoiceManager.lastDecision == 3) {
-          // gingerbread beer
-          ResultProcessor.processResult(ItemPool.get(ItemPool.GINGERBREAD_MUG, -1));
-        }
-        break;
+  private static void postChoice2Choice1218(
+      final String urlString, final GenericRequest request, final String text) {
+    // Wax On
+    if (text.contains("You acquire an item")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.WAX_GLOB, -1));
+    }
+  }
 
-      case 1214:
-        // The Gingerbread Gallery
-        if (!text.contains("You acquire an item")) {
-          break;
-        }
+  private static void postChoice2Choice1219(
+      final String urlString, final GenericRequest request, final String text) {
+    // Approach the Jellyfish
+    // You acquire an item: sea jelly
+    // You think it'd be best to leave them alone for the rest of the day.
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.setBoolean("_seaJellyHarvested", true);
+    }
+  }
 
-        if (ChoiceManager.lastDecision == 1) {
-          // high-end ginger wine
-        } else if (ChoiceManager.lastDecision == 2) {
-          // chocolate sculpture
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -300));
-        } else if (ChoiceManager.lastDecision == 3) {
-          // Pop Art: a Guide
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -1000));
-        } else if (ChoiceManager.lastDecision == 4) {
-          // No Hats as Art
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SPRINKLES, -1000));
-        }
-        break;
+  // Finally Human
+  private static void postChoice2Choice1232(
+      final String urlString, final GenericRequest request, final String text) {
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 1218:
-        // Wax On
-        if (text.contains("You acquire an item")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.WAX_GLOB, -1));
-        }
-        break;
+  // Meteor Metal Machinations
+  private static void postChoice2Choice1264(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 6) {
+      // Exchanging for equipment
+      ResultProcessor.removeItem(ItemPool.METAL_METEOROID);
+    }
+  }
 
-      case 1219:
-        // Approach the Jellyfish
-        // You acquire an item: sea jelly
-        // You think it'd be best to leave them alone for the rest of the day.
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.setBoolean("_seaJellyHarvested", true);
-        }
-        break;
+  private static void postChoice2Choice1267(
+      final String urlString, final GenericRequest request, final String text) {
+  // Rubbed it the Right Way
+    String wish = request.getFormField("wish");
+    GenieRequest.postChoice(text, wish);
+  }
 
-      case 1232: // Finally Human
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice1272(
+      final String urlString, final GenericRequest request, final String text) {
+    // R&D
+    int letterId = extractIidFromURL(urlString);
+    String letterName = ItemDatabase.getItemName(letterId);
+    if (letterName != null) {
+      // Turning in letter
+      String message = "handed over " + letterName;
+      RequestLogger.printLine(message);
+      RequestLogger.updateSessionLog(message);
+      ResultProcessor.removeItem(letterId);
+    }
+  }
 
-      case 1264: // Meteor Metal Machinations
-        if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 6) {
-          // Exchanging for equipment
-          ResultProcessor.removeItem(ItemPool.METAL_METEOROID);
-        }
-        break;
+  private static void postChoice2Choice1273(
+      final String urlString, final GenericRequest request, final String text) {
+    // R&D
+    if (text.contains("slide the weird key into the weird lock")) {
+      ResultProcessor.removeItem(ItemPool.WAREHOUSE_KEY);
+    }
+  }
 
-      case 1267:
-        // Rubbed it the Right Way
-        {
-          String wish = request.getFormField("wish");
-          GenieRequest.postChoice(text, wish);
-          break;
-        }
+  private static void postChoice2Choice1320(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Heist!
+    if (ChoiceManager.lastDecision == 1) {
+      Preferences.increment("_catBurglarHeistsComplete");
+    }
+  }
 
-      case 1272:
-        // R&D
-        int letterId = extractIidFromURL(urlString);
-        String letterName = ItemDatabase.getItemName(letterId);
-        if (letterName != null) {
-          // Turning in letter
-          String message = "handed over " + letterName;
-          RequestLogger.printLine(message);
-          RequestLogger.updateSessionLog(message);
-          ResultProcessor.removeItem(letterId);
-        }
-        break;
+  private static void postChoice2Choice1339(
+      final String urlString, final GenericRequest request, final String text) {
+    // A Little Pump and Grind
+    if (ChoiceManager.lastDecision == 1 && text.contains("filling counter increments")) {
+      int itemId = extractIidFromURL(request.getURLString());
+      int qty = extractQtyFromURL(request.getURLString());
+      ResultProcessor.processResult(ItemPool.get(itemId, -qty));
+    } else if (ChoiceManager.lastDecision == 2 && text.contains("You acquire an item")) {
+      ResultProcessor.removeItem(ItemPool.MAGICAL_SAUSAGE_CASING);
+    }
+  }
 
-      case 1273:
-        // R&D
-        if (text.contains("slide the weird key into the weird lock")) {
-          ResultProcessor.removeItem(ItemPool.WAREHOUSE_KEY);
-        }
-        break;
+  // Thank You, Come Again
+  private static void postChoice2Choice1344(
+      final String urlString, final GenericRequest request, final String text) {
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 1320:
-        // A Heist!
-        if (ChoiceManager.lastDecision == 1) {
-          Preferences.increment("_catBurglarHeistsComplete");
-        }
-        break;
+  private static void postChoice2Choice1387(
+      final String urlString, final GenericRequest request, final String text) {
+    SaberRequest.postForce(urlString, text);
+  }
 
-      case 1339:
-        {
-          // A Little Pump and Grind
-          if (ChoiceManager.lastDecision == 1 && text.contains("filling counter increments")) {
-            int itemId = extractIidFromURL(request.getURLString());
-            int qty = extractQtyFromURL(request.getURLString());
-            ResultProcessor.processResult(ItemPool.get(itemId, -qty));
-          } else if (ChoiceManager.lastDecision == 2 && text.contains("You acquire an item")) {
-            ResultProcessor.removeItem(ItemPool.MAGICAL_SAUSAGE_CASING);
-          }
-          break;
+  // Take your Pills
+  private static void postChoice2Choice1395(
+      final String urlString, final GenericRequest request, final String text) {
+    {
+      if (!text.contains("day's worth of pills")) {
+        // Something failed.  Not enough spleen space left, already have
+        // Everything Looks Yellow active, or maybe some other failure condition
+        return;
+      }
+      if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 8) {
+        if (!Preferences.getBoolean("_freePillKeeperUsed")) {
+          Preferences.setBoolean("_freePillKeeperUsed", true);
+        } else {
+          KoLCharacter.setSpleenUse(KoLCharacter.getSpleenUse() + 3);
         }
+      }
+      if (ChoiceManager.lastDecision == 7) {
+        // *** No longer forces a semirare
+      }
+      if (ChoiceManager.lastDecision == 3) {
+        Preferences.setBoolean("noncombatForcerActive", true);
+      }
+    }
+  }
 
-      case 1344: // Thank You, Come Again
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
-
-      case 1387:
-        SaberRequest.postForce(urlString, text);
-        break;
+  private static void postChoice2Choice1409(
+      final String urlString, final GenericRequest request, final String text) {
+    // Your Quest is Over
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 1395: // Take your Pills
-        {
-          if (!text.contains("day's worth of pills")) {
-            // Something failed.  Not enough spleen space left, already have
-            // Everything Looks Yellow active, or maybe some other failure condition
-            break;
-          }
-          if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 8) {
-            if (!Preferences.getBoolean("_freePillKeeperUsed")) {
-              Preferences.setBoolean("_freePillKeeperUsed", true);
-            } else {
-              KoLCharacter.setSpleenUse(KoLCharacter.getSpleenUse() + 3);
-            }
-          }
-          if (ChoiceManager.lastDecision == 7) {
-            // *** No longer forces a semirare
-          }
-          if (ChoiceManager.lastDecision == 3) {
-            Preferences.setBoolean("noncombatForcerActive", true);
-          }
+  private static void postChoice2Choice1449(
+      final String urlString, final GenericRequest request, final String text) {
+    // If you change the mode with the item equipped, you need to un-equip and re-equip it to
+    // get the modifiers
+    if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 3) {
+      for (var i : SlotSet.ACCESSORY_SLOTS) {
+        AdventureResult item = EquipmentManager.getEquipment(i);
+        if (item != null && item.getItemId() == ItemPool.BACKUP_CAMERA) {
+          RequestThread.postRequest(new EquipmentRequest(EquipmentRequest.UNEQUIP, i));
+          RequestThread.postRequest(new EquipmentRequest(item, i));
         }
-        break;
+      }
+    }
+  }
 
-      case 1409:
-        // Your Quest is Over
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  // Sprinkler Joe
+  // Fracker Dan
+  // Cropduster Dusty
+  private static void postChoice2Choice1452(
+      final String urlString, final GenericRequest request, final String text) {
+    WildfireCampRequest.refresh();
+  }
 
-      case 1449:
-        // If you change the mode with the item equipped, you need to un-equip and re-equip it to
-        // get the modifiers
-        if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 3) {
-          for (var i : SlotSet.ACCESSORY_SLOTS) {
-            AdventureResult item = EquipmentManager.getEquipment(i);
-            if (item != null && item.getItemId() == ItemPool.BACKUP_CAMERA) {
-              RequestThread.postRequest(new EquipmentRequest(EquipmentRequest.UNEQUIP, i));
-              RequestThread.postRequest(new EquipmentRequest(item, i));
-            }
-          }
-        }
-        break;
-      case 1452: // Sprinkler Joe
-      case 1453: // Fracker Dan
-      case 1454: // Cropduster Dusty
-        WildfireCampRequest.refresh();
-        break;
+  // Food Lab
+  private static void postChoice2Choice1457(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1 && text.contains("You acquire an item")) {
+      ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -5);
+    }
+  }
 
-      case 1457: // Food Lab
-        if (ChoiceManager.lastDecision == 1 && text.contains("You acquire an item")) {
-          ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -5);
-        }
-        break;
+  // Nog Lab
+  private static void postChoice2Choice1458(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1 && text.contains("You acquire an item")) {
+      ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -5);
+    }
+  }
 
-      case 1458: // Nog Lab
-        if (ChoiceManager.lastDecision == 1 && text.contains("You acquire an item")) {
-          ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -5);
-        }
-        break;
+  // Chem Lab
+  private static void postChoice2Choice1459(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1 && text.contains("You acquire an item")) {
+      ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -5);
+    }
+  }
 
-      case 1459: // Chem Lab
-        if (ChoiceManager.lastDecision == 1 && text.contains("You acquire an item")) {
-          ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -5);
-        }
-        break;
+  // Gift Fabrication Lab
+  private static void postChoice2Choice1460(
+      final String urlString, final GenericRequest request, final String text) {
+    if (text.contains("You acquire an item")) {
+      switch (ChoiceManager.lastDecision) {
+        case 1 -> ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -30);
+        case 2 -> ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -30);
+        case 3 -> ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -30);
+        case 4 -> {
+          ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -15);
+          ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -15);
+        }
+        case 5 -> {
+          ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -15);
+          ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -15);
+        }
+        case 6 -> {
+          ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -15);
+          ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -15);
+        }
+        case 7 -> {
+          ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -10);
+          ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -10);
+          ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -10);
+        }
+        default -> {}
+      }
+    }
+  }
 
-      case 1460: // Gift Fabrication Lab
-        if (text.contains("You acquire an item")) {
-          switch (ChoiceManager.lastDecision) {
-            case 1 -> ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -30);
-            case 2 -> ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -30);
-            case 3 -> ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -30);
-            case 4 -> {
-              ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -15);
-              ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -15);
-            }
-            case 5 -> {
-              ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -15);
-              ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -15);
-            }
-            case 6 -> {
-              ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -15);
-              ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -15);
-            }
-            case 7 -> {
-              ResultProcessor.processItem(ItemPool.GOOIFIED_ANIMAL_MATTER, -10);
-              ResultProcessor.processItem(ItemPool.GOOIFIED_VEGETABLE_MATTER, -10);
-              ResultProcessor.processItem(ItemPool.GOOIFIED_MINERAL_MATTER, -10);
-            }
-            default -> {}
-          }
-        }
-        break;
+  // Site Alpha Primary Lab
+  private static void postChoice2Choice1461(
+      final String urlString, final GenericRequest request, final String text) {
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> Preferences.increment("primaryLabGooIntensity", 1);
+      case 2 -> Preferences.decrement("primaryLabGooIntensity", 1);
+      case 3 -> ResultProcessor.processItem(ItemPool.GREY_GOO_RING, -1);
+      case 4 -> {
+        // Do nothing
+      }
+      case 5 ->
+      // Grab the Cheer Core
+      Preferences.setBoolean("primaryLabCheerCoreGrabbed", true);
+    }
+  }
 
-      case 1461: // Site Alpha Primary Lab
-        switch (ChoiceManager.lastDecision) {
-          case 1 -> Preferences.increment("primaryLabGooIntensity", 1);
-          case 2 -> Preferences.decrement("primaryLabGooIntensity", 1);
-          case 3 -> ResultProcessor.processItem(ItemPool.GREY_GOO_RING, -1);
-          case 4 -> {
-            // Do nothing
-          }
-          case 5 ->
-          // Grab the Cheer Core
-          Preferences.setBoolean("primaryLabCheerCoreGrabbed", true);
-        }
-        break;
+  private static void postChoice2Choice1465(
+      final String urlString, final GenericRequest request, final String text) {
+    // No More Grey You
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 1465:
-        // No More Grey You
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  // Configure Your Unbreakable Umbrella
+  private static void postChoice2Choice1466(
+      final String urlString, final GenericRequest request, final String text) {
+    UmbrellaRequest.parseUmbrella(urlString, text);
+  }
 
-      case 1466: // Configure Your Unbreakable Umbrella
-        UmbrellaRequest.parseUmbrella(urlString, text);
-        break;
+  // Stillsuit
+  private static void postChoice2Choice1476(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1) {
+      StillSuitManager.handleDrink(text);
+    }
+  }
 
-      case 1476: // Stillsuit
-        if (ChoiceManager.lastDecision == 1) {
-          StillSuitManager.handleDrink(text);
-        }
-        break;
+  private static void postChoice2Choice1483(
+      final String urlString, final GenericRequest request, final String text) {
+    // Direct Autumn-Aton
+    {
+      int location = StringUtilities.parseInt(request.getFormField("heythereprogrammer"));
+      AutumnatonManager.postChoice(ChoiceManager.lastDecision, text, location);
+    }
+  }
 
-      case 1483:
-        // Direct Autumn-Aton
-        {
-          int location = StringUtilities.parseInt(request.getFormField("heythereprogrammer"));
-          AutumnatonManager.postChoice(ChoiceManager.lastDecision, text, location);
-        }
-        break;
+  // Conspicuous Plaque
+  private static void postChoice2Choice1484(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 1 && text.contains("All right, you're the boss.")) {
+      var name = request.getFormField("name");
+      Preferences.setString("speakeasyName", name);
+    }
+  }
 
-      case 1484: // Conspicuous Plaque
-        if (ChoiceManager.lastDecision == 1 && text.contains("All right, you're the boss.")) {
-          var name = request.getFormField("name");
-          Preferences.setString("speakeasyName", name);
-        }
-        break;
+  // Choose an Action During a Caboose Distraction
+  private static void postChoice2Choice1486(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision == 2) {
+      Preferences.increment("elfGratitude", 3);
+    }
+  }
 
-      case 1486: // Choose an Action During a Caboose Distraction
-        if (ChoiceManager.lastDecision == 2) {
-          Preferences.increment("elfGratitude", 3);
-        }
-        break;
+  // A Passenger Among Passengers
+  private static void postChoice2Choice1487(
+      final String urlString, final GenericRequest request, final String text) {
+    Preferences.increment("elfGratitude", 5);
+  }
 
-      case 1487: // A Passenger Among Passengers
-        Preferences.increment("elfGratitude", 5);
-        break;
+  // Slagging Off
+  private static void postChoice2Choice1489(
+      final String urlString, final GenericRequest request, final String text) {
+    switch (ChoiceManager.lastDecision) {
+      case 1, 2 -> ResultProcessor.removeItem(ItemPool.CRIMBO_CRYSTAL_SHARDS);
+    }
+  }
 
-      case 1489: // Slagging Off
-        switch (ChoiceManager.lastDecision) {
-          case 1, 2 -> ResultProcessor.removeItem(ItemPool.CRIMBO_CRYSTAL_SHARDS);
-        }
-        break;
+  // Woolin' Around
+  private static void postChoice2Choice1490(
+      final String urlString, final GenericRequest request, final String text) {
+    if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 6) {
+      // Exchanging for items
+      ResultProcessor.removeItem(ItemPool.GRUBBY_WOOL);
+    }
+  }
 
-      case 1490: // Woolin' Around
-        if (ChoiceManager.lastDecision >= 1 && ChoiceManager.lastDecision <= 6) {
-          // Exchanging for items
-          ResultProcessor.removeItem(ItemPool.GRUBBY_WOOL);
-        }
-        break;
+  // Examine S.I.T. Course Certificate
+  private static void postChoice2Choice1494(
+      final String urlString, final GenericRequest request, final String text) {
+    switch (ChoiceManager.lastDecision) {
+      case 1 -> {
+        KoLCharacter.removeAvailableSkill(SkillPool.INSECTOLOGIST);
+        KoLCharacter.removeAvailableSkill(SkillPool.CRYPTOBOTANIST);
+        Preferences.setString("currentSITSkill", "Psychogeologist");
+      }
+      case 2 -> {
+        KoLCharacter.removeAvailableSkill(SkillPool.PSYCHOGEOLOGIST);
+        KoLCharacter.removeAvailableSkill(SkillPool.CRYPTOBOTANIST);
+        Preferences.setString("currentSITSkill", "Insectologist");
+      }
+      case 3 -> {
+        KoLCharacter.removeAvailableSkill(SkillPool.PSYCHOGEOLOGIST);
+        KoLCharacter.removeAvailableSkill(SkillPool.INSECTOLOGIST);
+        Preferences.setString("currentSITSkill", "Cryptobotanist");
+      }
+      default -> {
+        return;
+      }
+    }
+    // Since you can walk away from this choice, only set you
+    // actually selected a course.
+    Preferences.setBoolean("_sitCourseCompleted", true);
+  }
 
-      case 1494: // Examine S.I.T. Course Certificate
-        switch (ChoiceManager.lastDecision) {
-          case 1 -> {
-            KoLCharacter.removeAvailableSkill(SkillPool.INSECTOLOGIST);
-            KoLCharacter.removeAvailableSkill(SkillPool.CRYPTOBOTANIST);
-            Preferences.setString("currentSITSkill", "Psychogeologist");
-          }
-          case 2 -> {
-            KoLCharacter.removeAvailableSkill(SkillPool.PSYCHOGEOLOGIST);
-            KoLCharacter.removeAvailableSkill(SkillPool.CRYPTOBOTANIST);
-            Preferences.setString("currentSITSkill", "Insectologist");
-          }
-          case 3 -> {
-            KoLCharacter.removeAvailableSkill(SkillPool.PSYCHOGEOLOGIST);
-            KoLCharacter.removeAvailableSkill(SkillPool.INSECTOLOGIST);
-            Preferences.setString("currentSITSkill", "Cryptobotanist");
-          }
-          default -> {
-            return;
-          }
-        }
-        // Since you can walk away from this choice, only set you
-        // actually selected a course.
-        Preferences.setBoolean("_sitCourseCompleted", true);
-        break;
+  private static void postChoice2Choice1496(
+      final String urlString, final GenericRequest request, final String text) {
+    // Out of the Shadows
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 1496:
-        // Out of the Shadows
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice1497(
+      final String urlString, final GenericRequest request, final String text) {
+    // Calling Rufus
+    RufusManager.parseCallResponse(text, ChoiceManager.lastDecision);
+  }
 
-      case 1497:
-        // Calling Rufus
-        RufusManager.parseCallResponse(text, ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice1498(
+      final String urlString, final GenericRequest request, final String text) {
+    // Calling Rufus Back
+    RufusManager.parseCallBackResponse(text, ChoiceManager.lastDecision);
+  }
 
-      case 1498:
-        // Calling Rufus Back
-        RufusManager.parseCallBackResponse(text, ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice1500(
+      final String urlString, final GenericRequest request, final String text) {
+    // Like a Loded Stone
+    if (ChoiceManager.lastDecision == 3) {
+      Preferences.setBoolean("_shadowForestLooted", true);
+    }
+  }
 
-      case 1500:
-        // Like a Loded Stone
-        if (ChoiceManager.lastDecision == 3) {
-          Preferences.setBoolean("_shadowForestLooted", true);
-        }
-        break;
+  private static void postChoice2Choice1501(
+      final String urlString, final GenericRequest request, final String text) {
+  // Make a Wish
+    String wish = request.getFormField("wish");
+    MonkeyPawRequest.postChoice(text, wish);
+  }
 
-      case 1501:
-        // Make a Wish
-        {
-          String wish = request.getFormField("wish");
-          MonkeyPawRequest.postChoice(text, wish);
-          break;
-        }
+  private static void postChoice2Choice1509(
+      final String urlString, final GenericRequest request, final String text) {
+    // Adjust Jill-of-All-Trades Lighting
+    LedCandleRequest.parseUpgrade(urlString, text);
+  }
 
-      case 1509:
-        // Adjust Jill-of-All-Trades Lighting
-        LedCandleRequest.parseUpgrade(urlString, text);
-        break;
+  private static void postChoice2Choice1510(
+      final String urlString, final GenericRequest request, final String text) {
+  // Burning Leaves
+    String leavesField = request.getFormField("leaves");
+    int leaves = StringUtilities.parseInt(leavesField);
+    BurningLeavesRequest.postChoice(text, leaves);
+  }
 
-      case 1510:
-        // Burning Leaves
-        {
-          String leavesField = request.getFormField("leaves");
-          int leaves = StringUtilities.parseInt(leavesField);
-          BurningLeavesRequest.postChoice(text, leaves);
-          break;
-        }
+  private static void postChoice2Choice1003(
+      final String urlString, final GenericRequest request, final String text) {
+    // Test Your Might And Also Test Other Things
+    // If you are in WereProfessor, option 5 is "Look to the Moon".
+    // If you select this as a Mild-Mannered Professor, you change form.
+    // If you are already a Savage Beast:
+    //
+    // You notice the moon shining brightly over the cusp of the
+    // tower and feel even farther from your professorial self.
+    // Garh, no!
+    if (ChoiceManager.lastDecision != 5) {
+      return;
+    }
+    postChoice2Choice1520(urlString, request, text);
+  }
 
-      case 1003:
-        // Test Your Might And Also Test Other Things
-        // If you are in WereProfessor, option 5 is "Look to the Moon".
-        // If you select this as a Mild-Mannered Professor, you change form.
-        // If you are already a Savage Beast:
-        //
-        // You notice the moon shining brightly over the cusp of the
-        // tower and feel even farther from your professorial self.
-        // Garh, no!
-        if (ChoiceManager.lastDecision != 5) {
-          break;
-        }
-        // Fall through
-      case 1520:
-        // Well, come on
-        // -> Lose Savage Beast and gain Mild-Mannered Professor
-      case 1521:
-        // Turn and face the strange
-        // -> Lose Mild-Mannered Professor and gain Savage Beast
-        // In either case, access to the Tinkering Bench changes
-        ConcoctionDatabase.refreshConcoctions();
-        // Savage Beast modifiers might have changes
-        ResultProcessor.updateSavageBeast();
-        // In either direction, current modifiers have changed.
-        KoLCharacter.recalculateAdjustments();
-        KoLCharacter.updateStatus();
-        break;
+  private static void postChoice2Choice1520(
+      final String urlString, final GenericRequest request, final String text) {
+    // Well, come on
+    // -> Lose Savage Beast and gain Mild-Mannered Professor
+    // Turn and face the strange
+    // -> Lose Mild-Mannered Professor and gain Savage Beast
+    // In either case, access to the Tinkering Bench changes
+    ConcoctionDatabase.refreshConcoctions();
+    // Savage Beast modifiers might have changes
+    ResultProcessor.updateSavageBeast();
+    // In either direction, current modifiers have changed.
+    KoLCharacter.recalculateAdjustments();
+    KoLCharacter.updateStatus();
+  }
 
-      case 1522:
-        // The Antiscientific Method
-        {
-          var location = KoLAdventure.lastVisitedLocation;
-          if (location != null && text.contains("smashed scientific equipment")) {
-            String value = Preferences.getString("antiScientificMethod").trim();
-            String name = location.getAdventureName();
-            if (!value.equals("")) {
-              value += "|";
-            }
-            value += name;
-            Preferences.setString("antiScientificMethod", value);
-          }
+  private static void postChoice2Choice1522(
+      final String urlString, final GenericRequest request, final String text) {
+    // The Antiscientific Method
+    {
+      var location = KoLAdventure.lastVisitedLocation;
+      if (location != null && text.contains("smashed scientific equipment")) {
+        String value = Preferences.getString("antiScientificMethod").trim();
+        String name = location.getAdventureName();
+        if (!value.equals("")) {
+          value += "|";
         }
-        break;
+        value += name;
+        Preferences.setString("antiScientificMethod", value);
+      }
+    }
+  }
 
-      case 1523:
-        // Research Bench
-        ResearchBenchRequest.postChoice2(urlString, text);
-        break;
+  private static void postChoice2Choice1523(
+      final String urlString, final GenericRequest request, final String text) {
+    // Research Bench
+    ResearchBenchRequest.postChoice2(urlString, text);
+  }
 
-      case 1524:
-        // Moonlighting
-        handleAfterAvatar(ChoiceManager.lastDecision);
-        break;
+  private static void postChoice2Choice1524(
+      final String urlString, final GenericRequest request, final String text) {
+    // Moonlighting
+    handleAfterAvatar(ChoiceManager.lastDecision);
+  }
 
-      case 1525:
-        // Dart Perks
-        InventoryManager.checkDartPerks();
-        break;
+  private static void postChoice2Choice1525(
+      final String urlString, final GenericRequest request, final String text) {
+    // Dart Perks
+    InventoryManager.checkDartPerks();
+  }
 
-      case 1526:
-        // Conduct the Band
-        switch (ChoiceManager.lastDecision) {
-          case 1, 2, 3 -> Preferences.setInteger(
-              "nextAprilBandTurn", KoLCharacter.getTurnsPlayed() + 11);
-          case 4, 5, 6, 7, 8 -> Preferences.increment("_aprilBandInstruments", 1, 2, false);
-        }
-        break;
+  private static void postChoice2Choice1526(
+      final String urlString, final GenericRequest request, final String text) {
+    // Conduct the Band
+    switch (ChoiceManager.lastDecision) {
+      case 1, 2, 3 -> Preferences.setInteger(
+          "nextAprilBandTurn", KoLCharacter.getTurnsPlayed() + 11);
+      case 4, 5, 6, 7, 8 -> Preferences.increment("_aprilBandInstruments", 1, 2, false);
+    }
+  }
 
-      case 1527:
-        // Consider the Calendar
-        parseMayamCalendar(text);
-        if (text.contains("times without using an adventure")) {
-          Preferences.increment("_mayamRests", 5);
-        }
-        break;
+  private static void postChoice2Choice1527(
+      final String urlString, final GenericRequest request, final String text) {
+    // Consider the Calendar
+    parseMayamCalendar(text);
+    if (text.contains("times without using an adventure")) {
+      Preferences.increment("_mayamRests", 5);
+    }
+  }
 
-      case 1532:
-        // Chatting with your Burly Bodyguard
-        {
-          var monsterIdString = request.getFormField("bgid");
-          if (text.contains("You set off to find a monster with a specific bodyguard to challenge.")
-              && monsterIdString != null) {
-            try {
-              var monsterName = MonsterDatabase.getMonsterName(Integer.parseInt(monsterIdString));
-              Preferences.setInteger("bodyguardCharge", 0);
-              Preferences.setString("bodyguardChatMonster", monsterName);
-            } catch (NumberFormatException e) {
-              break;
-            }
-          }
-          break;
-        }
+  private static void postChoice2Choice1532(
+      final String urlString, final GenericRequest request, final String text) {
+  // Chatting with your Burly Bodyguard
+    var monsterIdString = request.getFormField("bgid");
+    if (text.contains("You set off to find a monster with a specific bodyguard to challenge.")
+        && monsterIdString != null) {
+      try {
+        var monsterName = MonsterDatabase.getMonsterName(Integer.parseInt(monsterIdString));
+        Preferences.setInteger("bodyguardCharge", 0);
+        Preferences.setString("bodyguardChatMonster", monsterName);
+      } catch (NumberFormatException e) {
+        return;
+      }
+    }
+  }
 
-      case 1544:
-        // Devil some Candy
-        if (text.contains("You place your candy in the deviler")) {
-          Preferences.increment("_candyEggsDeviled");
-          String item = request.getFormField("a");
-          try {
-            ResultProcessor.removeItem(Integer.parseInt(item));
-          } catch (NumberFormatException e) {
-            break;
-          }
-        }
-        break;
+  private static void postChoice2Choice1544(
+      final String urlString, final GenericRequest request, final String text) {
+    // Devil some Candy
+    if (text.contains("You place your candy in the deviler")) {
+      Preferences.increment("_candyEggsDeviled");
+      String item = request.getFormField("a");
+      try {
+        ResultProcessor.removeItem(Integer.parseInt(item));
+      } catch (NumberFormatException e) {
+        return;
+      }
+    }
+  }
 
-      case 1551:
-        // Hashing with your vice
-        if (text.contains("You crush the schematic into little bits of checksum.")) {
-          String item = request.getFormField("iid");
-          try {
-            ResultProcessor.removeItem(Integer.parseInt(item));
-          } catch (NumberFormatException e) {
-            break;
-          }
-        }
-        break;
+  private static void postChoice2Choice1551(
+      final String urlString, final GenericRequest request, final String text) {
+    // Hashing with your vice
+    if (text.contains("You crush the schematic into little bits of checksum.")) {
+      String item = request.getFormField("iid");
+      try {
+        ResultProcessor.removeItem(Integer.parseInt(item));
+      } catch (NumberFormatException e) {
+        return;
+      }
     }
   }
 
@@ -7137,1795 +8243,2050 @@ public abstract class ChoiceControl {
         "&quot;Attention Operative 00-A-6. Colonel Kurzweil at Jungle Interior Camp 4 reports that they have run out of smokes. Repeat: They have run out of smokes. Requests immediate assistance. Message repeats.&quot;");
   }
 
+  private static final Map<Integer, VisitHandler> VISIT_CHOICE = new HashMap<>();
+
+  static {
+    VISIT_CHOICE.put(4, ChoiceControl::visitChoice4);
+    VISIT_CHOICE.put(109, ChoiceControl::visitChoice109);
+    VISIT_CHOICE.put(127, ChoiceControl::visitChoice127);
+    VISIT_CHOICE.put(139, ChoiceControl::visitChoice139);
+    VISIT_CHOICE.put(140, ChoiceControl::visitChoice140);
+    VISIT_CHOICE.put(143, ChoiceControl::visitChoice143);
+    VISIT_CHOICE.put(144, ChoiceControl::visitChoice144);
+    VISIT_CHOICE.put(151, ChoiceControl::visitChoice151);
+    VISIT_CHOICE.put(360, ChoiceControl::visitChoice360);
+    VISIT_CHOICE.put(440, ChoiceControl::visitChoice440);
+    VISIT_CHOICE.put(443, ChoiceControl::visitChoice443);
+    VISIT_CHOICE.put(460, ChoiceControl::visitChoice460);
+    VISIT_CHOICE.put(471, ChoiceControl::visitChoice471);
+    VISIT_CHOICE.put(485, ChoiceControl::visitChoice485);
+    VISIT_CHOICE.put(486, ChoiceControl::visitChoice486);
+    VISIT_CHOICE.put(488, ChoiceControl::visitChoice488);
+    VISIT_CHOICE.put(496, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(509, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(510, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(511, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(512, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(513, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(514, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(515, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(1000, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(1001, ChoiceControl::visitChoice496);
+    VISIT_CHOICE.put(502, ChoiceControl::visitChoice502);
+    VISIT_CHOICE.put(523, ChoiceControl::visitChoice523);
+    VISIT_CHOICE.put(537, ChoiceControl::visitChoice537);
+    VISIT_CHOICE.put(540, ChoiceControl::visitChoice540);
+    VISIT_CHOICE.put(570, ChoiceControl::visitChoice570);
+    VISIT_CHOICE.put(627, ChoiceControl::visitChoice627);
+    VISIT_CHOICE.put(628, ChoiceControl::visitChoice627);
+    VISIT_CHOICE.put(629, ChoiceControl::visitChoice627);
+    VISIT_CHOICE.put(630, ChoiceControl::visitChoice627);
+    VISIT_CHOICE.put(631, ChoiceControl::visitChoice627);
+    VISIT_CHOICE.put(633, ChoiceControl::visitChoice627);
+    VISIT_CHOICE.put(641, ChoiceControl::visitChoice641);
+    VISIT_CHOICE.put(642, ChoiceControl::visitChoice642);
+    VISIT_CHOICE.put(644, ChoiceControl::visitChoice644);
+    VISIT_CHOICE.put(645, ChoiceControl::visitChoice645);
+    VISIT_CHOICE.put(647, ChoiceControl::visitChoice647);
+    VISIT_CHOICE.put(648, ChoiceControl::visitChoice648);
+    VISIT_CHOICE.put(650, ChoiceControl::visitChoice650);
+    VISIT_CHOICE.put(651, ChoiceControl::visitChoice651);
+    VISIT_CHOICE.put(658, ChoiceControl::visitChoice658);
+    VISIT_CHOICE.put(689, ChoiceControl::visitChoice689);
+    VISIT_CHOICE.put(690, ChoiceControl::visitChoice690);
+    VISIT_CHOICE.put(691, ChoiceControl::visitChoice691);
+    VISIT_CHOICE.put(692, ChoiceControl::visitChoice692);
+    VISIT_CHOICE.put(693, ChoiceControl::visitChoice692);
+    VISIT_CHOICE.put(705, ChoiceControl::visitChoice705);
+    VISIT_CHOICE.put(764, ChoiceControl::visitChoice764);
+    VISIT_CHOICE.put(774, ChoiceControl::visitChoice774);
+    VISIT_CHOICE.put(780, ChoiceControl::visitChoice780);
+    VISIT_CHOICE.put(781, ChoiceControl::visitChoice781);
+    VISIT_CHOICE.put(783, ChoiceControl::visitChoice783);
+    VISIT_CHOICE.put(785, ChoiceControl::visitChoice785);
+    VISIT_CHOICE.put(787, ChoiceControl::visitChoice787);
+    VISIT_CHOICE.put(788, ChoiceControl::visitChoice788);
+    VISIT_CHOICE.put(791, ChoiceControl::visitChoice791);
+    VISIT_CHOICE.put(793, ChoiceControl::visitChoice793);
+    VISIT_CHOICE.put(798, ChoiceControl::visitChoice798);
+    VISIT_CHOICE.put(801, ChoiceControl::visitChoice801);
+    VISIT_CHOICE.put(804, ChoiceControl::visitChoice804);
+    VISIT_CHOICE.put(836, ChoiceControl::visitChoice836);
+    VISIT_CHOICE.put(822, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(823, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(824, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(825, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(826, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(827, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(829, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(830, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(832, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(833, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(834, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(831, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(837, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(838, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(839, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(840, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(841, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(842, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(844, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(845, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(846, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(847, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(848, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(849, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(850, ChoiceControl::visitChoice822);
+    VISIT_CHOICE.put(851, ChoiceControl::visitChoice851);
+    VISIT_CHOICE.put(855, ChoiceControl::visitChoice855);
+    VISIT_CHOICE.put(871, ChoiceControl::visitChoice871);
+    VISIT_CHOICE.put(876, ChoiceControl::visitChoice876);
+    VISIT_CHOICE.put(888, ChoiceControl::visitChoice888);
+    VISIT_CHOICE.put(890, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(891, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(892, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(893, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(894, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(895, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(896, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(897, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(898, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(899, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(900, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(901, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(902, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(903, ChoiceControl::visitChoice890);
+    VISIT_CHOICE.put(923, ChoiceControl::visitChoice923);
+    VISIT_CHOICE.put(930, ChoiceControl::visitChoice930);
+    VISIT_CHOICE.put(984, ChoiceControl::visitChoice984);
+    VISIT_CHOICE.put(986, ChoiceControl::visitChoice986);
+    VISIT_CHOICE.put(1002, ChoiceControl::visitChoice1002);
+    VISIT_CHOICE.put(1003, ChoiceControl::visitChoice1003);
+    VISIT_CHOICE.put(1005, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1006, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1007, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1008, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1009, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1010, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1011, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1012, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1013, ChoiceControl::visitChoice1005);
+    VISIT_CHOICE.put(1023, ChoiceControl::visitChoice1023);
+    VISIT_CHOICE.put(1024, ChoiceControl::visitChoice1023);
+    VISIT_CHOICE.put(1025, ChoiceControl::visitChoice1025);
+    VISIT_CHOICE.put(1049, ChoiceControl::visitChoice1049);
+    VISIT_CHOICE.put(1051, ChoiceControl::visitChoice1051);
+    VISIT_CHOICE.put(1053, ChoiceControl::visitChoice1053);
+    VISIT_CHOICE.put(1062, ChoiceControl::visitChoice1062);
+    VISIT_CHOICE.put(1063, ChoiceControl::visitChoice1063);
+    VISIT_CHOICE.put(1068, ChoiceControl::visitChoice1068);
+    VISIT_CHOICE.put(1069, ChoiceControl::visitChoice1069);
+    VISIT_CHOICE.put(1070, ChoiceControl::visitChoice1070);
+    VISIT_CHOICE.put(1071, ChoiceControl::visitChoice1071);
+    VISIT_CHOICE.put(1075, ChoiceControl::visitChoice1075);
+    VISIT_CHOICE.put(1076, ChoiceControl::visitChoice1076);
+    VISIT_CHOICE.put(1080, ChoiceControl::visitChoice1080);
+    VISIT_CHOICE.put(1087, ChoiceControl::visitChoice1087);
+    VISIT_CHOICE.put(1088, ChoiceControl::visitChoice1088);
+    VISIT_CHOICE.put(1093, ChoiceControl::visitChoice1093);
+    VISIT_CHOICE.put(1100, ChoiceControl::visitChoice1100);
+    VISIT_CHOICE.put(1110, ChoiceControl::visitChoice1110);
+    VISIT_CHOICE.put(1118, ChoiceControl::visitChoice1118);
+    VISIT_CHOICE.put(1181, ChoiceControl::visitChoice1181);
+    VISIT_CHOICE.put(1188, ChoiceControl::visitChoice1188);
+    VISIT_CHOICE.put(1191, ChoiceControl::visitChoice1191);
+    VISIT_CHOICE.put(1193, ChoiceControl::visitChoice1193);
+    VISIT_CHOICE.put(1195, ChoiceControl::visitChoice1195);
+    VISIT_CHOICE.put(1202, ChoiceControl::visitChoice1202);
+    VISIT_CHOICE.put(1203, ChoiceControl::visitChoice1202);
+    VISIT_CHOICE.put(1204, ChoiceControl::visitChoice1202);
+    VISIT_CHOICE.put(1205, ChoiceControl::visitChoice1202);
+    VISIT_CHOICE.put(1206, ChoiceControl::visitChoice1202);
+    VISIT_CHOICE.put(1207, ChoiceControl::visitChoice1202);
+    VISIT_CHOICE.put(1208, ChoiceControl::visitChoice1202);
+    VISIT_CHOICE.put(1209, ChoiceControl::visitChoice1202);
+    VISIT_CHOICE.put(1229, ChoiceControl::visitChoice1229);
+    VISIT_CHOICE.put(1234, ChoiceControl::visitChoice1234);
+    VISIT_CHOICE.put(1259, ChoiceControl::visitChoice1259);
+    VISIT_CHOICE.put(1266, ChoiceControl::visitChoice1266);
+    VISIT_CHOICE.put(1267, ChoiceControl::visitChoice1267);
+    VISIT_CHOICE.put(1308, ChoiceControl::visitChoice1308);
+    VISIT_CHOICE.put(1309, ChoiceControl::visitChoice1309);
+    VISIT_CHOICE.put(1312, ChoiceControl::visitChoice1312);
+    VISIT_CHOICE.put(1313, ChoiceControl::visitChoice1313);
+    VISIT_CHOICE.put(1314, ChoiceControl::visitChoice1313);
+    VISIT_CHOICE.put(1315, ChoiceControl::visitChoice1313);
+    VISIT_CHOICE.put(1316, ChoiceControl::visitChoice1313);
+    VISIT_CHOICE.put(1317, ChoiceControl::visitChoice1313);
+    VISIT_CHOICE.put(1318, ChoiceControl::visitChoice1313);
+    VISIT_CHOICE.put(1319, ChoiceControl::visitChoice1313);
+    VISIT_CHOICE.put(1322, ChoiceControl::visitChoice1322);
+    VISIT_CHOICE.put(1324, ChoiceControl::visitChoice1324);
+    VISIT_CHOICE.put(1329, ChoiceControl::visitChoice1329);
+    VISIT_CHOICE.put(1331, ChoiceControl::visitChoice1331);
+    VISIT_CHOICE.put(1336, ChoiceControl::visitChoice1336);
+    VISIT_CHOICE.put(1339, ChoiceControl::visitChoice1339);
+    VISIT_CHOICE.put(1340, ChoiceControl::visitChoice1340);
+    VISIT_CHOICE.put(1347, ChoiceControl::visitChoice1347);
+    VISIT_CHOICE.put(1348, ChoiceControl::visitChoice1348);
+    VISIT_CHOICE.put(1349, ChoiceControl::visitChoice1349);
+    VISIT_CHOICE.put(1388, ChoiceControl::visitChoice1388);
+    VISIT_CHOICE.put(1396, ChoiceControl::visitChoice1396);
+    VISIT_CHOICE.put(1407, ChoiceControl::visitChoice1407);
+    VISIT_CHOICE.put(1408, ChoiceControl::visitChoice1408);
+    VISIT_CHOICE.put(1410, ChoiceControl::visitChoice1410);
+    VISIT_CHOICE.put(1412, ChoiceControl::visitChoice1412);
+    VISIT_CHOICE.put(1420, ChoiceControl::visitChoice1420);
+    VISIT_CHOICE.put(1425, ChoiceControl::visitChoice1425);
+    VISIT_CHOICE.put(1427, ChoiceControl::visitChoice1427);
+    VISIT_CHOICE.put(1428, ChoiceControl::visitChoice1428);
+    VISIT_CHOICE.put(1429, ChoiceControl::visitChoice1429);
+    VISIT_CHOICE.put(1430, ChoiceControl::visitChoice1430);
+    VISIT_CHOICE.put(1431, ChoiceControl::visitChoice1431);
+    VISIT_CHOICE.put(1432, ChoiceControl::visitChoice1432);
+    VISIT_CHOICE.put(1433, ChoiceControl::visitChoice1433);
+    VISIT_CHOICE.put(1434, ChoiceControl::visitChoice1434);
+    VISIT_CHOICE.put(1436, ChoiceControl::visitChoice1436);
+    VISIT_CHOICE.put(1445, ChoiceControl::visitChoice1445);
+    VISIT_CHOICE.put(1447, ChoiceControl::visitChoice1445);
+    VISIT_CHOICE.put(1448, ChoiceControl::visitChoice1448);
+    VISIT_CHOICE.put(1449, ChoiceControl::visitChoice1449);
+    VISIT_CHOICE.put(1455, ChoiceControl::visitChoice1455);
+    VISIT_CHOICE.put(1462, ChoiceControl::visitChoice1462);
+    VISIT_CHOICE.put(1463, ChoiceControl::visitChoice1463);
+    VISIT_CHOICE.put(1476, ChoiceControl::visitChoice1476);
+    VISIT_CHOICE.put(1483, ChoiceControl::visitChoice1483);
+    VISIT_CHOICE.put(1484, ChoiceControl::visitChoice1484);
+    VISIT_CHOICE.put(1485, ChoiceControl::visitChoice1485);
+    VISIT_CHOICE.put(1491, ChoiceControl::visitChoice1491);
+    VISIT_CHOICE.put(1497, ChoiceControl::visitChoice1497);
+    VISIT_CHOICE.put(1498, ChoiceControl::visitChoice1498);
+    VISIT_CHOICE.put(1499, ChoiceControl::visitChoice1499);
+    VISIT_CHOICE.put(1500, ChoiceControl::visitChoice1500);
+    VISIT_CHOICE.put(1501, ChoiceControl::visitChoice1501);
+    VISIT_CHOICE.put(1510, ChoiceControl::visitChoice1510);
+    VISIT_CHOICE.put(1512, ChoiceControl::visitChoice1512);
+    VISIT_CHOICE.put(1513, ChoiceControl::visitChoice1512);
+    VISIT_CHOICE.put(1517, ChoiceControl::visitChoice1517);
+    VISIT_CHOICE.put(1523, ChoiceControl::visitChoice1523);
+    VISIT_CHOICE.put(1527, ChoiceControl::visitChoice1527);
+    VISIT_CHOICE.put(1537, ChoiceControl::visitChoice1537);
+    VISIT_CHOICE.put(1545, ChoiceControl::visitChoice1545);
+    VISIT_CHOICE.put(1546, ChoiceControl::visitChoice1546);
+    VISIT_CHOICE.put(1547, ChoiceControl::visitChoice1547);
+    VISIT_CHOICE.put(1548, ChoiceControl::visitChoice1548);
+    VISIT_CHOICE.put(1549, ChoiceControl::visitChoice1549);
+    VISIT_CHOICE.put(1550, ChoiceControl::visitChoice1550);
+  }
+
   public static void visitChoice(final GenericRequest request) {
     String text = request.responseText;
-    switch (ChoiceManager.lastChoice) {
-      case 4 -> {
-        // Finger-Lickin'... Death.
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Teach them a lesson")) {
-          Preferences.setBoolean("_candyCaneSwordSouthOfTheBorder", true);
-        }
-      }
+    VisitHandler handler = VISIT_CHOICE.get(ChoiceManager.lastChoice);
+    if (handler != null) {
+      handler.handle(request, text);
+    }
+  }
 
-      case 109 -> {
-        // Dumpster Diving
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy sword")) {
-          Preferences.setBoolean("_candyCaneSwordBackAlley", true);
-        }
-      }
+  private static void visitChoice4(final GenericRequest request, final String text) {
+    // Finger-Lickin'... Death.
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Teach them a lesson")) {
+      Preferences.setBoolean("_candyCaneSwordSouthOfTheBorder", true);
+    }
+  }
 
-      case 127 -> {
-        // No sir, away! A papaya war is on!
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("_candyCaneSwordPalindome", true);
-        }
-      }
+  private static void visitChoice109(final GenericRequest request, final String text) {
+    // Dumpster Diving
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy sword")) {
+      Preferences.setBoolean("_candyCaneSwordBackAlley", true);
+    }
+  }
 
-      case 139 -> {
-        // Bait and Switch
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("candyCaneSwordWarHippyBait", true);
-        }
-      }
+  private static void visitChoice127(final GenericRequest request, final String text) {
+    // No sir, away! A papaya war is on!
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("_candyCaneSwordPalindome", true);
+    }
+  }
 
-      case 140 -> {
-        // The Thin Tie-Dyed Line
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Threaten a passerby")) {
-          Preferences.setBoolean("candyCaneSwordWarHippyLine", true);
-        }
-      }
+  private static void visitChoice139(final GenericRequest request, final String text) {
+    // Bait and Switch
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("candyCaneSwordWarHippyBait", true);
+    }
+  }
 
-      case 143 -> {
-        // Catching Some Zetas
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("candyCaneSwordWarFratZetas", true);
-        }
-      }
+  private static void visitChoice140(final GenericRequest request, final String text) {
+    // The Thin Tie-Dyed Line
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Threaten a passerby")) {
+      Preferences.setBoolean("candyCaneSwordWarHippyLine", true);
+    }
+  }
 
-      case 144 -> {
-        // One Less Room Than In That Movie
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Pry open the hatch")) {
-          Preferences.setBoolean("candyCaneSwordWarFratRoom", true);
-        }
-      }
+  private static void visitChoice143(final GenericRequest request, final String text) {
+    // Catching Some Zetas
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("candyCaneSwordWarFratZetas", true);
+    }
+  }
 
-      case 151 -> {
-        // Adventurer, $1.99
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("your cane")) {
-          Preferences.setBoolean("candyCaneSwordFunHouse", true);
-        }
-      }
+  private static void visitChoice144(final GenericRequest request, final String text) {
+    // One Less Room Than In That Movie
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Pry open the hatch")) {
+      Preferences.setBoolean("candyCaneSwordWarFratRoom", true);
+    }
+  }
 
-      case 360 -> {
-        // Wumpus Hunt
-        WumpusManager.visitChoice(text);
-      }
+  private static void visitChoice151(final GenericRequest request, final String text) {
+    // Adventurer, $1.99
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("your cane")) {
+      Preferences.setBoolean("candyCaneSwordFunHouse", true);
+    }
+  }
 
-      case 440 -> {
-        // Puttin' on the Wax
-        HaciendaManager.preRecording(text);
-      }
+  private static void visitChoice360(final GenericRequest request, final String text) {
+    // Wumpus Hunt
+    WumpusManager.visitChoice(text);
+  }
 
-      case 443 -> {
-        // A Chess Puzzle
-        RabbitHoleManager.parseChessPuzzle(text);
-      }
+  private static void visitChoice440(final GenericRequest request, final String text) {
+    // Puttin' on the Wax
+    HaciendaManager.preRecording(text);
+  }
 
-      case 460 -> {
-        // Space Trip
-        ArcadeRequest.visitSpaceTripChoice(text);
-      }
+  private static void visitChoice443(final GenericRequest request, final String text) {
+    // A Chess Puzzle
+    RabbitHoleManager.parseChessPuzzle(text);
+  }
 
-      case 471 -> {
-        // DemonStar
-        ArcadeRequest.visitDemonStarChoice(text);
-      }
+  private static void visitChoice460(final GenericRequest request, final String text) {
+    // Space Trip
+    ArcadeRequest.visitSpaceTripChoice(text);
+  }
 
-      case 485 -> {
-        // Fighters Of Fighting
-        ArcadeRequest.visitFightersOfFightingChoice(text);
-      }
+  private static void visitChoice471(final GenericRequest request, final String text) {
+    // DemonStar
+    ArcadeRequest.visitDemonStarChoice(text);
+  }
 
-      case 486 -> {
-        // DungeonFist!
-        ArcadeRequest.visitDungeonFistChoice(text);
-      }
+  private static void visitChoice485(final GenericRequest request, final String text) {
+    // Fighters Of Fighting
+    ArcadeRequest.visitFightersOfFightingChoice(text);
+  }
 
-      case 488 -> {
-        // Meteoid
-        ArcadeRequest.visitMeteoidChoice(text);
-      }
+  private static void visitChoice486(final GenericRequest request, final String text) {
+    // DungeonFist!
+    ArcadeRequest.visitDungeonFistChoice(text);
+  }
 
-      case 496,
-          // Crate Expectations
-          509,
-          // Of Course!
-          510,
-          // Those Who Came Before You
-          511,
-          // If it's Tiny, is it Still a Mansion?
-          512,
-          // Hot and Cold Running Rats
-          513,
-          // Staring Down the Barrel
-          514,
-          // 1984 Had Nothing on This Cellar
-          515,
-          // A Rat's Home...
-          1000,
-          // Everything in Moderation
-          1001 -> {
-        // Hot and Cold Dripping Rats
-        TavernRequest.postTavernVisit(request);
-      }
+  private static void visitChoice488(final GenericRequest request, final String text) {
+    // Meteoid
+    ArcadeRequest.visitMeteoidChoice(text);
+  }
 
-      case 502 -> {
-        // Arboreal Respite
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("_candyCaneSwordSpookyForest", true);
-        }
-      }
+  // Crate Expectations
+  // Of Course!
+  // Those Who Came Before You
+  // If it's Tiny, is it Still a Mansion?
+  // Hot and Cold Running Rats
+  // Staring Down the Barrel
+  // 1984 Had Nothing on This Cellar
+  // A Rat's Home...
+  // Everything in Moderation
+  private static void visitChoice496(final GenericRequest request, final String text) {
+    // Hot and Cold Dripping Rats
+    TavernRequest.postTavernVisit(request);
+  }
 
-      case 523 -> {
-        // Death Rattlin'
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("candyCaneSwordDefiledCranny", true);
-        }
-      }
+  private static void visitChoice502(final GenericRequest request, final String text) {
+    // Arboreal Respite
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("_candyCaneSwordSpookyForest", true);
+    }
+  }
 
-      case 537 -> {
-        // Play Porko!
-        SpaaaceRequest.visitPorkoChoice(text);
-      }
+  private static void visitChoice523(final GenericRequest request, final String text) {
+    // Death Rattlin'
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("candyCaneSwordDefiledCranny", true);
+    }
+  }
 
-      case 540 -> {
-        // Big-Time Generator
-        SpaaaceRequest.visitGeneratorChoice(text);
-      }
+  private static void visitChoice537(final GenericRequest request, final String text) {
+    // Play Porko!
+    SpaaaceRequest.visitPorkoChoice(text);
+  }
 
-      case 570 -> {
-        GameproManager.parseGameproMagazine(text);
-      }
+  private static void visitChoice540(final GenericRequest request, final String text) {
+    // Big-Time Generator
+    SpaaaceRequest.visitGeneratorChoice(text);
+  }
 
-      case 627, 628, 629, 630, 631, 633 -> {
-        ChibiBuddyManager.visit(ChoiceManager.lastChoice, text);
-      }
+  private static void visitChoice570(final GenericRequest request, final String text) {
+    GameproManager.parseGameproMagazine(text);
+  }
 
-      case 641 -> {
-        // Stupid Pipes.
-        if (!text.contains("Dive Down")
-            && KoLCharacter.getElementalResistanceLevels(Element.HOT) >= 25) {
-          Preferences.setBoolean("flickeringPixel1", true);
-        }
-      }
+  private static void visitChoice627(final GenericRequest request, final String text) {
+    ChibiBuddyManager.visit(ChoiceManager.lastChoice, text);
+  }
 
-      case 642 -> {
-        // You're Freaking Kidding Me
-        if (!text.contains("Wait a minute...")
-            && KoLCharacter.getAdjustedMuscle() >= 500
-            && KoLCharacter.getAdjustedMysticality() >= 500
-            && KoLCharacter.getAdjustedMoxie() >= 500) {
-          Preferences.setBoolean("flickeringPixel2", true);
-        }
-      }
+  private static void visitChoice641(final GenericRequest request, final String text) {
+    // Stupid Pipes.
+    if (!text.contains("Dive Down")
+        && KoLCharacter.getElementalResistanceLevels(Element.HOT) >= 25) {
+      Preferences.setBoolean("flickeringPixel1", true);
+    }
+  }
 
-      case 644 -> {
-        // Snakes.
-        if (!text.contains("Tie the snakes in a knot.") && KoLCharacter.getAdjustedMoxie() >= 300) {
-          Preferences.setBoolean("flickeringPixel3", true);
-        }
-      }
+  private static void visitChoice642(final GenericRequest request, final String text) {
+    // You're Freaking Kidding Me
+    if (!text.contains("Wait a minute...")
+        && KoLCharacter.getAdjustedMuscle() >= 500
+        && KoLCharacter.getAdjustedMysticality() >= 500
+        && KoLCharacter.getAdjustedMoxie() >= 500) {
+      Preferences.setBoolean("flickeringPixel2", true);
+    }
+  }
 
-      case 645 -> {
-        // So... Many... Skulls...
-        if (!text.contains("You fear no evil")
-            && KoLCharacter.getElementalResistanceLevels(Element.SPOOKY) >= 25) {
-          Preferences.setBoolean("flickeringPixel4", true);
-        }
-      }
+  private static void visitChoice644(final GenericRequest request, final String text) {
+    // Snakes.
+    if (!text.contains("Tie the snakes in a knot.") && KoLCharacter.getAdjustedMoxie() >= 300) {
+      Preferences.setBoolean("flickeringPixel3", true);
+    }
+  }
 
-      case 647 -> {
-        // A Stupid Dummy. Also, a Straw Man.
+  private static void visitChoice645(final GenericRequest request, final String text) {
+    // So... Many... Skulls...
+    if (!text.contains("You fear no evil")
+        && KoLCharacter.getElementalResistanceLevels(Element.SPOOKY) >= 25) {
+      Preferences.setBoolean("flickeringPixel4", true);
+    }
+  }
 
-        // *** unspaded
-        if (!text.contains("Graaaaaaaaargh!") && KoLCharacter.currentBonusDamage() >= 1000) {
-          Preferences.setBoolean("flickeringPixel5", true);
-        }
-      }
+  private static void visitChoice647(final GenericRequest request, final String text) {
+    // A Stupid Dummy. Also, a Straw Man.
 
-      case 648 -> {
-        // Slings and Arrows
-        // *** Yes, there supposed to be two spaces there.
-        if (!text.contains("Arrows?  Ha.") && KoLCharacter.getCurrentHP() >= 1000) {
-          Preferences.setBoolean("flickeringPixel6", true);
-        }
-      }
+    // *** unspaded
+    if (!text.contains("Graaaaaaaaargh!") && KoLCharacter.currentBonusDamage() >= 1000) {
+      Preferences.setBoolean("flickeringPixel5", true);
+    }
+  }
 
-      case 650 -> {
-        // This Is Your Life. Your Horrible, Horrible Life.
-        if (!text.contains("Then watch it again with the commentary on!")
-            && KoLCharacter.getCurrentMP() >= 1000) {
-          Preferences.setBoolean("flickeringPixel7", true);
-        }
-      }
+  private static void visitChoice648(final GenericRequest request, final String text) {
+    // Slings and Arrows
+    // *** Yes, there supposed to be two spaces there.
+    if (!text.contains("Arrows?  Ha.") && KoLCharacter.getCurrentHP() >= 1000) {
+      Preferences.setBoolean("flickeringPixel6", true);
+    }
+  }
 
-      case 651 -> {
-        // The Wall of Wailing
-        if (!text.contains("Make the tide resist you")
-            && KoLCharacter.currentPrismaticDamage() >= 60) {
-          Preferences.setBoolean("flickeringPixel8", true);
-        }
-      }
+  private static void visitChoice650(final GenericRequest request, final String text) {
+    // This Is Your Life. Your Horrible, Horrible Life.
+    if (!text.contains("Then watch it again with the commentary on!")
+        && KoLCharacter.getCurrentMP() >= 1000) {
+      Preferences.setBoolean("flickeringPixel7", true);
+    }
+  }
 
-      case 658 -> {
-        // Debasement
-        ResultProcessor.processItem(ItemPool.GOLD_PIECE, -30);
-      }
+  private static void visitChoice651(final GenericRequest request, final String text) {
+    // The Wall of Wailing
+    if (!text.contains("Make the tide resist you") && KoLCharacter.currentPrismaticDamage() >= 60) {
+      Preferences.setBoolean("flickeringPixel8", true);
+    }
+  }
 
-      case 689 -> {
-        // The Final Reward
-        Preferences.setInteger("_lastDailyDungeonRoom", 14);
-      }
+  private static void visitChoice658(final GenericRequest request, final String text) {
+    // Debasement
+    ResultProcessor.processItem(ItemPool.GOLD_PIECE, -30);
+  }
 
-      case 690 -> {
-        // The First Chest Isn't the Deepest
-        Preferences.setInteger("_lastDailyDungeonRoom", 4);
-      }
+  private static void visitChoice689(final GenericRequest request, final String text) {
+    // The Final Reward
+    Preferences.setInteger("_lastDailyDungeonRoom", 14);
+  }
 
-      case 691 -> {
-        // Second Chest
-        Preferences.setInteger("_lastDailyDungeonRoom", 9);
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("candyCaneSwordDailyDungeon", true);
-        }
-      }
+  private static void visitChoice690(final GenericRequest request, final String text) {
+    // The First Chest Isn't the Deepest
+    Preferences.setInteger("_lastDailyDungeonRoom", 4);
+  }
 
-      case 692, 693 -> {
-        // I Wanna Be a Door and It's Almost Certainly a Trap
-        Matcher chamberMatcher = CHAMBER_PATTERN.matcher(text);
-        if (chamberMatcher.find()) {
-          int round = StringUtilities.parseInt(chamberMatcher.group(1));
-          Preferences.setInteger("_lastDailyDungeonRoom", round - 1);
-        }
-      }
+  private static void visitChoice691(final GenericRequest request, final String text) {
+    // Second Chest
+    Preferences.setInteger("_lastDailyDungeonRoom", 9);
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("candyCaneSwordDailyDungeon", true);
+    }
+  }
 
-      case 705 -> {
-        // Halls Passing in the Night
-        ResultProcessor.processItem(ItemPool.MERKIN_HALLPASS, -1);
-      }
+  private static void visitChoice692(final GenericRequest request, final String text) {
+    // I Wanna Be a Door and It's Almost Certainly a Trap
+    Matcher chamberMatcher = CHAMBER_PATTERN.matcher(text);
+    if (chamberMatcher.find()) {
+      int round = StringUtilities.parseInt(chamberMatcher.group(1));
+      Preferences.setInteger("_lastDailyDungeonRoom", round - 1);
+    }
+  }
 
-      case 764 -> {
-        // The Machine
+  private static void visitChoice705(final GenericRequest request, final String text) {
+    // Halls Passing in the Night
+    ResultProcessor.processItem(ItemPool.MERKIN_HALLPASS, -1);
+  }
 
-        // You approach The Machine, and notice that the
-        // capacitor you're carrying fits perfectly into an
-        // obviously empty socket on the base of it. You plug
-        // it in, and The Machine whirs ominously to life.......
+  private static void visitChoice764(final GenericRequest request, final String text) {
+    // The Machine
 
-        if (text.contains("You plug it in")) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.SKULL_CAPACITOR, -1));
-        }
-      }
+    // You approach The Machine, and notice that the
+    // capacitor you're carrying fits perfectly into an
+    // obviously empty socket on the base of it. You plug
+    // it in, and The Machine whirs ominously to life.......
 
-      case 774 -> {
-        // Opening up the Folder Holder
+    if (text.contains("You plug it in")) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.SKULL_CAPACITOR, -1));
+    }
+  }
 
-        String option = request.getFormField("forceoption");
-        if (option != null) {
-          ChoiceManager.lastDecision = StringUtilities.parseInt(option);
-        }
-      }
+  private static void visitChoice774(final GenericRequest request, final String text) {
+    // Opening up the Folder Holder
 
-      case 780 -> {
-        // Action Elevator
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Climb on top")) {
-          Preferences.setBoolean("candyCaneSwordApartmentBuilding", true);
-        }
-      }
+    String option = request.getFormField("forceoption");
+    if (option != null) {
+      ChoiceManager.lastDecision = StringUtilities.parseInt(option);
+    }
+  }
 
-      case 781 -> {
-        // Earthbound and Down
-        if (!text.contains("option value=1")) {
-          if (Preferences.getInteger("hiddenApartmentProgress") == 0) {
-            Preferences.setInteger("hiddenApartmentProgress", 1);
-          }
-        }
-      }
+  private static void visitChoice780(final GenericRequest request, final String text) {
+    // Action Elevator
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Climb on top")) {
+      Preferences.setBoolean("candyCaneSwordApartmentBuilding", true);
+    }
+  }
 
-      case 783 -> {
-        // Water You Dune
-        if (!text.contains("option value=1")) {
-          if (Preferences.getInteger("hiddenHospitalProgress") == 0) {
-            Preferences.setInteger("hiddenHospitalProgress", 1);
-          }
-        }
+  private static void visitChoice781(final GenericRequest request, final String text) {
+    // Earthbound and Down
+    if (!text.contains("option value=1")) {
+      if (Preferences.getInteger("hiddenApartmentProgress") == 0) {
+        Preferences.setInteger("hiddenApartmentProgress", 1);
       }
+    }
+  }
 
-      case 785 -> {
-        // Air Apparent
-        if (!text.contains("option value=1")) {
-          if (Preferences.getInteger("hiddenOfficeProgress") == 0) {
-            Preferences.setInteger("hiddenOfficeProgress", 1);
-          }
-        }
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("_candyCaneSwordOvergrownShrine", true);
-        }
+  private static void visitChoice783(final GenericRequest request, final String text) {
+    // Water You Dune
+    if (!text.contains("option value=1")) {
+      if (Preferences.getInteger("hiddenHospitalProgress") == 0) {
+        Preferences.setInteger("hiddenHospitalProgress", 1);
       }
+    }
+  }
 
-      case 787 -> {
-        // Fire When Ready
-        if (!text.contains("option value=1")) {
-          if (Preferences.getInteger("hiddenBowlingAlleyProgress") == 0) {
-            Preferences.setInteger("hiddenBowlingAlleyProgress", 1);
-          }
-        }
+  private static void visitChoice785(final GenericRequest request, final String text) {
+    // Air Apparent
+    if (!text.contains("option value=1")) {
+      if (Preferences.getInteger("hiddenOfficeProgress") == 0) {
+        Preferences.setInteger("hiddenOfficeProgress", 1);
       }
+    }
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("_candyCaneSwordOvergrownShrine", true);
+    }
+  }
 
-      case 788 -> {
-        // Life is Like a Cherry of Bowls
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("candyCaneSwordBowlingAlley", true);
-        }
+  private static void visitChoice787(final GenericRequest request, final String text) {
+    // Fire When Ready
+    if (!text.contains("option value=1")) {
+      if (Preferences.getInteger("hiddenBowlingAlleyProgress") == 0) {
+        Preferences.setInteger("hiddenBowlingAlleyProgress", 1);
       }
+    }
+  }
 
-      case 791 -> {
-        // Legend of the Temple in the Hidden City
-        Preferences.setInteger("zigguratLianas", 1);
-      }
+  private static void visitChoice788(final GenericRequest request, final String text) {
+    // Life is Like a Cherry of Bowls
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("candyCaneSwordBowlingAlley", true);
+    }
+  }
 
-      case 793 -> {
-        // Welcome to The Shore, Inc.
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Fencing Competition")) {
-          Preferences.setBoolean("candyCaneSwordShore", true);
-        }
-      }
+  private static void visitChoice791(final GenericRequest request, final String text) {
+    // Legend of the Temple in the Hidden City
+    Preferences.setInteger("zigguratLianas", 1);
+  }
 
-      case 798 -> {
-        // Hippy Talkin'
-        if (text.contains("You should totally keep it!")) {
-          QuestDatabase.setQuestProgress(Quest.HIPPY, QuestDatabase.FINISHED);
-          Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
-        }
-      }
+  private static void visitChoice793(final GenericRequest request, final String text) {
+    // Welcome to The Shore, Inc.
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Fencing Competition")) {
+      Preferences.setBoolean("candyCaneSwordShore", true);
+    }
+  }
 
-      case 801 -> {
-        {
-          // A Reanimated Conversation
-          Matcher matcher = REANIMATOR_ARM_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger("reanimatorArms", StringUtilities.parseInt(matcher.group(1)));
-          } else {
-            Preferences.setInteger("reanimatorArms", 0);
-          }
-          matcher = REANIMATOR_LEG_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger("reanimatorLegs", StringUtilities.parseInt(matcher.group(1)));
-          } else {
-            Preferences.setInteger("reanimatorLegs", 0);
-          }
-          matcher = REANIMATOR_SKULL_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger("reanimatorSkulls", StringUtilities.parseInt(matcher.group(1)));
-          } else {
-            Preferences.setInteger("reanimatorSkulls", 0);
-          }
-          matcher = REANIMATOR_WEIRDPART_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger(
-                "reanimatorWeirdParts", StringUtilities.parseInt(matcher.group(1)));
-          } else {
-            Preferences.setInteger("reanimatorWeirdParts", 0);
-          }
-          matcher = REANIMATOR_WING_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger("reanimatorWings", StringUtilities.parseInt(matcher.group(1)));
-          } else {
-            Preferences.setInteger("reanimatorWings", 0);
-          }
-        }
-      }
+  private static void visitChoice798(final GenericRequest request, final String text) {
+    // Hippy Talkin'
+    if (text.contains("You should totally keep it!")) {
+      QuestDatabase.setQuestProgress(Quest.HIPPY, QuestDatabase.FINISHED);
+      Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
+    }
+  }
 
-      case 804 -> {
-        {
-          var state =
-              TRICK_OR_TREAT_PATTERN
-                  .matcher(text)
-                  .results()
-                  .map(
-                      m -> {
-                        var faded = m.group(1) != null;
-                        var type = m.group(2).substring(0, 1);
-                        return faded ? type : type.toUpperCase();
-                      })
-                  .collect(Collectors.joining());
-
-          Preferences.setString("_trickOrTreatBlock", state);
-        }
+  private static void visitChoice801(final GenericRequest request, final String text) {
+    {
+      // A Reanimated Conversation
+      Matcher matcher = REANIMATOR_ARM_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger("reanimatorArms", StringUtilities.parseInt(matcher.group(1)));
+      } else {
+        Preferences.setInteger("reanimatorArms", 0);
       }
-
-      case 836 -> {
-        {
-          // Adventures Who Live in Ice Houses...
-          Matcher matcher = ICEHOUSE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            String icehouseMonster = matcher.group(1);
-            BanishManager.banishMonster(icehouseMonster, BanishManager.Banisher.ICE_HOUSE, false);
-          }
-        }
+      matcher = REANIMATOR_LEG_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger("reanimatorLegs", StringUtilities.parseInt(matcher.group(1)));
+      } else {
+        Preferences.setInteger("reanimatorLegs", 0);
+      }
+      matcher = REANIMATOR_SKULL_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger("reanimatorSkulls", StringUtilities.parseInt(matcher.group(1)));
+      } else {
+        Preferences.setInteger("reanimatorSkulls", 0);
+      }
+      matcher = REANIMATOR_WEIRDPART_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger("reanimatorWeirdParts", StringUtilities.parseInt(matcher.group(1)));
+      } else {
+        Preferences.setInteger("reanimatorWeirdParts", 0);
+      }
+      matcher = REANIMATOR_WING_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger("reanimatorWings", StringUtilities.parseInt(matcher.group(1)));
+      } else {
+        Preferences.setInteger("reanimatorWings", 0);
       }
+    }
+  }
 
-      case 822, // The Prince's Ball (In the Restroom)
-          823, // The Prince's Ball (On the Dance Floor)
-          824, // The Prince's Ball (The Kitchen)
-          825, // The Prince's Ball (On the Balcony)
-          826, // The Prince's Ball (The Lounge)
-          827, // The Prince's Ball (At the Canapés Table)
-          // stepmother
-          829,
-          // We all wear masks
-          830, // Cooldown
-          832, // Shower Power
-          833, // Vendi, Vidi, Vici
-          834, // Back Room Dealings
-          // wolf
-          831, // Intrusion
-          837, // On Purple Pond
-          838, // General Mill
-          839, // The Sounds of the Undergrounds
-          840, // Hop on Rock Pops
-          841, // Building, Structure, Edifice
-          842, // The Gingerbread Warehouse
-          // witch
-          844, // The Portal to Horrible Parents
-          845, // Rumpelstiltskin's Workshop
-          846, // Bartering for the Future of Innocent Children
-          847, // Pick Your Poison
-          848, // Where the Magic Happens
-          849, // The Practice
-          850 -> { // World of Bartercraft
-        // gnome
-        GrimstoneManager.visitChoice(text);
-      }
-
-      case 851 -> {
-        {
-          // Shen Copperhead, Nightclub Owner
-          Matcher matcher = SHEN_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("shenQuestItem", matcher.group(1));
-          }
-        }
+  private static void visitChoice804(final GenericRequest request, final String text) {
+    {
+      var state =
+          TRICK_OR_TREAT_PATTERN
+              .matcher(text)
+              .results()
+              .map(
+                  m -> {
+                    var faded = m.group(1) != null;
+                    var type = m.group(2).substring(0, 1);
+                    return faded ? type : type.toUpperCase();
+                  })
+              .collect(Collectors.joining());
+
+      Preferences.setString("_trickOrTreatBlock", state);
+    }
+  }
+
+  private static void visitChoice836(final GenericRequest request, final String text) {
+    {
+      // Adventures Who Live in Ice Houses...
+      Matcher matcher = ICEHOUSE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        String icehouseMonster = matcher.group(1);
+        BanishManager.banishMonster(icehouseMonster, BanishManager.Banisher.ICE_HOUSE, false);
       }
+    }
+  }
 
-      case 855 -> {
-        // Behind the 'Stache
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("and knock over")) {
-          Preferences.setBoolean("candyCaneSwordCopperheadClub", true);
-        }
+  // The Prince's Ball (In the Restroom)
+  // The Prince's Ball (On the Dance Floor)
+  // The Prince's Ball (The Kitchen)
+  // The Prince's Ball (On the Balcony)
+  // The Prince's Ball (The Lounge)
+  // The Prince's Ball (At the Canapés Table)
+  // stepmother
+  // We all wear masks
+  // Cooldown
+  // Shower Power
+  // Vendi, Vidi, Vici
+  // Back Room Dealings
+  // wolf
+  // Intrusion
+  // On Purple Pond
+  // General Mill
+  // The Sounds of the Undergrounds
+  // Hop on Rock Pops
+  // Building, Structure, Edifice
+  // The Gingerbread Warehouse
+  // witch
+  // The Portal to Horrible Parents
+  // Rumpelstiltskin's Workshop
+  // Bartering for the Future of Innocent Children
+  // Pick Your Poison
+  // Where the Magic Happens
+  // The Practice
+  // World of Bartercraft
+  private static void visitChoice822(final GenericRequest request, final String text) {
+    // gnome
+    GrimstoneManager.visitChoice(text);
+  }
+
+  private static void visitChoice851(final GenericRequest request, final String text) {
+    {
+      // Shen Copperhead, Nightclub Owner
+      Matcher matcher = SHEN_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("shenQuestItem", matcher.group(1));
       }
+    }
+  }
 
-      case 871 -> {
-        {
-          // inspecting Motorbike
-          Matcher matcher = MOTORBIKE_TIRES_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("peteMotorbikeTires", matcher.group(1).trim());
-          }
-          matcher = MOTORBIKE_GASTANK_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("peteMotorbikeGasTank", matcher.group(1).trim());
-            if (Preferences.getString("peteMotorbikeGasTank").equals("Large Capacity Tank")) {
-              KoLCharacter.setDesertBeachAvailable();
-            } else if (Preferences.getString("peteMotorbikeGasTank").equals("Extra-Buoyant Tank")) {
-              Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
-            }
-          }
-          matcher = MOTORBIKE_HEADLIGHT_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("peteMotorbikeHeadlight", matcher.group(1).trim());
-          }
-          matcher = MOTORBIKE_COWLING_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("peteMotorbikeCowling", matcher.group(1).trim());
-          }
-          matcher = MOTORBIKE_MUFFLER_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("peteMotorbikeMuffler", matcher.group(1).trim());
-          }
-          matcher = MOTORBIKE_SEAT_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("peteMotorbikeSeat", matcher.group(1).trim());
-          }
+  private static void visitChoice855(final GenericRequest request, final String text) {
+    // Behind the 'Stache
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("and knock over")) {
+      Preferences.setBoolean("candyCaneSwordCopperheadClub", true);
+    }
+  }
+
+  private static void visitChoice871(final GenericRequest request, final String text) {
+    {
+      // inspecting Motorbike
+      Matcher matcher = MOTORBIKE_TIRES_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("peteMotorbikeTires", matcher.group(1).trim());
+      }
+      matcher = MOTORBIKE_GASTANK_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("peteMotorbikeGasTank", matcher.group(1).trim());
+        if (Preferences.getString("peteMotorbikeGasTank").equals("Large Capacity Tank")) {
+          KoLCharacter.setDesertBeachAvailable();
+        } else if (Preferences.getString("peteMotorbikeGasTank").equals("Extra-Buoyant Tank")) {
+          Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
         }
       }
-
-      case 876 -> {
-        // One Simple Nightstand
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("_candyCaneSwordHauntedBedroom", true);
-        }
+      matcher = MOTORBIKE_HEADLIGHT_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("peteMotorbikeHeadlight", matcher.group(1).trim());
       }
-
-      case 888 -> {
-        // Take a Look, it's in a Book! (Rise)
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Sword Canes")) {
-          Preferences.setBoolean("_candyCaneSwordHauntedLibrary", true);
-        }
+      matcher = MOTORBIKE_COWLING_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("peteMotorbikeCowling", matcher.group(1).trim());
       }
-
-      case 890, // Lights Out in the Storage Room
-          891, // Lights Out in the Laundry Room
-          892, // Lights Out in the Bathroom
-          893, // Lights Out in the Kitchen
-          894, // Lights Out in the Library
-          895, // Lights Out in the Ballroom
-          896, // Lights Out in the Gallery
-          897, // Lights Out in the Bedroom
-          898, // Lights Out in the Nursery
-          899, // Lights Out in the Conservatory
-          900, // Lights Out in the Billiards Room
-          901, // Lights Out in the Wine Cellar
-          902, // Lights Out in the Boiler Room
-          903 -> { // Lights Out in the Laboratory
-        // Remove the counter if it exists so a new one can be made
-        // as soon as the next adventure is started
-        TurnCounter.stopCounting("Spookyraven Lights Out");
-        Preferences.setInteger("lastLightsOutTurn", KoLCharacter.getTurnsPlayed());
-      }
-
-      case 923 -> {
-        // All Over the Map
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("candyCaneSwordBlackForest", true);
-        }
+      matcher = MOTORBIKE_MUFFLER_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("peteMotorbikeMuffler", matcher.group(1).trim());
       }
-
-      case 930 -> {
-        // Another Errand I Mean Quest
-
-        // Upon turning in the White Citadel Satisfaction Satchel, "paco" takes
-        // it and gives us a lucky rabbit's foot. No further choice processing.
-        if (text.contains("<b>lucky rabbit's foot</b>")) {
-          ResultProcessor.processItem(ItemPool.CITADEL_SATCHEL, -1);
-          QuestDatabase.setQuestProgress(Quest.CITADEL, QuestDatabase.FINISHED);
-        }
+      matcher = MOTORBIKE_SEAT_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("peteMotorbikeSeat", matcher.group(1).trim());
       }
+    }
+  }
 
-      case 984 -> {
-        if (!text.contains("Awaiting mission")) {
+  private static void visitChoice876(final GenericRequest request, final String text) {
+    // One Simple Nightstand
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("_candyCaneSwordHauntedBedroom", true);
+    }
+  }
 
-          Matcher staticMatcher = RADIO_STATIC_PATTERN.matcher(text);
+  private static void visitChoice888(final GenericRequest request, final String text) {
+    // Take a Look, it's in a Book! (Rise)
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("Sword Canes")) {
+      Preferences.setBoolean("_candyCaneSwordHauntedLibrary", true);
+    }
+  }
 
-          String snippet = ".*";
+  // Lights Out in the Storage Room
+  // Lights Out in the Laundry Room
+  // Lights Out in the Bathroom
+  // Lights Out in the Kitchen
+  // Lights Out in the Library
+  // Lights Out in the Ballroom
+  // Lights Out in the Gallery
+  // Lights Out in the Bedroom
+  // Lights Out in the Nursery
+  // Lights Out in the Conservatory
+  // Lights Out in the Billiards Room
+  // Lights Out in the Wine Cellar
+  // Lights Out in the Boiler Room
+  // Lights Out in the Laboratory
+  private static void visitChoice890(final GenericRequest request, final String text) {
+    // Remove the counter if it exists so a new one can be made
+    // as soon as the next adventure is started
+    TurnCounter.stopCounting("Spookyraven Lights Out");
+    Preferences.setInteger("lastLightsOutTurn", KoLCharacter.getTurnsPlayed());
+  }
 
-          while (staticMatcher.find()) {
-            String section = staticMatcher.group(1);
+  private static void visitChoice923(final GenericRequest request, final String text) {
+    // All Over the Map
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("candyCaneSwordBlackForest", true);
+    }
+  }
 
-            if (section.contains("You turn the biggest knob on the radio")) {
-              continue;
-            }
+  private static void visitChoice930(final GenericRequest request, final String text) {
+    // Another Errand I Mean Quest
 
-            for (String part : section.split("&lt;.*?&gt;")) {
-              if (part.startsWith("&lt;") || part.length() < 3) {
-                continue;
-              }
+    // Upon turning in the White Citadel Satisfaction Satchel, "paco" takes
+    // it and gives us a lucky rabbit's foot. No further choice processing.
+    if (text.contains("<b>lucky rabbit's foot</b>")) {
+      ResultProcessor.processItem(ItemPool.CITADEL_SATCHEL, -1);
+      QuestDatabase.setQuestProgress(Quest.CITADEL, QuestDatabase.FINISHED);
+    }
+  }
 
-              part = part.replaceAll("\\.* *$", "");
-              part = part.replace("  ", " ");
-              snippet += Pattern.quote(part) + ".*";
-            }
-          }
+  private static void visitChoice984(final GenericRequest request, final String text) {
+    if (!text.contains("Awaiting mission")) {
 
-          Iterator<Entry<Quest, String>> iterator = conspiracyQuestMessages.entrySet().iterator();
+      Matcher staticMatcher = RADIO_STATIC_PATTERN.matcher(text);
 
-          Quest todaysQuest = null;
+      String snippet = ".*";
 
-          while (iterator.hasNext()) {
-            Map.Entry<Quest, String> entry = iterator.next();
+      while (staticMatcher.find()) {
+        String section = staticMatcher.group(1);
 
-            if (Pattern.matches(snippet, entry.getValue())) {
-              if (todaysQuest == null) {
-                todaysQuest = entry.getKey();
-              } else {
-                // Multiple matches
-                todaysQuest = null;
-                break;
-              }
-            }
-          }
+        if (section.contains("You turn the biggest knob on the radio")) {
+          continue;
+        }
 
-          if (todaysQuest != null) {
-            Preferences.setString("_questESp", todaysQuest.getPref());
+        for (String part : section.split("&lt;.*?&gt;")) {
+          if (part.startsWith("&lt;") || part.length() < 3) {
+            continue;
           }
-        }
-      }
 
-      case 986 -> {
-        // Control Panel
-        Preferences.setBoolean(
-            "controlPanel1", !text.contains("All-Ranchero FM station: VOLUNTARY"));
-        Preferences.setBoolean(
-            "controlPanel2", !text.contains("&pi; sleep-hypnosis generators: OFF"));
-        Preferences.setBoolean(
-            "controlPanel3", !text.contains("Simian Ludovico Wednesdays: CANCELLED"));
-        Preferences.setBoolean(
-            "controlPanel4", !text.contains("Monkey food safety protocols: OBEYED"));
-        Preferences.setBoolean("controlPanel5", !text.contains("Shampoo Dispensers: CHILD-SAFE"));
-        Preferences.setBoolean("controlPanel6", !text.contains("Assemble-a-Bear kiosks: CLOSED"));
-        Preferences.setBoolean("controlPanel7", !text.contains("Training algorithm: ROUND ROBIN"));
-        Preferences.setBoolean(
-            "controlPanel8", !text.contains("Re-enactment supply closet: LOCKED"));
-        Preferences.setBoolean("controlPanel9", !text.contains("Thermostat setting: 76 DEGREES"));
-        Matcher omegaMatcher = OMEGA_PATTERN.matcher(text);
-        if (omegaMatcher.find()) {
-          Preferences.setInteger(
-              "controlPanelOmega", StringUtilities.parseInt(omegaMatcher.group(1)));
-        }
-        if (text.contains("Omega device activated")) {
-          Preferences.setInteger("controlPanelOmega", 0);
-          QuestDatabase.setQuestProgress(Quest.EVE, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.FAKE_MEDIUM, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.SERUM, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.SMOKES, QuestDatabase.UNSTARTED);
-          QuestDatabase.setQuestProgress(Quest.OUT_OF_ORDER, QuestDatabase.UNSTARTED);
+          part = part.replaceAll("\\.* *$", "");
+          part = part.replace("  ", " ");
+          snippet += Pattern.quote(part) + ".*";
         }
       }
 
-      case 1002 -> {
-        // Legend of the Temple in the Hidden City
-        Preferences.setInteger("zigguratLianas", 1);
-      }
+      Iterator<Entry<Quest, String>> iterator = conspiracyQuestMessages.entrySet().iterator();
 
-      case 1003 -> {
-        // Test Your Might And Also Test Other Things
-        SorceressLairManager.parseContestBooth(0, text);
-      }
+      Quest todaysQuest = null;
 
-      case 1005, // 'Allo
-          1006, // One Small Step For Adventurer
-          1007, // Twisty Little Passages, All Hedge
-          1008, // Pooling Your Resources
-          1009, // Good Ol' 44% Duck
-          1010, // Another Day, Another Fork
-          1011, // Of Mouseholes and Manholes
-          1012, // The Last Temptation
-          1013 -> { // Mazel Tov!
-        SorceressLairManager.visitChoice(ChoiceManager.lastChoice, text);
-      }
+      while (iterator.hasNext()) {
+        Map.Entry<Quest, String> entry = iterator.next();
 
-      case 1023, 1024 -> {
-        {
-          // Like a Bat into Hell
-          // Like a Bat out of Hell
-          Matcher matcher = ED_RETURN_PATTERN.matcher(text);
-          if (matcher.find()) {
-            int cost = StringUtilities.parseInt(matcher.group(1));
-            int defeats = 3 + (int) (Math.log(cost) / Math.log(2));
-            Preferences.setInteger("_edDefeats", defeats);
+        if (Pattern.matches(snippet, entry.getValue())) {
+          if (todaysQuest == null) {
+            todaysQuest = entry.getKey();
+          } else {
+            // Multiple matches
+            todaysQuest = null;
+            break;
           }
         }
       }
 
-      case 1025 -> {
-        {
-          // Reconfigure your Mini-Crimbot
-          Matcher matcher = CRIMBOT_CHASSIS_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("crimbotChassis", matcher.group(1));
-          }
-          matcher = CRIMBOT_ARM_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("crimbotArm", matcher.group(1));
-          }
-          matcher = CRIMBOT_PROPULSION_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("crimbotPropulsion", matcher.group(1));
-          }
-        }
+      if (todaysQuest != null) {
+        Preferences.setString("_questESp", todaysQuest.getPref());
       }
+    }
+  }
 
-      case 1049 -> { // Tomb of the Unknown Your Class Here
-        if (text.contains("The Epic Weapon's yours")) {
-          QuestDatabase.setQuestProgress(Quest.NEMESIS, "step3");
-        }
-      }
+  private static void visitChoice986(final GenericRequest request, final String text) {
+    // Control Panel
+    Preferences.setBoolean("controlPanel1", !text.contains("All-Ranchero FM station: VOLUNTARY"));
+    Preferences.setBoolean("controlPanel2", !text.contains("&pi; sleep-hypnosis generators: OFF"));
+    Preferences.setBoolean(
+        "controlPanel3", !text.contains("Simian Ludovico Wednesdays: CANCELLED"));
+    Preferences.setBoolean("controlPanel4", !text.contains("Monkey food safety protocols: OBEYED"));
+    Preferences.setBoolean("controlPanel5", !text.contains("Shampoo Dispensers: CHILD-SAFE"));
+    Preferences.setBoolean("controlPanel6", !text.contains("Assemble-a-Bear kiosks: CLOSED"));
+    Preferences.setBoolean("controlPanel7", !text.contains("Training algorithm: ROUND ROBIN"));
+    Preferences.setBoolean("controlPanel8", !text.contains("Re-enactment supply closet: LOCKED"));
+    Preferences.setBoolean("controlPanel9", !text.contains("Thermostat setting: 76 DEGREES"));
+    Matcher omegaMatcher = OMEGA_PATTERN.matcher(text);
+    if (omegaMatcher.find()) {
+      Preferences.setInteger("controlPanelOmega", StringUtilities.parseInt(omegaMatcher.group(1)));
+    }
+    if (text.contains("Omega device activated")) {
+      Preferences.setInteger("controlPanelOmega", 0);
+      QuestDatabase.setQuestProgress(Quest.EVE, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.FAKE_MEDIUM, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.SERUM, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.SMOKES, QuestDatabase.UNSTARTED);
+      QuestDatabase.setQuestProgress(Quest.OUT_OF_ORDER, QuestDatabase.UNSTARTED);
+    }
+  }
 
-      case 1051 -> { // The Book of the Undying
-        EdBaseRequest.inspectBook(text);
-      }
+  private static void visitChoice1002(final GenericRequest request, final String text) {
+    // Legend of the Temple in the Hidden City
+    Preferences.setInteger("zigguratLianas", 1);
+  }
 
-      case 1053 -> { // The Servants' Quarters
-        EdBaseRequest.inspectServants(text);
-        EdServantData.inspectServants(text);
-      }
+  private static void visitChoice1003(final GenericRequest request, final String text) {
+    // Test Your Might And Also Test Other Things
+    SorceressLairManager.parseContestBooth(0, text);
+  }
 
-      case 1062 -> {
-        // Lots of Options
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("_candyCaneSwordOvergrownLot", true);
-        }
-      }
+  // 'Allo
+  // One Small Step For Adventurer
+  // Twisty Little Passages, All Hedge
+  // Pooling Your Resources
+  // Good Ol' 44% Duck
+  // Another Day, Another Fork
+  // Of Mouseholes and Manholes
+  // The Last Temptation
+  // Mazel Tov!
+  private static void visitChoice1005(final GenericRequest request, final String text) {
+    SorceressLairManager.visitChoice(ChoiceManager.lastChoice, text);
+  }
 
-      case 1063 -> {
-        {
-          // Adjust your 'Edpiece
-          Matcher matcher = EDPIECE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("edPiece", matcher.group(1).trim());
-          }
-        }
+  private static void visitChoice1023(final GenericRequest request, final String text) {
+    {
+      // Like a Bat into Hell
+      // Like a Bat out of Hell
+      Matcher matcher = ED_RETURN_PATTERN.matcher(text);
+      if (matcher.find()) {
+        int cost = StringUtilities.parseInt(matcher.group(1));
+        int defeats = 3 + (int) (Math.log(cost) / Math.log(2));
+        Preferences.setInteger("_edDefeats", defeats);
       }
+    }
+  }
 
-      case 1068 -> {
-        {
-          // Barf Mountain Breakdown
-          Matcher matcher = DINSEY_ROLLERCOASTER_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("dinseyRollercoasterStats", matcher.group(1).trim());
-          }
-          Preferences.setBoolean(
-              "dinseyRapidPassEnabled", text.contains("Disable Rapid-Pass System"));
-        }
+  private static void visitChoice1025(final GenericRequest request, final String text) {
+    {
+      // Reconfigure your Mini-Crimbot
+      Matcher matcher = CRIMBOT_CHASSIS_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("crimbotChassis", matcher.group(1));
       }
-
-      case 1069 -> {
-        {
-          // The Pirate Bay
-          Matcher matcher = DINSEY_PIRATE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setBoolean("dinseyGarbagePirate", (matcher.group(1).equals("lit")));
-          }
-        }
+      matcher = CRIMBOT_ARM_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("crimbotArm", matcher.group(1));
       }
-
-      case 1070 -> {
-        {
-          // In Your Cups
-          Matcher matcher = DINSEY_TEACUP_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("dinseyToxicMultiplier", matcher.group(1).trim());
-          }
-          Preferences.setBoolean(
-              "dinseySafetyProtocolsLoose", text.contains("protocols seem pretty loose"));
-        }
+      matcher = CRIMBOT_PROPULSION_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("crimbotPropulsion", matcher.group(1));
       }
+    }
+  }
 
-      case 1071 -> {
-        {
-          // Gator Gamer
-          Matcher matcher = DINSEY_SLUICE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("dinseyGatorStenchDamage", matcher.group(1).trim());
-          }
-          Preferences.setBoolean("dinseyAudienceEngagement", text.contains("High Engagement Mode"));
-        }
-      }
+  // Tomb of the Unknown Your Class Here
+  private static void visitChoice1049(final GenericRequest request, final String text) {
+    if (text.contains("The Epic Weapon's yours")) {
+      QuestDatabase.setQuestProgress(Quest.NEMESIS, "step3");
+    }
+  }
 
-      case 1075 -> {
-        {
-          // Mmmmmmayonnaise
-          TurnCounter.stopCounting("Mmmmmmayonnaise window begin");
-          TurnCounter.stopCounting("Mmmmmmayonnaise window end");
-        }
-      }
+  // The Book of the Undying
+  private static void visitChoice1051(final GenericRequest request, final String text) {
+    EdBaseRequest.inspectBook(text);
+  }
 
-      case 1076 -> {
-        {
-          // Mayo Minder&trade;
-          Matcher matcher = MAYO_MINDER_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("mayoMinderSetting", matcher.group(1).trim());
-          } else {
-            Preferences.setString("mayoMinderSetting", "");
-          }
-        }
-      }
+  // The Servants' Quarters
+  private static void visitChoice1053(final GenericRequest request, final String text) {
+    EdBaseRequest.inspectServants(text);
+    EdServantData.inspectServants(text);
+  }
 
-      case 1080 -> {
-        // Bagelmat-5000
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
-          Preferences.setBoolean("_candyCaneSwordMadnessBakery", true);
-        }
-      }
+  private static void visitChoice1062(final GenericRequest request, final String text) {
+    // Lots of Options
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("_candyCaneSwordOvergrownLot", true);
+    }
+  }
 
-      case 1087 -> {
-        // The Dark and Dank and Sinister Cave Entrance
-        QuestDatabase.setQuestIfBetter(Quest.NEMESIS, "step11");
+  private static void visitChoice1063(final GenericRequest request, final String text) {
+    {
+      // Adjust your 'Edpiece
+      Matcher matcher = EDPIECE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("edPiece", matcher.group(1).trim());
       }
+    }
+  }
 
-      case 1088 -> {
-        // Rubble, Rubble, Toil and Trouble
-        QuestDatabase.setQuestIfBetter(Quest.NEMESIS, "step13");
+  private static void visitChoice1068(final GenericRequest request, final String text) {
+    {
+      // Barf Mountain Breakdown
+      Matcher matcher = DINSEY_ROLLERCOASTER_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("dinseyRollercoasterStats", matcher.group(1).trim());
       }
+      Preferences.setBoolean("dinseyRapidPassEnabled", text.contains("Disable Rapid-Pass System"));
+    }
+  }
 
-      case 1093 -> {
-        {
-          // The WLF Bunker
-
-          // There is no choice if this happens, but we recognise title in visitChoice()
-          // You enter the bunker, but the speaker is silent. You've already done your day's work,
-          // soldier!
-          if (text.contains("the speaker is silent")) {
-            Preferences.setBoolean("_volcanoItemRedeemed", true);
-            Preferences.setInteger("_volcanoItem1", 0);
-            Preferences.setInteger("_volcanoItem2", 0);
-            Preferences.setInteger("_volcanoItem3", 0);
-            Preferences.setInteger("_volcanoItemCount1", 0);
-            Preferences.setInteger("_volcanoItemCount2", 0);
-            Preferences.setInteger("_volcanoItemCount3", 0);
-          } else {
-            // On the other hand, if there IS a choice on the page,
-            // it will be whichchoice=1093 asking to redeem items
-
-            Preferences.setBoolean("_volcanoItemRedeemed", false);
-
-            Matcher matcher = WLF_PATTERN.matcher(text);
-            while (matcher.find()) {
-              // String challenge = matcher.group( 1 );
-              String descid = matcher.group(2);
-              int itemId = ItemDatabase.getItemIdFromDescription(descid);
-              if (itemId != -1) {
-                String itemName = matcher.group(3).trim();
-                Matcher countMatcher = WLF_COUNT_PATTERN.matcher(itemName);
-                int count =
-                    countMatcher.find() ? StringUtilities.parseInt(countMatcher.group(1)) : 1;
-                String index = matcher.group(4);
-                Preferences.setInteger("_volcanoItem" + index, itemId);
-                Preferences.setInteger("_volcanoItemCount" + index, count);
-              }
-            }
-          }
-        }
+  private static void visitChoice1069(final GenericRequest request, final String text) {
+    {
+      // The Pirate Bay
+      Matcher matcher = DINSEY_PIRATE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setBoolean("dinseyGarbagePirate", (matcher.group(1).equals("lit")));
       }
+    }
+  }
 
-      case 1100 -> {
-        // Pray to the Barrel God
-        if (text.contains("You already prayed to the Barrel god today")) {
-          Preferences.setBoolean("_barrelPrayer", true);
-        } else {
-          if (!text.contains("barrel lid shield")) {
-            Preferences.setBoolean("prayedForProtection", true);
-          }
-          if (!text.contains("barrel hoop earring")) {
-            Preferences.setBoolean("prayedForGlamour", true);
-          }
-          if (!text.contains("bankruptcy barrel")) {
-            Preferences.setBoolean("prayedForVigor", true);
-          }
-        }
+  private static void visitChoice1070(final GenericRequest request, final String text) {
+    {
+      // In Your Cups
+      Matcher matcher = DINSEY_TEACUP_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("dinseyToxicMultiplier", matcher.group(1).trim());
       }
+      Preferences.setBoolean(
+          "dinseySafetyProtocolsLoose", text.contains("protocols seem pretty loose"));
+    }
+  }
 
-      case 1110 -> {
-        // Spoopy
-        Preferences.setBoolean("doghouseBoarded", !text.contains("Board up the doghouse"));
+  private static void visitChoice1071(final GenericRequest request, final String text) {
+    {
+      // Gator Gamer
+      Matcher matcher = DINSEY_SLUICE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("dinseyGatorStenchDamage", matcher.group(1).trim());
       }
+      Preferences.setBoolean("dinseyAudienceEngagement", text.contains("High Engagement Mode"));
+    }
+  }
 
-      case 1118 -> {
-        {
-          // X-32-F Combat Training Snowman Control Console
-          Matcher matcher = SNOJO_CONSOLE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("snojoSetting", matcher.group(1).trim());
-          } else {
-            Preferences.setString("snojoSetting", "");
-          }
-        }
-      }
+  private static void visitChoice1075(final GenericRequest request, final String text) {
+    {
+      // Mmmmmmayonnaise
+      TurnCounter.stopCounting("Mmmmmmayonnaise window begin");
+      TurnCounter.stopCounting("Mmmmmmayonnaise window end");
+    }
+  }
 
-      case 1181 -> {
-        // Witchess Set
-        if (!text.contains("Examine the shrink ray")) {
-          Preferences.setInteger("_witchessFights", 5);
-        }
+  private static void visitChoice1076(final GenericRequest request, final String text) {
+    {
+      // Mayo Minder&trade;
+      Matcher matcher = MAYO_MINDER_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("mayoMinderSetting", matcher.group(1).trim());
+      } else {
+        Preferences.setString("mayoMinderSetting", "");
       }
+    }
+  }
 
-      case 1188 -> {
-        {
-          // The Call is Coming from Outside the Simulation
-          Matcher matcher = ENLIGHTENMENT_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger(
-                "sourceEnlightenment", StringUtilities.parseInt(matcher.group(1)));
+  private static void visitChoice1080(final GenericRequest request, final String text) {
+    // Bagelmat-5000
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD) && !text.contains("candy cane sword")) {
+      Preferences.setBoolean("_candyCaneSwordMadnessBakery", true);
+    }
+  }
+
+  private static void visitChoice1087(final GenericRequest request, final String text) {
+    // The Dark and Dank and Sinister Cave Entrance
+    QuestDatabase.setQuestIfBetter(Quest.NEMESIS, "step11");
+  }
+
+  private static void visitChoice1088(final GenericRequest request, final String text) {
+    // Rubble, Rubble, Toil and Trouble
+    QuestDatabase.setQuestIfBetter(Quest.NEMESIS, "step13");
+  }
+
+  private static void visitChoice1093(final GenericRequest request, final String text) {
+    {
+      // The WLF Bunker
+
+      // There is no choice if this happens, but we recognise title in visitChoice()
+      // You enter the bunker, but the speaker is silent. You've already done your day's work,
+      // soldier!
+      if (text.contains("the speaker is silent")) {
+        Preferences.setBoolean("_volcanoItemRedeemed", true);
+        Preferences.setInteger("_volcanoItem1", 0);
+        Preferences.setInteger("_volcanoItem2", 0);
+        Preferences.setInteger("_volcanoItem3", 0);
+        Preferences.setInteger("_volcanoItemCount1", 0);
+        Preferences.setInteger("_volcanoItemCount2", 0);
+        Preferences.setInteger("_volcanoItemCount3", 0);
+      } else {
+        // On the other hand, if there IS a choice on the page,
+        // it will be whichchoice=1093 asking to redeem items
+
+        Preferences.setBoolean("_volcanoItemRedeemed", false);
+
+        Matcher matcher = WLF_PATTERN.matcher(text);
+        while (matcher.find()) {
+          // String challenge = matcher.group( 1 );
+          String descid = matcher.group(2);
+          int itemId = ItemDatabase.getItemIdFromDescription(descid);
+          if (itemId != -1) {
+            String itemName = matcher.group(3).trim();
+            Matcher countMatcher = WLF_COUNT_PATTERN.matcher(itemName);
+            int count = countMatcher.find() ? StringUtilities.parseInt(countMatcher.group(1)) : 1;
+            String index = matcher.group(4);
+            Preferences.setInteger("_volcanoItem" + index, itemId);
+            Preferences.setInteger("_volcanoItemCount" + index, count);
           }
         }
       }
+    }
+  }
 
-      case 1191 -> {
-        // Source Terminal
-        request.setHasResult(false);
+  private static void visitChoice1100(final GenericRequest request, final String text) {
+    // Pray to the Barrel God
+    if (text.contains("You already prayed to the Barrel god today")) {
+      Preferences.setBoolean("_barrelPrayer", true);
+    } else {
+      if (!text.contains("barrel lid shield")) {
+        Preferences.setBoolean("prayedForProtection", true);
       }
-
-      case 1193 -> {
-        {
-          // The Precinct
-          Matcher matcher = CASE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger(
-                "_detectiveCasesCompleted", 3 - StringUtilities.parseInt(matcher.group(1)));
-          }
-        }
+      if (!text.contains("barrel hoop earring")) {
+        Preferences.setBoolean("prayedForGlamour", true);
       }
+      if (!text.contains("bankruptcy barrel")) {
+        Preferences.setBoolean("prayedForVigor", true);
+      }
+    }
+  }
 
-      case 1195 -> {
-        {
-          // Spinning Your Time-Spinner
-          Matcher matcher = TIME_SPINNER_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger(
-                "_timeSpinnerMinutesUsed", 10 - StringUtilities.parseInt(matcher.group(1)));
-          }
-        }
+  private static void visitChoice1110(final GenericRequest request, final String text) {
+    // Spoopy
+    Preferences.setBoolean("doghouseBoarded", !text.contains("Board up the doghouse"));
+  }
+
+  private static void visitChoice1118(final GenericRequest request, final String text) {
+    {
+      // X-32-F Combat Training Snowman Control Console
+      Matcher matcher = SNOJO_CONSOLE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("snojoSetting", matcher.group(1).trim());
+      } else {
+        Preferences.setString("snojoSetting", "");
       }
+    }
+  }
 
-      case 1202, // Noon in the Civic Center
-          1203, // Midnight in Civic Center
-          1204, // Noon at the Train Station
-          1205, // Midnight at the Train Station
-          1206, // Noon in the Industrial Zone
-          1207, // Midnight in the Industrial Zone
-          1208, // Upscale Noon
-          1209 -> { // Upscale Midnight
-        {
-          Preferences.increment("_gingerbreadCityTurns");
-        }
+  private static void visitChoice1181(final GenericRequest request, final String text) {
+    // Witchess Set
+    if (!text.contains("Examine the shrink ray")) {
+      Preferences.setInteger("_witchessFights", 5);
+    }
+  }
+
+  private static void visitChoice1188(final GenericRequest request, final String text) {
+    {
+      // The Call is Coming from Outside the Simulation
+      Matcher matcher = ENLIGHTENMENT_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger("sourceEnlightenment", StringUtilities.parseInt(matcher.group(1)));
       }
+    }
+  }
 
-      case 1229 -> {
-        {
-          // L.O.V. Exit
+  private static void visitChoice1191(final GenericRequest request, final String text) {
+    // Source Terminal
+    request.setHasResult(false);
+  }
 
-          // As you are about to leave the station, you notice a
-          // data entry pad and a sign above it that says <WORD>.
-          // Huh, that's odd.
+  private static void visitChoice1193(final GenericRequest request, final String text) {
+    {
+      // The Precinct
+      Matcher matcher = CASE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger(
+            "_detectiveCasesCompleted", 3 - StringUtilities.parseInt(matcher.group(1)));
+      }
+    }
+  }
 
-          Matcher matcher = LOV_EXIT_PATTERN.matcher(text);
-          if (matcher.find()) {
-            String message = "L.O.V. Exit word: " + matcher.group(1);
-            RequestLogger.printLine(message);
-            RequestLogger.updateSessionLog(message);
-          }
-        }
+  private static void visitChoice1195(final GenericRequest request, final String text) {
+    {
+      // Spinning Your Time-Spinner
+      Matcher matcher = TIME_SPINNER_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger(
+            "_timeSpinnerMinutesUsed", 10 - StringUtilities.parseInt(matcher.group(1)));
       }
+    }
+  }
 
-      case 1234 -> {
-        {
-          // Spacegate Vaccinator
+  // Noon in the Civic Center
+  // Midnight in Civic Center
+  // Noon at the Train Station
+  // Midnight at the Train Station
+  // Noon in the Industrial Zone
+  // Midnight in the Industrial Zone
+  // Upscale Noon
+  // Upscale Midnight
+  private static void visitChoice1202(final GenericRequest request, final String text) {
+    {
+      Preferences.increment("_gingerbreadCityTurns");
+    }
+  }
 
-          Matcher matcher = VACCINE_PATTERN.matcher(text);
+  private static void visitChoice1229(final GenericRequest request, final String text) {
+    {
+      // L.O.V. Exit
 
-          while (matcher.find()) {
-            String setting = "spacegateVaccine" + matcher.group(1);
-            String button = matcher.group(2);
-            if (button.startsWith("Select Vaccine")) {
-              Preferences.setBoolean(setting, true);
-            } else if (button.startsWith("Unlock Vaccine")) {
-              Preferences.setBoolean(setting, false);
-            }
-          }
-        }
-      }
+      // As you are about to leave the station, you notice a
+      // data entry pad and a sign above it that says <WORD>.
+      // Huh, that's odd.
 
-      case 1259 -> { // LI-11 HQ
-        if (text.contains("LI-11 HQ")) {
-          Pattern capitalPattern = Pattern.compile("<td><b>(.*?)</b>(.*?)</td></tr>");
-          boolean bondAdv = false,
-              bondWpn = false,
-              bondInit = false,
-              bondDR = false,
-              bondHP = false,
-              bondItem2 = false,
-              bondStat = false,
-              bondDrunk1 = false,
-              bondBooze = false,
-              bondSymbols = false,
-              bondDrunk2 = false,
-              bondJetpack = false,
-              bondMartiniTurn = false,
-              bondMeat = false,
-              bondItem1 = false,
-              bondMus1 = false,
-              bondMys1 = false,
-              bondMox1 = false,
-              bondBeach = false,
-              bondBeat = false,
-              bondMartiniDelivery = false,
-              bondMus2 = false,
-              bondMys2 = false,
-              bondMox2 = false,
-              bondStealth = false,
-              bondMartiniPlus = false,
-              bondBridge = false,
-              bondWar = false,
-              bondMPregen = false,
-              bondWeapon2 = false,
-              bondItem3 = false,
-              bondStealth2 = false,
-              bondSpleen = false,
-              bondStat2 = false,
-              bondDesert = false,
-              bondHoney = false;
-          Matcher matcher = capitalPattern.matcher(text);
-          while (matcher.find()) {
-            if (matcher.group(2).contains("Active") || matcher.group(2).contains("Connected")) {
-              switch (matcher.group(1)) {
-                case "Super-Accurate Spy Watch" -> bondAdv = true;
-                case "Razor-Sharp Tie" -> bondWpn = true;
-                case "Jet-Powered Skis" -> bondInit = true;
-                case "Kevlar-Lined Pants" -> bondDR = true;
-                case "Injected Nanobots" -> bondHP = true;
-                case "Sticky Climbing Gloves" -> bondItem2 = true;
-                case "Retinal Knowledge HUD" -> bondStat = true;
-                case "Belt-Implanted Still" -> bondDrunk1 = true;
-                case "Alcohol Absorbent Underwear" -> bondBooze = true;
-                case "Universal Symbology Guide" -> bondSymbols = true;
-                case "Soberness Injection Pen" -> bondDrunk2 = true;
-                case "Short-Range Jetpack" -> bondJetpack = true;
-                case "Invisible Meat Car, the Vanish" -> bondStealth = true;
-                case "Portable Pocket Bridge" -> bondBridge = true;
-                case "Static-Inducing, Bug-Shorting Underpants" -> bondMPregen = true;
-                case "Exotic Bartender, Barry L. Eagle" -> bondMartiniTurn = true;
-                case "Renowned Meat Thief, Ivanna Cuddle" -> bondMeat = true;
-                case "Master Art Thief, Sly Richard" -> bondItem1 = true;
-                case "Personal Trainer, Debbie Dallas" -> bondMus1 = true;
-                case "Rocket Scientist, Crimbo Jones" -> bondMys1 = true;
-                case "Licensed Masseur, Oliver Closehoff" -> bondMox1 = true;
-                case "Professional Cabbie, Rock Hardy" -> bondBeach = true;
-                case "Fellow Spy, Daisy Duke" -> bondBeat = true;
-                case "Fellow Spy, Prince O'Toole" -> bondMartiniDelivery = true;
-                case "Personal Kinesiologist, Doctor Kittie" -> bondMus2 = true;
-                case "Computer Hacker, Mitt Jobs" -> bondMys2 = true;
-                case "Spa Owner, Fatima Jiggles" -> bondMox2 = true;
-                case "Exotic Olive Procurer, Ben Dover" -> bondMartiniPlus = true;
-                case "Trained Sniper, Felicity Snuggles" -> bondWar = true;
-                case "Martial Arts Trainer, Jaques Trappe" -> bondWeapon2 = true;
-                case "Electromagnetic Ring" -> bondItem3 = true;
-                case "Robo-Spleen" -> bondSpleen = true;
-                case "Universal GPS" -> bondDesert = true;
-                case "Mission Controller, Maeby Moneypenny" -> bondStealth2 = true;
-                case "Sage Advisor, London McBrittishman" -> bondStat2 = true;
-                case "True Love, Honey Potts" -> bondHoney = true;
-              }
-            }
-          }
-          Preferences.setBoolean("bondAdv", bondAdv);
-          Preferences.setBoolean("bondWpn", bondWpn);
-          Preferences.setBoolean("bondInit", bondInit);
-          Preferences.setBoolean("bondDA", bondDR);
-          Preferences.setBoolean("bondHP", bondHP);
-          Preferences.setBoolean("bondItem2", bondItem2);
-          Preferences.setBoolean("bondStat", bondStat);
-          Preferences.setBoolean("bondDrunk1", bondDrunk1);
-          Preferences.setBoolean("bondBooze", bondBooze);
-          Preferences.setBoolean("bondSymbols", bondSymbols);
-          Preferences.setBoolean("bondDrunk2", bondDrunk2);
-          Preferences.setBoolean("bondJetpack", bondJetpack);
-          Preferences.setBoolean("bondStealth", bondStealth);
-          Preferences.setBoolean("bondMartiniTurn", bondMartiniTurn);
-          Preferences.setBoolean("bondMeat", bondMeat);
-          Preferences.setBoolean("bondItem1", bondItem1);
-          Preferences.setBoolean("bondMus1", bondMus1);
-          Preferences.setBoolean("bondMys1", bondMys1);
-          Preferences.setBoolean("bondMox1", bondMox1);
-          Preferences.setBoolean("bondBeach", bondBeach);
-          Preferences.setBoolean("bondBeat", bondBeat);
-          Preferences.setBoolean("bondMartiniDelivery", bondMartiniDelivery);
-          Preferences.setBoolean("bondMus2", bondMus2);
-          Preferences.setBoolean("bondMys2", bondMys2);
-          Preferences.setBoolean("bondMox2", bondMox2);
-          Preferences.setBoolean("bondMartiniPlus", bondMartiniPlus);
-          Preferences.setBoolean("bondBridge", bondBridge); // need to handle when this is selected
-          Preferences.setBoolean("bondWar", bondWar);
-          Preferences.setBoolean("bondMPregen", bondMPregen);
-          Preferences.setBoolean("bondWeapon2", bondWeapon2);
-          Preferences.setBoolean("bondItem3", bondItem3);
-          Preferences.setBoolean("bondStealth2", bondStealth2);
-          Preferences.setBoolean("bondSpleen", bondSpleen);
-          Preferences.setBoolean("bondStat2", bondStat2);
-          Preferences.setBoolean("bondDesert", bondDesert); // Do something with this
-          Preferences.setBoolean("bondHoney", bondHoney);
-          if (bondBeach) {
-            KoLCharacter.setDesertBeachAvailable();
-          }
-          KoLCharacter.recalculateAdjustments();
-          KoLCharacter.updateStatus();
-        }
+      Matcher matcher = LOV_EXIT_PATTERN.matcher(text);
+      if (matcher.find()) {
+        String message = "L.O.V. Exit word: " + matcher.group(1);
+        RequestLogger.printLine(message);
+        RequestLogger.updateSessionLog(message);
       }
+    }
+  }
 
-      case 1266 -> {
-        {
-          // The Hostler
-          Preferences.setBoolean("horseryAvailable", true);
-
-          // <td valign=top class=small><b>Drab Teddy</b> the Normal Horse<P>
-          // <td valign=top class=small><b>Surreptitious Mantilla</b> the Dark Horse<P>
-          // <td valign=top class=small><b>Wacky Biggles</b> the Crazy Horse<P>
-          // <td valign=top class=small><b>Frightful Twiggy</b> the Pale Horse<P>
-
-          // Save the horse names so we can recognize them in combat
-          Pattern pattern =
-              Pattern.compile("<td valign=top class=small><b>([^<]+)</b> the ([^ ]+) Horse<P>");
-          Matcher matcher = pattern.matcher(text);
-          while (matcher.find()) {
-            String name = matcher.group(1);
-            String type = matcher.group(2);
-            String setting =
-                type.equals("Crazy")
-                    ? "_horseryCrazyName"
-                    : type.equals("Dark")
-                        ? "_horseryDarkName"
-                        : type.equals("Normal")
-                            ? "_horseryNormalName"
-                            : type.equals("Pale") ? "_horseryPaleName" : null;
-            if (setting != null) {
-              Preferences.setString(setting, name);
-            }
-          }
+  private static void visitChoice1234(final GenericRequest request, final String text) {
+    {
+      // Spacegate Vaccinator
 
-          pattern =
-              Pattern.compile(
-                  "Gives you\\s+([+-]\\d+)% Muscle, ([+-]\\d+)% Mysticality, and ([+-]\\d+)%");
-          matcher = pattern.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("_horseryCrazyMus", matcher.group(1));
-            Preferences.setString("_horseryCrazyMys", matcher.group(2));
-            Preferences.setString("_horseryCrazyMox", matcher.group(3));
-          }
+      Matcher matcher = VACCINE_PATTERN.matcher(text);
 
-          if (!text.contains("name=option value=1")) {
-            Preferences.setString("_horsery", "normal horse");
-          } else if (!text.contains("name=option value=2")) {
-            Preferences.setString("_horsery", "dark horse");
-          } else if (!text.contains("name=option value=3")) {
-            Preferences.setString("_horsery", "crazy horse");
-          } else if (!text.contains("name=option value=4")) {
-            Preferences.setString("_horsery", "pale horse");
-          } else {
-            Preferences.setString("_horsery", "");
-          }
+      while (matcher.find()) {
+        String setting = "spacegateVaccine" + matcher.group(1);
+        String button = matcher.group(2);
+        if (button.startsWith("Select Vaccine")) {
+          Preferences.setBoolean(setting, true);
+        } else if (button.startsWith("Unlock Vaccine")) {
+          Preferences.setBoolean(setting, false);
         }
       }
+    }
+  }
 
-      case 1267 -> {
-        // Rubbed it the Right Way
-        GenieRequest.visitChoice(text);
-      }
+  // LI-11 HQ
+  private static void visitChoice1259(final GenericRequest request, final String text) {
+    if (text.contains("LI-11 HQ")) {
+      Pattern capitalPattern = Pattern.compile("<td><b>(.*?)</b>(.*?)</td></tr>");
+      boolean bondAdv = false,
+          bondWpn = false,
+          bondInit = false,
+          bondDR = false,
+          bondHP = false,
+          bondItem2 = false,
+          bondStat = false,
+          bondDrunk1 = false,
+          bondBooze = false,
+          bondSymbols = false,
+          bondDrunk2 = false,
+          bondJetpack = false,
+          bondMartiniTurn = false,
+          bondMeat = false,
+          bondItem1 = false,
+          bondMus1 = false,
+          bondMys1 = false,
+          bondMox1 = false,
+          bondBeach = false,
+          bondBeat = false,
+          bondMartiniDelivery = false,
+          bondMus2 = false,
+          bondMys2 = false,
+          bondMox2 = false,
+          bondStealth = false,
+          bondMartiniPlus = false,
+          bondBridge = false,
+          bondWar = false,
+          bondMPregen = false,
+          bondWeapon2 = false,
+          bondItem3 = false,
+          bondStealth2 = false,
+          bondSpleen = false,
+          bondStat2 = false,
+          bondDesert = false,
+          bondHoney = false;
+      Matcher matcher = capitalPattern.matcher(text);
+      while (matcher.find()) {
+        if (matcher.group(2).contains("Active") || matcher.group(2).contains("Connected")) {
+          switch (matcher.group(1)) {
+            case "Super-Accurate Spy Watch" -> bondAdv = true;
+            case "Razor-Sharp Tie" -> bondWpn = true;
+            case "Jet-Powered Skis" -> bondInit = true;
+            case "Kevlar-Lined Pants" -> bondDR = true;
+            case "Injected Nanobots" -> bondHP = true;
+            case "Sticky Climbing Gloves" -> bondItem2 = true;
+            case "Retinal Knowledge HUD" -> bondStat = true;
+            case "Belt-Implanted Still" -> bondDrunk1 = true;
+            case "Alcohol Absorbent Underwear" -> bondBooze = true;
+            case "Universal Symbology Guide" -> bondSymbols = true;
+            case "Soberness Injection Pen" -> bondDrunk2 = true;
+            case "Short-Range Jetpack" -> bondJetpack = true;
+            case "Invisible Meat Car, the Vanish" -> bondStealth = true;
+            case "Portable Pocket Bridge" -> bondBridge = true;
+            case "Static-Inducing, Bug-Shorting Underpants" -> bondMPregen = true;
+            case "Exotic Bartender, Barry L. Eagle" -> bondMartiniTurn = true;
+            case "Renowned Meat Thief, Ivanna Cuddle" -> bondMeat = true;
+            case "Master Art Thief, Sly Richard" -> bondItem1 = true;
+            case "Personal Trainer, Debbie Dallas" -> bondMus1 = true;
+            case "Rocket Scientist, Crimbo Jones" -> bondMys1 = true;
+            case "Licensed Masseur, Oliver Closehoff" -> bondMox1 = true;
+            case "Professional Cabbie, Rock Hardy" -> bondBeach = true;
+            case "Fellow Spy, Daisy Duke" -> bondBeat = true;
+            case "Fellow Spy, Prince O'Toole" -> bondMartiniDelivery = true;
+            case "Personal Kinesiologist, Doctor Kittie" -> bondMus2 = true;
+            case "Computer Hacker, Mitt Jobs" -> bondMys2 = true;
+            case "Spa Owner, Fatima Jiggles" -> bondMox2 = true;
+            case "Exotic Olive Procurer, Ben Dover" -> bondMartiniPlus = true;
+            case "Trained Sniper, Felicity Snuggles" -> bondWar = true;
+            case "Martial Arts Trainer, Jaques Trappe" -> bondWeapon2 = true;
+            case "Electromagnetic Ring" -> bondItem3 = true;
+            case "Robo-Spleen" -> bondSpleen = true;
+            case "Universal GPS" -> bondDesert = true;
+            case "Mission Controller, Maeby Moneypenny" -> bondStealth2 = true;
+            case "Sage Advisor, London McBrittishman" -> bondStat2 = true;
+            case "True Love, Honey Potts" -> bondHoney = true;
+          }
+        }
+      }
+      Preferences.setBoolean("bondAdv", bondAdv);
+      Preferences.setBoolean("bondWpn", bondWpn);
+      Preferences.setBoolean("bondInit", bondInit);
+      Preferences.setBoolean("bondDA", bondDR);
+      Preferences.setBoolean("bondHP", bondHP);
+      Preferences.setBoolean("bondItem2", bondItem2);
+      Preferences.setBoolean("bondStat", bondStat);
+      Preferences.setBoolean("bondDrunk1", bondDrunk1);
+      Preferences.setBoolean("bondBooze", bondBooze);
+      Preferences.setBoolean("bondSymbols", bondSymbols);
+      Preferences.setBoolean("bondDrunk2", bondDrunk2);
+      Preferences.setBoolean("bondJetpack", bondJetpack);
+      Preferences.setBoolean("bondStealth", bondStealth);
+      Preferences.setBoolean("bondMartiniTurn", bondMartiniTurn);
+      Preferences.setBoolean("bondMeat", bondMeat);
+      Preferences.setBoolean("bondItem1", bondItem1);
+      Preferences.setBoolean("bondMus1", bondMus1);
+      Preferences.setBoolean("bondMys1", bondMys1);
+      Preferences.setBoolean("bondMox1", bondMox1);
+      Preferences.setBoolean("bondBeach", bondBeach);
+      Preferences.setBoolean("bondBeat", bondBeat);
+      Preferences.setBoolean("bondMartiniDelivery", bondMartiniDelivery);
+      Preferences.setBoolean("bondMus2", bondMus2);
+      Preferences.setBoolean("bondMys2", bondMys2);
+      Preferences.setBoolean("bondMox2", bondMox2);
+      Preferences.setBoolean("bondMartiniPlus", bondMartiniPlus);
+      Preferences.setBoolean("bondBridge", bondBridge); // need to handle when this is selected
+      Preferences.setBoolean("bondWar", bondWar);
+      Preferences.setBoolean("bondMPregen", bondMPregen);
+      Preferences.setBoolean("bondWeapon2", bondWeapon2);
+      Preferences.setBoolean("bondItem3", bondItem3);
+      Preferences.setBoolean("bondStealth2", bondStealth2);
+      Preferences.setBoolean("bondSpleen", bondSpleen);
+      Preferences.setBoolean("bondStat2", bondStat2);
+      Preferences.setBoolean("bondDesert", bondDesert); // Do something with this
+      Preferences.setBoolean("bondHoney", bondHoney);
+      if (bondBeach) {
+        KoLCharacter.setDesertBeachAvailable();
+      }
+      KoLCharacter.recalculateAdjustments();
+      KoLCharacter.updateStatus();
+    }
+  }
 
-      case 1308 -> {
-        {
-          // place.php?whichplace=monorail&action=monorail_downtown
-          //
-          // On a Downtown Train
-          //
-          // Everything you do at this location uses this choice
-          // adventure #. As you select options, you stay in the
-          // same choice, but the available options change.
-          //
-          // We must deduce what is happening by looking at the
-          // response text
+  private static void visitChoice1266(final GenericRequest request, final String text) {
+    {
+      // The Hostler
+      Preferences.setBoolean("horseryAvailable", true);
 
-          // Looks like your order for a <muffin type> muffin is not yet ready.
-          Matcher muffinMatcher = MUFFIN_TYPE_PATTERN.matcher(text);
-          if (muffinMatcher.find()) {
-            Preferences.setString("muffinOnOrder", muffinMatcher.group(1));
-          }
-          // "Sorry, you placed your order a lifetime ago, so we had to throw out the actual baked
-          // good. Here's your earthenware cookware.
-          else if (text.contains("you placed your order a lifetime ago")) {
-            Preferences.setString("muffinOnOrder", "none");
-          }
-          // You spot your order from the other day, neatly labelled on the pickup shelf.
-          else if (text.contains("You spot your order from the other day")) {
-            Preferences.setString("muffinOnOrder", "none");
-          }
-          // (If we have an earthenware muffin tin and the "order" buttons are present)
-          else if (text.contains("Order a blueberry muffin")) {
-            Preferences.setString("muffinOnOrder", "none");
-          }
+      // <td valign=top class=small><b>Drab Teddy</b> the Normal Horse<P>
+      // <td valign=top class=small><b>Surreptitious Mantilla</b> the Dark Horse<P>
+      // <td valign=top class=small><b>Wacky Biggles</b> the Crazy Horse<P>
+      // <td valign=top class=small><b>Frightful Twiggy</b> the Pale Horse<P>
+
+      // Save the horse names so we can recognize them in combat
+      Pattern pattern =
+          Pattern.compile("<td valign=top class=small><b>([^<]+)</b> the ([^ ]+) Horse<P>");
+      Matcher matcher = pattern.matcher(text);
+      while (matcher.find()) {
+        String name = matcher.group(1);
+        String type = matcher.group(2);
+        String setting =
+            type.equals("Crazy")
+                ? "_horseryCrazyName"
+                : type.equals("Dark")
+                    ? "_horseryDarkName"
+                    : type.equals("Normal")
+                        ? "_horseryNormalName"
+                        : type.equals("Pale") ? "_horseryPaleName" : null;
+        if (setting != null) {
+          Preferences.setString(setting, name);
+        }
+      }
+
+      pattern =
+          Pattern.compile(
+              "Gives you\\s+([+-]\\d+)% Muscle, ([+-]\\d+)% Mysticality, and ([+-]\\d+)%");
+      matcher = pattern.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("_horseryCrazyMus", matcher.group(1));
+        Preferences.setString("_horseryCrazyMys", matcher.group(2));
+        Preferences.setString("_horseryCrazyMox", matcher.group(3));
+      }
+
+      if (!text.contains("name=option value=1")) {
+        Preferences.setString("_horsery", "normal horse");
+      } else if (!text.contains("name=option value=2")) {
+        Preferences.setString("_horsery", "dark horse");
+      } else if (!text.contains("name=option value=3")) {
+        Preferences.setString("_horsery", "crazy horse");
+      } else if (!text.contains("name=option value=4")) {
+        Preferences.setString("_horsery", "pale horse");
+      } else {
+        Preferences.setString("_horsery", "");
+      }
+    }
+  }
+
+  private static void visitChoice1267(final GenericRequest request, final String text) {
+    // Rubbed it the Right Way
+    GenieRequest.visitChoice(text);
+  }
 
-          // "Excellent! Here's your muffin tin! Stop by any time to order a muffin!"
-          if (text.contains("Here's your muffin tin!")) {
-            ResultProcessor.processItem(ItemPool.SHOVELFUL_OF_EARTH, -10);
-            ResultProcessor.processItem(ItemPool.HUNK_OF_GRANITE, -10);
-          }
-        }
-      }
+  private static void visitChoice1308(final GenericRequest request, final String text) {
+    {
+      // place.php?whichplace=monorail&action=monorail_downtown
+      //
+      // On a Downtown Train
+      //
+      // Everything you do at this location uses this choice
+      // adventure #. As you select options, you stay in the
+      // same choice, but the available options change.
+      //
+      // We must deduce what is happening by looking at the
+      // response text
 
-      case 1309 -> {
-        // We will either now, or in the past, have had Favored By Lyle
-        Preferences.setBoolean("_lyleFavored", true);
-        if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD)) {
-          Preferences.setBoolean("_candyCaneSwordLyle", true);
-        }
+      // Looks like your order for a <muffin type> muffin is not yet ready.
+      Matcher muffinMatcher = MUFFIN_TYPE_PATTERN.matcher(text);
+      if (muffinMatcher.find()) {
+        Preferences.setString("muffinOnOrder", muffinMatcher.group(1));
       }
-
-      case 1312 -> {
-        {
-          // Choose a Soundtrack
-          Matcher matcher = BOOMBOX_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("_boomBoxSongsLeft", matcher.group(1));
-          }
-          Preferences.setString("boomBoxSong", "");
-          matcher = BOOMBOX_SONG_PATTERN.matcher(text);
-          while (matcher.find()) {
-            if (matcher.group(2) != null && matcher.group(2).contains("Keep playing")) {
-              Preferences.setString("boomBoxSong", matcher.group(1));
-            }
-          }
-        }
+      // "Sorry, you placed your order a lifetime ago, so we had to throw out the actual baked
+      // good. Here's your earthenware cookware.
+      else if (text.contains("you placed your order a lifetime ago")) {
+        Preferences.setString("muffinOnOrder", "none");
       }
-
-      case 1313, // Bastille Battalion
-          1314, // Bastille Battalion (Master of None)
-          1315, // Castle vs. Castle
-          1316, // GAME OVER
-          1317, // A Hello to Arms (Battalion)
-          1318, // Defensive Posturing
-          1319 -> { // Cheese Seeking Behavior
-        BastilleBattalionManager.visitChoice(request);
-      }
-
-      case 1322 -> {
-        // The Beginning of the Neverend
-        if (text.contains("talk to him and help him get more booze")) {
-          Preferences.setString("_questPartyFairQuest", "booze");
-        } else if (text.contains("Think you can help me clean the place up?")) {
-          Preferences.setString("_questPartyFairQuest", "trash");
-        } else if (text.contains(
-            "helping her with whatever problem she's having with the snacks")) {
-          Preferences.setString("_questPartyFairQuest", "food");
-        } else if (text.contains("megawoots right now")) {
-          Preferences.setString("_questPartyFairQuest", "woots");
-        } else if (text.contains("taking up a collection from the guests")) {
-          Preferences.setString("_questPartyFairQuest", "dj");
-        } else if (text.contains("all of the people to leave")) {
-          Preferences.setString("_questPartyFairQuest", "partiers");
-        }
+      // You spot your order from the other day, neatly labelled on the pickup shelf.
+      else if (text.contains("You spot your order from the other day")) {
+        Preferences.setString("muffinOnOrder", "none");
       }
-
-      case 1324 -> {
-        // It Hasn't Ended, It's Just Paused
-        Preferences.setInteger("encountersUntilNEPChoice", 7);
+      // (If we have an earthenware muffin tin and the "order" buttons are present)
+      else if (text.contains("Order a blueberry muffin")) {
+        Preferences.setString("muffinOnOrder", "none");
       }
 
-      case 1329 -> {
-        // Latte Shop
-        LatteRequest.parseVisitChoice(text);
+      // "Excellent! Here's your muffin tin! Stop by any time to order a muffin!"
+      if (text.contains("Here's your muffin tin!")) {
+        ResultProcessor.processItem(ItemPool.SHOVELFUL_OF_EARTH, -10);
+        ResultProcessor.processItem(ItemPool.HUNK_OF_GRANITE, -10);
       }
+    }
+  }
 
-      case 1331 -> {
-        {
-          // Daily Loathing Ballot
-          Matcher localMatcher = VOTE_PATTERN.matcher(text);
-          while (localMatcher.find()) {
-            int voteValue = StringUtilities.parseInt(localMatcher.group(1)) + 1;
-            String voteMod = ModifierDatabase.parseModifier(localMatcher.group(3));
-            if (voteMod != null) {
-              Preferences.setString("_voteLocal" + voteValue, voteMod);
-            }
-          }
+  private static void visitChoice1309(final GenericRequest request, final String text) {
+    // We will either now, or in the past, have had Favored By Lyle
+    Preferences.setBoolean("_lyleFavored", true);
+    if (KoLCharacter.hasEquipped(CANDY_CANE_SWORD)) {
+      Preferences.setBoolean("_candyCaneSwordLyle", true);
+    }
+  }
 
-          Matcher platformMatcher = VOTE_SPEECH_PATTERN.matcher(text);
+  private static void visitChoice1312(final GenericRequest request, final String text) {
+    {
+      // Choose a Soundtrack
+      Matcher matcher = BOOMBOX_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("_boomBoxSongsLeft", matcher.group(1));
+      }
+      Preferences.setString("boomBoxSong", "");
+      matcher = BOOMBOX_SONG_PATTERN.matcher(text);
+      while (matcher.find()) {
+        if (matcher.group(2) != null && matcher.group(2).contains("Keep playing")) {
+          Preferences.setString("boomBoxSong", matcher.group(1));
+        }
+      }
+    }
+  }
 
-          int count = 1;
+  // Bastille Battalion
+  // Bastille Battalion (Master of None)
+  // Castle vs. Castle
+  // GAME OVER
+  // A Hello to Arms (Battalion)
+  // Defensive Posturing
+  // Cheese Seeking Behavior
+  private static void visitChoice1313(final GenericRequest request, final String text) {
+    BastilleBattalionManager.visitChoice(request);
+  }
 
-          while (platformMatcher.find()) {
-            String party = platformMatcher.group(3);
-            String speech = platformMatcher.group(4);
+  private static void visitChoice1322(final GenericRequest request, final String text) {
+    // The Beginning of the Neverend
+    if (text.contains("talk to him and help him get more booze")) {
+      Preferences.setString("_questPartyFairQuest", "booze");
+    } else if (text.contains("Think you can help me clean the place up?")) {
+      Preferences.setString("_questPartyFairQuest", "trash");
+    } else if (text.contains("helping her with whatever problem she's having with the snacks")) {
+      Preferences.setString("_questPartyFairQuest", "food");
+    } else if (text.contains("megawoots right now")) {
+      Preferences.setString("_questPartyFairQuest", "woots");
+    } else if (text.contains("taking up a collection from the guests")) {
+      Preferences.setString("_questPartyFairQuest", "dj");
+    } else if (text.contains("all of the people to leave")) {
+      Preferences.setString("_questPartyFairQuest", "partiers");
+    }
+  }
 
-            String monsterName = parseVoteSpeech(party, speech);
+  private static void visitChoice1324(final GenericRequest request, final String text) {
+    // It Hasn't Ended, It's Just Paused
+    Preferences.setInteger("encountersUntilNEPChoice", 7);
+  }
 
-            if (monsterName != null) {
-              Preferences.setString("_voteMonster" + count, monsterName);
-            }
+  private static void visitChoice1329(final GenericRequest request, final String text) {
+    // Latte Shop
+    LatteRequest.parseVisitChoice(text);
+  }
 
-            count++;
-          }
+  private static void visitChoice1331(final GenericRequest request, final String text) {
+    {
+      // Daily Loathing Ballot
+      Matcher localMatcher = VOTE_PATTERN.matcher(text);
+      while (localMatcher.find()) {
+        int voteValue = StringUtilities.parseInt(localMatcher.group(1)) + 1;
+        String voteMod = ModifierDatabase.parseModifier(localMatcher.group(3));
+        if (voteMod != null) {
+          Preferences.setString("_voteLocal" + voteValue, voteMod);
         }
       }
 
-      case 1336 -> {
-        {
-          // Boxing Daycare
-          Matcher matcher = DAYCARE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setString("daycareEquipment", matcher.group(1).replaceAll(",", ""));
-            Preferences.setString("daycareToddlers", matcher.group(2).replaceAll(",", ""));
-            String instructors = matcher.group(3);
-            if (instructors.equals("an")) {
-              instructors = "1";
-            }
-            Preferences.setString("daycareInstructors", instructors);
-          } else {
-            matcher = EARLY_DAYCARE_PATTERN.matcher(text);
-            if (matcher.find()) {
-              Preferences.setString("daycareToddlers", matcher.group(1).replaceAll(",", ""));
-              String instructors = matcher.group(2);
-              if (instructors.equals("an")) {
-                instructors = "1";
-              }
-              Preferences.setString("daycareInstructors", instructors);
-            }
-          }
-          Matcher recruitsToday = DAYCARE_RECRUITS_PATTERN.matcher(text);
-          if (recruitsToday.find()) {
-            Preferences.setInteger(
-                "_daycareRecruits", (recruitsToday.group(1).replaceAll(",", "")).length() - 3);
-          }
-          Matcher instructorItem = DAYCARE_INSTRUCTOR_ITEM_PATTERN.matcher(text);
-          if (instructorItem.find()) {
-            int quantity = Integer.parseInt(instructorItem.group(1).replaceAll(",", ""));
-            Preferences.setInteger("daycareInstructorItemQuantity", quantity);
-            Preferences.setInteger(
-                "daycareInstructorItem", ItemDatabase.getItemId(instructorItem.group(2), quantity));
-          }
-          // *** Update _daycareScavenges
-        }
-      }
+      Matcher platformMatcher = VOTE_SPEECH_PATTERN.matcher(text);
 
-      case 1339 -> {
-        {
-          // A Little Pump and Grind
-          Matcher matcher = SAUSAGE_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Preferences.setInteger(
-                "_sausagesMade",
-                StringUtilities.parseInt(matcher.group(2).replaceAll(",", "")) / 111 - 1);
-            Preferences.setString("sausageGrinderUnits", matcher.group(3));
-          }
+      int count = 1;
+
+      while (platformMatcher.find()) {
+        String party = platformMatcher.group(3);
+        String speech = platformMatcher.group(4);
+
+        String monsterName = parseVoteSpeech(party, speech);
+
+        if (monsterName != null) {
+          Preferences.setString("_voteMonster" + count, monsterName);
         }
+
+        count++;
       }
+    }
+  }
 
-      case 1340 -> {
-        {
-          // Is There A Doctor In The House?
-          Matcher matcher = DOCTOR_BAG_PATTERN.matcher(text);
-          if (matcher.find()) {
-            String malady = matcher.group(1);
-            String item = "";
-            if (malady.contains("tropical heatstroke")) {
-              item = "palm-frond fan";
-            } else if (malady.contains("archaic cough")) {
-              item = "antique bottle of cough syrup";
-            } else if (malady.contains("broken limb")) {
-              item = "cast";
-            } else if (malady.contains("low vim and vigor")) {
-              item = "Doc Galaktik's Vitality Serum";
-            } else if (malady.contains("bad clams")) {
-              item = "anti-anti-antidote";
-            } else if (malady.contains("criss-cross laceration")) {
-              item = "plaid bandage";
-            } else if (malady.contains("knocked out by a random encounter")) {
-              item = "phonics down";
-            } else if (malady.contains("Thin Blood Syndrome")) {
-              item = "red blood cells";
-            } else if (malady.contains("a blood shortage")) {
-              item = "bag of pygmy blood";
-            }
-            Preferences.setString("doctorBagQuestItem", item);
-            Preferences.setString("doctorBagQuestLocation", matcher.group(2));
+  private static void visitChoice1336(final GenericRequest request, final String text) {
+    {
+      // Boxing Daycare
+      Matcher matcher = DAYCARE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setString("daycareEquipment", matcher.group(1).replaceAll(",", ""));
+        Preferences.setString("daycareToddlers", matcher.group(2).replaceAll(",", ""));
+        String instructors = matcher.group(3);
+        if (instructors.equals("an")) {
+          instructors = "1";
+        }
+        Preferences.setString("daycareInstructors", instructors);
+      } else {
+        matcher = EARLY_DAYCARE_PATTERN.matcher(text);
+        if (matcher.find()) {
+          Preferences.setString("daycareToddlers", matcher.group(1).replaceAll(",", ""));
+          String instructors = matcher.group(2);
+          if (instructors.equals("an")) {
+            instructors = "1";
           }
+          Preferences.setString("daycareInstructors", instructors);
         }
       }
-
-      case 1347 -> { // Groggy's Tavern
-        {
-          var choices = ChoiceUtilities.parseChoices(text);
-          choices.forEach(
-              (choice, crewmate) ->
-                  Preferences.setString(
-                      "_pirateRealmCrewmate" + choice, crewmate.replaceFirst("^the ", "")));
-          // Correct knowledge of third crewmate unlock if necessary.
-          Preferences.setBoolean("pirateRealmUnlockedThirdCrewmate", choices.size() >= 3);
-        }
+      Matcher recruitsToday = DAYCARE_RECRUITS_PATTERN.matcher(text);
+      if (recruitsToday.find()) {
+        Preferences.setInteger(
+            "_daycareRecruits", (recruitsToday.group(1).replaceAll(",", "")).length() - 3);
       }
-
-      case 1348 -> { // Seaside Curios
-        {
-          var choices = ChoiceUtilities.parseChoices(text);
-          Preferences.setBoolean("pirateRealmUnlockedAnemometer", choices.containsKey(4));
-          Preferences.setBoolean("pirateRealmUnlockedFlag", choices.containsKey(5));
-          Preferences.setBoolean("pirateRealmUnlockedSpyglass", choices.containsKey(6));
-        }
+      Matcher instructorItem = DAYCARE_INSTRUCTOR_ITEM_PATTERN.matcher(text);
+      if (instructorItem.find()) {
+        int quantity = Integer.parseInt(instructorItem.group(1).replaceAll(",", ""));
+        Preferences.setInteger("daycareInstructorItemQuantity", quantity);
+        Preferences.setInteger(
+            "daycareInstructorItem", ItemDatabase.getItemId(instructorItem.group(2), quantity));
       }
+      // *** Update _daycareScavenges
+    }
+  }
 
-      case 1349 -> { // Dishonest Ed's Ships
-        {
-          var choices = ChoiceUtilities.parseChoices(text);
-          Preferences.setBoolean("pirateRealmUnlockedClipper", choices.containsKey(4));
-          Preferences.setBoolean("pirateRealmUnlockedManOWar", choices.containsKey(5));
-        }
+  private static void visitChoice1339(final GenericRequest request, final String text) {
+    {
+      // A Little Pump and Grind
+      Matcher matcher = SAUSAGE_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Preferences.setInteger(
+            "_sausagesMade",
+            StringUtilities.parseInt(matcher.group(2).replaceAll(",", "")) / 111 - 1);
+        Preferences.setString("sausageGrinderUnits", matcher.group(3));
       }
+    }
+  }
 
-      case 1388 -> {
-        BeachManager.parseCombUsage(text);
-        BeachManager.parseBeachMap(text);
+  private static void visitChoice1340(final GenericRequest request, final String text) {
+    {
+      // Is There A Doctor In The House?
+      Matcher matcher = DOCTOR_BAG_PATTERN.matcher(text);
+      if (matcher.find()) {
+        String malady = matcher.group(1);
+        String item = "";
+        if (malady.contains("tropical heatstroke")) {
+          item = "palm-frond fan";
+        } else if (malady.contains("archaic cough")) {
+          item = "antique bottle of cough syrup";
+        } else if (malady.contains("broken limb")) {
+          item = "cast";
+        } else if (malady.contains("low vim and vigor")) {
+          item = "Doc Galaktik's Vitality Serum";
+        } else if (malady.contains("bad clams")) {
+          item = "anti-anti-antidote";
+        } else if (malady.contains("criss-cross laceration")) {
+          item = "plaid bandage";
+        } else if (malady.contains("knocked out by a random encounter")) {
+          item = "phonics down";
+        } else if (malady.contains("Thin Blood Syndrome")) {
+          item = "red blood cells";
+        } else if (malady.contains("a blood shortage")) {
+          item = "bag of pygmy blood";
+        }
+        Preferences.setString("doctorBagQuestItem", item);
+        Preferences.setString("doctorBagQuestLocation", matcher.group(2));
       }
+    }
+  }
 
-      case 1396 -> {
-        {
-          // Adjusting Your Fish
-          Matcher matcher = RED_SNAPPER_PATTERN.matcher(text);
-          if (matcher.find()) {
-            Phylum phylum = Phylum.find(matcher.group(1));
-            int progress = StringUtilities.parseInt(matcher.group(2));
-            TrackManager.track(phylum.toString(), Tracker.RED_SNAPPER);
-            Preferences.setInteger("redSnapperProgress", progress);
-          }
-        }
-      }
+  // Groggy's Tavern
+  private static void visitChoice1347(final GenericRequest request, final String text) {
+    {
+      var choices = ChoiceUtilities.parseChoices(text);
+      choices.forEach(
+          (choice, crewmate) ->
+              Preferences.setString(
+                  "_pirateRealmCrewmate" + choice, crewmate.replaceFirst("^the ", "")));
+      // Correct knowledge of third crewmate unlock if necessary.
+      Preferences.setBoolean("pirateRealmUnlockedThirdCrewmate", choices.size() >= 3);
+    }
+  }
 
-      case 1407 -> {
-        {
-          // Mushroom District Costume Shop
-          Matcher matcher = MUSHROOM_COSTUME_PATTERN.matcher(text);
-          int cost = 0;
-          boolean carpenter = false;
-          boolean gardener = false;
-          boolean ballerina = false;
-          while (matcher.find()) {
-            String costume = matcher.group(2);
-            cost = StringUtilities.parseInt(matcher.group(3));
-            switch (costume) {
-              case "Carpenter" -> carpenter = true;
-              case "Gardener" -> gardener = true;
-              case "Ballerina" -> ballerina = true;
-            }
-          }
-          String wearing =
-              !carpenter ? "muscle" : !gardener ? "mysticality" : !ballerina ? "moxie" : "none";
-          Preferences.setInteger("plumberCostumeCost", cost);
-          Preferences.setString("plumberCostumeWorn", wearing);
-        }
+  // Seaside Curios
+  private static void visitChoice1348(final GenericRequest request, final String text) {
+    {
+      var choices = ChoiceUtilities.parseChoices(text);
+      Preferences.setBoolean("pirateRealmUnlockedAnemometer", choices.containsKey(4));
+      Preferences.setBoolean("pirateRealmUnlockedFlag", choices.containsKey(5));
+      Preferences.setBoolean("pirateRealmUnlockedSpyglass", choices.containsKey(6));
+    }
+  }
+
+  // Dishonest Ed's Ships
+  private static void visitChoice1349(final GenericRequest request, final String text) {
+    {
+      var choices = ChoiceUtilities.parseChoices(text);
+      Preferences.setBoolean("pirateRealmUnlockedClipper", choices.containsKey(4));
+      Preferences.setBoolean("pirateRealmUnlockedManOWar", choices.containsKey(5));
+    }
+  }
+
+  private static void visitChoice1388(final GenericRequest request, final String text) {
+    BeachManager.parseCombUsage(text);
+    BeachManager.parseBeachMap(text);
+  }
+
+  private static void visitChoice1396(final GenericRequest request, final String text) {
+    {
+      // Adjusting Your Fish
+      Matcher matcher = RED_SNAPPER_PATTERN.matcher(text);
+      if (matcher.find()) {
+        Phylum phylum = Phylum.find(matcher.group(1));
+        int progress = StringUtilities.parseInt(matcher.group(2));
+        TrackManager.track(phylum.toString(), Tracker.RED_SNAPPER);
+        Preferences.setInteger("redSnapperProgress", progress);
       }
+    }
+  }
 
-      case 1408 -> {
-        {
-          // Mushroom District Badge Shop
-          Matcher matcher = MUSHROOM_BADGE_PATTERN.matcher(text);
-          int cost = 0;
-          if (matcher.find()) {
-            cost = StringUtilities.parseInt(matcher.group(1));
-          }
-          Preferences.setInteger("plumberBadgeCost", cost);
-        }
+  private static void visitChoice1407(final GenericRequest request, final String text) {
+    {
+      // Mushroom District Costume Shop
+      Matcher matcher = MUSHROOM_COSTUME_PATTERN.matcher(text);
+      int cost = 0;
+      boolean carpenter = false;
+      boolean gardener = false;
+      boolean ballerina = false;
+      while (matcher.find()) {
+        String costume = matcher.group(2);
+        cost = StringUtilities.parseInt(matcher.group(3));
+        switch (costume) {
+          case "Carpenter" -> carpenter = true;
+          case "Gardener" -> gardener = true;
+          case "Ballerina" -> ballerina = true;
+        }
+      }
+      String wearing =
+          !carpenter ? "muscle" : !gardener ? "mysticality" : !ballerina ? "moxie" : "none";
+      Preferences.setInteger("plumberCostumeCost", cost);
+      Preferences.setString("plumberCostumeWorn", wearing);
+    }
+  }
+
+  private static void visitChoice1408(final GenericRequest request, final String text) {
+    {
+      // Mushroom District Badge Shop
+      Matcher matcher = MUSHROOM_BADGE_PATTERN.matcher(text);
+      int cost = 0;
+      if (matcher.find()) {
+        cost = StringUtilities.parseInt(matcher.group(1));
       }
+      Preferences.setInteger("plumberBadgeCost", cost);
+    }
+  }
 
-      case 1410 -> {
-        {
-          // The Mushy Center
-
-          // The mushroom in your garden is now large enough to walk around inside.  Also there's a
-          // door on it, which is convenient for that purpose.
-
-          int mushroomMessageLevel =
-              text.contains("walk around inside")
-                  ? 11
-                  : text.contains("immense mushroom")
-                      ? 5
-                      : text.contains("giant mushroom")
-                          ? 4
-                          : text.contains("bulky mushroom")
-                              ? 3
-                              : text.contains("plump mushroom")
-                                  ? 2
-                                  : text.contains("decent-sized mushroom") ? 1 : 0;
-
-          // mushgrow5.gif is used for both the immense and colossal mushroom
-
-          int mushroomImageLevel =
-              text.contains("mushgrow5.gif")
+  private static void visitChoice1410(final GenericRequest request, final String text) {
+    {
+      // The Mushy Center
+
+      // The mushroom in your garden is now large enough to walk around inside.  Also there's a
+      // door on it, which is convenient for that purpose.
+
+      int mushroomMessageLevel =
+          text.contains("walk around inside")
+              ? 11
+              : text.contains("immense mushroom")
                   ? 5
-                  : text.contains("mushgrow4.gif")
+                  : text.contains("giant mushroom")
                       ? 4
-                      : text.contains("mushgrow3.gif")
+                      : text.contains("bulky mushroom")
                           ? 3
-                          : text.contains("mushgrow2.gif")
+                          : text.contains("plump mushroom")
                               ? 2
-                              : text.contains("mushgrow1.gif") ? 1 : 0;
+                              : text.contains("decent-sized mushroom") ? 1 : 0;
 
-          int mushroomLevel = Math.max(mushroomMessageLevel, mushroomImageLevel);
+      // mushgrow5.gif is used for both the immense and colossal mushroom
 
-          // After level 5, you can continue fertilizing for an unknown number
-          // of days before you get the ultimate mushroom.
+      int mushroomImageLevel =
+          text.contains("mushgrow5.gif")
+              ? 5
+              : text.contains("mushgrow4.gif")
+                  ? 4
+                  : text.contains("mushgrow3.gif")
+                      ? 3
+                      : text.contains("mushgrow2.gif") ? 2 : text.contains("mushgrow1.gif") ? 1 : 0;
 
-          // If we have fertilized the garden through KoLmafia,
-          // this is the number of days we have fertilized.
-          int currentLevel = Preferences.getInteger("mushroomGardenCropLevel");
+      int mushroomLevel = Math.max(mushroomMessageLevel, mushroomImageLevel);
 
-          // If we have not fertilized consistently through KoLmafia, correct it here
-          int newLevel = Math.max(mushroomLevel, currentLevel);
+      // After level 5, you can continue fertilizing for an unknown number
+      // of days before you get the ultimate mushroom.
 
-          Preferences.setInteger("mushroomGardenCropLevel", newLevel);
-          CampgroundRequest.clearCrop();
-          CampgroundRequest.setCampgroundItem(new Mushroom(newLevel));
-        }
-      }
-      case 1412 -> {
-        Matcher tierMatcher = GUZZLR_TIER_PATTERN.matcher(text);
-        while (tierMatcher.find()) {
-          Preferences.setInteger(
-              "guzzlr" + tierMatcher.group(2) + "Deliveries",
-              StringUtilities.parseInt(tierMatcher.group(1)));
-        }
+      // If we have fertilized the garden through KoLmafia,
+      // this is the number of days we have fertilized.
+      int currentLevel = Preferences.getInteger("mushroomGardenCropLevel");
 
-        if (text.contains("You are currently tasked with")) {
-          Matcher alreadyMatcher = GUZZLR_QUEST_PATTERN.matcher(text);
-          if (alreadyMatcher.find()) {
-            String booze = alreadyMatcher.group(1);
-            Preferences.setString(
-                "guzzlrQuestBooze",
-                booze.equals("special personalized cocktail") ? "Guzzlr cocktail set" : booze);
-            Preferences.setString("guzzlrQuestClient", alreadyMatcher.group(2));
-            Preferences.setString("guzzlrQuestLocation", alreadyMatcher.group(3));
-          }
+      // If we have not fertilized consistently through KoLmafia, correct it here
+      int newLevel = Math.max(mushroomLevel, currentLevel);
 
-          int itemId = ItemDatabase.getItemId(Preferences.getString("guzzlrQuestBooze"));
+      Preferences.setInteger("mushroomGardenCropLevel", newLevel);
+      CampgroundRequest.clearCrop();
+      CampgroundRequest.setCampgroundItem(new Mushroom(newLevel));
+    }
+  }
 
-          if (itemId > 0) {
-            if (InventoryManager.getCount(itemId) > 0) {
-              QuestDatabase.setQuestProgress(Quest.GUZZLR, "step1");
-            } else {
-              QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.STARTED);
-            }
-          } else {
-            QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.STARTED);
-          }
+  private static void visitChoice1412(final GenericRequest request, final String text) {
+    Matcher tierMatcher = GUZZLR_TIER_PATTERN.matcher(text);
+    while (tierMatcher.find()) {
+      Preferences.setInteger(
+          "guzzlr" + tierMatcher.group(2) + "Deliveries",
+          StringUtilities.parseInt(tierMatcher.group(1)));
+    }
 
-          Preferences.setBoolean(
-              "_guzzlrQuestAbandoned",
-              (ChoiceUtilities.findChoiceDecisionIndex("Abandon Client", text).equals("0")));
-        } else {
-          // If we have unlocked Gold Tier but cannot accept one, we must have already accepted
-          // three.
-          boolean unlockedGoldTier = Preferences.getInteger("guzzlrBronzeDeliveries") >= 5;
-          if (unlockedGoldTier
-              && ChoiceUtilities.findChoiceDecisionIndex("Gold Tier", text).equals("0")) {
-            Preferences.setInteger("_guzzlrGoldDeliveries", 3);
-          }
+    if (text.contains("You are currently tasked with")) {
+      Matcher alreadyMatcher = GUZZLR_QUEST_PATTERN.matcher(text);
+      if (alreadyMatcher.find()) {
+        String booze = alreadyMatcher.group(1);
+        Preferences.setString(
+            "guzzlrQuestBooze",
+            booze.equals("special personalized cocktail") ? "Guzzlr cocktail set" : booze);
+        Preferences.setString("guzzlrQuestClient", alreadyMatcher.group(2));
+        Preferences.setString("guzzlrQuestLocation", alreadyMatcher.group(3));
+      }
 
-          // If we have unlocked Platinum Tier but cannot accept one, we must have already accepted
-          // one.
-          boolean unlockedPlatinumTier = Preferences.getInteger("guzzlrGoldDeliveries") >= 5;
-          if (unlockedPlatinumTier
-              && ChoiceUtilities.findChoiceDecisionIndex("Platinum Tier", text).equals("0")) {
-            Preferences.setInteger("_guzzlrPlatinumDeliveries", 1);
-          }
+      int itemId = ItemDatabase.getItemId(Preferences.getString("guzzlrQuestBooze"));
+
+      if (itemId > 0) {
+        if (InventoryManager.getCount(itemId) > 0) {
+          QuestDatabase.setQuestProgress(Quest.GUZZLR, "step1");
+        } else {
+          QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.STARTED);
         }
+      } else {
+        QuestDatabase.setQuestProgress(Quest.GUZZLR, QuestDatabase.STARTED);
       }
 
-      case 1420 -> {
-        // Cargo Cultist Shorts
-        CargoCultistShortsRequest.parseAvailablePockets(text);
+      Preferences.setBoolean(
+          "_guzzlrQuestAbandoned",
+          (ChoiceUtilities.findChoiceDecisionIndex("Abandon Client", text).equals("0")));
+    } else {
+      // If we have unlocked Gold Tier but cannot accept one, we must have already accepted
+      // three.
+      boolean unlockedGoldTier = Preferences.getInteger("guzzlrBronzeDeliveries") >= 5;
+      if (unlockedGoldTier
+          && ChoiceUtilities.findChoiceDecisionIndex("Gold Tier", text).equals("0")) {
+        Preferences.setInteger("_guzzlrGoldDeliveries", 3);
       }
 
-      case 1425 -> {
-        // Oh Yeah!
-        Preferences.setInteger("lastCartographyFratHouse", KoLCharacter.getAscensions());
+      // If we have unlocked Platinum Tier but cannot accept one, we must have already accepted
+      // one.
+      boolean unlockedPlatinumTier = Preferences.getInteger("guzzlrGoldDeliveries") >= 5;
+      if (unlockedPlatinumTier
+          && ChoiceUtilities.findChoiceDecisionIndex("Platinum Tier", text).equals("0")) {
+        Preferences.setInteger("_guzzlrPlatinumDeliveries", 1);
       }
+    }
+  }
 
-      case 1427 -> {
-        //  The Hidden Junction
-        Preferences.setInteger("lastCartographyGuanoJunction", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1420(final GenericRequest request, final String text) {
+    // Cargo Cultist Shorts
+    CargoCultistShortsRequest.parseAvailablePockets(text);
+  }
 
-      case 1428 -> {
-        //  Your Neck of the Woods
-        Preferences.setInteger("lastCartographyDarkNeck", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1425(final GenericRequest request, final String text) {
+    // Oh Yeah!
+    Preferences.setInteger("lastCartographyFratHouse", KoLCharacter.getAscensions());
+  }
 
-      case 1429 -> {
-        //  No Nook Unknown
-        Preferences.setInteger("lastCartographyDefiledNook", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1427(final GenericRequest request, final String text) {
+    //  The Hidden Junction
+    Preferences.setInteger("lastCartographyGuanoJunction", KoLCharacter.getAscensions());
+  }
 
-      case 1430 -> {
-        //  Ghostly Memories
-        Preferences.setInteger("lastCartographyBooPeak", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1428(final GenericRequest request, final String text) {
+    //  Your Neck of the Woods
+    Preferences.setInteger("lastCartographyDarkNeck", KoLCharacter.getAscensions());
+  }
 
-      case 1431 -> {
-        //  Here There Be Giants
-        Preferences.setInteger("lastCartographyCastleTop", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1429(final GenericRequest request, final String text) {
+    //  No Nook Unknown
+    Preferences.setInteger("lastCartographyDefiledNook", KoLCharacter.getAscensions());
+  }
 
-      case 1432 -> {
-        //  Mob Maptality
-        Preferences.setInteger("lastCartographyZeppelinProtesters", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1430(final GenericRequest request, final String text) {
+    //  Ghostly Memories
+    Preferences.setInteger("lastCartographyBooPeak", KoLCharacter.getAscensions());
+  }
 
-      case 1433 -> {
-        //  Sneaky, Sneaky (Frat Warrior Fatigues)
-        Preferences.setInteger("lastCartographyFratHouseVerge", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1431(final GenericRequest request, final String text) {
+    //  Here There Be Giants
+    Preferences.setInteger("lastCartographyCastleTop", KoLCharacter.getAscensions());
+  }
 
-      case 1434 -> {
-        //  Sneaky, Sneaky (War Hippy Fatigues)
-        Preferences.setInteger("lastCartographyHippyCampVerge", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1432(final GenericRequest request, final String text) {
+    //  Mob Maptality
+    Preferences.setInteger("lastCartographyZeppelinProtesters", KoLCharacter.getAscensions());
+  }
 
-      case 1436 -> {
-        // Billards Room Options
-        Preferences.setInteger("lastCartographyHauntedBilliards", KoLCharacter.getAscensions());
-      }
+  private static void visitChoice1433(final GenericRequest request, final String text) {
+    //  Sneaky, Sneaky (Frat Warrior Fatigues)
+    Preferences.setInteger("lastCartographyFratHouseVerge", KoLCharacter.getAscensions());
+  }
 
-      case 1445, // Reassembly Station
-          1447 -> { // Statbot 5000
-        YouRobotManager.visitChoice(request);
-      }
+  private static void visitChoice1434(final GenericRequest request, final String text) {
+    //  Sneaky, Sneaky (War Hippy Fatigues)
+    Preferences.setInteger("lastCartographyHippyCampVerge", KoLCharacter.getAscensions());
+  }
 
-      case 1448 -> {
-        {
-          String[] stalkStatus = new String[7];
-          Matcher stalks =
-              Pattern.compile(
-                      "<button.*?name=\"pp\" value=\"(\\d+)\".*?>\\s+<img.*?src=\".*?/otherimages/powerplant/(\\d+)\\.png\"")
-                  .matcher(text);
-          while (stalks.find()) {
-            int pp = Integer.parseInt(stalks.group(1)) - 1;
-            stalkStatus[pp] = stalks.group(2);
-          }
-          Preferences.setString("_pottedPowerPlant", String.join(",", stalkStatus));
-        }
-      }
-      case 1449 -> {
-        {
-          String setting =
-              (!text.contains("Warning Beep"))
-                  ? "ml"
-                  : (!text.contains("Infrared Spectrum"))
-                      ? "meat"
-                      : (!text.contains("Maximum Framerate")) ? "init" : "";
-
-          Preferences.setString("backupCameraMode", setting);
-          Preferences.setBoolean("backupCameraReverserEnabled", text.contains("Disable Reverser"));
-        }
-      }
-      case 1455 -> {
-        CampgroundRequest.setCurrentWorkshedItem(ItemPool.COLD_MEDICINE_CABINET);
-        Matcher consultations = Pattern.compile("You have <b>(\\d)</b> consul").matcher(text);
-        if (consultations.find()) {
-          int remaining = Integer.parseInt(consultations.group(1));
-          Preferences.setInteger("_coldMedicineConsults", 5 - remaining);
-        }
-        var equipmentCount = text.contains("ice crown") ? 0 : text.contains("frozen jeans") ? 1 : 2;
-        Preferences.setInteger("_coldMedicineEquipmentTaken", equipmentCount);
-      }
-      case 1462 -> {
-        CrystalBallManager.parsePonder(text);
-      }
-      case 1463 -> {
-        LocketManager.parseMonsters(text);
-      }
-      case 1476 -> {
-        StillSuitManager.parseChoice(text);
-      }
-      case 1483 -> {
-        AutumnatonManager.visitChoice(text);
-      }
-      case 1484 -> { // Conspicuous Plaque
-        var pattern = Pattern.compile("The plaque currently reads: <b>(.*?)</b>");
-        var matcher = pattern.matcher(text);
-        if (matcher.find()) {
-          Preferences.setString("speakeasyName", matcher.group(1));
-        }
-      }
-      case 1485 -> { // Play with your train
-        CampgroundRequest.setCurrentWorkshedItem(ItemPool.MODEL_TRAIN_SET);
-        TrainsetManager.visitChoice(text);
-      }
-      case 1491 -> { // Strange Stalagmite(s)
-        Preferences.setBoolean("_strangeStalagmiteUsed", true);
-      }
+  private static void visitChoice1436(final GenericRequest request, final String text) {
+    // Billards Room Options
+    Preferences.setInteger("lastCartographyHauntedBilliards", KoLCharacter.getAscensions());
+  }
 
-      case 1497 -> {
-        // Calling Rufus
-        RufusManager.parseCall(text);
-      }
+  // Reassembly Station
+  // Statbot 5000
+  private static void visitChoice1445(final GenericRequest request, final String text) {
+    YouRobotManager.visitChoice(request);
+  }
 
-      case 1498 -> {
-        // Calling Rufus Back
-        RufusManager.parseCallBack(text);
+  private static void visitChoice1448(final GenericRequest request, final String text) {
+    {
+      String[] stalkStatus = new String[7];
+      Matcher stalks =
+          Pattern.compile(
+                  "<button.*?name=\"pp\" value=\"(\\d+)\".*?>\\s+<img.*?src=\".*?/otherimages/powerplant/(\\d+)\\.png\"")
+              .matcher(text);
+      while (stalks.find()) {
+        int pp = Integer.parseInt(stalks.group(1)) - 1;
+        stalkStatus[pp] = stalks.group(2);
       }
+      Preferences.setString("_pottedPowerPlant", String.join(",", stalkStatus));
+    }
+  }
 
-      case 1499 -> {
-        // The Shadow Labyrinth
-        RufusManager.handleShadowRiftNC(1499, text);
-      }
+  private static void visitChoice1449(final GenericRequest request, final String text) {
+    {
+      String setting =
+          (!text.contains("Warning Beep"))
+              ? "ml"
+              : (!text.contains("Infrared Spectrum"))
+                  ? "meat"
+                  : (!text.contains("Maximum Framerate")) ? "init" : "";
+
+      Preferences.setString("backupCameraMode", setting);
+      Preferences.setBoolean("backupCameraReverserEnabled", text.contains("Disable Reverser"));
+    }
+  }
 
-      case 1500 -> {
-        // Like a Loded Stone
-        RufusManager.handleShadowRiftNC(1500, text);
-      }
+  private static void visitChoice1455(final GenericRequest request, final String text) {
+    CampgroundRequest.setCurrentWorkshedItem(ItemPool.COLD_MEDICINE_CABINET);
+    Matcher consultations = Pattern.compile("You have <b>(\\d)</b> consul").matcher(text);
+    if (consultations.find()) {
+      int remaining = Integer.parseInt(consultations.group(1));
+      Preferences.setInteger("_coldMedicineConsults", 5 - remaining);
+    }
+    var equipmentCount = text.contains("ice crown") ? 0 : text.contains("frozen jeans") ? 1 : 2;
+    Preferences.setInteger("_coldMedicineEquipmentTaken", equipmentCount);
+  }
 
-      case 1501 -> {
-        // Make a Wish
-        MonkeyPawRequest.visitChoice(text);
-      }
+  private static void visitChoice1462(final GenericRequest request, final String text) {
+    CrystalBallManager.parsePonder(text);
+  }
 
-      case 1510 -> {
-        // Burning Leaves
-        BurningLeavesRequest.visitChoice(text);
-      }
+  private static void visitChoice1463(final GenericRequest request, final String text) {
+    LocketManager.parseMonsters(text);
+  }
 
-      case 1512, 1513 -> {
-        if (text.contains("don't even think about pressing that button")) {
-          Preferences.setString(
-              "_automatedFutureSide", ChoiceManager.lastChoice == 1512 ? "bearings" : "solenoids");
-        } else if (text.contains("You've already pushed the button eleven times today")) {
-          Preferences.setString(
-              "_automatedFutureSide", ChoiceManager.lastChoice == 1512 ? "solenoids" : "bearings");
-          Preferences.setInteger("_automatedFutureManufactures", 11);
-        }
-      }
+  private static void visitChoice1476(final GenericRequest request, final String text) {
+    StillSuitManager.parseChoice(text);
+  }
 
-      case 1517 -> {
-        Matcher eggsSpawned = Pattern.compile("(\\d+)/11 eggs spawned today").matcher(text);
-        if (eggsSpawned.find()) {
-          int spawned = Integer.parseInt(eggsSpawned.group(1));
-          Preferences.setInteger("_mimicEggsObtained", spawned);
-        }
-        Matcher eggsDonated = Pattern.compile("(\\d+)/3 donations made for the day").matcher(text);
-        if (eggsDonated.find()) {
-          int donated = Integer.parseInt(eggsDonated.group(1));
-          Preferences.setInteger("_mimicEggsDonated", donated);
-        }
-      }
+  private static void visitChoice1483(final GenericRequest request, final String text) {
+    AutumnatonManager.visitChoice(text);
+  }
 
-      case 1523 -> { // Research Bench
-        ResearchBenchRequest.visitChoice(text);
-      }
+  // Conspicuous Plaque
+  private static void visitChoice1484(final GenericRequest request, final String text) {
+    var pattern = Pattern.compile("The plaque currently reads: <b>(.*?)</b>");
+    var matcher = pattern.matcher(text);
+    if (matcher.find()) {
+      Preferences.setString("speakeasyName", matcher.group(1));
+    }
+  }
 
-      case 1527 -> {
-        // Consider the Calendar
-        parseMayamCalendar(text);
-      }
+  // Play with your train
+  private static void visitChoice1485(final GenericRequest request, final String text) {
+    CampgroundRequest.setCurrentWorkshedItem(ItemPool.MODEL_TRAIN_SET);
+    TrainsetManager.visitChoice(text);
+  }
 
-      case 1537 -> { // TakerSpace
-        CampgroundRequest.setCurrentWorkshedItem(ItemPool.TAKERSPACE_LETTER_OF_MARQUE);
+  // Strange Stalagmite(s)
+  private static void visitChoice1491(final GenericRequest request, final String text) {
+    Preferences.setBoolean("_strangeStalagmiteUsed", true);
+  }
 
-        // visiting the choice for the first time delivers the daily supplies
-        Preferences.setBoolean("_takerSpaceSuppliesDelivered", true);
-        Matcher supplies =
-            Pattern.compile(
-                    "<b>Current Supplies:</b><br>(\\d+) stolen spices<br>(\\d+) robbed rums<br>(\\d+) absconded-with anchors?<br>(\\d+) misappropriated mainmasts<br>(\\d+) snatched silk<br>(\\d+) gaffled gold<br>")
-                .matcher(text);
-        if (supplies.find()) {
-          Preferences.setInteger("takerSpaceSpice", Integer.parseInt(supplies.group(1)));
-          Preferences.setInteger("takerSpaceRum", Integer.parseInt(supplies.group(2)));
-          Preferences.setInteger("takerSpaceAnchor", Integer.parseInt(supplies.group(3)));
-          Preferences.setInteger("takerSpaceMast", Integer.parseInt(supplies.group(4)));
-          Preferences.setInteger("takerSpaceSilk", Integer.parseInt(supplies.group(5)));
-          Preferences.setInteger("takerSpaceGold", Integer.parseInt(supplies.group(6)));
-          ConcoctionDatabase.refreshConcoctions();
-        }
-      }
+  private static void visitChoice1497(final GenericRequest request, final String text) {
+    // Calling Rufus
+    RufusManager.parseCall(text);
+  }
 
-      case 1545 -> { // Cyberzone 1 Half-Way
-        Preferences.setInteger("_cyberZone1Turns", 10);
-        incrementCyberFreeFights();
-      }
-      case 1546 -> { // Cyberzone 1 Final
-        Preferences.setInteger("_cyberZone1Turns", 20);
-      }
-      case 1547 -> { // Cyberzone 2 Half-Way
-        Preferences.setInteger("_cyberZone2Turns", 10);
-        incrementCyberFreeFights();
-      }
-      case 1548 -> { // Cyberzone 2 Final
-        Preferences.setInteger("_cyberZone2Turns", 20);
-      }
-      case 1549 -> { // Cyberzone 3 Half-Way
-        Preferences.setInteger("_cyberZone3Turns", 10);
-        incrementCyberFreeFights();
-      }
-      case 1550 -> { // Cyberzone 3 Final
-        Preferences.setInteger("_cyberZone3Turns", 20);
-      }
+  private static void visitChoice1498(final GenericRequest request, final String text) {
+    // Calling Rufus Back
+    RufusManager.parseCallBack(text);
+  }
+
+  private static void visitChoice1499(final GenericRequest request, final String text) {
+    // The Shadow Labyrinth
+    RufusManager.handleShadowRiftNC(1499, text);
+  }
+
+  private static void visitChoice1500(final GenericRequest request, final String text) {
+    // Like a Loded Stone
+    RufusManager.handleShadowRiftNC(1500, text);
+  }
+
+  private static void visitChoice1501(final GenericRequest request, final String text) {
+    // Make a Wish
+    MonkeyPawRequest.visitChoice(text);
+  }
+
+  private static void visitChoice1510(final GenericRequest request, final String text) {
+    // Burning Leaves
+    BurningLeavesRequest.visitChoice(text);
+  }
+
+  private static void visitChoice1512(final GenericRequest request, final String text) {
+    if (text.contains("don't even think about pressing that button")) {
+      Preferences.setString(
+          "_automatedFutureSide", ChoiceManager.lastChoice == 1512 ? "bearings" : "solenoids");
+    } else if (text.contains("You've already pushed the button eleven times today")) {
+      Preferences.setString(
+          "_automatedFutureSide", ChoiceManager.lastChoice == 1512 ? "solenoids" : "bearings");
+      Preferences.setInteger("_automatedFutureManufactures", 11);
+    }
+  }
+
+  private static void visitChoice1517(final GenericRequest request, final String text) {
+    Matcher eggsSpawned = Pattern.compile("(\\d+)/11 eggs spawned today").matcher(text);
+    if (eggsSpawned.find()) {
+      int spawned = Integer.parseInt(eggsSpawned.group(1));
+      Preferences.setInteger("_mimicEggsObtained", spawned);
+    }
+    Matcher eggsDonated = Pattern.compile("(\\d+)/3 donations made for the day").matcher(text);
+    if (eggsDonated.find()) {
+      int donated = Integer.parseInt(eggsDonated.group(1));
+      Preferences.setInteger("_mimicEggsDonated", donated);
+    }
+  }
+
+  // Research Bench
+  private static void visitChoice1523(final GenericRequest request, final String text) {
+    ResearchBenchRequest.visitChoice(text);
+  }
+
+  private static void visitChoice1527(final GenericRequest request, final String text) {
+    // Consider the Calendar
+    parseMayamCalendar(text);
+  }
+
+  // TakerSpace
+  private static void visitChoice1537(final GenericRequest request, final String text) {
+    CampgroundRequest.setCurrentWorkshedItem(ItemPool.TAKERSPACE_LETTER_OF_MARQUE);
+
+    // visiting the choice for the first time delivers the daily supplies
+    Preferences.setBoolean("_takerSpaceSuppliesDelivered", true);
+    Matcher supplies =
+        Pattern.compile(
+                "<b>Current Supplies:</b><br>(\\d+) stolen spices<br>(\\d+) robbed rums<br>(\\d+) absconded-with anchors?<br>(\\d+) misappropriated mainmasts<br>(\\d+) snatched silk<br>(\\d+) gaffled gold<br>")
+            .matcher(text);
+    if (supplies.find()) {
+      Preferences.setInteger("takerSpaceSpice", Integer.parseInt(supplies.group(1)));
+      Preferences.setInteger("takerSpaceRum", Integer.parseInt(supplies.group(2)));
+      Preferences.setInteger("takerSpaceAnchor", Integer.parseInt(supplies.group(3)));
+      Preferences.setInteger("takerSpaceMast", Integer.parseInt(supplies.group(4)));
+      Preferences.setInteger("takerSpaceSilk", Integer.parseInt(supplies.group(5)));
+      Preferences.setInteger("takerSpaceGold", Integer.parseInt(supplies.group(6)));
+      ConcoctionDatabase.refreshConcoctions();
     }
   }
 
+  // Cyberzone 1 Half-Way
+  private static void visitChoice1545(final GenericRequest request, final String text) {
+    Preferences.setInteger("_cyberZone1Turns", 10);
+    incrementCyberFreeFights();
+  }
+
+  // Cyberzone 1 Final
+  private static void visitChoice1546(final GenericRequest request, final String text) {
+    Preferences.setInteger("_cyberZone1Turns", 20);
+  }
+
+  // Cyberzone 2 Half-Way
+  private static void visitChoice1547(final GenericRequest request, final String text) {
+    Preferences.setInteger("_cyberZone2Turns", 10);
+    incrementCyberFreeFights();
+  }
+
+  // Cyberzone 2 Final
+  private static void visitChoice1548(final GenericRequest request, final String text) {
+    Preferences.setInteger("_cyberZone2Turns", 20);
+  }
+
+  // Cyberzone 3 Half-Way
+  private static void visitChoice1549(final GenericRequest request, final String text) {
+    Preferences.setInteger("_cyberZone3Turns", 10);
+    incrementCyberFreeFights();
+  }
+
+  // Cyberzone 3 Final
+  private static void visitChoice1550(final GenericRequest request, final String text) {
+    Preferences.setInteger("_cyberZone3Turns", 20);
+  }
+
   private static void incrementCyberFreeFights() {
     // The CyberRealm Half-Way non-combats - which are free - consume a
     // free fight granted by OVERCLOCK(10).
@@ -10,6 +10,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.java.dev.spellcast.utilities.DataUtilities;
@@ -47,6 +49,7 @@ import net.sourceforge.kolmafia.request.GenericRequest;
 import net.sourceforge.kolmafia.request.ProfileRequest;
 import net.sourceforge.kolmafia.utilities.FileUtilities;
 import net.sourceforge.kolmafia.utilities.LogStream;
+import net.sourceforge.kolmafia.utilities.PauseObject;
 import net.sourceforge.kolmafia.webui.RelayLoader;
 
 public abstract class ClanManager {
@@ -64,6 +67,7 @@ public abstract class ClanManager {
   private static final Map<String, String> profileMap = ProfileSnapshot.getProfileMap();
   private static final Map<String, String> ascensionMap = AscensionSnapshot.getAscensionMap();
   private static final Map<String, String> titleMap = new HashMap<>();
+  private static final Map<String, String> levelMap = new HashMap<>();
   private static final Map<Integer, List<AdventureResult>> clanLounge = new HashMap<>();
   private static final Map<Integer, List<String>> clanRumpus = new LinkedHashMap<>();
   private static final Map<Integer, List<String>> clanHotdogs = new HashMap<>();
@@ -97,6 +101,7 @@ public abstract class ClanManager {
     ClanManager.profileMap.clear();
     ClanManager.ascensionMap.clear();
     ClanManager.titleMap.clear();
+    ClanManager.levelMap.clear();
     ClanManager.battleList.clear();
     ClanManager.rankList.clear();
     ClanManager.stashContents.clear();
@@ -300,16 +305,14 @@ public abstract class ClanManager {
     ClanManager.updateWhiteList();
   }
 
-  private static boolean retrieveMemberData(
+  static boolean retrieveMemberData(
       final boolean retrieveProfileData, final boolean retrieveAscensionData) {
-    // First, determine how many member profiles need to be retrieved
-    // before this happens.
+    // First, load whatever is already stored, and determine which
+    // member pages still need to be retrieved.
 
-    int requestsNeeded = 0;
-
-    String filename;
-    File profile, ascensionData;
-    String currentProfile, currentAscensionData;
+    ClanMemberCache cache = new ClanMemberCache(ClanManager.getMemberCacheFile());
+    List<String> profilesNeeded = new ArrayList<>();
+    List<String> ascensionsNeeded = new ArrayList<>();
 
     String[] names = new String[ClanManager.profileMap.size()];
     ClanManager.profileMap.keySet().toArray(names);
@@ -318,71 +321,169 @@ public abstract class ClanManager {
       KoLmafia.updateDisplay(
           "Cache data lookup for member " + (i + 1) + " of " + names.length + "...");
 
-      currentProfile = ClanManager.profileMap.get(names[i]);
-      currentAscensionData = ClanManager.ascensionMap.get(names[i]);
-
-      filename = ClanManager.getFileName(names[i]);
-      profile =
-          new File(KoLConstants.ROOT_LOCATION, ClanManager.snapshotFolder + "profiles/" + filename);
-      ascensionData =
-          new File(
-              KoLConstants.ROOT_LOCATION, ClanManager.snapshotFolder + "ascensions/" + filename);
+      String name = names[i];
 
-      if (retrieveProfileData) {
-        if (currentProfile.equals("") && !profile.exists()) {
-          ++requestsNeeded;
-        }
-
-        if (currentProfile.equals("") && profile.exists()) {
-          ClanManager.initializeProfile(names[i]);
-        }
+      if (retrieveProfileData
+          && ClanManager.profileMap.get(name).equals("")
+          && !ClanManager.loadStoredPage(cache, name, "profiles/", ClanManager.profileMap)) {
+        profilesNeeded.add(name);
       }
 
-      if (retrieveAscensionData) {
-        if (currentAscensionData.equals("") && !ascensionData.exists()) {
-          ++requestsNeeded;
-        }
-
-        if (currentAscensionData.equals("") && ascensionData.exists()) {
-          ClanManager.initializeAscensionData(names[i]);
-        }
+      if (retrieveAscensionData
+          && ClanManager.ascensionMap.get(name).equals("")
+          && !ClanManager.loadStoredPage(cache, name, "ascensions/", ClanManager.ascensionMap)) {
+        ascensionsNeeded.add(name);
       }
     }
 
-    // If all the member profiles have already been retrieved, then
-    // you won't need to look up any profiles, so it takes no time.
-    // No need to confirm with the user.  Therefore, return.
+    // Create a special HTML file for each of the
+    // players in the ProfileSnapshot so that it can be
+    // navigated at leisure.
 
-    if (requestsNeeded == 0) {
-      return true;
+    if (!profilesNeeded.isEmpty() || !ascensionsNeeded.isEmpty()) {
+      ClanManager.fetchMemberData(cache, profilesNeeded, ascensionsNeeded);
     }
 
-    // Now that it's known what the user wishes to continue,
-    // you begin initializing all the data.
+    cache.save();
+    return true;
+  }
 
-    // Create a special HTML file for each of the
-    // players in the ProfileSnapshot so that it can be
-    // navigated at leisure.
+  private static File getMemberCacheFile() {
+    return new File(KoLConstants.ROOT_LOCATION, "clan/" + ClanManager.clanId + "/members.txt");
+  }
 
-    for (int i = 0; i < names.length && KoLmafia.permitsContinue(); ++i) {
-      KoLmafia.updateDisplay(
-          "Loading profile for member " + (i + 1) + " of " + names.length + "...");
+  private static File getPageFile(final String folder, final String type, final String name) {
+    return new File(KoLConstants.ROOT_LOCATION, folder + type + ClanManager.getFileName(name));
+  }
 
-      currentProfile = ClanManager.profileMap.get(names[i]);
-      currentAscensionData = ClanManager.ascensionMap.get(names[i]);
+  private static void rememberMember(
+      final ClanMemberCache cache, final String name, final long fetched) {
+    String level = ClanManager.levelMap.getOrDefault(name, "");
+    String title = ClanManager.titleMap.getOrDefault(name, "");
+    cache.put(
+        name, new ClanMemberCache.Entry(level, title, fetched, ClanManager.snapshotFolder));
+  }
 
-      if (retrieveProfileData && currentProfile.equals("")) {
-        ClanManager.initializeProfile(names[i]);
+  /**
+   * Loads a member page stored by this week's snapshot. Failing that, one stored by an earlier
+   * snapshot will do if the member's roster entry has not changed since it was fetched; it is
+   * copied into this week's snapshot so that the pages link to one another.
+   */
+  private static boolean loadStoredPage(
+      final ClanMemberCache cache,
+      final String name,
+      final String type,
+      final Map<String, String> pages) {
+    File page = ClanManager.getPageFile(ClanManager.snapshotFolder, type, name);
+    ClanMemberCache.Entry entry = cache.get(name);
+
+    if (page.exists()) {
+      String data = ClanManager.readPage(page);
+      if (data == null) {
+        return false;
       }
 
-      if (retrieveAscensionData && currentAscensionData.equals("")) {
-        ClanManager.initializeAscensionData(names[i]);
+      pages.put(name, data);
+      if (entry == null || !entry.folder().equals(ClanManager.snapshotFolder)) {
+        ClanManager.rememberMember(cache, name, page.lastModified());
       }
+      return true;
     }
 
+    if (entry == null
+        || !entry.matches(
+            ClanManager.levelMap.getOrDefault(name, ""),
+            ClanManager.titleMap.getOrDefault(name, ""))) {
+      return false;
+    }
+
+    File earlier = ClanManager.getPageFile(entry.folder(), type, name);
+    String data = earlier.exists() ? ClanManager.readPage(earlier) : null;
+    if (data == null) {
+      return false;
+    }
+
+    pages.put(name, data);
+    ClanManager.writePage(page, data);
     return true;
   }
 
+  /**
+   * Fetches member profiles and ascension histories in a task scope, starting each request no
+   * sooner than clanSnapshotRequestDelay milliseconds after the one before. Cancelling the tasks
+   * stops whatever is still being fetched.
+   */
+  private static void fetchMemberData(
+      final ClanMemberCache cache, final List<String> profiles, final List<String> ascensions) {
+    int total = profiles.size() + ascensions.size();
+    AtomicLong nextStart = new AtomicLong();
+    long delay = Math.max(0, Preferences.getInteger("clanSnapshotRequestDelay"));
+
+    Map<String, String> fetchedProfiles = new ConcurrentHashMap<>();
+    Map<String, String> fetchedAscensions = new ConcurrentHashMap<>();
+
+    try (var scope = RequestThread.openTaskScope()) {
+      for (String name : profiles) {
+        scope.fork(
+            () -> {
+              if (ClanManager.awaitTurn(nextStart, delay)) {
+                String data = ClanManager.fetchProfile(name);
+                if (data != null) {
+                  fetchedProfiles.put(name, data);
+                }
+              }
+            });
+      }
+      for (String name : ascensions) {
+        scope.fork(
+            () -> {
+              if (ClanManager.awaitTurn(nextStart, delay)) {
+                String data = ClanManager.fetchAscensionHistory(name);
+                if (data != null) {
+                  fetchedAscensions.put(name, data);
+                }
+              }
+            });
+      }
+
+      scope.join(
+          received ->
+              KoLmafia.updateDisplay("Loaded member page " + received + " of " + total + "..."));
+    }
+
+    // The snapshot maps are not thread-safe, so the results are stored from here
+
+    long now = System.currentTimeMillis();
+    ClanManager.storeFetchedPages(cache, fetchedProfiles, "profiles/", ClanManager.profileMap, now);
+    ClanManager.storeFetchedPages(
+        cache, fetchedAscensions, "ascensions/", ClanManager.ascensionMap, now);
+  }
+
+  // Waits until this request may start, or returns false if the user has stopped
+  private static boolean awaitTurn(final AtomicLong nextStart, final long delay) {
+    long now = System.currentTimeMillis();
+    long start = nextStart.getAndAccumulate(now, (next, time) -> Math.max(next, time) + delay);
+    if (start > now) {
+      new PauseObject().pause(start - now);
+    }
+    return KoLmafia.permitsContinue();
+  }
+
+  private static void storeFetchedPages(
+      final ClanMemberCache cache,
+      final Map<String, String> fetched,
+      final String type,
+      final Map<String, String> pages,
+      final long now) {
+    for (Map.Entry<String, String> page : fetched.entrySet()) {
+      String name = page.getKey();
+      pages.put(name, page.getValue());
+      ClanManager.writePage(
+          ClanManager.getPageFile(ClanManager.snapshotFolder, type, name), page.getValue());
+      ClanManager.rememberMember(cache, name, now);
+    }
+  }
+
   public static final String getURLName(final String name) {
     return Preferences.baseUserName(name)
         + "_(%23"
@@ -395,126 +496,71 @@ public abstract class ClanManager {
     return Preferences.baseUserName(name) + "_(#" + ContactManager.getPlayerId(name) + ")" + ".htm";
   }
 
-  private static void initializeProfile(final String name) {
-    File profile =
-        new File(
-            KoLConstants.ROOT_LOCATION,
-            ClanManager.snapshotFolder + "profiles/" + ClanManager.getFileName(name));
-
-    if (profile.exists()) {
-      try {
-        BufferedReader istream = FileUtilities.getReader(profile);
-        StringBuilder profileString = new StringBuilder();
-        String currentLine;
-
-        while ((currentLine = istream.readLine()) != null) {
-          profileString.append(currentLine);
-          profileString.append(KoLConstants.LINE_BREAK);
-        }
-
-        ClanManager.profileMap.put(name.toLowerCase(), profileString.toString());
-        istream.close();
-      } catch (Exception e) {
-        // This should not happen.  Therefore, print
-        // a stack trace for debug purposes.
+  private static String readPage(final File page) {
+    try (BufferedReader istream = FileUtilities.getReader(page)) {
+      StringBuilder pageString = new StringBuilder();
+      String currentLine;
 
-        StaticEntity.printStackTrace(e, "Failed to load cached profile");
-        return;
+      while ((currentLine = istream.readLine()) != null) {
+        pageString.append(currentLine);
+        pageString.append(KoLConstants.LINE_BREAK);
       }
-    } else {
-      // Otherwise, run the request and pull the data from the
-      // web server.
-
-      ProfileRequest request = new ProfileRequest(name);
-      request.initialize();
-
-      String data =
-          KoLConstants.LINE_BREAK_PATTERN
-              .matcher(
-                  KoLConstants.COMMENT_PATTERN
-                      .matcher(
-                          KoLConstants.STYLE_PATTERN
-                              .matcher(
-                                  KoLConstants.SCRIPT_PATTERN
-                                      .matcher(request.responseText)
-                                      .replaceAll(""))
-                              .replaceAll(""))
-                      .replaceAll(""))
-              .replaceAll("")
-              .replaceAll(
-                  "ascensionhistory.php\\?back=other&who=" + ContactManager.getPlayerId(name),
-                  "../ascensions/" + ClanManager.getURLName(name));
-
-      ClanManager.profileMap.put(name, data);
-
-      // To avoid retrieving the file again, store the intermediate
-      // result in a local file.
-
-      PrintStream ostream = LogStream.openStream(profile, true);
-      ostream.println(data);
-      ostream.close();
+
+      return pageString.toString();
+    } catch (Exception e) {
+      // This should not happen.  Therefore, print
+      // a stack trace for debug purposes.
+
+      StaticEntity.printStackTrace(e, "Failed to load cached " + page.getName());
+      return null;
     }
   }
 
-  private static void initializeAscensionData(final String name) {
-    File ascension =
-        new File(
-            KoLConstants.ROOT_LOCATION,
-            ClanManager.snapshotFolder + "ascensions/" + ClanManager.getFileName(name));
-
-    if (ascension.exists()) {
-      try {
-        BufferedReader istream = FileUtilities.getReader(ascension);
-        StringBuilder ascensionString = new StringBuilder();
-        String currentLine;
-
-        while ((currentLine = istream.readLine()) != null) {
-          ascensionString.append(currentLine);
-          ascensionString.append(KoLConstants.LINE_BREAK);
-        }
+  // To avoid retrieving the page again, store the intermediate
+  // result in a local file.
 
-        ClanManager.ascensionMap.put(name, ascensionString.toString());
-      } catch (Exception e) {
-        // This should not happen.  Therefore, print
-        // a stack trace for debug purposes.
+  private static void writePage(final File page, final String data) {
+    PrintStream ostream = LogStream.openStream(page, true);
+    ostream.println(data);
+    ostream.close();
+  }
 
-        StaticEntity.printStackTrace(e, "Failed to load cached ascension history");
-        return;
-      }
-    } else {
-      // Otherwise, run the request and pull the data from the
-      // web server.
-
-      AscensionHistoryRequest request =
-          new AscensionHistoryRequest(name, ContactManager.getPlayerId(name));
-      request.initialize();
-
-      String data =
-          KoLConstants.LINE_BREAK_PATTERN
-              .matcher(
-                  KoLConstants.COMMENT_PATTERN
-                      .matcher(
-                          KoLConstants.STYLE_PATTERN
-                              .matcher(
-                                  KoLConstants.SCRIPT_PATTERN
-                                      .matcher(request.responseText)
-                                      .replaceAll(""))
-                              .replaceAll(""))
-                      .replaceAll(""))
-              .replaceAll("")
-              .replaceAll(
-                  "<a href=\"charsheet.php\">",
-                  "<a href=../profiles/" + ClanManager.getURLName(name));
-
-      ClanManager.ascensionMap.put(name, data);
-
-      // To avoid retrieving the file again, store the intermediate
-      // result in a local file.
-
-      PrintStream ostream = LogStream.openStream(ascension, true);
-      ostream.println(data);
-      ostream.close();
+  private static String cleanPage(final String responseText) {
+    return KoLConstants.LINE_BREAK_PATTERN
+        .matcher(
+            KoLConstants.COMMENT_PATTERN
+                .matcher(
+                    KoLConstants.STYLE_PATTERN
+                        .matcher(KoLConstants.SCRIPT_PATTERN.matcher(responseText).replaceAll(""))
+                        .replaceAll(""))
+                .replaceAll(""))
+        .replaceAll("");
+  }
+
+  private static String fetchProfile(final String name) {
+    ProfileRequest request = new ProfileRequest(name);
+    request.initialize();
+    if (request.responseText == null) {
+      return null;
+    }
+
+    return ClanManager.cleanPage(request.responseText)
+        .replaceAll(
+            "ascensionhistory.php\\?back=other&who=" + ContactManager.getPlayerId(name),
+            "../ascensions/" + ClanManager.getURLName(name));
+  }
+
+  private static String fetchAscensionHistory(final String name) {
+    AscensionHistoryRequest request =
+        new AscensionHistoryRequest(name, ContactManager.getPlayerId(name));
+    request.initialize();
+    if (request.responseText == null) {
+      return null;
     }
+
+    return ClanManager.cleanPage(request.responseText)
+        .replaceAll(
+            "<a href=\"charsheet.php\">", "<a href=../profiles/" + ClanManager.getURLName(name));
   }
 
   public static String getTitle(final String name) {
@@ -536,6 +582,7 @@ public abstract class ClanManager {
     AscensionSnapshot.registerMember(name);
 
     ClanManager.titleMap.put(lowercase, title);
+    ClanManager.levelMap.put(lowercase, level);
   }
 
   public static final void unregisterMember(final String playerId) {
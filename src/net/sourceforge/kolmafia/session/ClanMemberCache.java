@@ -0,0 +1,82 @@
+package net.sourceforge.kolmafia.session;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import net.sourceforge.kolmafia.StaticEntity;
+import net.sourceforge.kolmafia.utilities.FileUtilities;
+import net.sourceforge.kolmafia.utilities.LogStream;
+
+/*
+ * Remembers, for each clan member, what their roster entry said when their profile and ascension
+ * history were last fetched, when that was, and which snapshot folder holds the result.
+ *
+ * Snapshots are stored in a new folder each week. A member whose level and title are the same as
+ * when they were last fetched has most likely not ascended or changed rank since, so a snapshot
+ * can reuse the pages stored in the earlier folder rather than asking the server for them again.
+ */
+public class ClanMemberCache {
+  public record Entry(String level, String title, long fetched, String folder) {
+    public boolean matches(final String level, final String title) {
+      return this.level.equals(level) && this.title.equals(title);
+    }
+  }
+
+  private final File file;
+  private final Map<String, Entry> entries = new TreeMap<>();
+
+  public ClanMemberCache(final File file) {
+    this.file = file;
+
+    if (!file.exists()) {
+      return;
+    }
+
+    try (BufferedReader reader = FileUtilities.getReader(file)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] data = line.split("\t", -1);
+        if (data.length != 5) {
+          continue;
+        }
+
+        try {
+          this.entries.put(data[0], new Entry(data[1], data[2], Long.parseLong(data[3]), data[4]));
+        } catch (NumberFormatException e) {
+          // Skip the member; they will be fetched again
+        }
+      }
+    } catch (IOException e) {
+      StaticEntity.printStackTrace(e, "Failed to load clan member cache");
+    }
+  }
+
+  public Entry get(final String name) {
+    return this.entries.get(name.toLowerCase());
+  }
+
+  public void put(final String name, final Entry entry) {
+    this.entries.put(name.toLowerCase(), entry);
+  }
+
+  public void save() {
+    PrintStream ostream = LogStream.openStream(this.file, true);
+    for (Map.Entry<String, Entry> member : this.entries.entrySet()) {
+      Entry entry = member.getValue();
+      ostream.println(
+          member.getKey()
+              + "\t"
+              + entry.level()
+              + "\t"
+              + entry.title()
+              + "\t"
+              + entry.fetched()
+              + "\t"
+              + entry.folder());
+    }
+    ostream.close();
+  }
+}
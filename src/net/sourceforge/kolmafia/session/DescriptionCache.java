@@ -0,0 +1,267 @@
+package net.sourceforge.kolmafia.session;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.StaticEntity;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.utilities.StringUtilities;
+
+/*
+ * Description pages saved on disk, so that reading the description of every item, effect, skill or
+ * familiar in the game need only load each page once per KoLmafia version.
+ *
+ * Pages are stored by the SHA-256 hash of their text, and an index maps each URL, with its
+ * parameters sorted and the password hash removed, to the hash of its page and when it was loaded.
+ * The index starts with the version of KoLmafia that wrote it; a different version starts over.
+ * Lines are appended as pages are loaded, and the index is rewritten once most of its lines have
+ * been superseded by later ones.
+ *
+ * Only requests which set useDescriptionCache consult it. Some descriptions show the state of the
+ * character's own item or effect, and requests which read that state must not.
+ */
+public class DescriptionCache {
+  private static final Set<String> PAGES =
+      Set.of(
+          "desc_effect.php",
+          "desc_familiar.php",
+          "desc_item.php",
+          "desc_outfit.php",
+          "desc_skill.php");
+
+  private static final String INDEX = "index.txt";
+
+  // The index is not rewritten until it has at least this many lines
+  private static final int COMPACT_LINES = 1000;
+
+  private record Entry(String hash, long fetched) {}
+
+  private static final File DIRECTORY = new File(KoLConstants.CACHE_LOCATION, "descriptions");
+
+  // Loaded when first needed
+  private static Map<String, Entry> index = null;
+
+  // How many entry lines the index file holds, superseded or not
+  private static int indexLines = 0;
+
+  private DescriptionCache() {}
+
+  public static boolean isEnabled() {
+    return Preferences.getBoolean("cacheDescriptionPages");
+  }
+
+  public static boolean isCacheable(final String url) {
+    int index = url.indexOf("?");
+    return DescriptionCache.PAGES.contains(index == -1 ? url : url.substring(0, index));
+  }
+
+  /** Returns the URL with its parameters sorted, and without the password hash. */
+  public static String normalize(final String url) {
+    int index = url.indexOf("?");
+    if (index == -1) {
+      return url;
+    }
+
+    String parameters =
+        Arrays.stream(url.substring(index + 1).split("&"))
+            .filter(field -> !field.isEmpty() && !field.equals("pwd") && !field.startsWith("pwd="))
+            .sorted()
+            .collect(Collectors.joining("&"));
+    String page = url.substring(0, index);
+    return parameters.isEmpty() ? page : page + "?" + parameters;
+  }
+
+  /** Returns the saved text of the page at the given URL, or null if there is none. */
+  public static synchronized String get(final String url) {
+    Entry entry = DescriptionCache.getIndex().get(DescriptionCache.normalize(url));
+    if (entry == null) {
+      return null;
+    }
+
+    String text;
+    try {
+      text = Files.readString(DescriptionCache.pageFile(entry.hash()).toPath());
+    } catch (IOException e) {
+      return null;
+    }
+
+    // A damaged page is as good as a missing one
+    return DescriptionCache.hash(text).equals(entry.hash()) ? text : null;
+  }
+
+  public static synchronized boolean contains(final String url) {
+    return DescriptionCache.getIndex().containsKey(DescriptionCache.normalize(url));
+  }
+
+  public static synchronized void put(final String url, final String text) {
+    if (text == null || text.isEmpty()) {
+      return;
+    }
+
+    // Reading the index first makes the directory, if need be
+    Map<String, Entry> index = DescriptionCache.getIndex();
+    String key = DescriptionCache.normalize(url);
+    String hash = DescriptionCache.hash(text);
+    Entry entry = new Entry(hash, System.currentTimeMillis());
+
+    try {
+      File page = DescriptionCache.pageFile(hash);
+      if (!page.exists()) {
+        // Written whole or not at all, so that a reader never sees part of a page
+        File temporary = new File(DescriptionCache.DIRECTORY, hash + ".tmp");
+        Files.writeString(temporary.toPath(), text);
+        Files.move(temporary.toPath(), page.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      String line = entry.hash() + "\t" + entry.fetched() + "\t" + key + "\n";
+      Files.writeString(
+          DescriptionCache.indexFile().toPath(),
+          line,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      StaticEntity.printStackTrace(e);
+      return;
+    }
+
+    index.put(key, entry);
+    DescriptionCache.indexLines++;
+
+    if (DescriptionCache.indexLines >= COMPACT_LINES
+        && DescriptionCache.indexLines > 2 * index.size()) {
+      DescriptionCache.compactIndex();
+    }
+  }
+
+  // Rewrites the index with one line for each URL
+  private static void compactIndex() {
+    StringBuilder text = new StringBuilder();
+    text.append("version\t").append(StaticEntity.getVersion()).append("\n");
+    for (var entry : DescriptionCache.index.entrySet()) {
+      Entry value = entry.getValue();
+      text.append(value.hash())
+          .append("\t")
+          .append(value.fetched())
+          .append("\t")
+          .append(entry.getKey())
+          .append("\n");
+    }
+
+    // Written whole or not at all, as pages are
+    File temporary = new File(DescriptionCache.DIRECTORY, INDEX + ".tmp");
+    try {
+      Files.writeString(temporary.toPath(), text);
+      Files.move(
+          temporary.toPath(),
+          DescriptionCache.indexFile().toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      StaticEntity.printStackTrace(e);
+      return;
+    }
+
+    DescriptionCache.indexLines = DescriptionCache.index.size();
+  }
+
+  /** Returns how many lines the index on disk holds, not counting the version. */
+  static synchronized int getIndexLines() {
+    DescriptionCache.getIndex();
+    return DescriptionCache.indexLines;
+  }
+
+  public static synchronized int size() {
+    return DescriptionCache.getIndex().size();
+  }
+
+  /** Deletes every saved page. */
+  public static synchronized void clear() {
+    File[] files = DescriptionCache.DIRECTORY.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    DescriptionCache.index = null;
+  }
+
+  /** Forgets the index, so that it is read from disk again when next needed. */
+  public static synchronized void reset() {
+    DescriptionCache.index = null;
+  }
+
+  private static File pageFile(final String hash) {
+    return new File(DescriptionCache.DIRECTORY, hash + ".html");
+  }
+
+  private static File indexFile() {
+    return new File(DescriptionCache.DIRECTORY, INDEX);
+  }
+
+  private static Map<String, Entry> getIndex() {
+    if (DescriptionCache.index == null) {
+      DescriptionCache.index = DescriptionCache.loadIndex();
+    }
+    return DescriptionCache.index;
+  }
+
+  private static Map<String, Entry> loadIndex() {
+    Map<String, Entry> entries = new HashMap<>();
+    DescriptionCache.indexLines = 0;
+    File file = DescriptionCache.indexFile();
+
+    List<String> lines;
+    try {
+      lines = file.exists() ? Files.readAllLines(file.toPath()) : List.of();
+    } catch (IOException e) {
+      lines = List.of();
+    }
+
+    String header = "version\t" + StaticEntity.getVersion();
+    if (lines.isEmpty() || !lines.get(0).equals(header)) {
+      // Written by another version, which may have read these pages differently
+      DescriptionCache.clear();
+      DescriptionCache.DIRECTORY.mkdirs();
+      try {
+        Files.writeString(file.toPath(), header + "\n");
+      } catch (IOException e) {
+        StaticEntity.printStackTrace(e);
+      }
+      return entries;
+    }
+
+    // Later lines replace earlier ones for the same URL
+    DescriptionCache.indexLines = lines.size() - 1;
+    for (String line : lines.subList(1, lines.size())) {
+      String[] fields = line.split("\t", 3);
+      if (fields.length == 3) {
+        long fetched = StringUtilities.parseLong(fields[1]);
+        entries.put(fields[2], new Entry(fields[0], fetched));
+      }
+    }
+    return entries;
+  }
+
+  private static String hash(final String text) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform supports SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -3,8 +3,8 @@ package net.sourceforge.kolmafia.session;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -12,6 +12,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
 import java.util.stream.Collectors;
 import net.sourceforge.kolmafia.AdventureResult;
 import net.sourceforge.kolmafia.KoLConstants;
@@ -133,10 +136,13 @@ public abstract class MallPriceManager {
   // The data structures that this package "manages".
 
   // a Map from itemId -> current mall price (as visible to a scripter.)
-  private static final Map<Integer, Long> mallPrices = new HashMap<>();
+  //
+  // Both are concurrent, since prefetchMallPrices() searches for several items at once.
+  private static final Map<Integer, Long> mallPrices = new ConcurrentHashMap<>();
 
   // a Map from itemId -> the most resent mall search results.
-  private static final Map<Integer, List<PurchaseRequest>> mallSearches = new HashMap<>();
+  private static final Map<Integer, List<PurchaseRequest>> mallSearches =
+      new ConcurrentHashMap<>();
 
   // Constants controlling how we manage those data
 
@@ -626,6 +632,69 @@ public abstract class MallPriceManager {
     return price;
   }
 
+  // Whether getMallPrice(itemId) would answer without searching the mall.
+
+  public static boolean hasMallPrice(final int itemId) {
+    return !validMallItem(itemId) || MallPriceManager.mallPrices.getOrDefault(itemId, 0L) != 0L;
+  }
+
+  // Whether getMallPrice(itemId, maxAge) would answer without searching the mall.
+
+  public static boolean hasMallPrice(final int itemId, final float maxAge) {
+    if (!validMallItem(itemId)) {
+      return true;
+    }
+    if (MallPriceDatabase.getAge(itemId) > maxAge) {
+      return false;
+    }
+    return MallPriceDatabase.getPrice(itemId) > 0 || hasMallPrice(itemId);
+  }
+
+  // Search the mall for every item whose current price is not already known, several at a time,
+  // so that later calls to getMallPrice(itemId) need not wait on the mall. Returns how many items
+  // were searched for.
+
+  public static int prefetchMallPrices(final Collection<Integer> itemIds) {
+    return MallPriceManager.prefetchMallPrices(
+        itemIds, MallPriceManager::hasMallPrice, MallPriceManager::getMallPrice);
+  }
+
+  // As above, for later calls to getMallPrice(itemId, maxAge): prices in the shared database no
+  // older than maxAge are good enough.
+
+  public static int prefetchMallPrices(final Collection<Integer> itemIds, final float maxAge) {
+    return MallPriceManager.prefetchMallPrices(
+        itemIds,
+        itemId -> hasMallPrice(itemId, maxAge),
+        itemId -> MallPriceManager.getMallPrice(itemId, maxAge));
+  }
+
+  private static int prefetchMallPrices(
+      final Collection<Integer> itemIds,
+      final IntPredicate known,
+      final IntToLongFunction lookup) {
+    List<Integer> unknown =
+        itemIds.stream().distinct().filter(itemId -> !known.test(itemId)).toList();
+    if (unknown.isEmpty() || GenericRequest.abortIfInFightOrChoice()) {
+      return 0;
+    }
+
+    int threads = Math.max(1, Preferences.getInteger("mallSearchThreads"));
+    try (var scope =
+        new RequestThread.TaskScope(Preferences.getBoolean("useVirtualThreads"), threads)) {
+      for (int itemId : unknown) {
+        scope.fork(() -> lookup.applyAsLong(itemId));
+      }
+
+      scope.join(
+          received ->
+              KoLmafia.updateDisplay(
+                  "Checked mall prices of " + received + " of " + unknown.size() + " items..."));
+    }
+
+    return unknown.size();
+  }
+
   public static int getMallPrices(AdventureResult[] items, float maxAge) {
     // Count how many items we retrieved
     int count = 0;
@@ -0,0 +1,360 @@
+package net.sourceforge.kolmafia.session;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.kolmafia.RequestLogger;
+import net.sourceforge.kolmafia.RequestThread;
+import net.sourceforge.kolmafia.StaticEntity;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.session.RequestMetrics.Phase;
+
+/*
+ * An ordered list of steps, each of which may load pages, which can be run so that the network
+ * round trips of independent steps overlap while their responses are still handled in order.
+ *
+ * A step may start as soon as the steps it names as dependencies have finished, but a response it
+ * receives is not processed until every step listed before it has finished; GenericRequest waits
+ * for that turn through awaitTurn(). Code a step runs before its first request does run early, so
+ * if it reads anything set by an earlier step, it must name that step as a dependency.
+ *
+ * The first unfinished step may always start, and the plan has a thread of its own for each step,
+ * so it cannot stall waiting for a thread.
+ */
+public class RefreshPlan {
+  public enum Effects {
+    // Only loads pages: may start early and wait for its turn to process them
+    READS,
+    // Changes local state outside of response processing: starts in its turn
+    LOCAL,
+    // Changes something on the server: starts in its turn, and nothing after it starts before it
+    // is finished
+    WRITES
+  }
+
+  private record Step(String name, Effects effects, List<Integer> after, Runnable action) {}
+
+  private static final ThreadLocal<Turn> CURRENT = new ThreadLocal<>();
+
+  private final String name;
+  private final List<Step> steps = new ArrayList<>();
+  private final Map<String, Integer> indexes = new HashMap<>();
+
+  // Per step, in nanoseconds since the plan started; 0 if it has not happened
+  private long[] started;
+  private long[] arrived;
+  private long[] turned;
+  private long[] ended;
+  private boolean[] done;
+  private int head;
+  private long start;
+  private int threads;
+
+  public RefreshPlan(final String name) {
+    this.name = name;
+  }
+
+  /** Adds a step, which runs after the named earlier steps. */
+  public RefreshPlan step(
+      final String name, final Effects effects, final Runnable action, final String... after) {
+    List<Integer> dependencies = new ArrayList<>();
+    for (String dependency : after) {
+      Integer index = this.indexes.get(dependency);
+      if (index == null) {
+        throw new IllegalArgumentException(
+            "Step " + name + " depends on " + dependency + ", which is not an earlier step");
+      }
+      dependencies.add(index);
+    }
+
+    this.indexes.put(name, this.steps.size());
+    this.steps.add(new Step(name, effects, dependencies, action));
+    return this;
+  }
+
+  /**
+   * Runs every step, with up to the given number running at once. With one thread, the steps run
+   * one after another on the calling thread.
+   */
+  public void run(final int threads) {
+    int count = this.steps.size();
+    this.started = new long[count];
+    this.arrived = new long[count];
+    this.turned = new long[count];
+    this.ended = new long[count];
+    this.done = new boolean[count];
+    this.head = 0;
+    this.threads = Math.max(1, threads);
+    this.start = System.nanoTime();
+
+    if (this.threads == 1) {
+      for (int i = 0; i < count; i++) {
+        this.started[i] = this.now();
+        this.perform(i);
+        this.finish(i);
+      }
+      return;
+    }
+
+    // A step waiting for its turn holds the thread it runs on, so the first unfinished step must
+    // never queue for a thread behind later ones: the plan has a thread for every step, rather
+    // than sharing a pool which may have fewer.
+    ExecutorService executor =
+        Preferences.getBoolean("useVirtualThreads")
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(count);
+    try (var scope = new RequestThread.TaskScope(executor, count)) {
+      synchronized (this) {
+        while (this.head < count) {
+          this.startReady(scope);
+          this.waitUninterruptibly();
+        }
+      }
+    }
+  }
+
+  private long now() {
+    // Never 0, which means "not yet"
+    return Math.max(1L, System.nanoTime() - this.start);
+  }
+
+  private void startReady(final RequestThread.TaskScope scope) {
+    int running = 0;
+    for (int i = this.head; i < this.steps.size(); i++) {
+      if (this.started[i] != 0 && !this.done[i]) {
+        running++;
+      }
+    }
+
+    for (int i = this.head; i < this.steps.size(); i++) {
+      Step step = this.steps.get(i);
+
+      if (this.started[i] != 0) {
+        if (step.effects() == Effects.WRITES && !this.done[i]) {
+          return;
+        }
+        continue;
+      }
+
+      if (step.effects() != Effects.READS) {
+        if (i == this.head) {
+          this.launch(scope, i);
+          running++;
+        }
+        if (step.effects() == Effects.WRITES) {
+          return;
+        }
+        continue;
+      }
+
+      if ((running < this.threads || i == this.head) && this.isReady(step)) {
+        this.launch(scope, i);
+        running++;
+      }
+    }
+  }
+
+  private boolean isReady(final Step step) {
+    for (int dependency : step.after()) {
+      if (!this.done[dependency]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void launch(final RequestThread.TaskScope scope, final int index) {
+    this.started[index] = this.now();
+    scope.fork(
+        () -> {
+          CURRENT.set(new Turn(this, index));
+          try {
+            this.perform(index);
+          } finally {
+            CURRENT.remove();
+            this.finish(index);
+          }
+        });
+  }
+
+  private void perform(final int index) {
+    Step step = this.steps.get(index);
+    try (var timer = RequestMetrics.time(Phase.REFRESH, step.name())) {
+      step.action().run();
+    } catch (Exception e) {
+      StaticEntity.printStackTrace(e);
+    }
+  }
+
+  private synchronized void finish(final int index) {
+    this.ended[index] = this.now();
+    this.done[index] = true;
+    while (this.head < this.steps.size() && this.done[this.head]) {
+      this.head++;
+    }
+    this.notifyAll();
+  }
+
+  private void waitUninterruptibly() {
+    try {
+      this.wait();
+    } catch (InterruptedException e) {
+      // Steps finish regardless; let them
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record Turn(RefreshPlan plan, int index) {}
+
+  /**
+   * If the current thread is running a step of a plan, waits until every earlier step of that plan
+   * has finished. GenericRequest calls this before it processes a response.
+   */
+  public static void awaitTurn() {
+    Turn turn = CURRENT.get();
+    if (turn != null) {
+      turn.plan().awaitTurn(turn.index());
+    }
+  }
+
+  private synchronized void awaitTurn(final int index) {
+    if (this.turned[index] != 0) {
+      return;
+    }
+
+    this.arrived[index] = this.now();
+
+    // Waiting out an abort would let this response be processed out of turn, so keep waiting
+    // and pass the interrupt on afterwards. The first unfinished step always finishes.
+    boolean waited = this.head < index;
+    boolean interrupted = false;
+    while (this.head < index) {
+      try {
+        this.wait();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+
+    // Equal to the arrival time if it did not have to wait
+    this.turned[index] = waited ? this.now() : this.arrived[index];
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private long released(final int index) {
+    return this.turned[index] > this.arrived[index] ? this.turned[index] : this.started[index];
+  }
+
+  /**
+   * Returns the steps which determined how long the plan took, first to last. Each was held up by
+   * the one before it: it started, or got its turn to process a response, when that one finished.
+   */
+  public List<String> getCriticalPath() {
+    List<String> path = new ArrayList<>();
+    if (this.ended == null) {
+      return path;
+    }
+
+    int step = -1;
+    for (int i = 0; i < this.ended.length; i++) {
+      if (this.done[i] && (step == -1 || this.ended[i] > this.ended[step])) {
+        step = i;
+      }
+    }
+
+    while (step != -1) {
+      path.add(this.steps.get(step).name());
+      step = this.blocker(step);
+    }
+
+    Collections.reverse(path);
+    return path;
+  }
+
+  // The step whose finishing let the given one start, or process its responses: the last of its
+  // dependencies to finish if it started as soon as they had, or else the last step to finish
+  // before it was released.
+  private int blocker(final int step) {
+    long released = this.released(step);
+    boolean turned = this.turned[step] > this.arrived[step];
+
+    List<Integer> candidates = new ArrayList<>();
+    if (!turned) {
+      for (int dependency : this.steps.get(step).after()) {
+        if (this.ended[dependency] <= released) {
+          candidates.add(dependency);
+        }
+      }
+    }
+    if (candidates.isEmpty()) {
+      for (int i = 0; i < this.ended.length; i++) {
+        if (i != step && this.done[i] && this.ended[i] <= released) {
+          candidates.add(i);
+        }
+      }
+    }
+
+    int blocker = -1;
+    for (int i : candidates) {
+      if (blocker == -1 || this.ended[i] > this.ended[blocker]) {
+        blocker = i;
+      }
+    }
+    return blocker;
+  }
+
+  private static long millis(final long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  public void printReport() {
+    if (this.ended == null) {
+      return;
+    }
+
+    long total = Arrays.stream(this.ended).max().orElse(0L);
+
+    StringBuilder buffer = new StringBuilder();
+    buffer.append(this.name);
+    buffer.append(" took ");
+    buffer.append(millis(total));
+    buffer.append(" ms with ");
+    buffer.append(this.threads);
+    buffer.append(this.threads == 1 ? " thread.<br>" : " threads.<br>");
+
+    buffer.append("<table border=2 cols=6>");
+    buffer.append("<tr><th>Step</th><th>Effects</th><th>Start ms</th>");
+    buffer.append("<th>Waited for turn ms</th><th>End ms</th><th>Own ms</th></tr>");
+    for (int i = 0; i < this.steps.size(); i++) {
+      Step step = this.steps.get(i);
+      long waited = this.turned[i] > this.arrived[i] ? this.turned[i] - this.arrived[i] : 0L;
+      buffer.append("<tr><td>");
+      buffer.append(step.name());
+      buffer.append("</td><td>");
+      buffer.append(step.effects().name().toLowerCase());
+      buffer.append("</td><td>");
+      buffer.append(millis(this.started[i]));
+      buffer.append("</td><td>");
+      buffer.append(millis(waited));
+      buffer.append("</td><td>");
+      buffer.append(millis(this.ended[i]));
+      buffer.append("</td><td>");
+      buffer.append(millis(this.ended[i] - this.released(i)));
+      buffer.append("</td></tr>");
+    }
+    buffer.append("</table>");
+
+    buffer.append("Critical path: ");
+    buffer.append(String.join(" &rarr; ", this.getCriticalPath()));
+
+    RequestLogger.printHtml(buffer.toString());
+  }
+}
@@ -0,0 +1,354 @@
+package net.sourceforge.kolmafia.session;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.RequestLogger;
+import net.sourceforge.kolmafia.listener.Listener;
+import net.sourceforge.kolmafia.listener.PreferenceListenerRegistry;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.utilities.LogStream;
+
+/*
+ * Wall clock and CPU time spent in each phase of a request or an adventure, kept as a histogram
+ * for each page or location.
+ *
+ * Timing is off unless the "requestMetrics" preference is set. While it is off, time() returns
+ * null without reading a clock, so a phase wrapped in try-with-resources costs one volatile read.
+ *
+ * Phases nest: processResponse includes processResults, and the adventure phase includes every
+ * request made while adventuring.
+ */
+public final class RequestMetrics {
+  public enum Phase {
+    // GenericRequest. HttpClient.send() writes the request and waits for the reply in one call, so
+    // the round trip includes both.
+    PREPARE("prepare"),
+    ROUND_TRIP("roundTrip"),
+    DECODE("decode"),
+    PROCESS_RESPONSE("processResponse"),
+    PROCESS_RESULTS("processResults"),
+    LISTENERS("listeners"),
+    // RelayRequest
+    DECORATE("decorate"),
+    // KoLAdventure and KoLmafia
+    VALIDATE("validate"),
+    BETWEEN_BATTLE_SCRIPT("betweenBattleScript"),
+    MOOD("mood"),
+    RECOVERY("recovery"),
+    ADVENTURE("adventure"),
+    AFTER_ADVENTURE_SCRIPT("afterAdventureScript"),
+    // RefreshPlan
+    REFRESH("refresh");
+
+    private final String name;
+
+    Phase(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return this.name;
+    }
+  }
+
+  // Upper bounds of the histogram buckets, in milliseconds. The last bucket is unbounded.
+  private static final long[] BUCKETS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+  public static class Histogram {
+    private final long[] counts = new long[BUCKETS.length + 1];
+    private long count = 0L;
+    private long wallNanos = 0L;
+    private long cpuNanos = 0L;
+    private long maxNanos = 0L;
+
+    private void add(final long wall, final long cpu) {
+      long millis = TimeUnit.NANOSECONDS.toMillis(wall);
+      int bucket = 0;
+      while (bucket < BUCKETS.length && millis > BUCKETS[bucket]) {
+        bucket++;
+      }
+      this.counts[bucket]++;
+      this.count++;
+      this.wallNanos += wall;
+      this.cpuNanos += cpu;
+      this.maxNanos = Math.max(this.maxNanos, wall);
+    }
+
+    public long getCount() {
+      return this.count;
+    }
+
+    public double getTotal() {
+      return this.wallNanos / 1e6;
+    }
+
+    public double getCPU() {
+      return this.cpuNanos / 1e6;
+    }
+
+    public double getAverage() {
+      return this.count == 0 ? 0.0 : this.getTotal() / this.count;
+    }
+
+    public double getMax() {
+      return this.maxNanos / 1e6;
+    }
+
+    /** Returns the upper bound of the bucket holding the given percentile, in milliseconds. */
+    public double getPercentile(final double percentile) {
+      long rank = (long) Math.ceil(this.count * percentile / 100.0);
+      long seen = 0L;
+      for (int bucket = 0; bucket < BUCKETS.length; bucket++) {
+        seen += this.counts[bucket];
+        if (seen >= rank) {
+          return Math.min(BUCKETS[bucket], this.getMax());
+        }
+      }
+      return this.getMax();
+    }
+  }
+
+  public static final class Timer implements AutoCloseable {
+    private final Phase phase;
+    private final String key;
+    private final long wall;
+    private final long cpu;
+
+    private Timer(final Phase phase, final String key) {
+      this.phase = phase;
+      this.key = key;
+      this.wall = System.nanoTime();
+      this.cpu = RequestMetrics.cpuTime();
+    }
+
+    @Override
+    public void close() {
+      long wall = System.nanoTime() - this.wall;
+      long cpu = RequestMetrics.cpuTime() - this.cpu;
+      RequestMetrics.record(this.phase, this.key, wall, cpu);
+    }
+  }
+
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  private static final Map<Phase, Map<String, Histogram>> HISTOGRAMS = new EnumMap<>(Phase.class);
+
+  private static volatile boolean enabled = false;
+  private static ScheduledExecutorService dumper = null;
+  private static ScheduledFuture<?> dump = null;
+
+  // The registry holds listeners weakly, so keep this one alive here.
+  private static final Listener SETTINGS_LISTENER = RequestMetrics::applySettings;
+  private static boolean listening = false;
+
+  private RequestMetrics() {}
+
+  /**
+   * Applies the "requestMetrics", "requestMetricsFile" and "requestMetricsInterval" preferences now
+   * and whenever they change.
+   */
+  public static synchronized void initialize() {
+    if (!RequestMetrics.listening) {
+      PreferenceListenerRegistry.registerPreferenceListener(
+          new String[] {"requestMetrics", "requestMetricsFile", "requestMetricsInterval"},
+          RequestMetrics.SETTINGS_LISTENER);
+      RequestMetrics.listening = true;
+    }
+    RequestMetrics.applySettings();
+  }
+
+  private static void applySettings() {
+    RequestMetrics.setEnabled(Preferences.getBoolean("requestMetrics"));
+  }
+
+  public static void setEnabled(final boolean enabled) {
+    RequestMetrics.enabled = enabled;
+    RequestMetrics.scheduleDump();
+  }
+
+  public static boolean isEnabled() {
+    return RequestMetrics.enabled;
+  }
+
+  /**
+   * Starts timing a phase for the given page or location. Returns null if timing is off, which
+   * try-with-resources accepts.
+   */
+  public static Timer time(final Phase phase, final String key) {
+    if (!RequestMetrics.enabled) {
+      return null;
+    }
+    return new Timer(phase, key == null ? "" : key);
+  }
+
+  private static long cpuTime() {
+    return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : 0L;
+  }
+
+  private static void record(final Phase phase, final String key, final long wall, final long cpu) {
+    synchronized (HISTOGRAMS) {
+      HISTOGRAMS
+          .computeIfAbsent(phase, k -> new TreeMap<>())
+          .computeIfAbsent(key, k -> new Histogram())
+          .add(wall, cpu);
+    }
+  }
+
+  public static void reset() {
+    synchronized (HISTOGRAMS) {
+      HISTOGRAMS.clear();
+    }
+  }
+
+  /** Returns a copy of the histograms, by phase and then by page or location. */
+  public static Map<Phase, Map<String, Histogram>> getHistograms() {
+    Map<Phase, Map<String, Histogram>> copy = new EnumMap<>(Phase.class);
+    synchronized (HISTOGRAMS) {
+      for (Map.Entry<Phase, Map<String, Histogram>> phase : HISTOGRAMS.entrySet()) {
+        Map<String, Histogram> pages = new TreeMap<>();
+        for (Map.Entry<String, Histogram> page : phase.getValue().entrySet()) {
+          pages.put(page.getKey(), RequestMetrics.copy(page.getValue()));
+        }
+        copy.put(phase.getKey(), pages);
+      }
+    }
+    return copy;
+  }
+
+  private static Histogram copy(final Histogram histogram) {
+    Histogram copy = new Histogram();
+    System.arraycopy(histogram.counts, 0, copy.counts, 0, histogram.counts.length);
+    copy.count = histogram.count;
+    copy.wallNanos = histogram.wallNanos;
+    copy.cpuNanos = histogram.cpuNanos;
+    copy.maxNanos = histogram.maxNanos;
+    return copy;
+  }
+
+  public static void printMetrics() {
+    StringBuilder buffer = new StringBuilder();
+    buffer.append("Request timing is ");
+    buffer.append(RequestMetrics.enabled ? "on" : "off");
+    buffer.append(".<br>");
+
+    buffer.append("<table border=2 cols=8>");
+    buffer.append("<tr><th>Phase</th><th>Page</th><th>Count</th><th>Total ms</th>");
+    buffer.append("<th>CPU ms</th><th>Average ms</th><th>90% ms</th><th>Max ms</th></tr>");
+    for (Map.Entry<Phase, Map<String, Histogram>> phase :
+        RequestMetrics.getHistograms().entrySet()) {
+      for (Map.Entry<String, Histogram> page : phase.getValue().entrySet()) {
+        Histogram histogram = page.getValue();
+        buffer.append("<tr><td>");
+        buffer.append(phase.getKey());
+        buffer.append("</td><td>");
+        buffer.append(page.getKey());
+        buffer.append("</td><td>");
+        buffer.append(histogram.getCount());
+        buffer.append("</td><td>");
+        buffer.append(Math.round(histogram.getTotal()));
+        buffer.append("</td><td>");
+        buffer.append(Math.round(histogram.getCPU()));
+        buffer.append("</td><td>");
+        buffer.append(Math.round(histogram.getAverage()));
+        buffer.append("</td><td>");
+        buffer.append(Math.round(histogram.getPercentile(90)));
+        buffer.append("</td><td>");
+        buffer.append(Math.round(histogram.getMax()));
+        buffer.append("</td></tr>");
+      }
+    }
+    buffer.append("</table>");
+
+    RequestLogger.printHtml(buffer.toString());
+  }
+
+  /** Returns the histograms in the Prometheus text exposition format. */
+  public static String toPrometheus() {
+    StringBuilder buffer = new StringBuilder();
+    buffer.append("# HELP kolmafia_phase_seconds Wall clock time spent in a phase.\n");
+    buffer.append("# TYPE kolmafia_phase_seconds histogram\n");
+
+    Map<Phase, Map<String, Histogram>> histograms = RequestMetrics.getHistograms();
+    for (Map.Entry<Phase, Map<String, Histogram>> phase : histograms.entrySet()) {
+      for (Map.Entry<String, Histogram> page : phase.getValue().entrySet()) {
+        Histogram histogram = page.getValue();
+        String labels = "phase=\"" + phase.getKey() + "\",page=\"" + escape(page.getKey()) + "\"";
+        long cumulative = 0L;
+        for (int bucket = 0; bucket < BUCKETS.length; bucket++) {
+          cumulative += histogram.counts[bucket];
+          buffer.append("kolmafia_phase_seconds_bucket{").append(labels);
+          buffer.append(",le=\"").append(BUCKETS[bucket] / 1000.0).append("\"} ");
+          buffer.append(cumulative).append('\n');
+        }
+        buffer.append("kolmafia_phase_seconds_bucket{").append(labels);
+        buffer.append(",le=\"+Inf\"} ").append(histogram.count).append('\n');
+        buffer.append("kolmafia_phase_seconds_sum{").append(labels).append("} ");
+        buffer.append(histogram.wallNanos / 1e9).append('\n');
+        buffer.append("kolmafia_phase_seconds_count{").append(labels).append("} ");
+        buffer.append(histogram.count).append('\n');
+      }
+    }
+
+    buffer.append("# HELP kolmafia_phase_cpu_seconds CPU time spent in a phase.\n");
+    buffer.append("# TYPE kolmafia_phase_cpu_seconds counter\n");
+    for (Map.Entry<Phase, Map<String, Histogram>> phase : histograms.entrySet()) {
+      for (Map.Entry<String, Histogram> page : phase.getValue().entrySet()) {
+        buffer.append("kolmafia_phase_cpu_seconds{phase=\"").append(phase.getKey());
+        buffer.append("\",page=\"").append(escape(page.getKey())).append("\"} ");
+        buffer.append(page.getValue().cpuNanos / 1e9).append('\n');
+      }
+    }
+
+    return buffer.toString();
+  }
+
+  private static String escape(final String label) {
+    return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  public static void dump(final File file) {
+    PrintStream ostream = LogStream.openStream(file, true);
+    ostream.print(RequestMetrics.toPrometheus());
+    ostream.close();
+  }
+
+  // Writes the histograms to "requestMetricsFile" every "requestMetricsInterval" seconds while
+  // timing is on and a file is named.
+  private static synchronized void scheduleDump() {
+    if (RequestMetrics.dump != null) {
+      RequestMetrics.dump.cancel(false);
+      RequestMetrics.dump = null;
+    }
+
+    String filename = Preferences.getString("requestMetricsFile");
+    int interval = Preferences.getInteger("requestMetricsInterval");
+    if (!RequestMetrics.enabled || filename.isEmpty() || interval <= 0) {
+      return;
+    }
+
+    if (RequestMetrics.dumper == null) {
+      RequestMetrics.dumper =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "Request Metrics");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+
+    File file = new File(KoLConstants.ROOT_LOCATION, filename);
+    RequestMetrics.dump =
+        RequestMetrics.dumper.scheduleAtFixedRate(
+            () -> RequestMetrics.dump(file), interval, interval, TimeUnit.SECONDS);
+  }
+}
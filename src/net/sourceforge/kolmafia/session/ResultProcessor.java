@@ -2,8 +2,10 @@ package net.sourceforge.kolmafia.session;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.sourceforge.kolmafia.AdventureResult;
@@ -1321,6 +1323,523 @@ public class ResultProcessor {
     }
   }
 
+  // Item-specific processing for positive results, found by item ID.
+
+  @FunctionalInterface
+  private interface GainHandler {
+    void gain(boolean adventureResults, AdventureResult result);
+  }
+
+  private static final Map<Integer, GainHandler> GAIN_HANDLERS = new HashMap<>();
+
+  static {
+    GAIN_HANDLERS.put(ItemPool.GMOB_POLLEN, ResultProcessor::gainGmobPollen);
+    GAIN_HANDLERS.put(ItemPool.ROASTED_MARSHMALLOW, ResultProcessor::gainRoastedMarshmallow);
+    GAIN_HANDLERS.put(ItemPool.MARSHMALLOW_BOMB, ResultProcessor::gainMarshmallowBomb);
+    GAIN_HANDLERS.put(ItemPool.STICKER_SWORD, ResultProcessor::gainStickerSword);
+    GAIN_HANDLERS.put(ItemPool.STICKER_CROSSBOW, ResultProcessor::gainStickerCrossbow);
+    GAIN_HANDLERS.put(ItemPool.MOSQUITO_LARVA, ResultProcessor::gainMosquitoLarva);
+    GAIN_HANDLERS.put(ItemPool.BITCHIN_MEATCAR, ResultProcessor::gainBitchinMeatcar);
+    GAIN_HANDLERS.put(ItemPool.DESERT_BUS_PASS, ResultProcessor::gainBitchinMeatcar);
+    GAIN_HANDLERS.put(ItemPool.PUMPKIN_CARRIAGE, ResultProcessor::gainBitchinMeatcar);
+    GAIN_HANDLERS.put(ItemPool.TIN_LIZZIE, ResultProcessor::gainBitchinMeatcar);
+    GAIN_HANDLERS.put(ItemPool.RUSTY_SCREWDRIVER, ResultProcessor::gainRustyScrewdriver);
+    GAIN_HANDLERS.put(ItemPool.JUNK_JUNK, ResultProcessor::gainJunkJunk);
+    GAIN_HANDLERS.put(ItemPool.DINGY_DINGHY, ResultProcessor::gainDingyDinghy);
+    GAIN_HANDLERS.put(ItemPool.SKIFF, ResultProcessor::gainDingyDinghy);
+    GAIN_HANDLERS.put(ItemPool.YELLOW_SUBMARINE, ResultProcessor::gainDingyDinghy);
+    GAIN_HANDLERS.put(ItemPool.TISSUE_PAPER_IMMATERIA, ResultProcessor::gainTissuePaperImmateria);
+    GAIN_HANDLERS.put(ItemPool.TIN_FOIL_IMMATERIA, ResultProcessor::gainTinFoilImmateria);
+    GAIN_HANDLERS.put(ItemPool.GAUZE_IMMATERIA, ResultProcessor::gainGauzeImmateria);
+    GAIN_HANDLERS.put(ItemPool.PLASTIC_WRAP_IMMATERIA, ResultProcessor::gainPlasticWrapImmateria);
+    GAIN_HANDLERS.put(ItemPool.SOCK, ResultProcessor::gainSock);
+    GAIN_HANDLERS.put(ItemPool.BROKEN_WINGS, ResultProcessor::gainBrokenWings);
+    GAIN_HANDLERS.put(ItemPool.SUNKEN_EYES, ResultProcessor::gainBrokenWings);
+    GAIN_HANDLERS.put(ItemPool.BUSTED_WINGS, ResultProcessor::gainBustedWings);
+    GAIN_HANDLERS.put(ItemPool.BIRD_BRAIN, ResultProcessor::gainBustedWings);
+    GAIN_HANDLERS.put(ItemPool.PIRATE_FLEDGES, ResultProcessor::gainPirateFledges);
+    GAIN_HANDLERS.put(ItemPool.MACGUFFIN_DIARY, ResultProcessor::gainMacguffinDiary);
+    GAIN_HANDLERS.put(ItemPool.ED_DIARY, ResultProcessor::gainMacguffinDiary);
+    GAIN_HANDLERS.put(ItemPool.VOLCANO_MAP, ResultProcessor::gainVolcanoMap);
+    GAIN_HANDLERS.put(ItemPool.FIRST_PIZZA, ResultProcessor::gainFirstPizza);
+    GAIN_HANDLERS.put(ItemPool.LACROSSE_STICK, ResultProcessor::gainFirstPizza);
+    GAIN_HANDLERS.put(ItemPool.EYE_OF_THE_STARS, ResultProcessor::gainFirstPizza);
+    GAIN_HANDLERS.put(ItemPool.STANKARA_STONE, ResultProcessor::gainFirstPizza);
+    GAIN_HANDLERS.put(ItemPool.MURPHYS_FLAG, ResultProcessor::gainFirstPizza);
+    GAIN_HANDLERS.put(ItemPool.SHIELD_OF_BROOK, ResultProcessor::gainFirstPizza);
+    GAIN_HANDLERS.put(ItemPool.PALINDROME_BOOK_2, ResultProcessor::gainPalindromeBook2);
+    GAIN_HANDLERS.put(ItemPool.WET_STUNT_NUT_STEW, ResultProcessor::gainWetStuntNutStew);
+    GAIN_HANDLERS.put(ItemPool.MEGA_GEM, ResultProcessor::gainMegaGem);
+    GAIN_HANDLERS.put(ItemPool.HOLY_MACGUFFIN, ResultProcessor::gainHolyMacguffin);
+    GAIN_HANDLERS.put(ItemPool.CONFETTI, ResultProcessor::gainConfetti);
+    GAIN_HANDLERS.put(
+        ItemPool.MORTAR_DISSOLVING_RECIPE, ResultProcessor::gainMortarDissolvingRecipe);
+    GAIN_HANDLERS.put(ItemPool.MOLYBDENUM_MAGNET, ResultProcessor::gainMolybdenumMagnet);
+    GAIN_HANDLERS.put(ItemPool.MOLYBDENUM_HAMMER, ResultProcessor::gainMolybdenumHammer);
+    GAIN_HANDLERS.put(ItemPool.MOLYBDENUM_SCREWDRIVER, ResultProcessor::gainMolybdenumHammer);
+    GAIN_HANDLERS.put(ItemPool.MOLYBDENUM_PLIERS, ResultProcessor::gainMolybdenumHammer);
+    GAIN_HANDLERS.put(ItemPool.MOLYBDENUM_WRENCH, ResultProcessor::gainMolybdenumHammer);
+    GAIN_HANDLERS.put(ItemPool.SPOOKY_BICYCLE_CHAIN, ResultProcessor::gainSpookyBicycleChain);
+    GAIN_HANDLERS.put(ItemPool.RONALD_SHELTER_MAP, ResultProcessor::gainRonaldShelterMap);
+    GAIN_HANDLERS.put(ItemPool.GRIMACE_SHELTER_MAP, ResultProcessor::gainRonaldShelterMap);
+    GAIN_HANDLERS.put(ItemPool.SPOOKY_LITTLE_GIRL, ResultProcessor::gainSpookyLittleGirl);
+    GAIN_HANDLERS.put(ItemPool.EMU_UNIT, ResultProcessor::gainEmuUnit);
+    GAIN_HANDLERS.put(
+        ItemPool.OVERCHARGED_POWER_SPHERE, ResultProcessor::gainOverchargedPowerSphere);
+    GAIN_HANDLERS.put(ItemPool.EL_VIBRATO_HELMET, ResultProcessor::gainOverchargedPowerSphere);
+    GAIN_HANDLERS.put(ItemPool.EL_VIBRATO_SPEAR, ResultProcessor::gainOverchargedPowerSphere);
+    GAIN_HANDLERS.put(ItemPool.EL_VIBRATO_PANTS, ResultProcessor::gainOverchargedPowerSphere);
+    GAIN_HANDLERS.put(ItemPool.BROKEN_DRONE, ResultProcessor::gainBrokenDrone);
+    GAIN_HANDLERS.put(ItemPool.REPAIRED_DRONE, ResultProcessor::gainRepairedDrone);
+    GAIN_HANDLERS.put(ItemPool.AUGMENTED_DRONE, ResultProcessor::gainAugmentedDrone);
+    GAIN_HANDLERS.put(ItemPool.TRAPEZOID, ResultProcessor::gainTrapezoid);
+    GAIN_HANDLERS.put(ItemPool.CITADEL_SATCHEL, ResultProcessor::gainCitadelSatchel);
+    GAIN_HANDLERS.put(ItemPool.HAROLDS_HAMMER_HEAD, ResultProcessor::gainHaroldsHammerHead);
+    GAIN_HANDLERS.put(ItemPool.HAROLDS_HAMMER, ResultProcessor::gainHaroldsHammerHead);
+    GAIN_HANDLERS.put(ItemPool.HAROLDS_BELL, ResultProcessor::gainHaroldsBell);
+    GAIN_HANDLERS.put(ItemPool.LIT_BIRTHDAY_CAKE, ResultProcessor::gainLitBirthdayCake);
+    GAIN_HANDLERS.put(ItemPool.UNLIT_BIRTHDAY_CAKE, ResultProcessor::gainUnlitBirthdayCake);
+    GAIN_HANDLERS.put(ItemPool.PAT_A_CAKE_PENDANT, ResultProcessor::gainPatACakePendant);
+    GAIN_HANDLERS.put(ItemPool.REALLY_BIG_TINY_HOUSE, ResultProcessor::gainReallyBigTinyHouse);
+    GAIN_HANDLERS.put(ItemPool.NONESSENTIAL_AMULET, ResultProcessor::gainNonessentialAmulet);
+    GAIN_HANDLERS.put(ItemPool.WHITE_WINE_VINAIGRETTE, ResultProcessor::gainWhiteWineVinaigrette);
+    GAIN_HANDLERS.put(ItemPool.CURIOUSLY_SHINY_AX, ResultProcessor::gainCuriouslyShinyAx);
+    GAIN_HANDLERS.put(ItemPool.CUP_OF_STRONG_TEA, ResultProcessor::gainCupOfStrongTea);
+    GAIN_HANDLERS.put(ItemPool.MARINATED_STAKES, ResultProcessor::gainMarinatedStakes);
+    GAIN_HANDLERS.put(ItemPool.KNOB_BUTTER, ResultProcessor::gainKnobButter);
+    GAIN_HANDLERS.put(ItemPool.VIAL_OF_ECTOPLASM, ResultProcessor::gainVialOfEctoplasm);
+    GAIN_HANDLERS.put(ItemPool.BOOCK_OF_MAGICKS, ResultProcessor::gainBoockOfMagicks);
+    GAIN_HANDLERS.put(ItemPool.EZ_PLAY_HARMONICA_BOOK, ResultProcessor::gainEzPlayHarmonicaBook);
+    GAIN_HANDLERS.put(ItemPool.FINGERLESS_HOBO_GLOVES, ResultProcessor::gainFingerlessHoboGloves);
+    GAIN_HANDLERS.put(ItemPool.CHOMSKYS_COMICS, ResultProcessor::gainChomskysComics);
+    GAIN_HANDLERS.put(ItemPool.GNOME_DEMODULIZER, ResultProcessor::gainGnomeDemodulizer);
+    GAIN_HANDLERS.put(ItemPool.SHOPPING_LIST, ResultProcessor::gainShoppingList);
+    GAIN_HANDLERS.put(ItemPool.MUS_MANUAL, ResultProcessor::gainMusManual);
+    GAIN_HANDLERS.put(ItemPool.MYS_MANUAL, ResultProcessor::gainMusManual);
+    GAIN_HANDLERS.put(ItemPool.MOX_MANUAL, ResultProcessor::gainMusManual);
+    GAIN_HANDLERS.put(ItemPool.FRATHOUSE_BLUEPRINTS, ResultProcessor::gainFrathouseBlueprints);
+    GAIN_HANDLERS.put(ItemPool.CARONCH_DENTURES, ResultProcessor::gainCaronchDentures);
+    GAIN_HANDLERS.put(ItemPool.EXORCISED_SANDWICH, ResultProcessor::gainExorcisedSandwich);
+    GAIN_HANDLERS.put(ItemPool.BIG_KNOB_SAUSAGE, ResultProcessor::gainBigKnobSausage);
+    GAIN_HANDLERS.put(ItemPool.BATSKIN_BELT, ResultProcessor::gainBatskinBelt);
+    GAIN_HANDLERS.put(ItemPool.KNOB_GOBLIN_CROWN, ResultProcessor::gainKnobGoblinCrown);
+    GAIN_HANDLERS.put(ItemPool.KNOB_GOBLIN_BALLS, ResultProcessor::gainKnobGoblinCrown);
+    GAIN_HANDLERS.put(ItemPool.KNOB_GOBLIN_CODPIECE, ResultProcessor::gainKnobGoblinCrown);
+    GAIN_HANDLERS.put(ItemPool.DODECAGRAM, ResultProcessor::gainDodecagram);
+    GAIN_HANDLERS.put(ItemPool.CANDLES, ResultProcessor::gainCandles);
+    GAIN_HANDLERS.put(ItemPool.BUTTERKNIFE, ResultProcessor::gainButterknife);
+    GAIN_HANDLERS.put(ItemPool.BONERDAGON_CHEST, ResultProcessor::gainBonerdagonChest);
+    GAIN_HANDLERS.put(ItemPool.BONERDAGON_SKULL, ResultProcessor::gainBonerdagonSkull);
+    GAIN_HANDLERS.put(ItemPool.GROARS_FUR, ResultProcessor::gainGroarsFur);
+    GAIN_HANDLERS.put(ItemPool.WINGED_YETI_FUR, ResultProcessor::gainGroarsFur);
+    GAIN_HANDLERS.put(ItemPool.MISTY_CLOAK, ResultProcessor::gainMistyCloak);
+    GAIN_HANDLERS.put(ItemPool.MISTY_ROBE, ResultProcessor::gainMistyCloak);
+    GAIN_HANDLERS.put(ItemPool.MISTY_CAPE, ResultProcessor::gainMistyCloak);
+    GAIN_HANDLERS.put(ItemPool.HEMP_STRING, ResultProcessor::gainHempString);
+    GAIN_HANDLERS.put(ItemPool.BONERDAGON_VERTEBRA, ResultProcessor::gainHempString);
+    GAIN_HANDLERS.put(ItemPool.COPPERHEAD_CHARM, ResultProcessor::gainCopperheadCharm);
+    GAIN_HANDLERS.put(ItemPool.COPPERHEAD_CHARM_RAMPANT, ResultProcessor::gainCopperheadCharm);
+    GAIN_HANDLERS.put(ItemPool.TALISMAN, ResultProcessor::gainTalisman);
+    GAIN_HANDLERS.put(ItemPool.EYE_OF_ED, ResultProcessor::gainEyeOfEd);
+    GAIN_HANDLERS.put(ItemPool.MCCLUSKY_FILE_PAGE5, ResultProcessor::gainMccluskyFilePage5);
+    GAIN_HANDLERS.put(
+        ItemPool.MOSS_COVERED_STONE_SPHERE, ResultProcessor::gainMossCoveredStoneSphere);
+    GAIN_HANDLERS.put(ItemPool.DRIPPING_STONE_SPHERE, ResultProcessor::gainDrippingStoneSphere);
+    GAIN_HANDLERS.put(ItemPool.CRACKLING_STONE_SPHERE, ResultProcessor::gainCracklingStoneSphere);
+    GAIN_HANDLERS.put(ItemPool.SCORCHED_STONE_SPHERE, ResultProcessor::gainScorchedStoneSphere);
+    GAIN_HANDLERS.put(ItemPool.ANCIENT_AMULET, ResultProcessor::gainAncientAmulet);
+    GAIN_HANDLERS.put(ItemPool.STAFF_OF_FATS, ResultProcessor::gainStaffOfFats);
+    GAIN_HANDLERS.put(ItemPool.ANCIENT_BOMB, ResultProcessor::gainAncientBomb);
+    GAIN_HANDLERS.put(ItemPool.CARONCH_MAP, ResultProcessor::gainCaronchMap);
+    GAIN_HANDLERS.put(ItemPool.CARONCH_NASTY_BOOTY, ResultProcessor::gainCaronchNastyBooty);
+    GAIN_HANDLERS.put(ItemPool.BILLIARDS_KEY, ResultProcessor::gainBilliardsKey);
+    GAIN_HANDLERS.put(ItemPool.LIBRARY_KEY, ResultProcessor::gainLibraryKey);
+    GAIN_HANDLERS.put(ItemPool.SPOOKYRAVEN_NECKLACE, ResultProcessor::gainSpookyravenNecklace);
+    GAIN_HANDLERS.put(ItemPool.DUSTY_POPPET, ResultProcessor::gainDustyPoppet);
+    GAIN_HANDLERS.put(ItemPool.BABY_GHOSTS, ResultProcessor::gainBabyGhosts);
+    GAIN_HANDLERS.put(ItemPool.GHOST_FORMULA, ResultProcessor::gainGhostFormula);
+    GAIN_HANDLERS.put(ItemPool.NEOPRENE_SKULLCAP, ResultProcessor::gainNeopreneSkullcap);
+    GAIN_HANDLERS.put(ItemPool.GOBLIN_WATER, ResultProcessor::gainGoblinWater);
+    GAIN_HANDLERS.put(ItemPool.HAND_CARVED_BOKKEN, ResultProcessor::gainHandCarvedBokken);
+    GAIN_HANDLERS.put(ItemPool.HAND_CARVED_BOW, ResultProcessor::gainHandCarvedBokken);
+    GAIN_HANDLERS.put(ItemPool.HAND_CARVED_STAFF, ResultProcessor::gainHandCarvedBokken);
+    GAIN_HANDLERS.put(ItemPool.WORSE_HOMES_GARDENS, ResultProcessor::gainWorseHomesGardens);
+    GAIN_HANDLERS.put(ItemPool.STEEL_LIVER, ResultProcessor::gainSteelLiver);
+    GAIN_HANDLERS.put(ItemPool.STEEL_STOMACH, ResultProcessor::gainSteelLiver);
+    GAIN_HANDLERS.put(ItemPool.STEEL_SPLEEN, ResultProcessor::gainSteelLiver);
+    GAIN_HANDLERS.put(ItemPool.BATHYSPHERE, ResultProcessor::gainBathysphere);
+    GAIN_HANDLERS.put(ItemPool.BUBBLIN_STONE, ResultProcessor::gainBubblinStone);
+    GAIN_HANDLERS.put(ItemPool.DAS_BOOT, ResultProcessor::gainDasBoot);
+    GAIN_HANDLERS.put(ItemPool.FISHY_PIPE, ResultProcessor::gainDasBoot);
+    GAIN_HANDLERS.put(ItemPool.FISH_MEAT_CRATE, ResultProcessor::gainDasBoot);
+    GAIN_HANDLERS.put(ItemPool.DAMP_WALLET, ResultProcessor::gainDasBoot);
+    GAIN_HANDLERS.put(
+        ItemPool.PREGNANT_FLAMING_MUSHROOM, ResultProcessor::gainPregnantFlamingMushroom);
+    GAIN_HANDLERS.put(
+        ItemPool.PREGNANT_FROZEN_MUSHROOM, ResultProcessor::gainPregnantFrozenMushroom);
+    GAIN_HANDLERS.put(
+        ItemPool.PREGNANT_STINKY_MUSHROOM, ResultProcessor::gainPregnantStinkyMushroom);
+    GAIN_HANDLERS.put(ItemPool.GRANDMAS_NOTE, ResultProcessor::gainGrandmasNote);
+    GAIN_HANDLERS.put(ItemPool.GRANDMAS_MAP, ResultProcessor::gainGrandmasMap);
+    GAIN_HANDLERS.put(ItemPool.BLACK_GLASS, ResultProcessor::gainBlackGlass);
+    GAIN_HANDLERS.put(ItemPool.SMALL_STONE_BLOCK, ResultProcessor::gainSmallStoneBlock);
+    GAIN_HANDLERS.put(
+        ItemPool.CRIMBOMINATION_CONTRAPTION, ResultProcessor::gainCrimbominationContraption);
+    GAIN_HANDLERS.put(ItemPool.HAMMER_OF_SMITING, ResultProcessor::gainHammerOfSmiting);
+    GAIN_HANDLERS.put(ItemPool.CHELONIAN_MORNINGSTAR, ResultProcessor::gainHammerOfSmiting);
+    GAIN_HANDLERS.put(ItemPool.GREEK_PASTA_OF_PERIL, ResultProcessor::gainHammerOfSmiting);
+    GAIN_HANDLERS.put(ItemPool.SEVENTEEN_ALARM_SAUCEPAN, ResultProcessor::gainHammerOfSmiting);
+    GAIN_HANDLERS.put(ItemPool.SHAGADELIC_DISCO_BANJO, ResultProcessor::gainHammerOfSmiting);
+    GAIN_HANDLERS.put(ItemPool.SQUEEZEBOX_OF_THE_AGES, ResultProcessor::gainHammerOfSmiting);
+    GAIN_HANDLERS.put(ItemPool.FIZZING_SPORE_POD, ResultProcessor::gainFizzingSporePod);
+    GAIN_HANDLERS.put(ItemPool.SCALP_OF_GORGOLOK, ResultProcessor::gainScalpOfGorgolok);
+    GAIN_HANDLERS.put(ItemPool.ELDER_TURTLE_SHELL, ResultProcessor::gainScalpOfGorgolok);
+    GAIN_HANDLERS.put(ItemPool.COLANDER_OF_EMERIL, ResultProcessor::gainScalpOfGorgolok);
+    GAIN_HANDLERS.put(ItemPool.ANCIENT_SAUCEHELM, ResultProcessor::gainScalpOfGorgolok);
+    GAIN_HANDLERS.put(ItemPool.DISCO_FRO_PICK, ResultProcessor::gainScalpOfGorgolok);
+    GAIN_HANDLERS.put(ItemPool.EL_SOMBRERO_DE_LOPEZ, ResultProcessor::gainScalpOfGorgolok);
+    GAIN_HANDLERS.put(ItemPool.KRAKROXS_LOINCLOTH, ResultProcessor::gainKrakroxsLoincloth);
+    GAIN_HANDLERS.put(ItemPool.GALAPAGOSIAN_CUISSES, ResultProcessor::gainKrakroxsLoincloth);
+    GAIN_HANDLERS.put(ItemPool.ANGELHAIR_CULOTTES, ResultProcessor::gainKrakroxsLoincloth);
+    GAIN_HANDLERS.put(ItemPool.NEWMANS_OWN_TROUSERS, ResultProcessor::gainKrakroxsLoincloth);
+    GAIN_HANDLERS.put(ItemPool.VOLARTTAS_BELLBOTTOMS, ResultProcessor::gainKrakroxsLoincloth);
+    GAIN_HANDLERS.put(ItemPool.LEDERHOSEN_OF_THE_NIGHT, ResultProcessor::gainKrakroxsLoincloth);
+    GAIN_HANDLERS.put(ItemPool.HELLSEAL_DISGUISE, ResultProcessor::gainHellsealDisguise);
+    GAIN_HANDLERS.put(ItemPool.DECODED_CULT_DOCUMENTS, ResultProcessor::gainDecodedCultDocuments);
+    GAIN_HANDLERS.put(ItemPool.BELT_BUCKLE_OF_LOPEZ, ResultProcessor::gainBeltBuckleOfLopez);
+    GAIN_HANDLERS.put(ItemPool.INFERNAL_SEAL_CLAW, ResultProcessor::gainInfernalSealClaw);
+    GAIN_HANDLERS.put(ItemPool.TURTLE_POACHER_GARTER, ResultProcessor::gainInfernalSealClaw);
+    GAIN_HANDLERS.put(ItemPool.SPAGHETTI_BANDOLIER, ResultProcessor::gainInfernalSealClaw);
+    GAIN_HANDLERS.put(ItemPool.SAUCEBLOB_BELT, ResultProcessor::gainInfernalSealClaw);
+    GAIN_HANDLERS.put(ItemPool.NEW_WAVE_BLING, ResultProcessor::gainInfernalSealClaw);
+    GAIN_HANDLERS.put(ItemPool.PIXEL_CHAIN_WHIP, ResultProcessor::gainPixelChainWhip);
+    GAIN_HANDLERS.put(ItemPool.PIXEL_MORNING_STAR, ResultProcessor::gainPixelMorningStar);
+    GAIN_HANDLERS.put(ItemPool.REFLECTION_OF_MAP, ResultProcessor::gainReflectionOfMap);
+    GAIN_HANDLERS.put(ItemPool.GONG, ResultProcessor::gainGong);
+    GAIN_HANDLERS.put(ItemPool.SLIME_STACK, ResultProcessor::gainSlimeStack);
+    GAIN_HANDLERS.put(ItemPool.ABSINTHE, ResultProcessor::gainAbsinthe);
+    GAIN_HANDLERS.put(ItemPool.ASTRAL_MUSHROOM, ResultProcessor::gainAstralMushroom);
+    GAIN_HANDLERS.put(ItemPool.AGUA_DE_VIDA, ResultProcessor::gainAguaDeVida);
+    GAIN_HANDLERS.put(ItemPool.DEVILISH_FOLIO, ResultProcessor::gainDevilishFolio);
+    GAIN_HANDLERS.put(ItemPool.FURIOUS_STONE, ResultProcessor::gainFuriousStone);
+    GAIN_HANDLERS.put(ItemPool.VANITY_STONE, ResultProcessor::gainFuriousStone);
+    GAIN_HANDLERS.put(ItemPool.LECHEROUS_STONE, ResultProcessor::gainLecherousStone);
+    GAIN_HANDLERS.put(ItemPool.JEALOUSY_STONE, ResultProcessor::gainLecherousStone);
+    GAIN_HANDLERS.put(ItemPool.AVARICE_STONE, ResultProcessor::gainAvariceStone);
+    GAIN_HANDLERS.put(ItemPool.GLUTTONOUS_STONE, ResultProcessor::gainAvariceStone);
+    GAIN_HANDLERS.put(ItemPool.GROOSE_GREASE, ResultProcessor::gainGrooseGrease);
+    GAIN_HANDLERS.put(ItemPool.GG_TOKEN, ResultProcessor::gainGgToken);
+    GAIN_HANDLERS.put(ItemPool.GG_TICKET, ResultProcessor::gainGgTicket);
+    GAIN_HANDLERS.put(
+        ItemPool.TRANSPORTER_TRANSPONDER, ResultProcessor::gainTransporterTransponder);
+    GAIN_HANDLERS.put(
+        ItemPool.UNCONSCIOUS_COLLECTIVE_DREAM_JAR,
+        ResultProcessor::gainUnconsciousCollectiveDreamJar);
+    GAIN_HANDLERS.put(ItemPool.HOT_ASHES, ResultProcessor::gainHotAshes);
+    GAIN_HANDLERS.put(ItemPool.PSYCHOANALYTIC_JAR, ResultProcessor::gainPsychoanalyticJar);
+    GAIN_HANDLERS.put(ItemPool.TALES_OF_SPELUNKING, ResultProcessor::gainTalesOfSpelunking);
+    GAIN_HANDLERS.put(ItemPool.POWDERED_GOLD, ResultProcessor::gainPowderedGold);
+    GAIN_HANDLERS.put(ItemPool.MINI_MARTINI, ResultProcessor::gainMiniMartini);
+    GAIN_HANDLERS.put(ItemPool.POWER_PILL, ResultProcessor::gainPowerPill);
+    GAIN_HANDLERS.put(ItemPool.MACHINE_SNOWGLOBE, ResultProcessor::gainMachineSnowglobe);
+    GAIN_HANDLERS.put(ItemPool.LIVER_PIE, ResultProcessor::gainLiverPie);
+    GAIN_HANDLERS.put(ItemPool.BADASS_PIE, ResultProcessor::gainLiverPie);
+    GAIN_HANDLERS.put(ItemPool.FISH_PIE, ResultProcessor::gainLiverPie);
+    GAIN_HANDLERS.put(ItemPool.PIPING_PIE, ResultProcessor::gainLiverPie);
+    GAIN_HANDLERS.put(ItemPool.IGLOO_PIE, ResultProcessor::gainLiverPie);
+    GAIN_HANDLERS.put(ItemPool.TURNOVER, ResultProcessor::gainLiverPie);
+    GAIN_HANDLERS.put(ItemPool.DEAD_PIE, ResultProcessor::gainLiverPie);
+    GAIN_HANDLERS.put(ItemPool.THROBBING_PIE, ResultProcessor::gainLiverPie);
+    GAIN_HANDLERS.put(ItemPool.GOOEY_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.BEASTLY_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.OILY_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.ECTOPLASMIC, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.GREASY_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.BUG_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.HIPPY_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.ORC_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.DEMONIC_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.INDESCRIBABLY_HORRIBLE_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.FISHY_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.GOBLIN_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.PIRATE_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.CHLOROPHYLL_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.STRANGE_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.MER_KIN_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.SLIMY_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.PENGUIN_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.ELEMENTAL_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.COSMIC_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.HOBO_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.CRIMBO_PASTE, ResultProcessor::gainGooeyPaste);
+    GAIN_HANDLERS.put(ItemPool.BEER_LENS, ResultProcessor::gainBeerLens);
+    GAIN_HANDLERS.put(ItemPool.COTTON_CANDY_CONDE, ResultProcessor::gainCottonCandyConde);
+    GAIN_HANDLERS.put(ItemPool.COTTON_CANDY_PINCH, ResultProcessor::gainCottonCandyConde);
+    GAIN_HANDLERS.put(ItemPool.COTTON_CANDY_SMIDGEN, ResultProcessor::gainCottonCandyConde);
+    GAIN_HANDLERS.put(ItemPool.COTTON_CANDY_SKOSHE, ResultProcessor::gainCottonCandyConde);
+    GAIN_HANDLERS.put(ItemPool.COTTON_CANDY_PLUG, ResultProcessor::gainCottonCandyConde);
+    GAIN_HANDLERS.put(ItemPool.COTTON_CANDY_PILLOW, ResultProcessor::gainCottonCandyConde);
+    GAIN_HANDLERS.put(ItemPool.COTTON_CANDY_BALE, ResultProcessor::gainCottonCandyConde);
+    GAIN_HANDLERS.put(
+        ItemPool.LESSER_GRODULATED_VIOLET, ResultProcessor::gainLesserGrodulatedViolet);
+    GAIN_HANDLERS.put(ItemPool.TIN_MAGNOLIA, ResultProcessor::gainLesserGrodulatedViolet);
+    GAIN_HANDLERS.put(ItemPool.BEGPWNIA, ResultProcessor::gainLesserGrodulatedViolet);
+    GAIN_HANDLERS.put(ItemPool.UPSY_DAISY, ResultProcessor::gainLesserGrodulatedViolet);
+    GAIN_HANDLERS.put(ItemPool.HALF_ORCHID, ResultProcessor::gainLesserGrodulatedViolet);
+    GAIN_HANDLERS.put(ItemPool.EVILOMETER, ResultProcessor::gainEvilometer);
+    GAIN_HANDLERS.put(ItemPool.TEACHINGS_OF_THE_FIST, ResultProcessor::gainTeachingsOfTheFist);
+    GAIN_HANDLERS.put(ItemPool.KEYOTRON, ResultProcessor::gainKeyotron);
+    GAIN_HANDLERS.put(ItemPool.JICK_JAR, ResultProcessor::gainJickJar);
+    GAIN_HANDLERS.put(ItemPool.SUSPICIOUS_JAR, ResultProcessor::gainSuspiciousJar);
+    GAIN_HANDLERS.put(ItemPool.GOURD_JAR, ResultProcessor::gainSuspiciousJar);
+    GAIN_HANDLERS.put(ItemPool.MYSTIC_JAR, ResultProcessor::gainSuspiciousJar);
+    GAIN_HANDLERS.put(ItemPool.OLD_MAN_JAR, ResultProcessor::gainSuspiciousJar);
+    GAIN_HANDLERS.put(ItemPool.ARTIST_JAR, ResultProcessor::gainSuspiciousJar);
+    GAIN_HANDLERS.put(ItemPool.MEATSMITH_JAR, ResultProcessor::gainSuspiciousJar);
+    GAIN_HANDLERS.put(ItemPool.BRICKO_EYE, ResultProcessor::gainBrickoEye);
+    GAIN_HANDLERS.put(ItemPool.DIVINE_CHAMPAGNE_POPPER, ResultProcessor::gainDivineChampagnePopper);
+    GAIN_HANDLERS.put(ItemPool.DIVINE_CRACKER, ResultProcessor::gainDivineChampagnePopper);
+    GAIN_HANDLERS.put(ItemPool.DIVINE_FLUTE, ResultProcessor::gainDivineChampagnePopper);
+    GAIN_HANDLERS.put(ItemPool.RESOLUTION_KINDER, ResultProcessor::gainResolutionKinder);
+    GAIN_HANDLERS.put(ItemPool.RESOLUTION_ADVENTUROUS, ResultProcessor::gainResolutionKinder);
+    GAIN_HANDLERS.put(ItemPool.RESOLUTION_LUCKIER, ResultProcessor::gainResolutionKinder);
+    GAIN_HANDLERS.put(ItemPool.YELLOW_TAFFY, ResultProcessor::gainYellowTaffy);
+    GAIN_HANDLERS.put(ItemPool.GREEN_TAFFY, ResultProcessor::gainGreenTaffy);
+    GAIN_HANDLERS.put(ItemPool.INDIGO_TAFFY, ResultProcessor::gainGreenTaffy);
+    GAIN_HANDLERS.put(ItemPool.BOSS_HELM, ResultProcessor::gainBossHelm);
+    GAIN_HANDLERS.put(ItemPool.BOSS_CLOAK, ResultProcessor::gainBossHelm);
+    GAIN_HANDLERS.put(ItemPool.BOSS_SWORD, ResultProcessor::gainBossHelm);
+    GAIN_HANDLERS.put(ItemPool.BOSS_SHIELD, ResultProcessor::gainBossHelm);
+    GAIN_HANDLERS.put(ItemPool.BOSS_PANTS, ResultProcessor::gainBossHelm);
+    GAIN_HANDLERS.put(ItemPool.BOSS_GAUNTLETS, ResultProcessor::gainBossHelm);
+    GAIN_HANDLERS.put(ItemPool.BOSS_BOOTS, ResultProcessor::gainBossHelm);
+    GAIN_HANDLERS.put(ItemPool.BOSS_BELT, ResultProcessor::gainBossHelm);
+    GAIN_HANDLERS.put(ItemPool.CARROT_NOSE, ResultProcessor::gainCarrotNose);
+    GAIN_HANDLERS.put(ItemPool.COSMIC_SIX_PACK, ResultProcessor::gainCosmicSixPack);
+    GAIN_HANDLERS.put(ItemPool.COBBS_KNOB_MAP, ResultProcessor::gainCobbsKnobMap);
+    GAIN_HANDLERS.put(ItemPool.MERKIN_LOCKKEY, ResultProcessor::gainMerkinLockkey);
+    GAIN_HANDLERS.put(ItemPool.YEARBOOK_CAMERA, ResultProcessor::gainYearbookCamera);
+    GAIN_HANDLERS.put(ItemPool.CLANCY_LUTE, ResultProcessor::gainClancyLute);
+    GAIN_HANDLERS.put(ItemPool.BEER_BATTERED_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.BARITONE_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.MAMAS_SQUEEZEBOX, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.GUANCERTINA, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.ACCORDION_FILE, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.ACCORD_ION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.BONE_BANDONEON, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.PENTATONIC_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(
+        ItemPool.NON_EUCLIDEAN_NON_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.ACCORDION_OF_JORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.AUTOCALLIOPE, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.ACCORDIONOID_ROCCA, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.PYGMY_CONCERTINETTE, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.GHOST_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.PEACE_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.ALARM_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.BAL_MUSETTE_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.CAJUN_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.QUIRKY_ACCORDION, ResultProcessor::gainBeerBatteredAccordion);
+    GAIN_HANDLERS.put(ItemPool.DAMP_OLD_BOOT, ResultProcessor::gainDampOldBoot);
+    GAIN_HANDLERS.put(ItemPool.GRIMSTONE_MASK, ResultProcessor::gainGrimstoneMask);
+    GAIN_HANDLERS.put(ItemPool.GRIM_FAIRY_TALE, ResultProcessor::gainGrimFairyTale);
+    GAIN_HANDLERS.put(ItemPool.TOASTED_HALF_SANDWICH, ResultProcessor::gainToastedHalfSandwich);
+    GAIN_HANDLERS.put(ItemPool.MULLED_HOBO_WINE, ResultProcessor::gainToastedHalfSandwich);
+    GAIN_HANDLERS.put(ItemPool.BURNING_NEWSPAPER, ResultProcessor::gainBurningNewspaper);
+    GAIN_HANDLERS.put(ItemPool.HOARDED_CANDY_WAD, ResultProcessor::gainHoardedCandyWad);
+    GAIN_HANDLERS.put(ItemPool.SPACE_BEAST_FUR, ResultProcessor::gainSpaceBeastFur);
+    GAIN_HANDLERS.put(ItemPool.CARDBOARD_ORE, ResultProcessor::gainCardboardOre);
+    GAIN_HANDLERS.put(ItemPool.STYROFOAM_ORE, ResultProcessor::gainCardboardOre);
+    GAIN_HANDLERS.put(ItemPool.BUBBLEWRAP_ORE, ResultProcessor::gainCardboardOre);
+    GAIN_HANDLERS.put(ItemPool.VELCRO_ORE, ResultProcessor::gainCardboardOre);
+    GAIN_HANDLERS.put(ItemPool.TEFLON_ORE, ResultProcessor::gainCardboardOre);
+    GAIN_HANDLERS.put(ItemPool.VINYL_ORE, ResultProcessor::gainCardboardOre);
+    GAIN_HANDLERS.put(ItemPool.ABSTRACTION_ACTION, ResultProcessor::gainAbstractionAction);
+    GAIN_HANDLERS.put(ItemPool.ABSTRACTION_THOUGHT, ResultProcessor::gainAbstractionAction);
+    GAIN_HANDLERS.put(ItemPool.ABSTRACTION_SENSATION, ResultProcessor::gainAbstractionAction);
+    GAIN_HANDLERS.put(ItemPool.ABSTRACTION_PURPOSE, ResultProcessor::gainAbstractionAction);
+    GAIN_HANDLERS.put(ItemPool.ABSTRACTION_CATEGORY, ResultProcessor::gainAbstractionAction);
+    GAIN_HANDLERS.put(ItemPool.ABSTRACTION_PERCEPTION, ResultProcessor::gainAbstractionAction);
+    GAIN_HANDLERS.put(ItemPool.PROFESSOR_WHAT_GARMENT, ResultProcessor::gainProfessorWhatGarment);
+    GAIN_HANDLERS.put(ItemPool.THINKNERD_PACKAGE, ResultProcessor::gainThinknerdPackage);
+    GAIN_HANDLERS.put(ItemPool.STEAM_FIST_1, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_FIST_2, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_FIST_3, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_TRIP_1, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_TRIP_2, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_TRIP_3, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_METEOID_1, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_METEOID_2, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_METEOID_3, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_DEMON_1, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_DEMON_2, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_DEMON_3, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_PLUMBER_1, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_PLUMBER_2, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.STEAM_PLUMBER_3, ResultProcessor::gainSteamFist1);
+    GAIN_HANDLERS.put(ItemPool.PENCIL_THIN_MUSHROOM, ResultProcessor::gainPencilThinMushroom);
+    GAIN_HANDLERS.put(ItemPool.SAILOR_SALT, ResultProcessor::gainSailorSalt);
+    GAIN_HANDLERS.put(ItemPool.TACO_DAN_RECEIPT, ResultProcessor::gainTacoDanReceipt);
+    GAIN_HANDLERS.put(ItemPool.BROUPON, ResultProcessor::gainBroupon);
+    GAIN_HANDLERS.put(ItemPool.ELIZABETH_DOLLIE, ResultProcessor::gainElizabethDollie);
+    GAIN_HANDLERS.put(ItemPool.STEPHEN_LAB_COAT, ResultProcessor::gainStephenLabCoat);
+    GAIN_HANDLERS.put(ItemPool.WINE_BOMB, ResultProcessor::gainWineBomb);
+    GAIN_HANDLERS.put(ItemPool.LIGHTNING_MILK, ResultProcessor::gainLightningMilk);
+    GAIN_HANDLERS.put(ItemPool.AQUA_BRAIN, ResultProcessor::gainAquaBrain);
+    GAIN_HANDLERS.put(ItemPool.THUNDER_THIGH, ResultProcessor::gainThunderThigh);
+    GAIN_HANDLERS.put(ItemPool.EXPERIMENTAL_SERUM_P00, ResultProcessor::gainExperimentalSerumP00);
+    GAIN_HANDLERS.put(ItemPool.MINI_CASSETTE_RECORDER, ResultProcessor::gainMiniCassetteRecorder);
+    GAIN_HANDLERS.put(ItemPool.GORE_BUCKET, ResultProcessor::gainGoreBucket);
+    GAIN_HANDLERS.put(ItemPool.FINGERNAIL_CLIPPERS, ResultProcessor::gainFingernailClippers);
+    GAIN_HANDLERS.put(ItemPool.ESP_COLLAR, ResultProcessor::gainEspCollar);
+    GAIN_HANDLERS.put(ItemPool.GPS_WATCH, ResultProcessor::gainGpsWatch);
+    GAIN_HANDLERS.put(ItemPool.PROJECT_TLB, ResultProcessor::gainProjectTlb);
+    GAIN_HANDLERS.put(ItemPool.PACK_OF_SMOKES, ResultProcessor::gainPackOfSmokes);
+    GAIN_HANDLERS.put(ItemPool.SUBJECT_37_FILE, ResultProcessor::gainSubject37File);
+    GAIN_HANDLERS.put(ItemPool.GOTO, ResultProcessor::gainGoto);
+    GAIN_HANDLERS.put(ItemPool.WEREMOOSE_SPIT, ResultProcessor::gainWeremooseSpit);
+    GAIN_HANDLERS.put(ItemPool.ABOMINABLE_BLUBBER, ResultProcessor::gainAbominableBlubber);
+    GAIN_HANDLERS.put(ItemPool.FRIENDLY_TURKEY, ResultProcessor::gainFriendlyTurkey);
+    GAIN_HANDLERS.put(ItemPool.AGITATED_TURKEY, ResultProcessor::gainFriendlyTurkey);
+    GAIN_HANDLERS.put(ItemPool.AMBITIOUS_TURKEY, ResultProcessor::gainFriendlyTurkey);
+    GAIN_HANDLERS.put(ItemPool.XIBLAXIAN_ALLOY, ResultProcessor::gainXiblaxianAlloy);
+    GAIN_HANDLERS.put(ItemPool.XIBLAXIAN_CIRCUITRY, ResultProcessor::gainXiblaxianAlloy);
+    GAIN_HANDLERS.put(ItemPool.XIBLAXIAN_POLYMER, ResultProcessor::gainXiblaxianAlloy);
+    GAIN_HANDLERS.put(ItemPool.ED_EYE, ResultProcessor::gainEdEye);
+    GAIN_HANDLERS.put(ItemPool.XIBLAXIAN_CRYSTAL, ResultProcessor::gainXiblaxianCrystal);
+    GAIN_HANDLERS.put(ItemPool.SCARAB_BEETLE_STATUETTE, ResultProcessor::gainScarabBeetleStatuette);
+    GAIN_HANDLERS.put(ItemPool.MEATSMITH_CHECK, ResultProcessor::gainMeatsmithCheck);
+    GAIN_HANDLERS.put(ItemPool.TOXIC_GLOBULE, ResultProcessor::gainToxicGlobule);
+    GAIN_HANDLERS.put(ItemPool.LUBE_SHOES, ResultProcessor::gainLubeShoes);
+    GAIN_HANDLERS.put(ItemPool.TRASH_NET, ResultProcessor::gainTrashNet);
+    GAIN_HANDLERS.put(ItemPool.MASCOT_MASK, ResultProcessor::gainMascotMask);
+    GAIN_HANDLERS.put(ItemPool.YELLOW_PIXEL, ResultProcessor::gainYellowPixel);
+    GAIN_HANDLERS.put(ItemPool.FRAUDWORT, ResultProcessor::gainFraudwort);
+    GAIN_HANDLERS.put(ItemPool.SHYSTERWEED, ResultProcessor::gainShysterweed);
+    GAIN_HANDLERS.put(ItemPool.SWINDLEBLOSSOM, ResultProcessor::gainSwindleblossom);
+    GAIN_HANDLERS.put(ItemPool.MIRACLE_WHIP, ResultProcessor::gainMiracleWhip);
+    GAIN_HANDLERS.put(ItemPool.SPHYGMAYOMANOMETER, ResultProcessor::gainSphygmayomanometer);
+    GAIN_HANDLERS.put(ItemPool.REFLEX_HAMMER, ResultProcessor::gainSphygmayomanometer);
+    GAIN_HANDLERS.put(ItemPool.MAYO_LANCE, ResultProcessor::gainSphygmayomanometer);
+    GAIN_HANDLERS.put(ItemPool.NO_HANDED_PIE, ResultProcessor::gainNoHandedPie);
+    GAIN_HANDLERS.put(ItemPool.POPULAR_PART, ResultProcessor::gainPopularPart);
+    GAIN_HANDLERS.put(ItemPool.SUPERHEATED_METAL, ResultProcessor::gainSuperheatedMetal);
+    GAIN_HANDLERS.put(ItemPool.SUPERDUPERHEATED_METAL, ResultProcessor::gainSuperduperheatedMetal);
+    GAIN_HANDLERS.put(ItemPool.BARREL_LID, ResultProcessor::gainBarrelLid);
+    GAIN_HANDLERS.put(ItemPool.BARREL_HOOP_EARRING, ResultProcessor::gainBarrelHoopEarring);
+    GAIN_HANDLERS.put(ItemPool.BANKRUPTCY_BARREL, ResultProcessor::gainBankruptcyBarrel);
+    GAIN_HANDLERS.put(ItemPool.ANCIENT_MEDICINAL_HERBS, ResultProcessor::gainAncientMedicinalHerbs);
+    GAIN_HANDLERS.put(ItemPool.ICE_RICE, ResultProcessor::gainIceRice);
+    GAIN_HANDLERS.put(ItemPool.ICED_PLUM_WINE, ResultProcessor::gainIcedPlumWine);
+    GAIN_HANDLERS.put(ItemPool.TRAINING_BELT, ResultProcessor::gainTrainingBelt);
+    GAIN_HANDLERS.put(ItemPool.TRAINING_LEGWARMERS, ResultProcessor::gainTrainingLegwarmers);
+    GAIN_HANDLERS.put(ItemPool.TRAINING_HELMET, ResultProcessor::gainTrainingHelmet);
+    GAIN_HANDLERS.put(ItemPool.SCROLL_SHATTERING_PUNCH, ResultProcessor::gainScrollShatteringPunch);
+    GAIN_HANDLERS.put(ItemPool.SCROLL_SNOKEBOMB, ResultProcessor::gainScrollSnokebomb);
+    GAIN_HANDLERS.put(ItemPool.SCROLL_SHIVERING_MONKEY, ResultProcessor::gainScrollShiveringMonkey);
+    GAIN_HANDLERS.put(
+        ItemPool.EXPERIMENTAL_GENE_THERAPY, ResultProcessor::gainExperimentalGeneTherapy);
+    GAIN_HANDLERS.put(ItemPool.SELF_DEFENSE_TRAINING, ResultProcessor::gainExperimentalGeneTherapy);
+    GAIN_HANDLERS.put(
+        ItemPool.CONFIDENCE_BUILDING_HUG, ResultProcessor::gainExperimentalGeneTherapy);
+    GAIN_HANDLERS.put(ItemPool.COWBOY_BOOTS, ResultProcessor::gainCowboyBoots);
+    GAIN_HANDLERS.put(ItemPool.ROBIN_EGG, ResultProcessor::gainRobinEgg);
+    GAIN_HANDLERS.put(ItemPool.WAX_GLOB, ResultProcessor::gainWaxGlob);
+    GAIN_HANDLERS.put(ItemPool.X, ResultProcessor::gainX);
+    GAIN_HANDLERS.put(ItemPool.O, ResultProcessor::gainO);
+    GAIN_HANDLERS.put(ItemPool.SHIELDING_POTION, ResultProcessor::gainShieldingPotion);
+    GAIN_HANDLERS.put(ItemPool.PUNCHING_POTION, ResultProcessor::gainShieldingPotion);
+    GAIN_HANDLERS.put(ItemPool.SPECIAL_SEASONING, ResultProcessor::gainShieldingPotion);
+    GAIN_HANDLERS.put(ItemPool.NIGHTMARE_FUEL, ResultProcessor::gainShieldingPotion);
+    GAIN_HANDLERS.put(ItemPool.MEAT_CLIP, ResultProcessor::gainShieldingPotion);
+    GAIN_HANDLERS.put(ItemPool.NO_SPOON, ResultProcessor::gainNoSpoon);
+    GAIN_HANDLERS.put(ItemPool.TALES_OF_DREAD, ResultProcessor::gainTalesOfDread);
+    GAIN_HANDLERS.put(ItemPool.BRASS_DREAD_FLASK, ResultProcessor::gainBrassDreadFlask);
+    GAIN_HANDLERS.put(ItemPool.SILVER_DREAD_FLASK, ResultProcessor::gainSilverDreadFlask);
+    GAIN_HANDLERS.put(ItemPool.NO_HAT, ResultProcessor::gainNoHat);
+    GAIN_HANDLERS.put(ItemPool.HOT_JELLY, ResultProcessor::gainHotJelly);
+    GAIN_HANDLERS.put(ItemPool.COLD_JELLY, ResultProcessor::gainHotJelly);
+    GAIN_HANDLERS.put(ItemPool.SPOOKY_JELLY, ResultProcessor::gainHotJelly);
+    GAIN_HANDLERS.put(ItemPool.SLEAZE_JELLY, ResultProcessor::gainHotJelly);
+    GAIN_HANDLERS.put(ItemPool.STENCH_JELLY, ResultProcessor::gainHotJelly);
+    GAIN_HANDLERS.put(ItemPool.LICENSE_TO_CHILL, ResultProcessor::gainLicenseToChill);
+    GAIN_HANDLERS.put(ItemPool.POKE_GROW_FERTILIZER, ResultProcessor::gainPokeGrowFertilizer);
+    GAIN_HANDLERS.put(ItemPool.BOOMBOX, ResultProcessor::gainBoombox);
+    GAIN_HANDLERS.put(ItemPool.GARLAND_OF_GREATNESS, ResultProcessor::gainGarlandOfGreatness);
+    GAIN_HANDLERS.put(ItemPool.HUMAN_MUSK, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.EXTRA_WARM_FUR, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.INDUSTRIAL_LUBRICANT, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.UNFINISHED_PLEASURE, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.HUMANOID_GROWTH_HORMONE, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.BUG_LYMPH, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.ORGANIC_POTPOURRI, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.BOOT_FLASK, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.INFERNAL_SNOWBALL, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.POWDERED_MADNESS, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.FISH_SAUCE, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.GUFFIN, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.SHANTIX, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.GOODBERRY, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.EUCLIDEAN_ANGLE, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.PEPPERMINT_SYRUP, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.MERKIN_EYEDROPS, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.EXTRA_STRENGTH_GOO, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.ENVELOPE_MEAT, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.LIVID_ENERGY, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.MICRONOVA, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.BEGGIN_COLOGNE, ResultProcessor::gainHumanMusk);
+    GAIN_HANDLERS.put(ItemPool.POWERFUL_GLOVE, ResultProcessor::gainPowerfulGlove);
+    GAIN_HANDLERS.put(ItemPool.REPLICA_POWERFUL_GLOVE, ResultProcessor::gainPowerfulGlove);
+    GAIN_HANDLERS.put(ItemPool.POWDER_PUFF, ResultProcessor::gainPowderPuff);
+    GAIN_HANDLERS.put(ItemPool.FINEST_GOWN, ResultProcessor::gainPowderPuff);
+    GAIN_HANDLERS.put(ItemPool.DANCING_SHOES, ResultProcessor::gainPowderPuff);
+    GAIN_HANDLERS.put(ItemPool.BLACK_MAP, ResultProcessor::gainBlackMap);
+    GAIN_HANDLERS.put(ItemPool.FEDORA_MOUNTED_FOUNTAIN, ResultProcessor::gainFedoraMountedFountain);
+    GAIN_HANDLERS.put(ItemPool.PORKPIE_MOUNTED_POPPER, ResultProcessor::gainFedoraMountedFountain);
+    GAIN_HANDLERS.put(
+        ItemPool.SOMBRERO_MOUNTED_SPARKLER, ResultProcessor::gainFedoraMountedFountain);
+    GAIN_HANDLERS.put(ItemPool.CATHERINE_WHEEL, ResultProcessor::gainCatherineWheel);
+    GAIN_HANDLERS.put(ItemPool.ROCKET_BOOTS, ResultProcessor::gainCatherineWheel);
+    GAIN_HANDLERS.put(ItemPool.OVERSIZED_SPARKLER, ResultProcessor::gainCatherineWheel);
+    GAIN_HANDLERS.put(ItemPool.VAMPIRE_VINTNER_WINE, ResultProcessor::gainVampireVintnerWine);
+    GAIN_HANDLERS.put(ItemPool.COSMIC_BOWLING_BALL, ResultProcessor::gainCosmicBowlingBall);
+    GAIN_HANDLERS.put(ItemPool.MAYDAY_SUPPLY_PACKAGE, ResultProcessor::gainMaydaySupplyPackage);
+    GAIN_HANDLERS.put(ItemPool.DESIGNER_SWEATPANTS, ResultProcessor::gainDesignerSweatpants);
+    GAIN_HANDLERS.put(
+        ItemPool.REPLICA_DESIGNER_SWEATPANTS, ResultProcessor::gainDesignerSweatpants);
+    GAIN_HANDLERS.put(ItemPool.ROBY_BORIS_BEER, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_HONEY_BUN_OF_BORIS, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_RATATOUILLE_DE_JARLSBERG, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_JARLSBERGS_VEGETABLE_SOUP, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_PETES_WILY_WHEY_BAR, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_PETES_SNEAKY_SMOOTHIE, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_BORIS_BREAD, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_ROASTED_VEGETABLE_OF_J, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_PETES_RICH_RICOTTA, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_ROASTED_VEGETABLE_FOCACCIA, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_PLAIN_CALZONE, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_BAKED_VEGGIE_RICOTTA, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_DEEP_DISH_OF_LEGEND, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_CALZONE_OF_LEGEND, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.ROBY_PIZZA_OF_LEGEND, ResultProcessor::gainRobyBorisBeer);
+    GAIN_HANDLERS.put(ItemPool.GRUBBY_WOOL, ResultProcessor::gainGrubbyWool);
+    GAIN_HANDLERS.put(ItemPool.SHADOW_LIGHTER, ResultProcessor::gainShadowLighter);
+    GAIN_HANDLERS.put(ItemPool.SHADOW_HEPTAHEDRON, ResultProcessor::gainShadowLighter);
+    GAIN_HANDLERS.put(ItemPool.SHADOW_SNOWFLAKE, ResultProcessor::gainShadowLighter);
+    GAIN_HANDLERS.put(ItemPool.SHADOW_HEART, ResultProcessor::gainShadowLighter);
+    GAIN_HANDLERS.put(ItemPool.SHADOW_BUCKET, ResultProcessor::gainShadowLighter);
+    GAIN_HANDLERS.put(ItemPool.SHADOW_WAVE, ResultProcessor::gainShadowLighter);
+    GAIN_HANDLERS.put(ItemPool.CINCHO_DE_MAYO, ResultProcessor::gainCinchoDeMayo);
+    GAIN_HANDLERS.put(ItemPool.REPLICA_CINCHO_DE_MAYO, ResultProcessor::gainCinchoDeMayo);
+    GAIN_HANDLERS.put(ItemPool.AUGUST_SCEPTER, ResultProcessor::gainAugustScepter);
+    GAIN_HANDLERS.put(ItemPool.REPLICA_AUGUST_SCEPTER, ResultProcessor::gainAugustScepter);
+    GAIN_HANDLERS.put(ItemPool.LED_CANDLE, ResultProcessor::gainLedCandle);
+    GAIN_HANDLERS.put(
+        ItemPool.MAP_TO_A_CANDY_RICH_BLOCK, ResultProcessor::gainMapToACandyRichBlock);
+    GAIN_HANDLERS.put(ItemPool.MINI_KIWI, ResultProcessor::gainMiniKiwi);
+    GAIN_HANDLERS.put(ItemPool.BAT_WINGS, ResultProcessor::gainBatWings);
+  }
+
   private static void gainItem(boolean adventureResults, AdventureResult result) {
     int itemId = result.getItemId();
     int count = result.getCount();
@@ -1464,1906 +1983,1913 @@ public class ResultProcessor {
       PreferenceListenerRegistry.firePreferenceChanged("(hats)");
     }
 
-    switch (itemId) {
-      case ItemPool.GMOB_POLLEN:
-        if (adventureResults) {
-          // Record that we beat the guy made of bees.
-          Preferences.setBoolean("guyMadeOfBeesDefeated", true);
-        }
-        break;
+    GainHandler handler = GAIN_HANDLERS.get(itemId);
+    if (handler != null) {
+      handler.gain(adventureResults, result);
+    }
 
-      case ItemPool.ROASTED_MARSHMALLOW:
-        // Special Yuletide adventures
-        if (KoLAdventure.lastAdventureId() == AdventurePool.YULETIDE) {
-          ResultProcessor.removeItem(ItemPool.MARSHMALLOW);
-        }
-        break;
+    // Gaining items can achieve goals.
+    GoalManager.updateProgress(result);
+  }
 
-      case ItemPool.MARSHMALLOW_BOMB:
-        // Special St Sneaky Pete's Day Yuletide adventures
-        if (KoLAdventure.lastAdventureId() == AdventurePool.YULETIDE) {
-          ResultProcessor.removeItem(ItemPool.GREEN_MARSHMALLOW);
-        }
-        break;
+  private static void gainGmobPollen(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      // Record that we beat the guy made of bees.
+      Preferences.setBoolean("guyMadeOfBeesDefeated", true);
+    }
+  }
 
-        // Sticker weapons may have been folded from the other form
-      case ItemPool.STICKER_SWORD:
-        ResultProcessor.removeItem(ItemPool.STICKER_CROSSBOW);
-        break;
+  private static void gainRoastedMarshmallow(
+      final boolean adventureResults, final AdventureResult result) {
+    // Special Yuletide adventures
+    if (KoLAdventure.lastAdventureId() == AdventurePool.YULETIDE) {
+      ResultProcessor.removeItem(ItemPool.MARSHMALLOW);
+    }
+  }
 
-      case ItemPool.STICKER_CROSSBOW:
-        ResultProcessor.removeItem(ItemPool.STICKER_SWORD);
-        break;
+  private static void gainMarshmallowBomb(
+      final boolean adventureResults, final AdventureResult result) {
+    // Special St Sneaky Pete's Day Yuletide adventures
+    if (KoLAdventure.lastAdventureId() == AdventurePool.YULETIDE) {
+      ResultProcessor.removeItem(ItemPool.GREEN_MARSHMALLOW);
+    }
 
-      case ItemPool.MOSQUITO_LARVA:
-        QuestDatabase.setQuestProgress(Quest.LARVA, "step1");
-        break;
+    // Sticker weapons may have been folded from the other form
+  }
 
-      case ItemPool.BITCHIN_MEATCAR:
-      case ItemPool.DESERT_BUS_PASS:
-      case ItemPool.PUMPKIN_CARRIAGE:
-      case ItemPool.TIN_LIZZIE:
-        // Desert beach unlocked
-        KoLCharacter.setDesertBeachAvailable();
-        break;
+  private static void gainStickerSword(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.removeItem(ItemPool.STICKER_CROSSBOW);
+  }
 
-      case ItemPool.RUSTY_SCREWDRIVER:
-        QuestDatabase.setQuestProgress(Quest.UNTINKER, "step1");
-        break;
+  private static void gainStickerCrossbow(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.removeItem(ItemPool.STICKER_SWORD);
+  }
 
-      case ItemPool.JUNK_JUNK:
-        QuestDatabase.setQuestProgress(Quest.HIPPY, "step3");
-        break;
+  private static void gainMosquitoLarva(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.LARVA, "step1");
+  }
 
-      case ItemPool.DINGY_DINGHY:
-      case ItemPool.SKIFF:
-      case ItemPool.YELLOW_SUBMARINE:
-        // Island unlocked
-        Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
-        break;
+  private static void gainBitchinMeatcar(
+      final boolean adventureResults, final AdventureResult result) {
+    // Desert beach unlocked
+    KoLCharacter.setDesertBeachAvailable();
+  }
 
-      case ItemPool.TISSUE_PAPER_IMMATERIA:
-        QuestDatabase.setQuestProgress(Quest.GARBAGE, "step3");
-        break;
+  private static void gainRustyScrewdriver(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.UNTINKER, "step1");
+  }
 
-      case ItemPool.TIN_FOIL_IMMATERIA:
-        QuestDatabase.setQuestProgress(Quest.GARBAGE, "step4");
-        break;
+  private static void gainJunkJunk(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.HIPPY, "step3");
+  }
 
-      case ItemPool.GAUZE_IMMATERIA:
-        QuestDatabase.setQuestProgress(Quest.GARBAGE, "step5");
-        break;
+  private static void gainDingyDinghy(
+      final boolean adventureResults, final AdventureResult result) {
+    // Island unlocked
+    Preferences.setInteger("lastIslandUnlock", KoLCharacter.getAscensions());
+  }
 
-      case ItemPool.PLASTIC_WRAP_IMMATERIA:
-        QuestDatabase.setQuestProgress(Quest.GARBAGE, "step6");
-        break;
+  private static void gainTissuePaperImmateria(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.GARBAGE, "step3");
+  }
 
-      case ItemPool.SOCK:
-        // If you get a S.O.C.K., you lose all the Immateria
-        ResultProcessor.processItem(ItemPool.TISSUE_PAPER_IMMATERIA, -1);
-        ResultProcessor.processItem(ItemPool.TIN_FOIL_IMMATERIA, -1);
-        ResultProcessor.processItem(ItemPool.GAUZE_IMMATERIA, -1);
-        ResultProcessor.processItem(ItemPool.PLASTIC_WRAP_IMMATERIA, -1);
-        QuestDatabase.setQuestProgress(Quest.GARBAGE, "step7");
-        break;
+  private static void gainTinFoilImmateria(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.GARBAGE, "step4");
+  }
 
-      case ItemPool.BROKEN_WINGS:
-      case ItemPool.SUNKEN_EYES:
-        // Make the blackbird so you don't need to have the familiar with you
-        ResultProcessor.autoCreate(ItemPool.REASSEMBLED_BLACKBIRD);
-        break;
+  private static void gainGauzeImmateria(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.GARBAGE, "step5");
+  }
 
-      case ItemPool.BUSTED_WINGS:
-      case ItemPool.BIRD_BRAIN:
-        // Make the Crow so you don't need to have the familiar with you
-        ResultProcessor.autoCreate(ItemPool.RECONSTITUTED_CROW);
-        break;
+  private static void gainPlasticWrapImmateria(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.GARBAGE, "step6");
+  }
 
-      case ItemPool.PIRATE_FLEDGES:
-        QuestDatabase.setQuestProgress(Quest.PIRATE, "step6");
-        break;
+  private static void gainSock(final boolean adventureResults, final AdventureResult result) {
+    // If you get a S.O.C.K., you lose all the Immateria
+    ResultProcessor.processItem(ItemPool.TISSUE_PAPER_IMMATERIA, -1);
+    ResultProcessor.processItem(ItemPool.TIN_FOIL_IMMATERIA, -1);
+    ResultProcessor.processItem(ItemPool.GAUZE_IMMATERIA, -1);
+    ResultProcessor.processItem(ItemPool.PLASTIC_WRAP_IMMATERIA, -1);
+    QuestDatabase.setQuestProgress(Quest.GARBAGE, "step7");
+  }
 
-      case ItemPool.MACGUFFIN_DIARY:
-      case ItemPool.ED_DIARY:
-        // If you get your father's MacGuffin diary, you lose
-        // your forged identification documents
-        ResultProcessor.processItem(ItemPool.FORGED_ID_DOCUMENTS, -1);
-        QuestDatabase.setQuestProgress(Quest.BLACK, "step3");
-        // Automatically use the diary to open zones
-        if (Preferences.getBoolean("autoQuest")) {
-          UseItemRequest.getInstance(result).run();
-        }
-        break;
+  private static void gainBrokenWings(
+      final boolean adventureResults, final AdventureResult result) {
+    // Make the blackbird so you don't need to have the familiar with you
+    ResultProcessor.autoCreate(ItemPool.REASSEMBLED_BLACKBIRD);
+  }
 
-      case ItemPool.VOLCANO_MAP:
-        // A counter was made in case we lost the fight against the
-        // final assassin, but since this dropped we won the fight
-        TurnCounter.stopCounting("Nemesis Assassin window begin");
-        TurnCounter.stopCounting("Nemesis Assassin window end");
-        QuestDatabase.setQuestProgress(Quest.NEMESIS, "step25");
-        // Automatically use the map to open zones
-        if (Preferences.getBoolean("autoQuest")) {
-          UseItemRequest.getInstance(result).run();
-        }
-        break;
+  private static void gainBustedWings(
+      final boolean adventureResults, final AdventureResult result) {
+    // Make the Crow so you don't need to have the familiar with you
+    ResultProcessor.autoCreate(ItemPool.RECONSTITUTED_CROW);
+  }
 
-      case ItemPool.FIRST_PIZZA:
-      case ItemPool.LACROSSE_STICK:
-      case ItemPool.EYE_OF_THE_STARS:
-      case ItemPool.STANKARA_STONE:
-      case ItemPool.MURPHYS_FLAG:
-      case ItemPool.SHIELD_OF_BROOK:
-        // Annoyingly, matter-duplicating drones can duplicate quest items
-        if (InventoryManager.getCount(itemId) == 1) {
-          QuestDatabase.advanceQuest(Quest.SHEN);
-        }
-        Preferences.setString("shenQuestItem", result.getName());
-        break;
+  private static void gainPirateFledges(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.PIRATE, "step6");
+  }
 
-      case ItemPool.PALINDROME_BOOK_2:
-        // If you get "2 Love Me, Vol. 2", you lose
-        // the items you put on the shelves
-        ResultProcessor.processItem(ItemPool.PHOTOGRAPH_OF_GOD, -1);
-        ResultProcessor.processItem(ItemPool.PHOTOGRAPH_OF_RED_NUGGET, -1);
-        ResultProcessor.processItem(ItemPool.PHOTOGRAPH_OF_OSTRICH_EGG, -1);
-        ResultProcessor.processItem(ItemPool.PHOTOGRAPH_OF_DOG, -1);
-        QuestDatabase.setQuestIfBetter(Quest.PALINDOME, "step1");
-        break;
+  private static void gainMacguffinDiary(
+      final boolean adventureResults, final AdventureResult result) {
+    // If you get your father's MacGuffin diary, you lose
+    // your forged identification documents
+    ResultProcessor.processItem(ItemPool.FORGED_ID_DOCUMENTS, -1);
+    QuestDatabase.setQuestProgress(Quest.BLACK, "step3");
+    // Automatically use the diary to open zones
+    if (Preferences.getBoolean("autoQuest")) {
+      UseItemRequest.getInstance(result).run();
+    }
+  }
 
-      case ItemPool.WET_STUNT_NUT_STEW:
-        // If you have been asked to get the stew, you now have it.
-        if (QuestDatabase.isQuestStep(Quest.PALINDOME, "step3")) {
-          QuestDatabase.setQuestProgress(Quest.PALINDOME, "step4");
-        }
-        break;
+  private static void gainVolcanoMap(final boolean adventureResults, final AdventureResult result) {
+    // A counter was made in case we lost the fight against the
+    // final assassin, but since this dropped we won the fight
+    TurnCounter.stopCounting("Nemesis Assassin window begin");
+    TurnCounter.stopCounting("Nemesis Assassin window end");
+    QuestDatabase.setQuestProgress(Quest.NEMESIS, "step25");
+    // Automatically use the map to open zones
+    if (Preferences.getBoolean("autoQuest")) {
+      UseItemRequest.getInstance(result).run();
+    }
+  }
 
-      case ItemPool.MEGA_GEM:
-        // If you get the Mega Gem, you lose your wet stunt nut
-        // stew
-        ResultProcessor.processItem(ItemPool.WET_STUNT_NUT_STEW, -1);
-        QuestDatabase.setQuestIfBetter(Quest.PALINDOME, "step5");
-        break;
+  private static void gainFirstPizza(final boolean adventureResults, final AdventureResult result) {
+    // Annoyingly, matter-duplicating drones can duplicate quest items
+    int itemId = result.getItemId();
 
-      case ItemPool.HOLY_MACGUFFIN:
-        QuestDatabase.setQuestProgress(Quest.PYRAMID, QuestDatabase.FINISHED);
-        break;
+    if (InventoryManager.getCount(itemId) == 1) {
+      QuestDatabase.advanceQuest(Quest.SHEN);
+    }
+    Preferences.setString("shenQuestItem", result.getName());
+  }
 
-      case ItemPool.CONFETTI:
-        // If you get the confetti, you lose the Holy MacGuffin
-        if (InventoryManager.getCount(ItemPool.HOLY_MACGUFFIN) > 0) {
-          ResultProcessor.processItem(ItemPool.HOLY_MACGUFFIN, -1);
-          QuestDatabase.setQuestProgress(Quest.PYRAMID, QuestDatabase.FINISHED);
-          QuestDatabase.setQuestProgress(Quest.MANOR, QuestDatabase.FINISHED);
-          QuestDatabase.setQuestProgress(Quest.WORSHIP, QuestDatabase.FINISHED);
-          QuestDatabase.setQuestProgress(Quest.PALINDOME, QuestDatabase.FINISHED);
-          QuestDatabase.setQuestProgress(Quest.MACGUFFIN, QuestDatabase.FINISHED);
-        }
-        break;
+  private static void gainPalindromeBook2(
+      final boolean adventureResults, final AdventureResult result) {
+    // If you get "2 Love Me, Vol. 2", you lose
+    // the items you put on the shelves
+    ResultProcessor.processItem(ItemPool.PHOTOGRAPH_OF_GOD, -1);
+    ResultProcessor.processItem(ItemPool.PHOTOGRAPH_OF_RED_NUGGET, -1);
+    ResultProcessor.processItem(ItemPool.PHOTOGRAPH_OF_OSTRICH_EGG, -1);
+    ResultProcessor.processItem(ItemPool.PHOTOGRAPH_OF_DOG, -1);
+    QuestDatabase.setQuestIfBetter(Quest.PALINDOME, "step1");
+  }
 
-      case ItemPool.MORTAR_DISSOLVING_RECIPE:
-        QuestDatabase.setQuestIfBetter(Quest.MANOR, "step2");
-        if (Preferences.getBoolean("autoQuest")) {
-          boolean equipSpecs = InventoryManager.getCount(ItemPool.SPOOKYRAVEN_SPECTACLES) > 0;
-          Checkpoint checkpoint = null;
-          try {
-            if (equipSpecs) {
-              checkpoint = new Checkpoint();
-              RequestThread.postRequest(
-                  new EquipmentRequest(
-                      ItemPool.get(ItemPool.SPOOKYRAVEN_SPECTACLES, 1), Slot.ACCESSORY3));
-            }
-            RequestThread.postRequest(
-                UseItemRequest.getInstance(ItemPool.MORTAR_DISSOLVING_RECIPE));
-          } finally {
-            if (checkpoint != null) {
-              checkpoint.close();
-            }
-          }
-          boolean hasSpecs =
-              equipSpecs
-                  || KoLCharacter.hasEquipped(ItemPool.get(ItemPool.SPOOKYRAVEN_SPECTACLES, 1));
-          KoLmafia.updateDisplay(
-              "Mortar-dissolving recipe used with Lord Spookyraven's spectacles "
-                  + (hasSpecs ? "" : "NOT ")
-                  + "equipped.");
-          // Ugly hacky fix for the above UseItemRequest for some reason not triggering the code
-          // there
-          if (hasSpecs) {
-            Preferences.setString("spookyravenRecipeUsed", "with_glasses");
-          } else {
-            Preferences.setString("spookyravenRecipeUsed", "no_glasses");
-          }
-        }
+  private static void gainWetStuntNutStew(
+      final boolean adventureResults, final AdventureResult result) {
+    // If you have been asked to get the stew, you now have it.
+    if (QuestDatabase.isQuestStep(Quest.PALINDOME, "step3")) {
+      QuestDatabase.setQuestProgress(Quest.PALINDOME, "step4");
+    }
+  }
 
-        break;
+  private static void gainMegaGem(final boolean adventureResults, final AdventureResult result) {
+    // If you get the Mega Gem, you lose your wet stunt nut
+    // stew
+    ResultProcessor.processItem(ItemPool.WET_STUNT_NUT_STEW, -1);
+    QuestDatabase.setQuestIfBetter(Quest.PALINDOME, "step5");
+  }
 
-      case ItemPool.MOLYBDENUM_MAGNET:
-        // When you get the molybdenum magnet, tell quest handler
-        IslandManager.startJunkyardQuest();
-        break;
+  private static void gainHolyMacguffin(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.PYRAMID, QuestDatabase.FINISHED);
+  }
 
-      case ItemPool.MOLYBDENUM_HAMMER:
-      case ItemPool.MOLYBDENUM_SCREWDRIVER:
-      case ItemPool.MOLYBDENUM_PLIERS:
-      case ItemPool.MOLYBDENUM_WRENCH:
-        // When you get a molybdenum item, tell quest handler
-        IslandManager.resetGremlinTool();
-        break;
+  private static void gainConfetti(final boolean adventureResults, final AdventureResult result) {
+    // If you get the confetti, you lose the Holy MacGuffin
+    if (InventoryManager.getCount(ItemPool.HOLY_MACGUFFIN) > 0) {
+      ResultProcessor.processItem(ItemPool.HOLY_MACGUFFIN, -1);
+      QuestDatabase.setQuestProgress(Quest.PYRAMID, QuestDatabase.FINISHED);
+      QuestDatabase.setQuestProgress(Quest.MANOR, QuestDatabase.FINISHED);
+      QuestDatabase.setQuestProgress(Quest.WORSHIP, QuestDatabase.FINISHED);
+      QuestDatabase.setQuestProgress(Quest.PALINDOME, QuestDatabase.FINISHED);
+      QuestDatabase.setQuestProgress(Quest.MACGUFFIN, QuestDatabase.FINISHED);
+    }
+  }
 
-      case ItemPool.SPOOKY_BICYCLE_CHAIN:
-        if (adventureResults) QuestDatabase.setQuestIfBetter(Quest.BUGBEAR, "step3");
-        break;
+  private static void gainMortarDissolvingRecipe(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestIfBetter(Quest.MANOR, "step2");
+    if (Preferences.getBoolean("autoQuest")) {
+      boolean equipSpecs = InventoryManager.getCount(ItemPool.SPOOKYRAVEN_SPECTACLES) > 0;
+      Checkpoint checkpoint = null;
+      try {
+        if (equipSpecs) {
+          checkpoint = new Checkpoint();
+          RequestThread.postRequest(
+              new EquipmentRequest(
+                  ItemPool.get(ItemPool.SPOOKYRAVEN_SPECTACLES, 1), Slot.ACCESSORY3));
+        }
+        RequestThread.postRequest(UseItemRequest.getInstance(ItemPool.MORTAR_DISSOLVING_RECIPE));
+      } finally {
+        if (checkpoint != null) {
+          checkpoint.close();
+        }
+      }
+      boolean hasSpecs =
+          equipSpecs || KoLCharacter.hasEquipped(ItemPool.get(ItemPool.SPOOKYRAVEN_SPECTACLES, 1));
+      KoLmafia.updateDisplay(
+          "Mortar-dissolving recipe used with Lord Spookyraven's spectacles "
+              + (hasSpecs ? "" : "NOT ")
+              + "equipped.");
+      // Ugly hacky fix for the above UseItemRequest for some reason not triggering the code
+      // there
+      if (hasSpecs) {
+        Preferences.setString("spookyravenRecipeUsed", "with_glasses");
+      } else {
+        Preferences.setString("spookyravenRecipeUsed", "no_glasses");
+      }
+    }
+  }
 
-      case ItemPool.RONALD_SHELTER_MAP:
-      case ItemPool.GRIMACE_SHELTER_MAP:
-        QuestDatabase.setQuestIfBetter(Quest.GENERATOR, "step1");
-        break;
+  private static void gainMolybdenumMagnet(
+      final boolean adventureResults, final AdventureResult result) {
+    // When you get the molybdenum magnet, tell quest handler
+    IslandManager.startJunkyardQuest();
+  }
 
-      case ItemPool.SPOOKY_LITTLE_GIRL:
-        QuestDatabase.setQuestIfBetter(Quest.GENERATOR, "step2");
-        break;
+  private static void gainMolybdenumHammer(
+      final boolean adventureResults, final AdventureResult result) {
+    // When you get a molybdenum item, tell quest handler
+    IslandManager.resetGremlinTool();
+  }
 
-      case ItemPool.EMU_UNIT:
-        // If you get an E.M.U. Unit, you lose all the E.M.U. parts
-        ResultProcessor.processItem(ItemPool.EMU_JOYSTICK, -1);
-        ResultProcessor.processItem(ItemPool.EMU_ROCKET, -1);
-        ResultProcessor.processItem(ItemPool.EMU_HELMET, -1);
-        ResultProcessor.processItem(ItemPool.EMU_HARNESS, -1);
-        QuestDatabase.setQuestIfBetter(Quest.GENERATOR, "step3");
-        break;
+  private static void gainSpookyBicycleChain(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) QuestDatabase.setQuestIfBetter(Quest.BUGBEAR, "step3");
+  }
 
-      case ItemPool.OVERCHARGED_POWER_SPHERE:
-      case ItemPool.EL_VIBRATO_HELMET:
-      case ItemPool.EL_VIBRATO_SPEAR:
-      case ItemPool.EL_VIBRATO_PANTS:
-        if (adventureResults) ResultProcessor.removeItem(ItemPool.POWER_SPHERE);
-        break;
+  private static void gainRonaldShelterMap(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestIfBetter(Quest.GENERATOR, "step1");
+  }
 
-      case ItemPool.BROKEN_DRONE:
-        if (adventureResults) ResultProcessor.removeItem(ItemPool.DRONE);
-        break;
+  private static void gainSpookyLittleGirl(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestIfBetter(Quest.GENERATOR, "step2");
+  }
 
-      case ItemPool.REPAIRED_DRONE:
-        if (adventureResults) ResultProcessor.removeItem(ItemPool.BROKEN_DRONE);
-        break;
+  private static void gainEmuUnit(final boolean adventureResults, final AdventureResult result) {
+    // If you get an E.M.U. Unit, you lose all the E.M.U. parts
+    ResultProcessor.processItem(ItemPool.EMU_JOYSTICK, -1);
+    ResultProcessor.processItem(ItemPool.EMU_ROCKET, -1);
+    ResultProcessor.processItem(ItemPool.EMU_HELMET, -1);
+    ResultProcessor.processItem(ItemPool.EMU_HARNESS, -1);
+    QuestDatabase.setQuestIfBetter(Quest.GENERATOR, "step3");
+  }
 
-      case ItemPool.AUGMENTED_DRONE:
-        if (adventureResults) ResultProcessor.removeItem(ItemPool.REPAIRED_DRONE);
-        break;
+  private static void gainOverchargedPowerSphere(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) ResultProcessor.removeItem(ItemPool.POWER_SPHERE);
+  }
 
-      case ItemPool.TRAPEZOID:
-        ResultProcessor.removeItem(ItemPool.POWER_SPHERE);
-        break;
+  private static void gainBrokenDrone(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) ResultProcessor.removeItem(ItemPool.DRONE);
+  }
 
-      case ItemPool.CITADEL_SATCHEL:
-        ResultProcessor.processMeat(-300);
-        break;
+  private static void gainRepairedDrone(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) ResultProcessor.removeItem(ItemPool.BROKEN_DRONE);
+  }
 
-      case ItemPool.HAROLDS_HAMMER_HEAD:
-      case ItemPool.HAROLDS_HAMMER:
-        // Yes, they are the same quest step!
-        QuestDatabase.setQuestProgress(Quest.HAMMER, QuestDatabase.STARTED);
-        break;
+  private static void gainAugmentedDrone(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) ResultProcessor.removeItem(ItemPool.REPAIRED_DRONE);
+  }
 
-      case ItemPool.HAROLDS_BELL:
-        QuestDatabase.setQuestProgress(Quest.HAMMER, QuestDatabase.FINISHED);
-        ResultProcessor.processItem(ItemPool.HAROLDS_HAMMER, -1);
-        break;
+  private static void gainTrapezoid(final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.removeItem(ItemPool.POWER_SPHERE);
+  }
 
-      case ItemPool.LIT_BIRTHDAY_CAKE:
-        ResultProcessor.processItem(ItemPool.UNLIT_BIRTHDAY_CAKE, -1);
-        //noinspection fallthrough
-      case ItemPool.UNLIT_BIRTHDAY_CAKE:
-        // Yes, they are the same quest step!
-        QuestDatabase.setQuestProgress(Quest.BAKER, QuestDatabase.STARTED);
-        break;
+  private static void gainCitadelSatchel(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processMeat(-300);
+  }
 
-      case ItemPool.PAT_A_CAKE_PENDANT:
-        ResultProcessor.processItem(ItemPool.LIT_BIRTHDAY_CAKE, -1);
-        QuestDatabase.setQuestProgress(Quest.BAKER, QuestDatabase.FINISHED);
-        break;
+  private static void gainHaroldsHammerHead(
+      final boolean adventureResults, final AdventureResult result) {
+    // Yes, they are the same quest step!
+    QuestDatabase.setQuestProgress(Quest.HAMMER, QuestDatabase.STARTED);
+  }
 
-        // These update the session results for the item swapping in
-        // the Gnome's Going Postal quest.
+  private static void gainHaroldsBell(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.HAMMER, QuestDatabase.FINISHED);
+    ResultProcessor.processItem(ItemPool.HAROLDS_HAMMER, -1);
+  }
 
-      case ItemPool.REALLY_BIG_TINY_HOUSE:
-        ResultProcessor.processItem(ItemPool.RED_PAPER_CLIP, -1);
-        break;
-      case ItemPool.NONESSENTIAL_AMULET:
-        ResultProcessor.processItem(ItemPool.REALLY_BIG_TINY_HOUSE, -1);
-        break;
-      case ItemPool.WHITE_WINE_VINAIGRETTE:
-        ResultProcessor.processItem(ItemPool.NONESSENTIAL_AMULET, -1);
-        break;
-      case ItemPool.CURIOUSLY_SHINY_AX:
-        ResultProcessor.processItem(ItemPool.WHITE_WINE_VINAIGRETTE, -1);
-        break;
-      case ItemPool.CUP_OF_STRONG_TEA:
-        ResultProcessor.processItem(ItemPool.CURIOUSLY_SHINY_AX, -1);
-        break;
-      case ItemPool.MARINATED_STAKES:
-        ResultProcessor.processItem(ItemPool.CUP_OF_STRONG_TEA, -1);
-        break;
-      case ItemPool.KNOB_BUTTER:
-        ResultProcessor.processItem(ItemPool.MARINATED_STAKES, -1);
-        break;
-      case ItemPool.VIAL_OF_ECTOPLASM:
-        ResultProcessor.processItem(ItemPool.KNOB_BUTTER, -1);
-        break;
-      case ItemPool.BOOCK_OF_MAGICKS:
-        ResultProcessor.processItem(ItemPool.VIAL_OF_ECTOPLASM, -1);
-        break;
-      case ItemPool.EZ_PLAY_HARMONICA_BOOK:
-        ResultProcessor.processItem(ItemPool.BOOCK_OF_MAGICKS, -1);
-        break;
-      case ItemPool.FINGERLESS_HOBO_GLOVES:
-        ResultProcessor.processItem(ItemPool.EZ_PLAY_HARMONICA_BOOK, -1);
-        break;
-      case ItemPool.CHOMSKYS_COMICS:
-        ResultProcessor.processItem(ItemPool.FINGERLESS_HOBO_GLOVES, -1);
-        break;
-      case ItemPool.GNOME_DEMODULIZER:
-        ResultProcessor.removeItem(ItemPool.CHOMSKYS_COMICS);
-        break;
+  private static void gainLitBirthdayCake(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.UNLIT_BIRTHDAY_CAKE, -1);
+    //noinspection fallthrough
+    gainUnlitBirthdayCake(adventureResults, result);
+  }
 
-      case ItemPool.SHOPPING_LIST:
-        QuestDatabase.setQuestIfBetter(Quest.MEATCAR, QuestDatabase.STARTED);
-        break;
+  private static void gainUnlitBirthdayCake(
+      final boolean adventureResults, final AdventureResult result) {
+    // Yes, they are the same quest step!
+    QuestDatabase.setQuestProgress(Quest.BAKER, QuestDatabase.STARTED);
+  }
 
-      case ItemPool.MUS_MANUAL:
-      case ItemPool.MYS_MANUAL:
-      case ItemPool.MOX_MANUAL:
-        ResultProcessor.processItem(ItemPool.DUSTY_BOOK, -1);
-        ResultProcessor.processItem(ItemPool.FERNSWARTHYS_KEY, -1);
-        break;
+  private static void gainPatACakePendant(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.LIT_BIRTHDAY_CAKE, -1);
+    QuestDatabase.setQuestProgress(Quest.BAKER, QuestDatabase.FINISHED);
 
-      case ItemPool.FRATHOUSE_BLUEPRINTS:
-        ResultProcessor.processItem(ItemPool.CARONCH_MAP, -1);
-        ResultProcessor.processItem(ItemPool.CARONCH_NASTY_BOOTY, -1);
-        QuestDatabase.setQuestIfBetter(Quest.PIRATE, "step2");
-        break;
+    // These update the session results for the item swapping in
+    // the Gnome's Going Postal quest.
+  }
 
-      case ItemPool.CARONCH_DENTURES:
-        QuestDatabase.setQuestIfBetter(Quest.PIRATE, "step3");
-        break;
+  private static void gainReallyBigTinyHouse(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.RED_PAPER_CLIP, -1);
+  }
 
-      case ItemPool.EXORCISED_SANDWICH:
-        QuestDatabase.setQuestProgress(Quest.MYST, "step1");
-        break;
+  private static void gainNonessentialAmulet(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.REALLY_BIG_TINY_HOUSE, -1);
+  }
 
-      case ItemPool.BIG_KNOB_SAUSAGE:
-        QuestDatabase.setQuestProgress(Quest.MUSCLE, "step1");
-        break;
+  private static void gainWhiteWineVinaigrette(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.NONESSENTIAL_AMULET, -1);
+  }
 
-      case ItemPool.BATSKIN_BELT:
-        if (adventureResults) {
-          QuestDatabase.setQuestProgress(Quest.BAT, "step4");
-          ResultProcessor.autoCreate(ItemPool.BADASS_BELT);
-        }
-        break;
+  private static void gainCuriouslyShinyAx(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.WHITE_WINE_VINAIGRETTE, -1);
+  }
 
-      case ItemPool.KNOB_GOBLIN_CROWN:
-      case ItemPool.KNOB_GOBLIN_BALLS:
-      case ItemPool.KNOB_GOBLIN_CODPIECE:
-        if (adventureResults) {
-          QuestDatabase.setQuestProgress(Quest.GOBLIN, QuestDatabase.FINISHED);
-        }
-        break;
+  private static void gainCupOfStrongTea(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.CURIOUSLY_SHINY_AX, -1);
+  }
 
-      case ItemPool.DODECAGRAM:
-        if (InventoryManager.getCount(ItemPool.CANDLES) > 0
-            && InventoryManager.getCount(ItemPool.BUTTERKNIFE) > 0) {
-          QuestDatabase.setQuestProgress(Quest.FRIAR, "step2");
-        }
-        break;
+  private static void gainMarinatedStakes(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.CUP_OF_STRONG_TEA, -1);
+  }
 
-      case ItemPool.CANDLES:
-        if (InventoryManager.getCount(ItemPool.DODECAGRAM) > 0
-            && InventoryManager.getCount(ItemPool.BUTTERKNIFE) > 0) {
-          QuestDatabase.setQuestProgress(Quest.FRIAR, "step2");
-        }
-        break;
+  private static void gainKnobButter(final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.MARINATED_STAKES, -1);
+  }
 
-      case ItemPool.BUTTERKNIFE:
-        if (InventoryManager.getCount(ItemPool.DODECAGRAM) > 0
-            && InventoryManager.getCount(ItemPool.CANDLES) > 0) {
-          QuestDatabase.setQuestProgress(Quest.FRIAR, "step2");
-        }
-        break;
+  private static void gainVialOfEctoplasm(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.KNOB_BUTTER, -1);
+  }
 
-      case ItemPool.BONERDAGON_CHEST:
-        CryptManager.defeatBoss("Bonerdagon");
-        break;
+  private static void gainBoockOfMagicks(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.VIAL_OF_ECTOPLASM, -1);
+  }
 
-      case ItemPool.BONERDAGON_SKULL:
-        if (adventureResults) {
-          ResultProcessor.autoCreate(ItemPool.BADASS_BELT);
-        }
-        break;
+  private static void gainEzPlayHarmonicaBook(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.BOOCK_OF_MAGICKS, -1);
+  }
 
-      case ItemPool.GROARS_FUR:
-      case ItemPool.WINGED_YETI_FUR:
-        QuestDatabase.setQuestProgress(Quest.TRAPPER, "step5");
-        break;
+  private static void gainFingerlessHoboGloves(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.EZ_PLAY_HARMONICA_BOOK, -1);
+  }
 
-      case ItemPool.MISTY_CLOAK:
-      case ItemPool.MISTY_ROBE:
-      case ItemPool.MISTY_CAPE:
-        if (RequestLogger.getLastURLString().contains("action=highlands_dude")) {
-          QuestDatabase.setQuestProgress(Quest.TOPPING, QuestDatabase.FINISHED);
-          QuestDatabase.setQuestProgress(Quest.LOL, QuestDatabase.STARTED);
-          Preferences.setInteger("booPeakProgress", 0);
-          Preferences.setBoolean("booPeakLit", true);
-          Preferences.setInteger("twinPeakProgress", 15);
-          Preferences.setFloat("oilPeakProgress", 0);
-          Preferences.setBoolean("oilPeakLit", true);
-        }
-        break;
+  private static void gainChomskysComics(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.FINGERLESS_HOBO_GLOVES, -1);
+  }
 
-      case ItemPool.HEMP_STRING:
-      case ItemPool.BONERDAGON_VERTEBRA:
-        ResultProcessor.autoCreate(ItemPool.BONERDAGON_NECKLACE);
-        break;
+  private static void gainGnomeDemodulizer(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.removeItem(ItemPool.CHOMSKYS_COMICS);
+  }
 
-      case ItemPool.COPPERHEAD_CHARM:
-      case ItemPool.COPPERHEAD_CHARM_RAMPANT:
-        if (InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM)) {
-          QuestDatabase.setQuestProgress(Quest.SHEN, QuestDatabase.FINISHED);
-        }
-        if (InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM_RAMPANT)) {
-          QuestDatabase.setQuestProgress(Quest.RON, QuestDatabase.FINISHED);
-        }
-        if (InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM)
-            && InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM_RAMPANT)) {
-          ResultProcessor.autoCreate(ItemPool.TALISMAN);
-        }
-        break;
+  private static void gainShoppingList(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestIfBetter(Quest.MEATCAR, QuestDatabase.STARTED);
+  }
 
-      case ItemPool.TALISMAN:
-        // Having a Talisman is good enough to adventure in the Palindome.
-        // Which is to say, The Palindome quest is now started.
-        QuestDatabase.setQuestIfBetter(Quest.PALINDOME, QuestDatabase.STARTED);
-        break;
+  private static void gainMusManual(final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.DUSTY_BOOK, -1);
+    ResultProcessor.processItem(ItemPool.FERNSWARTHYS_KEY, -1);
+  }
 
-      case ItemPool.EYE_OF_ED:
-        QuestDatabase.setQuestProgress(Quest.MANOR, QuestDatabase.FINISHED);
-        break;
+  private static void gainFrathouseBlueprints(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.CARONCH_MAP, -1);
+    ResultProcessor.processItem(ItemPool.CARONCH_NASTY_BOOTY, -1);
+    QuestDatabase.setQuestIfBetter(Quest.PIRATE, "step2");
+  }
 
-      case ItemPool.MCCLUSKY_FILE_PAGE5:
-        ResultProcessor.autoCreate(ItemPool.MCCLUSKY_FILE);
-        break;
+  private static void gainCaronchDentures(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestIfBetter(Quest.PIRATE, "step3");
+  }
 
-      case ItemPool.MOSS_COVERED_STONE_SPHERE:
-        Preferences.setInteger("hiddenApartmentProgress", 7);
-        QuestDatabase.setQuestProgress(Quest.CURSES, QuestDatabase.FINISHED);
-        if (QuestDatabase.isQuestFinished(Quest.DOCTOR)
-            && QuestDatabase.isQuestFinished(Quest.BUSINESS)
-            && QuestDatabase.isQuestFinished(Quest.SPARE)) {
-          QuestDatabase.setQuestProgress(Quest.WORSHIP, "step4");
-        }
-        break;
+  private static void gainExorcisedSandwich(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.MYST, "step1");
+  }
 
-      case ItemPool.DRIPPING_STONE_SPHERE:
-        Preferences.setInteger("hiddenHospitalProgress", 7);
-        QuestDatabase.setQuestProgress(Quest.DOCTOR, QuestDatabase.FINISHED);
-        if (QuestDatabase.isQuestFinished(Quest.CURSES)
-            && QuestDatabase.isQuestFinished(Quest.BUSINESS)
-            && QuestDatabase.isQuestFinished(Quest.SPARE)) {
-          QuestDatabase.setQuestProgress(Quest.WORSHIP, "step4");
-        }
-        break;
+  private static void gainBigKnobSausage(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.MUSCLE, "step1");
+  }
 
-      case ItemPool.CRACKLING_STONE_SPHERE:
-        // Lose McClusky File when you kill the Protector Spirit
-        ResultProcessor.processItem(ItemPool.MCCLUSKY_FILE, -1);
-        Preferences.setInteger("hiddenOfficeProgress", 7);
-        QuestDatabase.setQuestProgress(Quest.BUSINESS, QuestDatabase.FINISHED);
-        if (QuestDatabase.isQuestFinished(Quest.CURSES)
-            && QuestDatabase.isQuestFinished(Quest.DOCTOR)
-            && QuestDatabase.isQuestFinished(Quest.SPARE)) {
-          QuestDatabase.setQuestProgress(Quest.WORSHIP, "step4");
-        }
-        break;
+  private static void gainBatskinBelt(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      QuestDatabase.setQuestProgress(Quest.BAT, "step4");
+      ResultProcessor.autoCreate(ItemPool.BADASS_BELT);
+    }
+  }
 
-      case ItemPool.SCORCHED_STONE_SPHERE:
-        Preferences.setInteger("hiddenBowlingAlleyProgress", 7);
-        QuestDatabase.setQuestProgress(Quest.SPARE, QuestDatabase.FINISHED);
-        if (QuestDatabase.isQuestFinished(Quest.CURSES)
-            && QuestDatabase.isQuestFinished(Quest.BUSINESS)
-            && QuestDatabase.isQuestFinished(Quest.DOCTOR)) {
-          QuestDatabase.setQuestProgress(Quest.WORSHIP, "step4");
-        }
-        break;
+  private static void gainKnobGoblinCrown(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      QuestDatabase.setQuestProgress(Quest.GOBLIN, QuestDatabase.FINISHED);
+    }
+  }
 
-      case ItemPool.ANCIENT_AMULET:
-        // If you get the ancient amulet, you lose the 4 stone triangles, and have definitely
-        // completed quest actions
-        ResultProcessor.processItem(ItemPool.STONE_TRIANGLE, -4);
-        Preferences.setInteger("hiddenApartmentProgress", 8);
-        Preferences.setInteger("hiddenHospitalProgress", 8);
-        Preferences.setInteger("hiddenOfficeProgress", 8);
-        Preferences.setInteger("hiddenBowlingAlleyProgress", 8);
-        QuestDatabase.setQuestProgress(Quest.WORSHIP, QuestDatabase.FINISHED);
-        break;
+  private static void gainDodecagram(final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.CANDLES) > 0
+        && InventoryManager.getCount(ItemPool.BUTTERKNIFE) > 0) {
+      QuestDatabase.setQuestProgress(Quest.FRIAR, "step2");
+    }
+  }
 
-      case ItemPool.STAFF_OF_FATS:
-        QuestDatabase.setQuestProgress(Quest.PALINDOME, QuestDatabase.FINISHED);
-        break;
+  private static void gainCandles(final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.DODECAGRAM) > 0
+        && InventoryManager.getCount(ItemPool.BUTTERKNIFE) > 0) {
+      QuestDatabase.setQuestProgress(Quest.FRIAR, "step2");
+    }
+  }
 
-      case ItemPool.ANCIENT_BOMB:
-        ResultProcessor.processItem(ItemPool.ANCIENT_BRONZE_TOKEN, -1);
-        break;
+  private static void gainButterknife(
+      final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.DODECAGRAM) > 0
+        && InventoryManager.getCount(ItemPool.CANDLES) > 0) {
+      QuestDatabase.setQuestProgress(Quest.FRIAR, "step2");
+    }
+  }
 
-      case ItemPool.CARONCH_MAP:
-        QuestDatabase.setQuestProgress(Quest.PIRATE, QuestDatabase.STARTED);
-        break;
+  private static void gainBonerdagonChest(
+      final boolean adventureResults, final AdventureResult result) {
+    CryptManager.defeatBoss("Bonerdagon");
+  }
 
-      case ItemPool.CARONCH_NASTY_BOOTY:
-        QuestDatabase.setQuestIfBetter(Quest.PIRATE, "step1");
-        break;
+  private static void gainBonerdagonSkull(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      ResultProcessor.autoCreate(ItemPool.BADASS_BELT);
+    }
+  }
 
-      case ItemPool.BILLIARDS_KEY:
-        QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_NECKLACE, "step1");
-        break;
+  private static void gainGroarsFur(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.TRAPPER, "step5");
+  }
 
-      case ItemPool.LIBRARY_KEY:
-        QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_NECKLACE, "step3");
-        break;
+  private static void gainMistyCloak(final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().contains("action=highlands_dude")) {
+      QuestDatabase.setQuestProgress(Quest.TOPPING, QuestDatabase.FINISHED);
+      QuestDatabase.setQuestProgress(Quest.LOL, QuestDatabase.STARTED);
+      Preferences.setInteger("booPeakProgress", 0);
+      Preferences.setBoolean("booPeakLit", true);
+      Preferences.setInteger("twinPeakProgress", 15);
+      Preferences.setFloat("oilPeakProgress", 0);
+      Preferences.setBoolean("oilPeakLit", true);
+    }
+  }
 
-      case ItemPool.SPOOKYRAVEN_NECKLACE:
-        Preferences.setInteger("writingDesksDefeated", 5);
-        QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_NECKLACE, "step4");
-        break;
+  private static void gainHempString(final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.autoCreate(ItemPool.BONERDAGON_NECKLACE);
+  }
 
-      case ItemPool.DUSTY_POPPET:
-        QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_BABIES, QuestDatabase.STARTED);
-        break;
+  private static void gainCopperheadCharm(
+      final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM)) {
+      QuestDatabase.setQuestProgress(Quest.SHEN, QuestDatabase.FINISHED);
+    }
+    if (InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM_RAMPANT)) {
+      QuestDatabase.setQuestProgress(Quest.RON, QuestDatabase.FINISHED);
+    }
+    if (InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM)
+        && InventoryManager.hasItem(ItemPool.COPPERHEAD_CHARM_RAMPANT)) {
+      ResultProcessor.autoCreate(ItemPool.TALISMAN);
+    }
+  }
 
-      case ItemPool.BABY_GHOSTS:
-        QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_BABIES, "step1");
-        ResultProcessor.removeItem(ItemPool.DUSTY_POPPET);
-        ResultProcessor.removeItem(ItemPool.RICKETY_ROCKING_HORSE);
-        ResultProcessor.removeItem(ItemPool.ANTIQUE_JACK_IN_THE_BOX);
-        break;
+  private static void gainTalisman(final boolean adventureResults, final AdventureResult result) {
+    // Having a Talisman is good enough to adventure in the Palindome.
+    // Which is to say, The Palindome quest is now started.
+    QuestDatabase.setQuestIfBetter(Quest.PALINDOME, QuestDatabase.STARTED);
+  }
 
-      case ItemPool.GHOST_FORMULA:
-        QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_BABIES, QuestDatabase.FINISHED);
-        ResultProcessor.removeItem(ItemPool.BABY_GHOSTS);
-        break;
+  private static void gainEyeOfEd(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.MANOR, QuestDatabase.FINISHED);
+  }
 
-      case ItemPool.NEOPRENE_SKULLCAP:
-        if (adventureResults) {
-          QuestDatabase.setQuestProgress(Quest.BAT, "step4");
-        }
-        break;
+  private static void gainMccluskyFilePage5(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.autoCreate(ItemPool.MCCLUSKY_FILE);
+  }
 
-      case ItemPool.GOBLIN_WATER:
-        MonsterData lastMonster = MonsterStatusTracker.getLastMonster();
-        if (lastMonster == null) {
-          break;
-        }
-        String goblinWaterMonster = lastMonster.getName();
-        if (adventureResults
-            && goblinWaterMonster.equals(
-                "Aquagoblin")) { // because you can now get the Goblin Water other ways...
-          QuestDatabase.setQuestProgress(Quest.GOBLIN, QuestDatabase.FINISHED);
-        }
-        break;
+  private static void gainMossCoveredStoneSphere(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setInteger("hiddenApartmentProgress", 7);
+    QuestDatabase.setQuestProgress(Quest.CURSES, QuestDatabase.FINISHED);
+    if (QuestDatabase.isQuestFinished(Quest.DOCTOR)
+        && QuestDatabase.isQuestFinished(Quest.BUSINESS)
+        && QuestDatabase.isQuestFinished(Quest.SPARE)) {
+      QuestDatabase.setQuestProgress(Quest.WORSHIP, "step4");
+    }
+  }
 
-      case ItemPool.HAND_CARVED_BOKKEN:
-      case ItemPool.HAND_CARVED_BOW:
-      case ItemPool.HAND_CARVED_STAFF:
-        if (RequestLogger.getLastURLString().contains("action=lc_marty")) {
-          QuestDatabase.setQuestProgress(Quest.SWAMP, QuestDatabase.FINISHED);
-        }
-        break;
+  private static void gainDrippingStoneSphere(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setInteger("hiddenHospitalProgress", 7);
+    QuestDatabase.setQuestProgress(Quest.DOCTOR, QuestDatabase.FINISHED);
+    if (QuestDatabase.isQuestFinished(Quest.CURSES)
+        && QuestDatabase.isQuestFinished(Quest.BUSINESS)
+        && QuestDatabase.isQuestFinished(Quest.SPARE)) {
+      QuestDatabase.setQuestProgress(Quest.WORSHIP, "step4");
+    }
+  }
 
-      case ItemPool.WORSE_HOMES_GARDENS:
-        QuestDatabase.setQuestProgress(Quest.HIPPY, "step1");
-        ConcoctionDatabase.setRefreshNeeded(false);
-        break;
+  private static void gainCracklingStoneSphere(
+      final boolean adventureResults, final AdventureResult result) {
+    // Lose McClusky File when you kill the Protector Spirit
+    ResultProcessor.processItem(ItemPool.MCCLUSKY_FILE, -1);
+    Preferences.setInteger("hiddenOfficeProgress", 7);
+    QuestDatabase.setQuestProgress(Quest.BUSINESS, QuestDatabase.FINISHED);
+    if (QuestDatabase.isQuestFinished(Quest.CURSES)
+        && QuestDatabase.isQuestFinished(Quest.DOCTOR)
+        && QuestDatabase.isQuestFinished(Quest.SPARE)) {
+      QuestDatabase.setQuestProgress(Quest.WORSHIP, "step4");
+    }
+  }
 
-      case ItemPool.STEEL_LIVER:
-      case ItemPool.STEEL_STOMACH:
-      case ItemPool.STEEL_SPLEEN:
-        QuestDatabase.setQuestProgress(Quest.AZAZEL, QuestDatabase.FINISHED);
-        break;
+  private static void gainScorchedStoneSphere(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setInteger("hiddenBowlingAlleyProgress", 7);
+    QuestDatabase.setQuestProgress(Quest.SPARE, QuestDatabase.FINISHED);
+    if (QuestDatabase.isQuestFinished(Quest.CURSES)
+        && QuestDatabase.isQuestFinished(Quest.BUSINESS)
+        && QuestDatabase.isQuestFinished(Quest.DOCTOR)) {
+      QuestDatabase.setQuestProgress(Quest.WORSHIP, "step4");
+    }
+  }
 
-      case ItemPool.BATHYSPHERE:
-        QuestDatabase.setQuestProgress(Quest.SEA_OLD_GUY, QuestDatabase.STARTED);
-        break;
+  private static void gainAncientAmulet(
+      final boolean adventureResults, final AdventureResult result) {
+    // If you get the ancient amulet, you lose the 4 stone triangles, and have definitely
+    // completed quest actions
+    ResultProcessor.processItem(ItemPool.STONE_TRIANGLE, -4);
+    Preferences.setInteger("hiddenApartmentProgress", 8);
+    Preferences.setInteger("hiddenHospitalProgress", 8);
+    Preferences.setInteger("hiddenOfficeProgress", 8);
+    Preferences.setInteger("hiddenBowlingAlleyProgress", 8);
+    QuestDatabase.setQuestProgress(Quest.WORSHIP, QuestDatabase.FINISHED);
+  }
 
-      case ItemPool.BUBBLIN_STONE:
-        QuestDatabase.setQuestIfBetter(Quest.SEA_MONKEES, "step3");
-        break;
+  private static void gainStaffOfFats(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.PALINDOME, QuestDatabase.FINISHED);
+  }
 
-      case ItemPool.DAS_BOOT:
-      case ItemPool.FISHY_PIPE:
-      case ItemPool.FISH_MEAT_CRATE:
-      case ItemPool.DAMP_WALLET:
-        if (RequestLogger.getLastURLString().contains("action=oldman_oldman")) {
-          ResultProcessor.removeItem(ItemPool.DAMP_OLD_BOOT);
-          QuestDatabase.setQuestProgress(Quest.SEA_OLD_GUY, QuestDatabase.FINISHED);
-        }
-        break;
+  private static void gainAncientBomb(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.ANCIENT_BRONZE_TOKEN, -1);
+  }
 
-      case ItemPool.PREGNANT_FLAMING_MUSHROOM:
-        ResultProcessor.processItem(ItemPool.FLAMING_MUSHROOM, -1);
-        break;
+  private static void gainCaronchMap(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.PIRATE, QuestDatabase.STARTED);
+  }
 
-      case ItemPool.PREGNANT_FROZEN_MUSHROOM:
-        ResultProcessor.processItem(ItemPool.FROZEN_MUSHROOM, -1);
-        break;
+  private static void gainCaronchNastyBooty(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestIfBetter(Quest.PIRATE, "step1");
+  }
 
-      case ItemPool.PREGNANT_STINKY_MUSHROOM:
-        ResultProcessor.processItem(ItemPool.STINKY_MUSHROOM, -1);
-        break;
+  private static void gainBilliardsKey(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_NECKLACE, "step1");
+  }
 
-      case ItemPool.GRANDMAS_NOTE:
-        QuestDatabase.setQuestProgress(Quest.SEA_MONKEES, "step7");
-        break;
+  private static void gainLibraryKey(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_NECKLACE, "step3");
+  }
 
-      case ItemPool.GRANDMAS_MAP:
-        ResultProcessor.processItem(ItemPool.GRANDMAS_NOTE, -1);
-        ResultProcessor.processItem(ItemPool.FUCHSIA_YARN, -1);
-        ResultProcessor.processItem(ItemPool.CHARTREUSE_YARN, -1);
-        QuestDatabase.setQuestProgress(Quest.SEA_MONKEES, "step8");
-        break;
+  private static void gainSpookyravenNecklace(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setInteger("writingDesksDefeated", 5);
+    QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_NECKLACE, "step4");
+  }
 
-      case ItemPool.BLACK_GLASS:
-        QuestDatabase.setQuestProgress(Quest.SEA_MONKEES, "step12");
-        break;
+  private static void gainDustyPoppet(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_BABIES, QuestDatabase.STARTED);
+  }
 
-      case ItemPool.SMALL_STONE_BLOCK:
-        ResultProcessor.processItem(ItemPool.IRON_KEY, -1);
-        break;
+  private static void gainBabyGhosts(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_BABIES, "step1");
+    ResultProcessor.removeItem(ItemPool.DUSTY_POPPET);
+    ResultProcessor.removeItem(ItemPool.RICKETY_ROCKING_HORSE);
+    ResultProcessor.removeItem(ItemPool.ANTIQUE_JACK_IN_THE_BOX);
+  }
 
-      case ItemPool.CRIMBOMINATION_CONTRAPTION:
-        ResultProcessor.removeItem(ItemPool.WRENCH_HANDLE);
-        ResultProcessor.removeItem(ItemPool.HEADLESS_BOLTS);
-        ResultProcessor.removeItem(ItemPool.AGITPROP_INK);
-        ResultProcessor.removeItem(ItemPool.HANDFUL_OF_WIRES);
-        ResultProcessor.removeItem(ItemPool.CHUNK_OF_CEMENT);
-        ResultProcessor.removeItem(ItemPool.PENGUIN_GRAPPLING_HOOK);
-        ResultProcessor.removeItem(ItemPool.CARDBOARD_ELF_EAR);
-        ResultProcessor.removeItem(ItemPool.SPIRALING_SHAPE);
-        break;
+  private static void gainGhostFormula(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_BABIES, QuestDatabase.FINISHED);
+    ResultProcessor.removeItem(ItemPool.BABY_GHOSTS);
+  }
 
-      case ItemPool.HAMMER_OF_SMITING:
-      case ItemPool.CHELONIAN_MORNINGSTAR:
-      case ItemPool.GREEK_PASTA_OF_PERIL:
-      case ItemPool.SEVENTEEN_ALARM_SAUCEPAN:
-      case ItemPool.SHAGADELIC_DISCO_BANJO:
-      case ItemPool.SQUEEZEBOX_OF_THE_AGES:
-        QuestDatabase.setQuestProgress(Quest.NEMESIS, "step8");
-        break;
+  private static void gainNeopreneSkullcap(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      QuestDatabase.setQuestProgress(Quest.BAT, "step4");
+    }
+  }
 
-      case ItemPool.FIZZING_SPORE_POD:
-        if (InventoryManager.getCount(ItemPool.FIZZING_SPORE_POD) + count >= 6
-            && QuestDatabase.isQuestLaterThan(Quest.NEMESIS, "step9")) {
-          QuestDatabase.setQuestIfBetter(Quest.NEMESIS, "step14");
-        }
-        break;
+  private static void gainGoblinWater(
+      final boolean adventureResults, final AdventureResult result) {
+    MonsterData lastMonster = MonsterStatusTracker.getLastMonster();
+    if (lastMonster == null) {
+      return;
+    }
+    String goblinWaterMonster = lastMonster.getName();
+    if (adventureResults
+        && goblinWaterMonster.equals(
+            "Aquagoblin")) { // because you can now get the Goblin Water other ways...
+      QuestDatabase.setQuestProgress(Quest.GOBLIN, QuestDatabase.FINISHED);
+    }
+  }
 
-      case ItemPool.SCALP_OF_GORGOLOK:
-      case ItemPool.ELDER_TURTLE_SHELL:
-      case ItemPool.COLANDER_OF_EMERIL:
-      case ItemPool.ANCIENT_SAUCEHELM:
-      case ItemPool.DISCO_FRO_PICK:
-      case ItemPool.EL_SOMBRERO_DE_LOPEZ:
-        if (adventureResults) {
-          QuestDatabase.setQuestProgress(Quest.NEMESIS, "step16");
-        }
-        break;
+  private static void gainHandCarvedBokken(
+      final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().contains("action=lc_marty")) {
+      QuestDatabase.setQuestProgress(Quest.SWAMP, QuestDatabase.FINISHED);
+    }
+  }
 
-      case ItemPool.KRAKROXS_LOINCLOTH:
-      case ItemPool.GALAPAGOSIAN_CUISSES:
-      case ItemPool.ANGELHAIR_CULOTTES:
-      case ItemPool.NEWMANS_OWN_TROUSERS:
-      case ItemPool.VOLARTTAS_BELLBOTTOMS:
-      case ItemPool.LEDERHOSEN_OF_THE_NIGHT:
-        if (adventureResults) {
-          QuestDatabase.setQuestProgress(Quest.NEMESIS, "step27");
-        }
-        break;
+  private static void gainWorseHomesGardens(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.HIPPY, "step1");
+    ConcoctionDatabase.setRefreshNeeded(false);
+  }
 
-      case ItemPool.HELLSEAL_DISGUISE:
-        ResultProcessor.processItem(ItemPool.HELLSEAL_HIDE, -6);
-        ResultProcessor.processItem(ItemPool.HELLSEAL_BRAIN, -6);
-        ResultProcessor.processItem(ItemPool.HELLSEAL_SINEW, -6);
-        break;
+  private static void gainSteelLiver(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.AZAZEL, QuestDatabase.FINISHED);
+  }
 
-      case ItemPool.DECODED_CULT_DOCUMENTS:
-        ResultProcessor.processItem(ItemPool.CULT_MEMO, -5);
-        break;
+  private static void gainBathysphere(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SEA_OLD_GUY, QuestDatabase.STARTED);
+  }
 
-        // If you acquire this item you've just completed Nemesis quest
-        // Contents of Hacienda for Accordion Thief changes
-      case ItemPool.BELT_BUCKLE_OF_LOPEZ:
-        if (adventureResults) {
-          HaciendaManager.questCompleted();
-        }
-        // fall through
-      case ItemPool.INFERNAL_SEAL_CLAW:
-      case ItemPool.TURTLE_POACHER_GARTER:
-      case ItemPool.SPAGHETTI_BANDOLIER:
-      case ItemPool.SAUCEBLOB_BELT:
-      case ItemPool.NEW_WAVE_BLING:
-        if (adventureResults) {
-          QuestDatabase.setQuestProgress(Quest.NEMESIS, QuestDatabase.FINISHED);
-        }
-        break;
+  private static void gainBubblinStone(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestIfBetter(Quest.SEA_MONKEES, "step3");
+  }
 
-      case ItemPool.PIXEL_CHAIN_WHIP:
-        if (adventureResults) {
-          // If you acquire a pixel chain whip, you lose
-          // the pixel whip you were wielding and wield
-          // the chain whip in its place.
+  private static void gainDasBoot(final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().contains("action=oldman_oldman")) {
+      ResultProcessor.removeItem(ItemPool.DAMP_OLD_BOOT);
+      QuestDatabase.setQuestProgress(Quest.SEA_OLD_GUY, QuestDatabase.FINISHED);
+    }
+  }
 
-          AdventureResult whip = ItemPool.get(ItemPool.PIXEL_WHIP, 1);
-          EquipmentManager.transformEquipment(whip, result);
-          ResultProcessor.processItem(itemId, -1);
-        }
-        break;
+  private static void gainPregnantFlamingMushroom(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.FLAMING_MUSHROOM, -1);
+  }
 
-      case ItemPool.PIXEL_MORNING_STAR:
-        if (adventureResults) {
-          // If you acquire a pixel morning star, you
-          // lose the pixel chain whip you were wielding
-          // and wield the morning star in its place.
+  private static void gainPregnantFrozenMushroom(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.FROZEN_MUSHROOM, -1);
+  }
 
-          AdventureResult chainWhip = ItemPool.get(ItemPool.PIXEL_CHAIN_WHIP, 1);
-          EquipmentManager.transformEquipment(chainWhip, result);
-          ResultProcessor.processItem(itemId, -1);
-        }
-        break;
+  private static void gainPregnantStinkyMushroom(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.STINKY_MUSHROOM, -1);
+  }
 
-      case ItemPool.REFLECTION_OF_MAP:
-        if (adventureResults) {
-          int current = Preferences.getInteger("pendingMapReflections");
-          current = Math.max(0, current - 1);
-          Preferences.setInteger("pendingMapReflections", current);
-        }
-        break;
+  private static void gainGrandmasNote(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SEA_MONKEES, "step7");
+  }
 
-      case ItemPool.GONG:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.LLAMA) {
-          Preferences.increment("_gongDrops", 1);
-        }
-        break;
+  private static void gainGrandmasMap(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.GRANDMAS_NOTE, -1);
+    ResultProcessor.processItem(ItemPool.FUCHSIA_YARN, -1);
+    ResultProcessor.processItem(ItemPool.CHARTREUSE_YARN, -1);
+    QuestDatabase.setQuestProgress(Quest.SEA_MONKEES, "step8");
+  }
 
-      case ItemPool.SLIME_STACK:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.SLIMELING) {
-          int dropped = Preferences.increment("slimelingStacksDropped", 1);
-          if (dropped > Preferences.getInteger("slimelingStacksDue")) {
-            // in case it's out of sync, nod and smile
-            Preferences.setInteger("slimelingStacksDue", dropped);
-          }
-        }
-        break;
+  private static void gainBlackGlass(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SEA_MONKEES, "step12");
+  }
 
-      case ItemPool.ABSINTHE:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.PIXIE) {
-          Preferences.increment("_absintheDrops", 1);
-        }
-        break;
+  private static void gainSmallStoneBlock(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.IRON_KEY, -1);
+  }
 
-      case ItemPool.ASTRAL_MUSHROOM:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.BADGER) {
-          Preferences.increment("_astralDrops", 1);
-        }
-        break;
+  private static void gainCrimbominationContraption(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.removeItem(ItemPool.WRENCH_HANDLE);
+    ResultProcessor.removeItem(ItemPool.HEADLESS_BOLTS);
+    ResultProcessor.removeItem(ItemPool.AGITPROP_INK);
+    ResultProcessor.removeItem(ItemPool.HANDFUL_OF_WIRES);
+    ResultProcessor.removeItem(ItemPool.CHUNK_OF_CEMENT);
+    ResultProcessor.removeItem(ItemPool.PENGUIN_GRAPPLING_HOOK);
+    ResultProcessor.removeItem(ItemPool.CARDBOARD_ELF_EAR);
+    ResultProcessor.removeItem(ItemPool.SPIRALING_SHAPE);
+  }
 
-      case ItemPool.AGUA_DE_VIDA:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.SANDWORM) {
-          Preferences.increment("_aguaDrops", 1);
-        }
-        break;
+  private static void gainHammerOfSmiting(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.NEMESIS, "step8");
+  }
 
-      case ItemPool.DEVILISH_FOLIO:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.KLOOP) {
-          Preferences.increment("_kloopDrops", 1);
-        }
-        break;
+  private static void gainFizzingSporePod(
+      final boolean adventureResults, final AdventureResult result) {
+    int count = result.getCount();
 
-      case ItemPool.FURIOUS_STONE:
-      case ItemPool.VANITY_STONE:
-        {
-          String step =
-              ((InventoryManager.getCount(ItemPool.FURIOUS_STONE)
-                          + InventoryManager.getCount(ItemPool.VANITY_STONE))
-                      < 2)
-                  ? "step2"
-                  : QuestDatabase.FINISHED;
-
-          QuestDatabase.setQuest(Quest.CLUMSINESS, step);
-          Preferences.setString("clumsinessGroveBoss", "");
-          break;
-        }
+    if (InventoryManager.getCount(ItemPool.FIZZING_SPORE_POD) + count >= 6
+        && QuestDatabase.isQuestLaterThan(Quest.NEMESIS, "step9")) {
+      QuestDatabase.setQuestIfBetter(Quest.NEMESIS, "step14");
+    }
+  }
 
-      case ItemPool.LECHEROUS_STONE:
-      case ItemPool.JEALOUSY_STONE:
-        {
-          String step =
-              ((InventoryManager.getCount(ItemPool.LECHEROUS_STONE)
-                          + InventoryManager.getCount(ItemPool.JEALOUSY_STONE))
-                      < 2)
-                  ? "step2"
-                  : QuestDatabase.FINISHED;
-
-          QuestDatabase.setQuest(Quest.MAELSTROM, step);
-          Preferences.setString("maelstromOfLoversBoss", "");
-          break;
-        }
+  private static void gainScalpOfGorgolok(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      QuestDatabase.setQuestProgress(Quest.NEMESIS, "step16");
+    }
+  }
 
-      case ItemPool.AVARICE_STONE:
-      case ItemPool.GLUTTONOUS_STONE:
-        {
-          String step =
-              ((InventoryManager.getCount(ItemPool.AVARICE_STONE)
-                          + InventoryManager.getCount(ItemPool.GLUTTONOUS_STONE))
-                      < 2)
-                  ? "step2"
-                  : QuestDatabase.FINISHED;
-
-          QuestDatabase.setQuest(Quest.GLACIER, step);
-          Preferences.setString("glacierOfJerksBoss", "");
-          break;
-        }
+  private static void gainKrakroxsLoincloth(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      QuestDatabase.setQuestProgress(Quest.NEMESIS, "step27");
+    }
+  }
 
-      case ItemPool.GROOSE_GREASE:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.GROOSE) {
-          Preferences.increment("_grooseDrops", 1);
-        }
-        break;
+  private static void gainHellsealDisguise(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.HELLSEAL_HIDE, -6);
+    ResultProcessor.processItem(ItemPool.HELLSEAL_BRAIN, -6);
+    ResultProcessor.processItem(ItemPool.HELLSEAL_SINEW, -6);
+  }
 
-      case ItemPool.GG_TOKEN:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.TRON) {
-          Preferences.increment("_tokenDrops", 1);
-        }
-        // Fall through
-      case ItemPool.GG_TICKET:
-        // If this is the first token or ticket we've gotten
-        // this ascension, visit the wrong side of the tracks
-        // to unlock the arcade.
-        if (Preferences.getInteger("lastArcadeAscension") < KoLCharacter.getAscensions()) {
-          Preferences.setInteger("lastArcadeAscension", KoLCharacter.getAscensions());
-          RequestThread.postRequest(new PlaceRequest("town_wrong"));
-        }
-        break;
+  private static void gainDecodedCultDocuments(
+      final boolean adventureResults, final AdventureResult result) {
+    ResultProcessor.processItem(ItemPool.CULT_MEMO, -5);
 
-      case ItemPool.TRANSPORTER_TRANSPONDER:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.ALIEN) {
-          Preferences.increment("_transponderDrops", 1);
-        }
-        break;
+    // If you acquire this item you've just completed Nemesis quest
+    // Contents of Hacienda for Accordion Thief changes
+  }
 
-      case ItemPool.UNCONSCIOUS_COLLECTIVE_DREAM_JAR:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.UNCONSCIOUS_COLLECTIVE) {
-          Preferences.increment("_dreamJarDrops", 1);
-        }
-        break;
+  private static void gainBeltBuckleOfLopez(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      HaciendaManager.questCompleted();
+    }
+    gainInfernalSealClaw(adventureResults, result);
+  }
 
-      case ItemPool.HOT_ASHES:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.GALLOPING_GRILL) {
-          Preferences.increment("_hotAshesDrops", 1);
-        }
-        break;
+  private static void gainInfernalSealClaw(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      QuestDatabase.setQuestProgress(Quest.NEMESIS, QuestDatabase.FINISHED);
+    }
+  }
 
-      case ItemPool.PSYCHOANALYTIC_JAR:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.ANGRY_JUNG_MAN) {
-          Preferences.increment("_jungDrops", 1);
-          Preferences.setInteger("jungCharge", 0);
-          KoLCharacter.usableFamiliar(FamiliarPool.ANGRY_JUNG_MAN).setCharges(0);
-        }
-        break;
+  private static void gainPixelChainWhip(
+      final boolean adventureResults, final AdventureResult result) {
+    int itemId = result.getItemId();
 
-      case ItemPool.TALES_OF_SPELUNKING:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.ADVENTUROUS_SPELUNKER) {
-          Preferences.increment("_spelunkingTalesDrops", 1);
-        }
-        break;
+    if (adventureResults) {
+      // If you acquire a pixel chain whip, you lose
+      // the pixel whip you were wielding and wield
+      // the chain whip in its place.
 
-      case ItemPool.POWDERED_GOLD:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.GOLDEN_MONKEY) {
-          Preferences.increment("_powderedGoldDrops", 1);
-        }
-        break;
+      AdventureResult whip = ItemPool.get(ItemPool.PIXEL_WHIP, 1);
+      EquipmentManager.transformEquipment(whip, result);
+      ResultProcessor.processItem(itemId, -1);
+    }
+  }
 
-      case ItemPool.MINI_MARTINI:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.SWORD_AND_MARTINI_GUY) {
-          Preferences.increment("_miniMartiniDrops", 1);
-        }
-        break;
+  private static void gainPixelMorningStar(
+      final boolean adventureResults, final AdventureResult result) {
+    int itemId = result.getItemId();
 
-      case ItemPool.POWER_PILL:
-        if (adventureResults
-            && (KoLCharacter.currentFamiliar.getId() == FamiliarPool.PUCK_MAN
-                || KoLCharacter.currentFamiliar.getId() == FamiliarPool.MS_PUCK_MAN)) {
-          Preferences.setInteger("powerPillProgress", 0);
-          Preferences.increment("_powerPillDrops", 1);
-        }
-        break;
+    if (adventureResults) {
+      // If you acquire a pixel morning star, you
+      // lose the pixel chain whip you were wielding
+      // and wield the morning star in its place.
 
-      case ItemPool.MACHINE_SNOWGLOBE:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.MACHINE_ELF) {
-          Preferences.increment("_snowglobeDrops", 1);
-        }
-        break;
+      AdventureResult chainWhip = ItemPool.get(ItemPool.PIXEL_CHAIN_WHIP, 1);
+      EquipmentManager.transformEquipment(chainWhip, result);
+      ResultProcessor.processItem(itemId, -1);
+    }
+  }
 
-      case ItemPool.LIVER_PIE:
-      case ItemPool.BADASS_PIE:
-      case ItemPool.FISH_PIE:
-      case ItemPool.PIPING_PIE:
-      case ItemPool.IGLOO_PIE:
-      case ItemPool.TURNOVER:
-      case ItemPool.DEAD_PIE:
-      case ItemPool.THROBBING_PIE:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.GRINDER) {
-          Preferences.increment("_pieDrops", 1);
-          Preferences.setInteger("_piePartsCount", -1);
-          Preferences.setString("pieStuffing", "");
-        }
-        break;
+  private static void gainReflectionOfMap(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      int current = Preferences.getInteger("pendingMapReflections");
+      current = Math.max(0, current - 1);
+      Preferences.setInteger("pendingMapReflections", current);
+    }
+  }
 
-      case ItemPool.GOOEY_PASTE:
-      case ItemPool.BEASTLY_PASTE:
-      case ItemPool.OILY_PASTE:
-      case ItemPool.ECTOPLASMIC:
-      case ItemPool.GREASY_PASTE:
-      case ItemPool.BUG_PASTE:
-      case ItemPool.HIPPY_PASTE:
-      case ItemPool.ORC_PASTE:
-      case ItemPool.DEMONIC_PASTE:
-      case ItemPool.INDESCRIBABLY_HORRIBLE_PASTE:
-      case ItemPool.FISHY_PASTE:
-      case ItemPool.GOBLIN_PASTE:
-      case ItemPool.PIRATE_PASTE:
-      case ItemPool.CHLOROPHYLL_PASTE:
-      case ItemPool.STRANGE_PASTE:
-      case ItemPool.MER_KIN_PASTE:
-      case ItemPool.SLIMY_PASTE:
-      case ItemPool.PENGUIN_PASTE:
-      case ItemPool.ELEMENTAL_PASTE:
-      case ItemPool.COSMIC_PASTE:
-      case ItemPool.HOBO_PASTE:
-      case ItemPool.CRIMBO_PASTE:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.BOOTS) {
-          Preferences.increment("_pasteDrops", 1);
-        }
-        break;
+  private static void gainGong(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.LLAMA) {
+      Preferences.increment("_gongDrops", 1);
+    }
+  }
 
-      case ItemPool.BEER_LENS:
-        if (adventureResults) {
-          Preferences.increment("_beerLensDrops", 1);
-        }
-        break;
+  private static void gainSlimeStack(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.SLIMELING) {
+      int dropped = Preferences.increment("slimelingStacksDropped", 1);
+      if (dropped > Preferences.getInteger("slimelingStacksDue")) {
+        // in case it's out of sync, nod and smile
+        Preferences.setInteger("slimelingStacksDue", dropped);
+      }
+    }
+  }
 
-      case ItemPool.COTTON_CANDY_CONDE:
-      case ItemPool.COTTON_CANDY_PINCH:
-      case ItemPool.COTTON_CANDY_SMIDGEN:
-      case ItemPool.COTTON_CANDY_SKOSHE:
-      case ItemPool.COTTON_CANDY_PLUG:
-      case ItemPool.COTTON_CANDY_PILLOW:
-      case ItemPool.COTTON_CANDY_BALE:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.CARNIE) {
-          Preferences.increment("_carnieCandyDrops", 1);
-        }
-        break;
+  private static void gainAbsinthe(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.PIXIE) {
+      Preferences.increment("_absintheDrops", 1);
+    }
+  }
 
-      case ItemPool.LESSER_GRODULATED_VIOLET:
-      case ItemPool.TIN_MAGNOLIA:
-      case ItemPool.BEGPWNIA:
-      case ItemPool.UPSY_DAISY:
-      case ItemPool.HALF_ORCHID:
-        if (adventureResults) {
-          Preferences.increment("_mayflowerDrops", 1);
-        }
-        break;
+  private static void gainAstralMushroom(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.BADGER) {
+      Preferences.increment("_astralDrops", 1);
+    }
+  }
 
-      case ItemPool.EVILOMETER:
-        CryptManager.acquireEvilometer();
-        break;
+  private static void gainAguaDeVida(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.SANDWORM) {
+      Preferences.increment("_aguaDrops", 1);
+    }
+  }
 
-      case ItemPool.TEACHINGS_OF_THE_FIST:
-        // save which location the scroll was found in.
-        String setting =
-            AdventureDatabase.fistcoreLocationToSetting(KoLAdventure.lastAdventureId());
-        if (setting != null) {
-          Preferences.setBoolean(setting, true);
-        }
-        break;
+  private static void gainDevilishFolio(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.KLOOP) {
+      Preferences.increment("_kloopDrops", 1);
+    }
+  }
 
-      case ItemPool.KEYOTRON:
-        BugbearManager.resetStatus();
-        Preferences.setInteger("lastKeyotronUse", KoLCharacter.getAscensions());
-        break;
+  private static void gainFuriousStone(
+      final boolean adventureResults, final AdventureResult result) {
+    String step =
+        ((InventoryManager.getCount(ItemPool.FURIOUS_STONE)
+                    + InventoryManager.getCount(ItemPool.VANITY_STONE))
+                < 2)
+            ? "step2"
+            : QuestDatabase.FINISHED;
+
+    QuestDatabase.setQuest(Quest.CLUMSINESS, step);
+    Preferences.setString("clumsinessGroveBoss", "");
+  }
 
-      case ItemPool.JICK_JAR:
-        if (RequestLogger.getLastURLString().contains("action=jung")) {
-          Preferences.setBoolean("_psychoJarFilled", true);
-          ResultProcessor.removeItem(ItemPool.PSYCHOANALYTIC_JAR);
-        }
-        break;
+  private static void gainLecherousStone(
+      final boolean adventureResults, final AdventureResult result) {
+    String step =
+        ((InventoryManager.getCount(ItemPool.LECHEROUS_STONE)
+                    + InventoryManager.getCount(ItemPool.JEALOUSY_STONE))
+                < 2)
+            ? "step2"
+            : QuestDatabase.FINISHED;
+
+    QuestDatabase.setQuest(Quest.MAELSTROM, step);
+    Preferences.setString("maelstromOfLoversBoss", "");
+  }
 
-      case ItemPool.SUSPICIOUS_JAR:
-      case ItemPool.GOURD_JAR:
-      case ItemPool.MYSTIC_JAR:
-      case ItemPool.OLD_MAN_JAR:
-      case ItemPool.ARTIST_JAR:
-      case ItemPool.MEATSMITH_JAR:
-        if (RequestLogger.getLastURLString().contains("action=jung")) {
-          ResultProcessor.removeItem(ItemPool.PSYCHOANALYTIC_JAR);
-        }
-        break;
+  private static void gainAvariceStone(
+      final boolean adventureResults, final AdventureResult result) {
+    String step =
+        ((InventoryManager.getCount(ItemPool.AVARICE_STONE)
+                    + InventoryManager.getCount(ItemPool.GLUTTONOUS_STONE))
+                < 2)
+            ? "step2"
+            : QuestDatabase.FINISHED;
+
+    QuestDatabase.setQuest(Quest.GLACIER, step);
+    Preferences.setString("glacierOfJerksBoss", "");
+  }
 
-      case ItemPool.BRICKO_EYE:
-        if (RequestLogger.getLastURLString().startsWith("campground.php")
-            || RequestLogger.getLastURLString().startsWith("skills.php")) {
-          Preferences.increment("_brickoEyeSummons");
-        }
-        break;
+  private static void gainGrooseGrease(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.GROOSE) {
+      Preferences.increment("_grooseDrops", 1);
+    }
+  }
 
-      case ItemPool.DIVINE_CHAMPAGNE_POPPER:
-      case ItemPool.DIVINE_CRACKER:
-      case ItemPool.DIVINE_FLUTE:
-        if (RequestLogger.getLastURLString().startsWith("campground.php")
-            || RequestLogger.getLastURLString().startsWith("skills.php")) {
-          Preferences.increment("_favorRareSummons");
-        }
-        break;
+  private static void gainGgToken(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.TRON) {
+      Preferences.increment("_tokenDrops", 1);
+    }
+    gainGgTicket(adventureResults, result);
+  }
 
-      case ItemPool.RESOLUTION_KINDER:
-      case ItemPool.RESOLUTION_ADVENTUROUS:
-      case ItemPool.RESOLUTION_LUCKIER:
-        if (RequestLogger.getLastURLString().startsWith("campground.php")
-            || RequestLogger.getLastURLString().startsWith("skills.php")) {
-          Preferences.increment("_resolutionRareSummons");
-        }
-        break;
+  private static void gainGgTicket(final boolean adventureResults, final AdventureResult result) {
+    // If this is the first token or ticket we've gotten
+    // this ascension, visit the wrong side of the tracks
+    // to unlock the arcade.
+    if (Preferences.getInteger("lastArcadeAscension") < KoLCharacter.getAscensions()) {
+      Preferences.setInteger("lastArcadeAscension", KoLCharacter.getAscensions());
+      RequestThread.postRequest(new PlaceRequest("town_wrong"));
+    }
+  }
 
-      case ItemPool.YELLOW_TAFFY:
-        if (RequestLogger.getLastURLString().startsWith("campground.php")
-            || RequestLogger.getLastURLString().startsWith("skills.php")) {
-          Preferences.increment("_taffyRareSummons");
-          Preferences.increment("_taffyYellowSummons");
-        }
-        break;
+  private static void gainTransporterTransponder(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.ALIEN) {
+      Preferences.increment("_transponderDrops", 1);
+    }
+  }
 
-      case ItemPool.GREEN_TAFFY:
-      case ItemPool.INDIGO_TAFFY:
-        if (RequestLogger.getLastURLString().startsWith("campground.php")
-            || RequestLogger.getLastURLString().startsWith("skills.php")) {
-          Preferences.increment("_taffyRareSummons");
-        }
-        break;
+  private static void gainUnconsciousCollectiveDreamJar(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults
+        && KoLCharacter.currentFamiliar.getId() == FamiliarPool.UNCONSCIOUS_COLLECTIVE) {
+      Preferences.increment("_dreamJarDrops", 1);
+    }
+  }
 
-      case ItemPool.BOSS_HELM:
-      case ItemPool.BOSS_CLOAK:
-      case ItemPool.BOSS_SWORD:
-      case ItemPool.BOSS_SHIELD:
-      case ItemPool.BOSS_PANTS:
-      case ItemPool.BOSS_GAUNTLETS:
-      case ItemPool.BOSS_BOOTS:
-      case ItemPool.BOSS_BELT:
-        if (adventureResults) {
-          ResultProcessor.removeItem(ItemPool.GAMEPRO_WALKTHRU);
-        }
-        break;
+  private static void gainHotAshes(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.GALLOPING_GRILL) {
+      Preferences.increment("_hotAshesDrops", 1);
+    }
+  }
 
-      case ItemPool.CARROT_NOSE:
-        if (adventureResults) {
-          Preferences.increment("_carrotNoseDrops");
-        }
-        break;
+  private static void gainPsychoanalyticJar(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.ANGRY_JUNG_MAN) {
+      Preferences.increment("_jungDrops", 1);
+      Preferences.setInteger("jungCharge", 0);
+      KoLCharacter.usableFamiliar(FamiliarPool.ANGRY_JUNG_MAN).setCharges(0);
+    }
+  }
 
-      case ItemPool.COSMIC_SIX_PACK:
-        Preferences.setBoolean("_cosmicSixPackConjured", true);
-        break;
+  private static void gainTalesOfSpelunking(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults
+        && KoLCharacter.currentFamiliar.getId() == FamiliarPool.ADVENTUROUS_SPELUNKER) {
+      Preferences.increment("_spelunkingTalesDrops", 1);
+    }
+  }
 
-      case ItemPool.COBBS_KNOB_MAP:
-        QuestDatabase.setQuestProgress(Quest.GOBLIN, QuestDatabase.STARTED);
-        break;
+  private static void gainPowderedGold(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.GOLDEN_MONKEY) {
+      Preferences.increment("_powderedGoldDrops", 1);
+    }
+  }
 
-      case ItemPool.MERKIN_LOCKKEY:
-        MonsterData merkinMonster = MonsterStatusTracker.getLastMonster();
-        if (merkinMonster == null) {
-          break;
-        }
-        String lockkeyMonster = merkinMonster.getName();
-        Preferences.setString("merkinLockkeyMonster", lockkeyMonster);
-        switch (lockkeyMonster) {
-          case "Mer-kin burglar" -> Preferences.setInteger("choiceAdventure312", 1);
-          case "Mer-kin raider" -> Preferences.setInteger("choiceAdventure312", 2);
-          case "Mer-kin healer" -> Preferences.setInteger("choiceAdventure312", 3);
-        }
-        break;
+  private static void gainMiniMartini(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults
+        && KoLCharacter.currentFamiliar.getId() == FamiliarPool.SWORD_AND_MARTINI_GUY) {
+      Preferences.increment("_miniMartiniDrops", 1);
+    }
+  }
 
-      case ItemPool.YEARBOOK_CAMERA:
-        {
-          String desc = DebugDatabase.rawItemDescriptionText(ItemPool.YEARBOOK_CAMERA);
-          int upgrades = ItemDatabase.parseYearbookCamera(desc);
-          Preferences.setInteger("yearbookCameraAscensions", upgrades);
-          break;
-        }
+  private static void gainPowerPill(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults
+        && (KoLCharacter.currentFamiliar.getId() == FamiliarPool.PUCK_MAN
+            || KoLCharacter.currentFamiliar.getId() == FamiliarPool.MS_PUCK_MAN)) {
+      Preferences.setInteger("powerPillProgress", 0);
+      Preferences.increment("_powerPillDrops", 1);
+    }
+  }
 
-      case ItemPool.CLANCY_LUTE:
-        if (adventureResults) {
-          QuestDatabase.setQuestProgress(Quest.CLANCY, "step5");
-        }
-        break;
+  private static void gainMachineSnowglobe(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.MACHINE_ELF) {
+      Preferences.increment("_snowglobeDrops", 1);
+    }
+  }
 
-      case ItemPool.BEER_BATTERED_ACCORDION:
-      case ItemPool.BARITONE_ACCORDION:
-      case ItemPool.MAMAS_SQUEEZEBOX:
-      case ItemPool.GUANCERTINA:
-      case ItemPool.ACCORDION_FILE:
-      case ItemPool.ACCORD_ION:
-      case ItemPool.BONE_BANDONEON:
-      case ItemPool.PENTATONIC_ACCORDION:
-      case ItemPool.NON_EUCLIDEAN_NON_ACCORDION:
-      case ItemPool.ACCORDION_OF_JORDION:
-      case ItemPool.AUTOCALLIOPE:
-      case ItemPool.ACCORDIONOID_ROCCA:
-      case ItemPool.PYGMY_CONCERTINETTE:
-      case ItemPool.GHOST_ACCORDION:
-      case ItemPool.PEACE_ACCORDION:
-      case ItemPool.ALARM_ACCORDION:
-      case ItemPool.BAL_MUSETTE_ACCORDION:
-      case ItemPool.CAJUN_ACCORDION:
-      case ItemPool.QUIRKY_ACCORDION:
-        if (adventureResults) {
-          StringBuilder buffer = new StringBuilder(Preferences.getString("_stolenAccordions"));
-          if (buffer.length() > 0) {
-            buffer.append(",");
-          }
-          buffer.append(itemId);
-          Preferences.setString("_stolenAccordions", buffer.toString());
-        }
-        break;
+  private static void gainLiverPie(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.GRINDER) {
+      Preferences.increment("_pieDrops", 1);
+      Preferences.setInteger("_piePartsCount", -1);
+      Preferences.setString("pieStuffing", "");
+    }
+  }
 
-      case ItemPool.DAMP_OLD_BOOT:
-        QuestDatabase.setQuestProgress(Quest.SEA_OLD_GUY, "step1");
-        Preferences.setBoolean("dampOldBootPurchased", true);
-        break;
+  private static void gainGooeyPaste(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.BOOTS) {
+      Preferences.increment("_pasteDrops", 1);
+    }
+  }
 
-      case ItemPool.GRIMSTONE_MASK:
-        if (adventureResults) {
-          if (KoLCharacter.getFamiliar()
-              .equals(KoLCharacter.usableFamiliar(FamiliarPool.GRIMSTONE_GOLEM))) {
-            Preferences.increment("_grimstoneMaskDrops");
-            Preferences.setInteger("grimstoneCharge", 0);
-            KoLCharacter.usableFamiliar(FamiliarPool.GRIMSTONE_GOLEM).setCharges(0);
-          } else if (KoLCharacter.currentBjorned.getId() == FamiliarPool.GRIMSTONE_GOLEM
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.GRIMSTONE_GOLEM) {
-            Preferences.increment("_grimstoneMaskDropsCrown");
-          }
-        }
-        break;
+  private static void gainBeerLens(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("_beerLensDrops", 1);
+    }
+  }
 
-      case ItemPool.GRIM_FAIRY_TALE:
-        if (adventureResults) {
-          if (KoLCharacter.getFamiliar()
-              .equals(KoLCharacter.usableFamiliar(FamiliarPool.GRIM_BROTHER))) {
-            Preferences.increment("_grimFairyTaleDrops");
-          } else if (KoLCharacter.currentBjorned.getId() == FamiliarPool.GRIM_BROTHER
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.GRIM_BROTHER) {
-            Preferences.increment("_grimFairyTaleDropsCrown");
-          }
-        }
-        break;
+  private static void gainCottonCandyConde(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.CARNIE) {
+      Preferences.increment("_carnieCandyDrops", 1);
+    }
+  }
 
-      case ItemPool.TOASTED_HALF_SANDWICH:
-      case ItemPool.MULLED_HOBO_WINE:
-        if (adventureResults) {
-          if (KoLCharacter.getFamiliar()
-              .equals(KoLCharacter.usableFamiliar(FamiliarPool.GARBAGE_FIRE))) {
-            // This will be updated to 0 in FightRequest later
-            Preferences.setInteger("garbageFireProgress", -1);
-            Preferences.increment("_garbageFireDrops", 1);
-          }
-        }
-        break;
+  private static void gainLesserGrodulatedViolet(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("_mayflowerDrops", 1);
+    }
+  }
 
-      case ItemPool.BURNING_NEWSPAPER:
-        if (adventureResults) {
-          if (KoLCharacter.getFamiliar()
-              .equals(KoLCharacter.usableFamiliar(FamiliarPool.GARBAGE_FIRE))) {
-            // This will be updated to 0 in FightRequest later
-            Preferences.setInteger("garbageFireProgress", -1);
-            Preferences.increment("_garbageFireDrops", 1);
-          } else if (KoLCharacter.currentBjorned.getId() == FamiliarPool.GARBAGE_FIRE
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.GARBAGE_FIRE) {
-            Preferences.increment("_garbageFireDropsCrown");
-          }
-        }
-        break;
+  private static void gainEvilometer(final boolean adventureResults, final AdventureResult result) {
+    CryptManager.acquireEvilometer();
+  }
 
-      case ItemPool.HOARDED_CANDY_WAD:
-        if (adventureResults) {
-          Preferences.increment("_hoardedCandyDropsCrown");
-        }
-        break;
+  private static void gainTeachingsOfTheFist(
+      final boolean adventureResults, final AdventureResult result) {
+    // save which location the scroll was found in.
+    String setting = AdventureDatabase.fistcoreLocationToSetting(KoLAdventure.lastAdventureId());
+    if (setting != null) {
+      Preferences.setBoolean(setting, true);
+    }
+  }
 
-      case ItemPool.SPACE_BEAST_FUR:
-        if (adventureResults) {
-          // It could still drop from a space beast while this is true, but that would
-          // be harder to check for
-          if (KoLCharacter.currentBjorned.getId() == FamiliarPool.TWITCHING_SPACE_CRITTER
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.TWITCHING_SPACE_CRITTER) {
-            Preferences.increment("_spaceFurDropsCrown");
-          }
-        }
-        break;
+  private static void gainKeyotron(final boolean adventureResults, final AdventureResult result) {
+    BugbearManager.resetStatus();
+    Preferences.setInteger("lastKeyotronUse", KoLCharacter.getAscensions());
+  }
 
-      case ItemPool.CARDBOARD_ORE:
-      case ItemPool.STYROFOAM_ORE:
-      case ItemPool.BUBBLEWRAP_ORE:
-      case ItemPool.VELCRO_ORE:
-      case ItemPool.TEFLON_ORE:
-      case ItemPool.VINYL_ORE:
-        if (adventureResults) {
-          // First three could still drop from a ghost miner while this is true, but that would
-          // be harder to check for
-          if (KoLCharacter.currentBjorned.getId() == FamiliarPool.ADVENTUROUS_SPELUNKER
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.ADVENTUROUS_SPELUNKER) {
-            Preferences.increment("_oreDropsCrown");
-          }
-        }
-        break;
+  private static void gainJickJar(final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().contains("action=jung")) {
+      Preferences.setBoolean("_psychoJarFilled", true);
+      ResultProcessor.removeItem(ItemPool.PSYCHOANALYTIC_JAR);
+    }
+  }
 
-      case ItemPool.ABSTRACTION_ACTION:
-      case ItemPool.ABSTRACTION_THOUGHT:
-      case ItemPool.ABSTRACTION_SENSATION:
-      case ItemPool.ABSTRACTION_PURPOSE:
-      case ItemPool.ABSTRACTION_CATEGORY:
-      case ItemPool.ABSTRACTION_PERCEPTION:
-        if (adventureResults) {
-          if (KoLCharacter.currentBjorned.getId() == FamiliarPool.MACHINE_ELF
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.MACHINE_ELF) {
-            Preferences.increment("_abstractionDropsCrown");
-          }
-        }
-        break;
+  private static void gainSuspiciousJar(
+      final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().contains("action=jung")) {
+      ResultProcessor.removeItem(ItemPool.PSYCHOANALYTIC_JAR);
+    }
+  }
 
-      case ItemPool.PROFESSOR_WHAT_GARMENT:
-        QuestDatabase.setQuestProgress(Quest.SHIRT, "step1");
-        break;
+  private static void gainBrickoEye(final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().startsWith("campground.php")
+        || RequestLogger.getLastURLString().startsWith("skills.php")) {
+      Preferences.increment("_brickoEyeSummons");
+    }
+  }
 
-      case ItemPool.THINKNERD_PACKAGE:
-        if (adventureResults) {
-          Preferences.increment("_thinknerdPackageDrops");
-        }
-        break;
+  private static void gainDivineChampagnePopper(
+      final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().startsWith("campground.php")
+        || RequestLogger.getLastURLString().startsWith("skills.php")) {
+      Preferences.increment("_favorRareSummons");
+    }
+  }
 
-      case ItemPool.STEAM_FIST_1:
-      case ItemPool.STEAM_FIST_2:
-      case ItemPool.STEAM_FIST_3:
-      case ItemPool.STEAM_TRIP_1:
-      case ItemPool.STEAM_TRIP_2:
-      case ItemPool.STEAM_TRIP_3:
-      case ItemPool.STEAM_METEOID_1:
-      case ItemPool.STEAM_METEOID_2:
-      case ItemPool.STEAM_METEOID_3:
-      case ItemPool.STEAM_DEMON_1:
-      case ItemPool.STEAM_DEMON_2:
-      case ItemPool.STEAM_DEMON_3:
-      case ItemPool.STEAM_PLUMBER_1:
-      case ItemPool.STEAM_PLUMBER_2:
-      case ItemPool.STEAM_PLUMBER_3:
-        if (adventureResults) {
-          Preferences.increment("_steamCardDrops");
-        }
-        break;
+  private static void gainResolutionKinder(
+      final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().startsWith("campground.php")
+        || RequestLogger.getLastURLString().startsWith("skills.php")) {
+      Preferences.increment("_resolutionRareSummons");
+    }
+  }
 
-      case ItemPool.PENCIL_THIN_MUSHROOM:
-        if (InventoryManager.getCount(ItemPool.PENCIL_THIN_MUSHROOM) >= 9) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_MUSHROOM, "step1");
-        }
-        break;
+  private static void gainYellowTaffy(
+      final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().startsWith("campground.php")
+        || RequestLogger.getLastURLString().startsWith("skills.php")) {
+      Preferences.increment("_taffyRareSummons");
+      Preferences.increment("_taffyYellowSummons");
+    }
+  }
 
-      case ItemPool.SAILOR_SALT:
-        if (InventoryManager.getCount(ItemPool.SAILOR_SALT) >= 49) {
-          QuestDatabase.setQuestProgress(Quest.JIMMY_SALT, "step1");
-        }
-        break;
+  private static void gainGreenTaffy(final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().startsWith("campground.php")
+        || RequestLogger.getLastURLString().startsWith("skills.php")) {
+      Preferences.increment("_taffyRareSummons");
+    }
+  }
 
-      case ItemPool.TACO_DAN_RECEIPT:
-        if (InventoryManager.getCount(ItemPool.TACO_DAN_RECEIPT) >= 9) {
-          QuestDatabase.setQuestProgress(Quest.TACO_DAN_AUDIT, "step1");
-        }
-        break;
+  private static void gainBossHelm(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      ResultProcessor.removeItem(ItemPool.GAMEPRO_WALKTHRU);
+    }
+  }
 
-      case ItemPool.BROUPON:
-        if (InventoryManager.getCount(ItemPool.BROUPON) >= 14) {
-          QuestDatabase.setQuestProgress(Quest.BRODEN_DEBT, "step1");
-        }
-        break;
+  private static void gainCarrotNose(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("_carrotNoseDrops");
+    }
+  }
 
-      case ItemPool.ELIZABETH_DOLLIE:
-        if (adventureResults) {
-          Preferences.setString("nextSpookyravenElizabethRoom", "none");
-        }
-        break;
+  private static void gainCosmicSixPack(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("_cosmicSixPackConjured", true);
+  }
 
-      case ItemPool.STEPHEN_LAB_COAT:
-        if (adventureResults) {
-          Preferences.setString("nextSpookyravenStephenRoom", "none");
-        }
-        break;
+  private static void gainCobbsKnobMap(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.GOBLIN, QuestDatabase.STARTED);
+  }
 
-      case ItemPool.WINE_BOMB:
-        EquipmentManager.discardEquipment(ItemPool.UNSTABLE_FULMINATE);
-        break;
+  private static void gainMerkinLockkey(
+      final boolean adventureResults, final AdventureResult result) {
+    MonsterData merkinMonster = MonsterStatusTracker.getLastMonster();
+    if (merkinMonster == null) {
+      return;
+    }
+    String lockkeyMonster = merkinMonster.getName();
+    Preferences.setString("merkinLockkeyMonster", lockkeyMonster);
+    switch (lockkeyMonster) {
+      case "Mer-kin burglar" -> Preferences.setInteger("choiceAdventure312", 1);
+      case "Mer-kin raider" -> Preferences.setInteger("choiceAdventure312", 2);
+      case "Mer-kin healer" -> Preferences.setInteger("choiceAdventure312", 3);
+    }
+  }
 
-      case ItemPool.LIGHTNING_MILK:
-        // These are starting skills if no turns have been played this ascension
-        if (KoLCharacter.getCurrentRun() == 0) {
-          Preferences.setInteger("heavyRainsStartingLightning", count);
-        }
-        break;
+  private static void gainYearbookCamera(
+      final boolean adventureResults, final AdventureResult result) {
+    String desc = DebugDatabase.rawItemDescriptionText(ItemPool.YEARBOOK_CAMERA);
+    int upgrades = ItemDatabase.parseYearbookCamera(desc);
+    Preferences.setInteger("yearbookCameraAscensions", upgrades);
+  }
 
-      case ItemPool.AQUA_BRAIN:
-        // These are starting skills if no turns have been played this ascension
-        if (KoLCharacter.getCurrentRun() == 0) {
-          Preferences.setInteger("heavyRainsStartingRain", count);
-        }
-        break;
+  private static void gainClancyLute(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      QuestDatabase.setQuestProgress(Quest.CLANCY, "step5");
+    }
+  }
 
-      case ItemPool.THUNDER_THIGH:
-        // These are starting skills if no turns have been played this ascension
-        if (KoLCharacter.getCurrentRun() == 0) {
-          Preferences.setInteger("heavyRainsStartingThunder", count);
-        }
-        break;
+  private static void gainBeerBatteredAccordion(
+      final boolean adventureResults, final AdventureResult result) {
+    int itemId = result.getItemId();
+
+    if (adventureResults) {
+      StringBuilder buffer = new StringBuilder(Preferences.getString("_stolenAccordions"));
+      if (buffer.length() > 0) {
+        buffer.append(",");
+      }
+      buffer.append(itemId);
+      Preferences.setString("_stolenAccordions", buffer.toString());
+    }
+  }
+
+  private static void gainDampOldBoot(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SEA_OLD_GUY, "step1");
+    Preferences.setBoolean("dampOldBootPurchased", true);
+  }
+
+  private static void gainGrimstoneMask(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.getFamiliar()
+          .equals(KoLCharacter.usableFamiliar(FamiliarPool.GRIMSTONE_GOLEM))) {
+        Preferences.increment("_grimstoneMaskDrops");
+        Preferences.setInteger("grimstoneCharge", 0);
+        KoLCharacter.usableFamiliar(FamiliarPool.GRIMSTONE_GOLEM).setCharges(0);
+      } else if (KoLCharacter.currentBjorned.getId() == FamiliarPool.GRIMSTONE_GOLEM
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.GRIMSTONE_GOLEM) {
+        Preferences.increment("_grimstoneMaskDropsCrown");
+      }
+    }
+  }
+
+  private static void gainGrimFairyTale(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.getFamiliar()
+          .equals(KoLCharacter.usableFamiliar(FamiliarPool.GRIM_BROTHER))) {
+        Preferences.increment("_grimFairyTaleDrops");
+      } else if (KoLCharacter.currentBjorned.getId() == FamiliarPool.GRIM_BROTHER
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.GRIM_BROTHER) {
+        Preferences.increment("_grimFairyTaleDropsCrown");
+      }
+    }
+  }
+
+  private static void gainToastedHalfSandwich(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.getFamiliar()
+          .equals(KoLCharacter.usableFamiliar(FamiliarPool.GARBAGE_FIRE))) {
+        // This will be updated to 0 in FightRequest later
+        Preferences.setInteger("garbageFireProgress", -1);
+        Preferences.increment("_garbageFireDrops", 1);
+      }
+    }
+  }
+
+  private static void gainBurningNewspaper(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.getFamiliar()
+          .equals(KoLCharacter.usableFamiliar(FamiliarPool.GARBAGE_FIRE))) {
+        // This will be updated to 0 in FightRequest later
+        Preferences.setInteger("garbageFireProgress", -1);
+        Preferences.increment("_garbageFireDrops", 1);
+      } else if (KoLCharacter.currentBjorned.getId() == FamiliarPool.GARBAGE_FIRE
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.GARBAGE_FIRE) {
+        Preferences.increment("_garbageFireDropsCrown");
+      }
+    }
+  }
+
+  private static void gainHoardedCandyWad(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("_hoardedCandyDropsCrown");
+    }
+  }
+
+  private static void gainSpaceBeastFur(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      // It could still drop from a space beast while this is true, but that would
+      // be harder to check for
+      if (KoLCharacter.currentBjorned.getId() == FamiliarPool.TWITCHING_SPACE_CRITTER
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.TWITCHING_SPACE_CRITTER) {
+        Preferences.increment("_spaceFurDropsCrown");
+      }
+    }
+  }
+
+  private static void gainCardboardOre(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      // First three could still drop from a ghost miner while this is true, but that would
+      // be harder to check for
+      if (KoLCharacter.currentBjorned.getId() == FamiliarPool.ADVENTUROUS_SPELUNKER
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.ADVENTUROUS_SPELUNKER) {
+        Preferences.increment("_oreDropsCrown");
+      }
+    }
+  }
+
+  private static void gainAbstractionAction(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.currentBjorned.getId() == FamiliarPool.MACHINE_ELF
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.MACHINE_ELF) {
+        Preferences.increment("_abstractionDropsCrown");
+      }
+    }
+  }
+
+  private static void gainProfessorWhatGarment(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SHIRT, "step1");
+  }
+
+  private static void gainThinknerdPackage(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("_thinknerdPackageDrops");
+    }
+  }
+
+  private static void gainSteamFist1(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("_steamCardDrops");
+    }
+  }
+
+  private static void gainPencilThinMushroom(
+      final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.PENCIL_THIN_MUSHROOM) >= 9) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_MUSHROOM, "step1");
+    }
+  }
+
+  private static void gainSailorSalt(final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.SAILOR_SALT) >= 49) {
+      QuestDatabase.setQuestProgress(Quest.JIMMY_SALT, "step1");
+    }
+  }
+
+  private static void gainTacoDanReceipt(
+      final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.TACO_DAN_RECEIPT) >= 9) {
+      QuestDatabase.setQuestProgress(Quest.TACO_DAN_AUDIT, "step1");
+    }
+  }
+
+  private static void gainBroupon(final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.BROUPON) >= 14) {
+      QuestDatabase.setQuestProgress(Quest.BRODEN_DEBT, "step1");
+    }
+  }
+
+  private static void gainElizabethDollie(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setString("nextSpookyravenElizabethRoom", "none");
+    }
+  }
+
+  private static void gainStephenLabCoat(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setString("nextSpookyravenStephenRoom", "none");
+    }
+  }
+
+  private static void gainWineBomb(final boolean adventureResults, final AdventureResult result) {
+    EquipmentManager.discardEquipment(ItemPool.UNSTABLE_FULMINATE);
+  }
+
+  private static void gainLightningMilk(
+      final boolean adventureResults, final AdventureResult result) {
+    // These are starting skills if no turns have been played this ascension
+    int count = result.getCount();
+
+    if (KoLCharacter.getCurrentRun() == 0) {
+      Preferences.setInteger("heavyRainsStartingLightning", count);
+    }
+  }
+
+  private static void gainAquaBrain(final boolean adventureResults, final AdventureResult result) {
+    // These are starting skills if no turns have been played this ascension
+    int count = result.getCount();
+
+    if (KoLCharacter.getCurrentRun() == 0) {
+      Preferences.setInteger("heavyRainsStartingRain", count);
+    }
+  }
+
+  private static void gainThunderThigh(
+      final boolean adventureResults, final AdventureResult result) {
+    // These are starting skills if no turns have been played this ascension
+    int count = result.getCount();
+
+    if (KoLCharacter.getCurrentRun() == 0) {
+      Preferences.setInteger("heavyRainsStartingThunder", count);
+    }
+  }
+
+  private static void gainExperimentalSerumP00(
+      final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.EXPERIMENTAL_SERUM_P00) >= 4
+        && QuestDatabase.isQuestStep(Quest.SERUM, QuestDatabase.STARTED)) {
+      QuestDatabase.setQuestProgress(Quest.SERUM, "step1");
+    }
+  }
+
+  private static void gainMiniCassetteRecorder(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.JUNGLE_PUN, QuestDatabase.STARTED);
+    Preferences.setInteger("junglePuns", 0);
+  }
+
+  private static void gainGoreBucket(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.GORE, QuestDatabase.STARTED);
+    Preferences.setInteger("goreCollected", 0);
+  }
+
+  private static void gainFingernailClippers(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.CLIPPER, QuestDatabase.STARTED);
+    Preferences.setInteger("fingernailsClipped", 0);
+  }
+
+  private static void gainEspCollar(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.FAKE_MEDIUM, "step1");
+  }
+
+  private static void gainGpsWatch(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.OUT_OF_ORDER, QuestDatabase.STARTED);
+  }
+
+  private static void gainProjectTlb(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.OUT_OF_ORDER, "step2");
+  }
+
+  private static void gainPackOfSmokes(
+      final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.getCount(ItemPool.PACK_OF_SMOKES) >= 10) {
+      QuestDatabase.setQuestProgress(Quest.SMOKES, "step1");
+    }
+  }
 
-      case ItemPool.EXPERIMENTAL_SERUM_P00:
-        if (InventoryManager.getCount(ItemPool.EXPERIMENTAL_SERUM_P00) >= 4
-            && QuestDatabase.isQuestStep(Quest.SERUM, QuestDatabase.STARTED)) {
-          QuestDatabase.setQuestProgress(Quest.SERUM, "step1");
-        }
-        break;
+  private static void gainSubject37File(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.ESCAPE, "step1");
+  }
 
-      case ItemPool.MINI_CASSETTE_RECORDER:
-        QuestDatabase.setQuestProgress(Quest.JUNGLE_PUN, QuestDatabase.STARTED);
-        Preferences.setInteger("junglePuns", 0);
-        break;
+  private static void gainGoto(final boolean adventureResults, final AdventureResult result) {
+    if (QuestDatabase.isQuestStep(Quest.ESCAPE, "step2")) {
+      QuestDatabase.setQuestProgress(Quest.ESCAPE, "step3");
+    }
+  }
 
-      case ItemPool.GORE_BUCKET:
-        QuestDatabase.setQuestProgress(Quest.GORE, QuestDatabase.STARTED);
-        Preferences.setInteger("goreCollected", 0);
-        break;
+  private static void gainWeremooseSpit(
+      final boolean adventureResults, final AdventureResult result) {
+    if (QuestDatabase.isQuestStep(Quest.ESCAPE, "step4")) {
+      QuestDatabase.setQuestProgress(Quest.ESCAPE, "step5");
+    }
+  }
 
-      case ItemPool.FINGERNAIL_CLIPPERS:
-        QuestDatabase.setQuestProgress(Quest.CLIPPER, QuestDatabase.STARTED);
-        Preferences.setInteger("fingernailsClipped", 0);
-        break;
+  private static void gainAbominableBlubber(
+      final boolean adventureResults, final AdventureResult result) {
+    if (QuestDatabase.isQuestStep(Quest.ESCAPE, "step6")) {
+      QuestDatabase.setQuestProgress(Quest.ESCAPE, "step7");
+    }
+  }
 
-      case ItemPool.ESP_COLLAR:
-        QuestDatabase.setQuestProgress(Quest.FAKE_MEDIUM, "step1");
-        break;
+  private static void gainFriendlyTurkey(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.FIST_TURKEY) {
+      Preferences.increment("_turkeyBooze");
+    }
+  }
 
-      case ItemPool.GPS_WATCH:
-        QuestDatabase.setQuestProgress(Quest.OUT_OF_ORDER, QuestDatabase.STARTED);
-        break;
+  private static void gainXiblaxianAlloy(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("_holoWristDrops");
+      // This will be incremented to 0 during later processing
+      Preferences.setInteger("_holoWristProgress", -1);
+    }
+  }
 
-      case ItemPool.PROJECT_TLB:
-        QuestDatabase.setQuestProgress(Quest.OUT_OF_ORDER, "step2");
-        break;
+  private static void gainEdEye(final boolean adventureResults, final AdventureResult result) {
+    EquipmentManager.removeEquipment(ItemPool.ED_STAFF);
+    ResultProcessor.removeItem(ItemPool.ED_STAFF);
+  }
 
-      case ItemPool.PACK_OF_SMOKES:
-        if (InventoryManager.getCount(ItemPool.PACK_OF_SMOKES) >= 10) {
-          QuestDatabase.setQuestProgress(Quest.SMOKES, "step1");
-        }
-        break;
+  private static void gainXiblaxianCrystal(
+      final boolean adventureResults, final AdventureResult result) {
+    if (RequestLogger.getLastURLString().contains("mining.php")) {
+      Preferences.setBoolean("_holoWristCrystal", true);
+    }
+  }
 
-      case ItemPool.SUBJECT_37_FILE:
-        QuestDatabase.setQuestProgress(Quest.ESCAPE, "step1");
-        break;
+  private static void gainScarabBeetleStatuette(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.FINAL, QuestDatabase.FINISHED);
+  }
 
-      case ItemPool.GOTO:
-        if (QuestDatabase.isQuestStep(Quest.ESCAPE, "step2")) {
-          QuestDatabase.setQuestProgress(Quest.ESCAPE, "step3");
-        }
-        break;
+  private static void gainMeatsmithCheck(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.MEATSMITH, "step1");
+  }
 
-      case ItemPool.WEREMOOSE_SPIT:
-        if (QuestDatabase.isQuestStep(Quest.ESCAPE, "step4")) {
-          QuestDatabase.setQuestProgress(Quest.ESCAPE, "step5");
-        }
-        break;
+  private static void gainToxicGlobule(
+      final boolean adventureResults, final AdventureResult result) {
+    int count = result.getCount();
 
-      case ItemPool.ABOMINABLE_BLUBBER:
-        if (QuestDatabase.isQuestStep(Quest.ESCAPE, "step6")) {
-          QuestDatabase.setQuestProgress(Quest.ESCAPE, "step7");
-        }
-        break;
+    if (InventoryManager.getCount(ItemPool.TOXIC_GLOBULE) + count >= 20
+        && QuestDatabase.isQuestStep(Quest.GIVE_ME_FUEL, QuestDatabase.STARTED)) {
+      QuestDatabase.setQuestProgress(Quest.GIVE_ME_FUEL, "step1");
+    }
+  }
 
-      case ItemPool.FRIENDLY_TURKEY:
-      case ItemPool.AGITATED_TURKEY:
-      case ItemPool.AMBITIOUS_TURKEY:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.FIST_TURKEY) {
-          Preferences.increment("_turkeyBooze");
-        }
-        break;
+  private static void gainLubeShoes(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.SUPER_LUBER, QuestDatabase.STARTED);
+  }
 
-      case ItemPool.XIBLAXIAN_ALLOY:
-      case ItemPool.XIBLAXIAN_CIRCUITRY:
-      case ItemPool.XIBLAXIAN_POLYMER:
-        if (adventureResults) {
-          Preferences.increment("_holoWristDrops");
-          // This will be incremented to 0 during later processing
-          Preferences.setInteger("_holoWristProgress", -1);
-        }
-        break;
+  private static void gainTrashNet(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.FISH_TRASH, QuestDatabase.STARTED);
+    Preferences.setInteger("dinseyFilthLevel", 100);
+  }
 
-      case ItemPool.ED_EYE:
-        EquipmentManager.removeEquipment(ItemPool.ED_STAFF);
-        ResultProcessor.removeItem(ItemPool.ED_STAFF);
-        break;
+  private static void gainMascotMask(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.ZIPPITY_DOO_DAH, QuestDatabase.STARTED);
+  }
 
-      case ItemPool.XIBLAXIAN_CRYSTAL:
-        if (RequestLogger.getLastURLString().contains("mining.php")) {
-          Preferences.setBoolean("_holoWristCrystal", true);
-        }
-        break;
+  private static void gainYellowPixel(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.currentBjorned.getId() == FamiliarPool.PUCK_MAN
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.PUCK_MAN
+          || KoLCharacter.currentBjorned.getId() == FamiliarPool.MS_PUCK_MAN
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.MS_PUCK_MAN) {
+        Preferences.increment("_yellowPixelDropsCrown");
+      }
+    }
+  }
 
-      case ItemPool.SCARAB_BEETLE_STATUETTE:
-        QuestDatabase.setQuestProgress(Quest.FINAL, QuestDatabase.FINISHED);
-        break;
+  private static void gainFraudwort(final boolean adventureResults, final AdventureResult result) {
+    int count = result.getCount();
 
-      case ItemPool.MEATSMITH_CHECK:
-        QuestDatabase.setQuestProgress(Quest.MEATSMITH, "step1");
-        break;
+    if (InventoryManager.getCount(ItemPool.FRAUDWORT) + count >= 3
+        && InventoryManager.getCount(ItemPool.SHYSTERWEED) >= 3
+        && InventoryManager.getCount(ItemPool.SWINDLEBLOSSOM) >= 3) {
+      QuestDatabase.setQuestIfBetter(Quest.DOC, "step1");
+    }
+  }
 
-      case ItemPool.TOXIC_GLOBULE:
-        if (InventoryManager.getCount(ItemPool.TOXIC_GLOBULE) + count >= 20
-            && QuestDatabase.isQuestStep(Quest.GIVE_ME_FUEL, QuestDatabase.STARTED)) {
-          QuestDatabase.setQuestProgress(Quest.GIVE_ME_FUEL, "step1");
-        }
-        break;
+  private static void gainShysterweed(
+      final boolean adventureResults, final AdventureResult result) {
+    int count = result.getCount();
 
-      case ItemPool.LUBE_SHOES:
-        QuestDatabase.setQuestProgress(Quest.SUPER_LUBER, QuestDatabase.STARTED);
-        break;
+    if (InventoryManager.getCount(ItemPool.FRAUDWORT) >= 3
+        && InventoryManager.getCount(ItemPool.SHYSTERWEED) + count >= 3
+        && InventoryManager.getCount(ItemPool.SWINDLEBLOSSOM) >= 3) {
+      QuestDatabase.setQuestIfBetter(Quest.DOC, "step1");
+    }
+  }
 
-      case ItemPool.TRASH_NET:
-        QuestDatabase.setQuestProgress(Quest.FISH_TRASH, QuestDatabase.STARTED);
-        Preferences.setInteger("dinseyFilthLevel", 100);
-        break;
+  private static void gainSwindleblossom(
+      final boolean adventureResults, final AdventureResult result) {
+    int count = result.getCount();
 
-      case ItemPool.MASCOT_MASK:
-        QuestDatabase.setQuestProgress(Quest.ZIPPITY_DOO_DAH, QuestDatabase.STARTED);
-        break;
+    if (InventoryManager.getCount(ItemPool.FRAUDWORT) >= 3
+        && InventoryManager.getCount(ItemPool.SHYSTERWEED) >= 3
+        && InventoryManager.getCount(ItemPool.SWINDLEBLOSSOM) + count >= 3) {
+      QuestDatabase.setQuestIfBetter(Quest.DOC, "step1");
+    }
+  }
 
-      case ItemPool.YELLOW_PIXEL:
-        if (adventureResults) {
-          if (KoLCharacter.currentBjorned.getId() == FamiliarPool.PUCK_MAN
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.PUCK_MAN
-              || KoLCharacter.currentBjorned.getId() == FamiliarPool.MS_PUCK_MAN
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.MS_PUCK_MAN) {
-            Preferences.increment("_yellowPixelDropsCrown");
-          }
-        }
-        break;
+  private static void gainMiracleWhip(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("itemBoughtPerAscension8266", true);
+    // Deliberate fallthrough
+    gainSphygmayomanometer(adventureResults, result);
+  }
 
-      case ItemPool.FRAUDWORT:
-        if (InventoryManager.getCount(ItemPool.FRAUDWORT) + count >= 3
-            && InventoryManager.getCount(ItemPool.SHYSTERWEED) >= 3
-            && InventoryManager.getCount(ItemPool.SWINDLEBLOSSOM) >= 3) {
-          QuestDatabase.setQuestIfBetter(Quest.DOC, "step1");
-        }
-        break;
+  private static void gainSphygmayomanometer(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("_mayoDeviceRented", true);
+  }
 
-      case ItemPool.SHYSTERWEED:
-        if (InventoryManager.getCount(ItemPool.FRAUDWORT) >= 3
-            && InventoryManager.getCount(ItemPool.SHYSTERWEED) + count >= 3
-            && InventoryManager.getCount(ItemPool.SWINDLEBLOSSOM) >= 3) {
-          QuestDatabase.setQuestIfBetter(Quest.DOC, "step1");
-        }
-        break;
+  private static void gainNoHandedPie(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.ARMORER, "step4");
+  }
 
-      case ItemPool.SWINDLEBLOSSOM:
-        if (InventoryManager.getCount(ItemPool.FRAUDWORT) >= 3
-            && InventoryManager.getCount(ItemPool.SHYSTERWEED) >= 3
-            && InventoryManager.getCount(ItemPool.SWINDLEBLOSSOM) + count >= 3) {
-          QuestDatabase.setQuestIfBetter(Quest.DOC, "step1");
-        }
-        break;
+  private static void gainPopularPart(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.ARMORER, QuestDatabase.FINISHED);
+    ResultProcessor.removeItem(ItemPool.NO_HANDED_PIE);
+  }
 
-      case ItemPool.MIRACLE_WHIP:
-        Preferences.setBoolean("itemBoughtPerAscension8266", true);
-        // Deliberate fallthrough
-      case ItemPool.SPHYGMAYOMANOMETER:
-      case ItemPool.REFLEX_HAMMER:
-      case ItemPool.MAYO_LANCE:
-        Preferences.setBoolean("_mayoDeviceRented", true);
-        break;
+  private static void gainSuperheatedMetal(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      ResultProcessor.removeItem(ItemPool.HEAT_RESISTANT_SHEET_METAL);
+    }
+  }
 
-      case ItemPool.NO_HANDED_PIE:
-        QuestDatabase.setQuestProgress(Quest.ARMORER, "step4");
-        break;
+  private static void gainSuperduperheatedMetal(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setBoolean("_volcanoSuperduperheatedMetal", true);
+      ResultProcessor.removeItem(ItemPool.HEAT_RESISTANT_SHEET_METAL);
+    }
+  }
 
-      case ItemPool.POPULAR_PART:
-        QuestDatabase.setQuestProgress(Quest.ARMORER, QuestDatabase.FINISHED);
-        ResultProcessor.removeItem(ItemPool.NO_HANDED_PIE);
-        break;
+  private static void gainBarrelLid(final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("prayedForProtection", true);
+  }
 
-      case ItemPool.SUPERHEATED_METAL:
-        if (adventureResults) {
-          ResultProcessor.removeItem(ItemPool.HEAT_RESISTANT_SHEET_METAL);
-        }
-        break;
+  private static void gainBarrelHoopEarring(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("prayedForGlamour", true);
+  }
 
-      case ItemPool.SUPERDUPERHEATED_METAL:
-        if (adventureResults) {
-          Preferences.setBoolean("_volcanoSuperduperheatedMetal", true);
-          ResultProcessor.removeItem(ItemPool.HEAT_RESISTANT_SHEET_METAL);
-        }
-        break;
+  private static void gainBankruptcyBarrel(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("prayedForVigor", true);
 
-      case ItemPool.BARREL_LID:
-        Preferences.setBoolean("prayedForProtection", true);
-        break;
+    // Correct Snojo progress based on drops - note that it increments after the fight!
+  }
 
-      case ItemPool.BARREL_HOOP_EARRING:
-        Preferences.setBoolean("prayedForGlamour", true);
-        break;
+  private static void gainAncientMedicinalHerbs(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      int progress = Preferences.getInteger("snojoMuscleWins");
+      // Always should be a multiple of 7 for this drop, after the counter increments later!
+      if (progress % 7 != 6) {
+        Preferences.setInteger("snojoMuscleWins", (int) Math.floor(progress / 7) * 7 + 6);
+      }
+    }
+  }
 
-      case ItemPool.BANKRUPTCY_BARREL:
-        Preferences.setBoolean("prayedForVigor", true);
-        break;
+  private static void gainIceRice(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      int progress = Preferences.getInteger("snojoMysticalityWins");
+      // Always should be a multiple of 7 for this drop, after the counter increments later!
+      if (progress % 7 != 6) {
+        Preferences.setInteger("snojoMysticalityWins", (int) Math.floor(progress / 7) * 7 + 6);
+      }
+    }
+  }
 
-        // Correct Snojo progress based on drops - note that it increments after the fight!
-      case ItemPool.ANCIENT_MEDICINAL_HERBS:
-        if (adventureResults) {
-          int progress = Preferences.getInteger("snojoMuscleWins");
-          // Always should be a multiple of 7 for this drop, after the counter increments later!
-          if (progress % 7 != 6) {
-            Preferences.setInteger("snojoMuscleWins", (int) Math.floor(progress / 7) * 7 + 6);
-          }
-        }
-        break;
+  private static void gainIcedPlumWine(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      int progress = Preferences.getInteger("snojoMoxieWins");
+      // Always should be a multiple of 7 for this drop, after the counter increments later!
+      if (progress % 7 != 6) {
+        Preferences.setInteger("snojoMoxieWins", (int) Math.floor(progress / 7) * 7 + 6);
+      }
+    }
+  }
 
-      case ItemPool.ICE_RICE:
-        if (adventureResults) {
-          int progress = Preferences.getInteger("snojoMysticalityWins");
-          // Always should be a multiple of 7 for this drop, after the counter increments later!
-          if (progress % 7 != 6) {
-            Preferences.setInteger("snojoMysticalityWins", (int) Math.floor(progress / 7) * 7 + 6);
-          }
-        }
-        break;
+  private static void gainTrainingBelt(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setInteger("snojoMuscleWins", 10);
+    }
+  }
 
-      case ItemPool.ICED_PLUM_WINE:
-        if (adventureResults) {
-          int progress = Preferences.getInteger("snojoMoxieWins");
-          // Always should be a multiple of 7 for this drop, after the counter increments later!
-          if (progress % 7 != 6) {
-            Preferences.setInteger("snojoMoxieWins", (int) Math.floor(progress / 7) * 7 + 6);
-          }
-        }
-        break;
+  private static void gainTrainingLegwarmers(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setInteger("snojoMysticalityWins", 10);
+    }
+  }
 
-      case ItemPool.TRAINING_BELT:
-        if (adventureResults) {
-          Preferences.setInteger("snojoMuscleWins", 10);
-        }
-        break;
+  private static void gainTrainingHelmet(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setInteger("snojoMoxieWins", 10);
+    }
+  }
 
-      case ItemPool.TRAINING_LEGWARMERS:
-        if (adventureResults) {
-          Preferences.setInteger("snojoMysticalityWins", 10);
-        }
-        break;
+  private static void gainScrollShatteringPunch(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setInteger("snojoMuscleWins", 49);
+    }
+  }
 
-      case ItemPool.TRAINING_HELMET:
-        if (adventureResults) {
-          Preferences.setInteger("snojoMoxieWins", 10);
-        }
-        break;
+  private static void gainScrollSnokebomb(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setInteger("snojoMysticalityWins", 49);
+    }
+  }
 
-      case ItemPool.SCROLL_SHATTERING_PUNCH:
-        if (adventureResults) {
-          Preferences.setInteger("snojoMuscleWins", 49);
-        }
-        break;
+  private static void gainScrollShiveringMonkey(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setInteger("snojoMoxieWins", 49);
+    }
+  }
 
-      case ItemPool.SCROLL_SNOKEBOMB:
-        if (adventureResults) {
-          Preferences.setInteger("snojoMysticalityWins", 49);
-        }
-        break;
+  private static void gainExperimentalGeneTherapy(
+      final boolean adventureResults, final AdventureResult result) {
+    BatManager.gainItem(result);
+  }
 
-      case ItemPool.SCROLL_SHIVERING_MONKEY:
-        if (adventureResults) {
-          Preferences.setInteger("snojoMoxieWins", 49);
-        }
-        break;
+  private static void gainCowboyBoots(
+      final boolean adventureResults, final AdventureResult result) {
+    EquipmentRequest.checkCowboyBoots();
+  }
 
-      case ItemPool.EXPERIMENTAL_GENE_THERAPY:
-      case ItemPool.SELF_DEFENSE_TRAINING:
-      case ItemPool.CONFIDENCE_BUILDING_HUG:
-        BatManager.gainItem(result);
-        break;
+  private static void gainRobinEgg(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.currentFamiliar.getId() == FamiliarPool.ROCKIN_ROBIN) {
+        // This will be updated to 0 in FightRequest later
+        Preferences.setInteger("rockinRobinProgress", -1);
+        Preferences.increment("_robinEggDrops", 1);
+      }
+    }
+  }
 
-      case ItemPool.COWBOY_BOOTS:
-        EquipmentRequest.checkCowboyBoots();
-        break;
+  private static void gainWaxGlob(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.currentFamiliar.getId() == FamiliarPool.CANDLE) {
+        // This will be updated to 0 in FightRequest later
+        Preferences.setInteger("optimisticCandleProgress", -1);
+        Preferences.increment("_waxGlobDrops", 1);
+      } else if (KoLCharacter.currentBjorned.getId() == FamiliarPool.CANDLE
+          || KoLCharacter.currentEnthroned.getId() == FamiliarPool.CANDLE) {
+        Preferences.increment("_optimisticCandleDropsCrown");
+      }
+    }
+  }
 
-      case ItemPool.ROBIN_EGG:
-        if (adventureResults) {
-          if (KoLCharacter.currentFamiliar.getId() == FamiliarPool.ROCKIN_ROBIN) {
-            // This will be updated to 0 in FightRequest later
-            Preferences.setInteger("rockinRobinProgress", -1);
-            Preferences.increment("_robinEggDrops", 1);
-          }
-        }
-        break;
+  private static void gainX(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.currentFamiliar.getId() == FamiliarPool.XO_SKELETON) {
+        // This will be updated to 0 in FightRequest later
+        Preferences.setInteger("xoSkeleltonXProgress", -1);
+        Preferences.setInteger("xoSkeleltonOProgress", 3);
+      }
+    }
+  }
 
-      case ItemPool.WAX_GLOB:
-        if (adventureResults) {
-          if (KoLCharacter.currentFamiliar.getId() == FamiliarPool.CANDLE) {
-            // This will be updated to 0 in FightRequest later
-            Preferences.setInteger("optimisticCandleProgress", -1);
-            Preferences.increment("_waxGlobDrops", 1);
-          } else if (KoLCharacter.currentBjorned.getId() == FamiliarPool.CANDLE
-              || KoLCharacter.currentEnthroned.getId() == FamiliarPool.CANDLE) {
-            Preferences.increment("_optimisticCandleDropsCrown");
-          }
-        }
-        break;
+  private static void gainO(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      if (KoLCharacter.currentFamiliar.getId() == FamiliarPool.XO_SKELETON) {
+        // This will be updated to 0 in FightRequest later
+        Preferences.setInteger("xoSkeleltonOProgress", -1);
+        Preferences.setInteger("xoSkeleltonXProgress", 4);
+      }
+    }
+  }
 
-      case ItemPool.X:
-        if (adventureResults) {
-          if (KoLCharacter.currentFamiliar.getId() == FamiliarPool.XO_SKELETON) {
-            // This will be updated to 0 in FightRequest later
-            Preferences.setInteger("xoSkeleltonXProgress", -1);
-            Preferences.setInteger("xoSkeleltonOProgress", 3);
-          }
-        }
-        break;
+  private static void gainShieldingPotion(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      // This will be updated to 0 in FightRequest later
+      Preferences.setInteger("_boomBoxFights", -1);
+    }
+  }
 
-      case ItemPool.O:
-        if (adventureResults) {
-          if (KoLCharacter.currentFamiliar.getId() == FamiliarPool.XO_SKELETON) {
-            // This will be updated to 0 in FightRequest later
-            Preferences.setInteger("xoSkeleltonOProgress", -1);
-            Preferences.setInteger("xoSkeleltonXProgress", 4);
-          }
-        }
-        break;
+  private static void gainNoSpoon(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.ORACLE, "step1");
+  }
 
-      case ItemPool.SHIELDING_POTION:
-      case ItemPool.PUNCHING_POTION:
-      case ItemPool.SPECIAL_SEASONING:
-      case ItemPool.NIGHTMARE_FUEL:
-      case ItemPool.MEAT_CLIP:
-        if (adventureResults) {
-          // This will be updated to 0 in FightRequest later
-          Preferences.setInteger("_boomBoxFights", -1);
-        }
-        break;
+  private static void gainTalesOfDread(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("itemBoughtPerCharacter6423", true);
+  }
 
-      case ItemPool.NO_SPOON:
-        QuestDatabase.setQuestProgress(Quest.ORACLE, "step1");
-        break;
+  private static void gainBrassDreadFlask(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("itemBoughtPerCharacter6428", true);
+  }
 
-      case ItemPool.TALES_OF_DREAD:
-        Preferences.setBoolean("itemBoughtPerCharacter6423", true);
-        break;
+  private static void gainSilverDreadFlask(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("itemBoughtPerCharacter6429", true);
+  }
 
-      case ItemPool.BRASS_DREAD_FLASK:
-        Preferences.setBoolean("itemBoughtPerCharacter6428", true);
-        break;
+  private static void gainNoHat(final boolean adventureResults, final AdventureResult result) {
+    int itemId = result.getItemId();
 
-      case ItemPool.SILVER_DREAD_FLASK:
-        Preferences.setBoolean("itemBoughtPerCharacter6429", true);
-        break;
+    {
+      String rawText =
+          DebugDatabase.rawItemDescriptionText(ItemDatabase.getDescriptionId(itemId), true);
+      String mod =
+          DebugDatabase.parseItemEnchantments(rawText, new ArrayList<>(), ConsumptionType.HAT);
+      ModifierDatabase.overrideModifier(ModifierType.ITEM, itemId, mod);
+      Preferences.setString("_noHatModifier", mod);
+    }
+  }
 
-      case ItemPool.NO_HAT:
-        {
-          String rawText =
-              DebugDatabase.rawItemDescriptionText(ItemDatabase.getDescriptionId(itemId), true);
-          String mod =
-              DebugDatabase.parseItemEnchantments(rawText, new ArrayList<>(), ConsumptionType.HAT);
-          ModifierDatabase.overrideModifier(ModifierType.ITEM, itemId, mod);
-          Preferences.setString("_noHatModifier", mod);
-        }
-        break;
+  private static void gainHotJelly(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.SPACE_JELLYFISH) {
+      Preferences.increment("_spaceJellyfishDrops");
+    }
+  }
 
-      case ItemPool.HOT_JELLY:
-      case ItemPool.COLD_JELLY:
-      case ItemPool.SPOOKY_JELLY:
-      case ItemPool.SLEAZE_JELLY:
-      case ItemPool.STENCH_JELLY:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.SPACE_JELLYFISH) {
-          Preferences.increment("_spaceJellyfishDrops");
-        }
-        break;
+  private static void gainLicenseToChill(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      ResultProcessor.processResult(ItemPool.get(ItemPool.LICENSE_TO_KILL, -11));
+    }
+  }
 
-      case ItemPool.LICENSE_TO_CHILL:
-        if (adventureResults) {
-          ResultProcessor.processResult(ItemPool.get(ItemPool.LICENSE_TO_KILL, -11));
-        }
-        break;
+  private static void gainPokeGrowFertilizer(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("_pokeGrowFertilizerDrops");
+    }
+  }
 
-      case ItemPool.POKE_GROW_FERTILIZER:
-        if (adventureResults) {
-          Preferences.increment("_pokeGrowFertilizerDrops");
-        }
-        break;
+  private static void gainBoombox(final boolean adventureResults, final AdventureResult result) {
+    KoLCharacter.addAvailableSkill(SkillPool.SING_ALONG);
+  }
 
-      case ItemPool.BOOMBOX:
-        KoLCharacter.addAvailableSkill(SkillPool.SING_ALONG);
-        break;
+  private static void gainGarlandOfGreatness(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.increment("garlandUpgrades");
+    }
+  }
 
-      case ItemPool.GARLAND_OF_GREATNESS:
-        if (adventureResults) {
-          Preferences.increment("garlandUpgrades");
-        }
-        break;
+  private static void gainHumanMusk(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      // The end of the fight will increment it to 0
+      Preferences.setInteger("redSnapperProgress", -1);
+    }
+  }
 
-      case ItemPool.HUMAN_MUSK:
-      case ItemPool.EXTRA_WARM_FUR:
-      case ItemPool.INDUSTRIAL_LUBRICANT:
-      case ItemPool.UNFINISHED_PLEASURE:
-      case ItemPool.HUMANOID_GROWTH_HORMONE:
-      case ItemPool.BUG_LYMPH:
-      case ItemPool.ORGANIC_POTPOURRI:
-      case ItemPool.BOOT_FLASK:
-      case ItemPool.INFERNAL_SNOWBALL:
-      case ItemPool.POWDERED_MADNESS:
-      case ItemPool.FISH_SAUCE:
-      case ItemPool.GUFFIN:
-      case ItemPool.SHANTIX:
-      case ItemPool.GOODBERRY:
-      case ItemPool.EUCLIDEAN_ANGLE:
-      case ItemPool.PEPPERMINT_SYRUP:
-      case ItemPool.MERKIN_EYEDROPS:
-      case ItemPool.EXTRA_STRENGTH_GOO:
-      case ItemPool.ENVELOPE_MEAT:
-      case ItemPool.LIVID_ENERGY:
-      case ItemPool.MICRONOVA:
-      case ItemPool.BEGGIN_COLOGNE:
-        if (adventureResults) {
-          // The end of the fight will increment it to 0
-          Preferences.setInteger("redSnapperProgress", -1);
-        }
-        break;
+  private static void gainPowerfulGlove(
+      final boolean adventureResults, final AdventureResult result) {
+    InventoryManager.addPowerfulGloveSkills();
+  }
 
-      case ItemPool.POWERFUL_GLOVE:
-      case ItemPool.REPLICA_POWERFUL_GLOVE:
-        InventoryManager.addPowerfulGloveSkills();
-        break;
+  private static void gainPowderPuff(final boolean adventureResults, final AdventureResult result) {
+    if (InventoryManager.hasItem(ItemPool.POWDER_PUFF)
+        && InventoryManager.hasItem(ItemPool.FINEST_GOWN)
+        && InventoryManager.hasItem(ItemPool.DANCING_SHOES)) {
+      QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_DANCE, "step2");
+    }
+  }
 
-      case ItemPool.POWDER_PUFF:
-      case ItemPool.FINEST_GOWN:
-      case ItemPool.DANCING_SHOES:
-        if (InventoryManager.hasItem(ItemPool.POWDER_PUFF)
-            && InventoryManager.hasItem(ItemPool.FINEST_GOWN)
-            && InventoryManager.hasItem(ItemPool.DANCING_SHOES)) {
-          QuestDatabase.setQuestProgress(Quest.SPOOKYRAVEN_DANCE, "step2");
-        }
-        break;
+  private static void gainBlackMap(final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.BLACK, "step1");
+  }
 
-      case ItemPool.BLACK_MAP:
-        QuestDatabase.setQuestProgress(Quest.BLACK, "step1");
-        break;
+  private static void gainFedoraMountedFountain(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("_fireworksShopHatBought", true);
+  }
 
-      case ItemPool.FEDORA_MOUNTED_FOUNTAIN:
-      case ItemPool.PORKPIE_MOUNTED_POPPER:
-      case ItemPool.SOMBRERO_MOUNTED_SPARKLER:
-        Preferences.setBoolean("_fireworksShopHatBought", true);
-        break;
+  private static void gainCatherineWheel(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setBoolean("_fireworksShopEquipmentBought", true);
+  }
 
-      case ItemPool.CATHERINE_WHEEL:
-      case ItemPool.ROCKET_BOOTS:
-      case ItemPool.OVERSIZED_SPARKLER:
-        Preferences.setBoolean("_fireworksShopEquipmentBought", true);
-        break;
+  private static void gainVampireVintnerWine(
+      final boolean adventureResults, final AdventureResult result) {
+    Preferences.setInteger("vintnerCharge", 13);
+    ItemDatabase.parseVampireVintnerWine();
+  }
 
-      case ItemPool.VAMPIRE_VINTNER_WINE:
-        Preferences.setInteger("vintnerCharge", 13);
-        ItemDatabase.parseVampireVintnerWine();
-        break;
+  private static void gainCosmicBowlingBall(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      BanishManager.resetCosmicBowlingBall();
+      Preferences.setInteger("cosmicBowlingBallReturnCombats", -1);
+    }
+  }
 
-      case ItemPool.COSMIC_BOWLING_BALL:
-        if (adventureResults) {
-          BanishManager.resetCosmicBowlingBall();
-          Preferences.setInteger("cosmicBowlingBallReturnCombats", -1);
-        }
-        break;
+  private static void gainMaydaySupplyPackage(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setBoolean("_maydayDropped", true);
+    }
+  }
 
-      case ItemPool.MAYDAY_SUPPLY_PACKAGE:
-        if (adventureResults) {
-          Preferences.setBoolean("_maydayDropped", true);
-        }
-        break;
+  private static void gainDesignerSweatpants(
+      final boolean adventureResults, final AdventureResult result) {
+    InventoryManager.addDesignerSweatpantsSkills();
+  }
 
-      case ItemPool.DESIGNER_SWEATPANTS:
-      case ItemPool.REPLICA_DESIGNER_SWEATPANTS:
-        InventoryManager.addDesignerSweatpantsSkills();
-        break;
+  private static void gainRobyBorisBeer(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults) {
+      Preferences.setBoolean("_cookbookbatRecipeDrops", true);
+    }
+  }
 
-      case ItemPool.ROBY_BORIS_BEER:
-      case ItemPool.ROBY_HONEY_BUN_OF_BORIS:
-      case ItemPool.ROBY_RATATOUILLE_DE_JARLSBERG:
-      case ItemPool.ROBY_JARLSBERGS_VEGETABLE_SOUP:
-      case ItemPool.ROBY_PETES_WILY_WHEY_BAR:
-      case ItemPool.ROBY_PETES_SNEAKY_SMOOTHIE:
-      case ItemPool.ROBY_BORIS_BREAD:
-      case ItemPool.ROBY_ROASTED_VEGETABLE_OF_J:
-      case ItemPool.ROBY_PETES_RICH_RICOTTA:
-      case ItemPool.ROBY_ROASTED_VEGETABLE_FOCACCIA:
-      case ItemPool.ROBY_PLAIN_CALZONE:
-      case ItemPool.ROBY_BAKED_VEGGIE_RICOTTA:
-      case ItemPool.ROBY_DEEP_DISH_OF_LEGEND:
-      case ItemPool.ROBY_CALZONE_OF_LEGEND:
-      case ItemPool.ROBY_PIZZA_OF_LEGEND:
-        if (adventureResults) {
-          Preferences.setBoolean("_cookbookbatRecipeDrops", true);
-        }
-        break;
+  private static void gainGrubbyWool(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults
+        && KoLCharacter.currentFamiliar.getId() == FamiliarPool.HOBO_IN_SHEEPS_CLOTHING) {
+      Preferences.increment("_grubbyWoolDrops", 1);
+    }
+  }
 
-      case ItemPool.GRUBBY_WOOL:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.HOBO_IN_SHEEPS_CLOTHING) {
-          Preferences.increment("_grubbyWoolDrops", 1);
-        }
-        break;
+  private static void gainShadowLighter(
+      final boolean adventureResults, final AdventureResult result) {
+    QuestDatabase.setQuestProgress(Quest.RUFUS, "step1");
+  }
 
-      case ItemPool.SHADOW_LIGHTER:
-      case ItemPool.SHADOW_HEPTAHEDRON:
-      case ItemPool.SHADOW_SNOWFLAKE:
-      case ItemPool.SHADOW_HEART:
-      case ItemPool.SHADOW_BUCKET:
-      case ItemPool.SHADOW_WAVE:
-        QuestDatabase.setQuestProgress(Quest.RUFUS, "step1");
-        break;
+  private static void gainCinchoDeMayo(
+      final boolean adventureResults, final AdventureResult result) {
+    InventoryManager.addCinchoDeMayoSkills();
+  }
 
-      case ItemPool.CINCHO_DE_MAYO:
-      case ItemPool.REPLICA_CINCHO_DE_MAYO:
-        InventoryManager.addCinchoDeMayoSkills();
-        break;
+  private static void gainAugustScepter(
+      final boolean adventureResults, final AdventureResult result) {
+    InventoryManager.addAugustScepterSkills();
+  }
 
-      case ItemPool.AUGUST_SCEPTER:
-      case ItemPool.REPLICA_AUGUST_SCEPTER:
-        InventoryManager.addAugustScepterSkills();
-        break;
+  private static void gainLedCandle(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults
+        && KoLCharacter.currentFamiliar.getId() == FamiliarPool.JILL_OF_ALL_TRADES) {
+      Preferences.setBoolean("ledCandleDropped", true);
+    }
+  }
 
-      case ItemPool.LED_CANDLE:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.JILL_OF_ALL_TRADES) {
-          Preferences.setBoolean("ledCandleDropped", true);
-        }
-        break;
-      case ItemPool.MAP_TO_A_CANDY_RICH_BLOCK:
-        if (adventureResults
-            && KoLCharacter.currentFamiliar.getId() == FamiliarPool.JILL_OF_ALL_TRADES) {
-          Preferences.increment("_mapToACandyRichBlockDrops", 1);
-        }
-        break;
-      case ItemPool.MINI_KIWI:
-        if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.MINI_KIWI) {
-          Preferences.increment("_miniKiwiDrops", 1);
-        }
-        break;
+  private static void gainMapToACandyRichBlock(
+      final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults
+        && KoLCharacter.currentFamiliar.getId() == FamiliarPool.JILL_OF_ALL_TRADES) {
+      Preferences.increment("_mapToACandyRichBlockDrops", 1);
+    }
+  }
 
-      case ItemPool.BAT_WINGS:
-        InventoryManager.addBatWingsSkills();
-        break;
+  private static void gainMiniKiwi(final boolean adventureResults, final AdventureResult result) {
+    if (adventureResults && KoLCharacter.currentFamiliar.getId() == FamiliarPool.MINI_KIWI) {
+      Preferences.increment("_miniKiwiDrops", 1);
     }
+  }
 
-    // Gaining items can achieve goals.
-    GoalManager.updateProgress(result);
+  private static void gainBatWings(final boolean adventureResults, final AdventureResult result) {
+    InventoryManager.addBatWingsSkills();
   }
 
   public static void autoCreate(final int itemId) {
@@ -1,7 +1,12 @@
 package net.sourceforge.kolmafia.session;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.function.Consumer;
@@ -16,6 +21,7 @@ import net.sourceforge.kolmafia.combat.MonsterStatusTracker;
 import net.sourceforge.kolmafia.objectpool.EffectPool;
 import net.sourceforge.kolmafia.objectpool.FamiliarPool;
 import net.sourceforge.kolmafia.persistence.MonsterDatabase;
+import net.sourceforge.kolmafia.preferences.DecodedPreference;
 import net.sourceforge.kolmafia.preferences.Preferences;
 import net.sourceforge.kolmafia.utilities.StringUtilities;
 
@@ -183,8 +189,47 @@ public class TrackManager {
     }
   }
 
-  private static Set<Tracked> prefToSet(String prefName) {
-    String tracks = Preferences.getString(prefName);
+  // The track preferences, decoded once per change and indexed by lower-cased monster or phylum
+  // name.
+  private record TrackState(Set<Tracked> entries, Map<String, List<Tracked>> byName) {
+    private static TrackState decode(final String value) {
+      return TrackState.of(decodeSet(value));
+    }
+
+    private static TrackState of(final Set<Tracked> set) {
+      Set<Tracked> entries = Collections.unmodifiableSet(set);
+      Map<String, List<Tracked>> byName = new HashMap<>();
+      for (Tracked tracked : entries) {
+        byName
+            .computeIfAbsent(tracked.tracked().toLowerCase(), k -> new ArrayList<>())
+            .add(tracked);
+      }
+      return new TrackState(entries, byName);
+    }
+
+    private static String encode(final TrackState state) {
+      return setToPref(state.entries());
+    }
+
+    private List<Tracked> get(final String name) {
+      return this.byName.getOrDefault(name.toLowerCase(), List.of());
+    }
+
+    private boolean isAllValid() {
+      return this.entries.stream().allMatch(Tracked::isValid);
+    }
+  }
+
+  private static final DecodedPreference<TrackState> TRACKED_MONSTERS =
+      new DecodedPreference<>("trackedMonsters", TrackState::decode, TrackState::encode);
+  private static final DecodedPreference<TrackState> TRACKED_PHYLA =
+      new DecodedPreference<>("trackedPhyla", TrackState::decode, TrackState::encode);
+
+  private static DecodedPreference<TrackState> getTrackedPref(String prefName) {
+    return prefName.equals("trackedPhyla") ? TRACKED_PHYLA : TRACKED_MONSTERS;
+  }
+
+  private static LinkedHashSet<Tracked> decodeSet(String tracks) {
     if (tracks.isEmpty()) {
       return new LinkedHashSet<>();
     }
@@ -220,9 +265,10 @@ public class TrackManager {
   }
 
   private static void updatePref(String pref, Consumer<Set<Tracked>> func) {
-    var set = prefToSet(pref);
+    var decoded = getTrackedPref(pref);
+    var set = new LinkedHashSet<>(decoded.get().entries());
     func.accept(set);
-    Preferences.setString(pref, setToPref(set));
+    decoded.set(TrackState.of(set));
   }
 
   /**
@@ -258,6 +304,10 @@ public class TrackManager {
   }
 
   public static void recalculate() {
+    // Only rewrite the preferences if something has actually expired
+    if (TRACKED_MONSTERS.get().isAllValid() && TRACKED_PHYLA.get().isAllValid()) {
+      return;
+    }
     resetIf(Predicate.not(Tracked::isValid));
   }
 
@@ -341,11 +391,9 @@ public class TrackManager {
   public static long countCopies(final String monster) {
     TrackManager.recalculate();
 
-    var monsters = prefToSet("trackedMonsters");
-
     var monsterCopies =
-        monsters.stream()
-            .filter(m -> m.tracked().equalsIgnoreCase(monster) && m.tracker().isEffective())
+        TRACKED_MONSTERS.get().get(monster).stream()
+            .filter(m -> m.tracker().isEffective())
             .mapToInt(t -> t.tracker().copies)
             .sum();
 
@@ -354,12 +402,9 @@ public class TrackManager {
       return monsterCopies;
     }
 
-    var phyla = prefToSet("trackedPhyla");
-
     var phylaCopies =
-        phyla.stream()
+        TRACKED_PHYLA.get().get(data.getPhylum().toString()).stream()
             .filter(m -> m.tracker().isEffective())
-            .filter(m -> m.tracked().equalsIgnoreCase(data.getPhylum().toString()))
             .mapToInt(t -> t.tracker().copies)
             .sum();
     return monsterCopies + phylaCopies;
@@ -368,15 +413,9 @@ public class TrackManager {
   public static boolean isQueueIgnored(final String monster) {
     TrackManager.recalculate();
 
-    var monsters = prefToSet("trackedMonsters");
-
     // there is no way for a phyla copy to make the monster ignore queue
-    return monsters.stream()
-        .anyMatch(
-            m ->
-                m.tracker().isIgnoreQueue()
-                    && m.tracked().equalsIgnoreCase(monster)
-                    && m.tracker().isEffective());
+    return TRACKED_MONSTERS.get().get(monster).stream()
+        .anyMatch(m -> m.tracker().isIgnoreQueue() && m.tracker().isEffective());
   }
 
   public static Tracker[] trackedBy(final MonsterData data) {
@@ -386,16 +425,11 @@ public class TrackManager {
 
     TrackManager.recalculate();
 
-    var monsters = prefToSet("trackedMonsters");
-    var phyla = prefToSet("trackedPhyla");
-
     var monsterTracks =
-        monsters.stream()
-            .filter(m -> m.tracked().equalsIgnoreCase(data.getName()))
+        TRACKED_MONSTERS.get().get(data.getName()).stream()
             .filter(m -> m.tracker().isEffective());
     var phylaTracks =
-        phyla.stream()
-            .filter(m -> m.tracked().equalsIgnoreCase(data.getPhylum().toString()))
+        TRACKED_PHYLA.get().get(data.getPhylum().toString()).stream()
             .filter(m -> m.tracker().isEffective());
     return Stream.concat(monsterTracks, phylaTracks).map(Tracked::tracker).toArray(Tracker[]::new);
   }
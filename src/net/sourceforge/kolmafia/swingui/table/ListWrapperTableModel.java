@@ -131,9 +131,9 @@ public abstract class ListWrapperTableModel<E> extends DefaultTableModel
           int rowCount = ListWrapperTableModel.this.getRowCount();
 
           for (int i = index1; i >= index0; --i) {
-            if (source.size() < i) {
+            if (source.size() <= i) {
               ListWrapperTableModel.this.removeRow(i);
-            } else if (i > rowCount) {
+            } else if (i >= rowCount) {
               ListWrapperTableModel.this.insertRow(
                   rowCount, ListWrapperTableModel.this.constructVector(source.get(i)));
             } else {
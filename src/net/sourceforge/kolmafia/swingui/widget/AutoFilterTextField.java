@@ -4,12 +4,22 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.swing.JList;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.event.AncestorEvent;
 import javax.swing.event.AncestorListener;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
 import net.java.dev.spellcast.utilities.LockableListModel;
 import net.java.dev.spellcast.utilities.LockableListModel.ListElementFilter;
 import net.sourceforge.kolmafia.AdventureResult;
@@ -48,6 +58,40 @@ public class AutoFilterTextField<E> extends AutoHighlightTextField
 
   private static final Pattern NOTSEARCH_PATTERN = Pattern.compile("\\s*!\\s*=\\s*(.+)\\s*");
 
+  // Lists at least this long are matched against the text away from the Swing thread, once
+  // typing pauses
+  private static final int BACKGROUND_SIZE = 500;
+  private static final int DEBOUNCE_MILLIS = 150;
+
+  private static ExecutorService filterer = null;
+
+  // Which elements of a snapshot of the list match some filter text, worked out on the filter
+  // thread. Everything else isVisible checks, including anything a subclass adds, is still checked
+  // on the Swing thread.
+  private record TextMatches(
+      String text,
+      boolean negated,
+      Map<Object, String> names,
+      Set<Object> checked,
+      Set<Object> strict,
+      Set<Object> fuzzy) {
+    // Whether an element cannot match text which extends this, having not matched this
+    boolean rulesOut(final Object element, final boolean strict) {
+      return this.names.containsKey(element)
+          && !(strict ? this.strict : this.fuzzy).contains(element);
+    }
+  }
+
+  private final ModelListener modelListener = new ModelListener();
+  private Timer debounce = null;
+  private int generation = 0;
+
+  // The matches from the last background pass, which the next one can narrow
+  private TextMatches lastMatches = null;
+
+  // The matches being applied, which isVisible uses instead of matching the text itself
+  private TextMatches applying = null;
+
   public AutoFilterTextField(final JList<E> list) {
     this(list, null, false);
   }
@@ -79,8 +123,7 @@ public class AutoFilterTextField<E> extends AutoHighlightTextField
   public AutoFilterTextField(LockableListModel<E> displayModel) {
     this.addKeyListener(new FilterListener());
 
-    this.model = displayModel;
-    this.model.setFilter(this);
+    this.setModel(displayModel);
 
     // Make this look like a normal search field on OS X.
     // Note that the field MUST NOT be forced to a height other than its
@@ -91,14 +134,19 @@ public class AutoFilterTextField<E> extends AutoHighlightTextField
 
   public void setList(final JList<E> list) {
     this.list = list;
-    this.model = (LockableListModel<E>) list.getModel();
-    this.model.setFilter(this);
+    this.setModel((LockableListModel<E>) list.getModel());
     this.list.clearSelection();
   }
 
   public void setModel(final LockableListModel<E> model) {
+    if (this.model != null) {
+      this.model.removeListDataListener(this.modelListener);
+    }
+
     this.model = model;
     this.model.setFilter(this);
+    this.model.addListDataListener(this.modelListener);
+    this.lastMatches = null;
   }
 
   @Override
@@ -136,6 +184,10 @@ public class AutoFilterTextField<E> extends AutoHighlightTextField
       return true;
     }
 
+    if (this.applying != null && this.applying.checked().contains(element)) {
+      return (this.strict ? this.applying.strict() : this.applying.fuzzy()).contains(element);
+    }
+
     // If it's not a result, then check to see if you need to
     // filter based on its string form.
 
@@ -192,6 +244,20 @@ public class AutoFilterTextField<E> extends AutoHighlightTextField
     return element.toString().toLowerCase();
   }
 
+  // Whether getResultName can only ever give the same answer for this element
+  private static boolean hasStableName(final Object element) {
+    return element instanceof String
+        || element instanceof AdventureResult
+        || element instanceof CreateItemRequest
+        || element instanceof Concoction
+        || element instanceof QueuedConcoction
+        || element instanceof ShopRow
+        || element instanceof SoldItem
+        || element instanceof KoLAdventure
+        || element instanceof Monster
+        || element instanceof Script;
+  }
+
   public static final int getResultPrice(final Object element) {
     if (element == null) {
       return -1;
@@ -235,75 +301,210 @@ public class AutoFilterTextField<E> extends AutoHighlightTextField
   }
 
   public void update() {
+    this.parseFilter();
+
+    // Anything still being matched in the background is out of date
+    ++this.generation;
+
+    this.applyFilter(null);
+  }
+
+  private void applyFilter(final TextMatches matches) {
+    this.applying = matches;
+
     try {
-      AutoFilterTextField.this.qtyChecked = false;
-      AutoFilterTextField.this.asChecked = false;
-      AutoFilterTextField.this.notChecked = false;
-      AutoFilterTextField.this.text = AutoFilterTextField.this.getText().toLowerCase();
-
-      if (AutoFilterTextField.this.text != null
-          && AutoFilterTextField.this.text.length() > 1
-          && AutoFilterTextField.this.text.charAt(0) == '-') {
-        AutoFilterTextField.this.notChecked = true;
-        AutoFilterTextField.this.text = AutoFilterTextField.this.text.substring(1).trim();
+      AutoFilterTextField.this.strict = true;
+      AutoFilterTextField.this.model.updateFilter(false);
+
+      if (AutoFilterTextField.this.model.getSize() == 0) {
+        AutoFilterTextField.this.strict = false;
+        AutoFilterTextField.this.model.updateFilter(false);
       }
 
-      Matcher mqty = AutoFilterTextField.QTYSEARCH_PATTERN.matcher(AutoFilterTextField.this.text);
-      if (mqty.find()) {
-        AutoFilterTextField.this.qtyChecked = true;
-        AutoFilterTextField.this.quantity = StringUtilities.parseInt(mqty.group(2));
+      this.updateSelection();
+    } finally {
+      this.applying = null;
+      this.fireContentsChanged();
+    }
+  }
 
-        String op = mqty.group(1);
+  private void parseFilter() {
+    AutoFilterTextField.this.qtyChecked = false;
+    AutoFilterTextField.this.asChecked = false;
+    AutoFilterTextField.this.notChecked = false;
+    AutoFilterTextField.this.text = AutoFilterTextField.this.getText().toLowerCase();
+
+    if (AutoFilterTextField.this.text != null
+        && AutoFilterTextField.this.text.length() > 1
+        && AutoFilterTextField.this.text.charAt(0) == '-') {
+      AutoFilterTextField.this.notChecked = true;
+      AutoFilterTextField.this.text = AutoFilterTextField.this.text.substring(1).trim();
+    }
 
-        AutoFilterTextField.this.qtyEQ = op.indexOf("=") != -1;
-        AutoFilterTextField.this.qtyLT = op.indexOf("<") != -1;
-        AutoFilterTextField.this.qtyGT = op.indexOf(">") != -1;
-        AutoFilterTextField.this.text = mqty.replaceFirst("");
-      }
+    Matcher mqty = AutoFilterTextField.QTYSEARCH_PATTERN.matcher(AutoFilterTextField.this.text);
+    if (mqty.find()) {
+      AutoFilterTextField.this.qtyChecked = true;
+      AutoFilterTextField.this.quantity = StringUtilities.parseInt(mqty.group(2));
 
-      Matcher mas = AutoFilterTextField.ASSEARCH_PATTERN.matcher(AutoFilterTextField.this.text);
-      if (mas.find()) {
-        AutoFilterTextField.this.asChecked = true;
-        AutoFilterTextField.this.price = StringUtilities.parseInt(mas.group(2));
+      String op = mqty.group(1);
 
-        String op = mas.group(1);
+      AutoFilterTextField.this.qtyEQ = op.indexOf("=") != -1;
+      AutoFilterTextField.this.qtyLT = op.indexOf("<") != -1;
+      AutoFilterTextField.this.qtyGT = op.indexOf(">") != -1;
+      AutoFilterTextField.this.text = mqty.replaceFirst("");
+    }
 
-        AutoFilterTextField.this.asEQ = op.indexOf("=") != -1;
-        AutoFilterTextField.this.asLT = op.indexOf("<") != -1;
-        AutoFilterTextField.this.asGT = op.indexOf(">") != -1;
-        AutoFilterTextField.this.text = mas.replaceFirst("");
-      }
+    Matcher mas = AutoFilterTextField.ASSEARCH_PATTERN.matcher(AutoFilterTextField.this.text);
+    if (mas.find()) {
+      AutoFilterTextField.this.asChecked = true;
+      AutoFilterTextField.this.price = StringUtilities.parseInt(mas.group(2));
+
+      String op = mas.group(1);
+
+      AutoFilterTextField.this.asEQ = op.indexOf("=") != -1;
+      AutoFilterTextField.this.asLT = op.indexOf("<") != -1;
+      AutoFilterTextField.this.asGT = op.indexOf(">") != -1;
+      AutoFilterTextField.this.text = mas.replaceFirst("");
+    }
 
-      Matcher mnot = AutoFilterTextField.NOTSEARCH_PATTERN.matcher(AutoFilterTextField.this.text);
-      if (mnot.find()) {
-        AutoFilterTextField.this.notChecked = true;
-        AutoFilterTextField.this.text = mnot.group(1);
+    Matcher mnot = AutoFilterTextField.NOTSEARCH_PATTERN.matcher(AutoFilterTextField.this.text);
+    if (mnot.find()) {
+      AutoFilterTextField.this.notChecked = true;
+      AutoFilterTextField.this.text = mnot.group(1);
+    }
+  }
+
+  private void updateSelection() {
+    if (this.list != null) {
+      JList<E> list = this.list;
+      if (this.model.getSize() == 1) {
+        list.setSelectedIndex(0);
+      } else if (list.getSelectedIndices().length == 1) {
+        list.ensureIndexIsVisible(list.getSelectedIndex());
+      } else {
+        list.clearSelection();
       }
+    }
+  }
 
-      AutoFilterTextField.this.strict = true;
-      AutoFilterTextField.this.model.updateFilter(false);
+  private void fireContentsChanged() {
+    if (this.model.size() > 0) {
+      this.model.fireContentsChanged(this.model, 0, this.model.size() - 1);
+    }
+  }
 
-      if (AutoFilterTextField.this.model.getSize() == 0) {
-        AutoFilterTextField.this.strict = false;
-        AutoFilterTextField.this.model.updateFilter(false);
+  /**
+   * Matches the text against a long list on another thread, then filters the list with those
+   * matches in a single update, so that typing does not wait for every name to be checked. While
+   * the text only gets longer, only the elements which matched the shorter text are checked again.
+   */
+  private void filterInBackground() {
+    this.parseFilter();
+
+    int generation = ++this.generation;
+    String text = this.text;
+    boolean negated = this.notChecked;
+    List<E> snapshot = this.model.getSnapshot();
+
+    TextMatches previous = this.lastMatches;
+    Map<Object, String> knownNames = previous != null ? previous.names() : Map.of();
+    TextMatches narrowing =
+        previous != null && !previous.negated() && !negated && text.startsWith(previous.text())
+            ? previous
+            : null;
+
+    AutoFilterTextField.getFilterer()
+        .execute(
+            () -> {
+              TextMatches matches =
+                  AutoFilterTextField.matchText(snapshot, text, negated, narrowing, knownNames);
+              SwingUtilities.invokeLater(() -> this.applyMatches(generation, matches));
+            });
+  }
+
+  // Only reads the names of the elements, so it is safe to call away from the Swing thread
+  private static TextMatches matchText(
+      final List<?> snapshot,
+      final String text,
+      final boolean negated,
+      final TextMatches narrowing,
+      final Map<Object, String> knownNames) {
+    Map<Object, String> names = new IdentityHashMap<>();
+    Set<Object> checked = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<Object> strict = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<Object> fuzzy = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    for (Object element : snapshot) {
+      checked.add(element);
+
+      String name = knownNames.get(element);
+      if (name == null) {
+        name = AutoFilterTextField.getResultName(element);
+      }
+      if (AutoFilterTextField.hasStableName(element)) {
+        names.put(element, name);
       }
 
-      if (AutoFilterTextField.this.list != null) {
-        JList<E> list = AutoFilterTextField.this.list;
-        if (AutoFilterTextField.this.model.getSize() == 1) {
-          list.setSelectedIndex(0);
-        } else if (list.getSelectedIndices().length == 1) {
-          list.ensureIndexIsVisible(list.getSelectedIndex());
-        } else {
-          list.clearSelection();
+      if (negated) {
+        if (name.indexOf(text) == -1) {
+          strict.add(element);
+          fuzzy.add(element);
         }
+        continue;
       }
-    } finally {
-      if (AutoFilterTextField.this.model.size() > 0) {
-        AutoFilterTextField.this.model.fireContentsChanged(
-            AutoFilterTextField.this.model, 0, AutoFilterTextField.this.model.size() - 1);
+
+      if ((narrowing == null || !narrowing.rulesOut(element, true))
+          && name.indexOf(text) != -1) {
+        strict.add(element);
+      }
+      if ((narrowing == null || !narrowing.rulesOut(element, false))
+          && StringUtilities.fuzzyMatches(name, text)) {
+        fuzzy.add(element);
       }
     }
+
+    return new TextMatches(text, negated, names, checked, strict, fuzzy);
+  }
+
+  private void applyMatches(final int generation, final TextMatches matches) {
+    if (generation != this.generation) {
+      // The text changed again while this was being worked out
+      return;
+    }
+
+    this.applyFilter(matches);
+
+    // Set after the model's own events, which would otherwise clear it
+    this.lastMatches = matches;
+  }
+
+  void scheduleUpdate() {
+    if (this.model.size() < BACKGROUND_SIZE) {
+      this.update();
+      return;
+    }
+
+    // Anything still being matched in the background is for older text
+    ++this.generation;
+
+    if (this.debounce == null) {
+      this.debounce = new Timer(DEBOUNCE_MILLIS, e -> this.filterInBackground());
+      this.debounce.setRepeats(false);
+    }
+    this.debounce.restart();
+  }
+
+  private static synchronized ExecutorService getFilterer() {
+    if (AutoFilterTextField.filterer == null) {
+      AutoFilterTextField.filterer =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "List Filter");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return AutoFilterTextField.filterer;
   }
 
   private class RequestFocusAncestorListener implements AncestorListener {
@@ -319,10 +520,29 @@ public class AutoFilterTextField<E> extends AutoHighlightTextField
     public void ancestorMoved(AncestorEvent event) {}
   }
 
+  private class ModelListener implements ListDataListener {
+    // Elements may have been renamed, so the next filter checks them all
+
+    @Override
+    public void intervalAdded(final ListDataEvent e) {
+      AutoFilterTextField.this.lastMatches = null;
+    }
+
+    @Override
+    public void intervalRemoved(final ListDataEvent e) {
+      AutoFilterTextField.this.lastMatches = null;
+    }
+
+    @Override
+    public void contentsChanged(final ListDataEvent e) {
+      AutoFilterTextField.this.lastMatches = null;
+    }
+  }
+
   private class FilterListener extends KeyAdapter {
     @Override
     public void keyReleased(final KeyEvent e) {
-      AutoFilterTextField.this.update();
+      AutoFilterTextField.this.scheduleUpdate();
     }
   }
 }
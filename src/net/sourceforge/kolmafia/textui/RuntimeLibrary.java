@@ -167,6 +167,7 @@ import net.sourceforge.kolmafia.session.NumberologyManager;
 import net.sourceforge.kolmafia.session.PingManager;
 import net.sourceforge.kolmafia.session.PingManager.PingTest;
 import net.sourceforge.kolmafia.session.PvpManager;
+import net.sourceforge.kolmafia.session.RequestMetrics;
 import net.sourceforge.kolmafia.session.ResultProcessor;
 import net.sourceforge.kolmafia.session.SorceressLairManager;
 import net.sourceforge.kolmafia.session.StoreManager;
@@ -278,6 +279,20 @@ public abstract class RuntimeLibrary {
             DataTypes.INT_TYPE
           });
 
+  private static final RecordType requestMetricsRec =
+      new RecordType(
+          "{int count; float total; float cpu; float average; float median; float p90; float max;}",
+          new String[] {"count", "total", "cpu", "average", "median", "p90", "max"},
+          new Type[] {
+            DataTypes.INT_TYPE,
+            DataTypes.FLOAT_TYPE,
+            DataTypes.FLOAT_TYPE,
+            DataTypes.FLOAT_TYPE,
+            DataTypes.FLOAT_TYPE,
+            DataTypes.FLOAT_TYPE,
+            DataTypes.FLOAT_TYPE
+          });
+
   private static final RecordType stackTraceRec =
       new RecordType(
           "{string file; string name; int line;}",
@@ -2784,6 +2799,15 @@ public abstract class RuntimeLibrary {
             new AggregateType(DataTypes.FLOAT_TYPE, DataTypes.MONSTER_TYPE),
             params));
 
+    params = List.of(namedParam("includeQueue", DataTypes.BOOLEAN_TYPE));
+    functions.add(
+        new LibraryFunction(
+            "appearance_rates_all",
+            new AggregateType(
+                new AggregateType(DataTypes.FLOAT_TYPE, DataTypes.MONSTER_TYPE),
+                DataTypes.LOCATION_TYPE),
+            params));
+
     params = List.of();
     functions.add(new LibraryFunction("expected_damage", DataTypes.INT_TYPE, params));
 
@@ -3583,6 +3607,14 @@ public abstract class RuntimeLibrary {
     params = List.of(namedParam("pingTest", DataTypes.STRING_TYPE));
     functions.add(new LibraryFunction("ping", pingTestRec, params));
 
+    params = List.of();
+    functions.add(
+        new LibraryFunction(
+            "request_metrics",
+            new AggregateType(
+                new AggregateType(requestMetricsRec, DataTypes.STRING_TYPE), DataTypes.STRING_TYPE),
+            params));
+
     params =
         List.of(
             namedParam("cls", DataTypes.CLASS_TYPE),
@@ -9580,15 +9612,39 @@ public abstract class RuntimeLibrary {
     AreaCombatData data = adventure == null ? null : adventure.getAreaSummary();
     boolean stateful = includeQueue.intValue() == 1;
 
+    if (data == null) {
+      return new MapValue(new AggregateType(DataTypes.FLOAT_TYPE, DataTypes.MONSTER_TYPE));
+    }
+
+    return appearanceRatesValue(data, data.getMonsterData(stateful));
+  }
+
+  public static Value appearance_rates_all(ScriptRuntime controller, final Value includeQueue) {
+    boolean stateful = includeQueue.intValue() == 1;
+
+    AggregateType rateType = new AggregateType(DataTypes.FLOAT_TYPE, DataTypes.MONSTER_TYPE);
+    MapValue value = new MapValue(new AggregateType(rateType, DataTypes.LOCATION_TYPE));
+
+    for (var entry : AreaCombatData.getAllMonsterData(stateful).entrySet()) {
+      KoLAdventure adventure = entry.getKey();
+      value.aset(
+          DataTypes.makeLocationValue(adventure),
+          appearanceRatesValue(adventure.getAreaSummary(), entry.getValue()));
+    }
+
+    return value;
+  }
+
+  private static MapValue appearanceRatesValue(
+      final AreaCombatData data, final Map<MonsterData, Double> rates) {
     AggregateType type = new AggregateType(DataTypes.FLOAT_TYPE, DataTypes.MONSTER_TYPE);
     MapValue value = new MapValue(type);
-    if (data == null) return value;
 
     value.aset(
         DataTypes.MONSTER_INIT,
         new Value(data.combats() < 0 ? -1.0F : 100.0f - data.areaCombatPercent()));
 
-    for (Map.Entry<MonsterData, Double> entry : data.getMonsterData(stateful).entrySet()) {
+    for (Map.Entry<MonsterData, Double> entry : rates.entrySet()) {
       value.aset(DataTypes.makeMonsterValue(entry.getKey()), new Value(entry.getValue()));
     }
 
@@ -11192,6 +11248,35 @@ public abstract class RuntimeLibrary {
     return rec;
   }
 
+  public static Value request_metrics(ScriptRuntime controller) {
+    AshRuntime interpreter = controller instanceof AshRuntime ? (AshRuntime) controller : null;
+
+    AggregateType pageType =
+        new AggregateType(RuntimeLibrary.requestMetricsRec, DataTypes.STRING_TYPE);
+    MapValue value = new MapValue(new AggregateType(pageType, DataTypes.STRING_TYPE));
+
+    for (var phase : RequestMetrics.getHistograms().entrySet()) {
+      MapValue pages = new MapValue(pageType);
+      for (var page : phase.getValue().entrySet()) {
+        RequestMetrics.Histogram histogram = page.getValue();
+        RecordValue rec = new RecordValue(RuntimeLibrary.requestMetricsRec);
+
+        rec.aset(0, DataTypes.makeIntValue(histogram.getCount()), interpreter);
+        rec.aset(1, DataTypes.makeFloatValue(histogram.getTotal()), interpreter);
+        rec.aset(2, DataTypes.makeFloatValue(histogram.getCPU()), interpreter);
+        rec.aset(3, DataTypes.makeFloatValue(histogram.getAverage()), interpreter);
+        rec.aset(4, DataTypes.makeFloatValue(histogram.getPercentile(50)), interpreter);
+        rec.aset(5, DataTypes.makeFloatValue(histogram.getPercentile(90)), interpreter);
+        rec.aset(6, DataTypes.makeFloatValue(histogram.getMax()), interpreter);
+
+        pages.aset(new Value(page.getKey()), rec);
+      }
+      value.aset(new Value(phase.getKey().toString()), pages);
+    }
+
+    return value;
+  }
+
   public static Value fact_type(
       ScriptRuntime controller, final Value cls, final Value path, final Value monster) {
     if (cls.content == null || monster.content == null) return DataTypes.STRING_INIT;
@@ -0,0 +1,126 @@
+package net.sourceforge.kolmafia.textui.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.kolmafia.KoLmafia;
+import net.sourceforge.kolmafia.RequestLogger;
+import net.sourceforge.kolmafia.RequestThread;
+import net.sourceforge.kolmafia.persistence.EffectDatabase;
+import net.sourceforge.kolmafia.persistence.FamiliarDatabase;
+import net.sourceforge.kolmafia.persistence.ItemDatabase;
+import net.sourceforge.kolmafia.persistence.SkillDatabase;
+import net.sourceforge.kolmafia.request.GenericRequest;
+import net.sourceforge.kolmafia.session.DescriptionCache;
+
+public class DescriptionCacheCommand extends AbstractCommand {
+  public DescriptionCacheCommand() {
+    this.usage =
+        " [clear | warm items | effects | skills | familiars | all] - show how many description"
+            + " pages are saved, forget them, or load and save every one of a kind.";
+  }
+
+  @Override
+  public void run(final String cmd, final String parameters) {
+    String[] split = parameters.trim().split("\\s+", 2);
+    String command = split[0];
+
+    if (command.equals("")) {
+      RequestLogger.printLine(DescriptionCache.size() + " description pages saved.");
+      return;
+    }
+
+    if (command.equals("clear")) {
+      DescriptionCache.clear();
+      RequestLogger.printLine("Saved description pages cleared.");
+      return;
+    }
+
+    if (command.equals("warm") && split.length == 2) {
+      if (!DescriptionCache.isEnabled()) {
+        KoLmafia.updateDisplay("Set cacheDescriptionPages to true to save description pages.");
+        return;
+      }
+
+      List<String> urls = DescriptionCacheCommand.getURLs(split[1]);
+      if (urls == null) {
+        RequestLogger.printLine("Usage: desccache" + this.usage);
+        return;
+      }
+
+      DescriptionCacheCommand.warm(urls);
+      return;
+    }
+
+    RequestLogger.printLine("Usage: desccache" + this.usage);
+  }
+
+  private static final List<String> KINDS =
+      List.of("items", "effects", "skills", "familiars", "all");
+
+  private static List<String> getURLs(final String kind) {
+    if (!KINDS.contains(kind)) {
+      return null;
+    }
+
+    List<String> urls = new ArrayList<>();
+    boolean all = kind.equals("all");
+
+    if (all || kind.equals("items")) {
+      for (var entry : ItemDatabase.descriptionIdEntrySet()) {
+        if (entry.getKey() > 0 && entry.getValue() != null) {
+          urls.add("desc_item.php?whichitem=" + entry.getValue());
+        }
+      }
+    }
+
+    if (all || kind.equals("effects")) {
+      for (var entry : EffectDatabase.entrySet()) {
+        String descId = EffectDatabase.getDescriptionId(entry.getKey());
+        if (descId != null && !descId.isEmpty()) {
+          urls.add("desc_effect.php?whicheffect=" + descId);
+        }
+      }
+    }
+
+    if (all || kind.equals("skills")) {
+      for (var entry : SkillDatabase.entrySet()) {
+        urls.add("desc_skill.php?whichskill=" + entry.getKey() + "&self=true");
+      }
+    }
+
+    if (all || kind.equals("familiars")) {
+      for (var entry : FamiliarDatabase.entrySet()) {
+        urls.add("desc_familiar.php?which=" + entry.getKey());
+      }
+    }
+
+    return urls;
+  }
+
+  private static void warm(final List<String> urls) {
+    int loaded = 0;
+    int checked = 0;
+
+    for (String url : urls) {
+      if (!KoLmafia.permitsContinue()) {
+        break;
+      }
+
+      if (++checked % 100 == 0) {
+        KoLmafia.updateDisplay("Checked " + checked + " of " + urls.size() + " pages...");
+      }
+
+      if (DescriptionCache.contains(url)) {
+        continue;
+      }
+
+      GenericRequest request = new GenericRequest(url);
+      request.useDescriptionCache = true;
+      RequestThread.postRequest(request);
+      loaded++;
+    }
+
+    KoLmafia.updateDisplay(
+        "Loaded " + loaded + " description pages; " + DescriptionCache.size() + " are saved.");
+  }
+}
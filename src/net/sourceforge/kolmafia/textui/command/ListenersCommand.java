@@ -0,0 +1,49 @@
+package net.sourceforge.kolmafia.textui.command;
+
+import net.sourceforge.kolmafia.RequestLogger;
+import net.sourceforge.kolmafia.listener.ListenerRegistry;
+import net.sourceforge.kolmafia.preferences.Preferences;
+
+public class ListenersCommand extends AbstractCommand {
+  public ListenersCommand() {
+    this.usage =
+        " [coalesce on | coalesce off | count on | count off | reset] - show listener fires"
+            + " per turn, or change how they are dispatched and counted.";
+  }
+
+  @Override
+  public void run(final String cmd, final String parameters) {
+    String[] split = parameters.trim().split("\\s+");
+    String command = split[0];
+
+    if (command.equals("")) {
+      ListenerRegistry.printMetrics();
+      return;
+    }
+
+    if (command.equals("reset")) {
+      ListenerRegistry.resetMetrics();
+      RequestLogger.printLine("Listener metrics reset.");
+      return;
+    }
+
+    if (command.equals("coalesce") && split.length == 2) {
+      boolean coalesce = split[1].equals("on") || split[1].equals("true");
+      Preferences.setBoolean("coalesceListeners", coalesce);
+      ListenerRegistry.setCoalescing(coalesce);
+      RequestLogger.printLine(
+          "Listener dispatch is now " + (coalesce ? "coalesced" : "immediate") + ".");
+      return;
+    }
+
+    if (command.equals("count") && split.length == 2) {
+      boolean count = split[1].equals("on") || split[1].equals("true");
+      Preferences.setBoolean("countListeners", count);
+      ListenerRegistry.setCounting(count);
+      RequestLogger.printLine("Listener fires are " + (count ? "now" : "no longer") + " counted.");
+      return;
+    }
+
+    RequestLogger.printLine("Usage: listeners" + this.usage);
+  }
+}
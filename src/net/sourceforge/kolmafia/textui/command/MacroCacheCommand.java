@@ -0,0 +1,28 @@
+package net.sourceforge.kolmafia.textui.command;
+
+import net.sourceforge.kolmafia.RequestLogger;
+import net.sourceforge.kolmafia.combat.MacroCache;
+
+public class MacroCacheCommand extends AbstractCommand {
+  public MacroCacheCommand() {
+    this.usage = " [clear] - show how often combat macros are reused, or forget them.";
+  }
+
+  @Override
+  public void run(final String cmd, final String parameters) {
+    String command = parameters.trim();
+
+    if (command.equals("")) {
+      MacroCache.printStatistics();
+      return;
+    }
+
+    if (command.equals("clear")) {
+      MacroCache.clear();
+      RequestLogger.printLine("Macro cache cleared.");
+      return;
+    }
+
+    RequestLogger.printLine("Usage: macrocache" + this.usage);
+  }
+}
@@ -0,0 +1,44 @@
+package net.sourceforge.kolmafia.textui.command;
+
+import net.sourceforge.kolmafia.RequestLogger;
+import net.sourceforge.kolmafia.maximizer.MaximizerCache;
+
+public class MaximizerCacheCommand extends AbstractCommand {
+  public MaximizerCacheCommand() {
+    this.usage =
+        " [clear] - show how often the Maximizer reused an outfit, and what had changed when it"
+            + " last could not, or forget every outfit.";
+  }
+
+  @Override
+  public void run(final String cmd, final String parameters) {
+    String command = parameters.trim();
+
+    if (command.equals("")) {
+      RequestLogger.printLine(
+          MaximizerCache.size()
+              + " outfits saved; "
+              + MaximizerCache.getHits()
+              + " reused and "
+              + MaximizerCache.getMisses()
+              + " searched for.");
+
+      String expression = MaximizerCache.getLastMiss();
+      if (expression != null) {
+        RequestLogger.printLine("Last searched for: " + expression);
+        for (String change : MaximizerCache.getLastMissChanges()) {
+          RequestLogger.printLine(change);
+        }
+      }
+      return;
+    }
+
+    if (command.equals("clear")) {
+      MaximizerCache.clear();
+      RequestLogger.printLine("Saved Maximizer outfits cleared.");
+      return;
+    }
+
+    RequestLogger.printLine("Usage: maxcache" + this.usage);
+  }
+}
@@ -2,6 +2,7 @@ package net.sourceforge.kolmafia.textui.command;
 
 import net.sourceforge.kolmafia.RequestLogger;
 import net.sourceforge.kolmafia.moods.MoodManager;
+import net.sourceforge.kolmafia.moods.MoodPlan;
 import net.sourceforge.kolmafia.moods.RecoveryManager;
 import net.sourceforge.kolmafia.preferences.Preferences;
 import net.sourceforge.kolmafia.utilities.StringUtilities;
@@ -9,7 +10,7 @@ import net.sourceforge.kolmafia.utilities.StringUtilities;
 public class MoodCommand extends AbstractCommand {
   {
     this.usage =
-        " list | listall | clear | autofill | execute | repeat [<numTimes>] | <moodName> [<numTimes>] - mood management.";
+        " list | listall | clear | autofill | execute | repeat [<numTimes>] | plan [<numTimes>] | <moodName> [<numTimes>] - mood management.";
   }
 
   @Override
@@ -50,6 +51,21 @@ public class MoodCommand extends AbstractCommand {
 
       MoodManager.checkpointedExecute(multiplicity);
       RequestLogger.printLine("Mood swing complete.");
+    } else if (parameters.equals("plan") || parameters.startsWith("plan ")) {
+      int multiplicity = 0;
+      int spaceIndex = parameters.lastIndexOf(" ");
+
+      if (spaceIndex != -1) {
+        multiplicity = StringUtilities.parseInt(parameters.substring(spaceIndex + 1));
+      }
+
+      MoodPlan plan = MoodManager.getPlan(multiplicity);
+      RequestLogger.printList(plan.getSteps());
+      RequestLogger.printLine(
+          plan.getRequestCount()
+              + " requests planned, including "
+              + plan.getRestoreCount()
+              + " MP restores.");
     } else {
       int multiplicity = 0;
       int spaceIndex = parameters.lastIndexOf(" ");
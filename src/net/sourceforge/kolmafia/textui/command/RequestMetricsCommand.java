@@ -0,0 +1,48 @@
+package net.sourceforge.kolmafia.textui.command;
+
+import java.io.File;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.RequestLogger;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.session.RequestMetrics;
+
+public class RequestMetricsCommand extends AbstractCommand {
+  public RequestMetricsCommand() {
+    this.usage =
+        " [on | off | reset | dump <file>] - show time spent in each phase of requests"
+            + " and adventures, or change what is recorded.";
+  }
+
+  @Override
+  public void run(final String cmd, final String parameters) {
+    String[] split = parameters.trim().split("\\s+", 2);
+    String command = split[0];
+
+    if (command.equals("")) {
+      RequestMetrics.printMetrics();
+      return;
+    }
+
+    if (command.equals("on") || command.equals("off")) {
+      boolean enabled = command.equals("on");
+      Preferences.setBoolean("requestMetrics", enabled);
+      RequestLogger.printLine("Request timing is now " + command + ".");
+      return;
+    }
+
+    if (command.equals("reset")) {
+      RequestMetrics.reset();
+      RequestLogger.printLine("Request timing reset.");
+      return;
+    }
+
+    if (command.equals("dump") && split.length == 2) {
+      File file = new File(KoLConstants.ROOT_LOCATION, split[1]);
+      RequestMetrics.dump(file);
+      RequestLogger.printLine("Request timing written to " + file.getName() + ".");
+      return;
+    }
+
+    RequestLogger.printLine("Usage: timing" + this.usage);
+  }
+}
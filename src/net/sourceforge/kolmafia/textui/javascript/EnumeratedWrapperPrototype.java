@@ -4,6 +4,7 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import net.sourceforge.kolmafia.KoLConstants;
 import net.sourceforge.kolmafia.KoLmafia;
+import net.sourceforge.kolmafia.textui.parsetree.ProxyRecordValue;
 import net.sourceforge.kolmafia.textui.parsetree.Type;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.Function;
@@ -26,15 +27,16 @@ public class EnumeratedWrapperPrototype extends ScriptableObject {
     setPrototype(ScriptableObject.getObjectPrototype(scope));
 
     if (recordValueClass != null) {
-      for (Method method : recordValueClass.getDeclaredMethods()) {
-        if (method.getName().startsWith("get_")) {
-          ProxyRecordMethodWrapper methodWrapper =
-              new ProxyRecordMethodWrapper(
-                  scope, ScriptableObject.getFunctionPrototype(scope), method);
-          String methodShortName =
-              JavascriptRuntime.toCamelCase(method.getName().replace("get_", ""));
-          setGetterOrSetter(methodShortName, 0, methodWrapper, false);
+      var accessors = ProxyRecordValue.getAccessors(recordValueClass);
+      for (int i = 0; i < accessors.names().length; i++) {
+        if (accessors.getters()[i] == null) {
+          continue;
         }
+        ProxyRecordMethodWrapper methodWrapper =
+            new ProxyRecordMethodWrapper(
+                scope, ScriptableObject.getFunctionPrototype(scope), accessors.getters()[i]);
+        String methodShortName = JavascriptRuntime.toCamelCase(accessors.names()[i]);
+        setGetterOrSetter(methodShortName, 0, methodWrapper, false);
       }
     }
 
@@ -1,7 +1,6 @@
 package net.sourceforge.kolmafia.textui.javascript;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import net.sourceforge.kolmafia.textui.ScriptException;
 import net.sourceforge.kolmafia.textui.parsetree.ProxyRecordValue;
 import net.sourceforge.kolmafia.textui.parsetree.Value;
@@ -14,11 +13,12 @@ import org.mozilla.javascript.Scriptable;
 public class ProxyRecordMethodWrapper extends BaseFunction {
   private static final long serialVersionUID = 1L;
 
-  private final Method method;
+  // Takes a ProxyRecordValue and returns Object; see ProxyRecordValue.getAccessors
+  private final transient MethodHandle getter;
 
-  public ProxyRecordMethodWrapper(Scriptable scope, Scriptable prototype, Method method) {
+  public ProxyRecordMethodWrapper(Scriptable scope, Scriptable prototype, MethodHandle getter) {
     super(scope, prototype);
-    this.method = method;
+    this.getter = getter;
   }
 
   @Override
@@ -27,36 +27,38 @@ public class ProxyRecordMethodWrapper extends BaseFunction {
       return null;
     }
 
+    Object returnValue;
     try {
-      Object returnValue = method.invoke(((EnumeratedWrapper) thisObj).getWrapped().asProxy());
-
-      // if the method returns a non-proxy Ash value (like Effect.all or Monster.attackElements),
-      // we need to convert it to a java object first
-      if (returnValue instanceof Value) {
-        ScriptableValueConverter coercer = new ScriptableValueConverter(cx, scope);
-        try {
-          returnValue = coercer.asJava((Value) returnValue);
-        } catch (ValueConverter.ValueConverterException e) {
-          throw new EvaluatorException(e.getMessage());
-        }
-      }
+      returnValue =
+          (Object)
+              this.getter.invokeExact(
+                  (ProxyRecordValue) ((EnumeratedWrapper) thisObj).getWrapped().asProxy());
+    } catch (Throwable e) {
+      return null;
+    }
 
-      if (returnValue instanceof Value
-          && ((Value) returnValue).asProxy() instanceof ProxyRecordValue) {
-        returnValue = EnumeratedWrapper.wrap(scope, returnValue.getClass(), (Value) returnValue);
-      } else if (!(returnValue instanceof Scriptable)) {
-        returnValue = Context.javaToJS(returnValue, scope);
+    // if the method returns a non-proxy Ash value (like Effect.all or Monster.attackElements),
+    // we need to convert it to a java object first
+    if (returnValue instanceof Value) {
+      ScriptableValueConverter coercer = new ScriptableValueConverter(cx, scope);
+      try {
+        returnValue = coercer.asJava((Value) returnValue);
+      } catch (ValueConverter.ValueConverterException e) {
+        throw new EvaluatorException(e.getMessage());
       }
+    }
 
-      if (returnValue instanceof NativeJavaObject) {
-        throw new ScriptException("ASH function returned native Java object.");
-      }
+    if (returnValue instanceof Value
+        && ((Value) returnValue).asProxy() instanceof ProxyRecordValue) {
+      returnValue = EnumeratedWrapper.wrap(scope, returnValue.getClass(), (Value) returnValue);
+    } else if (!(returnValue instanceof Scriptable)) {
+      returnValue = Context.javaToJS(returnValue, scope);
+    }
 
-      return returnValue;
-    } catch (IllegalAccessException e) {
-      return null;
-    } catch (InvocationTargetException e) {
-      return null;
+    if (returnValue instanceof NativeJavaObject) {
+      throw new ScriptException("ASH function returned native Java object.");
     }
+
+    return returnValue;
   }
 }
@@ -1,6 +1,8 @@
 package net.sourceforge.kolmafia.textui.parsetree;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Iterator;
@@ -71,6 +73,48 @@ public class ProxyRecordValue extends RecordValue {
     return underlyingValue;
   }
 
+  /**
+   * The fields of a kind of proxy record and the getter for each, in field order. A null getter
+   * means the class has no public get_ method for that field.
+   */
+  public record Accessors(String[] names, MethodHandle[] getters) {}
+
+  // Looked up once per class, rather than by name on every field read
+  private static final ClassValue<Accessors> ACCESSORS =
+      new ClassValue<>() {
+        @Override
+        protected Accessors computeValue(final Class<?> type) {
+          return ProxyRecordValue.findAccessors(type);
+        }
+      };
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, ProxyRecordValue.class);
+
+  public static Accessors getAccessors(final Class<?> type) {
+    return ACCESSORS.get(type);
+  }
+
+  private static Accessors findAccessors(final Class<?> type) {
+    String[] names;
+    try {
+      names = ((RecordType) type.getField("_type").get(null)).getFieldNames();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      return new Accessors(new String[0], new MethodHandle[0]);
+    }
+
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    MethodHandle[] getters = new MethodHandle[names.length];
+    for (int i = 0; i < names.length; i++) {
+      try {
+        getters[i] = lookup.unreflect(type.getMethod("get_" + names[i])).asType(GETTER_TYPE);
+      } catch (ReflectiveOperationException e) {
+        getters[i] = null;
+      }
+    }
+    return new Accessors(names, getters);
+  }
+
   @Override
   public Value aref(final Value key, final AshRuntime interpreter) {
     int index = ((RecordType) this.type).indexOf(key);
@@ -88,12 +132,16 @@ public class ProxyRecordValue extends RecordValue {
       throw interpreter.runtimeException("Internal error: field index out of bounds");
     }
 
+    MethodHandle getter = ProxyRecordValue.getAccessors(this.getClass()).getters()[index];
+    if (getter == null) {
+      throw interpreter.runtimeException(
+          "Unable to invoke attribute getter: no get_" + type.getFieldNames()[index]);
+    }
+
     Object rv;
     try {
-      rv = this.getClass().getMethod("get_" + type.getFieldNames()[index]).invoke(this);
-    } catch (InvocationTargetException e) {
-      throw interpreter.runtimeException("Unable to invoke attribute getter: " + e.getCause());
-    } catch (Exception e) {
+      rv = (Object) getter.invokeExact((ProxyRecordValue) this);
+    } catch (Throwable e) {
       throw interpreter.runtimeException("Unable to invoke attribute getter: " + e);
     }
 
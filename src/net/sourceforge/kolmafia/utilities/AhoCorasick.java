@@ -0,0 +1,141 @@
+package net.sourceforge.kolmafia.utilities;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+/*
+ * Finds every occurrence of each of a fixed set of strings in a single pass over a text, using the
+ * Aho-Corasick automaton. Building it costs time proportional to the total length of the strings,
+ * so build once and search many times. An instance can be shared between threads.
+ */
+public class AhoCorasick {
+  @FunctionalInterface
+  public interface MatchHandler {
+    void match(int pattern, int start);
+  }
+
+  private final String[] patterns;
+
+  // The trie, one entry per node. The children of a node are sorted by character.
+  private final char[][] keys;
+  private final int[][] children;
+  private final int[] failure;
+  // The patterns which end at each node, including those ending at its failure nodes
+  private final int[][] outputs;
+
+  public AhoCorasick(final List<String> patterns) {
+    this.patterns = patterns.toArray(new String[0]);
+
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<List<Integer>> ends = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    ends.add(new ArrayList<>());
+
+    for (int pattern = 0; pattern < this.patterns.length; pattern++) {
+      int node = 0;
+      for (char c : this.patterns[pattern].toCharArray()) {
+        Integer next = trie.get(node).get(c);
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          ends.add(new ArrayList<>());
+          trie.get(node).put(c, next);
+        }
+        node = next;
+      }
+      ends.get(node).add(pattern);
+    }
+
+    int size = trie.size();
+    this.keys = new char[size][];
+    this.children = new int[size][];
+    this.failure = new int[size];
+    this.outputs = new int[size][];
+
+    for (int node = 0; node < size; node++) {
+      TreeMap<Character, Integer> edges = trie.get(node);
+      this.keys[node] = new char[edges.size()];
+      this.children[node] = new int[edges.size()];
+      int i = 0;
+      for (var edge : edges.entrySet()) {
+        this.keys[node][i] = edge.getKey();
+        this.children[node][i] = edge.getValue();
+        i++;
+      }
+    }
+
+    // Breadth first, so that a node's failure node is finished before the node itself
+    this.outputs[0] = toArray(ends.get(0));
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int child : this.children[0]) {
+      this.failure[child] = 0;
+      queue.add(child);
+    }
+
+    while (!queue.isEmpty()) {
+      int node = queue.remove();
+
+      int[] own = toArray(ends.get(node));
+      int[] inherited = this.outputs[this.failure[node]];
+      int[] all = Arrays.copyOf(own, own.length + inherited.length);
+      System.arraycopy(inherited, 0, all, own.length, inherited.length);
+      this.outputs[node] = all;
+
+      for (int i = 0; i < this.keys[node].length; i++) {
+        char c = this.keys[node][i];
+        int child = this.children[node][i];
+
+        int fallback = this.failure[node];
+        while (fallback != 0 && this.next(fallback, c) == -1) {
+          fallback = this.failure[fallback];
+        }
+        int next = this.next(fallback, c);
+        this.failure[child] = next == -1 || next == child ? 0 : next;
+
+        queue.add(child);
+      }
+    }
+  }
+
+  private static int[] toArray(final List<Integer> list) {
+    return list.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private int next(final int node, final char c) {
+    int index = Arrays.binarySearch(this.keys[node], c);
+    return index < 0 ? -1 : this.children[node][index];
+  }
+
+  public int size() {
+    return this.patterns.length;
+  }
+
+  public String getPattern(final int pattern) {
+    return this.patterns[pattern];
+  }
+
+  /**
+   * Reports the index and start of every occurrence of every pattern, overlapping ones included.
+   * Occurrences are reported in order of where they end.
+   */
+  public void search(final CharSequence text, final MatchHandler handler) {
+    int node = 0;
+    for (int i = 0, length = text.length(); i < length; i++) {
+      char c = text.charAt(i);
+
+      int next;
+      while ((next = this.next(node, c)) == -1 && node != 0) {
+        node = this.failure[node];
+      }
+      node = next == -1 ? 0 : next;
+
+      for (int pattern : this.outputs[node]) {
+        handler.match(pattern, i + 1 - this.patterns[pattern].length());
+      }
+    }
+  }
+}
@@ -386,7 +386,7 @@ public class FileUtilities {
   }
 
   /** Downloads the given file from the KoL images server and stores it locally. */
-  private static String localImageName(final String filename) {
+  static String localImageName(final String filename) {
     if (filename == null || filename.equals("")) {
       return null;
     }
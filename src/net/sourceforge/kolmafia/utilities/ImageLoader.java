@@ -0,0 +1,218 @@
+package net.sourceforge.kolmafia.utilities;
+
+import java.awt.Image;
+import java.awt.Toolkit;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.swing.SwingUtilities;
+
+/*
+ * Downloads images off the Swing thread, and keeps recently drawn images decoded for every HTML
+ * pane to share.
+ *
+ * A view which finds that its image is not yet saved locally asks for it with request(), which
+ * returns at once. A few background threads download requested images, and each view which asked
+ * for one is told on the Swing thread when it has arrived. Code which fills a list whose entries
+ * will be drawn with images can prefetch() them.
+ *
+ * An image which could not be downloaded is not asked for again this session.
+ */
+public class ImageLoader {
+  private static final int THREADS = 4;
+  private static final int DECODED_IMAGES = 256;
+
+  private static final ExecutorService LOADER =
+      Executors.newFixedThreadPool(
+          THREADS,
+          runnable -> {
+            Thread thread = new Thread(runnable, "Image Loader");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  // Keyed by local image name. Each waiting image has the callbacks to run when it arrives.
+  private static final Map<String, List<Runnable>> waiting = new HashMap<>();
+  private static final Set<String> failed = new HashSet<>();
+
+  private static final DecodedImages DECODED = new DecodedImages();
+
+  private ImageLoader() {}
+
+  /** Returns the saved copy of the image, or null if it has not been downloaded. */
+  public static File getLocalImage(final String src) {
+    File file = ImageLoader.imageFile(src);
+    return file != null && file.length() > 0 ? file : null;
+  }
+
+  /** Returns whether the image will not be downloaded: it is malformed or failed to download. */
+  public static synchronized boolean isUnavailable(final String src) {
+    return ImageLoader.imageFile(src) == null
+        || ImageLoader.failed.contains(FileUtilities.localImageName(src));
+  }
+
+  private static File imageFile(final String src) {
+    return src == null || src.isEmpty() ? null : FileUtilities.imageFile(src);
+  }
+
+  /**
+   * Downloads the image in the background, unless it is saved already, and then runs the callback
+   * on the Swing thread. The callback is not run if the image cannot be downloaded.
+   */
+  public static void request(final String src, final Runnable callback) {
+    if (ImageLoader.getLocalImage(src) != null) {
+      SwingUtilities.invokeLater(callback);
+      return;
+    }
+
+    ImageLoader.load(src, callback);
+  }
+
+  /** Downloads each of the images which is not already saved, in the background. */
+  public static void prefetch(final Collection<String> srcs) {
+    for (String src : srcs) {
+      if (ImageLoader.getLocalImage(src) == null) {
+        ImageLoader.load(src, null);
+      }
+    }
+  }
+
+  private static void load(final String src, final Runnable callback) {
+    if (ImageLoader.imageFile(src) == null) {
+      return;
+    }
+
+    String name = FileUtilities.localImageName(src);
+
+    synchronized (ImageLoader.class) {
+      if (ImageLoader.failed.contains(name)) {
+        return;
+      }
+
+      List<Runnable> callbacks = ImageLoader.waiting.get(name);
+      if (callbacks != null) {
+        if (callback != null) {
+          callbacks.add(callback);
+        }
+        return;
+      }
+
+      callbacks = new ArrayList<>();
+      if (callback != null) {
+        callbacks.add(callback);
+      }
+      ImageLoader.waiting.put(name, callbacks);
+    }
+
+    ImageLoader.LOADER.execute(() -> ImageLoader.download(src, name));
+  }
+
+  private static void download(final String src, final String name) {
+    File file = FileUtilities.downloadImage(src);
+    boolean arrived = file != null && file.length() > 0;
+
+    List<Runnable> callbacks;
+    synchronized (ImageLoader.class) {
+      callbacks = ImageLoader.waiting.remove(name);
+      if (!arrived) {
+        ImageLoader.failed.add(name);
+      }
+    }
+
+    if (arrived && callbacks != null) {
+      for (Runnable callback : callbacks) {
+        SwingUtilities.invokeLater(callback);
+      }
+    }
+  }
+
+  /**
+   * Returns the decoded images shared by HTML documents, to be set as their "imageCache" property.
+   */
+  public static Dictionary<URL, Image> getDecodedImages() {
+    return ImageLoader.DECODED;
+  }
+
+  // An ImageView asks its document's image cache for each image it draws, and draws nothing if the
+  // cache has none, so this creates the image on a miss. Only local files are ever asked for.
+  private static class DecodedImages extends Dictionary<URL, Image> {
+    private final Map<String, Image> images =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<String, Image> eldest) {
+            return this.size() > ImageLoader.DECODED_IMAGES;
+          }
+        };
+
+    @Override
+    public synchronized int size() {
+      return this.images.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+      return this.images.isEmpty();
+    }
+
+    @Override
+    public synchronized Enumeration<URL> keys() {
+      List<URL> urls = new ArrayList<>();
+      for (String key : this.images.keySet()) {
+        try {
+          urls.add(URI.create(key).toURL());
+        } catch (Exception e) {
+          // Only well-formed URLs are added
+        }
+      }
+      return Collections.enumeration(urls);
+    }
+
+    @Override
+    public synchronized Enumeration<Image> elements() {
+      return Collections.enumeration(new ArrayList<>(this.images.values()));
+    }
+
+    @Override
+    public synchronized Image get(final Object key) {
+      if (!(key instanceof URL url)) {
+        return null;
+      }
+
+      // URL.equals may look up host names, so key by the text of the URL instead
+      return this.images.computeIfAbsent(
+          url.toString(), ignored -> Toolkit.getDefaultToolkit().createImage(url));
+    }
+
+    @Override
+    public synchronized Image put(final URL key, final Image value) {
+      return this.images.put(key.toString(), value);
+    }
+
+    @Override
+    public synchronized Image remove(final Object key) {
+      return key instanceof URL url ? this.images.remove(url.toString()) : null;
+    }
+  }
+
+  // For tests
+  static synchronized void reset() {
+    ImageLoader.waiting.clear();
+    ImageLoader.failed.clear();
+    synchronized (ImageLoader.DECODED) {
+      ImageLoader.DECODED.images.clear();
+    }
+  }
+}
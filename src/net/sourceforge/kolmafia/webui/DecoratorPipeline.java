@@ -0,0 +1,182 @@
+package net.sourceforge.kolmafia.webui;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.sourceforge.kolmafia.utilities.AhoCorasick;
+
+/*
+ * A set of decorators, each registered for the pages it applies to and the anchor strings it looks
+ * for. Decorating a page finds every anchor of every decorator registered for that page in one
+ * pass, lets each decorator describe the edits it wants, and then splices them all into the page
+ * at once.
+ *
+ * Every decorator sees the page as it was before any of them ran. An edit is placed relative to
+ * the original text; edits at the same point are applied in the order they were made, so two
+ * decorators which each insert before the same anchor end up in the order they were registered.
+ * An edit which starts within text replaced by an earlier edit is dropped.
+ */
+public class DecoratorPipeline {
+  @FunctionalInterface
+  public interface Decorator {
+    void decorate(Page page);
+  }
+
+  private record Rule(List<String> pages, List<String> anchors, Decorator decorator) {}
+
+  private record Stage(List<Rule> rules, AhoCorasick anchors, Map<String, Integer> indexes) {}
+
+  private record Edit(int start, int end, String text) {}
+
+  public static class Page {
+    private final String location;
+    private final String text;
+    private final Stage stage;
+    private final List<List<Integer>> occurrences;
+    private final List<Edit> edits = new ArrayList<>();
+
+    private Page(final String location, final String text, final Stage stage) {
+      this.location = location;
+      this.text = text;
+      this.stage = stage;
+      this.occurrences = new ArrayList<>(stage.anchors().size());
+      for (int i = 0; i < stage.anchors().size(); i++) {
+        this.occurrences.add(new ArrayList<>(1));
+      }
+      stage.anchors().search(text, (anchor, start) -> this.occurrences.get(anchor).add(start));
+    }
+
+    public String getLocation() {
+      return this.location;
+    }
+
+    public String getText() {
+      return this.text;
+    }
+
+    private List<Integer> find(final String anchor) {
+      Integer index = this.stage.indexes().get(anchor);
+      if (index != null) {
+        return this.occurrences.get(index);
+      }
+
+      // Not declared by any decorator; look for it the slow way
+      List<Integer> found = new ArrayList<>();
+      for (int start = this.text.indexOf(anchor);
+          start != -1;
+          start = this.text.indexOf(anchor, start + 1)) {
+        found.add(start);
+      }
+      return found;
+    }
+
+    public boolean contains(final String anchor) {
+      return !this.find(anchor).isEmpty();
+    }
+
+    /** Returns where the anchor first occurs in the page, or -1 if it does not. */
+    public int indexOf(final String anchor) {
+      List<Integer> found = this.find(anchor);
+      return found.isEmpty() ? -1 : found.get(0);
+    }
+
+    public void insert(final int index, final String text) {
+      this.edits.add(new Edit(index, index, text));
+    }
+
+    public void replace(final int start, final int end, final String text) {
+      this.edits.add(new Edit(start, end, text));
+    }
+
+    public void delete(final int start, final int end) {
+      this.replace(start, end, "");
+    }
+
+    /** Replaces every occurrence of the anchor which does not overlap an earlier one. */
+    public void replaceAll(final String anchor, final String replacement) {
+      int end = 0;
+      for (int start : this.find(anchor)) {
+        if (start >= end) {
+          end = start + anchor.length();
+          this.replace(start, end, replacement);
+        }
+      }
+    }
+
+    private String splice() {
+      List<Edit> edits = new ArrayList<>(this.edits);
+      // A stable sort, so edits at the same point stay in the order they were made
+      edits.sort(Comparator.comparingInt(Edit::start));
+
+      StringBuilder result = new StringBuilder(this.text.length() + 256);
+      int position = 0;
+      for (Edit edit : edits) {
+        if (edit.start() < position) {
+          continue;
+        }
+        result.append(this.text, position, edit.start());
+        result.append(edit.text());
+        position = edit.end();
+      }
+      result.append(this.text, position, this.text.length());
+      return result.toString();
+    }
+  }
+
+  private final List<Rule> rules = new ArrayList<>();
+  private final Map<String, Stage> stages = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a decorator for the given pages, named without a query string, which will be told
+   * where each of the given anchors occurs. Decorators run in the order they were added.
+   */
+  public DecoratorPipeline add(
+      final List<String> pages, final List<String> anchors, final Decorator decorator) {
+    this.rules.add(new Rule(List.copyOf(pages), List.copyOf(anchors), decorator));
+    this.stages.clear();
+    return this;
+  }
+
+  private Stage stage(final String page) {
+    List<Rule> rules = new ArrayList<>();
+    Map<String, Integer> indexes = new LinkedHashMap<>();
+    for (Rule rule : this.rules) {
+      if (!rule.pages().contains(page)) {
+        continue;
+      }
+      rules.add(rule);
+      for (String anchor : rule.anchors()) {
+        indexes.putIfAbsent(anchor, indexes.size());
+      }
+    }
+    return new Stage(rules, new AhoCorasick(new ArrayList<>(indexes.keySet())), indexes);
+  }
+
+  private static String getPage(final String location) {
+    int index = location.indexOf("?");
+    return index == -1 ? location : location.substring(0, index);
+  }
+
+  public void decorate(final String location, final StringBuffer buffer) {
+    Stage stage = this.stages.computeIfAbsent(getPage(location), this::stage);
+    if (stage.rules().isEmpty()) {
+      return;
+    }
+
+    Page page = new Page(location, buffer.toString(), stage);
+    for (Rule rule : stage.rules()) {
+      rule.decorator().decorate(page);
+    }
+
+    if (page.edits.isEmpty()) {
+      return;
+    }
+
+    String result = page.splice();
+    buffer.setLength(0);
+    buffer.append(result);
+  }
+}
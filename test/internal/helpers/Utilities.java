@@ -40,5 +40,9 @@ public class Utilities {
     verboseDelete(dest);
     dest = Paths.get(KoLConstants.ROOT_LOCATION + "/data/" + part + "_turns.ser");
     verboseDelete(dest);
+    dest = Paths.get(KoLConstants.ROOT_LOCATION + "/data/" + part + "_queue.dat");
+    verboseDelete(dest);
+    dest = Paths.get(KoLConstants.ROOT_LOCATION + "/data/" + part + "_turns.dat");
+    verboseDelete(dest);
   }
 }
@@ -15,13 +15,15 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.SubmissionPublisher;
@@ -30,9 +32,10 @@ import javax.net.ssl.SSLParameters;
 
 public class FakeHttpClient extends HttpClient {
 
-  private final List<HttpRequest> requests = new ArrayList<>();
-  private final Queue<FakeHttpResponse<String>> responses = new LinkedList<>();
-  private final Map<String, FakeHttpResponse<String>> responseMap = new HashMap<>();
+  // Requests may be sent from several threads at once
+  private final List<HttpRequest> requests = Collections.synchronizedList(new ArrayList<>());
+  private final Queue<FakeHttpResponse<String>> responses = new ConcurrentLinkedQueue<>();
+  private final Map<String, FakeHttpResponse<String>> responseMap = new ConcurrentHashMap<>();
 
   public void addResponse(int responseCode, String response) {
     addResponse(responseCode, new HashMap<>(), response);
@@ -20,13 +20,18 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notANumber;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.core.Every.everyItem;
 
 import internal.helpers.Cleanups;
 import java.io.File;
 import java.time.Month;
+import java.util.HashMap;
 import java.util.Map;
 import net.sourceforge.kolmafia.equipment.Slot;
 import net.sourceforge.kolmafia.objectpool.EffectPool;
@@ -101,7 +106,7 @@ public class AreaCombatDataTest {
 
   @AfterAll
   public static void deleteQueueFile() {
-    File queueF = new File(KoLConstants.DATA_LOCATION, TESTUSERNAME.toLowerCase() + "_queue.ser");
+    File queueF = new File(KoLConstants.DATA_LOCATION, TESTUSERNAME.toLowerCase() + "_queue.dat");
     if (queueF.exists()) {
       queueF.delete();
     }
@@ -290,6 +295,66 @@ public class AreaCombatDataTest {
     }
   }
 
+  @Test
+  public void statefulDataFollowsPreferenceChanges() {
+    assertThat(SMUT_ORC_CAMP.getMonsterData(true), hasEntry(PIPELAYER, 25.0));
+
+    try (var cleanups = withBanishedMonsters("smut orc pipelayer:snokebomb:2")) {
+      assertThat(SMUT_ORC_CAMP.getMonsterData(true), hasEntry(PIPELAYER, -3.0));
+    }
+
+    assertThat(SMUT_ORC_CAMP.getMonsterData(true), hasEntry(PIPELAYER, 25.0));
+  }
+
+  @Test
+  public void statefulDataFollowsQueueChanges() {
+    AdventureQueueDatabase.resetQueue();
+    var before = SMUT_ORC_CAMP.getMonsterData(true);
+
+    AdventureQueueDatabase.enqueue("The Smut Orc Logging Camp", "smut orc jacker");
+    var after = SMUT_ORC_CAMP.getMonsterData(true);
+
+    assertThat(after.get(JACKER), lessThan(before.get(JACKER)));
+  }
+
+  @Test
+  public void cachedStatefulDataStillReportsPreferencesRead() {
+    SMUT_ORC_CAMP.getMonsterData(true);
+
+    Map<String, String> reads = new HashMap<>();
+    Preferences.startRecording(reads);
+    try {
+      SMUT_ORC_CAMP.getMonsterData(true);
+    } finally {
+      Preferences.stopRecording();
+    }
+
+    assertThat(reads, hasKey("banishedMonsters"));
+  }
+
+  @Test
+  public void allMonsterDataAgreesWithSingleZone() {
+    var adventure = AdventureDatabase.getAdventure("The Smut Orc Logging Camp");
+    var all = AreaCombatData.getAllMonsterData(true);
+
+    assertThat(all, hasEntry(adventure, SMUT_ORC_CAMP.getMonsterData(true)));
+    assertThat(all.keySet(), everyItem(hasProperty("areaSummary", notNullValue())));
+  }
+
+  @Test
+  public void allMonsterDataRecordsReadsForRecordingCaller() {
+    Map<String, String> reads = new HashMap<>();
+
+    Preferences.startRecording(reads);
+    try {
+      AreaCombatData.getAllMonsterData(true);
+    } finally {
+      Preferences.stopRecording();
+    }
+
+    assertThat(reads, hasKey("rwbLocation"));
+  }
+
   @Test
   public void battlefieldHippyUniform() {
     AdventureQueueDatabase.resetQueue();
@@ -0,0 +1,138 @@
+package net.sourceforge.kolmafia;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import net.sourceforge.kolmafia.request.FightRequest;
+import net.sourceforge.kolmafia.request.UseItemRequest;
+import net.sourceforge.kolmafia.session.ChoiceControl;
+import net.sourceforge.kolmafia.session.ResultProcessor;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/* Checks that the classes whose response handling runs for every turn have no method too large
+  to be compiled.
+
+  HotSpot never compiles a method with more than 8000 bytes of bytecode (-XX:HugeMethodLimit),
+  so a response handler which grows past that is interpreted for the whole session.
+*/
+public class MethodSizeTest {
+  private static final int HUGE_METHOD_LIMIT = 8000;
+
+  public static Stream<Arguments> classes() {
+    return Stream.of(
+        Arguments.of(ChoiceControl.class, List.of("postChoice1", "postChoice2", "visitChoice")),
+        Arguments.of(UseItemRequest.class, List.of("parseConsumption")),
+        Arguments.of(ResultProcessor.class, List.of("gainItem")),
+        Arguments.of(FightRequest.class, List.of("payActionCost", "updateFinalRoundData")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("classes")
+  public void everyMethodIsSmallEnoughToCompile(
+      final Class<?> type, final List<String> dispatchers) throws IOException {
+    Map<String, Integer> sizes = codeSizes(type);
+    for (String dispatcher : dispatchers) {
+      assertThat(sizes.keySet(), hasItem(dispatcher));
+    }
+
+    // The static initializer fills the handler registries. It runs once, so it is never worth
+    // compiling.
+    List<String> huge =
+        sizes.entrySet().stream()
+            .filter(e -> !e.getKey().equals("<clinit>") && e.getValue() > HUGE_METHOD_LIMIT)
+            .map(e -> e.getKey() + " (" + e.getValue() + " bytes)")
+            .sorted()
+            .toList();
+    assertThat(type.getSimpleName(), huge, empty());
+  }
+
+  // The largest Code attribute of each method name, read from the class file
+  private static Map<String, Integer> codeSizes(final Class<?> type) throws IOException {
+    String resource = type.getName().replace('.', '/') + ".class";
+    InputStream stream = type.getClassLoader().getResourceAsStream(resource);
+    assertNotNull(stream, resource);
+
+    Map<String, Integer> sizes = new HashMap<>();
+    try (DataInputStream in = new DataInputStream(stream)) {
+      assertThat(in.readInt(), equalTo(0xCAFEBABE));
+      in.readUnsignedShort(); // minor version
+      in.readUnsignedShort(); // major version
+
+      int count = in.readUnsignedShort();
+      String[] utf8 = new String[count];
+      for (int i = 1; i < count; ++i) {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+          case 1 -> utf8[i] = in.readUTF();
+          case 3, 4, 9, 10, 11, 12, 17, 18 -> skip(in, 4);
+          case 5, 6 -> {
+            skip(in, 8);
+            ++i;
+          }
+          case 7, 8, 16, 19, 20 -> skip(in, 2);
+          case 15 -> skip(in, 3);
+          default -> throw new IOException("Unknown constant pool tag " + tag);
+        }
+      }
+
+      skip(in, 6); // access flags, this class, super class
+      skip(in, 2 * in.readUnsignedShort()); // interfaces
+
+      int fields = in.readUnsignedShort();
+      for (int i = 0; i < fields; ++i) {
+        skip(in, 6);
+        skipAttributes(in);
+      }
+
+      int methods = in.readUnsignedShort();
+      for (int i = 0; i < methods; ++i) {
+        skip(in, 2);
+        String name = utf8[in.readUnsignedShort()];
+        skip(in, 2);
+        int attributes = in.readUnsignedShort();
+        for (int j = 0; j < attributes; ++j) {
+          String attribute = utf8[in.readUnsignedShort()];
+          int length = in.readInt();
+          if (attribute.equals("Code")) {
+            skip(in, 4); // max stack, max locals
+            int size = in.readInt();
+            skip(in, length - 8);
+            sizes.merge(name, size, Math::max);
+          } else {
+            skip(in, length);
+          }
+        }
+      }
+
+      // Nothing may follow the class attributes, or the file was misread
+      skipAttributes(in);
+      assertThat(in.read(), equalTo(-1));
+    }
+    return sizes;
+  }
+
+  // Skips the given number of bytes, failing if the class file ends first
+  private static void skip(final DataInputStream in, final int count) throws IOException {
+    assertThat(in.skipBytes(count), equalTo(count));
+  }
+
+  private static void skipAttributes(final DataInputStream in) throws IOException {
+    int attributes = in.readUnsignedShort();
+    for (int i = 0; i < attributes; ++i) {
+      skip(in, 2);
+      skip(in, in.readInt());
+    }
+  }
+}
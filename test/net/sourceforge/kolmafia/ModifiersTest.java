@@ -1595,4 +1595,70 @@ public class ModifiersTest {
       KoLCharacter.removeFamiliar(familiar);
     }
   }
+
+  @Nested
+  class CachedEffects {
+    @AfterEach
+    public void afterEach() {
+      Modifiers.invalidateCaches();
+    }
+
+    @Test
+    public void gainingAndLosingEffectsChangesModifiers() {
+      try (var polka = withEffect("Polka of Plenty")) {
+        KoLCharacter.recalculateAdjustments();
+        assertThat(
+            KoLCharacter.getCurrentModifiers().getDouble(DoubleModifier.MEATDROP), equalTo(50.0));
+
+        try (var leash = withEffect(EffectPool.LEASH_OF_LINGUINI)) {
+          KoLCharacter.recalculateAdjustments();
+          assertThat(
+              KoLCharacter.getCurrentModifiers().getDouble(DoubleModifier.MEATDROP), equalTo(50.0));
+          assertThat(
+              KoLCharacter.getCurrentModifiers().getDouble(DoubleModifier.FAMILIAR_WEIGHT),
+              equalTo(5.0));
+        }
+      }
+
+      KoLCharacter.recalculateAdjustments();
+      assertThat(
+          KoLCharacter.getCurrentModifiers().getDouble(DoubleModifier.MEATDROP), equalTo(0.0));
+    }
+
+    @Test
+    public void overridingEffectModifiersChangesModifiers() {
+      try (var synthesis = withEffect(EffectPool.SYNTHESIS_COLLECTION)) {
+        KoLCharacter.recalculateAdjustments();
+
+        try (var override =
+            withOverrideModifiers(
+                ModifierType.EFFECT, EffectPool.SYNTHESIS_COLLECTION, "Item Drop: +50")) {
+          KoLCharacter.recalculateAdjustments();
+          assertThat(
+              KoLCharacter.getCurrentModifiers().getDouble(DoubleModifier.ITEMDROP), equalTo(50.0));
+        }
+      }
+    }
+
+    @Test
+    public void cachedModifiersMatchRecalculation() {
+      var cleanups =
+          new Cleanups(
+              withProperty("debugModifierCaches", true),
+              withEffect("Polka of Plenty"),
+              withEffect("Fat Leon's Phat Loot Lyric"),
+              withEffect(EffectPool.SYNTHESIS_COLLECTION),
+              withEffect(EffectPool.LEASH_OF_LINGUINI),
+              withSkill(SkillPool.OBSERVATIOGN));
+
+      try (cleanups) {
+        KoLCharacter.recalculateAdjustments();
+        Modifiers first = new Modifiers(KoLCharacter.getCurrentModifiers());
+
+        Modifiers.invalidateCaches();
+        KoLCharacter.recalculateAdjustments();
+        assertThat(first.differences(KoLCharacter.getCurrentModifiers()), empty());
+      }
+    }
+  }
 }
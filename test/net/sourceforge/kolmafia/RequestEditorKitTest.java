@@ -606,6 +606,154 @@ public class RequestEditorKitTest {
     }
   }
 
+  @Nested
+  class PageFixes {
+    private static final String ADVENTURE_AGAIN =
+        "</center></td></tr><tr><td height=4></td></tr></table>";
+
+    @Test
+    void addsPortalLinksInOrder() {
+      var cleanups =
+          new Cleanups(
+              withItem(ItemPool.OVERCHARGED_POWER_SPHERE), withItem(ItemPool.POWER_SPHERE));
+      try (cleanups) {
+        var buffer =
+            new StringBuffer(html("request/test_adventure_fail_due_to_el_vibrato_power.html"));
+        RequestEditorKit.getFeatureRichHTML("adventure.php?snarfblat=164", buffer, true);
+        var expected =
+            "<center><p><a href=\"campground.php?action=overpowerelvibratoportal\">"
+                + "Insert an overcharged El Vibrato power sphere</a></center>"
+                + "<center><p><a href=\"campground.php?action=powerelvibratoportal\">"
+                + "Insert an El Vibrato power sphere</a></center>"
+                + "<center><p><a href=\"campground.php?action=evibratoportal\">"
+                + "Go to your El Vibrato portal</a></center>"
+                + ADVENTURE_AGAIN;
+        assertThat(buffer.toString(), containsString(expected));
+      }
+    }
+
+    @Test
+    void addsNetworkMapLinkBeforeTable() {
+      var buffer = new StringBuffer(html("request/test_adventure_hacked_cyberrealm_zone2.html"));
+      RequestEditorKit.getFeatureRichHTML("adventure.php?snarfblat=586", buffer, true);
+      var expected =
+          "<center><p><a href=\"place.php?whichplace=cyberrealm\">Back to the Network Map</a>"
+              + "</center>"
+              + ADVENTURE_AGAIN;
+      assertThat(buffer.toString(), containsString(expected));
+    }
+
+    @Test
+    void addsBallroomLinksBeforeAdventureAgain() {
+      var html =
+          html("request/test_adventure_spookyraven_ballroom_having_a_ball.html")
+              .replace(
+                  "<p><a href=\"adventure.php?snarfblat=395\">",
+                  "<p><a href=\"adventure.php?snarfblat=395\" id='againlink'>");
+      var buffer = new StringBuffer(html);
+      RequestEditorKit.getFeatureRichHTML("adventure.php?snarfblat=395", buffer, true);
+      var expected =
+          "<p><a href=\"place.php?whichplace=manor3&action=manor3_ladys\">"
+              + "Talk to Lady Spookyraven on the Third Floor</a>"
+              + "<p><a href=\"place.php?whichplace=manor3\">Go to the Third Floor</a>"
+              + "<p><a href=\"adventure.php?snarfblat=395\" id='againlink'>";
+      assertThat(buffer.toString(), containsString(expected));
+    }
+
+    @Test
+    void suppressingDarkModeRecolorsPage() {
+      var cleanups =
+          new Cleanups(
+              withProperty("suppressCyberRealmDarkMode", true),
+              withProperty("suppressCyberRealmGreenImages", true));
+      try (cleanups) {
+        var buffer = new StringBuffer(html("request/test_fight_cyberrealm.html"));
+        RequestEditorKit.getFeatureRichHTML("fight.php", buffer, true);
+        var contents = buffer.toString();
+        assertThat(contents, not(containsString("fixedsys")));
+        assertThat(contents, not(containsString("cyberit = function ()")));
+        assertThat(contents, not(containsString("style=\"background-color: green\"")));
+        assertThat(contents, containsString("style=\"background-color: blue\""));
+        assertThat(contents, containsString("style=\"color: white\""));
+      }
+    }
+
+    // The whole page after the page fixes, checked against a copy decorated as the fixes which
+    // rescanned the page one after another decorated it.
+    private static String fixPage(final String location, final String html) {
+      var buffer = new StringBuffer(html);
+      RequestEditorKit.PAGE_FIXES.decorate(location, buffer);
+      RequestEditorKit.LATE_PAGE_FIXES.decorate(location, buffer);
+      return buffer.toString();
+    }
+
+    @Test
+    void decoratesPortalPage() {
+      var cleanups =
+          new Cleanups(
+              withItem(ItemPool.OVERCHARGED_POWER_SPHERE), withItem(ItemPool.POWER_SPHERE));
+      try (cleanups) {
+        assertEquals(
+            html("request/test_adventure_fail_due_to_el_vibrato_power_decorated.html"),
+            fixPage(
+                "adventure.php?snarfblat=164",
+                html("request/test_adventure_fail_due_to_el_vibrato_power.html")));
+      }
+    }
+
+    @Test
+    void decoratesHackedCyberRealmPage() {
+      assertEquals(
+          html("request/test_adventure_hacked_cyberrealm_zone2_decorated.html"),
+          fixPage(
+              "adventure.php?snarfblat=586",
+              html("request/test_adventure_hacked_cyberrealm_zone2.html")));
+    }
+
+    @Test
+    void decoratesCyberRealmFightPage() {
+      var cleanups =
+          new Cleanups(
+              withProperty("suppressCyberRealmDarkMode", true),
+              withProperty("suppressCyberRealmGreenImages", true));
+      try (cleanups) {
+        assertEquals(
+            html("request/test_fight_cyberrealm_decorated.html"),
+            fixPage("fight.php", html("request/test_fight_cyberrealm.html")));
+      }
+    }
+
+    @Test
+    void decoratesBallroomPage() {
+      var html =
+          html("request/test_adventure_spookyraven_ballroom_having_a_ball.html")
+              .replace(
+                  "<p><a href=\"adventure.php?snarfblat=395\">",
+                  "<p><a href=\"adventure.php?snarfblat=395\" id='againlink'>");
+      assertEquals(
+          html("request/test_adventure_spookyraven_ballroom_having_a_ball_decorated.html"),
+          fixPage("adventure.php?snarfblat=395", html));
+    }
+
+    @Test
+    void decoratesRottingMatildaPage() {
+      var cleanups = new Cleanups(withItem(ItemPool.DANCE_CARD), withPasswordHash("pwd"));
+      try (cleanups) {
+        assertEquals(
+            html("request/test_haunted_ballroom_rotting_matilda_decorated.html"),
+            fixPage(
+                "adventure.php?snarfblat=395",
+                html("request/test_haunted_ballroom_rotting_matilda.html")));
+      }
+    }
+
+    @Test
+    void leavesPageWithoutAnchorsAlone() {
+      var html = html("request/test_adventure_hallowiener_secret_government_laboratory.html");
+      assertEquals(html, fixPage("adventure.php?snarfblat=218", html));
+    }
+  }
+
   @Test
   void decoratesFightDec2024() {
     var html = html("request/test_fight_dec2024.html");
@@ -0,0 +1,163 @@
+package net.sourceforge.kolmafia;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.sourceforge.kolmafia.RequestThread.TaskScope;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RequestThreadTest {
+  @Nested
+  class TaskScopes {
+    @Test
+    public void hundredsOfBlockedTasksRunAtOnce() throws InterruptedException {
+      int tasks = 500;
+      var started = new CountDownLatch(tasks);
+      var release = new CountDownLatch(1);
+      var virtual = new AtomicInteger();
+
+      try (var scope = new TaskScope(true, tasks)) {
+        for (int i = 0; i < tasks; i++) {
+          scope.fork(
+              () -> {
+                if (Thread.currentThread().isVirtual()) {
+                  virtual.incrementAndGet();
+                }
+                started.countDown();
+                try {
+                  // Like a relay agent waiting on the server
+                  release.await();
+                } catch (InterruptedException e) {
+                  throw new RuntimeException(e);
+                }
+              });
+        }
+
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        release.countDown();
+
+        assertThat(scope.join(), is(true));
+      }
+
+      assertThat(virtual.get(), equalTo(tasks));
+    }
+
+    @Test
+    public void noMoreThanTheLimitRunAtOnce() {
+      var running = new AtomicInteger();
+      var most = new AtomicInteger();
+
+      try (var scope = new TaskScope(true, 10)) {
+        for (int i = 0; i < 200; i++) {
+          scope.fork(
+              () -> {
+                most.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                  Thread.sleep(1);
+                } catch (InterruptedException e) {
+                  throw new RuntimeException(e);
+                }
+                running.decrementAndGet();
+              });
+        }
+
+        assertThat(scope.join(), is(true));
+      }
+
+      assertThat(most.get(), lessThanOrEqualTo(10));
+    }
+
+    @Test
+    public void progressIsReportedForEachTask() {
+      var received = new ArrayList<Integer>();
+
+      try (var scope = new TaskScope(true, 4)) {
+        for (int i = 0; i < 5; i++) {
+          scope.fork(() -> {});
+        }
+
+        assertThat(scope.join(received::add), is(true));
+      }
+
+      assertThat(received, equalTo(List.of(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void aFailedTaskFailsTheJoin() {
+      try (var scope = new TaskScope(true, 4)) {
+        scope.fork(() -> {});
+        scope.fork(
+            () -> {
+              throw new IllegalStateException();
+            });
+
+        assertThat(scope.join(), is(false));
+      }
+    }
+
+    @Test
+    public void cancellingInterruptsBlockedTasks() throws InterruptedException {
+      int tasks = 200;
+      var started = new CountDownLatch(tasks);
+      var never = new CountDownLatch(1);
+      var interrupted = new AtomicInteger();
+
+      try (var scope = new TaskScope(true, tasks)) {
+        for (int i = 0; i < tasks; i++) {
+          scope.fork(
+              () -> {
+                started.countDown();
+                try {
+                  never.await();
+                } catch (InterruptedException e) {
+                  interrupted.incrementAndGet();
+                }
+              });
+        }
+
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        RequestThread.cancelTasks();
+
+        assertThat(scope.join(), is(false));
+        assertThat(scope.isCancelled(), is(true));
+      }
+
+      // Closing waited for every task to stop
+      assertThat(interrupted.get(), equalTo(tasks));
+    }
+
+    @Test
+    public void tasksForkedAfterCancellingNeverRun() {
+      var ran = new AtomicInteger();
+
+      try (var scope = new TaskScope(true, 4)) {
+        scope.cancel();
+        scope.fork(ran::incrementAndGet);
+
+        assertThat(scope.join(), is(false));
+      }
+
+      assertThat(ran.get(), equalTo(0));
+    }
+  }
+
+  @Test
+  public void runInParallelRunsEveryAction() {
+    var ran = new AtomicInteger();
+    List<Runnable> actions = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      actions.add(ran::incrementAndGet);
+    }
+
+    assertThat(RequestThread.runInParallel(actions, false), is(true));
+    assertThat(ran.get(), equalTo(300));
+  }
+}
@@ -0,0 +1,106 @@
+package net.sourceforge.kolmafia.combat;
+
+import static internal.helpers.Player.withItem;
+import static internal.helpers.Player.withProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import internal.helpers.Cleanups;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.objectpool.ItemPool;
+import net.sourceforge.kolmafia.request.FightRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MacroCacheTest {
+  @BeforeEach
+  public void beforeEach() {
+    KoLCharacter.reset("MacroCacheTest");
+    CombatActionManager.loadStrategyLookup("default");
+    MonsterStatusTracker.resetLastMonster();
+    FightRequest.setMacroPrefixLength(0);
+    MacroCache.clear();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    CombatActionManager.loadStrategyLookup("default");
+    MacroCache.clear();
+  }
+
+  private static Cleanups withCustomCombat() {
+    return withProperty("battleAction", "custom combat script");
+  }
+
+  @Test
+  public void reusesMacroWhileNothingItCheckedChanges() {
+    var cleanups = withCustomCombat();
+
+    try (cleanups) {
+      CombatActionManager.setDefaultAction("attack with weapon");
+
+      String macro = Macrofier.macrofy();
+
+      assertThat(MacroCache.lookup("", 0), equalTo(macro));
+      assertThat(Macrofier.macrofy(), equalTo(macro));
+    }
+  }
+
+  @Test
+  public void forgetsMacroWhenACheckedPreferenceChanges() {
+    var cleanups = withCustomCombat();
+
+    try (cleanups) {
+      CombatActionManager.setDefaultAction("attack with weapon");
+      Macrofier.macrofy();
+
+      try (var threshold = withProperty("autoAbortThreshold", "0.5")) {
+        assertThat(MacroCache.lookup("", 0), nullValue());
+      }
+    }
+  }
+
+  @Test
+  public void forgetsMacroWhenTheStrategyChanges() {
+    var cleanups = withCustomCombat();
+
+    try (cleanups) {
+      CombatActionManager.setDefaultAction("attack with weapon");
+      Macrofier.macrofy();
+
+      CombatActionManager.setDefaultAction("runaway");
+
+      assertThat(MacroCache.lookup("", 0), nullValue());
+    }
+  }
+
+  @Test
+  public void forgetsMacroWhenTheSharedSubroutinesWouldChange() {
+    var cleanups =
+        new Cleanups(
+            withCustomCombat(), withItem(ItemPool.ANTIDOTE), withProperty("autoAntidote", 0));
+
+    try (cleanups) {
+      CombatActionManager.setDefaultAction("attack with weapon");
+      Macrofier.macrofy();
+
+      try (var antidote = withProperty("autoAntidote", 2)) {
+        assertThat(MacroCache.lookup("", 0), nullValue());
+      }
+    }
+  }
+
+  @Test
+  public void doesNotCacheSpecialActions() {
+    var cleanups = withCustomCombat();
+
+    try (cleanups) {
+      CombatActionManager.setDefaultAction("special action; attack with weapon");
+      Macrofier.macrofy();
+
+      assertThat(MacroCache.lookup("", 0), nullValue());
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package net.sourceforge.kolmafia.listener;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ListenerRegistryTest {
+  private static class CountingListener implements Listener {
+    int updates = 0;
+
+    @Override
+    public void update() {
+      this.updates++;
+    }
+  }
+
+  @AfterEach
+  public void afterEach() {
+    ListenerRegistry.setCoalescing(false);
+  }
+
+  @Test
+  public void firesImmediatelyByDefault() {
+    var registry = new ListenerRegistry();
+    var listener = new CountingListener();
+    registry.registerListener("a", listener);
+
+    registry.fireListener("a");
+    registry.fireListener("a");
+
+    assertThat(listener.updates, is(2));
+  }
+
+  @Test
+  public void coalescedFiresUpdateEachListenerOnce() {
+    ListenerRegistry.setCoalescing(true);
+    var registry = new ListenerRegistry();
+    var listener = new CountingListener();
+    registry.registerListener("a", listener);
+    registry.registerListener("b", listener);
+
+    registry.fireListener("a");
+    registry.fireListener("b");
+    registry.fireListener("a");
+    assertThat(listener.updates, is(0));
+
+    registry.flushPending();
+    assertThat(listener.updates, is(1));
+  }
+
+  @Test
+  public void deferredFiresAreCoalescedWhenUndeferred() {
+    ListenerRegistry.setCoalescing(true);
+    var registry = new ListenerRegistry();
+    var listener = new CountingListener();
+    registry.registerListener("a", listener);
+
+    registry.deferListeners(true);
+    registry.fireListener("a");
+    registry.deferListeners(false);
+    assertThat(listener.updates, is(0));
+
+    registry.flushPending();
+    assertThat(listener.updates, is(1));
+  }
+}
@@ -0,0 +1,131 @@
+package net.sourceforge.kolmafia.maximizer;
+
+import static internal.helpers.Player.withEffect;
+import static internal.helpers.Player.withFamiliar;
+import static internal.helpers.Player.withStats;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import internal.helpers.Cleanups;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import net.sourceforge.kolmafia.AdventureResult;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.ModifierType;
+import net.sourceforge.kolmafia.objectpool.EffectPool;
+import net.sourceforge.kolmafia.objectpool.FamiliarPool;
+import net.sourceforge.kolmafia.persistence.ModifierDatabase;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.session.EquipmentManager;
+import net.sourceforge.kolmafia.utilities.IntOrString;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class EffectScoresTest {
+  @BeforeAll
+  public static void beforeAll() {
+    KoLCharacter.reset("EffectScoresTest");
+    Preferences.reset("EffectScoresTest");
+  }
+
+  private static List<Integer> allEffects() {
+    List<Integer> effectIds = new ArrayList<>();
+    for (Map.Entry<IntOrString, String> entry :
+        ModifierDatabase.getAllModifiersOfType(ModifierType.EFFECT)) {
+      if (entry.getKey().isInt() && entry.getKey().getIntValue() != -1) {
+        effectIds.add(entry.getKey().getIntValue());
+      }
+    }
+    return effectIds;
+  }
+
+  // Scores every effect both ways and checks that the quick scores match full recalculations.
+  // Returns how many effects were scored quickly.
+  private static int checkScores(final String expression) {
+    KoLCharacter.recalculateAdjustments();
+    Maximizer.eval = new Evaluator(expression);
+    double current =
+        Maximizer.eval.getScore(
+            KoLCharacter.getCurrentModifiers(), EquipmentManager.currentEquipment());
+
+    List<Integer> effectIds = allEffects();
+    EffectScores scores = new EffectScores(effectIds, current);
+
+    int quick = 0;
+    for (int effectId : effectIds) {
+      Double delta = scores.getDelta(effectId);
+      if (delta == null) {
+        continue;
+      }
+
+      AdventureResult effect = EffectPool.get(effectId);
+      MaximizerSpeculation spec = new MaximizerSpeculation();
+      if (KoLConstants.activeEffects.contains(effect)) {
+        spec.removeEffect(effect);
+      } else {
+        spec.addEffect(effect);
+      }
+      assertThat(effect.getName(), delta, closeTo(spec.getScore() - current, 1e-9));
+      quick++;
+    }
+    return quick;
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "meat",
+        "item",
+        "mus",
+        "hp, mp",
+        "familiar weight",
+        "ml, exp",
+        "init",
+        "-combat",
+        "spell damage percent, hot res",
+        "all res, 10 dr, 0.5 da"
+      })
+  public void quickScoresMatchRecalculation(final String expression) {
+    var cleanups = new Cleanups(withStats(100, 100, 100), withFamiliar(FamiliarPool.MOSQUITO));
+
+    try (cleanups) {
+      assertThat(checkScores(expression), greaterThan(500));
+    }
+  }
+
+  @Test
+  public void quickScoresMatchRecalculationOfLostEffects() {
+    var cleanups =
+        new Cleanups(
+            withFamiliar(FamiliarPool.BABY_GRAVY_FAIRY),
+            withEffect("Polka of Plenty"),
+            withEffect("The Sonata of Sneakiness"),
+            withEffect("Fat Leon's Phat Loot Lyric"),
+            withEffect(EffectPool.LEASH_OF_LINGUINI),
+            withEffect(EffectPool.BENDIN_HELL));
+
+    try (cleanups) {
+      checkScores("meat, item, -combat, familiar weight, hot damage");
+    }
+  }
+
+  @Test
+  public void effectsWhichChangeOtherModifiersAreRecalculated() {
+    KoLCharacter.recalculateAdjustments();
+    Maximizer.eval = new Evaluator("item");
+    EffectScores scores =
+        new EffectScores(
+            List.of(EffectPool.LEASH_OF_LINGUINI, EffectPool.BENDIN_HELL, EffectPool.EMPATHY),
+            0.0);
+
+    assertThat(scores.getDelta(EffectPool.LEASH_OF_LINGUINI), nullValue());
+    assertThat(scores.getDelta(EffectPool.BENDIN_HELL), nullValue());
+    assertThat(scores.getDelta(EffectPool.EMPATHY), nullValue());
+  }
+}
@@ -0,0 +1,156 @@
+package net.sourceforge.kolmafia.maximizer;
+
+import static internal.helpers.Maximizer.getBoosts;
+import static internal.helpers.Maximizer.maximize;
+import static internal.helpers.Player.withEffect;
+import static internal.helpers.Player.withEquippableItem;
+import static internal.helpers.Player.withEquipped;
+import static internal.helpers.Player.withItem;
+import static internal.helpers.Player.withProperty;
+import static internal.matchers.Maximizer.recommendsSlot;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+
+import internal.helpers.Cleanups;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.equipment.Slot;
+import net.sourceforge.kolmafia.objectpool.ItemPool;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MaximizerCacheTest {
+  @BeforeAll
+  public static void beforeAll() {
+    KoLCharacter.reset("MaximizerCacheTest");
+    Preferences.reset("MaximizerCacheTest");
+  }
+
+  @BeforeEach
+  public void beforeEach() {
+    MaximizerCache.clear();
+  }
+
+  @Test
+  public void repeatedSearchIsReused() {
+    var cleanups = new Cleanups(withEquippableItem("helmet turtle"));
+
+    try (cleanups) {
+      maximize("mus");
+      maximize("  MUS ");
+
+      assertThat(MaximizerCache.getMisses(), equalTo(1));
+      assertThat(MaximizerCache.getHits(), equalTo(1));
+      assertThat(getBoosts(), hasItem(recommendsSlot(Slot.HAT, "helmet turtle")));
+    }
+  }
+
+  @Test
+  public void wearingTheOutfitFoundIsNotAChange() {
+    var cleanups = new Cleanups(withEquippableItem("helmet turtle"));
+
+    try (cleanups) {
+      maximize("mus");
+
+      // Move the helmet from inventory onto the character's head, as equipping the outfit would
+      var equipped =
+          new Cleanups(
+              withItem(ItemPool.HELMET_TURTLE, -1), withEquipped(Slot.HAT, "helmet turtle"));
+      try (equipped) {
+        maximize("mus");
+      }
+
+      assertThat(MaximizerCache.getMisses(), equalTo(1));
+      assertThat(MaximizerCache.getHits(), equalTo(1));
+    }
+  }
+
+  @Test
+  public void wearingSomethingElseIsSearchedFor() {
+    var cleanups = new Cleanups(withEquippableItem("seal-clubbing club"));
+
+    try (cleanups) {
+      maximize("mys");
+
+      // Carrying the same things, but wearing one the search did not choose
+      var equipped =
+          new Cleanups(
+              withItem(ItemPool.SEAL_CLUB, -1), withEquipped(Slot.WEAPON, "seal-clubbing club"));
+      try (equipped) {
+        maximize("mys");
+      }
+
+      assertThat(MaximizerCache.getHits(), equalTo(0));
+      assertThat(MaximizerCache.getLastMissChanges(), hasItem(startsWith("worn: ")));
+    }
+  }
+
+  @Test
+  public void cacheCanBeTurnedOff() {
+    var cleanups =
+        new Cleanups(withEquippableItem("helmet turtle"), withProperty("maximizerCache", false));
+
+    try (cleanups) {
+      maximize("mus");
+      maximize("mus");
+
+      assertThat(MaximizerCache.getHits(), equalTo(0));
+      assertThat(MaximizerCache.size(), equalTo(0));
+      assertThat(getBoosts(), hasItem(recommendsSlot(Slot.HAT, "helmet turtle")));
+    }
+  }
+
+  @Test
+  public void newItemIsSearchedFor() {
+    var cleanups = new Cleanups(withEquippableItem("helmet turtle"));
+
+    try (cleanups) {
+      maximize("mus");
+
+      try (var more = withEquippableItem("seal-clubbing club")) {
+        maximize("mus");
+      }
+
+      assertThat(MaximizerCache.getMisses(), equalTo(2));
+      assertThat(MaximizerCache.getHits(), equalTo(0));
+      assertThat(MaximizerCache.getLastMissChanges(), hasItem(startsWith("inventory: +[")));
+    }
+  }
+
+  @Test
+  public void newEffectIsSearchedFor() {
+    var cleanups = new Cleanups(withEquippableItem("helmet turtle"));
+
+    try (cleanups) {
+      maximize("mus");
+
+      try (var effect = withEffect("Seal Clubbing Frenzy")) {
+        maximize("mus");
+      }
+
+      assertThat(MaximizerCache.getHits(), equalTo(0));
+      assertThat(MaximizerCache.getLastMissChanges(), hasItem(startsWith("effects: ")));
+    }
+  }
+
+  @Test
+  public void changedPreferenceIsSearchedFor() {
+    var cleanups =
+        new Cleanups(
+            withEquippableItem("helmet turtle"), withProperty("maximizerFoldables", true));
+
+    try (cleanups) {
+      maximize("mus");
+
+      try (var property = withProperty("maximizerFoldables", false)) {
+        maximize("mus");
+      }
+
+      assertThat(MaximizerCache.getHits(), equalTo(0));
+      assertThat(MaximizerCache.getLastMissChanges(), hasItem("maximizerFoldables: true -> false"));
+    }
+  }
+}
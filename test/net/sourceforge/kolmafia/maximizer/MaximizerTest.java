@@ -63,6 +63,7 @@ import net.sourceforge.kolmafia.persistence.AdventureDatabase.Environment;
 import net.sourceforge.kolmafia.preferences.Preferences;
 import net.sourceforge.kolmafia.session.EquipmentManager;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -75,6 +76,11 @@ public class MaximizerTest {
     Preferences.reset("MaximizerTest");
   }
 
+  @BeforeEach
+  public void beforeEach() {
+    MaximizerCache.clear();
+  }
+
   // basic
 
   @Test
@@ -0,0 +1,124 @@
+package net.sourceforge.kolmafia.moods;
+
+import static internal.helpers.Player.withSkill;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import internal.helpers.Cleanups;
+import java.util.List;
+import java.util.stream.Stream;
+import net.sourceforge.kolmafia.KoLCharacter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MoodPlanTest {
+  @BeforeEach
+  public void beforeEach() {
+    KoLCharacter.reset("MoodPlanTest");
+  }
+
+  @AfterEach
+  public void afterEach() {
+    KoLCharacter.reset("");
+  }
+
+  private static List<MoodTrigger> triggers(final String... lines) {
+    return Stream.of(lines).map(MoodTrigger::constructNode).toList();
+  }
+
+  private static List<String> steps(final MoodPlan plan) {
+    return plan.getSteps().stream().map(Object::toString).toList();
+  }
+
+  private static Cleanups withPastaSkills() {
+    return new Cleanups(
+        withSkill("Empathy of the Newt"),
+        withSkill("Leash of Linguini"),
+        withSkill("Springy Fusilli"));
+  }
+
+  @Test
+  public void castsWhatFitsBeforeRestoring() {
+    var cleanups = withPastaSkills();
+
+    try (cleanups) {
+      var triggers =
+          triggers(
+              "lose_effect leash of linguini => cast 1 leash of linguini",
+              "lose_effect springy fusilli => cast 1 springy fusilli",
+              "lose_effect empathy => cast 1 empathy of the newt");
+
+      // Empathy is the most expensive cast that fits, and one restore covers the other two
+      MoodPlan plan = MoodPlan.plan(triggers, 1, 22, 40);
+
+      assertThat(
+          steps(plan),
+          contains(
+              "cast 1 Empathy of the Newt (15 MP)",
+              "restore MP to 22",
+              "cast 1 Leash of Linguini (12 MP)",
+              "cast 1 Springy Fusilli (10 MP)"));
+      assertThat(plan.getRestoreCount(), equalTo(1));
+      assertThat(plan.getRequestCount(), equalTo(4));
+    }
+  }
+
+  @Test
+  public void needsNoRestoreWhenEverythingFits() {
+    var cleanups = withPastaSkills();
+
+    try (cleanups) {
+      var triggers =
+          triggers(
+              "lose_effect leash of linguini => cast 1 leash of linguini",
+              "lose_effect empathy => cast 1 empathy of the newt");
+
+      MoodPlan plan = MoodPlan.plan(triggers, 1, 40, 40);
+
+      assertThat(
+          steps(plan),
+          contains("cast 1 Empathy of the Newt (15 MP)", "cast 1 Leash of Linguini (12 MP)"));
+      assertThat(plan.getRestoreCount(), equalTo(0));
+    }
+  }
+
+  @Test
+  public void mergesCastsOfTheSameSkill() {
+    var cleanups = withPastaSkills();
+
+    try (cleanups) {
+      var triggers =
+          triggers(
+              "lose_effect empathy => cast 1 empathy of the newt",
+              "unconditional => cast 2 empathy of the newt");
+
+      MoodPlan plan = MoodPlan.plan(triggers, 1, 100, 100);
+
+      assertThat(steps(plan), contains("cast 3 Empathy of the Newt (45 MP)"));
+      assertThat(plan.getRequestCount(), equalTo(1));
+    }
+  }
+
+  @Test
+  public void splitsCastsLargerThanMaximumMP() {
+    var cleanups = withPastaSkills();
+
+    try (cleanups) {
+      var triggers = triggers("lose_effect empathy => cast 1 empathy of the newt");
+
+      MoodPlan plan = MoodPlan.plan(triggers, 5, 40, 40);
+
+      assertThat(
+          steps(plan),
+          contains(
+              "cast 2 Empathy of the Newt (30 MP)",
+              "restore MP to 40",
+              "cast 2 Empathy of the Newt (30 MP)",
+              "restore MP to 15",
+              "cast 1 Empathy of the Newt (15 MP)"));
+      assertThat(plan.getRestoreCount(), equalTo(2));
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package net.sourceforge.kolmafia.objectpool;
+
+import static internal.helpers.Player.withAdventuresLeft;
+import static internal.helpers.Player.withCocktailKit;
+import static internal.helpers.Player.withItem;
+import static internal.helpers.Player.withMeat;
+import static internal.helpers.Player.withRange;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import internal.helpers.Cleanups;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.persistence.ConcoctionDatabase;
+import net.sourceforge.kolmafia.preferences.Preferences;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConcoctionSolverTest {
+  @BeforeEach
+  void beforeEach() {
+    KoLCharacter.reset(true);
+    KoLCharacter.reset("ConcoctionSolverTest");
+    Preferences.reset("ConcoctionSolverTest");
+  }
+
+  private record Totals(int total, int creatable, int freeTotal) {
+    Totals(final Concoction c) {
+      this(c.total, c.creatable, c.freeTotal);
+    }
+  }
+
+  // Solves every concoction, then checks each against Concoction's own search
+  private static void assertSolverMatchesSearch() {
+    ConcoctionDatabase.refreshConcoctionsNow();
+    ConcoctionSolver.solve(ConcoctionPool.concoctions());
+
+    Map<Concoction, Totals> solved = new IdentityHashMap<>();
+    for (Concoction c : ConcoctionPool.concoctions()) {
+      solved.put(c, new Totals(c));
+    }
+
+    for (Concoction c : ConcoctionPool.concoctions()) {
+      if (c.speakeasy != null) {
+        continue;
+      }
+
+      c.calculate2();
+      c.calculate3();
+      assertThat(c.getName(), new Totals(c), equalTo(solved.get(c)));
+    }
+  }
+
+  @Test
+  public void matchesSearchWithNothing() {
+    assertSolverMatchesSearch();
+  }
+
+  @Test
+  public void matchesSearchWithIngredientsAndMeat() {
+    var cleanups =
+        new Cleanups(
+            withItem(ItemPool.MEAT_PASTE, 3),
+            withItem(ItemPool.DRY_NOODLES, 4),
+            withItem(ItemPool.SPICES, 2),
+            withItem(ItemPool.BOTTLE_OF_GIN, 2),
+            withItem(ItemPool.LEMON, 5),
+            withItem(ItemPool.GRAPEFRUIT, 1),
+            withItem(ItemPool.STRAWBERRY, 3),
+            withItem(ItemPool.TWINKLY_WAD, 6),
+            withMeat(5000));
+
+    try (cleanups) {
+      assertSolverMatchesSearch();
+    }
+  }
+
+  @Test
+  public void matchesSearchWithKitchenTools() {
+    var cleanups =
+        new Cleanups(
+            withRange(),
+            withCocktailKit(),
+            withAdventuresLeft(10),
+            withItem(ItemPool.DRY_NOODLES, 4),
+            withItem(ItemPool.SPICES, 2),
+            withItem(ItemPool.BOTTLE_OF_GIN, 2),
+            withItem(ItemPool.LEMON, 5),
+            withMeat(100000));
+
+    try (cleanups) {
+      assertSolverMatchesSearch();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package net.sourceforge.kolmafia.persistence;
+
+import static internal.helpers.Utilities.deleteSerFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.TreeMap;
+import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.utilities.RollingLinkedList;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdventureQueueDatabaseTest {
+  private static final String USER = "adventure_queue_database_user";
+
+  @BeforeAll
+  public static void beforeAll() {
+    KoLCharacter.reset(USER);
+  }
+
+  @BeforeEach
+  public void beforeEach() {
+    deleteSerFiles(USER);
+    AdventureQueueDatabase.resetQueue();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    deleteSerFiles(USER);
+  }
+
+  @Test
+  public void queueKeepsOnlyTheLastFiveEncounters() {
+    for (var monster :
+        List.of(
+            "smut orc jacker",
+            "smut orc nailer",
+            "smut orc pipelayer",
+            "smut orc screwer",
+            "smut orc pervert",
+            "fluffy bunny",
+            "Knob Goblin Elite Guard Captain")) {
+      AdventureQueueDatabase.enqueue("The Smut Orc Logging Camp", monster);
+    }
+
+    assertThat(
+        AdventureQueueDatabase.getZoneQueue("The Smut Orc Logging Camp"),
+        contains(
+            "smut orc pipelayer",
+            "smut orc screwer",
+            "smut orc pervert",
+            "fluffy bunny",
+            "Knob Goblin Elite Guard Captain"));
+  }
+
+  @Test
+  public void encountersAreSavedAsTheyHappen() {
+    AdventureQueueDatabase.enqueue("The Smut Orc Logging Camp", "smut orc jacker");
+    AdventureQueueDatabase.enqueueNoncombat("The Smut Orc Logging Camp", "Nothing to Lose");
+
+    // Simulate a restart without logging out
+    AdventureQueueDatabase.deserialize();
+
+    assertThat(
+        AdventureQueueDatabase.getZoneQueue("The Smut Orc Logging Camp"),
+        contains("smut orc jacker"));
+    assertThat(
+        AdventureQueueDatabase.getZoneNoncombatQueue("The Smut Orc Logging Camp"),
+        contains("Nothing to Lose"));
+  }
+
+  @Test
+  public void unknownZonesAreIgnored() {
+    AdventureQueueDatabase.enqueue("Nowhere in Particular", "smut orc jacker");
+
+    assertThat(AdventureQueueDatabase.getZoneQueue("The Smut Orc Logging Camp"), empty());
+  }
+
+  @Test
+  public void oldQueueFilesAreConverted() throws IOException {
+    var combats = new TreeMap<String, RollingLinkedList<String>>();
+    var queue = new RollingLinkedList<String>(5);
+    queue.add("smut orc screwer");
+    combats.put("The Smut Orc Logging Camp", queue);
+
+    File legacy = new File(KoLConstants.DATA_LOCATION, USER + "_queue.ser");
+    try (var out = new ObjectOutputStream(new FileOutputStream(legacy))) {
+      out.writeObject(List.of(combats, new TreeMap<String, RollingLinkedList<String>>()));
+    }
+    new File(KoLConstants.DATA_LOCATION, USER + "_queue.dat").delete();
+
+    AdventureQueueDatabase.deserialize();
+
+    assertThat(
+        AdventureQueueDatabase.getZoneQueue("The Smut Orc Logging Camp"),
+        contains("smut orc screwer"));
+    assertThat(legacy.exists(), is(false));
+  }
+}
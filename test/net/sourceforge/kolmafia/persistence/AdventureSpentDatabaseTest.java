@@ -1,6 +1,7 @@
 package net.sourceforge.kolmafia.persistence;
 
 import static internal.helpers.Networking.html;
+import static internal.helpers.Utilities.deleteSerFiles;
 import static org.junit.jupiter.api.Assertions.*;
 
 import net.sourceforge.kolmafia.AdventureResult;
@@ -46,6 +47,7 @@ public class AdventureSpentDatabaseTest {
     KoLAdventure.setLastAdventure("");
     AdventureSpentDatabase.resetTurns(false);
     KoLConstants.inventory.clear();
+    deleteSerFiles("adventure_spent_database_user");
   }
 
   @Test
@@ -70,6 +72,24 @@ public class AdventureSpentDatabaseTest {
     assertEquals(0, AdventureSpentDatabase.getTotalTrackedTurns());
   }
 
+  @Test
+  public void turnsAreSavedAsTheyAreSpent() {
+    AdventureSpentDatabase.serialize();
+
+    KoLAdventure pantry = AdventureDatabase.getAdventure("The Haunted Pantry");
+    AdventureSpentDatabase.addTurn(pantry);
+    AdventureSpentDatabase.addTurn(pantry);
+    AdventureSpentDatabase.setTurns("The Haunted Bedroom", 3);
+
+    // Simulate a restart without logging out
+    AdventureSpentDatabase.resetTurns(false);
+    AdventureSpentDatabase.deserialize();
+
+    assertEquals(2, AdventureSpentDatabase.getTurns(pantry));
+    assertEquals(3, AdventureSpentDatabase.getTurns("The Haunted Bedroom"));
+    assertEquals(5, AdventureSpentDatabase.getTotalTrackedTurns());
+  }
+
   @Test
   public void canCountFightChoiceFightInHauntedBedroom() {
     // Every encounter in The Haunted Bedroom is a fight followed by a choice adventure.
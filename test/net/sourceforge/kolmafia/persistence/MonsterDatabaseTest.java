@@ -0,0 +1,71 @@
+package net.sourceforge.kolmafia.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import net.sourceforge.kolmafia.AscensionPath.Path;
+import net.sourceforge.kolmafia.MonsterData;
+import org.junit.jupiter.api.Test;
+
+public class MonsterDatabaseTest {
+  @Test
+  public void lookupsAgreeOnTheSameMonster() {
+    var byName = MonsterDatabase.findMonster("Knob Goblin Elite Guard Captain");
+    assertThat(byName, not(nullValue()));
+
+    var byId = MonsterDatabase.findMonsterById(byName.getId());
+    assertThat(byId, sameInstance(byName));
+    assertThat(MonsterDatabase.getMonsterName(byName.getId()), is(byName.getName()));
+  }
+
+  @Test
+  public void knownNamesAgreeWithLookups() {
+    assertThat(MonsterDatabase.isKnownMonster("fluffy bunny"), is(true));
+    assertThat(MonsterDatabase.isKnownMonster("The fluffy bunny"), is(true));
+    assertThat(MonsterDatabase.isKnownMonster("fluffy bunny rabbit"), is(false));
+    assertThat(MonsterDatabase.findMonster("fluffy bunny rabbit"), nullValue());
+  }
+
+  @Test
+  public void monstersAreBuiltWithAttributesAndDrops() {
+    var monster = MonsterDatabase.findMonster("fluffy bunny");
+
+    assertThat(monster.getPhylum(), is(MonsterDatabase.Phylum.BEAST));
+    assertThat(
+        monster.getItems().stream().map(drop -> drop.item().getName()).toList(),
+        hasItem("bunny liver"));
+  }
+
+  @Test
+  public void edStagesShareTheBaseId() {
+    MonsterData[] monsters = MonsterDatabase.findMonsters("Ed the Undying (1)", false);
+
+    assertThat(monsters, arrayWithSize(1));
+    assertThat(monsters[0].getId(), equalTo(473));
+  }
+
+  @Test
+  public void valueSetIncludesIndexedMonsters() {
+    var monster = MonsterDatabase.findMonster("fluffy bunny");
+
+    assertThat(MonsterDatabase.valueSet(), hasItem(monster));
+  }
+
+  @Test
+  public void pathMapsHoldTheMonstersLookupsFind() {
+    var map = MonsterDatabase.getMonsterPathMap(Path.YOU_ROBOT.getName());
+
+    assertThat(
+        map,
+        hasEntry(
+            sameInstance(MonsterDatabase.findMonster("Boss Bat")),
+            sameInstance(MonsterDatabase.findMonster("Boss Bot"))));
+  }
+}
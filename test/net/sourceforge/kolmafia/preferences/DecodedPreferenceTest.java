@@ -0,0 +1,69 @@
+package net.sourceforge.kolmafia.preferences;
+
+import static internal.helpers.Player.withProperty;
+import static internal.matchers.Preference.isSetTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.sourceforge.kolmafia.KoLCharacter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DecodedPreferenceTest {
+  private final AtomicInteger decodes = new AtomicInteger();
+  private DecodedPreference<List<String>> decoded;
+
+  @BeforeEach
+  public void beforeEach() {
+    KoLCharacter.reset("DecodedPreferenceTest");
+    Preferences.reset("DecodedPreferenceTest");
+    this.decodes.set(0);
+    this.decoded =
+        new DecodedPreference<>(
+            "banishedMonsters",
+            value -> {
+              this.decodes.incrementAndGet();
+              return value.isEmpty() ? List.of() : Arrays.asList(value.split(":"));
+            },
+            list -> String.join(":", list));
+  }
+
+  @Test
+  public void decodesOnlyOncePerValue() {
+    try (var cleanups = withProperty("banishedMonsters", "a:b")) {
+      var first = this.decoded.get();
+      var second = this.decoded.get();
+
+      assertThat(first, contains("a", "b"));
+      assertThat(second, sameInstance(first));
+      assertThat(this.decodes.get(), is(1));
+    }
+  }
+
+  @Test
+  public void decodesAgainAfterExternalEdit() {
+    try (var cleanups = withProperty("banishedMonsters", "a:b")) {
+      this.decoded.get();
+      Preferences.setString("banishedMonsters", "c");
+
+      assertThat(this.decoded.get(), contains("c"));
+      assertThat(this.decodes.get(), is(2));
+    }
+  }
+
+  @Test
+  public void setEncodesWithoutDecoding() {
+    try (var cleanups = withProperty("banishedMonsters", "")) {
+      this.decoded.set(List.of("d", "e"));
+
+      assertThat("banishedMonsters", isSetTo("d:e"));
+      assertThat(this.decoded.get(), contains("d", "e"));
+      assertThat(this.decodes.get(), is(0));
+    }
+  }
+}
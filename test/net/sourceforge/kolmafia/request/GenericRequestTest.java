@@ -5,6 +5,7 @@ import static internal.helpers.Networking.html;
 import static internal.helpers.Player.*;
 import static internal.matchers.Preference.isSetTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
@@ -14,16 +15,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import internal.helpers.Cleanups;
 import internal.network.FakeHttpClientBuilder;
 import internal.network.FakeHttpResponse;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Map;
 import net.sourceforge.kolmafia.KoLAdventure;
 import net.sourceforge.kolmafia.KoLCharacter;
+import net.sourceforge.kolmafia.KoLConstants;
 import net.sourceforge.kolmafia.KoLConstants.MafiaState;
 import net.sourceforge.kolmafia.StaticEntity;
 import net.sourceforge.kolmafia.ZodiacSign;
 import net.sourceforge.kolmafia.equipment.Slot;
 import net.sourceforge.kolmafia.objectpool.AdventurePool;
 import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.session.DescriptionCache;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -310,6 +317,68 @@ public class GenericRequestTest {
     }
   }
 
+  @Nested
+  class DescriptionPages {
+    private static final String URL = "desc_item.php?whichitem=800334855";
+
+    @BeforeEach
+    @AfterEach
+    public void clearCache() {
+      DescriptionCache.clear();
+    }
+
+    @Test
+    public void savedPageIsProcessedWithoutBeingLoaded() {
+      var builder = new FakeHttpClientBuilder();
+      var cleanups =
+          new Cleanups(
+              withHttpClientBuilder(builder),
+              withProperty("cacheDescriptionPages", true),
+              withProperty("sweat", 0));
+      try (cleanups) {
+        var text = html("request/test_desc_item_designer_sweatpants_100_sweat.html");
+        DescriptionCache.put(URL, text);
+
+        var request = new GenericRequest(URL);
+        request.useDescriptionCache = true;
+        request.run();
+
+        assertThat(builder.client.getRequests(), empty());
+        assertThat(request.responseText, equalTo(text));
+        assertThat("sweat", isSetTo(100));
+      }
+    }
+
+    @Test
+    public void pagesSavedByAnotherVersionAreLoadedAgain() throws IOException {
+      var builder = new FakeHttpClientBuilder();
+      var cleanups =
+          new Cleanups(
+              withHttpClientBuilder(builder),
+              withProperty("cacheDescriptionPages", true),
+              withProperty("sweat", 50));
+      try (cleanups) {
+        DescriptionCache.put(
+            URL, html("request/test_desc_item_designer_sweatpants_100_sweat.html"));
+        var index = new File(KoLConstants.CACHE_LOCATION, "descriptions/index.txt");
+        var text = Files.readString(index.toPath());
+        Files.writeString(
+            index.toPath(), text.replaceFirst("version\t[^\n]*", "version\tKoLmafia r1"));
+        DescriptionCache.reset();
+
+        builder.client.addResponse(
+            200, html("request/test_desc_item_designer_sweatpants_0_sweat.html"));
+        var request = new GenericRequest(URL);
+        request.useDescriptionCache = true;
+        request.run();
+
+        assertThat(builder.client.getRequests(), hasSize(1));
+        assertThat("sweat", isSetTo(0));
+        assertThat(DescriptionCache.contains(URL), equalTo(true));
+      }
+    }
+  }
+
   @Nested
   class DistantWoodsGetaway {
     @Test
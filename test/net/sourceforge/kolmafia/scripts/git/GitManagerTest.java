@@ -16,6 +16,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import net.sourceforge.kolmafia.KoLConstants.MafiaState;
 import net.sourceforge.kolmafia.StaticEntity;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.transport.URIish;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 @DisabledOnOs(
     value = {OS.WINDOWS},
@@ -329,6 +332,94 @@ public class GitManagerTest {
     }
   }
 
+  @Nested
+  class LocalRemoteTests {
+    private static final String first = "local-remote-1";
+    private static final String second = "local-remote-2";
+
+    @TempDir Path remotes;
+
+    @AfterEach
+    public void removeRepos() {
+      removeGitIfExists(first);
+      removeGitIfExists(second);
+    }
+
+    /** Create a bare repository with one script, and install a clone of it as a project. */
+    private Git installLocal(String id) throws Exception {
+      var work = Git.init().setDirectory(remotes.resolve(id).toFile()).call();
+      commit(work, id, "1");
+      var remote = remotes.resolve(id + ".git");
+      Git.cloneRepository()
+          .setBare(true)
+          .setURI(remotes.resolve(id).toUri().toString())
+          .setDirectory(remote.toFile())
+          .call()
+          .close();
+      work.remoteAdd().setName("origin").setUri(new URIish(remote.toUri().toString())).call();
+      Git.cloneRepository()
+          .setURI(remote.toUri().toString())
+          .setDirectory(Paths.get("git", id).toFile())
+          .call()
+          .close();
+      CliCaller.callCli("git", "sync " + id);
+      return work;
+    }
+
+    private void commit(Git work, String id, String text) throws Exception {
+      var script = work.getRepository().getWorkTree().toPath().resolve("scripts/" + id + ".ash");
+      Files.createDirectories(script.getParent());
+      Files.writeString(script, text);
+      work.add().addFilepattern(".").call();
+      work.commit().setMessage("version " + text).setAuthor("test", "test@localhost").call();
+    }
+
+    private void push(Git work, String id, String text) throws Exception {
+      commit(work, id, text);
+      work.push().setRemote("origin").add(work.getRepository().getBranch()).call();
+    }
+
+    @Test
+    public void updateWithNothingNewChangesNothing() throws Exception {
+      try (var ignored = installLocal(first)) {
+        String output = CliCaller.callCli("git", "update");
+        assertThat(output, containsString("No changes"));
+        assertThat(Files.readString(Paths.get("scripts", first + ".ash")), equalTo("1"));
+      }
+    }
+
+    @Test
+    public void updatesEveryProject() throws Exception {
+      try (var one = installLocal(first);
+          var two = installLocal(second)) {
+        push(one, first, "2");
+        push(two, second, "2");
+
+        String output = CliCaller.callCli("git", "update");
+
+        assertThat(output, containsString("Updating project " + first));
+        assertThat(output, containsString("Updating project " + second));
+        assertThat(Files.readString(Paths.get("scripts", first + ".ash")), equalTo("2"));
+        assertThat(Files.readString(Paths.get("scripts", second + ".ash")), equalTo("2"));
+        assertEquals(MafiaState.CONTINUE, StaticEntity.getContinuationState());
+      }
+    }
+
+    @Test
+    public void updatesOneProject() throws Exception {
+      try (var one = installLocal(first);
+          var two = installLocal(second)) {
+        push(one, first, "2");
+        push(two, second, "2");
+
+        CliCaller.callCli("git", "update " + first);
+
+        assertThat(Files.readString(Paths.get("scripts", first + ".ash")), equalTo("2"));
+        assertThat(Files.readString(Paths.get("scripts", second + ".ash")), equalTo("1"));
+      }
+    }
+  }
+
   private static void installGit(String id, String params, boolean hasDeps) {
     String output = CliCaller.callCli("git", "checkout " + params);
     if (hasDeps) {
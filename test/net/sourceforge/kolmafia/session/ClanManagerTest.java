@@ -0,0 +1,143 @@
+package net.sourceforge.kolmafia.session;
+
+import static internal.helpers.Player.withHttpClientBuilder;
+import static internal.helpers.Player.withProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import internal.helpers.Cleanups;
+import internal.network.FakeHttpClient;
+import internal.network.FakeHttpClientBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.sourceforge.kolmafia.KoLConstants;
+import net.sourceforge.kolmafia.RequestThread;
+import net.sourceforge.kolmafia.persistence.ProfileSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClanManagerTest {
+  private static final int CLAN_ID = 90210;
+  private static final String[] MEMBERS = {"Alice", "Bob", "Carol", "Dave"};
+  private static final String PROFILE = "<html><body>A clan member's profile</body></html>";
+
+  @BeforeEach
+  public void beforeEach() {
+    ClanManager.setClan(CLAN_ID, "Clan Manager Test");
+    for (int i = 0; i < MEMBERS.length; i++) {
+      ContactManager.registerPlayerId(MEMBERS[i], String.valueOf(1000 + i));
+      ClanManager.registerMember(MEMBERS[i], "10", "Member");
+    }
+    this.deleteFiles();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    this.deleteFiles();
+    ClanManager.clearCache(true);
+  }
+
+  private void deleteFiles() {
+    for (String name : MEMBERS) {
+      new File(KoLConstants.ROOT_LOCATION, "clan/profiles/" + ClanManager.getFileName(name))
+          .delete();
+    }
+    new File(KoLConstants.ROOT_LOCATION, "clan/" + CLAN_ID + "/members.txt").delete();
+  }
+
+  // Holds each request until two are waiting, so that a fetch which sends one request at a time
+  // is answered only after a long wait.
+  private static class ConcurrentClient extends FakeHttpClient {
+    private final CountDownLatch waiting = new CountDownLatch(2);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger mostInFlight = new AtomicInteger();
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler)
+        throws IOException, InterruptedException {
+      this.mostInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+      try {
+        this.waiting.countDown();
+        this.waiting.await(5, TimeUnit.SECONDS);
+        return super.send(request, responseBodyHandler);
+      } finally {
+        this.inFlight.decrementAndGet();
+      }
+    }
+  }
+
+  // Never answers; a request waits until its task is cancelled.
+  private static class SilentClient extends FakeHttpClient {
+    private final CountDownLatch sent = new CountDownLatch(1);
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler)
+        throws IOException, InterruptedException {
+      this.sent.countDown();
+      Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      return super.send(request, responseBodyHandler);
+    }
+  }
+
+  @Test
+  public void memberProfilesAreFetchedConcurrently() {
+    var builder = new FakeHttpClientBuilder();
+    var client = new ConcurrentClient();
+    builder.client = client;
+    for (int i = 0; i < MEMBERS.length; i++) {
+      client.addResponse(200, PROFILE);
+    }
+
+    var cleanups =
+        new Cleanups(
+            withHttpClientBuilder(builder), withProperty("clanSnapshotRequestDelay", 0));
+
+    try (cleanups) {
+      ClanManager.retrieveMemberData(true, false);
+
+      assertThat(client.getRequests(), hasSize(MEMBERS.length));
+      assertThat(client.mostInFlight.get(), greaterThan(1));
+      for (String name : MEMBERS) {
+        assertThat(
+            ProfileSnapshot.getProfileMap().get(name.toLowerCase()),
+            containsString("A clan member's profile"));
+      }
+    }
+  }
+
+  @Test
+  public void cancellingTasksStopsFetchingProfiles() throws InterruptedException {
+    var builder = new FakeHttpClientBuilder();
+    var client = new SilentClient();
+    builder.client = client;
+
+    var cleanups =
+        new Cleanups(
+            withHttpClientBuilder(builder), withProperty("clanSnapshotRequestDelay", 0));
+
+    try (cleanups) {
+      Thread fetcher = new Thread(() -> ClanManager.retrieveMemberData(true, false));
+      fetcher.start();
+
+      assertThat(client.sent.await(5, TimeUnit.SECONDS), is(true));
+      RequestThread.cancelTasks();
+      fetcher.join(TimeUnit.SECONDS.toMillis(5));
+
+      assertThat(fetcher.isAlive(), is(false));
+      for (String name : MEMBERS) {
+        assertThat(ProfileSnapshot.getProfileMap().get(name.toLowerCase()), equalTo(""));
+      }
+    }
+  }
+}
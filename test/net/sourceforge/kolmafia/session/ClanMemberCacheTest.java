@@ -0,0 +1,53 @@
+package net.sourceforge.kolmafia.session;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.File;
+import net.sourceforge.kolmafia.KoLConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClanMemberCacheTest {
+  private static final File CACHE_FILE =
+      new File(KoLConstants.ROOT_LOCATION, "clan/0/ClanMemberCacheTest.txt");
+
+  @BeforeEach
+  @AfterEach
+  public void deleteCacheFile() {
+    CACHE_FILE.delete();
+  }
+
+  @Test
+  public void startsEmptyWithoutAFile() {
+    var cache = new ClanMemberCache(CACHE_FILE);
+
+    assertThat(cache.get("Veracity"), nullValue());
+  }
+
+  @Test
+  public void savedEntriesCanBeLoaded() {
+    var cache = new ClanMemberCache(CACHE_FILE);
+    cache.put(
+        "Veracity", new ClanMemberCache.Entry("13", "Seeker of Truth", 1234L, "clan/0/202610/"));
+    cache.save();
+
+    var loaded = new ClanMemberCache(CACHE_FILE);
+
+    assertThat(
+        loaded.get("veracity"),
+        equalTo(new ClanMemberCache.Entry("13", "Seeker of Truth", 1234L, "clan/0/202610/")));
+  }
+
+  @Test
+  public void entriesMatchAnUnchangedRosterEntry() {
+    var entry = new ClanMemberCache.Entry("13", "Seeker of Truth", 1234L, "clan/0/202610/");
+
+    assertThat(entry.matches("13", "Seeker of Truth"), is(true));
+    assertThat(entry.matches("1", "Seeker of Truth"), is(false));
+    assertThat(entry.matches("13", "Sorcerer"), is(false));
+  }
+}
@@ -0,0 +1,114 @@
+package net.sourceforge.kolmafia.session;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import net.sourceforge.kolmafia.KoLConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DescriptionCacheTest {
+  private static final File DIRECTORY = new File(KoLConstants.CACHE_LOCATION, "descriptions");
+
+  @BeforeEach
+  @AfterEach
+  public void clearCache() {
+    DescriptionCache.clear();
+  }
+
+  @Test
+  public void urlsAreNormalized() {
+    assertThat(
+        DescriptionCache.normalize("desc_skill.php?whichskill=67&pwd=abc&self=true"),
+        equalTo("desc_skill.php?self=true&whichskill=67"));
+    assertThat(DescriptionCache.normalize("desc_item.php?pwd"), equalTo("desc_item.php"));
+  }
+
+  @Test
+  public void onlyDescriptionPagesAreCacheable() {
+    assertThat(DescriptionCache.isCacheable("desc_item.php?whichitem=123"), is(true));
+    assertThat(DescriptionCache.isCacheable("desc_familiar.php?which=1"), is(true));
+    assertThat(DescriptionCache.isCacheable("inventory.php?which=1"), is(false));
+    assertThat(DescriptionCache.isCacheable("desc_guardian.php"), is(false));
+  }
+
+  @Test
+  public void savedPagesAreReadBackInLaterSessions() {
+    DescriptionCache.put("desc_item.php?whichitem=123&pwd=abc", "<html>seal-clubbing club</html>");
+    DescriptionCache.reset();
+
+    assertThat(DescriptionCache.size(), equalTo(1));
+    assertThat(
+        DescriptionCache.get("desc_item.php?whichitem=123"),
+        equalTo("<html>seal-clubbing club</html>"));
+    assertThat(DescriptionCache.get("desc_item.php?whichitem=124"), nullValue());
+  }
+
+  @Test
+  public void pagesWithTheSameTextAreStoredOnce() {
+    DescriptionCache.put("desc_effect.php?whicheffect=abc", "<html>same</html>");
+    DescriptionCache.put("desc_effect.php?whicheffect=def", "<html>same</html>");
+
+    File[] pages = DIRECTORY.listFiles((dir, name) -> name.endsWith(".html"));
+
+    assertThat(DescriptionCache.size(), equalTo(2));
+    assertThat(pages.length, equalTo(1));
+  }
+
+  @Test
+  public void damagedPagesAreIgnored() throws IOException {
+    DescriptionCache.put("desc_item.php?whichitem=123", "<html>seal-clubbing club</html>");
+    File[] pages = DIRECTORY.listFiles((dir, name) -> name.endsWith(".html"));
+    Files.writeString(pages[0].toPath(), "<html>seal-clubbing cl");
+
+    assertThat(DescriptionCache.get("desc_item.php?whichitem=123"), nullValue());
+  }
+
+  @Test
+  public void pagesSavedByAnotherVersionAreDropped() throws IOException {
+    DescriptionCache.put("desc_item.php?whichitem=123", "<html>seal-clubbing club</html>");
+    File index = new File(DIRECTORY, "index.txt");
+    String text = Files.readString(index.toPath());
+    Files.writeString(index.toPath(), text.replaceFirst("version\t[^\n]*", "version\tKoLmafia r1"));
+    DescriptionCache.reset();
+
+    assertThat(DescriptionCache.get("desc_item.php?whichitem=123"), nullValue());
+    assertThat(DescriptionCache.size(), equalTo(0));
+  }
+
+  @Test
+  public void indexIsRewrittenWhenMostlySuperseded() throws IOException {
+    for (int i = 0; i < 1000; i++) {
+      DescriptionCache.put("desc_item.php?whichitem=" + (i % 10), "<html>version " + i + "</html>");
+    }
+
+    File index = new File(DIRECTORY, "index.txt");
+    File[] temporary = DIRECTORY.listFiles((dir, name) -> name.endsWith(".tmp"));
+
+    assertThat(DescriptionCache.getIndexLines(), equalTo(10));
+    assertThat(Files.readAllLines(index.toPath()), hasSize(11));
+    assertThat(temporary.length, equalTo(0));
+
+    DescriptionCache.reset();
+
+    assertThat(DescriptionCache.size(), equalTo(10));
+    assertThat(
+        DescriptionCache.get("desc_item.php?whichitem=3"), equalTo("<html>version 993</html>"));
+  }
+
+  @Test
+  public void indexWithFewSupersededLinesIsOnlyAppended() {
+    for (int i = 0; i < 20; i++) {
+      DescriptionCache.put("desc_item.php?whichitem=1", "<html>version " + i + "</html>");
+    }
+
+    assertThat(DescriptionCache.getIndexLines(), equalTo(20));
+  }
+}
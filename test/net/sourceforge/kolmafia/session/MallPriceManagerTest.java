@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -619,6 +620,42 @@ public class MallPriceManagerTest {
     }
   }
 
+  @Test
+  public void knownMallPricesAreNotPrefetched() {
+    AdventureResult item = ItemPool.get(ItemPool.REAGENT);
+    int itemId = item.getItemId();
+    try (var cleanups = mockClock()) {
+      long timestamp = 1_000_000;
+      Mockito.when(clock.millis()).thenReturn(timestamp);
+
+      assertFalse(MallPriceManager.hasMallPrice(itemId));
+
+      addSearchResults(item, generateSearchResults(item, getTestPrices()));
+
+      assertTrue(MallPriceManager.hasMallPrice(itemId));
+      assertEquals(0, MallPriceManager.prefetchMallPrices(List.of(itemId, itemId)));
+    }
+  }
+
+  @Test
+  public void databasePricesOlderThanMaxAgeAreNotKnown() {
+    AdventureResult item = ItemPool.get(ItemPool.REAGENT);
+    int itemId = item.getItemId();
+    try (var cleanups = mockClock()) {
+      long timestamp = 1_000_000_000;
+      Mockito.when(clock.millis()).thenReturn(timestamp);
+
+      addSearchResults(item, generateSearchResults(item, getTestPrices()));
+      assertTrue(MallPriceManager.hasMallPrice(itemId, 7.0f));
+
+      // Eight days later, the shared price is too old, though this session's search is not
+      Mockito.when(clock.millis()).thenReturn(timestamp + 8 * 86_400_000L);
+      assertFalse(MallPriceManager.hasMallPrice(itemId, 7.0f));
+      assertTrue(MallPriceManager.hasMallPrice(itemId, 10.0f));
+      assertTrue(MallPriceManager.hasMallPrice(itemId));
+    }
+  }
+
   // *** Need tests for getMallPrice(AdventureResult item, float maxAge)
 
   @Test
@@ -0,0 +1,224 @@
+package net.sourceforge.kolmafia.session;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.sourceforge.kolmafia.RequestThread;
+import net.sourceforge.kolmafia.session.RefreshPlan.Effects;
+import org.junit.jupiter.api.Test;
+
+class RefreshPlanTest {
+  // Stands in for a request: "fetches" for the given time, then processes in turn
+  private static Runnable fetch(final List<String> processed, final String name, final int ms) {
+    return () -> {
+      try {
+        Thread.sleep(ms);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      RefreshPlan.awaitTurn();
+      processed.add(name);
+    };
+  }
+
+  @Test
+  public void responsesAreProcessedInOrder() {
+    List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+    new RefreshPlan("test")
+        .step("a", Effects.READS, fetch(processed, "a", 60))
+        .step("b", Effects.READS, fetch(processed, "b", 30))
+        .step("c", Effects.READS, fetch(processed, "c", 0))
+        .step("d", Effects.LOCAL, () -> processed.add("d"))
+        .step("e", Effects.READS, fetch(processed, "e", 10))
+        .run(4);
+
+    assertThat(processed, contains("a", "b", "c", "d", "e"));
+  }
+
+  @Test
+  public void independentFetchesOverlap() throws InterruptedException {
+    int steps = 4;
+    var fetching = new CountDownLatch(steps);
+    var overlapped = new AtomicInteger();
+
+    RefreshPlan plan = new RefreshPlan("test");
+    for (int i = 0; i < steps; i++) {
+      plan.step(
+          "step " + i,
+          Effects.READS,
+          () -> {
+            fetching.countDown();
+            try {
+              if (fetching.await(5, TimeUnit.SECONDS)) {
+                overlapped.incrementAndGet();
+              }
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            RefreshPlan.awaitTurn();
+          });
+    }
+    plan.run(steps);
+
+    assertThat(overlapped.get(), equalTo(steps));
+  }
+
+  @Test
+  public void stepsWaitForTheirDependencies() {
+    List<String> started = Collections.synchronizedList(new ArrayList<>());
+
+    new RefreshPlan("test")
+        .step("a", Effects.READS, fetch(started, "a", 50))
+        .step(
+            "b",
+            Effects.READS,
+            () -> {
+              // Runs only once "a" has been processed
+              started.add(started.contains("a") ? "b after a" : "b before a");
+              RefreshPlan.awaitTurn();
+            },
+            "a")
+        .run(4);
+
+    assertThat(started, contains("a", "b after a"));
+  }
+
+  @Test
+  public void nothingStartsBeforeAWriteFinishes() {
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    new RefreshPlan("test")
+        .step("read", Effects.READS, fetch(events, "read", 20))
+        .step(
+            "write",
+            Effects.WRITES,
+            () -> {
+              events.add("write start");
+              try {
+                Thread.sleep(20);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              events.add("write end");
+            })
+        .step(
+            "after",
+            Effects.READS,
+            () -> {
+              events.add("after start");
+              RefreshPlan.awaitTurn();
+            })
+        .run(4);
+
+    assertThat(events, contains("read", "write start", "write end", "after start"));
+  }
+
+  @Test
+  public void stepsDoNotNeedTheSharedPool() {
+    // Occupy every thread of the shared pool, so that none is left for the plan's steps
+    var release = new CountDownLatch(1);
+    for (int i = 0; i < 200; i++) {
+      RequestThread.runInParallel(
+          () -> {
+            try {
+              release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          },
+          false);
+    }
+
+    try {
+      List<String> processed = Collections.synchronizedList(new ArrayList<>());
+      RefreshPlan plan = new RefreshPlan("test");
+      plan.step("head", Effects.READS, fetch(processed, "head", 50));
+      for (int i = 0; i < 8; i++) {
+        plan.step("step " + i, Effects.READS, fetch(processed, "step " + i, 0));
+      }
+
+      assertTimeoutPreemptively(Duration.ofSeconds(10), () -> plan.run(4));
+      assertThat(processed.get(0), equalTo("head"));
+      assertThat(processed.size(), equalTo(9));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void noMoreThanTheGivenNumberOfStepsRun() {
+    var running = new AtomicInteger();
+    var most = new AtomicInteger();
+
+    RefreshPlan plan = new RefreshPlan("test");
+    for (int i = 0; i < 20; i++) {
+      plan.step(
+          "step " + i,
+          Effects.READS,
+          () -> {
+            most.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+              Thread.sleep(2);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            RefreshPlan.awaitTurn();
+            running.decrementAndGet();
+          });
+    }
+    plan.run(3);
+
+    assertThat(most.get(), lessThanOrEqualTo(3));
+  }
+
+  @Test
+  public void oneThreadRunsStepsInOrderOnTheCallingThread() {
+    List<String> processed = new ArrayList<>();
+    Thread caller = Thread.currentThread();
+
+    new RefreshPlan("test")
+        .step("a", Effects.READS, () -> processed.add(Thread.currentThread() == caller ? "a" : ""))
+        .step("b", Effects.WRITES, () -> processed.add(Thread.currentThread() == caller ? "b" : ""))
+        .run(1);
+
+    assertThat(processed, contains("a", "b"));
+  }
+
+  @Test
+  public void criticalPathFollowsWhatHeldEachStepUp() {
+    List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+    RefreshPlan plan =
+        new RefreshPlan("test")
+            .step("slow", Effects.READS, fetch(processed, "slow", 100))
+            .step("quick", Effects.READS, fetch(processed, "quick", 0))
+            .step("after slow", Effects.READS, fetch(processed, "after slow", 50), "slow");
+    plan.run(4);
+
+    assertThat(plan.getCriticalPath(), contains("slow", "after slow"));
+  }
+
+  @Test
+  public void dependenciesMustBeEarlierSteps() {
+    var plan = new RefreshPlan("test");
+
+    var e =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> plan.step("a", Effects.READS, () -> {}, "b"));
+    assertThat(e.getMessage(), is("Step a depends on b, which is not an earlier step"));
+  }
+}
@@ -0,0 +1,92 @@
+package net.sourceforge.kolmafia.session;
+
+import static internal.helpers.Player.withProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import net.sourceforge.kolmafia.preferences.Preferences;
+import net.sourceforge.kolmafia.session.RequestMetrics.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestMetricsTest {
+  @BeforeEach
+  @AfterEach
+  public void resetMetrics() {
+    RequestMetrics.setEnabled(false);
+    RequestMetrics.reset();
+  }
+
+  @Test
+  public void nothingIsTimedWhenDisabled() {
+    try (var timer = RequestMetrics.time(Phase.ROUND_TRIP, "fight.php")) {
+      assertThat(timer, nullValue());
+    }
+
+    assertThat(RequestMetrics.getHistograms(), aMapWithSize(0));
+  }
+
+  @Test
+  public void phasesAreTimedPerPage() {
+    RequestMetrics.setEnabled(true);
+
+    for (int i = 0; i < 3; i++) {
+      try (var timer = RequestMetrics.time(Phase.ROUND_TRIP, "fight.php")) {}
+    }
+    try (var timer = RequestMetrics.time(Phase.ROUND_TRIP, "choice.php")) {}
+    try (var timer = RequestMetrics.time(Phase.DECORATE, "fight.php")) {}
+
+    var histograms = RequestMetrics.getHistograms();
+
+    assertThat(histograms, aMapWithSize(2));
+    assertThat(histograms.get(Phase.ROUND_TRIP), aMapWithSize(2));
+    assertThat(histograms.get(Phase.ROUND_TRIP).get("fight.php").getCount(), equalTo(3L));
+    assertThat(histograms.get(Phase.ROUND_TRIP).get("choice.php").getCount(), equalTo(1L));
+    assertThat(histograms.get(Phase.DECORATE).get("fight.php").getCount(), equalTo(1L));
+  }
+
+  @Test
+  public void preferenceTurnsTimingOnAndOff() {
+    RequestMetrics.initialize();
+
+    try (var cleanups = withProperty("requestMetrics", true)) {
+      assertThat(RequestMetrics.isEnabled(), is(true));
+
+      Preferences.setBoolean("requestMetrics", false);
+      assertThat(RequestMetrics.isEnabled(), is(false));
+    }
+  }
+
+  @Test
+  public void resetClearsHistograms() {
+    RequestMetrics.setEnabled(true);
+    try (var timer = RequestMetrics.time(Phase.PREPARE, "main.php")) {}
+
+    RequestMetrics.reset();
+
+    assertThat(RequestMetrics.getHistograms(), aMapWithSize(0));
+  }
+
+  @Test
+  public void histogramsAreWrittenInPrometheusFormat() {
+    RequestMetrics.setEnabled(true);
+    try (var timer = RequestMetrics.time(Phase.PROCESS_RESPONSE, "fight.php")) {}
+
+    String text = RequestMetrics.toPrometheus();
+
+    assertThat(text, containsString("# TYPE kolmafia_phase_seconds histogram\n"));
+    assertThat(
+        text,
+        containsString(
+            "kolmafia_phase_seconds_bucket{phase=\"processResponse\",page=\"fight.php\",le=\"+Inf\"} 1\n"));
+    assertThat(
+        text,
+        containsString(
+            "kolmafia_phase_seconds_count{phase=\"processResponse\",page=\"fight.php\"} 1\n"));
+  }
+}
@@ -1,7 +1,16 @@
 package net.sourceforge.kolmafia.swingui.widget;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.JList;
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
 import net.java.dev.spellcast.utilities.LockableListModel;
 import org.junit.jupiter.api.Test;
 
@@ -15,4 +24,150 @@ public class AutoFilterTextFieldTest {
 
     assertTrue(autoFilterTextField.isVisible("ALPHA"));
   }
+
+  private static List<String> visible(final LockableListModel<String> model) {
+    List<String> visible = new ArrayList<>();
+    for (int i = 0; i < model.getSize(); ++i) {
+      visible.add(model.getElementAt(i));
+    }
+    return visible;
+  }
+
+  @Test
+  public void settingTextFiltersTheModel() {
+    var model = new LockableListModel<String>();
+    model.addAll(List.of("alpha", "beta", "gamma", "delta"));
+    AutoFilterTextField<String> autoFilterTextField = new AutoFilterTextField<>(model);
+
+    autoFilterTextField.setText("ta");
+    assertThat(visible(model), contains("beta", "delta"));
+
+    autoFilterTextField.setText("");
+    assertThat(visible(model), contains("alpha", "beta", "gamma", "delta"));
+  }
+
+  @Test
+  public void selectionStaysOnTheSameElementWhenTheFilterChanges() {
+    var model = new LockableListModel<String>();
+    model.addAll(List.of("alpha", "beta", "gamma", "delta", "epsilon"));
+    var list = new JList<>(model);
+    list.setSelectedValue("delta", false);
+
+    model.setFilter(element -> !element.equals("beta"));
+    model.updateFilter(false);
+    assertThat(visible(model), contains("alpha", "gamma", "delta", "epsilon"));
+    assertThat(list.getSelectedValue(), equalTo("delta"));
+
+    model.setFilter(element -> !element.equals("epsilon"));
+    model.updateFilter(false);
+    assertThat(visible(model), contains("alpha", "beta", "gamma", "delta"));
+    assertThat(list.getSelectedValue(), equalTo("delta"));
+  }
+
+  private static final int LONG_LIST_SIZE = 600;
+
+  private static LockableListModel<String> longList() {
+    var model = new LockableListModel<String>();
+    for (int i = 0; i < LONG_LIST_SIZE; ++i) {
+      model.add("item " + i);
+    }
+    return model;
+  }
+
+  // Types the text as a user would, on the Swing thread
+  private static void type(final AutoFilterTextField<String> field, final String text)
+      throws Exception {
+    SwingUtilities.invokeAndWait(
+        () -> {
+          try {
+            var document = field.getDocument();
+            document.remove(0, document.getLength());
+            document.insertString(0, text, null);
+          } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+          }
+          field.scheduleUpdate();
+        });
+  }
+
+  private static List<String> visibleNow(final LockableListModel<String> model)
+      throws Exception {
+    List<List<String>> visible = new ArrayList<>();
+    SwingUtilities.invokeAndWait(() -> visible.add(visible(model)));
+    return visible.get(0);
+  }
+
+  // Waits for the list to be filtered down to the given number of elements
+  private static List<String> awaitVisible(final LockableListModel<String> model, final int size)
+      throws Exception {
+    long deadline = System.currentTimeMillis() + 5000;
+    List<String> visible = visibleNow(model);
+    while (visible.size() != size && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      visible = visibleNow(model);
+    }
+    return visible;
+  }
+
+  @Test
+  public void longListIsFilteredOnceTypingPauses() throws Exception {
+    var model = longList();
+    AutoFilterTextField<String> autoFilterTextField = new AutoFilterTextField<>(model);
+
+    type(autoFilterTextField, "item 5");
+    type(autoFilterTextField, "item 59");
+    type(autoFilterTextField, "item 599");
+
+    // Nothing is filtered until the typing stops
+    assertThat(visibleNow(model).size(), equalTo(LONG_LIST_SIZE));
+
+    assertThat(awaitVisible(model, 1), contains("item 599"));
+  }
+
+  @Test
+  public void longerTextNarrowsTheLastMatches() throws Exception {
+    var model = longList();
+    AutoFilterTextField<String> autoFilterTextField = new AutoFilterTextField<>(model);
+
+    type(autoFilterTextField, "item 5");
+    assertThat(awaitVisible(model, 111).size(), equalTo(111));
+
+    type(autoFilterTextField, "item 55");
+    assertThat(
+        awaitVisible(model, 11),
+        contains(
+            "item 55", "item 550", "item 551", "item 552", "item 553", "item 554", "item 555",
+            "item 556", "item 557", "item 558", "item 559"));
+
+    // Going back to shorter text checks everything again
+    type(autoFilterTextField, "item 1");
+    assertThat(awaitVisible(model, 111).size(), equalTo(111));
+  }
+
+  @Test
+  public void narrowingStillChecksWhatTheTextDoesNotDecide() throws Exception {
+    var model = longList();
+    var showOdd = new AtomicBoolean(false);
+    AutoFilterTextField<String> autoFilterTextField =
+        new AutoFilterTextField<>(model) {
+          @Override
+          public boolean isVisible(final Object element) {
+            assertTrue(SwingUtilities.isEventDispatchThread());
+            int number = Integer.parseInt(element.toString().substring(5));
+            return (showOdd.get() || number % 2 == 0) && super.isVisible(element);
+          }
+        };
+
+    type(autoFilterTextField, "item 1");
+    assertThat(awaitVisible(model, 55).size(), equalTo(55));
+
+    // Elements hidden for something other than the text come back as the text narrows
+    showOdd.set(true);
+    type(autoFilterTextField, "item 12");
+    assertThat(
+        awaitVisible(model, 11),
+        contains(
+            "item 12", "item 120", "item 121", "item 122", "item 123", "item 124", "item 125",
+            "item 126", "item 127", "item 128", "item 129"));
+  }
 }
@@ -1,9 +1,22 @@
 package net.sourceforge.kolmafia.textui;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JEditorPane;
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
+import net.java.dev.spellcast.utilities.ChatBuffer;
 import net.sourceforge.kolmafia.chat.ChatFormatter;
 import net.sourceforge.kolmafia.chat.ChatManager;
 import net.sourceforge.kolmafia.chat.InternalMessage;
@@ -64,4 +77,62 @@ public class ChatBufferTest {
     // it, it should remain unchanged.
     assertTrue(builder.toString().contains(displayHTML));
   }
+
+  @Test
+  public void oldestWholeMessagesAreDroppedWhenFull() {
+    ChatBuffer buffer = new ChatBuffer("test");
+    String padding = "x".repeat(93);
+    for (int i = 0; i < 1000; i++) {
+      buffer.append(String.format("%03d%s<br>", i, padding));
+    }
+
+    String content = buffer.getContent();
+
+    assertThat(content.length(), lessThanOrEqualTo(50000));
+    assertThat(content.length() % 100, equalTo(0));
+    assertThat(content, endsWith("999" + padding + "<br>"));
+    assertThat(content, startsWith((1000 - content.length() / 100) + padding + "<br>"));
+    buffer.dispose();
+  }
+
+  private static String displayText(final JEditorPane display) throws Exception {
+    List<String> text = new ArrayList<>();
+    SwingUtilities.invokeAndWait(
+        () -> {
+          try {
+            text.add(display.getDocument().getText(0, display.getDocument().getLength()));
+          } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+          }
+        });
+    return text.get(0);
+  }
+
+  @Test
+  public void displaysDropTheOldestLinesAsTheBufferDoes() throws Exception {
+    ChatBuffer buffer = new ChatBuffer("test");
+    JEditorPane display = new JEditorPane();
+    SwingUtilities.invokeAndWait(() -> buffer.addDisplay(display));
+
+    String padding = "x".repeat(93);
+    for (int i = 0; i < 1000; i++) {
+      buffer.append(String.format("%03d%s<br>", i, padding));
+    }
+
+    // Wait for the frame which shows the last message
+    String last = "999" + padding;
+    long deadline = System.currentTimeMillis() + 5000;
+    String text = displayText(display);
+    while (!text.contains(last) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      text = displayText(display);
+    }
+
+    // The display starts where the buffer does
+    int first = 1000 - buffer.getContent().length() / 100;
+    assertThat(text, containsString(last));
+    assertThat(text, containsString(String.format("%03d%s", first, padding)));
+    assertThat(text, not(containsString(String.format("%03d%s", first - 1, padding))));
+    buffer.dispose();
+  }
 }
@@ -4,11 +4,14 @@ import static internal.helpers.Player.withAdventuresSpent;
 import static internal.helpers.Player.withProperty;
 import static internal.helpers.Utilities.deleteSerFiles;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 
 import internal.helpers.Cleanups;
 import net.sourceforge.kolmafia.KoLCharacter;
 import net.sourceforge.kolmafia.objectpool.AdventurePool;
+import net.sourceforge.kolmafia.objectpool.ItemPool;
 import net.sourceforge.kolmafia.persistence.AdventureDatabase;
 import net.sourceforge.kolmafia.persistence.AdventureSpentDatabase;
 import net.sourceforge.kolmafia.textui.DataTypes;
@@ -102,4 +105,43 @@ public class ProxyRecordValueTest {
       }
     }
   }
+
+  @Nested
+  class Accessors {
+    @Test
+    public void everyFieldOfEveryProxyHasAGetter() {
+      for (Class<?> type : ProxyRecordValue.class.getClasses()) {
+        if (!ProxyRecordValue.class.isAssignableFrom(type)) {
+          continue;
+        }
+
+        var accessors = ProxyRecordValue.getAccessors(type);
+
+        assertThat(type.getSimpleName(), accessors.names().length, greaterThan(0));
+        for (int i = 0; i < accessors.names().length; i++) {
+          assertThat(
+              type.getSimpleName() + "." + accessors.names()[i],
+              accessors.getters()[i],
+              notNullValue());
+        }
+      }
+    }
+
+    @Test
+    public void fieldsAreReadByIndex() {
+      var item = new ProxyRecordValue.ItemProxy(DataTypes.makeItemValue(ItemPool.SEAL_CLUB, true));
+      String[] names = ProxyRecordValue.ItemProxy._type.getFieldNames();
+
+      for (int i = 0; i < names.length; i++) {
+        Value value = item.aref(i, null);
+        switch (names[i]) {
+          case "id" -> assertThat(value.intValue(), is((long) ItemPool.SEAL_CLUB));
+          case "name" -> assertThat(value.toString(), is("seal-clubbing club"));
+          case "quest" -> assertThat(value.intValue(), is(0L));
+          case "seller" -> assertThat(value.getType(), is(DataTypes.COINMASTER_TYPE));
+          default -> assertThat(value, notNullValue());
+        }
+      }
+    }
+  }
 }
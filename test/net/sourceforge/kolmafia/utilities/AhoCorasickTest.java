@@ -0,0 +1,42 @@
+package net.sourceforge.kolmafia.utilities;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickTest {
+  private static List<String> search(final List<String> patterns, final String text) {
+    var matcher = new AhoCorasick(patterns);
+    List<String> found = new ArrayList<>();
+    matcher.search(text, (pattern, start) -> found.add(matcher.getPattern(pattern) + "@" + start));
+    return found;
+  }
+
+  @Test
+  public void findsNothingInTextWithoutPatterns() {
+    assertThat(search(List.of("he", "she"), "a tale of ducks"), empty());
+  }
+
+  @Test
+  public void findsOverlappingPatternsInOrderOfTheirEnd() {
+    assertThat(
+        search(List.of("he", "she", "his", "hers"), "ushers"),
+        contains("she@1", "he@2", "hers@2"));
+  }
+
+  @Test
+  public void findsEveryOccurrence() {
+    assertThat(search(List.of("aa"), "aaaa"), contains("aa@0", "aa@1", "aa@2"));
+  }
+
+  @Test
+  public void findsPatternsThroughFailureLinks() {
+    assertThat(
+        search(List.of("abcd", "bc", "c"), "xabcabcd"),
+        contains("bc@2", "c@3", "bc@5", "c@6", "abcd@4"));
+  }
+}
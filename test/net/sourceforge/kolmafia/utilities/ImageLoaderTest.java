@@ -0,0 +1,57 @@
+package net.sourceforge.kolmafia.utilities;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.awt.Image;
+import java.io.File;
+import java.net.URL;
+import java.util.Dictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ImageLoaderTest {
+  @BeforeEach
+  @AfterEach
+  public void reset() {
+    ImageLoader.reset();
+  }
+
+  private static URL imageURL(final int i) throws Exception {
+    return new File("images/itemimages/test" + i + ".gif").toURI().toURL();
+  }
+
+  @Test
+  public void decodedImagesAreShared() throws Exception {
+    Dictionary<URL, Image> images = ImageLoader.getDecodedImages();
+    Image image = images.get(imageURL(1));
+
+    assertThat(images.get(imageURL(1)), sameInstance(image));
+    assertThat(images.get(imageURL(2)), not(sameInstance(image)));
+    assertThat(images.size(), equalTo(2));
+  }
+
+  @Test
+  public void leastRecentlyDrawnImagesAreDropped() throws Exception {
+    Dictionary<URL, Image> images = ImageLoader.getDecodedImages();
+    Image first = images.get(imageURL(0));
+
+    for (int i = 1; i <= 256; i++) {
+      images.get(imageURL(i));
+    }
+
+    assertThat(images.size(), equalTo(256));
+    assertThat(images.get(imageURL(0)), not(sameInstance(first)));
+  }
+
+  @Test
+  public void malformedImagesAreUnavailable() {
+    assertThat(ImageLoader.isUnavailable(""), is(true));
+    assertThat(ImageLoader.isUnavailable("../secret.gif"), is(true));
+    assertThat(ImageLoader.isUnavailable("itemimages/club.gif"), is(false));
+  }
+}
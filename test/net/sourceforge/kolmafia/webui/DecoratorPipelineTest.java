@@ -0,0 +1,91 @@
+package net.sourceforge.kolmafia.webui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DecoratorPipelineTest {
+  private static String decorate(
+      final DecoratorPipeline pipeline, final String location, final String text) {
+    var buffer = new StringBuffer(text);
+    pipeline.decorate(location, buffer);
+    return buffer.toString();
+  }
+
+  @Test
+  public void decoratesOnlyRegisteredPages() {
+    var pipeline =
+        new DecoratorPipeline()
+            .add(List.of("fight.php"), List.of("</b>"), page -> page.insert(0, "fight "));
+
+    assertThat(
+        decorate(pipeline, "fight.php?action=attack", "<b>hit</b>"), equalTo("fight <b>hit</b>"));
+    assertThat(decorate(pipeline, "choice.php", "<b>hit</b>"), equalTo("<b>hit</b>"));
+  }
+
+  @Test
+  public void insertsAtTheSamePointInTheOrderEditsWereMade() {
+    var pipeline =
+        new DecoratorPipeline()
+            .add(
+                List.of("adventure.php"),
+                List.of("</table>"),
+                page -> {
+                  int index = page.indexOf("</table>");
+                  page.insert(index, "[1]");
+                  page.insert(index, "[2]");
+                })
+            .add(
+                List.of("adventure.php"),
+                List.of("</table>"),
+                page -> page.insert(page.indexOf("</table>"), "[3]"));
+
+    assertThat(
+        decorate(pipeline, "adventure.php", "<table></table>"),
+        equalTo("<table>[1][2][3]</table>"));
+  }
+
+  @Test
+  public void everyDecoratorSeesTheOriginalPage() {
+    var pipeline =
+        new DecoratorPipeline()
+            .add(List.of("main.php"), List.of("cat"), page -> page.replaceAll("cat", "dog"))
+            .add(
+                List.of("main.php"),
+                List.of("cat", "dog"),
+                page -> {
+                  if (page.contains("cat") && !page.contains("dog")) {
+                    page.insert(0, "original: ");
+                  }
+                });
+
+    assertThat(
+        decorate(pipeline, "main.php", "a cat and a cat"), equalTo("original: a dog and a dog"));
+  }
+
+  @Test
+  public void dropsEditsWithinReplacedText() {
+    var pipeline =
+        new DecoratorPipeline()
+            .add(
+                List.of("main.php"),
+                List.of("<style>", "</style>"),
+                page -> page.delete(page.indexOf("<style>"), page.indexOf("</style>") + 8))
+            .add(List.of("main.php"), List.of("green"), page -> page.replaceAll("green", "blue"));
+
+    assertThat(
+        decorate(pipeline, "main.php", "<style>green</style><td>green</td>"),
+        equalTo("<td>blue</td>"));
+  }
+
+  @Test
+  public void findsUndeclaredAnchors() {
+    var pipeline =
+        new DecoratorPipeline()
+            .add(List.of("main.php"), List.of(), page -> page.insert(page.indexOf("b"), "-"));
+
+    assertThat(decorate(pipeline, "main.php", "abc"), equalTo("a-bc"));
+  }
+}